@@ -20,6 +20,341 @@ options {
         return errors;
     }
     
+    private boolean skipBodies;
+    /**
+     * Parse the body of every method, getter, setter and
+     * function argument as an empty block, for units of 
+     * which only the signatures of the declarations matter.
+     */
+    public void setSkipBodies(boolean skipBodies) {
+        this.skipBodies = skipBodies;
+    }
+    public boolean isSkipBodies() {
+        return skipBodies;
+    }
+    private Block skipBlock() {
+        int marker = input.mark();
+        Token start = input.LT(1);
+        int depth = 0;
+        while (true) {
+            int type = input.LA(1);
+            if (type==EOF) {
+                //unbalanced, let the parser report it
+                input.rewind(marker);
+                return null;
+            }
+            else if (type==LBRACE) {
+                depth++;
+            }
+            else if (type==RBRACE && --depth==0) {
+                Block block = new Block(start);
+                block.setEndToken(input.LT(1));
+                input.consume();
+                return block;
+            }
+            input.consume();
+        }
+    }
+    
+    //The following methods decide the common cases of the
+    //syntactic predicates of the hottest decisions from the
+    //next few tokens, without backtracking. Each of them
+    //answers true only if the predicate would certainly
+    //succeed, or certainly fail, and otherwise leaves the
+    //decision to the predicate.
+
+    //the tokens matched by declarationKeyword
+    private static boolean isDeclarationKeyword(int type) {
+        switch (type) {
+        case VALUE_MODIFIER:
+        case FUNCTION_MODIFIER:
+        case ASSIGN:
+        case VOID_MODIFIER:
+        case INTERFACE_DEFINITION:
+        case CLASS_DEFINITION:
+        case OBJECT_DEFINITION:
+            return true;
+        default:
+            return false;
+        }
+    }
+
+    //the tokens matched by nonstringLiteral and stringLiteral
+    private static boolean isLiteral(int type) {
+        switch (type) {
+        case NATURAL_LITERAL:
+        case FLOAT_LITERAL:
+        case QUOTED_LITERAL:
+        case CHAR_LITERAL:
+        case STRING_LITERAL:
+            return true;
+        default:
+            return false;
+        }
+    }
+
+    //the tokens which may follow an annotation in
+    //annotatedDeclarationStart: another annotation,
+    //or the start of declarationStart
+    private static boolean canFollowAnnotation(int type) {
+        return type==LIDENTIFIER || type==UIDENTIFIER ||
+                isDeclarationKeyword(type);
+    }
+
+    //the tokens which may follow the first type name of
+    //the type in declarationStart, given the token after
+    private static boolean canFollowTypeName(int type, int next) {
+        switch (type) {
+        case MEMBER_OP:
+            return next==UIDENTIFIER;
+        case SMALLER_OP:
+        case DEFAULT_OP:
+        case ARRAY:
+        case UNION_OP:
+        case INTERSECTION_OP:
+        case ENTRY_OP:
+        case ELLIPSIS:
+        case LIDENTIFIER:
+            return true;
+        default:
+            return false;
+        }
+    }
+
+    //the tokens matched by interpolatedExpressionStart
+    //this includes every token that could be the
+    //beginning of an expression, except for
+    //SIMPLESTRINGLITERAL and '['
+    private static boolean isInterpolatedExpressionStart(int type) {
+        switch (type) {
+        case LPAREN:
+        case LBRACE:
+        case LIDENTIFIER:
+        case UIDENTIFIER:
+        case THIS:
+        case SUPER:
+        case OUTER:
+        case NATURAL_LITERAL:
+        case FLOAT_LITERAL:
+        case QUOTED_LITERAL:
+        case CHAR_LITERAL:
+        case DIFFERENCE_OP:
+        case INCREMENT_OP:
+        case DECREMENT_OP:
+        case COMPLEMENT_OP:
+            return true;
+        default:
+            return false;
+        }
+    }
+
+    //annotatedDeclarationStart succeeds: annotations with
+    //no arguments or only literal arguments, followed by a
+    //declaration keyword, or by a type name and a name
+    private boolean isDeclarationStart() {
+        int marker = input.mark();
+        try {
+            while (input.LA(1)==LIDENTIFIER) {
+                input.consume();
+                while (isLiteral(input.LA(1))) {
+                    input.consume();
+                }
+            }
+            return isDeclarationKeyword(input.LA(1)) ||
+                    input.LA(1)==UIDENTIFIER &&
+                    (input.LA(2)==LIDENTIFIER || input.LA(2)==ELLIPSIS);
+        }
+        finally {
+            input.rewind(marker);
+        }
+    }
+
+    //annotatedDeclarationStart fails: the statement does
+    //not start with an annotation or a type, or the first
+    //annotation or type is followed by a token which can't
+    //follow it in a declaration
+    private boolean isStatementStart() {
+        switch (input.LA(1)) {
+        case LIDENTIFIER:
+            int next = input.LA(2);
+            if (next==LPAREN || next==LBRACE) {
+                //the annotation has an argument list, which
+                //ends with the matching paren or brace, since
+                //no rule matches an unbalanced one
+                return !canFollowAnnotation(afterArguments());
+            }
+            else {
+                return !canFollowAnnotation(next) && !isLiteral(next);
+            }
+        case UIDENTIFIER:
+            return !canFollowTypeName(input.LA(2), input.LA(3));
+        default:
+            return !isDeclarationKeyword(input.LA(1));
+        }
+    }
+
+    //the token after the arguments which follow the
+    //next token
+    private int afterArguments() {
+        int marker = input.mark();
+        try {
+            input.consume();
+            int open = input.LA(1);
+            int close = open==LPAREN ? RPAREN : RBRACE;
+            int depth = 0;
+            while (true) {
+                int type = input.LA(1);
+                if (type==EOF) {
+                    return EOF;
+                }
+                input.consume();
+                if (type==open) {
+                    depth++;
+                }
+                else if (type==close && --depth==0) {
+                    return input.LA(1);
+                }
+            }
+        }
+        finally {
+            input.rewind(marker);
+        }
+    }
+
+    //namedArgumentStart succeeds: a named argument which
+    //starts with a name and specifier, a type name and a
+    //name, or a keyword
+    private boolean isNamedArgumentStart() {
+        return input.LA(1)==LIDENTIFIER && input.LA(2)==SPECIFY ||
+                input.LA(1)==UIDENTIFIER &&
+                (input.LA(2)==LIDENTIFIER || input.LA(2)==ELLIPSIS) ||
+                isDeclarationKeyword(input.LA(1));
+    }
+
+    //namedArguments fails: the body starts with a directive
+    //or control structure
+    private boolean isBlockStart() {
+        switch (input.LA(2)) {
+        case RETURN:
+        case THROW:
+        case BREAK:
+        case CONTINUE:
+        case IF_CLAUSE:
+        case WHILE_CLAUSE:
+        case SWITCH_CLAUSE:
+        case TRY_CLAUSE:
+            return true;
+        default:
+            return false;
+        }
+    }
+    
+    //as in BaseRecognizer, but each follow set it looks at
+    //counts against the budget
+    @Override protected BitSet combineFollows(boolean exact) {
+        BitSet followSet = new BitSet();
+        int i = state._fsp;
+        for (; i>=0; i--) {
+            BitSet localFollowSet = state.following[i];
+            followSet.orInPlace(localFollowSet);
+            if (exact) {
+                if (localFollowSet.member(Token.EOR_TOKEN_TYPE)) {
+                    if (i>0) followSet.remove(Token.EOR_TOKEN_TYPE);
+                }
+                else {
+                    break;
+                }
+            }
+        }
+        if (input instanceof BudgetedTokenStream) {
+            ((BudgetedTokenStream) input).charge(state._fsp-Math.max(i,0)+1);
+        }
+        return followSet;
+    }
+    
+    //the union of the follow sets on the stack up to each
+    //depth, which is the resync set of error recovery at 
+    //that depth, and is still valid below the depth at 
+    //which a follow set was last pushed
+    private BitSet[] followUnions = new BitSet[INITIAL_FOLLOW_STACK_SIZE];
+    private int validFollowUnions = 0;
+    
+    @Override protected void pushFollow(BitSet fset) {
+        if (state._fsp+1<validFollowUnions) {
+            validFollowUnions = state._fsp+1;
+        }
+        super.pushFollow(fset);
+    }
+    
+    //as in BaseRecognizer, but only the follow sets pushed
+    //since the last error are looked at again
+    @Override protected BitSet computeErrorRecoverySet() {
+        int top = state._fsp;
+        if (top<0) {
+            return new BitSet();
+        }
+        if (top>=followUnions.length) {
+            BitSet[] unions = new BitSet[Math.max(top+1, followUnions.length*2)];
+            System.arraycopy(followUnions, 0, unions, 0, followUnions.length);
+            followUnions = unions;
+        }
+        if (input instanceof BudgetedTokenStream && top>=validFollowUnions) {
+            ((BudgetedTokenStream) input).charge(top-validFollowUnions+1);
+        }
+        for (int i=validFollowUnions; i<=top; i++) {
+            followUnions[i] = i==0 ? 
+                    new BitSet().or(state.following[0]) : 
+                    followUnions[i-1].or(state.following[i]);
+        }
+        validFollowUnions = Math.max(validFollowUnions, top+1);
+        return followUnions[top];
+    }
+    
+    //as in BaseRecognizer, but the exception thrown when the
+    //parser can't recover has no stack trace, since filling
+    //it in costs as much as the stack is deep, and it is 
+    //thrown once for every rule left unclosed
+    @Override protected Object recoverFromMismatchedToken(IntStream input, 
+            int ttype, BitSet follow) throws RecognitionException {
+        if (mismatchIsUnwantedToken(input, ttype)) {
+            UnwantedTokenException e = new UnwantedTokenException(ttype, input);
+            beginResync();
+            input.consume();
+            endResync();
+            reportError(e);
+            Object matchedSymbol = getCurrentInputSymbol(input);
+            input.consume();
+            return matchedSymbol;
+        }
+        if (mismatchIsMissingToken(input, follow)) {
+            Object inserted = getMissingSymbol(input, null, ttype, follow);
+            reportError(new MissingTokenException(ttype, input, inserted));
+            return inserted;
+        }
+        throw new MismatchedTokenException(ttype, input) {
+            @Override public Throwable fillInStackTrace() {
+                return this;
+            }
+        };
+    }
+    
+    //as in BaseRecognizer, but at the end of the input there
+    //is nothing to skip, so don't compute the resync set, 
+    //which would mean looking at every follow set on the 
+    //stack once for every unclosed rule
+    @Override public void recover(IntStream input, 
+            RecognitionException re) {
+        if (input.LA(1)==EOF) {
+            if (state.lastErrorIndex==input.index()) {
+                input.consume();
+            }
+            state.lastErrorIndex = input.index();
+        }
+        else {
+            super.recover(input, re);
+        }
+    }
+    
 }
 
 @lexer::members {
@@ -506,6 +841,10 @@ classDeclaration returns [AnyClass declaration]
 
     
 block returns [Block block]
+    @init { if (skipBodies && state.backtracking==0 && input.LA(1)==LBRACE) {
+                $block = skipBlock();
+                if ($block!=null) return $block;
+            } }
     : LBRACE 
       { $block = new Block($LBRACE); }
       (
@@ -553,9 +892,10 @@ classBody returns [ClassBody classBody]
 //or a named argument list until after we
 //finish parsing it
 attributeBody[StaticType type] returns [Node result]
-      //options { memoize=true; }
-    : 
-      (namedArguments)
+      options { memoize=true; }
+    : { isBlockStart() }?=> b1=block
+      { $result=$b1.block; }
+    | (namedArguments)
       => namedArguments //first try to match with no directives or control structures
       { SpecifierExpression specifier = new SpecifierExpression(null);
         SimpleType t = $type instanceof SimpleType ? (SimpleType) $type : null;
@@ -571,8 +911,8 @@ attributeBody[StaticType type] returns [Node result]
         e.setTerm(ie);
         specifier.setExpression(e);
         $result=specifier; }
-    | block //if there is a "return" directive or control structure, it must be a block
-      { $result=$block.block; } 
+    | b2=block //if there is a "return" directive or control structure, it must be a block
+      { $result=$b2.block; } 
     ;
 
 //This rule accounts for the problem that we
@@ -580,9 +920,10 @@ attributeBody[StaticType type] returns [Node result]
 //or a named argument list until after we
 //finish parsing it
 methodBody[StaticType type] returns [Block block]
-      //options { memoize=true; }
-    : 
-      (namedArguments)
+      options { memoize=true; }
+    : { isBlockStart() }?=> b1=block
+      { $block=$b1.block; }
+    | (namedArguments)
       => namedArguments //first try to match with no directives or control structures
       { $block = new Block(null);
         SimpleType t = $type instanceof SimpleType ? (SimpleType) $type : null;
@@ -600,8 +941,8 @@ methodBody[StaticType type] returns [Block block]
         r.setExpression(e);
         $block.addStatement(r); }
     //-> ^(BLOCK ^(RETURN ^(EXPRESSION ^(INVOCATION_EXPRESSION ^(BASE_TYPE_EXPRESSION { ((CommonTree)$mt).getChild(0) } { ((CommonTree)$mt).getChild(1) } ) namedArguments))))
-    | block //if there is a "return" directive or control structure, it must be a block
-      { $block=$block.block; } 
+    | b2=block //if there is a "return" directive or control structure, it must be a block
+      { $block=$b2.block; } 
     ;
 
 extendedType returns [ExtendedType extendedType]
@@ -908,10 +1249,14 @@ declarationOrStatement returns [Statement statement]
     options {memoize=true;}
     : compilerAnnotations
       ( 
-        (annotatedDeclarationStart) => declaration
-        { $statement=$declaration.declaration; }
-      | s=statement
-        { $statement=$s.statement; }
+        { isDeclarationStart() }?=> d1=declaration
+        { $statement=$d1.declaration; }
+      | { isStatementStart() }?=> s1=statement
+        { $statement=$s1.statement; }
+      | (annotatedDeclarationStart) => d2=declaration
+        { $statement=$d2.declaration; }
+      | s2=statement
+        { $statement=$s2.statement; }
       )
       { if ($statement!=null)
             $statement.getCompilerAnnotations().addAll($compilerAnnotations.annotations); }
@@ -1296,10 +1641,13 @@ namedArguments returns [NamedArgumentList namedArgumentList]
       { $namedArgumentList = new NamedArgumentList($LBRACE); }
       ( //TODO: get rid of the predicate and use the approach
         //      in expressionOrSpecificationStatement
-        (namedArgumentStart) 
-        => namedArgument
-        { if ($namedArgument.namedArgument!=null) 
-              $namedArgumentList.addNamedArgument($namedArgument.namedArgument); }
+        { isNamedArgumentStart() }?=> na1=namedArgument
+        { if ($na1.namedArgument!=null) 
+              $namedArgumentList.addNamedArgument($na1.namedArgument); }
+      | (namedArgumentStart) 
+        => na2=namedArgument
+        { if ($na2.namedArgument!=null) 
+              $namedArgumentList.addNamedArgument($na2.namedArgument); }
       )* 
       ( 
         sequencedArgument
@@ -1920,8 +2268,8 @@ nonstringLiteral returns [Literal literal]
     ;
 
 stringExpression returns [Atom atom]
-    : (STRING_LITERAL interpolatedExpressionStart) 
-       => stringTemplate 
+    : { isInterpolatedExpressionStart(input.LA(2)) }?=> 
+      stringTemplate 
       { $atom = $stringTemplate.stringTemplate; }
     | stringLiteral 
       { $atom = $stringLiteral.stringLiteral; }
@@ -1937,8 +2285,8 @@ stringTemplate returns [StringTemplate stringTemplate]
       { $stringTemplate = new StringTemplate($sl1.stringLiteral.getToken()); 
         $stringTemplate.addStringLiteral($sl1.stringLiteral); }
       (
-        (interpolatedExpressionStart) 
-         => expression sl2=stringLiteral
+        { isInterpolatedExpressionStart(input.LA(1)) }?=> 
+        expression sl2=stringLiteral
         { $stringTemplate.addExpression($expression.expression);
           $stringTemplate.addStringLiteral($sl2.stringLiteral); }
       )+
@@ -2162,29 +2510,6 @@ literalArgument returns [PositionalArgument positionalArgument]
         $stringLiteral.stringLiteral.getToken().setType(ASTRING_LITERAL); }
     ;
 
-//special rule for syntactic predicate
-//to distinguish an interpolated expression
-//in a string template
-//this includes every token that could be 
-//the beginning of an expression, except 
-//for SIMPLESTRINGLITERAL and '['
-interpolatedExpressionStart
-    : LPAREN
-    | LBRACE
-    | LIDENTIFIER 
-    | UIDENTIFIER 
-    | selfReference
-    | nonstringLiteral
-    | prefixOperatorStart
-    ;
-
-prefixOperatorStart
-    : DIFFERENCE_OP
-    | INCREMENT_OP 
-    | DECREMENT_OP 
-    | COMPLEMENT_OP
-    ;
-    
 compilerAnnotations returns [List<CompilerAnnotation> annotations]
     : { $annotations = new ArrayList<CompilerAnnotation>(); }
     (
@@ -2208,13 +2533,13 @@ compilerAnnotation returns [CompilerAnnotation annotation]
 
 
 condition returns [Condition condition]
-    : (LPAREN EXISTS)=>existsCondition
+    : { input.LA(2)==EXISTS }?=> existsCondition
       { $condition=$existsCondition.condition; }
-    | (LPAREN NONEMPTY)=>nonemptyCondition
+    | { input.LA(2)==NONEMPTY }?=> nonemptyCondition
       { $condition=$nonemptyCondition.condition; }
-    | (LPAREN IS_OP)=>isCondition 
+    | { input.LA(2)==IS_OP }?=> isCondition 
       { $condition=$isCondition.condition; }
-    | (LPAREN SATISFIES)=>satisfiesCondition
+    | { input.LA(2)==SATISFIES }?=> satisfiesCondition
       { $condition=$satisfiesCondition.condition; }
     | booleanCondition
       { $condition=$booleanCondition.condition; }
@@ -2231,8 +2556,8 @@ booleanCondition returns [BooleanCondition condition]
     ;
     
 existsCondition returns [ExistsCondition condition]
-    : (LPAREN EXISTS LIDENTIFIER RPAREN)
-      => l1=LPAREN 
+    : { input.LA(3)==LIDENTIFIER && input.LA(4)==RPAREN }?=> 
+      l1=LPAREN 
       { $condition = new ExistsCondition($l1); }
       e1=EXISTS impliedVariable
       { $condition.setVariable($impliedVariable.variable); }
@@ -2258,8 +2583,8 @@ existsCondition returns [ExistsCondition condition]
     ;
     
 nonemptyCondition returns [NonemptyCondition condition]
-    : (LPAREN NONEMPTY LIDENTIFIER RPAREN) 
-      => l1=LPAREN 
+    : { input.LA(3)==LIDENTIFIER && input.LA(4)==RPAREN }?=> 
+      l1=LPAREN 
       { $condition = new NonemptyCondition($l1); }
       n1=NONEMPTY impliedVariable 
       { $condition.setVariable($impliedVariable.variable); }
@@ -2348,7 +2673,7 @@ controlStatement returns [ControlStatement controlStatement]
     ;
 
 controlBlock returns [Block block]
-    : ( (LBRACE)=> b=block
+    : ( { input.LA(1)==LBRACE }?=> b=block
         { $block=$b.block; }
       | { displayRecognitionError(getTokenNames(), 
                 new MismatchedTokenException(LBRACE, input)); }
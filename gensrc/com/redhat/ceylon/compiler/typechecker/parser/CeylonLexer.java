@@ -0,0 +1,5366 @@
+// $ANTLR 3.4 /root/project/Ceylon.g 2026-10-18 21:18:48
+ package com.redhat.ceylon.compiler.typechecker.parser; 
+
+import org.antlr.runtime.*;
+import java.util.Stack;
+import java.util.List;
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.HashMap;
+
+@SuppressWarnings({"all", "warnings", "unchecked"})
+public class CeylonLexer extends Lexer {
+    public static final int EOF=-1;
+    public static final int ABSTRACTED_TYPE=4;
+    public static final int ADAPTED_TYPES=5;
+    public static final int ADD_ASSIGN_OP=6;
+    public static final int AIDENTIFIER=7;
+    public static final int AND_ASSIGN_OP=8;
+    public static final int AND_OP=9;
+    public static final int ARRAY=10;
+    public static final int ASSIGN=11;
+    public static final int ASSIGN_OP=12;
+    public static final int ASTRING_LITERAL=13;
+    public static final int BREAK=14;
+    public static final int CASE_CLAUSE=15;
+    public static final int CASE_TYPES=16;
+    public static final int CATCH_CLAUSE=17;
+    public static final int CHAR_LITERAL=18;
+    public static final int CLASS_DEFINITION=19;
+    public static final int COMMA=20;
+    public static final int COMPARE_OP=21;
+    public static final int COMPILER_ANNOTATION=22;
+    public static final int COMPLEMENT_ASSIGN_OP=23;
+    public static final int COMPLEMENT_OP=24;
+    public static final int CONTINUE=25;
+    public static final int DECREMENT_OP=26;
+    public static final int DEFAULT_OP=27;
+    public static final int DIFFERENCE_OP=28;
+    public static final int DIVIDE_ASSIGN_OP=29;
+    public static final int Digit=30;
+    public static final int Digits=31;
+    public static final int ELLIPSIS=32;
+    public static final int ELSE_CLAUSE=33;
+    public static final int ENTRY_OP=34;
+    public static final int EQUAL_OP=35;
+    public static final int EXISTS=36;
+    public static final int EXTENDS=37;
+    public static final int EscapeSequence=38;
+    public static final int Exponent=39;
+    public static final int FINALLY_CLAUSE=40;
+    public static final int FLOAT_LITERAL=41;
+    public static final int FOR_CLAUSE=42;
+    public static final int FUNCTION_MODIFIER=43;
+    public static final int FractionalMagnitude=44;
+    public static final int IDENTICAL_OP=45;
+    public static final int IF_CLAUSE=46;
+    public static final int IMPORT=47;
+    public static final int INCREMENT_OP=48;
+    public static final int INDEX_OP=49;
+    public static final int INTERFACE_DEFINITION=50;
+    public static final int INTERSECTION_OP=51;
+    public static final int INTERSECT_ASSIGN_OP=52;
+    public static final int IN_OP=53;
+    public static final int IS_OP=54;
+    public static final int IdentifierPart=55;
+    public static final int IdentifierStart=56;
+    public static final int LARGER_OP=57;
+    public static final int LARGE_AS_OP=58;
+    public static final int LBRACE=59;
+    public static final int LBRACKET=60;
+    public static final int LIDENTIFIER=61;
+    public static final int LINE_COMMENT=62;
+    public static final int LIdentifierPrefix=63;
+    public static final int LPAREN=64;
+    public static final int Letter=65;
+    public static final int MEMBER_OP=66;
+    public static final int MULTIPLY_ASSIGN_OP=67;
+    public static final int MULTI_COMMENT=68;
+    public static final int Magnitude=69;
+    public static final int NATURAL_LITERAL=70;
+    public static final int NONEMPTY=71;
+    public static final int NOT_EQUAL_OP=72;
+    public static final int NOT_OP=73;
+    public static final int NonCharacterChars=74;
+    public static final int NonStringChars=75;
+    public static final int OBJECT_DEFINITION=76;
+    public static final int OR_ASSIGN_OP=77;
+    public static final int OR_OP=78;
+    public static final int OUT=79;
+    public static final int OUTER=80;
+    public static final int PIDENTIFIER=81;
+    public static final int POWER_OP=82;
+    public static final int PRODUCT_OP=83;
+    public static final int QMARK=84;
+    public static final int QUOTED_LITERAL=85;
+    public static final int QUOTIENT_OP=86;
+    public static final int QuotedLiteralPart=87;
+    public static final int RANGE_OP=88;
+    public static final int RBRACE=89;
+    public static final int RBRACKET=90;
+    public static final int REMAINDER_ASSIGN_OP=91;
+    public static final int REMAINDER_OP=92;
+    public static final int RETURN=93;
+    public static final int RPAREN=94;
+    public static final int SAFE_INDEX_OP=95;
+    public static final int SAFE_MEMBER_OP=96;
+    public static final int SATISFIES=97;
+    public static final int SEMICOLON=98;
+    public static final int SMALLER_OP=99;
+    public static final int SMALL_AS_OP=100;
+    public static final int SPECIFY=101;
+    public static final int SPREAD_OP=102;
+    public static final int STRING_LITERAL=103;
+    public static final int SUBTRACT_ASSIGN_OP=104;
+    public static final int SUM_OP=105;
+    public static final int SUPER=106;
+    public static final int SWITCH_CLAUSE=107;
+    public static final int StringPart=108;
+    public static final int THEN_CLAUSE=109;
+    public static final int THIS=110;
+    public static final int THROW=111;
+    public static final int TRY_CLAUSE=112;
+    public static final int TYPE_CONSTRAINT=113;
+    public static final int UIDENTIFIER=114;
+    public static final int UIdentifierPrefix=115;
+    public static final int UNION_ASSIGN_OP=116;
+    public static final int UNION_OP=117;
+    public static final int VALUE_MODIFIER=118;
+    public static final int VOID_MODIFIER=119;
+    public static final int WHILE_CLAUSE=120;
+    public static final int WS=121;
+    public static final int XOR_ASSIGN_OP=122;
+    public static final int XOR_OP=123;
+
+        private java.util.List<LexError> errors 
+                = new java.util.ArrayList<LexError>();
+        @Override public void displayRecognitionError(String[] tn,
+                RecognitionException re) {
+            errors.add(new LexError(this, re, tn));
+        }
+        public java.util.List<LexError> getErrors() {
+            return errors;
+        }
+
+
+    // delegates
+    // delegators
+    public Lexer[] getDelegates() {
+        return new Lexer[] {};
+    }
+
+    public CeylonLexer() {} 
+    public CeylonLexer(CharStream input) {
+        this(input, new RecognizerSharedState());
+    }
+    public CeylonLexer(CharStream input, RecognizerSharedState state) {
+        super(input,state);
+    }
+    public String getGrammarFileName() { return "/root/project/Ceylon.g"; }
+
+    // $ANTLR start "Digits"
+    public final void mDigits() throws RecognitionException {
+        try {
+            // /root/project/Ceylon.g:3048:5: ( ( Digit )+ ( '_' ( Digit )+ )* )
+            // /root/project/Ceylon.g:3048:7: ( Digit )+ ( '_' ( Digit )+ )*
+            {
+            // /root/project/Ceylon.g:3048:7: ( Digit )+
+            int cnt1=0;
+            loop1:
+            do {
+                int alt1=2;
+                int LA1_0 = input.LA(1);
+
+                if ( ((LA1_0 >= '0' && LA1_0 <= '9')) ) {
+                    alt1=1;
+                }
+
+
+                switch (alt1) {
+            	case 1 :
+            	    // /root/project/Ceylon.g:
+            	    {
+            	    if ( (input.LA(1) >= '0' && input.LA(1) <= '9') ) {
+            	        input.consume();
+            	        state.failed=false;
+            	    }
+            	    else {
+            	        if (state.backtracking>0) {state.failed=true; return ;}
+            	        MismatchedSetException mse = new MismatchedSetException(null,input);
+            	        recover(mse);
+            	        throw mse;
+            	    }
+
+
+            	    }
+            	    break;
+
+            	default :
+            	    if ( cnt1 >= 1 ) break loop1;
+            	    if (state.backtracking>0) {state.failed=true; return ;}
+                        EarlyExitException eee =
+                            new EarlyExitException(1, input);
+                        throw eee;
+                }
+                cnt1++;
+            } while (true);
+
+
+            // /root/project/Ceylon.g:3048:14: ( '_' ( Digit )+ )*
+            loop3:
+            do {
+                int alt3=2;
+                int LA3_0 = input.LA(1);
+
+                if ( (LA3_0=='_') ) {
+                    alt3=1;
+                }
+
+
+                switch (alt3) {
+            	case 1 :
+            	    // /root/project/Ceylon.g:3048:15: '_' ( Digit )+
+            	    {
+            	    match('_'); if (state.failed) return ;
+
+            	    // /root/project/Ceylon.g:3048:19: ( Digit )+
+            	    int cnt2=0;
+            	    loop2:
+            	    do {
+            	        int alt2=2;
+            	        int LA2_0 = input.LA(1);
+
+            	        if ( ((LA2_0 >= '0' && LA2_0 <= '9')) ) {
+            	            alt2=1;
+            	        }
+
+
+            	        switch (alt2) {
+            	    	case 1 :
+            	    	    // /root/project/Ceylon.g:
+            	    	    {
+            	    	    if ( (input.LA(1) >= '0' && input.LA(1) <= '9') ) {
+            	    	        input.consume();
+            	    	        state.failed=false;
+            	    	    }
+            	    	    else {
+            	    	        if (state.backtracking>0) {state.failed=true; return ;}
+            	    	        MismatchedSetException mse = new MismatchedSetException(null,input);
+            	    	        recover(mse);
+            	    	        throw mse;
+            	    	    }
+
+
+            	    	    }
+            	    	    break;
+
+            	    	default :
+            	    	    if ( cnt2 >= 1 ) break loop2;
+            	    	    if (state.backtracking>0) {state.failed=true; return ;}
+            	                EarlyExitException eee =
+            	                    new EarlyExitException(2, input);
+            	                throw eee;
+            	        }
+            	        cnt2++;
+            	    } while (true);
+
+
+            	    }
+            	    break;
+
+            	default :
+            	    break loop3;
+                }
+            } while (true);
+
+
+            }
+
+
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "Digits"
+
+    // $ANTLR start "Exponent"
+    public final void mExponent() throws RecognitionException {
+        try {
+            // /root/project/Ceylon.g:3053:5: ( ( 'e' | 'E' ) ( '+' | '-' )? ( Digit )+ )
+            // /root/project/Ceylon.g:3053:7: ( 'e' | 'E' ) ( '+' | '-' )? ( Digit )+
+            {
+            if ( input.LA(1)=='E'||input.LA(1)=='e' ) {
+                input.consume();
+                state.failed=false;
+            }
+            else {
+                if (state.backtracking>0) {state.failed=true; return ;}
+                MismatchedSetException mse = new MismatchedSetException(null,input);
+                recover(mse);
+                throw mse;
+            }
+
+
+            // /root/project/Ceylon.g:3053:21: ( '+' | '-' )?
+            int alt4=2;
+            int LA4_0 = input.LA(1);
+
+            if ( (LA4_0=='+'||LA4_0=='-') ) {
+                alt4=1;
+            }
+            switch (alt4) {
+                case 1 :
+                    // /root/project/Ceylon.g:
+                    {
+                    if ( input.LA(1)=='+'||input.LA(1)=='-' ) {
+                        input.consume();
+                        state.failed=false;
+                    }
+                    else {
+                        if (state.backtracking>0) {state.failed=true; return ;}
+                        MismatchedSetException mse = new MismatchedSetException(null,input);
+                        recover(mse);
+                        throw mse;
+                    }
+
+
+                    }
+                    break;
+
+            }
+
+
+            // /root/project/Ceylon.g:3053:36: ( Digit )+
+            int cnt5=0;
+            loop5:
+            do {
+                int alt5=2;
+                int LA5_0 = input.LA(1);
+
+                if ( ((LA5_0 >= '0' && LA5_0 <= '9')) ) {
+                    alt5=1;
+                }
+
+
+                switch (alt5) {
+            	case 1 :
+            	    // /root/project/Ceylon.g:
+            	    {
+            	    if ( (input.LA(1) >= '0' && input.LA(1) <= '9') ) {
+            	        input.consume();
+            	        state.failed=false;
+            	    }
+            	    else {
+            	        if (state.backtracking>0) {state.failed=true; return ;}
+            	        MismatchedSetException mse = new MismatchedSetException(null,input);
+            	        recover(mse);
+            	        throw mse;
+            	    }
+
+
+            	    }
+            	    break;
+
+            	default :
+            	    if ( cnt5 >= 1 ) break loop5;
+            	    if (state.backtracking>0) {state.failed=true; return ;}
+                        EarlyExitException eee =
+                            new EarlyExitException(5, input);
+                        throw eee;
+                }
+                cnt5++;
+            } while (true);
+
+
+            }
+
+
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "Exponent"
+
+    // $ANTLR start "Magnitude"
+    public final void mMagnitude() throws RecognitionException {
+        try {
+            // /root/project/Ceylon.g:3058:5: ( 'k' | 'M' | 'G' | 'T' | 'P' )
+            // /root/project/Ceylon.g:
+            {
+            if ( input.LA(1)=='G'||input.LA(1)=='M'||input.LA(1)=='P'||input.LA(1)=='T'||input.LA(1)=='k' ) {
+                input.consume();
+                state.failed=false;
+            }
+            else {
+                if (state.backtracking>0) {state.failed=true; return ;}
+                MismatchedSetException mse = new MismatchedSetException(null,input);
+                recover(mse);
+                throw mse;
+            }
+
+
+            }
+
+
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "Magnitude"
+
+    // $ANTLR start "FractionalMagnitude"
+    public final void mFractionalMagnitude() throws RecognitionException {
+        try {
+            // /root/project/Ceylon.g:3063:5: ( 'm' | 'u' | 'n' | 'p' | 'f' )
+            // /root/project/Ceylon.g:
+            {
+            if ( input.LA(1)=='f'||(input.LA(1) >= 'm' && input.LA(1) <= 'n')||input.LA(1)=='p'||input.LA(1)=='u' ) {
+                input.consume();
+                state.failed=false;
+            }
+            else {
+                if (state.backtracking>0) {state.failed=true; return ;}
+                MismatchedSetException mse = new MismatchedSetException(null,input);
+                recover(mse);
+                throw mse;
+            }
+
+
+            }
+
+
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "FractionalMagnitude"
+
+    // $ANTLR start "FLOAT_LITERAL"
+    public final void mFLOAT_LITERAL() throws RecognitionException {
+        try {
+            // /root/project/Ceylon.g:3065:24: ()
+            // /root/project/Ceylon.g:3065:25: 
+            {
+            }
+
+
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "FLOAT_LITERAL"
+
+    // $ANTLR start "NATURAL_LITERAL"
+    public final void mNATURAL_LITERAL() throws RecognitionException {
+        try {
+            int _type = NATURAL_LITERAL;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/Ceylon.g:3070:5: ( Digits ( ( '.' ( '0' .. '9' ) )=> '.' Digits ( Exponent | Magnitude | FractionalMagnitude )? | FractionalMagnitude | ( Magnitude )? ) )
+            // /root/project/Ceylon.g:3070:7: Digits ( ( '.' ( '0' .. '9' ) )=> '.' Digits ( Exponent | Magnitude | FractionalMagnitude )? | FractionalMagnitude | ( Magnitude )? )
+            {
+            mDigits(); if (state.failed) return ;
+
+
+            // /root/project/Ceylon.g:3071:7: ( ( '.' ( '0' .. '9' ) )=> '.' Digits ( Exponent | Magnitude | FractionalMagnitude )? | FractionalMagnitude | ( Magnitude )? )
+            int alt8=3;
+            int LA8_0 = input.LA(1);
+
+            if ( (LA8_0=='.') && (synpred1_Ceylon())) {
+                alt8=1;
+            }
+            else if ( (LA8_0=='f'||(LA8_0 >= 'm' && LA8_0 <= 'n')||LA8_0=='p'||LA8_0=='u') ) {
+                alt8=2;
+            }
+            else {
+                alt8=3;
+            }
+            switch (alt8) {
+                case 1 :
+                    // /root/project/Ceylon.g:3072:9: ( '.' ( '0' .. '9' ) )=> '.' Digits ( Exponent | Magnitude | FractionalMagnitude )?
+                    {
+                    match('.'); if (state.failed) return ;
+
+                    mDigits(); if (state.failed) return ;
+
+
+                    // /root/project/Ceylon.g:3073:20: ( Exponent | Magnitude | FractionalMagnitude )?
+                    int alt6=4;
+                    switch ( input.LA(1) ) {
+                        case 'E':
+                        case 'e':
+                            {
+                            alt6=1;
+                            }
+                            break;
+                        case 'G':
+                        case 'M':
+                        case 'P':
+                        case 'T':
+                        case 'k':
+                            {
+                            alt6=2;
+                            }
+                            break;
+                        case 'f':
+                        case 'm':
+                        case 'n':
+                        case 'p':
+                        case 'u':
+                            {
+                            alt6=3;
+                            }
+                            break;
+                    }
+
+                    switch (alt6) {
+                        case 1 :
+                            // /root/project/Ceylon.g:3073:21: Exponent
+                            {
+                            mExponent(); if (state.failed) return ;
+
+
+                            }
+                            break;
+                        case 2 :
+                            // /root/project/Ceylon.g:3073:30: Magnitude
+                            {
+                            mMagnitude(); if (state.failed) return ;
+
+
+                            }
+                            break;
+                        case 3 :
+                            // /root/project/Ceylon.g:3073:40: FractionalMagnitude
+                            {
+                            mFractionalMagnitude(); if (state.failed) return ;
+
+
+                            }
+                            break;
+
+                    }
+
+
+                    if ( state.backtracking==0 ) { _type = FLOAT_LITERAL; }
+
+                    }
+                    break;
+                case 2 :
+                    // /root/project/Ceylon.g:3074:9: FractionalMagnitude
+                    {
+                    mFractionalMagnitude(); if (state.failed) return ;
+
+
+                    if ( state.backtracking==0 ) { _type = FLOAT_LITERAL; }
+
+                    }
+                    break;
+                case 3 :
+                    // /root/project/Ceylon.g:3075:9: ( Magnitude )?
+                    {
+                    // /root/project/Ceylon.g:3075:9: ( Magnitude )?
+                    int alt7=2;
+                    int LA7_0 = input.LA(1);
+
+                    if ( (LA7_0=='G'||LA7_0=='M'||LA7_0=='P'||LA7_0=='T'||LA7_0=='k') ) {
+                        alt7=1;
+                    }
+                    switch (alt7) {
+                        case 1 :
+                            // /root/project/Ceylon.g:
+                            {
+                            if ( input.LA(1)=='G'||input.LA(1)=='M'||input.LA(1)=='P'||input.LA(1)=='T'||input.LA(1)=='k' ) {
+                                input.consume();
+                                state.failed=false;
+                            }
+                            else {
+                                if (state.backtracking>0) {state.failed=true; return ;}
+                                MismatchedSetException mse = new MismatchedSetException(null,input);
+                                recover(mse);
+                                throw mse;
+                            }
+
+
+                            }
+                            break;
+
+                    }
+
+
+                    }
+                    break;
+
+            }
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "NATURAL_LITERAL"
+
+    // $ANTLR start "SPREAD_OP"
+    public final void mSPREAD_OP() throws RecognitionException {
+        try {
+            // /root/project/Ceylon.g:3079:19: ( '[].' )
+            // /root/project/Ceylon.g:3079:21: '[].'
+            {
+            match("[]."); if (state.failed) return ;
+
+
+
+            }
+
+
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "SPREAD_OP"
+
+    // $ANTLR start "ARRAY"
+    public final void mARRAY() throws RecognitionException {
+        try {
+            // /root/project/Ceylon.g:3080:15: ( '[]' )
+            // /root/project/Ceylon.g:3080:17: '[]'
+            {
+            match("[]"); if (state.failed) return ;
+
+
+
+            }
+
+
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "ARRAY"
+
+    // $ANTLR start "INDEX_OP"
+    public final void mINDEX_OP() throws RecognitionException {
+        try {
+            // /root/project/Ceylon.g:3081:18: ( '[' )
+            // /root/project/Ceylon.g:3081:20: '['
+            {
+            match('['); if (state.failed) return ;
+
+            }
+
+
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "INDEX_OP"
+
+    // $ANTLR start "LBRACKET"
+    public final void mLBRACKET() throws RecognitionException {
+        try {
+            int _type = LBRACKET;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/Ceylon.g:3085:5: ( '[' ( ( ']' '.' ~ '.' )=> '].' | ( ']' )=> ']' |) )
+            // /root/project/Ceylon.g:3085:7: '[' ( ( ']' '.' ~ '.' )=> '].' | ( ']' )=> ']' |)
+            {
+            match('['); if (state.failed) return ;
+
+            // /root/project/Ceylon.g:3086:5: ( ( ']' '.' ~ '.' )=> '].' | ( ']' )=> ']' |)
+            int alt9=3;
+            int LA9_0 = input.LA(1);
+
+            if ( (LA9_0==']') ) {
+                int LA9_1 = input.LA(2);
+
+                if ( (LA9_1=='.') && (synpred2_Ceylon())) {
+                    alt9=1;
+                }
+                else {
+                    alt9=2;
+                }
+            }
+            else {
+                alt9=3;
+            }
+            switch (alt9) {
+                case 1 :
+                    // /root/project/Ceylon.g:3087:7: ( ']' '.' ~ '.' )=> '].'
+                    {
+                    match("]."); if (state.failed) return ;
+
+
+
+                    if ( state.backtracking==0 ) { _type = SPREAD_OP; }
+
+                    }
+                    break;
+                case 2 :
+                    // /root/project/Ceylon.g:3088:7: ( ']' )=> ']'
+                    {
+                    match(']'); if (state.failed) return ;
+
+                    if ( state.backtracking==0 ) { _type = ARRAY; }
+
+                    }
+                    break;
+                case 3 :
+                    // /root/project/Ceylon.g:3089:7: 
+                    {
+                    if ( state.backtracking==0 ) { _type = INDEX_OP; }
+
+                    }
+                    break;
+
+            }
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "LBRACKET"
+
+    // $ANTLR start "SAFE_MEMBER_OP"
+    public final void mSAFE_MEMBER_OP() throws RecognitionException {
+        try {
+            // /root/project/Ceylon.g:3093:24: ( '?.' )
+            // /root/project/Ceylon.g:3093:26: '?.'
+            {
+            match("?."); if (state.failed) return ;
+
+
+
+            }
+
+
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "SAFE_MEMBER_OP"
+
+    // $ANTLR start "SAFE_INDEX_OP"
+    public final void mSAFE_INDEX_OP() throws RecognitionException {
+        try {
+            // /root/project/Ceylon.g:3094:23: ( '?[' )
+            // /root/project/Ceylon.g:3094:25: '?['
+            {
+            match("?["); if (state.failed) return ;
+
+
+
+            }
+
+
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "SAFE_INDEX_OP"
+
+    // $ANTLR start "DEFAULT_OP"
+    public final void mDEFAULT_OP() throws RecognitionException {
+        try {
+            // /root/project/Ceylon.g:3095:20: ( '?' )
+            // /root/project/Ceylon.g:3095:22: '?'
+            {
+            match('?'); if (state.failed) return ;
+
+            }
+
+
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "DEFAULT_OP"
+
+    // $ANTLR start "QMARK"
+    public final void mQMARK() throws RecognitionException {
+        try {
+            int _type = QMARK;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/Ceylon.g:3101:5: ( '?' ( ( '[' ~ ']' )=> '[' | ( '.' ~ '.' )=> '.' |) )
+            // /root/project/Ceylon.g:3101:7: '?' ( ( '[' ~ ']' )=> '[' | ( '.' ~ '.' )=> '.' |)
+            {
+            match('?'); if (state.failed) return ;
+
+            // /root/project/Ceylon.g:3102:5: ( ( '[' ~ ']' )=> '[' | ( '.' ~ '.' )=> '.' |)
+            int alt10=3;
+            int LA10_0 = input.LA(1);
+
+            if ( (LA10_0=='[') && (synpred4_Ceylon())) {
+                alt10=1;
+            }
+            else if ( (LA10_0=='.') && (synpred5_Ceylon())) {
+                alt10=2;
+            }
+            else {
+                alt10=3;
+            }
+            switch (alt10) {
+                case 1 :
+                    // /root/project/Ceylon.g:3103:7: ( '[' ~ ']' )=> '['
+                    {
+                    match('['); if (state.failed) return ;
+
+                    if ( state.backtracking==0 ) { _type = SAFE_INDEX_OP; }
+
+                    }
+                    break;
+                case 2 :
+                    // /root/project/Ceylon.g:3104:7: ( '.' ~ '.' )=> '.'
+                    {
+                    match('.'); if (state.failed) return ;
+
+                    if ( state.backtracking==0 ) { _type = SAFE_MEMBER_OP; }
+
+                    }
+                    break;
+                case 3 :
+                    // /root/project/Ceylon.g:3105:7: 
+                    {
+                    if ( state.backtracking==0 ) { _type = DEFAULT_OP; }
+
+                    }
+                    break;
+
+            }
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "QMARK"
+
+    // $ANTLR start "CHAR_LITERAL"
+    public final void mCHAR_LITERAL() throws RecognitionException {
+        try {
+            int _type = CHAR_LITERAL;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/Ceylon.g:3110:5: ( '`' (~ NonCharacterChars | EscapeSequence ) '`' )
+            // /root/project/Ceylon.g:3110:9: '`' (~ NonCharacterChars | EscapeSequence ) '`'
+            {
+            match('`'); if (state.failed) return ;
+
+            // /root/project/Ceylon.g:3110:13: (~ NonCharacterChars | EscapeSequence )
+            int alt11=2;
+            int LA11_0 = input.LA(1);
+
+            if ( ((LA11_0 >= '\u0000' && LA11_0 <= '\u0007')||LA11_0=='\u000B'||(LA11_0 >= '\u000E' && LA11_0 <= '[')||(LA11_0 >= ']' && LA11_0 <= '_')||(LA11_0 >= 'a' && LA11_0 <= '\uFFFF')) ) {
+                alt11=1;
+            }
+            else if ( (LA11_0=='\\') ) {
+                alt11=2;
+            }
+            else {
+                if (state.backtracking>0) {state.failed=true; return ;}
+                NoViableAltException nvae =
+                    new NoViableAltException("", 11, 0, input);
+
+                throw nvae;
+
+            }
+            switch (alt11) {
+                case 1 :
+                    // /root/project/Ceylon.g:3110:15: ~ NonCharacterChars
+                    {
+                    if ( (input.LA(1) >= '\u0000' && input.LA(1) <= 'I')||(input.LA(1) >= 'K' && input.LA(1) <= '\uFFFF') ) {
+                        input.consume();
+                        state.failed=false;
+                    }
+                    else {
+                        if (state.backtracking>0) {state.failed=true; return ;}
+                        MismatchedSetException mse = new MismatchedSetException(null,input);
+                        recover(mse);
+                        throw mse;
+                    }
+
+
+                    }
+                    break;
+                case 2 :
+                    // /root/project/Ceylon.g:3110:37: EscapeSequence
+                    {
+                    mEscapeSequence(); if (state.failed) return ;
+
+
+                    }
+                    break;
+
+            }
+
+
+            match('`'); if (state.failed) return ;
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "CHAR_LITERAL"
+
+    // $ANTLR start "NonCharacterChars"
+    public final void mNonCharacterChars() throws RecognitionException {
+        try {
+            // /root/project/Ceylon.g:3116:5: ( '`' | '\\\\' | '\\t' | '\\n' | '\\f' | '\\r' | '\\b' )
+            // /root/project/Ceylon.g:
+            {
+            if ( (input.LA(1) >= '\b' && input.LA(1) <= '\n')||(input.LA(1) >= '\f' && input.LA(1) <= '\r')||input.LA(1)=='\\'||input.LA(1)=='`' ) {
+                input.consume();
+                state.failed=false;
+            }
+            else {
+                if (state.backtracking>0) {state.failed=true; return ;}
+                MismatchedSetException mse = new MismatchedSetException(null,input);
+                recover(mse);
+                throw mse;
+            }
+
+
+            }
+
+
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "NonCharacterChars"
+
+    // $ANTLR start "QUOTED_LITERAL"
+    public final void mQUOTED_LITERAL() throws RecognitionException {
+        try {
+            int _type = QUOTED_LITERAL;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/Ceylon.g:3119:5: ( '\\'' QuotedLiteralPart ( '\\'' )? )
+            // /root/project/Ceylon.g:3119:9: '\\'' QuotedLiteralPart ( '\\'' )?
+            {
+            match('\''); if (state.failed) return ;
+
+            mQuotedLiteralPart(); if (state.failed) return ;
+
+
+            // /root/project/Ceylon.g:3119:32: ( '\\'' )?
+            int alt12=2;
+            int LA12_0 = input.LA(1);
+
+            if ( (LA12_0=='\'') ) {
+                alt12=1;
+            }
+            switch (alt12) {
+                case 1 :
+                    // /root/project/Ceylon.g:3119:32: '\\''
+                    {
+                    match('\''); if (state.failed) return ;
+
+                    }
+                    break;
+
+            }
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "QUOTED_LITERAL"
+
+    // $ANTLR start "ASTRING_LITERAL"
+    public final void mASTRING_LITERAL() throws RecognitionException {
+        try {
+            // /root/project/Ceylon.g:3124:16: ()
+            // /root/project/Ceylon.g:3124:17: 
+            {
+            }
+
+
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "ASTRING_LITERAL"
+
+    // $ANTLR start "QuotedLiteralPart"
+    public final void mQuotedLiteralPart() throws RecognitionException {
+        try {
+            // /root/project/Ceylon.g:3128:5: ( (~ ( '\\'' ) )* )
+            // /root/project/Ceylon.g:3128:7: (~ ( '\\'' ) )*
+            {
+            // /root/project/Ceylon.g:3128:7: (~ ( '\\'' ) )*
+            loop13:
+            do {
+                int alt13=2;
+                int LA13_0 = input.LA(1);
+
+                if ( ((LA13_0 >= '\u0000' && LA13_0 <= '&')||(LA13_0 >= '(' && LA13_0 <= '\uFFFF')) ) {
+                    alt13=1;
+                }
+
+
+                switch (alt13) {
+            	case 1 :
+            	    // /root/project/Ceylon.g:
+            	    {
+            	    if ( (input.LA(1) >= '\u0000' && input.LA(1) <= '&')||(input.LA(1) >= '(' && input.LA(1) <= '\uFFFF') ) {
+            	        input.consume();
+            	        state.failed=false;
+            	    }
+            	    else {
+            	        if (state.backtracking>0) {state.failed=true; return ;}
+            	        MismatchedSetException mse = new MismatchedSetException(null,input);
+            	        recover(mse);
+            	        throw mse;
+            	    }
+
+
+            	    }
+            	    break;
+
+            	default :
+            	    break loop13;
+                }
+            } while (true);
+
+
+            }
+
+
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "QuotedLiteralPart"
+
+    // $ANTLR start "STRING_LITERAL"
+    public final void mSTRING_LITERAL() throws RecognitionException {
+        try {
+            int _type = STRING_LITERAL;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/Ceylon.g:3131:5: ( '\"' StringPart ( '\"' )? )
+            // /root/project/Ceylon.g:3131:9: '\"' StringPart ( '\"' )?
+            {
+            match('\"'); if (state.failed) return ;
+
+            mStringPart(); if (state.failed) return ;
+
+
+            // /root/project/Ceylon.g:3131:24: ( '\"' )?
+            int alt14=2;
+            int LA14_0 = input.LA(1);
+
+            if ( (LA14_0=='\"') ) {
+                alt14=1;
+            }
+            switch (alt14) {
+                case 1 :
+                    // /root/project/Ceylon.g:3131:24: '\"'
+                    {
+                    match('\"'); if (state.failed) return ;
+
+                    }
+                    break;
+
+            }
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "STRING_LITERAL"
+
+    // $ANTLR start "NonStringChars"
+    public final void mNonStringChars() throws RecognitionException {
+        try {
+            // /root/project/Ceylon.g:3137:5: ( '\\\\' | '\"' )
+            // /root/project/Ceylon.g:
+            {
+            if ( input.LA(1)=='\"'||input.LA(1)=='\\' ) {
+                input.consume();
+                state.failed=false;
+            }
+            else {
+                if (state.backtracking>0) {state.failed=true; return ;}
+                MismatchedSetException mse = new MismatchedSetException(null,input);
+                recover(mse);
+                throw mse;
+            }
+
+
+            }
+
+
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "NonStringChars"
+
+    // $ANTLR start "StringPart"
+    public final void mStringPart() throws RecognitionException {
+        try {
+            // /root/project/Ceylon.g:3142:5: ( (~ ( '\\\\' | '\"' ) | EscapeSequence )* )
+            // /root/project/Ceylon.g:3142:7: (~ ( '\\\\' | '\"' ) | EscapeSequence )*
+            {
+            // /root/project/Ceylon.g:3142:7: (~ ( '\\\\' | '\"' ) | EscapeSequence )*
+            loop15:
+            do {
+                int alt15=3;
+                int LA15_0 = input.LA(1);
+
+                if ( ((LA15_0 >= '\u0000' && LA15_0 <= '!')||(LA15_0 >= '#' && LA15_0 <= '[')||(LA15_0 >= ']' && LA15_0 <= '\uFFFF')) ) {
+                    alt15=1;
+                }
+                else if ( (LA15_0=='\\') ) {
+                    alt15=2;
+                }
+
+
+                switch (alt15) {
+            	case 1 :
+            	    // /root/project/Ceylon.g:3142:9: ~ ( '\\\\' | '\"' )
+            	    {
+            	    if ( (input.LA(1) >= '\u0000' && input.LA(1) <= '!')||(input.LA(1) >= '#' && input.LA(1) <= '[')||(input.LA(1) >= ']' && input.LA(1) <= '\uFFFF') ) {
+            	        input.consume();
+            	        state.failed=false;
+            	    }
+            	    else {
+            	        if (state.backtracking>0) {state.failed=true; return ;}
+            	        MismatchedSetException mse = new MismatchedSetException(null,input);
+            	        recover(mse);
+            	        throw mse;
+            	    }
+
+
+            	    }
+            	    break;
+            	case 2 :
+            	    // /root/project/Ceylon.g:3143:7: EscapeSequence
+            	    {
+            	    mEscapeSequence(); if (state.failed) return ;
+
+
+            	    }
+            	    break;
+
+            	default :
+            	    break loop15;
+                }
+            } while (true);
+
+
+            }
+
+
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "StringPart"
+
+    // $ANTLR start "EscapeSequence"
+    public final void mEscapeSequence() throws RecognitionException {
+        try {
+            // /root/project/Ceylon.g:3148:5: ( '\\\\' ( 'b' | 't' | 'n' | 'f' | 'r' | '\\\\' | '\"' | '\\'' | '`' ) )
+            // /root/project/Ceylon.g:3148:9: '\\\\' ( 'b' | 't' | 'n' | 'f' | 'r' | '\\\\' | '\"' | '\\'' | '`' )
+            {
+            match('\\'); if (state.failed) return ;
+
+            if ( input.LA(1)=='\"'||input.LA(1)=='\''||input.LA(1)=='\\'||input.LA(1)=='`'||input.LA(1)=='b'||input.LA(1)=='f'||input.LA(1)=='n'||input.LA(1)=='r'||input.LA(1)=='t' ) {
+                input.consume();
+                state.failed=false;
+            }
+            else {
+                if (state.backtracking>0) {state.failed=true; return ;}
+                MismatchedSetException mse = new MismatchedSetException(null,input);
+                recover(mse);
+                throw mse;
+            }
+
+
+            }
+
+
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "EscapeSequence"
+
+    // $ANTLR start "WS"
+    public final void mWS() throws RecognitionException {
+        try {
+            int _type = WS;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/Ceylon.g:3162:5: ( ( ' ' | '\\r' | '\\t' | '\\f' | '\\n' )+ )
+            // /root/project/Ceylon.g:3162:9: ( ' ' | '\\r' | '\\t' | '\\f' | '\\n' )+
+            {
+            // /root/project/Ceylon.g:3162:9: ( ' ' | '\\r' | '\\t' | '\\f' | '\\n' )+
+            int cnt16=0;
+            loop16:
+            do {
+                int alt16=2;
+                int LA16_0 = input.LA(1);
+
+                if ( ((LA16_0 >= '\t' && LA16_0 <= '\n')||(LA16_0 >= '\f' && LA16_0 <= '\r')||LA16_0==' ') ) {
+                    alt16=1;
+                }
+
+
+                switch (alt16) {
+            	case 1 :
+            	    // /root/project/Ceylon.g:
+            	    {
+            	    if ( (input.LA(1) >= '\t' && input.LA(1) <= '\n')||(input.LA(1) >= '\f' && input.LA(1) <= '\r')||input.LA(1)==' ' ) {
+            	        input.consume();
+            	        state.failed=false;
+            	    }
+            	    else {
+            	        if (state.backtracking>0) {state.failed=true; return ;}
+            	        MismatchedSetException mse = new MismatchedSetException(null,input);
+            	        recover(mse);
+            	        throw mse;
+            	    }
+
+
+            	    }
+            	    break;
+
+            	default :
+            	    if ( cnt16 >= 1 ) break loop16;
+            	    if (state.backtracking>0) {state.failed=true; return ;}
+                        EarlyExitException eee =
+                            new EarlyExitException(16, input);
+                        throw eee;
+                }
+                cnt16++;
+            } while (true);
+
+
+            if ( state.backtracking==0 ) {
+                        //skip();
+                        _channel = HIDDEN;
+                    }
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "WS"
+
+    // $ANTLR start "LINE_COMMENT"
+    public final void mLINE_COMMENT() throws RecognitionException {
+        try {
+            int _type = LINE_COMMENT;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/Ceylon.g:3176:5: ( ( '//' | '#!' ) (~ ( '\\n' | '\\r' ) )* ( '\\r\\n' | '\\r' | '\\n' )? )
+            // /root/project/Ceylon.g:3176:9: ( '//' | '#!' ) (~ ( '\\n' | '\\r' ) )* ( '\\r\\n' | '\\r' | '\\n' )?
+            {
+            // /root/project/Ceylon.g:3176:9: ( '//' | '#!' )
+            int alt17=2;
+            int LA17_0 = input.LA(1);
+
+            if ( (LA17_0=='/') ) {
+                alt17=1;
+            }
+            else if ( (LA17_0=='#') ) {
+                alt17=2;
+            }
+            else {
+                if (state.backtracking>0) {state.failed=true; return ;}
+                NoViableAltException nvae =
+                    new NoViableAltException("", 17, 0, input);
+
+                throw nvae;
+
+            }
+            switch (alt17) {
+                case 1 :
+                    // /root/project/Ceylon.g:3176:10: '//'
+                    {
+                    match("//"); if (state.failed) return ;
+
+
+
+                    }
+                    break;
+                case 2 :
+                    // /root/project/Ceylon.g:3176:15: '#!'
+                    {
+                    match("#!"); if (state.failed) return ;
+
+
+
+                    }
+                    break;
+
+            }
+
+
+            // /root/project/Ceylon.g:3176:21: (~ ( '\\n' | '\\r' ) )*
+            loop18:
+            do {
+                int alt18=2;
+                int LA18_0 = input.LA(1);
+
+                if ( ((LA18_0 >= '\u0000' && LA18_0 <= '\t')||(LA18_0 >= '\u000B' && LA18_0 <= '\f')||(LA18_0 >= '\u000E' && LA18_0 <= '\uFFFF')) ) {
+                    alt18=1;
+                }
+
+
+                switch (alt18) {
+            	case 1 :
+            	    // /root/project/Ceylon.g:
+            	    {
+            	    if ( (input.LA(1) >= '\u0000' && input.LA(1) <= '\t')||(input.LA(1) >= '\u000B' && input.LA(1) <= '\f')||(input.LA(1) >= '\u000E' && input.LA(1) <= '\uFFFF') ) {
+            	        input.consume();
+            	        state.failed=false;
+            	    }
+            	    else {
+            	        if (state.backtracking>0) {state.failed=true; return ;}
+            	        MismatchedSetException mse = new MismatchedSetException(null,input);
+            	        recover(mse);
+            	        throw mse;
+            	    }
+
+
+            	    }
+            	    break;
+
+            	default :
+            	    break loop18;
+                }
+            } while (true);
+
+
+            // /root/project/Ceylon.g:3176:36: ( '\\r\\n' | '\\r' | '\\n' )?
+            int alt19=4;
+            int LA19_0 = input.LA(1);
+
+            if ( (LA19_0=='\r') ) {
+                int LA19_1 = input.LA(2);
+
+                if ( (LA19_1=='\n') ) {
+                    alt19=1;
+                }
+            }
+            else if ( (LA19_0=='\n') ) {
+                alt19=3;
+            }
+            switch (alt19) {
+                case 1 :
+                    // /root/project/Ceylon.g:3176:37: '\\r\\n'
+                    {
+                    match("\r\n"); if (state.failed) return ;
+
+
+
+                    }
+                    break;
+                case 2 :
+                    // /root/project/Ceylon.g:3176:46: '\\r'
+                    {
+                    match('\r'); if (state.failed) return ;
+
+                    }
+                    break;
+                case 3 :
+                    // /root/project/Ceylon.g:3176:53: '\\n'
+                    {
+                    match('\n'); if (state.failed) return ;
+
+                    }
+                    break;
+
+            }
+
+
+            if ( state.backtracking==0 ) {
+                        _channel = HIDDEN;
+                    }
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "LINE_COMMENT"
+
+    // $ANTLR start "MULTI_COMMENT"
+    public final void mMULTI_COMMENT() throws RecognitionException {
+        try {
+            int _type = MULTI_COMMENT;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/Ceylon.g:3183:5: ( '/*' (~ ( '/' | '*' ) | ( '/' ~ '*' )=> '/' | ( '*' ~ '/' )=> '*' | MULTI_COMMENT )* ( '*/' )? )
+            // /root/project/Ceylon.g:3183:9: '/*' (~ ( '/' | '*' ) | ( '/' ~ '*' )=> '/' | ( '*' ~ '/' )=> '*' | MULTI_COMMENT )* ( '*/' )?
+            {
+            match("/*"); if (state.failed) return ;
+
+
+
+            // /root/project/Ceylon.g:3184:9: (~ ( '/' | '*' ) | ( '/' ~ '*' )=> '/' | ( '*' ~ '/' )=> '*' | MULTI_COMMENT )*
+            loop20:
+            do {
+                int alt20=5;
+                int LA20_0 = input.LA(1);
+
+                if ( (LA20_0=='*') ) {
+                    int LA20_1 = input.LA(2);
+
+                    if ( (LA20_1=='/') ) {
+                        int LA20_5 = input.LA(3);
+
+                        if ( (synpred7_Ceylon()) ) {
+                            alt20=3;
+                        }
+
+
+                    }
+                    else if ( (LA20_1=='*') && (synpred7_Ceylon())) {
+                        alt20=3;
+                    }
+                    else if ( ((LA20_1 >= '\u0000' && LA20_1 <= ')')||(LA20_1 >= '+' && LA20_1 <= '.')||(LA20_1 >= '0' && LA20_1 <= '\uFFFF')) && (synpred7_Ceylon())) {
+                        alt20=3;
+                    }
+
+                    else {
+                        alt20=3;
+                    }
+
+
+                }
+                else if ( ((LA20_0 >= '\u0000' && LA20_0 <= ')')||(LA20_0 >= '+' && LA20_0 <= '.')||(LA20_0 >= '0' && LA20_0 <= '\uFFFF')) ) {
+                    alt20=1;
+                }
+                else if ( (LA20_0=='/') ) {
+                    int LA20_4 = input.LA(2);
+
+                    if ( (LA20_4=='*') ) {
+                        int LA20_9 = input.LA(3);
+
+                        if ( (synpred6_Ceylon()) ) {
+                            alt20=2;
+                        }
+                        else if ( (true) ) {
+                            alt20=4;
+                        }
+
+
+                    }
+                    else if ( ((LA20_4 >= '\u0000' && LA20_4 <= ')')||(LA20_4 >= '+' && LA20_4 <= '.')||(LA20_4 >= '0' && LA20_4 <= '\uFFFF')) && (synpred6_Ceylon())) {
+                        alt20=2;
+                    }
+                    else if ( (LA20_4=='/') && (synpred6_Ceylon())) {
+                        alt20=2;
+                    }
+
+                    else {
+                        alt20=2;
+                    }
+
+
+                }
+
+
+                switch (alt20) {
+            	case 1 :
+            	    // /root/project/Ceylon.g:3184:14: ~ ( '/' | '*' )
+            	    {
+            	    if ( (input.LA(1) >= '\u0000' && input.LA(1) <= ')')||(input.LA(1) >= '+' && input.LA(1) <= '.')||(input.LA(1) >= '0' && input.LA(1) <= '\uFFFF') ) {
+            	        input.consume();
+            	        state.failed=false;
+            	    }
+            	    else {
+            	        if (state.backtracking>0) {state.failed=true; return ;}
+            	        MismatchedSetException mse = new MismatchedSetException(null,input);
+            	        recover(mse);
+            	        throw mse;
+            	    }
+
+
+            	    }
+            	    break;
+            	case 2 :
+            	    // /root/project/Ceylon.g:3185:14: ( '/' ~ '*' )=> '/'
+            	    {
+            	    match('/'); if (state.failed) return ;
+
+            	    }
+            	    break;
+            	case 3 :
+            	    // /root/project/Ceylon.g:3186:14: ( '*' ~ '/' )=> '*'
+            	    {
+            	    match('*'); if (state.failed) return ;
+
+            	    }
+            	    break;
+            	case 4 :
+            	    // /root/project/Ceylon.g:3187:14: MULTI_COMMENT
+            	    {
+            	    mMULTI_COMMENT(); if (state.failed) return ;
+
+
+            	    }
+            	    break;
+
+            	default :
+            	    break loop20;
+                }
+            } while (true);
+
+
+            // /root/project/Ceylon.g:3189:9: ( '*/' )?
+            int alt21=2;
+            int LA21_0 = input.LA(1);
+
+            if ( (LA21_0=='*') ) {
+                alt21=1;
+            }
+            switch (alt21) {
+                case 1 :
+                    // /root/project/Ceylon.g:3189:9: '*/'
+                    {
+                    match("*/"); if (state.failed) return ;
+
+
+
+                    }
+                    break;
+
+            }
+
+
+            if ( state.backtracking==0 ) {
+                        _channel = HIDDEN;
+                    }
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "MULTI_COMMENT"
+
+    // $ANTLR start "ABSTRACTED_TYPE"
+    public final void mABSTRACTED_TYPE() throws RecognitionException {
+        try {
+            int _type = ABSTRACTED_TYPE;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/Ceylon.g:3197:5: ( 'abstracts' )
+            // /root/project/Ceylon.g:3197:9: 'abstracts'
+            {
+            match("abstracts"); if (state.failed) return ;
+
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "ABSTRACTED_TYPE"
+
+    // $ANTLR start "ADAPTED_TYPES"
+    public final void mADAPTED_TYPES() throws RecognitionException {
+        try {
+            int _type = ADAPTED_TYPES;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/Ceylon.g:3201:5: ( 'adapts' )
+            // /root/project/Ceylon.g:3201:9: 'adapts'
+            {
+            match("adapts"); if (state.failed) return ;
+
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "ADAPTED_TYPES"
+
+    // $ANTLR start "ASSIGN"
+    public final void mASSIGN() throws RecognitionException {
+        try {
+            int _type = ASSIGN;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/Ceylon.g:3205:5: ( 'assign' )
+            // /root/project/Ceylon.g:3205:9: 'assign'
+            {
+            match("assign"); if (state.failed) return ;
+
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "ASSIGN"
+
+    // $ANTLR start "BREAK"
+    public final void mBREAK() throws RecognitionException {
+        try {
+            int _type = BREAK;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/Ceylon.g:3209:5: ( 'break' )
+            // /root/project/Ceylon.g:3209:9: 'break'
+            {
+            match("break"); if (state.failed) return ;
+
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "BREAK"
+
+    // $ANTLR start "CASE_CLAUSE"
+    public final void mCASE_CLAUSE() throws RecognitionException {
+        try {
+            int _type = CASE_CLAUSE;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/Ceylon.g:3213:5: ( 'case' )
+            // /root/project/Ceylon.g:3213:9: 'case'
+            {
+            match("case"); if (state.failed) return ;
+
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "CASE_CLAUSE"
+
+    // $ANTLR start "CATCH_CLAUSE"
+    public final void mCATCH_CLAUSE() throws RecognitionException {
+        try {
+            int _type = CATCH_CLAUSE;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/Ceylon.g:3217:5: ( 'catch' )
+            // /root/project/Ceylon.g:3217:9: 'catch'
+            {
+            match("catch"); if (state.failed) return ;
+
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "CATCH_CLAUSE"
+
+    // $ANTLR start "CLASS_DEFINITION"
+    public final void mCLASS_DEFINITION() throws RecognitionException {
+        try {
+            int _type = CLASS_DEFINITION;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/Ceylon.g:3221:5: ( 'class' )
+            // /root/project/Ceylon.g:3221:9: 'class'
+            {
+            match("class"); if (state.failed) return ;
+
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "CLASS_DEFINITION"
+
+    // $ANTLR start "CONTINUE"
+    public final void mCONTINUE() throws RecognitionException {
+        try {
+            int _type = CONTINUE;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/Ceylon.g:3225:5: ( 'continue' )
+            // /root/project/Ceylon.g:3225:9: 'continue'
+            {
+            match("continue"); if (state.failed) return ;
+
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "CONTINUE"
+
+    // $ANTLR start "ELSE_CLAUSE"
+    public final void mELSE_CLAUSE() throws RecognitionException {
+        try {
+            int _type = ELSE_CLAUSE;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/Ceylon.g:3229:5: ( 'else' )
+            // /root/project/Ceylon.g:3229:9: 'else'
+            {
+            match("else"); if (state.failed) return ;
+
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "ELSE_CLAUSE"
+
+    // $ANTLR start "EXISTS"
+    public final void mEXISTS() throws RecognitionException {
+        try {
+            int _type = EXISTS;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/Ceylon.g:3233:5: ( 'exists' )
+            // /root/project/Ceylon.g:3233:9: 'exists'
+            {
+            match("exists"); if (state.failed) return ;
+
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "EXISTS"
+
+    // $ANTLR start "EXTENDS"
+    public final void mEXTENDS() throws RecognitionException {
+        try {
+            int _type = EXTENDS;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/Ceylon.g:3237:5: ( 'extends' )
+            // /root/project/Ceylon.g:3237:9: 'extends'
+            {
+            match("extends"); if (state.failed) return ;
+
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "EXTENDS"
+
+    // $ANTLR start "FINALLY_CLAUSE"
+    public final void mFINALLY_CLAUSE() throws RecognitionException {
+        try {
+            int _type = FINALLY_CLAUSE;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/Ceylon.g:3241:5: ( 'finally' )
+            // /root/project/Ceylon.g:3241:9: 'finally'
+            {
+            match("finally"); if (state.failed) return ;
+
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "FINALLY_CLAUSE"
+
+    // $ANTLR start "FOR_CLAUSE"
+    public final void mFOR_CLAUSE() throws RecognitionException {
+        try {
+            int _type = FOR_CLAUSE;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/Ceylon.g:3245:5: ( 'for' )
+            // /root/project/Ceylon.g:3245:9: 'for'
+            {
+            match("for"); if (state.failed) return ;
+
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "FOR_CLAUSE"
+
+    // $ANTLR start "TYPE_CONSTRAINT"
+    public final void mTYPE_CONSTRAINT() throws RecognitionException {
+        try {
+            int _type = TYPE_CONSTRAINT;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/Ceylon.g:3249:5: ( 'given' )
+            // /root/project/Ceylon.g:3249:9: 'given'
+            {
+            match("given"); if (state.failed) return ;
+
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "TYPE_CONSTRAINT"
+
+    // $ANTLR start "IF_CLAUSE"
+    public final void mIF_CLAUSE() throws RecognitionException {
+        try {
+            int _type = IF_CLAUSE;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/Ceylon.g:3253:5: ( 'if' )
+            // /root/project/Ceylon.g:3253:9: 'if'
+            {
+            match("if"); if (state.failed) return ;
+
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "IF_CLAUSE"
+
+    // $ANTLR start "SATISFIES"
+    public final void mSATISFIES() throws RecognitionException {
+        try {
+            int _type = SATISFIES;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/Ceylon.g:3257:5: ( 'satisfies' )
+            // /root/project/Ceylon.g:3257:9: 'satisfies'
+            {
+            match("satisfies"); if (state.failed) return ;
+
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "SATISFIES"
+
+    // $ANTLR start "IMPORT"
+    public final void mIMPORT() throws RecognitionException {
+        try {
+            int _type = IMPORT;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/Ceylon.g:3261:5: ( 'import' )
+            // /root/project/Ceylon.g:3261:9: 'import'
+            {
+            match("import"); if (state.failed) return ;
+
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "IMPORT"
+
+    // $ANTLR start "INTERFACE_DEFINITION"
+    public final void mINTERFACE_DEFINITION() throws RecognitionException {
+        try {
+            int _type = INTERFACE_DEFINITION;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/Ceylon.g:3265:5: ( 'interface' )
+            // /root/project/Ceylon.g:3265:9: 'interface'
+            {
+            match("interface"); if (state.failed) return ;
+
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "INTERFACE_DEFINITION"
+
+    // $ANTLR start "VALUE_MODIFIER"
+    public final void mVALUE_MODIFIER() throws RecognitionException {
+        try {
+            int _type = VALUE_MODIFIER;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/Ceylon.g:3269:5: ( 'value' )
+            // /root/project/Ceylon.g:3269:9: 'value'
+            {
+            match("value"); if (state.failed) return ;
+
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "VALUE_MODIFIER"
+
+    // $ANTLR start "FUNCTION_MODIFIER"
+    public final void mFUNCTION_MODIFIER() throws RecognitionException {
+        try {
+            int _type = FUNCTION_MODIFIER;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/Ceylon.g:3273:5: ( 'function' )
+            // /root/project/Ceylon.g:3273:9: 'function'
+            {
+            match("function"); if (state.failed) return ;
+
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "FUNCTION_MODIFIER"
+
+    // $ANTLR start "NONEMPTY"
+    public final void mNONEMPTY() throws RecognitionException {
+        try {
+            int _type = NONEMPTY;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/Ceylon.g:3277:5: ( 'nonempty' )
+            // /root/project/Ceylon.g:3277:9: 'nonempty'
+            {
+            match("nonempty"); if (state.failed) return ;
+
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "NONEMPTY"
+
+    // $ANTLR start "RETURN"
+    public final void mRETURN() throws RecognitionException {
+        try {
+            int _type = RETURN;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/Ceylon.g:3281:5: ( 'return' )
+            // /root/project/Ceylon.g:3281:9: 'return'
+            {
+            match("return"); if (state.failed) return ;
+
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "RETURN"
+
+    // $ANTLR start "SUPER"
+    public final void mSUPER() throws RecognitionException {
+        try {
+            int _type = SUPER;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/Ceylon.g:3285:5: ( 'super' )
+            // /root/project/Ceylon.g:3285:9: 'super'
+            {
+            match("super"); if (state.failed) return ;
+
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "SUPER"
+
+    // $ANTLR start "SWITCH_CLAUSE"
+    public final void mSWITCH_CLAUSE() throws RecognitionException {
+        try {
+            int _type = SWITCH_CLAUSE;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/Ceylon.g:3289:5: ( 'switch' )
+            // /root/project/Ceylon.g:3289:9: 'switch'
+            {
+            match("switch"); if (state.failed) return ;
+
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "SWITCH_CLAUSE"
+
+    // $ANTLR start "THEN_CLAUSE"
+    public final void mTHEN_CLAUSE() throws RecognitionException {
+        try {
+            int _type = THEN_CLAUSE;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/Ceylon.g:3293:5: ( 'then' )
+            // /root/project/Ceylon.g:3293:9: 'then'
+            {
+            match("then"); if (state.failed) return ;
+
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "THEN_CLAUSE"
+
+    // $ANTLR start "THIS"
+    public final void mTHIS() throws RecognitionException {
+        try {
+            int _type = THIS;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/Ceylon.g:3297:5: ( 'this' )
+            // /root/project/Ceylon.g:3297:9: 'this'
+            {
+            match("this"); if (state.failed) return ;
+
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "THIS"
+
+    // $ANTLR start "OUTER"
+    public final void mOUTER() throws RecognitionException {
+        try {
+            int _type = OUTER;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/Ceylon.g:3301:5: ( 'outer' )
+            // /root/project/Ceylon.g:3301:9: 'outer'
+            {
+            match("outer"); if (state.failed) return ;
+
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "OUTER"
+
+    // $ANTLR start "OBJECT_DEFINITION"
+    public final void mOBJECT_DEFINITION() throws RecognitionException {
+        try {
+            int _type = OBJECT_DEFINITION;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/Ceylon.g:3305:5: ( 'object' )
+            // /root/project/Ceylon.g:3305:9: 'object'
+            {
+            match("object"); if (state.failed) return ;
+
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "OBJECT_DEFINITION"
+
+    // $ANTLR start "CASE_TYPES"
+    public final void mCASE_TYPES() throws RecognitionException {
+        try {
+            int _type = CASE_TYPES;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/Ceylon.g:3309:5: ( 'of' )
+            // /root/project/Ceylon.g:3309:9: 'of'
+            {
+            match("of"); if (state.failed) return ;
+
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "CASE_TYPES"
+
+    // $ANTLR start "OUT"
+    public final void mOUT() throws RecognitionException {
+        try {
+            int _type = OUT;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/Ceylon.g:3313:5: ( 'out' )
+            // /root/project/Ceylon.g:3313:9: 'out'
+            {
+            match("out"); if (state.failed) return ;
+
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "OUT"
+
+    // $ANTLR start "THROW"
+    public final void mTHROW() throws RecognitionException {
+        try {
+            int _type = THROW;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/Ceylon.g:3317:5: ( 'throw' )
+            // /root/project/Ceylon.g:3317:9: 'throw'
+            {
+            match("throw"); if (state.failed) return ;
+
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "THROW"
+
+    // $ANTLR start "TRY_CLAUSE"
+    public final void mTRY_CLAUSE() throws RecognitionException {
+        try {
+            int _type = TRY_CLAUSE;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/Ceylon.g:3321:5: ( 'try' )
+            // /root/project/Ceylon.g:3321:9: 'try'
+            {
+            match("try"); if (state.failed) return ;
+
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "TRY_CLAUSE"
+
+    // $ANTLR start "VOID_MODIFIER"
+    public final void mVOID_MODIFIER() throws RecognitionException {
+        try {
+            int _type = VOID_MODIFIER;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/Ceylon.g:3325:5: ( 'void' )
+            // /root/project/Ceylon.g:3325:9: 'void'
+            {
+            match("void"); if (state.failed) return ;
+
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "VOID_MODIFIER"
+
+    // $ANTLR start "WHILE_CLAUSE"
+    public final void mWHILE_CLAUSE() throws RecognitionException {
+        try {
+            int _type = WHILE_CLAUSE;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/Ceylon.g:3329:5: ( 'while' )
+            // /root/project/Ceylon.g:3329:9: 'while'
+            {
+            match("while"); if (state.failed) return ;
+
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "WHILE_CLAUSE"
+
+    // $ANTLR start "ELLIPSIS"
+    public final void mELLIPSIS() throws RecognitionException {
+        try {
+            int _type = ELLIPSIS;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/Ceylon.g:3333:5: ( '...' )
+            // /root/project/Ceylon.g:3333:9: '...'
+            {
+            match("..."); if (state.failed) return ;
+
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "ELLIPSIS"
+
+    // $ANTLR start "RANGE_OP"
+    public final void mRANGE_OP() throws RecognitionException {
+        try {
+            int _type = RANGE_OP;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/Ceylon.g:3336:5: ( '..' )
+            // /root/project/Ceylon.g:3336:9: '..'
+            {
+            match(".."); if (state.failed) return ;
+
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "RANGE_OP"
+
+    // $ANTLR start "MEMBER_OP"
+    public final void mMEMBER_OP() throws RecognitionException {
+        try {
+            int _type = MEMBER_OP;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/Ceylon.g:3339:5: ( '.' )
+            // /root/project/Ceylon.g:3339:9: '.'
+            {
+            match('.'); if (state.failed) return ;
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "MEMBER_OP"
+
+    // $ANTLR start "LPAREN"
+    public final void mLPAREN() throws RecognitionException {
+        try {
+            int _type = LPAREN;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/Ceylon.g:3342:5: ( '(' )
+            // /root/project/Ceylon.g:3342:9: '('
+            {
+            match('('); if (state.failed) return ;
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "LPAREN"
+
+    // $ANTLR start "RPAREN"
+    public final void mRPAREN() throws RecognitionException {
+        try {
+            int _type = RPAREN;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/Ceylon.g:3346:5: ( ')' )
+            // /root/project/Ceylon.g:3346:9: ')'
+            {
+            match(')'); if (state.failed) return ;
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "RPAREN"
+
+    // $ANTLR start "LBRACE"
+    public final void mLBRACE() throws RecognitionException {
+        try {
+            int _type = LBRACE;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/Ceylon.g:3350:5: ( '{' )
+            // /root/project/Ceylon.g:3350:9: '{'
+            {
+            match('{'); if (state.failed) return ;
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "LBRACE"
+
+    // $ANTLR start "RBRACE"
+    public final void mRBRACE() throws RecognitionException {
+        try {
+            int _type = RBRACE;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/Ceylon.g:3354:5: ( '}' )
+            // /root/project/Ceylon.g:3354:9: '}'
+            {
+            match('}'); if (state.failed) return ;
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "RBRACE"
+
+    // $ANTLR start "RBRACKET"
+    public final void mRBRACKET() throws RecognitionException {
+        try {
+            int _type = RBRACKET;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/Ceylon.g:3358:5: ( ']' )
+            // /root/project/Ceylon.g:3358:9: ']'
+            {
+            match(']'); if (state.failed) return ;
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "RBRACKET"
+
+    // $ANTLR start "SEMICOLON"
+    public final void mSEMICOLON() throws RecognitionException {
+        try {
+            int _type = SEMICOLON;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/Ceylon.g:3362:5: ( ';' )
+            // /root/project/Ceylon.g:3362:9: ';'
+            {
+            match(';'); if (state.failed) return ;
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "SEMICOLON"
+
+    // $ANTLR start "COMMA"
+    public final void mCOMMA() throws RecognitionException {
+        try {
+            int _type = COMMA;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/Ceylon.g:3366:5: ( ',' )
+            // /root/project/Ceylon.g:3366:9: ','
+            {
+            match(','); if (state.failed) return ;
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "COMMA"
+
+    // $ANTLR start "SPECIFY"
+    public final void mSPECIFY() throws RecognitionException {
+        try {
+            int _type = SPECIFY;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/Ceylon.g:3370:5: ( '=' )
+            // /root/project/Ceylon.g:3370:9: '='
+            {
+            match('='); if (state.failed) return ;
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "SPECIFY"
+
+    // $ANTLR start "NOT_OP"
+    public final void mNOT_OP() throws RecognitionException {
+        try {
+            int _type = NOT_OP;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/Ceylon.g:3374:5: ( '!' )
+            // /root/project/Ceylon.g:3374:9: '!'
+            {
+            match('!'); if (state.failed) return ;
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "NOT_OP"
+
+    // $ANTLR start "COMPLEMENT_OP"
+    public final void mCOMPLEMENT_OP() throws RecognitionException {
+        try {
+            int _type = COMPLEMENT_OP;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/Ceylon.g:3378:5: ( '~' )
+            // /root/project/Ceylon.g:3378:9: '~'
+            {
+            match('~'); if (state.failed) return ;
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "COMPLEMENT_OP"
+
+    // $ANTLR start "ASSIGN_OP"
+    public final void mASSIGN_OP() throws RecognitionException {
+        try {
+            int _type = ASSIGN_OP;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/Ceylon.g:3382:5: ( ':=' )
+            // /root/project/Ceylon.g:3382:9: ':='
+            {
+            match(":="); if (state.failed) return ;
+
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "ASSIGN_OP"
+
+    // $ANTLR start "EQUAL_OP"
+    public final void mEQUAL_OP() throws RecognitionException {
+        try {
+            int _type = EQUAL_OP;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/Ceylon.g:3386:5: ( '==' )
+            // /root/project/Ceylon.g:3386:9: '=='
+            {
+            match("=="); if (state.failed) return ;
+
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "EQUAL_OP"
+
+    // $ANTLR start "IDENTICAL_OP"
+    public final void mIDENTICAL_OP() throws RecognitionException {
+        try {
+            int _type = IDENTICAL_OP;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/Ceylon.g:3390:5: ( '===' )
+            // /root/project/Ceylon.g:3390:9: '==='
+            {
+            match("==="); if (state.failed) return ;
+
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "IDENTICAL_OP"
+
+    // $ANTLR start "AND_OP"
+    public final void mAND_OP() throws RecognitionException {
+        try {
+            int _type = AND_OP;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/Ceylon.g:3394:5: ( '&&' )
+            // /root/project/Ceylon.g:3394:9: '&&'
+            {
+            match("&&"); if (state.failed) return ;
+
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "AND_OP"
+
+    // $ANTLR start "OR_OP"
+    public final void mOR_OP() throws RecognitionException {
+        try {
+            int _type = OR_OP;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/Ceylon.g:3398:5: ( '||' )
+            // /root/project/Ceylon.g:3398:9: '||'
+            {
+            match("||"); if (state.failed) return ;
+
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "OR_OP"
+
+    // $ANTLR start "INCREMENT_OP"
+    public final void mINCREMENT_OP() throws RecognitionException {
+        try {
+            int _type = INCREMENT_OP;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/Ceylon.g:3402:5: ( '++' )
+            // /root/project/Ceylon.g:3402:9: '++'
+            {
+            match("++"); if (state.failed) return ;
+
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "INCREMENT_OP"
+
+    // $ANTLR start "DECREMENT_OP"
+    public final void mDECREMENT_OP() throws RecognitionException {
+        try {
+            int _type = DECREMENT_OP;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/Ceylon.g:3406:5: ( '--' )
+            // /root/project/Ceylon.g:3406:9: '--'
+            {
+            match("--"); if (state.failed) return ;
+
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "DECREMENT_OP"
+
+    // $ANTLR start "SUM_OP"
+    public final void mSUM_OP() throws RecognitionException {
+        try {
+            int _type = SUM_OP;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/Ceylon.g:3410:5: ( '+' )
+            // /root/project/Ceylon.g:3410:9: '+'
+            {
+            match('+'); if (state.failed) return ;
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "SUM_OP"
+
+    // $ANTLR start "DIFFERENCE_OP"
+    public final void mDIFFERENCE_OP() throws RecognitionException {
+        try {
+            int _type = DIFFERENCE_OP;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/Ceylon.g:3414:5: ( '-' )
+            // /root/project/Ceylon.g:3414:9: '-'
+            {
+            match('-'); if (state.failed) return ;
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "DIFFERENCE_OP"
+
+    // $ANTLR start "PRODUCT_OP"
+    public final void mPRODUCT_OP() throws RecognitionException {
+        try {
+            int _type = PRODUCT_OP;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/Ceylon.g:3418:5: ( '*' )
+            // /root/project/Ceylon.g:3418:9: '*'
+            {
+            match('*'); if (state.failed) return ;
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "PRODUCT_OP"
+
+    // $ANTLR start "QUOTIENT_OP"
+    public final void mQUOTIENT_OP() throws RecognitionException {
+        try {
+            int _type = QUOTIENT_OP;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/Ceylon.g:3422:5: ( '/' )
+            // /root/project/Ceylon.g:3422:9: '/'
+            {
+            match('/'); if (state.failed) return ;
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "QUOTIENT_OP"
+
+    // $ANTLR start "INTERSECTION_OP"
+    public final void mINTERSECTION_OP() throws RecognitionException {
+        try {
+            int _type = INTERSECTION_OP;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/Ceylon.g:3426:5: ( '&' )
+            // /root/project/Ceylon.g:3426:9: '&'
+            {
+            match('&'); if (state.failed) return ;
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "INTERSECTION_OP"
+
+    // $ANTLR start "UNION_OP"
+    public final void mUNION_OP() throws RecognitionException {
+        try {
+            int _type = UNION_OP;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/Ceylon.g:3430:5: ( '|' )
+            // /root/project/Ceylon.g:3430:9: '|'
+            {
+            match('|'); if (state.failed) return ;
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "UNION_OP"
+
+    // $ANTLR start "XOR_OP"
+    public final void mXOR_OP() throws RecognitionException {
+        try {
+            int _type = XOR_OP;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/Ceylon.g:3434:5: ( '^' )
+            // /root/project/Ceylon.g:3434:9: '^'
+            {
+            match('^'); if (state.failed) return ;
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "XOR_OP"
+
+    // $ANTLR start "REMAINDER_OP"
+    public final void mREMAINDER_OP() throws RecognitionException {
+        try {
+            int _type = REMAINDER_OP;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/Ceylon.g:3438:5: ( '%' )
+            // /root/project/Ceylon.g:3438:9: '%'
+            {
+            match('%'); if (state.failed) return ;
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "REMAINDER_OP"
+
+    // $ANTLR start "NOT_EQUAL_OP"
+    public final void mNOT_EQUAL_OP() throws RecognitionException {
+        try {
+            int _type = NOT_EQUAL_OP;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/Ceylon.g:3442:5: ( '!=' )
+            // /root/project/Ceylon.g:3442:9: '!='
+            {
+            match("!="); if (state.failed) return ;
+
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "NOT_EQUAL_OP"
+
+    // $ANTLR start "LARGER_OP"
+    public final void mLARGER_OP() throws RecognitionException {
+        try {
+            int _type = LARGER_OP;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/Ceylon.g:3446:5: ( '>' )
+            // /root/project/Ceylon.g:3446:9: '>'
+            {
+            match('>'); if (state.failed) return ;
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "LARGER_OP"
+
+    // $ANTLR start "SMALLER_OP"
+    public final void mSMALLER_OP() throws RecognitionException {
+        try {
+            int _type = SMALLER_OP;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/Ceylon.g:3450:5: ( '<' )
+            // /root/project/Ceylon.g:3450:9: '<'
+            {
+            match('<'); if (state.failed) return ;
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "SMALLER_OP"
+
+    // $ANTLR start "LARGE_AS_OP"
+    public final void mLARGE_AS_OP() throws RecognitionException {
+        try {
+            int _type = LARGE_AS_OP;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/Ceylon.g:3454:5: ( '>=' )
+            // /root/project/Ceylon.g:3454:9: '>='
+            {
+            match(">="); if (state.failed) return ;
+
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "LARGE_AS_OP"
+
+    // $ANTLR start "SMALL_AS_OP"
+    public final void mSMALL_AS_OP() throws RecognitionException {
+        try {
+            int _type = SMALL_AS_OP;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/Ceylon.g:3458:5: ( '<=' )
+            // /root/project/Ceylon.g:3458:9: '<='
+            {
+            match("<="); if (state.failed) return ;
+
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "SMALL_AS_OP"
+
+    // $ANTLR start "ENTRY_OP"
+    public final void mENTRY_OP() throws RecognitionException {
+        try {
+            int _type = ENTRY_OP;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/Ceylon.g:3462:5: ( '->' )
+            // /root/project/Ceylon.g:3462:9: '->'
+            {
+            match("->"); if (state.failed) return ;
+
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "ENTRY_OP"
+
+    // $ANTLR start "COMPARE_OP"
+    public final void mCOMPARE_OP() throws RecognitionException {
+        try {
+            int _type = COMPARE_OP;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/Ceylon.g:3466:5: ( '<=>' )
+            // /root/project/Ceylon.g:3466:9: '<=>'
+            {
+            match("<=>"); if (state.failed) return ;
+
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "COMPARE_OP"
+
+    // $ANTLR start "IN_OP"
+    public final void mIN_OP() throws RecognitionException {
+        try {
+            int _type = IN_OP;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/Ceylon.g:3470:5: ( 'in' )
+            // /root/project/Ceylon.g:3470:9: 'in'
+            {
+            match("in"); if (state.failed) return ;
+
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "IN_OP"
+
+    // $ANTLR start "IS_OP"
+    public final void mIS_OP() throws RecognitionException {
+        try {
+            int _type = IS_OP;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/Ceylon.g:3474:5: ( 'is' )
+            // /root/project/Ceylon.g:3474:9: 'is'
+            {
+            match("is"); if (state.failed) return ;
+
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "IS_OP"
+
+    // $ANTLR start "POWER_OP"
+    public final void mPOWER_OP() throws RecognitionException {
+        try {
+            int _type = POWER_OP;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/Ceylon.g:3478:5: ( '**' )
+            // /root/project/Ceylon.g:3478:10: '**'
+            {
+            match("**"); if (state.failed) return ;
+
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "POWER_OP"
+
+    // $ANTLR start "ADD_ASSIGN_OP"
+    public final void mADD_ASSIGN_OP() throws RecognitionException {
+        try {
+            int _type = ADD_ASSIGN_OP;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/Ceylon.g:3486:5: ( '+=' )
+            // /root/project/Ceylon.g:3486:9: '+='
+            {
+            match("+="); if (state.failed) return ;
+
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "ADD_ASSIGN_OP"
+
+    // $ANTLR start "SUBTRACT_ASSIGN_OP"
+    public final void mSUBTRACT_ASSIGN_OP() throws RecognitionException {
+        try {
+            int _type = SUBTRACT_ASSIGN_OP;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/Ceylon.g:3490:5: ( '-=' )
+            // /root/project/Ceylon.g:3490:9: '-='
+            {
+            match("-="); if (state.failed) return ;
+
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "SUBTRACT_ASSIGN_OP"
+
+    // $ANTLR start "MULTIPLY_ASSIGN_OP"
+    public final void mMULTIPLY_ASSIGN_OP() throws RecognitionException {
+        try {
+            int _type = MULTIPLY_ASSIGN_OP;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/Ceylon.g:3494:5: ( '*=' )
+            // /root/project/Ceylon.g:3494:9: '*='
+            {
+            match("*="); if (state.failed) return ;
+
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "MULTIPLY_ASSIGN_OP"
+
+    // $ANTLR start "DIVIDE_ASSIGN_OP"
+    public final void mDIVIDE_ASSIGN_OP() throws RecognitionException {
+        try {
+            int _type = DIVIDE_ASSIGN_OP;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/Ceylon.g:3498:5: ( '/=' )
+            // /root/project/Ceylon.g:3498:9: '/='
+            {
+            match("/="); if (state.failed) return ;
+
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "DIVIDE_ASSIGN_OP"
+
+    // $ANTLR start "INTERSECT_ASSIGN_OP"
+    public final void mINTERSECT_ASSIGN_OP() throws RecognitionException {
+        try {
+            int _type = INTERSECT_ASSIGN_OP;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/Ceylon.g:3502:5: ( '&=' )
+            // /root/project/Ceylon.g:3502:9: '&='
+            {
+            match("&="); if (state.failed) return ;
+
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "INTERSECT_ASSIGN_OP"
+
+    // $ANTLR start "UNION_ASSIGN_OP"
+    public final void mUNION_ASSIGN_OP() throws RecognitionException {
+        try {
+            int _type = UNION_ASSIGN_OP;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/Ceylon.g:3506:5: ( '|=' )
+            // /root/project/Ceylon.g:3506:9: '|='
+            {
+            match("|="); if (state.failed) return ;
+
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "UNION_ASSIGN_OP"
+
+    // $ANTLR start "XOR_ASSIGN_OP"
+    public final void mXOR_ASSIGN_OP() throws RecognitionException {
+        try {
+            int _type = XOR_ASSIGN_OP;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/Ceylon.g:3510:5: ( '^=' )
+            // /root/project/Ceylon.g:3510:9: '^='
+            {
+            match("^="); if (state.failed) return ;
+
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "XOR_ASSIGN_OP"
+
+    // $ANTLR start "COMPLEMENT_ASSIGN_OP"
+    public final void mCOMPLEMENT_ASSIGN_OP() throws RecognitionException {
+        try {
+            int _type = COMPLEMENT_ASSIGN_OP;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/Ceylon.g:3514:5: ( '~=' )
+            // /root/project/Ceylon.g:3514:9: '~='
+            {
+            match("~="); if (state.failed) return ;
+
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "COMPLEMENT_ASSIGN_OP"
+
+    // $ANTLR start "REMAINDER_ASSIGN_OP"
+    public final void mREMAINDER_ASSIGN_OP() throws RecognitionException {
+        try {
+            int _type = REMAINDER_ASSIGN_OP;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/Ceylon.g:3518:5: ( '%=' )
+            // /root/project/Ceylon.g:3518:9: '%='
+            {
+            match("%="); if (state.failed) return ;
+
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "REMAINDER_ASSIGN_OP"
+
+    // $ANTLR start "AND_ASSIGN_OP"
+    public final void mAND_ASSIGN_OP() throws RecognitionException {
+        try {
+            int _type = AND_ASSIGN_OP;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/Ceylon.g:3526:5: ( '&&=' )
+            // /root/project/Ceylon.g:3526:9: '&&='
+            {
+            match("&&="); if (state.failed) return ;
+
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "AND_ASSIGN_OP"
+
+    // $ANTLR start "OR_ASSIGN_OP"
+    public final void mOR_ASSIGN_OP() throws RecognitionException {
+        try {
+            int _type = OR_ASSIGN_OP;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/Ceylon.g:3530:5: ( '||=' )
+            // /root/project/Ceylon.g:3530:9: '||='
+            {
+            match("||="); if (state.failed) return ;
+
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "OR_ASSIGN_OP"
+
+    // $ANTLR start "COMPILER_ANNOTATION"
+    public final void mCOMPILER_ANNOTATION() throws RecognitionException {
+        try {
+            int _type = COMPILER_ANNOTATION;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/Ceylon.g:3534:5: ( '@' )
+            // /root/project/Ceylon.g:3534:9: '@'
+            {
+            match('@'); if (state.failed) return ;
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "COMPILER_ANNOTATION"
+
+    // $ANTLR start "LIDENTIFIER"
+    public final void mLIDENTIFIER() throws RecognitionException {
+        try {
+            CommonToken name=null;
+
+            // /root/project/Ceylon.g:3540:5: ( LIdentifierPrefix (name= IdentifierPart )+ )
+            // /root/project/Ceylon.g:3540:9: LIdentifierPrefix (name= IdentifierPart )+
+            {
+            mLIdentifierPrefix(); if (state.failed) return ;
+
+
+            // /root/project/Ceylon.g:3540:31: (name= IdentifierPart )+
+            int cnt22=0;
+            loop22:
+            do {
+                int alt22=2;
+                int LA22_0 = input.LA(1);
+
+                if ( ((LA22_0 >= '0' && LA22_0 <= '9')||(LA22_0 >= 'A' && LA22_0 <= 'Z')||LA22_0=='_'||(LA22_0 >= 'a' && LA22_0 <= 'z')||(LA22_0 >= '\u00C0' && LA22_0 <= '\uFFFE')) ) {
+                    alt22=1;
+                }
+
+
+                switch (alt22) {
+            	case 1 :
+            	    // /root/project/Ceylon.g:3540:31: name= IdentifierPart
+            	    {
+            	    int nameStart2689 = getCharIndex();
+            	    int nameStartLine2689 = getLine();
+            	    int nameStartCharPos2689 = getCharPositionInLine();
+            	    mIdentifierPart(); if (state.failed) return ;
+            	    name = new CommonToken(input, Token.INVALID_TOKEN_TYPE, Token.DEFAULT_CHANNEL, nameStart2689, getCharIndex()-1);
+            	    name.setLine(nameStartLine2689);
+            	    name.setCharPositionInLine(nameStartCharPos2689);
+
+
+            	    }
+            	    break;
+
+            	default :
+            	    if ( cnt22 >= 1 ) break loop22;
+            	    if (state.backtracking>0) {state.failed=true; return ;}
+                        EarlyExitException eee =
+                            new EarlyExitException(22, input);
+                        throw eee;
+                }
+                cnt22++;
+            } while (true);
+
+
+            if ( state.backtracking==0 ) {setText(name.getText()); /* FIXME this is unlikely to work */ }
+
+            }
+
+
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "LIDENTIFIER"
+
+    // $ANTLR start "PIDENTIFIER"
+    public final void mPIDENTIFIER() throws RecognitionException {
+        try {
+            // /root/project/Ceylon.g:3546:13: ()
+            // /root/project/Ceylon.g:3546:14: 
+            {
+            }
+
+
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "PIDENTIFIER"
+
+    // $ANTLR start "AIDENTIFIER"
+    public final void mAIDENTIFIER() throws RecognitionException {
+        try {
+            // /root/project/Ceylon.g:3548:13: ()
+            // /root/project/Ceylon.g:3548:14: 
+            {
+            }
+
+
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "AIDENTIFIER"
+
+    // $ANTLR start "UIDENTIFIER"
+    public final void mUIDENTIFIER() throws RecognitionException {
+        try {
+            int _type = UIDENTIFIER;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            CommonToken name=null;
+
+            // /root/project/Ceylon.g:3550:5: ( IdentifierStart ( IdentifierPart )* | UIdentifierPrefix (name= IdentifierPart )+ )
+            int alt25=2;
+            int LA25_0 = input.LA(1);
+
+            if ( ((LA25_0 >= 'A' && LA25_0 <= 'Z')||LA25_0=='_'||(LA25_0 >= 'a' && LA25_0 <= 'z')||(LA25_0 >= '\u00C0' && LA25_0 <= '\uFFFE')) ) {
+                alt25=1;
+            }
+            else if ( (LA25_0=='\\') ) {
+                alt25=2;
+            }
+            else {
+                if (state.backtracking>0) {state.failed=true; return ;}
+                NoViableAltException nvae =
+                    new NoViableAltException("", 25, 0, input);
+
+                throw nvae;
+
+            }
+            switch (alt25) {
+                case 1 :
+                    // /root/project/Ceylon.g:3550:9: IdentifierStart ( IdentifierPart )*
+                    {
+                    mIdentifierStart(); if (state.failed) return ;
+
+
+                    // /root/project/Ceylon.g:3550:25: ( IdentifierPart )*
+                    loop23:
+                    do {
+                        int alt23=2;
+                        int LA23_0 = input.LA(1);
+
+                        if ( ((LA23_0 >= '0' && LA23_0 <= '9')||(LA23_0 >= 'A' && LA23_0 <= 'Z')||LA23_0=='_'||(LA23_0 >= 'a' && LA23_0 <= 'z')||(LA23_0 >= '\u00C0' && LA23_0 <= '\uFFFE')) ) {
+                            alt23=1;
+                        }
+
+
+                        switch (alt23) {
+                    	case 1 :
+                    	    // /root/project/Ceylon.g:3550:25: IdentifierPart
+                    	    {
+                    	    mIdentifierPart(); if (state.failed) return ;
+
+
+                    	    }
+                    	    break;
+
+                    	default :
+                    	    break loop23;
+                        }
+                    } while (true);
+
+
+                    if ( state.backtracking==0 ) { int cp = getText().codePointAt(0);
+                              if (cp=='_' || Character.isLowerCase(cp)) _type=LIDENTIFIER; }
+
+                    }
+                    break;
+                case 2 :
+                    // /root/project/Ceylon.g:3553:9: UIdentifierPrefix (name= IdentifierPart )+
+                    {
+                    mUIdentifierPrefix(); if (state.failed) return ;
+
+
+                    // /root/project/Ceylon.g:3553:31: (name= IdentifierPart )+
+                    int cnt24=0;
+                    loop24:
+                    do {
+                        int alt24=2;
+                        int LA24_0 = input.LA(1);
+
+                        if ( ((LA24_0 >= '0' && LA24_0 <= '9')||(LA24_0 >= 'A' && LA24_0 <= 'Z')||LA24_0=='_'||(LA24_0 >= 'a' && LA24_0 <= 'z')||(LA24_0 >= '\u00C0' && LA24_0 <= '\uFFFE')) ) {
+                            alt24=1;
+                        }
+
+
+                        switch (alt24) {
+                    	case 1 :
+                    	    // /root/project/Ceylon.g:3553:31: name= IdentifierPart
+                    	    {
+                    	    int nameStart2765 = getCharIndex();
+                    	    int nameStartLine2765 = getLine();
+                    	    int nameStartCharPos2765 = getCharPositionInLine();
+                    	    mIdentifierPart(); if (state.failed) return ;
+                    	    name = new CommonToken(input, Token.INVALID_TOKEN_TYPE, Token.DEFAULT_CHANNEL, nameStart2765, getCharIndex()-1);
+                    	    name.setLine(nameStartLine2765);
+                    	    name.setCharPositionInLine(nameStartCharPos2765);
+
+
+                    	    }
+                    	    break;
+
+                    	default :
+                    	    if ( cnt24 >= 1 ) break loop24;
+                    	    if (state.backtracking>0) {state.failed=true; return ;}
+                                EarlyExitException eee =
+                                    new EarlyExitException(24, input);
+                                throw eee;
+                        }
+                        cnt24++;
+                    } while (true);
+
+
+                    if ( state.backtracking==0 ) { setText(name.getText()); /* FIXME this is unlikely to work */ }
+
+                    }
+                    break;
+
+            }
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "UIDENTIFIER"
+
+    // $ANTLR start "IdentifierStart"
+    public final void mIdentifierStart() throws RecognitionException {
+        try {
+            // /root/project/Ceylon.g:3560:5: ( '_' | Letter )
+            int alt26=2;
+            int LA26_0 = input.LA(1);
+
+            if ( (LA26_0=='_') ) {
+                alt26=1;
+            }
+            else if ( ((LA26_0 >= 'A' && LA26_0 <= 'Z')||(LA26_0 >= 'a' && LA26_0 <= 'z')||(LA26_0 >= '\u00C0' && LA26_0 <= '\uFFFE')) ) {
+                alt26=2;
+            }
+            else {
+                if (state.backtracking>0) {state.failed=true; return ;}
+                NoViableAltException nvae =
+                    new NoViableAltException("", 26, 0, input);
+
+                throw nvae;
+
+            }
+            switch (alt26) {
+                case 1 :
+                    // /root/project/Ceylon.g:3560:9: '_'
+                    {
+                    match('_'); if (state.failed) return ;
+
+                    }
+                    break;
+                case 2 :
+                    // /root/project/Ceylon.g:3561:9: Letter
+                    {
+                    mLetter(); if (state.failed) return ;
+
+
+                    if ( state.backtracking==0 ) { if (!Character.isJavaIdentifierStart(getText().codePointAt(0))) { 
+                              //TODO: error!
+                            } }
+
+                    }
+                    break;
+
+            }
+
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "IdentifierStart"
+
+    // $ANTLR start "LIdentifierPrefix"
+    public final void mLIdentifierPrefix() throws RecognitionException {
+        try {
+            // /root/project/Ceylon.g:3569:5: ( '\\\\i' )
+            // /root/project/Ceylon.g:3569:7: '\\\\i'
+            {
+            match("\\i"); if (state.failed) return ;
+
+
+
+            }
+
+
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "LIdentifierPrefix"
+
+    // $ANTLR start "UIdentifierPrefix"
+    public final void mUIdentifierPrefix() throws RecognitionException {
+        try {
+            // /root/project/Ceylon.g:3574:5: ( '\\\\I' )
+            // /root/project/Ceylon.g:3574:7: '\\\\I'
+            {
+            match("\\I"); if (state.failed) return ;
+
+
+
+            }
+
+
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "UIdentifierPrefix"
+
+    // $ANTLR start "IdentifierPart"
+    public final void mIdentifierPart() throws RecognitionException {
+        try {
+            // /root/project/Ceylon.g:3579:5: ( '_' | Digit | Letter )
+            int alt27=3;
+            int LA27_0 = input.LA(1);
+
+            if ( (LA27_0=='_') ) {
+                alt27=1;
+            }
+            else if ( ((LA27_0 >= '0' && LA27_0 <= '9')) ) {
+                alt27=2;
+            }
+            else if ( ((LA27_0 >= 'A' && LA27_0 <= 'Z')||(LA27_0 >= 'a' && LA27_0 <= 'z')||(LA27_0 >= '\u00C0' && LA27_0 <= '\uFFFE')) ) {
+                alt27=3;
+            }
+            else {
+                if (state.backtracking>0) {state.failed=true; return ;}
+                NoViableAltException nvae =
+                    new NoViableAltException("", 27, 0, input);
+
+                throw nvae;
+
+            }
+            switch (alt27) {
+                case 1 :
+                    // /root/project/Ceylon.g:3579:9: '_'
+                    {
+                    match('_'); if (state.failed) return ;
+
+                    }
+                    break;
+                case 2 :
+                    // /root/project/Ceylon.g:3580:9: Digit
+                    {
+                    mDigit(); if (state.failed) return ;
+
+
+                    }
+                    break;
+                case 3 :
+                    // /root/project/Ceylon.g:3581:9: Letter
+                    {
+                    mLetter(); if (state.failed) return ;
+
+
+                    if ( state.backtracking==0 ) { if (!Character.isJavaIdentifierPart(getText().codePointAt(0))) { 
+                              //TODO: error!
+                            } }
+
+                    }
+                    break;
+
+            }
+
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "IdentifierPart"
+
+    // $ANTLR start "Letter"
+    public final void mLetter() throws RecognitionException {
+        try {
+            // /root/project/Ceylon.g:3589:5: ( 'a' .. 'z' | 'A' .. 'Z' | '\\u00c0' .. '\\ufffe' )
+            // /root/project/Ceylon.g:
+            {
+            if ( (input.LA(1) >= 'A' && input.LA(1) <= 'Z')||(input.LA(1) >= 'a' && input.LA(1) <= 'z')||(input.LA(1) >= '\u00C0' && input.LA(1) <= '\uFFFE') ) {
+                input.consume();
+                state.failed=false;
+            }
+            else {
+                if (state.backtracking>0) {state.failed=true; return ;}
+                MismatchedSetException mse = new MismatchedSetException(null,input);
+                recover(mse);
+                throw mse;
+            }
+
+
+            }
+
+
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "Letter"
+
+    // $ANTLR start "Digit"
+    public final void mDigit() throws RecognitionException {
+        try {
+            // /root/project/Ceylon.g:3596:5: ( '0' .. '9' )
+            // /root/project/Ceylon.g:
+            {
+            if ( (input.LA(1) >= '0' && input.LA(1) <= '9') ) {
+                input.consume();
+                state.failed=false;
+            }
+            else {
+                if (state.backtracking>0) {state.failed=true; return ;}
+                MismatchedSetException mse = new MismatchedSetException(null,input);
+                recover(mse);
+                throw mse;
+            }
+
+
+            }
+
+
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "Digit"
+
+    public void mTokens() throws RecognitionException {
+        // /root/project/Ceylon.g:1:8: ( NATURAL_LITERAL | LBRACKET | QMARK | CHAR_LITERAL | QUOTED_LITERAL | STRING_LITERAL | WS | LINE_COMMENT | MULTI_COMMENT | ABSTRACTED_TYPE | ADAPTED_TYPES | ASSIGN | BREAK | CASE_CLAUSE | CATCH_CLAUSE | CLASS_DEFINITION | CONTINUE | ELSE_CLAUSE | EXISTS | EXTENDS | FINALLY_CLAUSE | FOR_CLAUSE | TYPE_CONSTRAINT | IF_CLAUSE | SATISFIES | IMPORT | INTERFACE_DEFINITION | VALUE_MODIFIER | FUNCTION_MODIFIER | NONEMPTY | RETURN | SUPER | SWITCH_CLAUSE | THEN_CLAUSE | THIS | OUTER | OBJECT_DEFINITION | CASE_TYPES | OUT | THROW | TRY_CLAUSE | VOID_MODIFIER | WHILE_CLAUSE | ELLIPSIS | RANGE_OP | MEMBER_OP | LPAREN | RPAREN | LBRACE | RBRACE | RBRACKET | SEMICOLON | COMMA | SPECIFY | NOT_OP | COMPLEMENT_OP | ASSIGN_OP | EQUAL_OP | IDENTICAL_OP | AND_OP | OR_OP | INCREMENT_OP | DECREMENT_OP | SUM_OP | DIFFERENCE_OP | PRODUCT_OP | QUOTIENT_OP | INTERSECTION_OP | UNION_OP | XOR_OP | REMAINDER_OP | NOT_EQUAL_OP | LARGER_OP | SMALLER_OP | LARGE_AS_OP | SMALL_AS_OP | ENTRY_OP | COMPARE_OP | IN_OP | IS_OP | POWER_OP | ADD_ASSIGN_OP | SUBTRACT_ASSIGN_OP | MULTIPLY_ASSIGN_OP | DIVIDE_ASSIGN_OP | INTERSECT_ASSIGN_OP | UNION_ASSIGN_OP | XOR_ASSIGN_OP | COMPLEMENT_ASSIGN_OP | REMAINDER_ASSIGN_OP | AND_ASSIGN_OP | OR_ASSIGN_OP | COMPILER_ANNOTATION | UIDENTIFIER )
+        int alt28=94;
+        alt28 = dfa28.predict(input);
+        switch (alt28) {
+            case 1 :
+                // /root/project/Ceylon.g:1:10: NATURAL_LITERAL
+                {
+                mNATURAL_LITERAL(); if (state.failed) return ;
+
+
+                }
+                break;
+            case 2 :
+                // /root/project/Ceylon.g:1:26: LBRACKET
+                {
+                mLBRACKET(); if (state.failed) return ;
+
+
+                }
+                break;
+            case 3 :
+                // /root/project/Ceylon.g:1:35: QMARK
+                {
+                mQMARK(); if (state.failed) return ;
+
+
+                }
+                break;
+            case 4 :
+                // /root/project/Ceylon.g:1:41: CHAR_LITERAL
+                {
+                mCHAR_LITERAL(); if (state.failed) return ;
+
+
+                }
+                break;
+            case 5 :
+                // /root/project/Ceylon.g:1:54: QUOTED_LITERAL
+                {
+                mQUOTED_LITERAL(); if (state.failed) return ;
+
+
+                }
+                break;
+            case 6 :
+                // /root/project/Ceylon.g:1:69: STRING_LITERAL
+                {
+                mSTRING_LITERAL(); if (state.failed) return ;
+
+
+                }
+                break;
+            case 7 :
+                // /root/project/Ceylon.g:1:84: WS
+                {
+                mWS(); if (state.failed) return ;
+
+
+                }
+                break;
+            case 8 :
+                // /root/project/Ceylon.g:1:87: LINE_COMMENT
+                {
+                mLINE_COMMENT(); if (state.failed) return ;
+
+
+                }
+                break;
+            case 9 :
+                // /root/project/Ceylon.g:1:100: MULTI_COMMENT
+                {
+                mMULTI_COMMENT(); if (state.failed) return ;
+
+
+                }
+                break;
+            case 10 :
+                // /root/project/Ceylon.g:1:114: ABSTRACTED_TYPE
+                {
+                mABSTRACTED_TYPE(); if (state.failed) return ;
+
+
+                }
+                break;
+            case 11 :
+                // /root/project/Ceylon.g:1:130: ADAPTED_TYPES
+                {
+                mADAPTED_TYPES(); if (state.failed) return ;
+
+
+                }
+                break;
+            case 12 :
+                // /root/project/Ceylon.g:1:144: ASSIGN
+                {
+                mASSIGN(); if (state.failed) return ;
+
+
+                }
+                break;
+            case 13 :
+                // /root/project/Ceylon.g:1:151: BREAK
+                {
+                mBREAK(); if (state.failed) return ;
+
+
+                }
+                break;
+            case 14 :
+                // /root/project/Ceylon.g:1:157: CASE_CLAUSE
+                {
+                mCASE_CLAUSE(); if (state.failed) return ;
+
+
+                }
+                break;
+            case 15 :
+                // /root/project/Ceylon.g:1:169: CATCH_CLAUSE
+                {
+                mCATCH_CLAUSE(); if (state.failed) return ;
+
+
+                }
+                break;
+            case 16 :
+                // /root/project/Ceylon.g:1:182: CLASS_DEFINITION
+                {
+                mCLASS_DEFINITION(); if (state.failed) return ;
+
+
+                }
+                break;
+            case 17 :
+                // /root/project/Ceylon.g:1:199: CONTINUE
+                {
+                mCONTINUE(); if (state.failed) return ;
+
+
+                }
+                break;
+            case 18 :
+                // /root/project/Ceylon.g:1:208: ELSE_CLAUSE
+                {
+                mELSE_CLAUSE(); if (state.failed) return ;
+
+
+                }
+                break;
+            case 19 :
+                // /root/project/Ceylon.g:1:220: EXISTS
+                {
+                mEXISTS(); if (state.failed) return ;
+
+
+                }
+                break;
+            case 20 :
+                // /root/project/Ceylon.g:1:227: EXTENDS
+                {
+                mEXTENDS(); if (state.failed) return ;
+
+
+                }
+                break;
+            case 21 :
+                // /root/project/Ceylon.g:1:235: FINALLY_CLAUSE
+                {
+                mFINALLY_CLAUSE(); if (state.failed) return ;
+
+
+                }
+                break;
+            case 22 :
+                // /root/project/Ceylon.g:1:250: FOR_CLAUSE
+                {
+                mFOR_CLAUSE(); if (state.failed) return ;
+
+
+                }
+                break;
+            case 23 :
+                // /root/project/Ceylon.g:1:261: TYPE_CONSTRAINT
+                {
+                mTYPE_CONSTRAINT(); if (state.failed) return ;
+
+
+                }
+                break;
+            case 24 :
+                // /root/project/Ceylon.g:1:277: IF_CLAUSE
+                {
+                mIF_CLAUSE(); if (state.failed) return ;
+
+
+                }
+                break;
+            case 25 :
+                // /root/project/Ceylon.g:1:287: SATISFIES
+                {
+                mSATISFIES(); if (state.failed) return ;
+
+
+                }
+                break;
+            case 26 :
+                // /root/project/Ceylon.g:1:297: IMPORT
+                {
+                mIMPORT(); if (state.failed) return ;
+
+
+                }
+                break;
+            case 27 :
+                // /root/project/Ceylon.g:1:304: INTERFACE_DEFINITION
+                {
+                mINTERFACE_DEFINITION(); if (state.failed) return ;
+
+
+                }
+                break;
+            case 28 :
+                // /root/project/Ceylon.g:1:325: VALUE_MODIFIER
+                {
+                mVALUE_MODIFIER(); if (state.failed) return ;
+
+
+                }
+                break;
+            case 29 :
+                // /root/project/Ceylon.g:1:340: FUNCTION_MODIFIER
+                {
+                mFUNCTION_MODIFIER(); if (state.failed) return ;
+
+
+                }
+                break;
+            case 30 :
+                // /root/project/Ceylon.g:1:358: NONEMPTY
+                {
+                mNONEMPTY(); if (state.failed) return ;
+
+
+                }
+                break;
+            case 31 :
+                // /root/project/Ceylon.g:1:367: RETURN
+                {
+                mRETURN(); if (state.failed) return ;
+
+
+                }
+                break;
+            case 32 :
+                // /root/project/Ceylon.g:1:374: SUPER
+                {
+                mSUPER(); if (state.failed) return ;
+
+
+                }
+                break;
+            case 33 :
+                // /root/project/Ceylon.g:1:380: SWITCH_CLAUSE
+                {
+                mSWITCH_CLAUSE(); if (state.failed) return ;
+
+
+                }
+                break;
+            case 34 :
+                // /root/project/Ceylon.g:1:394: THEN_CLAUSE
+                {
+                mTHEN_CLAUSE(); if (state.failed) return ;
+
+
+                }
+                break;
+            case 35 :
+                // /root/project/Ceylon.g:1:406: THIS
+                {
+                mTHIS(); if (state.failed) return ;
+
+
+                }
+                break;
+            case 36 :
+                // /root/project/Ceylon.g:1:411: OUTER
+                {
+                mOUTER(); if (state.failed) return ;
+
+
+                }
+                break;
+            case 37 :
+                // /root/project/Ceylon.g:1:417: OBJECT_DEFINITION
+                {
+                mOBJECT_DEFINITION(); if (state.failed) return ;
+
+
+                }
+                break;
+            case 38 :
+                // /root/project/Ceylon.g:1:435: CASE_TYPES
+                {
+                mCASE_TYPES(); if (state.failed) return ;
+
+
+                }
+                break;
+            case 39 :
+                // /root/project/Ceylon.g:1:446: OUT
+                {
+                mOUT(); if (state.failed) return ;
+
+
+                }
+                break;
+            case 40 :
+                // /root/project/Ceylon.g:1:450: THROW
+                {
+                mTHROW(); if (state.failed) return ;
+
+
+                }
+                break;
+            case 41 :
+                // /root/project/Ceylon.g:1:456: TRY_CLAUSE
+                {
+                mTRY_CLAUSE(); if (state.failed) return ;
+
+
+                }
+                break;
+            case 42 :
+                // /root/project/Ceylon.g:1:467: VOID_MODIFIER
+                {
+                mVOID_MODIFIER(); if (state.failed) return ;
+
+
+                }
+                break;
+            case 43 :
+                // /root/project/Ceylon.g:1:481: WHILE_CLAUSE
+                {
+                mWHILE_CLAUSE(); if (state.failed) return ;
+
+
+                }
+                break;
+            case 44 :
+                // /root/project/Ceylon.g:1:494: ELLIPSIS
+                {
+                mELLIPSIS(); if (state.failed) return ;
+
+
+                }
+                break;
+            case 45 :
+                // /root/project/Ceylon.g:1:503: RANGE_OP
+                {
+                mRANGE_OP(); if (state.failed) return ;
+
+
+                }
+                break;
+            case 46 :
+                // /root/project/Ceylon.g:1:512: MEMBER_OP
+                {
+                mMEMBER_OP(); if (state.failed) return ;
+
+
+                }
+                break;
+            case 47 :
+                // /root/project/Ceylon.g:1:522: LPAREN
+                {
+                mLPAREN(); if (state.failed) return ;
+
+
+                }
+                break;
+            case 48 :
+                // /root/project/Ceylon.g:1:529: RPAREN
+                {
+                mRPAREN(); if (state.failed) return ;
+
+
+                }
+                break;
+            case 49 :
+                // /root/project/Ceylon.g:1:536: LBRACE
+                {
+                mLBRACE(); if (state.failed) return ;
+
+
+                }
+                break;
+            case 50 :
+                // /root/project/Ceylon.g:1:543: RBRACE
+                {
+                mRBRACE(); if (state.failed) return ;
+
+
+                }
+                break;
+            case 51 :
+                // /root/project/Ceylon.g:1:550: RBRACKET
+                {
+                mRBRACKET(); if (state.failed) return ;
+
+
+                }
+                break;
+            case 52 :
+                // /root/project/Ceylon.g:1:559: SEMICOLON
+                {
+                mSEMICOLON(); if (state.failed) return ;
+
+
+                }
+                break;
+            case 53 :
+                // /root/project/Ceylon.g:1:569: COMMA
+                {
+                mCOMMA(); if (state.failed) return ;
+
+
+                }
+                break;
+            case 54 :
+                // /root/project/Ceylon.g:1:575: SPECIFY
+                {
+                mSPECIFY(); if (state.failed) return ;
+
+
+                }
+                break;
+            case 55 :
+                // /root/project/Ceylon.g:1:583: NOT_OP
+                {
+                mNOT_OP(); if (state.failed) return ;
+
+
+                }
+                break;
+            case 56 :
+                // /root/project/Ceylon.g:1:590: COMPLEMENT_OP
+                {
+                mCOMPLEMENT_OP(); if (state.failed) return ;
+
+
+                }
+                break;
+            case 57 :
+                // /root/project/Ceylon.g:1:604: ASSIGN_OP
+                {
+                mASSIGN_OP(); if (state.failed) return ;
+
+
+                }
+                break;
+            case 58 :
+                // /root/project/Ceylon.g:1:614: EQUAL_OP
+                {
+                mEQUAL_OP(); if (state.failed) return ;
+
+
+                }
+                break;
+            case 59 :
+                // /root/project/Ceylon.g:1:623: IDENTICAL_OP
+                {
+                mIDENTICAL_OP(); if (state.failed) return ;
+
+
+                }
+                break;
+            case 60 :
+                // /root/project/Ceylon.g:1:636: AND_OP
+                {
+                mAND_OP(); if (state.failed) return ;
+
+
+                }
+                break;
+            case 61 :
+                // /root/project/Ceylon.g:1:643: OR_OP
+                {
+                mOR_OP(); if (state.failed) return ;
+
+
+                }
+                break;
+            case 62 :
+                // /root/project/Ceylon.g:1:649: INCREMENT_OP
+                {
+                mINCREMENT_OP(); if (state.failed) return ;
+
+
+                }
+                break;
+            case 63 :
+                // /root/project/Ceylon.g:1:662: DECREMENT_OP
+                {
+                mDECREMENT_OP(); if (state.failed) return ;
+
+
+                }
+                break;
+            case 64 :
+                // /root/project/Ceylon.g:1:675: SUM_OP
+                {
+                mSUM_OP(); if (state.failed) return ;
+
+
+                }
+                break;
+            case 65 :
+                // /root/project/Ceylon.g:1:682: DIFFERENCE_OP
+                {
+                mDIFFERENCE_OP(); if (state.failed) return ;
+
+
+                }
+                break;
+            case 66 :
+                // /root/project/Ceylon.g:1:696: PRODUCT_OP
+                {
+                mPRODUCT_OP(); if (state.failed) return ;
+
+
+                }
+                break;
+            case 67 :
+                // /root/project/Ceylon.g:1:707: QUOTIENT_OP
+                {
+                mQUOTIENT_OP(); if (state.failed) return ;
+
+
+                }
+                break;
+            case 68 :
+                // /root/project/Ceylon.g:1:719: INTERSECTION_OP
+                {
+                mINTERSECTION_OP(); if (state.failed) return ;
+
+
+                }
+                break;
+            case 69 :
+                // /root/project/Ceylon.g:1:735: UNION_OP
+                {
+                mUNION_OP(); if (state.failed) return ;
+
+
+                }
+                break;
+            case 70 :
+                // /root/project/Ceylon.g:1:744: XOR_OP
+                {
+                mXOR_OP(); if (state.failed) return ;
+
+
+                }
+                break;
+            case 71 :
+                // /root/project/Ceylon.g:1:751: REMAINDER_OP
+                {
+                mREMAINDER_OP(); if (state.failed) return ;
+
+
+                }
+                break;
+            case 72 :
+                // /root/project/Ceylon.g:1:764: NOT_EQUAL_OP
+                {
+                mNOT_EQUAL_OP(); if (state.failed) return ;
+
+
+                }
+                break;
+            case 73 :
+                // /root/project/Ceylon.g:1:777: LARGER_OP
+                {
+                mLARGER_OP(); if (state.failed) return ;
+
+
+                }
+                break;
+            case 74 :
+                // /root/project/Ceylon.g:1:787: SMALLER_OP
+                {
+                mSMALLER_OP(); if (state.failed) return ;
+
+
+                }
+                break;
+            case 75 :
+                // /root/project/Ceylon.g:1:798: LARGE_AS_OP
+                {
+                mLARGE_AS_OP(); if (state.failed) return ;
+
+
+                }
+                break;
+            case 76 :
+                // /root/project/Ceylon.g:1:810: SMALL_AS_OP
+                {
+                mSMALL_AS_OP(); if (state.failed) return ;
+
+
+                }
+                break;
+            case 77 :
+                // /root/project/Ceylon.g:1:822: ENTRY_OP
+                {
+                mENTRY_OP(); if (state.failed) return ;
+
+
+                }
+                break;
+            case 78 :
+                // /root/project/Ceylon.g:1:831: COMPARE_OP
+                {
+                mCOMPARE_OP(); if (state.failed) return ;
+
+
+                }
+                break;
+            case 79 :
+                // /root/project/Ceylon.g:1:842: IN_OP
+                {
+                mIN_OP(); if (state.failed) return ;
+
+
+                }
+                break;
+            case 80 :
+                // /root/project/Ceylon.g:1:848: IS_OP
+                {
+                mIS_OP(); if (state.failed) return ;
+
+
+                }
+                break;
+            case 81 :
+                // /root/project/Ceylon.g:1:854: POWER_OP
+                {
+                mPOWER_OP(); if (state.failed) return ;
+
+
+                }
+                break;
+            case 82 :
+                // /root/project/Ceylon.g:1:863: ADD_ASSIGN_OP
+                {
+                mADD_ASSIGN_OP(); if (state.failed) return ;
+
+
+                }
+                break;
+            case 83 :
+                // /root/project/Ceylon.g:1:877: SUBTRACT_ASSIGN_OP
+                {
+                mSUBTRACT_ASSIGN_OP(); if (state.failed) return ;
+
+
+                }
+                break;
+            case 84 :
+                // /root/project/Ceylon.g:1:896: MULTIPLY_ASSIGN_OP
+                {
+                mMULTIPLY_ASSIGN_OP(); if (state.failed) return ;
+
+
+                }
+                break;
+            case 85 :
+                // /root/project/Ceylon.g:1:915: DIVIDE_ASSIGN_OP
+                {
+                mDIVIDE_ASSIGN_OP(); if (state.failed) return ;
+
+
+                }
+                break;
+            case 86 :
+                // /root/project/Ceylon.g:1:932: INTERSECT_ASSIGN_OP
+                {
+                mINTERSECT_ASSIGN_OP(); if (state.failed) return ;
+
+
+                }
+                break;
+            case 87 :
+                // /root/project/Ceylon.g:1:952: UNION_ASSIGN_OP
+                {
+                mUNION_ASSIGN_OP(); if (state.failed) return ;
+
+
+                }
+                break;
+            case 88 :
+                // /root/project/Ceylon.g:1:968: XOR_ASSIGN_OP
+                {
+                mXOR_ASSIGN_OP(); if (state.failed) return ;
+
+
+                }
+                break;
+            case 89 :
+                // /root/project/Ceylon.g:1:982: COMPLEMENT_ASSIGN_OP
+                {
+                mCOMPLEMENT_ASSIGN_OP(); if (state.failed) return ;
+
+
+                }
+                break;
+            case 90 :
+                // /root/project/Ceylon.g:1:1003: REMAINDER_ASSIGN_OP
+                {
+                mREMAINDER_ASSIGN_OP(); if (state.failed) return ;
+
+
+                }
+                break;
+            case 91 :
+                // /root/project/Ceylon.g:1:1023: AND_ASSIGN_OP
+                {
+                mAND_ASSIGN_OP(); if (state.failed) return ;
+
+
+                }
+                break;
+            case 92 :
+                // /root/project/Ceylon.g:1:1037: OR_ASSIGN_OP
+                {
+                mOR_ASSIGN_OP(); if (state.failed) return ;
+
+
+                }
+                break;
+            case 93 :
+                // /root/project/Ceylon.g:1:1050: COMPILER_ANNOTATION
+                {
+                mCOMPILER_ANNOTATION(); if (state.failed) return ;
+
+
+                }
+                break;
+            case 94 :
+                // /root/project/Ceylon.g:1:1070: UIDENTIFIER
+                {
+                mUIDENTIFIER(); if (state.failed) return ;
+
+
+                }
+                break;
+
+        }
+
+    }
+
+    // $ANTLR start synpred1_Ceylon
+    public final void synpred1_Ceylon_fragment() throws RecognitionException {
+        // /root/project/Ceylon.g:3072:9: ( '.' ( '0' .. '9' ) )
+        // /root/project/Ceylon.g:3072:10: '.' ( '0' .. '9' )
+        {
+        match('.'); if (state.failed) return ;
+
+        if ( (input.LA(1) >= '0' && input.LA(1) <= '9') ) {
+            input.consume();
+            state.failed=false;
+        }
+        else {
+            if (state.backtracking>0) {state.failed=true; return ;}
+            MismatchedSetException mse = new MismatchedSetException(null,input);
+            recover(mse);
+            throw mse;
+        }
+
+
+        }
+
+    }
+    // $ANTLR end synpred1_Ceylon
+
+    // $ANTLR start synpred2_Ceylon
+    public final void synpred2_Ceylon_fragment() throws RecognitionException {
+        // /root/project/Ceylon.g:3087:7: ( ']' '.' ~ '.' )
+        // /root/project/Ceylon.g:3087:8: ']' '.' ~ '.'
+        {
+        match(']'); if (state.failed) return ;
+
+        match('.'); if (state.failed) return ;
+
+        if ( (input.LA(1) >= '\u0000' && input.LA(1) <= '-')||(input.LA(1) >= '/' && input.LA(1) <= '\uFFFF') ) {
+            input.consume();
+            state.failed=false;
+        }
+        else {
+            if (state.backtracking>0) {state.failed=true; return ;}
+            MismatchedSetException mse = new MismatchedSetException(null,input);
+            recover(mse);
+            throw mse;
+        }
+
+
+        }
+
+    }
+    // $ANTLR end synpred2_Ceylon
+
+    // $ANTLR start synpred3_Ceylon
+    public final void synpred3_Ceylon_fragment() throws RecognitionException {
+        // /root/project/Ceylon.g:3088:7: ( ']' )
+        // /root/project/Ceylon.g:3088:8: ']'
+        {
+        match(']'); if (state.failed) return ;
+
+        }
+
+    }
+    // $ANTLR end synpred3_Ceylon
+
+    // $ANTLR start synpred4_Ceylon
+    public final void synpred4_Ceylon_fragment() throws RecognitionException {
+        // /root/project/Ceylon.g:3103:7: ( '[' ~ ']' )
+        // /root/project/Ceylon.g:3103:8: '[' ~ ']'
+        {
+        match('['); if (state.failed) return ;
+
+        if ( (input.LA(1) >= '\u0000' && input.LA(1) <= '\\')||(input.LA(1) >= '^' && input.LA(1) <= '\uFFFF') ) {
+            input.consume();
+            state.failed=false;
+        }
+        else {
+            if (state.backtracking>0) {state.failed=true; return ;}
+            MismatchedSetException mse = new MismatchedSetException(null,input);
+            recover(mse);
+            throw mse;
+        }
+
+
+        }
+
+    }
+    // $ANTLR end synpred4_Ceylon
+
+    // $ANTLR start synpred5_Ceylon
+    public final void synpred5_Ceylon_fragment() throws RecognitionException {
+        // /root/project/Ceylon.g:3104:7: ( '.' ~ '.' )
+        // /root/project/Ceylon.g:3104:8: '.' ~ '.'
+        {
+        match('.'); if (state.failed) return ;
+
+        if ( (input.LA(1) >= '\u0000' && input.LA(1) <= '-')||(input.LA(1) >= '/' && input.LA(1) <= '\uFFFF') ) {
+            input.consume();
+            state.failed=false;
+        }
+        else {
+            if (state.backtracking>0) {state.failed=true; return ;}
+            MismatchedSetException mse = new MismatchedSetException(null,input);
+            recover(mse);
+            throw mse;
+        }
+
+
+        }
+
+    }
+    // $ANTLR end synpred5_Ceylon
+
+    // $ANTLR start synpred6_Ceylon
+    public final void synpred6_Ceylon_fragment() throws RecognitionException {
+        // /root/project/Ceylon.g:3185:14: ( '/' ~ '*' )
+        // /root/project/Ceylon.g:3185:15: '/' ~ '*'
+        {
+        match('/'); if (state.failed) return ;
+
+        if ( (input.LA(1) >= '\u0000' && input.LA(1) <= ')')||(input.LA(1) >= '+' && input.LA(1) <= '\uFFFF') ) {
+            input.consume();
+            state.failed=false;
+        }
+        else {
+            if (state.backtracking>0) {state.failed=true; return ;}
+            MismatchedSetException mse = new MismatchedSetException(null,input);
+            recover(mse);
+            throw mse;
+        }
+
+
+        }
+
+    }
+    // $ANTLR end synpred6_Ceylon
+
+    // $ANTLR start synpred7_Ceylon
+    public final void synpred7_Ceylon_fragment() throws RecognitionException {
+        // /root/project/Ceylon.g:3186:14: ( '*' ~ '/' )
+        // /root/project/Ceylon.g:3186:15: '*' ~ '/'
+        {
+        match('*'); if (state.failed) return ;
+
+        if ( (input.LA(1) >= '\u0000' && input.LA(1) <= '.')||(input.LA(1) >= '0' && input.LA(1) <= '\uFFFF') ) {
+            input.consume();
+            state.failed=false;
+        }
+        else {
+            if (state.backtracking>0) {state.failed=true; return ;}
+            MismatchedSetException mse = new MismatchedSetException(null,input);
+            recover(mse);
+            throw mse;
+        }
+
+
+        }
+
+    }
+    // $ANTLR end synpred7_Ceylon
+
+    public final boolean synpred7_Ceylon() {
+        state.backtracking++;
+        int start = input.mark();
+        try {
+            synpred7_Ceylon_fragment(); // can never throw exception
+        } catch (RecognitionException re) {
+            System.err.println("impossible: "+re);
+        }
+        boolean success = !state.failed;
+        input.rewind(start);
+        state.backtracking--;
+        state.failed=false;
+        return success;
+    }
+    public final boolean synpred2_Ceylon() {
+        state.backtracking++;
+        int start = input.mark();
+        try {
+            synpred2_Ceylon_fragment(); // can never throw exception
+        } catch (RecognitionException re) {
+            System.err.println("impossible: "+re);
+        }
+        boolean success = !state.failed;
+        input.rewind(start);
+        state.backtracking--;
+        state.failed=false;
+        return success;
+    }
+    public final boolean synpred6_Ceylon() {
+        state.backtracking++;
+        int start = input.mark();
+        try {
+            synpred6_Ceylon_fragment(); // can never throw exception
+        } catch (RecognitionException re) {
+            System.err.println("impossible: "+re);
+        }
+        boolean success = !state.failed;
+        input.rewind(start);
+        state.backtracking--;
+        state.failed=false;
+        return success;
+    }
+    public final boolean synpred3_Ceylon() {
+        state.backtracking++;
+        int start = input.mark();
+        try {
+            synpred3_Ceylon_fragment(); // can never throw exception
+        } catch (RecognitionException re) {
+            System.err.println("impossible: "+re);
+        }
+        boolean success = !state.failed;
+        input.rewind(start);
+        state.backtracking--;
+        state.failed=false;
+        return success;
+    }
+    public final boolean synpred5_Ceylon() {
+        state.backtracking++;
+        int start = input.mark();
+        try {
+            synpred5_Ceylon_fragment(); // can never throw exception
+        } catch (RecognitionException re) {
+            System.err.println("impossible: "+re);
+        }
+        boolean success = !state.failed;
+        input.rewind(start);
+        state.backtracking--;
+        state.failed=false;
+        return success;
+    }
+    public final boolean synpred1_Ceylon() {
+        state.backtracking++;
+        int start = input.mark();
+        try {
+            synpred1_Ceylon_fragment(); // can never throw exception
+        } catch (RecognitionException re) {
+            System.err.println("impossible: "+re);
+        }
+        boolean success = !state.failed;
+        input.rewind(start);
+        state.backtracking--;
+        state.failed=false;
+        return success;
+    }
+    public final boolean synpred4_Ceylon() {
+        state.backtracking++;
+        int start = input.mark();
+        try {
+            synpred4_Ceylon_fragment(); // can never throw exception
+        } catch (RecognitionException re) {
+            System.err.println("impossible: "+re);
+        }
+        boolean success = !state.failed;
+        input.rewind(start);
+        state.backtracking--;
+        state.failed=false;
+        return success;
+    }
+
+
+    protected DFA28 dfa28 = new DFA28(this);
+    static final String DFA28_eotS =
+        "\10\uffff\1\61\1\uffff\16\56\1\121\7\uffff\1\123\1\125\1\127\1\uffff"+
+        "\1\132\1\135\1\140\1\144\1\147\1\151\1\153\1\155\1\157\5\uffff\15"+
+        "\56\1\177\1\56\1\u0082\1\u0083\13\56\1\u0091\1\56\1\u0094\1\uffff"+
+        "\1\u0096\5\uffff\1\u0098\2\uffff\1\u009a\22\uffff\1\u009c\1\uffff"+
+        "\14\56\1\u00a9\2\56\1\uffff\2\56\2\uffff\12\56\1\u00b8\1\u00ba\1"+
+        "\56\1\uffff\1\56\12\uffff\4\56\1\u00c1\3\56\1\u00c5\3\56\1\uffff"+
+        "\10\56\1\u00d1\2\56\1\u00d4\1\u00d5\1\56\1\uffff\1\56\1\uffff\5"+
+        "\56\1\u00dd\1\uffff\1\u00de\1\u00df\1\56\1\uffff\4\56\1\u00e5\3"+
+        "\56\1\u00e9\1\56\1\u00eb\1\uffff\2\56\2\uffff\1\u00ee\1\u00ef\1"+
+        "\56\1\u00f1\1\56\1\u00f3\1\u00f4\3\uffff\1\56\1\u00f6\3\56\1\uffff"+
+        "\1\u00fa\2\56\1\uffff\1\u00fd\1\uffff\1\56\1\u00ff\2\uffff\1\u0100"+
+        "\1\uffff\1\56\2\uffff\1\56\1\uffff\1\u0103\1\u0104\1\56\1\uffff"+
+        "\2\56\1\uffff\1\56\2\uffff\1\56\1\u010a\2\uffff\1\u010b\2\56\1\u010e"+
+        "\1\u010f\2\uffff\1\u0110\1\u0111\4\uffff";
+    static final String DFA28_eofS =
+        "\u0112\uffff";
+    static final String DFA28_minS =
+        "\1\11\7\uffff\1\52\1\uffff\1\142\1\162\1\141\1\154\2\151\1\146\2"+
+        "\141\1\157\1\145\1\150\1\142\1\150\1\56\7\uffff\3\75\1\uffff\1\46"+
+        "\1\75\1\53\1\55\1\52\4\75\5\uffff\1\163\1\141\1\163\1\145\1\163"+
+        "\1\141\1\156\1\163\1\151\1\156\1\162\1\156\1\166\1\60\1\160\2\60"+
+        "\1\164\1\160\1\151\1\154\1\151\1\156\1\164\1\145\1\171\1\164\1\152"+
+        "\1\60\1\151\1\56\1\uffff\1\75\5\uffff\1\75\2\uffff\1\75\22\uffff"+
+        "\1\76\1\uffff\1\164\1\160\1\151\1\141\1\145\1\143\1\163\1\164\1"+
+        "\145\1\163\1\145\1\141\1\60\1\143\1\145\1\uffff\1\157\1\145\2\uffff"+
+        "\1\151\1\145\1\164\1\165\1\144\1\145\1\165\1\156\1\163\1\157\2\60"+
+        "\1\145\1\uffff\1\154\12\uffff\1\162\1\164\1\147\1\153\1\60\1\150"+
+        "\1\163\1\151\1\60\1\164\1\156\1\154\1\uffff\1\164\1\156\2\162\1"+
+        "\163\1\162\1\143\1\145\1\60\1\155\1\162\2\60\1\167\1\uffff\1\162"+
+        "\1\uffff\1\143\1\145\1\141\1\163\1\156\1\60\1\uffff\2\60\1\156\1"+
+        "\uffff\1\163\1\144\1\154\1\151\1\60\1\164\2\146\1\60\1\150\1\60"+
+        "\1\uffff\1\160\1\156\2\uffff\2\60\1\164\1\60\1\143\2\60\3\uffff"+
+        "\1\165\1\60\1\163\1\171\1\157\1\uffff\1\60\1\141\1\151\1\uffff\1"+
+        "\60\1\uffff\1\164\1\60\2\uffff\1\60\1\uffff\1\164\2\uffff\1\145"+
+        "\1\uffff\2\60\1\156\1\uffff\1\143\1\145\1\uffff\1\171\2\uffff\1"+
+        "\163\1\60\2\uffff\1\60\1\145\1\163\2\60\2\uffff\2\60\4\uffff";
+    static final String DFA28_maxS =
+        "\1\ufffe\7\uffff\1\75\1\uffff\1\163\1\162\1\157\1\170\1\165\1\151"+
+        "\1\163\1\167\2\157\1\145\1\162\1\165\1\150\1\56\7\uffff\3\75\1\uffff"+
+        "\1\75\1\174\1\75\1\76\5\75\5\uffff\1\163\1\141\1\163\1\145\1\164"+
+        "\1\141\1\156\1\163\1\164\1\156\1\162\1\156\1\166\1\ufffe\1\160\2"+
+        "\ufffe\1\164\1\160\1\151\1\154\1\151\1\156\1\164\1\162\1\171\1\164"+
+        "\1\152\1\ufffe\1\151\1\56\1\uffff\1\75\5\uffff\1\75\2\uffff\1\75"+
+        "\22\uffff\1\76\1\uffff\1\164\1\160\1\151\1\141\1\145\1\143\1\163"+
+        "\1\164\1\145\1\163\1\145\1\141\1\ufffe\1\143\1\145\1\uffff\1\157"+
+        "\1\145\2\uffff\1\151\1\145\1\164\1\165\1\144\1\145\1\165\1\156\1"+
+        "\163\1\157\2\ufffe\1\145\1\uffff\1\154\12\uffff\1\162\1\164\1\147"+
+        "\1\153\1\ufffe\1\150\1\163\1\151\1\ufffe\1\164\1\156\1\154\1\uffff"+
+        "\1\164\1\156\2\162\1\163\1\162\1\143\1\145\1\ufffe\1\155\1\162\2"+
+        "\ufffe\1\167\1\uffff\1\162\1\uffff\1\143\1\145\1\141\1\163\1\156"+
+        "\1\ufffe\1\uffff\2\ufffe\1\156\1\uffff\1\163\1\144\1\154\1\151\1"+
+        "\ufffe\1\164\2\146\1\ufffe\1\150\1\ufffe\1\uffff\1\160\1\156\2\uffff"+
+        "\2\ufffe\1\164\1\ufffe\1\143\2\ufffe\3\uffff\1\165\1\ufffe\1\163"+
+        "\1\171\1\157\1\uffff\1\ufffe\1\141\1\151\1\uffff\1\ufffe\1\uffff"+
+        "\1\164\1\ufffe\2\uffff\1\ufffe\1\uffff\1\164\2\uffff\1\145\1\uffff"+
+        "\2\ufffe\1\156\1\uffff\1\143\1\145\1\uffff\1\171\2\uffff\1\163\1"+
+        "\ufffe\2\uffff\1\ufffe\1\145\1\163\2\ufffe\2\uffff\2\ufffe\4\uffff";
+    static final String DFA28_acceptS =
+        "\1\uffff\1\1\1\2\1\3\1\4\1\5\1\6\1\7\1\uffff\1\10\17\uffff\1\57"+
+        "\1\60\1\61\1\62\1\63\1\64\1\65\3\uffff\1\71\11\uffff\1\135\1\136"+
+        "\1\11\1\125\1\103\37\uffff\1\56\1\uffff\1\66\1\110\1\67\1\131\1"+
+        "\70\1\uffff\1\126\1\104\1\uffff\1\127\1\105\1\76\1\122\1\100\1\77"+
+        "\1\115\1\123\1\101\1\121\1\124\1\102\1\130\1\106\1\132\1\107\1\113"+
+        "\1\111\1\uffff\1\112\17\uffff\1\30\2\uffff\1\117\1\120\15\uffff"+
+        "\1\46\1\uffff\1\54\1\55\1\73\1\72\1\133\1\74\1\134\1\75\1\116\1"+
+        "\114\14\uffff\1\26\16\uffff\1\51\1\uffff\1\47\6\uffff\1\16\3\uffff"+
+        "\1\22\13\uffff\1\52\2\uffff\1\42\1\43\7\uffff\1\15\1\17\1\20\5\uffff"+
+        "\1\27\3\uffff\1\40\1\uffff\1\34\2\uffff\1\50\1\44\1\uffff\1\53\1"+
+        "\uffff\1\13\1\14\1\uffff\1\23\3\uffff\1\32\2\uffff\1\41\1\uffff"+
+        "\1\37\1\45\2\uffff\1\24\1\25\5\uffff\1\21\1\35\2\uffff\1\36\1\12"+
+        "\1\33\1\31";
+    static final String DFA28_specialS =
+        "\u0112\uffff}>";
+    static final String[] DFA28_transitionS = {
+            "\2\7\1\uffff\2\7\22\uffff\1\7\1\41\1\6\1\11\1\uffff\1\52\1\44"+
+            "\1\5\1\31\1\32\1\50\1\46\1\37\1\47\1\30\1\10\12\1\1\43\1\36"+
+            "\1\54\1\40\1\53\1\3\1\55\32\56\1\2\1\56\1\35\1\51\1\56\1\4\1"+
+            "\12\1\13\1\14\1\56\1\15\1\16\1\17\1\56\1\20\4\56\1\23\1\26\2"+
+            "\56\1\24\1\21\1\25\1\56\1\22\1\27\3\56\1\33\1\45\1\34\1\42\101"+
+            "\uffff\uff3f\56",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "\1\57\4\uffff\1\11\15\uffff\1\60",
+            "",
+            "\1\62\1\uffff\1\63\16\uffff\1\64",
+            "\1\65",
+            "\1\66\12\uffff\1\67\2\uffff\1\70",
+            "\1\71\13\uffff\1\72",
+            "\1\73\5\uffff\1\74\5\uffff\1\75",
+            "\1\76",
+            "\1\77\6\uffff\1\100\1\101\4\uffff\1\102",
+            "\1\103\23\uffff\1\104\1\uffff\1\105",
+            "\1\106\15\uffff\1\107",
+            "\1\110",
+            "\1\111",
+            "\1\112\11\uffff\1\113",
+            "\1\115\3\uffff\1\116\16\uffff\1\114",
+            "\1\117",
+            "\1\120",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "\1\122",
+            "\1\124",
+            "\1\126",
+            "",
+            "\1\130\26\uffff\1\131",
+            "\1\134\76\uffff\1\133",
+            "\1\136\21\uffff\1\137",
+            "\1\141\17\uffff\1\143\1\142",
+            "\1\145\22\uffff\1\146",
+            "\1\150",
+            "\1\152",
+            "\1\154",
+            "\1\156",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "\1\160",
+            "\1\161",
+            "\1\162",
+            "\1\163",
+            "\1\164\1\165",
+            "\1\166",
+            "\1\167",
+            "\1\170",
+            "\1\171\12\uffff\1\172",
+            "\1\173",
+            "\1\174",
+            "\1\175",
+            "\1\176",
+            "\12\56\7\uffff\32\56\4\uffff\1\56\1\uffff\32\56\105\uffff\uff3f"+
+            "\56",
+            "\1\u0080",
+            "\12\56\7\uffff\32\56\4\uffff\1\56\1\uffff\23\56\1\u0081\6\56"+
+            "\105\uffff\uff3f\56",
+            "\12\56\7\uffff\32\56\4\uffff\1\56\1\uffff\32\56\105\uffff\uff3f"+
+            "\56",
+            "\1\u0084",
+            "\1\u0085",
+            "\1\u0086",
+            "\1\u0087",
+            "\1\u0088",
+            "\1\u0089",
+            "\1\u008a",
+            "\1\u008b\3\uffff\1\u008c\10\uffff\1\u008d",
+            "\1\u008e",
+            "\1\u008f",
+            "\1\u0090",
+            "\12\56\7\uffff\32\56\4\uffff\1\56\1\uffff\32\56\105\uffff\uff3f"+
+            "\56",
+            "\1\u0092",
+            "\1\u0093",
+            "",
+            "\1\u0095",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "\1\u0097",
+            "",
+            "",
+            "\1\u0099",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "\1\u009b",
+            "",
+            "\1\u009d",
+            "\1\u009e",
+            "\1\u009f",
+            "\1\u00a0",
+            "\1\u00a1",
+            "\1\u00a2",
+            "\1\u00a3",
+            "\1\u00a4",
+            "\1\u00a5",
+            "\1\u00a6",
+            "\1\u00a7",
+            "\1\u00a8",
+            "\12\56\7\uffff\32\56\4\uffff\1\56\1\uffff\32\56\105\uffff\uff3f"+
+            "\56",
+            "\1\u00aa",
+            "\1\u00ab",
+            "",
+            "\1\u00ac",
+            "\1\u00ad",
+            "",
+            "",
+            "\1\u00ae",
+            "\1\u00af",
+            "\1\u00b0",
+            "\1\u00b1",
+            "\1\u00b2",
+            "\1\u00b3",
+            "\1\u00b4",
+            "\1\u00b5",
+            "\1\u00b6",
+            "\1\u00b7",
+            "\12\56\7\uffff\32\56\4\uffff\1\56\1\uffff\32\56\105\uffff\uff3f"+
+            "\56",
+            "\12\56\7\uffff\32\56\4\uffff\1\56\1\uffff\4\56\1\u00b9\25\56"+
+            "\105\uffff\uff3f\56",
+            "\1\u00bb",
+            "",
+            "\1\u00bc",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "\1\u00bd",
+            "\1\u00be",
+            "\1\u00bf",
+            "\1\u00c0",
+            "\12\56\7\uffff\32\56\4\uffff\1\56\1\uffff\32\56\105\uffff\uff3f"+
+            "\56",
+            "\1\u00c2",
+            "\1\u00c3",
+            "\1\u00c4",
+            "\12\56\7\uffff\32\56\4\uffff\1\56\1\uffff\32\56\105\uffff\uff3f"+
+            "\56",
+            "\1\u00c6",
+            "\1\u00c7",
+            "\1\u00c8",
+            "",
+            "\1\u00c9",
+            "\1\u00ca",
+            "\1\u00cb",
+            "\1\u00cc",
+            "\1\u00cd",
+            "\1\u00ce",
+            "\1\u00cf",
+            "\1\u00d0",
+            "\12\56\7\uffff\32\56\4\uffff\1\56\1\uffff\32\56\105\uffff\uff3f"+
+            "\56",
+            "\1\u00d2",
+            "\1\u00d3",
+            "\12\56\7\uffff\32\56\4\uffff\1\56\1\uffff\32\56\105\uffff\uff3f"+
+            "\56",
+            "\12\56\7\uffff\32\56\4\uffff\1\56\1\uffff\32\56\105\uffff\uff3f"+
+            "\56",
+            "\1\u00d6",
+            "",
+            "\1\u00d7",
+            "",
+            "\1\u00d8",
+            "\1\u00d9",
+            "\1\u00da",
+            "\1\u00db",
+            "\1\u00dc",
+            "\12\56\7\uffff\32\56\4\uffff\1\56\1\uffff\32\56\105\uffff\uff3f"+
+            "\56",
+            "",
+            "\12\56\7\uffff\32\56\4\uffff\1\56\1\uffff\32\56\105\uffff\uff3f"+
+            "\56",
+            "\12\56\7\uffff\32\56\4\uffff\1\56\1\uffff\32\56\105\uffff\uff3f"+
+            "\56",
+            "\1\u00e0",
+            "",
+            "\1\u00e1",
+            "\1\u00e2",
+            "\1\u00e3",
+            "\1\u00e4",
+            "\12\56\7\uffff\32\56\4\uffff\1\56\1\uffff\32\56\105\uffff\uff3f"+
+            "\56",
+            "\1\u00e6",
+            "\1\u00e7",
+            "\1\u00e8",
+            "\12\56\7\uffff\32\56\4\uffff\1\56\1\uffff\32\56\105\uffff\uff3f"+
+            "\56",
+            "\1\u00ea",
+            "\12\56\7\uffff\32\56\4\uffff\1\56\1\uffff\32\56\105\uffff\uff3f"+
+            "\56",
+            "",
+            "\1\u00ec",
+            "\1\u00ed",
+            "",
+            "",
+            "\12\56\7\uffff\32\56\4\uffff\1\56\1\uffff\32\56\105\uffff\uff3f"+
+            "\56",
+            "\12\56\7\uffff\32\56\4\uffff\1\56\1\uffff\32\56\105\uffff\uff3f"+
+            "\56",
+            "\1\u00f0",
+            "\12\56\7\uffff\32\56\4\uffff\1\56\1\uffff\32\56\105\uffff\uff3f"+
+            "\56",
+            "\1\u00f2",
+            "\12\56\7\uffff\32\56\4\uffff\1\56\1\uffff\32\56\105\uffff\uff3f"+
+            "\56",
+            "\12\56\7\uffff\32\56\4\uffff\1\56\1\uffff\32\56\105\uffff\uff3f"+
+            "\56",
+            "",
+            "",
+            "",
+            "\1\u00f5",
+            "\12\56\7\uffff\32\56\4\uffff\1\56\1\uffff\32\56\105\uffff\uff3f"+
+            "\56",
+            "\1\u00f7",
+            "\1\u00f8",
+            "\1\u00f9",
+            "",
+            "\12\56\7\uffff\32\56\4\uffff\1\56\1\uffff\32\56\105\uffff\uff3f"+
+            "\56",
+            "\1\u00fb",
+            "\1\u00fc",
+            "",
+            "\12\56\7\uffff\32\56\4\uffff\1\56\1\uffff\32\56\105\uffff\uff3f"+
+            "\56",
+            "",
+            "\1\u00fe",
+            "\12\56\7\uffff\32\56\4\uffff\1\56\1\uffff\32\56\105\uffff\uff3f"+
+            "\56",
+            "",
+            "",
+            "\12\56\7\uffff\32\56\4\uffff\1\56\1\uffff\32\56\105\uffff\uff3f"+
+            "\56",
+            "",
+            "\1\u0101",
+            "",
+            "",
+            "\1\u0102",
+            "",
+            "\12\56\7\uffff\32\56\4\uffff\1\56\1\uffff\32\56\105\uffff\uff3f"+
+            "\56",
+            "\12\56\7\uffff\32\56\4\uffff\1\56\1\uffff\32\56\105\uffff\uff3f"+
+            "\56",
+            "\1\u0105",
+            "",
+            "\1\u0106",
+            "\1\u0107",
+            "",
+            "\1\u0108",
+            "",
+            "",
+            "\1\u0109",
+            "\12\56\7\uffff\32\56\4\uffff\1\56\1\uffff\32\56\105\uffff\uff3f"+
+            "\56",
+            "",
+            "",
+            "\12\56\7\uffff\32\56\4\uffff\1\56\1\uffff\32\56\105\uffff\uff3f"+
+            "\56",
+            "\1\u010c",
+            "\1\u010d",
+            "\12\56\7\uffff\32\56\4\uffff\1\56\1\uffff\32\56\105\uffff\uff3f"+
+            "\56",
+            "\12\56\7\uffff\32\56\4\uffff\1\56\1\uffff\32\56\105\uffff\uff3f"+
+            "\56",
+            "",
+            "",
+            "\12\56\7\uffff\32\56\4\uffff\1\56\1\uffff\32\56\105\uffff\uff3f"+
+            "\56",
+            "\12\56\7\uffff\32\56\4\uffff\1\56\1\uffff\32\56\105\uffff\uff3f"+
+            "\56",
+            "",
+            "",
+            "",
+            ""
+    };
+
+    static final short[] DFA28_eot = DFA.unpackEncodedString(DFA28_eotS);
+    static final short[] DFA28_eof = DFA.unpackEncodedString(DFA28_eofS);
+    static final char[] DFA28_min = DFA.unpackEncodedStringToUnsignedChars(DFA28_minS);
+    static final char[] DFA28_max = DFA.unpackEncodedStringToUnsignedChars(DFA28_maxS);
+    static final short[] DFA28_accept = DFA.unpackEncodedString(DFA28_acceptS);
+    static final short[] DFA28_special = DFA.unpackEncodedString(DFA28_specialS);
+    static final short[][] DFA28_transition;
+
+    static {
+        int numStates = DFA28_transitionS.length;
+        DFA28_transition = new short[numStates][];
+        for (int i=0; i<numStates; i++) {
+            DFA28_transition[i] = DFA.unpackEncodedString(DFA28_transitionS[i]);
+        }
+    }
+
+    class DFA28 extends DFA {
+
+        public DFA28(BaseRecognizer recognizer) {
+            this.recognizer = recognizer;
+            this.decisionNumber = 28;
+            this.eot = DFA28_eot;
+            this.eof = DFA28_eof;
+            this.min = DFA28_min;
+            this.max = DFA28_max;
+            this.accept = DFA28_accept;
+            this.special = DFA28_special;
+            this.transition = DFA28_transition;
+        }
+        public String getDescription() {
+            return "1:1: Tokens : ( NATURAL_LITERAL | LBRACKET | QMARK | CHAR_LITERAL | QUOTED_LITERAL | STRING_LITERAL | WS | LINE_COMMENT | MULTI_COMMENT | ABSTRACTED_TYPE | ADAPTED_TYPES | ASSIGN | BREAK | CASE_CLAUSE | CATCH_CLAUSE | CLASS_DEFINITION | CONTINUE | ELSE_CLAUSE | EXISTS | EXTENDS | FINALLY_CLAUSE | FOR_CLAUSE | TYPE_CONSTRAINT | IF_CLAUSE | SATISFIES | IMPORT | INTERFACE_DEFINITION | VALUE_MODIFIER | FUNCTION_MODIFIER | NONEMPTY | RETURN | SUPER | SWITCH_CLAUSE | THEN_CLAUSE | THIS | OUTER | OBJECT_DEFINITION | CASE_TYPES | OUT | THROW | TRY_CLAUSE | VOID_MODIFIER | WHILE_CLAUSE | ELLIPSIS | RANGE_OP | MEMBER_OP | LPAREN | RPAREN | LBRACE | RBRACE | RBRACKET | SEMICOLON | COMMA | SPECIFY | NOT_OP | COMPLEMENT_OP | ASSIGN_OP | EQUAL_OP | IDENTICAL_OP | AND_OP | OR_OP | INCREMENT_OP | DECREMENT_OP | SUM_OP | DIFFERENCE_OP | PRODUCT_OP | QUOTIENT_OP | INTERSECTION_OP | UNION_OP | XOR_OP | REMAINDER_OP | NOT_EQUAL_OP | LARGER_OP | SMALLER_OP | LARGE_AS_OP | SMALL_AS_OP | ENTRY_OP | COMPARE_OP | IN_OP | IS_OP | POWER_OP | ADD_ASSIGN_OP | SUBTRACT_ASSIGN_OP | MULTIPLY_ASSIGN_OP | DIVIDE_ASSIGN_OP | INTERSECT_ASSIGN_OP | UNION_ASSIGN_OP | XOR_ASSIGN_OP | COMPLEMENT_ASSIGN_OP | REMAINDER_ASSIGN_OP | AND_ASSIGN_OP | OR_ASSIGN_OP | COMPILER_ANNOTATION | UIDENTIFIER );";
+        }
+    }
+ 
+
+}
\ No newline at end of file
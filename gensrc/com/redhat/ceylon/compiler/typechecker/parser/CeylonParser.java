@@ -0,0 +1,21142 @@
+// $ANTLR 3.4 /root/project/Ceylon.g 2026-10-18 21:18:46
+ package com.redhat.ceylon.compiler.typechecker.parser;
+                  import com.redhat.ceylon.compiler.typechecker.tree.Node;
+                  import static com.redhat.ceylon.compiler.typechecker.tree.CustomTree.*; 
+
+import org.antlr.runtime.*;
+import java.util.Stack;
+import java.util.List;
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.HashMap;
+
+@SuppressWarnings({"all", "warnings", "unchecked"})
+public class CeylonParser extends Parser {
+    public static final String[] tokenNames = new String[] {
+        "<invalid>", "<EOR>", "<DOWN>", "<UP>", "ABSTRACTED_TYPE", "ADAPTED_TYPES", "ADD_ASSIGN_OP", "AIDENTIFIER", "AND_ASSIGN_OP", "AND_OP", "ARRAY", "ASSIGN", "ASSIGN_OP", "ASTRING_LITERAL", "BREAK", "CASE_CLAUSE", "CASE_TYPES", "CATCH_CLAUSE", "CHAR_LITERAL", "CLASS_DEFINITION", "COMMA", "COMPARE_OP", "COMPILER_ANNOTATION", "COMPLEMENT_ASSIGN_OP", "COMPLEMENT_OP", "CONTINUE", "DECREMENT_OP", "DEFAULT_OP", "DIFFERENCE_OP", "DIVIDE_ASSIGN_OP", "Digit", "Digits", "ELLIPSIS", "ELSE_CLAUSE", "ENTRY_OP", "EQUAL_OP", "EXISTS", "EXTENDS", "EscapeSequence", "Exponent", "FINALLY_CLAUSE", "FLOAT_LITERAL", "FOR_CLAUSE", "FUNCTION_MODIFIER", "FractionalMagnitude", "IDENTICAL_OP", "IF_CLAUSE", "IMPORT", "INCREMENT_OP", "INDEX_OP", "INTERFACE_DEFINITION", "INTERSECTION_OP", "INTERSECT_ASSIGN_OP", "IN_OP", "IS_OP", "IdentifierPart", "IdentifierStart", "LARGER_OP", "LARGE_AS_OP", "LBRACE", "LBRACKET", "LIDENTIFIER", "LINE_COMMENT", "LIdentifierPrefix", "LPAREN", "Letter", "MEMBER_OP", "MULTIPLY_ASSIGN_OP", "MULTI_COMMENT", "Magnitude", "NATURAL_LITERAL", "NONEMPTY", "NOT_EQUAL_OP", "NOT_OP", "NonCharacterChars", "NonStringChars", "OBJECT_DEFINITION", "OR_ASSIGN_OP", "OR_OP", "OUT", "OUTER", "PIDENTIFIER", "POWER_OP", "PRODUCT_OP", "QMARK", "QUOTED_LITERAL", "QUOTIENT_OP", "QuotedLiteralPart", "RANGE_OP", "RBRACE", "RBRACKET", "REMAINDER_ASSIGN_OP", "REMAINDER_OP", "RETURN", "RPAREN", "SAFE_INDEX_OP", "SAFE_MEMBER_OP", "SATISFIES", "SEMICOLON", "SMALLER_OP", "SMALL_AS_OP", "SPECIFY", "SPREAD_OP", "STRING_LITERAL", "SUBTRACT_ASSIGN_OP", "SUM_OP", "SUPER", "SWITCH_CLAUSE", "StringPart", "THEN_CLAUSE", "THIS", "THROW", "TRY_CLAUSE", "TYPE_CONSTRAINT", "UIDENTIFIER", "UIdentifierPrefix", "UNION_ASSIGN_OP", "UNION_OP", "VALUE_MODIFIER", "VOID_MODIFIER", "WHILE_CLAUSE", "WS", "XOR_ASSIGN_OP", "XOR_OP"
+    };
+
+    public static final int EOF=-1;
+    public static final int ABSTRACTED_TYPE=4;
+    public static final int ADAPTED_TYPES=5;
+    public static final int ADD_ASSIGN_OP=6;
+    public static final int AIDENTIFIER=7;
+    public static final int AND_ASSIGN_OP=8;
+    public static final int AND_OP=9;
+    public static final int ARRAY=10;
+    public static final int ASSIGN=11;
+    public static final int ASSIGN_OP=12;
+    public static final int ASTRING_LITERAL=13;
+    public static final int BREAK=14;
+    public static final int CASE_CLAUSE=15;
+    public static final int CASE_TYPES=16;
+    public static final int CATCH_CLAUSE=17;
+    public static final int CHAR_LITERAL=18;
+    public static final int CLASS_DEFINITION=19;
+    public static final int COMMA=20;
+    public static final int COMPARE_OP=21;
+    public static final int COMPILER_ANNOTATION=22;
+    public static final int COMPLEMENT_ASSIGN_OP=23;
+    public static final int COMPLEMENT_OP=24;
+    public static final int CONTINUE=25;
+    public static final int DECREMENT_OP=26;
+    public static final int DEFAULT_OP=27;
+    public static final int DIFFERENCE_OP=28;
+    public static final int DIVIDE_ASSIGN_OP=29;
+    public static final int Digit=30;
+    public static final int Digits=31;
+    public static final int ELLIPSIS=32;
+    public static final int ELSE_CLAUSE=33;
+    public static final int ENTRY_OP=34;
+    public static final int EQUAL_OP=35;
+    public static final int EXISTS=36;
+    public static final int EXTENDS=37;
+    public static final int EscapeSequence=38;
+    public static final int Exponent=39;
+    public static final int FINALLY_CLAUSE=40;
+    public static final int FLOAT_LITERAL=41;
+    public static final int FOR_CLAUSE=42;
+    public static final int FUNCTION_MODIFIER=43;
+    public static final int FractionalMagnitude=44;
+    public static final int IDENTICAL_OP=45;
+    public static final int IF_CLAUSE=46;
+    public static final int IMPORT=47;
+    public static final int INCREMENT_OP=48;
+    public static final int INDEX_OP=49;
+    public static final int INTERFACE_DEFINITION=50;
+    public static final int INTERSECTION_OP=51;
+    public static final int INTERSECT_ASSIGN_OP=52;
+    public static final int IN_OP=53;
+    public static final int IS_OP=54;
+    public static final int IdentifierPart=55;
+    public static final int IdentifierStart=56;
+    public static final int LARGER_OP=57;
+    public static final int LARGE_AS_OP=58;
+    public static final int LBRACE=59;
+    public static final int LBRACKET=60;
+    public static final int LIDENTIFIER=61;
+    public static final int LINE_COMMENT=62;
+    public static final int LIdentifierPrefix=63;
+    public static final int LPAREN=64;
+    public static final int Letter=65;
+    public static final int MEMBER_OP=66;
+    public static final int MULTIPLY_ASSIGN_OP=67;
+    public static final int MULTI_COMMENT=68;
+    public static final int Magnitude=69;
+    public static final int NATURAL_LITERAL=70;
+    public static final int NONEMPTY=71;
+    public static final int NOT_EQUAL_OP=72;
+    public static final int NOT_OP=73;
+    public static final int NonCharacterChars=74;
+    public static final int NonStringChars=75;
+    public static final int OBJECT_DEFINITION=76;
+    public static final int OR_ASSIGN_OP=77;
+    public static final int OR_OP=78;
+    public static final int OUT=79;
+    public static final int OUTER=80;
+    public static final int PIDENTIFIER=81;
+    public static final int POWER_OP=82;
+    public static final int PRODUCT_OP=83;
+    public static final int QMARK=84;
+    public static final int QUOTED_LITERAL=85;
+    public static final int QUOTIENT_OP=86;
+    public static final int QuotedLiteralPart=87;
+    public static final int RANGE_OP=88;
+    public static final int RBRACE=89;
+    public static final int RBRACKET=90;
+    public static final int REMAINDER_ASSIGN_OP=91;
+    public static final int REMAINDER_OP=92;
+    public static final int RETURN=93;
+    public static final int RPAREN=94;
+    public static final int SAFE_INDEX_OP=95;
+    public static final int SAFE_MEMBER_OP=96;
+    public static final int SATISFIES=97;
+    public static final int SEMICOLON=98;
+    public static final int SMALLER_OP=99;
+    public static final int SMALL_AS_OP=100;
+    public static final int SPECIFY=101;
+    public static final int SPREAD_OP=102;
+    public static final int STRING_LITERAL=103;
+    public static final int SUBTRACT_ASSIGN_OP=104;
+    public static final int SUM_OP=105;
+    public static final int SUPER=106;
+    public static final int SWITCH_CLAUSE=107;
+    public static final int StringPart=108;
+    public static final int THEN_CLAUSE=109;
+    public static final int THIS=110;
+    public static final int THROW=111;
+    public static final int TRY_CLAUSE=112;
+    public static final int TYPE_CONSTRAINT=113;
+    public static final int UIDENTIFIER=114;
+    public static final int UIdentifierPrefix=115;
+    public static final int UNION_ASSIGN_OP=116;
+    public static final int UNION_OP=117;
+    public static final int VALUE_MODIFIER=118;
+    public static final int VOID_MODIFIER=119;
+    public static final int WHILE_CLAUSE=120;
+    public static final int WS=121;
+    public static final int XOR_ASSIGN_OP=122;
+    public static final int XOR_OP=123;
+
+    // delegates
+    public Parser[] getDelegates() {
+        return new Parser[] {};
+    }
+
+    // delegators
+
+
+    public CeylonParser(TokenStream input) {
+        this(input, new RecognizerSharedState());
+    }
+    public CeylonParser(TokenStream input, RecognizerSharedState state) {
+        super(input, state);
+        this.state.ruleMemo = new HashMap[202+1];
+         
+
+    }
+
+    public String[] getTokenNames() { return CeylonParser.tokenNames; }
+    public String getGrammarFileName() { return "/root/project/Ceylon.g"; }
+
+
+        private java.util.List<ParseError> errors 
+                = new java.util.ArrayList<ParseError>();
+        @Override public void displayRecognitionError(String[] tn,
+                RecognitionException re) {
+            errors.add(new ParseError(this, re, tn));
+        }
+        public java.util.List<ParseError> getErrors() {
+            return errors;
+        }
+        
+        private boolean skipBodies;
+        /**
+         * Parse the body of every method, getter, setter and
+         * function argument as an empty block, for units of 
+         * which only the signatures of the declarations matter.
+         */
+        public void setSkipBodies(boolean skipBodies) {
+            this.skipBodies = skipBodies;
+        }
+        public boolean isSkipBodies() {
+            return skipBodies;
+        }
+        private Block skipBlock() {
+            int marker = input.mark();
+            Token start = input.LT(1);
+            int depth = 0;
+            while (true) {
+                int type = input.LA(1);
+                if (type==EOF) {
+                    //unbalanced, let the parser report it
+                    input.rewind(marker);
+                    return null;
+                }
+                else if (type==LBRACE) {
+                    depth++;
+                }
+                else if (type==RBRACE && --depth==0) {
+                    Block block = new Block(start);
+                    block.setEndToken(input.LT(1));
+                    input.consume();
+                    return block;
+                }
+                input.consume();
+            }
+        }
+        
+        //The following methods decide the common cases of the
+        //syntactic predicates of the hottest decisions from the
+        //next few tokens, without backtracking. Each of them
+        //answers true only if the predicate would certainly
+        //succeed, or certainly fail, and otherwise leaves the
+        //decision to the predicate.
+
+        //the tokens matched by declarationKeyword
+        private static boolean isDeclarationKeyword(int type) {
+            switch (type) {
+            case VALUE_MODIFIER:
+            case FUNCTION_MODIFIER:
+            case ASSIGN:
+            case VOID_MODIFIER:
+            case INTERFACE_DEFINITION:
+            case CLASS_DEFINITION:
+            case OBJECT_DEFINITION:
+                return true;
+            default:
+                return false;
+            }
+        }
+
+        //the tokens matched by nonstringLiteral and stringLiteral
+        private static boolean isLiteral(int type) {
+            switch (type) {
+            case NATURAL_LITERAL:
+            case FLOAT_LITERAL:
+            case QUOTED_LITERAL:
+            case CHAR_LITERAL:
+            case STRING_LITERAL:
+                return true;
+            default:
+                return false;
+            }
+        }
+
+        //the tokens which may follow an annotation in
+        //annotatedDeclarationStart: another annotation,
+        //or the start of declarationStart
+        private static boolean canFollowAnnotation(int type) {
+            return type==LIDENTIFIER || type==UIDENTIFIER ||
+                    isDeclarationKeyword(type);
+        }
+
+        //the tokens which may follow the first type name of
+        //the type in declarationStart, given the token after
+        private static boolean canFollowTypeName(int type, int next) {
+            switch (type) {
+            case MEMBER_OP:
+                return next==UIDENTIFIER;
+            case SMALLER_OP:
+            case DEFAULT_OP:
+            case ARRAY:
+            case UNION_OP:
+            case INTERSECTION_OP:
+            case ENTRY_OP:
+            case ELLIPSIS:
+            case LIDENTIFIER:
+                return true;
+            default:
+                return false;
+            }
+        }
+
+        //the tokens matched by interpolatedExpressionStart
+        //this includes every token that could be the
+        //beginning of an expression, except for
+        //SIMPLESTRINGLITERAL and '['
+        private static boolean isInterpolatedExpressionStart(int type) {
+            switch (type) {
+            case LPAREN:
+            case LBRACE:
+            case LIDENTIFIER:
+            case UIDENTIFIER:
+            case THIS:
+            case SUPER:
+            case OUTER:
+            case NATURAL_LITERAL:
+            case FLOAT_LITERAL:
+            case QUOTED_LITERAL:
+            case CHAR_LITERAL:
+            case DIFFERENCE_OP:
+            case INCREMENT_OP:
+            case DECREMENT_OP:
+            case COMPLEMENT_OP:
+                return true;
+            default:
+                return false;
+            }
+        }
+
+        //annotatedDeclarationStart succeeds: annotations with
+        //no arguments or only literal arguments, followed by a
+        //declaration keyword, or by a type name and a name
+        private boolean isDeclarationStart() {
+            int marker = input.mark();
+            try {
+                while (input.LA(1)==LIDENTIFIER) {
+                    input.consume();
+                    while (isLiteral(input.LA(1))) {
+                        input.consume();
+                    }
+                }
+                return isDeclarationKeyword(input.LA(1)) ||
+                        input.LA(1)==UIDENTIFIER &&
+                        (input.LA(2)==LIDENTIFIER || input.LA(2)==ELLIPSIS);
+            }
+            finally {
+                input.rewind(marker);
+            }
+        }
+
+        //annotatedDeclarationStart fails: the statement does
+        //not start with an annotation or a type, or the first
+        //annotation or type is followed by a token which can't
+        //follow it in a declaration
+        private boolean isStatementStart() {
+            switch (input.LA(1)) {
+            case LIDENTIFIER:
+                int next = input.LA(2);
+                if (next==LPAREN || next==LBRACE) {
+                    //the annotation has an argument list, which
+                    //ends with the matching paren or brace, since
+                    //no rule matches an unbalanced one
+                    return !canFollowAnnotation(afterArguments());
+                }
+                else {
+                    return !canFollowAnnotation(next) && !isLiteral(next);
+                }
+            case UIDENTIFIER:
+                return !canFollowTypeName(input.LA(2), input.LA(3));
+            default:
+                return !isDeclarationKeyword(input.LA(1));
+            }
+        }
+
+        //the token after the arguments which follow the
+        //next token
+        private int afterArguments() {
+            int marker = input.mark();
+            try {
+                input.consume();
+                int open = input.LA(1);
+                int close = open==LPAREN ? RPAREN : RBRACE;
+                int depth = 0;
+                while (true) {
+                    int type = input.LA(1);
+                    if (type==EOF) {
+                        return EOF;
+                    }
+                    input.consume();
+                    if (type==open) {
+                        depth++;
+                    }
+                    else if (type==close && --depth==0) {
+                        return input.LA(1);
+                    }
+                }
+            }
+            finally {
+                input.rewind(marker);
+            }
+        }
+
+        //namedArgumentStart succeeds: a named argument which
+        //starts with a name and specifier, a type name and a
+        //name, or a keyword
+        private boolean isNamedArgumentStart() {
+            return input.LA(1)==LIDENTIFIER && input.LA(2)==SPECIFY ||
+                    input.LA(1)==UIDENTIFIER &&
+                    (input.LA(2)==LIDENTIFIER || input.LA(2)==ELLIPSIS) ||
+                    isDeclarationKeyword(input.LA(1));
+        }
+
+        //namedArguments fails: the body starts with a directive
+        //or control structure
+        private boolean isBlockStart() {
+            switch (input.LA(2)) {
+            case RETURN:
+            case THROW:
+            case BREAK:
+            case CONTINUE:
+            case IF_CLAUSE:
+            case WHILE_CLAUSE:
+            case SWITCH_CLAUSE:
+            case TRY_CLAUSE:
+                return true;
+            default:
+                return false;
+            }
+        }
+        
+        //as in BaseRecognizer, but each follow set it looks at
+        //counts against the budget
+        @Override protected BitSet combineFollows(boolean exact) {
+            BitSet followSet = new BitSet();
+            int i = state._fsp;
+            for (; i>=0; i--) {
+                BitSet localFollowSet = state.following[i];
+                followSet.orInPlace(localFollowSet);
+                if (exact) {
+                    if (localFollowSet.member(Token.EOR_TOKEN_TYPE)) {
+                        if (i>0) followSet.remove(Token.EOR_TOKEN_TYPE);
+                    }
+                    else {
+                        break;
+                    }
+                }
+            }
+            if (input instanceof BudgetedTokenStream) {
+                ((BudgetedTokenStream) input).charge(state._fsp-Math.max(i,0)+1);
+            }
+            return followSet;
+        }
+        
+        //the union of the follow sets on the stack up to each
+        //depth, which is the resync set of error recovery at 
+        //that depth, and is still valid below the depth at 
+        //which a follow set was last pushed
+        private BitSet[] followUnions = new BitSet[INITIAL_FOLLOW_STACK_SIZE];
+        private int validFollowUnions = 0;
+        
+        @Override protected void pushFollow(BitSet fset) {
+            if (state._fsp+1<validFollowUnions) {
+                validFollowUnions = state._fsp+1;
+            }
+            super.pushFollow(fset);
+        }
+        
+        //as in BaseRecognizer, but only the follow sets pushed
+        //since the last error are looked at again
+        @Override protected BitSet computeErrorRecoverySet() {
+            int top = state._fsp;
+            if (top<0) {
+                return new BitSet();
+            }
+            if (top>=followUnions.length) {
+                BitSet[] unions = new BitSet[Math.max(top+1, followUnions.length*2)];
+                System.arraycopy(followUnions, 0, unions, 0, followUnions.length);
+                followUnions = unions;
+            }
+            if (input instanceof BudgetedTokenStream && top>=validFollowUnions) {
+                ((BudgetedTokenStream) input).charge(top-validFollowUnions+1);
+            }
+            for (int i=validFollowUnions; i<=top; i++) {
+                followUnions[i] = i==0 ? 
+                        new BitSet().or(state.following[0]) : 
+                        followUnions[i-1].or(state.following[i]);
+            }
+            validFollowUnions = Math.max(validFollowUnions, top+1);
+            return followUnions[top];
+        }
+        
+        //as in BaseRecognizer, but the exception thrown when the
+        //parser can't recover has no stack trace, since filling
+        //it in costs as much as the stack is deep, and it is 
+        //thrown once for every rule left unclosed
+        @Override protected Object recoverFromMismatchedToken(IntStream input, 
+                int ttype, BitSet follow) throws RecognitionException {
+            if (mismatchIsUnwantedToken(input, ttype)) {
+                UnwantedTokenException e = new UnwantedTokenException(ttype, input);
+                beginResync();
+                input.consume();
+                endResync();
+                reportError(e);
+                Object matchedSymbol = getCurrentInputSymbol(input);
+                input.consume();
+                return matchedSymbol;
+            }
+            if (mismatchIsMissingToken(input, follow)) {
+                Object inserted = getMissingSymbol(input, null, ttype, follow);
+                reportError(new MissingTokenException(ttype, input, inserted));
+                return inserted;
+            }
+            throw new MismatchedTokenException(ttype, input) {
+                @Override public Throwable fillInStackTrace() {
+                    return this;
+                }
+            };
+        }
+        
+        //as in BaseRecognizer, but at the end of the input there
+        //is nothing to skip, so don't compute the resync set, 
+        //which would mean looking at every follow set on the 
+        //stack once for every unclosed rule
+        @Override public void recover(IntStream input, 
+                RecognitionException re) {
+            if (input.LA(1)==EOF) {
+                if (state.lastErrorIndex==input.index()) {
+                    input.consume();
+                }
+                state.lastErrorIndex = input.index();
+            }
+            else {
+                super.recover(input, re);
+            }
+        }
+        
+
+
+
+    // $ANTLR start "compilationUnit"
+    // /root/project/Ceylon.g:372:1: compilationUnit returns [CompilationUnit compilationUnit] : (ca1= compilerAnnotations SEMICOLON )? importList (ca2= compilerAnnotations declaration )* EOF ;
+    public final CompilationUnit compilationUnit() throws RecognitionException {
+        CompilationUnit compilationUnit = null;
+
+
+        List<CompilerAnnotation> ca1 =null;
+
+        List<CompilerAnnotation> ca2 =null;
+
+        ImportList importList1 =null;
+
+        Declaration declaration2 =null;
+
+
+        try {
+            // /root/project/Ceylon.g:373:5: ( (ca1= compilerAnnotations SEMICOLON )? importList (ca2= compilerAnnotations declaration )* EOF )
+            // /root/project/Ceylon.g:373:7: (ca1= compilerAnnotations SEMICOLON )? importList (ca2= compilerAnnotations declaration )* EOF
+            {
+            if ( state.backtracking==0 ) { compilationUnit = new CompilationUnit(null); }
+
+            // /root/project/Ceylon.g:374:7: (ca1= compilerAnnotations SEMICOLON )?
+            int alt1=2;
+            alt1 = dfa1.predict(input);
+            switch (alt1) {
+                case 1 :
+                    // /root/project/Ceylon.g:375:9: ca1= compilerAnnotations SEMICOLON
+                    {
+                    pushFollow(FOLLOW_compilerAnnotations_in_compilationUnit85);
+                    ca1=compilerAnnotations();
+
+                    state._fsp--;
+                    if (state.failed) return compilationUnit;
+
+                    match(input,SEMICOLON,FOLLOW_SEMICOLON_in_compilationUnit95); if (state.failed) return compilationUnit;
+
+                    if ( state.backtracking==0 ) { compilationUnit.getCompilerAnnotations().addAll(ca1); }
+
+                    }
+                    break;
+
+            }
+
+
+            pushFollow(FOLLOW_importList_in_compilationUnit122);
+            importList1=importList();
+
+            state._fsp--;
+            if (state.failed) return compilationUnit;
+
+            if ( state.backtracking==0 ) { compilationUnit.setImportList(importList1); }
+
+            // /root/project/Ceylon.g:381:7: (ca2= compilerAnnotations declaration )*
+            loop2:
+            do {
+                int alt2=2;
+                int LA2_0 = input.LA(1);
+
+                if ( (LA2_0==ASSIGN||LA2_0==BREAK||(LA2_0 >= CHAR_LITERAL && LA2_0 <= CLASS_DEFINITION)||LA2_0==COMPILER_ANNOTATION||(LA2_0 >= COMPLEMENT_OP && LA2_0 <= DECREMENT_OP)||LA2_0==DIFFERENCE_OP||(LA2_0 >= EXISTS && LA2_0 <= EXTENDS)||(LA2_0 >= FLOAT_LITERAL && LA2_0 <= FUNCTION_MODIFIER)||LA2_0==IF_CLAUSE||LA2_0==INCREMENT_OP||LA2_0==INTERFACE_DEFINITION||LA2_0==IS_OP||LA2_0==LBRACE||LA2_0==LIDENTIFIER||LA2_0==LPAREN||(LA2_0 >= NATURAL_LITERAL && LA2_0 <= NONEMPTY)||LA2_0==NOT_OP||LA2_0==OBJECT_DEFINITION||LA2_0==OUTER||LA2_0==QUOTED_LITERAL||(LA2_0 >= RETURN && LA2_0 <= RPAREN)||(LA2_0 >= SATISFIES && LA2_0 <= SEMICOLON)||LA2_0==STRING_LITERAL||(LA2_0 >= SUM_OP && LA2_0 <= SWITCH_CLAUSE)||(LA2_0 >= THIS && LA2_0 <= UIDENTIFIER)||(LA2_0 >= VALUE_MODIFIER && LA2_0 <= WHILE_CLAUSE)) ) {
+                    alt2=1;
+                }
+
+
+                switch (alt2) {
+            	case 1 :
+            	    // /root/project/Ceylon.g:382:9: ca2= compilerAnnotations declaration
+            	    {
+            	    pushFollow(FOLLOW_compilerAnnotations_in_compilationUnit152);
+            	    ca2=compilerAnnotations();
+
+            	    state._fsp--;
+            	    if (state.failed) return compilationUnit;
+
+            	    pushFollow(FOLLOW_declaration_in_compilationUnit154);
+            	    declaration2=declaration();
+
+            	    state._fsp--;
+            	    if (state.failed) return compilationUnit;
+
+            	    if ( state.backtracking==0 ) { if (declaration2!=null)
+            	                  compilationUnit.addDeclaration(declaration2); 
+            	              if (declaration2!=null)
+            	                  declaration2.getCompilerAnnotations().addAll(ca2); }
+
+            	    }
+            	    break;
+
+            	default :
+            	    break loop2;
+                }
+            } while (true);
+
+
+            match(input,EOF,FOLLOW_EOF_in_compilationUnit182); if (state.failed) return compilationUnit;
+
+            }
+
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return compilationUnit;
+    }
+    // $ANTLR end "compilationUnit"
+
+
+
+    // $ANTLR start "importList"
+    // /root/project/Ceylon.g:391:1: importList returns [ImportList importList] : ( importDeclaration )* ;
+    public final ImportList importList() throws RecognitionException {
+        ImportList importList = null;
+
+
+        Import importDeclaration3 =null;
+
+
+        try {
+            // /root/project/Ceylon.g:392:5: ( ( importDeclaration )* )
+            // /root/project/Ceylon.g:392:7: ( importDeclaration )*
+            {
+            if ( state.backtracking==0 ) { importList = new ImportList(null); }
+
+            // /root/project/Ceylon.g:393:7: ( importDeclaration )*
+            loop3:
+            do {
+                int alt3=2;
+                int LA3_0 = input.LA(1);
+
+                if ( (LA3_0==IMPORT) ) {
+                    alt3=1;
+                }
+
+
+                switch (alt3) {
+            	case 1 :
+            	    // /root/project/Ceylon.g:393:9: importDeclaration
+            	    {
+            	    pushFollow(FOLLOW_importDeclaration_in_importList214);
+            	    importDeclaration3=importDeclaration();
+
+            	    state._fsp--;
+            	    if (state.failed) return importList;
+
+            	    if ( state.backtracking==0 ) { importList.addImport(importDeclaration3); }
+
+            	    }
+            	    break;
+
+            	default :
+            	    break loop3;
+                }
+            } while (true);
+
+
+            }
+
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return importList;
+    }
+    // $ANTLR end "importList"
+
+
+
+    // $ANTLR start "importDeclaration"
+    // /root/project/Ceylon.g:396:1: importDeclaration returns [Import importDeclaration] : IMPORT (pn1= packageName (m= MEMBER_OP (pn2= packageName |) )* |) importElementList ;
+    public final Import importDeclaration() throws RecognitionException {
+        Import importDeclaration = null;
+
+
+        Token m=null;
+        Token IMPORT4=null;
+        Identifier pn1 =null;
+
+        Identifier pn2 =null;
+
+        ImportMemberOrTypeList importElementList5 =null;
+
+
+         ImportPath importPath=null; 
+        try {
+            // /root/project/Ceylon.g:398:5: ( IMPORT (pn1= packageName (m= MEMBER_OP (pn2= packageName |) )* |) importElementList )
+            // /root/project/Ceylon.g:398:7: IMPORT (pn1= packageName (m= MEMBER_OP (pn2= packageName |) )* |) importElementList
+            {
+            IMPORT4=(Token)match(input,IMPORT,FOLLOW_IMPORT_in_importDeclaration249); if (state.failed) return importDeclaration;
+
+            if ( state.backtracking==0 ) { importDeclaration = new Import(IMPORT4); }
+
+            // /root/project/Ceylon.g:400:7: (pn1= packageName (m= MEMBER_OP (pn2= packageName |) )* |)
+            int alt6=2;
+            int LA6_0 = input.LA(1);
+
+            if ( (LA6_0==LIDENTIFIER) ) {
+                alt6=1;
+            }
+            else if ( (LA6_0==LBRACE) ) {
+                alt6=2;
+            }
+            else {
+                if (state.backtracking>0) {state.failed=true; return importDeclaration;}
+                NoViableAltException nvae =
+                    new NoViableAltException("", 6, 0, input);
+
+                throw nvae;
+
+            }
+            switch (alt6) {
+                case 1 :
+                    // /root/project/Ceylon.g:401:9: pn1= packageName (m= MEMBER_OP (pn2= packageName |) )*
+                    {
+                    pushFollow(FOLLOW_packageName_in_importDeclaration280);
+                    pn1=packageName();
+
+                    state._fsp--;
+                    if (state.failed) return importDeclaration;
+
+                    if ( state.backtracking==0 ) { importPath = new ImportPath(null);
+                              if (pn1!=null) 
+                                  importPath.addIdentifier(pn1); 
+                              importDeclaration.setImportPath(importPath); }
+
+                    // /root/project/Ceylon.g:406:9: (m= MEMBER_OP (pn2= packageName |) )*
+                    loop5:
+                    do {
+                        int alt5=2;
+                        int LA5_0 = input.LA(1);
+
+                        if ( (LA5_0==MEMBER_OP) ) {
+                            alt5=1;
+                        }
+
+
+                        switch (alt5) {
+                    	case 1 :
+                    	    // /root/project/Ceylon.g:407:11: m= MEMBER_OP (pn2= packageName |)
+                    	    {
+                    	    m=(Token)match(input,MEMBER_OP,FOLLOW_MEMBER_OP_in_importDeclaration317); if (state.failed) return importDeclaration;
+
+                    	    if ( state.backtracking==0 ) { importPath.setEndToken(m); }
+
+                    	    // /root/project/Ceylon.g:409:11: (pn2= packageName |)
+                    	    int alt4=2;
+                    	    int LA4_0 = input.LA(1);
+
+                    	    if ( (LA4_0==LIDENTIFIER) ) {
+                    	        alt4=1;
+                    	    }
+                    	    else if ( (LA4_0==LBRACE||LA4_0==MEMBER_OP) ) {
+                    	        alt4=2;
+                    	    }
+                    	    else {
+                    	        if (state.backtracking>0) {state.failed=true; return importDeclaration;}
+                    	        NoViableAltException nvae =
+                    	            new NoViableAltException("", 4, 0, input);
+
+                    	        throw nvae;
+
+                    	    }
+                    	    switch (alt4) {
+                    	        case 1 :
+                    	            // /root/project/Ceylon.g:410:13: pn2= packageName
+                    	            {
+                    	            pushFollow(FOLLOW_packageName_in_importDeclaration358);
+                    	            pn2=packageName();
+
+                    	            state._fsp--;
+                    	            if (state.failed) return importDeclaration;
+
+                    	            if ( state.backtracking==0 ) { importPath.addIdentifier(pn2); 
+                    	                          importPath.setEndToken(null); }
+
+                    	            }
+                    	            break;
+                    	        case 2 :
+                    	            // /root/project/Ceylon.g:413:13: 
+                    	            {
+                    	            if ( state.backtracking==0 ) { displayRecognitionError(getTokenNames(), 
+                    	                              new MismatchedTokenException(LIDENTIFIER, input)); }
+
+                    	            }
+                    	            break;
+
+                    	    }
+
+
+                    	    }
+                    	    break;
+
+                    	default :
+                    	    break loop5;
+                        }
+                    } while (true);
+
+
+                    }
+                    break;
+                case 2 :
+                    // /root/project/Ceylon.g:417:9: 
+                    {
+                    if ( state.backtracking==0 ) { displayRecognitionError(getTokenNames(), 
+                                  new MismatchedTokenException(LIDENTIFIER, input)); }
+
+                    }
+                    break;
+
+            }
+
+
+            pushFollow(FOLLOW_importElementList_in_importDeclaration436);
+            importElementList5=importElementList();
+
+            state._fsp--;
+            if (state.failed) return importDeclaration;
+
+            if ( state.backtracking==0 ) { importDeclaration.setImportMemberOrTypeList(importElementList5); }
+
+            }
+
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return importDeclaration;
+    }
+    // $ANTLR end "importDeclaration"
+
+
+
+    // $ANTLR start "importElementList"
+    // /root/project/Ceylon.g:424:1: importElementList returns [ImportMemberOrTypeList importMemberOrTypeList] : LBRACE (ie1= importElement ( COMMA ie2= importElement )* (c= COMMA (iw= importWildcard |) )? |iw= importWildcard )? RBRACE ;
+    public final ImportMemberOrTypeList importElementList() throws RecognitionException {
+        ImportMemberOrTypeList importMemberOrTypeList = null;
+
+
+        Token c=null;
+        Token LBRACE6=null;
+        Token RBRACE7=null;
+        ImportMemberOrType ie1 =null;
+
+        ImportMemberOrType ie2 =null;
+
+        ImportWildcard iw =null;
+
+
+         ImportMemberOrTypeList il=null; 
+        try {
+            // /root/project/Ceylon.g:426:5: ( LBRACE (ie1= importElement ( COMMA ie2= importElement )* (c= COMMA (iw= importWildcard |) )? |iw= importWildcard )? RBRACE )
+            // /root/project/Ceylon.g:427:5: LBRACE (ie1= importElement ( COMMA ie2= importElement )* (c= COMMA (iw= importWildcard |) )? |iw= importWildcard )? RBRACE
+            {
+            LBRACE6=(Token)match(input,LBRACE,FOLLOW_LBRACE_in_importElementList480); if (state.failed) return importMemberOrTypeList;
+
+            if ( state.backtracking==0 ) { il = new ImportMemberOrTypeList(LBRACE6);
+                  importMemberOrTypeList = il; }
+
+            // /root/project/Ceylon.g:430:5: (ie1= importElement ( COMMA ie2= importElement )* (c= COMMA (iw= importWildcard |) )? |iw= importWildcard )?
+            int alt10=3;
+            int LA10_0 = input.LA(1);
+
+            if ( (LA10_0==ASSIGN||LA10_0==BREAK||(LA10_0 >= CHAR_LITERAL && LA10_0 <= CLASS_DEFINITION)||LA10_0==COMPILER_ANNOTATION||(LA10_0 >= COMPLEMENT_OP && LA10_0 <= DECREMENT_OP)||LA10_0==DIFFERENCE_OP||(LA10_0 >= EXISTS && LA10_0 <= EXTENDS)||(LA10_0 >= FLOAT_LITERAL && LA10_0 <= FUNCTION_MODIFIER)||LA10_0==IF_CLAUSE||LA10_0==INCREMENT_OP||LA10_0==INTERFACE_DEFINITION||LA10_0==IS_OP||LA10_0==LBRACE||LA10_0==LIDENTIFIER||LA10_0==LPAREN||(LA10_0 >= NATURAL_LITERAL && LA10_0 <= NONEMPTY)||LA10_0==NOT_OP||LA10_0==OBJECT_DEFINITION||LA10_0==OUTER||LA10_0==QUOTED_LITERAL||(LA10_0 >= RETURN && LA10_0 <= RPAREN)||(LA10_0 >= SATISFIES && LA10_0 <= SEMICOLON)||LA10_0==STRING_LITERAL||(LA10_0 >= SUM_OP && LA10_0 <= SWITCH_CLAUSE)||(LA10_0 >= THIS && LA10_0 <= UIDENTIFIER)||(LA10_0 >= VALUE_MODIFIER && LA10_0 <= WHILE_CLAUSE)) ) {
+                alt10=1;
+            }
+            else if ( (LA10_0==ELLIPSIS) ) {
+                alt10=2;
+            }
+            switch (alt10) {
+                case 1 :
+                    // /root/project/Ceylon.g:431:7: ie1= importElement ( COMMA ie2= importElement )* (c= COMMA (iw= importWildcard |) )?
+                    {
+                    pushFollow(FOLLOW_importElement_in_importElementList503);
+                    ie1=importElement();
+
+                    state._fsp--;
+                    if (state.failed) return importMemberOrTypeList;
+
+                    if ( state.backtracking==0 ) { if (ie1!=null)
+                                il.addImportMemberOrType(ie1); }
+
+                    // /root/project/Ceylon.g:434:7: ( COMMA ie2= importElement )*
+                    loop7:
+                    do {
+                        int alt7=2;
+                        int LA7_0 = input.LA(1);
+
+                        if ( (LA7_0==COMMA) ) {
+                            int LA7_1 = input.LA(2);
+
+                            if ( (LA7_1==COMPILER_ANNOTATION||LA7_1==LIDENTIFIER||LA7_1==UIDENTIFIER) ) {
+                                alt7=1;
+                            }
+
+
+                        }
+
+
+                        switch (alt7) {
+                    	case 1 :
+                    	    // /root/project/Ceylon.g:435:9: COMMA ie2= importElement
+                    	    {
+                    	    match(input,COMMA,FOLLOW_COMMA_in_importElementList532); if (state.failed) return importMemberOrTypeList;
+
+                    	    pushFollow(FOLLOW_importElement_in_importElementList545);
+                    	    ie2=importElement();
+
+                    	    state._fsp--;
+                    	    if (state.failed) return importMemberOrTypeList;
+
+                    	    if ( state.backtracking==0 ) { if (ie2!=null)
+                    	                il.addImportMemberOrType(ie2); }
+
+                    	    }
+                    	    break;
+
+                    	default :
+                    	    break loop7;
+                        }
+                    } while (true);
+
+
+                    // /root/project/Ceylon.g:440:7: (c= COMMA (iw= importWildcard |) )?
+                    int alt9=2;
+                    int LA9_0 = input.LA(1);
+
+                    if ( (LA9_0==COMMA) ) {
+                        alt9=1;
+                    }
+                    switch (alt9) {
+                        case 1 :
+                            // /root/project/Ceylon.g:441:9: c= COMMA (iw= importWildcard |)
+                            {
+                            c=(Token)match(input,COMMA,FOLLOW_COMMA_in_importElementList587); if (state.failed) return importMemberOrTypeList;
+
+                            if ( state.backtracking==0 ) { il.setEndToken(c); }
+
+                            // /root/project/Ceylon.g:443:9: (iw= importWildcard |)
+                            int alt8=2;
+                            int LA8_0 = input.LA(1);
+
+                            if ( (LA8_0==ELLIPSIS) ) {
+                                alt8=1;
+                            }
+                            else if ( (LA8_0==RBRACE) ) {
+                                alt8=2;
+                            }
+                            else {
+                                if (state.backtracking>0) {state.failed=true; return importMemberOrTypeList;}
+                                NoViableAltException nvae =
+                                    new NoViableAltException("", 8, 0, input);
+
+                                throw nvae;
+
+                            }
+                            switch (alt8) {
+                                case 1 :
+                                    // /root/project/Ceylon.g:444:11: iw= importWildcard
+                                    {
+                                    pushFollow(FOLLOW_importWildcard_in_importElementList621);
+                                    iw=importWildcard();
+
+                                    state._fsp--;
+                                    if (state.failed) return importMemberOrTypeList;
+
+                                    if ( state.backtracking==0 ) { il.setImportWildcard(iw); 
+                                                il.setEndToken(null); }
+
+                                    }
+                                    break;
+                                case 2 :
+                                    // /root/project/Ceylon.g:447:11: 
+                                    {
+                                    if ( state.backtracking==0 ) { displayRecognitionError(getTokenNames(), 
+                                                    new MismatchedTokenException(ELLIPSIS, input)); }
+
+                                    }
+                                    break;
+
+                            }
+
+
+                            }
+                            break;
+
+                    }
+
+
+                    }
+                    break;
+                case 2 :
+                    // /root/project/Ceylon.g:451:7: iw= importWildcard
+                    {
+                    pushFollow(FOLLOW_importWildcard_in_importElementList676);
+                    iw=importWildcard();
+
+                    state._fsp--;
+                    if (state.failed) return importMemberOrTypeList;
+
+                    if ( state.backtracking==0 ) { il.setImportWildcard(iw); }
+
+                    }
+                    break;
+
+            }
+
+
+            RBRACE7=(Token)match(input,RBRACE,FOLLOW_RBRACE_in_importElementList691); if (state.failed) return importMemberOrTypeList;
+
+            if ( state.backtracking==0 ) { il.setEndToken(RBRACE7); }
+
+            }
+
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return importMemberOrTypeList;
+    }
+    // $ANTLR end "importElementList"
+
+
+
+    // $ANTLR start "importElement"
+    // /root/project/Ceylon.g:457:1: importElement returns [ImportMemberOrType importMemberOrType] : compilerAnnotations ( ( memberAlias )? memberName | ( typeAlias )? typeName ( importElementList )? ) ;
+    public final ImportMemberOrType importElement() throws RecognitionException {
+        ImportMemberOrType importMemberOrType = null;
+
+
+        Alias memberAlias8 =null;
+
+        Identifier memberName9 =null;
+
+        Alias typeAlias10 =null;
+
+        Identifier typeName11 =null;
+
+        ImportMemberOrTypeList importElementList12 =null;
+
+        List<CompilerAnnotation> compilerAnnotations13 =null;
+
+
+        try {
+            // /root/project/Ceylon.g:458:5: ( compilerAnnotations ( ( memberAlias )? memberName | ( typeAlias )? typeName ( importElementList )? ) )
+            // /root/project/Ceylon.g:458:7: compilerAnnotations ( ( memberAlias )? memberName | ( typeAlias )? typeName ( importElementList )? )
+            {
+            pushFollow(FOLLOW_compilerAnnotations_in_importElement718);
+            compilerAnnotations13=compilerAnnotations();
+
+            state._fsp--;
+            if (state.failed) return importMemberOrType;
+
+            // /root/project/Ceylon.g:459:5: ( ( memberAlias )? memberName | ( typeAlias )? typeName ( importElementList )? )
+            int alt14=2;
+            int LA14_0 = input.LA(1);
+
+            if ( (LA14_0==LIDENTIFIER) ) {
+                int LA14_1 = input.LA(2);
+
+                if ( (LA14_1==SPECIFY) ) {
+                    int LA14_3 = input.LA(3);
+
+                    if ( (LA14_3==LIDENTIFIER) ) {
+                        alt14=1;
+                    }
+                    else if ( (LA14_3==UIDENTIFIER) ) {
+                        alt14=2;
+                    }
+                    else {
+                        if (state.backtracking>0) {state.failed=true; return importMemberOrType;}
+                        NoViableAltException nvae =
+                            new NoViableAltException("", 14, 3, input);
+
+                        throw nvae;
+
+                    }
+                }
+                else if ( (LA14_1==COMMA||LA14_1==RBRACE) ) {
+                    alt14=1;
+                }
+                else {
+                    if (state.backtracking>0) {state.failed=true; return importMemberOrType;}
+                    NoViableAltException nvae =
+                        new NoViableAltException("", 14, 1, input);
+
+                    throw nvae;
+
+                }
+            }
+            else if ( (LA14_0==UIDENTIFIER) ) {
+                int LA14_2 = input.LA(2);
+
+                if ( (LA14_2==SPECIFY) ) {
+                    int LA14_3 = input.LA(3);
+
+                    if ( (LA14_3==LIDENTIFIER) ) {
+                        alt14=1;
+                    }
+                    else if ( (LA14_3==UIDENTIFIER) ) {
+                        alt14=2;
+                    }
+                    else {
+                        if (state.backtracking>0) {state.failed=true; return importMemberOrType;}
+                        NoViableAltException nvae =
+                            new NoViableAltException("", 14, 3, input);
+
+                        throw nvae;
+
+                    }
+                }
+                else if ( (LA14_2==COMMA||LA14_2==LBRACE||LA14_2==RBRACE) ) {
+                    alt14=2;
+                }
+                else {
+                    if (state.backtracking>0) {state.failed=true; return importMemberOrType;}
+                    NoViableAltException nvae =
+                        new NoViableAltException("", 14, 2, input);
+
+                    throw nvae;
+
+                }
+            }
+            else {
+                if (state.backtracking>0) {state.failed=true; return importMemberOrType;}
+                NoViableAltException nvae =
+                    new NoViableAltException("", 14, 0, input);
+
+                throw nvae;
+
+            }
+            switch (alt14) {
+                case 1 :
+                    // /root/project/Ceylon.g:460:7: ( memberAlias )? memberName
+                    {
+                    // /root/project/Ceylon.g:460:7: ( memberAlias )?
+                    int alt11=2;
+                    int LA11_0 = input.LA(1);
+
+                    if ( (LA11_0==LIDENTIFIER) ) {
+                        int LA11_1 = input.LA(2);
+
+                        if ( (LA11_1==SPECIFY) ) {
+                            alt11=1;
+                        }
+                    }
+                    else if ( (LA11_0==UIDENTIFIER) ) {
+                        alt11=1;
+                    }
+                    switch (alt11) {
+                        case 1 :
+                            // /root/project/Ceylon.g:460:7: memberAlias
+                            {
+                            pushFollow(FOLLOW_memberAlias_in_importElement732);
+                            memberAlias8=memberAlias();
+
+                            state._fsp--;
+                            if (state.failed) return importMemberOrType;
+
+                            }
+                            break;
+
+                    }
+
+
+                    pushFollow(FOLLOW_memberName_in_importElement735);
+                    memberName9=memberName();
+
+                    state._fsp--;
+                    if (state.failed) return importMemberOrType;
+
+                    if ( state.backtracking==0 ) { importMemberOrType = new ImportMember(null);
+                            if (memberAlias8!=null) 
+                                importMemberOrType.setAlias(memberAlias8);
+                            importMemberOrType.setIdentifier(memberName9); }
+
+                    }
+                    break;
+                case 2 :
+                    // /root/project/Ceylon.g:465:7: ( typeAlias )? typeName ( importElementList )?
+                    {
+                    // /root/project/Ceylon.g:465:7: ( typeAlias )?
+                    int alt12=2;
+                    int LA12_0 = input.LA(1);
+
+                    if ( (LA12_0==UIDENTIFIER) ) {
+                        int LA12_1 = input.LA(2);
+
+                        if ( (LA12_1==SPECIFY) ) {
+                            alt12=1;
+                        }
+                    }
+                    else if ( (LA12_0==LIDENTIFIER) ) {
+                        alt12=1;
+                    }
+                    switch (alt12) {
+                        case 1 :
+                            // /root/project/Ceylon.g:465:7: typeAlias
+                            {
+                            pushFollow(FOLLOW_typeAlias_in_importElement751);
+                            typeAlias10=typeAlias();
+
+                            state._fsp--;
+                            if (state.failed) return importMemberOrType;
+
+                            }
+                            break;
+
+                    }
+
+
+                    pushFollow(FOLLOW_typeName_in_importElement754);
+                    typeName11=typeName();
+
+                    state._fsp--;
+                    if (state.failed) return importMemberOrType;
+
+                    if ( state.backtracking==0 ) { importMemberOrType = new ImportType(null);
+                            if (typeAlias10!=null)
+                                importMemberOrType.setAlias(typeAlias10);
+                            importMemberOrType.setIdentifier(typeName11); }
+
+                    // /root/project/Ceylon.g:470:9: ( importElementList )?
+                    int alt13=2;
+                    int LA13_0 = input.LA(1);
+
+                    if ( (LA13_0==LBRACE) ) {
+                        alt13=1;
+                    }
+                    switch (alt13) {
+                        case 1 :
+                            // /root/project/Ceylon.g:471:11: importElementList
+                            {
+                            pushFollow(FOLLOW_importElementList_in_importElement784);
+                            importElementList12=importElementList();
+
+                            state._fsp--;
+                            if (state.failed) return importMemberOrType;
+
+                            if ( state.backtracking==0 ) { importMemberOrType.setImportMemberOrTypeList(importElementList12); }
+
+                            }
+                            break;
+
+                    }
+
+
+                    }
+                    break;
+
+            }
+
+
+            if ( state.backtracking==0 ) { if (importMemberOrType!=null)
+                    importMemberOrType.getCompilerAnnotations().addAll(compilerAnnotations13); }
+
+            }
+
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return importMemberOrType;
+    }
+    // $ANTLR end "importElement"
+
+
+
+    // $ANTLR start "importWildcard"
+    // /root/project/Ceylon.g:479:1: importWildcard returns [ImportWildcard importWildcard] : ELLIPSIS ;
+    public final ImportWildcard importWildcard() throws RecognitionException {
+        ImportWildcard importWildcard = null;
+
+
+        Token ELLIPSIS14=null;
+
+        try {
+            // /root/project/Ceylon.g:480:5: ( ELLIPSIS )
+            // /root/project/Ceylon.g:480:7: ELLIPSIS
+            {
+            ELLIPSIS14=(Token)match(input,ELLIPSIS,FOLLOW_ELLIPSIS_in_importWildcard840); if (state.failed) return importWildcard;
+
+            if ( state.backtracking==0 ) { importWildcard = new ImportWildcard(ELLIPSIS14); }
+
+            }
+
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return importWildcard;
+    }
+    // $ANTLR end "importWildcard"
+
+
+
+    // $ANTLR start "memberAlias"
+    // /root/project/Ceylon.g:484:1: memberAlias returns [Alias alias] : memberNameDeclaration SPECIFY ;
+    public final Alias memberAlias() throws RecognitionException {
+        Alias alias = null;
+
+
+        Token SPECIFY15=null;
+        Identifier memberNameDeclaration16 =null;
+
+
+        try {
+            // /root/project/Ceylon.g:485:5: ( memberNameDeclaration SPECIFY )
+            // /root/project/Ceylon.g:485:7: memberNameDeclaration SPECIFY
+            {
+            pushFollow(FOLLOW_memberNameDeclaration_in_memberAlias869);
+            memberNameDeclaration16=memberNameDeclaration();
+
+            state._fsp--;
+            if (state.failed) return alias;
+
+            SPECIFY15=(Token)match(input,SPECIFY,FOLLOW_SPECIFY_in_memberAlias871); if (state.failed) return alias;
+
+            if ( state.backtracking==0 ) { alias = new Alias(SPECIFY15); 
+                    alias.setIdentifier(memberNameDeclaration16); }
+
+            }
+
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return alias;
+    }
+    // $ANTLR end "memberAlias"
+
+
+
+    // $ANTLR start "typeAlias"
+    // /root/project/Ceylon.g:490:1: typeAlias returns [Alias alias] : typeNameDeclaration SPECIFY ;
+    public final Alias typeAlias() throws RecognitionException {
+        Alias alias = null;
+
+
+        Token SPECIFY17=null;
+        Identifier typeNameDeclaration18 =null;
+
+
+        try {
+            // /root/project/Ceylon.g:491:5: ( typeNameDeclaration SPECIFY )
+            // /root/project/Ceylon.g:491:7: typeNameDeclaration SPECIFY
+            {
+            pushFollow(FOLLOW_typeNameDeclaration_in_typeAlias900);
+            typeNameDeclaration18=typeNameDeclaration();
+
+            state._fsp--;
+            if (state.failed) return alias;
+
+            SPECIFY17=(Token)match(input,SPECIFY,FOLLOW_SPECIFY_in_typeAlias902); if (state.failed) return alias;
+
+            if ( state.backtracking==0 ) { alias = new Alias(SPECIFY17); 
+                    alias.setIdentifier(typeNameDeclaration18); }
+
+            }
+
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return alias;
+    }
+    // $ANTLR end "typeAlias"
+
+
+
+    // $ANTLR start "packageName"
+    // /root/project/Ceylon.g:496:1: packageName returns [Identifier identifier] : LIDENTIFIER ;
+    public final Identifier packageName() throws RecognitionException {
+        Identifier identifier = null;
+
+
+        Token LIDENTIFIER19=null;
+
+        try {
+            // /root/project/Ceylon.g:497:5: ( LIDENTIFIER )
+            // /root/project/Ceylon.g:497:7: LIDENTIFIER
+            {
+            LIDENTIFIER19=(Token)match(input,LIDENTIFIER,FOLLOW_LIDENTIFIER_in_packageName931); if (state.failed) return identifier;
+
+            if ( state.backtracking==0 ) { identifier = new Identifier(LIDENTIFIER19); 
+                    LIDENTIFIER19.setType(PIDENTIFIER);}
+
+            }
+
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return identifier;
+    }
+    // $ANTLR end "packageName"
+
+
+
+    // $ANTLR start "typeName"
+    // /root/project/Ceylon.g:502:1: typeName returns [Identifier identifier] : UIDENTIFIER ;
+    public final Identifier typeName() throws RecognitionException {
+        Identifier identifier = null;
+
+
+        Token UIDENTIFIER20=null;
+
+        try {
+            // /root/project/Ceylon.g:503:5: ( UIDENTIFIER )
+            // /root/project/Ceylon.g:503:7: UIDENTIFIER
+            {
+            UIDENTIFIER20=(Token)match(input,UIDENTIFIER,FOLLOW_UIDENTIFIER_in_typeName960); if (state.failed) return identifier;
+
+            if ( state.backtracking==0 ) { identifier = new Identifier(UIDENTIFIER20); }
+
+            }
+
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return identifier;
+    }
+    // $ANTLR end "typeName"
+
+
+
+    // $ANTLR start "annotationName"
+    // /root/project/Ceylon.g:507:1: annotationName returns [Identifier identifier] : LIDENTIFIER ;
+    public final Identifier annotationName() throws RecognitionException {
+        Identifier identifier = null;
+
+
+        Token LIDENTIFIER21=null;
+
+        try {
+            // /root/project/Ceylon.g:508:5: ( LIDENTIFIER )
+            // /root/project/Ceylon.g:508:7: LIDENTIFIER
+            {
+            LIDENTIFIER21=(Token)match(input,LIDENTIFIER,FOLLOW_LIDENTIFIER_in_annotationName989); if (state.failed) return identifier;
+
+            if ( state.backtracking==0 ) { identifier = new Identifier(LIDENTIFIER21); 
+                    LIDENTIFIER21.setType(AIDENTIFIER); }
+
+            }
+
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return identifier;
+    }
+    // $ANTLR end "annotationName"
+
+
+
+    // $ANTLR start "memberName"
+    // /root/project/Ceylon.g:513:1: memberName returns [Identifier identifier] : LIDENTIFIER ;
+    public final Identifier memberName() throws RecognitionException {
+        Identifier identifier = null;
+
+
+        Token LIDENTIFIER22=null;
+
+        try {
+            // /root/project/Ceylon.g:514:5: ( LIDENTIFIER )
+            // /root/project/Ceylon.g:514:7: LIDENTIFIER
+            {
+            LIDENTIFIER22=(Token)match(input,LIDENTIFIER,FOLLOW_LIDENTIFIER_in_memberName1018); if (state.failed) return identifier;
+
+            if ( state.backtracking==0 ) { identifier = new Identifier(LIDENTIFIER22); }
+
+            }
+
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return identifier;
+    }
+    // $ANTLR end "memberName"
+
+
+
+    // $ANTLR start "memberNameDeclaration"
+    // /root/project/Ceylon.g:518:1: memberNameDeclaration returns [Identifier identifier] : ( memberName | typeName );
+    public final Identifier memberNameDeclaration() throws RecognitionException {
+        Identifier identifier = null;
+
+
+        Identifier memberName23 =null;
+
+        Identifier typeName24 =null;
+
+
+        try {
+            // /root/project/Ceylon.g:519:5: ( memberName | typeName )
+            int alt15=2;
+            int LA15_0 = input.LA(1);
+
+            if ( (LA15_0==LIDENTIFIER) ) {
+                alt15=1;
+            }
+            else if ( (LA15_0==UIDENTIFIER) ) {
+                alt15=2;
+            }
+            else {
+                if (state.backtracking>0) {state.failed=true; return identifier;}
+                NoViableAltException nvae =
+                    new NoViableAltException("", 15, 0, input);
+
+                throw nvae;
+
+            }
+            switch (alt15) {
+                case 1 :
+                    // /root/project/Ceylon.g:519:7: memberName
+                    {
+                    pushFollow(FOLLOW_memberName_in_memberNameDeclaration1051);
+                    memberName23=memberName();
+
+                    state._fsp--;
+                    if (state.failed) return identifier;
+
+                    if ( state.backtracking==0 ) { identifier = memberName23; }
+
+                    }
+                    break;
+                case 2 :
+                    // /root/project/Ceylon.g:520:7: typeName
+                    {
+                    if ( state.backtracking==0 ) { displayRecognitionError(getTokenNames(), 
+                                  new MismatchedTokenException(LIDENTIFIER, input)); }
+
+                    pushFollow(FOLLOW_typeName_in_memberNameDeclaration1069);
+                    typeName24=typeName();
+
+                    state._fsp--;
+                    if (state.failed) return identifier;
+
+                    if ( state.backtracking==0 ) { identifier = typeName24; }
+
+                    }
+                    break;
+
+            }
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return identifier;
+    }
+    // $ANTLR end "memberNameDeclaration"
+
+
+
+    // $ANTLR start "typeNameDeclaration"
+    // /root/project/Ceylon.g:526:1: typeNameDeclaration returns [Identifier identifier] : ( typeName | memberName );
+    public final Identifier typeNameDeclaration() throws RecognitionException {
+        Identifier identifier = null;
+
+
+        Identifier typeName25 =null;
+
+        Identifier memberName26 =null;
+
+
+        try {
+            // /root/project/Ceylon.g:527:5: ( typeName | memberName )
+            int alt16=2;
+            int LA16_0 = input.LA(1);
+
+            if ( (LA16_0==UIDENTIFIER) ) {
+                alt16=1;
+            }
+            else if ( (LA16_0==LIDENTIFIER) ) {
+                alt16=2;
+            }
+            else {
+                if (state.backtracking>0) {state.failed=true; return identifier;}
+                NoViableAltException nvae =
+                    new NoViableAltException("", 16, 0, input);
+
+                throw nvae;
+
+            }
+            switch (alt16) {
+                case 1 :
+                    // /root/project/Ceylon.g:527:7: typeName
+                    {
+                    pushFollow(FOLLOW_typeName_in_typeNameDeclaration1099);
+                    typeName25=typeName();
+
+                    state._fsp--;
+                    if (state.failed) return identifier;
+
+                    if ( state.backtracking==0 ) { identifier = typeName25; }
+
+                    }
+                    break;
+                case 2 :
+                    // /root/project/Ceylon.g:528:7: memberName
+                    {
+                    if ( state.backtracking==0 ) { displayRecognitionError(getTokenNames(), 
+                                  new MismatchedTokenException(UIDENTIFIER, input)); }
+
+                    pushFollow(FOLLOW_memberName_in_typeNameDeclaration1117);
+                    memberName26=memberName();
+
+                    state._fsp--;
+                    if (state.failed) return identifier;
+
+                    if ( state.backtracking==0 ) { identifier = memberName26; }
+
+                    }
+                    break;
+
+            }
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return identifier;
+    }
+    // $ANTLR end "typeNameDeclaration"
+
+
+
+    // $ANTLR start "objectDeclaration"
+    // /root/project/Ceylon.g:534:1: objectDeclaration returns [ObjectDefinition declaration] : OBJECT_DEFINITION memberNameDeclaration ( extendedType )? ( satisfiedTypes )? ( classBody | SEMICOLON ) ;
+    public final ObjectDefinition objectDeclaration() throws RecognitionException {
+        ObjectDefinition declaration = null;
+
+
+        Token OBJECT_DEFINITION27=null;
+        Token SEMICOLON32=null;
+        Identifier memberNameDeclaration28 =null;
+
+        ExtendedType extendedType29 =null;
+
+        SatisfiedTypes satisfiedTypes30 =null;
+
+        ClassBody classBody31 =null;
+
+
+        try {
+            // /root/project/Ceylon.g:535:5: ( OBJECT_DEFINITION memberNameDeclaration ( extendedType )? ( satisfiedTypes )? ( classBody | SEMICOLON ) )
+            // /root/project/Ceylon.g:535:7: OBJECT_DEFINITION memberNameDeclaration ( extendedType )? ( satisfiedTypes )? ( classBody | SEMICOLON )
+            {
+            OBJECT_DEFINITION27=(Token)match(input,OBJECT_DEFINITION,FOLLOW_OBJECT_DEFINITION_in_objectDeclaration1147); if (state.failed) return declaration;
+
+            if ( state.backtracking==0 ) { declaration = new ObjectDefinition(OBJECT_DEFINITION27); 
+                    declaration.setType(new ValueModifier(null)); }
+
+            pushFollow(FOLLOW_memberNameDeclaration_in_objectDeclaration1163);
+            memberNameDeclaration28=memberNameDeclaration();
+
+            state._fsp--;
+            if (state.failed) return declaration;
+
+            if ( state.backtracking==0 ) { declaration.setIdentifier(memberNameDeclaration28); }
+
+            // /root/project/Ceylon.g:540:7: ( extendedType )?
+            int alt17=2;
+            int LA17_0 = input.LA(1);
+
+            if ( (LA17_0==EXTENDS) ) {
+                alt17=1;
+            }
+            switch (alt17) {
+                case 1 :
+                    // /root/project/Ceylon.g:541:9: extendedType
+                    {
+                    pushFollow(FOLLOW_extendedType_in_objectDeclaration1190);
+                    extendedType29=extendedType();
+
+                    state._fsp--;
+                    if (state.failed) return declaration;
+
+                    if ( state.backtracking==0 ) { declaration.setExtendedType(extendedType29); }
+
+                    }
+                    break;
+
+            }
+
+
+            // /root/project/Ceylon.g:544:7: ( satisfiedTypes )?
+            int alt18=2;
+            int LA18_0 = input.LA(1);
+
+            if ( (LA18_0==SATISFIES) ) {
+                alt18=1;
+            }
+            switch (alt18) {
+                case 1 :
+                    // /root/project/Ceylon.g:545:9: satisfiedTypes
+                    {
+                    pushFollow(FOLLOW_satisfiedTypes_in_objectDeclaration1229);
+                    satisfiedTypes30=satisfiedTypes();
+
+                    state._fsp--;
+                    if (state.failed) return declaration;
+
+                    if ( state.backtracking==0 ) { declaration.setSatisfiedTypes(satisfiedTypes30); }
+
+                    }
+                    break;
+
+            }
+
+
+            // /root/project/Ceylon.g:548:7: ( classBody | SEMICOLON )
+            int alt19=2;
+            int LA19_0 = input.LA(1);
+
+            if ( (LA19_0==LBRACE) ) {
+                alt19=1;
+            }
+            else if ( (LA19_0==SEMICOLON) ) {
+                alt19=2;
+            }
+            else {
+                if (state.backtracking>0) {state.failed=true; return declaration;}
+                NoViableAltException nvae =
+                    new NoViableAltException("", 19, 0, input);
+
+                throw nvae;
+
+            }
+            switch (alt19) {
+                case 1 :
+                    // /root/project/Ceylon.g:549:9: classBody
+                    {
+                    pushFollow(FOLLOW_classBody_in_objectDeclaration1267);
+                    classBody31=classBody();
+
+                    state._fsp--;
+                    if (state.failed) return declaration;
+
+                    if ( state.backtracking==0 ) { declaration.setClassBody(classBody31); }
+
+                    }
+                    break;
+                case 2 :
+                    // /root/project/Ceylon.g:551:9: SEMICOLON
+                    {
+                    if ( state.backtracking==0 ) { displayRecognitionError(getTokenNames(), 
+                                  new MismatchedTokenException(LBRACE, input)); }
+
+                    SEMICOLON32=(Token)match(input,SEMICOLON,FOLLOW_SEMICOLON_in_objectDeclaration1297); if (state.failed) return declaration;
+
+                    if ( state.backtracking==0 ) { declaration.setEndToken(SEMICOLON32); }
+
+                    }
+                    break;
+
+            }
+
+
+            }
+
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return declaration;
+    }
+    // $ANTLR end "objectDeclaration"
+
+
+
+    // $ANTLR start "voidOrInferredMethodDeclaration"
+    // /root/project/Ceylon.g:559:1: voidOrInferredMethodDeclaration returns [AnyMethod declaration] : ( VOID_MODIFIER | FUNCTION_MODIFIER ) memberNameDeclaration ( typeParameters )? ( parameters )* ( typeConstraints )? ( block | ( specifier )? SEMICOLON ) ;
+    public final AnyMethod voidOrInferredMethodDeclaration() throws RecognitionException {
+        AnyMethod declaration = null;
+
+
+        Token VOID_MODIFIER33=null;
+        Token FUNCTION_MODIFIER34=null;
+        Token SEMICOLON41=null;
+        Identifier memberNameDeclaration35 =null;
+
+        TypeParameterList typeParameters36 =null;
+
+        ParameterList parameters37 =null;
+
+        TypeConstraintList typeConstraints38 =null;
+
+        Block block39 =null;
+
+        SpecifierExpression specifier40 =null;
+
+
+         MethodDefinition def=null;
+                    MethodDeclaration dec=null; 
+        try {
+            // /root/project/Ceylon.g:562:5: ( ( VOID_MODIFIER | FUNCTION_MODIFIER ) memberNameDeclaration ( typeParameters )? ( parameters )* ( typeConstraints )? ( block | ( specifier )? SEMICOLON ) )
+            // /root/project/Ceylon.g:562:7: ( VOID_MODIFIER | FUNCTION_MODIFIER ) memberNameDeclaration ( typeParameters )? ( parameters )* ( typeConstraints )? ( block | ( specifier )? SEMICOLON )
+            {
+            // /root/project/Ceylon.g:562:7: ( VOID_MODIFIER | FUNCTION_MODIFIER )
+            int alt20=2;
+            int LA20_0 = input.LA(1);
+
+            if ( (LA20_0==VOID_MODIFIER) ) {
+                alt20=1;
+            }
+            else if ( (LA20_0==FUNCTION_MODIFIER) ) {
+                alt20=2;
+            }
+            else {
+                if (state.backtracking>0) {state.failed=true; return declaration;}
+                NoViableAltException nvae =
+                    new NoViableAltException("", 20, 0, input);
+
+                throw nvae;
+
+            }
+            switch (alt20) {
+                case 1 :
+                    // /root/project/Ceylon.g:563:9: VOID_MODIFIER
+                    {
+                    VOID_MODIFIER33=(Token)match(input,VOID_MODIFIER,FOLLOW_VOID_MODIFIER_in_voidOrInferredMethodDeclaration1360); if (state.failed) return declaration;
+
+                    if ( state.backtracking==0 ) { VoidModifier vm = new VoidModifier(VOID_MODIFIER33);
+                              def = new MethodDefinition(VOID_MODIFIER33);
+                              dec = new MethodDeclaration(VOID_MODIFIER33);
+                              def.setType(vm);
+                              dec.setType(vm);
+                              declaration = dec; }
+
+                    }
+                    break;
+                case 2 :
+                    // /root/project/Ceylon.g:570:9: FUNCTION_MODIFIER
+                    {
+                    FUNCTION_MODIFIER34=(Token)match(input,FUNCTION_MODIFIER,FOLLOW_FUNCTION_MODIFIER_in_voidOrInferredMethodDeclaration1380); if (state.failed) return declaration;
+
+                    if ( state.backtracking==0 ) { FunctionModifier fm = new FunctionModifier(FUNCTION_MODIFIER34);
+                              def = new MethodDefinition(FUNCTION_MODIFIER34);
+                              dec = new MethodDeclaration(FUNCTION_MODIFIER34);
+                              def.setType(fm);
+                              dec.setType(fm);
+                              declaration = dec; }
+
+                    }
+                    break;
+
+            }
+
+
+            pushFollow(FOLLOW_memberNameDeclaration_in_voidOrInferredMethodDeclaration1406);
+            memberNameDeclaration35=memberNameDeclaration();
+
+            state._fsp--;
+            if (state.failed) return declaration;
+
+            if ( state.backtracking==0 ) { dec.setIdentifier(memberNameDeclaration35); 
+                    def.setIdentifier(memberNameDeclaration35); }
+
+            // /root/project/Ceylon.g:581:7: ( typeParameters )?
+            int alt21=2;
+            int LA21_0 = input.LA(1);
+
+            if ( (LA21_0==SMALLER_OP) ) {
+                alt21=1;
+            }
+            switch (alt21) {
+                case 1 :
+                    // /root/project/Ceylon.g:582:9: typeParameters
+                    {
+                    pushFollow(FOLLOW_typeParameters_in_voidOrInferredMethodDeclaration1432);
+                    typeParameters36=typeParameters();
+
+                    state._fsp--;
+                    if (state.failed) return declaration;
+
+                    if ( state.backtracking==0 ) { def.setTypeParameterList(typeParameters36); 
+                              dec.setTypeParameterList(typeParameters36); }
+
+                    }
+                    break;
+
+            }
+
+
+            // /root/project/Ceylon.g:586:7: ( parameters )*
+            loop22:
+            do {
+                int alt22=2;
+                int LA22_0 = input.LA(1);
+
+                if ( (LA22_0==LPAREN) ) {
+                    alt22=1;
+                }
+
+
+                switch (alt22) {
+            	case 1 :
+            	    // /root/project/Ceylon.g:587:9: parameters
+            	    {
+            	    pushFollow(FOLLOW_parameters_in_voidOrInferredMethodDeclaration1477);
+            	    parameters37=parameters();
+
+            	    state._fsp--;
+            	    if (state.failed) return declaration;
+
+            	    if ( state.backtracking==0 ) { def.addParameterList(parameters37); 
+            	              dec.addParameterList(parameters37); }
+
+            	    }
+            	    break;
+
+            	default :
+            	    break loop22;
+                }
+            } while (true);
+
+
+            // /root/project/Ceylon.g:592:7: ( typeConstraints )?
+            int alt23=2;
+            int LA23_0 = input.LA(1);
+
+            if ( (LA23_0==COMPILER_ANNOTATION||LA23_0==TYPE_CONSTRAINT) ) {
+                alt23=1;
+            }
+            switch (alt23) {
+                case 1 :
+                    // /root/project/Ceylon.g:593:9: typeConstraints
+                    {
+                    pushFollow(FOLLOW_typeConstraints_in_voidOrInferredMethodDeclaration1521);
+                    typeConstraints38=typeConstraints();
+
+                    state._fsp--;
+                    if (state.failed) return declaration;
+
+                    if ( state.backtracking==0 ) { def.setTypeConstraintList(typeConstraints38); 
+                              dec.setTypeConstraintList(typeConstraints38); }
+
+                    }
+                    break;
+
+            }
+
+
+            // /root/project/Ceylon.g:597:7: ( block | ( specifier )? SEMICOLON )
+            int alt25=2;
+            int LA25_0 = input.LA(1);
+
+            if ( (LA25_0==LBRACE) ) {
+                alt25=1;
+            }
+            else if ( (LA25_0==SEMICOLON||LA25_0==SPECIFY) ) {
+                alt25=2;
+            }
+            else {
+                if (state.backtracking>0) {state.failed=true; return declaration;}
+                NoViableAltException nvae =
+                    new NoViableAltException("", 25, 0, input);
+
+                throw nvae;
+
+            }
+            switch (alt25) {
+                case 1 :
+                    // /root/project/Ceylon.g:598:9: block
+                    {
+                    if ( state.backtracking==0 ) { declaration = def; }
+
+                    pushFollow(FOLLOW_block_in_voidOrInferredMethodDeclaration1569);
+                    block39=block();
+
+                    state._fsp--;
+                    if (state.failed) return declaration;
+
+                    if ( state.backtracking==0 ) { def.setBlock(block39); }
+
+                    }
+                    break;
+                case 2 :
+                    // /root/project/Ceylon.g:603:9: ( specifier )? SEMICOLON
+                    {
+                    // /root/project/Ceylon.g:603:9: ( specifier )?
+                    int alt24=2;
+                    int LA24_0 = input.LA(1);
+
+                    if ( (LA24_0==SPECIFY) ) {
+                        alt24=1;
+                    }
+                    switch (alt24) {
+                        case 1 :
+                            // /root/project/Ceylon.g:604:11: specifier
+                            {
+                            pushFollow(FOLLOW_specifier_in_voidOrInferredMethodDeclaration1618);
+                            specifier40=specifier();
+
+                            state._fsp--;
+                            if (state.failed) return declaration;
+
+                            if ( state.backtracking==0 ) { dec.setSpecifierExpression(specifier40); }
+
+                            }
+                            break;
+
+                    }
+
+
+                    SEMICOLON41=(Token)match(input,SEMICOLON,FOLLOW_SEMICOLON_in_voidOrInferredMethodDeclaration1651); if (state.failed) return declaration;
+
+                    if ( state.backtracking==0 ) { declaration.setEndToken(SEMICOLON41); }
+
+                    }
+                    break;
+
+            }
+
+
+            }
+
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return declaration;
+    }
+    // $ANTLR end "voidOrInferredMethodDeclaration"
+
+
+
+    // $ANTLR start "setterDeclaration"
+    // /root/project/Ceylon.g:613:1: setterDeclaration returns [AttributeSetterDefinition declaration] : ASSIGN memberNameDeclaration ( block | SEMICOLON ) ;
+    public final AttributeSetterDefinition setterDeclaration() throws RecognitionException {
+        AttributeSetterDefinition declaration = null;
+
+
+        Token ASSIGN42=null;
+        Token SEMICOLON45=null;
+        Identifier memberNameDeclaration43 =null;
+
+        Block block44 =null;
+
+
+        try {
+            // /root/project/Ceylon.g:614:5: ( ASSIGN memberNameDeclaration ( block | SEMICOLON ) )
+            // /root/project/Ceylon.g:614:7: ASSIGN memberNameDeclaration ( block | SEMICOLON )
+            {
+            ASSIGN42=(Token)match(input,ASSIGN,FOLLOW_ASSIGN_in_setterDeclaration1697); if (state.failed) return declaration;
+
+            if ( state.backtracking==0 ) { declaration = new AttributeSetterDefinition(ASSIGN42); 
+                    declaration.setType( new VoidModifier(null) ); }
+
+            pushFollow(FOLLOW_memberNameDeclaration_in_setterDeclaration1714);
+            memberNameDeclaration43=memberNameDeclaration();
+
+            state._fsp--;
+            if (state.failed) return declaration;
+
+            if ( state.backtracking==0 ) { declaration.setIdentifier(memberNameDeclaration43); }
+
+            // /root/project/Ceylon.g:619:7: ( block | SEMICOLON )
+            int alt26=2;
+            int LA26_0 = input.LA(1);
+
+            if ( (LA26_0==LBRACE) ) {
+                alt26=1;
+            }
+            else if ( (LA26_0==SEMICOLON) ) {
+                alt26=2;
+            }
+            else {
+                if (state.backtracking>0) {state.failed=true; return declaration;}
+                NoViableAltException nvae =
+                    new NoViableAltException("", 26, 0, input);
+
+                throw nvae;
+
+            }
+            switch (alt26) {
+                case 1 :
+                    // /root/project/Ceylon.g:620:9: block
+                    {
+                    pushFollow(FOLLOW_block_in_setterDeclaration1742);
+                    block44=block();
+
+                    state._fsp--;
+                    if (state.failed) return declaration;
+
+                    if ( state.backtracking==0 ) { declaration.setBlock(block44); }
+
+                    }
+                    break;
+                case 2 :
+                    // /root/project/Ceylon.g:622:9: SEMICOLON
+                    {
+                    if ( state.backtracking==0 ) { displayRecognitionError(getTokenNames(), 
+                                  new MismatchedTokenException(LBRACE, input)); }
+
+                    SEMICOLON45=(Token)match(input,SEMICOLON,FOLLOW_SEMICOLON_in_setterDeclaration1772); if (state.failed) return declaration;
+
+                    if ( state.backtracking==0 ) { declaration.setEndToken(SEMICOLON45); }
+
+                    }
+                    break;
+
+            }
+
+
+            }
+
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return declaration;
+    }
+    // $ANTLR end "setterDeclaration"
+
+
+
+    // $ANTLR start "inferredAttributeDeclaration"
+    // /root/project/Ceylon.g:630:1: inferredAttributeDeclaration returns [AnyAttribute declaration] : VALUE_MODIFIER memberNameDeclaration ( ( specifier | initializer )? SEMICOLON | block ) ;
+    public final AnyAttribute inferredAttributeDeclaration() throws RecognitionException {
+        AnyAttribute declaration = null;
+
+
+        Token VALUE_MODIFIER46=null;
+        Token SEMICOLON50=null;
+        Identifier memberNameDeclaration47 =null;
+
+        SpecifierExpression specifier48 =null;
+
+        InitializerExpression initializer49 =null;
+
+        Block block51 =null;
+
+
+         AttributeGetterDefinition def=null;
+                    AttributeDeclaration dec=null; 
+        try {
+            // /root/project/Ceylon.g:633:5: ( VALUE_MODIFIER memberNameDeclaration ( ( specifier | initializer )? SEMICOLON | block ) )
+            // /root/project/Ceylon.g:633:7: VALUE_MODIFIER memberNameDeclaration ( ( specifier | initializer )? SEMICOLON | block )
+            {
+            VALUE_MODIFIER46=(Token)match(input,VALUE_MODIFIER,FOLLOW_VALUE_MODIFIER_in_inferredAttributeDeclaration1825); if (state.failed) return declaration;
+
+            if ( state.backtracking==0 ) { ValueModifier fm = new ValueModifier(VALUE_MODIFIER46);
+                    def = new AttributeGetterDefinition(VALUE_MODIFIER46);
+                    dec = new AttributeDeclaration(VALUE_MODIFIER46);
+                    def.setType(fm);
+                    dec.setType(fm);
+                    declaration = dec; }
+
+            pushFollow(FOLLOW_memberNameDeclaration_in_inferredAttributeDeclaration1842);
+            memberNameDeclaration47=memberNameDeclaration();
+
+            state._fsp--;
+            if (state.failed) return declaration;
+
+            if ( state.backtracking==0 ) { dec.setIdentifier(memberNameDeclaration47); 
+                    def.setIdentifier(memberNameDeclaration47); }
+
+            // /root/project/Ceylon.g:643:7: ( ( specifier | initializer )? SEMICOLON | block )
+            int alt28=2;
+            int LA28_0 = input.LA(1);
+
+            if ( (LA28_0==ASSIGN_OP||LA28_0==SEMICOLON||LA28_0==SPECIFY) ) {
+                alt28=1;
+            }
+            else if ( (LA28_0==LBRACE) ) {
+                alt28=2;
+            }
+            else {
+                if (state.backtracking>0) {state.failed=true; return declaration;}
+                NoViableAltException nvae =
+                    new NoViableAltException("", 28, 0, input);
+
+                throw nvae;
+
+            }
+            switch (alt28) {
+                case 1 :
+                    // /root/project/Ceylon.g:644:9: ( specifier | initializer )? SEMICOLON
+                    {
+                    // /root/project/Ceylon.g:644:9: ( specifier | initializer )?
+                    int alt27=3;
+                    int LA27_0 = input.LA(1);
+
+                    if ( (LA27_0==SPECIFY) ) {
+                        alt27=1;
+                    }
+                    else if ( (LA27_0==ASSIGN_OP) ) {
+                        alt27=2;
+                    }
+                    switch (alt27) {
+                        case 1 :
+                            // /root/project/Ceylon.g:645:11: specifier
+                            {
+                            pushFollow(FOLLOW_specifier_in_inferredAttributeDeclaration1881);
+                            specifier48=specifier();
+
+                            state._fsp--;
+                            if (state.failed) return declaration;
+
+                            if ( state.backtracking==0 ) { dec.setSpecifierOrInitializerExpression(specifier48); }
+
+                            }
+                            break;
+                        case 2 :
+                            // /root/project/Ceylon.g:648:11: initializer
+                            {
+                            pushFollow(FOLLOW_initializer_in_inferredAttributeDeclaration1917);
+                            initializer49=initializer();
+
+                            state._fsp--;
+                            if (state.failed) return declaration;
+
+                            if ( state.backtracking==0 ) { dec.setSpecifierOrInitializerExpression(initializer49); }
+
+                            }
+                            break;
+
+                    }
+
+
+                    SEMICOLON50=(Token)match(input,SEMICOLON,FOLLOW_SEMICOLON_in_inferredAttributeDeclaration1950); if (state.failed) return declaration;
+
+                    if ( state.backtracking==0 ) { declaration.setEndToken(SEMICOLON50); }
+
+                    }
+                    break;
+                case 2 :
+                    // /root/project/Ceylon.g:655:9: block
+                    {
+                    if ( state.backtracking==0 ) { declaration = def; }
+
+                    pushFollow(FOLLOW_block_in_inferredAttributeDeclaration1998);
+                    block51=block();
+
+                    state._fsp--;
+                    if (state.failed) return declaration;
+
+                    if ( state.backtracking==0 ) { def.setBlock(block51); }
+
+                    }
+                    break;
+
+            }
+
+
+            }
+
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return declaration;
+    }
+    // $ANTLR end "inferredAttributeDeclaration"
+
+
+
+    // $ANTLR start "typedMethodOrAttributeDeclaration"
+    // /root/project/Ceylon.g:662:1: typedMethodOrAttributeDeclaration returns [TypedDeclaration declaration] : type memberNameDeclaration ( ( typeParameters )? ( parameters )+ ( typeConstraints )? (mb= methodBody[$type.type] | (ms= specifier )? s1= SEMICOLON ) | (as= specifier | initializer )? s2= SEMICOLON |ab= attributeBody[$type.type] ) ;
+    public final TypedDeclaration typedMethodOrAttributeDeclaration() throws RecognitionException {
+        TypedDeclaration declaration = null;
+
+
+        Token s1=null;
+        Token s2=null;
+        Block mb =null;
+
+        SpecifierExpression ms =null;
+
+        SpecifierExpression as =null;
+
+        Node ab =null;
+
+        StaticType type52 =null;
+
+        Identifier memberNameDeclaration53 =null;
+
+        TypeParameterList typeParameters54 =null;
+
+        ParameterList parameters55 =null;
+
+        TypeConstraintList typeConstraints56 =null;
+
+        InitializerExpression initializer57 =null;
+
+
+         AttributeGetterDefinition adef=new AttributeGetterDefinition(null);
+                    AttributeDeclaration adec=new AttributeDeclaration(null);
+                    MethodDefinition mdef=new MethodDefinition(null);
+                    MethodDeclaration mdec=new MethodDeclaration(null); 
+                    declaration = adec; 
+        try {
+            // /root/project/Ceylon.g:668:5: ( type memberNameDeclaration ( ( typeParameters )? ( parameters )+ ( typeConstraints )? (mb= methodBody[$type.type] | (ms= specifier )? s1= SEMICOLON ) | (as= specifier | initializer )? s2= SEMICOLON |ab= attributeBody[$type.type] ) )
+            // /root/project/Ceylon.g:668:7: type memberNameDeclaration ( ( typeParameters )? ( parameters )+ ( typeConstraints )? (mb= methodBody[$type.type] | (ms= specifier )? s1= SEMICOLON ) | (as= specifier | initializer )? s2= SEMICOLON |ab= attributeBody[$type.type] )
+            {
+            pushFollow(FOLLOW_type_in_typedMethodOrAttributeDeclaration2055);
+            type52=type();
+
+            state._fsp--;
+            if (state.failed) return declaration;
+
+            if ( state.backtracking==0 ) { adef.setType(type52);
+                    adec.setType(type52); 
+                    mdef.setType(type52);
+                    mdec.setType(type52); }
+
+            pushFollow(FOLLOW_memberNameDeclaration_in_typedMethodOrAttributeDeclaration2071);
+            memberNameDeclaration53=memberNameDeclaration();
+
+            state._fsp--;
+            if (state.failed) return declaration;
+
+            if ( state.backtracking==0 ) { adef.setIdentifier(memberNameDeclaration53);
+                    adec.setIdentifier(memberNameDeclaration53); 
+                    mdef.setIdentifier(memberNameDeclaration53);
+                    mdec.setIdentifier(memberNameDeclaration53); }
+
+            // /root/project/Ceylon.g:678:7: ( ( typeParameters )? ( parameters )+ ( typeConstraints )? (mb= methodBody[$type.type] | (ms= specifier )? s1= SEMICOLON ) | (as= specifier | initializer )? s2= SEMICOLON |ab= attributeBody[$type.type] )
+            int alt35=3;
+            switch ( input.LA(1) ) {
+            case LPAREN:
+            case SMALLER_OP:
+                {
+                alt35=1;
+                }
+                break;
+            case ASSIGN_OP:
+            case SEMICOLON:
+            case SPECIFY:
+                {
+                alt35=2;
+                }
+                break;
+            case LBRACE:
+                {
+                alt35=3;
+                }
+                break;
+            default:
+                if (state.backtracking>0) {state.failed=true; return declaration;}
+                NoViableAltException nvae =
+                    new NoViableAltException("", 35, 0, input);
+
+                throw nvae;
+
+            }
+
+            switch (alt35) {
+                case 1 :
+                    // /root/project/Ceylon.g:679:9: ( typeParameters )? ( parameters )+ ( typeConstraints )? (mb= methodBody[$type.type] | (ms= specifier )? s1= SEMICOLON )
+                    {
+                    if ( state.backtracking==0 ) { declaration = mdec; }
+
+                    // /root/project/Ceylon.g:680:9: ( typeParameters )?
+                    int alt29=2;
+                    int LA29_0 = input.LA(1);
+
+                    if ( (LA29_0==SMALLER_OP) ) {
+                        alt29=1;
+                    }
+                    switch (alt29) {
+                        case 1 :
+                            // /root/project/Ceylon.g:681:11: typeParameters
+                            {
+                            pushFollow(FOLLOW_typeParameters_in_typedMethodOrAttributeDeclaration2120);
+                            typeParameters54=typeParameters();
+
+                            state._fsp--;
+                            if (state.failed) return declaration;
+
+                            if ( state.backtracking==0 ) { mdef.setTypeParameterList(typeParameters54);
+                                        mdec.setTypeParameterList(typeParameters54); }
+
+                            }
+                            break;
+
+                    }
+
+
+                    // /root/project/Ceylon.g:685:9: ( parameters )+
+                    int cnt30=0;
+                    loop30:
+                    do {
+                        int alt30=2;
+                        int LA30_0 = input.LA(1);
+
+                        if ( (LA30_0==LPAREN) ) {
+                            alt30=1;
+                        }
+
+
+                        switch (alt30) {
+                    	case 1 :
+                    	    // /root/project/Ceylon.g:686:11: parameters
+                    	    {
+                    	    pushFollow(FOLLOW_parameters_in_typedMethodOrAttributeDeclaration2165);
+                    	    parameters55=parameters();
+
+                    	    state._fsp--;
+                    	    if (state.failed) return declaration;
+
+                    	    if ( state.backtracking==0 ) { mdef.addParameterList(parameters55);
+                    	                mdec.addParameterList(parameters55); }
+
+                    	    }
+                    	    break;
+
+                    	default :
+                    	    if ( cnt30 >= 1 ) break loop30;
+                    	    if (state.backtracking>0) {state.failed=true; return declaration;}
+                                EarlyExitException eee =
+                                    new EarlyExitException(30, input);
+                                throw eee;
+                        }
+                        cnt30++;
+                    } while (true);
+
+
+                    // /root/project/Ceylon.g:691:9: ( typeConstraints )?
+                    int alt31=2;
+                    int LA31_0 = input.LA(1);
+
+                    if ( (LA31_0==COMPILER_ANNOTATION||LA31_0==TYPE_CONSTRAINT) ) {
+                        alt31=1;
+                    }
+                    switch (alt31) {
+                        case 1 :
+                            // /root/project/Ceylon.g:692:11: typeConstraints
+                            {
+                            pushFollow(FOLLOW_typeConstraints_in_typedMethodOrAttributeDeclaration2220);
+                            typeConstraints56=typeConstraints();
+
+                            state._fsp--;
+                            if (state.failed) return declaration;
+
+                            if ( state.backtracking==0 ) { mdef.setTypeConstraintList(typeConstraints56);
+                                        mdec.setTypeConstraintList(typeConstraints56); }
+
+                            }
+                            break;
+
+                    }
+
+
+                    // /root/project/Ceylon.g:696:9: (mb= methodBody[$type.type] | (ms= specifier )? s1= SEMICOLON )
+                    int alt33=2;
+                    int LA33_0 = input.LA(1);
+
+                    if ( (LA33_0==LBRACE) ) {
+                        alt33=1;
+                    }
+                    else if ( (LA33_0==SEMICOLON||LA33_0==SPECIFY) ) {
+                        alt33=2;
+                    }
+                    else {
+                        if (state.backtracking>0) {state.failed=true; return declaration;}
+                        NoViableAltException nvae =
+                            new NoViableAltException("", 33, 0, input);
+
+                        throw nvae;
+
+                    }
+                    switch (alt33) {
+                        case 1 :
+                            // /root/project/Ceylon.g:697:11: mb= methodBody[$type.type]
+                            {
+                            if ( state.backtracking==0 ) { declaration = mdef; }
+
+                            pushFollow(FOLLOW_methodBody_in_typedMethodOrAttributeDeclaration2280);
+                            mb=methodBody(type52);
+
+                            state._fsp--;
+                            if (state.failed) return declaration;
+
+                            if ( state.backtracking==0 ) { mdef.setBlock(mb); }
+
+                            }
+                            break;
+                        case 2 :
+                            // /root/project/Ceylon.g:702:11: (ms= specifier )? s1= SEMICOLON
+                            {
+                            // /root/project/Ceylon.g:702:11: (ms= specifier )?
+                            int alt32=2;
+                            int LA32_0 = input.LA(1);
+
+                            if ( (LA32_0==SPECIFY) ) {
+                                alt32=1;
+                            }
+                            switch (alt32) {
+                                case 1 :
+                                    // /root/project/Ceylon.g:703:13: ms= specifier
+                                    {
+                                    pushFollow(FOLLOW_specifier_in_typedMethodOrAttributeDeclaration2341);
+                                    ms=specifier();
+
+                                    state._fsp--;
+                                    if (state.failed) return declaration;
+
+                                    if ( state.backtracking==0 ) { mdec.setSpecifierExpression(ms); }
+
+                                    }
+                                    break;
+
+                            }
+
+
+                            s1=(Token)match(input,SEMICOLON,FOLLOW_SEMICOLON_in_typedMethodOrAttributeDeclaration2381); if (state.failed) return declaration;
+
+                            if ( state.backtracking==0 ) { declaration.setEndToken(s1); }
+
+                            }
+                            break;
+
+                    }
+
+
+                    }
+                    break;
+                case 2 :
+                    // /root/project/Ceylon.g:711:9: (as= specifier | initializer )? s2= SEMICOLON
+                    {
+                    // /root/project/Ceylon.g:711:9: (as= specifier | initializer )?
+                    int alt34=3;
+                    int LA34_0 = input.LA(1);
+
+                    if ( (LA34_0==SPECIFY) ) {
+                        alt34=1;
+                    }
+                    else if ( (LA34_0==ASSIGN_OP) ) {
+                        alt34=2;
+                    }
+                    switch (alt34) {
+                        case 1 :
+                            // /root/project/Ceylon.g:712:11: as= specifier
+                            {
+                            pushFollow(FOLLOW_specifier_in_typedMethodOrAttributeDeclaration2445);
+                            as=specifier();
+
+                            state._fsp--;
+                            if (state.failed) return declaration;
+
+                            if ( state.backtracking==0 ) { adec.setSpecifierOrInitializerExpression(as); }
+
+                            }
+                            break;
+                        case 2 :
+                            // /root/project/Ceylon.g:715:11: initializer
+                            {
+                            pushFollow(FOLLOW_initializer_in_typedMethodOrAttributeDeclaration2481);
+                            initializer57=initializer();
+
+                            state._fsp--;
+                            if (state.failed) return declaration;
+
+                            if ( state.backtracking==0 ) { adec.setSpecifierOrInitializerExpression(initializer57); }
+
+                            }
+                            break;
+
+                    }
+
+
+                    s2=(Token)match(input,SEMICOLON,FOLLOW_SEMICOLON_in_typedMethodOrAttributeDeclaration2516); if (state.failed) return declaration;
+
+                    if ( state.backtracking==0 ) { declaration.setEndToken(s2); }
+
+                    }
+                    break;
+                case 3 :
+                    // /root/project/Ceylon.g:722:9: ab= attributeBody[$type.type]
+                    {
+                    if ( state.backtracking==0 ) { declaration = adef; }
+
+                    pushFollow(FOLLOW_attributeBody_in_typedMethodOrAttributeDeclaration2564);
+                    ab=attributeBody(type52);
+
+                    state._fsp--;
+                    if (state.failed) return declaration;
+
+                    if ( state.backtracking==0 ) { if (ab instanceof Block)
+                                  adef.setBlock((Block)ab); 
+                              else {
+                                  declaration = adec;
+                                  adec.setSpecifierOrInitializerExpression((SpecifierExpression)ab);
+                              } }
+
+                    }
+                    break;
+
+            }
+
+
+            }
+
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return declaration;
+    }
+    // $ANTLR end "typedMethodOrAttributeDeclaration"
+
+
+
+    // $ANTLR start "interfaceDeclaration"
+    // /root/project/Ceylon.g:734:1: interfaceDeclaration returns [AnyInterface declaration] : INTERFACE_DEFINITION typeNameDeclaration ( typeParameters )? ( caseTypes )? ( adaptedTypes )? ( satisfiedTypes )? ( typeConstraints )? ( interfaceBody | ( typeSpecifier )? SEMICOLON ) ;
+    public final AnyInterface interfaceDeclaration() throws RecognitionException {
+        AnyInterface declaration = null;
+
+
+        Token INTERFACE_DEFINITION58=null;
+        Token SEMICOLON67=null;
+        Identifier typeNameDeclaration59 =null;
+
+        TypeParameterList typeParameters60 =null;
+
+        CaseTypes caseTypes61 =null;
+
+        AdaptedTypes adaptedTypes62 =null;
+
+        SatisfiedTypes satisfiedTypes63 =null;
+
+        TypeConstraintList typeConstraints64 =null;
+
+        InterfaceBody interfaceBody65 =null;
+
+        TypeSpecifier typeSpecifier66 =null;
+
+
+         InterfaceDefinition def=null; 
+                    InterfaceDeclaration dec=null; 
+        try {
+            // /root/project/Ceylon.g:737:5: ( INTERFACE_DEFINITION typeNameDeclaration ( typeParameters )? ( caseTypes )? ( adaptedTypes )? ( satisfiedTypes )? ( typeConstraints )? ( interfaceBody | ( typeSpecifier )? SEMICOLON ) )
+            // /root/project/Ceylon.g:737:7: INTERFACE_DEFINITION typeNameDeclaration ( typeParameters )? ( caseTypes )? ( adaptedTypes )? ( satisfiedTypes )? ( typeConstraints )? ( interfaceBody | ( typeSpecifier )? SEMICOLON )
+            {
+            INTERFACE_DEFINITION58=(Token)match(input,INTERFACE_DEFINITION,FOLLOW_INTERFACE_DEFINITION_in_interfaceDeclaration2620); if (state.failed) return declaration;
+
+            if ( state.backtracking==0 ) { def = new InterfaceDefinition(INTERFACE_DEFINITION58); 
+                    dec = new InterfaceDeclaration(INTERFACE_DEFINITION58);
+                    declaration = dec; }
+
+            pushFollow(FOLLOW_typeNameDeclaration_in_interfaceDeclaration2636);
+            typeNameDeclaration59=typeNameDeclaration();
+
+            state._fsp--;
+            if (state.failed) return declaration;
+
+            if ( state.backtracking==0 ) { dec.setIdentifier(typeNameDeclaration59); 
+                    def.setIdentifier(typeNameDeclaration59); }
+
+            // /root/project/Ceylon.g:744:7: ( typeParameters )?
+            int alt36=2;
+            int LA36_0 = input.LA(1);
+
+            if ( (LA36_0==SMALLER_OP) ) {
+                alt36=1;
+            }
+            switch (alt36) {
+                case 1 :
+                    // /root/project/Ceylon.g:745:9: typeParameters
+                    {
+                    pushFollow(FOLLOW_typeParameters_in_interfaceDeclaration2663);
+                    typeParameters60=typeParameters();
+
+                    state._fsp--;
+                    if (state.failed) return declaration;
+
+                    if ( state.backtracking==0 ) { def.setTypeParameterList(typeParameters60); 
+                              dec.setTypeParameterList(typeParameters60); }
+
+                    }
+                    break;
+
+            }
+
+
+            // /root/project/Ceylon.g:749:7: ( caseTypes )?
+            int alt37=2;
+            int LA37_0 = input.LA(1);
+
+            if ( (LA37_0==CASE_TYPES) ) {
+                alt37=1;
+            }
+            switch (alt37) {
+                case 1 :
+                    // /root/project/Ceylon.g:750:9: caseTypes
+                    {
+                    pushFollow(FOLLOW_caseTypes_in_interfaceDeclaration2701);
+                    caseTypes61=caseTypes();
+
+                    state._fsp--;
+                    if (state.failed) return declaration;
+
+                    if ( state.backtracking==0 ) { def.setCaseTypes(caseTypes61); 
+                              dec.setCaseTypes(caseTypes61); }
+
+                    }
+                    break;
+
+            }
+
+
+            // /root/project/Ceylon.g:755:7: ( adaptedTypes )?
+            int alt38=2;
+            int LA38_0 = input.LA(1);
+
+            if ( (LA38_0==ADAPTED_TYPES) ) {
+                alt38=1;
+            }
+            switch (alt38) {
+                case 1 :
+                    // /root/project/Ceylon.g:756:9: adaptedTypes
+                    {
+                    pushFollow(FOLLOW_adaptedTypes_in_interfaceDeclaration2747);
+                    adaptedTypes62=adaptedTypes();
+
+                    state._fsp--;
+                    if (state.failed) return declaration;
+
+                    if ( state.backtracking==0 ) { def.setAdaptedTypes(adaptedTypes62); }
+
+                    }
+                    break;
+
+            }
+
+
+            // /root/project/Ceylon.g:759:7: ( satisfiedTypes )?
+            int alt39=2;
+            int LA39_0 = input.LA(1);
+
+            if ( (LA39_0==SATISFIES) ) {
+                alt39=1;
+            }
+            switch (alt39) {
+                case 1 :
+                    // /root/project/Ceylon.g:760:9: satisfiedTypes
+                    {
+                    pushFollow(FOLLOW_satisfiedTypes_in_interfaceDeclaration2784);
+                    satisfiedTypes63=satisfiedTypes();
+
+                    state._fsp--;
+                    if (state.failed) return declaration;
+
+                    if ( state.backtracking==0 ) { def.setSatisfiedTypes(satisfiedTypes63); 
+                              dec.setSatisfiedTypes(satisfiedTypes63); }
+
+                    }
+                    break;
+
+            }
+
+
+            // /root/project/Ceylon.g:764:7: ( typeConstraints )?
+            int alt40=2;
+            int LA40_0 = input.LA(1);
+
+            if ( (LA40_0==COMPILER_ANNOTATION||LA40_0==TYPE_CONSTRAINT) ) {
+                alt40=1;
+            }
+            switch (alt40) {
+                case 1 :
+                    // /root/project/Ceylon.g:765:9: typeConstraints
+                    {
+                    pushFollow(FOLLOW_typeConstraints_in_interfaceDeclaration2821);
+                    typeConstraints64=typeConstraints();
+
+                    state._fsp--;
+                    if (state.failed) return declaration;
+
+                    if ( state.backtracking==0 ) { def.setTypeConstraintList(typeConstraints64); 
+                              dec.setTypeConstraintList(typeConstraints64); }
+
+                    }
+                    break;
+
+            }
+
+
+            // /root/project/Ceylon.g:769:7: ( interfaceBody | ( typeSpecifier )? SEMICOLON )
+            int alt42=2;
+            int LA42_0 = input.LA(1);
+
+            if ( (LA42_0==LBRACE) ) {
+                alt42=1;
+            }
+            else if ( (LA42_0==SEMICOLON||LA42_0==SPECIFY) ) {
+                alt42=2;
+            }
+            else {
+                if (state.backtracking>0) {state.failed=true; return declaration;}
+                NoViableAltException nvae =
+                    new NoViableAltException("", 42, 0, input);
+
+                throw nvae;
+
+            }
+            switch (alt42) {
+                case 1 :
+                    // /root/project/Ceylon.g:770:9: interfaceBody
+                    {
+                    if ( state.backtracking==0 ) { declaration = def; }
+
+                    pushFollow(FOLLOW_interfaceBody_in_interfaceDeclaration2868);
+                    interfaceBody65=interfaceBody();
+
+                    state._fsp--;
+                    if (state.failed) return declaration;
+
+                    if ( state.backtracking==0 ) { def.setInterfaceBody(interfaceBody65); }
+
+                    }
+                    break;
+                case 2 :
+                    // /root/project/Ceylon.g:775:9: ( typeSpecifier )? SEMICOLON
+                    {
+                    // /root/project/Ceylon.g:775:9: ( typeSpecifier )?
+                    int alt41=2;
+                    int LA41_0 = input.LA(1);
+
+                    if ( (LA41_0==SPECIFY) ) {
+                        alt41=1;
+                    }
+                    switch (alt41) {
+                        case 1 :
+                            // /root/project/Ceylon.g:776:11: typeSpecifier
+                            {
+                            pushFollow(FOLLOW_typeSpecifier_in_interfaceDeclaration2916);
+                            typeSpecifier66=typeSpecifier();
+
+                            state._fsp--;
+                            if (state.failed) return declaration;
+
+                            if ( state.backtracking==0 ) { dec.setTypeSpecifier(typeSpecifier66); }
+
+                            }
+                            break;
+
+                    }
+
+
+                    SEMICOLON67=(Token)match(input,SEMICOLON,FOLLOW_SEMICOLON_in_interfaceDeclaration2950); if (state.failed) return declaration;
+
+                    if ( state.backtracking==0 ) { declaration.setEndToken(SEMICOLON67); }
+
+                    }
+                    break;
+
+            }
+
+
+            }
+
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return declaration;
+    }
+    // $ANTLR end "interfaceDeclaration"
+
+
+
+    // $ANTLR start "classDeclaration"
+    // /root/project/Ceylon.g:785:1: classDeclaration returns [AnyClass declaration] : CLASS_DEFINITION typeNameDeclaration ( typeParameters )? ( parameters )? ( caseTypes )? ( extendedType )? ( satisfiedTypes )? ( typeConstraints )? ( classBody | ( typeSpecifier )? SEMICOLON ) ;
+    public final AnyClass classDeclaration() throws RecognitionException {
+        AnyClass declaration = null;
+
+
+        Token CLASS_DEFINITION68=null;
+        Token SEMICOLON78=null;
+        Identifier typeNameDeclaration69 =null;
+
+        TypeParameterList typeParameters70 =null;
+
+        ParameterList parameters71 =null;
+
+        CaseTypes caseTypes72 =null;
+
+        ExtendedType extendedType73 =null;
+
+        SatisfiedTypes satisfiedTypes74 =null;
+
+        TypeConstraintList typeConstraints75 =null;
+
+        ClassBody classBody76 =null;
+
+        TypeSpecifier typeSpecifier77 =null;
+
+
+         ClassDefinition def=null; 
+                    ClassDeclaration dec=null; 
+        try {
+            // /root/project/Ceylon.g:788:5: ( CLASS_DEFINITION typeNameDeclaration ( typeParameters )? ( parameters )? ( caseTypes )? ( extendedType )? ( satisfiedTypes )? ( typeConstraints )? ( classBody | ( typeSpecifier )? SEMICOLON ) )
+            // /root/project/Ceylon.g:788:7: CLASS_DEFINITION typeNameDeclaration ( typeParameters )? ( parameters )? ( caseTypes )? ( extendedType )? ( satisfiedTypes )? ( typeConstraints )? ( classBody | ( typeSpecifier )? SEMICOLON )
+            {
+            CLASS_DEFINITION68=(Token)match(input,CLASS_DEFINITION,FOLLOW_CLASS_DEFINITION_in_classDeclaration3005); if (state.failed) return declaration;
+
+            if ( state.backtracking==0 ) { def = new ClassDefinition(CLASS_DEFINITION68); 
+                    dec = new ClassDeclaration(CLASS_DEFINITION68);
+                    declaration = dec; }
+
+            pushFollow(FOLLOW_typeNameDeclaration_in_classDeclaration3022);
+            typeNameDeclaration69=typeNameDeclaration();
+
+            state._fsp--;
+            if (state.failed) return declaration;
+
+            if ( state.backtracking==0 ) { dec.setIdentifier(typeNameDeclaration69); 
+                    def.setIdentifier(typeNameDeclaration69); }
+
+            // /root/project/Ceylon.g:795:7: ( typeParameters )?
+            int alt43=2;
+            int LA43_0 = input.LA(1);
+
+            if ( (LA43_0==SMALLER_OP) ) {
+                alt43=1;
+            }
+            switch (alt43) {
+                case 1 :
+                    // /root/project/Ceylon.g:796:9: typeParameters
+                    {
+                    pushFollow(FOLLOW_typeParameters_in_classDeclaration3048);
+                    typeParameters70=typeParameters();
+
+                    state._fsp--;
+                    if (state.failed) return declaration;
+
+                    if ( state.backtracking==0 ) { def.setTypeParameterList(typeParameters70); 
+                              dec.setTypeParameterList(typeParameters70); }
+
+                    }
+                    break;
+
+            }
+
+
+            // /root/project/Ceylon.g:800:7: ( parameters )?
+            int alt44=2;
+            int LA44_0 = input.LA(1);
+
+            if ( (LA44_0==LPAREN) ) {
+                alt44=1;
+            }
+            switch (alt44) {
+                case 1 :
+                    // /root/project/Ceylon.g:801:9: parameters
+                    {
+                    pushFollow(FOLLOW_parameters_in_classDeclaration3086);
+                    parameters71=parameters();
+
+                    state._fsp--;
+                    if (state.failed) return declaration;
+
+                    if ( state.backtracking==0 ) { def.setParameterList(parameters71); 
+                              dec.setParameterList(parameters71); }
+
+                    }
+                    break;
+
+            }
+
+
+            // /root/project/Ceylon.g:805:7: ( caseTypes )?
+            int alt45=2;
+            int LA45_0 = input.LA(1);
+
+            if ( (LA45_0==CASE_TYPES) ) {
+                alt45=1;
+            }
+            switch (alt45) {
+                case 1 :
+                    // /root/project/Ceylon.g:806:9: caseTypes
+                    {
+                    pushFollow(FOLLOW_caseTypes_in_classDeclaration3123);
+                    caseTypes72=caseTypes();
+
+                    state._fsp--;
+                    if (state.failed) return declaration;
+
+                    if ( state.backtracking==0 ) { def.setCaseTypes(caseTypes72); 
+                              dec.setCaseTypes(caseTypes72); }
+
+                    }
+                    break;
+
+            }
+
+
+            // /root/project/Ceylon.g:811:7: ( extendedType )?
+            int alt46=2;
+            int LA46_0 = input.LA(1);
+
+            if ( (LA46_0==EXTENDS) ) {
+                alt46=1;
+            }
+            switch (alt46) {
+                case 1 :
+                    // /root/project/Ceylon.g:812:9: extendedType
+                    {
+                    pushFollow(FOLLOW_extendedType_in_classDeclaration3169);
+                    extendedType73=extendedType();
+
+                    state._fsp--;
+                    if (state.failed) return declaration;
+
+                    if ( state.backtracking==0 ) { def.setExtendedType(extendedType73); 
+                              dec.setExtendedType(extendedType73); }
+
+                    }
+                    break;
+
+            }
+
+
+            // /root/project/Ceylon.g:816:7: ( satisfiedTypes )?
+            int alt47=2;
+            int LA47_0 = input.LA(1);
+
+            if ( (LA47_0==SATISFIES) ) {
+                alt47=1;
+            }
+            switch (alt47) {
+                case 1 :
+                    // /root/project/Ceylon.g:817:9: satisfiedTypes
+                    {
+                    pushFollow(FOLLOW_satisfiedTypes_in_classDeclaration3207);
+                    satisfiedTypes74=satisfiedTypes();
+
+                    state._fsp--;
+                    if (state.failed) return declaration;
+
+                    if ( state.backtracking==0 ) { def.setSatisfiedTypes(satisfiedTypes74); 
+                              dec.setSatisfiedTypes(satisfiedTypes74); }
+
+                    }
+                    break;
+
+            }
+
+
+            // /root/project/Ceylon.g:821:7: ( typeConstraints )?
+            int alt48=2;
+            int LA48_0 = input.LA(1);
+
+            if ( (LA48_0==COMPILER_ANNOTATION||LA48_0==TYPE_CONSTRAINT) ) {
+                alt48=1;
+            }
+            switch (alt48) {
+                case 1 :
+                    // /root/project/Ceylon.g:822:9: typeConstraints
+                    {
+                    pushFollow(FOLLOW_typeConstraints_in_classDeclaration3244);
+                    typeConstraints75=typeConstraints();
+
+                    state._fsp--;
+                    if (state.failed) return declaration;
+
+                    if ( state.backtracking==0 ) { def.setTypeConstraintList(typeConstraints75); 
+                              dec.setTypeConstraintList(typeConstraints75); }
+
+                    }
+                    break;
+
+            }
+
+
+            // /root/project/Ceylon.g:826:7: ( classBody | ( typeSpecifier )? SEMICOLON )
+            int alt50=2;
+            int LA50_0 = input.LA(1);
+
+            if ( (LA50_0==LBRACE) ) {
+                alt50=1;
+            }
+            else if ( (LA50_0==SEMICOLON||LA50_0==SPECIFY) ) {
+                alt50=2;
+            }
+            else {
+                if (state.backtracking>0) {state.failed=true; return declaration;}
+                NoViableAltException nvae =
+                    new NoViableAltException("", 50, 0, input);
+
+                throw nvae;
+
+            }
+            switch (alt50) {
+                case 1 :
+                    // /root/project/Ceylon.g:827:9: classBody
+                    {
+                    if ( state.backtracking==0 ) { declaration = def; }
+
+                    pushFollow(FOLLOW_classBody_in_classDeclaration3291);
+                    classBody76=classBody();
+
+                    state._fsp--;
+                    if (state.failed) return declaration;
+
+                    if ( state.backtracking==0 ) { def.setClassBody(classBody76); }
+
+                    }
+                    break;
+                case 2 :
+                    // /root/project/Ceylon.g:832:9: ( typeSpecifier )? SEMICOLON
+                    {
+                    // /root/project/Ceylon.g:832:9: ( typeSpecifier )?
+                    int alt49=2;
+                    int LA49_0 = input.LA(1);
+
+                    if ( (LA49_0==SPECIFY) ) {
+                        alt49=1;
+                    }
+                    switch (alt49) {
+                        case 1 :
+                            // /root/project/Ceylon.g:833:11: typeSpecifier
+                            {
+                            pushFollow(FOLLOW_typeSpecifier_in_classDeclaration3339);
+                            typeSpecifier77=typeSpecifier();
+
+                            state._fsp--;
+                            if (state.failed) return declaration;
+
+                            if ( state.backtracking==0 ) { dec.setTypeSpecifier(typeSpecifier77); }
+
+                            }
+                            break;
+
+                    }
+
+
+                    SEMICOLON78=(Token)match(input,SEMICOLON,FOLLOW_SEMICOLON_in_classDeclaration3372); if (state.failed) return declaration;
+
+                    if ( state.backtracking==0 ) { declaration.setEndToken(SEMICOLON78); }
+
+                    }
+                    break;
+
+            }
+
+
+            }
+
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return declaration;
+    }
+    // $ANTLR end "classDeclaration"
+
+
+
+    // $ANTLR start "block"
+    // /root/project/Ceylon.g:843:1: block returns [Block block] : LBRACE ( declarationOrStatement )* RBRACE ;
+    public final Block block() throws RecognitionException {
+        Block block = null;
+
+
+        Token LBRACE79=null;
+        Token RBRACE81=null;
+        Statement declarationOrStatement80 =null;
+
+
+         if (skipBodies && state.backtracking==0 && input.LA(1)==LBRACE) {
+                        block = skipBlock();
+                        if (block!=null) return block;
+                    } 
+        try {
+            // /root/project/Ceylon.g:848:5: ( LBRACE ( declarationOrStatement )* RBRACE )
+            // /root/project/Ceylon.g:848:7: LBRACE ( declarationOrStatement )* RBRACE
+            {
+            LBRACE79=(Token)match(input,LBRACE,FOLLOW_LBRACE_in_block3432); if (state.failed) return block;
+
+            if ( state.backtracking==0 ) { block = new Block(LBRACE79); }
+
+            // /root/project/Ceylon.g:850:7: ( declarationOrStatement )*
+            loop51:
+            do {
+                int alt51=2;
+                int LA51_0 = input.LA(1);
+
+                if ( (LA51_0==ASSIGN||LA51_0==BREAK||(LA51_0 >= CHAR_LITERAL && LA51_0 <= CLASS_DEFINITION)||LA51_0==COMPILER_ANNOTATION||(LA51_0 >= COMPLEMENT_OP && LA51_0 <= DECREMENT_OP)||LA51_0==DIFFERENCE_OP||(LA51_0 >= EXISTS && LA51_0 <= EXTENDS)||(LA51_0 >= FLOAT_LITERAL && LA51_0 <= FUNCTION_MODIFIER)||LA51_0==IF_CLAUSE||LA51_0==INCREMENT_OP||LA51_0==INTERFACE_DEFINITION||LA51_0==IS_OP||LA51_0==LBRACE||LA51_0==LIDENTIFIER||LA51_0==LPAREN||(LA51_0 >= NATURAL_LITERAL && LA51_0 <= NONEMPTY)||LA51_0==NOT_OP||LA51_0==OBJECT_DEFINITION||LA51_0==OUTER||LA51_0==QUOTED_LITERAL||(LA51_0 >= RETURN && LA51_0 <= RPAREN)||(LA51_0 >= SATISFIES && LA51_0 <= SEMICOLON)||LA51_0==STRING_LITERAL||(LA51_0 >= SUM_OP && LA51_0 <= SWITCH_CLAUSE)||(LA51_0 >= THIS && LA51_0 <= UIDENTIFIER)||(LA51_0 >= VALUE_MODIFIER && LA51_0 <= WHILE_CLAUSE)) ) {
+                    alt51=1;
+                }
+
+
+                switch (alt51) {
+            	case 1 :
+            	    // /root/project/Ceylon.g:851:9: declarationOrStatement
+            	    {
+            	    pushFollow(FOLLOW_declarationOrStatement_in_block3459);
+            	    declarationOrStatement80=declarationOrStatement();
+
+            	    state._fsp--;
+            	    if (state.failed) return block;
+
+            	    if ( state.backtracking==0 ) { if (declarationOrStatement80!=null)
+            	                  block.addStatement(declarationOrStatement80); }
+
+            	    }
+            	    break;
+
+            	default :
+            	    break loop51;
+                }
+            } while (true);
+
+
+            RBRACE81=(Token)match(input,RBRACE,FOLLOW_RBRACE_in_block3486); if (state.failed) return block;
+
+            if ( state.backtracking==0 ) { block.setEndToken(RBRACE81); }
+
+            }
+
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return block;
+    }
+    // $ANTLR end "block"
+
+
+
+    // $ANTLR start "interfaceBody"
+    // /root/project/Ceylon.g:864:1: interfaceBody returns [InterfaceBody interfaceBody] : LBRACE ( declarationOrStatement )* RBRACE ;
+    public final InterfaceBody interfaceBody() throws RecognitionException {
+        InterfaceBody interfaceBody = null;
+
+
+        Token LBRACE82=null;
+        Token RBRACE84=null;
+        Statement declarationOrStatement83 =null;
+
+
+        try {
+            // /root/project/Ceylon.g:865:5: ( LBRACE ( declarationOrStatement )* RBRACE )
+            // /root/project/Ceylon.g:865:7: LBRACE ( declarationOrStatement )* RBRACE
+            {
+            LBRACE82=(Token)match(input,LBRACE,FOLLOW_LBRACE_in_interfaceBody3524); if (state.failed) return interfaceBody;
+
+            if ( state.backtracking==0 ) { interfaceBody = new InterfaceBody(LBRACE82); }
+
+            // /root/project/Ceylon.g:867:7: ( declarationOrStatement )*
+            loop52:
+            do {
+                int alt52=2;
+                int LA52_0 = input.LA(1);
+
+                if ( (LA52_0==ASSIGN||LA52_0==BREAK||(LA52_0 >= CHAR_LITERAL && LA52_0 <= CLASS_DEFINITION)||LA52_0==COMPILER_ANNOTATION||(LA52_0 >= COMPLEMENT_OP && LA52_0 <= DECREMENT_OP)||LA52_0==DIFFERENCE_OP||(LA52_0 >= EXISTS && LA52_0 <= EXTENDS)||(LA52_0 >= FLOAT_LITERAL && LA52_0 <= FUNCTION_MODIFIER)||LA52_0==IF_CLAUSE||LA52_0==INCREMENT_OP||LA52_0==INTERFACE_DEFINITION||LA52_0==IS_OP||LA52_0==LBRACE||LA52_0==LIDENTIFIER||LA52_0==LPAREN||(LA52_0 >= NATURAL_LITERAL && LA52_0 <= NONEMPTY)||LA52_0==NOT_OP||LA52_0==OBJECT_DEFINITION||LA52_0==OUTER||LA52_0==QUOTED_LITERAL||(LA52_0 >= RETURN && LA52_0 <= RPAREN)||(LA52_0 >= SATISFIES && LA52_0 <= SEMICOLON)||LA52_0==STRING_LITERAL||(LA52_0 >= SUM_OP && LA52_0 <= SWITCH_CLAUSE)||(LA52_0 >= THIS && LA52_0 <= UIDENTIFIER)||(LA52_0 >= VALUE_MODIFIER && LA52_0 <= WHILE_CLAUSE)) ) {
+                    alt52=1;
+                }
+
+
+                switch (alt52) {
+            	case 1 :
+            	    // /root/project/Ceylon.g:868:9: declarationOrStatement
+            	    {
+            	    pushFollow(FOLLOW_declarationOrStatement_in_interfaceBody3551);
+            	    declarationOrStatement83=declarationOrStatement();
+
+            	    state._fsp--;
+            	    if (state.failed) return interfaceBody;
+
+            	    if ( state.backtracking==0 ) { if (declarationOrStatement83!=null)
+            	                  interfaceBody.addStatement(declarationOrStatement83); }
+
+            	    }
+            	    break;
+
+            	default :
+            	    break loop52;
+                }
+            } while (true);
+
+
+            RBRACE84=(Token)match(input,RBRACE,FOLLOW_RBRACE_in_interfaceBody3578); if (state.failed) return interfaceBody;
+
+            if ( state.backtracking==0 ) { interfaceBody.setEndToken(RBRACE84); }
+
+            }
+
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return interfaceBody;
+    }
+    // $ANTLR end "interfaceBody"
+
+
+
+    // $ANTLR start "classBody"
+    // /root/project/Ceylon.g:877:1: classBody returns [ClassBody classBody] : LBRACE ( declarationOrStatement )* RBRACE ;
+    public final ClassBody classBody() throws RecognitionException {
+        ClassBody classBody = null;
+
+
+        Token LBRACE85=null;
+        Token RBRACE87=null;
+        Statement declarationOrStatement86 =null;
+
+
+        try {
+            // /root/project/Ceylon.g:878:5: ( LBRACE ( declarationOrStatement )* RBRACE )
+            // /root/project/Ceylon.g:878:7: LBRACE ( declarationOrStatement )* RBRACE
+            {
+            LBRACE85=(Token)match(input,LBRACE,FOLLOW_LBRACE_in_classBody3612); if (state.failed) return classBody;
+
+            if ( state.backtracking==0 ) { classBody = new ClassBody(LBRACE85); }
+
+            // /root/project/Ceylon.g:880:7: ( declarationOrStatement )*
+            loop53:
+            do {
+                int alt53=2;
+                int LA53_0 = input.LA(1);
+
+                if ( (LA53_0==ASSIGN||LA53_0==BREAK||(LA53_0 >= CHAR_LITERAL && LA53_0 <= CLASS_DEFINITION)||LA53_0==COMPILER_ANNOTATION||(LA53_0 >= COMPLEMENT_OP && LA53_0 <= DECREMENT_OP)||LA53_0==DIFFERENCE_OP||(LA53_0 >= EXISTS && LA53_0 <= EXTENDS)||(LA53_0 >= FLOAT_LITERAL && LA53_0 <= FUNCTION_MODIFIER)||LA53_0==IF_CLAUSE||LA53_0==INCREMENT_OP||LA53_0==INTERFACE_DEFINITION||LA53_0==IS_OP||LA53_0==LBRACE||LA53_0==LIDENTIFIER||LA53_0==LPAREN||(LA53_0 >= NATURAL_LITERAL && LA53_0 <= NONEMPTY)||LA53_0==NOT_OP||LA53_0==OBJECT_DEFINITION||LA53_0==OUTER||LA53_0==QUOTED_LITERAL||(LA53_0 >= RETURN && LA53_0 <= RPAREN)||(LA53_0 >= SATISFIES && LA53_0 <= SEMICOLON)||LA53_0==STRING_LITERAL||(LA53_0 >= SUM_OP && LA53_0 <= SWITCH_CLAUSE)||(LA53_0 >= THIS && LA53_0 <= UIDENTIFIER)||(LA53_0 >= VALUE_MODIFIER && LA53_0 <= WHILE_CLAUSE)) ) {
+                    alt53=1;
+                }
+
+
+                switch (alt53) {
+            	case 1 :
+            	    // /root/project/Ceylon.g:881:9: declarationOrStatement
+            	    {
+            	    pushFollow(FOLLOW_declarationOrStatement_in_classBody3638);
+            	    declarationOrStatement86=declarationOrStatement();
+
+            	    state._fsp--;
+            	    if (state.failed) return classBody;
+
+            	    if ( state.backtracking==0 ) { if (declarationOrStatement86!=null)
+            	                  classBody.addStatement(declarationOrStatement86); }
+
+            	    }
+            	    break;
+
+            	default :
+            	    break loop53;
+                }
+            } while (true);
+
+
+            RBRACE87=(Token)match(input,RBRACE,FOLLOW_RBRACE_in_classBody3665); if (state.failed) return classBody;
+
+            if ( state.backtracking==0 ) { classBody.setEndToken(RBRACE87); }
+
+            }
+
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return classBody;
+    }
+    // $ANTLR end "classBody"
+
+
+
+    // $ANTLR start "attributeBody"
+    // /root/project/Ceylon.g:894:1: attributeBody[StaticType type] returns [Node result] options {memoize=true; } : ({...}? =>b1= block | ( namedArguments )=> namedArguments |b2= block );
+    public final Node attributeBody(StaticType type) throws RecognitionException {
+        Node result = null;
+
+        int attributeBody_StartIndex = input.index();
+
+        Block b1 =null;
+
+        Block b2 =null;
+
+        NamedArgumentList namedArguments88 =null;
+
+
+        try {
+            if ( state.backtracking>0 && alreadyParsedRule(input, 25) ) { return result; }
+
+            // /root/project/Ceylon.g:896:5: ({...}? =>b1= block | ( namedArguments )=> namedArguments |b2= block )
+            int alt54=3;
+            int LA54_0 = input.LA(1);
+
+            if ( (LA54_0==LBRACE) ) {
+                int LA54_1 = input.LA(2);
+
+                if ( (( isBlockStart() )) ) {
+                    alt54=1;
+                }
+                else if ( (synpred1_Ceylon()) ) {
+                    alt54=2;
+                }
+                else if ( (true) ) {
+                    alt54=3;
+                }
+                else {
+                    if (state.backtracking>0) {state.failed=true; return result;}
+                    NoViableAltException nvae =
+                        new NoViableAltException("", 54, 1, input);
+
+                    throw nvae;
+
+                }
+            }
+            else {
+                if (state.backtracking>0) {state.failed=true; return result;}
+                NoViableAltException nvae =
+                    new NoViableAltException("", 54, 0, input);
+
+                throw nvae;
+
+            }
+            switch (alt54) {
+                case 1 :
+                    // /root/project/Ceylon.g:896:7: {...}? =>b1= block
+                    {
+                    if ( !(( isBlockStart() )) ) {
+                        if (state.backtracking>0) {state.failed=true; return result;}
+                        throw new FailedPredicateException(input, "attributeBody", " isBlockStart() ");
+                    }
+
+                    pushFollow(FOLLOW_block_in_attributeBody3724);
+                    b1=block();
+
+                    state._fsp--;
+                    if (state.failed) return result;
+
+                    if ( state.backtracking==0 ) { result =b1; }
+
+                    }
+                    break;
+                case 2 :
+                    // /root/project/Ceylon.g:898:7: ( namedArguments )=> namedArguments
+                    {
+                    pushFollow(FOLLOW_namedArguments_in_attributeBody3752);
+                    namedArguments88=namedArguments();
+
+                    state._fsp--;
+                    if (state.failed) return result;
+
+                    if ( state.backtracking==0 ) { SpecifierExpression specifier = new SpecifierExpression(null);
+                            SimpleType t = type instanceof SimpleType ? (SimpleType) type : null;
+                            Expression e = new Expression(null);
+                            InvocationExpression ie = new InvocationExpression(null);
+                            BaseTypeExpression bme = new BaseTypeExpression(null);
+                            if (t!=null) bme.setIdentifier(t.getIdentifier());
+                            bme.setTypeArguments(new InferredTypeArguments(null));
+                            if (t!=null && t.getTypeArgumentList()!=null)
+                                bme.setTypeArguments(t.getTypeArgumentList());
+                            ie.setPrimary(bme);
+                            ie.setNamedArgumentList(namedArguments88);
+                            e.setTerm(ie);
+                            specifier.setExpression(e);
+                            result =specifier; }
+
+                    }
+                    break;
+                case 3 :
+                    // /root/project/Ceylon.g:914:7: b2= block
+                    {
+                    pushFollow(FOLLOW_block_in_attributeBody3771);
+                    b2=block();
+
+                    state._fsp--;
+                    if (state.failed) return result;
+
+                    if ( state.backtracking==0 ) { result =b2; }
+
+                    }
+                    break;
+
+            }
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
+            if ( state.backtracking>0 ) { memoize(input, 25, attributeBody_StartIndex); }
+
+        }
+        return result;
+    }
+    // $ANTLR end "attributeBody"
+
+
+
+    // $ANTLR start "methodBody"
+    // /root/project/Ceylon.g:922:1: methodBody[StaticType type] returns [Block block] options {memoize=true; } : ({...}? =>b1= block | ( namedArguments )=> namedArguments |b2= block );
+    public final Block methodBody(StaticType type) throws RecognitionException {
+        Block block = null;
+
+        int methodBody_StartIndex = input.index();
+
+        Block b1 =null;
+
+        Block b2 =null;
+
+        NamedArgumentList namedArguments89 =null;
+
+
+        try {
+            if ( state.backtracking>0 && alreadyParsedRule(input, 26) ) { return block; }
+
+            // /root/project/Ceylon.g:924:5: ({...}? =>b1= block | ( namedArguments )=> namedArguments |b2= block )
+            int alt55=3;
+            int LA55_0 = input.LA(1);
+
+            if ( (LA55_0==LBRACE) ) {
+                int LA55_1 = input.LA(2);
+
+                if ( (( isBlockStart() )) ) {
+                    alt55=1;
+                }
+                else if ( (synpred2_Ceylon()) ) {
+                    alt55=2;
+                }
+                else if ( (true) ) {
+                    alt55=3;
+                }
+                else {
+                    if (state.backtracking>0) {state.failed=true; return block;}
+                    NoViableAltException nvae =
+                        new NoViableAltException("", 55, 1, input);
+
+                    throw nvae;
+
+                }
+            }
+            else {
+                if (state.backtracking>0) {state.failed=true; return block;}
+                NoViableAltException nvae =
+                    new NoViableAltException("", 55, 0, input);
+
+                throw nvae;
+
+            }
+            switch (alt55) {
+                case 1 :
+                    // /root/project/Ceylon.g:924:7: {...}? =>b1= block
+                    {
+                    if ( !(( isBlockStart() )) ) {
+                        if (state.backtracking>0) {state.failed=true; return block;}
+                        throw new FailedPredicateException(input, "methodBody", " isBlockStart() ");
+                    }
+
+                    pushFollow(FOLLOW_block_in_methodBody3827);
+                    b1=block();
+
+                    state._fsp--;
+                    if (state.failed) return block;
+
+                    if ( state.backtracking==0 ) { block =b1; }
+
+                    }
+                    break;
+                case 2 :
+                    // /root/project/Ceylon.g:926:7: ( namedArguments )=> namedArguments
+                    {
+                    pushFollow(FOLLOW_namedArguments_in_methodBody3855);
+                    namedArguments89=namedArguments();
+
+                    state._fsp--;
+                    if (state.failed) return block;
+
+                    if ( state.backtracking==0 ) { block = new Block(null);
+                            SimpleType t = type instanceof SimpleType ? (SimpleType) type : null;
+                            Return r = new Return(null);
+                            Expression e = new Expression(null);
+                            InvocationExpression ie = new InvocationExpression(null);
+                            BaseTypeExpression bme = new BaseTypeExpression(null);
+                            if (t!=null) bme.setIdentifier(t.getIdentifier());
+                            bme.setTypeArguments(new InferredTypeArguments(null));
+                            if (t!=null && t.getTypeArgumentList()!=null)
+                                bme.setTypeArguments(t.getTypeArgumentList());
+                            ie.setPrimary(bme);
+                            ie.setNamedArgumentList(namedArguments89);
+                            e.setTerm(ie);
+                            r.setExpression(e);
+                            block.addStatement(r); }
+
+                    }
+                    break;
+                case 3 :
+                    // /root/project/Ceylon.g:944:7: b2= block
+                    {
+                    pushFollow(FOLLOW_block_in_methodBody3879);
+                    b2=block();
+
+                    state._fsp--;
+                    if (state.failed) return block;
+
+                    if ( state.backtracking==0 ) { block =b2; }
+
+                    }
+                    break;
+
+            }
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
+            if ( state.backtracking>0 ) { memoize(input, 26, methodBody_StartIndex); }
+
+        }
+        return block;
+    }
+    // $ANTLR end "methodBody"
+
+
+
+    // $ANTLR start "extendedType"
+    // /root/project/Ceylon.g:948:1: extendedType returns [ExtendedType extendedType] : EXTENDS ( qualifiedType | SUPER MEMBER_OP typeReference ) ( positionalArguments |) ;
+    public final ExtendedType extendedType() throws RecognitionException {
+        ExtendedType extendedType = null;
+
+
+        Token EXTENDS90=null;
+        Token SUPER92=null;
+        SimpleType qualifiedType91 =null;
+
+        CeylonParser.typeReference_return typeReference93 =null;
+
+        PositionalArgumentList positionalArguments94 =null;
+
+
+        try {
+            // /root/project/Ceylon.g:949:5: ( EXTENDS ( qualifiedType | SUPER MEMBER_OP typeReference ) ( positionalArguments |) )
+            // /root/project/Ceylon.g:949:7: EXTENDS ( qualifiedType | SUPER MEMBER_OP typeReference ) ( positionalArguments |)
+            {
+            EXTENDS90=(Token)match(input,EXTENDS,FOLLOW_EXTENDS_in_extendedType3910); if (state.failed) return extendedType;
+
+            if ( state.backtracking==0 ) { extendedType = new ExtendedType(EXTENDS90); }
+
+            // /root/project/Ceylon.g:951:7: ( qualifiedType | SUPER MEMBER_OP typeReference )
+            int alt56=2;
+            int LA56_0 = input.LA(1);
+
+            if ( (LA56_0==UIDENTIFIER) ) {
+                alt56=1;
+            }
+            else if ( (LA56_0==SUPER) ) {
+                alt56=2;
+            }
+            else {
+                if (state.backtracking>0) {state.failed=true; return extendedType;}
+                NoViableAltException nvae =
+                    new NoViableAltException("", 56, 0, input);
+
+                throw nvae;
+
+            }
+            switch (alt56) {
+                case 1 :
+                    // /root/project/Ceylon.g:952:9: qualifiedType
+                    {
+                    pushFollow(FOLLOW_qualifiedType_in_extendedType3936);
+                    qualifiedType91=qualifiedType();
+
+                    state._fsp--;
+                    if (state.failed) return extendedType;
+
+                    if ( state.backtracking==0 ) { extendedType.setType(qualifiedType91); }
+
+                    }
+                    break;
+                case 2 :
+                    // /root/project/Ceylon.g:955:9: SUPER MEMBER_OP typeReference
+                    {
+                    SUPER92=(Token)match(input,SUPER,FOLLOW_SUPER_in_extendedType3965); if (state.failed) return extendedType;
+
+                    match(input,MEMBER_OP,FOLLOW_MEMBER_OP_in_extendedType3967); if (state.failed) return extendedType;
+
+                    pushFollow(FOLLOW_typeReference_in_extendedType3978);
+                    typeReference93=typeReference();
+
+                    state._fsp--;
+                    if (state.failed) return extendedType;
+
+                    if ( state.backtracking==0 ) { QualifiedType qt=new QualifiedType(null);
+                              SuperType st = new SuperType(SUPER92);
+                              qt.setOuterType(st);
+                              qt.setIdentifier((typeReference93!=null?typeReference93.identifier:null));
+                              if ((typeReference93!=null?typeReference93.typeArgumentList:null)!=null)
+                                  qt.setTypeArgumentList((typeReference93!=null?typeReference93.typeArgumentList:null));
+                              extendedType.setType(qt); }
+
+                    }
+                    break;
+
+            }
+
+
+            // /root/project/Ceylon.g:966:7: ( positionalArguments |)
+            int alt57=2;
+            int LA57_0 = input.LA(1);
+
+            if ( (LA57_0==LPAREN) ) {
+                alt57=1;
+            }
+            else if ( (LA57_0==COMPILER_ANNOTATION||LA57_0==LBRACE||(LA57_0 >= SATISFIES && LA57_0 <= SEMICOLON)||LA57_0==SPECIFY||LA57_0==TYPE_CONSTRAINT) ) {
+                alt57=2;
+            }
+            else {
+                if (state.backtracking>0) {state.failed=true; return extendedType;}
+                NoViableAltException nvae =
+                    new NoViableAltException("", 57, 0, input);
+
+                throw nvae;
+
+            }
+            switch (alt57) {
+                case 1 :
+                    // /root/project/Ceylon.g:967:9: positionalArguments
+                    {
+                    pushFollow(FOLLOW_positionalArguments_in_extendedType4024);
+                    positionalArguments94=positionalArguments();
+
+                    state._fsp--;
+                    if (state.failed) return extendedType;
+
+                    if ( state.backtracking==0 ) { InvocationExpression ie = new InvocationExpression(null);
+                              ExtendedTypeExpression ete = new ExtendedTypeExpression(null);
+                              ie.setPrimary(ete);
+                              ete.setExtendedType(extendedType.getType());
+                              ie.setPositionalArgumentList(positionalArguments94);
+                              extendedType.setInvocationExpression(ie); }
+
+                    }
+                    break;
+                case 2 :
+                    // /root/project/Ceylon.g:974:9: 
+                    {
+                    if ( state.backtracking==0 ) { displayRecognitionError(getTokenNames(),
+                                new MismatchedTokenException(LPAREN, input)); }
+
+                    }
+                    break;
+
+            }
+
+
+            }
+
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return extendedType;
+    }
+    // $ANTLR end "extendedType"
+
+
+
+    // $ANTLR start "satisfiedTypes"
+    // /root/project/Ceylon.g:979:1: satisfiedTypes returns [SatisfiedTypes satisfiedTypes] : SATISFIES t1= qualifiedType (i= INTERSECTION_OP (t2= qualifiedType |) )* ;
+    public final SatisfiedTypes satisfiedTypes() throws RecognitionException {
+        SatisfiedTypes satisfiedTypes = null;
+
+
+        Token i=null;
+        Token SATISFIES95=null;
+        SimpleType t1 =null;
+
+        SimpleType t2 =null;
+
+
+        try {
+            // /root/project/Ceylon.g:980:5: ( SATISFIES t1= qualifiedType (i= INTERSECTION_OP (t2= qualifiedType |) )* )
+            // /root/project/Ceylon.g:980:7: SATISFIES t1= qualifiedType (i= INTERSECTION_OP (t2= qualifiedType |) )*
+            {
+            SATISFIES95=(Token)match(input,SATISFIES,FOLLOW_SATISFIES_in_satisfiedTypes4073); if (state.failed) return satisfiedTypes;
+
+            if ( state.backtracking==0 ) { satisfiedTypes = new SatisfiedTypes(SATISFIES95); }
+
+            pushFollow(FOLLOW_qualifiedType_in_satisfiedTypes4092);
+            t1=qualifiedType();
+
+            state._fsp--;
+            if (state.failed) return satisfiedTypes;
+
+            if ( state.backtracking==0 ) { satisfiedTypes.addType(t1); }
+
+            // /root/project/Ceylon.g:984:7: (i= INTERSECTION_OP (t2= qualifiedType |) )*
+            loop59:
+            do {
+                int alt59=2;
+                int LA59_0 = input.LA(1);
+
+                if ( (LA59_0==INTERSECTION_OP) ) {
+                    alt59=1;
+                }
+
+
+                switch (alt59) {
+            	case 1 :
+            	    // /root/project/Ceylon.g:985:9: i= INTERSECTION_OP (t2= qualifiedType |)
+            	    {
+            	    i=(Token)match(input,INTERSECTION_OP,FOLLOW_INTERSECTION_OP_in_satisfiedTypes4121); if (state.failed) return satisfiedTypes;
+
+            	    if ( state.backtracking==0 ) { satisfiedTypes.setEndToken(i); }
+
+            	    // /root/project/Ceylon.g:987:9: (t2= qualifiedType |)
+            	    int alt58=2;
+            	    int LA58_0 = input.LA(1);
+
+            	    if ( (LA58_0==UIDENTIFIER) ) {
+            	        alt58=1;
+            	    }
+            	    else if ( (LA58_0==ABSTRACTED_TYPE||LA58_0==COMPILER_ANNOTATION||LA58_0==INTERSECTION_OP||LA58_0==LBRACE||LA58_0==SEMICOLON||LA58_0==SPECIFY||LA58_0==TYPE_CONSTRAINT) ) {
+            	        alt58=2;
+            	    }
+            	    else {
+            	        if (state.backtracking>0) {state.failed=true; return satisfiedTypes;}
+            	        NoViableAltException nvae =
+            	            new NoViableAltException("", 58, 0, input);
+
+            	        throw nvae;
+
+            	    }
+            	    switch (alt58) {
+            	        case 1 :
+            	            // /root/project/Ceylon.g:988:11: t2= qualifiedType
+            	            {
+            	            pushFollow(FOLLOW_qualifiedType_in_satisfiedTypes4155);
+            	            t2=qualifiedType();
+
+            	            state._fsp--;
+            	            if (state.failed) return satisfiedTypes;
+
+            	            if ( state.backtracking==0 ) { satisfiedTypes.addType(t2); 
+            	                        satisfiedTypes.setEndToken(null); }
+
+            	            }
+            	            break;
+            	        case 2 :
+            	            // /root/project/Ceylon.g:991:11: 
+            	            {
+            	            if ( state.backtracking==0 ) { displayRecognitionError(getTokenNames(),
+            	                          new MismatchedTokenException(UIDENTIFIER, input)); }
+
+            	            }
+            	            break;
+
+            	    }
+
+
+            	    }
+            	    break;
+
+            	default :
+            	    break loop59;
+                }
+            } while (true);
+
+
+            }
+
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return satisfiedTypes;
+    }
+    // $ANTLR end "satisfiedTypes"
+
+
+
+    // $ANTLR start "abstractedType"
+    // /root/project/Ceylon.g:998:1: abstractedType returns [AbstractedType abstractedType] : ABSTRACTED_TYPE qualifiedType ;
+    public final AbstractedType abstractedType() throws RecognitionException {
+        AbstractedType abstractedType = null;
+
+
+        Token ABSTRACTED_TYPE96=null;
+        SimpleType qualifiedType97 =null;
+
+
+        try {
+            // /root/project/Ceylon.g:999:5: ( ABSTRACTED_TYPE qualifiedType )
+            // /root/project/Ceylon.g:999:7: ABSTRACTED_TYPE qualifiedType
+            {
+            ABSTRACTED_TYPE96=(Token)match(input,ABSTRACTED_TYPE,FOLLOW_ABSTRACTED_TYPE_in_abstractedType4224); if (state.failed) return abstractedType;
+
+            if ( state.backtracking==0 ) { abstractedType = new AbstractedType(ABSTRACTED_TYPE96); }
+
+            pushFollow(FOLLOW_qualifiedType_in_abstractedType4240);
+            qualifiedType97=qualifiedType();
+
+            state._fsp--;
+            if (state.failed) return abstractedType;
+
+            if ( state.backtracking==0 ) { abstractedType.setType(qualifiedType97); }
+
+            }
+
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return abstractedType;
+    }
+    // $ANTLR end "abstractedType"
+
+
+
+    // $ANTLR start "adaptedTypes"
+    // /root/project/Ceylon.g:1005:1: adaptedTypes returns [AdaptedTypes adaptedTypes] : ADAPTED_TYPES t1= qualifiedType (i= INTERSECTION_OP (t2= qualifiedType |) )* ;
+    public final AdaptedTypes adaptedTypes() throws RecognitionException {
+        AdaptedTypes adaptedTypes = null;
+
+
+        Token i=null;
+        Token ADAPTED_TYPES98=null;
+        SimpleType t1 =null;
+
+        SimpleType t2 =null;
+
+
+        try {
+            // /root/project/Ceylon.g:1006:5: ( ADAPTED_TYPES t1= qualifiedType (i= INTERSECTION_OP (t2= qualifiedType |) )* )
+            // /root/project/Ceylon.g:1006:7: ADAPTED_TYPES t1= qualifiedType (i= INTERSECTION_OP (t2= qualifiedType |) )*
+            {
+            ADAPTED_TYPES98=(Token)match(input,ADAPTED_TYPES,FOLLOW_ADAPTED_TYPES_in_adaptedTypes4269); if (state.failed) return adaptedTypes;
+
+            if ( state.backtracking==0 ) { adaptedTypes = new AdaptedTypes(ADAPTED_TYPES98); }
+
+            pushFollow(FOLLOW_qualifiedType_in_adaptedTypes4288);
+            t1=qualifiedType();
+
+            state._fsp--;
+            if (state.failed) return adaptedTypes;
+
+            if ( state.backtracking==0 ) { adaptedTypes.addType(t1); }
+
+            // /root/project/Ceylon.g:1010:7: (i= INTERSECTION_OP (t2= qualifiedType |) )*
+            loop61:
+            do {
+                int alt61=2;
+                int LA61_0 = input.LA(1);
+
+                if ( (LA61_0==INTERSECTION_OP) ) {
+                    alt61=1;
+                }
+
+
+                switch (alt61) {
+            	case 1 :
+            	    // /root/project/Ceylon.g:1011:9: i= INTERSECTION_OP (t2= qualifiedType |)
+            	    {
+            	    i=(Token)match(input,INTERSECTION_OP,FOLLOW_INTERSECTION_OP_in_adaptedTypes4317); if (state.failed) return adaptedTypes;
+
+            	    if ( state.backtracking==0 ) { adaptedTypes.setEndToken(i); }
+
+            	    // /root/project/Ceylon.g:1013:9: (t2= qualifiedType |)
+            	    int alt60=2;
+            	    int LA60_0 = input.LA(1);
+
+            	    if ( (LA60_0==UIDENTIFIER) ) {
+            	        alt60=1;
+            	    }
+            	    else if ( (LA60_0==COMPILER_ANNOTATION||LA60_0==INTERSECTION_OP||LA60_0==LBRACE||(LA60_0 >= SATISFIES && LA60_0 <= SEMICOLON)||LA60_0==SPECIFY||LA60_0==TYPE_CONSTRAINT) ) {
+            	        alt60=2;
+            	    }
+            	    else {
+            	        if (state.backtracking>0) {state.failed=true; return adaptedTypes;}
+            	        NoViableAltException nvae =
+            	            new NoViableAltException("", 60, 0, input);
+
+            	        throw nvae;
+
+            	    }
+            	    switch (alt60) {
+            	        case 1 :
+            	            // /root/project/Ceylon.g:1014:11: t2= qualifiedType
+            	            {
+            	            pushFollow(FOLLOW_qualifiedType_in_adaptedTypes4352);
+            	            t2=qualifiedType();
+
+            	            state._fsp--;
+            	            if (state.failed) return adaptedTypes;
+
+            	            if ( state.backtracking==0 ) { adaptedTypes.addType(t2); 
+            	                        adaptedTypes.setEndToken(null); }
+
+            	            }
+            	            break;
+            	        case 2 :
+            	            // /root/project/Ceylon.g:1017:11: 
+            	            {
+            	            if ( state.backtracking==0 ) { displayRecognitionError(getTokenNames(),
+            	                          new MismatchedTokenException(UIDENTIFIER, input)); }
+
+            	            }
+            	            break;
+
+            	    }
+
+
+            	    }
+            	    break;
+
+            	default :
+            	    break loop61;
+                }
+            } while (true);
+
+
+            }
+
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return adaptedTypes;
+    }
+    // $ANTLR end "adaptedTypes"
+
+
+
+    // $ANTLR start "caseTypes"
+    // /root/project/Ceylon.g:1023:1: caseTypes returns [CaseTypes caseTypes] : CASE_TYPES ct1= caseType (u= UNION_OP (ct2= caseType |) )* ;
+    public final CaseTypes caseTypes() throws RecognitionException {
+        CaseTypes caseTypes = null;
+
+
+        Token u=null;
+        Token CASE_TYPES99=null;
+        CeylonParser.caseType_return ct1 =null;
+
+        CeylonParser.caseType_return ct2 =null;
+
+
+        try {
+            // /root/project/Ceylon.g:1024:5: ( CASE_TYPES ct1= caseType (u= UNION_OP (ct2= caseType |) )* )
+            // /root/project/Ceylon.g:1024:7: CASE_TYPES ct1= caseType (u= UNION_OP (ct2= caseType |) )*
+            {
+            CASE_TYPES99=(Token)match(input,CASE_TYPES,FOLLOW_CASE_TYPES_in_caseTypes4416); if (state.failed) return caseTypes;
+
+            if ( state.backtracking==0 ) { caseTypes = new CaseTypes(CASE_TYPES99); }
+
+            pushFollow(FOLLOW_caseType_in_caseTypes4434);
+            ct1=caseType();
+
+            state._fsp--;
+            if (state.failed) return caseTypes;
+
+            if ( state.backtracking==0 ) { if ((ct1!=null?ct1.type:null)!=null) caseTypes.addType((ct1!=null?ct1.type:null)); 
+                    if ((ct1!=null?ct1.instance:null)!=null) caseTypes.addBaseMemberExpression((ct1!=null?ct1.instance:null)); }
+
+            // /root/project/Ceylon.g:1029:7: (u= UNION_OP (ct2= caseType |) )*
+            loop63:
+            do {
+                int alt63=2;
+                int LA63_0 = input.LA(1);
+
+                if ( (LA63_0==UNION_OP) ) {
+                    alt63=1;
+                }
+
+
+                switch (alt63) {
+            	case 1 :
+            	    // /root/project/Ceylon.g:1030:9: u= UNION_OP (ct2= caseType |)
+            	    {
+            	    u=(Token)match(input,UNION_OP,FOLLOW_UNION_OP_in_caseTypes4463); if (state.failed) return caseTypes;
+
+            	    if ( state.backtracking==0 ) { caseTypes.setEndToken(u); }
+
+            	    // /root/project/Ceylon.g:1032:9: (ct2= caseType |)
+            	    int alt62=2;
+            	    int LA62_0 = input.LA(1);
+
+            	    if ( (LA62_0==LIDENTIFIER||LA62_0==UIDENTIFIER) ) {
+            	        alt62=1;
+            	    }
+            	    else if ( ((LA62_0 >= ABSTRACTED_TYPE && LA62_0 <= ADAPTED_TYPES)||LA62_0==COMPILER_ANNOTATION||LA62_0==EXTENDS||LA62_0==LBRACE||(LA62_0 >= SATISFIES && LA62_0 <= SEMICOLON)||LA62_0==SPECIFY||LA62_0==TYPE_CONSTRAINT||LA62_0==UNION_OP) ) {
+            	        alt62=2;
+            	    }
+            	    else {
+            	        if (state.backtracking>0) {state.failed=true; return caseTypes;}
+            	        NoViableAltException nvae =
+            	            new NoViableAltException("", 62, 0, input);
+
+            	        throw nvae;
+
+            	    }
+            	    switch (alt62) {
+            	        case 1 :
+            	            // /root/project/Ceylon.g:1033:11: ct2= caseType
+            	            {
+            	            pushFollow(FOLLOW_caseType_in_caseTypes4498);
+            	            ct2=caseType();
+
+            	            state._fsp--;
+            	            if (state.failed) return caseTypes;
+
+            	            if ( state.backtracking==0 ) { if ((ct2!=null?ct2.type:null)!=null) caseTypes.addType((ct2!=null?ct2.type:null)); 
+            	                        if ((ct2!=null?ct2.instance:null)!=null) caseTypes.addBaseMemberExpression((ct2!=null?ct2.instance:null)); 
+            	                        caseTypes.setEndToken(null); }
+
+            	            }
+            	            break;
+            	        case 2 :
+            	            // /root/project/Ceylon.g:1037:11: 
+            	            {
+            	            if ( state.backtracking==0 ) { displayRecognitionError(getTokenNames(),
+            	                          new MismatchedTokenException(UIDENTIFIER, input)); }
+
+            	            }
+            	            break;
+
+            	    }
+
+
+            	    }
+            	    break;
+
+            	default :
+            	    break loop63;
+                }
+            } while (true);
+
+
+            }
+
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return caseTypes;
+    }
+    // $ANTLR end "caseTypes"
+
+
+    public static class caseType_return extends ParserRuleReturnScope {
+        public SimpleType type;
+        public BaseMemberExpression instance;
+    };
+
+
+    // $ANTLR start "caseType"
+    // /root/project/Ceylon.g:1043:1: caseType returns [SimpleType type, BaseMemberExpression instance] : (t= qualifiedType | memberName );
+    public final CeylonParser.caseType_return caseType() throws RecognitionException {
+        CeylonParser.caseType_return retval = new CeylonParser.caseType_return();
+        retval.start = input.LT(1);
+
+
+        SimpleType t =null;
+
+        Identifier memberName100 =null;
+
+
+        try {
+            // /root/project/Ceylon.g:1044:5: (t= qualifiedType | memberName )
+            int alt64=2;
+            int LA64_0 = input.LA(1);
+
+            if ( (LA64_0==UIDENTIFIER) ) {
+                alt64=1;
+            }
+            else if ( (LA64_0==LIDENTIFIER) ) {
+                alt64=2;
+            }
+            else {
+                if (state.backtracking>0) {state.failed=true; return retval;}
+                NoViableAltException nvae =
+                    new NoViableAltException("", 64, 0, input);
+
+                throw nvae;
+
+            }
+            switch (alt64) {
+                case 1 :
+                    // /root/project/Ceylon.g:1044:7: t= qualifiedType
+                    {
+                    pushFollow(FOLLOW_qualifiedType_in_caseType4564);
+                    t=qualifiedType();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+
+                    if ( state.backtracking==0 ) { retval.type =t;}
+
+                    }
+                    break;
+                case 2 :
+                    // /root/project/Ceylon.g:1046:7: memberName
+                    {
+                    pushFollow(FOLLOW_memberName_in_caseType4581);
+                    memberName100=memberName();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+
+                    if ( state.backtracking==0 ) { retval.instance = new BaseMemberExpression(null);
+                            retval.instance.setIdentifier(memberName100);
+                            retval.instance.setTypeArguments( new InferredTypeArguments(null) ); }
+
+                    }
+                    break;
+
+            }
+            retval.stop = input.LT(-1);
+
+
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "caseType"
+
+
+
+    // $ANTLR start "parameters"
+    // /root/project/Ceylon.g:1059:1: parameters returns [ParameterList parameterList] : LPAREN (ap1= parameterDeclaration (c= COMMA ( (~ ( COMPILER_ANNOTATION | LIDENTIFIER | UIDENTIFIER ) )=>|ap2= parameterDeclaration ) )* )? RPAREN ;
+    public final ParameterList parameters() throws RecognitionException {
+        ParameterList parameterList = null;
+
+
+        Token c=null;
+        Token LPAREN101=null;
+        Token RPAREN102=null;
+        Parameter ap1 =null;
+
+        Parameter ap2 =null;
+
+
+        try {
+            // /root/project/Ceylon.g:1060:5: ( LPAREN (ap1= parameterDeclaration (c= COMMA ( (~ ( COMPILER_ANNOTATION | LIDENTIFIER | UIDENTIFIER ) )=>|ap2= parameterDeclaration ) )* )? RPAREN )
+            // /root/project/Ceylon.g:1060:7: LPAREN (ap1= parameterDeclaration (c= COMMA ( (~ ( COMPILER_ANNOTATION | LIDENTIFIER | UIDENTIFIER ) )=>|ap2= parameterDeclaration ) )* )? RPAREN
+            {
+            LPAREN101=(Token)match(input,LPAREN,FOLLOW_LPAREN_in_parameters4616); if (state.failed) return parameterList;
+
+            if ( state.backtracking==0 ) { parameterList =new ParameterList(LPAREN101); }
+
+            // /root/project/Ceylon.g:1062:7: (ap1= parameterDeclaration (c= COMMA ( (~ ( COMPILER_ANNOTATION | LIDENTIFIER | UIDENTIFIER ) )=>|ap2= parameterDeclaration ) )* )?
+            int alt67=2;
+            int LA67_0 = input.LA(1);
+
+            if ( (LA67_0==COMPILER_ANNOTATION||LA67_0==LIDENTIFIER||LA67_0==UIDENTIFIER||LA67_0==VOID_MODIFIER) ) {
+                alt67=1;
+            }
+            switch (alt67) {
+                case 1 :
+                    // /root/project/Ceylon.g:1063:9: ap1= parameterDeclaration (c= COMMA ( (~ ( COMPILER_ANNOTATION | LIDENTIFIER | UIDENTIFIER ) )=>|ap2= parameterDeclaration ) )*
+                    {
+                    pushFollow(FOLLOW_parameterDeclaration_in_parameters4644);
+                    ap1=parameterDeclaration();
+
+                    state._fsp--;
+                    if (state.failed) return parameterList;
+
+                    if ( state.backtracking==0 ) { if (ap1!=null)
+                                  parameterList.addParameter(ap1); }
+
+                    // /root/project/Ceylon.g:1066:9: (c= COMMA ( (~ ( COMPILER_ANNOTATION | LIDENTIFIER | UIDENTIFIER ) )=>|ap2= parameterDeclaration ) )*
+                    loop66:
+                    do {
+                        int alt66=2;
+                        int LA66_0 = input.LA(1);
+
+                        if ( (LA66_0==COMMA) ) {
+                            alt66=1;
+                        }
+
+
+                        switch (alt66) {
+                    	case 1 :
+                    	    // /root/project/Ceylon.g:1067:11: c= COMMA ( (~ ( COMPILER_ANNOTATION | LIDENTIFIER | UIDENTIFIER ) )=>|ap2= parameterDeclaration )
+                    	    {
+                    	    c=(Token)match(input,COMMA,FOLLOW_COMMA_in_parameters4679); if (state.failed) return parameterList;
+
+                    	    if ( state.backtracking==0 ) { parameterList.setEndToken(c); }
+
+                    	    // /root/project/Ceylon.g:1069:11: ( (~ ( COMPILER_ANNOTATION | LIDENTIFIER | UIDENTIFIER ) )=>|ap2= parameterDeclaration )
+                    	    int alt65=2;
+                    	    int LA65_0 = input.LA(1);
+
+                    	    if ( (LA65_0==RPAREN) && (synpred3_Ceylon())) {
+                    	        alt65=1;
+                    	    }
+                    	    else if ( (LA65_0==COMMA) && (synpred3_Ceylon())) {
+                    	        alt65=1;
+                    	    }
+                    	    else if ( (LA65_0==COMPILER_ANNOTATION||LA65_0==LIDENTIFIER||LA65_0==UIDENTIFIER||LA65_0==VOID_MODIFIER) ) {
+                    	        alt65=2;
+                    	    }
+                    	    else {
+                    	        if (state.backtracking>0) {state.failed=true; return parameterList;}
+                    	        NoViableAltException nvae =
+                    	            new NoViableAltException("", 65, 0, input);
+
+                    	        throw nvae;
+
+                    	    }
+                    	    switch (alt65) {
+                    	        case 1 :
+                    	            // /root/project/Ceylon.g:1070:13: (~ ( COMPILER_ANNOTATION | LIDENTIFIER | UIDENTIFIER ) )=>
+                    	            {
+                    	            if ( state.backtracking==0 ) { displayRecognitionError(getTokenNames(),
+                    	                            new MismatchedTokenException(UIDENTIFIER, input)); }
+
+                    	            }
+                    	            break;
+                    	        case 2 :
+                    	            // /root/project/Ceylon.g:1074:13: ap2= parameterDeclaration
+                    	            {
+                    	            pushFollow(FOLLOW_parameterDeclaration_in_parameters4776);
+                    	            ap2=parameterDeclaration();
+
+                    	            state._fsp--;
+                    	            if (state.failed) return parameterList;
+
+                    	            if ( state.backtracking==0 ) { parameterList.addParameter(ap2); 
+                    	                          parameterList.setEndToken(null); }
+
+                    	            }
+                    	            break;
+
+                    	    }
+
+
+                    	    }
+                    	    break;
+
+                    	default :
+                    	    break loop66;
+                        }
+                    } while (true);
+
+
+                    }
+                    break;
+
+            }
+
+
+            RPAREN102=(Token)match(input,RPAREN,FOLLOW_RPAREN_in_parameters4831); if (state.failed) return parameterList;
+
+            if ( state.backtracking==0 ) { parameterList.setEndToken(RPAREN102); }
+
+            }
+
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return parameterList;
+    }
+    // $ANTLR end "parameters"
+
+
+
+    // $ANTLR start "parametersStart"
+    // /root/project/Ceylon.g:1092:1: parametersStart : LPAREN ( annotatedDeclarationStart | RPAREN ) ;
+    public final void parametersStart() throws RecognitionException {
+        try {
+            // /root/project/Ceylon.g:1093:5: ( LPAREN ( annotatedDeclarationStart | RPAREN ) )
+            // /root/project/Ceylon.g:1093:7: LPAREN ( annotatedDeclarationStart | RPAREN )
+            {
+            match(input,LPAREN,FOLLOW_LPAREN_in_parametersStart4870); if (state.failed) return ;
+
+            // /root/project/Ceylon.g:1093:14: ( annotatedDeclarationStart | RPAREN )
+            int alt68=2;
+            int LA68_0 = input.LA(1);
+
+            if ( (LA68_0==ASSIGN||LA68_0==CLASS_DEFINITION||LA68_0==FUNCTION_MODIFIER||LA68_0==INTERFACE_DEFINITION||LA68_0==LIDENTIFIER||LA68_0==OBJECT_DEFINITION||LA68_0==UIDENTIFIER||(LA68_0 >= VALUE_MODIFIER && LA68_0 <= VOID_MODIFIER)) ) {
+                alt68=1;
+            }
+            else if ( (LA68_0==RPAREN) ) {
+                alt68=2;
+            }
+            else {
+                if (state.backtracking>0) {state.failed=true; return ;}
+                NoViableAltException nvae =
+                    new NoViableAltException("", 68, 0, input);
+
+                throw nvae;
+
+            }
+            switch (alt68) {
+                case 1 :
+                    // /root/project/Ceylon.g:1093:16: annotatedDeclarationStart
+                    {
+                    pushFollow(FOLLOW_annotatedDeclarationStart_in_parametersStart4874);
+                    annotatedDeclarationStart();
+
+                    state._fsp--;
+                    if (state.failed) return ;
+
+                    }
+                    break;
+                case 2 :
+                    // /root/project/Ceylon.g:1093:44: RPAREN
+                    {
+                    match(input,RPAREN,FOLLOW_RPAREN_in_parametersStart4878); if (state.failed) return ;
+
+                    }
+                    break;
+
+            }
+
+
+            }
+
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return ;
+    }
+    // $ANTLR end "parametersStart"
+
+
+
+    // $ANTLR start "parameter"
+    // /root/project/Ceylon.g:1100:1: parameter returns [Parameter parameter] : parameterType memberName ( ( valueParameter )? | ( parameters )+ ) ( specifier )? ;
+    public final Parameter parameter() throws RecognitionException {
+        Parameter parameter = null;
+
+
+        Type parameterType103 =null;
+
+        Identifier memberName104 =null;
+
+        ParameterList parameters105 =null;
+
+        SpecifierExpression specifier106 =null;
+
+
+         ValueParameterDeclaration vp = new ValueParameterDeclaration(null); 
+                    FunctionalParameterDeclaration fp = new FunctionalParameterDeclaration(null); 
+                    parameter = vp; 
+        try {
+            // /root/project/Ceylon.g:1104:5: ( parameterType memberName ( ( valueParameter )? | ( parameters )+ ) ( specifier )? )
+            // /root/project/Ceylon.g:1104:7: parameterType memberName ( ( valueParameter )? | ( parameters )+ ) ( specifier )?
+            {
+            pushFollow(FOLLOW_parameterType_in_parameter4918);
+            parameterType103=parameterType();
+
+            state._fsp--;
+            if (state.failed) return parameter;
+
+            if ( state.backtracking==0 ) { vp.setType(parameterType103); }
+
+            if ( state.backtracking==0 ) { fp.setType(parameterType103); }
+
+            pushFollow(FOLLOW_memberName_in_parameter4942);
+            memberName104=memberName();
+
+            state._fsp--;
+            if (state.failed) return parameter;
+
+            if ( state.backtracking==0 ) { vp.setIdentifier(memberName104); }
+
+            if ( state.backtracking==0 ) { fp.setIdentifier(memberName104); }
+
+            // /root/project/Ceylon.g:1110:7: ( ( valueParameter )? | ( parameters )+ )
+            int alt71=2;
+            int LA71_0 = input.LA(1);
+
+            if ( (LA71_0==COMMA||LA71_0==ENTRY_OP||LA71_0==RPAREN||LA71_0==SPECIFY) ) {
+                alt71=1;
+            }
+            else if ( (LA71_0==LPAREN) ) {
+                alt71=2;
+            }
+            else {
+                if (state.backtracking>0) {state.failed=true; return parameter;}
+                NoViableAltException nvae =
+                    new NoViableAltException("", 71, 0, input);
+
+                throw nvae;
+
+            }
+            switch (alt71) {
+                case 1 :
+                    // /root/project/Ceylon.g:1111:9: ( valueParameter )?
+                    {
+                    // /root/project/Ceylon.g:1111:9: ( valueParameter )?
+                    int alt69=2;
+                    int LA69_0 = input.LA(1);
+
+                    if ( (LA69_0==ENTRY_OP) ) {
+                        alt69=1;
+                    }
+                    switch (alt69) {
+                        case 1 :
+                            // /root/project/Ceylon.g:1112:11: valueParameter
+                            {
+                            pushFollow(FOLLOW_valueParameter_in_parameter4988);
+                            valueParameter();
+
+                            state._fsp--;
+                            if (state.failed) return parameter;
+
+                            }
+                            break;
+
+                    }
+
+
+                    }
+                    break;
+                case 2 :
+                    // /root/project/Ceylon.g:1116:9: ( parameters )+
+                    {
+                    // /root/project/Ceylon.g:1116:9: ( parameters )+
+                    int cnt70=0;
+                    loop70:
+                    do {
+                        int alt70=2;
+                        int LA70_0 = input.LA(1);
+
+                        if ( (LA70_0==LPAREN) ) {
+                            alt70=1;
+                        }
+
+
+                        switch (alt70) {
+                    	case 1 :
+                    	    // /root/project/Ceylon.g:1117:11: parameters
+                    	    {
+                    	    pushFollow(FOLLOW_parameters_in_parameter5038);
+                    	    parameters105=parameters();
+
+                    	    state._fsp--;
+                    	    if (state.failed) return parameter;
+
+                    	    if ( state.backtracking==0 ) { fp.addParameterList(parameters105); }
+
+                    	    }
+                    	    break;
+
+                    	default :
+                    	    if ( cnt70 >= 1 ) break loop70;
+                    	    if (state.backtracking>0) {state.failed=true; return parameter;}
+                                EarlyExitException eee =
+                                    new EarlyExitException(70, input);
+                                throw eee;
+                        }
+                        cnt70++;
+                    } while (true);
+
+
+                    if ( state.backtracking==0 ) { parameter =fp; }
+
+                    }
+                    break;
+
+            }
+
+
+            // /root/project/Ceylon.g:1124:7: ( specifier )?
+            int alt72=2;
+            int LA72_0 = input.LA(1);
+
+            if ( (LA72_0==SPECIFY) ) {
+                alt72=1;
+            }
+            switch (alt72) {
+                case 1 :
+                    // /root/project/Ceylon.g:1125:9: specifier
+                    {
+                    pushFollow(FOLLOW_specifier_in_parameter5117);
+                    specifier106=specifier();
+
+                    state._fsp--;
+                    if (state.failed) return parameter;
+
+                    if ( state.backtracking==0 ) { DefaultArgument da = new DefaultArgument(null);
+                              parameter.setDefaultArgument(da);
+                              da.setSpecifierExpression(specifier106); }
+
+                    }
+                    break;
+
+            }
+
+
+            }
+
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return parameter;
+    }
+    // $ANTLR end "parameter"
+
+
+
+    // $ANTLR start "parameterDeclaration"
+    // /root/project/Ceylon.g:1132:1: parameterDeclaration returns [Parameter parameter] : compilerAnnotations annotations p= parameter ;
+    public final Parameter parameterDeclaration() throws RecognitionException {
+        Parameter parameter = null;
+
+
+        Parameter p =null;
+
+        AnnotationList annotations107 =null;
+
+        List<CompilerAnnotation> compilerAnnotations108 =null;
+
+
+        try {
+            // /root/project/Ceylon.g:1133:5: ( compilerAnnotations annotations p= parameter )
+            // /root/project/Ceylon.g:1133:7: compilerAnnotations annotations p= parameter
+            {
+            pushFollow(FOLLOW_compilerAnnotations_in_parameterDeclaration5157);
+            compilerAnnotations108=compilerAnnotations();
+
+            state._fsp--;
+            if (state.failed) return parameter;
+
+            pushFollow(FOLLOW_annotations_in_parameterDeclaration5165);
+            annotations107=annotations();
+
+            state._fsp--;
+            if (state.failed) return parameter;
+
+            pushFollow(FOLLOW_parameter_in_parameterDeclaration5176);
+            p=parameter();
+
+            state._fsp--;
+            if (state.failed) return parameter;
+
+            if ( state.backtracking==0 ) { parameter =p;
+                    parameter.setAnnotationList(annotations107); }
+
+            if ( state.backtracking==0 ) { if (parameter!=null)
+                    parameter.getCompilerAnnotations().addAll(compilerAnnotations108); }
+
+            }
+
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return parameter;
+    }
+    // $ANTLR end "parameterDeclaration"
+
+
+
+    // $ANTLR start "valueParameter"
+    // /root/project/Ceylon.g:1142:1: valueParameter : ENTRY_OP type memberName ;
+    public final void valueParameter() throws RecognitionException {
+        try {
+            // /root/project/Ceylon.g:1143:5: ( ENTRY_OP type memberName )
+            // /root/project/Ceylon.g:1143:7: ENTRY_OP type memberName
+            {
+            match(input,ENTRY_OP,FOLLOW_ENTRY_OP_in_valueParameter5209); if (state.failed) return ;
+
+            pushFollow(FOLLOW_type_in_valueParameter5211);
+            type();
+
+            state._fsp--;
+            if (state.failed) return ;
+
+            pushFollow(FOLLOW_memberName_in_valueParameter5213);
+            memberName();
+
+            state._fsp--;
+            if (state.failed) return ;
+
+            }
+
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return ;
+    }
+    // $ANTLR end "valueParameter"
+
+
+
+    // $ANTLR start "parameterType"
+    // /root/project/Ceylon.g:1146:1: parameterType returns [Type type] : ( type ( ELLIPSIS )? | VOID_MODIFIER );
+    public final Type parameterType() throws RecognitionException {
+        Type type = null;
+
+
+        Token ELLIPSIS110=null;
+        Token VOID_MODIFIER111=null;
+        StaticType type109 =null;
+
+
+        try {
+            // /root/project/Ceylon.g:1147:5: ( type ( ELLIPSIS )? | VOID_MODIFIER )
+            int alt74=2;
+            int LA74_0 = input.LA(1);
+
+            if ( (LA74_0==UIDENTIFIER) ) {
+                alt74=1;
+            }
+            else if ( (LA74_0==VOID_MODIFIER) ) {
+                alt74=2;
+            }
+            else {
+                if (state.backtracking>0) {state.failed=true; return type;}
+                NoViableAltException nvae =
+                    new NoViableAltException("", 74, 0, input);
+
+                throw nvae;
+
+            }
+            switch (alt74) {
+                case 1 :
+                    // /root/project/Ceylon.g:1147:7: type ( ELLIPSIS )?
+                    {
+                    pushFollow(FOLLOW_type_in_parameterType5234);
+                    type109=type();
+
+                    state._fsp--;
+                    if (state.failed) return type;
+
+                    if ( state.backtracking==0 ) { type = type109; }
+
+                    // /root/project/Ceylon.g:1149:7: ( ELLIPSIS )?
+                    int alt73=2;
+                    int LA73_0 = input.LA(1);
+
+                    if ( (LA73_0==ELLIPSIS) ) {
+                        alt73=1;
+                    }
+                    switch (alt73) {
+                        case 1 :
+                            // /root/project/Ceylon.g:1150:9: ELLIPSIS
+                            {
+                            ELLIPSIS110=(Token)match(input,ELLIPSIS,FOLLOW_ELLIPSIS_in_parameterType5262); if (state.failed) return type;
+
+                            if ( state.backtracking==0 ) { SequencedType st = new SequencedType(ELLIPSIS110);
+                                      st.setType(type);
+                                      type = st; }
+
+                            }
+                            break;
+
+                    }
+
+
+                    }
+                    break;
+                case 2 :
+                    // /root/project/Ceylon.g:1155:7: VOID_MODIFIER
+                    {
+                    VOID_MODIFIER111=(Token)match(input,VOID_MODIFIER,FOLLOW_VOID_MODIFIER_in_parameterType5289); if (state.failed) return type;
+
+                    if ( state.backtracking==0 ) { type = new VoidModifier(VOID_MODIFIER111); }
+
+                    }
+                    break;
+
+            }
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return type;
+    }
+    // $ANTLR end "parameterType"
+
+
+
+    // $ANTLR start "typeParameters"
+    // /root/project/Ceylon.g:1159:1: typeParameters returns [TypeParameterList typeParameterList] : SMALLER_OP tp1= typeParameter (c= COMMA (tp2= typeParameter |) )* LARGER_OP ;
+    public final TypeParameterList typeParameters() throws RecognitionException {
+        TypeParameterList typeParameterList = null;
+
+
+        Token c=null;
+        Token SMALLER_OP112=null;
+        Token LARGER_OP113=null;
+        Declaration tp1 =null;
+
+        Declaration tp2 =null;
+
+
+        try {
+            // /root/project/Ceylon.g:1160:5: ( SMALLER_OP tp1= typeParameter (c= COMMA (tp2= typeParameter |) )* LARGER_OP )
+            // /root/project/Ceylon.g:1160:7: SMALLER_OP tp1= typeParameter (c= COMMA (tp2= typeParameter |) )* LARGER_OP
+            {
+            SMALLER_OP112=(Token)match(input,SMALLER_OP,FOLLOW_SMALLER_OP_in_typeParameters5318); if (state.failed) return typeParameterList;
+
+            if ( state.backtracking==0 ) { typeParameterList = new TypeParameterList(SMALLER_OP112); }
+
+            pushFollow(FOLLOW_typeParameter_in_typeParameters5336);
+            tp1=typeParameter();
+
+            state._fsp--;
+            if (state.failed) return typeParameterList;
+
+            if ( state.backtracking==0 ) { if (tp1 instanceof TypeParameterDeclaration)
+                        typeParameterList.addTypeParameterDeclaration((TypeParameterDeclaration)tp1);
+                    if (tp1 instanceof SequencedTypeParameterDeclaration)
+                        typeParameterList.setSequencedTypeParameterDeclaration((SequencedTypeParameterDeclaration)tp1); }
+
+            // /root/project/Ceylon.g:1167:7: (c= COMMA (tp2= typeParameter |) )*
+            loop76:
+            do {
+                int alt76=2;
+                int LA76_0 = input.LA(1);
+
+                if ( (LA76_0==COMMA) ) {
+                    alt76=1;
+                }
+
+
+                switch (alt76) {
+            	case 1 :
+            	    // /root/project/Ceylon.g:1168:9: c= COMMA (tp2= typeParameter |)
+            	    {
+            	    c=(Token)match(input,COMMA,FOLLOW_COMMA_in_typeParameters5364); if (state.failed) return typeParameterList;
+
+            	    if ( state.backtracking==0 ) { typeParameterList.setEndToken(c); }
+
+            	    // /root/project/Ceylon.g:1170:9: (tp2= typeParameter |)
+            	    int alt75=2;
+            	    int LA75_0 = input.LA(1);
+
+            	    if ( (LA75_0==IN_OP||LA75_0==LIDENTIFIER||LA75_0==OUT||LA75_0==UIDENTIFIER) ) {
+            	        alt75=1;
+            	    }
+            	    else if ( (LA75_0==COMMA||LA75_0==LARGER_OP) ) {
+            	        alt75=2;
+            	    }
+            	    else {
+            	        if (state.backtracking>0) {state.failed=true; return typeParameterList;}
+            	        NoViableAltException nvae =
+            	            new NoViableAltException("", 75, 0, input);
+
+            	        throw nvae;
+
+            	    }
+            	    switch (alt75) {
+            	        case 1 :
+            	            // /root/project/Ceylon.g:1171:11: tp2= typeParameter
+            	            {
+            	            pushFollow(FOLLOW_typeParameter_in_typeParameters5398);
+            	            tp2=typeParameter();
+
+            	            state._fsp--;
+            	            if (state.failed) return typeParameterList;
+
+            	            if ( state.backtracking==0 ) { if (tp2 instanceof TypeParameterDeclaration)
+            	                            typeParameterList.addTypeParameterDeclaration((TypeParameterDeclaration)tp2);
+            	                        if (tp2 instanceof SequencedTypeParameterDeclaration)
+            	                            typeParameterList.setSequencedTypeParameterDeclaration((SequencedTypeParameterDeclaration)tp2); 
+            	                        typeParameterList.setEndToken(null); }
+
+            	            }
+            	            break;
+            	        case 2 :
+            	            // /root/project/Ceylon.g:1177:11: 
+            	            {
+            	            if ( state.backtracking==0 ) { displayRecognitionError(getTokenNames(), 
+            	                            new MismatchedTokenException(UIDENTIFIER, input)); }
+
+            	            }
+            	            break;
+
+            	    }
+
+
+            	    }
+            	    break;
+
+            	default :
+            	    break loop76;
+                }
+            } while (true);
+
+
+            LARGER_OP113=(Token)match(input,LARGER_OP,FOLLOW_LARGER_OP_in_typeParameters5449); if (state.failed) return typeParameterList;
+
+            if ( state.backtracking==0 ) { typeParameterList.setEndToken(LARGER_OP113); }
+
+            }
+
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return typeParameterList;
+    }
+    // $ANTLR end "typeParameters"
+
+
+
+    // $ANTLR start "typeParameter"
+    // /root/project/Ceylon.g:1186:1: typeParameter returns [Declaration typeParameter] : ( ( variance )? typeNameDeclaration | typeNameDeclaration ELLIPSIS );
+    public final Declaration typeParameter() throws RecognitionException {
+        Declaration typeParameter = null;
+
+
+        Token ELLIPSIS117=null;
+        TypeVariance variance114 =null;
+
+        Identifier typeNameDeclaration115 =null;
+
+        Identifier typeNameDeclaration116 =null;
+
+
+         TypeParameterDeclaration tpd = new TypeParameterDeclaration(null);
+                    SequencedTypeParameterDeclaration spd = new SequencedTypeParameterDeclaration(null); 
+        try {
+            // /root/project/Ceylon.g:1189:5: ( ( variance )? typeNameDeclaration | typeNameDeclaration ELLIPSIS )
+            int alt78=2;
+            switch ( input.LA(1) ) {
+            case IN_OP:
+            case OUT:
+                {
+                alt78=1;
+                }
+                break;
+            case UIDENTIFIER:
+                {
+                int LA78_2 = input.LA(2);
+
+                if ( (LA78_2==COMMA||LA78_2==LARGER_OP) ) {
+                    alt78=1;
+                }
+                else if ( (LA78_2==ELLIPSIS) ) {
+                    alt78=2;
+                }
+                else {
+                    if (state.backtracking>0) {state.failed=true; return typeParameter;}
+                    NoViableAltException nvae =
+                        new NoViableAltException("", 78, 2, input);
+
+                    throw nvae;
+
+                }
+                }
+                break;
+            case LIDENTIFIER:
+                {
+                int LA78_3 = input.LA(2);
+
+                if ( (LA78_3==COMMA||LA78_3==LARGER_OP) ) {
+                    alt78=1;
+                }
+                else if ( (LA78_3==ELLIPSIS) ) {
+                    alt78=2;
+                }
+                else {
+                    if (state.backtracking>0) {state.failed=true; return typeParameter;}
+                    NoViableAltException nvae =
+                        new NoViableAltException("", 78, 3, input);
+
+                    throw nvae;
+
+                }
+                }
+                break;
+            default:
+                if (state.backtracking>0) {state.failed=true; return typeParameter;}
+                NoViableAltException nvae =
+                    new NoViableAltException("", 78, 0, input);
+
+                throw nvae;
+
+            }
+
+            switch (alt78) {
+                case 1 :
+                    // /root/project/Ceylon.g:1189:7: ( variance )? typeNameDeclaration
+                    {
+                    if ( state.backtracking==0 ) { typeParameter = tpd; }
+
+                    // /root/project/Ceylon.g:1190:7: ( variance )?
+                    int alt77=2;
+                    int LA77_0 = input.LA(1);
+
+                    if ( (LA77_0==IN_OP||LA77_0==OUT) ) {
+                        alt77=1;
+                    }
+                    switch (alt77) {
+                        case 1 :
+                            // /root/project/Ceylon.g:1191:9: variance
+                            {
+                            pushFollow(FOLLOW_variance_in_typeParameter5511);
+                            variance114=variance();
+
+                            state._fsp--;
+                            if (state.failed) return typeParameter;
+
+                            if ( state.backtracking==0 ) { tpd.setTypeVariance(variance114); }
+
+                            }
+                            break;
+
+                    }
+
+
+                    pushFollow(FOLLOW_typeNameDeclaration_in_typeParameter5541);
+                    typeNameDeclaration115=typeNameDeclaration();
+
+                    state._fsp--;
+                    if (state.failed) return typeParameter;
+
+                    if ( state.backtracking==0 ) { tpd.setIdentifier(typeNameDeclaration115); }
+
+                    }
+                    break;
+                case 2 :
+                    // /root/project/Ceylon.g:1197:7: typeNameDeclaration ELLIPSIS
+                    {
+                    if ( state.backtracking==0 ) { typeParameter = spd; }
+
+                    pushFollow(FOLLOW_typeNameDeclaration_in_typeParameter5571);
+                    typeNameDeclaration116=typeNameDeclaration();
+
+                    state._fsp--;
+                    if (state.failed) return typeParameter;
+
+                    if ( state.backtracking==0 ) { spd.setIdentifier(typeNameDeclaration116); }
+
+                    ELLIPSIS117=(Token)match(input,ELLIPSIS,FOLLOW_ELLIPSIS_in_typeParameter5588); if (state.failed) return typeParameter;
+
+                    if ( state.backtracking==0 ) { typeParameter.setEndToken(ELLIPSIS117); }
+
+                    }
+                    break;
+
+            }
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return typeParameter;
+    }
+    // $ANTLR end "typeParameter"
+
+
+
+    // $ANTLR start "variance"
+    // /root/project/Ceylon.g:1205:1: variance returns [TypeVariance typeVariance] : ( IN_OP | OUT );
+    public final TypeVariance variance() throws RecognitionException {
+        TypeVariance typeVariance = null;
+
+
+        Token IN_OP118=null;
+        Token OUT119=null;
+
+        try {
+            // /root/project/Ceylon.g:1206:5: ( IN_OP | OUT )
+            int alt79=2;
+            int LA79_0 = input.LA(1);
+
+            if ( (LA79_0==IN_OP) ) {
+                alt79=1;
+            }
+            else if ( (LA79_0==OUT) ) {
+                alt79=2;
+            }
+            else {
+                if (state.backtracking>0) {state.failed=true; return typeVariance;}
+                NoViableAltException nvae =
+                    new NoViableAltException("", 79, 0, input);
+
+                throw nvae;
+
+            }
+            switch (alt79) {
+                case 1 :
+                    // /root/project/Ceylon.g:1206:7: IN_OP
+                    {
+                    IN_OP118=(Token)match(input,IN_OP,FOLLOW_IN_OP_in_variance5622); if (state.failed) return typeVariance;
+
+                    if ( state.backtracking==0 ) { typeVariance = new TypeVariance(IN_OP118); }
+
+                    }
+                    break;
+                case 2 :
+                    // /root/project/Ceylon.g:1208:7: OUT
+                    {
+                    OUT119=(Token)match(input,OUT,FOLLOW_OUT_in_variance5639); if (state.failed) return typeVariance;
+
+                    if ( state.backtracking==0 ) { typeVariance = new TypeVariance(OUT119); }
+
+                    }
+                    break;
+
+            }
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return typeVariance;
+    }
+    // $ANTLR end "variance"
+
+
+
+    // $ANTLR start "typeConstraint"
+    // /root/project/Ceylon.g:1212:1: typeConstraint returns [TypeConstraint typeConstraint] : compilerAnnotations TYPE_CONSTRAINT typeNameDeclaration ( parameters )? ( caseTypes )? ( satisfiedTypes )? ( abstractedType )? ;
+    public final TypeConstraint typeConstraint() throws RecognitionException {
+        TypeConstraint typeConstraint = null;
+
+
+        Token TYPE_CONSTRAINT120=null;
+        List<CompilerAnnotation> compilerAnnotations121 =null;
+
+        Identifier typeNameDeclaration122 =null;
+
+        ParameterList parameters123 =null;
+
+        CaseTypes caseTypes124 =null;
+
+        SatisfiedTypes satisfiedTypes125 =null;
+
+        AbstractedType abstractedType126 =null;
+
+
+        try {
+            // /root/project/Ceylon.g:1213:5: ( compilerAnnotations TYPE_CONSTRAINT typeNameDeclaration ( parameters )? ( caseTypes )? ( satisfiedTypes )? ( abstractedType )? )
+            // /root/project/Ceylon.g:1213:7: compilerAnnotations TYPE_CONSTRAINT typeNameDeclaration ( parameters )? ( caseTypes )? ( satisfiedTypes )? ( abstractedType )?
+            {
+            pushFollow(FOLLOW_compilerAnnotations_in_typeConstraint5673);
+            compilerAnnotations121=compilerAnnotations();
+
+            state._fsp--;
+            if (state.failed) return typeConstraint;
+
+            TYPE_CONSTRAINT120=(Token)match(input,TYPE_CONSTRAINT,FOLLOW_TYPE_CONSTRAINT_in_typeConstraint5681); if (state.failed) return typeConstraint;
+
+            if ( state.backtracking==0 ) { typeConstraint = new TypeConstraint(TYPE_CONSTRAINT120); 
+                    typeConstraint.getCompilerAnnotations().addAll(compilerAnnotations121); }
+
+            pushFollow(FOLLOW_typeNameDeclaration_in_typeConstraint5697);
+            typeNameDeclaration122=typeNameDeclaration();
+
+            state._fsp--;
+            if (state.failed) return typeConstraint;
+
+            if ( state.backtracking==0 ) { typeConstraint.setIdentifier(typeNameDeclaration122); }
+
+            // /root/project/Ceylon.g:1220:7: ( parameters )?
+            int alt80=2;
+            int LA80_0 = input.LA(1);
+
+            if ( (LA80_0==LPAREN) ) {
+                alt80=1;
+            }
+            switch (alt80) {
+                case 1 :
+                    // /root/project/Ceylon.g:1221:9: parameters
+                    {
+                    pushFollow(FOLLOW_parameters_in_typeConstraint5731);
+                    parameters123=parameters();
+
+                    state._fsp--;
+                    if (state.failed) return typeConstraint;
+
+                    if ( state.backtracking==0 ) { typeConstraint.setParameterList(parameters123); }
+
+                    }
+                    break;
+
+            }
+
+
+            // /root/project/Ceylon.g:1224:7: ( caseTypes )?
+            int alt81=2;
+            int LA81_0 = input.LA(1);
+
+            if ( (LA81_0==CASE_TYPES) ) {
+                alt81=1;
+            }
+            switch (alt81) {
+                case 1 :
+                    // /root/project/Ceylon.g:1225:9: caseTypes
+                    {
+                    pushFollow(FOLLOW_caseTypes_in_typeConstraint5768);
+                    caseTypes124=caseTypes();
+
+                    state._fsp--;
+                    if (state.failed) return typeConstraint;
+
+                    if ( state.backtracking==0 ) { typeConstraint.setCaseTypes(caseTypes124); }
+
+                    }
+                    break;
+
+            }
+
+
+            // /root/project/Ceylon.g:1229:7: ( satisfiedTypes )?
+            int alt82=2;
+            int LA82_0 = input.LA(1);
+
+            if ( (LA82_0==SATISFIES) ) {
+                alt82=1;
+            }
+            switch (alt82) {
+                case 1 :
+                    // /root/project/Ceylon.g:1230:9: satisfiedTypes
+                    {
+                    pushFollow(FOLLOW_satisfiedTypes_in_typeConstraint5812);
+                    satisfiedTypes125=satisfiedTypes();
+
+                    state._fsp--;
+                    if (state.failed) return typeConstraint;
+
+                    if ( state.backtracking==0 ) { typeConstraint.setSatisfiedTypes(satisfiedTypes125); }
+
+                    }
+                    break;
+
+            }
+
+
+            // /root/project/Ceylon.g:1233:7: ( abstractedType )?
+            int alt83=2;
+            int LA83_0 = input.LA(1);
+
+            if ( (LA83_0==ABSTRACTED_TYPE) ) {
+                alt83=1;
+            }
+            switch (alt83) {
+                case 1 :
+                    // /root/project/Ceylon.g:1234:9: abstractedType
+                    {
+                    pushFollow(FOLLOW_abstractedType_in_typeConstraint5850);
+                    abstractedType126=abstractedType();
+
+                    state._fsp--;
+                    if (state.failed) return typeConstraint;
+
+                    if ( state.backtracking==0 ) { typeConstraint.setAbstractedType(abstractedType126); }
+
+                    }
+                    break;
+
+            }
+
+
+            }
+
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return typeConstraint;
+    }
+    // $ANTLR end "typeConstraint"
+
+
+
+    // $ANTLR start "typeConstraints"
+    // /root/project/Ceylon.g:1239:1: typeConstraints returns [TypeConstraintList typeConstraintList] : ( typeConstraint )+ ;
+    public final TypeConstraintList typeConstraints() throws RecognitionException {
+        TypeConstraintList typeConstraintList = null;
+
+
+        TypeConstraint typeConstraint127 =null;
+
+
+        try {
+            // /root/project/Ceylon.g:1240:5: ( ( typeConstraint )+ )
+            // /root/project/Ceylon.g:1240:7: ( typeConstraint )+
+            {
+            if ( state.backtracking==0 ) { typeConstraintList =new TypeConstraintList(null); }
+
+            // /root/project/Ceylon.g:1241:7: ( typeConstraint )+
+            int cnt84=0;
+            loop84:
+            do {
+                int alt84=2;
+                int LA84_0 = input.LA(1);
+
+                if ( (LA84_0==COMPILER_ANNOTATION||LA84_0==TYPE_CONSTRAINT) ) {
+                    alt84=1;
+                }
+
+
+                switch (alt84) {
+            	case 1 :
+            	    // /root/project/Ceylon.g:1242:9: typeConstraint
+            	    {
+            	    pushFollow(FOLLOW_typeConstraint_in_typeConstraints5908);
+            	    typeConstraint127=typeConstraint();
+
+            	    state._fsp--;
+            	    if (state.failed) return typeConstraintList;
+
+            	    if ( state.backtracking==0 ) { typeConstraintList.addTypeConstraint(typeConstraint127); }
+
+            	    }
+            	    break;
+
+            	default :
+            	    if ( cnt84 >= 1 ) break loop84;
+            	    if (state.backtracking>0) {state.failed=true; return typeConstraintList;}
+                        EarlyExitException eee =
+                            new EarlyExitException(84, input);
+                        throw eee;
+                }
+                cnt84++;
+            } while (true);
+
+
+            }
+
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return typeConstraintList;
+    }
+    // $ANTLR end "typeConstraints"
+
+
+
+    // $ANTLR start "declarationOrStatement"
+    // /root/project/Ceylon.g:1248:1: declarationOrStatement returns [Statement statement] options {memoize=true; } : compilerAnnotations ({...}? =>d1= declaration |{...}? =>s1= statement | ( annotatedDeclarationStart )=>d2= declaration |s2= statement ) ;
+    public final Statement declarationOrStatement() throws RecognitionException {
+        Statement statement = null;
+
+        int declarationOrStatement_StartIndex = input.index();
+
+        Declaration d1 =null;
+
+        Statement s1 =null;
+
+        Declaration d2 =null;
+
+        Statement s2 =null;
+
+        List<CompilerAnnotation> compilerAnnotations128 =null;
+
+
+        try {
+            if ( state.backtracking>0 && alreadyParsedRule(input, 44) ) { return statement; }
+
+            // /root/project/Ceylon.g:1250:5: ( compilerAnnotations ({...}? =>d1= declaration |{...}? =>s1= statement | ( annotatedDeclarationStart )=>d2= declaration |s2= statement ) )
+            // /root/project/Ceylon.g:1250:7: compilerAnnotations ({...}? =>d1= declaration |{...}? =>s1= statement | ( annotatedDeclarationStart )=>d2= declaration |s2= statement )
+            {
+            pushFollow(FOLLOW_compilerAnnotations_in_declarationOrStatement5964);
+            compilerAnnotations128=compilerAnnotations();
+
+            state._fsp--;
+            if (state.failed) return statement;
+
+            // /root/project/Ceylon.g:1251:7: ({...}? =>d1= declaration |{...}? =>s1= statement | ( annotatedDeclarationStart )=>d2= declaration |s2= statement )
+            int alt85=4;
+            int LA85_0 = input.LA(1);
+
+            if ( (LA85_0==LIDENTIFIER) ) {
+                int LA85_1 = input.LA(2);
+
+                if ( (( isDeclarationStart() )) ) {
+                    alt85=1;
+                }
+                else if ( (( isStatementStart() )) ) {
+                    alt85=2;
+                }
+                else if ( (synpred4_Ceylon()) ) {
+                    alt85=3;
+                }
+                else if ( (true) ) {
+                    alt85=4;
+                }
+                else {
+                    if (state.backtracking>0) {state.failed=true; return statement;}
+                    NoViableAltException nvae =
+                        new NoViableAltException("", 85, 1, input);
+
+                    throw nvae;
+
+                }
+            }
+            else if ( (LA85_0==OBJECT_DEFINITION) && (( isDeclarationStart() ))) {
+                int LA85_2 = input.LA(2);
+
+                if ( (( isDeclarationStart() )) ) {
+                    alt85=1;
+                }
+                else if ( (synpred4_Ceylon()) ) {
+                    alt85=3;
+                }
+                else {
+                    if (state.backtracking>0) {state.failed=true; return statement;}
+                    NoViableAltException nvae =
+                        new NoViableAltException("", 85, 2, input);
+
+                    throw nvae;
+
+                }
+            }
+            else if ( (LA85_0==ASSIGN) && (( isDeclarationStart() ))) {
+                int LA85_3 = input.LA(2);
+
+                if ( (( isDeclarationStart() )) ) {
+                    alt85=1;
+                }
+                else if ( (synpred4_Ceylon()) ) {
+                    alt85=3;
+                }
+                else {
+                    if (state.backtracking>0) {state.failed=true; return statement;}
+                    NoViableAltException nvae =
+                        new NoViableAltException("", 85, 3, input);
+
+                    throw nvae;
+
+                }
+            }
+            else if ( (LA85_0==VOID_MODIFIER) && (( isDeclarationStart() ))) {
+                int LA85_4 = input.LA(2);
+
+                if ( (( isDeclarationStart() )) ) {
+                    alt85=1;
+                }
+                else if ( (synpred4_Ceylon()) ) {
+                    alt85=3;
+                }
+                else {
+                    if (state.backtracking>0) {state.failed=true; return statement;}
+                    NoViableAltException nvae =
+                        new NoViableAltException("", 85, 4, input);
+
+                    throw nvae;
+
+                }
+            }
+            else if ( (LA85_0==FUNCTION_MODIFIER) && (( isDeclarationStart() ))) {
+                int LA85_5 = input.LA(2);
+
+                if ( (( isDeclarationStart() )) ) {
+                    alt85=1;
+                }
+                else if ( (synpred4_Ceylon()) ) {
+                    alt85=3;
+                }
+                else {
+                    if (state.backtracking>0) {state.failed=true; return statement;}
+                    NoViableAltException nvae =
+                        new NoViableAltException("", 85, 5, input);
+
+                    throw nvae;
+
+                }
+            }
+            else if ( (LA85_0==VALUE_MODIFIER) && (( isDeclarationStart() ))) {
+                int LA85_6 = input.LA(2);
+
+                if ( (( isDeclarationStart() )) ) {
+                    alt85=1;
+                }
+                else if ( (synpred4_Ceylon()) ) {
+                    alt85=3;
+                }
+                else {
+                    if (state.backtracking>0) {state.failed=true; return statement;}
+                    NoViableAltException nvae =
+                        new NoViableAltException("", 85, 6, input);
+
+                    throw nvae;
+
+                }
+            }
+            else if ( (LA85_0==UIDENTIFIER) ) {
+                int LA85_7 = input.LA(2);
+
+                if ( (( isDeclarationStart() )) ) {
+                    alt85=1;
+                }
+                else if ( (( isStatementStart() )) ) {
+                    alt85=2;
+                }
+                else if ( (synpred4_Ceylon()) ) {
+                    alt85=3;
+                }
+                else if ( (true) ) {
+                    alt85=4;
+                }
+                else {
+                    if (state.backtracking>0) {state.failed=true; return statement;}
+                    NoViableAltException nvae =
+                        new NoViableAltException("", 85, 7, input);
+
+                    throw nvae;
+
+                }
+            }
+            else if ( (LA85_0==CLASS_DEFINITION) && (( isDeclarationStart() ))) {
+                int LA85_8 = input.LA(2);
+
+                if ( (( isDeclarationStart() )) ) {
+                    alt85=1;
+                }
+                else if ( (synpred4_Ceylon()) ) {
+                    alt85=3;
+                }
+                else {
+                    if (state.backtracking>0) {state.failed=true; return statement;}
+                    NoViableAltException nvae =
+                        new NoViableAltException("", 85, 8, input);
+
+                    throw nvae;
+
+                }
+            }
+            else if ( (LA85_0==INTERFACE_DEFINITION) && (( isDeclarationStart() ))) {
+                int LA85_9 = input.LA(2);
+
+                if ( (( isDeclarationStart() )) ) {
+                    alt85=1;
+                }
+                else if ( (synpred4_Ceylon()) ) {
+                    alt85=3;
+                }
+                else {
+                    if (state.backtracking>0) {state.failed=true; return statement;}
+                    NoViableAltException nvae =
+                        new NoViableAltException("", 85, 9, input);
+
+                    throw nvae;
+
+                }
+            }
+            else if ( (LA85_0==RETURN) ) {
+                int LA85_10 = input.LA(2);
+
+                if ( (( isStatementStart() )) ) {
+                    alt85=2;
+                }
+                else if ( (true) ) {
+                    alt85=4;
+                }
+                else {
+                    if (state.backtracking>0) {state.failed=true; return statement;}
+                    NoViableAltException nvae =
+                        new NoViableAltException("", 85, 10, input);
+
+                    throw nvae;
+
+                }
+            }
+            else if ( (LA85_0==THROW) ) {
+                int LA85_11 = input.LA(2);
+
+                if ( (( isStatementStart() )) ) {
+                    alt85=2;
+                }
+                else if ( (true) ) {
+                    alt85=4;
+                }
+                else {
+                    if (state.backtracking>0) {state.failed=true; return statement;}
+                    NoViableAltException nvae =
+                        new NoViableAltException("", 85, 11, input);
+
+                    throw nvae;
+
+                }
+            }
+            else if ( (LA85_0==BREAK) ) {
+                int LA85_12 = input.LA(2);
+
+                if ( (( isStatementStart() )) ) {
+                    alt85=2;
+                }
+                else if ( (true) ) {
+                    alt85=4;
+                }
+                else {
+                    if (state.backtracking>0) {state.failed=true; return statement;}
+                    NoViableAltException nvae =
+                        new NoViableAltException("", 85, 12, input);
+
+                    throw nvae;
+
+                }
+            }
+            else if ( (LA85_0==CONTINUE) ) {
+                int LA85_13 = input.LA(2);
+
+                if ( (( isStatementStart() )) ) {
+                    alt85=2;
+                }
+                else if ( (true) ) {
+                    alt85=4;
+                }
+                else {
+                    if (state.backtracking>0) {state.failed=true; return statement;}
+                    NoViableAltException nvae =
+                        new NoViableAltException("", 85, 13, input);
+
+                    throw nvae;
+
+                }
+            }
+            else if ( (LA85_0==IF_CLAUSE) ) {
+                int LA85_14 = input.LA(2);
+
+                if ( (( isStatementStart() )) ) {
+                    alt85=2;
+                }
+                else if ( (true) ) {
+                    alt85=4;
+                }
+                else {
+                    if (state.backtracking>0) {state.failed=true; return statement;}
+                    NoViableAltException nvae =
+                        new NoViableAltException("", 85, 14, input);
+
+                    throw nvae;
+
+                }
+            }
+            else if ( (LA85_0==SWITCH_CLAUSE) ) {
+                int LA85_15 = input.LA(2);
+
+                if ( (( isStatementStart() )) ) {
+                    alt85=2;
+                }
+                else if ( (true) ) {
+                    alt85=4;
+                }
+                else {
+                    if (state.backtracking>0) {state.failed=true; return statement;}
+                    NoViableAltException nvae =
+                        new NoViableAltException("", 85, 15, input);
+
+                    throw nvae;
+
+                }
+            }
+            else if ( (LA85_0==WHILE_CLAUSE) ) {
+                int LA85_16 = input.LA(2);
+
+                if ( (( isStatementStart() )) ) {
+                    alt85=2;
+                }
+                else if ( (true) ) {
+                    alt85=4;
+                }
+                else {
+                    if (state.backtracking>0) {state.failed=true; return statement;}
+                    NoViableAltException nvae =
+                        new NoViableAltException("", 85, 16, input);
+
+                    throw nvae;
+
+                }
+            }
+            else if ( (LA85_0==FOR_CLAUSE) ) {
+                int LA85_17 = input.LA(2);
+
+                if ( (( isStatementStart() )) ) {
+                    alt85=2;
+                }
+                else if ( (true) ) {
+                    alt85=4;
+                }
+                else {
+                    if (state.backtracking>0) {state.failed=true; return statement;}
+                    NoViableAltException nvae =
+                        new NoViableAltException("", 85, 17, input);
+
+                    throw nvae;
+
+                }
+            }
+            else if ( (LA85_0==TRY_CLAUSE) ) {
+                int LA85_18 = input.LA(2);
+
+                if ( (( isStatementStart() )) ) {
+                    alt85=2;
+                }
+                else if ( (true) ) {
+                    alt85=4;
+                }
+                else {
+                    if (state.backtracking>0) {state.failed=true; return statement;}
+                    NoViableAltException nvae =
+                        new NoViableAltException("", 85, 18, input);
+
+                    throw nvae;
+
+                }
+            }
+            else if ( (LA85_0==NOT_OP) ) {
+                int LA85_19 = input.LA(2);
+
+                if ( (( isStatementStart() )) ) {
+                    alt85=2;
+                }
+                else if ( (true) ) {
+                    alt85=4;
+                }
+                else {
+                    if (state.backtracking>0) {state.failed=true; return statement;}
+                    NoViableAltException nvae =
+                        new NoViableAltException("", 85, 19, input);
+
+                    throw nvae;
+
+                }
+            }
+            else if ( (LA85_0==DIFFERENCE_OP) ) {
+                int LA85_20 = input.LA(2);
+
+                if ( (( isStatementStart() )) ) {
+                    alt85=2;
+                }
+                else if ( (true) ) {
+                    alt85=4;
+                }
+                else {
+                    if (state.backtracking>0) {state.failed=true; return statement;}
+                    NoViableAltException nvae =
+                        new NoViableAltException("", 85, 20, input);
+
+                    throw nvae;
+
+                }
+            }
+            else if ( (LA85_0==SUM_OP) ) {
+                int LA85_21 = input.LA(2);
+
+                if ( (( isStatementStart() )) ) {
+                    alt85=2;
+                }
+                else if ( (true) ) {
+                    alt85=4;
+                }
+                else {
+                    if (state.backtracking>0) {state.failed=true; return statement;}
+                    NoViableAltException nvae =
+                        new NoViableAltException("", 85, 21, input);
+
+                    throw nvae;
+
+                }
+            }
+            else if ( (LA85_0==COMPLEMENT_OP) ) {
+                int LA85_22 = input.LA(2);
+
+                if ( (( isStatementStart() )) ) {
+                    alt85=2;
+                }
+                else if ( (true) ) {
+                    alt85=4;
+                }
+                else {
+                    if (state.backtracking>0) {state.failed=true; return statement;}
+                    NoViableAltException nvae =
+                        new NoViableAltException("", 85, 22, input);
+
+                    throw nvae;
+
+                }
+            }
+            else if ( (LA85_0==DECREMENT_OP) ) {
+                int LA85_23 = input.LA(2);
+
+                if ( (( isStatementStart() )) ) {
+                    alt85=2;
+                }
+                else if ( (true) ) {
+                    alt85=4;
+                }
+                else {
+                    if (state.backtracking>0) {state.failed=true; return statement;}
+                    NoViableAltException nvae =
+                        new NoViableAltException("", 85, 23, input);
+
+                    throw nvae;
+
+                }
+            }
+            else if ( (LA85_0==INCREMENT_OP) ) {
+                int LA85_24 = input.LA(2);
+
+                if ( (( isStatementStart() )) ) {
+                    alt85=2;
+                }
+                else if ( (true) ) {
+                    alt85=4;
+                }
+                else {
+                    if (state.backtracking>0) {state.failed=true; return statement;}
+                    NoViableAltException nvae =
+                        new NoViableAltException("", 85, 24, input);
+
+                    throw nvae;
+
+                }
+            }
+            else if ( (LA85_0==NATURAL_LITERAL) ) {
+                int LA85_25 = input.LA(2);
+
+                if ( (( isStatementStart() )) ) {
+                    alt85=2;
+                }
+                else if ( (true) ) {
+                    alt85=4;
+                }
+                else {
+                    if (state.backtracking>0) {state.failed=true; return statement;}
+                    NoViableAltException nvae =
+                        new NoViableAltException("", 85, 25, input);
+
+                    throw nvae;
+
+                }
+            }
+            else if ( (LA85_0==FLOAT_LITERAL) ) {
+                int LA85_26 = input.LA(2);
+
+                if ( (( isStatementStart() )) ) {
+                    alt85=2;
+                }
+                else if ( (true) ) {
+                    alt85=4;
+                }
+                else {
+                    if (state.backtracking>0) {state.failed=true; return statement;}
+                    NoViableAltException nvae =
+                        new NoViableAltException("", 85, 26, input);
+
+                    throw nvae;
+
+                }
+            }
+            else if ( (LA85_0==QUOTED_LITERAL) ) {
+                int LA85_27 = input.LA(2);
+
+                if ( (( isStatementStart() )) ) {
+                    alt85=2;
+                }
+                else if ( (true) ) {
+                    alt85=4;
+                }
+                else {
+                    if (state.backtracking>0) {state.failed=true; return statement;}
+                    NoViableAltException nvae =
+                        new NoViableAltException("", 85, 27, input);
+
+                    throw nvae;
+
+                }
+            }
+            else if ( (LA85_0==CHAR_LITERAL) ) {
+                int LA85_28 = input.LA(2);
+
+                if ( (( isStatementStart() )) ) {
+                    alt85=2;
+                }
+                else if ( (true) ) {
+                    alt85=4;
+                }
+                else {
+                    if (state.backtracking>0) {state.failed=true; return statement;}
+                    NoViableAltException nvae =
+                        new NoViableAltException("", 85, 28, input);
+
+                    throw nvae;
+
+                }
+            }
+            else if ( (LA85_0==STRING_LITERAL) ) {
+                int LA85_29 = input.LA(2);
+
+                if ( (( isStatementStart() )) ) {
+                    alt85=2;
+                }
+                else if ( (true) ) {
+                    alt85=4;
+                }
+                else {
+                    if (state.backtracking>0) {state.failed=true; return statement;}
+                    NoViableAltException nvae =
+                        new NoViableAltException("", 85, 29, input);
+
+                    throw nvae;
+
+                }
+            }
+            else if ( (LA85_0==LBRACE) ) {
+                int LA85_30 = input.LA(2);
+
+                if ( (( isStatementStart() )) ) {
+                    alt85=2;
+                }
+                else if ( (true) ) {
+                    alt85=4;
+                }
+                else {
+                    if (state.backtracking>0) {state.failed=true; return statement;}
+                    NoViableAltException nvae =
+                        new NoViableAltException("", 85, 30, input);
+
+                    throw nvae;
+
+                }
+            }
+            else if ( (LA85_0==THIS) ) {
+                int LA85_31 = input.LA(2);
+
+                if ( (( isStatementStart() )) ) {
+                    alt85=2;
+                }
+                else if ( (true) ) {
+                    alt85=4;
+                }
+                else {
+                    if (state.backtracking>0) {state.failed=true; return statement;}
+                    NoViableAltException nvae =
+                        new NoViableAltException("", 85, 31, input);
+
+                    throw nvae;
+
+                }
+            }
+            else if ( (LA85_0==SUPER) ) {
+                int LA85_32 = input.LA(2);
+
+                if ( (( isStatementStart() )) ) {
+                    alt85=2;
+                }
+                else if ( (true) ) {
+                    alt85=4;
+                }
+                else {
+                    if (state.backtracking>0) {state.failed=true; return statement;}
+                    NoViableAltException nvae =
+                        new NoViableAltException("", 85, 32, input);
+
+                    throw nvae;
+
+                }
+            }
+            else if ( (LA85_0==OUTER) ) {
+                int LA85_33 = input.LA(2);
+
+                if ( (( isStatementStart() )) ) {
+                    alt85=2;
+                }
+                else if ( (true) ) {
+                    alt85=4;
+                }
+                else {
+                    if (state.backtracking>0) {state.failed=true; return statement;}
+                    NoViableAltException nvae =
+                        new NoViableAltException("", 85, 33, input);
+
+                    throw nvae;
+
+                }
+            }
+            else if ( (LA85_0==LPAREN) ) {
+                int LA85_34 = input.LA(2);
+
+                if ( (( isStatementStart() )) ) {
+                    alt85=2;
+                }
+                else if ( (true) ) {
+                    alt85=4;
+                }
+                else {
+                    if (state.backtracking>0) {state.failed=true; return statement;}
+                    NoViableAltException nvae =
+                        new NoViableAltException("", 85, 34, input);
+
+                    throw nvae;
+
+                }
+            }
+            else if ( (LA85_0==EXISTS) ) {
+                int LA85_35 = input.LA(2);
+
+                if ( (( isStatementStart() )) ) {
+                    alt85=2;
+                }
+                else if ( (true) ) {
+                    alt85=4;
+                }
+                else {
+                    if (state.backtracking>0) {state.failed=true; return statement;}
+                    NoViableAltException nvae =
+                        new NoViableAltException("", 85, 35, input);
+
+                    throw nvae;
+
+                }
+            }
+            else if ( (LA85_0==NONEMPTY) ) {
+                int LA85_36 = input.LA(2);
+
+                if ( (( isStatementStart() )) ) {
+                    alt85=2;
+                }
+                else if ( (true) ) {
+                    alt85=4;
+                }
+                else {
+                    if (state.backtracking>0) {state.failed=true; return statement;}
+                    NoViableAltException nvae =
+                        new NoViableAltException("", 85, 36, input);
+
+                    throw nvae;
+
+                }
+            }
+            else if ( (LA85_0==IS_OP) ) {
+                int LA85_37 = input.LA(2);
+
+                if ( (( isStatementStart() )) ) {
+                    alt85=2;
+                }
+                else if ( (true) ) {
+                    alt85=4;
+                }
+                else {
+                    if (state.backtracking>0) {state.failed=true; return statement;}
+                    NoViableAltException nvae =
+                        new NoViableAltException("", 85, 37, input);
+
+                    throw nvae;
+
+                }
+            }
+            else if ( (LA85_0==EXTENDS) ) {
+                int LA85_38 = input.LA(2);
+
+                if ( (( isStatementStart() )) ) {
+                    alt85=2;
+                }
+                else if ( (true) ) {
+                    alt85=4;
+                }
+                else {
+                    if (state.backtracking>0) {state.failed=true; return statement;}
+                    NoViableAltException nvae =
+                        new NoViableAltException("", 85, 38, input);
+
+                    throw nvae;
+
+                }
+            }
+            else if ( (LA85_0==SATISFIES) ) {
+                int LA85_39 = input.LA(2);
+
+                if ( (( isStatementStart() )) ) {
+                    alt85=2;
+                }
+                else if ( (true) ) {
+                    alt85=4;
+                }
+                else {
+                    if (state.backtracking>0) {state.failed=true; return statement;}
+                    NoViableAltException nvae =
+                        new NoViableAltException("", 85, 39, input);
+
+                    throw nvae;
+
+                }
+            }
+            else {
+                if (state.backtracking>0) {state.failed=true; return statement;}
+                NoViableAltException nvae =
+                    new NoViableAltException("", 85, 0, input);
+
+                throw nvae;
+
+            }
+            switch (alt85) {
+                case 1 :
+                    // /root/project/Ceylon.g:1252:9: {...}? =>d1= declaration
+                    {
+                    if ( !(( isDeclarationStart() )) ) {
+                        if (state.backtracking>0) {state.failed=true; return statement;}
+                        throw new FailedPredicateException(input, "declarationOrStatement", " isDeclarationStart() ");
+                    }
+
+                    pushFollow(FOLLOW_declaration_in_declarationOrStatement5988);
+                    d1=declaration();
+
+                    state._fsp--;
+                    if (state.failed) return statement;
+
+                    if ( state.backtracking==0 ) { statement =d1; }
+
+                    }
+                    break;
+                case 2 :
+                    // /root/project/Ceylon.g:1254:9: {...}? =>s1= statement
+                    {
+                    if ( !(( isStatementStart() )) ) {
+                        if (state.backtracking>0) {state.failed=true; return statement;}
+                        throw new FailedPredicateException(input, "declarationOrStatement", " isStatementStart() ");
+                    }
+
+                    pushFollow(FOLLOW_statement_in_declarationOrStatement6013);
+                    s1=statement();
+
+                    state._fsp--;
+                    if (state.failed) return statement;
+
+                    if ( state.backtracking==0 ) { statement =s1; }
+
+                    }
+                    break;
+                case 3 :
+                    // /root/project/Ceylon.g:1256:9: ( annotatedDeclarationStart )=>d2= declaration
+                    {
+                    pushFollow(FOLLOW_declaration_in_declarationOrStatement6041);
+                    d2=declaration();
+
+                    state._fsp--;
+                    if (state.failed) return statement;
+
+                    if ( state.backtracking==0 ) { statement =d2; }
+
+                    }
+                    break;
+                case 4 :
+                    // /root/project/Ceylon.g:1258:9: s2= statement
+                    {
+                    pushFollow(FOLLOW_statement_in_declarationOrStatement6063);
+                    s2=statement();
+
+                    state._fsp--;
+                    if (state.failed) return statement;
+
+                    if ( state.backtracking==0 ) { statement =s2; }
+
+                    }
+                    break;
+
+            }
+
+
+            if ( state.backtracking==0 ) { if (statement!=null)
+                        statement.getCompilerAnnotations().addAll(compilerAnnotations128); }
+
+            }
+
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
+            if ( state.backtracking>0 ) { memoize(input, 44, declarationOrStatement_StartIndex); }
+
+        }
+        return statement;
+    }
+    // $ANTLR end "declarationOrStatement"
+
+
+
+    // $ANTLR start "declaration"
+    // /root/project/Ceylon.g:1265:1: declaration returns [Declaration declaration] : annotations ( objectDeclaration | setterDeclaration | voidOrInferredMethodDeclaration | inferredAttributeDeclaration | typedMethodOrAttributeDeclaration | classDeclaration | interfaceDeclaration ) ;
+    public final Declaration declaration() throws RecognitionException {
+        Declaration declaration = null;
+
+
+        ObjectDefinition objectDeclaration129 =null;
+
+        AttributeSetterDefinition setterDeclaration130 =null;
+
+        AnyMethod voidOrInferredMethodDeclaration131 =null;
+
+        AnyAttribute inferredAttributeDeclaration132 =null;
+
+        TypedDeclaration typedMethodOrAttributeDeclaration133 =null;
+
+        AnyClass classDeclaration134 =null;
+
+        AnyInterface interfaceDeclaration135 =null;
+
+        AnnotationList annotations136 =null;
+
+
+        try {
+            // /root/project/Ceylon.g:1266:5: ( annotations ( objectDeclaration | setterDeclaration | voidOrInferredMethodDeclaration | inferredAttributeDeclaration | typedMethodOrAttributeDeclaration | classDeclaration | interfaceDeclaration ) )
+            // /root/project/Ceylon.g:1266:7: annotations ( objectDeclaration | setterDeclaration | voidOrInferredMethodDeclaration | inferredAttributeDeclaration | typedMethodOrAttributeDeclaration | classDeclaration | interfaceDeclaration )
+            {
+            pushFollow(FOLLOW_annotations_in_declaration6110);
+            annotations136=annotations();
+
+            state._fsp--;
+            if (state.failed) return declaration;
+
+            // /root/project/Ceylon.g:1267:5: ( objectDeclaration | setterDeclaration | voidOrInferredMethodDeclaration | inferredAttributeDeclaration | typedMethodOrAttributeDeclaration | classDeclaration | interfaceDeclaration )
+            int alt86=7;
+            switch ( input.LA(1) ) {
+            case OBJECT_DEFINITION:
+                {
+                alt86=1;
+                }
+                break;
+            case ASSIGN:
+                {
+                alt86=2;
+                }
+                break;
+            case FUNCTION_MODIFIER:
+            case VOID_MODIFIER:
+                {
+                alt86=3;
+                }
+                break;
+            case VALUE_MODIFIER:
+                {
+                alt86=4;
+                }
+                break;
+            case UIDENTIFIER:
+                {
+                alt86=5;
+                }
+                break;
+            case CLASS_DEFINITION:
+                {
+                alt86=6;
+                }
+                break;
+            case INTERFACE_DEFINITION:
+                {
+                alt86=7;
+                }
+                break;
+            default:
+                if (state.backtracking>0) {state.failed=true; return declaration;}
+                NoViableAltException nvae =
+                    new NoViableAltException("", 86, 0, input);
+
+                throw nvae;
+
+            }
+
+            switch (alt86) {
+                case 1 :
+                    // /root/project/Ceylon.g:1268:7: objectDeclaration
+                    {
+                    pushFollow(FOLLOW_objectDeclaration_in_declaration6125);
+                    objectDeclaration129=objectDeclaration();
+
+                    state._fsp--;
+                    if (state.failed) return declaration;
+
+                    if ( state.backtracking==0 ) { declaration =objectDeclaration129; }
+
+                    }
+                    break;
+                case 2 :
+                    // /root/project/Ceylon.g:1270:7: setterDeclaration
+                    {
+                    pushFollow(FOLLOW_setterDeclaration_in_declaration6141);
+                    setterDeclaration130=setterDeclaration();
+
+                    state._fsp--;
+                    if (state.failed) return declaration;
+
+                    if ( state.backtracking==0 ) { declaration =setterDeclaration130; }
+
+                    }
+                    break;
+                case 3 :
+                    // /root/project/Ceylon.g:1272:7: voidOrInferredMethodDeclaration
+                    {
+                    pushFollow(FOLLOW_voidOrInferredMethodDeclaration_in_declaration6157);
+                    voidOrInferredMethodDeclaration131=voidOrInferredMethodDeclaration();
+
+                    state._fsp--;
+                    if (state.failed) return declaration;
+
+                    if ( state.backtracking==0 ) { declaration =voidOrInferredMethodDeclaration131; }
+
+                    }
+                    break;
+                case 4 :
+                    // /root/project/Ceylon.g:1274:7: inferredAttributeDeclaration
+                    {
+                    pushFollow(FOLLOW_inferredAttributeDeclaration_in_declaration6173);
+                    inferredAttributeDeclaration132=inferredAttributeDeclaration();
+
+                    state._fsp--;
+                    if (state.failed) return declaration;
+
+                    if ( state.backtracking==0 ) { declaration =inferredAttributeDeclaration132; }
+
+                    }
+                    break;
+                case 5 :
+                    // /root/project/Ceylon.g:1276:7: typedMethodOrAttributeDeclaration
+                    {
+                    pushFollow(FOLLOW_typedMethodOrAttributeDeclaration_in_declaration6189);
+                    typedMethodOrAttributeDeclaration133=typedMethodOrAttributeDeclaration();
+
+                    state._fsp--;
+                    if (state.failed) return declaration;
+
+                    if ( state.backtracking==0 ) { declaration =typedMethodOrAttributeDeclaration133; }
+
+                    }
+                    break;
+                case 6 :
+                    // /root/project/Ceylon.g:1278:7: classDeclaration
+                    {
+                    pushFollow(FOLLOW_classDeclaration_in_declaration6205);
+                    classDeclaration134=classDeclaration();
+
+                    state._fsp--;
+                    if (state.failed) return declaration;
+
+                    if ( state.backtracking==0 ) { declaration =classDeclaration134; }
+
+                    }
+                    break;
+                case 7 :
+                    // /root/project/Ceylon.g:1280:7: interfaceDeclaration
+                    {
+                    pushFollow(FOLLOW_interfaceDeclaration_in_declaration6221);
+                    interfaceDeclaration135=interfaceDeclaration();
+
+                    state._fsp--;
+                    if (state.failed) return declaration;
+
+                    if ( state.backtracking==0 ) { declaration =interfaceDeclaration135; }
+
+                    }
+                    break;
+
+            }
+
+
+            if ( state.backtracking==0 ) { if (declaration!=null)
+                      declaration.setAnnotationList(annotations136);  }
+
+            }
+
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return declaration;
+    }
+    // $ANTLR end "declaration"
+
+
+
+    // $ANTLR start "annotatedDeclarationStart"
+    // /root/project/Ceylon.g:1305:1: annotatedDeclarationStart : ( annotation )* declarationStart ;
+    public final void annotatedDeclarationStart() throws RecognitionException {
+        try {
+            // /root/project/Ceylon.g:1306:5: ( ( annotation )* declarationStart )
+            // /root/project/Ceylon.g:1306:7: ( annotation )* declarationStart
+            {
+            // /root/project/Ceylon.g:1306:7: ( annotation )*
+            loop87:
+            do {
+                int alt87=2;
+                int LA87_0 = input.LA(1);
+
+                if ( (LA87_0==LIDENTIFIER) ) {
+                    alt87=1;
+                }
+
+
+                switch (alt87) {
+            	case 1 :
+            	    // /root/project/Ceylon.g:1306:7: annotation
+            	    {
+            	    pushFollow(FOLLOW_annotation_in_annotatedDeclarationStart6270);
+            	    annotation();
+
+            	    state._fsp--;
+            	    if (state.failed) return ;
+
+            	    }
+            	    break;
+
+            	default :
+            	    break loop87;
+                }
+            } while (true);
+
+
+            pushFollow(FOLLOW_declarationStart_in_annotatedDeclarationStart6273);
+            declarationStart();
+
+            state._fsp--;
+            if (state.failed) return ;
+
+            }
+
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return ;
+    }
+    // $ANTLR end "annotatedDeclarationStart"
+
+
+
+    // $ANTLR start "declarationStart"
+    // /root/project/Ceylon.g:1312:1: declarationStart : ( declarationKeyword | type ( ELLIPSIS | LIDENTIFIER ) );
+    public final void declarationStart() throws RecognitionException {
+        try {
+            // /root/project/Ceylon.g:1313:5: ( declarationKeyword | type ( ELLIPSIS | LIDENTIFIER ) )
+            int alt88=2;
+            int LA88_0 = input.LA(1);
+
+            if ( (LA88_0==ASSIGN||LA88_0==CLASS_DEFINITION||LA88_0==FUNCTION_MODIFIER||LA88_0==INTERFACE_DEFINITION||LA88_0==OBJECT_DEFINITION||(LA88_0 >= VALUE_MODIFIER && LA88_0 <= VOID_MODIFIER)) ) {
+                alt88=1;
+            }
+            else if ( (LA88_0==UIDENTIFIER) ) {
+                alt88=2;
+            }
+            else {
+                if (state.backtracking>0) {state.failed=true; return ;}
+                NoViableAltException nvae =
+                    new NoViableAltException("", 88, 0, input);
+
+                throw nvae;
+
+            }
+            switch (alt88) {
+                case 1 :
+                    // /root/project/Ceylon.g:1313:7: declarationKeyword
+                    {
+                    pushFollow(FOLLOW_declarationKeyword_in_declarationStart6293);
+                    declarationKeyword();
+
+                    state._fsp--;
+                    if (state.failed) return ;
+
+                    }
+                    break;
+                case 2 :
+                    // /root/project/Ceylon.g:1314:7: type ( ELLIPSIS | LIDENTIFIER )
+                    {
+                    pushFollow(FOLLOW_type_in_declarationStart6302);
+                    type();
+
+                    state._fsp--;
+                    if (state.failed) return ;
+
+                    if ( input.LA(1)==ELLIPSIS||input.LA(1)==LIDENTIFIER ) {
+                        input.consume();
+                        state.errorRecovery=false;
+                        state.failed=false;
+                    }
+                    else {
+                        if (state.backtracking>0) {state.failed=true; return ;}
+                        MismatchedSetException mse = new MismatchedSetException(null,input);
+                        throw mse;
+                    }
+
+
+                    }
+                    break;
+
+            }
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return ;
+    }
+    // $ANTLR end "declarationStart"
+
+
+
+    // $ANTLR start "declarationKeyword"
+    // /root/project/Ceylon.g:1317:1: declarationKeyword : ( VALUE_MODIFIER | FUNCTION_MODIFIER | ASSIGN | VOID_MODIFIER | INTERFACE_DEFINITION | CLASS_DEFINITION | OBJECT_DEFINITION );
+    public final void declarationKeyword() throws RecognitionException {
+        try {
+            // /root/project/Ceylon.g:1318:5: ( VALUE_MODIFIER | FUNCTION_MODIFIER | ASSIGN | VOID_MODIFIER | INTERFACE_DEFINITION | CLASS_DEFINITION | OBJECT_DEFINITION )
+            // /root/project/Ceylon.g:
+            {
+            if ( input.LA(1)==ASSIGN||input.LA(1)==CLASS_DEFINITION||input.LA(1)==FUNCTION_MODIFIER||input.LA(1)==INTERFACE_DEFINITION||input.LA(1)==OBJECT_DEFINITION||(input.LA(1) >= VALUE_MODIFIER && input.LA(1) <= VOID_MODIFIER) ) {
+                input.consume();
+                state.errorRecovery=false;
+                state.failed=false;
+            }
+            else {
+                if (state.backtracking>0) {state.failed=true; return ;}
+                MismatchedSetException mse = new MismatchedSetException(null,input);
+                throw mse;
+            }
+
+
+            }
+
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return ;
+    }
+    // $ANTLR end "declarationKeyword"
+
+
+
+    // $ANTLR start "statement"
+    // /root/project/Ceylon.g:1327:1: statement returns [Statement statement] : ( directiveStatement | controlStatement | expressionOrSpecificationStatement );
+    public final Statement statement() throws RecognitionException {
+        Statement statement = null;
+
+
+        Directive directiveStatement137 =null;
+
+        ControlStatement controlStatement138 =null;
+
+        Statement expressionOrSpecificationStatement139 =null;
+
+
+        try {
+            // /root/project/Ceylon.g:1328:5: ( directiveStatement | controlStatement | expressionOrSpecificationStatement )
+            int alt89=3;
+            switch ( input.LA(1) ) {
+            case BREAK:
+            case CONTINUE:
+            case RETURN:
+            case THROW:
+                {
+                alt89=1;
+                }
+                break;
+            case FOR_CLAUSE:
+            case IF_CLAUSE:
+            case SWITCH_CLAUSE:
+            case TRY_CLAUSE:
+            case WHILE_CLAUSE:
+                {
+                alt89=2;
+                }
+                break;
+            case CHAR_LITERAL:
+            case COMPLEMENT_OP:
+            case DECREMENT_OP:
+            case DIFFERENCE_OP:
+            case EXISTS:
+            case EXTENDS:
+            case FLOAT_LITERAL:
+            case INCREMENT_OP:
+            case IS_OP:
+            case LBRACE:
+            case LIDENTIFIER:
+            case LPAREN:
+            case NATURAL_LITERAL:
+            case NONEMPTY:
+            case NOT_OP:
+            case OUTER:
+            case QUOTED_LITERAL:
+            case SATISFIES:
+            case STRING_LITERAL:
+            case SUM_OP:
+            case SUPER:
+            case THIS:
+            case UIDENTIFIER:
+                {
+                alt89=3;
+                }
+                break;
+            default:
+                if (state.backtracking>0) {state.failed=true; return statement;}
+                NoViableAltException nvae =
+                    new NoViableAltException("", 89, 0, input);
+
+                throw nvae;
+
+            }
+
+            switch (alt89) {
+                case 1 :
+                    // /root/project/Ceylon.g:1328:7: directiveStatement
+                    {
+                    pushFollow(FOLLOW_directiveStatement_in_statement6396);
+                    directiveStatement137=directiveStatement();
+
+                    state._fsp--;
+                    if (state.failed) return statement;
+
+                    if ( state.backtracking==0 ) { statement = directiveStatement137; }
+
+                    }
+                    break;
+                case 2 :
+                    // /root/project/Ceylon.g:1330:7: controlStatement
+                    {
+                    pushFollow(FOLLOW_controlStatement_in_statement6412);
+                    controlStatement138=controlStatement();
+
+                    state._fsp--;
+                    if (state.failed) return statement;
+
+                    if ( state.backtracking==0 ) { statement = controlStatement138; }
+
+                    }
+                    break;
+                case 3 :
+                    // /root/project/Ceylon.g:1332:7: expressionOrSpecificationStatement
+                    {
+                    pushFollow(FOLLOW_expressionOrSpecificationStatement_in_statement6428);
+                    expressionOrSpecificationStatement139=expressionOrSpecificationStatement();
+
+                    state._fsp--;
+                    if (state.failed) return statement;
+
+                    if ( state.backtracking==0 ) { statement = expressionOrSpecificationStatement139; }
+
+                    }
+                    break;
+
+            }
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return statement;
+    }
+    // $ANTLR end "statement"
+
+
+
+    // $ANTLR start "expressionOrSpecificationStatement"
+    // /root/project/Ceylon.g:1336:1: expressionOrSpecificationStatement returns [Statement statement] : expression ( specifier )? ( SEMICOLON | COMMA ) ;
+    public final Statement expressionOrSpecificationStatement() throws RecognitionException {
+        Statement statement = null;
+
+
+        Token SEMICOLON142=null;
+        Token COMMA143=null;
+        Expression expression140 =null;
+
+        SpecifierExpression specifier141 =null;
+
+
+         SpecifierStatement ss=new SpecifierStatement(null); 
+                    ExpressionStatement es=new ExpressionStatement(null); 
+        try {
+            // /root/project/Ceylon.g:1339:5: ( expression ( specifier )? ( SEMICOLON | COMMA ) )
+            // /root/project/Ceylon.g:1339:7: expression ( specifier )? ( SEMICOLON | COMMA )
+            {
+            pushFollow(FOLLOW_expression_in_expressionOrSpecificationStatement6466);
+            expression140=expression();
+
+            state._fsp--;
+            if (state.failed) return statement;
+
+            if ( state.backtracking==0 ) { if (expression140!=null) 
+                        es.setExpression(expression140);
+                    statement = es; }
+
+            // /root/project/Ceylon.g:1343:7: ( specifier )?
+            int alt90=2;
+            int LA90_0 = input.LA(1);
+
+            if ( (LA90_0==SPECIFY) ) {
+                alt90=1;
+            }
+            switch (alt90) {
+                case 1 :
+                    // /root/project/Ceylon.g:1344:9: specifier
+                    {
+                    pushFollow(FOLLOW_specifier_in_expressionOrSpecificationStatement6493);
+                    specifier141=specifier();
+
+                    state._fsp--;
+                    if (state.failed) return statement;
+
+                    if ( state.backtracking==0 ) { ss.setSpecifierExpression(specifier141);
+                              
+                              ss.setBaseMemberExpression(expression140.getTerm()); 
+                              statement = ss; }
+
+                    }
+                    break;
+
+            }
+
+
+            // /root/project/Ceylon.g:1350:7: ( SEMICOLON | COMMA )
+            int alt91=2;
+            int LA91_0 = input.LA(1);
+
+            if ( (LA91_0==SEMICOLON) ) {
+                alt91=1;
+            }
+            else if ( (LA91_0==COMMA) ) {
+                alt91=2;
+            }
+            else {
+                if (state.backtracking>0) {state.failed=true; return statement;}
+                NoViableAltException nvae =
+                    new NoViableAltException("", 91, 0, input);
+
+                throw nvae;
+
+            }
+            switch (alt91) {
+                case 1 :
+                    // /root/project/Ceylon.g:1351:9: SEMICOLON
+                    {
+                    SEMICOLON142=(Token)match(input,SEMICOLON,FOLLOW_SEMICOLON_in_expressionOrSpecificationStatement6530); if (state.failed) return statement;
+
+                    if ( state.backtracking==0 ) { statement.setEndToken(SEMICOLON142); }
+
+                    }
+                    break;
+                case 2 :
+                    // /root/project/Ceylon.g:1353:9: COMMA
+                    {
+                    if ( state.backtracking==0 ) { displayRecognitionError(getTokenNames(), 
+                                  new MismatchedTokenException(SEMICOLON, input)); }
+
+                    COMMA143=(Token)match(input,COMMA,FOLLOW_COMMA_in_expressionOrSpecificationStatement6560); if (state.failed) return statement;
+
+                    if ( state.backtracking==0 ) { statement.setEndToken(COMMA143); }
+
+                    }
+                    break;
+
+            }
+
+
+            }
+
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return statement;
+    }
+    // $ANTLR end "expressionOrSpecificationStatement"
+
+
+
+    // $ANTLR start "directiveStatement"
+    // /root/project/Ceylon.g:1360:1: directiveStatement returns [Directive directive] : d= directive SEMICOLON ;
+    public final Directive directiveStatement() throws RecognitionException {
+        Directive directive = null;
+
+
+        Token SEMICOLON144=null;
+        Directive d =null;
+
+
+        try {
+            // /root/project/Ceylon.g:1361:5: (d= directive SEMICOLON )
+            // /root/project/Ceylon.g:1361:7: d= directive SEMICOLON
+            {
+            pushFollow(FOLLOW_directive_in_directiveStatement6599);
+            d=directive();
+
+            state._fsp--;
+            if (state.failed) return directive;
+
+            if ( state.backtracking==0 ) { directive =d; }
+
+            SEMICOLON144=(Token)match(input,SEMICOLON,FOLLOW_SEMICOLON_in_directiveStatement6617); if (state.failed) return directive;
+
+            if ( state.backtracking==0 ) { directive.setEndToken(SEMICOLON144); }
+
+            }
+
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return directive;
+    }
+    // $ANTLR end "directiveStatement"
+
+
+
+    // $ANTLR start "directive"
+    // /root/project/Ceylon.g:1367:1: directive returns [Directive directive] : ( returnDirective | throwDirective | breakDirective | continueDirective );
+    public final Directive directive() throws RecognitionException {
+        Directive directive = null;
+
+
+        Return returnDirective145 =null;
+
+        Throw throwDirective146 =null;
+
+        Break breakDirective147 =null;
+
+        Continue continueDirective148 =null;
+
+
+        try {
+            // /root/project/Ceylon.g:1368:5: ( returnDirective | throwDirective | breakDirective | continueDirective )
+            int alt92=4;
+            switch ( input.LA(1) ) {
+            case RETURN:
+                {
+                alt92=1;
+                }
+                break;
+            case THROW:
+                {
+                alt92=2;
+                }
+                break;
+            case BREAK:
+                {
+                alt92=3;
+                }
+                break;
+            case CONTINUE:
+                {
+                alt92=4;
+                }
+                break;
+            default:
+                if (state.backtracking>0) {state.failed=true; return directive;}
+                NoViableAltException nvae =
+                    new NoViableAltException("", 92, 0, input);
+
+                throw nvae;
+
+            }
+
+            switch (alt92) {
+                case 1 :
+                    // /root/project/Ceylon.g:1368:7: returnDirective
+                    {
+                    pushFollow(FOLLOW_returnDirective_in_directive6646);
+                    returnDirective145=returnDirective();
+
+                    state._fsp--;
+                    if (state.failed) return directive;
+
+                    if ( state.backtracking==0 ) { directive = returnDirective145; }
+
+                    }
+                    break;
+                case 2 :
+                    // /root/project/Ceylon.g:1370:7: throwDirective
+                    {
+                    pushFollow(FOLLOW_throwDirective_in_directive6662);
+                    throwDirective146=throwDirective();
+
+                    state._fsp--;
+                    if (state.failed) return directive;
+
+                    if ( state.backtracking==0 ) { directive = throwDirective146; }
+
+                    }
+                    break;
+                case 3 :
+                    // /root/project/Ceylon.g:1372:7: breakDirective
+                    {
+                    pushFollow(FOLLOW_breakDirective_in_directive6678);
+                    breakDirective147=breakDirective();
+
+                    state._fsp--;
+                    if (state.failed) return directive;
+
+                    if ( state.backtracking==0 ) { directive = breakDirective147; }
+
+                    }
+                    break;
+                case 4 :
+                    // /root/project/Ceylon.g:1374:7: continueDirective
+                    {
+                    pushFollow(FOLLOW_continueDirective_in_directive6694);
+                    continueDirective148=continueDirective();
+
+                    state._fsp--;
+                    if (state.failed) return directive;
+
+                    if ( state.backtracking==0 ) { directive = continueDirective148; }
+
+                    }
+                    break;
+
+            }
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return directive;
+    }
+    // $ANTLR end "directive"
+
+
+
+    // $ANTLR start "returnDirective"
+    // /root/project/Ceylon.g:1378:1: returnDirective returns [Return directive] : RETURN ( expression )? ;
+    public final Return returnDirective() throws RecognitionException {
+        Return directive = null;
+
+
+        Token RETURN149=null;
+        Expression expression150 =null;
+
+
+        try {
+            // /root/project/Ceylon.g:1379:5: ( RETURN ( expression )? )
+            // /root/project/Ceylon.g:1379:7: RETURN ( expression )?
+            {
+            RETURN149=(Token)match(input,RETURN,FOLLOW_RETURN_in_returnDirective6723); if (state.failed) return directive;
+
+            if ( state.backtracking==0 ) { directive = new Return(RETURN149); }
+
+            // /root/project/Ceylon.g:1381:7: ( expression )?
+            int alt93=2;
+            int LA93_0 = input.LA(1);
+
+            if ( (LA93_0==CHAR_LITERAL||LA93_0==COMPLEMENT_OP||LA93_0==DECREMENT_OP||LA93_0==DIFFERENCE_OP||(LA93_0 >= EXISTS && LA93_0 <= EXTENDS)||LA93_0==FLOAT_LITERAL||LA93_0==INCREMENT_OP||LA93_0==IS_OP||LA93_0==LBRACE||LA93_0==LIDENTIFIER||LA93_0==LPAREN||(LA93_0 >= NATURAL_LITERAL && LA93_0 <= NONEMPTY)||LA93_0==NOT_OP||LA93_0==OUTER||LA93_0==QUOTED_LITERAL||LA93_0==SATISFIES||LA93_0==STRING_LITERAL||(LA93_0 >= SUM_OP && LA93_0 <= SUPER)||LA93_0==THIS||LA93_0==UIDENTIFIER) ) {
+                alt93=1;
+            }
+            switch (alt93) {
+                case 1 :
+                    // /root/project/Ceylon.g:1382:9: expression
+                    {
+                    pushFollow(FOLLOW_expression_in_returnDirective6750);
+                    expression150=expression();
+
+                    state._fsp--;
+                    if (state.failed) return directive;
+
+                    if ( state.backtracking==0 ) { directive.setExpression(expression150); }
+
+                    }
+                    break;
+
+            }
+
+
+            }
+
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return directive;
+    }
+    // $ANTLR end "returnDirective"
+
+
+
+    // $ANTLR start "throwDirective"
+    // /root/project/Ceylon.g:1387:1: throwDirective returns [Throw directive] : THROW ( expression )? ;
+    public final Throw throwDirective() throws RecognitionException {
+        Throw directive = null;
+
+
+        Token THROW151=null;
+        Expression expression152 =null;
+
+
+        try {
+            // /root/project/Ceylon.g:1388:5: ( THROW ( expression )? )
+            // /root/project/Ceylon.g:1388:7: THROW ( expression )?
+            {
+            THROW151=(Token)match(input,THROW,FOLLOW_THROW_in_throwDirective6790); if (state.failed) return directive;
+
+            if ( state.backtracking==0 ) { directive = new Throw(THROW151); }
+
+            // /root/project/Ceylon.g:1390:7: ( expression )?
+            int alt94=2;
+            int LA94_0 = input.LA(1);
+
+            if ( (LA94_0==CHAR_LITERAL||LA94_0==COMPLEMENT_OP||LA94_0==DECREMENT_OP||LA94_0==DIFFERENCE_OP||(LA94_0 >= EXISTS && LA94_0 <= EXTENDS)||LA94_0==FLOAT_LITERAL||LA94_0==INCREMENT_OP||LA94_0==IS_OP||LA94_0==LBRACE||LA94_0==LIDENTIFIER||LA94_0==LPAREN||(LA94_0 >= NATURAL_LITERAL && LA94_0 <= NONEMPTY)||LA94_0==NOT_OP||LA94_0==OUTER||LA94_0==QUOTED_LITERAL||LA94_0==SATISFIES||LA94_0==STRING_LITERAL||(LA94_0 >= SUM_OP && LA94_0 <= SUPER)||LA94_0==THIS||LA94_0==UIDENTIFIER) ) {
+                alt94=1;
+            }
+            switch (alt94) {
+                case 1 :
+                    // /root/project/Ceylon.g:1391:9: expression
+                    {
+                    pushFollow(FOLLOW_expression_in_throwDirective6817);
+                    expression152=expression();
+
+                    state._fsp--;
+                    if (state.failed) return directive;
+
+                    if ( state.backtracking==0 ) { directive.setExpression(expression152); }
+
+                    }
+                    break;
+
+            }
+
+
+            }
+
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return directive;
+    }
+    // $ANTLR end "throwDirective"
+
+
+
+    // $ANTLR start "breakDirective"
+    // /root/project/Ceylon.g:1396:1: breakDirective returns [Break directive] : BREAK ;
+    public final Break breakDirective() throws RecognitionException {
+        Break directive = null;
+
+
+        Token BREAK153=null;
+
+        try {
+            // /root/project/Ceylon.g:1397:5: ( BREAK )
+            // /root/project/Ceylon.g:1397:7: BREAK
+            {
+            BREAK153=(Token)match(input,BREAK,FOLLOW_BREAK_in_breakDirective6857); if (state.failed) return directive;
+
+            if ( state.backtracking==0 ) { directive = new Break(BREAK153); }
+
+            }
+
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return directive;
+    }
+    // $ANTLR end "breakDirective"
+
+
+
+    // $ANTLR start "continueDirective"
+    // /root/project/Ceylon.g:1401:1: continueDirective returns [Continue directive] : CONTINUE ;
+    public final Continue continueDirective() throws RecognitionException {
+        Continue directive = null;
+
+
+        Token CONTINUE154=null;
+
+        try {
+            // /root/project/Ceylon.g:1402:5: ( CONTINUE )
+            // /root/project/Ceylon.g:1402:7: CONTINUE
+            {
+            CONTINUE154=(Token)match(input,CONTINUE,FOLLOW_CONTINUE_in_continueDirective6886); if (state.failed) return directive;
+
+            if ( state.backtracking==0 ) { directive = new Continue(CONTINUE154); }
+
+            }
+
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return directive;
+    }
+    // $ANTLR end "continueDirective"
+
+
+
+    // $ANTLR start "typeSpecifier"
+    // /root/project/Ceylon.g:1406:1: typeSpecifier returns [TypeSpecifier typeSpecifier] : SPECIFY qualifiedType ;
+    public final TypeSpecifier typeSpecifier() throws RecognitionException {
+        TypeSpecifier typeSpecifier = null;
+
+
+        Token SPECIFY155=null;
+        SimpleType qualifiedType156 =null;
+
+
+        try {
+            // /root/project/Ceylon.g:1407:5: ( SPECIFY qualifiedType )
+            // /root/project/Ceylon.g:1407:7: SPECIFY qualifiedType
+            {
+            SPECIFY155=(Token)match(input,SPECIFY,FOLLOW_SPECIFY_in_typeSpecifier6915); if (state.failed) return typeSpecifier;
+
+            if ( state.backtracking==0 ) { typeSpecifier = new TypeSpecifier(SPECIFY155); }
+
+            pushFollow(FOLLOW_qualifiedType_in_typeSpecifier6932);
+            qualifiedType156=qualifiedType();
+
+            state._fsp--;
+            if (state.failed) return typeSpecifier;
+
+            if ( state.backtracking==0 ) { typeSpecifier.setType(qualifiedType156); }
+
+            }
+
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return typeSpecifier;
+    }
+    // $ANTLR end "typeSpecifier"
+
+
+
+    // $ANTLR start "specifier"
+    // /root/project/Ceylon.g:1414:1: specifier returns [SpecifierExpression specifierExpression] : SPECIFY expression ;
+    public final SpecifierExpression specifier() throws RecognitionException {
+        SpecifierExpression specifierExpression = null;
+
+
+        Token SPECIFY157=null;
+        Expression expression158 =null;
+
+
+        try {
+            // /root/project/Ceylon.g:1415:5: ( SPECIFY expression )
+            // /root/project/Ceylon.g:1415:7: SPECIFY expression
+            {
+            SPECIFY157=(Token)match(input,SPECIFY,FOLLOW_SPECIFY_in_specifier6966); if (state.failed) return specifierExpression;
+
+            if ( state.backtracking==0 ) { specifierExpression = new SpecifierExpression(SPECIFY157); }
+
+            pushFollow(FOLLOW_expression_in_specifier6983);
+            expression158=expression();
+
+            state._fsp--;
+            if (state.failed) return specifierExpression;
+
+            if ( state.backtracking==0 ) { specifierExpression.setExpression(expression158); }
+
+            }
+
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return specifierExpression;
+    }
+    // $ANTLR end "specifier"
+
+
+
+    // $ANTLR start "initializer"
+    // /root/project/Ceylon.g:1421:1: initializer returns [InitializerExpression initializerExpression] : ASSIGN_OP expression ;
+    public final InitializerExpression initializer() throws RecognitionException {
+        InitializerExpression initializerExpression = null;
+
+
+        Token ASSIGN_OP159=null;
+        Expression expression160 =null;
+
+
+        try {
+            // /root/project/Ceylon.g:1422:5: ( ASSIGN_OP expression )
+            // /root/project/Ceylon.g:1422:7: ASSIGN_OP expression
+            {
+            ASSIGN_OP159=(Token)match(input,ASSIGN_OP,FOLLOW_ASSIGN_OP_in_initializer7012); if (state.failed) return initializerExpression;
+
+            if ( state.backtracking==0 ) { initializerExpression = new InitializerExpression(ASSIGN_OP159); }
+
+            pushFollow(FOLLOW_expression_in_initializer7029);
+            expression160=expression();
+
+            state._fsp--;
+            if (state.failed) return initializerExpression;
+
+            if ( state.backtracking==0 ) { initializerExpression.setExpression(expression160); }
+
+            }
+
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return initializerExpression;
+    }
+    // $ANTLR end "initializer"
+
+
+
+    // $ANTLR start "expression"
+    // /root/project/Ceylon.g:1429:1: expression returns [Expression expression] : assignmentExpression ;
+    public final Expression expression() throws RecognitionException {
+        Expression expression = null;
+
+
+        Term assignmentExpression161 =null;
+
+
+        try {
+            // /root/project/Ceylon.g:1430:5: ( assignmentExpression )
+            // /root/project/Ceylon.g:1430:7: assignmentExpression
+            {
+            if ( state.backtracking==0 ) { expression = new Expression(null); }
+
+            pushFollow(FOLLOW_assignmentExpression_in_expression7071);
+            assignmentExpression161=assignmentExpression();
+
+            state._fsp--;
+            if (state.failed) return expression;
+
+            if ( state.backtracking==0 ) { expression.setTerm(assignmentExpression161); }
+
+            }
+
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return expression;
+    }
+    // $ANTLR end "expression"
+
+
+
+    // $ANTLR start "base"
+    // /root/project/Ceylon.g:1435:1: base returns [Primary primary] : ( nonstringLiteral | stringExpression | enumeration | selfReference | typeReference | memberReference | parExpression );
+    public final Primary base() throws RecognitionException {
+        Primary primary = null;
+
+
+        Literal nonstringLiteral162 =null;
+
+        Atom stringExpression163 =null;
+
+        SequenceEnumeration enumeration164 =null;
+
+        Atom selfReference165 =null;
+
+        CeylonParser.typeReference_return typeReference166 =null;
+
+        CeylonParser.memberReference_return memberReference167 =null;
+
+        Expression parExpression168 =null;
+
+
+        try {
+            // /root/project/Ceylon.g:1436:5: ( nonstringLiteral | stringExpression | enumeration | selfReference | typeReference | memberReference | parExpression )
+            int alt95=7;
+            switch ( input.LA(1) ) {
+            case CHAR_LITERAL:
+            case FLOAT_LITERAL:
+            case NATURAL_LITERAL:
+            case QUOTED_LITERAL:
+                {
+                alt95=1;
+                }
+                break;
+            case STRING_LITERAL:
+                {
+                alt95=2;
+                }
+                break;
+            case LBRACE:
+                {
+                alt95=3;
+                }
+                break;
+            case OUTER:
+            case SUPER:
+            case THIS:
+                {
+                alt95=4;
+                }
+                break;
+            case UIDENTIFIER:
+                {
+                alt95=5;
+                }
+                break;
+            case LIDENTIFIER:
+                {
+                alt95=6;
+                }
+                break;
+            case LPAREN:
+                {
+                alt95=7;
+                }
+                break;
+            default:
+                if (state.backtracking>0) {state.failed=true; return primary;}
+                NoViableAltException nvae =
+                    new NoViableAltException("", 95, 0, input);
+
+                throw nvae;
+
+            }
+
+            switch (alt95) {
+                case 1 :
+                    // /root/project/Ceylon.g:1436:7: nonstringLiteral
+                    {
+                    pushFollow(FOLLOW_nonstringLiteral_in_base7100);
+                    nonstringLiteral162=nonstringLiteral();
+
+                    state._fsp--;
+                    if (state.failed) return primary;
+
+                    if ( state.backtracking==0 ) { primary =nonstringLiteral162; }
+
+                    }
+                    break;
+                case 2 :
+                    // /root/project/Ceylon.g:1438:7: stringExpression
+                    {
+                    pushFollow(FOLLOW_stringExpression_in_base7116);
+                    stringExpression163=stringExpression();
+
+                    state._fsp--;
+                    if (state.failed) return primary;
+
+                    if ( state.backtracking==0 ) { primary =stringExpression163; }
+
+                    }
+                    break;
+                case 3 :
+                    // /root/project/Ceylon.g:1440:7: enumeration
+                    {
+                    pushFollow(FOLLOW_enumeration_in_base7132);
+                    enumeration164=enumeration();
+
+                    state._fsp--;
+                    if (state.failed) return primary;
+
+                    if ( state.backtracking==0 ) { primary =enumeration164; }
+
+                    }
+                    break;
+                case 4 :
+                    // /root/project/Ceylon.g:1442:7: selfReference
+                    {
+                    pushFollow(FOLLOW_selfReference_in_base7148);
+                    selfReference165=selfReference();
+
+                    state._fsp--;
+                    if (state.failed) return primary;
+
+                    if ( state.backtracking==0 ) { primary =selfReference165; }
+
+                    }
+                    break;
+                case 5 :
+                    // /root/project/Ceylon.g:1444:7: typeReference
+                    {
+                    pushFollow(FOLLOW_typeReference_in_base7164);
+                    typeReference166=typeReference();
+
+                    state._fsp--;
+                    if (state.failed) return primary;
+
+                    if ( state.backtracking==0 ) { BaseTypeExpression bte = new BaseTypeExpression(null);
+                            bte.setIdentifier((typeReference166!=null?typeReference166.identifier:null));
+                            bte.setTypeArguments( new InferredTypeArguments(null) );
+                            if ((typeReference166!=null?typeReference166.typeArgumentList:null)!=null)
+                                bte.setTypeArguments((typeReference166!=null?typeReference166.typeArgumentList:null));
+                            primary =bte; }
+
+                    }
+                    break;
+                case 6 :
+                    // /root/project/Ceylon.g:1451:7: memberReference
+                    {
+                    pushFollow(FOLLOW_memberReference_in_base7180);
+                    memberReference167=memberReference();
+
+                    state._fsp--;
+                    if (state.failed) return primary;
+
+                    if ( state.backtracking==0 ) { BaseMemberExpression bme = new BaseMemberExpression(null);
+                            bme.setIdentifier((memberReference167!=null?memberReference167.identifier:null));
+                            bme.setTypeArguments( new InferredTypeArguments(null) );
+                            if ((memberReference167!=null?memberReference167.typeArgumentList:null)!=null)
+                                bme.setTypeArguments((memberReference167!=null?memberReference167.typeArgumentList:null));
+                            primary =bme; }
+
+                    }
+                    break;
+                case 7 :
+                    // /root/project/Ceylon.g:1458:7: parExpression
+                    {
+                    pushFollow(FOLLOW_parExpression_in_base7196);
+                    parExpression168=parExpression();
+
+                    state._fsp--;
+                    if (state.failed) return primary;
+
+                    if ( state.backtracking==0 ) { primary =parExpression168; }
+
+                    }
+                    break;
+
+            }
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return primary;
+    }
+    // $ANTLR end "base"
+
+
+
+    // $ANTLR start "primary"
+    // /root/project/Ceylon.g:1462:1: primary returns [Primary primary] : base ( qualifiedReference | indexExpression | arguments )* ;
+    public final Primary primary() throws RecognitionException {
+        Primary primary = null;
+
+
+        Primary base169 =null;
+
+        CeylonParser.qualifiedReference_return qualifiedReference170 =null;
+
+        CeylonParser.indexExpression_return indexExpression171 =null;
+
+        ArgumentList arguments172 =null;
+
+
+        try {
+            // /root/project/Ceylon.g:1463:5: ( base ( qualifiedReference | indexExpression | arguments )* )
+            // /root/project/Ceylon.g:1463:7: base ( qualifiedReference | indexExpression | arguments )*
+            {
+            pushFollow(FOLLOW_base_in_primary7225);
+            base169=base();
+
+            state._fsp--;
+            if (state.failed) return primary;
+
+            if ( state.backtracking==0 ) { primary =base169; }
+
+            // /root/project/Ceylon.g:1465:5: ( qualifiedReference | indexExpression | arguments )*
+            loop96:
+            do {
+                int alt96=4;
+                switch ( input.LA(1) ) {
+                case MEMBER_OP:
+                case SAFE_MEMBER_OP:
+                case SPREAD_OP:
+                    {
+                    alt96=1;
+                    }
+                    break;
+                case INDEX_OP:
+                case SAFE_INDEX_OP:
+                    {
+                    alt96=2;
+                    }
+                    break;
+                case LBRACE:
+                case LPAREN:
+                    {
+                    alt96=3;
+                    }
+                    break;
+
+                }
+
+                switch (alt96) {
+            	case 1 :
+            	    // /root/project/Ceylon.g:1468:11: qualifiedReference
+            	    {
+            	    pushFollow(FOLLOW_qualifiedReference_in_primary7261);
+            	    qualifiedReference170=qualifiedReference();
+
+            	    state._fsp--;
+            	    if (state.failed) return primary;
+
+            	    if ( state.backtracking==0 ) { QualifiedMemberOrTypeExpression qe;
+            	            if ((qualifiedReference170!=null?qualifiedReference170.isMember:false))
+            	                qe = new QualifiedMemberExpression(null);
+            	            else
+            	                qe = new QualifiedTypeExpression(null);
+            	            qe.setPrimary(primary);
+            	            qe.setMemberOperator((qualifiedReference170!=null?qualifiedReference170.operator:null));
+            	            qe.setIdentifier((qualifiedReference170!=null?qualifiedReference170.identifier:null));
+            	            qe.setTypeArguments( new InferredTypeArguments(null) );
+            	            if ((qualifiedReference170!=null?qualifiedReference170.typeArgumentList:null)!=null)
+            	                qe.setTypeArguments((qualifiedReference170!=null?qualifiedReference170.typeArgumentList:null));
+            	            primary =qe; }
+
+            	    }
+            	    break;
+            	case 2 :
+            	    // /root/project/Ceylon.g:1481:9: indexExpression
+            	    {
+            	    pushFollow(FOLLOW_indexExpression_in_primary7279);
+            	    indexExpression171=indexExpression();
+
+            	    state._fsp--;
+            	    if (state.failed) return primary;
+
+            	    if ( state.backtracking==0 ) { IndexExpression xe = new IndexExpression(null);
+            	              xe.setPrimary(primary);
+            	              xe.setIndexOperator((indexExpression171!=null?indexExpression171.operator:null)); 
+            	              xe.setElementOrRange((indexExpression171!=null?indexExpression171.elementOrRange:null));
+            	              primary =xe; }
+
+            	    }
+            	    break;
+            	case 3 :
+            	    // /root/project/Ceylon.g:1487:9: arguments
+            	    {
+            	    pushFollow(FOLLOW_arguments_in_primary7299);
+            	    arguments172=arguments();
+
+            	    state._fsp--;
+            	    if (state.failed) return primary;
+
+            	    if ( state.backtracking==0 ) { InvocationExpression ie = new InvocationExpression(null);
+            	              ie.setPrimary(primary);
+            	              if (arguments172 instanceof PositionalArgumentList)
+            	                  ie.setPositionalArgumentList((PositionalArgumentList)arguments172);
+            	              if (arguments172 instanceof NamedArgumentList)
+            	                  ie.setNamedArgumentList((NamedArgumentList)arguments172);
+            	              primary =ie; }
+
+            	    }
+            	    break;
+
+            	default :
+            	    break loop96;
+                }
+            } while (true);
+
+
+            }
+
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return primary;
+    }
+    // $ANTLR end "primary"
+
+
+    public static class qualifiedReference_return extends ParserRuleReturnScope {
+        public Identifier identifier;
+        public MemberOperator operator;
+        public TypeArgumentList typeArgumentList;
+        public boolean isMember;
+    };
+
+
+    // $ANTLR start "qualifiedReference"
+    // /root/project/Ceylon.g:1498:1: qualifiedReference returns [Identifier identifier, MemberOperator operator, \n TypeArgumentList typeArgumentList, boolean isMember] : memberSelectionOperator ( memberReference | typeReference | (~ ( LIDENTIFIER | UIDENTIFIER ) )=>) ;
+    public final CeylonParser.qualifiedReference_return qualifiedReference() throws RecognitionException {
+        CeylonParser.qualifiedReference_return retval = new CeylonParser.qualifiedReference_return();
+        retval.start = input.LT(1);
+
+
+        MemberOperator memberSelectionOperator173 =null;
+
+        CeylonParser.memberReference_return memberReference174 =null;
+
+        CeylonParser.typeReference_return typeReference175 =null;
+
+
+        try {
+            // /root/project/Ceylon.g:1500:5: ( memberSelectionOperator ( memberReference | typeReference | (~ ( LIDENTIFIER | UIDENTIFIER ) )=>) )
+            // /root/project/Ceylon.g:1500:7: memberSelectionOperator ( memberReference | typeReference | (~ ( LIDENTIFIER | UIDENTIFIER ) )=>)
+            {
+            pushFollow(FOLLOW_memberSelectionOperator_in_qualifiedReference7337);
+            memberSelectionOperator173=memberSelectionOperator();
+
+            state._fsp--;
+            if (state.failed) return retval;
+
+            if ( state.backtracking==0 ) { retval.operator = memberSelectionOperator173;
+                    retval.identifier = new Identifier(retval.operator.getToken());
+                    retval.identifier.setText("");
+                    retval.isMember =true; }
+
+            // /root/project/Ceylon.g:1505:7: ( memberReference | typeReference | (~ ( LIDENTIFIER | UIDENTIFIER ) )=>)
+            int alt97=3;
+            alt97 = dfa97.predict(input);
+            switch (alt97) {
+                case 1 :
+                    // /root/project/Ceylon.g:1506:9: memberReference
+                    {
+                    pushFollow(FOLLOW_memberReference_in_qualifiedReference7365);
+                    memberReference174=memberReference();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+
+                    if ( state.backtracking==0 ) { retval.identifier = (memberReference174!=null?memberReference174.identifier:null);
+                              retval.typeArgumentList = (memberReference174!=null?memberReference174.typeArgumentList:null); }
+
+                    }
+                    break;
+                case 2 :
+                    // /root/project/Ceylon.g:1509:9: typeReference
+                    {
+                    pushFollow(FOLLOW_typeReference_in_qualifiedReference7385);
+                    typeReference175=typeReference();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+
+                    if ( state.backtracking==0 ) { retval.identifier = (typeReference175!=null?typeReference175.identifier:null);
+                              retval.typeArgumentList = (typeReference175!=null?typeReference175.typeArgumentList:null);  
+                              retval.isMember =false; }
+
+                    }
+                    break;
+                case 3 :
+                    // /root/project/Ceylon.g:1513:9: (~ ( LIDENTIFIER | UIDENTIFIER ) )=>
+                    {
+                    if ( state.backtracking==0 ) { displayRecognitionError(getTokenNames(), 
+                                  new MismatchedTokenException(LIDENTIFIER, input)); }
+
+                    }
+                    break;
+
+            }
+
+
+            }
+
+            retval.stop = input.LT(-1);
+
+
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "qualifiedReference"
+
+
+    public static class indexExpression_return extends ParserRuleReturnScope {
+        public IndexOperator operator;
+        public ElementOrRange elementOrRange;
+    };
+
+
+    // $ANTLR start "indexExpression"
+    // /root/project/Ceylon.g:1519:1: indexExpression returns [IndexOperator operator, ElementOrRange elementOrRange] : elementSelectionOperator indexOrIndexRange RBRACKET ;
+    public final CeylonParser.indexExpression_return indexExpression() throws RecognitionException {
+        CeylonParser.indexExpression_return retval = new CeylonParser.indexExpression_return();
+        retval.start = input.LT(1);
+
+
+        IndexOperator elementSelectionOperator176 =null;
+
+        ElementOrRange indexOrIndexRange177 =null;
+
+
+        try {
+            // /root/project/Ceylon.g:1520:5: ( elementSelectionOperator indexOrIndexRange RBRACKET )
+            // /root/project/Ceylon.g:1520:7: elementSelectionOperator indexOrIndexRange RBRACKET
+            {
+            pushFollow(FOLLOW_elementSelectionOperator_in_indexExpression7452);
+            elementSelectionOperator176=elementSelectionOperator();
+
+            state._fsp--;
+            if (state.failed) return retval;
+
+            if ( state.backtracking==0 ) { retval.operator =elementSelectionOperator176; }
+
+            pushFollow(FOLLOW_indexOrIndexRange_in_indexExpression7469);
+            indexOrIndexRange177=indexOrIndexRange();
+
+            state._fsp--;
+            if (state.failed) return retval;
+
+            if ( state.backtracking==0 ) { retval.elementOrRange =indexOrIndexRange177; }
+
+            match(input,RBRACKET,FOLLOW_RBRACKET_in_indexExpression7486); if (state.failed) return retval;
+
+            }
+
+            retval.stop = input.LT(-1);
+
+
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "indexExpression"
+
+
+
+    // $ANTLR start "memberSelectionOperator"
+    // /root/project/Ceylon.g:1527:1: memberSelectionOperator returns [MemberOperator operator] : ( MEMBER_OP | SAFE_MEMBER_OP | SPREAD_OP );
+    public final MemberOperator memberSelectionOperator() throws RecognitionException {
+        MemberOperator operator = null;
+
+
+        Token MEMBER_OP178=null;
+        Token SAFE_MEMBER_OP179=null;
+        Token SPREAD_OP180=null;
+
+        try {
+            // /root/project/Ceylon.g:1528:5: ( MEMBER_OP | SAFE_MEMBER_OP | SPREAD_OP )
+            int alt98=3;
+            switch ( input.LA(1) ) {
+            case MEMBER_OP:
+                {
+                alt98=1;
+                }
+                break;
+            case SAFE_MEMBER_OP:
+                {
+                alt98=2;
+                }
+                break;
+            case SPREAD_OP:
+                {
+                alt98=3;
+                }
+                break;
+            default:
+                if (state.backtracking>0) {state.failed=true; return operator;}
+                NoViableAltException nvae =
+                    new NoViableAltException("", 98, 0, input);
+
+                throw nvae;
+
+            }
+
+            switch (alt98) {
+                case 1 :
+                    // /root/project/Ceylon.g:1528:7: MEMBER_OP
+                    {
+                    MEMBER_OP178=(Token)match(input,MEMBER_OP,FOLLOW_MEMBER_OP_in_memberSelectionOperator7507); if (state.failed) return operator;
+
+                    if ( state.backtracking==0 ) { operator =new MemberOp(MEMBER_OP178); }
+
+                    }
+                    break;
+                case 2 :
+                    // /root/project/Ceylon.g:1530:7: SAFE_MEMBER_OP
+                    {
+                    SAFE_MEMBER_OP179=(Token)match(input,SAFE_MEMBER_OP,FOLLOW_SAFE_MEMBER_OP_in_memberSelectionOperator7523); if (state.failed) return operator;
+
+                    if ( state.backtracking==0 ) { operator =new SafeMemberOp(SAFE_MEMBER_OP179); }
+
+                    }
+                    break;
+                case 3 :
+                    // /root/project/Ceylon.g:1532:7: SPREAD_OP
+                    {
+                    SPREAD_OP180=(Token)match(input,SPREAD_OP,FOLLOW_SPREAD_OP_in_memberSelectionOperator7539); if (state.failed) return operator;
+
+                    if ( state.backtracking==0 ) { operator =new SpreadOp(SPREAD_OP180); }
+
+                    }
+                    break;
+
+            }
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return operator;
+    }
+    // $ANTLR end "memberSelectionOperator"
+
+
+
+    // $ANTLR start "elementSelectionOperator"
+    // /root/project/Ceylon.g:1536:1: elementSelectionOperator returns [IndexOperator operator] : ( SAFE_INDEX_OP | INDEX_OP );
+    public final IndexOperator elementSelectionOperator() throws RecognitionException {
+        IndexOperator operator = null;
+
+
+        Token SAFE_INDEX_OP181=null;
+        Token INDEX_OP182=null;
+
+        try {
+            // /root/project/Ceylon.g:1537:5: ( SAFE_INDEX_OP | INDEX_OP )
+            int alt99=2;
+            int LA99_0 = input.LA(1);
+
+            if ( (LA99_0==SAFE_INDEX_OP) ) {
+                alt99=1;
+            }
+            else if ( (LA99_0==INDEX_OP) ) {
+                alt99=2;
+            }
+            else {
+                if (state.backtracking>0) {state.failed=true; return operator;}
+                NoViableAltException nvae =
+                    new NoViableAltException("", 99, 0, input);
+
+                throw nvae;
+
+            }
+            switch (alt99) {
+                case 1 :
+                    // /root/project/Ceylon.g:1537:7: SAFE_INDEX_OP
+                    {
+                    SAFE_INDEX_OP181=(Token)match(input,SAFE_INDEX_OP,FOLLOW_SAFE_INDEX_OP_in_elementSelectionOperator7568); if (state.failed) return operator;
+
+                    if ( state.backtracking==0 ) { operator =new SafeIndexOp(SAFE_INDEX_OP181); }
+
+                    }
+                    break;
+                case 2 :
+                    // /root/project/Ceylon.g:1539:7: INDEX_OP
+                    {
+                    INDEX_OP182=(Token)match(input,INDEX_OP,FOLLOW_INDEX_OP_in_elementSelectionOperator7584); if (state.failed) return operator;
+
+                    if ( state.backtracking==0 ) { operator =new IndexOp(INDEX_OP182); }
+
+                    }
+                    break;
+
+            }
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return operator;
+    }
+    // $ANTLR end "elementSelectionOperator"
+
+
+
+    // $ANTLR start "enumeration"
+    // /root/project/Ceylon.g:1543:1: enumeration returns [SequenceEnumeration sequenceEnumeration] : LBRACE ( expressions | comprehension )? RBRACE ;
+    public final SequenceEnumeration enumeration() throws RecognitionException {
+        SequenceEnumeration sequenceEnumeration = null;
+
+
+        Token LBRACE183=null;
+        Token RBRACE186=null;
+        ExpressionList expressions184 =null;
+
+        Comprehension comprehension185 =null;
+
+
+        try {
+            // /root/project/Ceylon.g:1544:5: ( LBRACE ( expressions | comprehension )? RBRACE )
+            // /root/project/Ceylon.g:1544:7: LBRACE ( expressions | comprehension )? RBRACE
+            {
+            LBRACE183=(Token)match(input,LBRACE,FOLLOW_LBRACE_in_enumeration7613); if (state.failed) return sequenceEnumeration;
+
+            if ( state.backtracking==0 ) { sequenceEnumeration = new SequenceEnumeration(LBRACE183); }
+
+            // /root/project/Ceylon.g:1545:7: ( expressions | comprehension )?
+            int alt100=3;
+            int LA100_0 = input.LA(1);
+
+            if ( (LA100_0==CHAR_LITERAL||LA100_0==COMPLEMENT_OP||LA100_0==DECREMENT_OP||LA100_0==DIFFERENCE_OP||(LA100_0 >= EXISTS && LA100_0 <= EXTENDS)||LA100_0==FLOAT_LITERAL||LA100_0==INCREMENT_OP||LA100_0==IS_OP||LA100_0==LBRACE||LA100_0==LIDENTIFIER||LA100_0==LPAREN||(LA100_0 >= NATURAL_LITERAL && LA100_0 <= NONEMPTY)||LA100_0==NOT_OP||LA100_0==OUTER||LA100_0==QUOTED_LITERAL||LA100_0==SATISFIES||LA100_0==STRING_LITERAL||(LA100_0 >= SUM_OP && LA100_0 <= SUPER)||LA100_0==THIS||LA100_0==UIDENTIFIER) ) {
+                alt100=1;
+            }
+            else if ( (LA100_0==FOR_CLAUSE) ) {
+                alt100=2;
+            }
+            switch (alt100) {
+                case 1 :
+                    // /root/project/Ceylon.g:1546:9: expressions
+                    {
+                    pushFollow(FOLLOW_expressions_in_enumeration7634);
+                    expressions184=expressions();
+
+                    state._fsp--;
+                    if (state.failed) return sequenceEnumeration;
+
+                    if ( state.backtracking==0 ) { sequenceEnumeration.setExpressionList(expressions184); }
+
+                    }
+                    break;
+                case 2 :
+                    // /root/project/Ceylon.g:1549:9: comprehension
+                    {
+                    pushFollow(FOLLOW_comprehension_in_enumeration7663);
+                    comprehension185=comprehension();
+
+                    state._fsp--;
+                    if (state.failed) return sequenceEnumeration;
+
+                    if ( state.backtracking==0 ) { sequenceEnumeration.setComprehension(comprehension185); }
+
+                    }
+                    break;
+
+            }
+
+
+            RBRACE186=(Token)match(input,RBRACE,FOLLOW_RBRACE_in_enumeration7690); if (state.failed) return sequenceEnumeration;
+
+            if ( state.backtracking==0 ) { sequenceEnumeration.setEndToken(RBRACE186); }
+
+            }
+
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return sequenceEnumeration;
+    }
+    // $ANTLR end "enumeration"
+
+
+
+    // $ANTLR start "expressions"
+    // /root/project/Ceylon.g:1556:1: expressions returns [ExpressionList expressionList] :e1= expression (c= COMMA (e2= expression |) )* ;
+    public final ExpressionList expressions() throws RecognitionException {
+        ExpressionList expressionList = null;
+
+
+        Token c=null;
+        Expression e1 =null;
+
+        Expression e2 =null;
+
+
+        try {
+            // /root/project/Ceylon.g:1557:5: (e1= expression (c= COMMA (e2= expression |) )* )
+            // /root/project/Ceylon.g:1557:7: e1= expression (c= COMMA (e2= expression |) )*
+            {
+            if ( state.backtracking==0 ) { expressionList = new ExpressionList(null); }
+
+            pushFollow(FOLLOW_expression_in_expressions7729);
+            e1=expression();
+
+            state._fsp--;
+            if (state.failed) return expressionList;
+
+            if ( state.backtracking==0 ) { expressionList.addExpression(e1); }
+
+            // /root/project/Ceylon.g:1560:7: (c= COMMA (e2= expression |) )*
+            loop102:
+            do {
+                int alt102=2;
+                int LA102_0 = input.LA(1);
+
+                if ( (LA102_0==COMMA) ) {
+                    alt102=1;
+                }
+
+
+                switch (alt102) {
+            	case 1 :
+            	    // /root/project/Ceylon.g:1560:9: c= COMMA (e2= expression |)
+            	    {
+            	    c=(Token)match(input,COMMA,FOLLOW_COMMA_in_expressions7750); if (state.failed) return expressionList;
+
+            	    if ( state.backtracking==0 ) { expressionList.setEndToken(c); }
+
+            	    // /root/project/Ceylon.g:1562:9: (e2= expression |)
+            	    int alt101=2;
+            	    int LA101_0 = input.LA(1);
+
+            	    if ( (LA101_0==CHAR_LITERAL||LA101_0==COMPLEMENT_OP||LA101_0==DECREMENT_OP||LA101_0==DIFFERENCE_OP||(LA101_0 >= EXISTS && LA101_0 <= EXTENDS)||LA101_0==FLOAT_LITERAL||LA101_0==INCREMENT_OP||LA101_0==IS_OP||LA101_0==LBRACE||LA101_0==LIDENTIFIER||LA101_0==LPAREN||(LA101_0 >= NATURAL_LITERAL && LA101_0 <= NONEMPTY)||LA101_0==NOT_OP||LA101_0==OUTER||LA101_0==QUOTED_LITERAL||LA101_0==SATISFIES||LA101_0==STRING_LITERAL||(LA101_0 >= SUM_OP && LA101_0 <= SUPER)||LA101_0==THIS||LA101_0==UIDENTIFIER) ) {
+            	        alt101=1;
+            	    }
+            	    else if ( (LA101_0==COMMA||LA101_0==RBRACE||LA101_0==RPAREN) ) {
+            	        alt101=2;
+            	    }
+            	    else {
+            	        if (state.backtracking>0) {state.failed=true; return expressionList;}
+            	        NoViableAltException nvae =
+            	            new NoViableAltException("", 101, 0, input);
+
+            	        throw nvae;
+
+            	    }
+            	    switch (alt101) {
+            	        case 1 :
+            	            // /root/project/Ceylon.g:1563:11: e2= expression
+            	            {
+            	            pushFollow(FOLLOW_expression_in_expressions7785);
+            	            e2=expression();
+
+            	            state._fsp--;
+            	            if (state.failed) return expressionList;
+
+            	            if ( state.backtracking==0 ) { expressionList.addExpression(e2);
+            	                        expressionList.setEndToken(null); }
+
+            	            }
+            	            break;
+            	        case 2 :
+            	            // /root/project/Ceylon.g:1566:11: 
+            	            {
+            	            if ( state.backtracking==0 ) { displayRecognitionError(getTokenNames(), 
+            	                          new MismatchedTokenException(LIDENTIFIER, input)); }
+
+            	            }
+            	            break;
+
+            	    }
+
+
+            	    }
+            	    break;
+
+            	default :
+            	    break loop102;
+                }
+            } while (true);
+
+
+            }
+
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return expressionList;
+    }
+    // $ANTLR end "expressions"
+
+
+    public static class memberReference_return extends ParserRuleReturnScope {
+        public Identifier identifier;
+        public TypeArgumentList typeArgumentList;
+    };
+
+
+    // $ANTLR start "memberReference"
+    // /root/project/Ceylon.g:1572:1: memberReference returns [Identifier identifier, \n TypeArgumentList typeArgumentList] : memberName ( ( typeArgumentsStart )=> typeArguments )? ;
+    public final CeylonParser.memberReference_return memberReference() throws RecognitionException {
+        CeylonParser.memberReference_return retval = new CeylonParser.memberReference_return();
+        retval.start = input.LT(1);
+
+
+        Identifier memberName187 =null;
+
+        TypeArgumentList typeArguments188 =null;
+
+
+        try {
+            // /root/project/Ceylon.g:1574:5: ( memberName ( ( typeArgumentsStart )=> typeArguments )? )
+            // /root/project/Ceylon.g:1574:7: memberName ( ( typeArgumentsStart )=> typeArguments )?
+            {
+            pushFollow(FOLLOW_memberName_in_memberReference7851);
+            memberName187=memberName();
+
+            state._fsp--;
+            if (state.failed) return retval;
+
+            if ( state.backtracking==0 ) { retval.identifier = memberName187; }
+
+            // /root/project/Ceylon.g:1576:7: ( ( typeArgumentsStart )=> typeArguments )?
+            int alt103=2;
+            alt103 = dfa103.predict(input);
+            switch (alt103) {
+                case 1 :
+                    // /root/project/Ceylon.g:1577:9: ( typeArgumentsStart )=> typeArguments
+                    {
+                    pushFollow(FOLLOW_typeArguments_in_memberReference7891);
+                    typeArguments188=typeArguments();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+
+                    if ( state.backtracking==0 ) { retval.typeArgumentList = typeArguments188; }
+
+                    }
+                    break;
+
+            }
+
+
+            }
+
+            retval.stop = input.LT(-1);
+
+
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "memberReference"
+
+
+    public static class typeReference_return extends ParserRuleReturnScope {
+        public Identifier identifier;
+        public TypeArgumentList typeArgumentList;
+    };
+
+
+    // $ANTLR start "typeReference"
+    // /root/project/Ceylon.g:1583:1: typeReference returns [Identifier identifier, \n TypeArgumentList typeArgumentList] : typeName ( ( typeArgumentsStart )=> typeArguments )? ;
+    public final CeylonParser.typeReference_return typeReference() throws RecognitionException {
+        CeylonParser.typeReference_return retval = new CeylonParser.typeReference_return();
+        retval.start = input.LT(1);
+
+
+        Identifier typeName189 =null;
+
+        TypeArgumentList typeArguments190 =null;
+
+
+        try {
+            // /root/project/Ceylon.g:1585:5: ( typeName ( ( typeArgumentsStart )=> typeArguments )? )
+            // /root/project/Ceylon.g:1585:7: typeName ( ( typeArgumentsStart )=> typeArguments )?
+            {
+            pushFollow(FOLLOW_typeName_in_typeReference7931);
+            typeName189=typeName();
+
+            state._fsp--;
+            if (state.failed) return retval;
+
+            if ( state.backtracking==0 ) { retval.identifier = typeName189; }
+
+            // /root/project/Ceylon.g:1587:7: ( ( typeArgumentsStart )=> typeArguments )?
+            int alt104=2;
+            alt104 = dfa104.predict(input);
+            switch (alt104) {
+                case 1 :
+                    // /root/project/Ceylon.g:1588:9: ( typeArgumentsStart )=> typeArguments
+                    {
+                    pushFollow(FOLLOW_typeArguments_in_typeReference7972);
+                    typeArguments190=typeArguments();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+
+                    if ( state.backtracking==0 ) { retval.typeArgumentList = typeArguments190; }
+
+                    }
+                    break;
+
+            }
+
+
+            }
+
+            retval.stop = input.LT(-1);
+
+
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "typeReference"
+
+
+
+    // $ANTLR start "typeArgumentsStart"
+    // /root/project/Ceylon.g:1597:1: typeArgumentsStart : SMALLER_OP ( UIDENTIFIER ( '.' UIDENTIFIER )* ( DEFAULT_OP | ARRAY )* ( ( INTERSECTION_OP | UNION_OP | ENTRY_OP ) UIDENTIFIER ( '.' UIDENTIFIER )* ( DEFAULT_OP | ARRAY )* )* ( LARGER_OP | SMALLER_OP | COMMA | ELLIPSIS ) | LARGER_OP ) ;
+    public final void typeArgumentsStart() throws RecognitionException {
+        try {
+            // /root/project/Ceylon.g:1598:5: ( SMALLER_OP ( UIDENTIFIER ( '.' UIDENTIFIER )* ( DEFAULT_OP | ARRAY )* ( ( INTERSECTION_OP | UNION_OP | ENTRY_OP ) UIDENTIFIER ( '.' UIDENTIFIER )* ( DEFAULT_OP | ARRAY )* )* ( LARGER_OP | SMALLER_OP | COMMA | ELLIPSIS ) | LARGER_OP ) )
+            // /root/project/Ceylon.g:1598:7: SMALLER_OP ( UIDENTIFIER ( '.' UIDENTIFIER )* ( DEFAULT_OP | ARRAY )* ( ( INTERSECTION_OP | UNION_OP | ENTRY_OP ) UIDENTIFIER ( '.' UIDENTIFIER )* ( DEFAULT_OP | ARRAY )* )* ( LARGER_OP | SMALLER_OP | COMMA | ELLIPSIS ) | LARGER_OP )
+            {
+            match(input,SMALLER_OP,FOLLOW_SMALLER_OP_in_typeArgumentsStart8011); if (state.failed) return ;
+
+            // /root/project/Ceylon.g:1599:5: ( UIDENTIFIER ( '.' UIDENTIFIER )* ( DEFAULT_OP | ARRAY )* ( ( INTERSECTION_OP | UNION_OP | ENTRY_OP ) UIDENTIFIER ( '.' UIDENTIFIER )* ( DEFAULT_OP | ARRAY )* )* ( LARGER_OP | SMALLER_OP | COMMA | ELLIPSIS ) | LARGER_OP )
+            int alt110=2;
+            int LA110_0 = input.LA(1);
+
+            if ( (LA110_0==UIDENTIFIER) ) {
+                alt110=1;
+            }
+            else if ( (LA110_0==LARGER_OP) ) {
+                alt110=2;
+            }
+            else {
+                if (state.backtracking>0) {state.failed=true; return ;}
+                NoViableAltException nvae =
+                    new NoViableAltException("", 110, 0, input);
+
+                throw nvae;
+
+            }
+            switch (alt110) {
+                case 1 :
+                    // /root/project/Ceylon.g:1600:7: UIDENTIFIER ( '.' UIDENTIFIER )* ( DEFAULT_OP | ARRAY )* ( ( INTERSECTION_OP | UNION_OP | ENTRY_OP ) UIDENTIFIER ( '.' UIDENTIFIER )* ( DEFAULT_OP | ARRAY )* )* ( LARGER_OP | SMALLER_OP | COMMA | ELLIPSIS )
+                    {
+                    match(input,UIDENTIFIER,FOLLOW_UIDENTIFIER_in_typeArgumentsStart8025); if (state.failed) return ;
+
+                    // /root/project/Ceylon.g:1600:19: ( '.' UIDENTIFIER )*
+                    loop105:
+                    do {
+                        int alt105=2;
+                        int LA105_0 = input.LA(1);
+
+                        if ( (LA105_0==MEMBER_OP) ) {
+                            alt105=1;
+                        }
+
+
+                        switch (alt105) {
+                    	case 1 :
+                    	    // /root/project/Ceylon.g:1600:20: '.' UIDENTIFIER
+                    	    {
+                    	    match(input,MEMBER_OP,FOLLOW_MEMBER_OP_in_typeArgumentsStart8028); if (state.failed) return ;
+
+                    	    match(input,UIDENTIFIER,FOLLOW_UIDENTIFIER_in_typeArgumentsStart8030); if (state.failed) return ;
+
+                    	    }
+                    	    break;
+
+                    	default :
+                    	    break loop105;
+                        }
+                    } while (true);
+
+
+                    // /root/project/Ceylon.g:1600:55: ( DEFAULT_OP | ARRAY )*
+                    loop106:
+                    do {
+                        int alt106=2;
+                        int LA106_0 = input.LA(1);
+
+                        if ( (LA106_0==ARRAY||LA106_0==DEFAULT_OP) ) {
+                            alt106=1;
+                        }
+
+
+                        switch (alt106) {
+                    	case 1 :
+                    	    // /root/project/Ceylon.g:
+                    	    {
+                    	    if ( input.LA(1)==ARRAY||input.LA(1)==DEFAULT_OP ) {
+                    	        input.consume();
+                    	        state.errorRecovery=false;
+                    	        state.failed=false;
+                    	    }
+                    	    else {
+                    	        if (state.backtracking>0) {state.failed=true; return ;}
+                    	        MismatchedSetException mse = new MismatchedSetException(null,input);
+                    	        throw mse;
+                    	    }
+
+
+                    	    }
+                    	    break;
+
+                    	default :
+                    	    break loop106;
+                        }
+                    } while (true);
+
+
+                    // /root/project/Ceylon.g:1601:7: ( ( INTERSECTION_OP | UNION_OP | ENTRY_OP ) UIDENTIFIER ( '.' UIDENTIFIER )* ( DEFAULT_OP | ARRAY )* )*
+                    loop109:
+                    do {
+                        int alt109=2;
+                        int LA109_0 = input.LA(1);
+
+                        if ( (LA109_0==ENTRY_OP||LA109_0==INTERSECTION_OP||LA109_0==UNION_OP) ) {
+                            alt109=1;
+                        }
+
+
+                        switch (alt109) {
+                    	case 1 :
+                    	    // /root/project/Ceylon.g:1601:8: ( INTERSECTION_OP | UNION_OP | ENTRY_OP ) UIDENTIFIER ( '.' UIDENTIFIER )* ( DEFAULT_OP | ARRAY )*
+                    	    {
+                    	    if ( input.LA(1)==ENTRY_OP||input.LA(1)==INTERSECTION_OP||input.LA(1)==UNION_OP ) {
+                    	        input.consume();
+                    	        state.errorRecovery=false;
+                    	        state.failed=false;
+                    	    }
+                    	    else {
+                    	        if (state.backtracking>0) {state.failed=true; return ;}
+                    	        MismatchedSetException mse = new MismatchedSetException(null,input);
+                    	        throw mse;
+                    	    }
+
+
+                    	    match(input,UIDENTIFIER,FOLLOW_UIDENTIFIER_in_typeArgumentsStart8058); if (state.failed) return ;
+
+                    	    // /root/project/Ceylon.g:1601:56: ( '.' UIDENTIFIER )*
+                    	    loop107:
+                    	    do {
+                    	        int alt107=2;
+                    	        int LA107_0 = input.LA(1);
+
+                    	        if ( (LA107_0==MEMBER_OP) ) {
+                    	            alt107=1;
+                    	        }
+
+
+                    	        switch (alt107) {
+                    	    	case 1 :
+                    	    	    // /root/project/Ceylon.g:1601:57: '.' UIDENTIFIER
+                    	    	    {
+                    	    	    match(input,MEMBER_OP,FOLLOW_MEMBER_OP_in_typeArgumentsStart8061); if (state.failed) return ;
+
+                    	    	    match(input,UIDENTIFIER,FOLLOW_UIDENTIFIER_in_typeArgumentsStart8063); if (state.failed) return ;
+
+                    	    	    }
+                    	    	    break;
+
+                    	    	default :
+                    	    	    break loop107;
+                    	        }
+                    	    } while (true);
+
+
+                    	    // /root/project/Ceylon.g:1601:75: ( DEFAULT_OP | ARRAY )*
+                    	    loop108:
+                    	    do {
+                    	        int alt108=2;
+                    	        int LA108_0 = input.LA(1);
+
+                    	        if ( (LA108_0==ARRAY||LA108_0==DEFAULT_OP) ) {
+                    	            alt108=1;
+                    	        }
+
+
+                    	        switch (alt108) {
+                    	    	case 1 :
+                    	    	    // /root/project/Ceylon.g:
+                    	    	    {
+                    	    	    if ( input.LA(1)==ARRAY||input.LA(1)==DEFAULT_OP ) {
+                    	    	        input.consume();
+                    	    	        state.errorRecovery=false;
+                    	    	        state.failed=false;
+                    	    	    }
+                    	    	    else {
+                    	    	        if (state.backtracking>0) {state.failed=true; return ;}
+                    	    	        MismatchedSetException mse = new MismatchedSetException(null,input);
+                    	    	        throw mse;
+                    	    	    }
+
+
+                    	    	    }
+                    	    	    break;
+
+                    	    	default :
+                    	    	    break loop108;
+                    	        }
+                    	    } while (true);
+
+
+                    	    }
+                    	    break;
+
+                    	default :
+                    	    break loop109;
+                        }
+                    } while (true);
+
+
+                    if ( input.LA(1)==COMMA||input.LA(1)==ELLIPSIS||input.LA(1)==LARGER_OP||input.LA(1)==SMALLER_OP ) {
+                        input.consume();
+                        state.errorRecovery=false;
+                        state.failed=false;
+                    }
+                    else {
+                        if (state.backtracking>0) {state.failed=true; return ;}
+                        MismatchedSetException mse = new MismatchedSetException(null,input);
+                        throw mse;
+                    }
+
+
+                    }
+                    break;
+                case 2 :
+                    // /root/project/Ceylon.g:1604:7: LARGER_OP
+                    {
+                    match(input,LARGER_OP,FOLLOW_LARGER_OP_in_typeArgumentsStart8105); if (state.failed) return ;
+
+                    }
+                    break;
+
+            }
+
+
+            }
+
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return ;
+    }
+    // $ANTLR end "typeArgumentsStart"
+
+
+
+    // $ANTLR start "indexOrIndexRange"
+    // /root/project/Ceylon.g:1608:1: indexOrIndexRange returns [ElementOrRange elementOrRange] : l= index (| '...' | '..' u= index ) ;
+    public final ElementOrRange indexOrIndexRange() throws RecognitionException {
+        ElementOrRange elementOrRange = null;
+
+
+        Expression l =null;
+
+        Expression u =null;
+
+
+        try {
+            // /root/project/Ceylon.g:1609:5: (l= index (| '...' | '..' u= index ) )
+            // /root/project/Ceylon.g:1609:7: l= index (| '...' | '..' u= index )
+            {
+            pushFollow(FOLLOW_index_in_indexOrIndexRange8135);
+            l=index();
+
+            state._fsp--;
+            if (state.failed) return elementOrRange;
+
+            // /root/project/Ceylon.g:1610:5: (| '...' | '..' u= index )
+            int alt111=3;
+            switch ( input.LA(1) ) {
+            case RBRACKET:
+                {
+                alt111=1;
+                }
+                break;
+            case ELLIPSIS:
+                {
+                alt111=2;
+                }
+                break;
+            case RANGE_OP:
+                {
+                alt111=3;
+                }
+                break;
+            default:
+                if (state.backtracking>0) {state.failed=true; return elementOrRange;}
+                NoViableAltException nvae =
+                    new NoViableAltException("", 111, 0, input);
+
+                throw nvae;
+
+            }
+
+            switch (alt111) {
+                case 1 :
+                    // /root/project/Ceylon.g:1611:7: 
+                    {
+                    if ( state.backtracking==0 ) { Element e = new Element(null);
+                            elementOrRange = e;
+                            e.setExpression(l); }
+
+                    }
+                    break;
+                case 2 :
+                    // /root/project/Ceylon.g:1614:9: '...'
+                    {
+                    match(input,ELLIPSIS,FOLLOW_ELLIPSIS_in_indexOrIndexRange8159); if (state.failed) return elementOrRange;
+
+                    if ( state.backtracking==0 ) { ElementRange er1 = new ElementRange(null);
+                            elementOrRange = er1;
+                            er1.setLowerBound(l); }
+
+                    }
+                    break;
+                case 3 :
+                    // /root/project/Ceylon.g:1618:9: '..' u= index
+                    {
+                    match(input,RANGE_OP,FOLLOW_RANGE_OP_in_indexOrIndexRange8178); if (state.failed) return elementOrRange;
+
+                    pushFollow(FOLLOW_index_in_indexOrIndexRange8182);
+                    u=index();
+
+                    state._fsp--;
+                    if (state.failed) return elementOrRange;
+
+                    if ( state.backtracking==0 ) { ElementRange er2 = new ElementRange(null);
+                            elementOrRange = er2;
+                            er2.setLowerBound(l); 
+                            er2.setUpperBound(u); }
+
+                    }
+                    break;
+
+            }
+
+
+            }
+
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return elementOrRange;
+    }
+    // $ANTLR end "indexOrIndexRange"
+
+
+
+    // $ANTLR start "index"
+    // /root/project/Ceylon.g:1626:1: index returns [Expression expression] : additiveExpression ;
+    public final Expression index() throws RecognitionException {
+        Expression expression = null;
+
+
+        Term additiveExpression191 =null;
+
+
+        try {
+            // /root/project/Ceylon.g:1627:5: ( additiveExpression )
+            // /root/project/Ceylon.g:1627:7: additiveExpression
+            {
+            pushFollow(FOLLOW_additiveExpression_in_index8218);
+            additiveExpression191=additiveExpression();
+
+            state._fsp--;
+            if (state.failed) return expression;
+
+            if ( state.backtracking==0 ) { expression = new Expression(null);
+                    expression.setTerm(additiveExpression191); }
+
+            }
+
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return expression;
+    }
+    // $ANTLR end "index"
+
+
+
+    // $ANTLR start "arguments"
+    // /root/project/Ceylon.g:1632:1: arguments returns [ArgumentList argumentList] : ( positionalArguments | namedArguments );
+    public final ArgumentList arguments() throws RecognitionException {
+        ArgumentList argumentList = null;
+
+
+        PositionalArgumentList positionalArguments192 =null;
+
+        NamedArgumentList namedArguments193 =null;
+
+
+        try {
+            // /root/project/Ceylon.g:1633:5: ( positionalArguments | namedArguments )
+            int alt112=2;
+            int LA112_0 = input.LA(1);
+
+            if ( (LA112_0==LPAREN) ) {
+                alt112=1;
+            }
+            else if ( (LA112_0==LBRACE) ) {
+                alt112=2;
+            }
+            else {
+                if (state.backtracking>0) {state.failed=true; return argumentList;}
+                NoViableAltException nvae =
+                    new NoViableAltException("", 112, 0, input);
+
+                throw nvae;
+
+            }
+            switch (alt112) {
+                case 1 :
+                    // /root/project/Ceylon.g:1633:7: positionalArguments
+                    {
+                    pushFollow(FOLLOW_positionalArguments_in_arguments8248);
+                    positionalArguments192=positionalArguments();
+
+                    state._fsp--;
+                    if (state.failed) return argumentList;
+
+                    if ( state.backtracking==0 ) { argumentList = positionalArguments192; }
+
+                    }
+                    break;
+                case 2 :
+                    // /root/project/Ceylon.g:1635:7: namedArguments
+                    {
+                    pushFollow(FOLLOW_namedArguments_in_arguments8265);
+                    namedArguments193=namedArguments();
+
+                    state._fsp--;
+                    if (state.failed) return argumentList;
+
+                    if ( state.backtracking==0 ) { argumentList = namedArguments193; }
+
+                    }
+                    break;
+
+            }
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return argumentList;
+    }
+    // $ANTLR end "arguments"
+
+
+
+    // $ANTLR start "namedArguments"
+    // /root/project/Ceylon.g:1639:1: namedArguments returns [NamedArgumentList namedArgumentList] : LBRACE ({...}? =>na1= namedArgument | ( namedArgumentStart )=>na2= namedArgument )* ( sequencedArgument | comprehension )? RBRACE ;
+    public final NamedArgumentList namedArguments() throws RecognitionException {
+        NamedArgumentList namedArgumentList = null;
+
+
+        Token LBRACE194=null;
+        Token RBRACE197=null;
+        NamedArgument na1 =null;
+
+        NamedArgument na2 =null;
+
+        SequencedArgument sequencedArgument195 =null;
+
+        Comprehension comprehension196 =null;
+
+
+        try {
+            // /root/project/Ceylon.g:1640:5: ( LBRACE ({...}? =>na1= namedArgument | ( namedArgumentStart )=>na2= namedArgument )* ( sequencedArgument | comprehension )? RBRACE )
+            // /root/project/Ceylon.g:1640:7: LBRACE ({...}? =>na1= namedArgument | ( namedArgumentStart )=>na2= namedArgument )* ( sequencedArgument | comprehension )? RBRACE
+            {
+            LBRACE194=(Token)match(input,LBRACE,FOLLOW_LBRACE_in_namedArguments8294); if (state.failed) return namedArgumentList;
+
+            if ( state.backtracking==0 ) { namedArgumentList = new NamedArgumentList(LBRACE194); }
+
+            // /root/project/Ceylon.g:1642:7: ({...}? =>na1= namedArgument | ( namedArgumentStart )=>na2= namedArgument )*
+            loop113:
+            do {
+                int alt113=3;
+                int LA113_0 = input.LA(1);
+
+                if ( (LA113_0==COMPILER_ANNOTATION) ) {
+                    int LA113_1 = input.LA(2);
+
+                    if ( (( isNamedArgumentStart() )) ) {
+                        alt113=1;
+                    }
+                    else if ( (synpred8_Ceylon()) ) {
+                        alt113=2;
+                    }
+
+
+                }
+                else if ( (LA113_0==UIDENTIFIER) ) {
+                    int LA113_17 = input.LA(2);
+
+                    if ( (( isNamedArgumentStart() )) ) {
+                        alt113=1;
+                    }
+                    else if ( (synpred8_Ceylon()) ) {
+                        alt113=2;
+                    }
+
+
+                }
+                else if ( (LA113_0==LIDENTIFIER) ) {
+                    int LA113_18 = input.LA(2);
+
+                    if ( (( isNamedArgumentStart() )) ) {
+                        alt113=1;
+                    }
+                    else if ( (synpred8_Ceylon()) ) {
+                        alt113=2;
+                    }
+
+
+                }
+                else if ( (LA113_0==OBJECT_DEFINITION) && (( isNamedArgumentStart() ))) {
+                    int LA113_27 = input.LA(2);
+
+                    if ( (( isNamedArgumentStart() )) ) {
+                        alt113=1;
+                    }
+                    else if ( (synpred8_Ceylon()) ) {
+                        alt113=2;
+                    }
+
+
+                }
+                else if ( (LA113_0==VOID_MODIFIER) && (( isNamedArgumentStart() ))) {
+                    int LA113_28 = input.LA(2);
+
+                    if ( (( isNamedArgumentStart() )) ) {
+                        alt113=1;
+                    }
+                    else if ( (synpred8_Ceylon()) ) {
+                        alt113=2;
+                    }
+
+
+                }
+                else if ( (LA113_0==FUNCTION_MODIFIER) && (( isNamedArgumentStart() ))) {
+                    int LA113_29 = input.LA(2);
+
+                    if ( (( isNamedArgumentStart() )) ) {
+                        alt113=1;
+                    }
+                    else if ( (synpred8_Ceylon()) ) {
+                        alt113=2;
+                    }
+
+
+                }
+                else if ( (LA113_0==VALUE_MODIFIER) && (( isNamedArgumentStart() ))) {
+                    int LA113_30 = input.LA(2);
+
+                    if ( (( isNamedArgumentStart() )) ) {
+                        alt113=1;
+                    }
+                    else if ( (synpred8_Ceylon()) ) {
+                        alt113=2;
+                    }
+
+
+                }
+
+
+                switch (alt113) {
+            	case 1 :
+            	    // /root/project/Ceylon.g:1644:9: {...}? =>na1= namedArgument
+            	    {
+            	    if ( !(( isNamedArgumentStart() )) ) {
+            	        if (state.backtracking>0) {state.failed=true; return namedArgumentList;}
+            	        throw new FailedPredicateException(input, "namedArguments", " isNamedArgumentStart() ");
+            	    }
+
+            	    pushFollow(FOLLOW_namedArgument_in_namedArguments8336);
+            	    na1=namedArgument();
+
+            	    state._fsp--;
+            	    if (state.failed) return namedArgumentList;
+
+            	    if ( state.backtracking==0 ) { if (na1!=null) 
+            	                  namedArgumentList.addNamedArgument(na1); }
+
+            	    }
+            	    break;
+            	case 2 :
+            	    // /root/project/Ceylon.g:1647:9: ( namedArgumentStart )=>na2= namedArgument
+            	    {
+            	    pushFollow(FOLLOW_namedArgument_in_namedArguments8373);
+            	    na2=namedArgument();
+
+            	    state._fsp--;
+            	    if (state.failed) return namedArgumentList;
+
+            	    if ( state.backtracking==0 ) { if (na2!=null) 
+            	                  namedArgumentList.addNamedArgument(na2); }
+
+            	    }
+            	    break;
+
+            	default :
+            	    break loop113;
+                }
+            } while (true);
+
+
+            // /root/project/Ceylon.g:1652:7: ( sequencedArgument | comprehension )?
+            int alt114=3;
+            int LA114_0 = input.LA(1);
+
+            if ( (LA114_0==CHAR_LITERAL||LA114_0==COMPILER_ANNOTATION||LA114_0==COMPLEMENT_OP||LA114_0==DECREMENT_OP||LA114_0==DIFFERENCE_OP||(LA114_0 >= EXISTS && LA114_0 <= EXTENDS)||LA114_0==FLOAT_LITERAL||LA114_0==INCREMENT_OP||LA114_0==IS_OP||LA114_0==LBRACE||LA114_0==LIDENTIFIER||LA114_0==LPAREN||(LA114_0 >= NATURAL_LITERAL && LA114_0 <= NONEMPTY)||LA114_0==NOT_OP||LA114_0==OUTER||LA114_0==QUOTED_LITERAL||LA114_0==SATISFIES||LA114_0==STRING_LITERAL||(LA114_0 >= SUM_OP && LA114_0 <= SUPER)||LA114_0==THIS||LA114_0==UIDENTIFIER) ) {
+                alt114=1;
+            }
+            else if ( (LA114_0==FOR_CLAUSE) ) {
+                alt114=2;
+            }
+            switch (alt114) {
+                case 1 :
+                    // /root/project/Ceylon.g:1653:9: sequencedArgument
+                    {
+                    pushFollow(FOLLOW_sequencedArgument_in_namedArguments8412);
+                    sequencedArgument195=sequencedArgument();
+
+                    state._fsp--;
+                    if (state.failed) return namedArgumentList;
+
+                    if ( state.backtracking==0 ) { namedArgumentList.setSequencedArgument(sequencedArgument195); }
+
+                    }
+                    break;
+                case 2 :
+                    // /root/project/Ceylon.g:1656:9: comprehension
+                    {
+                    pushFollow(FOLLOW_comprehension_in_namedArguments8441);
+                    comprehension196=comprehension();
+
+                    state._fsp--;
+                    if (state.failed) return namedArgumentList;
+
+                    if ( state.backtracking==0 ) { namedArgumentList.setComprehension(comprehension196); }
+
+                    }
+                    break;
+
+            }
+
+
+            RBRACE197=(Token)match(input,RBRACE,FOLLOW_RBRACE_in_namedArguments8468); if (state.failed) return namedArgumentList;
+
+            if ( state.backtracking==0 ) { namedArgumentList.setEndToken(RBRACE197); }
+
+            }
+
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return namedArgumentList;
+    }
+    // $ANTLR end "namedArguments"
+
+
+
+    // $ANTLR start "sequencedArgument"
+    // /root/project/Ceylon.g:1663:1: sequencedArgument returns [SequencedArgument sequencedArgument] : compilerAnnotations expressions ;
+    public final SequencedArgument sequencedArgument() throws RecognitionException {
+        SequencedArgument sequencedArgument = null;
+
+
+        ExpressionList expressions198 =null;
+
+        List<CompilerAnnotation> compilerAnnotations199 =null;
+
+
+        try {
+            // /root/project/Ceylon.g:1664:5: ( compilerAnnotations expressions )
+            // /root/project/Ceylon.g:1664:7: compilerAnnotations expressions
+            {
+            pushFollow(FOLLOW_compilerAnnotations_in_sequencedArgument8497);
+            compilerAnnotations199=compilerAnnotations();
+
+            state._fsp--;
+            if (state.failed) return sequencedArgument;
+
+            pushFollow(FOLLOW_expressions_in_sequencedArgument8505);
+            expressions198=expressions();
+
+            state._fsp--;
+            if (state.failed) return sequencedArgument;
+
+            if ( state.backtracking==0 ) { sequencedArgument = new SequencedArgument(null);
+                    sequencedArgument.setExpressionList(expressions198);
+                    sequencedArgument.getCompilerAnnotations().addAll(compilerAnnotations199); }
+
+            }
+
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return sequencedArgument;
+    }
+    // $ANTLR end "sequencedArgument"
+
+
+
+    // $ANTLR start "namedArgument"
+    // /root/project/Ceylon.g:1671:1: namedArgument returns [NamedArgument namedArgument] : compilerAnnotations ( namedSpecifiedArgument | namedArgumentDeclaration ) ;
+    public final NamedArgument namedArgument() throws RecognitionException {
+        NamedArgument namedArgument = null;
+
+
+        SpecifiedArgument namedSpecifiedArgument200 =null;
+
+        NamedArgument namedArgumentDeclaration201 =null;
+
+        List<CompilerAnnotation> compilerAnnotations202 =null;
+
+
+        try {
+            // /root/project/Ceylon.g:1672:5: ( compilerAnnotations ( namedSpecifiedArgument | namedArgumentDeclaration ) )
+            // /root/project/Ceylon.g:1672:7: compilerAnnotations ( namedSpecifiedArgument | namedArgumentDeclaration )
+            {
+            pushFollow(FOLLOW_compilerAnnotations_in_namedArgument8534);
+            compilerAnnotations202=compilerAnnotations();
+
+            state._fsp--;
+            if (state.failed) return namedArgument;
+
+            // /root/project/Ceylon.g:1673:5: ( namedSpecifiedArgument | namedArgumentDeclaration )
+            int alt115=2;
+            switch ( input.LA(1) ) {
+            case LIDENTIFIER:
+                {
+                alt115=1;
+                }
+                break;
+            case UIDENTIFIER:
+                {
+                int LA115_2 = input.LA(2);
+
+                if ( (LA115_2==SPECIFY) ) {
+                    alt115=1;
+                }
+                else if ( (LA115_2==ARRAY||LA115_2==DEFAULT_OP||LA115_2==ENTRY_OP||LA115_2==INTERSECTION_OP||LA115_2==LIDENTIFIER||LA115_2==MEMBER_OP||LA115_2==SMALLER_OP||LA115_2==UIDENTIFIER||LA115_2==UNION_OP) ) {
+                    alt115=2;
+                }
+                else {
+                    if (state.backtracking>0) {state.failed=true; return namedArgument;}
+                    NoViableAltException nvae =
+                        new NoViableAltException("", 115, 2, input);
+
+                    throw nvae;
+
+                }
+                }
+                break;
+            case FUNCTION_MODIFIER:
+            case OBJECT_DEFINITION:
+            case VALUE_MODIFIER:
+            case VOID_MODIFIER:
+                {
+                alt115=2;
+                }
+                break;
+            default:
+                if (state.backtracking>0) {state.failed=true; return namedArgument;}
+                NoViableAltException nvae =
+                    new NoViableAltException("", 115, 0, input);
+
+                throw nvae;
+
+            }
+
+            switch (alt115) {
+                case 1 :
+                    // /root/project/Ceylon.g:1674:7: namedSpecifiedArgument
+                    {
+                    pushFollow(FOLLOW_namedSpecifiedArgument_in_namedArgument8550);
+                    namedSpecifiedArgument200=namedSpecifiedArgument();
+
+                    state._fsp--;
+                    if (state.failed) return namedArgument;
+
+                    if ( state.backtracking==0 ) { namedArgument = namedSpecifiedArgument200; }
+
+                    }
+                    break;
+                case 2 :
+                    // /root/project/Ceylon.g:1677:7: namedArgumentDeclaration
+                    {
+                    pushFollow(FOLLOW_namedArgumentDeclaration_in_namedArgument8573);
+                    namedArgumentDeclaration201=namedArgumentDeclaration();
+
+                    state._fsp--;
+                    if (state.failed) return namedArgument;
+
+                    if ( state.backtracking==0 ) { namedArgument = namedArgumentDeclaration201; }
+
+                    }
+                    break;
+
+            }
+
+
+            if ( state.backtracking==0 ) { if (namedArgument!=null)
+                      namedArgument.getCompilerAnnotations().addAll(compilerAnnotations202); }
+
+            }
+
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return namedArgument;
+    }
+    // $ANTLR end "namedArgument"
+
+
+
+    // $ANTLR start "namedSpecifiedArgument"
+    // /root/project/Ceylon.g:1684:1: namedSpecifiedArgument returns [SpecifiedArgument specifiedArgument] : memberNameDeclaration specifier SEMICOLON ;
+    public final SpecifiedArgument namedSpecifiedArgument() throws RecognitionException {
+        SpecifiedArgument specifiedArgument = null;
+
+
+        Token SEMICOLON205=null;
+        Identifier memberNameDeclaration203 =null;
+
+        SpecifierExpression specifier204 =null;
+
+
+        try {
+            // /root/project/Ceylon.g:1685:5: ( memberNameDeclaration specifier SEMICOLON )
+            // /root/project/Ceylon.g:1685:7: memberNameDeclaration specifier SEMICOLON
+            {
+            pushFollow(FOLLOW_memberNameDeclaration_in_namedSpecifiedArgument8614);
+            memberNameDeclaration203=memberNameDeclaration();
+
+            state._fsp--;
+            if (state.failed) return specifiedArgument;
+
+            if ( state.backtracking==0 ) { specifiedArgument = new SpecifiedArgument(null); 
+                    specifiedArgument.setIdentifier(memberNameDeclaration203); }
+
+            pushFollow(FOLLOW_specifier_in_namedSpecifiedArgument8631);
+            specifier204=specifier();
+
+            state._fsp--;
+            if (state.failed) return specifiedArgument;
+
+            if ( state.backtracking==0 ) { specifiedArgument.setSpecifierExpression(specifier204); }
+
+            SEMICOLON205=(Token)match(input,SEMICOLON,FOLLOW_SEMICOLON_in_namedSpecifiedArgument8648); if (state.failed) return specifiedArgument;
+
+            if ( state.backtracking==0 ) { specifiedArgument.setEndToken(SEMICOLON205); }
+
+            }
+
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return specifiedArgument;
+    }
+    // $ANTLR end "namedSpecifiedArgument"
+
+
+
+    // $ANTLR start "objectArgument"
+    // /root/project/Ceylon.g:1694:1: objectArgument returns [ObjectArgument declaration] : OBJECT_DEFINITION memberNameDeclaration ( extendedType )? ( satisfiedTypes )? ( classBody | SEMICOLON ) ;
+    public final ObjectArgument objectArgument() throws RecognitionException {
+        ObjectArgument declaration = null;
+
+
+        Token OBJECT_DEFINITION206=null;
+        Token SEMICOLON211=null;
+        Identifier memberNameDeclaration207 =null;
+
+        ExtendedType extendedType208 =null;
+
+        SatisfiedTypes satisfiedTypes209 =null;
+
+        ClassBody classBody210 =null;
+
+
+        try {
+            // /root/project/Ceylon.g:1695:5: ( OBJECT_DEFINITION memberNameDeclaration ( extendedType )? ( satisfiedTypes )? ( classBody | SEMICOLON ) )
+            // /root/project/Ceylon.g:1695:7: OBJECT_DEFINITION memberNameDeclaration ( extendedType )? ( satisfiedTypes )? ( classBody | SEMICOLON )
+            {
+            OBJECT_DEFINITION206=(Token)match(input,OBJECT_DEFINITION,FOLLOW_OBJECT_DEFINITION_in_objectArgument8677); if (state.failed) return declaration;
+
+            if ( state.backtracking==0 ) { declaration = new ObjectArgument(OBJECT_DEFINITION206); 
+                    declaration.setType(new ValueModifier(null)); }
+
+            pushFollow(FOLLOW_memberNameDeclaration_in_objectArgument8694);
+            memberNameDeclaration207=memberNameDeclaration();
+
+            state._fsp--;
+            if (state.failed) return declaration;
+
+            if ( state.backtracking==0 ) { declaration.setIdentifier(memberNameDeclaration207); }
+
+            // /root/project/Ceylon.g:1700:7: ( extendedType )?
+            int alt116=2;
+            int LA116_0 = input.LA(1);
+
+            if ( (LA116_0==EXTENDS) ) {
+                alt116=1;
+            }
+            switch (alt116) {
+                case 1 :
+                    // /root/project/Ceylon.g:1701:9: extendedType
+                    {
+                    pushFollow(FOLLOW_extendedType_in_objectArgument8721);
+                    extendedType208=extendedType();
+
+                    state._fsp--;
+                    if (state.failed) return declaration;
+
+                    if ( state.backtracking==0 ) { declaration.setExtendedType(extendedType208); }
+
+                    }
+                    break;
+
+            }
+
+
+            // /root/project/Ceylon.g:1704:7: ( satisfiedTypes )?
+            int alt117=2;
+            int LA117_0 = input.LA(1);
+
+            if ( (LA117_0==SATISFIES) ) {
+                alt117=1;
+            }
+            switch (alt117) {
+                case 1 :
+                    // /root/project/Ceylon.g:1705:9: satisfiedTypes
+                    {
+                    pushFollow(FOLLOW_satisfiedTypes_in_objectArgument8760);
+                    satisfiedTypes209=satisfiedTypes();
+
+                    state._fsp--;
+                    if (state.failed) return declaration;
+
+                    if ( state.backtracking==0 ) { declaration.setSatisfiedTypes(satisfiedTypes209); }
+
+                    }
+                    break;
+
+            }
+
+
+            // /root/project/Ceylon.g:1708:7: ( classBody | SEMICOLON )
+            int alt118=2;
+            int LA118_0 = input.LA(1);
+
+            if ( (LA118_0==LBRACE) ) {
+                alt118=1;
+            }
+            else if ( (LA118_0==SEMICOLON) ) {
+                alt118=2;
+            }
+            else {
+                if (state.backtracking>0) {state.failed=true; return declaration;}
+                NoViableAltException nvae =
+                    new NoViableAltException("", 118, 0, input);
+
+                throw nvae;
+
+            }
+            switch (alt118) {
+                case 1 :
+                    // /root/project/Ceylon.g:1709:9: classBody
+                    {
+                    pushFollow(FOLLOW_classBody_in_objectArgument8798);
+                    classBody210=classBody();
+
+                    state._fsp--;
+                    if (state.failed) return declaration;
+
+                    if ( state.backtracking==0 ) { declaration.setClassBody(classBody210); }
+
+                    }
+                    break;
+                case 2 :
+                    // /root/project/Ceylon.g:1711:9: SEMICOLON
+                    {
+                    if ( state.backtracking==0 ) { displayRecognitionError(getTokenNames(), 
+                                  new MismatchedTokenException(LBRACE, input)); }
+
+                    SEMICOLON211=(Token)match(input,SEMICOLON,FOLLOW_SEMICOLON_in_objectArgument8828); if (state.failed) return declaration;
+
+                    if ( state.backtracking==0 ) { declaration.setEndToken(SEMICOLON211); }
+
+                    }
+                    break;
+
+            }
+
+
+            }
+
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return declaration;
+    }
+    // $ANTLR end "objectArgument"
+
+
+
+    // $ANTLR start "voidOrInferredMethodArgument"
+    // /root/project/Ceylon.g:1719:1: voidOrInferredMethodArgument returns [MethodArgument declaration] : ( VOID_MODIFIER | FUNCTION_MODIFIER ) memberNameDeclaration ( parameters )* block ;
+    public final MethodArgument voidOrInferredMethodArgument() throws RecognitionException {
+        MethodArgument declaration = null;
+
+
+        Token VOID_MODIFIER212=null;
+        Token FUNCTION_MODIFIER213=null;
+        Identifier memberNameDeclaration214 =null;
+
+        ParameterList parameters215 =null;
+
+        Block block216 =null;
+
+
+        try {
+            // /root/project/Ceylon.g:1720:5: ( ( VOID_MODIFIER | FUNCTION_MODIFIER ) memberNameDeclaration ( parameters )* block )
+            // /root/project/Ceylon.g:1720:7: ( VOID_MODIFIER | FUNCTION_MODIFIER ) memberNameDeclaration ( parameters )* block
+            {
+            if ( state.backtracking==0 ) { declaration =new MethodArgument(null); }
+
+            // /root/project/Ceylon.g:1721:7: ( VOID_MODIFIER | FUNCTION_MODIFIER )
+            int alt119=2;
+            int LA119_0 = input.LA(1);
+
+            if ( (LA119_0==VOID_MODIFIER) ) {
+                alt119=1;
+            }
+            else if ( (LA119_0==FUNCTION_MODIFIER) ) {
+                alt119=2;
+            }
+            else {
+                if (state.backtracking>0) {state.failed=true; return declaration;}
+                NoViableAltException nvae =
+                    new NoViableAltException("", 119, 0, input);
+
+                throw nvae;
+
+            }
+            switch (alt119) {
+                case 1 :
+                    // /root/project/Ceylon.g:1722:9: VOID_MODIFIER
+                    {
+                    VOID_MODIFIER212=(Token)match(input,VOID_MODIFIER,FOLLOW_VOID_MODIFIER_in_voidOrInferredMethodArgument8890); if (state.failed) return declaration;
+
+                    if ( state.backtracking==0 ) { declaration.setType(new VoidModifier(VOID_MODIFIER212)); }
+
+                    }
+                    break;
+                case 2 :
+                    // /root/project/Ceylon.g:1725:9: FUNCTION_MODIFIER
+                    {
+                    FUNCTION_MODIFIER213=(Token)match(input,FUNCTION_MODIFIER,FOLLOW_FUNCTION_MODIFIER_in_voidOrInferredMethodArgument8916); if (state.failed) return declaration;
+
+                    if ( state.backtracking==0 ) { declaration.setType(new FunctionModifier(FUNCTION_MODIFIER213)); }
+
+                    }
+                    break;
+
+            }
+
+
+            pushFollow(FOLLOW_memberNameDeclaration_in_voidOrInferredMethodArgument8941);
+            memberNameDeclaration214=memberNameDeclaration();
+
+            state._fsp--;
+            if (state.failed) return declaration;
+
+            if ( state.backtracking==0 ) { declaration.setIdentifier(memberNameDeclaration214); }
+
+            // /root/project/Ceylon.g:1730:7: ( parameters )*
+            loop120:
+            do {
+                int alt120=2;
+                int LA120_0 = input.LA(1);
+
+                if ( (LA120_0==LPAREN) ) {
+                    alt120=1;
+                }
+
+
+                switch (alt120) {
+            	case 1 :
+            	    // /root/project/Ceylon.g:1731:9: parameters
+            	    {
+            	    pushFollow(FOLLOW_parameters_in_voidOrInferredMethodArgument8968);
+            	    parameters215=parameters();
+
+            	    state._fsp--;
+            	    if (state.failed) return declaration;
+
+            	    if ( state.backtracking==0 ) { declaration.addParameterList(parameters215); }
+
+            	    }
+            	    break;
+
+            	default :
+            	    break loop120;
+                }
+            } while (true);
+
+
+            pushFollow(FOLLOW_block_in_voidOrInferredMethodArgument8995);
+            block216=block();
+
+            state._fsp--;
+            if (state.failed) return declaration;
+
+            if ( state.backtracking==0 ) { declaration.setBlock(block216); }
+
+            }
+
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return declaration;
+    }
+    // $ANTLR end "voidOrInferredMethodArgument"
+
+
+
+    // $ANTLR start "inferredGetterArgument"
+    // /root/project/Ceylon.g:1739:1: inferredGetterArgument returns [AttributeArgument declaration] : VALUE_MODIFIER memberNameDeclaration block ;
+    public final AttributeArgument inferredGetterArgument() throws RecognitionException {
+        AttributeArgument declaration = null;
+
+
+        Token VALUE_MODIFIER217=null;
+        Identifier memberNameDeclaration218 =null;
+
+        Block block219 =null;
+
+
+        try {
+            // /root/project/Ceylon.g:1740:5: ( VALUE_MODIFIER memberNameDeclaration block )
+            // /root/project/Ceylon.g:1740:7: VALUE_MODIFIER memberNameDeclaration block
+            {
+            if ( state.backtracking==0 ) { declaration =new AttributeArgument(null); }
+
+            VALUE_MODIFIER217=(Token)match(input,VALUE_MODIFIER,FOLLOW_VALUE_MODIFIER_in_inferredGetterArgument9037); if (state.failed) return declaration;
+
+            if ( state.backtracking==0 ) { declaration.setType(new ValueModifier(VALUE_MODIFIER217)); }
+
+            pushFollow(FOLLOW_memberNameDeclaration_in_inferredGetterArgument9054);
+            memberNameDeclaration218=memberNameDeclaration();
+
+            state._fsp--;
+            if (state.failed) return declaration;
+
+            if ( state.backtracking==0 ) { declaration.setIdentifier(memberNameDeclaration218); }
+
+            pushFollow(FOLLOW_block_in_inferredGetterArgument9071);
+            block219=block();
+
+            state._fsp--;
+            if (state.failed) return declaration;
+
+            if ( state.backtracking==0 ) { declaration.setBlock(block219); }
+
+            }
+
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return declaration;
+    }
+    // $ANTLR end "inferredGetterArgument"
+
+
+
+    // $ANTLR start "typedMethodOrGetterArgument"
+    // /root/project/Ceylon.g:1750:1: typedMethodOrGetterArgument returns [TypedArgument declaration] : type memberNameDeclaration ( ( parameters )+ )? methodBody[$type.type] ;
+    public final TypedArgument typedMethodOrGetterArgument() throws RecognitionException {
+        TypedArgument declaration = null;
+
+
+        StaticType type220 =null;
+
+        Identifier memberNameDeclaration221 =null;
+
+        ParameterList parameters222 =null;
+
+        Block methodBody223 =null;
+
+
+         MethodArgument marg = new MethodArgument(null);
+                    AttributeArgument aarg = new AttributeArgument(null); 
+                    declaration =aarg; 
+        try {
+            // /root/project/Ceylon.g:1754:5: ( type memberNameDeclaration ( ( parameters )+ )? methodBody[$type.type] )
+            // /root/project/Ceylon.g:1754:7: type memberNameDeclaration ( ( parameters )+ )? methodBody[$type.type]
+            {
+            pushFollow(FOLLOW_type_in_typedMethodOrGetterArgument9116);
+            type220=type();
+
+            state._fsp--;
+            if (state.failed) return declaration;
+
+            if ( state.backtracking==0 ) { marg.setType(type220);
+                    aarg.setType(type220); }
+
+            pushFollow(FOLLOW_memberNameDeclaration_in_typedMethodOrGetterArgument9133);
+            memberNameDeclaration221=memberNameDeclaration();
+
+            state._fsp--;
+            if (state.failed) return declaration;
+
+            if ( state.backtracking==0 ) { marg.setIdentifier(memberNameDeclaration221);
+                    aarg.setIdentifier(memberNameDeclaration221); }
+
+            // /root/project/Ceylon.g:1760:7: ( ( parameters )+ )?
+            int alt122=2;
+            int LA122_0 = input.LA(1);
+
+            if ( (LA122_0==LPAREN) ) {
+                alt122=1;
+            }
+            switch (alt122) {
+                case 1 :
+                    // /root/project/Ceylon.g:1761:9: ( parameters )+
+                    {
+                    if ( state.backtracking==0 ) { declaration = marg; }
+
+                    // /root/project/Ceylon.g:1762:9: ( parameters )+
+                    int cnt121=0;
+                    loop121:
+                    do {
+                        int alt121=2;
+                        int LA121_0 = input.LA(1);
+
+                        if ( (LA121_0==LPAREN) ) {
+                            alt121=1;
+                        }
+
+
+                        switch (alt121) {
+                    	case 1 :
+                    	    // /root/project/Ceylon.g:1763:11: parameters
+                    	    {
+                    	    pushFollow(FOLLOW_parameters_in_typedMethodOrGetterArgument9182);
+                    	    parameters222=parameters();
+
+                    	    state._fsp--;
+                    	    if (state.failed) return declaration;
+
+                    	    if ( state.backtracking==0 ) { marg.addParameterList(parameters222); }
+
+                    	    }
+                    	    break;
+
+                    	default :
+                    	    if ( cnt121 >= 1 ) break loop121;
+                    	    if (state.backtracking>0) {state.failed=true; return declaration;}
+                                EarlyExitException eee =
+                                    new EarlyExitException(121, input);
+                                throw eee;
+                        }
+                        cnt121++;
+                    } while (true);
+
+
+                    }
+                    break;
+
+            }
+
+
+            pushFollow(FOLLOW_methodBody_in_typedMethodOrGetterArgument9222);
+            methodBody223=methodBody(type220);
+
+            state._fsp--;
+            if (state.failed) return declaration;
+
+            if ( state.backtracking==0 ) { marg.setBlock(methodBody223); 
+                    aarg.setBlock(methodBody223); }
+
+            }
+
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return declaration;
+    }
+    // $ANTLR end "typedMethodOrGetterArgument"
+
+
+
+    // $ANTLR start "namedArgumentDeclaration"
+    // /root/project/Ceylon.g:1774:1: namedArgumentDeclaration returns [NamedArgument declaration] : ( objectArgument | typedMethodOrGetterArgument | voidOrInferredMethodArgument | inferredGetterArgument );
+    public final NamedArgument namedArgumentDeclaration() throws RecognitionException {
+        NamedArgument declaration = null;
+
+
+        ObjectArgument objectArgument224 =null;
+
+        TypedArgument typedMethodOrGetterArgument225 =null;
+
+        MethodArgument voidOrInferredMethodArgument226 =null;
+
+        AttributeArgument inferredGetterArgument227 =null;
+
+
+        try {
+            // /root/project/Ceylon.g:1775:5: ( objectArgument | typedMethodOrGetterArgument | voidOrInferredMethodArgument | inferredGetterArgument )
+            int alt123=4;
+            switch ( input.LA(1) ) {
+            case OBJECT_DEFINITION:
+                {
+                alt123=1;
+                }
+                break;
+            case UIDENTIFIER:
+                {
+                alt123=2;
+                }
+                break;
+            case FUNCTION_MODIFIER:
+            case VOID_MODIFIER:
+                {
+                alt123=3;
+                }
+                break;
+            case VALUE_MODIFIER:
+                {
+                alt123=4;
+                }
+                break;
+            default:
+                if (state.backtracking>0) {state.failed=true; return declaration;}
+                NoViableAltException nvae =
+                    new NoViableAltException("", 123, 0, input);
+
+                throw nvae;
+
+            }
+
+            switch (alt123) {
+                case 1 :
+                    // /root/project/Ceylon.g:1775:7: objectArgument
+                    {
+                    pushFollow(FOLLOW_objectArgument_in_namedArgumentDeclaration9266);
+                    objectArgument224=objectArgument();
+
+                    state._fsp--;
+                    if (state.failed) return declaration;
+
+                    if ( state.backtracking==0 ) { declaration =objectArgument224; }
+
+                    }
+                    break;
+                case 2 :
+                    // /root/project/Ceylon.g:1777:7: typedMethodOrGetterArgument
+                    {
+                    pushFollow(FOLLOW_typedMethodOrGetterArgument_in_namedArgumentDeclaration9282);
+                    typedMethodOrGetterArgument225=typedMethodOrGetterArgument();
+
+                    state._fsp--;
+                    if (state.failed) return declaration;
+
+                    if ( state.backtracking==0 ) { declaration =typedMethodOrGetterArgument225; }
+
+                    }
+                    break;
+                case 3 :
+                    // /root/project/Ceylon.g:1779:7: voidOrInferredMethodArgument
+                    {
+                    pushFollow(FOLLOW_voidOrInferredMethodArgument_in_namedArgumentDeclaration9298);
+                    voidOrInferredMethodArgument226=voidOrInferredMethodArgument();
+
+                    state._fsp--;
+                    if (state.failed) return declaration;
+
+                    if ( state.backtracking==0 ) { declaration =voidOrInferredMethodArgument226; }
+
+                    }
+                    break;
+                case 4 :
+                    // /root/project/Ceylon.g:1781:7: inferredGetterArgument
+                    {
+                    pushFollow(FOLLOW_inferredGetterArgument_in_namedArgumentDeclaration9314);
+                    inferredGetterArgument227=inferredGetterArgument();
+
+                    state._fsp--;
+                    if (state.failed) return declaration;
+
+                    if ( state.backtracking==0 ) { declaration =inferredGetterArgument227; }
+
+                    }
+                    break;
+
+            }
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return declaration;
+    }
+    // $ANTLR end "namedArgumentDeclaration"
+
+
+
+    // $ANTLR start "namedArgumentStart"
+    // /root/project/Ceylon.g:1788:1: namedArgumentStart : ( compilerAnnotation )* ( specificationStart | declarationStart ) ;
+    public final void namedArgumentStart() throws RecognitionException {
+        try {
+            // /root/project/Ceylon.g:1789:5: ( ( compilerAnnotation )* ( specificationStart | declarationStart ) )
+            // /root/project/Ceylon.g:1789:7: ( compilerAnnotation )* ( specificationStart | declarationStart )
+            {
+            // /root/project/Ceylon.g:1789:7: ( compilerAnnotation )*
+            loop124:
+            do {
+                int alt124=2;
+                int LA124_0 = input.LA(1);
+
+                if ( (LA124_0==COMPILER_ANNOTATION) ) {
+                    alt124=1;
+                }
+
+
+                switch (alt124) {
+            	case 1 :
+            	    // /root/project/Ceylon.g:1789:7: compilerAnnotation
+            	    {
+            	    pushFollow(FOLLOW_compilerAnnotation_in_namedArgumentStart9342);
+            	    compilerAnnotation();
+
+            	    state._fsp--;
+            	    if (state.failed) return ;
+
+            	    }
+            	    break;
+
+            	default :
+            	    break loop124;
+                }
+            } while (true);
+
+
+            // /root/project/Ceylon.g:1790:7: ( specificationStart | declarationStart )
+            int alt125=2;
+            int LA125_0 = input.LA(1);
+
+            if ( (LA125_0==LIDENTIFIER) ) {
+                alt125=1;
+            }
+            else if ( (LA125_0==ASSIGN||LA125_0==CLASS_DEFINITION||LA125_0==FUNCTION_MODIFIER||LA125_0==INTERFACE_DEFINITION||LA125_0==OBJECT_DEFINITION||LA125_0==UIDENTIFIER||(LA125_0 >= VALUE_MODIFIER && LA125_0 <= VOID_MODIFIER)) ) {
+                alt125=2;
+            }
+            else {
+                if (state.backtracking>0) {state.failed=true; return ;}
+                NoViableAltException nvae =
+                    new NoViableAltException("", 125, 0, input);
+
+                throw nvae;
+
+            }
+            switch (alt125) {
+                case 1 :
+                    // /root/project/Ceylon.g:1790:8: specificationStart
+                    {
+                    pushFollow(FOLLOW_specificationStart_in_namedArgumentStart9353);
+                    specificationStart();
+
+                    state._fsp--;
+                    if (state.failed) return ;
+
+                    }
+                    break;
+                case 2 :
+                    // /root/project/Ceylon.g:1790:29: declarationStart
+                    {
+                    pushFollow(FOLLOW_declarationStart_in_namedArgumentStart9357);
+                    declarationStart();
+
+                    state._fsp--;
+                    if (state.failed) return ;
+
+                    }
+                    break;
+
+            }
+
+
+            }
+
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return ;
+    }
+    // $ANTLR end "namedArgumentStart"
+
+
+
+    // $ANTLR start "specificationStart"
+    // /root/project/Ceylon.g:1794:1: specificationStart : LIDENTIFIER '=' ;
+    public final void specificationStart() throws RecognitionException {
+        try {
+            // /root/project/Ceylon.g:1795:5: ( LIDENTIFIER '=' )
+            // /root/project/Ceylon.g:1795:7: LIDENTIFIER '='
+            {
+            match(input,LIDENTIFIER,FOLLOW_LIDENTIFIER_in_specificationStart9376); if (state.failed) return ;
+
+            match(input,SPECIFY,FOLLOW_SPECIFY_in_specificationStart9378); if (state.failed) return ;
+
+            }
+
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return ;
+    }
+    // $ANTLR end "specificationStart"
+
+
+
+    // $ANTLR start "parExpression"
+    // /root/project/Ceylon.g:1798:1: parExpression returns [Expression expression] : LPAREN assignmentExpression RPAREN ;
+    public final Expression parExpression() throws RecognitionException {
+        Expression expression = null;
+
+
+        Token LPAREN228=null;
+        Token RPAREN230=null;
+        Term assignmentExpression229 =null;
+
+
+        try {
+            // /root/project/Ceylon.g:1799:5: ( LPAREN assignmentExpression RPAREN )
+            // /root/project/Ceylon.g:1799:7: LPAREN assignmentExpression RPAREN
+            {
+            LPAREN228=(Token)match(input,LPAREN,FOLLOW_LPAREN_in_parExpression9400); if (state.failed) return expression;
+
+            if ( state.backtracking==0 ) { expression = new Expression(LPAREN228); }
+
+            pushFollow(FOLLOW_assignmentExpression_in_parExpression9417);
+            assignmentExpression229=assignmentExpression();
+
+            state._fsp--;
+            if (state.failed) return expression;
+
+            if ( state.backtracking==0 ) { expression.setTerm(assignmentExpression229); }
+
+            RPAREN230=(Token)match(input,RPAREN,FOLLOW_RPAREN_in_parExpression9433); if (state.failed) return expression;
+
+            if ( state.backtracking==0 ) { expression.setEndToken(RPAREN230); }
+
+            }
+
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return expression;
+    }
+    // $ANTLR end "parExpression"
+
+
+
+    // $ANTLR start "positionalArguments"
+    // /root/project/Ceylon.g:1807:1: positionalArguments returns [PositionalArgumentList positionalArgumentList] : LPAREN (pa1= positionalArgument (c= COMMA (pa2= positionalArgument |) )* ( ELLIPSIS )? )? ( comprehension )? RPAREN ;
+    public final PositionalArgumentList positionalArguments() throws RecognitionException {
+        PositionalArgumentList positionalArgumentList = null;
+
+
+        Token c=null;
+        Token LPAREN231=null;
+        Token ELLIPSIS232=null;
+        Token RPAREN234=null;
+        PositionalArgument pa1 =null;
+
+        PositionalArgument pa2 =null;
+
+        Comprehension comprehension233 =null;
+
+
+        try {
+            // /root/project/Ceylon.g:1808:5: ( LPAREN (pa1= positionalArgument (c= COMMA (pa2= positionalArgument |) )* ( ELLIPSIS )? )? ( comprehension )? RPAREN )
+            // /root/project/Ceylon.g:1808:7: LPAREN (pa1= positionalArgument (c= COMMA (pa2= positionalArgument |) )* ( ELLIPSIS )? )? ( comprehension )? RPAREN
+            {
+            LPAREN231=(Token)match(input,LPAREN,FOLLOW_LPAREN_in_positionalArguments9466); if (state.failed) return positionalArgumentList;
+
+            if ( state.backtracking==0 ) { positionalArgumentList = new PositionalArgumentList(LPAREN231); }
+
+            // /root/project/Ceylon.g:1810:7: (pa1= positionalArgument (c= COMMA (pa2= positionalArgument |) )* ( ELLIPSIS )? )?
+            int alt129=2;
+            int LA129_0 = input.LA(1);
+
+            if ( (LA129_0==CHAR_LITERAL||LA129_0==COMPLEMENT_OP||LA129_0==DECREMENT_OP||LA129_0==DIFFERENCE_OP||(LA129_0 >= EXISTS && LA129_0 <= EXTENDS)||LA129_0==FLOAT_LITERAL||LA129_0==FUNCTION_MODIFIER||LA129_0==INCREMENT_OP||LA129_0==IS_OP||LA129_0==LBRACE||LA129_0==LIDENTIFIER||LA129_0==LPAREN||(LA129_0 >= NATURAL_LITERAL && LA129_0 <= NONEMPTY)||LA129_0==NOT_OP||LA129_0==OUTER||LA129_0==QUOTED_LITERAL||LA129_0==SATISFIES||LA129_0==STRING_LITERAL||(LA129_0 >= SUM_OP && LA129_0 <= SUPER)||LA129_0==THIS||LA129_0==UIDENTIFIER||LA129_0==VALUE_MODIFIER) ) {
+                alt129=1;
+            }
+            switch (alt129) {
+                case 1 :
+                    // /root/project/Ceylon.g:1810:9: pa1= positionalArgument (c= COMMA (pa2= positionalArgument |) )* ( ELLIPSIS )?
+                    {
+                    pushFollow(FOLLOW_positionalArgument_in_positionalArguments9487);
+                    pa1=positionalArgument();
+
+                    state._fsp--;
+                    if (state.failed) return positionalArgumentList;
+
+                    if ( state.backtracking==0 ) { if (pa1!=null)
+                                  positionalArgumentList.addPositionalArgument(pa1); }
+
+                    // /root/project/Ceylon.g:1813:9: (c= COMMA (pa2= positionalArgument |) )*
+                    loop127:
+                    do {
+                        int alt127=2;
+                        int LA127_0 = input.LA(1);
+
+                        if ( (LA127_0==COMMA) ) {
+                            alt127=1;
+                        }
+
+
+                        switch (alt127) {
+                    	case 1 :
+                    	    // /root/project/Ceylon.g:1814:11: c= COMMA (pa2= positionalArgument |)
+                    	    {
+                    	    c=(Token)match(input,COMMA,FOLLOW_COMMA_in_positionalArguments9521); if (state.failed) return positionalArgumentList;
+
+                    	    if ( state.backtracking==0 ) { positionalArgumentList.setEndToken(c); }
+
+                    	    // /root/project/Ceylon.g:1816:11: (pa2= positionalArgument |)
+                    	    int alt126=2;
+                    	    int LA126_0 = input.LA(1);
+
+                    	    if ( (LA126_0==CHAR_LITERAL||LA126_0==COMPLEMENT_OP||LA126_0==DECREMENT_OP||LA126_0==DIFFERENCE_OP||(LA126_0 >= EXISTS && LA126_0 <= EXTENDS)||LA126_0==FLOAT_LITERAL||LA126_0==FUNCTION_MODIFIER||LA126_0==INCREMENT_OP||LA126_0==IS_OP||LA126_0==LBRACE||LA126_0==LIDENTIFIER||LA126_0==LPAREN||(LA126_0 >= NATURAL_LITERAL && LA126_0 <= NONEMPTY)||LA126_0==NOT_OP||LA126_0==OUTER||LA126_0==QUOTED_LITERAL||LA126_0==SATISFIES||LA126_0==STRING_LITERAL||(LA126_0 >= SUM_OP && LA126_0 <= SUPER)||LA126_0==THIS||LA126_0==UIDENTIFIER||LA126_0==VALUE_MODIFIER) ) {
+                    	        alt126=1;
+                    	    }
+                    	    else if ( (LA126_0==COMMA||LA126_0==ELLIPSIS||LA126_0==FOR_CLAUSE||LA126_0==RPAREN) ) {
+                    	        alt126=2;
+                    	    }
+                    	    else {
+                    	        if (state.backtracking>0) {state.failed=true; return positionalArgumentList;}
+                    	        NoViableAltException nvae =
+                    	            new NoViableAltException("", 126, 0, input);
+
+                    	        throw nvae;
+
+                    	    }
+                    	    switch (alt126) {
+                    	        case 1 :
+                    	            // /root/project/Ceylon.g:1817:13: pa2= positionalArgument
+                    	            {
+                    	            pushFollow(FOLLOW_positionalArgument_in_positionalArguments9562);
+                    	            pa2=positionalArgument();
+
+                    	            state._fsp--;
+                    	            if (state.failed) return positionalArgumentList;
+
+                    	            if ( state.backtracking==0 ) { positionalArgumentList.addPositionalArgument(pa2); 
+                    	                          positionalArgumentList.setEndToken(null); }
+
+                    	            }
+                    	            break;
+                    	        case 2 :
+                    	            // /root/project/Ceylon.g:1820:13: 
+                    	            {
+                    	            if ( state.backtracking==0 ) { displayRecognitionError(getTokenNames(), 
+                    	                            new MismatchedTokenException(LIDENTIFIER, input)); }
+
+                    	            }
+                    	            break;
+
+                    	    }
+
+
+                    	    }
+                    	    break;
+
+                    	default :
+                    	    break loop127;
+                        }
+                    } while (true);
+
+
+                    // /root/project/Ceylon.g:1824:9: ( ELLIPSIS )?
+                    int alt128=2;
+                    int LA128_0 = input.LA(1);
+
+                    if ( (LA128_0==ELLIPSIS) ) {
+                        alt128=1;
+                    }
+                    switch (alt128) {
+                        case 1 :
+                            // /root/project/Ceylon.g:1825:11: ELLIPSIS
+                            {
+                            ELLIPSIS232=(Token)match(input,ELLIPSIS,FOLLOW_ELLIPSIS_in_positionalArguments9636); if (state.failed) return positionalArgumentList;
+
+                            if ( state.backtracking==0 ) { positionalArgumentList.setEllipsis( new Ellipsis(ELLIPSIS232) ); }
+
+                            }
+                            break;
+
+                    }
+
+
+                    }
+                    break;
+
+            }
+
+
+            // /root/project/Ceylon.g:1829:7: ( comprehension )?
+            int alt130=2;
+            int LA130_0 = input.LA(1);
+
+            if ( (LA130_0==FOR_CLAUSE) ) {
+                alt130=1;
+            }
+            switch (alt130) {
+                case 1 :
+                    // /root/project/Ceylon.g:1830:9: comprehension
+                    {
+                    pushFollow(FOLLOW_comprehension_in_positionalArguments9687);
+                    comprehension233=comprehension();
+
+                    state._fsp--;
+                    if (state.failed) return positionalArgumentList;
+
+                    if ( state.backtracking==0 ) { positionalArgumentList.setComprehension(comprehension233); }
+
+                    }
+                    break;
+
+            }
+
+
+            RPAREN234=(Token)match(input,RPAREN,FOLLOW_RPAREN_in_positionalArguments9714); if (state.failed) return positionalArgumentList;
+
+            if ( state.backtracking==0 ) { positionalArgumentList.setEndToken(RPAREN234); }
+
+            }
+
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return positionalArgumentList;
+    }
+    // $ANTLR end "positionalArguments"
+
+
+
+    // $ANTLR start "positionalArgument"
+    // /root/project/Ceylon.g:1837:1: positionalArgument returns [PositionalArgument positionalArgument] : ( ( FUNCTION_MODIFIER | parametersStart )=> ( FUNCTION_MODIFIER )? p1= parameters ( ( parametersStart )=>p2= parameters )* expression | VALUE_MODIFIER expression | expression );
+    public final PositionalArgument positionalArgument() throws RecognitionException {
+        PositionalArgument positionalArgument = null;
+
+
+        Token FUNCTION_MODIFIER235=null;
+        Token VALUE_MODIFIER237=null;
+        ParameterList p1 =null;
+
+        ParameterList p2 =null;
+
+        Expression expression236 =null;
+
+        Expression expression238 =null;
+
+        Expression expression239 =null;
+
+
+         FunctionArgument fa = new FunctionArgument(null);
+                    fa.setType(new FunctionModifier(null));
+                    PositionalArgument pa = new PositionalArgument(null); 
+        try {
+            // /root/project/Ceylon.g:1841:5: ( ( FUNCTION_MODIFIER | parametersStart )=> ( FUNCTION_MODIFIER )? p1= parameters ( ( parametersStart )=>p2= parameters )* expression | VALUE_MODIFIER expression | expression )
+            int alt133=3;
+            int LA133_0 = input.LA(1);
+
+            if ( (LA133_0==FUNCTION_MODIFIER) && (synpred9_Ceylon())) {
+                alt133=1;
+            }
+            else if ( (LA133_0==LPAREN) ) {
+                int LA133_2 = input.LA(2);
+
+                if ( (synpred9_Ceylon()) ) {
+                    alt133=1;
+                }
+                else if ( (true) ) {
+                    alt133=3;
+                }
+                else {
+                    if (state.backtracking>0) {state.failed=true; return positionalArgument;}
+                    NoViableAltException nvae =
+                        new NoViableAltException("", 133, 2, input);
+
+                    throw nvae;
+
+                }
+            }
+            else if ( (LA133_0==VALUE_MODIFIER) ) {
+                alt133=2;
+            }
+            else if ( (LA133_0==CHAR_LITERAL||LA133_0==COMPLEMENT_OP||LA133_0==DECREMENT_OP||LA133_0==DIFFERENCE_OP||(LA133_0 >= EXISTS && LA133_0 <= EXTENDS)||LA133_0==FLOAT_LITERAL||LA133_0==INCREMENT_OP||LA133_0==IS_OP||LA133_0==LBRACE||LA133_0==LIDENTIFIER||(LA133_0 >= NATURAL_LITERAL && LA133_0 <= NONEMPTY)||LA133_0==NOT_OP||LA133_0==OUTER||LA133_0==QUOTED_LITERAL||LA133_0==SATISFIES||LA133_0==STRING_LITERAL||(LA133_0 >= SUM_OP && LA133_0 <= SUPER)||LA133_0==THIS||LA133_0==UIDENTIFIER) ) {
+                alt133=3;
+            }
+            else {
+                if (state.backtracking>0) {state.failed=true; return positionalArgument;}
+                NoViableAltException nvae =
+                    new NoViableAltException("", 133, 0, input);
+
+                throw nvae;
+
+            }
+            switch (alt133) {
+                case 1 :
+                    // /root/project/Ceylon.g:1841:7: ( FUNCTION_MODIFIER | parametersStart )=> ( FUNCTION_MODIFIER )? p1= parameters ( ( parametersStart )=>p2= parameters )* expression
+                    {
+                    // /root/project/Ceylon.g:1842:7: ( FUNCTION_MODIFIER )?
+                    int alt131=2;
+                    int LA131_0 = input.LA(1);
+
+                    if ( (LA131_0==FUNCTION_MODIFIER) ) {
+                        alt131=1;
+                    }
+                    switch (alt131) {
+                        case 1 :
+                            // /root/project/Ceylon.g:1843:9: FUNCTION_MODIFIER
+                            {
+                            FUNCTION_MODIFIER235=(Token)match(input,FUNCTION_MODIFIER,FOLLOW_FUNCTION_MODIFIER_in_positionalArgument9775); if (state.failed) return positionalArgument;
+
+                            if ( state.backtracking==0 ) { fa.setType(new FunctionModifier(FUNCTION_MODIFIER235)); }
+
+                            }
+                            break;
+
+                    }
+
+
+                    pushFollow(FOLLOW_parameters_in_positionalArgument9805);
+                    p1=parameters();
+
+                    state._fsp--;
+                    if (state.failed) return positionalArgument;
+
+                    if ( state.backtracking==0 ) { fa.addParameterList(p1); }
+
+                    // /root/project/Ceylon.g:1848:7: ( ( parametersStart )=>p2= parameters )*
+                    loop132:
+                    do {
+                        int alt132=2;
+                        int LA132_0 = input.LA(1);
+
+                        if ( (LA132_0==LPAREN) ) {
+                            int LA132_18 = input.LA(2);
+
+                            if ( (synpred10_Ceylon()) ) {
+                                alt132=1;
+                            }
+
+
+                        }
+
+
+                        switch (alt132) {
+                    	case 1 :
+                    	    // /root/project/Ceylon.g:1849:9: ( parametersStart )=>p2= parameters
+                    	    {
+                    	    pushFollow(FOLLOW_parameters_in_positionalArgument9848);
+                    	    p2=parameters();
+
+                    	    state._fsp--;
+                    	    if (state.failed) return positionalArgument;
+
+                    	    if ( state.backtracking==0 ) { fa.addParameterList(p2); }
+
+                    	    }
+                    	    break;
+
+                    	default :
+                    	    break loop132;
+                        }
+                    } while (true);
+
+
+                    pushFollow(FOLLOW_expression_in_positionalArgument9875);
+                    expression236=expression();
+
+                    state._fsp--;
+                    if (state.failed) return positionalArgument;
+
+                    if ( state.backtracking==0 ) { fa.setExpression(expression236); 
+                            positionalArgument = fa; }
+
+                    }
+                    break;
+                case 2 :
+                    // /root/project/Ceylon.g:1856:7: VALUE_MODIFIER expression
+                    {
+                    VALUE_MODIFIER237=(Token)match(input,VALUE_MODIFIER,FOLLOW_VALUE_MODIFIER_in_positionalArgument9891); if (state.failed) return positionalArgument;
+
+                    if ( state.backtracking==0 ) { fa.setType(new FunctionModifier(VALUE_MODIFIER237)); }
+
+                    pushFollow(FOLLOW_expression_in_positionalArgument9908);
+                    expression238=expression();
+
+                    state._fsp--;
+                    if (state.failed) return positionalArgument;
+
+                    if ( state.backtracking==0 ) { fa.addParameterList(new ParameterList(null));
+                            fa.setExpression(expression238); 
+                            positionalArgument = fa; }
+
+                    }
+                    break;
+                case 3 :
+                    // /root/project/Ceylon.g:1862:7: expression
+                    {
+                    pushFollow(FOLLOW_expression_in_positionalArgument9924);
+                    expression239=expression();
+
+                    state._fsp--;
+                    if (state.failed) return positionalArgument;
+
+                    if ( state.backtracking==0 ) { pa.setExpression(expression239);
+                            positionalArgument = pa; }
+
+                    }
+                    break;
+
+            }
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return positionalArgument;
+    }
+    // $ANTLR end "positionalArgument"
+
+
+
+    // $ANTLR start "comprehension"
+    // /root/project/Ceylon.g:1872:1: comprehension returns [Comprehension comprehension] : forComprehensionClause ;
+    public final Comprehension comprehension() throws RecognitionException {
+        Comprehension comprehension = null;
+
+
+        ForComprehensionClause forComprehensionClause240 =null;
+
+
+         comprehension = new Comprehension(null); 
+        try {
+            // /root/project/Ceylon.g:1874:5: ( forComprehensionClause )
+            // /root/project/Ceylon.g:1874:7: forComprehensionClause
+            {
+            pushFollow(FOLLOW_forComprehensionClause_in_comprehension9969);
+            forComprehensionClause240=forComprehensionClause();
+
+            state._fsp--;
+            if (state.failed) return comprehension;
+
+            if ( state.backtracking==0 ) { comprehension.setForComprehensionClause(forComprehensionClause240); }
+
+            }
+
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return comprehension;
+    }
+    // $ANTLR end "comprehension"
+
+
+
+    // $ANTLR start "comprehensionClause"
+    // /root/project/Ceylon.g:1878:1: comprehensionClause returns [ComprehensionClause comprehensionClause] : ( forComprehensionClause | ifComprehensionClause | expressionComprehensionClause );
+    public final ComprehensionClause comprehensionClause() throws RecognitionException {
+        ComprehensionClause comprehensionClause = null;
+
+
+        ForComprehensionClause forComprehensionClause241 =null;
+
+        IfComprehensionClause ifComprehensionClause242 =null;
+
+        ExpressionComprehensionClause expressionComprehensionClause243 =null;
+
+
+        try {
+            // /root/project/Ceylon.g:1879:5: ( forComprehensionClause | ifComprehensionClause | expressionComprehensionClause )
+            int alt134=3;
+            switch ( input.LA(1) ) {
+            case FOR_CLAUSE:
+                {
+                alt134=1;
+                }
+                break;
+            case IF_CLAUSE:
+                {
+                alt134=2;
+                }
+                break;
+            case CHAR_LITERAL:
+            case COMPLEMENT_OP:
+            case DECREMENT_OP:
+            case DIFFERENCE_OP:
+            case EXISTS:
+            case EXTENDS:
+            case FLOAT_LITERAL:
+            case INCREMENT_OP:
+            case IS_OP:
+            case LBRACE:
+            case LIDENTIFIER:
+            case LPAREN:
+            case NATURAL_LITERAL:
+            case NONEMPTY:
+            case NOT_OP:
+            case OUTER:
+            case QUOTED_LITERAL:
+            case RBRACE:
+            case RPAREN:
+            case SATISFIES:
+            case STRING_LITERAL:
+            case SUM_OP:
+            case SUPER:
+            case THIS:
+            case UIDENTIFIER:
+                {
+                alt134=3;
+                }
+                break;
+            default:
+                if (state.backtracking>0) {state.failed=true; return comprehensionClause;}
+                NoViableAltException nvae =
+                    new NoViableAltException("", 134, 0, input);
+
+                throw nvae;
+
+            }
+
+            switch (alt134) {
+                case 1 :
+                    // /root/project/Ceylon.g:1879:7: forComprehensionClause
+                    {
+                    pushFollow(FOLLOW_forComprehensionClause_in_comprehensionClause9998);
+                    forComprehensionClause241=forComprehensionClause();
+
+                    state._fsp--;
+                    if (state.failed) return comprehensionClause;
+
+                    if ( state.backtracking==0 ) { comprehensionClause = forComprehensionClause241; }
+
+                    }
+                    break;
+                case 2 :
+                    // /root/project/Ceylon.g:1881:7: ifComprehensionClause
+                    {
+                    pushFollow(FOLLOW_ifComprehensionClause_in_comprehensionClause10015);
+                    ifComprehensionClause242=ifComprehensionClause();
+
+                    state._fsp--;
+                    if (state.failed) return comprehensionClause;
+
+                    if ( state.backtracking==0 ) { comprehensionClause = ifComprehensionClause242; }
+
+                    }
+                    break;
+                case 3 :
+                    // /root/project/Ceylon.g:1883:7: expressionComprehensionClause
+                    {
+                    pushFollow(FOLLOW_expressionComprehensionClause_in_comprehensionClause10032);
+                    expressionComprehensionClause243=expressionComprehensionClause();
+
+                    state._fsp--;
+                    if (state.failed) return comprehensionClause;
+
+                    if ( state.backtracking==0 ) { comprehensionClause = expressionComprehensionClause243; }
+
+                    }
+                    break;
+
+            }
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return comprehensionClause;
+    }
+    // $ANTLR end "comprehensionClause"
+
+
+
+    // $ANTLR start "expressionComprehensionClause"
+    // /root/project/Ceylon.g:1887:1: expressionComprehensionClause returns [ExpressionComprehensionClause comprehensionClause] : ( expression |);
+    public final ExpressionComprehensionClause expressionComprehensionClause() throws RecognitionException {
+        ExpressionComprehensionClause comprehensionClause = null;
+
+
+        Expression expression244 =null;
+
+
+        try {
+            // /root/project/Ceylon.g:1888:5: ( expression |)
+            int alt135=2;
+            int LA135_0 = input.LA(1);
+
+            if ( (LA135_0==CHAR_LITERAL||LA135_0==COMPLEMENT_OP||LA135_0==DECREMENT_OP||LA135_0==DIFFERENCE_OP||(LA135_0 >= EXISTS && LA135_0 <= EXTENDS)||LA135_0==FLOAT_LITERAL||LA135_0==INCREMENT_OP||LA135_0==IS_OP||LA135_0==LBRACE||LA135_0==LIDENTIFIER||LA135_0==LPAREN||(LA135_0 >= NATURAL_LITERAL && LA135_0 <= NONEMPTY)||LA135_0==NOT_OP||LA135_0==OUTER||LA135_0==QUOTED_LITERAL||LA135_0==SATISFIES||LA135_0==STRING_LITERAL||(LA135_0 >= SUM_OP && LA135_0 <= SUPER)||LA135_0==THIS||LA135_0==UIDENTIFIER) ) {
+                alt135=1;
+            }
+            else if ( (LA135_0==RBRACE||LA135_0==RPAREN) ) {
+                alt135=2;
+            }
+            else {
+                if (state.backtracking>0) {state.failed=true; return comprehensionClause;}
+                NoViableAltException nvae =
+                    new NoViableAltException("", 135, 0, input);
+
+                throw nvae;
+
+            }
+            switch (alt135) {
+                case 1 :
+                    // /root/project/Ceylon.g:1888:7: expression
+                    {
+                    pushFollow(FOLLOW_expression_in_expressionComprehensionClause10062);
+                    expression244=expression();
+
+                    state._fsp--;
+                    if (state.failed) return comprehensionClause;
+
+                    if ( state.backtracking==0 ) { comprehensionClause = new ExpressionComprehensionClause(null);
+                            comprehensionClause.setExpression(expression244); }
+
+                    }
+                    break;
+                case 2 :
+                    // /root/project/Ceylon.g:1891:7: 
+                    {
+                    if ( state.backtracking==0 ) { displayRecognitionError(getTokenNames(), 
+                              new MismatchedTokenException(LIDENTIFIER, input)); }
+
+                    }
+                    break;
+
+            }
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return comprehensionClause;
+    }
+    // $ANTLR end "expressionComprehensionClause"
+
+
+
+    // $ANTLR start "forComprehensionClause"
+    // /root/project/Ceylon.g:1895:1: forComprehensionClause returns [ForComprehensionClause comprehensionClause] : FOR_CLAUSE forIterator comprehensionClause ;
+    public final ForComprehensionClause forComprehensionClause() throws RecognitionException {
+        ForComprehensionClause comprehensionClause = null;
+
+
+        Token FOR_CLAUSE245=null;
+        ForIterator forIterator246 =null;
+
+        ComprehensionClause comprehensionClause247 =null;
+
+
+        try {
+            // /root/project/Ceylon.g:1896:5: ( FOR_CLAUSE forIterator comprehensionClause )
+            // /root/project/Ceylon.g:1896:7: FOR_CLAUSE forIterator comprehensionClause
+            {
+            FOR_CLAUSE245=(Token)match(input,FOR_CLAUSE,FOLLOW_FOR_CLAUSE_in_forComprehensionClause10099); if (state.failed) return comprehensionClause;
+
+            if ( state.backtracking==0 ) { comprehensionClause = new ForComprehensionClause(FOR_CLAUSE245); }
+
+            pushFollow(FOLLOW_forIterator_in_forComprehensionClause10115);
+            forIterator246=forIterator();
+
+            state._fsp--;
+            if (state.failed) return comprehensionClause;
+
+            if ( state.backtracking==0 ) { comprehensionClause.setForIterator(forIterator246); }
+
+            pushFollow(FOLLOW_comprehensionClause_in_forComprehensionClause10131);
+            comprehensionClause247=comprehensionClause();
+
+            state._fsp--;
+            if (state.failed) return comprehensionClause;
+
+            if ( state.backtracking==0 ) { comprehensionClause.setComprehensionClause(comprehensionClause247); }
+
+            }
+
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return comprehensionClause;
+    }
+    // $ANTLR end "forComprehensionClause"
+
+
+
+    // $ANTLR start "ifComprehensionClause"
+    // /root/project/Ceylon.g:1904:1: ifComprehensionClause returns [IfComprehensionClause comprehensionClause] : IF_CLAUSE condition comprehensionClause ;
+    public final IfComprehensionClause ifComprehensionClause() throws RecognitionException {
+        IfComprehensionClause comprehensionClause = null;
+
+
+        Token IF_CLAUSE248=null;
+        Condition condition249 =null;
+
+        ComprehensionClause comprehensionClause250 =null;
+
+
+        try {
+            // /root/project/Ceylon.g:1905:5: ( IF_CLAUSE condition comprehensionClause )
+            // /root/project/Ceylon.g:1905:7: IF_CLAUSE condition comprehensionClause
+            {
+            IF_CLAUSE248=(Token)match(input,IF_CLAUSE,FOLLOW_IF_CLAUSE_in_ifComprehensionClause10164); if (state.failed) return comprehensionClause;
+
+            if ( state.backtracking==0 ) { comprehensionClause = new IfComprehensionClause(IF_CLAUSE248); }
+
+            pushFollow(FOLLOW_condition_in_ifComprehensionClause10180);
+            condition249=condition();
+
+            state._fsp--;
+            if (state.failed) return comprehensionClause;
+
+            if ( state.backtracking==0 ) { comprehensionClause.setCondition(condition249); }
+
+            pushFollow(FOLLOW_comprehensionClause_in_ifComprehensionClause10196);
+            comprehensionClause250=comprehensionClause();
+
+            state._fsp--;
+            if (state.failed) return comprehensionClause;
+
+            if ( state.backtracking==0 ) { comprehensionClause.setComprehensionClause(comprehensionClause250); }
+
+            }
+
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return comprehensionClause;
+    }
+    // $ANTLR end "ifComprehensionClause"
+
+
+
+    // $ANTLR start "assignmentExpression"
+    // /root/project/Ceylon.g:1913:1: assignmentExpression returns [Term term] : ee1= thenElseExpression ( assignmentOperator ee2= assignmentExpression )? ;
+    public final Term assignmentExpression() throws RecognitionException {
+        Term term = null;
+
+
+        Term ee1 =null;
+
+        Term ee2 =null;
+
+        AssignmentOp assignmentOperator251 =null;
+
+
+        try {
+            // /root/project/Ceylon.g:1914:5: (ee1= thenElseExpression ( assignmentOperator ee2= assignmentExpression )? )
+            // /root/project/Ceylon.g:1914:7: ee1= thenElseExpression ( assignmentOperator ee2= assignmentExpression )?
+            {
+            pushFollow(FOLLOW_thenElseExpression_in_assignmentExpression10231);
+            ee1=thenElseExpression();
+
+            state._fsp--;
+            if (state.failed) return term;
+
+            if ( state.backtracking==0 ) { term = ee1; }
+
+            // /root/project/Ceylon.g:1916:7: ( assignmentOperator ee2= assignmentExpression )?
+            int alt136=2;
+            int LA136_0 = input.LA(1);
+
+            if ( (LA136_0==ADD_ASSIGN_OP||LA136_0==AND_ASSIGN_OP||LA136_0==ASSIGN_OP||LA136_0==COMPLEMENT_ASSIGN_OP||LA136_0==DIVIDE_ASSIGN_OP||LA136_0==INTERSECT_ASSIGN_OP||LA136_0==MULTIPLY_ASSIGN_OP||LA136_0==OR_ASSIGN_OP||LA136_0==REMAINDER_ASSIGN_OP||LA136_0==SUBTRACT_ASSIGN_OP||LA136_0==UNION_ASSIGN_OP||LA136_0==XOR_ASSIGN_OP) ) {
+                alt136=1;
+            }
+            switch (alt136) {
+                case 1 :
+                    // /root/project/Ceylon.g:1917:9: assignmentOperator ee2= assignmentExpression
+                    {
+                    pushFollow(FOLLOW_assignmentOperator_in_assignmentExpression10257);
+                    assignmentOperator251=assignmentOperator();
+
+                    state._fsp--;
+                    if (state.failed) return term;
+
+                    if ( state.backtracking==0 ) { assignmentOperator251.setLeftTerm(term);
+                              term = assignmentOperator251; }
+
+                    pushFollow(FOLLOW_assignmentExpression_in_assignmentExpression10280);
+                    ee2=assignmentExpression();
+
+                    state._fsp--;
+                    if (state.failed) return term;
+
+                    if ( state.backtracking==0 ) { assignmentOperator251.setRightTerm(ee2); }
+
+                    }
+                    break;
+
+            }
+
+
+            }
+
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return term;
+    }
+    // $ANTLR end "assignmentExpression"
+
+
+
+    // $ANTLR start "assignmentOperator"
+    // /root/project/Ceylon.g:1925:1: assignmentOperator returns [AssignmentOp operator] : ( ASSIGN_OP | ADD_ASSIGN_OP | SUBTRACT_ASSIGN_OP | MULTIPLY_ASSIGN_OP | DIVIDE_ASSIGN_OP | REMAINDER_ASSIGN_OP | INTERSECT_ASSIGN_OP | UNION_ASSIGN_OP | XOR_ASSIGN_OP | COMPLEMENT_ASSIGN_OP | AND_ASSIGN_OP | OR_ASSIGN_OP );
+    public final AssignmentOp assignmentOperator() throws RecognitionException {
+        AssignmentOp operator = null;
+
+
+        Token ASSIGN_OP252=null;
+        Token ADD_ASSIGN_OP253=null;
+        Token SUBTRACT_ASSIGN_OP254=null;
+        Token MULTIPLY_ASSIGN_OP255=null;
+        Token DIVIDE_ASSIGN_OP256=null;
+        Token REMAINDER_ASSIGN_OP257=null;
+        Token INTERSECT_ASSIGN_OP258=null;
+        Token UNION_ASSIGN_OP259=null;
+        Token XOR_ASSIGN_OP260=null;
+        Token COMPLEMENT_ASSIGN_OP261=null;
+        Token AND_ASSIGN_OP262=null;
+        Token OR_ASSIGN_OP263=null;
+
+        try {
+            // /root/project/Ceylon.g:1926:5: ( ASSIGN_OP | ADD_ASSIGN_OP | SUBTRACT_ASSIGN_OP | MULTIPLY_ASSIGN_OP | DIVIDE_ASSIGN_OP | REMAINDER_ASSIGN_OP | INTERSECT_ASSIGN_OP | UNION_ASSIGN_OP | XOR_ASSIGN_OP | COMPLEMENT_ASSIGN_OP | AND_ASSIGN_OP | OR_ASSIGN_OP )
+            int alt137=12;
+            switch ( input.LA(1) ) {
+            case ASSIGN_OP:
+                {
+                alt137=1;
+                }
+                break;
+            case ADD_ASSIGN_OP:
+                {
+                alt137=2;
+                }
+                break;
+            case SUBTRACT_ASSIGN_OP:
+                {
+                alt137=3;
+                }
+                break;
+            case MULTIPLY_ASSIGN_OP:
+                {
+                alt137=4;
+                }
+                break;
+            case DIVIDE_ASSIGN_OP:
+                {
+                alt137=5;
+                }
+                break;
+            case REMAINDER_ASSIGN_OP:
+                {
+                alt137=6;
+                }
+                break;
+            case INTERSECT_ASSIGN_OP:
+                {
+                alt137=7;
+                }
+                break;
+            case UNION_ASSIGN_OP:
+                {
+                alt137=8;
+                }
+                break;
+            case XOR_ASSIGN_OP:
+                {
+                alt137=9;
+                }
+                break;
+            case COMPLEMENT_ASSIGN_OP:
+                {
+                alt137=10;
+                }
+                break;
+            case AND_ASSIGN_OP:
+                {
+                alt137=11;
+                }
+                break;
+            case OR_ASSIGN_OP:
+                {
+                alt137=12;
+                }
+                break;
+            default:
+                if (state.backtracking>0) {state.failed=true; return operator;}
+                NoViableAltException nvae =
+                    new NoViableAltException("", 137, 0, input);
+
+                throw nvae;
+
+            }
+
+            switch (alt137) {
+                case 1 :
+                    // /root/project/Ceylon.g:1926:7: ASSIGN_OP
+                    {
+                    ASSIGN_OP252=(Token)match(input,ASSIGN_OP,FOLLOW_ASSIGN_OP_in_assignmentOperator10320); if (state.failed) return operator;
+
+                    if ( state.backtracking==0 ) { operator = new AssignOp(ASSIGN_OP252); }
+
+                    }
+                    break;
+                case 2 :
+                    // /root/project/Ceylon.g:1928:7: ADD_ASSIGN_OP
+                    {
+                    ADD_ASSIGN_OP253=(Token)match(input,ADD_ASSIGN_OP,FOLLOW_ADD_ASSIGN_OP_in_assignmentOperator10335); if (state.failed) return operator;
+
+                    if ( state.backtracking==0 ) { operator = new AddAssignOp(ADD_ASSIGN_OP253); }
+
+                    }
+                    break;
+                case 3 :
+                    // /root/project/Ceylon.g:1929:7: SUBTRACT_ASSIGN_OP
+                    {
+                    SUBTRACT_ASSIGN_OP254=(Token)match(input,SUBTRACT_ASSIGN_OP,FOLLOW_SUBTRACT_ASSIGN_OP_in_assignmentOperator10345); if (state.failed) return operator;
+
+                    if ( state.backtracking==0 ) { operator = new SubtractAssignOp(SUBTRACT_ASSIGN_OP254); }
+
+                    }
+                    break;
+                case 4 :
+                    // /root/project/Ceylon.g:1930:7: MULTIPLY_ASSIGN_OP
+                    {
+                    MULTIPLY_ASSIGN_OP255=(Token)match(input,MULTIPLY_ASSIGN_OP,FOLLOW_MULTIPLY_ASSIGN_OP_in_assignmentOperator10355); if (state.failed) return operator;
+
+                    if ( state.backtracking==0 ) { operator = new MultiplyAssignOp(MULTIPLY_ASSIGN_OP255); }
+
+                    }
+                    break;
+                case 5 :
+                    // /root/project/Ceylon.g:1931:7: DIVIDE_ASSIGN_OP
+                    {
+                    DIVIDE_ASSIGN_OP256=(Token)match(input,DIVIDE_ASSIGN_OP,FOLLOW_DIVIDE_ASSIGN_OP_in_assignmentOperator10365); if (state.failed) return operator;
+
+                    if ( state.backtracking==0 ) { operator = new DivideAssignOp(DIVIDE_ASSIGN_OP256); }
+
+                    }
+                    break;
+                case 6 :
+                    // /root/project/Ceylon.g:1932:7: REMAINDER_ASSIGN_OP
+                    {
+                    REMAINDER_ASSIGN_OP257=(Token)match(input,REMAINDER_ASSIGN_OP,FOLLOW_REMAINDER_ASSIGN_OP_in_assignmentOperator10375); if (state.failed) return operator;
+
+                    if ( state.backtracking==0 ) { operator = new RemainderAssignOp(REMAINDER_ASSIGN_OP257); }
+
+                    }
+                    break;
+                case 7 :
+                    // /root/project/Ceylon.g:1933:7: INTERSECT_ASSIGN_OP
+                    {
+                    INTERSECT_ASSIGN_OP258=(Token)match(input,INTERSECT_ASSIGN_OP,FOLLOW_INTERSECT_ASSIGN_OP_in_assignmentOperator10385); if (state.failed) return operator;
+
+                    if ( state.backtracking==0 ) { operator = new IntersectAssignOp(INTERSECT_ASSIGN_OP258); }
+
+                    }
+                    break;
+                case 8 :
+                    // /root/project/Ceylon.g:1934:7: UNION_ASSIGN_OP
+                    {
+                    UNION_ASSIGN_OP259=(Token)match(input,UNION_ASSIGN_OP,FOLLOW_UNION_ASSIGN_OP_in_assignmentOperator10395); if (state.failed) return operator;
+
+                    if ( state.backtracking==0 ) { operator = new UnionAssignOp(UNION_ASSIGN_OP259); }
+
+                    }
+                    break;
+                case 9 :
+                    // /root/project/Ceylon.g:1935:7: XOR_ASSIGN_OP
+                    {
+                    XOR_ASSIGN_OP260=(Token)match(input,XOR_ASSIGN_OP,FOLLOW_XOR_ASSIGN_OP_in_assignmentOperator10405); if (state.failed) return operator;
+
+                    if ( state.backtracking==0 ) { operator = new XorAssignOp(XOR_ASSIGN_OP260); }
+
+                    }
+                    break;
+                case 10 :
+                    // /root/project/Ceylon.g:1936:7: COMPLEMENT_ASSIGN_OP
+                    {
+                    COMPLEMENT_ASSIGN_OP261=(Token)match(input,COMPLEMENT_ASSIGN_OP,FOLLOW_COMPLEMENT_ASSIGN_OP_in_assignmentOperator10415); if (state.failed) return operator;
+
+                    if ( state.backtracking==0 ) { operator = new ComplementAssignOp(COMPLEMENT_ASSIGN_OP261); }
+
+                    }
+                    break;
+                case 11 :
+                    // /root/project/Ceylon.g:1937:7: AND_ASSIGN_OP
+                    {
+                    AND_ASSIGN_OP262=(Token)match(input,AND_ASSIGN_OP,FOLLOW_AND_ASSIGN_OP_in_assignmentOperator10425); if (state.failed) return operator;
+
+                    if ( state.backtracking==0 ) { operator = new AndAssignOp(AND_ASSIGN_OP262); }
+
+                    }
+                    break;
+                case 12 :
+                    // /root/project/Ceylon.g:1938:7: OR_ASSIGN_OP
+                    {
+                    OR_ASSIGN_OP263=(Token)match(input,OR_ASSIGN_OP,FOLLOW_OR_ASSIGN_OP_in_assignmentOperator10435); if (state.failed) return operator;
+
+                    if ( state.backtracking==0 ) { operator = new OrAssignOp(OR_ASSIGN_OP263); }
+
+                    }
+                    break;
+
+            }
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return operator;
+    }
+    // $ANTLR end "assignmentOperator"
+
+
+
+    // $ANTLR start "thenElseExpression"
+    // /root/project/Ceylon.g:1942:1: thenElseExpression returns [Term term] : de1= disjunctionExpression ( thenElseOperator de2= disjunctionExpression )* ;
+    public final Term thenElseExpression() throws RecognitionException {
+        Term term = null;
+
+
+        Term de1 =null;
+
+        Term de2 =null;
+
+        BinaryOperatorExpression thenElseOperator264 =null;
+
+
+        try {
+            // /root/project/Ceylon.g:1943:5: (de1= disjunctionExpression ( thenElseOperator de2= disjunctionExpression )* )
+            // /root/project/Ceylon.g:1943:7: de1= disjunctionExpression ( thenElseOperator de2= disjunctionExpression )*
+            {
+            pushFollow(FOLLOW_disjunctionExpression_in_thenElseExpression10465);
+            de1=disjunctionExpression();
+
+            state._fsp--;
+            if (state.failed) return term;
+
+            if ( state.backtracking==0 ) { term = de1; }
+
+            // /root/project/Ceylon.g:1945:7: ( thenElseOperator de2= disjunctionExpression )*
+            loop138:
+            do {
+                int alt138=2;
+                int LA138_0 = input.LA(1);
+
+                if ( (LA138_0==ELSE_CLAUSE||LA138_0==THEN_CLAUSE) ) {
+                    alt138=1;
+                }
+
+
+                switch (alt138) {
+            	case 1 :
+            	    // /root/project/Ceylon.g:1946:9: thenElseOperator de2= disjunctionExpression
+            	    {
+            	    pushFollow(FOLLOW_thenElseOperator_in_thenElseExpression10491);
+            	    thenElseOperator264=thenElseOperator();
+
+            	    state._fsp--;
+            	    if (state.failed) return term;
+
+            	    if ( state.backtracking==0 ) { thenElseOperator264.setLeftTerm(term);
+            	              term = thenElseOperator264; }
+
+            	    pushFollow(FOLLOW_disjunctionExpression_in_thenElseExpression10514);
+            	    de2=disjunctionExpression();
+
+            	    state._fsp--;
+            	    if (state.failed) return term;
+
+            	    if ( state.backtracking==0 ) { thenElseOperator264.setRightTerm(de2); }
+
+            	    }
+            	    break;
+
+            	default :
+            	    break loop138;
+                }
+            } while (true);
+
+
+            }
+
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return term;
+    }
+    // $ANTLR end "thenElseExpression"
+
+
+
+    // $ANTLR start "thenElseOperator"
+    // /root/project/Ceylon.g:1954:1: thenElseOperator returns [BinaryOperatorExpression operator] : ( ELSE_CLAUSE | THEN_CLAUSE );
+    public final BinaryOperatorExpression thenElseOperator() throws RecognitionException {
+        BinaryOperatorExpression operator = null;
+
+
+        Token ELSE_CLAUSE265=null;
+        Token THEN_CLAUSE266=null;
+
+        try {
+            // /root/project/Ceylon.g:1955:5: ( ELSE_CLAUSE | THEN_CLAUSE )
+            int alt139=2;
+            int LA139_0 = input.LA(1);
+
+            if ( (LA139_0==ELSE_CLAUSE) ) {
+                alt139=1;
+            }
+            else if ( (LA139_0==THEN_CLAUSE) ) {
+                alt139=2;
+            }
+            else {
+                if (state.backtracking>0) {state.failed=true; return operator;}
+                NoViableAltException nvae =
+                    new NoViableAltException("", 139, 0, input);
+
+                throw nvae;
+
+            }
+            switch (alt139) {
+                case 1 :
+                    // /root/project/Ceylon.g:1955:7: ELSE_CLAUSE
+                    {
+                    ELSE_CLAUSE265=(Token)match(input,ELSE_CLAUSE,FOLLOW_ELSE_CLAUSE_in_thenElseOperator10554); if (state.failed) return operator;
+
+                    if ( state.backtracking==0 ) { operator = new DefaultOp(ELSE_CLAUSE265); }
+
+                    }
+                    break;
+                case 2 :
+                    // /root/project/Ceylon.g:1957:7: THEN_CLAUSE
+                    {
+                    THEN_CLAUSE266=(Token)match(input,THEN_CLAUSE,FOLLOW_THEN_CLAUSE_in_thenElseOperator10571); if (state.failed) return operator;
+
+                    if ( state.backtracking==0 ) { operator = new ThenOp(THEN_CLAUSE266); }
+
+                    }
+                    break;
+
+            }
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return operator;
+    }
+    // $ANTLR end "thenElseOperator"
+
+
+
+    // $ANTLR start "disjunctionExpression"
+    // /root/project/Ceylon.g:1961:1: disjunctionExpression returns [Term term] : me1= conjunctionExpression ( disjunctionOperator me2= conjunctionExpression )* ;
+    public final Term disjunctionExpression() throws RecognitionException {
+        Term term = null;
+
+
+        Term me1 =null;
+
+        Term me2 =null;
+
+        OrOp disjunctionOperator267 =null;
+
+
+        try {
+            // /root/project/Ceylon.g:1962:5: (me1= conjunctionExpression ( disjunctionOperator me2= conjunctionExpression )* )
+            // /root/project/Ceylon.g:1962:7: me1= conjunctionExpression ( disjunctionOperator me2= conjunctionExpression )*
+            {
+            pushFollow(FOLLOW_conjunctionExpression_in_disjunctionExpression10602);
+            me1=conjunctionExpression();
+
+            state._fsp--;
+            if (state.failed) return term;
+
+            if ( state.backtracking==0 ) { term = me1; }
+
+            // /root/project/Ceylon.g:1964:7: ( disjunctionOperator me2= conjunctionExpression )*
+            loop140:
+            do {
+                int alt140=2;
+                int LA140_0 = input.LA(1);
+
+                if ( (LA140_0==OR_OP) ) {
+                    alt140=1;
+                }
+
+
+                switch (alt140) {
+            	case 1 :
+            	    // /root/project/Ceylon.g:1965:9: disjunctionOperator me2= conjunctionExpression
+            	    {
+            	    pushFollow(FOLLOW_disjunctionOperator_in_disjunctionExpression10628);
+            	    disjunctionOperator267=disjunctionOperator();
+
+            	    state._fsp--;
+            	    if (state.failed) return term;
+
+            	    if ( state.backtracking==0 ) { disjunctionOperator267.setLeftTerm(term);
+            	              term = disjunctionOperator267; }
+
+            	    pushFollow(FOLLOW_conjunctionExpression_in_disjunctionExpression10651);
+            	    me2=conjunctionExpression();
+
+            	    state._fsp--;
+            	    if (state.failed) return term;
+
+            	    if ( state.backtracking==0 ) { disjunctionOperator267.setRightTerm(me2); }
+
+            	    }
+            	    break;
+
+            	default :
+            	    break loop140;
+                }
+            } while (true);
+
+
+            }
+
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return term;
+    }
+    // $ANTLR end "disjunctionExpression"
+
+
+
+    // $ANTLR start "disjunctionOperator"
+    // /root/project/Ceylon.g:1973:1: disjunctionOperator returns [OrOp operator] : OR_OP ;
+    public final OrOp disjunctionOperator() throws RecognitionException {
+        OrOp operator = null;
+
+
+        Token OR_OP268=null;
+
+        try {
+            // /root/project/Ceylon.g:1974:5: ( OR_OP )
+            // /root/project/Ceylon.g:1974:7: OR_OP
+            {
+            OR_OP268=(Token)match(input,OR_OP,FOLLOW_OR_OP_in_disjunctionOperator10691); if (state.failed) return operator;
+
+            if ( state.backtracking==0 ) { operator = new OrOp(OR_OP268); }
+
+            }
+
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return operator;
+    }
+    // $ANTLR end "disjunctionOperator"
+
+
+
+    // $ANTLR start "conjunctionExpression"
+    // /root/project/Ceylon.g:1978:1: conjunctionExpression returns [Term term] : me1= logicalNegationExpression ( conjunctionOperator me2= logicalNegationExpression )* ;
+    public final Term conjunctionExpression() throws RecognitionException {
+        Term term = null;
+
+
+        Term me1 =null;
+
+        Term me2 =null;
+
+        AndOp conjunctionOperator269 =null;
+
+
+        try {
+            // /root/project/Ceylon.g:1979:5: (me1= logicalNegationExpression ( conjunctionOperator me2= logicalNegationExpression )* )
+            // /root/project/Ceylon.g:1979:7: me1= logicalNegationExpression ( conjunctionOperator me2= logicalNegationExpression )*
+            {
+            pushFollow(FOLLOW_logicalNegationExpression_in_conjunctionExpression10723);
+            me1=logicalNegationExpression();
+
+            state._fsp--;
+            if (state.failed) return term;
+
+            if ( state.backtracking==0 ) { term = me1; }
+
+            // /root/project/Ceylon.g:1981:7: ( conjunctionOperator me2= logicalNegationExpression )*
+            loop141:
+            do {
+                int alt141=2;
+                int LA141_0 = input.LA(1);
+
+                if ( (LA141_0==AND_OP) ) {
+                    alt141=1;
+                }
+
+
+                switch (alt141) {
+            	case 1 :
+            	    // /root/project/Ceylon.g:1982:9: conjunctionOperator me2= logicalNegationExpression
+            	    {
+            	    pushFollow(FOLLOW_conjunctionOperator_in_conjunctionExpression10749);
+            	    conjunctionOperator269=conjunctionOperator();
+
+            	    state._fsp--;
+            	    if (state.failed) return term;
+
+            	    if ( state.backtracking==0 ) { conjunctionOperator269.setLeftTerm(term);
+            	              term = conjunctionOperator269; }
+
+            	    pushFollow(FOLLOW_logicalNegationExpression_in_conjunctionExpression10772);
+            	    me2=logicalNegationExpression();
+
+            	    state._fsp--;
+            	    if (state.failed) return term;
+
+            	    if ( state.backtracking==0 ) { conjunctionOperator269.setRightTerm(me2); }
+
+            	    }
+            	    break;
+
+            	default :
+            	    break loop141;
+                }
+            } while (true);
+
+
+            }
+
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return term;
+    }
+    // $ANTLR end "conjunctionExpression"
+
+
+
+    // $ANTLR start "conjunctionOperator"
+    // /root/project/Ceylon.g:1990:1: conjunctionOperator returns [AndOp operator] : AND_OP ;
+    public final AndOp conjunctionOperator() throws RecognitionException {
+        AndOp operator = null;
+
+
+        Token AND_OP270=null;
+
+        try {
+            // /root/project/Ceylon.g:1991:5: ( AND_OP )
+            // /root/project/Ceylon.g:1991:7: AND_OP
+            {
+            AND_OP270=(Token)match(input,AND_OP,FOLLOW_AND_OP_in_conjunctionOperator10812); if (state.failed) return operator;
+
+            if ( state.backtracking==0 ) { operator = new AndOp(AND_OP270); }
+
+            }
+
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return operator;
+    }
+    // $ANTLR end "conjunctionOperator"
+
+
+
+    // $ANTLR start "logicalNegationExpression"
+    // /root/project/Ceylon.g:1995:1: logicalNegationExpression returns [Term term] : ( notOperator le= logicalNegationExpression | equalityExpression );
+    public final Term logicalNegationExpression() throws RecognitionException {
+        Term term = null;
+
+
+        Term le =null;
+
+        NotOp notOperator271 =null;
+
+        Term equalityExpression272 =null;
+
+
+        try {
+            // /root/project/Ceylon.g:1996:5: ( notOperator le= logicalNegationExpression | equalityExpression )
+            int alt142=2;
+            int LA142_0 = input.LA(1);
+
+            if ( (LA142_0==NOT_OP) ) {
+                alt142=1;
+            }
+            else if ( (LA142_0==CHAR_LITERAL||LA142_0==COMPLEMENT_OP||LA142_0==DECREMENT_OP||LA142_0==DIFFERENCE_OP||(LA142_0 >= EXISTS && LA142_0 <= EXTENDS)||LA142_0==FLOAT_LITERAL||LA142_0==INCREMENT_OP||LA142_0==IS_OP||LA142_0==LBRACE||LA142_0==LIDENTIFIER||LA142_0==LPAREN||(LA142_0 >= NATURAL_LITERAL && LA142_0 <= NONEMPTY)||LA142_0==OUTER||LA142_0==QUOTED_LITERAL||LA142_0==SATISFIES||LA142_0==STRING_LITERAL||(LA142_0 >= SUM_OP && LA142_0 <= SUPER)||LA142_0==THIS||LA142_0==UIDENTIFIER) ) {
+                alt142=2;
+            }
+            else {
+                if (state.backtracking>0) {state.failed=true; return term;}
+                NoViableAltException nvae =
+                    new NoViableAltException("", 142, 0, input);
+
+                throw nvae;
+
+            }
+            switch (alt142) {
+                case 1 :
+                    // /root/project/Ceylon.g:1996:7: notOperator le= logicalNegationExpression
+                    {
+                    pushFollow(FOLLOW_notOperator_in_logicalNegationExpression10842);
+                    notOperator271=notOperator();
+
+                    state._fsp--;
+                    if (state.failed) return term;
+
+                    if ( state.backtracking==0 ) { term = notOperator271; }
+
+                    pushFollow(FOLLOW_logicalNegationExpression_in_logicalNegationExpression10861);
+                    le=logicalNegationExpression();
+
+                    state._fsp--;
+                    if (state.failed) return term;
+
+                    if ( state.backtracking==0 ) { notOperator271.setTerm(le); }
+
+                    }
+                    break;
+                case 2 :
+                    // /root/project/Ceylon.g:2000:7: equalityExpression
+                    {
+                    pushFollow(FOLLOW_equalityExpression_in_logicalNegationExpression10877);
+                    equalityExpression272=equalityExpression();
+
+                    state._fsp--;
+                    if (state.failed) return term;
+
+                    if ( state.backtracking==0 ) { term = equalityExpression272; }
+
+                    }
+                    break;
+
+            }
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return term;
+    }
+    // $ANTLR end "logicalNegationExpression"
+
+
+
+    // $ANTLR start "notOperator"
+    // /root/project/Ceylon.g:2004:1: notOperator returns [NotOp operator] : NOT_OP ;
+    public final NotOp notOperator() throws RecognitionException {
+        NotOp operator = null;
+
+
+        Token NOT_OP273=null;
+
+        try {
+            // /root/project/Ceylon.g:2005:5: ( NOT_OP )
+            // /root/project/Ceylon.g:2005:7: NOT_OP
+            {
+            NOT_OP273=(Token)match(input,NOT_OP,FOLLOW_NOT_OP_in_notOperator10906); if (state.failed) return operator;
+
+            if ( state.backtracking==0 ) { operator = new NotOp(NOT_OP273); }
+
+            }
+
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return operator;
+    }
+    // $ANTLR end "notOperator"
+
+
+
+    // $ANTLR start "equalityExpression"
+    // /root/project/Ceylon.g:2009:1: equalityExpression returns [Term term] : ee1= comparisonExpression ( equalityOperator ee2= comparisonExpression )? ;
+    public final Term equalityExpression() throws RecognitionException {
+        Term term = null;
+
+
+        Term ee1 =null;
+
+        Term ee2 =null;
+
+        BinaryOperatorExpression equalityOperator274 =null;
+
+
+        try {
+            // /root/project/Ceylon.g:2010:5: (ee1= comparisonExpression ( equalityOperator ee2= comparisonExpression )? )
+            // /root/project/Ceylon.g:2010:7: ee1= comparisonExpression ( equalityOperator ee2= comparisonExpression )?
+            {
+            pushFollow(FOLLOW_comparisonExpression_in_equalityExpression10938);
+            ee1=comparisonExpression();
+
+            state._fsp--;
+            if (state.failed) return term;
+
+            if ( state.backtracking==0 ) { term = ee1; }
+
+            // /root/project/Ceylon.g:2012:7: ( equalityOperator ee2= comparisonExpression )?
+            int alt143=2;
+            int LA143_0 = input.LA(1);
+
+            if ( (LA143_0==EQUAL_OP||LA143_0==IDENTICAL_OP||LA143_0==NOT_EQUAL_OP) ) {
+                alt143=1;
+            }
+            switch (alt143) {
+                case 1 :
+                    // /root/project/Ceylon.g:2013:9: equalityOperator ee2= comparisonExpression
+                    {
+                    pushFollow(FOLLOW_equalityOperator_in_equalityExpression10964);
+                    equalityOperator274=equalityOperator();
+
+                    state._fsp--;
+                    if (state.failed) return term;
+
+                    if ( state.backtracking==0 ) { equalityOperator274.setLeftTerm(term);
+                              term = equalityOperator274; }
+
+                    pushFollow(FOLLOW_comparisonExpression_in_equalityExpression10987);
+                    ee2=comparisonExpression();
+
+                    state._fsp--;
+                    if (state.failed) return term;
+
+                    if ( state.backtracking==0 ) { equalityOperator274.setRightTerm(ee2); }
+
+                    }
+                    break;
+
+            }
+
+
+            }
+
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return term;
+    }
+    // $ANTLR end "equalityExpression"
+
+
+
+    // $ANTLR start "equalityOperator"
+    // /root/project/Ceylon.g:2021:1: equalityOperator returns [BinaryOperatorExpression operator] : ( EQUAL_OP | NOT_EQUAL_OP | IDENTICAL_OP );
+    public final BinaryOperatorExpression equalityOperator() throws RecognitionException {
+        BinaryOperatorExpression operator = null;
+
+
+        Token EQUAL_OP275=null;
+        Token NOT_EQUAL_OP276=null;
+        Token IDENTICAL_OP277=null;
+
+        try {
+            // /root/project/Ceylon.g:2022:5: ( EQUAL_OP | NOT_EQUAL_OP | IDENTICAL_OP )
+            int alt144=3;
+            switch ( input.LA(1) ) {
+            case EQUAL_OP:
+                {
+                alt144=1;
+                }
+                break;
+            case NOT_EQUAL_OP:
+                {
+                alt144=2;
+                }
+                break;
+            case IDENTICAL_OP:
+                {
+                alt144=3;
+                }
+                break;
+            default:
+                if (state.backtracking>0) {state.failed=true; return operator;}
+                NoViableAltException nvae =
+                    new NoViableAltException("", 144, 0, input);
+
+                throw nvae;
+
+            }
+
+            switch (alt144) {
+                case 1 :
+                    // /root/project/Ceylon.g:2022:7: EQUAL_OP
+                    {
+                    EQUAL_OP275=(Token)match(input,EQUAL_OP,FOLLOW_EQUAL_OP_in_equalityOperator11027); if (state.failed) return operator;
+
+                    if ( state.backtracking==0 ) { operator = new EqualOp(EQUAL_OP275); }
+
+                    }
+                    break;
+                case 2 :
+                    // /root/project/Ceylon.g:2024:7: NOT_EQUAL_OP
+                    {
+                    NOT_EQUAL_OP276=(Token)match(input,NOT_EQUAL_OP,FOLLOW_NOT_EQUAL_OP_in_equalityOperator11044); if (state.failed) return operator;
+
+                    if ( state.backtracking==0 ) { operator = new NotEqualOp(NOT_EQUAL_OP276); }
+
+                    }
+                    break;
+                case 3 :
+                    // /root/project/Ceylon.g:2026:7: IDENTICAL_OP
+                    {
+                    IDENTICAL_OP277=(Token)match(input,IDENTICAL_OP,FOLLOW_IDENTICAL_OP_in_equalityOperator11060); if (state.failed) return operator;
+
+                    if ( state.backtracking==0 ) { operator = new IdenticalOp(IDENTICAL_OP277); }
+
+                    }
+                    break;
+
+            }
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return operator;
+    }
+    // $ANTLR end "equalityOperator"
+
+
+
+    // $ANTLR start "comparisonExpression"
+    // /root/project/Ceylon.g:2030:1: comparisonExpression returns [Term term] : (ee1= existenceEmptinessExpression ( comparisonOperator ee2= existenceEmptinessExpression |to1= typeOperator t1= qualifiedType )? |to2= typeOperator t2= qualifiedType ee3= existenceEmptinessExpression );
+    public final Term comparisonExpression() throws RecognitionException {
+        Term term = null;
+
+
+        Term ee1 =null;
+
+        Term ee2 =null;
+
+        TypeOperatorExpression to1 =null;
+
+        SimpleType t1 =null;
+
+        TypeOperatorExpression to2 =null;
+
+        SimpleType t2 =null;
+
+        Term ee3 =null;
+
+        BinaryOperatorExpression comparisonOperator278 =null;
+
+
+        try {
+            // /root/project/Ceylon.g:2031:5: (ee1= existenceEmptinessExpression ( comparisonOperator ee2= existenceEmptinessExpression |to1= typeOperator t1= qualifiedType )? |to2= typeOperator t2= qualifiedType ee3= existenceEmptinessExpression )
+            int alt146=2;
+            int LA146_0 = input.LA(1);
+
+            if ( (LA146_0==CHAR_LITERAL||LA146_0==COMPLEMENT_OP||LA146_0==DECREMENT_OP||LA146_0==DIFFERENCE_OP||LA146_0==EXISTS||LA146_0==FLOAT_LITERAL||LA146_0==INCREMENT_OP||LA146_0==LBRACE||LA146_0==LIDENTIFIER||LA146_0==LPAREN||(LA146_0 >= NATURAL_LITERAL && LA146_0 <= NONEMPTY)||LA146_0==OUTER||LA146_0==QUOTED_LITERAL||LA146_0==STRING_LITERAL||(LA146_0 >= SUM_OP && LA146_0 <= SUPER)||LA146_0==THIS||LA146_0==UIDENTIFIER) ) {
+                alt146=1;
+            }
+            else if ( (LA146_0==EXTENDS||LA146_0==IS_OP||LA146_0==SATISFIES) ) {
+                alt146=2;
+            }
+            else {
+                if (state.backtracking>0) {state.failed=true; return term;}
+                NoViableAltException nvae =
+                    new NoViableAltException("", 146, 0, input);
+
+                throw nvae;
+
+            }
+            switch (alt146) {
+                case 1 :
+                    // /root/project/Ceylon.g:2031:7: ee1= existenceEmptinessExpression ( comparisonOperator ee2= existenceEmptinessExpression |to1= typeOperator t1= qualifiedType )?
+                    {
+                    pushFollow(FOLLOW_existenceEmptinessExpression_in_comparisonExpression11091);
+                    ee1=existenceEmptinessExpression();
+
+                    state._fsp--;
+                    if (state.failed) return term;
+
+                    if ( state.backtracking==0 ) { term = ee1; }
+
+                    // /root/project/Ceylon.g:2033:7: ( comparisonOperator ee2= existenceEmptinessExpression |to1= typeOperator t1= qualifiedType )?
+                    int alt145=3;
+                    int LA145_0 = input.LA(1);
+
+                    if ( (LA145_0==COMPARE_OP||LA145_0==IN_OP||(LA145_0 >= LARGER_OP && LA145_0 <= LARGE_AS_OP)||(LA145_0 >= SMALLER_OP && LA145_0 <= SMALL_AS_OP)) ) {
+                        alt145=1;
+                    }
+                    else if ( (LA145_0==EXTENDS||LA145_0==IS_OP||LA145_0==SATISFIES) ) {
+                        alt145=2;
+                    }
+                    switch (alt145) {
+                        case 1 :
+                            // /root/project/Ceylon.g:2034:9: comparisonOperator ee2= existenceEmptinessExpression
+                            {
+                            pushFollow(FOLLOW_comparisonOperator_in_comparisonExpression11117);
+                            comparisonOperator278=comparisonOperator();
+
+                            state._fsp--;
+                            if (state.failed) return term;
+
+                            if ( state.backtracking==0 ) { comparisonOperator278.setLeftTerm(term);
+                                      term = comparisonOperator278; }
+
+                            pushFollow(FOLLOW_existenceEmptinessExpression_in_comparisonExpression11140);
+                            ee2=existenceEmptinessExpression();
+
+                            state._fsp--;
+                            if (state.failed) return term;
+
+                            if ( state.backtracking==0 ) { comparisonOperator278.setRightTerm(ee2); }
+
+                            }
+                            break;
+                        case 2 :
+                            // /root/project/Ceylon.g:2039:9: to1= typeOperator t1= qualifiedType
+                            {
+                            pushFollow(FOLLOW_typeOperator_in_comparisonExpression11162);
+                            to1=typeOperator();
+
+                            state._fsp--;
+                            if (state.failed) return term;
+
+                            if ( state.backtracking==0 ) { to1.setTerm(ee1); 
+                                      term = to1;}
+
+                            pushFollow(FOLLOW_qualifiedType_in_comparisonExpression11184);
+                            t1=qualifiedType();
+
+                            state._fsp--;
+                            if (state.failed) return term;
+
+                            if ( state.backtracking==0 ) { to1.setType(t1); }
+
+                            }
+                            break;
+
+                    }
+
+
+                    }
+                    break;
+                case 2 :
+                    // /root/project/Ceylon.g:2045:7: to2= typeOperator t2= qualifiedType ee3= existenceEmptinessExpression
+                    {
+                    pushFollow(FOLLOW_typeOperator_in_comparisonExpression11213);
+                    to2=typeOperator();
+
+                    state._fsp--;
+                    if (state.failed) return term;
+
+                    if ( state.backtracking==0 ) { term = to2; }
+
+                    pushFollow(FOLLOW_qualifiedType_in_comparisonExpression11231);
+                    t2=qualifiedType();
+
+                    state._fsp--;
+                    if (state.failed) return term;
+
+                    if ( state.backtracking==0 ) { to2.setType(t2); }
+
+                    pushFollow(FOLLOW_existenceEmptinessExpression_in_comparisonExpression11250);
+                    ee3=existenceEmptinessExpression();
+
+                    state._fsp--;
+                    if (state.failed) return term;
+
+                    if ( state.backtracking==0 ) { to2.setTerm(ee3); }
+
+                    }
+                    break;
+
+            }
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return term;
+    }
+    // $ANTLR end "comparisonExpression"
+
+
+
+    // $ANTLR start "comparisonOperator"
+    // /root/project/Ceylon.g:2053:1: comparisonOperator returns [BinaryOperatorExpression operator] : ( COMPARE_OP | SMALL_AS_OP | LARGE_AS_OP | LARGER_OP | SMALLER_OP | IN_OP );
+    public final BinaryOperatorExpression comparisonOperator() throws RecognitionException {
+        BinaryOperatorExpression operator = null;
+
+
+        Token COMPARE_OP279=null;
+        Token SMALL_AS_OP280=null;
+        Token LARGE_AS_OP281=null;
+        Token LARGER_OP282=null;
+        Token SMALLER_OP283=null;
+        Token IN_OP284=null;
+
+        try {
+            // /root/project/Ceylon.g:2054:5: ( COMPARE_OP | SMALL_AS_OP | LARGE_AS_OP | LARGER_OP | SMALLER_OP | IN_OP )
+            int alt147=6;
+            switch ( input.LA(1) ) {
+            case COMPARE_OP:
+                {
+                alt147=1;
+                }
+                break;
+            case SMALL_AS_OP:
+                {
+                alt147=2;
+                }
+                break;
+            case LARGE_AS_OP:
+                {
+                alt147=3;
+                }
+                break;
+            case LARGER_OP:
+                {
+                alt147=4;
+                }
+                break;
+            case SMALLER_OP:
+                {
+                alt147=5;
+                }
+                break;
+            case IN_OP:
+                {
+                alt147=6;
+                }
+                break;
+            default:
+                if (state.backtracking>0) {state.failed=true; return operator;}
+                NoViableAltException nvae =
+                    new NoViableAltException("", 147, 0, input);
+
+                throw nvae;
+
+            }
+
+            switch (alt147) {
+                case 1 :
+                    // /root/project/Ceylon.g:2054:7: COMPARE_OP
+                    {
+                    COMPARE_OP279=(Token)match(input,COMPARE_OP,FOLLOW_COMPARE_OP_in_comparisonOperator11279); if (state.failed) return operator;
+
+                    if ( state.backtracking==0 ) { operator = new CompareOp(COMPARE_OP279); }
+
+                    }
+                    break;
+                case 2 :
+                    // /root/project/Ceylon.g:2056:7: SMALL_AS_OP
+                    {
+                    SMALL_AS_OP280=(Token)match(input,SMALL_AS_OP,FOLLOW_SMALL_AS_OP_in_comparisonOperator11296); if (state.failed) return operator;
+
+                    if ( state.backtracking==0 ) { operator = new SmallAsOp(SMALL_AS_OP280); }
+
+                    }
+                    break;
+                case 3 :
+                    // /root/project/Ceylon.g:2058:7: LARGE_AS_OP
+                    {
+                    LARGE_AS_OP281=(Token)match(input,LARGE_AS_OP,FOLLOW_LARGE_AS_OP_in_comparisonOperator11312); if (state.failed) return operator;
+
+                    if ( state.backtracking==0 ) { operator = new LargeAsOp(LARGE_AS_OP281); }
+
+                    }
+                    break;
+                case 4 :
+                    // /root/project/Ceylon.g:2060:7: LARGER_OP
+                    {
+                    LARGER_OP282=(Token)match(input,LARGER_OP,FOLLOW_LARGER_OP_in_comparisonOperator11328); if (state.failed) return operator;
+
+                    if ( state.backtracking==0 ) { operator = new LargerOp(LARGER_OP282); }
+
+                    }
+                    break;
+                case 5 :
+                    // /root/project/Ceylon.g:2062:7: SMALLER_OP
+                    {
+                    SMALLER_OP283=(Token)match(input,SMALLER_OP,FOLLOW_SMALLER_OP_in_comparisonOperator11344); if (state.failed) return operator;
+
+                    if ( state.backtracking==0 ) { operator = new SmallerOp(SMALLER_OP283); }
+
+                    }
+                    break;
+                case 6 :
+                    // /root/project/Ceylon.g:2064:7: IN_OP
+                    {
+                    IN_OP284=(Token)match(input,IN_OP,FOLLOW_IN_OP_in_comparisonOperator11360); if (state.failed) return operator;
+
+                    if ( state.backtracking==0 ) { operator = new InOp(IN_OP284); }
+
+                    }
+                    break;
+
+            }
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return operator;
+    }
+    // $ANTLR end "comparisonOperator"
+
+
+
+    // $ANTLR start "typeOperator"
+    // /root/project/Ceylon.g:2068:1: typeOperator returns [TypeOperatorExpression operator] : ( IS_OP | EXTENDS | SATISFIES );
+    public final TypeOperatorExpression typeOperator() throws RecognitionException {
+        TypeOperatorExpression operator = null;
+
+
+        Token IS_OP285=null;
+        Token EXTENDS286=null;
+        Token SATISFIES287=null;
+
+        try {
+            // /root/project/Ceylon.g:2069:5: ( IS_OP | EXTENDS | SATISFIES )
+            int alt148=3;
+            switch ( input.LA(1) ) {
+            case IS_OP:
+                {
+                alt148=1;
+                }
+                break;
+            case EXTENDS:
+                {
+                alt148=2;
+                }
+                break;
+            case SATISFIES:
+                {
+                alt148=3;
+                }
+                break;
+            default:
+                if (state.backtracking>0) {state.failed=true; return operator;}
+                NoViableAltException nvae =
+                    new NoViableAltException("", 148, 0, input);
+
+                throw nvae;
+
+            }
+
+            switch (alt148) {
+                case 1 :
+                    // /root/project/Ceylon.g:2069:7: IS_OP
+                    {
+                    IS_OP285=(Token)match(input,IS_OP,FOLLOW_IS_OP_in_typeOperator11389); if (state.failed) return operator;
+
+                    if ( state.backtracking==0 ) { operator = new IsOp(IS_OP285); }
+
+                    }
+                    break;
+                case 2 :
+                    // /root/project/Ceylon.g:2071:7: EXTENDS
+                    {
+                    EXTENDS286=(Token)match(input,EXTENDS,FOLLOW_EXTENDS_in_typeOperator11405); if (state.failed) return operator;
+
+                    if ( state.backtracking==0 ) { operator = new Extends(EXTENDS286); }
+
+                    }
+                    break;
+                case 3 :
+                    // /root/project/Ceylon.g:2073:7: SATISFIES
+                    {
+                    SATISFIES287=(Token)match(input,SATISFIES,FOLLOW_SATISFIES_in_typeOperator11421); if (state.failed) return operator;
+
+                    if ( state.backtracking==0 ) { operator = new Satisfies(SATISFIES287); }
+
+                    }
+                    break;
+
+            }
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return operator;
+    }
+    // $ANTLR end "typeOperator"
+
+
+
+    // $ANTLR start "existenceEmptinessExpression"
+    // /root/project/Ceylon.g:2077:1: existenceEmptinessExpression returns [Term term] : (de1= rangeIntervalEntryExpression (eno1= existsNonemptyOperator )? |eno2= existsNonemptyOperator de2= rangeIntervalEntryExpression );
+    public final Term existenceEmptinessExpression() throws RecognitionException {
+        Term term = null;
+
+
+        Term de1 =null;
+
+        UnaryOperatorExpression eno1 =null;
+
+        UnaryOperatorExpression eno2 =null;
+
+        Term de2 =null;
+
+
+        try {
+            // /root/project/Ceylon.g:2078:5: (de1= rangeIntervalEntryExpression (eno1= existsNonemptyOperator )? |eno2= existsNonemptyOperator de2= rangeIntervalEntryExpression )
+            int alt150=2;
+            int LA150_0 = input.LA(1);
+
+            if ( (LA150_0==CHAR_LITERAL||LA150_0==COMPLEMENT_OP||LA150_0==DECREMENT_OP||LA150_0==DIFFERENCE_OP||LA150_0==FLOAT_LITERAL||LA150_0==INCREMENT_OP||LA150_0==LBRACE||LA150_0==LIDENTIFIER||LA150_0==LPAREN||LA150_0==NATURAL_LITERAL||LA150_0==OUTER||LA150_0==QUOTED_LITERAL||LA150_0==STRING_LITERAL||(LA150_0 >= SUM_OP && LA150_0 <= SUPER)||LA150_0==THIS||LA150_0==UIDENTIFIER) ) {
+                alt150=1;
+            }
+            else if ( (LA150_0==EXISTS||LA150_0==NONEMPTY) ) {
+                alt150=2;
+            }
+            else {
+                if (state.backtracking>0) {state.failed=true; return term;}
+                NoViableAltException nvae =
+                    new NoViableAltException("", 150, 0, input);
+
+                throw nvae;
+
+            }
+            switch (alt150) {
+                case 1 :
+                    // /root/project/Ceylon.g:2078:7: de1= rangeIntervalEntryExpression (eno1= existsNonemptyOperator )?
+                    {
+                    pushFollow(FOLLOW_rangeIntervalEntryExpression_in_existenceEmptinessExpression11452);
+                    de1=rangeIntervalEntryExpression();
+
+                    state._fsp--;
+                    if (state.failed) return term;
+
+                    if ( state.backtracking==0 ) { term = de1; }
+
+                    // /root/project/Ceylon.g:2080:7: (eno1= existsNonemptyOperator )?
+                    int alt149=2;
+                    int LA149_0 = input.LA(1);
+
+                    if ( (LA149_0==EXISTS||LA149_0==NONEMPTY) ) {
+                        alt149=1;
+                    }
+                    switch (alt149) {
+                        case 1 :
+                            // /root/project/Ceylon.g:2081:9: eno1= existsNonemptyOperator
+                            {
+                            pushFollow(FOLLOW_existsNonemptyOperator_in_existenceEmptinessExpression11480);
+                            eno1=existsNonemptyOperator();
+
+                            state._fsp--;
+                            if (state.failed) return term;
+
+                            if ( state.backtracking==0 ) { term = eno1;
+                                      eno1.setTerm(de1); }
+
+                            }
+                            break;
+
+                    }
+
+
+                    }
+                    break;
+                case 2 :
+                    // /root/project/Ceylon.g:2085:7: eno2= existsNonemptyOperator de2= rangeIntervalEntryExpression
+                    {
+                    pushFollow(FOLLOW_existsNonemptyOperator_in_existenceEmptinessExpression11509);
+                    eno2=existsNonemptyOperator();
+
+                    state._fsp--;
+                    if (state.failed) return term;
+
+                    if ( state.backtracking==0 ) { term = eno2; }
+
+                    pushFollow(FOLLOW_rangeIntervalEntryExpression_in_existenceEmptinessExpression11527);
+                    de2=rangeIntervalEntryExpression();
+
+                    state._fsp--;
+                    if (state.failed) return term;
+
+                    if ( state.backtracking==0 ) { eno2.setTerm(de2); }
+
+                    }
+                    break;
+
+            }
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return term;
+    }
+    // $ANTLR end "existenceEmptinessExpression"
+
+
+
+    // $ANTLR start "existsNonemptyOperator"
+    // /root/project/Ceylon.g:2091:1: existsNonemptyOperator returns [UnaryOperatorExpression operator] : ( EXISTS | NONEMPTY );
+    public final UnaryOperatorExpression existsNonemptyOperator() throws RecognitionException {
+        UnaryOperatorExpression operator = null;
+
+
+        Token EXISTS288=null;
+        Token NONEMPTY289=null;
+
+        try {
+            // /root/project/Ceylon.g:2092:5: ( EXISTS | NONEMPTY )
+            int alt151=2;
+            int LA151_0 = input.LA(1);
+
+            if ( (LA151_0==EXISTS) ) {
+                alt151=1;
+            }
+            else if ( (LA151_0==NONEMPTY) ) {
+                alt151=2;
+            }
+            else {
+                if (state.backtracking>0) {state.failed=true; return operator;}
+                NoViableAltException nvae =
+                    new NoViableAltException("", 151, 0, input);
+
+                throw nvae;
+
+            }
+            switch (alt151) {
+                case 1 :
+                    // /root/project/Ceylon.g:2092:7: EXISTS
+                    {
+                    EXISTS288=(Token)match(input,EXISTS,FOLLOW_EXISTS_in_existsNonemptyOperator11556); if (state.failed) return operator;
+
+                    if ( state.backtracking==0 ) { operator = new Exists(EXISTS288); }
+
+                    }
+                    break;
+                case 2 :
+                    // /root/project/Ceylon.g:2094:7: NONEMPTY
+                    {
+                    NONEMPTY289=(Token)match(input,NONEMPTY,FOLLOW_NONEMPTY_in_existsNonemptyOperator11573); if (state.failed) return operator;
+
+                    if ( state.backtracking==0 ) { operator = new Nonempty(NONEMPTY289); }
+
+                    }
+                    break;
+
+            }
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return operator;
+    }
+    // $ANTLR end "existsNonemptyOperator"
+
+
+
+    // $ANTLR start "rangeIntervalEntryExpression"
+    // /root/project/Ceylon.g:2098:1: rangeIntervalEntryExpression returns [Term term] : ae1= additiveExpression ( rangeIntervalEntryOperator ae2= additiveExpression )? ;
+    public final Term rangeIntervalEntryExpression() throws RecognitionException {
+        Term term = null;
+
+
+        Term ae1 =null;
+
+        Term ae2 =null;
+
+        BinaryOperatorExpression rangeIntervalEntryOperator290 =null;
+
+
+        try {
+            // /root/project/Ceylon.g:2099:5: (ae1= additiveExpression ( rangeIntervalEntryOperator ae2= additiveExpression )? )
+            // /root/project/Ceylon.g:2099:7: ae1= additiveExpression ( rangeIntervalEntryOperator ae2= additiveExpression )?
+            {
+            pushFollow(FOLLOW_additiveExpression_in_rangeIntervalEntryExpression11604);
+            ae1=additiveExpression();
+
+            state._fsp--;
+            if (state.failed) return term;
+
+            if ( state.backtracking==0 ) { term = ae1; }
+
+            // /root/project/Ceylon.g:2101:7: ( rangeIntervalEntryOperator ae2= additiveExpression )?
+            int alt152=2;
+            int LA152_0 = input.LA(1);
+
+            if ( (LA152_0==ENTRY_OP||LA152_0==RANGE_OP) ) {
+                alt152=1;
+            }
+            switch (alt152) {
+                case 1 :
+                    // /root/project/Ceylon.g:2102:9: rangeIntervalEntryOperator ae2= additiveExpression
+                    {
+                    pushFollow(FOLLOW_rangeIntervalEntryOperator_in_rangeIntervalEntryExpression11630);
+                    rangeIntervalEntryOperator290=rangeIntervalEntryOperator();
+
+                    state._fsp--;
+                    if (state.failed) return term;
+
+                    if ( state.backtracking==0 ) { rangeIntervalEntryOperator290.setLeftTerm(term);
+                              term = rangeIntervalEntryOperator290; }
+
+                    pushFollow(FOLLOW_additiveExpression_in_rangeIntervalEntryExpression11653);
+                    ae2=additiveExpression();
+
+                    state._fsp--;
+                    if (state.failed) return term;
+
+                    if ( state.backtracking==0 ) { rangeIntervalEntryOperator290.setRightTerm(ae2); }
+
+                    }
+                    break;
+
+            }
+
+
+            }
+
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return term;
+    }
+    // $ANTLR end "rangeIntervalEntryExpression"
+
+
+
+    // $ANTLR start "rangeIntervalEntryOperator"
+    // /root/project/Ceylon.g:2110:1: rangeIntervalEntryOperator returns [BinaryOperatorExpression operator] : ( RANGE_OP | ENTRY_OP );
+    public final BinaryOperatorExpression rangeIntervalEntryOperator() throws RecognitionException {
+        BinaryOperatorExpression operator = null;
+
+
+        Token RANGE_OP291=null;
+        Token ENTRY_OP292=null;
+
+        try {
+            // /root/project/Ceylon.g:2111:5: ( RANGE_OP | ENTRY_OP )
+            int alt153=2;
+            int LA153_0 = input.LA(1);
+
+            if ( (LA153_0==RANGE_OP) ) {
+                alt153=1;
+            }
+            else if ( (LA153_0==ENTRY_OP) ) {
+                alt153=2;
+            }
+            else {
+                if (state.backtracking>0) {state.failed=true; return operator;}
+                NoViableAltException nvae =
+                    new NoViableAltException("", 153, 0, input);
+
+                throw nvae;
+
+            }
+            switch (alt153) {
+                case 1 :
+                    // /root/project/Ceylon.g:2111:7: RANGE_OP
+                    {
+                    RANGE_OP291=(Token)match(input,RANGE_OP,FOLLOW_RANGE_OP_in_rangeIntervalEntryOperator11693); if (state.failed) return operator;
+
+                    if ( state.backtracking==0 ) { operator = new RangeOp(RANGE_OP291); }
+
+                    }
+                    break;
+                case 2 :
+                    // /root/project/Ceylon.g:2113:7: ENTRY_OP
+                    {
+                    ENTRY_OP292=(Token)match(input,ENTRY_OP,FOLLOW_ENTRY_OP_in_rangeIntervalEntryOperator11710); if (state.failed) return operator;
+
+                    if ( state.backtracking==0 ) { operator = new EntryOp(ENTRY_OP292); }
+
+                    }
+                    break;
+
+            }
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return operator;
+    }
+    // $ANTLR end "rangeIntervalEntryOperator"
+
+
+
+    // $ANTLR start "additiveExpression"
+    // /root/project/Ceylon.g:2117:1: additiveExpression returns [Term term] : me1= multiplicativeExpression ( additiveOperator me2= multiplicativeExpression )* ;
+    public final Term additiveExpression() throws RecognitionException {
+        Term term = null;
+
+
+        Term me1 =null;
+
+        Term me2 =null;
+
+        BinaryOperatorExpression additiveOperator293 =null;
+
+
+        try {
+            // /root/project/Ceylon.g:2118:5: (me1= multiplicativeExpression ( additiveOperator me2= multiplicativeExpression )* )
+            // /root/project/Ceylon.g:2118:7: me1= multiplicativeExpression ( additiveOperator me2= multiplicativeExpression )*
+            {
+            pushFollow(FOLLOW_multiplicativeExpression_in_additiveExpression11741);
+            me1=multiplicativeExpression();
+
+            state._fsp--;
+            if (state.failed) return term;
+
+            if ( state.backtracking==0 ) { term = me1; }
+
+            // /root/project/Ceylon.g:2120:7: ( additiveOperator me2= multiplicativeExpression )*
+            loop154:
+            do {
+                int alt154=2;
+                int LA154_0 = input.LA(1);
+
+                if ( (LA154_0==COMPLEMENT_OP||LA154_0==DIFFERENCE_OP||LA154_0==SUM_OP||LA154_0==UNION_OP||LA154_0==XOR_OP) ) {
+                    alt154=1;
+                }
+
+
+                switch (alt154) {
+            	case 1 :
+            	    // /root/project/Ceylon.g:2121:9: additiveOperator me2= multiplicativeExpression
+            	    {
+            	    pushFollow(FOLLOW_additiveOperator_in_additiveExpression11767);
+            	    additiveOperator293=additiveOperator();
+
+            	    state._fsp--;
+            	    if (state.failed) return term;
+
+            	    if ( state.backtracking==0 ) { additiveOperator293.setLeftTerm(term);
+            	              term = additiveOperator293; }
+
+            	    pushFollow(FOLLOW_multiplicativeExpression_in_additiveExpression11790);
+            	    me2=multiplicativeExpression();
+
+            	    state._fsp--;
+            	    if (state.failed) return term;
+
+            	    if ( state.backtracking==0 ) { additiveOperator293.setRightTerm(me2); }
+
+            	    }
+            	    break;
+
+            	default :
+            	    break loop154;
+                }
+            } while (true);
+
+
+            }
+
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return term;
+    }
+    // $ANTLR end "additiveExpression"
+
+
+
+    // $ANTLR start "additiveOperator"
+    // /root/project/Ceylon.g:2129:1: additiveOperator returns [BinaryOperatorExpression operator] : ( SUM_OP | DIFFERENCE_OP | UNION_OP | XOR_OP | COMPLEMENT_OP );
+    public final BinaryOperatorExpression additiveOperator() throws RecognitionException {
+        BinaryOperatorExpression operator = null;
+
+
+        Token SUM_OP294=null;
+        Token DIFFERENCE_OP295=null;
+        Token UNION_OP296=null;
+        Token XOR_OP297=null;
+        Token COMPLEMENT_OP298=null;
+
+        try {
+            // /root/project/Ceylon.g:2130:5: ( SUM_OP | DIFFERENCE_OP | UNION_OP | XOR_OP | COMPLEMENT_OP )
+            int alt155=5;
+            switch ( input.LA(1) ) {
+            case SUM_OP:
+                {
+                alt155=1;
+                }
+                break;
+            case DIFFERENCE_OP:
+                {
+                alt155=2;
+                }
+                break;
+            case UNION_OP:
+                {
+                alt155=3;
+                }
+                break;
+            case XOR_OP:
+                {
+                alt155=4;
+                }
+                break;
+            case COMPLEMENT_OP:
+                {
+                alt155=5;
+                }
+                break;
+            default:
+                if (state.backtracking>0) {state.failed=true; return operator;}
+                NoViableAltException nvae =
+                    new NoViableAltException("", 155, 0, input);
+
+                throw nvae;
+
+            }
+
+            switch (alt155) {
+                case 1 :
+                    // /root/project/Ceylon.g:2130:7: SUM_OP
+                    {
+                    SUM_OP294=(Token)match(input,SUM_OP,FOLLOW_SUM_OP_in_additiveOperator11830); if (state.failed) return operator;
+
+                    if ( state.backtracking==0 ) { operator = new SumOp(SUM_OP294); }
+
+                    }
+                    break;
+                case 2 :
+                    // /root/project/Ceylon.g:2132:7: DIFFERENCE_OP
+                    {
+                    DIFFERENCE_OP295=(Token)match(input,DIFFERENCE_OP,FOLLOW_DIFFERENCE_OP_in_additiveOperator11847); if (state.failed) return operator;
+
+                    if ( state.backtracking==0 ) { operator = new DifferenceOp(DIFFERENCE_OP295); }
+
+                    }
+                    break;
+                case 3 :
+                    // /root/project/Ceylon.g:2134:7: UNION_OP
+                    {
+                    UNION_OP296=(Token)match(input,UNION_OP,FOLLOW_UNION_OP_in_additiveOperator11863); if (state.failed) return operator;
+
+                    if ( state.backtracking==0 ) { operator = new UnionOp(UNION_OP296); }
+
+                    }
+                    break;
+                case 4 :
+                    // /root/project/Ceylon.g:2136:7: XOR_OP
+                    {
+                    XOR_OP297=(Token)match(input,XOR_OP,FOLLOW_XOR_OP_in_additiveOperator11879); if (state.failed) return operator;
+
+                    if ( state.backtracking==0 ) { operator = new XorOp(XOR_OP297); }
+
+                    }
+                    break;
+                case 5 :
+                    // /root/project/Ceylon.g:2138:7: COMPLEMENT_OP
+                    {
+                    COMPLEMENT_OP298=(Token)match(input,COMPLEMENT_OP,FOLLOW_COMPLEMENT_OP_in_additiveOperator11895); if (state.failed) return operator;
+
+                    if ( state.backtracking==0 ) { operator = new ComplementOp(COMPLEMENT_OP298); }
+
+                    }
+                    break;
+
+            }
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return operator;
+    }
+    // $ANTLR end "additiveOperator"
+
+
+
+    // $ANTLR start "multiplicativeExpression"
+    // /root/project/Ceylon.g:2142:1: multiplicativeExpression returns [Term term] : ne1= defaultExpression ( multiplicativeOperator ne2= defaultExpression )* ;
+    public final Term multiplicativeExpression() throws RecognitionException {
+        Term term = null;
+
+
+        Term ne1 =null;
+
+        Term ne2 =null;
+
+        BinaryOperatorExpression multiplicativeOperator299 =null;
+
+
+        try {
+            // /root/project/Ceylon.g:2143:5: (ne1= defaultExpression ( multiplicativeOperator ne2= defaultExpression )* )
+            // /root/project/Ceylon.g:2143:7: ne1= defaultExpression ( multiplicativeOperator ne2= defaultExpression )*
+            {
+            pushFollow(FOLLOW_defaultExpression_in_multiplicativeExpression11926);
+            ne1=defaultExpression();
+
+            state._fsp--;
+            if (state.failed) return term;
+
+            if ( state.backtracking==0 ) { term = ne1; }
+
+            // /root/project/Ceylon.g:2145:7: ( multiplicativeOperator ne2= defaultExpression )*
+            loop156:
+            do {
+                int alt156=2;
+                int LA156_0 = input.LA(1);
+
+                if ( (LA156_0==INTERSECTION_OP||LA156_0==PRODUCT_OP||LA156_0==QUOTIENT_OP||LA156_0==REMAINDER_OP) ) {
+                    alt156=1;
+                }
+
+
+                switch (alt156) {
+            	case 1 :
+            	    // /root/project/Ceylon.g:2146:9: multiplicativeOperator ne2= defaultExpression
+            	    {
+            	    pushFollow(FOLLOW_multiplicativeOperator_in_multiplicativeExpression11952);
+            	    multiplicativeOperator299=multiplicativeOperator();
+
+            	    state._fsp--;
+            	    if (state.failed) return term;
+
+            	    if ( state.backtracking==0 ) { multiplicativeOperator299.setLeftTerm(term);
+            	              term = multiplicativeOperator299; }
+
+            	    pushFollow(FOLLOW_defaultExpression_in_multiplicativeExpression11975);
+            	    ne2=defaultExpression();
+
+            	    state._fsp--;
+            	    if (state.failed) return term;
+
+            	    if ( state.backtracking==0 ) { multiplicativeOperator299.setRightTerm(ne2); }
+
+            	    }
+            	    break;
+
+            	default :
+            	    break loop156;
+                }
+            } while (true);
+
+
+            }
+
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return term;
+    }
+    // $ANTLR end "multiplicativeExpression"
+
+
+
+    // $ANTLR start "multiplicativeOperator"
+    // /root/project/Ceylon.g:2154:1: multiplicativeOperator returns [BinaryOperatorExpression operator] : ( PRODUCT_OP | QUOTIENT_OP | REMAINDER_OP | INTERSECTION_OP );
+    public final BinaryOperatorExpression multiplicativeOperator() throws RecognitionException {
+        BinaryOperatorExpression operator = null;
+
+
+        Token PRODUCT_OP300=null;
+        Token QUOTIENT_OP301=null;
+        Token REMAINDER_OP302=null;
+        Token INTERSECTION_OP303=null;
+
+        try {
+            // /root/project/Ceylon.g:2155:5: ( PRODUCT_OP | QUOTIENT_OP | REMAINDER_OP | INTERSECTION_OP )
+            int alt157=4;
+            switch ( input.LA(1) ) {
+            case PRODUCT_OP:
+                {
+                alt157=1;
+                }
+                break;
+            case QUOTIENT_OP:
+                {
+                alt157=2;
+                }
+                break;
+            case REMAINDER_OP:
+                {
+                alt157=3;
+                }
+                break;
+            case INTERSECTION_OP:
+                {
+                alt157=4;
+                }
+                break;
+            default:
+                if (state.backtracking>0) {state.failed=true; return operator;}
+                NoViableAltException nvae =
+                    new NoViableAltException("", 157, 0, input);
+
+                throw nvae;
+
+            }
+
+            switch (alt157) {
+                case 1 :
+                    // /root/project/Ceylon.g:2155:7: PRODUCT_OP
+                    {
+                    PRODUCT_OP300=(Token)match(input,PRODUCT_OP,FOLLOW_PRODUCT_OP_in_multiplicativeOperator12015); if (state.failed) return operator;
+
+                    if ( state.backtracking==0 ) { operator = new ProductOp(PRODUCT_OP300); }
+
+                    }
+                    break;
+                case 2 :
+                    // /root/project/Ceylon.g:2157:7: QUOTIENT_OP
+                    {
+                    QUOTIENT_OP301=(Token)match(input,QUOTIENT_OP,FOLLOW_QUOTIENT_OP_in_multiplicativeOperator12032); if (state.failed) return operator;
+
+                    if ( state.backtracking==0 ) { operator = new QuotientOp(QUOTIENT_OP301); }
+
+                    }
+                    break;
+                case 3 :
+                    // /root/project/Ceylon.g:2159:7: REMAINDER_OP
+                    {
+                    REMAINDER_OP302=(Token)match(input,REMAINDER_OP,FOLLOW_REMAINDER_OP_in_multiplicativeOperator12048); if (state.failed) return operator;
+
+                    if ( state.backtracking==0 ) { operator = new RemainderOp(REMAINDER_OP302); }
+
+                    }
+                    break;
+                case 4 :
+                    // /root/project/Ceylon.g:2161:7: INTERSECTION_OP
+                    {
+                    INTERSECTION_OP303=(Token)match(input,INTERSECTION_OP,FOLLOW_INTERSECTION_OP_in_multiplicativeOperator12064); if (state.failed) return operator;
+
+                    if ( state.backtracking==0 ) { operator = new IntersectionOp(INTERSECTION_OP303); }
+
+                    }
+                    break;
+
+            }
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return operator;
+    }
+    // $ANTLR end "multiplicativeOperator"
+
+
+
+    // $ANTLR start "defaultExpression"
+    // /root/project/Ceylon.g:2165:1: defaultExpression returns [Term term] : rie1= negationComplementExpression ( defaultOperator rie2= negationComplementExpression )* ;
+    public final Term defaultExpression() throws RecognitionException {
+        Term term = null;
+
+
+        Term rie1 =null;
+
+        Term rie2 =null;
+
+        DefaultOp defaultOperator304 =null;
+
+
+        try {
+            // /root/project/Ceylon.g:2166:5: (rie1= negationComplementExpression ( defaultOperator rie2= negationComplementExpression )* )
+            // /root/project/Ceylon.g:2166:7: rie1= negationComplementExpression ( defaultOperator rie2= negationComplementExpression )*
+            {
+            pushFollow(FOLLOW_negationComplementExpression_in_defaultExpression12095);
+            rie1=negationComplementExpression();
+
+            state._fsp--;
+            if (state.failed) return term;
+
+            if ( state.backtracking==0 ) { term = rie1; }
+
+            // /root/project/Ceylon.g:2168:7: ( defaultOperator rie2= negationComplementExpression )*
+            loop158:
+            do {
+                int alt158=2;
+                int LA158_0 = input.LA(1);
+
+                if ( (LA158_0==DEFAULT_OP) ) {
+                    alt158=1;
+                }
+
+
+                switch (alt158) {
+            	case 1 :
+            	    // /root/project/Ceylon.g:2169:9: defaultOperator rie2= negationComplementExpression
+            	    {
+            	    pushFollow(FOLLOW_defaultOperator_in_defaultExpression12121);
+            	    defaultOperator304=defaultOperator();
+
+            	    state._fsp--;
+            	    if (state.failed) return term;
+
+            	    if ( state.backtracking==0 ) { defaultOperator304.setLeftTerm(term);
+            	              term = defaultOperator304; }
+
+            	    pushFollow(FOLLOW_negationComplementExpression_in_defaultExpression12144);
+            	    rie2=negationComplementExpression();
+
+            	    state._fsp--;
+            	    if (state.failed) return term;
+
+            	    if ( state.backtracking==0 ) { defaultOperator304.setRightTerm(rie2); }
+
+            	    }
+            	    break;
+
+            	default :
+            	    break loop158;
+                }
+            } while (true);
+
+
+            }
+
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return term;
+    }
+    // $ANTLR end "defaultExpression"
+
+
+
+    // $ANTLR start "defaultOperator"
+    // /root/project/Ceylon.g:2177:1: defaultOperator returns [DefaultOp operator] : DEFAULT_OP ;
+    public final DefaultOp defaultOperator() throws RecognitionException {
+        DefaultOp operator = null;
+
+
+        Token DEFAULT_OP305=null;
+
+        try {
+            // /root/project/Ceylon.g:2178:5: ( DEFAULT_OP )
+            // /root/project/Ceylon.g:2178:7: DEFAULT_OP
+            {
+            DEFAULT_OP305=(Token)match(input,DEFAULT_OP,FOLLOW_DEFAULT_OP_in_defaultOperator12184); if (state.failed) return operator;
+
+            if ( state.backtracking==0 ) { operator = new DefaultOp(DEFAULT_OP305); }
+
+            }
+
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return operator;
+    }
+    // $ANTLR end "defaultOperator"
+
+
+
+    // $ANTLR start "negationComplementExpression"
+    // /root/project/Ceylon.g:2182:1: negationComplementExpression returns [Term term] : ( unaryMinusOrComplementOperator ne= negationComplementExpression | exponentiationExpression );
+    public final Term negationComplementExpression() throws RecognitionException {
+        Term term = null;
+
+
+        Term ne =null;
+
+        UnaryOperatorExpression unaryMinusOrComplementOperator306 =null;
+
+        Term exponentiationExpression307 =null;
+
+
+        try {
+            // /root/project/Ceylon.g:2183:5: ( unaryMinusOrComplementOperator ne= negationComplementExpression | exponentiationExpression )
+            int alt159=2;
+            int LA159_0 = input.LA(1);
+
+            if ( (LA159_0==COMPLEMENT_OP||LA159_0==DIFFERENCE_OP||LA159_0==SUM_OP) ) {
+                alt159=1;
+            }
+            else if ( (LA159_0==CHAR_LITERAL||LA159_0==DECREMENT_OP||LA159_0==FLOAT_LITERAL||LA159_0==INCREMENT_OP||LA159_0==LBRACE||LA159_0==LIDENTIFIER||LA159_0==LPAREN||LA159_0==NATURAL_LITERAL||LA159_0==OUTER||LA159_0==QUOTED_LITERAL||LA159_0==STRING_LITERAL||LA159_0==SUPER||LA159_0==THIS||LA159_0==UIDENTIFIER) ) {
+                alt159=2;
+            }
+            else {
+                if (state.backtracking>0) {state.failed=true; return term;}
+                NoViableAltException nvae =
+                    new NoViableAltException("", 159, 0, input);
+
+                throw nvae;
+
+            }
+            switch (alt159) {
+                case 1 :
+                    // /root/project/Ceylon.g:2183:7: unaryMinusOrComplementOperator ne= negationComplementExpression
+                    {
+                    pushFollow(FOLLOW_unaryMinusOrComplementOperator_in_negationComplementExpression12214);
+                    unaryMinusOrComplementOperator306=unaryMinusOrComplementOperator();
+
+                    state._fsp--;
+                    if (state.failed) return term;
+
+                    if ( state.backtracking==0 ) { term = unaryMinusOrComplementOperator306; }
+
+                    pushFollow(FOLLOW_negationComplementExpression_in_negationComplementExpression12233);
+                    ne=negationComplementExpression();
+
+                    state._fsp--;
+                    if (state.failed) return term;
+
+                    if ( state.backtracking==0 ) { unaryMinusOrComplementOperator306.setTerm(ne); }
+
+                    }
+                    break;
+                case 2 :
+                    // /root/project/Ceylon.g:2187:7: exponentiationExpression
+                    {
+                    pushFollow(FOLLOW_exponentiationExpression_in_negationComplementExpression12249);
+                    exponentiationExpression307=exponentiationExpression();
+
+                    state._fsp--;
+                    if (state.failed) return term;
+
+                    if ( state.backtracking==0 ) { term = exponentiationExpression307; }
+
+                    }
+                    break;
+
+            }
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return term;
+    }
+    // $ANTLR end "negationComplementExpression"
+
+
+
+    // $ANTLR start "unaryMinusOrComplementOperator"
+    // /root/project/Ceylon.g:2191:1: unaryMinusOrComplementOperator returns [UnaryOperatorExpression operator] : ( DIFFERENCE_OP | SUM_OP | COMPLEMENT_OP );
+    public final UnaryOperatorExpression unaryMinusOrComplementOperator() throws RecognitionException {
+        UnaryOperatorExpression operator = null;
+
+
+        Token DIFFERENCE_OP308=null;
+        Token SUM_OP309=null;
+        Token COMPLEMENT_OP310=null;
+
+        try {
+            // /root/project/Ceylon.g:2192:5: ( DIFFERENCE_OP | SUM_OP | COMPLEMENT_OP )
+            int alt160=3;
+            switch ( input.LA(1) ) {
+            case DIFFERENCE_OP:
+                {
+                alt160=1;
+                }
+                break;
+            case SUM_OP:
+                {
+                alt160=2;
+                }
+                break;
+            case COMPLEMENT_OP:
+                {
+                alt160=3;
+                }
+                break;
+            default:
+                if (state.backtracking>0) {state.failed=true; return operator;}
+                NoViableAltException nvae =
+                    new NoViableAltException("", 160, 0, input);
+
+                throw nvae;
+
+            }
+
+            switch (alt160) {
+                case 1 :
+                    // /root/project/Ceylon.g:2192:7: DIFFERENCE_OP
+                    {
+                    DIFFERENCE_OP308=(Token)match(input,DIFFERENCE_OP,FOLLOW_DIFFERENCE_OP_in_unaryMinusOrComplementOperator12278); if (state.failed) return operator;
+
+                    if ( state.backtracking==0 ) { operator = new NegativeOp(DIFFERENCE_OP308); }
+
+                    }
+                    break;
+                case 2 :
+                    // /root/project/Ceylon.g:2194:7: SUM_OP
+                    {
+                    SUM_OP309=(Token)match(input,SUM_OP,FOLLOW_SUM_OP_in_unaryMinusOrComplementOperator12295); if (state.failed) return operator;
+
+                    if ( state.backtracking==0 ) { operator = new PositiveOp(SUM_OP309); }
+
+                    }
+                    break;
+                case 3 :
+                    // /root/project/Ceylon.g:2196:7: COMPLEMENT_OP
+                    {
+                    COMPLEMENT_OP310=(Token)match(input,COMPLEMENT_OP,FOLLOW_COMPLEMENT_OP_in_unaryMinusOrComplementOperator12311); if (state.failed) return operator;
+
+                    if ( state.backtracking==0 ) { operator = new FlipOp(COMPLEMENT_OP310); }
+
+                    }
+                    break;
+
+            }
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return operator;
+    }
+    // $ANTLR end "unaryMinusOrComplementOperator"
+
+
+
+    // $ANTLR start "exponentiationExpression"
+    // /root/project/Ceylon.g:2200:1: exponentiationExpression returns [Term term] : incrementDecrementExpression ( exponentiationOperator ee= exponentiationExpression )? ;
+    public final Term exponentiationExpression() throws RecognitionException {
+        Term term = null;
+
+
+        Term ee =null;
+
+        Term incrementDecrementExpression311 =null;
+
+        PowerOp exponentiationOperator312 =null;
+
+
+        try {
+            // /root/project/Ceylon.g:2201:5: ( incrementDecrementExpression ( exponentiationOperator ee= exponentiationExpression )? )
+            // /root/project/Ceylon.g:2201:7: incrementDecrementExpression ( exponentiationOperator ee= exponentiationExpression )?
+            {
+            pushFollow(FOLLOW_incrementDecrementExpression_in_exponentiationExpression12340);
+            incrementDecrementExpression311=incrementDecrementExpression();
+
+            state._fsp--;
+            if (state.failed) return term;
+
+            if ( state.backtracking==0 ) { term = incrementDecrementExpression311; }
+
+            // /root/project/Ceylon.g:2203:7: ( exponentiationOperator ee= exponentiationExpression )?
+            int alt161=2;
+            int LA161_0 = input.LA(1);
+
+            if ( (LA161_0==POWER_OP) ) {
+                alt161=1;
+            }
+            switch (alt161) {
+                case 1 :
+                    // /root/project/Ceylon.g:2204:9: exponentiationOperator ee= exponentiationExpression
+                    {
+                    pushFollow(FOLLOW_exponentiationOperator_in_exponentiationExpression12366);
+                    exponentiationOperator312=exponentiationOperator();
+
+                    state._fsp--;
+                    if (state.failed) return term;
+
+                    if ( state.backtracking==0 ) { exponentiationOperator312.setLeftTerm(term);
+                              term = exponentiationOperator312; }
+
+                    pushFollow(FOLLOW_exponentiationExpression_in_exponentiationExpression12388);
+                    ee=exponentiationExpression();
+
+                    state._fsp--;
+                    if (state.failed) return term;
+
+                    if ( state.backtracking==0 ) { exponentiationOperator312.setRightTerm(ee); }
+
+                    }
+                    break;
+
+            }
+
+
+            }
+
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return term;
+    }
+    // $ANTLR end "exponentiationExpression"
+
+
+
+    // $ANTLR start "exponentiationOperator"
+    // /root/project/Ceylon.g:2212:1: exponentiationOperator returns [PowerOp operator] : POWER_OP ;
+    public final PowerOp exponentiationOperator() throws RecognitionException {
+        PowerOp operator = null;
+
+
+        Token POWER_OP313=null;
+
+        try {
+            // /root/project/Ceylon.g:2213:5: ( POWER_OP )
+            // /root/project/Ceylon.g:2213:7: POWER_OP
+            {
+            POWER_OP313=(Token)match(input,POWER_OP,FOLLOW_POWER_OP_in_exponentiationOperator12428); if (state.failed) return operator;
+
+            if ( state.backtracking==0 ) { operator = new PowerOp(POWER_OP313); }
+
+            }
+
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return operator;
+    }
+    // $ANTLR end "exponentiationOperator"
+
+
+
+    // $ANTLR start "incrementDecrementExpression"
+    // /root/project/Ceylon.g:2217:1: incrementDecrementExpression returns [Term term] : ( prefixOperator ie= incrementDecrementExpression | postfixIncrementDecrementExpression );
+    public final Term incrementDecrementExpression() throws RecognitionException {
+        Term term = null;
+
+
+        Term ie =null;
+
+        PrefixOperatorExpression prefixOperator314 =null;
+
+        Term postfixIncrementDecrementExpression315 =null;
+
+
+        try {
+            // /root/project/Ceylon.g:2218:5: ( prefixOperator ie= incrementDecrementExpression | postfixIncrementDecrementExpression )
+            int alt162=2;
+            int LA162_0 = input.LA(1);
+
+            if ( (LA162_0==DECREMENT_OP||LA162_0==INCREMENT_OP) ) {
+                alt162=1;
+            }
+            else if ( (LA162_0==CHAR_LITERAL||LA162_0==FLOAT_LITERAL||LA162_0==LBRACE||LA162_0==LIDENTIFIER||LA162_0==LPAREN||LA162_0==NATURAL_LITERAL||LA162_0==OUTER||LA162_0==QUOTED_LITERAL||LA162_0==STRING_LITERAL||LA162_0==SUPER||LA162_0==THIS||LA162_0==UIDENTIFIER) ) {
+                alt162=2;
+            }
+            else {
+                if (state.backtracking>0) {state.failed=true; return term;}
+                NoViableAltException nvae =
+                    new NoViableAltException("", 162, 0, input);
+
+                throw nvae;
+
+            }
+            switch (alt162) {
+                case 1 :
+                    // /root/project/Ceylon.g:2218:7: prefixOperator ie= incrementDecrementExpression
+                    {
+                    pushFollow(FOLLOW_prefixOperator_in_incrementDecrementExpression12458);
+                    prefixOperator314=prefixOperator();
+
+                    state._fsp--;
+                    if (state.failed) return term;
+
+                    if ( state.backtracking==0 ) { term = prefixOperator314; }
+
+                    pushFollow(FOLLOW_incrementDecrementExpression_in_incrementDecrementExpression12476);
+                    ie=incrementDecrementExpression();
+
+                    state._fsp--;
+                    if (state.failed) return term;
+
+                    if ( state.backtracking==0 ) { prefixOperator314.setTerm(ie); }
+
+                    }
+                    break;
+                case 2 :
+                    // /root/project/Ceylon.g:2222:7: postfixIncrementDecrementExpression
+                    {
+                    pushFollow(FOLLOW_postfixIncrementDecrementExpression_in_incrementDecrementExpression12492);
+                    postfixIncrementDecrementExpression315=postfixIncrementDecrementExpression();
+
+                    state._fsp--;
+                    if (state.failed) return term;
+
+                    if ( state.backtracking==0 ) { term = postfixIncrementDecrementExpression315; }
+
+                    }
+                    break;
+
+            }
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return term;
+    }
+    // $ANTLR end "incrementDecrementExpression"
+
+
+
+    // $ANTLR start "prefixOperator"
+    // /root/project/Ceylon.g:2226:1: prefixOperator returns [PrefixOperatorExpression operator] : ( DECREMENT_OP | INCREMENT_OP );
+    public final PrefixOperatorExpression prefixOperator() throws RecognitionException {
+        PrefixOperatorExpression operator = null;
+
+
+        Token DECREMENT_OP316=null;
+        Token INCREMENT_OP317=null;
+
+        try {
+            // /root/project/Ceylon.g:2227:5: ( DECREMENT_OP | INCREMENT_OP )
+            int alt163=2;
+            int LA163_0 = input.LA(1);
+
+            if ( (LA163_0==DECREMENT_OP) ) {
+                alt163=1;
+            }
+            else if ( (LA163_0==INCREMENT_OP) ) {
+                alt163=2;
+            }
+            else {
+                if (state.backtracking>0) {state.failed=true; return operator;}
+                NoViableAltException nvae =
+                    new NoViableAltException("", 163, 0, input);
+
+                throw nvae;
+
+            }
+            switch (alt163) {
+                case 1 :
+                    // /root/project/Ceylon.g:2227:7: DECREMENT_OP
+                    {
+                    DECREMENT_OP316=(Token)match(input,DECREMENT_OP,FOLLOW_DECREMENT_OP_in_prefixOperator12521); if (state.failed) return operator;
+
+                    if ( state.backtracking==0 ) { operator = new DecrementOp(DECREMENT_OP316); }
+
+                    }
+                    break;
+                case 2 :
+                    // /root/project/Ceylon.g:2229:7: INCREMENT_OP
+                    {
+                    INCREMENT_OP317=(Token)match(input,INCREMENT_OP,FOLLOW_INCREMENT_OP_in_prefixOperator12538); if (state.failed) return operator;
+
+                    if ( state.backtracking==0 ) { operator = new IncrementOp(INCREMENT_OP317); }
+
+                    }
+                    break;
+
+            }
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return operator;
+    }
+    // $ANTLR end "prefixOperator"
+
+
+
+    // $ANTLR start "postfixIncrementDecrementExpression"
+    // /root/project/Ceylon.g:2233:1: postfixIncrementDecrementExpression returns [Term term] : primary ( postfixOperator )* ;
+    public final Term postfixIncrementDecrementExpression() throws RecognitionException {
+        Term term = null;
+
+
+        Primary primary318 =null;
+
+        PostfixOperatorExpression postfixOperator319 =null;
+
+
+        try {
+            // /root/project/Ceylon.g:2234:5: ( primary ( postfixOperator )* )
+            // /root/project/Ceylon.g:2234:7: primary ( postfixOperator )*
+            {
+            pushFollow(FOLLOW_primary_in_postfixIncrementDecrementExpression12568);
+            primary318=primary();
+
+            state._fsp--;
+            if (state.failed) return term;
+
+            if ( state.backtracking==0 ) { term = primary318; }
+
+            // /root/project/Ceylon.g:2236:7: ( postfixOperator )*
+            loop164:
+            do {
+                int alt164=2;
+                int LA164_0 = input.LA(1);
+
+                if ( (LA164_0==DECREMENT_OP||LA164_0==INCREMENT_OP) ) {
+                    alt164=1;
+                }
+
+
+                switch (alt164) {
+            	case 1 :
+            	    // /root/project/Ceylon.g:2237:9: postfixOperator
+            	    {
+            	    pushFollow(FOLLOW_postfixOperator_in_postfixIncrementDecrementExpression12596);
+            	    postfixOperator319=postfixOperator();
+
+            	    state._fsp--;
+            	    if (state.failed) return term;
+
+            	    if ( state.backtracking==0 ) { postfixOperator319.setTerm(term);
+            	              term = postfixOperator319; }
+
+            	    }
+            	    break;
+
+            	default :
+            	    break loop164;
+                }
+            } while (true);
+
+
+            }
+
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return term;
+    }
+    // $ANTLR end "postfixIncrementDecrementExpression"
+
+
+
+    // $ANTLR start "postfixOperator"
+    // /root/project/Ceylon.g:2243:1: postfixOperator returns [PostfixOperatorExpression operator] : ( DECREMENT_OP | INCREMENT_OP );
+    public final PostfixOperatorExpression postfixOperator() throws RecognitionException {
+        PostfixOperatorExpression operator = null;
+
+
+        Token DECREMENT_OP320=null;
+        Token INCREMENT_OP321=null;
+
+        try {
+            // /root/project/Ceylon.g:2244:5: ( DECREMENT_OP | INCREMENT_OP )
+            int alt165=2;
+            int LA165_0 = input.LA(1);
+
+            if ( (LA165_0==DECREMENT_OP) ) {
+                alt165=1;
+            }
+            else if ( (LA165_0==INCREMENT_OP) ) {
+                alt165=2;
+            }
+            else {
+                if (state.backtracking>0) {state.failed=true; return operator;}
+                NoViableAltException nvae =
+                    new NoViableAltException("", 165, 0, input);
+
+                throw nvae;
+
+            }
+            switch (alt165) {
+                case 1 :
+                    // /root/project/Ceylon.g:2244:7: DECREMENT_OP
+                    {
+                    DECREMENT_OP320=(Token)match(input,DECREMENT_OP,FOLLOW_DECREMENT_OP_in_postfixOperator12636); if (state.failed) return operator;
+
+                    if ( state.backtracking==0 ) { operator = new PostfixDecrementOp(DECREMENT_OP320); }
+
+                    }
+                    break;
+                case 2 :
+                    // /root/project/Ceylon.g:2246:7: INCREMENT_OP
+                    {
+                    INCREMENT_OP321=(Token)match(input,INCREMENT_OP,FOLLOW_INCREMENT_OP_in_postfixOperator12653); if (state.failed) return operator;
+
+                    if ( state.backtracking==0 ) { operator = new PostfixIncrementOp(INCREMENT_OP321); }
+
+                    }
+                    break;
+
+            }
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return operator;
+    }
+    // $ANTLR end "postfixOperator"
+
+
+
+    // $ANTLR start "selfReference"
+    // /root/project/Ceylon.g:2250:1: selfReference returns [Atom atom] : ( THIS | SUPER | OUTER );
+    public final Atom selfReference() throws RecognitionException {
+        Atom atom = null;
+
+
+        Token THIS322=null;
+        Token SUPER323=null;
+        Token OUTER324=null;
+
+        try {
+            // /root/project/Ceylon.g:2251:5: ( THIS | SUPER | OUTER )
+            int alt166=3;
+            switch ( input.LA(1) ) {
+            case THIS:
+                {
+                alt166=1;
+                }
+                break;
+            case SUPER:
+                {
+                alt166=2;
+                }
+                break;
+            case OUTER:
+                {
+                alt166=3;
+                }
+                break;
+            default:
+                if (state.backtracking>0) {state.failed=true; return atom;}
+                NoViableAltException nvae =
+                    new NoViableAltException("", 166, 0, input);
+
+                throw nvae;
+
+            }
+
+            switch (alt166) {
+                case 1 :
+                    // /root/project/Ceylon.g:2251:7: THIS
+                    {
+                    THIS322=(Token)match(input,THIS,FOLLOW_THIS_in_selfReference12683); if (state.failed) return atom;
+
+                    if ( state.backtracking==0 ) { atom = new This(THIS322); }
+
+                    }
+                    break;
+                case 2 :
+                    // /root/project/Ceylon.g:2253:7: SUPER
+                    {
+                    SUPER323=(Token)match(input,SUPER,FOLLOW_SUPER_in_selfReference12699); if (state.failed) return atom;
+
+                    if ( state.backtracking==0 ) { atom = new Super(SUPER323); }
+
+                    }
+                    break;
+                case 3 :
+                    // /root/project/Ceylon.g:2255:7: OUTER
+                    {
+                    OUTER324=(Token)match(input,OUTER,FOLLOW_OUTER_in_selfReference12716); if (state.failed) return atom;
+
+                    if ( state.backtracking==0 ) { atom = new Outer(OUTER324); }
+
+                    }
+                    break;
+
+            }
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return atom;
+    }
+    // $ANTLR end "selfReference"
+
+
+
+    // $ANTLR start "nonstringLiteral"
+    // /root/project/Ceylon.g:2259:1: nonstringLiteral returns [Literal literal] : ( NATURAL_LITERAL | FLOAT_LITERAL | QUOTED_LITERAL | CHAR_LITERAL );
+    public final Literal nonstringLiteral() throws RecognitionException {
+        Literal literal = null;
+
+
+        Token NATURAL_LITERAL325=null;
+        Token FLOAT_LITERAL326=null;
+        Token QUOTED_LITERAL327=null;
+        Token CHAR_LITERAL328=null;
+
+        try {
+            // /root/project/Ceylon.g:2260:5: ( NATURAL_LITERAL | FLOAT_LITERAL | QUOTED_LITERAL | CHAR_LITERAL )
+            int alt167=4;
+            switch ( input.LA(1) ) {
+            case NATURAL_LITERAL:
+                {
+                alt167=1;
+                }
+                break;
+            case FLOAT_LITERAL:
+                {
+                alt167=2;
+                }
+                break;
+            case QUOTED_LITERAL:
+                {
+                alt167=3;
+                }
+                break;
+            case CHAR_LITERAL:
+                {
+                alt167=4;
+                }
+                break;
+            default:
+                if (state.backtracking>0) {state.failed=true; return literal;}
+                NoViableAltException nvae =
+                    new NoViableAltException("", 167, 0, input);
+
+                throw nvae;
+
+            }
+
+            switch (alt167) {
+                case 1 :
+                    // /root/project/Ceylon.g:2260:7: NATURAL_LITERAL
+                    {
+                    NATURAL_LITERAL325=(Token)match(input,NATURAL_LITERAL,FOLLOW_NATURAL_LITERAL_in_nonstringLiteral12749); if (state.failed) return literal;
+
+                    if ( state.backtracking==0 ) { literal = new NaturalLiteral(NATURAL_LITERAL325); }
+
+                    }
+                    break;
+                case 2 :
+                    // /root/project/Ceylon.g:2262:7: FLOAT_LITERAL
+                    {
+                    FLOAT_LITERAL326=(Token)match(input,FLOAT_LITERAL,FOLLOW_FLOAT_LITERAL_in_nonstringLiteral12766); if (state.failed) return literal;
+
+                    if ( state.backtracking==0 ) { literal = new FloatLiteral(FLOAT_LITERAL326); }
+
+                    }
+                    break;
+                case 3 :
+                    // /root/project/Ceylon.g:2264:7: QUOTED_LITERAL
+                    {
+                    QUOTED_LITERAL327=(Token)match(input,QUOTED_LITERAL,FOLLOW_QUOTED_LITERAL_in_nonstringLiteral12783); if (state.failed) return literal;
+
+                    if ( state.backtracking==0 ) { literal = new QuotedLiteral(QUOTED_LITERAL327); }
+
+                    }
+                    break;
+                case 4 :
+                    // /root/project/Ceylon.g:2266:7: CHAR_LITERAL
+                    {
+                    CHAR_LITERAL328=(Token)match(input,CHAR_LITERAL,FOLLOW_CHAR_LITERAL_in_nonstringLiteral12800); if (state.failed) return literal;
+
+                    if ( state.backtracking==0 ) { literal = new CharLiteral(CHAR_LITERAL328); }
+
+                    }
+                    break;
+
+            }
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return literal;
+    }
+    // $ANTLR end "nonstringLiteral"
+
+
+
+    // $ANTLR start "stringExpression"
+    // /root/project/Ceylon.g:2270:1: stringExpression returns [Atom atom] : ({...}? => stringTemplate | stringLiteral );
+    public final Atom stringExpression() throws RecognitionException {
+        Atom atom = null;
+
+
+        StringTemplate stringTemplate329 =null;
+
+        StringLiteral stringLiteral330 =null;
+
+
+        try {
+            // /root/project/Ceylon.g:2271:5: ({...}? => stringTemplate | stringLiteral )
+            int alt168=2;
+            int LA168_0 = input.LA(1);
+
+            if ( (LA168_0==STRING_LITERAL) ) {
+                int LA168_1 = input.LA(2);
+
+                if ( (( isInterpolatedExpressionStart(input.LA(2)) )) ) {
+                    alt168=1;
+                }
+                else if ( (true) ) {
+                    alt168=2;
+                }
+                else {
+                    if (state.backtracking>0) {state.failed=true; return atom;}
+                    NoViableAltException nvae =
+                        new NoViableAltException("", 168, 1, input);
+
+                    throw nvae;
+
+                }
+            }
+            else {
+                if (state.backtracking>0) {state.failed=true; return atom;}
+                NoViableAltException nvae =
+                    new NoViableAltException("", 168, 0, input);
+
+                throw nvae;
+
+            }
+            switch (alt168) {
+                case 1 :
+                    // /root/project/Ceylon.g:2271:7: {...}? => stringTemplate
+                    {
+                    if ( !(( isInterpolatedExpressionStart(input.LA(2)) )) ) {
+                        if (state.backtracking>0) {state.failed=true; return atom;}
+                        throw new FailedPredicateException(input, "stringExpression", " isInterpolatedExpressionStart(input.LA(2)) ");
+                    }
+
+                    pushFollow(FOLLOW_stringTemplate_in_stringExpression12840);
+                    stringTemplate329=stringTemplate();
+
+                    state._fsp--;
+                    if (state.failed) return atom;
+
+                    if ( state.backtracking==0 ) { atom = stringTemplate329; }
+
+                    }
+                    break;
+                case 2 :
+                    // /root/project/Ceylon.g:2274:7: stringLiteral
+                    {
+                    pushFollow(FOLLOW_stringLiteral_in_stringExpression12857);
+                    stringLiteral330=stringLiteral();
+
+                    state._fsp--;
+                    if (state.failed) return atom;
+
+                    if ( state.backtracking==0 ) { atom = stringLiteral330; }
+
+                    }
+                    break;
+
+            }
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return atom;
+    }
+    // $ANTLR end "stringExpression"
+
+
+
+    // $ANTLR start "stringLiteral"
+    // /root/project/Ceylon.g:2278:1: stringLiteral returns [StringLiteral stringLiteral] : STRING_LITERAL ;
+    public final StringLiteral stringLiteral() throws RecognitionException {
+        StringLiteral stringLiteral = null;
+
+
+        Token STRING_LITERAL331=null;
+
+        try {
+            // /root/project/Ceylon.g:2279:5: ( STRING_LITERAL )
+            // /root/project/Ceylon.g:2279:7: STRING_LITERAL
+            {
+            STRING_LITERAL331=(Token)match(input,STRING_LITERAL,FOLLOW_STRING_LITERAL_in_stringLiteral12887); if (state.failed) return stringLiteral;
+
+            if ( state.backtracking==0 ) { stringLiteral = new StringLiteral(STRING_LITERAL331); }
+
+            }
+
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return stringLiteral;
+    }
+    // $ANTLR end "stringLiteral"
+
+
+
+    // $ANTLR start "stringTemplate"
+    // /root/project/Ceylon.g:2283:1: stringTemplate returns [StringTemplate stringTemplate] : sl1= stringLiteral ({...}? => expression sl2= stringLiteral )+ ;
+    public final StringTemplate stringTemplate() throws RecognitionException {
+        StringTemplate stringTemplate = null;
+
+
+        StringLiteral sl1 =null;
+
+        StringLiteral sl2 =null;
+
+        Expression expression332 =null;
+
+
+        try {
+            // /root/project/Ceylon.g:2284:5: (sl1= stringLiteral ({...}? => expression sl2= stringLiteral )+ )
+            // /root/project/Ceylon.g:2284:7: sl1= stringLiteral ({...}? => expression sl2= stringLiteral )+
+            {
+            pushFollow(FOLLOW_stringLiteral_in_stringTemplate12919);
+            sl1=stringLiteral();
+
+            state._fsp--;
+            if (state.failed) return stringTemplate;
+
+            if ( state.backtracking==0 ) { stringTemplate = new StringTemplate(sl1.getToken()); 
+                    stringTemplate.addStringLiteral(sl1); }
+
+            // /root/project/Ceylon.g:2287:7: ({...}? => expression sl2= stringLiteral )+
+            int cnt169=0;
+            loop169:
+            do {
+                int alt169=2;
+                alt169 = dfa169.predict(input);
+                switch (alt169) {
+            	case 1 :
+            	    // /root/project/Ceylon.g:2288:9: {...}? => expression sl2= stringLiteral
+            	    {
+            	    if ( !(( isInterpolatedExpressionStart(input.LA(1)) )) ) {
+            	        if (state.backtracking>0) {state.failed=true; return stringTemplate;}
+            	        throw new FailedPredicateException(input, "stringTemplate", " isInterpolatedExpressionStart(input.LA(1)) ");
+            	    }
+
+            	    pushFollow(FOLLOW_expression_in_stringTemplate12958);
+            	    expression332=expression();
+
+            	    state._fsp--;
+            	    if (state.failed) return stringTemplate;
+
+            	    pushFollow(FOLLOW_stringLiteral_in_stringTemplate12962);
+            	    sl2=stringLiteral();
+
+            	    state._fsp--;
+            	    if (state.failed) return stringTemplate;
+
+            	    if ( state.backtracking==0 ) { stringTemplate.addExpression(expression332);
+            	              stringTemplate.addStringLiteral(sl2); }
+
+            	    }
+            	    break;
+
+            	default :
+            	    if ( cnt169 >= 1 ) break loop169;
+            	    if (state.backtracking>0) {state.failed=true; return stringTemplate;}
+                        EarlyExitException eee =
+                            new EarlyExitException(169, input);
+                        throw eee;
+                }
+                cnt169++;
+            } while (true);
+
+
+            }
+
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return stringTemplate;
+    }
+    // $ANTLR end "stringTemplate"
+
+
+
+    // $ANTLR start "typeArguments"
+    // /root/project/Ceylon.g:2295:1: typeArguments returns [TypeArgumentList typeArgumentList] : SMALLER_OP ta1= typeArgument (c= COMMA (ta2= typeArgument |) )* LARGER_OP ;
+    public final TypeArgumentList typeArguments() throws RecognitionException {
+        TypeArgumentList typeArgumentList = null;
+
+
+        Token c=null;
+        Token SMALLER_OP333=null;
+        Token LARGER_OP334=null;
+        Type ta1 =null;
+
+        Type ta2 =null;
+
+
+        try {
+            // /root/project/Ceylon.g:2296:5: ( SMALLER_OP ta1= typeArgument (c= COMMA (ta2= typeArgument |) )* LARGER_OP )
+            // /root/project/Ceylon.g:2296:7: SMALLER_OP ta1= typeArgument (c= COMMA (ta2= typeArgument |) )* LARGER_OP
+            {
+            SMALLER_OP333=(Token)match(input,SMALLER_OP,FOLLOW_SMALLER_OP_in_typeArguments13002); if (state.failed) return typeArgumentList;
+
+            if ( state.backtracking==0 ) { typeArgumentList = new TypeArgumentList(SMALLER_OP333); }
+
+            pushFollow(FOLLOW_typeArgument_in_typeArguments13020);
+            ta1=typeArgument();
+
+            state._fsp--;
+            if (state.failed) return typeArgumentList;
+
+            if ( state.backtracking==0 ) { if (ta1!=null)
+                        typeArgumentList.addType(ta1); }
+
+            // /root/project/Ceylon.g:2301:7: (c= COMMA (ta2= typeArgument |) )*
+            loop171:
+            do {
+                int alt171=2;
+                int LA171_0 = input.LA(1);
+
+                if ( (LA171_0==COMMA) ) {
+                    alt171=1;
+                }
+
+
+                switch (alt171) {
+            	case 1 :
+            	    // /root/project/Ceylon.g:2302:9: c= COMMA (ta2= typeArgument |)
+            	    {
+            	    c=(Token)match(input,COMMA,FOLLOW_COMMA_in_typeArguments13049); if (state.failed) return typeArgumentList;
+
+            	    if ( state.backtracking==0 ) { typeArgumentList.setEndToken(c); }
+
+            	    // /root/project/Ceylon.g:2304:9: (ta2= typeArgument |)
+            	    int alt170=2;
+            	    int LA170_0 = input.LA(1);
+
+            	    if ( (LA170_0==UIDENTIFIER) ) {
+            	        alt170=1;
+            	    }
+            	    else if ( (LA170_0==COMMA||LA170_0==LARGER_OP) ) {
+            	        alt170=2;
+            	    }
+            	    else {
+            	        if (state.backtracking>0) {state.failed=true; return typeArgumentList;}
+            	        NoViableAltException nvae =
+            	            new NoViableAltException("", 170, 0, input);
+
+            	        throw nvae;
+
+            	    }
+            	    switch (alt170) {
+            	        case 1 :
+            	            // /root/project/Ceylon.g:2305:11: ta2= typeArgument
+            	            {
+            	            pushFollow(FOLLOW_typeArgument_in_typeArguments13083);
+            	            ta2=typeArgument();
+
+            	            state._fsp--;
+            	            if (state.failed) return typeArgumentList;
+
+            	            if ( state.backtracking==0 ) { typeArgumentList.addType(ta2); 
+            	                        typeArgumentList.setEndToken(null); }
+
+            	            }
+            	            break;
+            	        case 2 :
+            	            // /root/project/Ceylon.g:2308:13: 
+            	            {
+            	            if ( state.backtracking==0 ) { displayRecognitionError(getTokenNames(), 
+            	                            new MismatchedTokenException(UIDENTIFIER, input)); }
+
+            	            }
+            	            break;
+
+            	    }
+
+
+            	    }
+            	    break;
+
+            	default :
+            	    break loop171;
+                }
+            } while (true);
+
+
+            LARGER_OP334=(Token)match(input,LARGER_OP,FOLLOW_LARGER_OP_in_typeArguments13137); if (state.failed) return typeArgumentList;
+
+            if ( state.backtracking==0 ) { typeArgumentList.setEndToken(LARGER_OP334); }
+
+            }
+
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return typeArgumentList;
+    }
+    // $ANTLR end "typeArguments"
+
+
+
+    // $ANTLR start "typeArgument"
+    // /root/project/Ceylon.g:2316:1: typeArgument returns [Type type] : t= type ( ELLIPSIS )? ;
+    public final Type typeArgument() throws RecognitionException {
+        Type type = null;
+
+
+        Token ELLIPSIS335=null;
+        StaticType t =null;
+
+
+        try {
+            // /root/project/Ceylon.g:2317:5: (t= type ( ELLIPSIS )? )
+            // /root/project/Ceylon.g:2317:7: t= type ( ELLIPSIS )?
+            {
+            pushFollow(FOLLOW_type_in_typeArgument13168);
+            t=type();
+
+            state._fsp--;
+            if (state.failed) return type;
+
+            if ( state.backtracking==0 ) { type = t; }
+
+            // /root/project/Ceylon.g:2319:7: ( ELLIPSIS )?
+            int alt172=2;
+            int LA172_0 = input.LA(1);
+
+            if ( (LA172_0==ELLIPSIS) ) {
+                alt172=1;
+            }
+            switch (alt172) {
+                case 1 :
+                    // /root/project/Ceylon.g:2320:9: ELLIPSIS
+                    {
+                    ELLIPSIS335=(Token)match(input,ELLIPSIS,FOLLOW_ELLIPSIS_in_typeArgument13195); if (state.failed) return type;
+
+                    if ( state.backtracking==0 ) { SequencedType st = new SequencedType(ELLIPSIS335);
+                              st.setType(t); 
+                              type = st; }
+
+                    }
+                    break;
+
+            }
+
+
+            }
+
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return type;
+    }
+    // $ANTLR end "typeArgument"
+
+
+
+    // $ANTLR start "type"
+    // /root/project/Ceylon.g:2327:1: type returns [StaticType type] : unionType ;
+    public final StaticType type() throws RecognitionException {
+        StaticType type = null;
+
+
+        StaticType unionType336 =null;
+
+
+        try {
+            // /root/project/Ceylon.g:2328:5: ( unionType )
+            // /root/project/Ceylon.g:2328:7: unionType
+            {
+            pushFollow(FOLLOW_unionType_in_type13240);
+            unionType336=unionType();
+
+            state._fsp--;
+            if (state.failed) return type;
+
+            if ( state.backtracking==0 ) { type =unionType336; }
+
+            }
+
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return type;
+    }
+    // $ANTLR end "type"
+
+
+
+    // $ANTLR start "entryType"
+    // /root/project/Ceylon.g:2332:1: entryType returns [StaticType type] : ut1= abbreviatedType ( ENTRY_OP (ut2= abbreviatedType |) )? ;
+    public final StaticType entryType() throws RecognitionException {
+        StaticType type = null;
+
+
+        Token ENTRY_OP337=null;
+        StaticType ut1 =null;
+
+        StaticType ut2 =null;
+
+
+         BaseType bt=null; 
+                    TypeArgumentList tal=null; 
+        try {
+            // /root/project/Ceylon.g:2335:5: (ut1= abbreviatedType ( ENTRY_OP (ut2= abbreviatedType |) )? )
+            // /root/project/Ceylon.g:2335:7: ut1= abbreviatedType ( ENTRY_OP (ut2= abbreviatedType |) )?
+            {
+            pushFollow(FOLLOW_abbreviatedType_in_entryType13285);
+            ut1=abbreviatedType();
+
+            state._fsp--;
+            if (state.failed) return type;
+
+            if ( state.backtracking==0 ) { type =ut1; 
+                    bt = new BaseType(null); 
+                    tal = new TypeArgumentList(null); 
+                    tal.addType(ut1); 
+                    bt.setTypeArgumentList(tal); }
+
+            // /root/project/Ceylon.g:2341:7: ( ENTRY_OP (ut2= abbreviatedType |) )?
+            int alt174=2;
+            int LA174_0 = input.LA(1);
+
+            if ( (LA174_0==ENTRY_OP) ) {
+                alt174=1;
+            }
+            switch (alt174) {
+                case 1 :
+                    // /root/project/Ceylon.g:2342:9: ENTRY_OP (ut2= abbreviatedType |)
+                    {
+                    ENTRY_OP337=(Token)match(input,ENTRY_OP,FOLLOW_ENTRY_OP_in_entryType13311); if (state.failed) return type;
+
+                    if ( state.backtracking==0 ) { bt.setEndToken(ENTRY_OP337); 
+                              CommonToken tok = new CommonToken(ENTRY_OP337);
+                              tok.setText("Entry");
+                              bt.setIdentifier( new Identifier(tok) ); }
+
+                    // /root/project/Ceylon.g:2347:9: (ut2= abbreviatedType |)
+                    int alt173=2;
+                    alt173 = dfa173.predict(input);
+                    switch (alt173) {
+                        case 1 :
+                            // /root/project/Ceylon.g:2348:11: ut2= abbreviatedType
+                            {
+                            pushFollow(FOLLOW_abbreviatedType_in_entryType13345);
+                            ut2=abbreviatedType();
+
+                            state._fsp--;
+                            if (state.failed) return type;
+
+                            if ( state.backtracking==0 ) { tal.addType(ut2);
+                                        bt.setEndToken(null); }
+
+                            }
+                            break;
+                        case 2 :
+                            // /root/project/Ceylon.g:2351:11: 
+                            {
+                            if ( state.backtracking==0 ) { displayRecognitionError(getTokenNames(), 
+                                            new MismatchedTokenException(UIDENTIFIER, input)); }
+
+                            }
+                            break;
+
+                    }
+
+
+                    if ( state.backtracking==0 ) { type =bt; }
+
+                    }
+                    break;
+
+            }
+
+
+            }
+
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return type;
+    }
+    // $ANTLR end "entryType"
+
+
+
+    // $ANTLR start "unionType"
+    // /root/project/Ceylon.g:2358:1: unionType returns [StaticType type] : it1= intersectionType ( (u= UNION_OP (it2= intersectionType |) )+ )? ;
+    public final StaticType unionType() throws RecognitionException {
+        StaticType type = null;
+
+
+        Token u=null;
+        StaticType it1 =null;
+
+        StaticType it2 =null;
+
+
+         UnionType ut=null; 
+        try {
+            // /root/project/Ceylon.g:2360:5: (it1= intersectionType ( (u= UNION_OP (it2= intersectionType |) )+ )? )
+            // /root/project/Ceylon.g:2360:7: it1= intersectionType ( (u= UNION_OP (it2= intersectionType |) )+ )?
+            {
+            pushFollow(FOLLOW_intersectionType_in_unionType13430);
+            it1=intersectionType();
+
+            state._fsp--;
+            if (state.failed) return type;
+
+            if ( state.backtracking==0 ) { type = it1;
+                    ut = new UnionType(null);
+                    ut.addStaticType(type); }
+
+            // /root/project/Ceylon.g:2364:7: ( (u= UNION_OP (it2= intersectionType |) )+ )?
+            int alt177=2;
+            int LA177_0 = input.LA(1);
+
+            if ( (LA177_0==UNION_OP) ) {
+                alt177=1;
+            }
+            switch (alt177) {
+                case 1 :
+                    // /root/project/Ceylon.g:2365:9: (u= UNION_OP (it2= intersectionType |) )+
+                    {
+                    // /root/project/Ceylon.g:2365:9: (u= UNION_OP (it2= intersectionType |) )+
+                    int cnt176=0;
+                    loop176:
+                    do {
+                        int alt176=2;
+                        int LA176_0 = input.LA(1);
+
+                        if ( (LA176_0==UNION_OP) ) {
+                            alt176=1;
+                        }
+
+
+                        switch (alt176) {
+                    	case 1 :
+                    	    // /root/project/Ceylon.g:2366:11: u= UNION_OP (it2= intersectionType |)
+                    	    {
+                    	    u=(Token)match(input,UNION_OP,FOLLOW_UNION_OP_in_unionType13471); if (state.failed) return type;
+
+                    	    if ( state.backtracking==0 ) { ut.setEndToken(u); }
+
+                    	    // /root/project/Ceylon.g:2368:11: (it2= intersectionType |)
+                    	    int alt175=2;
+                    	    alt175 = dfa175.predict(input);
+                    	    switch (alt175) {
+                    	        case 1 :
+                    	            // /root/project/Ceylon.g:2369:13: it2= intersectionType
+                    	            {
+                    	            pushFollow(FOLLOW_intersectionType_in_unionType13511);
+                    	            it2=intersectionType();
+
+                    	            state._fsp--;
+                    	            if (state.failed) return type;
+
+                    	            if ( state.backtracking==0 ) { ut.addStaticType(it2);
+                    	                          ut.setEndToken(null); }
+
+                    	            }
+                    	            break;
+                    	        case 2 :
+                    	            // /root/project/Ceylon.g:2372:13: 
+                    	            {
+                    	            if ( state.backtracking==0 ) { displayRecognitionError(getTokenNames(), 
+                    	                            new MismatchedTokenException(UIDENTIFIER, input)); }
+
+                    	            }
+                    	            break;
+
+                    	    }
+
+
+                    	    }
+                    	    break;
+
+                    	default :
+                    	    if ( cnt176 >= 1 ) break loop176;
+                    	    if (state.backtracking>0) {state.failed=true; return type;}
+                                EarlyExitException eee =
+                                    new EarlyExitException(176, input);
+                                throw eee;
+                        }
+                        cnt176++;
+                    } while (true);
+
+
+                    if ( state.backtracking==0 ) { type = ut; }
+
+                    }
+                    break;
+
+            }
+
+
+            }
+
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return type;
+    }
+    // $ANTLR end "unionType"
+
+
+
+    // $ANTLR start "intersectionType"
+    // /root/project/Ceylon.g:2380:1: intersectionType returns [StaticType type] : at1= entryType ( (i= INTERSECTION_OP (at2= entryType |) )+ )? ;
+    public final StaticType intersectionType() throws RecognitionException {
+        StaticType type = null;
+
+
+        Token i=null;
+        StaticType at1 =null;
+
+        StaticType at2 =null;
+
+
+         IntersectionType it=null; 
+        try {
+            // /root/project/Ceylon.g:2382:5: (at1= entryType ( (i= INTERSECTION_OP (at2= entryType |) )+ )? )
+            // /root/project/Ceylon.g:2382:7: at1= entryType ( (i= INTERSECTION_OP (at2= entryType |) )+ )?
+            {
+            pushFollow(FOLLOW_entryType_in_intersectionType13613);
+            at1=entryType();
+
+            state._fsp--;
+            if (state.failed) return type;
+
+            if ( state.backtracking==0 ) { type = at1;
+                    it = new IntersectionType(null);
+                    it.addStaticType(type); }
+
+            // /root/project/Ceylon.g:2386:7: ( (i= INTERSECTION_OP (at2= entryType |) )+ )?
+            int alt180=2;
+            int LA180_0 = input.LA(1);
+
+            if ( (LA180_0==INTERSECTION_OP) ) {
+                alt180=1;
+            }
+            switch (alt180) {
+                case 1 :
+                    // /root/project/Ceylon.g:2387:9: (i= INTERSECTION_OP (at2= entryType |) )+
+                    {
+                    // /root/project/Ceylon.g:2387:9: (i= INTERSECTION_OP (at2= entryType |) )+
+                    int cnt179=0;
+                    loop179:
+                    do {
+                        int alt179=2;
+                        int LA179_0 = input.LA(1);
+
+                        if ( (LA179_0==INTERSECTION_OP) ) {
+                            alt179=1;
+                        }
+
+
+                        switch (alt179) {
+                    	case 1 :
+                    	    // /root/project/Ceylon.g:2388:11: i= INTERSECTION_OP (at2= entryType |)
+                    	    {
+                    	    i=(Token)match(input,INTERSECTION_OP,FOLLOW_INTERSECTION_OP_in_intersectionType13654); if (state.failed) return type;
+
+                    	    if ( state.backtracking==0 ) { it.setEndToken(i); }
+
+                    	    // /root/project/Ceylon.g:2390:11: (at2= entryType |)
+                    	    int alt178=2;
+                    	    alt178 = dfa178.predict(input);
+                    	    switch (alt178) {
+                    	        case 1 :
+                    	            // /root/project/Ceylon.g:2391:13: at2= entryType
+                    	            {
+                    	            pushFollow(FOLLOW_entryType_in_intersectionType13694);
+                    	            at2=entryType();
+
+                    	            state._fsp--;
+                    	            if (state.failed) return type;
+
+                    	            if ( state.backtracking==0 ) { it.addStaticType(at2);
+                    	                          it.setEndToken(null); }
+
+                    	            }
+                    	            break;
+                    	        case 2 :
+                    	            // /root/project/Ceylon.g:2394:13: 
+                    	            {
+                    	            if ( state.backtracking==0 ) { displayRecognitionError(getTokenNames(), 
+                    	                            new MismatchedTokenException(UIDENTIFIER, input)); }
+
+                    	            }
+                    	            break;
+
+                    	    }
+
+
+                    	    }
+                    	    break;
+
+                    	default :
+                    	    if ( cnt179 >= 1 ) break loop179;
+                    	    if (state.backtracking>0) {state.failed=true; return type;}
+                                EarlyExitException eee =
+                                    new EarlyExitException(179, input);
+                                throw eee;
+                        }
+                        cnt179++;
+                    } while (true);
+
+
+                    if ( state.backtracking==0 ) { type = it; }
+
+                    }
+                    break;
+
+            }
+
+
+            }
+
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return type;
+    }
+    // $ANTLR end "intersectionType"
+
+
+
+    // $ANTLR start "abbreviatedType"
+    // /root/project/Ceylon.g:2402:1: abbreviatedType returns [StaticType type] : qualifiedType ( DEFAULT_OP | ARRAY )* ;
+    public final StaticType abbreviatedType() throws RecognitionException {
+        StaticType type = null;
+
+
+        Token DEFAULT_OP339=null;
+        Token ARRAY340=null;
+        SimpleType qualifiedType338 =null;
+
+
+        try {
+            // /root/project/Ceylon.g:2403:5: ( qualifiedType ( DEFAULT_OP | ARRAY )* )
+            // /root/project/Ceylon.g:2403:7: qualifiedType ( DEFAULT_OP | ARRAY )*
+            {
+            pushFollow(FOLLOW_qualifiedType_in_abbreviatedType13785);
+            qualifiedType338=qualifiedType();
+
+            state._fsp--;
+            if (state.failed) return type;
+
+            if ( state.backtracking==0 ) { type =qualifiedType338; }
+
+            // /root/project/Ceylon.g:2405:7: ( DEFAULT_OP | ARRAY )*
+            loop181:
+            do {
+                int alt181=3;
+                int LA181_0 = input.LA(1);
+
+                if ( (LA181_0==DEFAULT_OP) ) {
+                    alt181=1;
+                }
+                else if ( (LA181_0==ARRAY) ) {
+                    alt181=2;
+                }
+
+
+                switch (alt181) {
+            	case 1 :
+            	    // /root/project/Ceylon.g:2406:9: DEFAULT_OP
+            	    {
+            	    DEFAULT_OP339=(Token)match(input,DEFAULT_OP,FOLLOW_DEFAULT_OP_in_abbreviatedType13811); if (state.failed) return type;
+
+            	    if ( state.backtracking==0 ) { UnionType ot = new UnionType(null);
+            	              CommonToken tok = new CommonToken(DEFAULT_OP339);
+            	              tok.setText("Nothing");
+            	              BaseType bt = new BaseType(DEFAULT_OP339);
+            	              bt.setIdentifier( new Identifier(tok) );
+            	              ot.addStaticType(bt);
+            	              ot.addStaticType(type);
+            	              type =ot; }
+
+            	    }
+            	    break;
+            	case 2 :
+            	    // /root/project/Ceylon.g:2415:9: ARRAY
+            	    {
+            	    ARRAY340=(Token)match(input,ARRAY,FOLLOW_ARRAY_in_abbreviatedType13832); if (state.failed) return type;
+
+            	    if ( state.backtracking==0 ) { UnionType ot = new UnionType(null);
+            	              CommonToken tok = new CommonToken(ARRAY340);
+            	              tok.setText("Empty");
+            	              BaseType bt = new BaseType(ARRAY340);
+            	              bt.setIdentifier( new Identifier(tok) );
+            	              ot.addStaticType(bt);
+            	              tok = new CommonToken(ARRAY340);
+            	              tok.setText("Sequence");
+            	              bt = new BaseType(ARRAY340);
+            	              bt.setIdentifier( new Identifier(tok) );
+            	              TypeArgumentList tal = new TypeArgumentList(null);
+            	              tal.addType(type);
+            	              bt.setTypeArgumentList(tal);
+            	              ot.addStaticType(bt);
+            	              type =ot; }
+
+            	    }
+            	    break;
+
+            	default :
+            	    break loop181;
+                }
+            } while (true);
+
+
+            }
+
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return type;
+    }
+    // $ANTLR end "abbreviatedType"
+
+
+
+    // $ANTLR start "qualifiedType"
+    // /root/project/Ceylon.g:2434:1: qualifiedType returns [SimpleType type] : ot= typeNameWithArguments ( MEMBER_OP it= typeNameWithArguments )* ;
+    public final SimpleType qualifiedType() throws RecognitionException {
+        SimpleType type = null;
+
+
+        Token MEMBER_OP341=null;
+        CeylonParser.typeNameWithArguments_return ot =null;
+
+        CeylonParser.typeNameWithArguments_return it =null;
+
+
+        try {
+            // /root/project/Ceylon.g:2435:5: (ot= typeNameWithArguments ( MEMBER_OP it= typeNameWithArguments )* )
+            // /root/project/Ceylon.g:2435:7: ot= typeNameWithArguments ( MEMBER_OP it= typeNameWithArguments )*
+            {
+            pushFollow(FOLLOW_typeNameWithArguments_in_qualifiedType13875);
+            ot=typeNameWithArguments();
+
+            state._fsp--;
+            if (state.failed) return type;
+
+            if ( state.backtracking==0 ) { BaseType bt = new BaseType(null);
+                    bt.setIdentifier((ot!=null?ot.identifier:null));
+                    if ((ot!=null?ot.typeArgumentList:null)!=null)
+                        bt.setTypeArgumentList((ot!=null?ot.typeArgumentList:null));
+                    type =bt; }
+
+            // /root/project/Ceylon.g:2441:7: ( MEMBER_OP it= typeNameWithArguments )*
+            loop182:
+            do {
+                int alt182=2;
+                int LA182_0 = input.LA(1);
+
+                if ( (LA182_0==MEMBER_OP) ) {
+                    alt182=1;
+                }
+
+
+                switch (alt182) {
+            	case 1 :
+            	    // /root/project/Ceylon.g:2442:9: MEMBER_OP it= typeNameWithArguments
+            	    {
+            	    MEMBER_OP341=(Token)match(input,MEMBER_OP,FOLLOW_MEMBER_OP_in_qualifiedType13901); if (state.failed) return type;
+
+            	    pushFollow(FOLLOW_typeNameWithArguments_in_qualifiedType13914);
+            	    it=typeNameWithArguments();
+
+            	    state._fsp--;
+            	    if (state.failed) return type;
+
+            	    if ( state.backtracking==0 ) { QualifiedType qt = new QualifiedType(MEMBER_OP341);
+            	              qt.setIdentifier((it!=null?it.identifier:null));
+            	              if ((it!=null?it.typeArgumentList:null)!=null)
+            	                  qt.setTypeArgumentList((it!=null?it.typeArgumentList:null));
+            	              qt.setOuterType(type);
+            	              type =qt; }
+
+            	    }
+            	    break;
+
+            	default :
+            	    break loop182;
+                }
+            } while (true);
+
+
+            }
+
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return type;
+    }
+    // $ANTLR end "qualifiedType"
+
+
+    public static class typeNameWithArguments_return extends ParserRuleReturnScope {
+        public Identifier identifier;
+        public TypeArgumentList typeArgumentList;
+    };
+
+
+    // $ANTLR start "typeNameWithArguments"
+    // /root/project/Ceylon.g:2453:1: typeNameWithArguments returns [Identifier identifier, TypeArgumentList typeArgumentList] : typeName ( typeArguments )? ;
+    public final CeylonParser.typeNameWithArguments_return typeNameWithArguments() throws RecognitionException {
+        CeylonParser.typeNameWithArguments_return retval = new CeylonParser.typeNameWithArguments_return();
+        retval.start = input.LT(1);
+
+
+        Identifier typeName342 =null;
+
+        TypeArgumentList typeArguments343 =null;
+
+
+        try {
+            // /root/project/Ceylon.g:2454:5: ( typeName ( typeArguments )? )
+            // /root/project/Ceylon.g:2454:7: typeName ( typeArguments )?
+            {
+            pushFollow(FOLLOW_typeName_in_typeNameWithArguments13954);
+            typeName342=typeName();
+
+            state._fsp--;
+            if (state.failed) return retval;
+
+            if ( state.backtracking==0 ) { retval.identifier = typeName342; }
+
+            // /root/project/Ceylon.g:2456:7: ( typeArguments )?
+            int alt183=2;
+            int LA183_0 = input.LA(1);
+
+            if ( (LA183_0==SMALLER_OP) ) {
+                alt183=1;
+            }
+            switch (alt183) {
+                case 1 :
+                    // /root/project/Ceylon.g:2457:9: typeArguments
+                    {
+                    pushFollow(FOLLOW_typeArguments_in_typeNameWithArguments13981);
+                    typeArguments343=typeArguments();
+
+                    state._fsp--;
+                    if (state.failed) return retval;
+
+                    if ( state.backtracking==0 ) { retval.typeArgumentList = typeArguments343; }
+
+                    }
+                    break;
+
+            }
+
+
+            }
+
+            retval.stop = input.LT(-1);
+
+
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "typeNameWithArguments"
+
+
+
+    // $ANTLR start "annotations"
+    // /root/project/Ceylon.g:2462:1: annotations returns [AnnotationList annotationList] : ( annotation )* ;
+    public final AnnotationList annotations() throws RecognitionException {
+        AnnotationList annotationList = null;
+
+
+        Annotation annotation344 =null;
+
+
+        try {
+            // /root/project/Ceylon.g:2463:5: ( ( annotation )* )
+            // /root/project/Ceylon.g:2463:7: ( annotation )*
+            {
+            if ( state.backtracking==0 ) { annotationList = new AnnotationList(null); }
+
+            // /root/project/Ceylon.g:2464:7: ( annotation )*
+            loop184:
+            do {
+                int alt184=2;
+                int LA184_0 = input.LA(1);
+
+                if ( (LA184_0==LIDENTIFIER) ) {
+                    alt184=1;
+                }
+
+
+                switch (alt184) {
+            	case 1 :
+            	    // /root/project/Ceylon.g:2465:9: annotation
+            	    {
+            	    pushFollow(FOLLOW_annotation_in_annotations14044);
+            	    annotation344=annotation();
+
+            	    state._fsp--;
+            	    if (state.failed) return annotationList;
+
+            	    if ( state.backtracking==0 ) { annotationList.addAnnotation(annotation344); }
+
+            	    }
+            	    break;
+
+            	default :
+            	    break loop184;
+                }
+            } while (true);
+
+
+            }
+
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return annotationList;
+    }
+    // $ANTLR end "annotations"
+
+
+
+    // $ANTLR start "annotation"
+    // /root/project/Ceylon.g:2470:1: annotation returns [Annotation annotation] : annotationName annotationArguments ;
+    public final Annotation annotation() throws RecognitionException {
+        Annotation annotation = null;
+
+
+        Identifier annotationName345 =null;
+
+        ArgumentList annotationArguments346 =null;
+
+
+        try {
+            // /root/project/Ceylon.g:2471:5: ( annotationName annotationArguments )
+            // /root/project/Ceylon.g:2471:7: annotationName annotationArguments
+            {
+            pushFollow(FOLLOW_annotationName_in_annotation14085);
+            annotationName345=annotationName();
+
+            state._fsp--;
+            if (state.failed) return annotation;
+
+            if ( state.backtracking==0 ) { annotation = new Annotation(null);
+                    BaseMemberExpression bme = new BaseMemberExpression(null);
+                    bme.setIdentifier(annotationName345);
+                    bme.setTypeArguments( new InferredTypeArguments(null) );
+                    annotation.setPrimary(bme); }
+
+            pushFollow(FOLLOW_annotationArguments_in_annotation14101);
+            annotationArguments346=annotationArguments();
+
+            state._fsp--;
+            if (state.failed) return annotation;
+
+            if ( state.backtracking==0 ) { if (annotationArguments346 instanceof PositionalArgumentList)
+                        annotation.setPositionalArgumentList((PositionalArgumentList)annotationArguments346);
+                    if (annotationArguments346 instanceof NamedArgumentList)
+                        annotation.setNamedArgumentList((NamedArgumentList)annotationArguments346); }
+
+            }
+
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return annotation;
+    }
+    // $ANTLR end "annotation"
+
+
+
+    // $ANTLR start "annotationArguments"
+    // /root/project/Ceylon.g:2484:1: annotationArguments returns [ArgumentList argumentList] : ( arguments | literalArguments );
+    public final ArgumentList annotationArguments() throws RecognitionException {
+        ArgumentList argumentList = null;
+
+
+        ArgumentList arguments347 =null;
+
+        PositionalArgumentList literalArguments348 =null;
+
+
+        try {
+            // /root/project/Ceylon.g:2485:5: ( arguments | literalArguments )
+            int alt185=2;
+            int LA185_0 = input.LA(1);
+
+            if ( (LA185_0==LBRACE||LA185_0==LPAREN) ) {
+                alt185=1;
+            }
+            else if ( (LA185_0==ASSIGN||(LA185_0 >= CHAR_LITERAL && LA185_0 <= CLASS_DEFINITION)||LA185_0==FLOAT_LITERAL||LA185_0==FUNCTION_MODIFIER||LA185_0==INTERFACE_DEFINITION||LA185_0==LIDENTIFIER||LA185_0==NATURAL_LITERAL||LA185_0==OBJECT_DEFINITION||LA185_0==QUOTED_LITERAL||LA185_0==STRING_LITERAL||LA185_0==UIDENTIFIER||(LA185_0 >= VALUE_MODIFIER && LA185_0 <= VOID_MODIFIER)) ) {
+                alt185=2;
+            }
+            else {
+                if (state.backtracking>0) {state.failed=true; return argumentList;}
+                NoViableAltException nvae =
+                    new NoViableAltException("", 185, 0, input);
+
+                throw nvae;
+
+            }
+            switch (alt185) {
+                case 1 :
+                    // /root/project/Ceylon.g:2485:7: arguments
+                    {
+                    pushFollow(FOLLOW_arguments_in_annotationArguments14130);
+                    arguments347=arguments();
+
+                    state._fsp--;
+                    if (state.failed) return argumentList;
+
+                    if ( state.backtracking==0 ) { argumentList =arguments347; }
+
+                    }
+                    break;
+                case 2 :
+                    // /root/project/Ceylon.g:2487:7: literalArguments
+                    {
+                    pushFollow(FOLLOW_literalArguments_in_annotationArguments14147);
+                    literalArguments348=literalArguments();
+
+                    state._fsp--;
+                    if (state.failed) return argumentList;
+
+                    if ( state.backtracking==0 ) { argumentList =literalArguments348; }
+
+                    }
+                    break;
+
+            }
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return argumentList;
+    }
+    // $ANTLR end "annotationArguments"
+
+
+
+    // $ANTLR start "literalArguments"
+    // /root/project/Ceylon.g:2491:1: literalArguments returns [PositionalArgumentList argumentList] : ( literalArgument )* ;
+    public final PositionalArgumentList literalArguments() throws RecognitionException {
+        PositionalArgumentList argumentList = null;
+
+
+        PositionalArgument literalArgument349 =null;
+
+
+        try {
+            // /root/project/Ceylon.g:2492:5: ( ( literalArgument )* )
+            // /root/project/Ceylon.g:2492:7: ( literalArgument )*
+            {
+            if ( state.backtracking==0 ) { argumentList = new PositionalArgumentList(null); }
+
+            // /root/project/Ceylon.g:2493:7: ( literalArgument )*
+            loop186:
+            do {
+                int alt186=2;
+                int LA186_0 = input.LA(1);
+
+                if ( (LA186_0==CHAR_LITERAL||LA186_0==FLOAT_LITERAL||LA186_0==NATURAL_LITERAL||LA186_0==QUOTED_LITERAL||LA186_0==STRING_LITERAL) ) {
+                    alt186=1;
+                }
+
+
+                switch (alt186) {
+            	case 1 :
+            	    // /root/project/Ceylon.g:2494:9: literalArgument
+            	    {
+            	    pushFollow(FOLLOW_literalArgument_in_literalArguments14195);
+            	    literalArgument349=literalArgument();
+
+            	    state._fsp--;
+            	    if (state.failed) return argumentList;
+
+            	    if ( state.backtracking==0 ) { argumentList.addPositionalArgument(literalArgument349); }
+
+            	    }
+            	    break;
+
+            	default :
+            	    break loop186;
+                }
+            } while (true);
+
+
+            }
+
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return argumentList;
+    }
+    // $ANTLR end "literalArguments"
+
+
+
+    // $ANTLR start "literalArgument"
+    // /root/project/Ceylon.g:2499:1: literalArgument returns [PositionalArgument positionalArgument] : ( nonstringLiteral | stringLiteral );
+    public final PositionalArgument literalArgument() throws RecognitionException {
+        PositionalArgument positionalArgument = null;
+
+
+        Literal nonstringLiteral350 =null;
+
+        StringLiteral stringLiteral351 =null;
+
+
+        try {
+            // /root/project/Ceylon.g:2500:5: ( nonstringLiteral | stringLiteral )
+            int alt187=2;
+            int LA187_0 = input.LA(1);
+
+            if ( (LA187_0==CHAR_LITERAL||LA187_0==FLOAT_LITERAL||LA187_0==NATURAL_LITERAL||LA187_0==QUOTED_LITERAL) ) {
+                alt187=1;
+            }
+            else if ( (LA187_0==STRING_LITERAL) ) {
+                alt187=2;
+            }
+            else {
+                if (state.backtracking>0) {state.failed=true; return positionalArgument;}
+                NoViableAltException nvae =
+                    new NoViableAltException("", 187, 0, input);
+
+                throw nvae;
+
+            }
+            switch (alt187) {
+                case 1 :
+                    // /root/project/Ceylon.g:2500:7: nonstringLiteral
+                    {
+                    pushFollow(FOLLOW_nonstringLiteral_in_literalArgument14239);
+                    nonstringLiteral350=nonstringLiteral();
+
+                    state._fsp--;
+                    if (state.failed) return positionalArgument;
+
+                    if ( state.backtracking==0 ) { positionalArgument = new PositionalArgument(null);
+                            Expression e = new Expression(null);
+                            e.setTerm(nonstringLiteral350);
+                            positionalArgument.setExpression(e); }
+
+                    }
+                    break;
+                case 2 :
+                    // /root/project/Ceylon.g:2505:7: stringLiteral
+                    {
+                    pushFollow(FOLLOW_stringLiteral_in_literalArgument14255);
+                    stringLiteral351=stringLiteral();
+
+                    state._fsp--;
+                    if (state.failed) return positionalArgument;
+
+                    if ( state.backtracking==0 ) { positionalArgument = new PositionalArgument(null);
+                            Expression e = new Expression(null);
+                            e.setTerm(stringLiteral351);
+                            positionalArgument.setExpression(e); 
+                            stringLiteral351.getToken().setType(ASTRING_LITERAL); }
+
+                    }
+                    break;
+
+            }
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return positionalArgument;
+    }
+    // $ANTLR end "literalArgument"
+
+
+
+    // $ANTLR start "compilerAnnotations"
+    // /root/project/Ceylon.g:2513:1: compilerAnnotations returns [List<CompilerAnnotation> annotations] : ( compilerAnnotation )* ;
+    public final List<CompilerAnnotation> compilerAnnotations() throws RecognitionException {
+        List<CompilerAnnotation> annotations = null;
+
+
+        CompilerAnnotation compilerAnnotation352 =null;
+
+
+        try {
+            // /root/project/Ceylon.g:2514:5: ( ( compilerAnnotation )* )
+            // /root/project/Ceylon.g:2514:7: ( compilerAnnotation )*
+            {
+            if ( state.backtracking==0 ) { annotations = new ArrayList<CompilerAnnotation>(); }
+
+            // /root/project/Ceylon.g:2515:5: ( compilerAnnotation )*
+            loop188:
+            do {
+                int alt188=2;
+                int LA188_0 = input.LA(1);
+
+                if ( (LA188_0==COMPILER_ANNOTATION) ) {
+                    alt188=1;
+                }
+
+
+                switch (alt188) {
+            	case 1 :
+            	    // /root/project/Ceylon.g:2516:7: compilerAnnotation
+            	    {
+            	    pushFollow(FOLLOW_compilerAnnotation_in_compilerAnnotations14298);
+            	    compilerAnnotation352=compilerAnnotation();
+
+            	    state._fsp--;
+            	    if (state.failed) return annotations;
+
+            	    if ( state.backtracking==0 ) { annotations.add(compilerAnnotation352); }
+
+            	    }
+            	    break;
+
+            	default :
+            	    break loop188;
+                }
+            } while (true);
+
+
+            }
+
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return annotations;
+    }
+    // $ANTLR end "compilerAnnotations"
+
+
+
+    // $ANTLR start "compilerAnnotation"
+    // /root/project/Ceylon.g:2521:1: compilerAnnotation returns [CompilerAnnotation annotation] : COMPILER_ANNOTATION annotationName ( INDEX_OP stringLiteral RBRACKET )? ;
+    public final CompilerAnnotation compilerAnnotation() throws RecognitionException {
+        CompilerAnnotation annotation = null;
+
+
+        Token COMPILER_ANNOTATION353=null;
+        Identifier annotationName354 =null;
+
+        StringLiteral stringLiteral355 =null;
+
+
+        try {
+            // /root/project/Ceylon.g:2522:5: ( COMPILER_ANNOTATION annotationName ( INDEX_OP stringLiteral RBRACKET )? )
+            // /root/project/Ceylon.g:2522:7: COMPILER_ANNOTATION annotationName ( INDEX_OP stringLiteral RBRACKET )?
+            {
+            COMPILER_ANNOTATION353=(Token)match(input,COMPILER_ANNOTATION,FOLLOW_COMPILER_ANNOTATION_in_compilerAnnotation14338); if (state.failed) return annotation;
+
+            if ( state.backtracking==0 ) { annotation =new CompilerAnnotation(COMPILER_ANNOTATION353); }
+
+            pushFollow(FOLLOW_annotationName_in_compilerAnnotation14355);
+            annotationName354=annotationName();
+
+            state._fsp--;
+            if (state.failed) return annotation;
+
+            if ( state.backtracking==0 ) { annotation.setIdentifier(annotationName354); }
+
+            // /root/project/Ceylon.g:2526:7: ( INDEX_OP stringLiteral RBRACKET )?
+            int alt189=2;
+            int LA189_0 = input.LA(1);
+
+            if ( (LA189_0==INDEX_OP) ) {
+                alt189=1;
+            }
+            switch (alt189) {
+                case 1 :
+                    // /root/project/Ceylon.g:2527:11: INDEX_OP stringLiteral RBRACKET
+                    {
+                    match(input,INDEX_OP,FOLLOW_INDEX_OP_in_compilerAnnotation14385); if (state.failed) return annotation;
+
+                    pushFollow(FOLLOW_stringLiteral_in_compilerAnnotation14397);
+                    stringLiteral355=stringLiteral();
+
+                    state._fsp--;
+                    if (state.failed) return annotation;
+
+                    if ( state.backtracking==0 ) { annotation.setStringLiteral(stringLiteral355); }
+
+                    match(input,RBRACKET,FOLLOW_RBRACKET_in_compilerAnnotation14421); if (state.failed) return annotation;
+
+                    }
+                    break;
+
+            }
+
+
+            }
+
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return annotation;
+    }
+    // $ANTLR end "compilerAnnotation"
+
+
+
+    // $ANTLR start "condition"
+    // /root/project/Ceylon.g:2535:1: condition returns [Condition condition] : ({...}? => existsCondition |{...}? => nonemptyCondition |{...}? => isCondition |{...}? => satisfiesCondition | booleanCondition );
+    public final Condition condition() throws RecognitionException {
+        Condition condition = null;
+
+
+        ExistsCondition existsCondition356 =null;
+
+        NonemptyCondition nonemptyCondition357 =null;
+
+        IsCondition isCondition358 =null;
+
+        SatisfiesCondition satisfiesCondition359 =null;
+
+        BooleanCondition booleanCondition360 =null;
+
+
+        try {
+            // /root/project/Ceylon.g:2536:5: ({...}? => existsCondition |{...}? => nonemptyCondition |{...}? => isCondition |{...}? => satisfiesCondition | booleanCondition )
+            int alt190=5;
+            int LA190_0 = input.LA(1);
+
+            if ( (LA190_0==LPAREN) ) {
+                int LA190_1 = input.LA(2);
+
+                if ( (( input.LA(2)==EXISTS )) ) {
+                    alt190=1;
+                }
+                else if ( (( input.LA(2)==NONEMPTY )) ) {
+                    alt190=2;
+                }
+                else if ( (( input.LA(2)==IS_OP )) ) {
+                    alt190=3;
+                }
+                else if ( (( input.LA(2)==SATISFIES )) ) {
+                    alt190=4;
+                }
+                else if ( (true) ) {
+                    alt190=5;
+                }
+                else {
+                    if (state.backtracking>0) {state.failed=true; return condition;}
+                    NoViableAltException nvae =
+                        new NoViableAltException("", 190, 1, input);
+
+                    throw nvae;
+
+                }
+            }
+            else {
+                if (state.backtracking>0) {state.failed=true; return condition;}
+                NoViableAltException nvae =
+                    new NoViableAltException("", 190, 0, input);
+
+                throw nvae;
+
+            }
+            switch (alt190) {
+                case 1 :
+                    // /root/project/Ceylon.g:2536:7: {...}? => existsCondition
+                    {
+                    if ( !(( input.LA(2)==EXISTS )) ) {
+                        if (state.backtracking>0) {state.failed=true; return condition;}
+                        throw new FailedPredicateException(input, "condition", " input.LA(2)==EXISTS ");
+                    }
+
+                    pushFollow(FOLLOW_existsCondition_in_condition14455);
+                    existsCondition356=existsCondition();
+
+                    state._fsp--;
+                    if (state.failed) return condition;
+
+                    if ( state.backtracking==0 ) { condition =existsCondition356; }
+
+                    }
+                    break;
+                case 2 :
+                    // /root/project/Ceylon.g:2538:7: {...}? => nonemptyCondition
+                    {
+                    if ( !(( input.LA(2)==NONEMPTY )) ) {
+                        if (state.backtracking>0) {state.failed=true; return condition;}
+                        throw new FailedPredicateException(input, "condition", " input.LA(2)==NONEMPTY ");
+                    }
+
+                    pushFollow(FOLLOW_nonemptyCondition_in_condition14474);
+                    nonemptyCondition357=nonemptyCondition();
+
+                    state._fsp--;
+                    if (state.failed) return condition;
+
+                    if ( state.backtracking==0 ) { condition =nonemptyCondition357; }
+
+                    }
+                    break;
+                case 3 :
+                    // /root/project/Ceylon.g:2540:7: {...}? => isCondition
+                    {
+                    if ( !(( input.LA(2)==IS_OP )) ) {
+                        if (state.backtracking>0) {state.failed=true; return condition;}
+                        throw new FailedPredicateException(input, "condition", " input.LA(2)==IS_OP ");
+                    }
+
+                    pushFollow(FOLLOW_isCondition_in_condition14493);
+                    isCondition358=isCondition();
+
+                    state._fsp--;
+                    if (state.failed) return condition;
+
+                    if ( state.backtracking==0 ) { condition =isCondition358; }
+
+                    }
+                    break;
+                case 4 :
+                    // /root/project/Ceylon.g:2542:7: {...}? => satisfiesCondition
+                    {
+                    if ( !(( input.LA(2)==SATISFIES )) ) {
+                        if (state.backtracking>0) {state.failed=true; return condition;}
+                        throw new FailedPredicateException(input, "condition", " input.LA(2)==SATISFIES ");
+                    }
+
+                    pushFollow(FOLLOW_satisfiesCondition_in_condition14513);
+                    satisfiesCondition359=satisfiesCondition();
+
+                    state._fsp--;
+                    if (state.failed) return condition;
+
+                    if ( state.backtracking==0 ) { condition =satisfiesCondition359; }
+
+                    }
+                    break;
+                case 5 :
+                    // /root/project/Ceylon.g:2544:7: booleanCondition
+                    {
+                    pushFollow(FOLLOW_booleanCondition_in_condition14529);
+                    booleanCondition360=booleanCondition();
+
+                    state._fsp--;
+                    if (state.failed) return condition;
+
+                    if ( state.backtracking==0 ) { condition =booleanCondition360; }
+
+                    }
+                    break;
+
+            }
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return condition;
+    }
+    // $ANTLR end "condition"
+
+
+
+    // $ANTLR start "booleanCondition"
+    // /root/project/Ceylon.g:2548:1: booleanCondition returns [BooleanCondition condition] : LPAREN ( expression )? RPAREN ;
+    public final BooleanCondition booleanCondition() throws RecognitionException {
+        BooleanCondition condition = null;
+
+
+        Token LPAREN361=null;
+        Token RPAREN363=null;
+        Expression expression362 =null;
+
+
+        try {
+            // /root/project/Ceylon.g:2549:5: ( LPAREN ( expression )? RPAREN )
+            // /root/project/Ceylon.g:2549:7: LPAREN ( expression )? RPAREN
+            {
+            LPAREN361=(Token)match(input,LPAREN,FOLLOW_LPAREN_in_booleanCondition14562); if (state.failed) return condition;
+
+            if ( state.backtracking==0 ) { condition = new BooleanCondition(LPAREN361); }
+
+            // /root/project/Ceylon.g:2551:7: ( expression )?
+            int alt191=2;
+            int LA191_0 = input.LA(1);
+
+            if ( (LA191_0==CHAR_LITERAL||LA191_0==COMPLEMENT_OP||LA191_0==DECREMENT_OP||LA191_0==DIFFERENCE_OP||(LA191_0 >= EXISTS && LA191_0 <= EXTENDS)||LA191_0==FLOAT_LITERAL||LA191_0==INCREMENT_OP||LA191_0==IS_OP||LA191_0==LBRACE||LA191_0==LIDENTIFIER||LA191_0==LPAREN||(LA191_0 >= NATURAL_LITERAL && LA191_0 <= NONEMPTY)||LA191_0==NOT_OP||LA191_0==OUTER||LA191_0==QUOTED_LITERAL||LA191_0==SATISFIES||LA191_0==STRING_LITERAL||(LA191_0 >= SUM_OP && LA191_0 <= SUPER)||LA191_0==THIS||LA191_0==UIDENTIFIER) ) {
+                alt191=1;
+            }
+            switch (alt191) {
+                case 1 :
+                    // /root/project/Ceylon.g:2551:8: expression
+                    {
+                    pushFollow(FOLLOW_expression_in_booleanCondition14579);
+                    expression362=expression();
+
+                    state._fsp--;
+                    if (state.failed) return condition;
+
+                    if ( state.backtracking==0 ) { condition.setExpression(expression362); }
+
+                    }
+                    break;
+
+            }
+
+
+            RPAREN363=(Token)match(input,RPAREN,FOLLOW_RPAREN_in_booleanCondition14597); if (state.failed) return condition;
+
+            if ( state.backtracking==0 ) { condition.setEndToken(RPAREN363); }
+
+            }
+
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return condition;
+    }
+    // $ANTLR end "booleanCondition"
+
+
+
+    // $ANTLR start "existsCondition"
+    // /root/project/Ceylon.g:2558:1: existsCondition returns [ExistsCondition condition] : ({...}? =>l1= LPAREN e1= EXISTS impliedVariable r1= RPAREN | ( LPAREN EXISTS compilerAnnotations ( declarationStart | specificationStart ) )=>l2= LPAREN e2= EXISTS specifiedVariable r2= RPAREN |l3= LPAREN e3= EXISTS ( expression )? r3= RPAREN );
+    public final ExistsCondition existsCondition() throws RecognitionException {
+        ExistsCondition condition = null;
+
+
+        Token l1=null;
+        Token e1=null;
+        Token r1=null;
+        Token l2=null;
+        Token e2=null;
+        Token r2=null;
+        Token l3=null;
+        Token e3=null;
+        Token r3=null;
+        Variable impliedVariable364 =null;
+
+        Variable specifiedVariable365 =null;
+
+        Expression expression366 =null;
+
+
+        try {
+            // /root/project/Ceylon.g:2559:5: ({...}? =>l1= LPAREN e1= EXISTS impliedVariable r1= RPAREN | ( LPAREN EXISTS compilerAnnotations ( declarationStart | specificationStart ) )=>l2= LPAREN e2= EXISTS specifiedVariable r2= RPAREN |l3= LPAREN e3= EXISTS ( expression )? r3= RPAREN )
+            int alt193=3;
+            int LA193_0 = input.LA(1);
+
+            if ( (LA193_0==LPAREN) ) {
+                int LA193_1 = input.LA(2);
+
+                if ( (( input.LA(3)==LIDENTIFIER && input.LA(4)==RPAREN )) ) {
+                    alt193=1;
+                }
+                else if ( (synpred11_Ceylon()) ) {
+                    alt193=2;
+                }
+                else if ( (true) ) {
+                    alt193=3;
+                }
+                else {
+                    if (state.backtracking>0) {state.failed=true; return condition;}
+                    NoViableAltException nvae =
+                        new NoViableAltException("", 193, 1, input);
+
+                    throw nvae;
+
+                }
+            }
+            else {
+                if (state.backtracking>0) {state.failed=true; return condition;}
+                NoViableAltException nvae =
+                    new NoViableAltException("", 193, 0, input);
+
+                throw nvae;
+
+            }
+            switch (alt193) {
+                case 1 :
+                    // /root/project/Ceylon.g:2559:7: {...}? =>l1= LPAREN e1= EXISTS impliedVariable r1= RPAREN
+                    {
+                    if ( !(( input.LA(3)==LIDENTIFIER && input.LA(4)==RPAREN )) ) {
+                        if (state.backtracking>0) {state.failed=true; return condition;}
+                        throw new FailedPredicateException(input, "existsCondition", " input.LA(3)==LIDENTIFIER && input.LA(4)==RPAREN ");
+                    }
+
+                    l1=(Token)match(input,LPAREN,FOLLOW_LPAREN_in_existsCondition14647); if (state.failed) return condition;
+
+                    if ( state.backtracking==0 ) { condition = new ExistsCondition(l1); }
+
+                    e1=(Token)match(input,EXISTS,FOLLOW_EXISTS_in_existsCondition14666); if (state.failed) return condition;
+
+                    pushFollow(FOLLOW_impliedVariable_in_existsCondition14668);
+                    impliedVariable364=impliedVariable();
+
+                    state._fsp--;
+                    if (state.failed) return condition;
+
+                    if ( state.backtracking==0 ) { condition.setVariable(impliedVariable364); }
+
+                    r1=(Token)match(input,RPAREN,FOLLOW_RPAREN_in_existsCondition14686); if (state.failed) return condition;
+
+                    if ( state.backtracking==0 ) { condition.setEndToken(r1); }
+
+                    }
+                    break;
+                case 2 :
+                    // /root/project/Ceylon.g:2567:7: ( LPAREN EXISTS compilerAnnotations ( declarationStart | specificationStart ) )=>l2= LPAREN e2= EXISTS specifiedVariable r2= RPAREN
+                    {
+                    l2=(Token)match(input,LPAREN,FOLLOW_LPAREN_in_existsCondition14731); if (state.failed) return condition;
+
+                    if ( state.backtracking==0 ) { condition = new ExistsCondition(l2); }
+
+                    e2=(Token)match(input,EXISTS,FOLLOW_EXISTS_in_existsCondition14750); if (state.failed) return condition;
+
+                    pushFollow(FOLLOW_specifiedVariable_in_existsCondition14759);
+                    specifiedVariable365=specifiedVariable();
+
+                    state._fsp--;
+                    if (state.failed) return condition;
+
+                    if ( state.backtracking==0 ) { condition.setVariable(specifiedVariable365); }
+
+                    r2=(Token)match(input,RPAREN,FOLLOW_RPAREN_in_existsCondition14778); if (state.failed) return condition;
+
+                    if ( state.backtracking==0 ) { condition.setEndToken(r2); }
+
+                    }
+                    break;
+                case 3 :
+                    // /root/project/Ceylon.g:2576:7: l3= LPAREN e3= EXISTS ( expression )? r3= RPAREN
+                    {
+                    l3=(Token)match(input,LPAREN,FOLLOW_LPAREN_in_existsCondition14801); if (state.failed) return condition;
+
+                    if ( state.backtracking==0 ) { condition = new ExistsCondition(l3); }
+
+                    e3=(Token)match(input,EXISTS,FOLLOW_EXISTS_in_existsCondition14819); if (state.failed) return condition;
+
+                    // /root/project/Ceylon.g:2579:7: ( expression )?
+                    int alt192=2;
+                    int LA192_0 = input.LA(1);
+
+                    if ( (LA192_0==CHAR_LITERAL||LA192_0==COMPLEMENT_OP||LA192_0==DECREMENT_OP||LA192_0==DIFFERENCE_OP||(LA192_0 >= EXISTS && LA192_0 <= EXTENDS)||LA192_0==FLOAT_LITERAL||LA192_0==INCREMENT_OP||LA192_0==IS_OP||LA192_0==LBRACE||LA192_0==LIDENTIFIER||LA192_0==LPAREN||(LA192_0 >= NATURAL_LITERAL && LA192_0 <= NONEMPTY)||LA192_0==NOT_OP||LA192_0==OUTER||LA192_0==QUOTED_LITERAL||LA192_0==SATISFIES||LA192_0==STRING_LITERAL||(LA192_0 >= SUM_OP && LA192_0 <= SUPER)||LA192_0==THIS||LA192_0==UIDENTIFIER) ) {
+                        alt192=1;
+                    }
+                    switch (alt192) {
+                        case 1 :
+                            // /root/project/Ceylon.g:2579:8: expression
+                            {
+                            pushFollow(FOLLOW_expression_in_existsCondition14828);
+                            expression366=expression();
+
+                            state._fsp--;
+                            if (state.failed) return condition;
+
+                            if ( state.backtracking==0 ) { condition.setExpression(expression366); }
+
+                            }
+                            break;
+
+                    }
+
+
+                    r3=(Token)match(input,RPAREN,FOLLOW_RPAREN_in_existsCondition14848); if (state.failed) return condition;
+
+                    if ( state.backtracking==0 ) { condition.setEndToken(r3); }
+
+                    }
+                    break;
+
+            }
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return condition;
+    }
+    // $ANTLR end "existsCondition"
+
+
+
+    // $ANTLR start "nonemptyCondition"
+    // /root/project/Ceylon.g:2585:1: nonemptyCondition returns [NonemptyCondition condition] : ({...}? =>l1= LPAREN n1= NONEMPTY impliedVariable r1= RPAREN | ( LPAREN NONEMPTY compilerAnnotations ( declarationStart | specificationStart ) )=>l2= LPAREN n2= NONEMPTY ( specifiedVariable )? r2= RPAREN |l3= LPAREN n3= NONEMPTY ( expression )? r3= RPAREN );
+    public final NonemptyCondition nonemptyCondition() throws RecognitionException {
+        NonemptyCondition condition = null;
+
+
+        Token l1=null;
+        Token n1=null;
+        Token r1=null;
+        Token l2=null;
+        Token n2=null;
+        Token r2=null;
+        Token l3=null;
+        Token n3=null;
+        Token r3=null;
+        Variable impliedVariable367 =null;
+
+        Variable specifiedVariable368 =null;
+
+        Expression expression369 =null;
+
+
+        try {
+            // /root/project/Ceylon.g:2586:5: ({...}? =>l1= LPAREN n1= NONEMPTY impliedVariable r1= RPAREN | ( LPAREN NONEMPTY compilerAnnotations ( declarationStart | specificationStart ) )=>l2= LPAREN n2= NONEMPTY ( specifiedVariable )? r2= RPAREN |l3= LPAREN n3= NONEMPTY ( expression )? r3= RPAREN )
+            int alt196=3;
+            int LA196_0 = input.LA(1);
+
+            if ( (LA196_0==LPAREN) ) {
+                int LA196_1 = input.LA(2);
+
+                if ( (( input.LA(3)==LIDENTIFIER && input.LA(4)==RPAREN )) ) {
+                    alt196=1;
+                }
+                else if ( (synpred12_Ceylon()) ) {
+                    alt196=2;
+                }
+                else if ( (true) ) {
+                    alt196=3;
+                }
+                else {
+                    if (state.backtracking>0) {state.failed=true; return condition;}
+                    NoViableAltException nvae =
+                        new NoViableAltException("", 196, 1, input);
+
+                    throw nvae;
+
+                }
+            }
+            else {
+                if (state.backtracking>0) {state.failed=true; return condition;}
+                NoViableAltException nvae =
+                    new NoViableAltException("", 196, 0, input);
+
+                throw nvae;
+
+            }
+            switch (alt196) {
+                case 1 :
+                    // /root/project/Ceylon.g:2586:7: {...}? =>l1= LPAREN n1= NONEMPTY impliedVariable r1= RPAREN
+                    {
+                    if ( !(( input.LA(3)==LIDENTIFIER && input.LA(4)==RPAREN )) ) {
+                        if (state.backtracking>0) {state.failed=true; return condition;}
+                        throw new FailedPredicateException(input, "nonemptyCondition", " input.LA(3)==LIDENTIFIER && input.LA(4)==RPAREN ");
+                    }
+
+                    l1=(Token)match(input,LPAREN,FOLLOW_LPAREN_in_nonemptyCondition14893); if (state.failed) return condition;
+
+                    if ( state.backtracking==0 ) { condition = new NonemptyCondition(l1); }
+
+                    n1=(Token)match(input,NONEMPTY,FOLLOW_NONEMPTY_in_nonemptyCondition14912); if (state.failed) return condition;
+
+                    pushFollow(FOLLOW_impliedVariable_in_nonemptyCondition14914);
+                    impliedVariable367=impliedVariable();
+
+                    state._fsp--;
+                    if (state.failed) return condition;
+
+                    if ( state.backtracking==0 ) { condition.setVariable(impliedVariable367); }
+
+                    r1=(Token)match(input,RPAREN,FOLLOW_RPAREN_in_nonemptyCondition14933); if (state.failed) return condition;
+
+                    if ( state.backtracking==0 ) { condition.setEndToken(r1); }
+
+                    }
+                    break;
+                case 2 :
+                    // /root/project/Ceylon.g:2594:7: ( LPAREN NONEMPTY compilerAnnotations ( declarationStart | specificationStart ) )=>l2= LPAREN n2= NONEMPTY ( specifiedVariable )? r2= RPAREN
+                    {
+                    l2=(Token)match(input,LPAREN,FOLLOW_LPAREN_in_nonemptyCondition14978); if (state.failed) return condition;
+
+                    if ( state.backtracking==0 ) { condition = new NonemptyCondition(l2); }
+
+                    n2=(Token)match(input,NONEMPTY,FOLLOW_NONEMPTY_in_nonemptyCondition14997); if (state.failed) return condition;
+
+                    // /root/project/Ceylon.g:2598:7: ( specifiedVariable )?
+                    int alt194=2;
+                    int LA194_0 = input.LA(1);
+
+                    if ( (LA194_0==COMPILER_ANNOTATION||LA194_0==LIDENTIFIER||LA194_0==UIDENTIFIER) ) {
+                        alt194=1;
+                    }
+                    switch (alt194) {
+                        case 1 :
+                            // /root/project/Ceylon.g:2598:8: specifiedVariable
+                            {
+                            pushFollow(FOLLOW_specifiedVariable_in_nonemptyCondition15007);
+                            specifiedVariable368=specifiedVariable();
+
+                            state._fsp--;
+                            if (state.failed) return condition;
+
+                            if ( state.backtracking==0 ) { condition.setVariable(specifiedVariable368); }
+
+                            }
+                            break;
+
+                    }
+
+
+                    r2=(Token)match(input,RPAREN,FOLLOW_RPAREN_in_nonemptyCondition15028); if (state.failed) return condition;
+
+                    if ( state.backtracking==0 ) { condition.setEndToken(r2); }
+
+                    }
+                    break;
+                case 3 :
+                    // /root/project/Ceylon.g:2603:7: l3= LPAREN n3= NONEMPTY ( expression )? r3= RPAREN
+                    {
+                    l3=(Token)match(input,LPAREN,FOLLOW_LPAREN_in_nonemptyCondition15051); if (state.failed) return condition;
+
+                    if ( state.backtracking==0 ) { condition = new NonemptyCondition(l3); }
+
+                    n3=(Token)match(input,NONEMPTY,FOLLOW_NONEMPTY_in_nonemptyCondition15069); if (state.failed) return condition;
+
+                    // /root/project/Ceylon.g:2606:7: ( expression )?
+                    int alt195=2;
+                    int LA195_0 = input.LA(1);
+
+                    if ( (LA195_0==CHAR_LITERAL||LA195_0==COMPLEMENT_OP||LA195_0==DECREMENT_OP||LA195_0==DIFFERENCE_OP||(LA195_0 >= EXISTS && LA195_0 <= EXTENDS)||LA195_0==FLOAT_LITERAL||LA195_0==INCREMENT_OP||LA195_0==IS_OP||LA195_0==LBRACE||LA195_0==LIDENTIFIER||LA195_0==LPAREN||(LA195_0 >= NATURAL_LITERAL && LA195_0 <= NONEMPTY)||LA195_0==NOT_OP||LA195_0==OUTER||LA195_0==QUOTED_LITERAL||LA195_0==SATISFIES||LA195_0==STRING_LITERAL||(LA195_0 >= SUM_OP && LA195_0 <= SUPER)||LA195_0==THIS||LA195_0==UIDENTIFIER) ) {
+                        alt195=1;
+                    }
+                    switch (alt195) {
+                        case 1 :
+                            // /root/project/Ceylon.g:2606:8: expression
+                            {
+                            pushFollow(FOLLOW_expression_in_nonemptyCondition15079);
+                            expression369=expression();
+
+                            state._fsp--;
+                            if (state.failed) return condition;
+
+                            if ( state.backtracking==0 ) { condition.setExpression(expression369); }
+
+                            }
+                            break;
+
+                    }
+
+
+                    r3=(Token)match(input,RPAREN,FOLLOW_RPAREN_in_nonemptyCondition15099); if (state.failed) return condition;
+
+                    if ( state.backtracking==0 ) { condition.setEndToken(r3); }
+
+                    }
+                    break;
+
+            }
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return condition;
+    }
+    // $ANTLR end "nonemptyCondition"
+
+
+
+    // $ANTLR start "isCondition"
+    // /root/project/Ceylon.g:2612:1: isCondition returns [IsCondition condition] : ( ( LPAREN IS_OP type LIDENTIFIER RPAREN )=>l1= LPAREN i1= IS_OP t1= type impliedVariable r1= RPAREN | ( LPAREN IS_OP type LIDENTIFIER SPECIFY )=>l2= LPAREN i2= IS_OP (t2= type memberName specifier )? r2= RPAREN |l3= LPAREN i3= IS_OP t3= abbreviatedType ( expression )? r3= RPAREN );
+    public final IsCondition isCondition() throws RecognitionException {
+        IsCondition condition = null;
+
+
+        Token l1=null;
+        Token i1=null;
+        Token r1=null;
+        Token l2=null;
+        Token i2=null;
+        Token r2=null;
+        Token l3=null;
+        Token i3=null;
+        Token r3=null;
+        StaticType t1 =null;
+
+        StaticType t2 =null;
+
+        StaticType t3 =null;
+
+        Variable impliedVariable370 =null;
+
+        Identifier memberName371 =null;
+
+        SpecifierExpression specifier372 =null;
+
+        Expression expression373 =null;
+
+
+        try {
+            // /root/project/Ceylon.g:2613:5: ( ( LPAREN IS_OP type LIDENTIFIER RPAREN )=>l1= LPAREN i1= IS_OP t1= type impliedVariable r1= RPAREN | ( LPAREN IS_OP type LIDENTIFIER SPECIFY )=>l2= LPAREN i2= IS_OP (t2= type memberName specifier )? r2= RPAREN |l3= LPAREN i3= IS_OP t3= abbreviatedType ( expression )? r3= RPAREN )
+            int alt199=3;
+            int LA199_0 = input.LA(1);
+
+            if ( (LA199_0==LPAREN) ) {
+                int LA199_1 = input.LA(2);
+
+                if ( (synpred13_Ceylon()) ) {
+                    alt199=1;
+                }
+                else if ( (synpred14_Ceylon()) ) {
+                    alt199=2;
+                }
+                else if ( (true) ) {
+                    alt199=3;
+                }
+                else {
+                    if (state.backtracking>0) {state.failed=true; return condition;}
+                    NoViableAltException nvae =
+                        new NoViableAltException("", 199, 1, input);
+
+                    throw nvae;
+
+                }
+            }
+            else {
+                if (state.backtracking>0) {state.failed=true; return condition;}
+                NoViableAltException nvae =
+                    new NoViableAltException("", 199, 0, input);
+
+                throw nvae;
+
+            }
+            switch (alt199) {
+                case 1 :
+                    // /root/project/Ceylon.g:2613:7: ( LPAREN IS_OP type LIDENTIFIER RPAREN )=>l1= LPAREN i1= IS_OP t1= type impliedVariable r1= RPAREN
+                    {
+                    l1=(Token)match(input,LPAREN,FOLLOW_LPAREN_in_isCondition15151); if (state.failed) return condition;
+
+                    if ( state.backtracking==0 ) { condition = new IsCondition(l1); }
+
+                    i1=(Token)match(input,IS_OP,FOLLOW_IS_OP_in_isCondition15170); if (state.failed) return condition;
+
+                    pushFollow(FOLLOW_type_in_isCondition15174);
+                    t1=type();
+
+                    state._fsp--;
+                    if (state.failed) return condition;
+
+                    pushFollow(FOLLOW_impliedVariable_in_isCondition15176);
+                    impliedVariable370=impliedVariable();
+
+                    state._fsp--;
+                    if (state.failed) return condition;
+
+                    if ( state.backtracking==0 ) { condition.setType(t1);
+                            condition.setVariable(impliedVariable370); }
+
+                    r1=(Token)match(input,RPAREN,FOLLOW_RPAREN_in_isCondition15195); if (state.failed) return condition;
+
+                    if ( state.backtracking==0 ) { condition.setEndToken(r1); }
+
+                    }
+                    break;
+                case 2 :
+                    // /root/project/Ceylon.g:2622:7: ( LPAREN IS_OP type LIDENTIFIER SPECIFY )=>l2= LPAREN i2= IS_OP (t2= type memberName specifier )? r2= RPAREN
+                    {
+                    l2=(Token)match(input,LPAREN,FOLLOW_LPAREN_in_isCondition15238); if (state.failed) return condition;
+
+                    if ( state.backtracking==0 ) { condition = new IsCondition(l2); }
+
+                    i2=(Token)match(input,IS_OP,FOLLOW_IS_OP_in_isCondition15256); if (state.failed) return condition;
+
+                    // /root/project/Ceylon.g:2626:7: (t2= type memberName specifier )?
+                    int alt197=2;
+                    int LA197_0 = input.LA(1);
+
+                    if ( (LA197_0==UIDENTIFIER) ) {
+                        alt197=1;
+                    }
+                    switch (alt197) {
+                        case 1 :
+                            // /root/project/Ceylon.g:2626:9: t2= type memberName specifier
+                            {
+                            pushFollow(FOLLOW_type_in_isCondition15269);
+                            t2=type();
+
+                            state._fsp--;
+                            if (state.failed) return condition;
+
+                            if ( state.backtracking==0 ) { condition.setType(t2);
+                                    Variable v = new Variable(null);
+                                    v.setType(t2); 
+                                    condition.setVariable(v); }
+
+                            pushFollow(FOLLOW_memberName_in_isCondition15285);
+                            memberName371=memberName();
+
+                            state._fsp--;
+                            if (state.failed) return condition;
+
+                            if ( state.backtracking==0 ) { condition.getVariable().setIdentifier(memberName371); }
+
+                            pushFollow(FOLLOW_specifier_in_isCondition15301);
+                            specifier372=specifier();
+
+                            state._fsp--;
+                            if (state.failed) return condition;
+
+                            if ( state.backtracking==0 ) { condition.getVariable().setSpecifierExpression(specifier372); }
+
+                            }
+                            break;
+
+                    }
+
+
+                    r2=(Token)match(input,RPAREN,FOLLOW_RPAREN_in_isCondition15321); if (state.failed) return condition;
+
+                    if ( state.backtracking==0 ) { condition.setEndToken(r2); }
+
+                    }
+                    break;
+                case 3 :
+                    // /root/project/Ceylon.g:2638:7: l3= LPAREN i3= IS_OP t3= abbreviatedType ( expression )? r3= RPAREN
+                    {
+                    l3=(Token)match(input,LPAREN,FOLLOW_LPAREN_in_isCondition15344); if (state.failed) return condition;
+
+                    if ( state.backtracking==0 ) { condition = new IsCondition(l3); }
+
+                    i3=(Token)match(input,IS_OP,FOLLOW_IS_OP_in_isCondition15362); if (state.failed) return condition;
+
+                    pushFollow(FOLLOW_abbreviatedType_in_isCondition15373);
+                    t3=abbreviatedType();
+
+                    state._fsp--;
+                    if (state.failed) return condition;
+
+                    if ( state.backtracking==0 ) { condition.setType(t3); }
+
+                    // /root/project/Ceylon.g:2643:7: ( expression )?
+                    int alt198=2;
+                    int LA198_0 = input.LA(1);
+
+                    if ( (LA198_0==CHAR_LITERAL||LA198_0==COMPLEMENT_OP||LA198_0==DECREMENT_OP||LA198_0==DIFFERENCE_OP||(LA198_0 >= EXISTS && LA198_0 <= EXTENDS)||LA198_0==FLOAT_LITERAL||LA198_0==INCREMENT_OP||LA198_0==IS_OP||LA198_0==LBRACE||LA198_0==LIDENTIFIER||LA198_0==LPAREN||(LA198_0 >= NATURAL_LITERAL && LA198_0 <= NONEMPTY)||LA198_0==NOT_OP||LA198_0==OUTER||LA198_0==QUOTED_LITERAL||LA198_0==SATISFIES||LA198_0==STRING_LITERAL||(LA198_0 >= SUM_OP && LA198_0 <= SUPER)||LA198_0==THIS||LA198_0==UIDENTIFIER) ) {
+                        alt198=1;
+                    }
+                    switch (alt198) {
+                        case 1 :
+                            // /root/project/Ceylon.g:2643:9: expression
+                            {
+                            pushFollow(FOLLOW_expression_in_isCondition15391);
+                            expression373=expression();
+
+                            state._fsp--;
+                            if (state.failed) return condition;
+
+                            if ( state.backtracking==0 ) { condition.setExpression(expression373); }
+
+                            }
+                            break;
+
+                    }
+
+
+                    r3=(Token)match(input,RPAREN,FOLLOW_RPAREN_in_isCondition15411); if (state.failed) return condition;
+
+                    if ( state.backtracking==0 ) { condition.setEndToken(r3); }
+
+                    }
+                    break;
+
+            }
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return condition;
+    }
+    // $ANTLR end "isCondition"
+
+
+
+    // $ANTLR start "satisfiesCondition"
+    // /root/project/Ceylon.g:2649:1: satisfiesCondition returns [SatisfiesCondition condition] : LPAREN SATISFIES (t1= qualifiedType t2= qualifiedType )? RPAREN ;
+    public final SatisfiesCondition satisfiesCondition() throws RecognitionException {
+        SatisfiesCondition condition = null;
+
+
+        Token LPAREN374=null;
+        Token RPAREN375=null;
+        SimpleType t1 =null;
+
+        SimpleType t2 =null;
+
+
+        try {
+            // /root/project/Ceylon.g:2650:5: ( LPAREN SATISFIES (t1= qualifiedType t2= qualifiedType )? RPAREN )
+            // /root/project/Ceylon.g:2650:7: LPAREN SATISFIES (t1= qualifiedType t2= qualifiedType )? RPAREN
+            {
+            LPAREN374=(Token)match(input,LPAREN,FOLLOW_LPAREN_in_satisfiesCondition15440); if (state.failed) return condition;
+
+            if ( state.backtracking==0 ) { condition = new SatisfiesCondition(LPAREN374); }
+
+            match(input,SATISFIES,FOLLOW_SATISFIES_in_satisfiesCondition15457); if (state.failed) return condition;
+
+            // /root/project/Ceylon.g:2653:7: (t1= qualifiedType t2= qualifiedType )?
+            int alt200=2;
+            int LA200_0 = input.LA(1);
+
+            if ( (LA200_0==UIDENTIFIER) ) {
+                alt200=1;
+            }
+            switch (alt200) {
+                case 1 :
+                    // /root/project/Ceylon.g:2653:8: t1= qualifiedType t2= qualifiedType
+                    {
+                    pushFollow(FOLLOW_qualifiedType_in_satisfiesCondition15469);
+                    t1=qualifiedType();
+
+                    state._fsp--;
+                    if (state.failed) return condition;
+
+                    if ( state.backtracking==0 ) { condition.setLeftType(t1); }
+
+                    pushFollow(FOLLOW_qualifiedType_in_satisfiesCondition15488);
+                    t2=qualifiedType();
+
+                    state._fsp--;
+                    if (state.failed) return condition;
+
+                    if ( state.backtracking==0 ) { condition.setRightType(t2); }
+
+                    }
+                    break;
+
+            }
+
+
+            RPAREN375=(Token)match(input,RPAREN,FOLLOW_RPAREN_in_satisfiesCondition15507); if (state.failed) return condition;
+
+            if ( state.backtracking==0 ) { condition.setEndToken(RPAREN375); }
+
+            }
+
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return condition;
+    }
+    // $ANTLR end "satisfiesCondition"
+
+
+
+    // $ANTLR start "controlStatement"
+    // /root/project/Ceylon.g:2662:1: controlStatement returns [ControlStatement controlStatement] : ( ifElse | switchCaseElse | whileLoop | forElse | tryCatchFinally );
+    public final ControlStatement controlStatement() throws RecognitionException {
+        ControlStatement controlStatement = null;
+
+
+        IfStatement ifElse376 =null;
+
+        SwitchStatement switchCaseElse377 =null;
+
+        WhileStatement whileLoop378 =null;
+
+        ForStatement forElse379 =null;
+
+        TryCatchStatement tryCatchFinally380 =null;
+
+
+        try {
+            // /root/project/Ceylon.g:2663:5: ( ifElse | switchCaseElse | whileLoop | forElse | tryCatchFinally )
+            int alt201=5;
+            switch ( input.LA(1) ) {
+            case IF_CLAUSE:
+                {
+                alt201=1;
+                }
+                break;
+            case SWITCH_CLAUSE:
+                {
+                alt201=2;
+                }
+                break;
+            case WHILE_CLAUSE:
+                {
+                alt201=3;
+                }
+                break;
+            case FOR_CLAUSE:
+                {
+                alt201=4;
+                }
+                break;
+            case TRY_CLAUSE:
+                {
+                alt201=5;
+                }
+                break;
+            default:
+                if (state.backtracking>0) {state.failed=true; return controlStatement;}
+                NoViableAltException nvae =
+                    new NoViableAltException("", 201, 0, input);
+
+                throw nvae;
+
+            }
+
+            switch (alt201) {
+                case 1 :
+                    // /root/project/Ceylon.g:2663:7: ifElse
+                    {
+                    pushFollow(FOLLOW_ifElse_in_controlStatement15541);
+                    ifElse376=ifElse();
+
+                    state._fsp--;
+                    if (state.failed) return controlStatement;
+
+                    if ( state.backtracking==0 ) { controlStatement =ifElse376; }
+
+                    }
+                    break;
+                case 2 :
+                    // /root/project/Ceylon.g:2665:7: switchCaseElse
+                    {
+                    pushFollow(FOLLOW_switchCaseElse_in_controlStatement15558);
+                    switchCaseElse377=switchCaseElse();
+
+                    state._fsp--;
+                    if (state.failed) return controlStatement;
+
+                    if ( state.backtracking==0 ) { controlStatement =switchCaseElse377; }
+
+                    }
+                    break;
+                case 3 :
+                    // /root/project/Ceylon.g:2667:7: whileLoop
+                    {
+                    pushFollow(FOLLOW_whileLoop_in_controlStatement15575);
+                    whileLoop378=whileLoop();
+
+                    state._fsp--;
+                    if (state.failed) return controlStatement;
+
+                    if ( state.backtracking==0 ) { controlStatement =whileLoop378; }
+
+                    }
+                    break;
+                case 4 :
+                    // /root/project/Ceylon.g:2669:7: forElse
+                    {
+                    pushFollow(FOLLOW_forElse_in_controlStatement15592);
+                    forElse379=forElse();
+
+                    state._fsp--;
+                    if (state.failed) return controlStatement;
+
+                    if ( state.backtracking==0 ) { controlStatement =forElse379; }
+
+                    }
+                    break;
+                case 5 :
+                    // /root/project/Ceylon.g:2671:7: tryCatchFinally
+                    {
+                    pushFollow(FOLLOW_tryCatchFinally_in_controlStatement15609);
+                    tryCatchFinally380=tryCatchFinally();
+
+                    state._fsp--;
+                    if (state.failed) return controlStatement;
+
+                    if ( state.backtracking==0 ) { controlStatement =tryCatchFinally380; }
+
+                    }
+                    break;
+
+            }
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return controlStatement;
+    }
+    // $ANTLR end "controlStatement"
+
+
+
+    // $ANTLR start "controlBlock"
+    // /root/project/Ceylon.g:2675:1: controlBlock returns [Block block] : ({...}? =>b= block |) ;
+    public final Block controlBlock() throws RecognitionException {
+        Block block = null;
+
+
+        Block b =null;
+
+
+        try {
+            // /root/project/Ceylon.g:2676:5: ( ({...}? =>b= block |) )
+            // /root/project/Ceylon.g:2676:7: ({...}? =>b= block |)
+            {
+            // /root/project/Ceylon.g:2676:7: ({...}? =>b= block |)
+            int alt202=2;
+            int LA202_0 = input.LA(1);
+
+            if ( (LA202_0==LBRACE) ) {
+                int LA202_1 = input.LA(2);
+
+                if ( (( input.LA(1)==LBRACE )) ) {
+                    alt202=1;
+                }
+                else if ( (true) ) {
+                    alt202=2;
+                }
+                else {
+                    if (state.backtracking>0) {state.failed=true; return block;}
+                    NoViableAltException nvae =
+                        new NoViableAltException("", 202, 1, input);
+
+                    throw nvae;
+
+                }
+            }
+            else if ( (LA202_0==ASSIGN||LA202_0==BREAK||(LA202_0 >= CATCH_CLAUSE && LA202_0 <= CLASS_DEFINITION)||LA202_0==COMPILER_ANNOTATION||(LA202_0 >= COMPLEMENT_OP && LA202_0 <= DECREMENT_OP)||LA202_0==DIFFERENCE_OP||LA202_0==ELSE_CLAUSE||(LA202_0 >= EXISTS && LA202_0 <= EXTENDS)||(LA202_0 >= FINALLY_CLAUSE && LA202_0 <= FUNCTION_MODIFIER)||LA202_0==IF_CLAUSE||LA202_0==INCREMENT_OP||LA202_0==INTERFACE_DEFINITION||LA202_0==IS_OP||LA202_0==LIDENTIFIER||LA202_0==LPAREN||(LA202_0 >= NATURAL_LITERAL && LA202_0 <= NONEMPTY)||LA202_0==NOT_OP||LA202_0==OBJECT_DEFINITION||LA202_0==OUTER||LA202_0==QUOTED_LITERAL||LA202_0==RBRACE||LA202_0==RETURN||LA202_0==SATISFIES||LA202_0==STRING_LITERAL||(LA202_0 >= SUM_OP && LA202_0 <= SWITCH_CLAUSE)||(LA202_0 >= THIS && LA202_0 <= TRY_CLAUSE)||LA202_0==UIDENTIFIER||(LA202_0 >= VALUE_MODIFIER && LA202_0 <= WHILE_CLAUSE)) ) {
+                alt202=2;
+            }
+            else {
+                if (state.backtracking>0) {state.failed=true; return block;}
+                NoViableAltException nvae =
+                    new NoViableAltException("", 202, 0, input);
+
+                throw nvae;
+
+            }
+            switch (alt202) {
+                case 1 :
+                    // /root/project/Ceylon.g:2676:9: {...}? =>b= block
+                    {
+                    if ( !(( input.LA(1)==LBRACE )) ) {
+                        if (state.backtracking>0) {state.failed=true; return block;}
+                        throw new FailedPredicateException(input, "controlBlock", " input.LA(1)==LBRACE ");
+                    }
+
+                    pushFollow(FOLLOW_block_in_controlBlock15645);
+                    b=block();
+
+                    state._fsp--;
+                    if (state.failed) return block;
+
+                    if ( state.backtracking==0 ) { block =b; }
+
+                    }
+                    break;
+                case 2 :
+                    // /root/project/Ceylon.g:2678:9: 
+                    {
+                    if ( state.backtracking==0 ) { displayRecognitionError(getTokenNames(), 
+                                    new MismatchedTokenException(LBRACE, input)); }
+
+                    }
+                    break;
+
+            }
+
+
+            }
+
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return block;
+    }
+    // $ANTLR end "controlBlock"
+
+
+
+    // $ANTLR start "ifElse"
+    // /root/project/Ceylon.g:2683:1: ifElse returns [IfStatement statement] : ifBlock ( elseBlock )? ;
+    public final IfStatement ifElse() throws RecognitionException {
+        IfStatement statement = null;
+
+
+        IfClause ifBlock381 =null;
+
+        ElseClause elseBlock382 =null;
+
+
+        try {
+            // /root/project/Ceylon.g:2684:5: ( ifBlock ( elseBlock )? )
+            // /root/project/Ceylon.g:2684:7: ifBlock ( elseBlock )?
+            {
+            if ( state.backtracking==0 ) { statement =new IfStatement(null); }
+
+            pushFollow(FOLLOW_ifBlock_in_ifElse15702);
+            ifBlock381=ifBlock();
+
+            state._fsp--;
+            if (state.failed) return statement;
+
+            if ( state.backtracking==0 ) { statement.setIfClause(ifBlock381); }
+
+            // /root/project/Ceylon.g:2687:7: ( elseBlock )?
+            int alt203=2;
+            int LA203_0 = input.LA(1);
+
+            if ( (LA203_0==ELSE_CLAUSE) ) {
+                alt203=1;
+            }
+            switch (alt203) {
+                case 1 :
+                    // /root/project/Ceylon.g:2688:9: elseBlock
+                    {
+                    pushFollow(FOLLOW_elseBlock_in_ifElse15730);
+                    elseBlock382=elseBlock();
+
+                    state._fsp--;
+                    if (state.failed) return statement;
+
+                    if ( state.backtracking==0 ) { statement.setElseClause(elseBlock382); }
+
+                    }
+                    break;
+
+            }
+
+
+            }
+
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return statement;
+    }
+    // $ANTLR end "ifElse"
+
+
+
+    // $ANTLR start "ifBlock"
+    // /root/project/Ceylon.g:2694:1: ifBlock returns [IfClause clause] : IF_CLAUSE condition controlBlock ;
+    public final IfClause ifBlock() throws RecognitionException {
+        IfClause clause = null;
+
+
+        Token IF_CLAUSE383=null;
+        Condition condition384 =null;
+
+        Block controlBlock385 =null;
+
+
+        try {
+            // /root/project/Ceylon.g:2695:5: ( IF_CLAUSE condition controlBlock )
+            // /root/project/Ceylon.g:2695:7: IF_CLAUSE condition controlBlock
+            {
+            IF_CLAUSE383=(Token)match(input,IF_CLAUSE,FOLLOW_IF_CLAUSE_in_ifBlock15775); if (state.failed) return clause;
+
+            if ( state.backtracking==0 ) { clause = new IfClause(IF_CLAUSE383); }
+
+            pushFollow(FOLLOW_condition_in_ifBlock15792);
+            condition384=condition();
+
+            state._fsp--;
+            if (state.failed) return clause;
+
+            if ( state.backtracking==0 ) { clause.setCondition(condition384); }
+
+            pushFollow(FOLLOW_controlBlock_in_ifBlock15808);
+            controlBlock385=controlBlock();
+
+            state._fsp--;
+            if (state.failed) return clause;
+
+            if ( state.backtracking==0 ) { clause.setBlock(controlBlock385); }
+
+            }
+
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return clause;
+    }
+    // $ANTLR end "ifBlock"
+
+
+
+    // $ANTLR start "elseBlock"
+    // /root/project/Ceylon.g:2703:1: elseBlock returns [ElseClause clause] : ELSE_CLAUSE ( elseIf | block ) ;
+    public final ElseClause elseBlock() throws RecognitionException {
+        ElseClause clause = null;
+
+
+        Token ELSE_CLAUSE386=null;
+        Block elseIf387 =null;
+
+        Block block388 =null;
+
+
+        try {
+            // /root/project/Ceylon.g:2704:5: ( ELSE_CLAUSE ( elseIf | block ) )
+            // /root/project/Ceylon.g:2704:7: ELSE_CLAUSE ( elseIf | block )
+            {
+            ELSE_CLAUSE386=(Token)match(input,ELSE_CLAUSE,FOLLOW_ELSE_CLAUSE_in_elseBlock15837); if (state.failed) return clause;
+
+            if ( state.backtracking==0 ) { clause = new ElseClause(ELSE_CLAUSE386); }
+
+            // /root/project/Ceylon.g:2706:7: ( elseIf | block )
+            int alt204=2;
+            int LA204_0 = input.LA(1);
+
+            if ( (LA204_0==IF_CLAUSE) ) {
+                alt204=1;
+            }
+            else if ( (LA204_0==LBRACE) ) {
+                alt204=2;
+            }
+            else {
+                if (state.backtracking>0) {state.failed=true; return clause;}
+                NoViableAltException nvae =
+                    new NoViableAltException("", 204, 0, input);
+
+                throw nvae;
+
+            }
+            switch (alt204) {
+                case 1 :
+                    // /root/project/Ceylon.g:2707:9: elseIf
+                    {
+                    pushFollow(FOLLOW_elseIf_in_elseBlock15864);
+                    elseIf387=elseIf();
+
+                    state._fsp--;
+                    if (state.failed) return clause;
+
+                    if ( state.backtracking==0 ) { clause.setBlock(elseIf387); }
+
+                    }
+                    break;
+                case 2 :
+                    // /root/project/Ceylon.g:2710:9: block
+                    {
+                    pushFollow(FOLLOW_block_in_elseBlock15894);
+                    block388=block();
+
+                    state._fsp--;
+                    if (state.failed) return clause;
+
+                    if ( state.backtracking==0 ) { clause.setBlock(block388); }
+
+                    }
+                    break;
+
+            }
+
+
+            }
+
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return clause;
+    }
+    // $ANTLR end "elseBlock"
+
+
+
+    // $ANTLR start "elseIf"
+    // /root/project/Ceylon.g:2715:1: elseIf returns [Block block] : ifElse ;
+    public final Block elseIf() throws RecognitionException {
+        Block block = null;
+
+
+        IfStatement ifElse389 =null;
+
+
+        try {
+            // /root/project/Ceylon.g:2716:5: ( ifElse )
+            // /root/project/Ceylon.g:2716:7: ifElse
+            {
+            pushFollow(FOLLOW_ifElse_in_elseIf15933);
+            ifElse389=ifElse();
+
+            state._fsp--;
+            if (state.failed) return block;
+
+            if ( state.backtracking==0 ) { block = new Block(null);
+                    block.addStatement(ifElse389); }
+
+            }
+
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return block;
+    }
+    // $ANTLR end "elseIf"
+
+
+
+    // $ANTLR start "switchCaseElse"
+    // /root/project/Ceylon.g:2722:1: switchCaseElse returns [SwitchStatement statement] : switchHeader cases ;
+    public final SwitchStatement switchCaseElse() throws RecognitionException {
+        SwitchStatement statement = null;
+
+
+        SwitchClause switchHeader390 =null;
+
+        SwitchCaseList cases391 =null;
+
+
+        try {
+            // /root/project/Ceylon.g:2723:5: ( switchHeader cases )
+            // /root/project/Ceylon.g:2723:7: switchHeader cases
+            {
+            if ( state.backtracking==0 ) { statement = new SwitchStatement(null); }
+
+            pushFollow(FOLLOW_switchHeader_in_switchCaseElse15975);
+            switchHeader390=switchHeader();
+
+            state._fsp--;
+            if (state.failed) return statement;
+
+            if ( state.backtracking==0 ) { statement.setSwitchClause(switchHeader390); }
+
+            pushFollow(FOLLOW_cases_in_switchCaseElse15992);
+            cases391=cases();
+
+            state._fsp--;
+            if (state.failed) return statement;
+
+            if ( state.backtracking==0 ) { statement.setSwitchCaseList(cases391);
+                    Expression ex = switchHeader390.getExpression();
+                    if (ex!=null && ex.getTerm() instanceof BaseMemberExpression) {
+                      Identifier id = ((BaseMemberExpression) ex.getTerm()).getIdentifier();
+                      for (CaseClause cc: cases391.getCaseClauses()) {
+                        CaseItem item = cc.getCaseItem();
+                        if (item instanceof IsCase) {
+                          IsCase ic = (IsCase) item;
+                          Variable v = new Variable(null);
+                          v.setType(new SyntheticVariable(null));
+                          v.setIdentifier(id);
+                          SpecifierExpression se = new SpecifierExpression(null);
+                          Expression e = new Expression(null);
+                          BaseMemberExpression bme = new BaseMemberExpression(null);
+                          bme.setIdentifier(id);
+                          bme.setTypeArguments( new InferredTypeArguments(null) );
+                          e.setTerm(bme);
+                          se.setExpression(e);
+                          v.setSpecifierExpression(se);
+                          ic.setVariable(v);
+                        }
+                      } 
+                    } 
+                  }
+
+            }
+
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return statement;
+    }
+    // $ANTLR end "switchCaseElse"
+
+
+
+    // $ANTLR start "switchHeader"
+    // /root/project/Ceylon.g:2754:1: switchHeader returns [SwitchClause clause] : SWITCH_CLAUSE LPAREN expression RPAREN ;
+    public final SwitchClause switchHeader() throws RecognitionException {
+        SwitchClause clause = null;
+
+
+        Token SWITCH_CLAUSE392=null;
+        Expression expression393 =null;
+
+
+        try {
+            // /root/project/Ceylon.g:2755:5: ( SWITCH_CLAUSE LPAREN expression RPAREN )
+            // /root/project/Ceylon.g:2755:7: SWITCH_CLAUSE LPAREN expression RPAREN
+            {
+            SWITCH_CLAUSE392=(Token)match(input,SWITCH_CLAUSE,FOLLOW_SWITCH_CLAUSE_in_switchHeader16026); if (state.failed) return clause;
+
+            if ( state.backtracking==0 ) { clause = new SwitchClause(SWITCH_CLAUSE392); }
+
+            match(input,LPAREN,FOLLOW_LPAREN_in_switchHeader16043); if (state.failed) return clause;
+
+            pushFollow(FOLLOW_expression_in_switchHeader16052);
+            expression393=expression();
+
+            state._fsp--;
+            if (state.failed) return clause;
+
+            if ( state.backtracking==0 ) { clause.setExpression(expression393); }
+
+            match(input,RPAREN,FOLLOW_RPAREN_in_switchHeader16069); if (state.failed) return clause;
+
+            }
+
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return clause;
+    }
+    // $ANTLR end "switchHeader"
+
+
+
+    // $ANTLR start "cases"
+    // /root/project/Ceylon.g:2763:1: cases returns [SwitchCaseList switchCaseList] : ( caseBlock )+ ( defaultCaseBlock )? ;
+    public final SwitchCaseList cases() throws RecognitionException {
+        SwitchCaseList switchCaseList = null;
+
+
+        CaseClause caseBlock394 =null;
+
+        ElseClause defaultCaseBlock395 =null;
+
+
+        try {
+            // /root/project/Ceylon.g:2764:5: ( ( caseBlock )+ ( defaultCaseBlock )? )
+            // /root/project/Ceylon.g:2764:7: ( caseBlock )+ ( defaultCaseBlock )?
+            {
+            if ( state.backtracking==0 ) { switchCaseList = new SwitchCaseList(null); }
+
+            // /root/project/Ceylon.g:2765:7: ( caseBlock )+
+            int cnt205=0;
+            loop205:
+            do {
+                int alt205=2;
+                int LA205_0 = input.LA(1);
+
+                if ( (LA205_0==CASE_CLAUSE) ) {
+                    alt205=1;
+                }
+
+
+                switch (alt205) {
+            	case 1 :
+            	    // /root/project/Ceylon.g:2766:9: caseBlock
+            	    {
+            	    pushFollow(FOLLOW_caseBlock_in_cases16108);
+            	    caseBlock394=caseBlock();
+
+            	    state._fsp--;
+            	    if (state.failed) return switchCaseList;
+
+            	    if ( state.backtracking==0 ) { switchCaseList.addCaseClause(caseBlock394); }
+
+            	    }
+            	    break;
+
+            	default :
+            	    if ( cnt205 >= 1 ) break loop205;
+            	    if (state.backtracking>0) {state.failed=true; return switchCaseList;}
+                        EarlyExitException eee =
+                            new EarlyExitException(205, input);
+                        throw eee;
+                }
+                cnt205++;
+            } while (true);
+
+
+            // /root/project/Ceylon.g:2769:7: ( defaultCaseBlock )?
+            int alt206=2;
+            int LA206_0 = input.LA(1);
+
+            if ( (LA206_0==ELSE_CLAUSE) ) {
+                alt206=1;
+            }
+            switch (alt206) {
+                case 1 :
+                    // /root/project/Ceylon.g:2770:9: defaultCaseBlock
+                    {
+                    pushFollow(FOLLOW_defaultCaseBlock_in_cases16145);
+                    defaultCaseBlock395=defaultCaseBlock();
+
+                    state._fsp--;
+                    if (state.failed) return switchCaseList;
+
+                    if ( state.backtracking==0 ) { switchCaseList.setElseClause(defaultCaseBlock395); }
+
+                    }
+                    break;
+
+            }
+
+
+            }
+
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return switchCaseList;
+    }
+    // $ANTLR end "cases"
+
+
+
+    // $ANTLR start "caseBlock"
+    // /root/project/Ceylon.g:2776:1: caseBlock returns [CaseClause clause] : CASE_CLAUSE LPAREN caseItem RPAREN block ;
+    public final CaseClause caseBlock() throws RecognitionException {
+        CaseClause clause = null;
+
+
+        Token CASE_CLAUSE396=null;
+        CaseItem caseItem397 =null;
+
+        Block block398 =null;
+
+
+        try {
+            // /root/project/Ceylon.g:2777:5: ( CASE_CLAUSE LPAREN caseItem RPAREN block )
+            // /root/project/Ceylon.g:2777:7: CASE_CLAUSE LPAREN caseItem RPAREN block
+            {
+            CASE_CLAUSE396=(Token)match(input,CASE_CLAUSE,FOLLOW_CASE_CLAUSE_in_caseBlock16194); if (state.failed) return clause;
+
+            if ( state.backtracking==0 ) { clause = new CaseClause(CASE_CLAUSE396); }
+
+            match(input,LPAREN,FOLLOW_LPAREN_in_caseBlock16211); if (state.failed) return clause;
+
+            pushFollow(FOLLOW_caseItem_in_caseBlock16220);
+            caseItem397=caseItem();
+
+            state._fsp--;
+            if (state.failed) return clause;
+
+            if ( state.backtracking==0 ) { clause.setCaseItem(caseItem397); }
+
+            match(input,RPAREN,FOLLOW_RPAREN_in_caseBlock16237); if (state.failed) return clause;
+
+            pushFollow(FOLLOW_block_in_caseBlock16246);
+            block398=block();
+
+            state._fsp--;
+            if (state.failed) return clause;
+
+            if ( state.backtracking==0 ) { clause.setBlock(block398); }
+
+            }
+
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return clause;
+    }
+    // $ANTLR end "caseBlock"
+
+
+
+    // $ANTLR start "defaultCaseBlock"
+    // /root/project/Ceylon.g:2787:1: defaultCaseBlock returns [ElseClause clause] : ELSE_CLAUSE block ;
+    public final ElseClause defaultCaseBlock() throws RecognitionException {
+        ElseClause clause = null;
+
+
+        Token ELSE_CLAUSE399=null;
+        Block block400 =null;
+
+
+        try {
+            // /root/project/Ceylon.g:2788:5: ( ELSE_CLAUSE block )
+            // /root/project/Ceylon.g:2788:7: ELSE_CLAUSE block
+            {
+            ELSE_CLAUSE399=(Token)match(input,ELSE_CLAUSE,FOLLOW_ELSE_CLAUSE_in_defaultCaseBlock16275); if (state.failed) return clause;
+
+            if ( state.backtracking==0 ) { clause = new ElseClause(ELSE_CLAUSE399); }
+
+            pushFollow(FOLLOW_block_in_defaultCaseBlock16292);
+            block400=block();
+
+            state._fsp--;
+            if (state.failed) return clause;
+
+            if ( state.backtracking==0 ) { clause.setBlock(block400); }
+
+            }
+
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return clause;
+    }
+    // $ANTLR end "defaultCaseBlock"
+
+
+
+    // $ANTLR start "caseItem"
+    // /root/project/Ceylon.g:2794:1: caseItem returns [CaseItem item] : ( ( IS_OP )=> isCaseCondition | ( SATISFIES )=> satisfiesCaseCondition | matchCaseCondition );
+    public final CaseItem caseItem() throws RecognitionException {
+        CaseItem item = null;
+
+
+        IsCase isCaseCondition401 =null;
+
+        SatisfiesCase satisfiesCaseCondition402 =null;
+
+        MatchCase matchCaseCondition403 =null;
+
+
+        try {
+            // /root/project/Ceylon.g:2795:5: ( ( IS_OP )=> isCaseCondition | ( SATISFIES )=> satisfiesCaseCondition | matchCaseCondition )
+            int alt207=3;
+            switch ( input.LA(1) ) {
+            case IS_OP:
+                {
+                int LA207_1 = input.LA(2);
+
+                if ( (synpred15_Ceylon()) ) {
+                    alt207=1;
+                }
+                else if ( (true) ) {
+                    alt207=3;
+                }
+                else {
+                    if (state.backtracking>0) {state.failed=true; return item;}
+                    NoViableAltException nvae =
+                        new NoViableAltException("", 207, 1, input);
+
+                    throw nvae;
+
+                }
+                }
+                break;
+            case SATISFIES:
+                {
+                int LA207_2 = input.LA(2);
+
+                if ( (synpred16_Ceylon()) ) {
+                    alt207=2;
+                }
+                else if ( (true) ) {
+                    alt207=3;
+                }
+                else {
+                    if (state.backtracking>0) {state.failed=true; return item;}
+                    NoViableAltException nvae =
+                        new NoViableAltException("", 207, 2, input);
+
+                    throw nvae;
+
+                }
+                }
+                break;
+            case CHAR_LITERAL:
+            case COMPLEMENT_OP:
+            case DECREMENT_OP:
+            case DIFFERENCE_OP:
+            case EXISTS:
+            case EXTENDS:
+            case FLOAT_LITERAL:
+            case INCREMENT_OP:
+            case LBRACE:
+            case LIDENTIFIER:
+            case LPAREN:
+            case NATURAL_LITERAL:
+            case NONEMPTY:
+            case NOT_OP:
+            case OUTER:
+            case QUOTED_LITERAL:
+            case STRING_LITERAL:
+            case SUM_OP:
+            case SUPER:
+            case THIS:
+            case UIDENTIFIER:
+                {
+                alt207=3;
+                }
+                break;
+            default:
+                if (state.backtracking>0) {state.failed=true; return item;}
+                NoViableAltException nvae =
+                    new NoViableAltException("", 207, 0, input);
+
+                throw nvae;
+
+            }
+
+            switch (alt207) {
+                case 1 :
+                    // /root/project/Ceylon.g:2795:7: ( IS_OP )=> isCaseCondition
+                    {
+                    pushFollow(FOLLOW_isCaseCondition_in_caseItem16325);
+                    isCaseCondition401=isCaseCondition();
+
+                    state._fsp--;
+                    if (state.failed) return item;
+
+                    if ( state.backtracking==0 ) { item =isCaseCondition401; }
+
+                    }
+                    break;
+                case 2 :
+                    // /root/project/Ceylon.g:2797:7: ( SATISFIES )=> satisfiesCaseCondition
+                    {
+                    pushFollow(FOLLOW_satisfiesCaseCondition_in_caseItem16346);
+                    satisfiesCaseCondition402=satisfiesCaseCondition();
+
+                    state._fsp--;
+                    if (state.failed) return item;
+
+                    if ( state.backtracking==0 ) { item =satisfiesCaseCondition402; }
+
+                    }
+                    break;
+                case 3 :
+                    // /root/project/Ceylon.g:2799:7: matchCaseCondition
+                    {
+                    pushFollow(FOLLOW_matchCaseCondition_in_caseItem16362);
+                    matchCaseCondition403=matchCaseCondition();
+
+                    state._fsp--;
+                    if (state.failed) return item;
+
+                    if ( state.backtracking==0 ) { item =matchCaseCondition403; }
+
+                    }
+                    break;
+
+            }
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return item;
+    }
+    // $ANTLR end "caseItem"
+
+
+
+    // $ANTLR start "matchCaseCondition"
+    // /root/project/Ceylon.g:2803:1: matchCaseCondition returns [MatchCase item] : expressions ;
+    public final MatchCase matchCaseCondition() throws RecognitionException {
+        MatchCase item = null;
+
+
+        ExpressionList expressions404 =null;
+
+
+        try {
+            // /root/project/Ceylon.g:2804:5: ( expressions )
+            // /root/project/Ceylon.g:2804:7: expressions
+            {
+            pushFollow(FOLLOW_expressions_in_matchCaseCondition16391);
+            expressions404=expressions();
+
+            state._fsp--;
+            if (state.failed) return item;
+
+            if ( state.backtracking==0 ) { item = new MatchCase(null);
+                    item.setExpressionList(expressions404); }
+
+            }
+
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return item;
+    }
+    // $ANTLR end "matchCaseCondition"
+
+
+
+    // $ANTLR start "isCaseCondition"
+    // /root/project/Ceylon.g:2810:1: isCaseCondition returns [IsCase item] : IS_OP type ;
+    public final IsCase isCaseCondition() throws RecognitionException {
+        IsCase item = null;
+
+
+        Token IS_OP405=null;
+        StaticType type406 =null;
+
+
+        try {
+            // /root/project/Ceylon.g:2811:5: ( IS_OP type )
+            // /root/project/Ceylon.g:2811:7: IS_OP type
+            {
+            IS_OP405=(Token)match(input,IS_OP,FOLLOW_IS_OP_in_isCaseCondition16425); if (state.failed) return item;
+
+            if ( state.backtracking==0 ) { item = new IsCase(IS_OP405); }
+
+            pushFollow(FOLLOW_type_in_isCaseCondition16442);
+            type406=type();
+
+            state._fsp--;
+            if (state.failed) return item;
+
+            if ( state.backtracking==0 ) { item.setType(type406); }
+
+            }
+
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return item;
+    }
+    // $ANTLR end "isCaseCondition"
+
+
+
+    // $ANTLR start "satisfiesCaseCondition"
+    // /root/project/Ceylon.g:2818:1: satisfiesCaseCondition returns [SatisfiesCase item] : SATISFIES qualifiedType ;
+    public final SatisfiesCase satisfiesCaseCondition() throws RecognitionException {
+        SatisfiesCase item = null;
+
+
+        Token SATISFIES407=null;
+        SimpleType qualifiedType408 =null;
+
+
+        try {
+            // /root/project/Ceylon.g:2819:5: ( SATISFIES qualifiedType )
+            // /root/project/Ceylon.g:2819:7: SATISFIES qualifiedType
+            {
+            SATISFIES407=(Token)match(input,SATISFIES,FOLLOW_SATISFIES_in_satisfiesCaseCondition16476); if (state.failed) return item;
+
+            if ( state.backtracking==0 ) { item = new SatisfiesCase(SATISFIES407); }
+
+            pushFollow(FOLLOW_qualifiedType_in_satisfiesCaseCondition16493);
+            qualifiedType408=qualifiedType();
+
+            state._fsp--;
+            if (state.failed) return item;
+
+            if ( state.backtracking==0 ) { item.setType(qualifiedType408); }
+
+            }
+
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return item;
+    }
+    // $ANTLR end "satisfiesCaseCondition"
+
+
+
+    // $ANTLR start "forElse"
+    // /root/project/Ceylon.g:2826:1: forElse returns [ForStatement statement] : forBlock ( failBlock )? ;
+    public final ForStatement forElse() throws RecognitionException {
+        ForStatement statement = null;
+
+
+        ForClause forBlock409 =null;
+
+        ElseClause failBlock410 =null;
+
+
+        try {
+            // /root/project/Ceylon.g:2827:5: ( forBlock ( failBlock )? )
+            // /root/project/Ceylon.g:2827:7: forBlock ( failBlock )?
+            {
+            if ( state.backtracking==0 ) { statement =new ForStatement(null); }
+
+            pushFollow(FOLLOW_forBlock_in_forElse16535);
+            forBlock409=forBlock();
+
+            state._fsp--;
+            if (state.failed) return statement;
+
+            if ( state.backtracking==0 ) { statement.setForClause(forBlock409); }
+
+            // /root/project/Ceylon.g:2830:7: ( failBlock )?
+            int alt208=2;
+            int LA208_0 = input.LA(1);
+
+            if ( (LA208_0==ELSE_CLAUSE) ) {
+                alt208=1;
+            }
+            switch (alt208) {
+                case 1 :
+                    // /root/project/Ceylon.g:2831:9: failBlock
+                    {
+                    pushFollow(FOLLOW_failBlock_in_forElse16562);
+                    failBlock410=failBlock();
+
+                    state._fsp--;
+                    if (state.failed) return statement;
+
+                    if ( state.backtracking==0 ) { statement.setElseClause(failBlock410); }
+
+                    }
+                    break;
+
+            }
+
+
+            }
+
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return statement;
+    }
+    // $ANTLR end "forElse"
+
+
+
+    // $ANTLR start "forBlock"
+    // /root/project/Ceylon.g:2837:1: forBlock returns [ForClause clause] : FOR_CLAUSE forIterator controlBlock ;
+    public final ForClause forBlock() throws RecognitionException {
+        ForClause clause = null;
+
+
+        Token FOR_CLAUSE411=null;
+        ForIterator forIterator412 =null;
+
+        Block controlBlock413 =null;
+
+
+        try {
+            // /root/project/Ceylon.g:2838:5: ( FOR_CLAUSE forIterator controlBlock )
+            // /root/project/Ceylon.g:2838:7: FOR_CLAUSE forIterator controlBlock
+            {
+            FOR_CLAUSE411=(Token)match(input,FOR_CLAUSE,FOLLOW_FOR_CLAUSE_in_forBlock16607); if (state.failed) return clause;
+
+            if ( state.backtracking==0 ) { clause = new ForClause(FOR_CLAUSE411); }
+
+            pushFollow(FOLLOW_forIterator_in_forBlock16624);
+            forIterator412=forIterator();
+
+            state._fsp--;
+            if (state.failed) return clause;
+
+            if ( state.backtracking==0 ) { clause.setForIterator(forIterator412); }
+
+            pushFollow(FOLLOW_controlBlock_in_forBlock16641);
+            controlBlock413=controlBlock();
+
+            state._fsp--;
+            if (state.failed) return clause;
+
+            if ( state.backtracking==0 ) { clause.setBlock(controlBlock413); }
+
+            }
+
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return clause;
+    }
+    // $ANTLR end "forBlock"
+
+
+
+    // $ANTLR start "failBlock"
+    // /root/project/Ceylon.g:2846:1: failBlock returns [ElseClause clause] : ELSE_CLAUSE block ;
+    public final ElseClause failBlock() throws RecognitionException {
+        ElseClause clause = null;
+
+
+        Token ELSE_CLAUSE414=null;
+        Block block415 =null;
+
+
+        try {
+            // /root/project/Ceylon.g:2847:5: ( ELSE_CLAUSE block )
+            // /root/project/Ceylon.g:2847:7: ELSE_CLAUSE block
+            {
+            ELSE_CLAUSE414=(Token)match(input,ELSE_CLAUSE,FOLLOW_ELSE_CLAUSE_in_failBlock16670); if (state.failed) return clause;
+
+            if ( state.backtracking==0 ) { clause = new ElseClause(ELSE_CLAUSE414); }
+
+            pushFollow(FOLLOW_block_in_failBlock16687);
+            block415=block();
+
+            state._fsp--;
+            if (state.failed) return clause;
+
+            if ( state.backtracking==0 ) { clause.setBlock(block415); }
+
+            }
+
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return clause;
+    }
+    // $ANTLR end "failBlock"
+
+
+
+    // $ANTLR start "forIterator"
+    // /root/project/Ceylon.g:2853:1: forIterator returns [ForIterator iterator] : LPAREN compilerAnnotations (v1= var (c1= containment | ENTRY_OP v2= var c2= containment )? )? RPAREN ;
+    public final ForIterator forIterator() throws RecognitionException {
+        ForIterator iterator = null;
+
+
+        Token LPAREN416=null;
+        Token RPAREN418=null;
+        Variable v1 =null;
+
+        SpecifierExpression c1 =null;
+
+        Variable v2 =null;
+
+        SpecifierExpression c2 =null;
+
+        List<CompilerAnnotation> compilerAnnotations417 =null;
+
+
+         ValueIterator vi = null;
+                    KeyValueIterator kvi = null; 
+        try {
+            // /root/project/Ceylon.g:2856:5: ( LPAREN compilerAnnotations (v1= var (c1= containment | ENTRY_OP v2= var c2= containment )? )? RPAREN )
+            // /root/project/Ceylon.g:2856:7: LPAREN compilerAnnotations (v1= var (c1= containment | ENTRY_OP v2= var c2= containment )? )? RPAREN
+            {
+            LPAREN416=(Token)match(input,LPAREN,FOLLOW_LPAREN_in_forIterator16725); if (state.failed) return iterator;
+
+            if ( state.backtracking==0 ) { vi = new ValueIterator(LPAREN416); 
+                  kvi = new KeyValueIterator(LPAREN416); 
+                  iterator = vi; }
+
+            pushFollow(FOLLOW_compilerAnnotations_in_forIterator16737);
+            compilerAnnotations417=compilerAnnotations();
+
+            state._fsp--;
+            if (state.failed) return iterator;
+
+            // /root/project/Ceylon.g:2861:5: (v1= var (c1= containment | ENTRY_OP v2= var c2= containment )? )?
+            int alt210=2;
+            int LA210_0 = input.LA(1);
+
+            if ( (LA210_0==LIDENTIFIER||LA210_0==UIDENTIFIER) ) {
+                alt210=1;
+            }
+            switch (alt210) {
+                case 1 :
+                    // /root/project/Ceylon.g:2862:7: v1= var (c1= containment | ENTRY_OP v2= var c2= containment )?
+                    {
+                    pushFollow(FOLLOW_var_in_forIterator16754);
+                    v1=var();
+
+                    state._fsp--;
+                    if (state.failed) return iterator;
+
+                    // /root/project/Ceylon.g:2863:7: (c1= containment | ENTRY_OP v2= var c2= containment )?
+                    int alt209=3;
+                    int LA209_0 = input.LA(1);
+
+                    if ( (LA209_0==IN_OP) ) {
+                        alt209=1;
+                    }
+                    else if ( (LA209_0==ENTRY_OP) ) {
+                        alt209=2;
+                    }
+                    switch (alt209) {
+                        case 1 :
+                            // /root/project/Ceylon.g:2864:9: c1= containment
+                            {
+                            if ( state.backtracking==0 ) { vi.setVariable(v1); }
+
+                            pushFollow(FOLLOW_containment_in_forIterator16784);
+                            c1=containment();
+
+                            state._fsp--;
+                            if (state.failed) return iterator;
+
+                            if ( state.backtracking==0 ) { vi.setSpecifierExpression(c1); }
+
+                            }
+                            break;
+                        case 2 :
+                            // /root/project/Ceylon.g:2869:9: ENTRY_OP v2= var c2= containment
+                            {
+                            if ( state.backtracking==0 ) { iterator = kvi; }
+
+                            match(input,ENTRY_OP,FOLLOW_ENTRY_OP_in_forIterator16830); if (state.failed) return iterator;
+
+                            if ( state.backtracking==0 ) { kvi.setKeyVariable(v1); }
+
+                            pushFollow(FOLLOW_var_in_forIterator16852);
+                            v2=var();
+
+                            state._fsp--;
+                            if (state.failed) return iterator;
+
+                            if ( state.backtracking==0 ) { kvi.setValueVariable(v2); }
+
+                            pushFollow(FOLLOW_containment_in_forIterator16874);
+                            c2=containment();
+
+                            state._fsp--;
+                            if (state.failed) return iterator;
+
+                            if ( state.backtracking==0 ) {  kvi.setSpecifierExpression(c2); }
+
+                            }
+                            break;
+
+                    }
+
+
+                    }
+                    break;
+
+            }
+
+
+            if ( state.backtracking==0 ) { if (iterator!=null)
+                      iterator.getCompilerAnnotations().addAll(compilerAnnotations417); }
+
+            RPAREN418=(Token)match(input,RPAREN,FOLLOW_RPAREN_in_forIterator16919); if (state.failed) return iterator;
+
+            if ( state.backtracking==0 ) { iterator.setEndToken(RPAREN418); }
+
+            }
+
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return iterator;
+    }
+    // $ANTLR end "forIterator"
+
+
+
+    // $ANTLR start "containment"
+    // /root/project/Ceylon.g:2885:1: containment returns [SpecifierExpression specifierExpression] : IN_OP ( expression )? ;
+    public final SpecifierExpression containment() throws RecognitionException {
+        SpecifierExpression specifierExpression = null;
+
+
+        Token IN_OP419=null;
+        Expression expression420 =null;
+
+
+        try {
+            // /root/project/Ceylon.g:2886:5: ( IN_OP ( expression )? )
+            // /root/project/Ceylon.g:2886:7: IN_OP ( expression )?
+            {
+            IN_OP419=(Token)match(input,IN_OP,FOLLOW_IN_OP_in_containment16950); if (state.failed) return specifierExpression;
+
+            if ( state.backtracking==0 ) { specifierExpression = new SpecifierExpression(IN_OP419); }
+
+            // /root/project/Ceylon.g:2888:7: ( expression )?
+            int alt211=2;
+            int LA211_0 = input.LA(1);
+
+            if ( (LA211_0==CHAR_LITERAL||LA211_0==COMPLEMENT_OP||LA211_0==DECREMENT_OP||LA211_0==DIFFERENCE_OP||(LA211_0 >= EXISTS && LA211_0 <= EXTENDS)||LA211_0==FLOAT_LITERAL||LA211_0==INCREMENT_OP||LA211_0==IS_OP||LA211_0==LBRACE||LA211_0==LIDENTIFIER||LA211_0==LPAREN||(LA211_0 >= NATURAL_LITERAL && LA211_0 <= NONEMPTY)||LA211_0==NOT_OP||LA211_0==OUTER||LA211_0==QUOTED_LITERAL||LA211_0==SATISFIES||LA211_0==STRING_LITERAL||(LA211_0 >= SUM_OP && LA211_0 <= SUPER)||LA211_0==THIS||LA211_0==UIDENTIFIER) ) {
+                alt211=1;
+            }
+            switch (alt211) {
+                case 1 :
+                    // /root/project/Ceylon.g:2888:8: expression
+                    {
+                    pushFollow(FOLLOW_expression_in_containment16968);
+                    expression420=expression();
+
+                    state._fsp--;
+                    if (state.failed) return specifierExpression;
+
+                    if ( state.backtracking==0 ) { specifierExpression.setExpression(expression420); }
+
+                    }
+                    break;
+
+            }
+
+
+            }
+
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return specifierExpression;
+    }
+    // $ANTLR end "containment"
+
+
+
+    // $ANTLR start "whileLoop"
+    // /root/project/Ceylon.g:2893:1: whileLoop returns [WhileStatement statement] : whileBlock ;
+    public final WhileStatement whileLoop() throws RecognitionException {
+        WhileStatement statement = null;
+
+
+        WhileClause whileBlock421 =null;
+
+
+        try {
+            // /root/project/Ceylon.g:2894:5: ( whileBlock )
+            // /root/project/Ceylon.g:2894:7: whileBlock
+            {
+            if ( state.backtracking==0 ) { statement = new WhileStatement(null); }
+
+            pushFollow(FOLLOW_whileBlock_in_whileLoop17016);
+            whileBlock421=whileBlock();
+
+            state._fsp--;
+            if (state.failed) return statement;
+
+            if ( state.backtracking==0 ) { statement.setWhileClause(whileBlock421); }
+
+            }
+
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return statement;
+    }
+    // $ANTLR end "whileLoop"
+
+
+
+    // $ANTLR start "whileBlock"
+    // /root/project/Ceylon.g:2900:1: whileBlock returns [WhileClause clause] : WHILE_CLAUSE condition controlBlock ;
+    public final WhileClause whileBlock() throws RecognitionException {
+        WhileClause clause = null;
+
+
+        Token WHILE_CLAUSE422=null;
+        Condition condition423 =null;
+
+        Block controlBlock424 =null;
+
+
+        try {
+            // /root/project/Ceylon.g:2901:5: ( WHILE_CLAUSE condition controlBlock )
+            // /root/project/Ceylon.g:2901:7: WHILE_CLAUSE condition controlBlock
+            {
+            WHILE_CLAUSE422=(Token)match(input,WHILE_CLAUSE,FOLLOW_WHILE_CLAUSE_in_whileBlock17050); if (state.failed) return clause;
+
+            if ( state.backtracking==0 ) { clause = new WhileClause(WHILE_CLAUSE422); }
+
+            pushFollow(FOLLOW_condition_in_whileBlock17066);
+            condition423=condition();
+
+            state._fsp--;
+            if (state.failed) return clause;
+
+            if ( state.backtracking==0 ) { clause.setCondition(condition423); }
+
+            pushFollow(FOLLOW_controlBlock_in_whileBlock17083);
+            controlBlock424=controlBlock();
+
+            state._fsp--;
+            if (state.failed) return clause;
+
+            if ( state.backtracking==0 ) { clause.setBlock(controlBlock424); }
+
+            }
+
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return clause;
+    }
+    // $ANTLR end "whileBlock"
+
+
+
+    // $ANTLR start "tryCatchFinally"
+    // /root/project/Ceylon.g:2909:1: tryCatchFinally returns [TryCatchStatement statement] : tryBlock ( catchBlock )* ( finallyBlock )? ;
+    public final TryCatchStatement tryCatchFinally() throws RecognitionException {
+        TryCatchStatement statement = null;
+
+
+        TryClause tryBlock425 =null;
+
+        CatchClause catchBlock426 =null;
+
+        FinallyClause finallyBlock427 =null;
+
+
+        try {
+            // /root/project/Ceylon.g:2910:5: ( tryBlock ( catchBlock )* ( finallyBlock )? )
+            // /root/project/Ceylon.g:2910:7: tryBlock ( catchBlock )* ( finallyBlock )?
+            {
+            if ( state.backtracking==0 ) { statement = new TryCatchStatement(null); }
+
+            pushFollow(FOLLOW_tryBlock_in_tryCatchFinally17120);
+            tryBlock425=tryBlock();
+
+            state._fsp--;
+            if (state.failed) return statement;
+
+            if ( state.backtracking==0 ) { statement.setTryClause(tryBlock425); }
+
+            // /root/project/Ceylon.g:2913:7: ( catchBlock )*
+            loop212:
+            do {
+                int alt212=2;
+                int LA212_0 = input.LA(1);
+
+                if ( (LA212_0==CATCH_CLAUSE) ) {
+                    alt212=1;
+                }
+
+
+                switch (alt212) {
+            	case 1 :
+            	    // /root/project/Ceylon.g:2914:9: catchBlock
+            	    {
+            	    pushFollow(FOLLOW_catchBlock_in_tryCatchFinally17147);
+            	    catchBlock426=catchBlock();
+
+            	    state._fsp--;
+            	    if (state.failed) return statement;
+
+            	    if ( state.backtracking==0 ) { statement.addCatchClause(catchBlock426); }
+
+            	    }
+            	    break;
+
+            	default :
+            	    break loop212;
+                }
+            } while (true);
+
+
+            // /root/project/Ceylon.g:2917:7: ( finallyBlock )?
+            int alt213=2;
+            int LA213_0 = input.LA(1);
+
+            if ( (LA213_0==FINALLY_CLAUSE) ) {
+                alt213=1;
+            }
+            switch (alt213) {
+                case 1 :
+                    // /root/project/Ceylon.g:2918:9: finallyBlock
+                    {
+                    pushFollow(FOLLOW_finallyBlock_in_tryCatchFinally17184);
+                    finallyBlock427=finallyBlock();
+
+                    state._fsp--;
+                    if (state.failed) return statement;
+
+                    if ( state.backtracking==0 ) { statement.setFinallyClause(finallyBlock427); }
+
+                    }
+                    break;
+
+            }
+
+
+            }
+
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return statement;
+    }
+    // $ANTLR end "tryCatchFinally"
+
+
+
+    // $ANTLR start "tryBlock"
+    // /root/project/Ceylon.g:2924:1: tryBlock returns [TryClause clause] : TRY_CLAUSE ( resource controlBlock | block ) ;
+    public final TryClause tryBlock() throws RecognitionException {
+        TryClause clause = null;
+
+
+        Token TRY_CLAUSE428=null;
+        Resource resource429 =null;
+
+        Block controlBlock430 =null;
+
+        Block block431 =null;
+
+
+        try {
+            // /root/project/Ceylon.g:2925:5: ( TRY_CLAUSE ( resource controlBlock | block ) )
+            // /root/project/Ceylon.g:2925:7: TRY_CLAUSE ( resource controlBlock | block )
+            {
+            TRY_CLAUSE428=(Token)match(input,TRY_CLAUSE,FOLLOW_TRY_CLAUSE_in_tryBlock17227); if (state.failed) return clause;
+
+            if ( state.backtracking==0 ) { clause = new TryClause(TRY_CLAUSE428); }
+
+            // /root/project/Ceylon.g:2927:7: ( resource controlBlock | block )
+            int alt214=2;
+            int LA214_0 = input.LA(1);
+
+            if ( (LA214_0==LPAREN) ) {
+                alt214=1;
+            }
+            else if ( (LA214_0==LBRACE) ) {
+                alt214=2;
+            }
+            else {
+                if (state.backtracking>0) {state.failed=true; return clause;}
+                NoViableAltException nvae =
+                    new NoViableAltException("", 214, 0, input);
+
+                throw nvae;
+
+            }
+            switch (alt214) {
+                case 1 :
+                    // /root/project/Ceylon.g:2928:9: resource controlBlock
+                    {
+                    pushFollow(FOLLOW_resource_in_tryBlock17254);
+                    resource429=resource();
+
+                    state._fsp--;
+                    if (state.failed) return clause;
+
+                    if ( state.backtracking==0 ) { clause.setResource(resource429); }
+
+                    pushFollow(FOLLOW_controlBlock_in_tryBlock17274);
+                    controlBlock430=controlBlock();
+
+                    state._fsp--;
+                    if (state.failed) return clause;
+
+                    if ( state.backtracking==0 ) { clause.setBlock(controlBlock430); }
+
+                    }
+                    break;
+                case 2 :
+                    // /root/project/Ceylon.g:2933:9: block
+                    {
+                    pushFollow(FOLLOW_block_in_tryBlock17302);
+                    block431=block();
+
+                    state._fsp--;
+                    if (state.failed) return clause;
+
+                    if ( state.backtracking==0 ) { clause.setBlock(block431); }
+
+                    }
+                    break;
+
+            }
+
+
+            }
+
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return clause;
+    }
+    // $ANTLR end "tryBlock"
+
+
+
+    // $ANTLR start "catchBlock"
+    // /root/project/Ceylon.g:2938:1: catchBlock returns [CatchClause clause] : CATCH_CLAUSE catchVariable block ;
+    public final CatchClause catchBlock() throws RecognitionException {
+        CatchClause clause = null;
+
+
+        Token CATCH_CLAUSE432=null;
+        CatchVariable catchVariable433 =null;
+
+        Block block434 =null;
+
+
+        try {
+            // /root/project/Ceylon.g:2939:5: ( CATCH_CLAUSE catchVariable block )
+            // /root/project/Ceylon.g:2939:7: CATCH_CLAUSE catchVariable block
+            {
+            CATCH_CLAUSE432=(Token)match(input,CATCH_CLAUSE,FOLLOW_CATCH_CLAUSE_in_catchBlock17341); if (state.failed) return clause;
+
+            if ( state.backtracking==0 ) { clause = new CatchClause(CATCH_CLAUSE432); }
+
+            pushFollow(FOLLOW_catchVariable_in_catchBlock17358);
+            catchVariable433=catchVariable();
+
+            state._fsp--;
+            if (state.failed) return clause;
+
+            if ( state.backtracking==0 ) { clause.setCatchVariable(catchVariable433); }
+
+            pushFollow(FOLLOW_block_in_catchBlock17374);
+            block434=block();
+
+            state._fsp--;
+            if (state.failed) return clause;
+
+            if ( state.backtracking==0 ) { clause.setBlock(block434); }
+
+            }
+
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return clause;
+    }
+    // $ANTLR end "catchBlock"
+
+
+
+    // $ANTLR start "catchVariable"
+    // /root/project/Ceylon.g:2947:1: catchVariable returns [CatchVariable catchVariable] : LPAREN ( variable )? RPAREN ;
+    public final CatchVariable catchVariable() throws RecognitionException {
+        CatchVariable catchVariable = null;
+
+
+        Token LPAREN435=null;
+        Token RPAREN437=null;
+        Variable variable436 =null;
+
+
+        try {
+            // /root/project/Ceylon.g:2948:5: ( LPAREN ( variable )? RPAREN )
+            // /root/project/Ceylon.g:2948:7: LPAREN ( variable )? RPAREN
+            {
+            LPAREN435=(Token)match(input,LPAREN,FOLLOW_LPAREN_in_catchVariable17403); if (state.failed) return catchVariable;
+
+            if ( state.backtracking==0 ) { catchVariable =new CatchVariable(LPAREN435); }
+
+            // /root/project/Ceylon.g:2950:7: ( variable )?
+            int alt215=2;
+            int LA215_0 = input.LA(1);
+
+            if ( (LA215_0==COMPILER_ANNOTATION||LA215_0==LIDENTIFIER||LA215_0==UIDENTIFIER) ) {
+                alt215=1;
+            }
+            switch (alt215) {
+                case 1 :
+                    // /root/project/Ceylon.g:2950:8: variable
+                    {
+                    pushFollow(FOLLOW_variable_in_catchVariable17421);
+                    variable436=variable();
+
+                    state._fsp--;
+                    if (state.failed) return catchVariable;
+
+                    if ( state.backtracking==0 ) { catchVariable.setVariable(variable436); }
+
+                    }
+                    break;
+
+            }
+
+
+            RPAREN437=(Token)match(input,RPAREN,FOLLOW_RPAREN_in_catchVariable17440); if (state.failed) return catchVariable;
+
+            if ( state.backtracking==0 ) { catchVariable.setEndToken(RPAREN437); }
+
+            }
+
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return catchVariable;
+    }
+    // $ANTLR end "catchVariable"
+
+
+
+    // $ANTLR start "finallyBlock"
+    // /root/project/Ceylon.g:2957:1: finallyBlock returns [FinallyClause clause] : FINALLY_CLAUSE block ;
+    public final FinallyClause finallyBlock() throws RecognitionException {
+        FinallyClause clause = null;
+
+
+        Token FINALLY_CLAUSE438=null;
+        Block block439 =null;
+
+
+        try {
+            // /root/project/Ceylon.g:2958:5: ( FINALLY_CLAUSE block )
+            // /root/project/Ceylon.g:2958:7: FINALLY_CLAUSE block
+            {
+            FINALLY_CLAUSE438=(Token)match(input,FINALLY_CLAUSE,FOLLOW_FINALLY_CLAUSE_in_finallyBlock17471); if (state.failed) return clause;
+
+            if ( state.backtracking==0 ) { clause = new FinallyClause(FINALLY_CLAUSE438); }
+
+            pushFollow(FOLLOW_block_in_finallyBlock17488);
+            block439=block();
+
+            state._fsp--;
+            if (state.failed) return clause;
+
+            if ( state.backtracking==0 ) { clause.setBlock(block439); }
+
+            }
+
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return clause;
+    }
+    // $ANTLR end "finallyBlock"
+
+
+
+    // $ANTLR start "resource"
+    // /root/project/Ceylon.g:2964:1: resource returns [Resource resource] : LPAREN ( ( COMPILER_ANNOTATION | declarationStart | specificationStart )=> specifiedVariable | expression ) RPAREN ;
+    public final Resource resource() throws RecognitionException {
+        Resource resource = null;
+
+
+        Token LPAREN440=null;
+        Token RPAREN443=null;
+        Variable specifiedVariable441 =null;
+
+        Expression expression442 =null;
+
+
+        try {
+            // /root/project/Ceylon.g:2965:5: ( LPAREN ( ( COMPILER_ANNOTATION | declarationStart | specificationStart )=> specifiedVariable | expression ) RPAREN )
+            // /root/project/Ceylon.g:2965:7: LPAREN ( ( COMPILER_ANNOTATION | declarationStart | specificationStart )=> specifiedVariable | expression ) RPAREN
+            {
+            LPAREN440=(Token)match(input,LPAREN,FOLLOW_LPAREN_in_resource17517); if (state.failed) return resource;
+
+            if ( state.backtracking==0 ) { resource = new Resource(LPAREN440); }
+
+            // /root/project/Ceylon.g:2967:5: ( ( COMPILER_ANNOTATION | declarationStart | specificationStart )=> specifiedVariable | expression )
+            int alt216=2;
+            int LA216_0 = input.LA(1);
+
+            if ( (LA216_0==COMPILER_ANNOTATION) && (synpred17_Ceylon())) {
+                alt216=1;
+            }
+            else if ( (LA216_0==UIDENTIFIER) ) {
+                int LA216_2 = input.LA(2);
+
+                if ( (synpred17_Ceylon()) ) {
+                    alt216=1;
+                }
+                else if ( (true) ) {
+                    alt216=2;
+                }
+                else {
+                    if (state.backtracking>0) {state.failed=true; return resource;}
+                    NoViableAltException nvae =
+                        new NoViableAltException("", 216, 2, input);
+
+                    throw nvae;
+
+                }
+            }
+            else if ( (LA216_0==LIDENTIFIER) ) {
+                int LA216_3 = input.LA(2);
+
+                if ( (synpred17_Ceylon()) ) {
+                    alt216=1;
+                }
+                else if ( (true) ) {
+                    alt216=2;
+                }
+                else {
+                    if (state.backtracking>0) {state.failed=true; return resource;}
+                    NoViableAltException nvae =
+                        new NoViableAltException("", 216, 3, input);
+
+                    throw nvae;
+
+                }
+            }
+            else if ( (LA216_0==CHAR_LITERAL||LA216_0==COMPLEMENT_OP||LA216_0==DECREMENT_OP||LA216_0==DIFFERENCE_OP||(LA216_0 >= EXISTS && LA216_0 <= EXTENDS)||LA216_0==FLOAT_LITERAL||LA216_0==INCREMENT_OP||LA216_0==IS_OP||LA216_0==LBRACE||LA216_0==LPAREN||(LA216_0 >= NATURAL_LITERAL && LA216_0 <= NONEMPTY)||LA216_0==NOT_OP||LA216_0==OUTER||LA216_0==QUOTED_LITERAL||LA216_0==SATISFIES||LA216_0==STRING_LITERAL||(LA216_0 >= SUM_OP && LA216_0 <= SUPER)||LA216_0==THIS) ) {
+                alt216=2;
+            }
+            else {
+                if (state.backtracking>0) {state.failed=true; return resource;}
+                NoViableAltException nvae =
+                    new NoViableAltException("", 216, 0, input);
+
+                throw nvae;
+
+            }
+            switch (alt216) {
+                case 1 :
+                    // /root/project/Ceylon.g:2968:5: ( COMPILER_ANNOTATION | declarationStart | specificationStart )=> specifiedVariable
+                    {
+                    pushFollow(FOLLOW_specifiedVariable_in_resource17553);
+                    specifiedVariable441=specifiedVariable();
+
+                    state._fsp--;
+                    if (state.failed) return resource;
+
+                    if ( state.backtracking==0 ) { resource.setVariable(specifiedVariable441); }
+
+                    }
+                    break;
+                case 2 :
+                    // /root/project/Ceylon.g:2972:7: expression
+                    {
+                    pushFollow(FOLLOW_expression_in_resource17574);
+                    expression442=expression();
+
+                    state._fsp--;
+                    if (state.failed) return resource;
+
+                    if ( state.backtracking==0 ) { resource.setExpression(expression442); }
+
+                    }
+                    break;
+
+            }
+
+
+            RPAREN443=(Token)match(input,RPAREN,FOLLOW_RPAREN_in_resource17599); if (state.failed) return resource;
+
+            if ( state.backtracking==0 ) { resource.setEndToken(RPAREN443); }
+
+            }
+
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return resource;
+    }
+    // $ANTLR end "resource"
+
+
+
+    // $ANTLR start "specifiedVariable"
+    // /root/project/Ceylon.g:2980:1: specifiedVariable returns [Variable variable] : v= variable ( specifier )? ;
+    public final Variable specifiedVariable() throws RecognitionException {
+        Variable variable = null;
+
+
+        Variable v =null;
+
+        SpecifierExpression specifier444 =null;
+
+
+        try {
+            // /root/project/Ceylon.g:2981:5: (v= variable ( specifier )? )
+            // /root/project/Ceylon.g:2981:7: v= variable ( specifier )?
+            {
+            pushFollow(FOLLOW_variable_in_specifiedVariable17628);
+            v=variable();
+
+            state._fsp--;
+            if (state.failed) return variable;
+
+            if ( state.backtracking==0 ) { variable = v; }
+
+            // /root/project/Ceylon.g:2983:7: ( specifier )?
+            int alt217=2;
+            int LA217_0 = input.LA(1);
+
+            if ( (LA217_0==SPECIFY) ) {
+                alt217=1;
+            }
+            switch (alt217) {
+                case 1 :
+                    // /root/project/Ceylon.g:2984:9: specifier
+                    {
+                    pushFollow(FOLLOW_specifier_in_specifiedVariable17655);
+                    specifier444=specifier();
+
+                    state._fsp--;
+                    if (state.failed) return variable;
+
+                    if ( state.backtracking==0 ) { variable.setSpecifierExpression(specifier444); }
+
+                    }
+                    break;
+
+            }
+
+
+            }
+
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return variable;
+    }
+    // $ANTLR end "specifiedVariable"
+
+
+
+    // $ANTLR start "variable"
+    // /root/project/Ceylon.g:2989:1: variable returns [Variable variable] : compilerAnnotations var ;
+    public final Variable variable() throws RecognitionException {
+        Variable variable = null;
+
+
+        Variable var445 =null;
+
+        List<CompilerAnnotation> compilerAnnotations446 =null;
+
+
+        try {
+            // /root/project/Ceylon.g:2990:5: ( compilerAnnotations var )
+            // /root/project/Ceylon.g:2990:7: compilerAnnotations var
+            {
+            pushFollow(FOLLOW_compilerAnnotations_in_variable17695);
+            compilerAnnotations446=compilerAnnotations();
+
+            state._fsp--;
+            if (state.failed) return variable;
+
+            pushFollow(FOLLOW_var_in_variable17703);
+            var445=var();
+
+            state._fsp--;
+            if (state.failed) return variable;
+
+            if ( state.backtracking==0 ) { variable =var445;
+                    variable.getCompilerAnnotations().addAll(compilerAnnotations446); }
+
+            }
+
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return variable;
+    }
+    // $ANTLR end "variable"
+
+
+
+    // $ANTLR start "var"
+    // /root/project/Ceylon.g:2996:1: var returns [Variable variable] : ( type mn1= memberName (p1= parameters )* |mn2= memberName |mn3= memberName (p3= parameters )+ ) ;
+    public final Variable var() throws RecognitionException {
+        Variable variable = null;
+
+
+        Identifier mn1 =null;
+
+        ParameterList p1 =null;
+
+        Identifier mn2 =null;
+
+        Identifier mn3 =null;
+
+        ParameterList p3 =null;
+
+        StaticType type447 =null;
+
+
+        try {
+            // /root/project/Ceylon.g:2997:5: ( ( type mn1= memberName (p1= parameters )* |mn2= memberName |mn3= memberName (p3= parameters )+ ) )
+            // /root/project/Ceylon.g:2997:7: ( type mn1= memberName (p1= parameters )* |mn2= memberName |mn3= memberName (p3= parameters )+ )
+            {
+            if ( state.backtracking==0 ) { variable = new Variable(null); }
+
+            // /root/project/Ceylon.g:2998:5: ( type mn1= memberName (p1= parameters )* |mn2= memberName |mn3= memberName (p3= parameters )+ )
+            int alt220=3;
+            int LA220_0 = input.LA(1);
+
+            if ( (LA220_0==UIDENTIFIER) ) {
+                alt220=1;
+            }
+            else if ( (LA220_0==LIDENTIFIER) ) {
+                int LA220_2 = input.LA(2);
+
+                if ( (LA220_2==ENTRY_OP||LA220_2==IN_OP||LA220_2==RPAREN||LA220_2==SPECIFY) ) {
+                    alt220=2;
+                }
+                else if ( (LA220_2==LPAREN) ) {
+                    alt220=3;
+                }
+                else {
+                    if (state.backtracking>0) {state.failed=true; return variable;}
+                    NoViableAltException nvae =
+                        new NoViableAltException("", 220, 2, input);
+
+                    throw nvae;
+
+                }
+            }
+            else {
+                if (state.backtracking>0) {state.failed=true; return variable;}
+                NoViableAltException nvae =
+                    new NoViableAltException("", 220, 0, input);
+
+                throw nvae;
+
+            }
+            switch (alt220) {
+                case 1 :
+                    // /root/project/Ceylon.g:2999:7: type mn1= memberName (p1= parameters )*
+                    {
+                    pushFollow(FOLLOW_type_in_var17750);
+                    type447=type();
+
+                    state._fsp--;
+                    if (state.failed) return variable;
+
+                    if ( state.backtracking==0 ) { variable.setType(type447); }
+
+                    pushFollow(FOLLOW_memberName_in_var17769);
+                    mn1=memberName();
+
+                    state._fsp--;
+                    if (state.failed) return variable;
+
+                    if ( state.backtracking==0 ) { variable.setIdentifier(mn1); }
+
+                    // /root/project/Ceylon.g:3003:7: (p1= parameters )*
+                    loop218:
+                    do {
+                        int alt218=2;
+                        int LA218_0 = input.LA(1);
+
+                        if ( (LA218_0==LPAREN) ) {
+                            alt218=1;
+                        }
+
+
+                        switch (alt218) {
+                    	case 1 :
+                    	    // /root/project/Ceylon.g:3004:9: p1= parameters
+                    	    {
+                    	    pushFollow(FOLLOW_parameters_in_var17799);
+                    	    p1=parameters();
+
+                    	    state._fsp--;
+                    	    if (state.failed) return variable;
+
+                    	    if ( state.backtracking==0 ) { variable.addParameterList(p1); }
+
+                    	    }
+                    	    break;
+
+                    	default :
+                    	    break loop218;
+                        }
+                    } while (true);
+
+
+                    }
+                    break;
+                case 2 :
+                    // /root/project/Ceylon.g:3009:7: mn2= memberName
+                    {
+                    if ( state.backtracking==0 ) { variable.setType( new ValueModifier(null) ); }
+
+                    pushFollow(FOLLOW_memberName_in_var17848);
+                    mn2=memberName();
+
+                    state._fsp--;
+                    if (state.failed) return variable;
+
+                    if ( state.backtracking==0 ) { variable.setIdentifier(mn2); }
+
+                    }
+                    break;
+                case 3 :
+                    // /root/project/Ceylon.g:3014:7: mn3= memberName (p3= parameters )+
+                    {
+                    if ( state.backtracking==0 ) { variable.setType( new FunctionModifier(null) ); }
+
+                    pushFollow(FOLLOW_memberName_in_var17886);
+                    mn3=memberName();
+
+                    state._fsp--;
+                    if (state.failed) return variable;
+
+                    if ( state.backtracking==0 ) { variable.setIdentifier(mn3); }
+
+                    // /root/project/Ceylon.g:3017:7: (p3= parameters )+
+                    int cnt219=0;
+                    loop219:
+                    do {
+                        int alt219=2;
+                        int LA219_0 = input.LA(1);
+
+                        if ( (LA219_0==LPAREN) ) {
+                            alt219=1;
+                        }
+
+
+                        switch (alt219) {
+                    	case 1 :
+                    	    // /root/project/Ceylon.g:3018:9: p3= parameters
+                    	    {
+                    	    pushFollow(FOLLOW_parameters_in_var17915);
+                    	    p3=parameters();
+
+                    	    state._fsp--;
+                    	    if (state.failed) return variable;
+
+                    	    if ( state.backtracking==0 ) { variable.addParameterList(p3); }
+
+                    	    }
+                    	    break;
+
+                    	default :
+                    	    if ( cnt219 >= 1 ) break loop219;
+                    	    if (state.backtracking>0) {state.failed=true; return variable;}
+                                EarlyExitException eee =
+                                    new EarlyExitException(219, input);
+                                throw eee;
+                        }
+                        cnt219++;
+                    } while (true);
+
+
+                    }
+                    break;
+
+            }
+
+
+            }
+
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return variable;
+    }
+    // $ANTLR end "var"
+
+
+
+    // $ANTLR start "impliedVariable"
+    // /root/project/Ceylon.g:3025:1: impliedVariable returns [Variable variable] : memberName ;
+    public final Variable impliedVariable() throws RecognitionException {
+        Variable variable = null;
+
+
+        Identifier memberName448 =null;
+
+
+        try {
+            // /root/project/Ceylon.g:3026:5: ( memberName )
+            // /root/project/Ceylon.g:3026:7: memberName
+            {
+            pushFollow(FOLLOW_memberName_in_impliedVariable17966);
+            memberName448=memberName();
+
+            state._fsp--;
+            if (state.failed) return variable;
+
+            if ( state.backtracking==0 ) { Variable v = new Variable(null);
+                    v.setType(new SyntheticVariable(null));
+                    v.setIdentifier(memberName448);
+                    SpecifierExpression se = new SpecifierExpression(null);
+                    Expression e = new Expression(null);
+                    BaseMemberExpression bme = new BaseMemberExpression(null);
+                    bme.setIdentifier(memberName448);
+                    bme.setTypeArguments( new InferredTypeArguments(null) );
+                    e.setTerm(bme);
+                    se.setExpression(e);
+                    v.setSpecifierExpression(se); 
+                    variable = v; }
+
+            }
+
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return variable;
+    }
+    // $ANTLR end "impliedVariable"
+
+    // $ANTLR start synpred1_Ceylon
+    public final void synpred1_Ceylon_fragment() throws RecognitionException {
+        // /root/project/Ceylon.g:898:7: ( namedArguments )
+        // /root/project/Ceylon.g:898:8: namedArguments
+        {
+        pushFollow(FOLLOW_namedArguments_in_synpred1_Ceylon3741);
+        namedArguments();
+
+        state._fsp--;
+        if (state.failed) return ;
+
+        }
+
+    }
+    // $ANTLR end synpred1_Ceylon
+
+    // $ANTLR start synpred2_Ceylon
+    public final void synpred2_Ceylon_fragment() throws RecognitionException {
+        // /root/project/Ceylon.g:926:7: ( namedArguments )
+        // /root/project/Ceylon.g:926:8: namedArguments
+        {
+        pushFollow(FOLLOW_namedArguments_in_synpred2_Ceylon3844);
+        namedArguments();
+
+        state._fsp--;
+        if (state.failed) return ;
+
+        }
+
+    }
+    // $ANTLR end synpred2_Ceylon
+
+    // $ANTLR start synpred3_Ceylon
+    public final void synpred3_Ceylon_fragment() throws RecognitionException {
+        // /root/project/Ceylon.g:1070:13: (~ ( COMPILER_ANNOTATION | LIDENTIFIER | UIDENTIFIER ) )
+        // /root/project/Ceylon.g:
+        {
+        if ( (input.LA(1) >= ABSTRACTED_TYPE && input.LA(1) <= COMPARE_OP)||(input.LA(1) >= COMPLEMENT_ASSIGN_OP && input.LA(1) <= LBRACKET)||(input.LA(1) >= LINE_COMMENT && input.LA(1) <= TYPE_CONSTRAINT)||(input.LA(1) >= UIdentifierPrefix && input.LA(1) <= XOR_OP) ) {
+            input.consume();
+            state.errorRecovery=false;
+            state.failed=false;
+        }
+        else {
+            if (state.backtracking>0) {state.failed=true; return ;}
+            MismatchedSetException mse = new MismatchedSetException(null,input);
+            throw mse;
+        }
+
+
+        }
+
+    }
+    // $ANTLR end synpred3_Ceylon
+
+    // $ANTLR start synpred4_Ceylon
+    public final void synpred4_Ceylon_fragment() throws RecognitionException {
+        // /root/project/Ceylon.g:1256:9: ( annotatedDeclarationStart )
+        // /root/project/Ceylon.g:1256:10: annotatedDeclarationStart
+        {
+        pushFollow(FOLLOW_annotatedDeclarationStart_in_synpred4_Ceylon6034);
+        annotatedDeclarationStart();
+
+        state._fsp--;
+        if (state.failed) return ;
+
+        }
+
+    }
+    // $ANTLR end synpred4_Ceylon
+
+    // $ANTLR start synpred5_Ceylon
+    public final void synpred5_Ceylon_fragment() throws RecognitionException {
+        // /root/project/Ceylon.g:1513:9: (~ ( LIDENTIFIER | UIDENTIFIER ) )
+        // /root/project/Ceylon.g:
+        {
+        if ( (input.LA(1) >= ABSTRACTED_TYPE && input.LA(1) <= LBRACKET)||(input.LA(1) >= LINE_COMMENT && input.LA(1) <= TYPE_CONSTRAINT)||(input.LA(1) >= UIdentifierPrefix && input.LA(1) <= XOR_OP) ) {
+            input.consume();
+            state.errorRecovery=false;
+            state.failed=false;
+        }
+        else {
+            if (state.backtracking>0) {state.failed=true; return ;}
+            MismatchedSetException mse = new MismatchedSetException(null,input);
+            throw mse;
+        }
+
+
+        }
+
+    }
+    // $ANTLR end synpred5_Ceylon
+
+    // $ANTLR start synpred6_Ceylon
+    public final void synpred6_Ceylon_fragment() throws RecognitionException {
+        // /root/project/Ceylon.g:1577:9: ( typeArgumentsStart )
+        // /root/project/Ceylon.g:1577:10: typeArgumentsStart
+        {
+        pushFollow(FOLLOW_typeArgumentsStart_in_synpred6_Ceylon7878);
+        typeArgumentsStart();
+
+        state._fsp--;
+        if (state.failed) return ;
+
+        }
+
+    }
+    // $ANTLR end synpred6_Ceylon
+
+    // $ANTLR start synpred7_Ceylon
+    public final void synpred7_Ceylon_fragment() throws RecognitionException {
+        // /root/project/Ceylon.g:1588:9: ( typeArgumentsStart )
+        // /root/project/Ceylon.g:1588:10: typeArgumentsStart
+        {
+        pushFollow(FOLLOW_typeArgumentsStart_in_synpred7_Ceylon7959);
+        typeArgumentsStart();
+
+        state._fsp--;
+        if (state.failed) return ;
+
+        }
+
+    }
+    // $ANTLR end synpred7_Ceylon
+
+    // $ANTLR start synpred8_Ceylon
+    public final void synpred8_Ceylon_fragment() throws RecognitionException {
+        // /root/project/Ceylon.g:1647:9: ( namedArgumentStart )
+        // /root/project/Ceylon.g:1647:10: namedArgumentStart
+        {
+        pushFollow(FOLLOW_namedArgumentStart_in_synpred8_Ceylon8357);
+        namedArgumentStart();
+
+        state._fsp--;
+        if (state.failed) return ;
+
+        }
+
+    }
+    // $ANTLR end synpred8_Ceylon
+
+    // $ANTLR start synpred9_Ceylon
+    public final void synpred9_Ceylon_fragment() throws RecognitionException {
+        // /root/project/Ceylon.g:1841:7: ( FUNCTION_MODIFIER | parametersStart )
+        int alt221=2;
+        int LA221_0 = input.LA(1);
+
+        if ( (LA221_0==FUNCTION_MODIFIER) ) {
+            alt221=1;
+        }
+        else if ( (LA221_0==LPAREN) ) {
+            alt221=2;
+        }
+        else {
+            if (state.backtracking>0) {state.failed=true; return ;}
+            NoViableAltException nvae =
+                new NoViableAltException("", 221, 0, input);
+
+            throw nvae;
+
+        }
+        switch (alt221) {
+            case 1 :
+                // /root/project/Ceylon.g:1841:8: FUNCTION_MODIFIER
+                {
+                match(input,FUNCTION_MODIFIER,FOLLOW_FUNCTION_MODIFIER_in_synpred9_Ceylon9753); if (state.failed) return ;
+
+                }
+                break;
+            case 2 :
+                // /root/project/Ceylon.g:1841:26: parametersStart
+                {
+                pushFollow(FOLLOW_parametersStart_in_synpred9_Ceylon9755);
+                parametersStart();
+
+                state._fsp--;
+                if (state.failed) return ;
+
+                }
+                break;
+
+        }
+    }
+    // $ANTLR end synpred9_Ceylon
+
+    // $ANTLR start synpred10_Ceylon
+    public final void synpred10_Ceylon_fragment() throws RecognitionException {
+        // /root/project/Ceylon.g:1849:9: ( parametersStart )
+        // /root/project/Ceylon.g:1849:10: parametersStart
+        {
+        pushFollow(FOLLOW_parametersStart_in_synpred10_Ceylon9833);
+        parametersStart();
+
+        state._fsp--;
+        if (state.failed) return ;
+
+        }
+
+    }
+    // $ANTLR end synpred10_Ceylon
+
+    // $ANTLR start synpred11_Ceylon
+    public final void synpred11_Ceylon_fragment() throws RecognitionException {
+        // /root/project/Ceylon.g:2567:7: ( LPAREN EXISTS compilerAnnotations ( declarationStart | specificationStart ) )
+        // /root/project/Ceylon.g:2567:8: LPAREN EXISTS compilerAnnotations ( declarationStart | specificationStart )
+        {
+        match(input,LPAREN,FOLLOW_LPAREN_in_synpred11_Ceylon14708); if (state.failed) return ;
+
+        match(input,EXISTS,FOLLOW_EXISTS_in_synpred11_Ceylon14710); if (state.failed) return ;
+
+        pushFollow(FOLLOW_compilerAnnotations_in_synpred11_Ceylon14712);
+        compilerAnnotations();
+
+        state._fsp--;
+        if (state.failed) return ;
+
+        // /root/project/Ceylon.g:2567:42: ( declarationStart | specificationStart )
+        int alt222=2;
+        int LA222_0 = input.LA(1);
+
+        if ( (LA222_0==ASSIGN||LA222_0==CLASS_DEFINITION||LA222_0==FUNCTION_MODIFIER||LA222_0==INTERFACE_DEFINITION||LA222_0==OBJECT_DEFINITION||LA222_0==UIDENTIFIER||(LA222_0 >= VALUE_MODIFIER && LA222_0 <= VOID_MODIFIER)) ) {
+            alt222=1;
+        }
+        else if ( (LA222_0==LIDENTIFIER) ) {
+            alt222=2;
+        }
+        else {
+            if (state.backtracking>0) {state.failed=true; return ;}
+            NoViableAltException nvae =
+                new NoViableAltException("", 222, 0, input);
+
+            throw nvae;
+
+        }
+        switch (alt222) {
+            case 1 :
+                // /root/project/Ceylon.g:2567:43: declarationStart
+                {
+                pushFollow(FOLLOW_declarationStart_in_synpred11_Ceylon14715);
+                declarationStart();
+
+                state._fsp--;
+                if (state.failed) return ;
+
+                }
+                break;
+            case 2 :
+                // /root/project/Ceylon.g:2567:60: specificationStart
+                {
+                pushFollow(FOLLOW_specificationStart_in_synpred11_Ceylon14717);
+                specificationStart();
+
+                state._fsp--;
+                if (state.failed) return ;
+
+                }
+                break;
+
+        }
+
+
+        }
+
+    }
+    // $ANTLR end synpred11_Ceylon
+
+    // $ANTLR start synpred12_Ceylon
+    public final void synpred12_Ceylon_fragment() throws RecognitionException {
+        // /root/project/Ceylon.g:2594:7: ( LPAREN NONEMPTY compilerAnnotations ( declarationStart | specificationStart ) )
+        // /root/project/Ceylon.g:2594:8: LPAREN NONEMPTY compilerAnnotations ( declarationStart | specificationStart )
+        {
+        match(input,LPAREN,FOLLOW_LPAREN_in_synpred12_Ceylon14955); if (state.failed) return ;
+
+        match(input,NONEMPTY,FOLLOW_NONEMPTY_in_synpred12_Ceylon14957); if (state.failed) return ;
+
+        pushFollow(FOLLOW_compilerAnnotations_in_synpred12_Ceylon14959);
+        compilerAnnotations();
+
+        state._fsp--;
+        if (state.failed) return ;
+
+        // /root/project/Ceylon.g:2594:44: ( declarationStart | specificationStart )
+        int alt223=2;
+        int LA223_0 = input.LA(1);
+
+        if ( (LA223_0==ASSIGN||LA223_0==CLASS_DEFINITION||LA223_0==FUNCTION_MODIFIER||LA223_0==INTERFACE_DEFINITION||LA223_0==OBJECT_DEFINITION||LA223_0==UIDENTIFIER||(LA223_0 >= VALUE_MODIFIER && LA223_0 <= VOID_MODIFIER)) ) {
+            alt223=1;
+        }
+        else if ( (LA223_0==LIDENTIFIER) ) {
+            alt223=2;
+        }
+        else {
+            if (state.backtracking>0) {state.failed=true; return ;}
+            NoViableAltException nvae =
+                new NoViableAltException("", 223, 0, input);
+
+            throw nvae;
+
+        }
+        switch (alt223) {
+            case 1 :
+                // /root/project/Ceylon.g:2594:45: declarationStart
+                {
+                pushFollow(FOLLOW_declarationStart_in_synpred12_Ceylon14962);
+                declarationStart();
+
+                state._fsp--;
+                if (state.failed) return ;
+
+                }
+                break;
+            case 2 :
+                // /root/project/Ceylon.g:2594:62: specificationStart
+                {
+                pushFollow(FOLLOW_specificationStart_in_synpred12_Ceylon14964);
+                specificationStart();
+
+                state._fsp--;
+                if (state.failed) return ;
+
+                }
+                break;
+
+        }
+
+
+        }
+
+    }
+    // $ANTLR end synpred12_Ceylon
+
+    // $ANTLR start synpred13_Ceylon
+    public final void synpred13_Ceylon_fragment() throws RecognitionException {
+        // /root/project/Ceylon.g:2613:7: ( LPAREN IS_OP type LIDENTIFIER RPAREN )
+        // /root/project/Ceylon.g:2613:8: LPAREN IS_OP type LIDENTIFIER RPAREN
+        {
+        match(input,LPAREN,FOLLOW_LPAREN_in_synpred13_Ceylon15129); if (state.failed) return ;
+
+        match(input,IS_OP,FOLLOW_IS_OP_in_synpred13_Ceylon15131); if (state.failed) return ;
+
+        pushFollow(FOLLOW_type_in_synpred13_Ceylon15133);
+        type();
+
+        state._fsp--;
+        if (state.failed) return ;
+
+        match(input,LIDENTIFIER,FOLLOW_LIDENTIFIER_in_synpred13_Ceylon15135); if (state.failed) return ;
+
+        match(input,RPAREN,FOLLOW_RPAREN_in_synpred13_Ceylon15137); if (state.failed) return ;
+
+        }
+
+    }
+    // $ANTLR end synpred13_Ceylon
+
+    // $ANTLR start synpred14_Ceylon
+    public final void synpred14_Ceylon_fragment() throws RecognitionException {
+        // /root/project/Ceylon.g:2622:7: ( LPAREN IS_OP type LIDENTIFIER SPECIFY )
+        // /root/project/Ceylon.g:2622:8: LPAREN IS_OP type LIDENTIFIER SPECIFY
+        {
+        match(input,LPAREN,FOLLOW_LPAREN_in_synpred14_Ceylon15217); if (state.failed) return ;
+
+        match(input,IS_OP,FOLLOW_IS_OP_in_synpred14_Ceylon15219); if (state.failed) return ;
+
+        pushFollow(FOLLOW_type_in_synpred14_Ceylon15221);
+        type();
+
+        state._fsp--;
+        if (state.failed) return ;
+
+        match(input,LIDENTIFIER,FOLLOW_LIDENTIFIER_in_synpred14_Ceylon15223); if (state.failed) return ;
+
+        match(input,SPECIFY,FOLLOW_SPECIFY_in_synpred14_Ceylon15225); if (state.failed) return ;
+
+        }
+
+    }
+    // $ANTLR end synpred14_Ceylon
+
+    // $ANTLR start synpred15_Ceylon
+    public final void synpred15_Ceylon_fragment() throws RecognitionException {
+        // /root/project/Ceylon.g:2795:7: ( IS_OP )
+        // /root/project/Ceylon.g:2795:8: IS_OP
+        {
+        match(input,IS_OP,FOLLOW_IS_OP_in_synpred15_Ceylon16322); if (state.failed) return ;
+
+        }
+
+    }
+    // $ANTLR end synpred15_Ceylon
+
+    // $ANTLR start synpred16_Ceylon
+    public final void synpred16_Ceylon_fragment() throws RecognitionException {
+        // /root/project/Ceylon.g:2797:7: ( SATISFIES )
+        // /root/project/Ceylon.g:2797:8: SATISFIES
+        {
+        match(input,SATISFIES,FOLLOW_SATISFIES_in_synpred16_Ceylon16343); if (state.failed) return ;
+
+        }
+
+    }
+    // $ANTLR end synpred16_Ceylon
+
+    // $ANTLR start synpred17_Ceylon
+    public final void synpred17_Ceylon_fragment() throws RecognitionException {
+        // /root/project/Ceylon.g:2968:5: ( COMPILER_ANNOTATION | declarationStart | specificationStart )
+        int alt224=3;
+        switch ( input.LA(1) ) {
+        case COMPILER_ANNOTATION:
+            {
+            alt224=1;
+            }
+            break;
+        case ASSIGN:
+        case CLASS_DEFINITION:
+        case FUNCTION_MODIFIER:
+        case INTERFACE_DEFINITION:
+        case OBJECT_DEFINITION:
+        case UIDENTIFIER:
+        case VALUE_MODIFIER:
+        case VOID_MODIFIER:
+            {
+            alt224=2;
+            }
+            break;
+        case LIDENTIFIER:
+            {
+            alt224=3;
+            }
+            break;
+        default:
+            if (state.backtracking>0) {state.failed=true; return ;}
+            NoViableAltException nvae =
+                new NoViableAltException("", 224, 0, input);
+
+            throw nvae;
+
+        }
+
+        switch (alt224) {
+            case 1 :
+                // /root/project/Ceylon.g:2968:6: COMPILER_ANNOTATION
+                {
+                match(input,COMPILER_ANNOTATION,FOLLOW_COMPILER_ANNOTATION_in_synpred17_Ceylon17537); if (state.failed) return ;
+
+                }
+                break;
+            case 2 :
+                // /root/project/Ceylon.g:2968:26: declarationStart
+                {
+                pushFollow(FOLLOW_declarationStart_in_synpred17_Ceylon17539);
+                declarationStart();
+
+                state._fsp--;
+                if (state.failed) return ;
+
+                }
+                break;
+            case 3 :
+                // /root/project/Ceylon.g:2968:43: specificationStart
+                {
+                pushFollow(FOLLOW_specificationStart_in_synpred17_Ceylon17541);
+                specificationStart();
+
+                state._fsp--;
+                if (state.failed) return ;
+
+                }
+                break;
+
+        }
+    }
+    // $ANTLR end synpred17_Ceylon
+
+    // Delegated rules
+
+    public final boolean synpred7_Ceylon() {
+        state.backtracking++;
+        int start = input.mark();
+        try {
+            synpred7_Ceylon_fragment(); // can never throw exception
+        } catch (RecognitionException re) {
+            System.err.println("impossible: "+re);
+        }
+        boolean success = !state.failed;
+        input.rewind(start);
+        state.backtracking--;
+        state.failed=false;
+        return success;
+    }
+    public final boolean synpred8_Ceylon() {
+        state.backtracking++;
+        int start = input.mark();
+        try {
+            synpred8_Ceylon_fragment(); // can never throw exception
+        } catch (RecognitionException re) {
+            System.err.println("impossible: "+re);
+        }
+        boolean success = !state.failed;
+        input.rewind(start);
+        state.backtracking--;
+        state.failed=false;
+        return success;
+    }
+    public final boolean synpred16_Ceylon() {
+        state.backtracking++;
+        int start = input.mark();
+        try {
+            synpred16_Ceylon_fragment(); // can never throw exception
+        } catch (RecognitionException re) {
+            System.err.println("impossible: "+re);
+        }
+        boolean success = !state.failed;
+        input.rewind(start);
+        state.backtracking--;
+        state.failed=false;
+        return success;
+    }
+    public final boolean synpred14_Ceylon() {
+        state.backtracking++;
+        int start = input.mark();
+        try {
+            synpred14_Ceylon_fragment(); // can never throw exception
+        } catch (RecognitionException re) {
+            System.err.println("impossible: "+re);
+        }
+        boolean success = !state.failed;
+        input.rewind(start);
+        state.backtracking--;
+        state.failed=false;
+        return success;
+    }
+    public final boolean synpred15_Ceylon() {
+        state.backtracking++;
+        int start = input.mark();
+        try {
+            synpred15_Ceylon_fragment(); // can never throw exception
+        } catch (RecognitionException re) {
+            System.err.println("impossible: "+re);
+        }
+        boolean success = !state.failed;
+        input.rewind(start);
+        state.backtracking--;
+        state.failed=false;
+        return success;
+    }
+    public final boolean synpred6_Ceylon() {
+        state.backtracking++;
+        int start = input.mark();
+        try {
+            synpred6_Ceylon_fragment(); // can never throw exception
+        } catch (RecognitionException re) {
+            System.err.println("impossible: "+re);
+        }
+        boolean success = !state.failed;
+        input.rewind(start);
+        state.backtracking--;
+        state.failed=false;
+        return success;
+    }
+    public final boolean synpred9_Ceylon() {
+        state.backtracking++;
+        int start = input.mark();
+        try {
+            synpred9_Ceylon_fragment(); // can never throw exception
+        } catch (RecognitionException re) {
+            System.err.println("impossible: "+re);
+        }
+        boolean success = !state.failed;
+        input.rewind(start);
+        state.backtracking--;
+        state.failed=false;
+        return success;
+    }
+    public final boolean synpred5_Ceylon() {
+        state.backtracking++;
+        int start = input.mark();
+        try {
+            synpred5_Ceylon_fragment(); // can never throw exception
+        } catch (RecognitionException re) {
+            System.err.println("impossible: "+re);
+        }
+        boolean success = !state.failed;
+        input.rewind(start);
+        state.backtracking--;
+        state.failed=false;
+        return success;
+    }
+    public final boolean synpred4_Ceylon() {
+        state.backtracking++;
+        int start = input.mark();
+        try {
+            synpred4_Ceylon_fragment(); // can never throw exception
+        } catch (RecognitionException re) {
+            System.err.println("impossible: "+re);
+        }
+        boolean success = !state.failed;
+        input.rewind(start);
+        state.backtracking--;
+        state.failed=false;
+        return success;
+    }
+    public final boolean synpred11_Ceylon() {
+        state.backtracking++;
+        int start = input.mark();
+        try {
+            synpred11_Ceylon_fragment(); // can never throw exception
+        } catch (RecognitionException re) {
+            System.err.println("impossible: "+re);
+        }
+        boolean success = !state.failed;
+        input.rewind(start);
+        state.backtracking--;
+        state.failed=false;
+        return success;
+    }
+    public final boolean synpred12_Ceylon() {
+        state.backtracking++;
+        int start = input.mark();
+        try {
+            synpred12_Ceylon_fragment(); // can never throw exception
+        } catch (RecognitionException re) {
+            System.err.println("impossible: "+re);
+        }
+        boolean success = !state.failed;
+        input.rewind(start);
+        state.backtracking--;
+        state.failed=false;
+        return success;
+    }
+    public final boolean synpred13_Ceylon() {
+        state.backtracking++;
+        int start = input.mark();
+        try {
+            synpred13_Ceylon_fragment(); // can never throw exception
+        } catch (RecognitionException re) {
+            System.err.println("impossible: "+re);
+        }
+        boolean success = !state.failed;
+        input.rewind(start);
+        state.backtracking--;
+        state.failed=false;
+        return success;
+    }
+    public final boolean synpred17_Ceylon() {
+        state.backtracking++;
+        int start = input.mark();
+        try {
+            synpred17_Ceylon_fragment(); // can never throw exception
+        } catch (RecognitionException re) {
+            System.err.println("impossible: "+re);
+        }
+        boolean success = !state.failed;
+        input.rewind(start);
+        state.backtracking--;
+        state.failed=false;
+        return success;
+    }
+    public final boolean synpred2_Ceylon() {
+        state.backtracking++;
+        int start = input.mark();
+        try {
+            synpred2_Ceylon_fragment(); // can never throw exception
+        } catch (RecognitionException re) {
+            System.err.println("impossible: "+re);
+        }
+        boolean success = !state.failed;
+        input.rewind(start);
+        state.backtracking--;
+        state.failed=false;
+        return success;
+    }
+    public final boolean synpred10_Ceylon() {
+        state.backtracking++;
+        int start = input.mark();
+        try {
+            synpred10_Ceylon_fragment(); // can never throw exception
+        } catch (RecognitionException re) {
+            System.err.println("impossible: "+re);
+        }
+        boolean success = !state.failed;
+        input.rewind(start);
+        state.backtracking--;
+        state.failed=false;
+        return success;
+    }
+    public final boolean synpred3_Ceylon() {
+        state.backtracking++;
+        int start = input.mark();
+        try {
+            synpred3_Ceylon_fragment(); // can never throw exception
+        } catch (RecognitionException re) {
+            System.err.println("impossible: "+re);
+        }
+        boolean success = !state.failed;
+        input.rewind(start);
+        state.backtracking--;
+        state.failed=false;
+        return success;
+    }
+    public final boolean synpred1_Ceylon() {
+        state.backtracking++;
+        int start = input.mark();
+        try {
+            synpred1_Ceylon_fragment(); // can never throw exception
+        } catch (RecognitionException re) {
+            System.err.println("impossible: "+re);
+        }
+        boolean success = !state.failed;
+        input.rewind(start);
+        state.backtracking--;
+        state.failed=false;
+        return success;
+    }
+
+
+    protected DFA1 dfa1 = new DFA1(this);
+    protected DFA97 dfa97 = new DFA97(this);
+    protected DFA103 dfa103 = new DFA103(this);
+    protected DFA104 dfa104 = new DFA104(this);
+    protected DFA169 dfa169 = new DFA169(this);
+    protected DFA173 dfa173 = new DFA173(this);
+    protected DFA175 dfa175 = new DFA175(this);
+    protected DFA178 dfa178 = new DFA178(this);
+    static final String DFA1_eotS =
+        "\10\uffff";
+    static final String DFA1_eofS =
+        "\1\3\7\uffff";
+    static final String DFA1_minS =
+        "\1\13\1\75\2\uffff\1\13\1\147\1\132\1\13";
+    static final String DFA1_maxS =
+        "\1\167\1\75\2\uffff\1\167\1\147\1\132\1\167";
+    static final String DFA1_acceptS =
+        "\2\uffff\1\1\1\2\4\uffff";
+    static final String DFA1_specialS =
+        "\10\uffff}>";
+    static final String[] DFA1_transitionS = {
+            "\1\3\7\uffff\1\3\2\uffff\1\1\24\uffff\1\3\3\uffff\1\3\2\uffff"+
+            "\1\3\12\uffff\1\3\16\uffff\1\3\25\uffff\1\2\17\uffff\1\3\3\uffff"+
+            "\2\3",
+            "\1\4",
+            "",
+            "",
+            "\1\3\7\uffff\1\3\2\uffff\1\1\24\uffff\1\3\5\uffff\1\5\1\3\12"+
+            "\uffff\1\3\16\uffff\1\3\25\uffff\1\2\17\uffff\1\3\3\uffff\2"+
+            "\3",
+            "\1\6",
+            "\1\7",
+            "\1\3\7\uffff\1\3\2\uffff\1\1\24\uffff\1\3\6\uffff\1\3\12\uffff"+
+            "\1\3\16\uffff\1\3\25\uffff\1\2\17\uffff\1\3\3\uffff\2\3"
+    };
+
+    static final short[] DFA1_eot = DFA.unpackEncodedString(DFA1_eotS);
+    static final short[] DFA1_eof = DFA.unpackEncodedString(DFA1_eofS);
+    static final char[] DFA1_min = DFA.unpackEncodedStringToUnsignedChars(DFA1_minS);
+    static final char[] DFA1_max = DFA.unpackEncodedStringToUnsignedChars(DFA1_maxS);
+    static final short[] DFA1_accept = DFA.unpackEncodedString(DFA1_acceptS);
+    static final short[] DFA1_special = DFA.unpackEncodedString(DFA1_specialS);
+    static final short[][] DFA1_transition;
+
+    static {
+        int numStates = DFA1_transitionS.length;
+        DFA1_transition = new short[numStates][];
+        for (int i=0; i<numStates; i++) {
+            DFA1_transition[i] = DFA.unpackEncodedString(DFA1_transitionS[i]);
+        }
+    }
+
+    class DFA1 extends DFA {
+
+        public DFA1(BaseRecognizer recognizer) {
+            this.recognizer = recognizer;
+            this.decisionNumber = 1;
+            this.eot = DFA1_eot;
+            this.eof = DFA1_eof;
+            this.min = DFA1_min;
+            this.max = DFA1_max;
+            this.accept = DFA1_accept;
+            this.special = DFA1_special;
+            this.transition = DFA1_transition;
+        }
+        public String getDescription() {
+            return "374:7: (ca1= compilerAnnotations SEMICOLON )?";
+        }
+    }
+    static final String DFA97_eotS =
+        "\100\uffff";
+    static final String DFA97_eofS =
+        "\100\uffff";
+    static final String DFA97_minS =
+        "\1\6\77\uffff";
+    static final String DFA97_maxS =
+        "\1\173\77\uffff";
+    static final String DFA97_acceptS =
+        "\1\uffff\1\1\1\2\75\3";
+    static final String DFA97_specialS =
+        "\1\0\77\uffff}>";
+    static final String[] DFA97_transitionS = {
+            "\1\47\1\uffff\1\60\1\42\2\uffff\1\46\7\uffff\1\64\1\26\1\uffff"+
+            "\1\57\1\17\1\uffff\1\3\1\6\1\14\1\52\2\uffff\1\21\1\44\1\23"+
+            "\1\37\1\24\1\35\4\uffff\1\67\2\uffff\1\41\2\uffff\1\4\1\75\1"+
+            "\uffff\1\12\1\54\1\33\1\34\2\uffff\1\31\1\30\1\77\1\uffff\1"+
+            "\1\2\uffff\1\76\1\uffff\1\71\1\51\3\uffff\1\25\1\40\4\uffff"+
+            "\1\61\1\43\3\uffff\1\5\1\7\2\uffff\1\10\1\uffff\1\22\1\66\1"+
+            "\20\1\53\1\11\1\uffff\1\65\1\74\1\72\1\36\1\63\1\32\1\27\1\62"+
+            "\1\73\1\70\1\50\1\13\3\uffff\1\45\4\uffff\1\2\1\uffff\1\55\1"+
+            "\15\4\uffff\1\56\1\16",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            ""
+    };
+
+    static final short[] DFA97_eot = DFA.unpackEncodedString(DFA97_eotS);
+    static final short[] DFA97_eof = DFA.unpackEncodedString(DFA97_eofS);
+    static final char[] DFA97_min = DFA.unpackEncodedStringToUnsignedChars(DFA97_minS);
+    static final char[] DFA97_max = DFA.unpackEncodedStringToUnsignedChars(DFA97_maxS);
+    static final short[] DFA97_accept = DFA.unpackEncodedString(DFA97_acceptS);
+    static final short[] DFA97_special = DFA.unpackEncodedString(DFA97_specialS);
+    static final short[][] DFA97_transition;
+
+    static {
+        int numStates = DFA97_transitionS.length;
+        DFA97_transition = new short[numStates][];
+        for (int i=0; i<numStates; i++) {
+            DFA97_transition[i] = DFA.unpackEncodedString(DFA97_transitionS[i]);
+        }
+    }
+
+    class DFA97 extends DFA {
+
+        public DFA97(BaseRecognizer recognizer) {
+            this.recognizer = recognizer;
+            this.decisionNumber = 97;
+            this.eot = DFA97_eot;
+            this.eof = DFA97_eof;
+            this.min = DFA97_min;
+            this.max = DFA97_max;
+            this.accept = DFA97_accept;
+            this.special = DFA97_special;
+            this.transition = DFA97_transition;
+        }
+        public String getDescription() {
+            return "1505:7: ( memberReference | typeReference | (~ ( LIDENTIFIER | UIDENTIFIER ) )=>)";
+        }
+        public int specialStateTransition(int s, IntStream _input) throws NoViableAltException {
+            TokenStream input = (TokenStream)_input;
+        	int _s = s;
+            switch ( s ) {
+                    case 0 : 
+                        int LA97_0 = input.LA(1);
+
+                         
+                        int index97_0 = input.index();
+                        input.rewind();
+
+                        s = -1;
+                        if ( (LA97_0==LIDENTIFIER) ) {s = 1;}
+
+                        else if ( (LA97_0==UIDENTIFIER) ) {s = 2;}
+
+                        else if ( (LA97_0==DECREMENT_OP) && (synpred5_Ceylon())) {s = 3;}
+
+                        else if ( (LA97_0==INCREMENT_OP) && (synpred5_Ceylon())) {s = 4;}
+
+                        else if ( (LA97_0==POWER_OP) && (synpred5_Ceylon())) {s = 5;}
+
+                        else if ( (LA97_0==DEFAULT_OP) && (synpred5_Ceylon())) {s = 6;}
+
+                        else if ( (LA97_0==PRODUCT_OP) && (synpred5_Ceylon())) {s = 7;}
+
+                        else if ( (LA97_0==QUOTIENT_OP) && (synpred5_Ceylon())) {s = 8;}
+
+                        else if ( (LA97_0==REMAINDER_OP) && (synpred5_Ceylon())) {s = 9;}
+
+                        else if ( (LA97_0==INTERSECTION_OP) && (synpred5_Ceylon())) {s = 10;}
+
+                        else if ( (LA97_0==SUM_OP) && (synpred5_Ceylon())) {s = 11;}
+
+                        else if ( (LA97_0==DIFFERENCE_OP) && (synpred5_Ceylon())) {s = 12;}
+
+                        else if ( (LA97_0==UNION_OP) && (synpred5_Ceylon())) {s = 13;}
+
+                        else if ( (LA97_0==XOR_OP) && (synpred5_Ceylon())) {s = 14;}
+
+                        else if ( (LA97_0==COMPLEMENT_OP) && (synpred5_Ceylon())) {s = 15;}
+
+                        else if ( (LA97_0==RBRACKET) && (synpred5_Ceylon())) {s = 16;}
+
+                        else if ( (LA97_0==ELLIPSIS) && (synpred5_Ceylon())) {s = 17;}
+
+                        else if ( (LA97_0==RANGE_OP) && (synpred5_Ceylon())) {s = 18;}
+
+                        else if ( (LA97_0==ENTRY_OP) && (synpred5_Ceylon())) {s = 19;}
+
+                        else if ( (LA97_0==EXISTS) && (synpred5_Ceylon())) {s = 20;}
+
+                        else if ( (LA97_0==NONEMPTY) && (synpred5_Ceylon())) {s = 21;}
+
+                        else if ( (LA97_0==COMPARE_OP) && (synpred5_Ceylon())) {s = 22;}
+
+                        else if ( (LA97_0==SMALL_AS_OP) && (synpred5_Ceylon())) {s = 23;}
+
+                        else if ( (LA97_0==LARGE_AS_OP) && (synpred5_Ceylon())) {s = 24;}
+
+                        else if ( (LA97_0==LARGER_OP) && (synpred5_Ceylon())) {s = 25;}
+
+                        else if ( (LA97_0==SMALLER_OP) && (synpred5_Ceylon())) {s = 26;}
+
+                        else if ( (LA97_0==IN_OP) && (synpred5_Ceylon())) {s = 27;}
+
+                        else if ( (LA97_0==IS_OP) && (synpred5_Ceylon())) {s = 28;}
+
+                        else if ( (LA97_0==EXTENDS) && (synpred5_Ceylon())) {s = 29;}
+
+                        else if ( (LA97_0==SATISFIES) && (synpred5_Ceylon())) {s = 30;}
+
+                        else if ( (LA97_0==EQUAL_OP) && (synpred5_Ceylon())) {s = 31;}
+
+                        else if ( (LA97_0==NOT_EQUAL_OP) && (synpred5_Ceylon())) {s = 32;}
+
+                        else if ( (LA97_0==IDENTICAL_OP) && (synpred5_Ceylon())) {s = 33;}
+
+                        else if ( (LA97_0==AND_OP) && (synpred5_Ceylon())) {s = 34;}
+
+                        else if ( (LA97_0==OR_OP) && (synpred5_Ceylon())) {s = 35;}
+
+                        else if ( (LA97_0==ELSE_CLAUSE) && (synpred5_Ceylon())) {s = 36;}
+
+                        else if ( (LA97_0==THEN_CLAUSE) && (synpred5_Ceylon())) {s = 37;}
+
+                        else if ( (LA97_0==ASSIGN_OP) && (synpred5_Ceylon())) {s = 38;}
+
+                        else if ( (LA97_0==ADD_ASSIGN_OP) && (synpred5_Ceylon())) {s = 39;}
+
+                        else if ( (LA97_0==SUBTRACT_ASSIGN_OP) && (synpred5_Ceylon())) {s = 40;}
+
+                        else if ( (LA97_0==MULTIPLY_ASSIGN_OP) && (synpred5_Ceylon())) {s = 41;}
+
+                        else if ( (LA97_0==DIVIDE_ASSIGN_OP) && (synpred5_Ceylon())) {s = 42;}
+
+                        else if ( (LA97_0==REMAINDER_ASSIGN_OP) && (synpred5_Ceylon())) {s = 43;}
+
+                        else if ( (LA97_0==INTERSECT_ASSIGN_OP) && (synpred5_Ceylon())) {s = 44;}
+
+                        else if ( (LA97_0==UNION_ASSIGN_OP) && (synpred5_Ceylon())) {s = 45;}
+
+                        else if ( (LA97_0==XOR_ASSIGN_OP) && (synpred5_Ceylon())) {s = 46;}
+
+                        else if ( (LA97_0==COMPLEMENT_ASSIGN_OP) && (synpred5_Ceylon())) {s = 47;}
+
+                        else if ( (LA97_0==AND_ASSIGN_OP) && (synpred5_Ceylon())) {s = 48;}
+
+                        else if ( (LA97_0==OR_ASSIGN_OP) && (synpred5_Ceylon())) {s = 49;}
+
+                        else if ( (LA97_0==SPECIFY) && (synpred5_Ceylon())) {s = 50;}
+
+                        else if ( (LA97_0==SEMICOLON) && (synpred5_Ceylon())) {s = 51;}
+
+                        else if ( (LA97_0==COMMA) && (synpred5_Ceylon())) {s = 52;}
+
+                        else if ( (LA97_0==RPAREN) && (synpred5_Ceylon())) {s = 53;}
+
+                        else if ( (LA97_0==RBRACE) && (synpred5_Ceylon())) {s = 54;}
+
+                        else if ( (LA97_0==FOR_CLAUSE) && (synpred5_Ceylon())) {s = 55;}
+
+                        else if ( (LA97_0==STRING_LITERAL) && (synpred5_Ceylon())) {s = 56;}
+
+                        else if ( (LA97_0==MEMBER_OP) && (synpred5_Ceylon())) {s = 57;}
+
+                        else if ( (LA97_0==SAFE_MEMBER_OP) && (synpred5_Ceylon())) {s = 58;}
+
+                        else if ( (LA97_0==SPREAD_OP) && (synpred5_Ceylon())) {s = 59;}
+
+                        else if ( (LA97_0==SAFE_INDEX_OP) && (synpred5_Ceylon())) {s = 60;}
+
+                        else if ( (LA97_0==INDEX_OP) && (synpred5_Ceylon())) {s = 61;}
+
+                        else if ( (LA97_0==LPAREN) && (synpred5_Ceylon())) {s = 62;}
+
+                        else if ( (LA97_0==LBRACE) && (synpred5_Ceylon())) {s = 63;}
+
+                         
+                        input.seek(index97_0);
+
+                        if ( s>=0 ) return s;
+                        break;
+            }
+            if (state.backtracking>0) {state.failed=true; return -1;}
+
+            NoViableAltException nvae =
+                new NoViableAltException(getDescription(), 97, _s, input);
+            error(nvae);
+            throw nvae;
+        }
+
+    }
+    static final String DFA103_eotS =
+        "\77\uffff";
+    static final String DFA103_eofS =
+        "\77\uffff";
+    static final String DFA103_minS =
+        "\1\6\1\0\75\uffff";
+    static final String DFA103_maxS =
+        "\1\173\1\0\75\uffff";
+    static final String DFA103_acceptS =
+        "\2\uffff\1\2\73\uffff\1\1";
+    static final String DFA103_specialS =
+        "\1\uffff\1\0\75\uffff}>";
+    static final String[] DFA103_transitionS = {
+            "\1\2\1\uffff\2\2\2\uffff\1\2\7\uffff\2\2\1\uffff\2\2\1\uffff"+
+            "\4\2\2\uffff\6\2\4\uffff\1\2\2\uffff\1\2\2\uffff\2\2\1\uffff"+
+            "\4\2\2\uffff\3\2\4\uffff\1\2\1\uffff\2\2\3\uffff\2\2\4\uffff"+
+            "\2\2\3\uffff\2\2\2\uffff\1\2\1\uffff\5\2\1\uffff\5\2\1\1\6\2"+
+            "\3\uffff\1\2\6\uffff\2\2\4\uffff\2\2",
+            "\1\uffff",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            ""
+    };
+
+    static final short[] DFA103_eot = DFA.unpackEncodedString(DFA103_eotS);
+    static final short[] DFA103_eof = DFA.unpackEncodedString(DFA103_eofS);
+    static final char[] DFA103_min = DFA.unpackEncodedStringToUnsignedChars(DFA103_minS);
+    static final char[] DFA103_max = DFA.unpackEncodedStringToUnsignedChars(DFA103_maxS);
+    static final short[] DFA103_accept = DFA.unpackEncodedString(DFA103_acceptS);
+    static final short[] DFA103_special = DFA.unpackEncodedString(DFA103_specialS);
+    static final short[][] DFA103_transition;
+
+    static {
+        int numStates = DFA103_transitionS.length;
+        DFA103_transition = new short[numStates][];
+        for (int i=0; i<numStates; i++) {
+            DFA103_transition[i] = DFA.unpackEncodedString(DFA103_transitionS[i]);
+        }
+    }
+
+    class DFA103 extends DFA {
+
+        public DFA103(BaseRecognizer recognizer) {
+            this.recognizer = recognizer;
+            this.decisionNumber = 103;
+            this.eot = DFA103_eot;
+            this.eof = DFA103_eof;
+            this.min = DFA103_min;
+            this.max = DFA103_max;
+            this.accept = DFA103_accept;
+            this.special = DFA103_special;
+            this.transition = DFA103_transition;
+        }
+        public String getDescription() {
+            return "1576:7: ( ( typeArgumentsStart )=> typeArguments )?";
+        }
+        public int specialStateTransition(int s, IntStream _input) throws NoViableAltException {
+            TokenStream input = (TokenStream)_input;
+        	int _s = s;
+            switch ( s ) {
+                    case 0 : 
+                        int LA103_1 = input.LA(1);
+
+                         
+                        int index103_1 = input.index();
+                        input.rewind();
+
+                        s = -1;
+                        if ( (synpred6_Ceylon()) ) {s = 62;}
+
+                        else if ( (true) ) {s = 2;}
+
+                         
+                        input.seek(index103_1);
+
+                        if ( s>=0 ) return s;
+                        break;
+            }
+            if (state.backtracking>0) {state.failed=true; return -1;}
+
+            NoViableAltException nvae =
+                new NoViableAltException(getDescription(), 103, _s, input);
+            error(nvae);
+            throw nvae;
+        }
+
+    }
+    static final String DFA104_eotS =
+        "\101\uffff";
+    static final String DFA104_eofS =
+        "\101\uffff";
+    static final String DFA104_minS =
+        "\1\6\1\0\77\uffff";
+    static final String DFA104_maxS =
+        "\1\173\1\0\77\uffff";
+    static final String DFA104_acceptS =
+        "\2\uffff\1\2\75\uffff\1\1";
+    static final String DFA104_specialS =
+        "\1\uffff\1\0\77\uffff}>";
+    static final String[] DFA104_transitionS = {
+            "\1\2\1\uffff\2\2\2\uffff\1\2\7\uffff\5\2\1\uffff\4\2\2\uffff"+
+            "\6\2\4\uffff\1\2\2\uffff\1\2\2\uffff\2\2\1\uffff\4\2\2\uffff"+
+            "\3\2\4\uffff\1\2\1\uffff\2\2\3\uffff\2\2\4\uffff\2\2\3\uffff"+
+            "\2\2\2\uffff\1\2\1\uffff\5\2\1\uffff\5\2\1\1\6\2\3\uffff\1\2"+
+            "\3\uffff\1\2\2\uffff\2\2\4\uffff\2\2",
+            "\1\uffff",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            ""
+    };
+
+    static final short[] DFA104_eot = DFA.unpackEncodedString(DFA104_eotS);
+    static final short[] DFA104_eof = DFA.unpackEncodedString(DFA104_eofS);
+    static final char[] DFA104_min = DFA.unpackEncodedStringToUnsignedChars(DFA104_minS);
+    static final char[] DFA104_max = DFA.unpackEncodedStringToUnsignedChars(DFA104_maxS);
+    static final short[] DFA104_accept = DFA.unpackEncodedString(DFA104_acceptS);
+    static final short[] DFA104_special = DFA.unpackEncodedString(DFA104_specialS);
+    static final short[][] DFA104_transition;
+
+    static {
+        int numStates = DFA104_transitionS.length;
+        DFA104_transition = new short[numStates][];
+        for (int i=0; i<numStates; i++) {
+            DFA104_transition[i] = DFA.unpackEncodedString(DFA104_transitionS[i]);
+        }
+    }
+
+    class DFA104 extends DFA {
+
+        public DFA104(BaseRecognizer recognizer) {
+            this.recognizer = recognizer;
+            this.decisionNumber = 104;
+            this.eot = DFA104_eot;
+            this.eof = DFA104_eof;
+            this.min = DFA104_min;
+            this.max = DFA104_max;
+            this.accept = DFA104_accept;
+            this.special = DFA104_special;
+            this.transition = DFA104_transition;
+        }
+        public String getDescription() {
+            return "1587:7: ( ( typeArgumentsStart )=> typeArguments )?";
+        }
+        public int specialStateTransition(int s, IntStream _input) throws NoViableAltException {
+            TokenStream input = (TokenStream)_input;
+        	int _s = s;
+            switch ( s ) {
+                    case 0 : 
+                        int LA104_1 = input.LA(1);
+
+                         
+                        int index104_1 = input.index();
+                        input.rewind();
+
+                        s = -1;
+                        if ( (synpred7_Ceylon()) ) {s = 64;}
+
+                        else if ( (true) ) {s = 2;}
+
+                         
+                        input.seek(index104_1);
+
+                        if ( s>=0 ) return s;
+                        break;
+            }
+            if (state.backtracking>0) {state.failed=true; return -1;}
+
+            NoViableAltException nvae =
+                new NoViableAltException(getDescription(), 104, _s, input);
+            error(nvae);
+            throw nvae;
+        }
+
+    }
+    static final String DFA169_eotS =
+        "\110\uffff";
+    static final String DFA169_eofS =
+        "\110\uffff";
+    static final String DFA169_minS =
+        "\1\6\5\uffff\4\0\6\uffff\2\0\2\uffff\1\0\4\uffff\2\0\6\uffff\3\0"+
+        "\31\uffff\1\0\12\uffff";
+    static final String DFA169_maxS =
+        "\1\173\5\uffff\4\0\6\uffff\2\0\2\uffff\1\0\4\uffff\2\0\6\uffff\3"+
+        "\0\31\uffff\1\0\12\uffff";
+    static final String DFA169_acceptS =
+        "\1\uffff\1\2\74\uffff\1\1\11\uffff";
+    static final String DFA169_specialS =
+        "\1\0\5\uffff\1\1\1\2\1\3\1\4\6\uffff\1\5\1\6\2\uffff\1\7\4\uffff"+
+        "\1\10\1\11\6\uffff\1\12\1\13\1\14\31\uffff\1\15\12\uffff}>";
+    static final String[] DFA169_transitionS = {
+            "\1\1\1\uffff\2\1\2\uffff\1\1\5\uffff\1\76\1\uffff\2\1\1\uffff"+
+            "\1\1\1\24\1\uffff\1\10\1\1\1\21\1\1\2\uffff\4\1\1\31\1\42\3"+
+            "\uffff\1\76\1\1\2\uffff\1\1\2\uffff\1\11\1\1\1\uffff\3\1\1\41"+
+            "\2\uffff\2\1\1\7\1\uffff\1\76\2\uffff\1\6\1\uffff\2\1\2\uffff"+
+            "\1\76\1\32\1\1\1\76\3\uffff\2\1\1\uffff\1\76\1\uffff\2\1\1\uffff"+
+            "\1\76\1\1\1\uffff\5\1\1\uffff\3\1\1\43\5\1\1\75\1\1\1\20\1\76"+
+            "\2\uffff\1\1\1\76\3\uffff\1\76\1\uffff\2\1\4\uffff\2\1",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "\1\uffff",
+            "\1\uffff",
+            "\1\uffff",
+            "\1\uffff",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "\1\uffff",
+            "\1\uffff",
+            "",
+            "",
+            "\1\uffff",
+            "",
+            "",
+            "",
+            "",
+            "\1\uffff",
+            "\1\uffff",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "\1\uffff",
+            "\1\uffff",
+            "\1\uffff",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "\1\uffff",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            ""
+    };
+
+    static final short[] DFA169_eot = DFA.unpackEncodedString(DFA169_eotS);
+    static final short[] DFA169_eof = DFA.unpackEncodedString(DFA169_eofS);
+    static final char[] DFA169_min = DFA.unpackEncodedStringToUnsignedChars(DFA169_minS);
+    static final char[] DFA169_max = DFA.unpackEncodedStringToUnsignedChars(DFA169_maxS);
+    static final short[] DFA169_accept = DFA.unpackEncodedString(DFA169_acceptS);
+    static final short[] DFA169_special = DFA.unpackEncodedString(DFA169_specialS);
+    static final short[][] DFA169_transition;
+
+    static {
+        int numStates = DFA169_transitionS.length;
+        DFA169_transition = new short[numStates][];
+        for (int i=0; i<numStates; i++) {
+            DFA169_transition[i] = DFA.unpackEncodedString(DFA169_transitionS[i]);
+        }
+    }
+
+    class DFA169 extends DFA {
+
+        public DFA169(BaseRecognizer recognizer) {
+            this.recognizer = recognizer;
+            this.decisionNumber = 169;
+            this.eot = DFA169_eot;
+            this.eof = DFA169_eof;
+            this.min = DFA169_min;
+            this.max = DFA169_max;
+            this.accept = DFA169_accept;
+            this.special = DFA169_special;
+            this.transition = DFA169_transition;
+        }
+        public String getDescription() {
+            return "()+ loopback of 2287:7: ({...}? => expression sl2= stringLiteral )+";
+        }
+        public int specialStateTransition(int s, IntStream _input) throws NoViableAltException {
+            TokenStream input = (TokenStream)_input;
+        	int _s = s;
+            switch ( s ) {
+                    case 0 : 
+                        int LA169_0 = input.LA(1);
+
+                         
+                        int index169_0 = input.index();
+                        input.rewind();
+
+                        s = -1;
+                        if ( (LA169_0==ADD_ASSIGN_OP||(LA169_0 >= AND_ASSIGN_OP && LA169_0 <= AND_OP)||LA169_0==ASSIGN_OP||(LA169_0 >= COMMA && LA169_0 <= COMPARE_OP)||LA169_0==COMPLEMENT_ASSIGN_OP||LA169_0==DEFAULT_OP||LA169_0==DIVIDE_ASSIGN_OP||(LA169_0 >= ELLIPSIS && LA169_0 <= EQUAL_OP)||LA169_0==FOR_CLAUSE||LA169_0==IDENTICAL_OP||LA169_0==INDEX_OP||(LA169_0 >= INTERSECTION_OP && LA169_0 <= IN_OP)||(LA169_0 >= LARGER_OP && LA169_0 <= LARGE_AS_OP)||(LA169_0 >= MEMBER_OP && LA169_0 <= MULTIPLY_ASSIGN_OP)||LA169_0==NOT_EQUAL_OP||(LA169_0 >= OR_ASSIGN_OP && LA169_0 <= OR_OP)||(LA169_0 >= POWER_OP && LA169_0 <= PRODUCT_OP)||LA169_0==QUOTIENT_OP||(LA169_0 >= RANGE_OP && LA169_0 <= REMAINDER_OP)||(LA169_0 >= RPAREN && LA169_0 <= SAFE_MEMBER_OP)||(LA169_0 >= SEMICOLON && LA169_0 <= SPREAD_OP)||LA169_0==SUBTRACT_ASSIGN_OP||LA169_0==THEN_CLAUSE||(LA169_0 >= UNION_ASSIGN_OP && LA169_0 <= UNION_OP)||(LA169_0 >= XOR_ASSIGN_OP && LA169_0 <= XOR_OP)) ) {s = 1;}
+
+                        else if ( (LA169_0==LPAREN) ) {s = 6;}
+
+                        else if ( (LA169_0==LBRACE) ) {s = 7;}
+
+                        else if ( (LA169_0==DECREMENT_OP) ) {s = 8;}
+
+                        else if ( (LA169_0==INCREMENT_OP) ) {s = 9;}
+
+                        else if ( (LA169_0==SUM_OP) ) {s = 16;}
+
+                        else if ( (LA169_0==DIFFERENCE_OP) ) {s = 17;}
+
+                        else if ( (LA169_0==COMPLEMENT_OP) ) {s = 20;}
+
+                        else if ( (LA169_0==EXISTS) ) {s = 25;}
+
+                        else if ( (LA169_0==NONEMPTY) ) {s = 26;}
+
+                        else if ( (LA169_0==IS_OP) ) {s = 33;}
+
+                        else if ( (LA169_0==EXTENDS) ) {s = 34;}
+
+                        else if ( (LA169_0==SATISFIES) ) {s = 35;}
+
+                        else if ( (LA169_0==STRING_LITERAL) ) {s = 61;}
+
+                        else if ( (LA169_0==CHAR_LITERAL||LA169_0==FLOAT_LITERAL||LA169_0==LIDENTIFIER||LA169_0==NATURAL_LITERAL||LA169_0==NOT_OP||LA169_0==OUTER||LA169_0==QUOTED_LITERAL||LA169_0==SUPER||LA169_0==THIS||LA169_0==UIDENTIFIER) && (( isInterpolatedExpressionStart(input.LA(1)) ))) {s = 62;}
+
+                         
+                        input.seek(index169_0);
+
+                        if ( s>=0 ) return s;
+                        break;
+
+                    case 1 : 
+                        int LA169_6 = input.LA(1);
+
+                         
+                        int index169_6 = input.index();
+                        input.rewind();
+
+                        s = -1;
+                        if ( (( isInterpolatedExpressionStart(input.LA(1)) )) ) {s = 62;}
+
+                        else if ( (true) ) {s = 1;}
+
+                         
+                        input.seek(index169_6);
+
+                        if ( s>=0 ) return s;
+                        break;
+
+                    case 2 : 
+                        int LA169_7 = input.LA(1);
+
+                         
+                        int index169_7 = input.index();
+                        input.rewind();
+
+                        s = -1;
+                        if ( (( isInterpolatedExpressionStart(input.LA(1)) )) ) {s = 62;}
+
+                        else if ( (true) ) {s = 1;}
+
+                         
+                        input.seek(index169_7);
+
+                        if ( s>=0 ) return s;
+                        break;
+
+                    case 3 : 
+                        int LA169_8 = input.LA(1);
+
+                         
+                        int index169_8 = input.index();
+                        input.rewind();
+
+                        s = -1;
+                        if ( (( isInterpolatedExpressionStart(input.LA(1)) )) ) {s = 62;}
+
+                        else if ( (true) ) {s = 1;}
+
+                         
+                        input.seek(index169_8);
+
+                        if ( s>=0 ) return s;
+                        break;
+
+                    case 4 : 
+                        int LA169_9 = input.LA(1);
+
+                         
+                        int index169_9 = input.index();
+                        input.rewind();
+
+                        s = -1;
+                        if ( (( isInterpolatedExpressionStart(input.LA(1)) )) ) {s = 62;}
+
+                        else if ( (true) ) {s = 1;}
+
+                         
+                        input.seek(index169_9);
+
+                        if ( s>=0 ) return s;
+                        break;
+
+                    case 5 : 
+                        int LA169_16 = input.LA(1);
+
+                         
+                        int index169_16 = input.index();
+                        input.rewind();
+
+                        s = -1;
+                        if ( (( isInterpolatedExpressionStart(input.LA(1)) )) ) {s = 62;}
+
+                        else if ( (true) ) {s = 1;}
+
+                         
+                        input.seek(index169_16);
+
+                        if ( s>=0 ) return s;
+                        break;
+
+                    case 6 : 
+                        int LA169_17 = input.LA(1);
+
+                         
+                        int index169_17 = input.index();
+                        input.rewind();
+
+                        s = -1;
+                        if ( (( isInterpolatedExpressionStart(input.LA(1)) )) ) {s = 62;}
+
+                        else if ( (true) ) {s = 1;}
+
+                         
+                        input.seek(index169_17);
+
+                        if ( s>=0 ) return s;
+                        break;
+
+                    case 7 : 
+                        int LA169_20 = input.LA(1);
+
+                         
+                        int index169_20 = input.index();
+                        input.rewind();
+
+                        s = -1;
+                        if ( (( isInterpolatedExpressionStart(input.LA(1)) )) ) {s = 62;}
+
+                        else if ( (true) ) {s = 1;}
+
+                         
+                        input.seek(index169_20);
+
+                        if ( s>=0 ) return s;
+                        break;
+
+                    case 8 : 
+                        int LA169_25 = input.LA(1);
+
+                         
+                        int index169_25 = input.index();
+                        input.rewind();
+
+                        s = -1;
+                        if ( (( isInterpolatedExpressionStart(input.LA(1)) )) ) {s = 62;}
+
+                        else if ( (true) ) {s = 1;}
+
+                         
+                        input.seek(index169_25);
+
+                        if ( s>=0 ) return s;
+                        break;
+
+                    case 9 : 
+                        int LA169_26 = input.LA(1);
+
+                         
+                        int index169_26 = input.index();
+                        input.rewind();
+
+                        s = -1;
+                        if ( (( isInterpolatedExpressionStart(input.LA(1)) )) ) {s = 62;}
+
+                        else if ( (true) ) {s = 1;}
+
+                         
+                        input.seek(index169_26);
+
+                        if ( s>=0 ) return s;
+                        break;
+
+                    case 10 : 
+                        int LA169_33 = input.LA(1);
+
+                         
+                        int index169_33 = input.index();
+                        input.rewind();
+
+                        s = -1;
+                        if ( (( isInterpolatedExpressionStart(input.LA(1)) )) ) {s = 62;}
+
+                        else if ( (true) ) {s = 1;}
+
+                         
+                        input.seek(index169_33);
+
+                        if ( s>=0 ) return s;
+                        break;
+
+                    case 11 : 
+                        int LA169_34 = input.LA(1);
+
+                         
+                        int index169_34 = input.index();
+                        input.rewind();
+
+                        s = -1;
+                        if ( (( isInterpolatedExpressionStart(input.LA(1)) )) ) {s = 62;}
+
+                        else if ( (true) ) {s = 1;}
+
+                         
+                        input.seek(index169_34);
+
+                        if ( s>=0 ) return s;
+                        break;
+
+                    case 12 : 
+                        int LA169_35 = input.LA(1);
+
+                         
+                        int index169_35 = input.index();
+                        input.rewind();
+
+                        s = -1;
+                        if ( (( isInterpolatedExpressionStart(input.LA(1)) )) ) {s = 62;}
+
+                        else if ( (true) ) {s = 1;}
+
+                         
+                        input.seek(index169_35);
+
+                        if ( s>=0 ) return s;
+                        break;
+
+                    case 13 : 
+                        int LA169_61 = input.LA(1);
+
+                         
+                        int index169_61 = input.index();
+                        input.rewind();
+
+                        s = -1;
+                        if ( (( isInterpolatedExpressionStart(input.LA(1)) )) ) {s = 62;}
+
+                        else if ( (true) ) {s = 1;}
+
+                         
+                        input.seek(index169_61);
+
+                        if ( s>=0 ) return s;
+                        break;
+            }
+            if (state.backtracking>0) {state.failed=true; return -1;}
+
+            NoViableAltException nvae =
+                new NoViableAltException(getDescription(), 169, _s, input);
+            error(nvae);
+            throw nvae;
+        }
+
+    }
+    static final String DFA173_eotS =
+        "\13\uffff";
+    static final String DFA173_eofS =
+        "\13\uffff";
+    static final String DFA173_minS =
+        "\1\24\1\12\1\uffff\1\65\1\uffff\1\12\2\24\2\12\1\24";
+    static final String DFA173_maxS =
+        "\2\165\1\uffff\1\162\1\uffff\1\165\1\71\1\162\2\165\1\71";
+    static final String DFA173_acceptS =
+        "\2\uffff\1\2\1\uffff\1\1\6\uffff";
+    static final String DFA173_specialS =
+        "\13\uffff}>";
+    static final String[] DFA173_transitionS = {
+            "\1\2\13\uffff\1\2\22\uffff\1\2\5\uffff\1\2\3\uffff\1\2\40\uffff"+
+            "\1\2\23\uffff\1\1\2\uffff\1\2",
+            "\1\4\1\uffff\1\2\7\uffff\1\4\6\uffff\1\4\4\uffff\1\4\22\uffff"+
+            "\1\4\5\uffff\1\4\1\uffff\1\2\1\uffff\1\4\2\uffff\1\2\1\uffff"+
+            "\1\4\33\uffff\1\4\3\uffff\1\2\1\3\1\uffff\1\2\14\uffff\1\4\2"+
+            "\uffff\1\4",
+            "",
+            "\1\2\7\uffff\1\2\21\uffff\1\2\42\uffff\1\5",
+            "",
+            "\1\4\11\uffff\1\7\6\uffff\1\4\4\uffff\1\6\1\uffff\1\4\20\uffff"+
+            "\1\4\5\uffff\1\10\10\uffff\1\4\40\uffff\1\4\21\uffff\1\4",
+            "\1\7\44\uffff\1\10",
+            "\1\7\40\uffff\1\2\3\uffff\1\10\3\uffff\1\2\21\uffff\1\2\42"+
+            "\uffff\1\11",
+            "\1\4\11\uffff\1\4\6\uffff\1\4\4\uffff\1\4\22\uffff\1\4\5\uffff"+
+            "\1\4\3\uffff\1\4\2\uffff\1\2\1\uffff\1\4\33\uffff\1\4\23\uffff"+
+            "\1\4\2\uffff\1\4",
+            "\1\4\11\uffff\1\7\6\uffff\1\4\4\uffff\1\12\1\uffff\1\4\20\uffff"+
+            "\1\4\5\uffff\1\10\10\uffff\1\4\40\uffff\1\4\21\uffff\1\4",
+            "\1\7\44\uffff\1\10"
+    };
+
+    static final short[] DFA173_eot = DFA.unpackEncodedString(DFA173_eotS);
+    static final short[] DFA173_eof = DFA.unpackEncodedString(DFA173_eofS);
+    static final char[] DFA173_min = DFA.unpackEncodedStringToUnsignedChars(DFA173_minS);
+    static final char[] DFA173_max = DFA.unpackEncodedStringToUnsignedChars(DFA173_maxS);
+    static final short[] DFA173_accept = DFA.unpackEncodedString(DFA173_acceptS);
+    static final short[] DFA173_special = DFA.unpackEncodedString(DFA173_specialS);
+    static final short[][] DFA173_transition;
+
+    static {
+        int numStates = DFA173_transitionS.length;
+        DFA173_transition = new short[numStates][];
+        for (int i=0; i<numStates; i++) {
+            DFA173_transition[i] = DFA.unpackEncodedString(DFA173_transitionS[i]);
+        }
+    }
+
+    class DFA173 extends DFA {
+
+        public DFA173(BaseRecognizer recognizer) {
+            this.recognizer = recognizer;
+            this.decisionNumber = 173;
+            this.eot = DFA173_eot;
+            this.eof = DFA173_eof;
+            this.min = DFA173_min;
+            this.max = DFA173_max;
+            this.accept = DFA173_accept;
+            this.special = DFA173_special;
+            this.transition = DFA173_transition;
+        }
+        public String getDescription() {
+            return "2347:9: (ut2= abbreviatedType |)";
+        }
+    }
+    static final String DFA175_eotS =
+        "\13\uffff";
+    static final String DFA175_eofS =
+        "\13\uffff";
+    static final String DFA175_minS =
+        "\1\24\1\12\1\uffff\1\65\1\uffff\1\12\2\24\2\12\1\24";
+    static final String DFA175_maxS =
+        "\2\165\1\uffff\1\162\1\uffff\1\165\1\71\1\162\2\165\1\71";
+    static final String DFA175_acceptS =
+        "\2\uffff\1\2\1\uffff\1\1\6\uffff";
+    static final String DFA175_specialS =
+        "\13\uffff}>";
+    static final String[] DFA175_transitionS = {
+            "\1\2\13\uffff\1\2\30\uffff\1\2\3\uffff\1\2\40\uffff\1\2\23\uffff"+
+            "\1\1\2\uffff\1\2",
+            "\1\4\1\uffff\1\2\7\uffff\1\4\6\uffff\1\4\4\uffff\1\4\1\uffff"+
+            "\1\4\20\uffff\1\4\5\uffff\1\4\1\uffff\1\2\1\uffff\1\4\2\uffff"+
+            "\1\2\1\uffff\1\4\33\uffff\1\4\3\uffff\1\2\1\3\1\uffff\1\2\14"+
+            "\uffff\1\4\2\uffff\1\4",
+            "",
+            "\1\2\7\uffff\1\2\21\uffff\1\2\42\uffff\1\5",
+            "",
+            "\1\4\11\uffff\1\7\6\uffff\1\4\4\uffff\1\6\1\uffff\1\4\20\uffff"+
+            "\1\4\5\uffff\1\10\10\uffff\1\4\40\uffff\1\4\21\uffff\1\4",
+            "\1\7\44\uffff\1\10",
+            "\1\7\40\uffff\1\2\3\uffff\1\10\3\uffff\1\2\21\uffff\1\2\42"+
+            "\uffff\1\11",
+            "\1\4\11\uffff\1\4\6\uffff\1\4\4\uffff\1\4\1\uffff\1\4\20\uffff"+
+            "\1\4\5\uffff\1\4\3\uffff\1\4\2\uffff\1\2\1\uffff\1\4\33\uffff"+
+            "\1\4\23\uffff\1\4\2\uffff\1\4",
+            "\1\4\11\uffff\1\7\6\uffff\1\4\4\uffff\1\12\1\uffff\1\4\20\uffff"+
+            "\1\4\5\uffff\1\10\10\uffff\1\4\40\uffff\1\4\21\uffff\1\4",
+            "\1\7\44\uffff\1\10"
+    };
+
+    static final short[] DFA175_eot = DFA.unpackEncodedString(DFA175_eotS);
+    static final short[] DFA175_eof = DFA.unpackEncodedString(DFA175_eofS);
+    static final char[] DFA175_min = DFA.unpackEncodedStringToUnsignedChars(DFA175_minS);
+    static final char[] DFA175_max = DFA.unpackEncodedStringToUnsignedChars(DFA175_maxS);
+    static final short[] DFA175_accept = DFA.unpackEncodedString(DFA175_acceptS);
+    static final short[] DFA175_special = DFA.unpackEncodedString(DFA175_specialS);
+    static final short[][] DFA175_transition;
+
+    static {
+        int numStates = DFA175_transitionS.length;
+        DFA175_transition = new short[numStates][];
+        for (int i=0; i<numStates; i++) {
+            DFA175_transition[i] = DFA.unpackEncodedString(DFA175_transitionS[i]);
+        }
+    }
+
+    class DFA175 extends DFA {
+
+        public DFA175(BaseRecognizer recognizer) {
+            this.recognizer = recognizer;
+            this.decisionNumber = 175;
+            this.eot = DFA175_eot;
+            this.eof = DFA175_eof;
+            this.min = DFA175_min;
+            this.max = DFA175_max;
+            this.accept = DFA175_accept;
+            this.special = DFA175_special;
+            this.transition = DFA175_transition;
+        }
+        public String getDescription() {
+            return "2368:11: (it2= intersectionType |)";
+        }
+    }
+    static final String DFA178_eotS =
+        "\13\uffff";
+    static final String DFA178_eofS =
+        "\13\uffff";
+    static final String DFA178_minS =
+        "\1\24\1\12\1\uffff\1\65\1\uffff\1\12\2\24\2\12\1\24";
+    static final String DFA178_maxS =
+        "\2\165\1\uffff\1\162\1\uffff\1\165\1\71\1\162\2\165\1\71";
+    static final String DFA178_acceptS =
+        "\2\uffff\1\2\1\uffff\1\1\6\uffff";
+    static final String DFA178_specialS =
+        "\13\uffff}>";
+    static final String[] DFA178_transitionS = {
+            "\1\2\13\uffff\1\2\22\uffff\1\2\5\uffff\1\2\3\uffff\1\2\40\uffff"+
+            "\1\2\23\uffff\1\1\2\uffff\1\2",
+            "\1\4\1\uffff\1\2\7\uffff\1\4\6\uffff\1\4\4\uffff\1\4\1\uffff"+
+            "\1\4\20\uffff\1\4\5\uffff\1\4\1\uffff\1\2\1\uffff\1\4\2\uffff"+
+            "\1\2\1\uffff\1\4\33\uffff\1\4\3\uffff\1\2\1\3\1\uffff\1\2\14"+
+            "\uffff\1\4\2\uffff\1\4",
+            "",
+            "\1\2\7\uffff\1\2\21\uffff\1\2\42\uffff\1\5",
+            "",
+            "\1\4\11\uffff\1\7\6\uffff\1\4\4\uffff\1\6\1\uffff\1\4\20\uffff"+
+            "\1\4\5\uffff\1\10\10\uffff\1\4\40\uffff\1\4\21\uffff\1\4",
+            "\1\7\44\uffff\1\10",
+            "\1\7\40\uffff\1\2\3\uffff\1\10\3\uffff\1\2\21\uffff\1\2\42"+
+            "\uffff\1\11",
+            "\1\4\11\uffff\1\4\6\uffff\1\4\4\uffff\1\4\1\uffff\1\4\20\uffff"+
+            "\1\4\5\uffff\1\4\3\uffff\1\4\2\uffff\1\2\1\uffff\1\4\33\uffff"+
+            "\1\4\23\uffff\1\4\2\uffff\1\4",
+            "\1\4\11\uffff\1\7\6\uffff\1\4\4\uffff\1\12\1\uffff\1\4\20\uffff"+
+            "\1\4\5\uffff\1\10\10\uffff\1\4\40\uffff\1\4\21\uffff\1\4",
+            "\1\7\44\uffff\1\10"
+    };
+
+    static final short[] DFA178_eot = DFA.unpackEncodedString(DFA178_eotS);
+    static final short[] DFA178_eof = DFA.unpackEncodedString(DFA178_eofS);
+    static final char[] DFA178_min = DFA.unpackEncodedStringToUnsignedChars(DFA178_minS);
+    static final char[] DFA178_max = DFA.unpackEncodedStringToUnsignedChars(DFA178_maxS);
+    static final short[] DFA178_accept = DFA.unpackEncodedString(DFA178_acceptS);
+    static final short[] DFA178_special = DFA.unpackEncodedString(DFA178_specialS);
+    static final short[][] DFA178_transition;
+
+    static {
+        int numStates = DFA178_transitionS.length;
+        DFA178_transition = new short[numStates][];
+        for (int i=0; i<numStates; i++) {
+            DFA178_transition[i] = DFA.unpackEncodedString(DFA178_transitionS[i]);
+        }
+    }
+
+    class DFA178 extends DFA {
+
+        public DFA178(BaseRecognizer recognizer) {
+            this.recognizer = recognizer;
+            this.decisionNumber = 178;
+            this.eot = DFA178_eot;
+            this.eof = DFA178_eof;
+            this.min = DFA178_min;
+            this.max = DFA178_max;
+            this.accept = DFA178_accept;
+            this.special = DFA178_special;
+            this.transition = DFA178_transition;
+        }
+        public String getDescription() {
+            return "2390:11: (at2= entryType |)";
+        }
+    }
+ 
+
+    public static final BitSet FOLLOW_compilerAnnotations_in_compilationUnit85 = new BitSet(new long[]{0x0000000000000000L,0x0000000400000000L});
+    public static final BitSet FOLLOW_SEMICOLON_in_compilationUnit95 = new BitSet(new long[]{0x2004880000480800L,0x00C4000000001000L});
+    public static final BitSet FOLLOW_importList_in_compilationUnit122 = new BitSet(new long[]{0x2004080000480800L,0x00C4000000001000L});
+    public static final BitSet FOLLOW_compilerAnnotations_in_compilationUnit152 = new BitSet(new long[]{0x2004080000080800L,0x00C4000000001000L});
+    public static final BitSet FOLLOW_declaration_in_compilationUnit154 = new BitSet(new long[]{0x2004080000480800L,0x00C4000000001000L});
+    public static final BitSet FOLLOW_EOF_in_compilationUnit182 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_importDeclaration_in_importList214 = new BitSet(new long[]{0x0000800000000002L});
+    public static final BitSet FOLLOW_IMPORT_in_importDeclaration249 = new BitSet(new long[]{0x2800000000000000L});
+    public static final BitSet FOLLOW_packageName_in_importDeclaration280 = new BitSet(new long[]{0x0800000000000000L,0x0000000000000004L});
+    public static final BitSet FOLLOW_MEMBER_OP_in_importDeclaration317 = new BitSet(new long[]{0x2800000000000000L,0x0000000000000004L});
+    public static final BitSet FOLLOW_packageName_in_importDeclaration358 = new BitSet(new long[]{0x0800000000000000L,0x0000000000000004L});
+    public static final BitSet FOLLOW_importElementList_in_importDeclaration436 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_LBRACE_in_importElementList480 = new BitSet(new long[]{0x2000000100400000L,0x0004000002000000L});
+    public static final BitSet FOLLOW_importElement_in_importElementList503 = new BitSet(new long[]{0x0000000000100000L,0x0000000002000000L});
+    public static final BitSet FOLLOW_COMMA_in_importElementList532 = new BitSet(new long[]{0x2000000000400000L,0x0004000000000000L});
+    public static final BitSet FOLLOW_importElement_in_importElementList545 = new BitSet(new long[]{0x0000000000100000L,0x0000000002000000L});
+    public static final BitSet FOLLOW_COMMA_in_importElementList587 = new BitSet(new long[]{0x0000000100000000L,0x0000000002000000L});
+    public static final BitSet FOLLOW_importWildcard_in_importElementList621 = new BitSet(new long[]{0x0000000000000000L,0x0000000002000000L});
+    public static final BitSet FOLLOW_importWildcard_in_importElementList676 = new BitSet(new long[]{0x0000000000000000L,0x0000000002000000L});
+    public static final BitSet FOLLOW_RBRACE_in_importElementList691 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_compilerAnnotations_in_importElement718 = new BitSet(new long[]{0x2000000000000000L,0x0004000000000000L});
+    public static final BitSet FOLLOW_memberAlias_in_importElement732 = new BitSet(new long[]{0x2000000000000000L});
+    public static final BitSet FOLLOW_memberName_in_importElement735 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_typeAlias_in_importElement751 = new BitSet(new long[]{0x0000000000000000L,0x0004000000000000L});
+    public static final BitSet FOLLOW_typeName_in_importElement754 = new BitSet(new long[]{0x0800000000000002L});
+    public static final BitSet FOLLOW_importElementList_in_importElement784 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_ELLIPSIS_in_importWildcard840 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_memberNameDeclaration_in_memberAlias869 = new BitSet(new long[]{0x0000000000000000L,0x0000002000000000L});
+    public static final BitSet FOLLOW_SPECIFY_in_memberAlias871 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_typeNameDeclaration_in_typeAlias900 = new BitSet(new long[]{0x0000000000000000L,0x0000002000000000L});
+    public static final BitSet FOLLOW_SPECIFY_in_typeAlias902 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_LIDENTIFIER_in_packageName931 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_UIDENTIFIER_in_typeName960 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_LIDENTIFIER_in_annotationName989 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_LIDENTIFIER_in_memberName1018 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_memberName_in_memberNameDeclaration1051 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_typeName_in_memberNameDeclaration1069 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_typeName_in_typeNameDeclaration1099 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_memberName_in_typeNameDeclaration1117 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_OBJECT_DEFINITION_in_objectDeclaration1147 = new BitSet(new long[]{0x2000000000000000L,0x0004000000000000L});
+    public static final BitSet FOLLOW_memberNameDeclaration_in_objectDeclaration1163 = new BitSet(new long[]{0x0800002000000000L,0x0000000600000000L});
+    public static final BitSet FOLLOW_extendedType_in_objectDeclaration1190 = new BitSet(new long[]{0x0800000000000000L,0x0000000600000000L});
+    public static final BitSet FOLLOW_satisfiedTypes_in_objectDeclaration1229 = new BitSet(new long[]{0x0800000000000000L,0x0000000400000000L});
+    public static final BitSet FOLLOW_classBody_in_objectDeclaration1267 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_SEMICOLON_in_objectDeclaration1297 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_VOID_MODIFIER_in_voidOrInferredMethodDeclaration1360 = new BitSet(new long[]{0x2000000000000000L,0x0004000000000000L});
+    public static final BitSet FOLLOW_FUNCTION_MODIFIER_in_voidOrInferredMethodDeclaration1380 = new BitSet(new long[]{0x2000000000000000L,0x0004000000000000L});
+    public static final BitSet FOLLOW_memberNameDeclaration_in_voidOrInferredMethodDeclaration1406 = new BitSet(new long[]{0x0800000000400000L,0x0002002C00000001L});
+    public static final BitSet FOLLOW_typeParameters_in_voidOrInferredMethodDeclaration1432 = new BitSet(new long[]{0x0800000000400000L,0x0002002400000001L});
+    public static final BitSet FOLLOW_parameters_in_voidOrInferredMethodDeclaration1477 = new BitSet(new long[]{0x0800000000400000L,0x0002002400000001L});
+    public static final BitSet FOLLOW_typeConstraints_in_voidOrInferredMethodDeclaration1521 = new BitSet(new long[]{0x0800000000000000L,0x0000002400000000L});
+    public static final BitSet FOLLOW_block_in_voidOrInferredMethodDeclaration1569 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_specifier_in_voidOrInferredMethodDeclaration1618 = new BitSet(new long[]{0x0000000000000000L,0x0000000400000000L});
+    public static final BitSet FOLLOW_SEMICOLON_in_voidOrInferredMethodDeclaration1651 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_ASSIGN_in_setterDeclaration1697 = new BitSet(new long[]{0x2000000000000000L,0x0004000000000000L});
+    public static final BitSet FOLLOW_memberNameDeclaration_in_setterDeclaration1714 = new BitSet(new long[]{0x0800000000000000L,0x0000000400000000L});
+    public static final BitSet FOLLOW_block_in_setterDeclaration1742 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_SEMICOLON_in_setterDeclaration1772 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_VALUE_MODIFIER_in_inferredAttributeDeclaration1825 = new BitSet(new long[]{0x2000000000000000L,0x0004000000000000L});
+    public static final BitSet FOLLOW_memberNameDeclaration_in_inferredAttributeDeclaration1842 = new BitSet(new long[]{0x0800000000001000L,0x0000002400000000L});
+    public static final BitSet FOLLOW_specifier_in_inferredAttributeDeclaration1881 = new BitSet(new long[]{0x0000000000000000L,0x0000000400000000L});
+    public static final BitSet FOLLOW_initializer_in_inferredAttributeDeclaration1917 = new BitSet(new long[]{0x0000000000000000L,0x0000000400000000L});
+    public static final BitSet FOLLOW_SEMICOLON_in_inferredAttributeDeclaration1950 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_block_in_inferredAttributeDeclaration1998 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_type_in_typedMethodOrAttributeDeclaration2055 = new BitSet(new long[]{0x2000000000000000L,0x0004000000000000L});
+    public static final BitSet FOLLOW_memberNameDeclaration_in_typedMethodOrAttributeDeclaration2071 = new BitSet(new long[]{0x0800000000001000L,0x0000002C00000001L});
+    public static final BitSet FOLLOW_typeParameters_in_typedMethodOrAttributeDeclaration2120 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000001L});
+    public static final BitSet FOLLOW_parameters_in_typedMethodOrAttributeDeclaration2165 = new BitSet(new long[]{0x0800000000400000L,0x0002002400000001L});
+    public static final BitSet FOLLOW_typeConstraints_in_typedMethodOrAttributeDeclaration2220 = new BitSet(new long[]{0x0800000000000000L,0x0000002400000000L});
+    public static final BitSet FOLLOW_methodBody_in_typedMethodOrAttributeDeclaration2280 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_specifier_in_typedMethodOrAttributeDeclaration2341 = new BitSet(new long[]{0x0000000000000000L,0x0000000400000000L});
+    public static final BitSet FOLLOW_SEMICOLON_in_typedMethodOrAttributeDeclaration2381 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_specifier_in_typedMethodOrAttributeDeclaration2445 = new BitSet(new long[]{0x0000000000000000L,0x0000000400000000L});
+    public static final BitSet FOLLOW_initializer_in_typedMethodOrAttributeDeclaration2481 = new BitSet(new long[]{0x0000000000000000L,0x0000000400000000L});
+    public static final BitSet FOLLOW_SEMICOLON_in_typedMethodOrAttributeDeclaration2516 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_attributeBody_in_typedMethodOrAttributeDeclaration2564 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_INTERFACE_DEFINITION_in_interfaceDeclaration2620 = new BitSet(new long[]{0x2000000000000000L,0x0004000000000000L});
+    public static final BitSet FOLLOW_typeNameDeclaration_in_interfaceDeclaration2636 = new BitSet(new long[]{0x0800000000410020L,0x0002002E00000000L});
+    public static final BitSet FOLLOW_typeParameters_in_interfaceDeclaration2663 = new BitSet(new long[]{0x0800000000410020L,0x0002002600000000L});
+    public static final BitSet FOLLOW_caseTypes_in_interfaceDeclaration2701 = new BitSet(new long[]{0x0800000000400020L,0x0002002600000000L});
+    public static final BitSet FOLLOW_adaptedTypes_in_interfaceDeclaration2747 = new BitSet(new long[]{0x0800000000400000L,0x0002002600000000L});
+    public static final BitSet FOLLOW_satisfiedTypes_in_interfaceDeclaration2784 = new BitSet(new long[]{0x0800000000400000L,0x0002002400000000L});
+    public static final BitSet FOLLOW_typeConstraints_in_interfaceDeclaration2821 = new BitSet(new long[]{0x0800000000000000L,0x0000002400000000L});
+    public static final BitSet FOLLOW_interfaceBody_in_interfaceDeclaration2868 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_typeSpecifier_in_interfaceDeclaration2916 = new BitSet(new long[]{0x0000000000000000L,0x0000000400000000L});
+    public static final BitSet FOLLOW_SEMICOLON_in_interfaceDeclaration2950 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_CLASS_DEFINITION_in_classDeclaration3005 = new BitSet(new long[]{0x2000000000000000L,0x0004000000000000L});
+    public static final BitSet FOLLOW_typeNameDeclaration_in_classDeclaration3022 = new BitSet(new long[]{0x0800002000410000L,0x0002002E00000001L});
+    public static final BitSet FOLLOW_typeParameters_in_classDeclaration3048 = new BitSet(new long[]{0x0800002000410000L,0x0002002600000001L});
+    public static final BitSet FOLLOW_parameters_in_classDeclaration3086 = new BitSet(new long[]{0x0800002000410000L,0x0002002600000000L});
+    public static final BitSet FOLLOW_caseTypes_in_classDeclaration3123 = new BitSet(new long[]{0x0800002000400000L,0x0002002600000000L});
+    public static final BitSet FOLLOW_extendedType_in_classDeclaration3169 = new BitSet(new long[]{0x0800000000400000L,0x0002002600000000L});
+    public static final BitSet FOLLOW_satisfiedTypes_in_classDeclaration3207 = new BitSet(new long[]{0x0800000000400000L,0x0002002400000000L});
+    public static final BitSet FOLLOW_typeConstraints_in_classDeclaration3244 = new BitSet(new long[]{0x0800000000000000L,0x0000002400000000L});
+    public static final BitSet FOLLOW_classBody_in_classDeclaration3291 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_typeSpecifier_in_classDeclaration3339 = new BitSet(new long[]{0x0000000000000000L,0x0000000400000000L});
+    public static final BitSet FOLLOW_SEMICOLON_in_classDeclaration3372 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_LBRACE_in_block3432 = new BitSet(new long[]{0x28454E30174C4800L,0x01C5CE82222112C1L});
+    public static final BitSet FOLLOW_declarationOrStatement_in_block3459 = new BitSet(new long[]{0x28454E30174C4800L,0x01C5CE82222112C1L});
+    public static final BitSet FOLLOW_RBRACE_in_block3486 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_LBRACE_in_interfaceBody3524 = new BitSet(new long[]{0x28454E30174C4800L,0x01C5CE82222112C1L});
+    public static final BitSet FOLLOW_declarationOrStatement_in_interfaceBody3551 = new BitSet(new long[]{0x28454E30174C4800L,0x01C5CE82222112C1L});
+    public static final BitSet FOLLOW_RBRACE_in_interfaceBody3578 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_LBRACE_in_classBody3612 = new BitSet(new long[]{0x28454E30174C4800L,0x01C5CE82222112C1L});
+    public static final BitSet FOLLOW_declarationOrStatement_in_classBody3638 = new BitSet(new long[]{0x28454E30174C4800L,0x01C5CE82222112C1L});
+    public static final BitSet FOLLOW_RBRACE_in_classBody3665 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_block_in_attributeBody3724 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_namedArguments_in_attributeBody3752 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_block_in_attributeBody3771 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_block_in_methodBody3827 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_namedArguments_in_methodBody3855 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_block_in_methodBody3879 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_EXTENDS_in_extendedType3910 = new BitSet(new long[]{0x0000000000000000L,0x0004040000000000L});
+    public static final BitSet FOLLOW_qualifiedType_in_extendedType3936 = new BitSet(new long[]{0x0000000000000002L,0x0000000000000001L});
+    public static final BitSet FOLLOW_SUPER_in_extendedType3965 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000004L});
+    public static final BitSet FOLLOW_MEMBER_OP_in_extendedType3967 = new BitSet(new long[]{0x0000000000000000L,0x0004000000000000L});
+    public static final BitSet FOLLOW_typeReference_in_extendedType3978 = new BitSet(new long[]{0x0000000000000002L,0x0000000000000001L});
+    public static final BitSet FOLLOW_positionalArguments_in_extendedType4024 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_SATISFIES_in_satisfiedTypes4073 = new BitSet(new long[]{0x0000000000000000L,0x0004000000000000L});
+    public static final BitSet FOLLOW_qualifiedType_in_satisfiedTypes4092 = new BitSet(new long[]{0x0008000000000002L});
+    public static final BitSet FOLLOW_INTERSECTION_OP_in_satisfiedTypes4121 = new BitSet(new long[]{0x0008000000000002L,0x0004000000000000L});
+    public static final BitSet FOLLOW_qualifiedType_in_satisfiedTypes4155 = new BitSet(new long[]{0x0008000000000002L});
+    public static final BitSet FOLLOW_ABSTRACTED_TYPE_in_abstractedType4224 = new BitSet(new long[]{0x0000000000000000L,0x0004000000000000L});
+    public static final BitSet FOLLOW_qualifiedType_in_abstractedType4240 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_ADAPTED_TYPES_in_adaptedTypes4269 = new BitSet(new long[]{0x0000000000000000L,0x0004000000000000L});
+    public static final BitSet FOLLOW_qualifiedType_in_adaptedTypes4288 = new BitSet(new long[]{0x0008000000000002L});
+    public static final BitSet FOLLOW_INTERSECTION_OP_in_adaptedTypes4317 = new BitSet(new long[]{0x0008000000000002L,0x0004000000000000L});
+    public static final BitSet FOLLOW_qualifiedType_in_adaptedTypes4352 = new BitSet(new long[]{0x0008000000000002L});
+    public static final BitSet FOLLOW_CASE_TYPES_in_caseTypes4416 = new BitSet(new long[]{0x2000000000000000L,0x0004000000000000L});
+    public static final BitSet FOLLOW_caseType_in_caseTypes4434 = new BitSet(new long[]{0x0000000000000002L,0x0020000000000000L});
+    public static final BitSet FOLLOW_UNION_OP_in_caseTypes4463 = new BitSet(new long[]{0x2000000000000002L,0x0024000000000000L});
+    public static final BitSet FOLLOW_caseType_in_caseTypes4498 = new BitSet(new long[]{0x0000000000000002L,0x0020000000000000L});
+    public static final BitSet FOLLOW_qualifiedType_in_caseType4564 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_memberName_in_caseType4581 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_LPAREN_in_parameters4616 = new BitSet(new long[]{0x2000000000400000L,0x0084000040000000L});
+    public static final BitSet FOLLOW_parameterDeclaration_in_parameters4644 = new BitSet(new long[]{0x0000000000100000L,0x0000000040000000L});
+    public static final BitSet FOLLOW_COMMA_in_parameters4679 = new BitSet(new long[]{0x2000000000500000L,0x0084000040000000L});
+    public static final BitSet FOLLOW_parameterDeclaration_in_parameters4776 = new BitSet(new long[]{0x0000000000100000L,0x0000000040000000L});
+    public static final BitSet FOLLOW_RPAREN_in_parameters4831 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_LPAREN_in_parametersStart4870 = new BitSet(new long[]{0x2004080000080800L,0x00C4000040001000L});
+    public static final BitSet FOLLOW_annotatedDeclarationStart_in_parametersStart4874 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_RPAREN_in_parametersStart4878 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_parameterType_in_parameter4918 = new BitSet(new long[]{0x2000000000000000L});
+    public static final BitSet FOLLOW_memberName_in_parameter4942 = new BitSet(new long[]{0x0000000400000002L,0x0000002000000001L});
+    public static final BitSet FOLLOW_valueParameter_in_parameter4988 = new BitSet(new long[]{0x0000000000000002L,0x0000002000000000L});
+    public static final BitSet FOLLOW_parameters_in_parameter5038 = new BitSet(new long[]{0x0000000000000002L,0x0000002000000001L});
+    public static final BitSet FOLLOW_specifier_in_parameter5117 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_compilerAnnotations_in_parameterDeclaration5157 = new BitSet(new long[]{0x2000000000000000L,0x0084000000000000L});
+    public static final BitSet FOLLOW_annotations_in_parameterDeclaration5165 = new BitSet(new long[]{0x0000000000000000L,0x0084000000000000L});
+    public static final BitSet FOLLOW_parameter_in_parameterDeclaration5176 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_ENTRY_OP_in_valueParameter5209 = new BitSet(new long[]{0x0000000000000000L,0x0004000000000000L});
+    public static final BitSet FOLLOW_type_in_valueParameter5211 = new BitSet(new long[]{0x2000000000000000L});
+    public static final BitSet FOLLOW_memberName_in_valueParameter5213 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_type_in_parameterType5234 = new BitSet(new long[]{0x0000000100000002L});
+    public static final BitSet FOLLOW_ELLIPSIS_in_parameterType5262 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_VOID_MODIFIER_in_parameterType5289 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_SMALLER_OP_in_typeParameters5318 = new BitSet(new long[]{0x2020000000000000L,0x0004000000008000L});
+    public static final BitSet FOLLOW_typeParameter_in_typeParameters5336 = new BitSet(new long[]{0x0200000000100000L});
+    public static final BitSet FOLLOW_COMMA_in_typeParameters5364 = new BitSet(new long[]{0x2220000000100000L,0x0004000000008000L});
+    public static final BitSet FOLLOW_typeParameter_in_typeParameters5398 = new BitSet(new long[]{0x0200000000100000L});
+    public static final BitSet FOLLOW_LARGER_OP_in_typeParameters5449 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_variance_in_typeParameter5511 = new BitSet(new long[]{0x2000000000000000L,0x0004000000000000L});
+    public static final BitSet FOLLOW_typeNameDeclaration_in_typeParameter5541 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_typeNameDeclaration_in_typeParameter5571 = new BitSet(new long[]{0x0000000100000000L});
+    public static final BitSet FOLLOW_ELLIPSIS_in_typeParameter5588 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_IN_OP_in_variance5622 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_OUT_in_variance5639 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_compilerAnnotations_in_typeConstraint5673 = new BitSet(new long[]{0x0000000000000000L,0x0002000000000000L});
+    public static final BitSet FOLLOW_TYPE_CONSTRAINT_in_typeConstraint5681 = new BitSet(new long[]{0x2000000000000000L,0x0004000000000000L});
+    public static final BitSet FOLLOW_typeNameDeclaration_in_typeConstraint5697 = new BitSet(new long[]{0x0000000000010012L,0x0000000200000001L});
+    public static final BitSet FOLLOW_parameters_in_typeConstraint5731 = new BitSet(new long[]{0x0000000000010012L,0x0000000200000000L});
+    public static final BitSet FOLLOW_caseTypes_in_typeConstraint5768 = new BitSet(new long[]{0x0000000000000012L,0x0000000200000000L});
+    public static final BitSet FOLLOW_satisfiedTypes_in_typeConstraint5812 = new BitSet(new long[]{0x0000000000000012L});
+    public static final BitSet FOLLOW_abstractedType_in_typeConstraint5850 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_typeConstraint_in_typeConstraints5908 = new BitSet(new long[]{0x0000000000400002L,0x0002000000000000L});
+    public static final BitSet FOLLOW_compilerAnnotations_in_declarationOrStatement5964 = new BitSet(new long[]{0x28454E30170C4800L,0x01C5CE82202112C1L});
+    public static final BitSet FOLLOW_declaration_in_declarationOrStatement5988 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_statement_in_declarationOrStatement6013 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_declaration_in_declarationOrStatement6041 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_statement_in_declarationOrStatement6063 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_annotations_in_declaration6110 = new BitSet(new long[]{0x0004080000080800L,0x00C4000000001000L});
+    public static final BitSet FOLLOW_objectDeclaration_in_declaration6125 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_setterDeclaration_in_declaration6141 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_voidOrInferredMethodDeclaration_in_declaration6157 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_inferredAttributeDeclaration_in_declaration6173 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_typedMethodOrAttributeDeclaration_in_declaration6189 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_classDeclaration_in_declaration6205 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_interfaceDeclaration_in_declaration6221 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_annotation_in_annotatedDeclarationStart6270 = new BitSet(new long[]{0x2004080000080800L,0x00C4000000001000L});
+    public static final BitSet FOLLOW_declarationStart_in_annotatedDeclarationStart6273 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_declarationKeyword_in_declarationStart6293 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_type_in_declarationStart6302 = new BitSet(new long[]{0x2000000100000000L});
+    public static final BitSet FOLLOW_set_in_declarationStart6304 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_directiveStatement_in_statement6396 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_controlStatement_in_statement6412 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_expressionOrSpecificationStatement_in_statement6428 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_expression_in_expressionOrSpecificationStatement6466 = new BitSet(new long[]{0x0000000000100000L,0x0000002400000000L});
+    public static final BitSet FOLLOW_specifier_in_expressionOrSpecificationStatement6493 = new BitSet(new long[]{0x0000000000100000L,0x0000000400000000L});
+    public static final BitSet FOLLOW_SEMICOLON_in_expressionOrSpecificationStatement6530 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_COMMA_in_expressionOrSpecificationStatement6560 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_directive_in_directiveStatement6599 = new BitSet(new long[]{0x0000000000000000L,0x0000000400000000L});
+    public static final BitSet FOLLOW_SEMICOLON_in_directiveStatement6617 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_returnDirective_in_directive6646 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_throwDirective_in_directive6662 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_breakDirective_in_directive6678 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_continueDirective_in_directive6694 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_RETURN_in_returnDirective6723 = new BitSet(new long[]{0x2841023015040002L,0x00044682002102C1L});
+    public static final BitSet FOLLOW_expression_in_returnDirective6750 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_THROW_in_throwDirective6790 = new BitSet(new long[]{0x2841023015040002L,0x00044682002102C1L});
+    public static final BitSet FOLLOW_expression_in_throwDirective6817 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_BREAK_in_breakDirective6857 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_CONTINUE_in_continueDirective6886 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_SPECIFY_in_typeSpecifier6915 = new BitSet(new long[]{0x0000000000000000L,0x0004000000000000L});
+    public static final BitSet FOLLOW_qualifiedType_in_typeSpecifier6932 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_SPECIFY_in_specifier6966 = new BitSet(new long[]{0x2841023015040000L,0x00044682002102C1L});
+    public static final BitSet FOLLOW_expression_in_specifier6983 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_ASSIGN_OP_in_initializer7012 = new BitSet(new long[]{0x2841023015040000L,0x00044682002102C1L});
+    public static final BitSet FOLLOW_expression_in_initializer7029 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_assignmentExpression_in_expression7071 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_nonstringLiteral_in_base7100 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_stringExpression_in_base7116 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_enumeration_in_base7132 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_selfReference_in_base7148 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_typeReference_in_base7164 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_memberReference_in_base7180 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_parExpression_in_base7196 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_base_in_primary7225 = new BitSet(new long[]{0x0802000000000002L,0x0000004180000005L});
+    public static final BitSet FOLLOW_qualifiedReference_in_primary7261 = new BitSet(new long[]{0x0802000000000002L,0x0000004180000005L});
+    public static final BitSet FOLLOW_indexExpression_in_primary7279 = new BitSet(new long[]{0x0802000000000002L,0x0000004180000005L});
+    public static final BitSet FOLLOW_arguments_in_primary7299 = new BitSet(new long[]{0x0802000000000002L,0x0000004180000005L});
+    public static final BitSet FOLLOW_memberSelectionOperator_in_qualifiedReference7337 = new BitSet(new long[]{0x2000000000000002L,0x0004000000000000L});
+    public static final BitSet FOLLOW_memberReference_in_qualifiedReference7365 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_typeReference_in_qualifiedReference7385 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_elementSelectionOperator_in_indexExpression7452 = new BitSet(new long[]{0x2801020015040000L,0x0004468000210041L});
+    public static final BitSet FOLLOW_indexOrIndexRange_in_indexExpression7469 = new BitSet(new long[]{0x0000000000000000L,0x0000000004000000L});
+    public static final BitSet FOLLOW_RBRACKET_in_indexExpression7486 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_MEMBER_OP_in_memberSelectionOperator7507 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_SAFE_MEMBER_OP_in_memberSelectionOperator7523 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_SPREAD_OP_in_memberSelectionOperator7539 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_SAFE_INDEX_OP_in_elementSelectionOperator7568 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_INDEX_OP_in_elementSelectionOperator7584 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_LBRACE_in_enumeration7613 = new BitSet(new long[]{0x2841063015040000L,0x00044682022102C1L});
+    public static final BitSet FOLLOW_expressions_in_enumeration7634 = new BitSet(new long[]{0x0000000000000000L,0x0000000002000000L});
+    public static final BitSet FOLLOW_comprehension_in_enumeration7663 = new BitSet(new long[]{0x0000000000000000L,0x0000000002000000L});
+    public static final BitSet FOLLOW_RBRACE_in_enumeration7690 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_expression_in_expressions7729 = new BitSet(new long[]{0x0000000000100002L});
+    public static final BitSet FOLLOW_COMMA_in_expressions7750 = new BitSet(new long[]{0x2841023015140002L,0x00044682002102C1L});
+    public static final BitSet FOLLOW_expression_in_expressions7785 = new BitSet(new long[]{0x0000000000100002L});
+    public static final BitSet FOLLOW_memberName_in_memberReference7851 = new BitSet(new long[]{0x0000000000000002L,0x0000000800000000L});
+    public static final BitSet FOLLOW_typeArguments_in_memberReference7891 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_typeName_in_typeReference7931 = new BitSet(new long[]{0x0000000000000002L,0x0000000800000000L});
+    public static final BitSet FOLLOW_typeArguments_in_typeReference7972 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_SMALLER_OP_in_typeArgumentsStart8011 = new BitSet(new long[]{0x0200000000000000L,0x0004000000000000L});
+    public static final BitSet FOLLOW_UIDENTIFIER_in_typeArgumentsStart8025 = new BitSet(new long[]{0x0208000508100400L,0x0020000800000004L});
+    public static final BitSet FOLLOW_MEMBER_OP_in_typeArgumentsStart8028 = new BitSet(new long[]{0x0000000000000000L,0x0004000000000000L});
+    public static final BitSet FOLLOW_UIDENTIFIER_in_typeArgumentsStart8030 = new BitSet(new long[]{0x0208000508100400L,0x0020000800000004L});
+    public static final BitSet FOLLOW_set_in_typeArgumentsStart8050 = new BitSet(new long[]{0x0000000000000000L,0x0004000000000000L});
+    public static final BitSet FOLLOW_UIDENTIFIER_in_typeArgumentsStart8058 = new BitSet(new long[]{0x0208000508100400L,0x0020000800000004L});
+    public static final BitSet FOLLOW_MEMBER_OP_in_typeArgumentsStart8061 = new BitSet(new long[]{0x0000000000000000L,0x0004000000000000L});
+    public static final BitSet FOLLOW_UIDENTIFIER_in_typeArgumentsStart8063 = new BitSet(new long[]{0x0208000508100400L,0x0020000800000004L});
+    public static final BitSet FOLLOW_set_in_typeArgumentsStart8082 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_LARGER_OP_in_typeArgumentsStart8105 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_index_in_indexOrIndexRange8135 = new BitSet(new long[]{0x0000000100000002L,0x0000000001000000L});
+    public static final BitSet FOLLOW_ELLIPSIS_in_indexOrIndexRange8159 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_RANGE_OP_in_indexOrIndexRange8178 = new BitSet(new long[]{0x2801020015040000L,0x0004468000210041L});
+    public static final BitSet FOLLOW_index_in_indexOrIndexRange8182 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_additiveExpression_in_index8218 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_positionalArguments_in_arguments8248 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_namedArguments_in_arguments8265 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_LBRACE_in_namedArguments8294 = new BitSet(new long[]{0x28410E3015440000L,0x00C44682022112C1L});
+    public static final BitSet FOLLOW_namedArgument_in_namedArguments8336 = new BitSet(new long[]{0x28410E3015440000L,0x00C44682022112C1L});
+    public static final BitSet FOLLOW_namedArgument_in_namedArguments8373 = new BitSet(new long[]{0x28410E3015440000L,0x00C44682022112C1L});
+    public static final BitSet FOLLOW_sequencedArgument_in_namedArguments8412 = new BitSet(new long[]{0x0000000000000000L,0x0000000002000000L});
+    public static final BitSet FOLLOW_comprehension_in_namedArguments8441 = new BitSet(new long[]{0x0000000000000000L,0x0000000002000000L});
+    public static final BitSet FOLLOW_RBRACE_in_namedArguments8468 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_compilerAnnotations_in_sequencedArgument8497 = new BitSet(new long[]{0x2841023015040000L,0x00044682002102C1L});
+    public static final BitSet FOLLOW_expressions_in_sequencedArgument8505 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_compilerAnnotations_in_namedArgument8534 = new BitSet(new long[]{0x2000080000000000L,0x00C4000000001000L});
+    public static final BitSet FOLLOW_namedSpecifiedArgument_in_namedArgument8550 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_namedArgumentDeclaration_in_namedArgument8573 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_memberNameDeclaration_in_namedSpecifiedArgument8614 = new BitSet(new long[]{0x0000000000000000L,0x0000002000000000L});
+    public static final BitSet FOLLOW_specifier_in_namedSpecifiedArgument8631 = new BitSet(new long[]{0x0000000000000000L,0x0000000400000000L});
+    public static final BitSet FOLLOW_SEMICOLON_in_namedSpecifiedArgument8648 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_OBJECT_DEFINITION_in_objectArgument8677 = new BitSet(new long[]{0x2000000000000000L,0x0004000000000000L});
+    public static final BitSet FOLLOW_memberNameDeclaration_in_objectArgument8694 = new BitSet(new long[]{0x0800002000000000L,0x0000000600000000L});
+    public static final BitSet FOLLOW_extendedType_in_objectArgument8721 = new BitSet(new long[]{0x0800000000000000L,0x0000000600000000L});
+    public static final BitSet FOLLOW_satisfiedTypes_in_objectArgument8760 = new BitSet(new long[]{0x0800000000000000L,0x0000000400000000L});
+    public static final BitSet FOLLOW_classBody_in_objectArgument8798 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_SEMICOLON_in_objectArgument8828 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_VOID_MODIFIER_in_voidOrInferredMethodArgument8890 = new BitSet(new long[]{0x2000000000000000L,0x0004000000000000L});
+    public static final BitSet FOLLOW_FUNCTION_MODIFIER_in_voidOrInferredMethodArgument8916 = new BitSet(new long[]{0x2000000000000000L,0x0004000000000000L});
+    public static final BitSet FOLLOW_memberNameDeclaration_in_voidOrInferredMethodArgument8941 = new BitSet(new long[]{0x0800000000000000L,0x0000000000000001L});
+    public static final BitSet FOLLOW_parameters_in_voidOrInferredMethodArgument8968 = new BitSet(new long[]{0x0800000000000000L,0x0000000000000001L});
+    public static final BitSet FOLLOW_block_in_voidOrInferredMethodArgument8995 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_VALUE_MODIFIER_in_inferredGetterArgument9037 = new BitSet(new long[]{0x2000000000000000L,0x0004000000000000L});
+    public static final BitSet FOLLOW_memberNameDeclaration_in_inferredGetterArgument9054 = new BitSet(new long[]{0x0800000000000000L});
+    public static final BitSet FOLLOW_block_in_inferredGetterArgument9071 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_type_in_typedMethodOrGetterArgument9116 = new BitSet(new long[]{0x2000000000000000L,0x0004000000000000L});
+    public static final BitSet FOLLOW_memberNameDeclaration_in_typedMethodOrGetterArgument9133 = new BitSet(new long[]{0x0800000000000000L,0x0000000000000001L});
+    public static final BitSet FOLLOW_parameters_in_typedMethodOrGetterArgument9182 = new BitSet(new long[]{0x0800000000000000L,0x0000000000000001L});
+    public static final BitSet FOLLOW_methodBody_in_typedMethodOrGetterArgument9222 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_objectArgument_in_namedArgumentDeclaration9266 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_typedMethodOrGetterArgument_in_namedArgumentDeclaration9282 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_voidOrInferredMethodArgument_in_namedArgumentDeclaration9298 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_inferredGetterArgument_in_namedArgumentDeclaration9314 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_compilerAnnotation_in_namedArgumentStart9342 = new BitSet(new long[]{0x2004080000480800L,0x00C4000000001000L});
+    public static final BitSet FOLLOW_specificationStart_in_namedArgumentStart9353 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_declarationStart_in_namedArgumentStart9357 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_LIDENTIFIER_in_specificationStart9376 = new BitSet(new long[]{0x0000000000000000L,0x0000002000000000L});
+    public static final BitSet FOLLOW_SPECIFY_in_specificationStart9378 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_LPAREN_in_parExpression9400 = new BitSet(new long[]{0x2841023015040000L,0x00044682002102C1L});
+    public static final BitSet FOLLOW_assignmentExpression_in_parExpression9417 = new BitSet(new long[]{0x0000000000000000L,0x0000000040000000L});
+    public static final BitSet FOLLOW_RPAREN_in_parExpression9433 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_LPAREN_in_positionalArguments9466 = new BitSet(new long[]{0x28410E3015040000L,0x00444682402102C1L});
+    public static final BitSet FOLLOW_positionalArgument_in_positionalArguments9487 = new BitSet(new long[]{0x0000040100100000L,0x0000000040000000L});
+    public static final BitSet FOLLOW_COMMA_in_positionalArguments9521 = new BitSet(new long[]{0x28410E3115140000L,0x00444682402102C1L});
+    public static final BitSet FOLLOW_positionalArgument_in_positionalArguments9562 = new BitSet(new long[]{0x0000040100100000L,0x0000000040000000L});
+    public static final BitSet FOLLOW_ELLIPSIS_in_positionalArguments9636 = new BitSet(new long[]{0x0000040000000000L,0x0000000040000000L});
+    public static final BitSet FOLLOW_comprehension_in_positionalArguments9687 = new BitSet(new long[]{0x0000000000000000L,0x0000000040000000L});
+    public static final BitSet FOLLOW_RPAREN_in_positionalArguments9714 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_FUNCTION_MODIFIER_in_positionalArgument9775 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000001L});
+    public static final BitSet FOLLOW_parameters_in_positionalArgument9805 = new BitSet(new long[]{0x2841023015040000L,0x00044682002102C1L});
+    public static final BitSet FOLLOW_parameters_in_positionalArgument9848 = new BitSet(new long[]{0x2841023015040000L,0x00044682002102C1L});
+    public static final BitSet FOLLOW_expression_in_positionalArgument9875 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_VALUE_MODIFIER_in_positionalArgument9891 = new BitSet(new long[]{0x2841023015040000L,0x00044682002102C1L});
+    public static final BitSet FOLLOW_expression_in_positionalArgument9908 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_expression_in_positionalArgument9924 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_forComprehensionClause_in_comprehension9969 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_forComprehensionClause_in_comprehensionClause9998 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_ifComprehensionClause_in_comprehensionClause10015 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_expressionComprehensionClause_in_comprehensionClause10032 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_expression_in_expressionComprehensionClause10062 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_FOR_CLAUSE_in_forComprehensionClause10099 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000001L});
+    public static final BitSet FOLLOW_forIterator_in_forComprehensionClause10115 = new BitSet(new long[]{0x2841463015040000L,0x00044682002102C1L});
+    public static final BitSet FOLLOW_comprehensionClause_in_forComprehensionClause10131 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_IF_CLAUSE_in_ifComprehensionClause10164 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000001L});
+    public static final BitSet FOLLOW_condition_in_ifComprehensionClause10180 = new BitSet(new long[]{0x2841463015040000L,0x00044682002102C1L});
+    public static final BitSet FOLLOW_comprehensionClause_in_ifComprehensionClause10196 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_thenElseExpression_in_assignmentExpression10231 = new BitSet(new long[]{0x0010000020801142L,0x0410010008002008L});
+    public static final BitSet FOLLOW_assignmentOperator_in_assignmentExpression10257 = new BitSet(new long[]{0x2841023015040000L,0x00044682002102C1L});
+    public static final BitSet FOLLOW_assignmentExpression_in_assignmentExpression10280 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_ASSIGN_OP_in_assignmentOperator10320 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_ADD_ASSIGN_OP_in_assignmentOperator10335 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_SUBTRACT_ASSIGN_OP_in_assignmentOperator10345 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_MULTIPLY_ASSIGN_OP_in_assignmentOperator10355 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_DIVIDE_ASSIGN_OP_in_assignmentOperator10365 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_REMAINDER_ASSIGN_OP_in_assignmentOperator10375 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_INTERSECT_ASSIGN_OP_in_assignmentOperator10385 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_UNION_ASSIGN_OP_in_assignmentOperator10395 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_XOR_ASSIGN_OP_in_assignmentOperator10405 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_COMPLEMENT_ASSIGN_OP_in_assignmentOperator10415 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_AND_ASSIGN_OP_in_assignmentOperator10425 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_OR_ASSIGN_OP_in_assignmentOperator10435 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_disjunctionExpression_in_thenElseExpression10465 = new BitSet(new long[]{0x0000000200000002L,0x0000200000000000L});
+    public static final BitSet FOLLOW_thenElseOperator_in_thenElseExpression10491 = new BitSet(new long[]{0x2841023015040000L,0x00044682002102C1L});
+    public static final BitSet FOLLOW_disjunctionExpression_in_thenElseExpression10514 = new BitSet(new long[]{0x0000000200000002L,0x0000200000000000L});
+    public static final BitSet FOLLOW_ELSE_CLAUSE_in_thenElseOperator10554 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_THEN_CLAUSE_in_thenElseOperator10571 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_conjunctionExpression_in_disjunctionExpression10602 = new BitSet(new long[]{0x0000000000000002L,0x0000000000004000L});
+    public static final BitSet FOLLOW_disjunctionOperator_in_disjunctionExpression10628 = new BitSet(new long[]{0x2841023015040000L,0x00044682002102C1L});
+    public static final BitSet FOLLOW_conjunctionExpression_in_disjunctionExpression10651 = new BitSet(new long[]{0x0000000000000002L,0x0000000000004000L});
+    public static final BitSet FOLLOW_OR_OP_in_disjunctionOperator10691 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_logicalNegationExpression_in_conjunctionExpression10723 = new BitSet(new long[]{0x0000000000000202L});
+    public static final BitSet FOLLOW_conjunctionOperator_in_conjunctionExpression10749 = new BitSet(new long[]{0x2841023015040000L,0x00044682002102C1L});
+    public static final BitSet FOLLOW_logicalNegationExpression_in_conjunctionExpression10772 = new BitSet(new long[]{0x0000000000000202L});
+    public static final BitSet FOLLOW_AND_OP_in_conjunctionOperator10812 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_notOperator_in_logicalNegationExpression10842 = new BitSet(new long[]{0x2841023015040000L,0x00044682002102C1L});
+    public static final BitSet FOLLOW_logicalNegationExpression_in_logicalNegationExpression10861 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_equalityExpression_in_logicalNegationExpression10877 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_NOT_OP_in_notOperator10906 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_comparisonExpression_in_equalityExpression10938 = new BitSet(new long[]{0x0000200800000002L,0x0000000000000100L});
+    public static final BitSet FOLLOW_equalityOperator_in_equalityExpression10964 = new BitSet(new long[]{0x2841023015040000L,0x00044682002100C1L});
+    public static final BitSet FOLLOW_comparisonExpression_in_equalityExpression10987 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_EQUAL_OP_in_equalityOperator11027 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_NOT_EQUAL_OP_in_equalityOperator11044 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_IDENTICAL_OP_in_equalityOperator11060 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_existenceEmptinessExpression_in_comparisonExpression11091 = new BitSet(new long[]{0x0660002000200002L,0x0000001A00000000L});
+    public static final BitSet FOLLOW_comparisonOperator_in_comparisonExpression11117 = new BitSet(new long[]{0x2801021015040000L,0x00044680002100C1L});
+    public static final BitSet FOLLOW_existenceEmptinessExpression_in_comparisonExpression11140 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_typeOperator_in_comparisonExpression11162 = new BitSet(new long[]{0x0000000000000000L,0x0004000000000000L});
+    public static final BitSet FOLLOW_qualifiedType_in_comparisonExpression11184 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_typeOperator_in_comparisonExpression11213 = new BitSet(new long[]{0x0000000000000000L,0x0004000000000000L});
+    public static final BitSet FOLLOW_qualifiedType_in_comparisonExpression11231 = new BitSet(new long[]{0x2801021015040000L,0x00044680002100C1L});
+    public static final BitSet FOLLOW_existenceEmptinessExpression_in_comparisonExpression11250 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_COMPARE_OP_in_comparisonOperator11279 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_SMALL_AS_OP_in_comparisonOperator11296 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_LARGE_AS_OP_in_comparisonOperator11312 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_LARGER_OP_in_comparisonOperator11328 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_SMALLER_OP_in_comparisonOperator11344 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_IN_OP_in_comparisonOperator11360 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_IS_OP_in_typeOperator11389 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_EXTENDS_in_typeOperator11405 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_SATISFIES_in_typeOperator11421 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_rangeIntervalEntryExpression_in_existenceEmptinessExpression11452 = new BitSet(new long[]{0x0000001000000002L,0x0000000000000080L});
+    public static final BitSet FOLLOW_existsNonemptyOperator_in_existenceEmptinessExpression11480 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_existsNonemptyOperator_in_existenceEmptinessExpression11509 = new BitSet(new long[]{0x2801020015040000L,0x0004468000210041L});
+    public static final BitSet FOLLOW_rangeIntervalEntryExpression_in_existenceEmptinessExpression11527 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_EXISTS_in_existsNonemptyOperator11556 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_NONEMPTY_in_existsNonemptyOperator11573 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_additiveExpression_in_rangeIntervalEntryExpression11604 = new BitSet(new long[]{0x0000000400000002L,0x0000000001000000L});
+    public static final BitSet FOLLOW_rangeIntervalEntryOperator_in_rangeIntervalEntryExpression11630 = new BitSet(new long[]{0x2801020015040000L,0x0004468000210041L});
+    public static final BitSet FOLLOW_additiveExpression_in_rangeIntervalEntryExpression11653 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_RANGE_OP_in_rangeIntervalEntryOperator11693 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_ENTRY_OP_in_rangeIntervalEntryOperator11710 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_multiplicativeExpression_in_additiveExpression11741 = new BitSet(new long[]{0x0000000011000002L,0x0820020000000000L});
+    public static final BitSet FOLLOW_additiveOperator_in_additiveExpression11767 = new BitSet(new long[]{0x2801020015040000L,0x0004468000210041L});
+    public static final BitSet FOLLOW_multiplicativeExpression_in_additiveExpression11790 = new BitSet(new long[]{0x0000000011000002L,0x0820020000000000L});
+    public static final BitSet FOLLOW_SUM_OP_in_additiveOperator11830 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_DIFFERENCE_OP_in_additiveOperator11847 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_UNION_OP_in_additiveOperator11863 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_XOR_OP_in_additiveOperator11879 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_COMPLEMENT_OP_in_additiveOperator11895 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_defaultExpression_in_multiplicativeExpression11926 = new BitSet(new long[]{0x0008000000000002L,0x0000000010480000L});
+    public static final BitSet FOLLOW_multiplicativeOperator_in_multiplicativeExpression11952 = new BitSet(new long[]{0x2801020015040000L,0x0004468000210041L});
+    public static final BitSet FOLLOW_defaultExpression_in_multiplicativeExpression11975 = new BitSet(new long[]{0x0008000000000002L,0x0000000010480000L});
+    public static final BitSet FOLLOW_PRODUCT_OP_in_multiplicativeOperator12015 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_QUOTIENT_OP_in_multiplicativeOperator12032 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_REMAINDER_OP_in_multiplicativeOperator12048 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_INTERSECTION_OP_in_multiplicativeOperator12064 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_negationComplementExpression_in_defaultExpression12095 = new BitSet(new long[]{0x0000000008000002L});
+    public static final BitSet FOLLOW_defaultOperator_in_defaultExpression12121 = new BitSet(new long[]{0x2801020015040000L,0x0004468000210041L});
+    public static final BitSet FOLLOW_negationComplementExpression_in_defaultExpression12144 = new BitSet(new long[]{0x0000000008000002L});
+    public static final BitSet FOLLOW_DEFAULT_OP_in_defaultOperator12184 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_unaryMinusOrComplementOperator_in_negationComplementExpression12214 = new BitSet(new long[]{0x2801020015040000L,0x0004468000210041L});
+    public static final BitSet FOLLOW_negationComplementExpression_in_negationComplementExpression12233 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_exponentiationExpression_in_negationComplementExpression12249 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_DIFFERENCE_OP_in_unaryMinusOrComplementOperator12278 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_SUM_OP_in_unaryMinusOrComplementOperator12295 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_COMPLEMENT_OP_in_unaryMinusOrComplementOperator12311 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_incrementDecrementExpression_in_exponentiationExpression12340 = new BitSet(new long[]{0x0000000000000002L,0x0000000000040000L});
+    public static final BitSet FOLLOW_exponentiationOperator_in_exponentiationExpression12366 = new BitSet(new long[]{0x2801020004040000L,0x0004448000210041L});
+    public static final BitSet FOLLOW_exponentiationExpression_in_exponentiationExpression12388 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_POWER_OP_in_exponentiationOperator12428 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_prefixOperator_in_incrementDecrementExpression12458 = new BitSet(new long[]{0x2801020004040000L,0x0004448000210041L});
+    public static final BitSet FOLLOW_incrementDecrementExpression_in_incrementDecrementExpression12476 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_postfixIncrementDecrementExpression_in_incrementDecrementExpression12492 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_DECREMENT_OP_in_prefixOperator12521 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_INCREMENT_OP_in_prefixOperator12538 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_primary_in_postfixIncrementDecrementExpression12568 = new BitSet(new long[]{0x0001000004000002L});
+    public static final BitSet FOLLOW_postfixOperator_in_postfixIncrementDecrementExpression12596 = new BitSet(new long[]{0x0001000004000002L});
+    public static final BitSet FOLLOW_DECREMENT_OP_in_postfixOperator12636 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_INCREMENT_OP_in_postfixOperator12653 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_THIS_in_selfReference12683 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_SUPER_in_selfReference12699 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_OUTER_in_selfReference12716 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_NATURAL_LITERAL_in_nonstringLiteral12749 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_FLOAT_LITERAL_in_nonstringLiteral12766 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_QUOTED_LITERAL_in_nonstringLiteral12783 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_CHAR_LITERAL_in_nonstringLiteral12800 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_stringTemplate_in_stringExpression12840 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_stringLiteral_in_stringExpression12857 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_STRING_LITERAL_in_stringLiteral12887 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_stringLiteral_in_stringTemplate12919 = new BitSet(new long[]{0x2841023015040000L,0x00044682002102C1L});
+    public static final BitSet FOLLOW_expression_in_stringTemplate12958 = new BitSet(new long[]{0x0000000000000000L,0x0000008000000000L});
+    public static final BitSet FOLLOW_stringLiteral_in_stringTemplate12962 = new BitSet(new long[]{0x2841023015040002L,0x00044682002102C1L});
+    public static final BitSet FOLLOW_SMALLER_OP_in_typeArguments13002 = new BitSet(new long[]{0x0000000000000000L,0x0004000000000000L});
+    public static final BitSet FOLLOW_typeArgument_in_typeArguments13020 = new BitSet(new long[]{0x0200000000100000L});
+    public static final BitSet FOLLOW_COMMA_in_typeArguments13049 = new BitSet(new long[]{0x0200000000100000L,0x0004000000000000L});
+    public static final BitSet FOLLOW_typeArgument_in_typeArguments13083 = new BitSet(new long[]{0x0200000000100000L});
+    public static final BitSet FOLLOW_LARGER_OP_in_typeArguments13137 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_type_in_typeArgument13168 = new BitSet(new long[]{0x0000000100000002L});
+    public static final BitSet FOLLOW_ELLIPSIS_in_typeArgument13195 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_unionType_in_type13240 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_abbreviatedType_in_entryType13285 = new BitSet(new long[]{0x0000000400000002L});
+    public static final BitSet FOLLOW_ENTRY_OP_in_entryType13311 = new BitSet(new long[]{0x0000000000000002L,0x0004000000000000L});
+    public static final BitSet FOLLOW_abbreviatedType_in_entryType13345 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_intersectionType_in_unionType13430 = new BitSet(new long[]{0x0000000000000002L,0x0020000000000000L});
+    public static final BitSet FOLLOW_UNION_OP_in_unionType13471 = new BitSet(new long[]{0x0000000000000002L,0x0024000000000000L});
+    public static final BitSet FOLLOW_intersectionType_in_unionType13511 = new BitSet(new long[]{0x0000000000000002L,0x0020000000000000L});
+    public static final BitSet FOLLOW_entryType_in_intersectionType13613 = new BitSet(new long[]{0x0008000000000002L});
+    public static final BitSet FOLLOW_INTERSECTION_OP_in_intersectionType13654 = new BitSet(new long[]{0x0008000000000002L,0x0004000000000000L});
+    public static final BitSet FOLLOW_entryType_in_intersectionType13694 = new BitSet(new long[]{0x0008000000000002L});
+    public static final BitSet FOLLOW_qualifiedType_in_abbreviatedType13785 = new BitSet(new long[]{0x0000000008000402L});
+    public static final BitSet FOLLOW_DEFAULT_OP_in_abbreviatedType13811 = new BitSet(new long[]{0x0000000008000402L});
+    public static final BitSet FOLLOW_ARRAY_in_abbreviatedType13832 = new BitSet(new long[]{0x0000000008000402L});
+    public static final BitSet FOLLOW_typeNameWithArguments_in_qualifiedType13875 = new BitSet(new long[]{0x0000000000000002L,0x0000000000000004L});
+    public static final BitSet FOLLOW_MEMBER_OP_in_qualifiedType13901 = new BitSet(new long[]{0x0000000000000000L,0x0004000000000000L});
+    public static final BitSet FOLLOW_typeNameWithArguments_in_qualifiedType13914 = new BitSet(new long[]{0x0000000000000002L,0x0000000000000004L});
+    public static final BitSet FOLLOW_typeName_in_typeNameWithArguments13954 = new BitSet(new long[]{0x0000000000000002L,0x0000000800000000L});
+    public static final BitSet FOLLOW_typeArguments_in_typeNameWithArguments13981 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_annotation_in_annotations14044 = new BitSet(new long[]{0x2000000000000002L});
+    public static final BitSet FOLLOW_annotationName_in_annotation14085 = new BitSet(new long[]{0x0800020000040000L,0x0000008000200041L});
+    public static final BitSet FOLLOW_annotationArguments_in_annotation14101 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_arguments_in_annotationArguments14130 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_literalArguments_in_annotationArguments14147 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_literalArgument_in_literalArguments14195 = new BitSet(new long[]{0x0000020000040002L,0x0000008000200040L});
+    public static final BitSet FOLLOW_nonstringLiteral_in_literalArgument14239 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_stringLiteral_in_literalArgument14255 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_compilerAnnotation_in_compilerAnnotations14298 = new BitSet(new long[]{0x0000000000400002L});
+    public static final BitSet FOLLOW_COMPILER_ANNOTATION_in_compilerAnnotation14338 = new BitSet(new long[]{0x2000000000000000L});
+    public static final BitSet FOLLOW_annotationName_in_compilerAnnotation14355 = new BitSet(new long[]{0x0002000000000002L});
+    public static final BitSet FOLLOW_INDEX_OP_in_compilerAnnotation14385 = new BitSet(new long[]{0x0000000000000000L,0x0000008000000000L});
+    public static final BitSet FOLLOW_stringLiteral_in_compilerAnnotation14397 = new BitSet(new long[]{0x0000000000000000L,0x0000000004000000L});
+    public static final BitSet FOLLOW_RBRACKET_in_compilerAnnotation14421 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_existsCondition_in_condition14455 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_nonemptyCondition_in_condition14474 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_isCondition_in_condition14493 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_satisfiesCondition_in_condition14513 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_booleanCondition_in_condition14529 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_LPAREN_in_booleanCondition14562 = new BitSet(new long[]{0x2841023015040000L,0x00044682402102C1L});
+    public static final BitSet FOLLOW_expression_in_booleanCondition14579 = new BitSet(new long[]{0x0000000000000000L,0x0000000040000000L});
+    public static final BitSet FOLLOW_RPAREN_in_booleanCondition14597 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_LPAREN_in_existsCondition14647 = new BitSet(new long[]{0x0000001000000000L});
+    public static final BitSet FOLLOW_EXISTS_in_existsCondition14666 = new BitSet(new long[]{0x2000000000000000L});
+    public static final BitSet FOLLOW_impliedVariable_in_existsCondition14668 = new BitSet(new long[]{0x0000000000000000L,0x0000000040000000L});
+    public static final BitSet FOLLOW_RPAREN_in_existsCondition14686 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_LPAREN_in_existsCondition14731 = new BitSet(new long[]{0x0000001000000000L});
+    public static final BitSet FOLLOW_EXISTS_in_existsCondition14750 = new BitSet(new long[]{0x2000000000400000L,0x0004000000000000L});
+    public static final BitSet FOLLOW_specifiedVariable_in_existsCondition14759 = new BitSet(new long[]{0x0000000000000000L,0x0000000040000000L});
+    public static final BitSet FOLLOW_RPAREN_in_existsCondition14778 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_LPAREN_in_existsCondition14801 = new BitSet(new long[]{0x0000001000000000L});
+    public static final BitSet FOLLOW_EXISTS_in_existsCondition14819 = new BitSet(new long[]{0x2841023015040000L,0x00044682402102C1L});
+    public static final BitSet FOLLOW_expression_in_existsCondition14828 = new BitSet(new long[]{0x0000000000000000L,0x0000000040000000L});
+    public static final BitSet FOLLOW_RPAREN_in_existsCondition14848 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_LPAREN_in_nonemptyCondition14893 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000080L});
+    public static final BitSet FOLLOW_NONEMPTY_in_nonemptyCondition14912 = new BitSet(new long[]{0x2000000000000000L});
+    public static final BitSet FOLLOW_impliedVariable_in_nonemptyCondition14914 = new BitSet(new long[]{0x0000000000000000L,0x0000000040000000L});
+    public static final BitSet FOLLOW_RPAREN_in_nonemptyCondition14933 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_LPAREN_in_nonemptyCondition14978 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000080L});
+    public static final BitSet FOLLOW_NONEMPTY_in_nonemptyCondition14997 = new BitSet(new long[]{0x2000000000400000L,0x0004000040000000L});
+    public static final BitSet FOLLOW_specifiedVariable_in_nonemptyCondition15007 = new BitSet(new long[]{0x0000000000000000L,0x0000000040000000L});
+    public static final BitSet FOLLOW_RPAREN_in_nonemptyCondition15028 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_LPAREN_in_nonemptyCondition15051 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000080L});
+    public static final BitSet FOLLOW_NONEMPTY_in_nonemptyCondition15069 = new BitSet(new long[]{0x2841023015040000L,0x00044682402102C1L});
+    public static final BitSet FOLLOW_expression_in_nonemptyCondition15079 = new BitSet(new long[]{0x0000000000000000L,0x0000000040000000L});
+    public static final BitSet FOLLOW_RPAREN_in_nonemptyCondition15099 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_LPAREN_in_isCondition15151 = new BitSet(new long[]{0x0040000000000000L});
+    public static final BitSet FOLLOW_IS_OP_in_isCondition15170 = new BitSet(new long[]{0x0000000000000000L,0x0004000000000000L});
+    public static final BitSet FOLLOW_type_in_isCondition15174 = new BitSet(new long[]{0x2000000000000000L});
+    public static final BitSet FOLLOW_impliedVariable_in_isCondition15176 = new BitSet(new long[]{0x0000000000000000L,0x0000000040000000L});
+    public static final BitSet FOLLOW_RPAREN_in_isCondition15195 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_LPAREN_in_isCondition15238 = new BitSet(new long[]{0x0040000000000000L});
+    public static final BitSet FOLLOW_IS_OP_in_isCondition15256 = new BitSet(new long[]{0x0000000000000000L,0x0004000040000000L});
+    public static final BitSet FOLLOW_type_in_isCondition15269 = new BitSet(new long[]{0x2000000000000000L});
+    public static final BitSet FOLLOW_memberName_in_isCondition15285 = new BitSet(new long[]{0x0000000000000000L,0x0000002000000000L});
+    public static final BitSet FOLLOW_specifier_in_isCondition15301 = new BitSet(new long[]{0x0000000000000000L,0x0000000040000000L});
+    public static final BitSet FOLLOW_RPAREN_in_isCondition15321 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_LPAREN_in_isCondition15344 = new BitSet(new long[]{0x0040000000000000L});
+    public static final BitSet FOLLOW_IS_OP_in_isCondition15362 = new BitSet(new long[]{0x0000000000000000L,0x0004000000000000L});
+    public static final BitSet FOLLOW_abbreviatedType_in_isCondition15373 = new BitSet(new long[]{0x2841023015040000L,0x00044682402102C1L});
+    public static final BitSet FOLLOW_expression_in_isCondition15391 = new BitSet(new long[]{0x0000000000000000L,0x0000000040000000L});
+    public static final BitSet FOLLOW_RPAREN_in_isCondition15411 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_LPAREN_in_satisfiesCondition15440 = new BitSet(new long[]{0x0000000000000000L,0x0000000200000000L});
+    public static final BitSet FOLLOW_SATISFIES_in_satisfiesCondition15457 = new BitSet(new long[]{0x0000000000000000L,0x0004000040000000L});
+    public static final BitSet FOLLOW_qualifiedType_in_satisfiesCondition15469 = new BitSet(new long[]{0x0000000000000000L,0x0004000000000000L});
+    public static final BitSet FOLLOW_qualifiedType_in_satisfiesCondition15488 = new BitSet(new long[]{0x0000000000000000L,0x0000000040000000L});
+    public static final BitSet FOLLOW_RPAREN_in_satisfiesCondition15507 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_ifElse_in_controlStatement15541 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_switchCaseElse_in_controlStatement15558 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_whileLoop_in_controlStatement15575 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_forElse_in_controlStatement15592 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_tryCatchFinally_in_controlStatement15609 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_block_in_controlBlock15645 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_ifBlock_in_ifElse15702 = new BitSet(new long[]{0x0000000200000002L});
+    public static final BitSet FOLLOW_elseBlock_in_ifElse15730 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_IF_CLAUSE_in_ifBlock15775 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000001L});
+    public static final BitSet FOLLOW_condition_in_ifBlock15792 = new BitSet(new long[]{0x0800000000000000L});
+    public static final BitSet FOLLOW_controlBlock_in_ifBlock15808 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_ELSE_CLAUSE_in_elseBlock15837 = new BitSet(new long[]{0x0800400000000000L});
+    public static final BitSet FOLLOW_elseIf_in_elseBlock15864 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_block_in_elseBlock15894 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_ifElse_in_elseIf15933 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_switchHeader_in_switchCaseElse15975 = new BitSet(new long[]{0x0000000000008000L});
+    public static final BitSet FOLLOW_cases_in_switchCaseElse15992 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_SWITCH_CLAUSE_in_switchHeader16026 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000001L});
+    public static final BitSet FOLLOW_LPAREN_in_switchHeader16043 = new BitSet(new long[]{0x2841023015040000L,0x00044682002102C1L});
+    public static final BitSet FOLLOW_expression_in_switchHeader16052 = new BitSet(new long[]{0x0000000000000000L,0x0000000040000000L});
+    public static final BitSet FOLLOW_RPAREN_in_switchHeader16069 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_caseBlock_in_cases16108 = new BitSet(new long[]{0x0000000200008002L});
+    public static final BitSet FOLLOW_defaultCaseBlock_in_cases16145 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_CASE_CLAUSE_in_caseBlock16194 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000001L});
+    public static final BitSet FOLLOW_LPAREN_in_caseBlock16211 = new BitSet(new long[]{0x2841023015040000L,0x00044682002102C1L});
+    public static final BitSet FOLLOW_caseItem_in_caseBlock16220 = new BitSet(new long[]{0x0000000000000000L,0x0000000040000000L});
+    public static final BitSet FOLLOW_RPAREN_in_caseBlock16237 = new BitSet(new long[]{0x0800000000000000L});
+    public static final BitSet FOLLOW_block_in_caseBlock16246 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_ELSE_CLAUSE_in_defaultCaseBlock16275 = new BitSet(new long[]{0x0800000000000000L});
+    public static final BitSet FOLLOW_block_in_defaultCaseBlock16292 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_isCaseCondition_in_caseItem16325 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_satisfiesCaseCondition_in_caseItem16346 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_matchCaseCondition_in_caseItem16362 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_expressions_in_matchCaseCondition16391 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_IS_OP_in_isCaseCondition16425 = new BitSet(new long[]{0x0000000000000000L,0x0004000000000000L});
+    public static final BitSet FOLLOW_type_in_isCaseCondition16442 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_SATISFIES_in_satisfiesCaseCondition16476 = new BitSet(new long[]{0x0000000000000000L,0x0004000000000000L});
+    public static final BitSet FOLLOW_qualifiedType_in_satisfiesCaseCondition16493 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_forBlock_in_forElse16535 = new BitSet(new long[]{0x0000000200000002L});
+    public static final BitSet FOLLOW_failBlock_in_forElse16562 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_FOR_CLAUSE_in_forBlock16607 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000001L});
+    public static final BitSet FOLLOW_forIterator_in_forBlock16624 = new BitSet(new long[]{0x0800000000000000L});
+    public static final BitSet FOLLOW_controlBlock_in_forBlock16641 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_ELSE_CLAUSE_in_failBlock16670 = new BitSet(new long[]{0x0800000000000000L});
+    public static final BitSet FOLLOW_block_in_failBlock16687 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_LPAREN_in_forIterator16725 = new BitSet(new long[]{0x2000000000400000L,0x0004000040000000L});
+    public static final BitSet FOLLOW_compilerAnnotations_in_forIterator16737 = new BitSet(new long[]{0x2000000000000000L,0x0004000040000000L});
+    public static final BitSet FOLLOW_var_in_forIterator16754 = new BitSet(new long[]{0x0020000400000000L,0x0000000040000000L});
+    public static final BitSet FOLLOW_containment_in_forIterator16784 = new BitSet(new long[]{0x0000000000000000L,0x0000000040000000L});
+    public static final BitSet FOLLOW_ENTRY_OP_in_forIterator16830 = new BitSet(new long[]{0x2000000000000000L,0x0004000000000000L});
+    public static final BitSet FOLLOW_var_in_forIterator16852 = new BitSet(new long[]{0x0020000000000000L});
+    public static final BitSet FOLLOW_containment_in_forIterator16874 = new BitSet(new long[]{0x0000000000000000L,0x0000000040000000L});
+    public static final BitSet FOLLOW_RPAREN_in_forIterator16919 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_IN_OP_in_containment16950 = new BitSet(new long[]{0x2841023015040002L,0x00044682002102C1L});
+    public static final BitSet FOLLOW_expression_in_containment16968 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_whileBlock_in_whileLoop17016 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_WHILE_CLAUSE_in_whileBlock17050 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000001L});
+    public static final BitSet FOLLOW_condition_in_whileBlock17066 = new BitSet(new long[]{0x0800000000000000L});
+    public static final BitSet FOLLOW_controlBlock_in_whileBlock17083 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_tryBlock_in_tryCatchFinally17120 = new BitSet(new long[]{0x0000010000020002L});
+    public static final BitSet FOLLOW_catchBlock_in_tryCatchFinally17147 = new BitSet(new long[]{0x0000010000020002L});
+    public static final BitSet FOLLOW_finallyBlock_in_tryCatchFinally17184 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_TRY_CLAUSE_in_tryBlock17227 = new BitSet(new long[]{0x0800000000000000L,0x0000000000000001L});
+    public static final BitSet FOLLOW_resource_in_tryBlock17254 = new BitSet(new long[]{0x0800000000000000L});
+    public static final BitSet FOLLOW_controlBlock_in_tryBlock17274 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_block_in_tryBlock17302 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_CATCH_CLAUSE_in_catchBlock17341 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000001L});
+    public static final BitSet FOLLOW_catchVariable_in_catchBlock17358 = new BitSet(new long[]{0x0800000000000000L});
+    public static final BitSet FOLLOW_block_in_catchBlock17374 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_LPAREN_in_catchVariable17403 = new BitSet(new long[]{0x2000000000400000L,0x0004000040000000L});
+    public static final BitSet FOLLOW_variable_in_catchVariable17421 = new BitSet(new long[]{0x0000000000000000L,0x0000000040000000L});
+    public static final BitSet FOLLOW_RPAREN_in_catchVariable17440 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_FINALLY_CLAUSE_in_finallyBlock17471 = new BitSet(new long[]{0x0800000000000000L});
+    public static final BitSet FOLLOW_block_in_finallyBlock17488 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_LPAREN_in_resource17517 = new BitSet(new long[]{0x2841023015440000L,0x00044682002102C1L});
+    public static final BitSet FOLLOW_specifiedVariable_in_resource17553 = new BitSet(new long[]{0x0000000000000000L,0x0000000040000000L});
+    public static final BitSet FOLLOW_expression_in_resource17574 = new BitSet(new long[]{0x0000000000000000L,0x0000000040000000L});
+    public static final BitSet FOLLOW_RPAREN_in_resource17599 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_variable_in_specifiedVariable17628 = new BitSet(new long[]{0x0000000000000002L,0x0000002000000000L});
+    public static final BitSet FOLLOW_specifier_in_specifiedVariable17655 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_compilerAnnotations_in_variable17695 = new BitSet(new long[]{0x2000000000000000L,0x0004000000000000L});
+    public static final BitSet FOLLOW_var_in_variable17703 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_type_in_var17750 = new BitSet(new long[]{0x2000000000000000L});
+    public static final BitSet FOLLOW_memberName_in_var17769 = new BitSet(new long[]{0x0000000000000002L,0x0000000000000001L});
+    public static final BitSet FOLLOW_parameters_in_var17799 = new BitSet(new long[]{0x0000000000000002L,0x0000000000000001L});
+    public static final BitSet FOLLOW_memberName_in_var17848 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_memberName_in_var17886 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000001L});
+    public static final BitSet FOLLOW_parameters_in_var17915 = new BitSet(new long[]{0x0000000000000002L,0x0000000000000001L});
+    public static final BitSet FOLLOW_memberName_in_impliedVariable17966 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_namedArguments_in_synpred1_Ceylon3741 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_namedArguments_in_synpred2_Ceylon3844 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_annotatedDeclarationStart_in_synpred4_Ceylon6034 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_typeArgumentsStart_in_synpred6_Ceylon7878 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_typeArgumentsStart_in_synpred7_Ceylon7959 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_namedArgumentStart_in_synpred8_Ceylon8357 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_FUNCTION_MODIFIER_in_synpred9_Ceylon9753 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_parametersStart_in_synpred9_Ceylon9755 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_parametersStart_in_synpred10_Ceylon9833 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_LPAREN_in_synpred11_Ceylon14708 = new BitSet(new long[]{0x0000001000000000L});
+    public static final BitSet FOLLOW_EXISTS_in_synpred11_Ceylon14710 = new BitSet(new long[]{0x2004080000480800L,0x00C4000000001000L});
+    public static final BitSet FOLLOW_compilerAnnotations_in_synpred11_Ceylon14712 = new BitSet(new long[]{0x2004080000080800L,0x00C4000000001000L});
+    public static final BitSet FOLLOW_declarationStart_in_synpred11_Ceylon14715 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_specificationStart_in_synpred11_Ceylon14717 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_LPAREN_in_synpred12_Ceylon14955 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000080L});
+    public static final BitSet FOLLOW_NONEMPTY_in_synpred12_Ceylon14957 = new BitSet(new long[]{0x2004080000480800L,0x00C4000000001000L});
+    public static final BitSet FOLLOW_compilerAnnotations_in_synpred12_Ceylon14959 = new BitSet(new long[]{0x2004080000080800L,0x00C4000000001000L});
+    public static final BitSet FOLLOW_declarationStart_in_synpred12_Ceylon14962 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_specificationStart_in_synpred12_Ceylon14964 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_LPAREN_in_synpred13_Ceylon15129 = new BitSet(new long[]{0x0040000000000000L});
+    public static final BitSet FOLLOW_IS_OP_in_synpred13_Ceylon15131 = new BitSet(new long[]{0x0000000000000000L,0x0004000000000000L});
+    public static final BitSet FOLLOW_type_in_synpred13_Ceylon15133 = new BitSet(new long[]{0x2000000000000000L});
+    public static final BitSet FOLLOW_LIDENTIFIER_in_synpred13_Ceylon15135 = new BitSet(new long[]{0x0000000000000000L,0x0000000040000000L});
+    public static final BitSet FOLLOW_RPAREN_in_synpred13_Ceylon15137 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_LPAREN_in_synpred14_Ceylon15217 = new BitSet(new long[]{0x0040000000000000L});
+    public static final BitSet FOLLOW_IS_OP_in_synpred14_Ceylon15219 = new BitSet(new long[]{0x0000000000000000L,0x0004000000000000L});
+    public static final BitSet FOLLOW_type_in_synpred14_Ceylon15221 = new BitSet(new long[]{0x2000000000000000L});
+    public static final BitSet FOLLOW_LIDENTIFIER_in_synpred14_Ceylon15223 = new BitSet(new long[]{0x0000000000000000L,0x0000002000000000L});
+    public static final BitSet FOLLOW_SPECIFY_in_synpred14_Ceylon15225 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_IS_OP_in_synpred15_Ceylon16322 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_SATISFIES_in_synpred16_Ceylon16343 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_COMPILER_ANNOTATION_in_synpred17_Ceylon17537 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_declarationStart_in_synpred17_Ceylon17539 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_specificationStart_in_synpred17_Ceylon17541 = new BitSet(new long[]{0x0000000000000002L});
+
+}
\ No newline at end of file
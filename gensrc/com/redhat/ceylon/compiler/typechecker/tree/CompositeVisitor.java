@@ -0,0 +1,354 @@
+package com.redhat.ceylon.compiler.typechecker.tree;
+
+import static com.redhat.ceylon.compiler.typechecker.tree.Tree.*;
+
+import java.util.Arrays;
+
+/**
+ * Runs several visitors, in the given order, in a single
+ * walk of the tree. Each node is passed to the first
+ * visitor, and when that visitor descends into the node
+ * by way of visitAny(), to the next visitor, and so on.
+ * The children of the node are visited once every visitor
+ * has descended. So each visitor sees the nodes in the
+ * same order as it would on its own.
+ *
+ * A visitor which does not descend into a node, or which
+ * visits the children of the node itself, is left out of
+ * the walk of the subtree. Only visitors which do not
+ * depend upon the results of a later visitor may be
+ * combined, and a NaturalVisitor, which walks the
+ * children of some nodes in a different order, may
+ * not be combined at all.
+ */
+public class CompositeVisitor extends Visitor {
+
+    private static final class Frame {
+        final Node node;
+        final int index;
+        final boolean[] active;
+        final Frame outer;
+        boolean resumed;
+        Frame(Node node, int index, boolean[] active, Frame outer) {
+            this.node = node;
+            this.index = index;
+            this.active = active;
+            this.outer = outer;
+        }
+    }
+
+    private final Visitor[] visitors;
+    private boolean[] active;
+    private Frame frame;
+
+    public CompositeVisitor(Visitor... visitors) {
+        this.visitors = visitors.clone();
+        active = new boolean[visitors.length];
+        Arrays.fill(active, true);
+        for (Visitor visitor: visitors) {
+            if (visitor instanceof NaturalVisitor) {
+                throw new IllegalArgumentException("natural visitors may not be combined");
+            }
+            visitor.composite = this;
+        }
+    }
+
+    private void visitNode(Node that) {
+        chain(that, 0, active);
+    }
+
+    @Override
+    public void visitAny(Node that) {
+        visitNode(that);
+    }
+
+    private void chain(Node that, int from, boolean[] active) {
+        int i = from;
+        while (i<visitors.length && !active[i]) i++;
+        if (i==visitors.length) {
+            boolean[] outerActive = this.active;
+            this.active = active;
+            try {
+                that.visitChildren(this);
+            }
+            finally {
+                this.active = outerActive;
+            }
+        }
+        else {
+            Frame f = new Frame(that, i, active, frame);
+            frame = f;
+            try {
+                that.visit(visitors[i]);
+            }
+            finally {
+                frame = f.outer;
+            }
+            if (!f.resumed) {
+                boolean[] remaining = active.clone();
+                remaining[i] = false;
+                chain(that, i+1, remaining);
+            }
+        }
+    }
+
+    /**
+     * Called by visitAny() of one of the visitors. If the
+     * visitor is descending into the node it was passed,
+     * continue with the next visitor.
+     */
+    boolean resume(Visitor visitor, Node that) {
+        Frame f = frame;
+        if (f!=null && !f.resumed && f.node==that && visitors[f.index]==visitor) {
+            f.resumed = true;
+            chain(that, f.index+1, f.active);
+            return true;
+        }
+        else {
+            return false;
+        }
+    }
+
+    @Override public void visit(CompilationUnit that) { visitNode(that); }
+    @Override public void visit(ImportList that) { visitNode(that); }
+    @Override public void visit(Import that) { visitNode(that); }
+    @Override public void visit(ImportPath that) { visitNode(that); }
+    @Override public void visit(ImportMemberOrTypeList that) { visitNode(that); }
+    @Override public void visit(ImportMemberOrType that) { visitNode(that); }
+    @Override public void visit(ImportMember that) { visitNode(that); }
+    @Override public void visit(ImportType that) { visitNode(that); }
+    @Override public void visit(Alias that) { visitNode(that); }
+    @Override public void visit(Implicit that) { visitNode(that); }
+    @Override public void visit(ImportWildcard that) { visitNode(that); }
+    @Override public void visit(Declaration that) { visitNode(that); }
+    @Override public void visit(TypeDeclaration that) { visitNode(that); }
+    @Override public void visit(ClassOrInterface that) { visitNode(that); }
+    @Override public void visit(SatisfiedTypes that) { visitNode(that); }
+    @Override public void visit(AbstractedType that) { visitNode(that); }
+    @Override public void visit(AdaptedTypes that) { visitNode(that); }
+    @Override public void visit(CaseTypes that) { visitNode(that); }
+    @Override public void visit(ExtendedType that) { visitNode(that); }
+    @Override public void visit(TypeConstraintList that) { visitNode(that); }
+    @Override public void visit(TypeConstraint that) { visitNode(that); }
+    @Override public void visit(TypeSpecifier that) { visitNode(that); }
+    @Override public void visit(AnyClass that) { visitNode(that); }
+    @Override public void visit(ClassDefinition that) { visitNode(that); }
+    @Override public void visit(ClassDeclaration that) { visitNode(that); }
+    @Override public void visit(AnyInterface that) { visitNode(that); }
+    @Override public void visit(InterfaceDefinition that) { visitNode(that); }
+    @Override public void visit(InterfaceDeclaration that) { visitNode(that); }
+    @Override public void visit(TypedDeclaration that) { visitNode(that); }
+    @Override public void visit(AnyAttribute that) { visitNode(that); }
+    @Override public void visit(AttributeDeclaration that) { visitNode(that); }
+    @Override public void visit(AttributeGetterDefinition that) { visitNode(that); }
+    @Override public void visit(AttributeSetterDefinition that) { visitNode(that); }
+    @Override public void visit(AnyMethod that) { visitNode(that); }
+    @Override public void visit(MethodDefinition that) { visitNode(that); }
+    @Override public void visit(MethodDeclaration that) { visitNode(that); }
+    @Override public void visit(VoidModifier that) { visitNode(that); }
+    @Override public void visit(ObjectDefinition that) { visitNode(that); }
+    @Override public void visit(ParameterList that) { visitNode(that); }
+    @Override public void visit(Parameter that) { visitNode(that); }
+    @Override public void visit(DefaultArgument that) { visitNode(that); }
+    @Override public void visit(ValueParameterDeclaration that) { visitNode(that); }
+    @Override public void visit(FunctionalParameterDeclaration that) { visitNode(that); }
+    @Override public void visit(TypeParameterList that) { visitNode(that); }
+    @Override public void visit(TypeParameterDeclaration that) { visitNode(that); }
+    @Override public void visit(TypeVariance that) { visitNode(that); }
+    @Override public void visit(SequencedTypeParameterDeclaration that) { visitNode(that); }
+    @Override public void visit(Body that) { visitNode(that); }
+    @Override public void visit(Block that) { visitNode(that); }
+    @Override public void visit(ClassBody that) { visitNode(that); }
+    @Override public void visit(InterfaceBody that) { visitNode(that); }
+    @Override public void visit(Type that) { visitNode(that); }
+    @Override public void visit(StaticType that) { visitNode(that); }
+    @Override public void visit(SimpleType that) { visitNode(that); }
+    @Override public void visit(BaseType that) { visitNode(that); }
+    @Override public void visit(UnionType that) { visitNode(that); }
+    @Override public void visit(IntersectionType that) { visitNode(that); }
+    @Override public void visit(QualifiedType that) { visitNode(that); }
+    @Override public void visit(SuperType that) { visitNode(that); }
+    @Override public void visit(LocalModifier that) { visitNode(that); }
+    @Override public void visit(ValueModifier that) { visitNode(that); }
+    @Override public void visit(FunctionModifier that) { visitNode(that); }
+    @Override public void visit(SyntheticVariable that) { visitNode(that); }
+    @Override public void visit(TypeArguments that) { visitNode(that); }
+    @Override public void visit(TypeArgumentList that) { visitNode(that); }
+    @Override public void visit(InferredTypeArguments that) { visitNode(that); }
+    @Override public void visit(SequencedType that) { visitNode(that); }
+    @Override public void visit(Directive that) { visitNode(that); }
+    @Override public void visit(Return that) { visitNode(that); }
+    @Override public void visit(Throw that) { visitNode(that); }
+    @Override public void visit(Continue that) { visitNode(that); }
+    @Override public void visit(Break that) { visitNode(that); }
+    @Override public void visit(StatementOrArgument that) { visitNode(that); }
+    @Override public void visit(Statement that) { visitNode(that); }
+    @Override public void visit(CompilerAnnotation that) { visitNode(that); }
+    @Override public void visit(ExecutableStatement that) { visitNode(that); }
+    @Override public void visit(SpecifierStatement that) { visitNode(that); }
+    @Override public void visit(ExpressionStatement that) { visitNode(that); }
+    @Override public void visit(ControlStatement that) { visitNode(that); }
+    @Override public void visit(ControlClause that) { visitNode(that); }
+    @Override public void visit(IfStatement that) { visitNode(that); }
+    @Override public void visit(IfClause that) { visitNode(that); }
+    @Override public void visit(ElseClause that) { visitNode(that); }
+    @Override public void visit(SwitchStatement that) { visitNode(that); }
+    @Override public void visit(SwitchClause that) { visitNode(that); }
+    @Override public void visit(SwitchCaseList that) { visitNode(that); }
+    @Override public void visit(CaseClause that) { visitNode(that); }
+    @Override public void visit(CaseItem that) { visitNode(that); }
+    @Override public void visit(MatchCase that) { visitNode(that); }
+    @Override public void visit(IsCase that) { visitNode(that); }
+    @Override public void visit(SatisfiesCase that) { visitNode(that); }
+    @Override public void visit(TryCatchStatement that) { visitNode(that); }
+    @Override public void visit(TryClause that) { visitNode(that); }
+    @Override public void visit(CatchClause that) { visitNode(that); }
+    @Override public void visit(FinallyClause that) { visitNode(that); }
+    @Override public void visit(Resource that) { visitNode(that); }
+    @Override public void visit(CatchVariable that) { visitNode(that); }
+    @Override public void visit(ForStatement that) { visitNode(that); }
+    @Override public void visit(ForClause that) { visitNode(that); }
+    @Override public void visit(ForIterator that) { visitNode(that); }
+    @Override public void visit(ValueIterator that) { visitNode(that); }
+    @Override public void visit(KeyValueIterator that) { visitNode(that); }
+    @Override public void visit(WhileStatement that) { visitNode(that); }
+    @Override public void visit(WhileClause that) { visitNode(that); }
+    @Override public void visit(Condition that) { visitNode(that); }
+    @Override public void visit(BooleanCondition that) { visitNode(that); }
+    @Override public void visit(ExistsOrNonemptyCondition that) { visitNode(that); }
+    @Override public void visit(ExistsCondition that) { visitNode(that); }
+    @Override public void visit(NonemptyCondition that) { visitNode(that); }
+    @Override public void visit(IsCondition that) { visitNode(that); }
+    @Override public void visit(SatisfiesCondition that) { visitNode(that); }
+    @Override public void visit(Variable that) { visitNode(that); }
+    @Override public void visit(Term that) { visitNode(that); }
+    @Override public void visit(OperatorExpression that) { visitNode(that); }
+    @Override public void visit(BinaryOperatorExpression that) { visitNode(that); }
+    @Override public void visit(ArithmeticOp that) { visitNode(that); }
+    @Override public void visit(SumOp that) { visitNode(that); }
+    @Override public void visit(DifferenceOp that) { visitNode(that); }
+    @Override public void visit(ProductOp that) { visitNode(that); }
+    @Override public void visit(QuotientOp that) { visitNode(that); }
+    @Override public void visit(PowerOp that) { visitNode(that); }
+    @Override public void visit(RemainderOp that) { visitNode(that); }
+    @Override public void visit(AssignmentOp that) { visitNode(that); }
+    @Override public void visit(AssignOp that) { visitNode(that); }
+    @Override public void visit(ArithmeticAssignmentOp that) { visitNode(that); }
+    @Override public void visit(AddAssignOp that) { visitNode(that); }
+    @Override public void visit(SubtractAssignOp that) { visitNode(that); }
+    @Override public void visit(MultiplyAssignOp that) { visitNode(that); }
+    @Override public void visit(DivideAssignOp that) { visitNode(that); }
+    @Override public void visit(RemainderAssignOp that) { visitNode(that); }
+    @Override public void visit(BitwiseAssignmentOp that) { visitNode(that); }
+    @Override public void visit(IntersectAssignOp that) { visitNode(that); }
+    @Override public void visit(UnionAssignOp that) { visitNode(that); }
+    @Override public void visit(XorAssignOp that) { visitNode(that); }
+    @Override public void visit(ComplementAssignOp that) { visitNode(that); }
+    @Override public void visit(LogicalAssignmentOp that) { visitNode(that); }
+    @Override public void visit(AndAssignOp that) { visitNode(that); }
+    @Override public void visit(OrAssignOp that) { visitNode(that); }
+    @Override public void visit(LogicalOp that) { visitNode(that); }
+    @Override public void visit(AndOp that) { visitNode(that); }
+    @Override public void visit(OrOp that) { visitNode(that); }
+    @Override public void visit(BitwiseOp that) { visitNode(that); }
+    @Override public void visit(IntersectionOp that) { visitNode(that); }
+    @Override public void visit(UnionOp that) { visitNode(that); }
+    @Override public void visit(XorOp that) { visitNode(that); }
+    @Override public void visit(ComplementOp that) { visitNode(that); }
+    @Override public void visit(EqualityOp that) { visitNode(that); }
+    @Override public void visit(EqualOp that) { visitNode(that); }
+    @Override public void visit(NotEqualOp that) { visitNode(that); }
+    @Override public void visit(ComparisonOp that) { visitNode(that); }
+    @Override public void visit(LargerOp that) { visitNode(that); }
+    @Override public void visit(SmallerOp that) { visitNode(that); }
+    @Override public void visit(LargeAsOp that) { visitNode(that); }
+    @Override public void visit(SmallAsOp that) { visitNode(that); }
+    @Override public void visit(DefaultOp that) { visitNode(that); }
+    @Override public void visit(ThenOp that) { visitNode(that); }
+    @Override public void visit(IdenticalOp that) { visitNode(that); }
+    @Override public void visit(EntryOp that) { visitNode(that); }
+    @Override public void visit(RangeOp that) { visitNode(that); }
+    @Override public void visit(CompareOp that) { visitNode(that); }
+    @Override public void visit(InOp that) { visitNode(that); }
+    @Override public void visit(UnaryOperatorExpression that) { visitNode(that); }
+    @Override public void visit(NotOp that) { visitNode(that); }
+    @Override public void visit(Exists that) { visitNode(that); }
+    @Override public void visit(Nonempty that) { visitNode(that); }
+    @Override public void visit(FlipOp that) { visitNode(that); }
+    @Override public void visit(NegativeOp that) { visitNode(that); }
+    @Override public void visit(PositiveOp that) { visitNode(that); }
+    @Override public void visit(TypeOperatorExpression that) { visitNode(that); }
+    @Override public void visit(IsOp that) { visitNode(that); }
+    @Override public void visit(Satisfies that) { visitNode(that); }
+    @Override public void visit(Extends that) { visitNode(that); }
+    @Override public void visit(PrefixOperatorExpression that) { visitNode(that); }
+    @Override public void visit(IncrementOp that) { visitNode(that); }
+    @Override public void visit(DecrementOp that) { visitNode(that); }
+    @Override public void visit(PostfixOperatorExpression that) { visitNode(that); }
+    @Override public void visit(PostfixIncrementOp that) { visitNode(that); }
+    @Override public void visit(PostfixDecrementOp that) { visitNode(that); }
+    @Override public void visit(ExpressionList that) { visitNode(that); }
+    @Override public void visit(Expression that) { visitNode(that); }
+    @Override public void visit(Primary that) { visitNode(that); }
+    @Override public void visit(PostfixExpression that) { visitNode(that); }
+    @Override public void visit(InvocationExpression that) { visitNode(that); }
+    @Override public void visit(MemberOrTypeExpression that) { visitNode(that); }
+    @Override public void visit(ExtendedTypeExpression that) { visitNode(that); }
+    @Override public void visit(StaticMemberOrTypeExpression that) { visitNode(that); }
+    @Override public void visit(BaseMemberOrTypeExpression that) { visitNode(that); }
+    @Override public void visit(BaseMemberExpression that) { visitNode(that); }
+    @Override public void visit(BaseTypeExpression that) { visitNode(that); }
+    @Override public void visit(QualifiedMemberOrTypeExpression that) { visitNode(that); }
+    @Override public void visit(QualifiedMemberExpression that) { visitNode(that); }
+    @Override public void visit(QualifiedTypeExpression that) { visitNode(that); }
+    @Override public void visit(MemberOperator that) { visitNode(that); }
+    @Override public void visit(MemberOp that) { visitNode(that); }
+    @Override public void visit(SafeMemberOp that) { visitNode(that); }
+    @Override public void visit(SpreadOp that) { visitNode(that); }
+    @Override public void visit(IndexExpression that) { visitNode(that); }
+    @Override public void visit(IndexOperator that) { visitNode(that); }
+    @Override public void visit(IndexOp that) { visitNode(that); }
+    @Override public void visit(SafeIndexOp that) { visitNode(that); }
+    @Override public void visit(ElementOrRange that) { visitNode(that); }
+    @Override public void visit(Element that) { visitNode(that); }
+    @Override public void visit(ElementRange that) { visitNode(that); }
+    @Override public void visit(Outer that) { visitNode(that); }
+    @Override public void visit(ArgumentList that) { visitNode(that); }
+    @Override public void visit(NamedArgumentList that) { visitNode(that); }
+    @Override public void visit(SequencedArgument that) { visitNode(that); }
+    @Override public void visit(PositionalArgumentList that) { visitNode(that); }
+    @Override public void visit(Ellipsis that) { visitNode(that); }
+    @Override public void visit(PositionalArgument that) { visitNode(that); }
+    @Override public void visit(FunctionArgument that) { visitNode(that); }
+    @Override public void visit(NamedArgument that) { visitNode(that); }
+    @Override public void visit(SpecifiedArgument that) { visitNode(that); }
+    @Override public void visit(TypedArgument that) { visitNode(that); }
+    @Override public void visit(MethodArgument that) { visitNode(that); }
+    @Override public void visit(AttributeArgument that) { visitNode(that); }
+    @Override public void visit(ObjectArgument that) { visitNode(that); }
+    @Override public void visit(SpecifierOrInitializerExpression that) { visitNode(that); }
+    @Override public void visit(SpecifierExpression that) { visitNode(that); }
+    @Override public void visit(InitializerExpression that) { visitNode(that); }
+    @Override public void visit(Atom that) { visitNode(that); }
+    @Override public void visit(Literal that) { visitNode(that); }
+    @Override public void visit(NaturalLiteral that) { visitNode(that); }
+    @Override public void visit(FloatLiteral that) { visitNode(that); }
+    @Override public void visit(CharLiteral that) { visitNode(that); }
+    @Override public void visit(StringLiteral that) { visitNode(that); }
+    @Override public void visit(QuotedLiteral that) { visitNode(that); }
+    @Override public void visit(SelfExpression that) { visitNode(that); }
+    @Override public void visit(This that) { visitNode(that); }
+    @Override public void visit(Super that) { visitNode(that); }
+    @Override public void visit(SequenceEnumeration that) { visitNode(that); }
+    @Override public void visit(StringTemplate that) { visitNode(that); }
+    @Override public void visit(Lambda that) { visitNode(that); }
+    @Override public void visit(Annotation that) { visitNode(that); }
+    @Override public void visit(AnnotationList that) { visitNode(that); }
+    @Override public void visit(Identifier that) { visitNode(that); }
+    @Override public void visit(Comprehension that) { visitNode(that); }
+    @Override public void visit(ComprehensionClause that) { visitNode(that); }
+    @Override public void visit(ExpressionComprehensionClause that) { visitNode(that); }
+    @Override public void visit(ForComprehensionClause that) { visitNode(that); }
+    @Override public void visit(IfComprehensionClause that) { visitNode(that); }
+
+}
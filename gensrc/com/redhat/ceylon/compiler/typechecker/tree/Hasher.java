@@ -0,0 +1,1101 @@
+package com.redhat.ceylon.compiler.typechecker.tree;
+
+import static com.redhat.ceylon.compiler.typechecker.tree.Tree.*;
+
+public class Hasher {
+
+    public static void hashCompilationUnit(StructuralHash hash, CompilationUnit node) {
+        hash.addAll(node.getCompilerAnnotations());
+        hash.add(node.getImportList());
+        hash.addAll(node.getDeclarations());
+    }
+
+    public static void hashImportList(StructuralHash hash, ImportList node) {
+        hash.addAll(node.getImports());
+    }
+
+    public static void hashImport(StructuralHash hash, Import node) {
+        hashStatementOrArgument(hash, node);
+        hash.add(node.getImportPath());
+        hash.add(node.getImportMemberOrTypeList());
+    }
+
+    public static void hashImportPath(StructuralHash hash, ImportPath node) {
+        hash.addAll(node.getIdentifiers());
+    }
+
+    public static void hashImportMemberOrTypeList(StructuralHash hash, ImportMemberOrTypeList node) {
+        hash.addAll(node.getImportMemberOrTypes());
+        hash.add(node.getImportWildcard());
+    }
+
+    public static void hashImportMemberOrType(StructuralHash hash, ImportMemberOrType node) {
+        hashStatementOrArgument(hash, node);
+        hash.add(node.getAlias());
+        hash.add(node.getIdentifier());
+        hash.add(node.getImportMemberOrTypeList());
+    }
+
+    public static void hashImportMember(StructuralHash hash, ImportMember node) {
+        hashImportMemberOrType(hash, node);
+    }
+
+    public static void hashImportType(StructuralHash hash, ImportType node) {
+        hashImportMemberOrType(hash, node);
+    }
+
+    public static void hashAlias(StructuralHash hash, Alias node) {
+        hash.add(node.getIdentifier());
+    }
+
+    public static void hashImplicit(StructuralHash hash, Implicit node) {
+    }
+
+    public static void hashImportWildcard(StructuralHash hash, ImportWildcard node) {
+    }
+
+    public static void hashDeclaration(StructuralHash hash, Declaration node) {
+        hashStatement(hash, node);
+        hash.add(node.getAnnotationList());
+        hash.add(node.getIdentifier());
+    }
+
+    public static void hashTypeDeclaration(StructuralHash hash, TypeDeclaration node) {
+        hashDeclaration(hash, node);
+        hash.add(node.getTypeParameterList());
+        hash.add(node.getCaseTypes());
+        hash.add(node.getSatisfiedTypes());
+    }
+
+    public static void hashClassOrInterface(StructuralHash hash, ClassOrInterface node) {
+        hashTypeDeclaration(hash, node);
+        hash.add(node.getTypeConstraintList());
+    }
+
+    public static void hashSatisfiedTypes(StructuralHash hash, SatisfiedTypes node) {
+        hash.addAll(node.getTypes());
+    }
+
+    public static void hashAbstractedType(StructuralHash hash, AbstractedType node) {
+        hash.add(node.getType());
+    }
+
+    public static void hashAdaptedTypes(StructuralHash hash, AdaptedTypes node) {
+        hash.addAll(node.getTypes());
+    }
+
+    public static void hashCaseTypes(StructuralHash hash, CaseTypes node) {
+        hash.addAll(node.getTypes());
+        hash.addAll(node.getBaseMemberExpressions());
+    }
+
+    public static void hashExtendedType(StructuralHash hash, ExtendedType node) {
+        hash.add(node.getType());
+        hash.add(node.getInvocationExpression());
+    }
+
+    public static void hashTypeConstraintList(StructuralHash hash, TypeConstraintList node) {
+        hash.addAll(node.getTypeConstraints());
+    }
+
+    public static void hashTypeConstraint(StructuralHash hash, TypeConstraint node) {
+        hashTypeDeclaration(hash, node);
+        hash.add(node.getParameterList());
+        hash.add(node.getAbstractedType());
+    }
+
+    public static void hashTypeSpecifier(StructuralHash hash, TypeSpecifier node) {
+        hash.add(node.getType());
+    }
+
+    public static void hashAnyClass(StructuralHash hash, AnyClass node) {
+        hashClassOrInterface(hash, node);
+        hash.add(node.getParameterList());
+        hash.add(node.getExtendedType());
+    }
+
+    public static void hashClassDefinition(StructuralHash hash, ClassDefinition node) {
+        hashAnyClass(hash, node);
+        hash.add(node.getClassBody());
+    }
+
+    public static void hashClassDeclaration(StructuralHash hash, ClassDeclaration node) {
+        hashAnyClass(hash, node);
+        hash.add(node.getTypeSpecifier());
+    }
+
+    public static void hashAnyInterface(StructuralHash hash, AnyInterface node) {
+        hashClassOrInterface(hash, node);
+    }
+
+    public static void hashInterfaceDefinition(StructuralHash hash, InterfaceDefinition node) {
+        hashAnyInterface(hash, node);
+        hash.add(node.getAdaptedTypes());
+        hash.add(node.getInterfaceBody());
+    }
+
+    public static void hashInterfaceDeclaration(StructuralHash hash, InterfaceDeclaration node) {
+        hashAnyInterface(hash, node);
+        hash.add(node.getTypeSpecifier());
+    }
+
+    public static void hashTypedDeclaration(StructuralHash hash, TypedDeclaration node) {
+        hashDeclaration(hash, node);
+        hash.add(node.getType());
+    }
+
+    public static void hashAnyAttribute(StructuralHash hash, AnyAttribute node) {
+        hashTypedDeclaration(hash, node);
+    }
+
+    public static void hashAttributeDeclaration(StructuralHash hash, AttributeDeclaration node) {
+        hashAnyAttribute(hash, node);
+        hash.add(node.getSpecifierOrInitializerExpression());
+    }
+
+    public static void hashAttributeGetterDefinition(StructuralHash hash, AttributeGetterDefinition node) {
+        hashAnyAttribute(hash, node);
+        hash.add(node.getBlock());
+    }
+
+    public static void hashAttributeSetterDefinition(StructuralHash hash, AttributeSetterDefinition node) {
+        hashTypedDeclaration(hash, node);
+        hash.add(node.getBlock());
+    }
+
+    public static void hashAnyMethod(StructuralHash hash, AnyMethod node) {
+        hashTypedDeclaration(hash, node);
+        hash.add(node.getTypeParameterList());
+        hash.addAll(node.getParameterLists());
+        hash.add(node.getTypeConstraintList());
+    }
+
+    public static void hashMethodDefinition(StructuralHash hash, MethodDefinition node) {
+        hashAnyMethod(hash, node);
+        hash.add(node.getBlock());
+    }
+
+    public static void hashMethodDeclaration(StructuralHash hash, MethodDeclaration node) {
+        hashAnyMethod(hash, node);
+        hash.add(node.getSpecifierExpression());
+    }
+
+    public static void hashVoidModifier(StructuralHash hash, VoidModifier node) {
+        hashType(hash, node);
+    }
+
+    public static void hashObjectDefinition(StructuralHash hash, ObjectDefinition node) {
+        hashTypedDeclaration(hash, node);
+        hash.add(node.getExtendedType());
+        hash.add(node.getSatisfiedTypes());
+        hash.add(node.getClassBody());
+    }
+
+    public static void hashParameterList(StructuralHash hash, ParameterList node) {
+        hash.addAll(node.getParameters());
+    }
+
+    public static void hashParameter(StructuralHash hash, Parameter node) {
+        hashTypedDeclaration(hash, node);
+        hash.add(node.getDefaultArgument());
+    }
+
+    public static void hashDefaultArgument(StructuralHash hash, DefaultArgument node) {
+        hash.add(node.getSpecifierExpression());
+    }
+
+    public static void hashValueParameterDeclaration(StructuralHash hash, ValueParameterDeclaration node) {
+        hashParameter(hash, node);
+    }
+
+    public static void hashFunctionalParameterDeclaration(StructuralHash hash, FunctionalParameterDeclaration node) {
+        hashParameter(hash, node);
+        hash.addAll(node.getParameterLists());
+    }
+
+    public static void hashTypeParameterList(StructuralHash hash, TypeParameterList node) {
+        hash.addAll(node.getTypeParameterDeclarations());
+        hash.add(node.getSequencedTypeParameterDeclaration());
+    }
+
+    public static void hashTypeParameterDeclaration(StructuralHash hash, TypeParameterDeclaration node) {
+        hashDeclaration(hash, node);
+        hash.add(node.getTypeVariance());
+    }
+
+    public static void hashTypeVariance(StructuralHash hash, TypeVariance node) {
+    }
+
+    public static void hashSequencedTypeParameterDeclaration(StructuralHash hash, SequencedTypeParameterDeclaration node) {
+        hashDeclaration(hash, node);
+    }
+
+    public static void hashBody(StructuralHash hash, Body node) {
+        hash.addAll(node.getStatements());
+    }
+
+    public static void hashBlock(StructuralHash hash, Block node) {
+        hashBody(hash, node);
+    }
+
+    public static void hashClassBody(StructuralHash hash, ClassBody node) {
+        hashBody(hash, node);
+    }
+
+    public static void hashInterfaceBody(StructuralHash hash, InterfaceBody node) {
+        hashBody(hash, node);
+    }
+
+    public static void hashType(StructuralHash hash, Type node) {
+    }
+
+    public static void hashStaticType(StructuralHash hash, StaticType node) {
+        hashType(hash, node);
+    }
+
+    public static void hashSimpleType(StructuralHash hash, SimpleType node) {
+        hashStaticType(hash, node);
+        hash.add(node.getIdentifier());
+        hash.add(node.getTypeArgumentList());
+    }
+
+    public static void hashBaseType(StructuralHash hash, BaseType node) {
+        hashSimpleType(hash, node);
+    }
+
+    public static void hashUnionType(StructuralHash hash, UnionType node) {
+        hashStaticType(hash, node);
+        hash.addAll(node.getStaticTypes());
+    }
+
+    public static void hashIntersectionType(StructuralHash hash, IntersectionType node) {
+        hashStaticType(hash, node);
+        hash.addAll(node.getStaticTypes());
+    }
+
+    public static void hashQualifiedType(StructuralHash hash, QualifiedType node) {
+        hashSimpleType(hash, node);
+        hash.add(node.getOuterType());
+    }
+
+    public static void hashSuperType(StructuralHash hash, SuperType node) {
+        hashStaticType(hash, node);
+    }
+
+    public static void hashLocalModifier(StructuralHash hash, LocalModifier node) {
+        hashType(hash, node);
+    }
+
+    public static void hashValueModifier(StructuralHash hash, ValueModifier node) {
+        hashLocalModifier(hash, node);
+    }
+
+    public static void hashFunctionModifier(StructuralHash hash, FunctionModifier node) {
+        hashLocalModifier(hash, node);
+    }
+
+    public static void hashSyntheticVariable(StructuralHash hash, SyntheticVariable node) {
+        hashValueModifier(hash, node);
+    }
+
+    public static void hashTypeArguments(StructuralHash hash, TypeArguments node) {
+    }
+
+    public static void hashTypeArgumentList(StructuralHash hash, TypeArgumentList node) {
+        hashTypeArguments(hash, node);
+        hash.addAll(node.getTypes());
+    }
+
+    public static void hashInferredTypeArguments(StructuralHash hash, InferredTypeArguments node) {
+        hashTypeArguments(hash, node);
+    }
+
+    public static void hashSequencedType(StructuralHash hash, SequencedType node) {
+        hashType(hash, node);
+        hash.add(node.getType());
+    }
+
+    public static void hashDirective(StructuralHash hash, Directive node) {
+        hashExecutableStatement(hash, node);
+    }
+
+    public static void hashReturn(StructuralHash hash, Return node) {
+        hashDirective(hash, node);
+        hash.add(node.getExpression());
+    }
+
+    public static void hashThrow(StructuralHash hash, Throw node) {
+        hashDirective(hash, node);
+        hash.add(node.getExpression());
+    }
+
+    public static void hashContinue(StructuralHash hash, Continue node) {
+        hashDirective(hash, node);
+    }
+
+    public static void hashBreak(StructuralHash hash, Break node) {
+        hashDirective(hash, node);
+    }
+
+    public static void hashStatementOrArgument(StructuralHash hash, StatementOrArgument node) {
+        hash.addAll(node.getCompilerAnnotations());
+    }
+
+    public static void hashStatement(StructuralHash hash, Statement node) {
+        hashStatementOrArgument(hash, node);
+    }
+
+    public static void hashCompilerAnnotation(StructuralHash hash, CompilerAnnotation node) {
+        hash.add(node.getIdentifier());
+        hash.add(node.getStringLiteral());
+    }
+
+    public static void hashExecutableStatement(StructuralHash hash, ExecutableStatement node) {
+        hashStatement(hash, node);
+    }
+
+    public static void hashSpecifierStatement(StructuralHash hash, SpecifierStatement node) {
+        hashExecutableStatement(hash, node);
+        hash.add(node.getBaseMemberExpression());
+        hash.add(node.getSpecifierExpression());
+    }
+
+    public static void hashExpressionStatement(StructuralHash hash, ExpressionStatement node) {
+        hashExecutableStatement(hash, node);
+        hash.add(node.getExpression());
+    }
+
+    public static void hashControlStatement(StructuralHash hash, ControlStatement node) {
+        hashExecutableStatement(hash, node);
+    }
+
+    public static void hashControlClause(StructuralHash hash, ControlClause node) {
+    }
+
+    public static void hashIfStatement(StructuralHash hash, IfStatement node) {
+        hashControlStatement(hash, node);
+        hash.add(node.getIfClause());
+        hash.add(node.getElseClause());
+    }
+
+    public static void hashIfClause(StructuralHash hash, IfClause node) {
+        hashControlClause(hash, node);
+        hash.add(node.getCondition());
+        hash.add(node.getBlock());
+    }
+
+    public static void hashElseClause(StructuralHash hash, ElseClause node) {
+        hashControlClause(hash, node);
+        hash.add(node.getBlock());
+    }
+
+    public static void hashSwitchStatement(StructuralHash hash, SwitchStatement node) {
+        hashControlStatement(hash, node);
+        hash.add(node.getSwitchClause());
+        hash.add(node.getSwitchCaseList());
+    }
+
+    public static void hashSwitchClause(StructuralHash hash, SwitchClause node) {
+        hash.add(node.getExpression());
+    }
+
+    public static void hashSwitchCaseList(StructuralHash hash, SwitchCaseList node) {
+        hash.addAll(node.getCaseClauses());
+        hash.add(node.getElseClause());
+    }
+
+    public static void hashCaseClause(StructuralHash hash, CaseClause node) {
+        hashControlClause(hash, node);
+        hash.add(node.getCaseItem());
+        hash.add(node.getBlock());
+    }
+
+    public static void hashCaseItem(StructuralHash hash, CaseItem node) {
+    }
+
+    public static void hashMatchCase(StructuralHash hash, MatchCase node) {
+        hashCaseItem(hash, node);
+        hash.add(node.getExpressionList());
+    }
+
+    public static void hashIsCase(StructuralHash hash, IsCase node) {
+        hashCaseItem(hash, node);
+        hash.add(node.getType());
+        hash.add(node.getVariable());
+    }
+
+    public static void hashSatisfiesCase(StructuralHash hash, SatisfiesCase node) {
+        hashCaseItem(hash, node);
+        hash.add(node.getType());
+    }
+
+    public static void hashTryCatchStatement(StructuralHash hash, TryCatchStatement node) {
+        hashControlStatement(hash, node);
+        hash.add(node.getTryClause());
+        hash.addAll(node.getCatchClauses());
+        hash.add(node.getFinallyClause());
+    }
+
+    public static void hashTryClause(StructuralHash hash, TryClause node) {
+        hashControlClause(hash, node);
+        hash.add(node.getResource());
+        hash.add(node.getBlock());
+    }
+
+    public static void hashCatchClause(StructuralHash hash, CatchClause node) {
+        hashControlClause(hash, node);
+        hash.add(node.getCatchVariable());
+        hash.add(node.getBlock());
+    }
+
+    public static void hashFinallyClause(StructuralHash hash, FinallyClause node) {
+        hashControlClause(hash, node);
+        hash.add(node.getBlock());
+    }
+
+    public static void hashResource(StructuralHash hash, Resource node) {
+        hash.add(node.getVariable());
+        hash.add(node.getExpression());
+    }
+
+    public static void hashCatchVariable(StructuralHash hash, CatchVariable node) {
+        hash.add(node.getVariable());
+    }
+
+    public static void hashForStatement(StructuralHash hash, ForStatement node) {
+        hashControlStatement(hash, node);
+        hash.add(node.getForClause());
+        hash.add(node.getElseClause());
+    }
+
+    public static void hashForClause(StructuralHash hash, ForClause node) {
+        hashControlClause(hash, node);
+        hash.add(node.getForIterator());
+        hash.add(node.getBlock());
+    }
+
+    public static void hashForIterator(StructuralHash hash, ForIterator node) {
+        hashStatementOrArgument(hash, node);
+        hash.add(node.getSpecifierExpression());
+    }
+
+    public static void hashValueIterator(StructuralHash hash, ValueIterator node) {
+        hashForIterator(hash, node);
+        hash.add(node.getVariable());
+    }
+
+    public static void hashKeyValueIterator(StructuralHash hash, KeyValueIterator node) {
+        hashForIterator(hash, node);
+        hash.add(node.getKeyVariable());
+        hash.add(node.getValueVariable());
+    }
+
+    public static void hashWhileStatement(StructuralHash hash, WhileStatement node) {
+        hashControlStatement(hash, node);
+        hash.add(node.getWhileClause());
+    }
+
+    public static void hashWhileClause(StructuralHash hash, WhileClause node) {
+        hashControlClause(hash, node);
+        hash.add(node.getCondition());
+        hash.add(node.getBlock());
+    }
+
+    public static void hashCondition(StructuralHash hash, Condition node) {
+    }
+
+    public static void hashBooleanCondition(StructuralHash hash, BooleanCondition node) {
+        hashCondition(hash, node);
+        hash.add(node.getExpression());
+    }
+
+    public static void hashExistsOrNonemptyCondition(StructuralHash hash, ExistsOrNonemptyCondition node) {
+        hashCondition(hash, node);
+        hash.add(node.getVariable());
+        hash.add(node.getExpression());
+    }
+
+    public static void hashExistsCondition(StructuralHash hash, ExistsCondition node) {
+        hashExistsOrNonemptyCondition(hash, node);
+    }
+
+    public static void hashNonemptyCondition(StructuralHash hash, NonemptyCondition node) {
+        hashExistsOrNonemptyCondition(hash, node);
+    }
+
+    public static void hashIsCondition(StructuralHash hash, IsCondition node) {
+        hashCondition(hash, node);
+        hash.add(node.getType());
+        hash.add(node.getVariable());
+        hash.add(node.getExpression());
+    }
+
+    public static void hashSatisfiesCondition(StructuralHash hash, SatisfiesCondition node) {
+        hashCondition(hash, node);
+        hash.add(node.getLeftType());
+        hash.add(node.getRightType());
+    }
+
+    public static void hashVariable(StructuralHash hash, Variable node) {
+        hashTypedDeclaration(hash, node);
+        hash.addAll(node.getParameterLists());
+        hash.add(node.getSpecifierExpression());
+    }
+
+    public static void hashTerm(StructuralHash hash, Term node) {
+    }
+
+    public static void hashOperatorExpression(StructuralHash hash, OperatorExpression node) {
+        hashTerm(hash, node);
+    }
+
+    public static void hashBinaryOperatorExpression(StructuralHash hash, BinaryOperatorExpression node) {
+        hashOperatorExpression(hash, node);
+        hash.add(node.getLeftTerm());
+        hash.add(node.getRightTerm());
+    }
+
+    public static void hashArithmeticOp(StructuralHash hash, ArithmeticOp node) {
+        hashBinaryOperatorExpression(hash, node);
+    }
+
+    public static void hashSumOp(StructuralHash hash, SumOp node) {
+        hashArithmeticOp(hash, node);
+    }
+
+    public static void hashDifferenceOp(StructuralHash hash, DifferenceOp node) {
+        hashArithmeticOp(hash, node);
+    }
+
+    public static void hashProductOp(StructuralHash hash, ProductOp node) {
+        hashArithmeticOp(hash, node);
+    }
+
+    public static void hashQuotientOp(StructuralHash hash, QuotientOp node) {
+        hashArithmeticOp(hash, node);
+    }
+
+    public static void hashPowerOp(StructuralHash hash, PowerOp node) {
+        hashArithmeticOp(hash, node);
+    }
+
+    public static void hashRemainderOp(StructuralHash hash, RemainderOp node) {
+        hashArithmeticOp(hash, node);
+    }
+
+    public static void hashAssignmentOp(StructuralHash hash, AssignmentOp node) {
+        hashBinaryOperatorExpression(hash, node);
+    }
+
+    public static void hashAssignOp(StructuralHash hash, AssignOp node) {
+        hashAssignmentOp(hash, node);
+    }
+
+    public static void hashArithmeticAssignmentOp(StructuralHash hash, ArithmeticAssignmentOp node) {
+        hashAssignmentOp(hash, node);
+    }
+
+    public static void hashAddAssignOp(StructuralHash hash, AddAssignOp node) {
+        hashArithmeticAssignmentOp(hash, node);
+    }
+
+    public static void hashSubtractAssignOp(StructuralHash hash, SubtractAssignOp node) {
+        hashArithmeticAssignmentOp(hash, node);
+    }
+
+    public static void hashMultiplyAssignOp(StructuralHash hash, MultiplyAssignOp node) {
+        hashArithmeticAssignmentOp(hash, node);
+    }
+
+    public static void hashDivideAssignOp(StructuralHash hash, DivideAssignOp node) {
+        hashArithmeticAssignmentOp(hash, node);
+    }
+
+    public static void hashRemainderAssignOp(StructuralHash hash, RemainderAssignOp node) {
+        hashArithmeticAssignmentOp(hash, node);
+    }
+
+    public static void hashBitwiseAssignmentOp(StructuralHash hash, BitwiseAssignmentOp node) {
+        hashAssignmentOp(hash, node);
+    }
+
+    public static void hashIntersectAssignOp(StructuralHash hash, IntersectAssignOp node) {
+        hashBitwiseAssignmentOp(hash, node);
+    }
+
+    public static void hashUnionAssignOp(StructuralHash hash, UnionAssignOp node) {
+        hashBitwiseAssignmentOp(hash, node);
+    }
+
+    public static void hashXorAssignOp(StructuralHash hash, XorAssignOp node) {
+        hashBitwiseAssignmentOp(hash, node);
+    }
+
+    public static void hashComplementAssignOp(StructuralHash hash, ComplementAssignOp node) {
+        hashBitwiseAssignmentOp(hash, node);
+    }
+
+    public static void hashLogicalAssignmentOp(StructuralHash hash, LogicalAssignmentOp node) {
+        hashAssignmentOp(hash, node);
+    }
+
+    public static void hashAndAssignOp(StructuralHash hash, AndAssignOp node) {
+        hashLogicalAssignmentOp(hash, node);
+    }
+
+    public static void hashOrAssignOp(StructuralHash hash, OrAssignOp node) {
+        hashLogicalAssignmentOp(hash, node);
+    }
+
+    public static void hashLogicalOp(StructuralHash hash, LogicalOp node) {
+        hashBinaryOperatorExpression(hash, node);
+    }
+
+    public static void hashAndOp(StructuralHash hash, AndOp node) {
+        hashLogicalOp(hash, node);
+    }
+
+    public static void hashOrOp(StructuralHash hash, OrOp node) {
+        hashLogicalOp(hash, node);
+    }
+
+    public static void hashBitwiseOp(StructuralHash hash, BitwiseOp node) {
+        hashBinaryOperatorExpression(hash, node);
+    }
+
+    public static void hashIntersectionOp(StructuralHash hash, IntersectionOp node) {
+        hashBitwiseOp(hash, node);
+    }
+
+    public static void hashUnionOp(StructuralHash hash, UnionOp node) {
+        hashBitwiseOp(hash, node);
+    }
+
+    public static void hashXorOp(StructuralHash hash, XorOp node) {
+        hashBitwiseOp(hash, node);
+    }
+
+    public static void hashComplementOp(StructuralHash hash, ComplementOp node) {
+        hashBitwiseOp(hash, node);
+    }
+
+    public static void hashEqualityOp(StructuralHash hash, EqualityOp node) {
+        hashBinaryOperatorExpression(hash, node);
+    }
+
+    public static void hashEqualOp(StructuralHash hash, EqualOp node) {
+        hashEqualityOp(hash, node);
+    }
+
+    public static void hashNotEqualOp(StructuralHash hash, NotEqualOp node) {
+        hashEqualityOp(hash, node);
+    }
+
+    public static void hashComparisonOp(StructuralHash hash, ComparisonOp node) {
+        hashBinaryOperatorExpression(hash, node);
+    }
+
+    public static void hashLargerOp(StructuralHash hash, LargerOp node) {
+        hashComparisonOp(hash, node);
+    }
+
+    public static void hashSmallerOp(StructuralHash hash, SmallerOp node) {
+        hashComparisonOp(hash, node);
+    }
+
+    public static void hashLargeAsOp(StructuralHash hash, LargeAsOp node) {
+        hashComparisonOp(hash, node);
+    }
+
+    public static void hashSmallAsOp(StructuralHash hash, SmallAsOp node) {
+        hashComparisonOp(hash, node);
+    }
+
+    public static void hashDefaultOp(StructuralHash hash, DefaultOp node) {
+        hashBinaryOperatorExpression(hash, node);
+    }
+
+    public static void hashThenOp(StructuralHash hash, ThenOp node) {
+        hashBinaryOperatorExpression(hash, node);
+    }
+
+    public static void hashIdenticalOp(StructuralHash hash, IdenticalOp node) {
+        hashBinaryOperatorExpression(hash, node);
+    }
+
+    public static void hashEntryOp(StructuralHash hash, EntryOp node) {
+        hashBinaryOperatorExpression(hash, node);
+    }
+
+    public static void hashRangeOp(StructuralHash hash, RangeOp node) {
+        hashBinaryOperatorExpression(hash, node);
+    }
+
+    public static void hashCompareOp(StructuralHash hash, CompareOp node) {
+        hashBinaryOperatorExpression(hash, node);
+    }
+
+    public static void hashInOp(StructuralHash hash, InOp node) {
+        hashBinaryOperatorExpression(hash, node);
+    }
+
+    public static void hashUnaryOperatorExpression(StructuralHash hash, UnaryOperatorExpression node) {
+        hashOperatorExpression(hash, node);
+        hash.add(node.getTerm());
+    }
+
+    public static void hashNotOp(StructuralHash hash, NotOp node) {
+        hashUnaryOperatorExpression(hash, node);
+    }
+
+    public static void hashExists(StructuralHash hash, Exists node) {
+        hashUnaryOperatorExpression(hash, node);
+    }
+
+    public static void hashNonempty(StructuralHash hash, Nonempty node) {
+        hashUnaryOperatorExpression(hash, node);
+    }
+
+    public static void hashFlipOp(StructuralHash hash, FlipOp node) {
+        hashUnaryOperatorExpression(hash, node);
+    }
+
+    public static void hashNegativeOp(StructuralHash hash, NegativeOp node) {
+        hashUnaryOperatorExpression(hash, node);
+    }
+
+    public static void hashPositiveOp(StructuralHash hash, PositiveOp node) {
+        hashUnaryOperatorExpression(hash, node);
+    }
+
+    public static void hashTypeOperatorExpression(StructuralHash hash, TypeOperatorExpression node) {
+        hashUnaryOperatorExpression(hash, node);
+        hash.add(node.getType());
+    }
+
+    public static void hashIsOp(StructuralHash hash, IsOp node) {
+        hashTypeOperatorExpression(hash, node);
+    }
+
+    public static void hashSatisfies(StructuralHash hash, Satisfies node) {
+        hashTypeOperatorExpression(hash, node);
+    }
+
+    public static void hashExtends(StructuralHash hash, Extends node) {
+        hashTypeOperatorExpression(hash, node);
+    }
+
+    public static void hashPrefixOperatorExpression(StructuralHash hash, PrefixOperatorExpression node) {
+        hashUnaryOperatorExpression(hash, node);
+    }
+
+    public static void hashIncrementOp(StructuralHash hash, IncrementOp node) {
+        hashPrefixOperatorExpression(hash, node);
+    }
+
+    public static void hashDecrementOp(StructuralHash hash, DecrementOp node) {
+        hashPrefixOperatorExpression(hash, node);
+    }
+
+    public static void hashPostfixOperatorExpression(StructuralHash hash, PostfixOperatorExpression node) {
+        hashUnaryOperatorExpression(hash, node);
+    }
+
+    public static void hashPostfixIncrementOp(StructuralHash hash, PostfixIncrementOp node) {
+        hashPostfixOperatorExpression(hash, node);
+    }
+
+    public static void hashPostfixDecrementOp(StructuralHash hash, PostfixDecrementOp node) {
+        hashPostfixOperatorExpression(hash, node);
+    }
+
+    public static void hashExpressionList(StructuralHash hash, ExpressionList node) {
+        hash.addAll(node.getExpressions());
+    }
+
+    public static void hashExpression(StructuralHash hash, Expression node) {
+        hashAtom(hash, node);
+        hash.add(node.getTerm());
+    }
+
+    public static void hashPrimary(StructuralHash hash, Primary node) {
+        hashTerm(hash, node);
+    }
+
+    public static void hashPostfixExpression(StructuralHash hash, PostfixExpression node) {
+        hashPrimary(hash, node);
+        hash.add(node.getPrimary());
+    }
+
+    public static void hashInvocationExpression(StructuralHash hash, InvocationExpression node) {
+        hashPostfixExpression(hash, node);
+        hash.add(node.getPositionalArgumentList());
+        hash.add(node.getNamedArgumentList());
+    }
+
+    public static void hashMemberOrTypeExpression(StructuralHash hash, MemberOrTypeExpression node) {
+        hashPrimary(hash, node);
+    }
+
+    public static void hashExtendedTypeExpression(StructuralHash hash, ExtendedTypeExpression node) {
+        hashMemberOrTypeExpression(hash, node);
+    }
+
+    public static void hashStaticMemberOrTypeExpression(StructuralHash hash, StaticMemberOrTypeExpression node) {
+        hashMemberOrTypeExpression(hash, node);
+        hash.add(node.getIdentifier());
+        hash.add(node.getTypeArguments());
+    }
+
+    public static void hashBaseMemberOrTypeExpression(StructuralHash hash, BaseMemberOrTypeExpression node) {
+        hashStaticMemberOrTypeExpression(hash, node);
+    }
+
+    public static void hashBaseMemberExpression(StructuralHash hash, BaseMemberExpression node) {
+        hashBaseMemberOrTypeExpression(hash, node);
+    }
+
+    public static void hashBaseTypeExpression(StructuralHash hash, BaseTypeExpression node) {
+        hashBaseMemberOrTypeExpression(hash, node);
+    }
+
+    public static void hashQualifiedMemberOrTypeExpression(StructuralHash hash, QualifiedMemberOrTypeExpression node) {
+        hashStaticMemberOrTypeExpression(hash, node);
+        hash.add(node.getPrimary());
+        hash.add(node.getMemberOperator());
+    }
+
+    public static void hashQualifiedMemberExpression(StructuralHash hash, QualifiedMemberExpression node) {
+        hashQualifiedMemberOrTypeExpression(hash, node);
+    }
+
+    public static void hashQualifiedTypeExpression(StructuralHash hash, QualifiedTypeExpression node) {
+        hashQualifiedMemberOrTypeExpression(hash, node);
+    }
+
+    public static void hashMemberOperator(StructuralHash hash, MemberOperator node) {
+    }
+
+    public static void hashMemberOp(StructuralHash hash, MemberOp node) {
+        hashMemberOperator(hash, node);
+    }
+
+    public static void hashSafeMemberOp(StructuralHash hash, SafeMemberOp node) {
+        hashMemberOperator(hash, node);
+    }
+
+    public static void hashSpreadOp(StructuralHash hash, SpreadOp node) {
+        hashMemberOperator(hash, node);
+    }
+
+    public static void hashIndexExpression(StructuralHash hash, IndexExpression node) {
+        hashPostfixExpression(hash, node);
+        hash.add(node.getIndexOperator());
+        hash.add(node.getElementOrRange());
+    }
+
+    public static void hashIndexOperator(StructuralHash hash, IndexOperator node) {
+    }
+
+    public static void hashIndexOp(StructuralHash hash, IndexOp node) {
+        hashIndexOperator(hash, node);
+    }
+
+    public static void hashSafeIndexOp(StructuralHash hash, SafeIndexOp node) {
+        hashIndexOperator(hash, node);
+    }
+
+    public static void hashElementOrRange(StructuralHash hash, ElementOrRange node) {
+    }
+
+    public static void hashElement(StructuralHash hash, Element node) {
+        hashElementOrRange(hash, node);
+        hash.add(node.getExpression());
+    }
+
+    public static void hashElementRange(StructuralHash hash, ElementRange node) {
+        hashElementOrRange(hash, node);
+        hash.add(node.getLowerBound());
+        hash.add(node.getUpperBound());
+    }
+
+    public static void hashOuter(StructuralHash hash, Outer node) {
+        hashAtom(hash, node);
+    }
+
+    public static void hashArgumentList(StructuralHash hash, ArgumentList node) {
+    }
+
+    public static void hashNamedArgumentList(StructuralHash hash, NamedArgumentList node) {
+        hashArgumentList(hash, node);
+        hash.addAll(node.getNamedArguments());
+        hash.add(node.getSequencedArgument());
+        hash.add(node.getComprehension());
+    }
+
+    public static void hashSequencedArgument(StructuralHash hash, SequencedArgument node) {
+        hashStatementOrArgument(hash, node);
+        hash.add(node.getExpressionList());
+    }
+
+    public static void hashPositionalArgumentList(StructuralHash hash, PositionalArgumentList node) {
+        hashArgumentList(hash, node);
+        hash.addAll(node.getPositionalArguments());
+        hash.add(node.getComprehension());
+        hash.add(node.getEllipsis());
+    }
+
+    public static void hashEllipsis(StructuralHash hash, Ellipsis node) {
+    }
+
+    public static void hashPositionalArgument(StructuralHash hash, PositionalArgument node) {
+        hash.add(node.getExpression());
+    }
+
+    public static void hashFunctionArgument(StructuralHash hash, FunctionArgument node) {
+        hashPositionalArgument(hash, node);
+        hash.add(node.getType());
+        hash.addAll(node.getParameterLists());
+    }
+
+    public static void hashNamedArgument(StructuralHash hash, NamedArgument node) {
+        hashStatementOrArgument(hash, node);
+        hash.add(node.getIdentifier());
+    }
+
+    public static void hashSpecifiedArgument(StructuralHash hash, SpecifiedArgument node) {
+        hashNamedArgument(hash, node);
+        hash.add(node.getSpecifierExpression());
+    }
+
+    public static void hashTypedArgument(StructuralHash hash, TypedArgument node) {
+        hashNamedArgument(hash, node);
+        hash.add(node.getType());
+    }
+
+    public static void hashMethodArgument(StructuralHash hash, MethodArgument node) {
+        hashTypedArgument(hash, node);
+        hash.addAll(node.getParameterLists());
+        hash.add(node.getBlock());
+    }
+
+    public static void hashAttributeArgument(StructuralHash hash, AttributeArgument node) {
+        hashTypedArgument(hash, node);
+        hash.add(node.getBlock());
+    }
+
+    public static void hashObjectArgument(StructuralHash hash, ObjectArgument node) {
+        hashTypedArgument(hash, node);
+        hash.add(node.getExtendedType());
+        hash.add(node.getSatisfiedTypes());
+        hash.add(node.getClassBody());
+    }
+
+    public static void hashSpecifierOrInitializerExpression(StructuralHash hash, SpecifierOrInitializerExpression node) {
+        hash.add(node.getExpression());
+    }
+
+    public static void hashSpecifierExpression(StructuralHash hash, SpecifierExpression node) {
+        hashSpecifierOrInitializerExpression(hash, node);
+    }
+
+    public static void hashInitializerExpression(StructuralHash hash, InitializerExpression node) {
+        hashSpecifierOrInitializerExpression(hash, node);
+    }
+
+    public static void hashAtom(StructuralHash hash, Atom node) {
+        hashPrimary(hash, node);
+    }
+
+    public static void hashLiteral(StructuralHash hash, Literal node) {
+        hashAtom(hash, node);
+    }
+
+    public static void hashNaturalLiteral(StructuralHash hash, NaturalLiteral node) {
+        hashLiteral(hash, node);
+    }
+
+    public static void hashFloatLiteral(StructuralHash hash, FloatLiteral node) {
+        hashLiteral(hash, node);
+    }
+
+    public static void hashCharLiteral(StructuralHash hash, CharLiteral node) {
+        hashLiteral(hash, node);
+    }
+
+    public static void hashStringLiteral(StructuralHash hash, StringLiteral node) {
+        hashLiteral(hash, node);
+    }
+
+    public static void hashQuotedLiteral(StructuralHash hash, QuotedLiteral node) {
+        hashLiteral(hash, node);
+    }
+
+    public static void hashSelfExpression(StructuralHash hash, SelfExpression node) {
+        hashAtom(hash, node);
+    }
+
+    public static void hashThis(StructuralHash hash, This node) {
+        hashSelfExpression(hash, node);
+    }
+
+    public static void hashSuper(StructuralHash hash, Super node) {
+        hashSelfExpression(hash, node);
+    }
+
+    public static void hashSequenceEnumeration(StructuralHash hash, SequenceEnumeration node) {
+        hashAtom(hash, node);
+        hash.add(node.getExpressionList());
+        hash.add(node.getComprehension());
+    }
+
+    public static void hashStringTemplate(StructuralHash hash, StringTemplate node) {
+        hashAtom(hash, node);
+        hash.addAll(node.getStringLiterals());
+        hash.addAll(node.getExpressions());
+    }
+
+    public static void hashLambda(StructuralHash hash, Lambda node) {
+        hashAtom(hash, node);
+        hash.add(node.getParameterList());
+        hash.add(node.getBlock());
+    }
+
+    public static void hashAnnotation(StructuralHash hash, Annotation node) {
+        hashInvocationExpression(hash, node);
+    }
+
+    public static void hashAnnotationList(StructuralHash hash, AnnotationList node) {
+        hash.addAll(node.getAnnotations());
+    }
+
+    public static void hashIdentifier(StructuralHash hash, Identifier node) {
+    }
+
+    public static void hashComprehension(StructuralHash hash, Comprehension node) {
+        hashStatementOrArgument(hash, node);
+        hash.add(node.getForComprehensionClause());
+    }
+
+    public static void hashComprehensionClause(StructuralHash hash, ComprehensionClause node) {
+        hashControlClause(hash, node);
+    }
+
+    public static void hashExpressionComprehensionClause(StructuralHash hash, ExpressionComprehensionClause node) {
+        hashComprehensionClause(hash, node);
+        hash.add(node.getExpression());
+    }
+
+    public static void hashForComprehensionClause(StructuralHash hash, ForComprehensionClause node) {
+        hashComprehensionClause(hash, node);
+        hash.add(node.getForIterator());
+        hash.add(node.getComprehensionClause());
+    }
+
+    public static void hashIfComprehensionClause(StructuralHash hash, IfComprehensionClause node) {
+        hashComprehensionClause(hash, node);
+        hash.add(node.getCondition());
+        hash.add(node.getComprehensionClause());
+    }
+
+}
@@ -0,0 +1,8934 @@
+package com.redhat.ceylon.compiler.typechecker.tree;
+
+import static com.redhat.ceylon.compiler.typechecker.tree.Walker.*;
+import static com.redhat.ceylon.compiler.typechecker.tree.Hasher.*;
+
+import org.antlr.runtime.Token;
+
+import java.util.*;
+
+public class Tree {
+
+    /**
+     * A file containing Ceylon source.
+     */
+    public static class CompilationUnit extends Node {
+
+        public CompilationUnit(Token token) {
+            super(token);
+        }
+
+        public static final int KIND = 0;
+
+        @Override public int getNodeKind() {
+            return KIND;
+        }
+
+        @Override public void visit(Visitor visitor) {
+            if (isSkippedBy(visitor)) return;
+            try {
+                visitor.visit(this);
+            }
+            catch (Exception e) {
+                visitor.handleException(e, this);
+            }
+        }
+
+        @Override public void visitChildren(Visitor visitor) {
+            walkCompilationUnit(visitor, this);
+        }
+
+        @Override public void hashChildren(StructuralHash hash) {
+            hashCompilationUnit(hash, this);
+        }
+
+        private List<CompilerAnnotation> compilerAnnotations = new ArrayList<CompilerAnnotation>();
+        public List<CompilerAnnotation> getCompilerAnnotations() { return compilerAnnotations; }
+        public void addCompilerAnnotation(CompilerAnnotation node) { compilerAnnotations.add(node); connect(node); }
+
+        private ImportList importList;
+        public ImportList getImportList() { return importList; }
+        public void setImportList(ImportList node) { importList = node; connect(node); }
+
+        private List<Declaration> declarations = new ArrayList<Declaration>();
+        public List<Declaration> getDeclarations() { return declarations; }
+        public void addDeclaration(Declaration node) { declarations.add(node); connect(node); }
+
+    }
+
+    public static class ImportList extends Node {
+
+        public ImportList(Token token) {
+            super(token);
+        }
+
+        public static final int KIND = 1;
+
+        @Override public int getNodeKind() {
+            return KIND;
+        }
+
+        @Override public void visit(Visitor visitor) {
+            if (isSkippedBy(visitor)) return;
+            try {
+                visitor.visit(this);
+            }
+            catch (Exception e) {
+                visitor.handleException(e, this);
+            }
+        }
+
+        @Override public void visitChildren(Visitor visitor) {
+            walkImportList(visitor, this);
+        }
+
+        @Override public void hashChildren(StructuralHash hash) {
+            hashImportList(hash, this);
+        }
+
+        private List<Import> imports = new ArrayList<Import>();
+        public List<Import> getImports() { return imports; }
+        public void addImport(Import node) { imports.add(node); connect(node); }
+
+    }
+
+    public static class Import extends StatementOrArgument {
+
+        public Import(Token token) {
+            super(token);
+        }
+
+        public static final int KIND = 2;
+
+        @Override public int getNodeKind() {
+            return KIND;
+        }
+
+        @Override public void visit(Visitor visitor) {
+            if (isSkippedBy(visitor)) return;
+            try {
+                visitor.visit(this);
+            }
+            catch (Exception e) {
+                visitor.handleException(e, this);
+            }
+        }
+
+        @Override public void visitChildren(Visitor visitor) {
+            walkImport(visitor, this);
+        }
+
+        @Override public void hashChildren(StructuralHash hash) {
+            hashImport(hash, this);
+        }
+
+        private ImportPath importPath;
+        public ImportPath getImportPath() { return importPath; }
+        public void setImportPath(ImportPath node) { importPath = node; connect(node); }
+
+        private ImportMemberOrTypeList importMemberOrTypeList;
+        public ImportMemberOrTypeList getImportMemberOrTypeList() { return importMemberOrTypeList; }
+        public void setImportMemberOrTypeList(ImportMemberOrTypeList node) { importMemberOrTypeList = node; connect(node); }
+
+        private com.redhat.ceylon.compiler.typechecker.model.ImportList importList;
+        public com.redhat.ceylon.compiler.typechecker.model.ImportList getImportList() { return importList; }
+        public void setImportList(com.redhat.ceylon.compiler.typechecker.model.ImportList value) { importList = value; }
+
+    }
+
+    public static class ImportPath extends Node {
+
+        public ImportPath(Token token) {
+            super(token);
+        }
+
+        public static final int KIND = 3;
+
+        @Override public int getNodeKind() {
+            return KIND;
+        }
+
+        @Override public void visit(Visitor visitor) {
+            if (isSkippedBy(visitor)) return;
+            try {
+                visitor.visit(this);
+            }
+            catch (Exception e) {
+                visitor.handleException(e, this);
+            }
+        }
+
+        @Override public void visitChildren(Visitor visitor) {
+            walkImportPath(visitor, this);
+        }
+
+        @Override public void hashChildren(StructuralHash hash) {
+            hashImportPath(hash, this);
+        }
+
+        private List<Identifier> identifiers = new ArrayList<Identifier>();
+        public List<Identifier> getIdentifiers() { return identifiers; }
+        public void addIdentifier(Identifier node) { identifiers.add(node); connect(node); }
+
+    }
+
+    public static class ImportMemberOrTypeList extends Node {
+
+        public ImportMemberOrTypeList(Token token) {
+            super(token);
+        }
+
+        public static final int KIND = 4;
+
+        @Override public int getNodeKind() {
+            return KIND;
+        }
+
+        @Override public void visit(Visitor visitor) {
+            if (isSkippedBy(visitor)) return;
+            try {
+                visitor.visit(this);
+            }
+            catch (Exception e) {
+                visitor.handleException(e, this);
+            }
+        }
+
+        @Override public void visitChildren(Visitor visitor) {
+            walkImportMemberOrTypeList(visitor, this);
+        }
+
+        @Override public void hashChildren(StructuralHash hash) {
+            hashImportMemberOrTypeList(hash, this);
+        }
+
+        private List<ImportMemberOrType> importMemberOrTypes = new ArrayList<ImportMemberOrType>();
+        public List<ImportMemberOrType> getImportMemberOrTypes() { return importMemberOrTypes; }
+        public void addImportMemberOrType(ImportMemberOrType node) { importMemberOrTypes.add(node); connect(node); }
+
+        private ImportWildcard importWildcard;
+        public ImportWildcard getImportWildcard() { return importWildcard; }
+        public void setImportWildcard(ImportWildcard node) { importWildcard = node; connect(node); }
+
+    }
+
+    public static class ImportMemberOrType extends StatementOrArgument {
+
+        public ImportMemberOrType(Token token) {
+            super(token);
+        }
+
+        public static final int KIND = 5;
+
+        @Override public int getNodeKind() {
+            return KIND;
+        }
+
+        @Override public void visit(Visitor visitor) {
+            if (isSkippedBy(visitor)) return;
+            try {
+                visitor.visit(this);
+            }
+            catch (Exception e) {
+                visitor.handleException(e, this);
+            }
+        }
+
+        @Override public void visitChildren(Visitor visitor) {
+            walkImportMemberOrType(visitor, this);
+        }
+
+        @Override public void hashChildren(StructuralHash hash) {
+            hashImportMemberOrType(hash, this);
+        }
+
+        private Alias alias;
+        public Alias getAlias() { return alias; }
+        public void setAlias(Alias node) { alias = node; connect(node); }
+
+        private Identifier identifier;
+        public Identifier getIdentifier() { return identifier; }
+        public void setIdentifier(Identifier node) { identifier = node; connect(node); }
+
+        private ImportMemberOrTypeList importMemberOrTypeList;
+        public ImportMemberOrTypeList getImportMemberOrTypeList() { return importMemberOrTypeList; }
+        public void setImportMemberOrTypeList(ImportMemberOrTypeList node) { importMemberOrTypeList = node; connect(node); }
+
+        private com.redhat.ceylon.compiler.typechecker.model.Declaration declarationModel;
+        public com.redhat.ceylon.compiler.typechecker.model.Declaration getDeclarationModel() { return declarationModel; }
+        public void setDeclarationModel(com.redhat.ceylon.compiler.typechecker.model.Declaration value) { declarationModel = value; }
+
+    }
+
+    public static class ImportMember extends ImportMemberOrType {
+
+        public ImportMember(Token token) {
+            super(token);
+        }
+
+        public static final int KIND = 6;
+
+        @Override public int getNodeKind() {
+            return KIND;
+        }
+
+        @Override public void visit(Visitor visitor) {
+            if (isSkippedBy(visitor)) return;
+            try {
+                visitor.visit(this);
+            }
+            catch (Exception e) {
+                visitor.handleException(e, this);
+            }
+        }
+
+        @Override public void visitChildren(Visitor visitor) {
+            walkImportMember(visitor, this);
+        }
+
+        @Override public void hashChildren(StructuralHash hash) {
+            hashImportMember(hash, this);
+        }
+
+    }
+
+    public static class ImportType extends ImportMemberOrType {
+
+        public ImportType(Token token) {
+            super(token);
+        }
+
+        public static final int KIND = 7;
+
+        @Override public int getNodeKind() {
+            return KIND;
+        }
+
+        @Override public void visit(Visitor visitor) {
+            if (isSkippedBy(visitor)) return;
+            try {
+                visitor.visit(this);
+            }
+            catch (Exception e) {
+                visitor.handleException(e, this);
+            }
+        }
+
+        @Override public void visitChildren(Visitor visitor) {
+            walkImportType(visitor, this);
+        }
+
+        @Override public void hashChildren(StructuralHash hash) {
+            hashImportType(hash, this);
+        }
+
+    }
+
+    public static class Alias extends Node {
+
+        public Alias(Token token) {
+            super(token);
+        }
+
+        public static final int KIND = 8;
+
+        @Override public int getNodeKind() {
+            return KIND;
+        }
+
+        @Override public void visit(Visitor visitor) {
+            if (isSkippedBy(visitor)) return;
+            try {
+                visitor.visit(this);
+            }
+            catch (Exception e) {
+                visitor.handleException(e, this);
+            }
+        }
+
+        @Override public void visitChildren(Visitor visitor) {
+            walkAlias(visitor, this);
+        }
+
+        @Override public void hashChildren(StructuralHash hash) {
+            hashAlias(hash, this);
+        }
+
+        private Identifier identifier;
+        public Identifier getIdentifier() { return identifier; }
+        public void setIdentifier(Identifier node) { identifier = node; connect(node); }
+
+    }
+
+    public static class Implicit extends Node {
+
+        public Implicit(Token token) {
+            super(token);
+        }
+
+        public static final int KIND = 9;
+
+        @Override public int getNodeKind() {
+            return KIND;
+        }
+
+        @Override public void visit(Visitor visitor) {
+            if (isSkippedBy(visitor)) return;
+            try {
+                visitor.visit(this);
+            }
+            catch (Exception e) {
+                visitor.handleException(e, this);
+            }
+        }
+
+        @Override public void visitChildren(Visitor visitor) {
+            walkImplicit(visitor, this);
+        }
+
+        @Override public void hashChildren(StructuralHash hash) {
+            hashImplicit(hash, this);
+        }
+
+    }
+
+    public static class ImportWildcard extends Node {
+
+        public ImportWildcard(Token token) {
+            super(token);
+        }
+
+        public static final int KIND = 10;
+
+        @Override public int getNodeKind() {
+            return KIND;
+        }
+
+        @Override public void visit(Visitor visitor) {
+            if (isSkippedBy(visitor)) return;
+            try {
+                visitor.visit(this);
+            }
+            catch (Exception e) {
+                visitor.handleException(e, this);
+            }
+        }
+
+        @Override public void visitChildren(Visitor visitor) {
+            walkImportWildcard(visitor, this);
+        }
+
+        @Override public void hashChildren(StructuralHash hash) {
+            hashImportWildcard(hash, this);
+        }
+
+    }
+
+    /**
+     * A declaration.
+     */
+    public static abstract class Declaration extends Statement {
+
+        public Declaration(Token token) {
+            super(token);
+        }
+
+        public static final int KIND = 11;
+
+        @Override public int getNodeKind() {
+            return KIND;
+        }
+
+        @Override public void visit(Visitor visitor) {
+            if (isSkippedBy(visitor)) return;
+            try {
+                visitor.visit(this);
+            }
+            catch (Exception e) {
+                visitor.handleException(e, this);
+            }
+        }
+
+        @Override public void visitChildren(Visitor visitor) {
+            walkDeclaration(visitor, this);
+        }
+
+        @Override public void hashChildren(StructuralHash hash) {
+            hashDeclaration(hash, this);
+        }
+
+        private AnnotationList annotationList;
+        public AnnotationList getAnnotationList() { return annotationList; }
+        public void setAnnotationList(AnnotationList node) { annotationList = node; connect(node); }
+
+        private Identifier identifier;
+        public Identifier getIdentifier() { return identifier; }
+        public void setIdentifier(Identifier node) { identifier = node; connect(node); }
+
+        public abstract com.redhat.ceylon.compiler.typechecker.model.Declaration getDeclarationModel();
+
+    }
+
+    /**
+     * A class, interface, or type parameter declaration.
+     */
+    public static abstract class TypeDeclaration extends Declaration {
+
+        public TypeDeclaration(Token token) {
+            super(token);
+        }
+
+        public static final int KIND = 12;
+
+        @Override public int getNodeKind() {
+            return KIND;
+        }
+
+        @Override public void visit(Visitor visitor) {
+            if (isSkippedBy(visitor)) return;
+            try {
+                visitor.visit(this);
+            }
+            catch (Exception e) {
+                visitor.handleException(e, this);
+            }
+        }
+
+        @Override public void visitChildren(Visitor visitor) {
+            walkTypeDeclaration(visitor, this);
+        }
+
+        @Override public void hashChildren(StructuralHash hash) {
+            hashTypeDeclaration(hash, this);
+        }
+
+        private TypeParameterList typeParameterList;
+        public TypeParameterList getTypeParameterList() { return typeParameterList; }
+        public void setTypeParameterList(TypeParameterList node) { typeParameterList = node; connect(node); }
+
+        private CaseTypes caseTypes;
+        public CaseTypes getCaseTypes() { return caseTypes; }
+        public void setCaseTypes(CaseTypes node) { caseTypes = node; connect(node); }
+
+        private SatisfiedTypes satisfiedTypes;
+        public SatisfiedTypes getSatisfiedTypes() { return satisfiedTypes; }
+        public void setSatisfiedTypes(SatisfiedTypes node) { satisfiedTypes = node; connect(node); }
+
+        public abstract com.redhat.ceylon.compiler.typechecker.model.TypeDeclaration getDeclarationModel();
+
+    }
+
+    /**
+     * A class or interface declaration.
+     */
+    public static abstract class ClassOrInterface extends TypeDeclaration {
+
+        public ClassOrInterface(Token token) {
+            super(token);
+        }
+
+        public static final int KIND = 13;
+
+        @Override public int getNodeKind() {
+            return KIND;
+        }
+
+        @Override public void visit(Visitor visitor) {
+            if (isSkippedBy(visitor)) return;
+            try {
+                visitor.visit(this);
+            }
+            catch (Exception e) {
+                visitor.handleException(e, this);
+            }
+        }
+
+        @Override public void visitChildren(Visitor visitor) {
+            walkClassOrInterface(visitor, this);
+        }
+
+        @Override public void hashChildren(StructuralHash hash) {
+            hashClassOrInterface(hash, this);
+        }
+
+        private TypeConstraintList typeConstraintList;
+        public TypeConstraintList getTypeConstraintList() { return typeConstraintList; }
+        public void setTypeConstraintList(TypeConstraintList node) { typeConstraintList = node; connect(node); }
+
+        public abstract com.redhat.ceylon.compiler.typechecker.model.ClassOrInterface getDeclarationModel();
+
+    }
+
+    public static class SatisfiedTypes extends Node {
+
+        public SatisfiedTypes(Token token) {
+            super(token);
+        }
+
+        public static final int KIND = 14;
+
+        @Override public int getNodeKind() {
+            return KIND;
+        }
+
+        @Override public void visit(Visitor visitor) {
+            if (isSkippedBy(visitor)) return;
+            try {
+                visitor.visit(this);
+            }
+            catch (Exception e) {
+                visitor.handleException(e, this);
+            }
+        }
+
+        @Override public void visitChildren(Visitor visitor) {
+            walkSatisfiedTypes(visitor, this);
+        }
+
+        @Override public void hashChildren(StructuralHash hash) {
+            hashSatisfiedTypes(hash, this);
+        }
+
+        private List<SimpleType> types = new ArrayList<SimpleType>();
+        public List<SimpleType> getTypes() { return types; }
+        public void addType(SimpleType node) { types.add(node); connect(node); }
+
+    }
+
+    public static class AbstractedType extends Node {
+
+        public AbstractedType(Token token) {
+            super(token);
+        }
+
+        public static final int KIND = 15;
+
+        @Override public int getNodeKind() {
+            return KIND;
+        }
+
+        @Override public void visit(Visitor visitor) {
+            if (isSkippedBy(visitor)) return;
+            try {
+                visitor.visit(this);
+            }
+            catch (Exception e) {
+                visitor.handleException(e, this);
+            }
+        }
+
+        @Override public void visitChildren(Visitor visitor) {
+            walkAbstractedType(visitor, this);
+        }
+
+        @Override public void hashChildren(StructuralHash hash) {
+            hashAbstractedType(hash, this);
+        }
+
+        private SimpleType type;
+        public SimpleType getType() { return type; }
+        public void setType(SimpleType node) { type = node; connect(node); }
+
+    }
+
+    public static class AdaptedTypes extends Node {
+
+        public AdaptedTypes(Token token) {
+            super(token);
+        }
+
+        public static final int KIND = 16;
+
+        @Override public int getNodeKind() {
+            return KIND;
+        }
+
+        @Override public void visit(Visitor visitor) {
+            if (isSkippedBy(visitor)) return;
+            try {
+                visitor.visit(this);
+            }
+            catch (Exception e) {
+                visitor.handleException(e, this);
+            }
+        }
+
+        @Override public void visitChildren(Visitor visitor) {
+            walkAdaptedTypes(visitor, this);
+        }
+
+        @Override public void hashChildren(StructuralHash hash) {
+            hashAdaptedTypes(hash, this);
+        }
+
+        private List<SimpleType> types = new ArrayList<SimpleType>();
+        public List<SimpleType> getTypes() { return types; }
+        public void addType(SimpleType node) { types.add(node); connect(node); }
+
+    }
+
+    public static class CaseTypes extends Node {
+
+        public CaseTypes(Token token) {
+            super(token);
+        }
+
+        public static final int KIND = 17;
+
+        @Override public int getNodeKind() {
+            return KIND;
+        }
+
+        @Override public void visit(Visitor visitor) {
+            if (isSkippedBy(visitor)) return;
+            try {
+                visitor.visit(this);
+            }
+            catch (Exception e) {
+                visitor.handleException(e, this);
+            }
+        }
+
+        @Override public void visitChildren(Visitor visitor) {
+            walkCaseTypes(visitor, this);
+        }
+
+        @Override public void hashChildren(StructuralHash hash) {
+            hashCaseTypes(hash, this);
+        }
+
+        private List<SimpleType> types = new ArrayList<SimpleType>();
+        public List<SimpleType> getTypes() { return types; }
+        public void addType(SimpleType node) { types.add(node); connect(node); }
+
+        private List<BaseMemberExpression> baseMemberExpressions = new ArrayList<BaseMemberExpression>();
+        public List<BaseMemberExpression> getBaseMemberExpressions() { return baseMemberExpressions; }
+        public void addBaseMemberExpression(BaseMemberExpression node) { baseMemberExpressions.add(node); connect(node); }
+
+    }
+
+    public static class ExtendedType extends Node {
+
+        public ExtendedType(Token token) {
+            super(token);
+        }
+
+        public static final int KIND = 18;
+
+        @Override public int getNodeKind() {
+            return KIND;
+        }
+
+        @Override public void visit(Visitor visitor) {
+            if (isSkippedBy(visitor)) return;
+            try {
+                visitor.visit(this);
+            }
+            catch (Exception e) {
+                visitor.handleException(e, this);
+            }
+        }
+
+        @Override public void visitChildren(Visitor visitor) {
+            walkExtendedType(visitor, this);
+        }
+
+        @Override public void hashChildren(StructuralHash hash) {
+            hashExtendedType(hash, this);
+        }
+
+        private SimpleType type;
+        public SimpleType getType() { return type; }
+        public void setType(SimpleType node) { type = node; connect(node); }
+
+        private InvocationExpression invocationExpression;
+        public InvocationExpression getInvocationExpression() { return invocationExpression; }
+        public void setInvocationExpression(InvocationExpression node) { invocationExpression = node; connect(node); }
+
+    }
+
+    /**
+     * A list of constraints organized by parameter.
+     */
+    public static class TypeConstraintList extends Node {
+
+        public TypeConstraintList(Token token) {
+            super(token);
+        }
+
+        public static final int KIND = 19;
+
+        @Override public int getNodeKind() {
+            return KIND;
+        }
+
+        @Override public void visit(Visitor visitor) {
+            if (isSkippedBy(visitor)) return;
+            try {
+                visitor.visit(this);
+            }
+            catch (Exception e) {
+                visitor.handleException(e, this);
+            }
+        }
+
+        @Override public void visitChildren(Visitor visitor) {
+            walkTypeConstraintList(visitor, this);
+        }
+
+        @Override public void hashChildren(StructuralHash hash) {
+            hashTypeConstraintList(hash, this);
+        }
+
+        private List<TypeConstraint> typeConstraints = new ArrayList<TypeConstraint>();
+        public List<TypeConstraint> getTypeConstraints() { return typeConstraints; }
+        public void addTypeConstraint(TypeConstraint node) { typeConstraints.add(node); connect(node); }
+
+    }
+
+    /**
+     * A set of type constraints on a certain type parameter.
+     */
+    public static class TypeConstraint extends TypeDeclaration {
+
+        public TypeConstraint(Token token) {
+            super(token);
+        }
+
+        public static final int KIND = 20;
+
+        @Override public int getNodeKind() {
+            return KIND;
+        }
+
+        @Override public void visit(Visitor visitor) {
+            if (isSkippedBy(visitor)) return;
+            try {
+                visitor.visit(this);
+            }
+            catch (Exception e) {
+                visitor.handleException(e, this);
+            }
+        }
+
+        @Override public void visitChildren(Visitor visitor) {
+            walkTypeConstraint(visitor, this);
+        }
+
+        @Override public void hashChildren(StructuralHash hash) {
+            hashTypeConstraint(hash, this);
+        }
+
+        private ParameterList parameterList;
+        public ParameterList getParameterList() { return parameterList; }
+        public void setParameterList(ParameterList node) { parameterList = node; connect(node); }
+
+        private AbstractedType abstractedType;
+        public AbstractedType getAbstractedType() { return abstractedType; }
+        public void setAbstractedType(AbstractedType node) { abstractedType = node; connect(node); }
+
+        private com.redhat.ceylon.compiler.typechecker.model.TypeParameter declarationModel;
+        public com.redhat.ceylon.compiler.typechecker.model.TypeParameter getDeclarationModel() { return declarationModel; }
+        public void setDeclarationModel(com.redhat.ceylon.compiler.typechecker.model.TypeParameter value) { declarationModel = value; }
+
+    }
+
+    public static class TypeSpecifier extends Node {
+
+        public TypeSpecifier(Token token) {
+            super(token);
+        }
+
+        public static final int KIND = 21;
+
+        @Override public int getNodeKind() {
+            return KIND;
+        }
+
+        @Override public void visit(Visitor visitor) {
+            if (isSkippedBy(visitor)) return;
+            try {
+                visitor.visit(this);
+            }
+            catch (Exception e) {
+                visitor.handleException(e, this);
+            }
+        }
+
+        @Override public void visitChildren(Visitor visitor) {
+            walkTypeSpecifier(visitor, this);
+        }
+
+        @Override public void hashChildren(StructuralHash hash) {
+            hashTypeSpecifier(hash, this);
+        }
+
+        private SimpleType type;
+        public SimpleType getType() { return type; }
+        public void setType(SimpleType node) { type = node; connect(node); }
+
+    }
+
+    public static class AnyClass extends ClassOrInterface {
+
+        public AnyClass(Token token) {
+            super(token);
+        }
+
+        public static final int KIND = 22;
+
+        @Override public int getNodeKind() {
+            return KIND;
+        }
+
+        @Override public void visit(Visitor visitor) {
+            if (isSkippedBy(visitor)) return;
+            try {
+                visitor.visit(this);
+            }
+            catch (Exception e) {
+                visitor.handleException(e, this);
+            }
+        }
+
+        @Override public void visitChildren(Visitor visitor) {
+            walkAnyClass(visitor, this);
+        }
+
+        @Override public void hashChildren(StructuralHash hash) {
+            hashAnyClass(hash, this);
+        }
+
+        private ParameterList parameterList;
+        public ParameterList getParameterList() { return parameterList; }
+        public void setParameterList(ParameterList node) { parameterList = node; connect(node); }
+
+        private ExtendedType extendedType;
+        public ExtendedType getExtendedType() { return extendedType; }
+        public void setExtendedType(ExtendedType node) { extendedType = node; connect(node); }
+
+        private com.redhat.ceylon.compiler.typechecker.model.Class declarationModel;
+        public com.redhat.ceylon.compiler.typechecker.model.Class getDeclarationModel() { return declarationModel; }
+        public void setDeclarationModel(com.redhat.ceylon.compiler.typechecker.model.Class value) { declarationModel = value; }
+
+    }
+
+    public static class ClassDefinition extends AnyClass {
+
+        public ClassDefinition(Token token) {
+            super(token);
+        }
+
+        public static final int KIND = 23;
+
+        @Override public int getNodeKind() {
+            return KIND;
+        }
+
+        @Override public void visit(Visitor visitor) {
+            if (isSkippedBy(visitor)) return;
+            try {
+                visitor.visit(this);
+            }
+            catch (Exception e) {
+                visitor.handleException(e, this);
+            }
+        }
+
+        @Override public void visitChildren(Visitor visitor) {
+            walkClassDefinition(visitor, this);
+        }
+
+        @Override public void hashChildren(StructuralHash hash) {
+            hashClassDefinition(hash, this);
+        }
+
+        private ClassBody classBody;
+        public ClassBody getClassBody() { return classBody; }
+        public void setClassBody(ClassBody node) { classBody = node; connect(node); }
+
+    }
+
+    public static class ClassDeclaration extends AnyClass {
+
+        public ClassDeclaration(Token token) {
+            super(token);
+        }
+
+        public static final int KIND = 24;
+
+        @Override public int getNodeKind() {
+            return KIND;
+        }
+
+        @Override public void visit(Visitor visitor) {
+            if (isSkippedBy(visitor)) return;
+            try {
+                visitor.visit(this);
+            }
+            catch (Exception e) {
+                visitor.handleException(e, this);
+            }
+        }
+
+        @Override public void visitChildren(Visitor visitor) {
+            walkClassDeclaration(visitor, this);
+        }
+
+        @Override public void hashChildren(StructuralHash hash) {
+            hashClassDeclaration(hash, this);
+        }
+
+        private TypeSpecifier typeSpecifier;
+        public TypeSpecifier getTypeSpecifier() { return typeSpecifier; }
+        public void setTypeSpecifier(TypeSpecifier node) { typeSpecifier = node; connect(node); }
+
+    }
+
+    public static class AnyInterface extends ClassOrInterface {
+
+        public AnyInterface(Token token) {
+            super(token);
+        }
+
+        public static final int KIND = 25;
+
+        @Override public int getNodeKind() {
+            return KIND;
+        }
+
+        @Override public void visit(Visitor visitor) {
+            if (isSkippedBy(visitor)) return;
+            try {
+                visitor.visit(this);
+            }
+            catch (Exception e) {
+                visitor.handleException(e, this);
+            }
+        }
+
+        @Override public void visitChildren(Visitor visitor) {
+            walkAnyInterface(visitor, this);
+        }
+
+        @Override public void hashChildren(StructuralHash hash) {
+            hashAnyInterface(hash, this);
+        }
+
+        private com.redhat.ceylon.compiler.typechecker.model.Interface declarationModel;
+        public com.redhat.ceylon.compiler.typechecker.model.Interface getDeclarationModel() { return declarationModel; }
+        public void setDeclarationModel(com.redhat.ceylon.compiler.typechecker.model.Interface value) { declarationModel = value; }
+
+    }
+
+    public static class InterfaceDefinition extends AnyInterface {
+
+        public InterfaceDefinition(Token token) {
+            super(token);
+        }
+
+        public static final int KIND = 26;
+
+        @Override public int getNodeKind() {
+            return KIND;
+        }
+
+        @Override public void visit(Visitor visitor) {
+            if (isSkippedBy(visitor)) return;
+            try {
+                visitor.visit(this);
+            }
+            catch (Exception e) {
+                visitor.handleException(e, this);
+            }
+        }
+
+        @Override public void visitChildren(Visitor visitor) {
+            walkInterfaceDefinition(visitor, this);
+        }
+
+        @Override public void hashChildren(StructuralHash hash) {
+            hashInterfaceDefinition(hash, this);
+        }
+
+        private AdaptedTypes adaptedTypes;
+        public AdaptedTypes getAdaptedTypes() { return adaptedTypes; }
+        public void setAdaptedTypes(AdaptedTypes node) { adaptedTypes = node; connect(node); }
+
+        private InterfaceBody interfaceBody;
+        public InterfaceBody getInterfaceBody() { return interfaceBody; }
+        public void setInterfaceBody(InterfaceBody node) { interfaceBody = node; connect(node); }
+
+    }
+
+    public static class InterfaceDeclaration extends AnyInterface {
+
+        public InterfaceDeclaration(Token token) {
+            super(token);
+        }
+
+        public static final int KIND = 27;
+
+        @Override public int getNodeKind() {
+            return KIND;
+        }
+
+        @Override public void visit(Visitor visitor) {
+            if (isSkippedBy(visitor)) return;
+            try {
+                visitor.visit(this);
+            }
+            catch (Exception e) {
+                visitor.handleException(e, this);
+            }
+        }
+
+        @Override public void visitChildren(Visitor visitor) {
+            walkInterfaceDeclaration(visitor, this);
+        }
+
+        @Override public void hashChildren(StructuralHash hash) {
+            hashInterfaceDeclaration(hash, this);
+        }
+
+        private TypeSpecifier typeSpecifier;
+        public TypeSpecifier getTypeSpecifier() { return typeSpecifier; }
+        public void setTypeSpecifier(TypeSpecifier node) { typeSpecifier = node; connect(node); }
+
+    }
+
+    public static abstract class TypedDeclaration extends Declaration {
+
+        public TypedDeclaration(Token token) {
+            super(token);
+        }
+
+        public static final int KIND = 28;
+
+        @Override public int getNodeKind() {
+            return KIND;
+        }
+
+        @Override public void visit(Visitor visitor) {
+            if (isSkippedBy(visitor)) return;
+            try {
+                visitor.visit(this);
+            }
+            catch (Exception e) {
+                visitor.handleException(e, this);
+            }
+        }
+
+        @Override public void visitChildren(Visitor visitor) {
+            walkTypedDeclaration(visitor, this);
+        }
+
+        @Override public void hashChildren(StructuralHash hash) {
+            hashTypedDeclaration(hash, this);
+        }
+
+        private Type type;
+        public Type getType() { return type; }
+        public void setType(Type node) { type = node; connect(node); }
+
+        public abstract com.redhat.ceylon.compiler.typechecker.model.TypedDeclaration getDeclarationModel();
+
+    }
+
+    public static abstract class AnyAttribute extends TypedDeclaration {
+
+        public AnyAttribute(Token token) {
+            super(token);
+        }
+
+        public static final int KIND = 29;
+
+        @Override public int getNodeKind() {
+            return KIND;
+        }
+
+        @Override public void visit(Visitor visitor) {
+            if (isSkippedBy(visitor)) return;
+            try {
+                visitor.visit(this);
+            }
+            catch (Exception e) {
+                visitor.handleException(e, this);
+            }
+        }
+
+        @Override public void visitChildren(Visitor visitor) {
+            walkAnyAttribute(visitor, this);
+        }
+
+        @Override public void hashChildren(StructuralHash hash) {
+            hashAnyAttribute(hash, this);
+        }
+
+    }
+
+    /**
+     * A simple or formal attribute declaration.
+     */
+    public static class AttributeDeclaration extends AnyAttribute {
+
+        public AttributeDeclaration(Token token) {
+            super(token);
+        }
+
+        public static final int KIND = 30;
+
+        @Override public int getNodeKind() {
+            return KIND;
+        }
+
+        @Override public void visit(Visitor visitor) {
+            if (isSkippedBy(visitor)) return;
+            try {
+                visitor.visit(this);
+            }
+            catch (Exception e) {
+                visitor.handleException(e, this);
+            }
+        }
+
+        @Override public void visitChildren(Visitor visitor) {
+            walkAttributeDeclaration(visitor, this);
+        }
+
+        @Override public void hashChildren(StructuralHash hash) {
+            hashAttributeDeclaration(hash, this);
+        }
+
+        private SpecifierOrInitializerExpression specifierOrInitializerExpression;
+        public SpecifierOrInitializerExpression getSpecifierOrInitializerExpression() { return specifierOrInitializerExpression; }
+        public void setSpecifierOrInitializerExpression(SpecifierOrInitializerExpression node) { specifierOrInitializerExpression = node; connect(node); }
+
+        private com.redhat.ceylon.compiler.typechecker.model.Value declarationModel;
+        public com.redhat.ceylon.compiler.typechecker.model.Value getDeclarationModel() { return declarationModel; }
+        public void setDeclarationModel(com.redhat.ceylon.compiler.typechecker.model.Value value) { declarationModel = value; }
+
+    }
+
+    /**
+     * An attribute getter declaration.
+     */
+    public static class AttributeGetterDefinition extends AnyAttribute {
+
+        public AttributeGetterDefinition(Token token) {
+            super(token);
+        }
+
+        public static final int KIND = 31;
+
+        @Override public int getNodeKind() {
+            return KIND;
+        }
+
+        @Override public void visit(Visitor visitor) {
+            if (isSkippedBy(visitor)) return;
+            try {
+                visitor.visit(this);
+            }
+            catch (Exception e) {
+                visitor.handleException(e, this);
+            }
+        }
+
+        @Override public void visitChildren(Visitor visitor) {
+            walkAttributeGetterDefinition(visitor, this);
+        }
+
+        @Override public void hashChildren(StructuralHash hash) {
+            hashAttributeGetterDefinition(hash, this);
+        }
+
+        private Block block;
+        public Block getBlock() { return block; }
+        public void setBlock(Block node) { block = node; connect(node); }
+
+        private com.redhat.ceylon.compiler.typechecker.model.Getter declarationModel;
+        public com.redhat.ceylon.compiler.typechecker.model.Getter getDeclarationModel() { return declarationModel; }
+        public void setDeclarationModel(com.redhat.ceylon.compiler.typechecker.model.Getter value) { declarationModel = value; }
+
+    }
+
+    /**
+     * An attribute setter declaration.
+     */
+    public static class AttributeSetterDefinition extends TypedDeclaration {
+
+        public AttributeSetterDefinition(Token token) {
+            super(token);
+        }
+
+        public static final int KIND = 32;
+
+        @Override public int getNodeKind() {
+            return KIND;
+        }
+
+        @Override public void visit(Visitor visitor) {
+            if (isSkippedBy(visitor)) return;
+            try {
+                visitor.visit(this);
+            }
+            catch (Exception e) {
+                visitor.handleException(e, this);
+            }
+        }
+
+        @Override public void visitChildren(Visitor visitor) {
+            walkAttributeSetterDefinition(visitor, this);
+        }
+
+        @Override public void hashChildren(StructuralHash hash) {
+            hashAttributeSetterDefinition(hash, this);
+        }
+
+        private Block block;
+        public Block getBlock() { return block; }
+        public void setBlock(Block node) { block = node; connect(node); }
+
+        private com.redhat.ceylon.compiler.typechecker.model.Setter declarationModel;
+        public com.redhat.ceylon.compiler.typechecker.model.Setter getDeclarationModel() { return declarationModel; }
+        public void setDeclarationModel(com.redhat.ceylon.compiler.typechecker.model.Setter value) { declarationModel = value; }
+
+    }
+
+    /**
+     * A method declaration.
+     */
+    public static class AnyMethod extends TypedDeclaration {
+
+        public AnyMethod(Token token) {
+            super(token);
+        }
+
+        public static final int KIND = 33;
+
+        @Override public int getNodeKind() {
+            return KIND;
+        }
+
+        @Override public void visit(Visitor visitor) {
+            if (isSkippedBy(visitor)) return;
+            try {
+                visitor.visit(this);
+            }
+            catch (Exception e) {
+                visitor.handleException(e, this);
+            }
+        }
+
+        @Override public void visitChildren(Visitor visitor) {
+            walkAnyMethod(visitor, this);
+        }
+
+        @Override public void hashChildren(StructuralHash hash) {
+            hashAnyMethod(hash, this);
+        }
+
+        private TypeParameterList typeParameterList;
+        public TypeParameterList getTypeParameterList() { return typeParameterList; }
+        public void setTypeParameterList(TypeParameterList node) { typeParameterList = node; connect(node); }
+
+        private List<ParameterList> parameterLists = new ArrayList<ParameterList>();
+        public List<ParameterList> getParameterLists() { return parameterLists; }
+        public void addParameterList(ParameterList node) { parameterLists.add(node); connect(node); }
+
+        private TypeConstraintList typeConstraintList;
+        public TypeConstraintList getTypeConstraintList() { return typeConstraintList; }
+        public void setTypeConstraintList(TypeConstraintList node) { typeConstraintList = node; connect(node); }
+
+        private com.redhat.ceylon.compiler.typechecker.model.Method declarationModel;
+        public com.redhat.ceylon.compiler.typechecker.model.Method getDeclarationModel() { return declarationModel; }
+        public void setDeclarationModel(com.redhat.ceylon.compiler.typechecker.model.Method value) { declarationModel = value; }
+
+    }
+
+    public static class MethodDefinition extends AnyMethod {
+
+        public MethodDefinition(Token token) {
+            super(token);
+        }
+
+        public static final int KIND = 34;
+
+        @Override public int getNodeKind() {
+            return KIND;
+        }
+
+        @Override public void visit(Visitor visitor) {
+            if (isSkippedBy(visitor)) return;
+            try {
+                visitor.visit(this);
+            }
+            catch (Exception e) {
+                visitor.handleException(e, this);
+            }
+        }
+
+        @Override public void visitChildren(Visitor visitor) {
+            walkMethodDefinition(visitor, this);
+        }
+
+        @Override public void hashChildren(StructuralHash hash) {
+            hashMethodDefinition(hash, this);
+        }
+
+        private Block block;
+        public Block getBlock() { return block; }
+        public void setBlock(Block node) { block = node; connect(node); }
+
+    }
+
+    public static class MethodDeclaration extends AnyMethod {
+
+        public MethodDeclaration(Token token) {
+            super(token);
+        }
+
+        public static final int KIND = 35;
+
+        @Override public int getNodeKind() {
+            return KIND;
+        }
+
+        @Override public void visit(Visitor visitor) {
+            if (isSkippedBy(visitor)) return;
+            try {
+                visitor.visit(this);
+            }
+            catch (Exception e) {
+                visitor.handleException(e, this);
+            }
+        }
+
+        @Override public void visitChildren(Visitor visitor) {
+            walkMethodDeclaration(visitor, this);
+        }
+
+        @Override public void hashChildren(StructuralHash hash) {
+            hashMethodDeclaration(hash, this);
+        }
+
+        private SpecifierExpression specifierExpression;
+        public SpecifierExpression getSpecifierExpression() { return specifierExpression; }
+        public void setSpecifierExpression(SpecifierExpression node) { specifierExpression = node; connect(node); }
+
+    }
+
+    public static class VoidModifier extends Type {
+
+        public VoidModifier(Token token) {
+            super(token);
+        }
+
+        public static final int KIND = 36;
+
+        @Override public int getNodeKind() {
+            return KIND;
+        }
+
+        @Override public void visit(Visitor visitor) {
+            if (isSkippedBy(visitor)) return;
+            try {
+                visitor.visit(this);
+            }
+            catch (Exception e) {
+                visitor.handleException(e, this);
+            }
+        }
+
+        @Override public void visitChildren(Visitor visitor) {
+            walkVoidModifier(visitor, this);
+        }
+
+        @Override public void hashChildren(StructuralHash hash) {
+            hashVoidModifier(hash, this);
+        }
+
+    }
+
+    public static class ObjectDefinition extends TypedDeclaration {
+
+        public ObjectDefinition(Token token) {
+            super(token);
+        }
+
+        public static final int KIND = 37;
+
+        @Override public int getNodeKind() {
+            return KIND;
+        }
+
+        @Override public void visit(Visitor visitor) {
+            if (isSkippedBy(visitor)) return;
+            try {
+                visitor.visit(this);
+            }
+            catch (Exception e) {
+                visitor.handleException(e, this);
+            }
+        }
+
+        @Override public void visitChildren(Visitor visitor) {
+            walkObjectDefinition(visitor, this);
+        }
+
+        @Override public void hashChildren(StructuralHash hash) {
+            hashObjectDefinition(hash, this);
+        }
+
+        private ExtendedType extendedType;
+        public ExtendedType getExtendedType() { return extendedType; }
+        public void setExtendedType(ExtendedType node) { extendedType = node; connect(node); }
+
+        private SatisfiedTypes satisfiedTypes;
+        public SatisfiedTypes getSatisfiedTypes() { return satisfiedTypes; }
+        public void setSatisfiedTypes(SatisfiedTypes node) { satisfiedTypes = node; connect(node); }
+
+        private ClassBody classBody;
+        public ClassBody getClassBody() { return classBody; }
+        public void setClassBody(ClassBody node) { classBody = node; connect(node); }
+
+        private com.redhat.ceylon.compiler.typechecker.model.Value declarationModel;
+        public com.redhat.ceylon.compiler.typechecker.model.Value getDeclarationModel() { return declarationModel; }
+        public void setDeclarationModel(com.redhat.ceylon.compiler.typechecker.model.Value value) { declarationModel = value; }
+
+    }
+
+    public static class ParameterList extends Node {
+
+        public ParameterList(Token token) {
+            super(token);
+        }
+
+        public static final int KIND = 38;
+
+        @Override public int getNodeKind() {
+            return KIND;
+        }
+
+        @Override public void visit(Visitor visitor) {
+            if (isSkippedBy(visitor)) return;
+            try {
+                visitor.visit(this);
+            }
+            catch (Exception e) {
+                visitor.handleException(e, this);
+            }
+        }
+
+        @Override public void visitChildren(Visitor visitor) {
+            walkParameterList(visitor, this);
+        }
+
+        @Override public void hashChildren(StructuralHash hash) {
+            hashParameterList(hash, this);
+        }
+
+        private List<Parameter> parameters = new ArrayList<Parameter>();
+        public List<Parameter> getParameters() { return parameters; }
+        public void addParameter(Parameter node) { parameters.add(node); connect(node); }
+
+    }
+
+    public static abstract class Parameter extends TypedDeclaration {
+
+        public Parameter(Token token) {
+            super(token);
+        }
+
+        public static final int KIND = 39;
+
+        @Override public int getNodeKind() {
+            return KIND;
+        }
+
+        @Override public void visit(Visitor visitor) {
+            if (isSkippedBy(visitor)) return;
+            try {
+                visitor.visit(this);
+            }
+            catch (Exception e) {
+                visitor.handleException(e, this);
+            }
+        }
+
+        @Override public void visitChildren(Visitor visitor) {
+            walkParameter(visitor, this);
+        }
+
+        @Override public void hashChildren(StructuralHash hash) {
+            hashParameter(hash, this);
+        }
+
+        private DefaultArgument defaultArgument;
+        public DefaultArgument getDefaultArgument() { return defaultArgument; }
+        public void setDefaultArgument(DefaultArgument node) { defaultArgument = node; connect(node); }
+
+        public abstract com.redhat.ceylon.compiler.typechecker.model.Parameter getDeclarationModel();
+
+    }
+
+    public static class DefaultArgument extends Node {
+
+        public DefaultArgument(Token token) {
+            super(token);
+        }
+
+        public static final int KIND = 40;
+
+        @Override public int getNodeKind() {
+            return KIND;
+        }
+
+        @Override public void visit(Visitor visitor) {
+            if (isSkippedBy(visitor)) return;
+            try {
+                visitor.visit(this);
+            }
+            catch (Exception e) {
+                visitor.handleException(e, this);
+            }
+        }
+
+        @Override public void visitChildren(Visitor visitor) {
+            walkDefaultArgument(visitor, this);
+        }
+
+        @Override public void hashChildren(StructuralHash hash) {
+            hashDefaultArgument(hash, this);
+        }
+
+        private SpecifierExpression specifierExpression;
+        public SpecifierExpression getSpecifierExpression() { return specifierExpression; }
+        public void setSpecifierExpression(SpecifierExpression node) { specifierExpression = node; connect(node); }
+
+    }
+
+    public static class ValueParameterDeclaration extends Parameter {
+
+        public ValueParameterDeclaration(Token token) {
+            super(token);
+        }
+
+        public static final int KIND = 41;
+
+        @Override public int getNodeKind() {
+            return KIND;
+        }
+
+        @Override public void visit(Visitor visitor) {
+            if (isSkippedBy(visitor)) return;
+            try {
+                visitor.visit(this);
+            }
+            catch (Exception e) {
+                visitor.handleException(e, this);
+            }
+        }
+
+        @Override public void visitChildren(Visitor visitor) {
+            walkValueParameterDeclaration(visitor, this);
+        }
+
+        @Override public void hashChildren(StructuralHash hash) {
+            hashValueParameterDeclaration(hash, this);
+        }
+
+        private com.redhat.ceylon.compiler.typechecker.model.ValueParameter declarationModel;
+        public com.redhat.ceylon.compiler.typechecker.model.ValueParameter getDeclarationModel() { return declarationModel; }
+        public void setDeclarationModel(com.redhat.ceylon.compiler.typechecker.model.ValueParameter value) { declarationModel = value; }
+
+    }
+
+    public static class FunctionalParameterDeclaration extends Parameter {
+
+        public FunctionalParameterDeclaration(Token token) {
+            super(token);
+        }
+
+        public static final int KIND = 42;
+
+        @Override public int getNodeKind() {
+            return KIND;
+        }
+
+        @Override public void visit(Visitor visitor) {
+            if (isSkippedBy(visitor)) return;
+            try {
+                visitor.visit(this);
+            }
+            catch (Exception e) {
+                visitor.handleException(e, this);
+            }
+        }
+
+        @Override public void visitChildren(Visitor visitor) {
+            walkFunctionalParameterDeclaration(visitor, this);
+        }
+
+        @Override public void hashChildren(StructuralHash hash) {
+            hashFunctionalParameterDeclaration(hash, this);
+        }
+
+        private List<ParameterList> parameterLists = new ArrayList<ParameterList>();
+        public List<ParameterList> getParameterLists() { return parameterLists; }
+        public void addParameterList(ParameterList node) { parameterLists.add(node); connect(node); }
+
+        private com.redhat.ceylon.compiler.typechecker.model.FunctionalParameter declarationModel;
+        public com.redhat.ceylon.compiler.typechecker.model.FunctionalParameter getDeclarationModel() { return declarationModel; }
+        public void setDeclarationModel(com.redhat.ceylon.compiler.typechecker.model.FunctionalParameter value) { declarationModel = value; }
+
+    }
+
+    public static class TypeParameterList extends Node {
+
+        public TypeParameterList(Token token) {
+            super(token);
+        }
+
+        public static final int KIND = 43;
+
+        @Override public int getNodeKind() {
+            return KIND;
+        }
+
+        @Override public void visit(Visitor visitor) {
+            if (isSkippedBy(visitor)) return;
+            try {
+                visitor.visit(this);
+            }
+            catch (Exception e) {
+                visitor.handleException(e, this);
+            }
+        }
+
+        @Override public void visitChildren(Visitor visitor) {
+            walkTypeParameterList(visitor, this);
+        }
+
+        @Override public void hashChildren(StructuralHash hash) {
+            hashTypeParameterList(hash, this);
+        }
+
+        private List<TypeParameterDeclaration> typeParameterDeclarations = new ArrayList<TypeParameterDeclaration>();
+        public List<TypeParameterDeclaration> getTypeParameterDeclarations() { return typeParameterDeclarations; }
+        public void addTypeParameterDeclaration(TypeParameterDeclaration node) { typeParameterDeclarations.add(node); connect(node); }
+
+        private SequencedTypeParameterDeclaration sequencedTypeParameterDeclaration;
+        public SequencedTypeParameterDeclaration getSequencedTypeParameterDeclaration() { return sequencedTypeParameterDeclaration; }
+        public void setSequencedTypeParameterDeclaration(SequencedTypeParameterDeclaration node) { sequencedTypeParameterDeclaration = node; connect(node); }
+
+    }
+
+    public static class TypeParameterDeclaration extends Declaration {
+
+        public TypeParameterDeclaration(Token token) {
+            super(token);
+        }
+
+        public static final int KIND = 44;
+
+        @Override public int getNodeKind() {
+            return KIND;
+        }
+
+        @Override public void visit(Visitor visitor) {
+            if (isSkippedBy(visitor)) return;
+            try {
+                visitor.visit(this);
+            }
+            catch (Exception e) {
+                visitor.handleException(e, this);
+            }
+        }
+
+        @Override public void visitChildren(Visitor visitor) {
+            walkTypeParameterDeclaration(visitor, this);
+        }
+
+        @Override public void hashChildren(StructuralHash hash) {
+            hashTypeParameterDeclaration(hash, this);
+        }
+
+        private TypeVariance typeVariance;
+        public TypeVariance getTypeVariance() { return typeVariance; }
+        public void setTypeVariance(TypeVariance node) { typeVariance = node; connect(node); }
+
+        private com.redhat.ceylon.compiler.typechecker.model.TypeParameter declarationModel;
+        public com.redhat.ceylon.compiler.typechecker.model.TypeParameter getDeclarationModel() { return declarationModel; }
+        public void setDeclarationModel(com.redhat.ceylon.compiler.typechecker.model.TypeParameter value) { declarationModel = value; }
+
+    }
+
+    public static class TypeVariance extends Node {
+
+        public TypeVariance(Token token) {
+            super(token);
+        }
+
+        public static final int KIND = 45;
+
+        @Override public int getNodeKind() {
+            return KIND;
+        }
+
+        @Override public void visit(Visitor visitor) {
+            if (isSkippedBy(visitor)) return;
+            try {
+                visitor.visit(this);
+            }
+            catch (Exception e) {
+                visitor.handleException(e, this);
+            }
+        }
+
+        @Override public void visitChildren(Visitor visitor) {
+            walkTypeVariance(visitor, this);
+        }
+
+        @Override public void hashChildren(StructuralHash hash) {
+            hashTypeVariance(hash, this);
+        }
+
+    }
+
+    public static class SequencedTypeParameterDeclaration extends Declaration {
+
+        public SequencedTypeParameterDeclaration(Token token) {
+            super(token);
+        }
+
+        public static final int KIND = 46;
+
+        @Override public int getNodeKind() {
+            return KIND;
+        }
+
+        @Override public void visit(Visitor visitor) {
+            if (isSkippedBy(visitor)) return;
+            try {
+                visitor.visit(this);
+            }
+            catch (Exception e) {
+                visitor.handleException(e, this);
+            }
+        }
+
+        @Override public void visitChildren(Visitor visitor) {
+            walkSequencedTypeParameterDeclaration(visitor, this);
+        }
+
+        @Override public void hashChildren(StructuralHash hash) {
+            hashSequencedTypeParameterDeclaration(hash, this);
+        }
+
+        private com.redhat.ceylon.compiler.typechecker.model.TypeParameter declarationModel;
+        public com.redhat.ceylon.compiler.typechecker.model.TypeParameter getDeclarationModel() { return declarationModel; }
+        public void setDeclarationModel(com.redhat.ceylon.compiler.typechecker.model.TypeParameter value) { declarationModel = value; }
+
+    }
+
+    public static abstract class Body extends Node {
+
+        public Body(Token token) {
+            super(token);
+        }
+
+        public static final int KIND = 47;
+
+        @Override public int getNodeKind() {
+            return KIND;
+        }
+
+        @Override public void visit(Visitor visitor) {
+            if (isSkippedBy(visitor)) return;
+            try {
+                visitor.visit(this);
+            }
+            catch (Exception e) {
+                visitor.handleException(e, this);
+            }
+        }
+
+        @Override public void visitChildren(Visitor visitor) {
+            walkBody(visitor, this);
+        }
+
+        @Override public void hashChildren(StructuralHash hash) {
+            hashBody(hash, this);
+        }
+
+        private List<Statement> statements = new ArrayList<Statement>();
+        public List<Statement> getStatements() { return statements; }
+        public void addStatement(Statement node) { statements.add(node); connect(node); }
+
+    }
+
+    /**
+     * A method or attribute body containing statements and declarations.
+     */
+    public static class Block extends Body {
+
+        public Block(Token token) {
+            super(token);
+        }
+
+        public static final int KIND = 48;
+
+        @Override public int getNodeKind() {
+            return KIND;
+        }
+
+        @Override public void visit(Visitor visitor) {
+            if (isSkippedBy(visitor)) return;
+            try {
+                visitor.visit(this);
+            }
+            catch (Exception e) {
+                visitor.handleException(e, this);
+            }
+        }
+
+        @Override public void visitChildren(Visitor visitor) {
+            walkBlock(visitor, this);
+        }
+
+        @Override public void hashChildren(StructuralHash hash) {
+            hashBlock(hash, this);
+        }
+
+    }
+
+    /**
+     * A class body.
+     */
+    public static class ClassBody extends Body {
+
+        public ClassBody(Token token) {
+            super(token);
+        }
+
+        public static final int KIND = 49;
+
+        @Override public int getNodeKind() {
+            return KIND;
+        }
+
+        @Override public void visit(Visitor visitor) {
+            if (isSkippedBy(visitor)) return;
+            try {
+                visitor.visit(this);
+            }
+            catch (Exception e) {
+                visitor.handleException(e, this);
+            }
+        }
+
+        @Override public void visitChildren(Visitor visitor) {
+            walkClassBody(visitor, this);
+        }
+
+        @Override public void hashChildren(StructuralHash hash) {
+            hashClassBody(hash, this);
+        }
+
+    }
+
+    /**
+     * An interface body.
+     */
+    public static class InterfaceBody extends Body {
+
+        public InterfaceBody(Token token) {
+            super(token);
+        }
+
+        public static final int KIND = 50;
+
+        @Override public int getNodeKind() {
+            return KIND;
+        }
+
+        @Override public void visit(Visitor visitor) {
+            if (isSkippedBy(visitor)) return;
+            try {
+                visitor.visit(this);
+            }
+            catch (Exception e) {
+                visitor.handleException(e, this);
+            }
+        }
+
+        @Override public void visitChildren(Visitor visitor) {
+            walkInterfaceBody(visitor, this);
+        }
+
+        @Override public void hashChildren(StructuralHash hash) {
+            hashInterfaceBody(hash, this);
+        }
+
+    }
+
+    public static abstract class Type extends Node {
+
+        public Type(Token token) {
+            super(token);
+        }
+
+        public static final int KIND = 51;
+
+        @Override public int getNodeKind() {
+            return KIND;
+        }
+
+        @Override public void visit(Visitor visitor) {
+            if (isSkippedBy(visitor)) return;
+            try {
+                visitor.visit(this);
+            }
+            catch (Exception e) {
+                visitor.handleException(e, this);
+            }
+        }
+
+        @Override public void visitChildren(Visitor visitor) {
+            walkType(visitor, this);
+        }
+
+        @Override public void hashChildren(StructuralHash hash) {
+            hashType(hash, this);
+        }
+
+        private com.redhat.ceylon.compiler.typechecker.model.ProducedType typeModel;
+        public com.redhat.ceylon.compiler.typechecker.model.ProducedType getTypeModel() { return typeModel; }
+        public void setTypeModel(com.redhat.ceylon.compiler.typechecker.model.ProducedType value) { typeModel = value; }
+
+    }
+
+    public static abstract class StaticType extends Type {
+
+        public StaticType(Token token) {
+            super(token);
+        }
+
+        public static final int KIND = 52;
+
+        @Override public int getNodeKind() {
+            return KIND;
+        }
+
+        @Override public void visit(Visitor visitor) {
+            if (isSkippedBy(visitor)) return;
+            try {
+                visitor.visit(this);
+            }
+            catch (Exception e) {
+                visitor.handleException(e, this);
+            }
+        }
+
+        @Override public void visitChildren(Visitor visitor) {
+            walkStaticType(visitor, this);
+        }
+
+        @Override public void hashChildren(StructuralHash hash) {
+            hashStaticType(hash, this);
+        }
+
+    }
+
+    /**
+     * A produced type.
+     */
+    public static abstract class SimpleType extends StaticType {
+
+        public SimpleType(Token token) {
+            super(token);
+        }
+
+        public static final int KIND = 53;
+
+        @Override public int getNodeKind() {
+            return KIND;
+        }
+
+        @Override public void visit(Visitor visitor) {
+            if (isSkippedBy(visitor)) return;
+            try {
+                visitor.visit(this);
+            }
+            catch (Exception e) {
+                visitor.handleException(e, this);
+            }
+        }
+
+        @Override public void visitChildren(Visitor visitor) {
+            walkSimpleType(visitor, this);
+        }
+
+        @Override public void hashChildren(StructuralHash hash) {
+            hashSimpleType(hash, this);
+        }
+
+        private Identifier identifier;
+        public Identifier getIdentifier() { return identifier; }
+        public void setIdentifier(Identifier node) { identifier = node; connect(node); }
+
+        private TypeArgumentList typeArgumentList;
+        public TypeArgumentList getTypeArgumentList() { return typeArgumentList; }
+        public void setTypeArgumentList(TypeArgumentList node) { typeArgumentList = node; connect(node); }
+
+        private com.redhat.ceylon.compiler.typechecker.model.TypeDeclaration declarationModel;
+        public com.redhat.ceylon.compiler.typechecker.model.TypeDeclaration getDeclarationModel() { return declarationModel; }
+        public void setDeclarationModel(com.redhat.ceylon.compiler.typechecker.model.TypeDeclaration value) { declarationModel = value; }
+
+    }
+
+    public static class BaseType extends SimpleType {
+
+        public BaseType(Token token) {
+            super(token);
+        }
+
+        public static final int KIND = 54;
+
+        @Override public int getNodeKind() {
+            return KIND;
+        }
+
+        @Override public void visit(Visitor visitor) {
+            if (isSkippedBy(visitor)) return;
+            try {
+                visitor.visit(this);
+            }
+            catch (Exception e) {
+                visitor.handleException(e, this);
+            }
+        }
+
+        @Override public void visitChildren(Visitor visitor) {
+            walkBaseType(visitor, this);
+        }
+
+        @Override public void hashChildren(StructuralHash hash) {
+            hashBaseType(hash, this);
+        }
+
+    }
+
+    public static class UnionType extends StaticType {
+
+        public UnionType(Token token) {
+            super(token);
+        }
+
+        public static final int KIND = 55;
+
+        @Override public int getNodeKind() {
+            return KIND;
+        }
+
+        @Override public void visit(Visitor visitor) {
+            if (isSkippedBy(visitor)) return;
+            try {
+                visitor.visit(this);
+            }
+            catch (Exception e) {
+                visitor.handleException(e, this);
+            }
+        }
+
+        @Override public void visitChildren(Visitor visitor) {
+            walkUnionType(visitor, this);
+        }
+
+        @Override public void hashChildren(StructuralHash hash) {
+            hashUnionType(hash, this);
+        }
+
+        private List<StaticType> staticTypes = new ArrayList<StaticType>();
+        public List<StaticType> getStaticTypes() { return staticTypes; }
+        public void addStaticType(StaticType node) { staticTypes.add(node); connect(node); }
+
+    }
+
+    public static class IntersectionType extends StaticType {
+
+        public IntersectionType(Token token) {
+            super(token);
+        }
+
+        public static final int KIND = 56;
+
+        @Override public int getNodeKind() {
+            return KIND;
+        }
+
+        @Override public void visit(Visitor visitor) {
+            if (isSkippedBy(visitor)) return;
+            try {
+                visitor.visit(this);
+            }
+            catch (Exception e) {
+                visitor.handleException(e, this);
+            }
+        }
+
+        @Override public void visitChildren(Visitor visitor) {
+            walkIntersectionType(visitor, this);
+        }
+
+        @Override public void hashChildren(StructuralHash hash) {
+            hashIntersectionType(hash, this);
+        }
+
+        private List<StaticType> staticTypes = new ArrayList<StaticType>();
+        public List<StaticType> getStaticTypes() { return staticTypes; }
+        public void addStaticType(StaticType node) { staticTypes.add(node); connect(node); }
+
+    }
+
+    public static class QualifiedType extends SimpleType {
+
+        public QualifiedType(Token token) {
+            super(token);
+        }
+
+        public static final int KIND = 57;
+
+        @Override public int getNodeKind() {
+            return KIND;
+        }
+
+        @Override public void visit(Visitor visitor) {
+            if (isSkippedBy(visitor)) return;
+            try {
+                visitor.visit(this);
+            }
+            catch (Exception e) {
+                visitor.handleException(e, this);
+            }
+        }
+
+        @Override public void visitChildren(Visitor visitor) {
+            walkQualifiedType(visitor, this);
+        }
+
+        @Override public void hashChildren(StructuralHash hash) {
+            hashQualifiedType(hash, this);
+        }
+
+        private StaticType outerType;
+        public StaticType getOuterType() { return outerType; }
+        public void setOuterType(StaticType node) { outerType = node; connect(node); }
+
+    }
+
+    public static class SuperType extends StaticType {
+
+        public SuperType(Token token) {
+            super(token);
+        }
+
+        public static final int KIND = 58;
+
+        @Override public int getNodeKind() {
+            return KIND;
+        }
+
+        @Override public void visit(Visitor visitor) {
+            if (isSkippedBy(visitor)) return;
+            try {
+                visitor.visit(this);
+            }
+            catch (Exception e) {
+                visitor.handleException(e, this);
+            }
+        }
+
+        @Override public void visitChildren(Visitor visitor) {
+            walkSuperType(visitor, this);
+        }
+
+        @Override public void hashChildren(StructuralHash hash) {
+            hashSuperType(hash, this);
+        }
+
+    }
+
+    /**
+     * Specifies that the type of a block local declaration should be inferred.
+     */
+    public static abstract class LocalModifier extends Type {
+
+        public LocalModifier(Token token) {
+            super(token);
+        }
+
+        public static final int KIND = 59;
+
+        @Override public int getNodeKind() {
+            return KIND;
+        }
+
+        @Override public void visit(Visitor visitor) {
+            if (isSkippedBy(visitor)) return;
+            try {
+                visitor.visit(this);
+            }
+            catch (Exception e) {
+                visitor.handleException(e, this);
+            }
+        }
+
+        @Override public void visitChildren(Visitor visitor) {
+            walkLocalModifier(visitor, this);
+        }
+
+        @Override public void hashChildren(StructuralHash hash) {
+            hashLocalModifier(hash, this);
+        }
+
+    }
+
+    /**
+     * Specifies that the type of a local declaration should be inferred.
+     */
+    public static class ValueModifier extends LocalModifier {
+
+        public ValueModifier(Token token) {
+            super(token);
+        }
+
+        public static final int KIND = 60;
+
+        @Override public int getNodeKind() {
+            return KIND;
+        }
+
+        @Override public void visit(Visitor visitor) {
+            if (isSkippedBy(visitor)) return;
+            try {
+                visitor.visit(this);
+            }
+            catch (Exception e) {
+                visitor.handleException(e, this);
+            }
+        }
+
+        @Override public void visitChildren(Visitor visitor) {
+            walkValueModifier(visitor, this);
+        }
+
+        @Override public void hashChildren(StructuralHash hash) {
+            hashValueModifier(hash, this);
+        }
+
+    }
+
+    /**
+     * Specifies that the type of a method declaration should be inferred.
+     */
+    public static class FunctionModifier extends LocalModifier {
+
+        public FunctionModifier(Token token) {
+            super(token);
+        }
+
+        public static final int KIND = 61;
+
+        @Override public int getNodeKind() {
+            return KIND;
+        }
+
+        @Override public void visit(Visitor visitor) {
+            if (isSkippedBy(visitor)) return;
+            try {
+                visitor.visit(this);
+            }
+            catch (Exception e) {
+                visitor.handleException(e, this);
+            }
+        }
+
+        @Override public void visitChildren(Visitor visitor) {
+            walkFunctionModifier(visitor, this);
+        }
+
+        @Override public void hashChildren(StructuralHash hash) {
+            hashFunctionModifier(hash, this);
+        }
+
+    }
+
+    public static class SyntheticVariable extends ValueModifier {
+
+        public SyntheticVariable(Token token) {
+            super(token);
+        }
+
+        public static final int KIND = 62;
+
+        @Override public int getNodeKind() {
+            return KIND;
+        }
+
+        @Override public void visit(Visitor visitor) {
+            if (isSkippedBy(visitor)) return;
+            try {
+                visitor.visit(this);
+            }
+            catch (Exception e) {
+                visitor.handleException(e, this);
+            }
+        }
+
+        @Override public void visitChildren(Visitor visitor) {
+            walkSyntheticVariable(visitor, this);
+        }
+
+        @Override public void hashChildren(StructuralHash hash) {
+            hashSyntheticVariable(hash, this);
+        }
+
+    }
+
+    public static class TypeArguments extends Node {
+
+        public TypeArguments(Token token) {
+            super(token);
+        }
+
+        public static final int KIND = 63;
+
+        @Override public int getNodeKind() {
+            return KIND;
+        }
+
+        @Override public void visit(Visitor visitor) {
+            if (isSkippedBy(visitor)) return;
+            try {
+                visitor.visit(this);
+            }
+            catch (Exception e) {
+                visitor.handleException(e, this);
+            }
+        }
+
+        @Override public void visitChildren(Visitor visitor) {
+            walkTypeArguments(visitor, this);
+        }
+
+        @Override public void hashChildren(StructuralHash hash) {
+            hashTypeArguments(hash, this);
+        }
+
+        private List<com.redhat.ceylon.compiler.typechecker.model.ProducedType> typeModels;
+        public List<com.redhat.ceylon.compiler.typechecker.model.ProducedType> getTypeModels() { return typeModels; }
+        public void setTypeModels(List<com.redhat.ceylon.compiler.typechecker.model.ProducedType> value) { typeModels = value; }
+
+    }
+
+    /**
+     * A list of type arguments in a produced type.
+     */
+    public static class TypeArgumentList extends TypeArguments {
+
+        public TypeArgumentList(Token token) {
+            super(token);
+        }
+
+        public static final int KIND = 64;
+
+        @Override public int getNodeKind() {
+            return KIND;
+        }
+
+        @Override public void visit(Visitor visitor) {
+            if (isSkippedBy(visitor)) return;
+            try {
+                visitor.visit(this);
+            }
+            catch (Exception e) {
+                visitor.handleException(e, this);
+            }
+        }
+
+        @Override public void visitChildren(Visitor visitor) {
+            walkTypeArgumentList(visitor, this);
+        }
+
+        @Override public void hashChildren(StructuralHash hash) {
+            hashTypeArgumentList(hash, this);
+        }
+
+        private List<Type> types = new ArrayList<Type>();
+        public List<Type> getTypes() { return types; }
+        public void addType(Type node) { types.add(node); connect(node); }
+
+    }
+
+    public static class InferredTypeArguments extends TypeArguments {
+
+        public InferredTypeArguments(Token token) {
+            super(token);
+        }
+
+        public static final int KIND = 65;
+
+        @Override public int getNodeKind() {
+            return KIND;
+        }
+
+        @Override public void visit(Visitor visitor) {
+            if (isSkippedBy(visitor)) return;
+            try {
+                visitor.visit(this);
+            }
+            catch (Exception e) {
+                visitor.handleException(e, this);
+            }
+        }
+
+        @Override public void visitChildren(Visitor visitor) {
+            walkInferredTypeArguments(visitor, this);
+        }
+
+        @Override public void hashChildren(StructuralHash hash) {
+            hashInferredTypeArguments(hash, this);
+        }
+
+    }
+
+    public static class SequencedType extends Type {
+
+        public SequencedType(Token token) {
+            super(token);
+        }
+
+        public static final int KIND = 66;
+
+        @Override public int getNodeKind() {
+            return KIND;
+        }
+
+        @Override public void visit(Visitor visitor) {
+            if (isSkippedBy(visitor)) return;
+            try {
+                visitor.visit(this);
+            }
+            catch (Exception e) {
+                visitor.handleException(e, this);
+            }
+        }
+
+        @Override public void visitChildren(Visitor visitor) {
+            walkSequencedType(visitor, this);
+        }
+
+        @Override public void hashChildren(StructuralHash hash) {
+            hashSequencedType(hash, this);
+        }
+
+        private Type type;
+        public Type getType() { return type; }
+        public void setType(Type node) { type = node; connect(node); }
+
+    }
+
+    /**
+     * A control directive.
+     */
+    public static abstract class Directive extends ExecutableStatement {
+
+        public Directive(Token token) {
+            super(token);
+        }
+
+        public static final int KIND = 67;
+
+        @Override public int getNodeKind() {
+            return KIND;
+        }
+
+        @Override public void visit(Visitor visitor) {
+            if (isSkippedBy(visitor)) return;
+            try {
+                visitor.visit(this);
+            }
+            catch (Exception e) {
+                visitor.handleException(e, this);
+            }
+        }
+
+        @Override public void visitChildren(Visitor visitor) {
+            walkDirective(visitor, this);
+        }
+
+        @Override public void hashChildren(StructuralHash hash) {
+            hashDirective(hash, this);
+        }
+
+    }
+
+    public static class Return extends Directive {
+
+        public Return(Token token) {
+            super(token);
+        }
+
+        public static final int KIND = 68;
+
+        @Override public int getNodeKind() {
+            return KIND;
+        }
+
+        @Override public void visit(Visitor visitor) {
+            if (isSkippedBy(visitor)) return;
+            try {
+                visitor.visit(this);
+            }
+            catch (Exception e) {
+                visitor.handleException(e, this);
+            }
+        }
+
+        @Override public void visitChildren(Visitor visitor) {
+            walkReturn(visitor, this);
+        }
+
+        @Override public void hashChildren(StructuralHash hash) {
+            hashReturn(hash, this);
+        }
+
+        private Expression expression;
+        public Expression getExpression() { return expression; }
+        public void setExpression(Expression node) { expression = node; connect(node); }
+
+        private com.redhat.ceylon.compiler.typechecker.model.Declaration declaration;
+        public com.redhat.ceylon.compiler.typechecker.model.Declaration getDeclaration() { return declaration; }
+        public void setDeclaration(com.redhat.ceylon.compiler.typechecker.model.Declaration value) { declaration = value; }
+
+    }
+
+    public static class Throw extends Directive {
+
+        public Throw(Token token) {
+            super(token);
+        }
+
+        public static final int KIND = 69;
+
+        @Override public int getNodeKind() {
+            return KIND;
+        }
+
+        @Override public void visit(Visitor visitor) {
+            if (isSkippedBy(visitor)) return;
+            try {
+                visitor.visit(this);
+            }
+            catch (Exception e) {
+                visitor.handleException(e, this);
+            }
+        }
+
+        @Override public void visitChildren(Visitor visitor) {
+            walkThrow(visitor, this);
+        }
+
+        @Override public void hashChildren(StructuralHash hash) {
+            hashThrow(hash, this);
+        }
+
+        private Expression expression;
+        public Expression getExpression() { return expression; }
+        public void setExpression(Expression node) { expression = node; connect(node); }
+
+    }
+
+    public static class Continue extends Directive {
+
+        public Continue(Token token) {
+            super(token);
+        }
+
+        public static final int KIND = 70;
+
+        @Override public int getNodeKind() {
+            return KIND;
+        }
+
+        @Override public void visit(Visitor visitor) {
+            if (isSkippedBy(visitor)) return;
+            try {
+                visitor.visit(this);
+            }
+            catch (Exception e) {
+                visitor.handleException(e, this);
+            }
+        }
+
+        @Override public void visitChildren(Visitor visitor) {
+            walkContinue(visitor, this);
+        }
+
+        @Override public void hashChildren(StructuralHash hash) {
+            hashContinue(hash, this);
+        }
+
+    }
+
+    public static class Break extends Directive {
+
+        public Break(Token token) {
+            super(token);
+        }
+
+        public static final int KIND = 71;
+
+        @Override public int getNodeKind() {
+            return KIND;
+        }
+
+        @Override public void visit(Visitor visitor) {
+            if (isSkippedBy(visitor)) return;
+            try {
+                visitor.visit(this);
+            }
+            catch (Exception e) {
+                visitor.handleException(e, this);
+            }
+        }
+
+        @Override public void visitChildren(Visitor visitor) {
+            walkBreak(visitor, this);
+        }
+
+        @Override public void hashChildren(StructuralHash hash) {
+            hashBreak(hash, this);
+        }
+
+    }
+
+    public static abstract class StatementOrArgument extends Node {
+
+        public StatementOrArgument(Token token) {
+            super(token);
+        }
+
+        public static final int KIND = 72;
+
+        @Override public int getNodeKind() {
+            return KIND;
+        }
+
+        @Override public void visit(Visitor visitor) {
+            if (isSkippedBy(visitor)) return;
+            try {
+                visitor.visit(this);
+            }
+            catch (Exception e) {
+                visitor.handleException(e, this);
+            }
+        }
+
+        @Override public void visitChildren(Visitor visitor) {
+            walkStatementOrArgument(visitor, this);
+        }
+
+        @Override public void hashChildren(StructuralHash hash) {
+            hashStatementOrArgument(hash, this);
+        }
+
+        private List<CompilerAnnotation> compilerAnnotations = new ArrayList<CompilerAnnotation>();
+        public List<CompilerAnnotation> getCompilerAnnotations() { return compilerAnnotations; }
+        public void addCompilerAnnotation(CompilerAnnotation node) { compilerAnnotations.add(node); connect(node); }
+
+    }
+
+    /**
+     * A statement or declaration.
+     */
+    public static abstract class Statement extends StatementOrArgument {
+
+        public Statement(Token token) {
+            super(token);
+        }
+
+        public static final int KIND = 73;
+
+        @Override public int getNodeKind() {
+            return KIND;
+        }
+
+        @Override public void visit(Visitor visitor) {
+            if (isSkippedBy(visitor)) return;
+            try {
+                visitor.visit(this);
+            }
+            catch (Exception e) {
+                visitor.handleException(e, this);
+            }
+        }
+
+        @Override public void visitChildren(Visitor visitor) {
+            walkStatement(visitor, this);
+        }
+
+        @Override public void hashChildren(StructuralHash hash) {
+            hashStatement(hash, this);
+        }
+
+    }
+
+    public static class CompilerAnnotation extends Node {
+
+        public CompilerAnnotation(Token token) {
+            super(token);
+        }
+
+        public static final int KIND = 74;
+
+        @Override public int getNodeKind() {
+            return KIND;
+        }
+
+        @Override public void visit(Visitor visitor) {
+            if (isSkippedBy(visitor)) return;
+            try {
+                visitor.visit(this);
+            }
+            catch (Exception e) {
+                visitor.handleException(e, this);
+            }
+        }
+
+        @Override public void visitChildren(Visitor visitor) {
+            walkCompilerAnnotation(visitor, this);
+        }
+
+        @Override public void hashChildren(StructuralHash hash) {
+            hashCompilerAnnotation(hash, this);
+        }
+
+        private Identifier identifier;
+        public Identifier getIdentifier() { return identifier; }
+        public void setIdentifier(Identifier node) { identifier = node; connect(node); }
+
+        private StringLiteral stringLiteral;
+        public StringLiteral getStringLiteral() { return stringLiteral; }
+        public void setStringLiteral(StringLiteral node) { stringLiteral = node; connect(node); }
+
+    }
+
+    /**
+     * An expression statement, specification statement, or control structure.
+     */
+    public static abstract class ExecutableStatement extends Statement {
+
+        public ExecutableStatement(Token token) {
+            super(token);
+        }
+
+        public static final int KIND = 75;
+
+        @Override public int getNodeKind() {
+            return KIND;
+        }
+
+        @Override public void visit(Visitor visitor) {
+            if (isSkippedBy(visitor)) return;
+            try {
+                visitor.visit(this);
+            }
+            catch (Exception e) {
+                visitor.handleException(e, this);
+            }
+        }
+
+        @Override public void visitChildren(Visitor visitor) {
+            walkExecutableStatement(visitor, this);
+        }
+
+        @Override public void hashChildren(StructuralHash hash) {
+            hashExecutableStatement(hash, this);
+        }
+
+    }
+
+    public static class SpecifierStatement extends ExecutableStatement {
+
+        public SpecifierStatement(Token token) {
+            super(token);
+        }
+
+        public static final int KIND = 76;
+
+        @Override public int getNodeKind() {
+            return KIND;
+        }
+
+        @Override public void visit(Visitor visitor) {
+            if (isSkippedBy(visitor)) return;
+            try {
+                visitor.visit(this);
+            }
+            catch (Exception e) {
+                visitor.handleException(e, this);
+            }
+        }
+
+        @Override public void visitChildren(Visitor visitor) {
+            walkSpecifierStatement(visitor, this);
+        }
+
+        @Override public void hashChildren(StructuralHash hash) {
+            hashSpecifierStatement(hash, this);
+        }
+
+        private Term baseMemberExpression;
+        public Term getBaseMemberExpression() { return baseMemberExpression; }
+        public void setBaseMemberExpression(Term node) { baseMemberExpression = node; connect(node); }
+
+        private SpecifierExpression specifierExpression;
+        public SpecifierExpression getSpecifierExpression() { return specifierExpression; }
+        public void setSpecifierExpression(SpecifierExpression node) { specifierExpression = node; connect(node); }
+
+    }
+
+    public static class ExpressionStatement extends ExecutableStatement {
+
+        public ExpressionStatement(Token token) {
+            super(token);
+        }
+
+        public static final int KIND = 77;
+
+        @Override public int getNodeKind() {
+            return KIND;
+        }
+
+        @Override public void visit(Visitor visitor) {
+            if (isSkippedBy(visitor)) return;
+            try {
+                visitor.visit(this);
+            }
+            catch (Exception e) {
+                visitor.handleException(e, this);
+            }
+        }
+
+        @Override public void visitChildren(Visitor visitor) {
+            walkExpressionStatement(visitor, this);
+        }
+
+        @Override public void hashChildren(StructuralHash hash) {
+            hashExpressionStatement(hash, this);
+        }
+
+        private Expression expression;
+        public Expression getExpression() { return expression; }
+        public void setExpression(Expression node) { expression = node; connect(node); }
+
+    }
+
+    public static class ControlStatement extends ExecutableStatement {
+
+        public ControlStatement(Token token) {
+            super(token);
+        }
+
+        public static final int KIND = 78;
+
+        @Override public int getNodeKind() {
+            return KIND;
+        }
+
+        @Override public void visit(Visitor visitor) {
+            if (isSkippedBy(visitor)) return;
+            try {
+                visitor.visit(this);
+            }
+            catch (Exception e) {
+                visitor.handleException(e, this);
+            }
+        }
+
+        @Override public void visitChildren(Visitor visitor) {
+            walkControlStatement(visitor, this);
+        }
+
+        @Override public void hashChildren(StructuralHash hash) {
+            hashControlStatement(hash, this);
+        }
+
+    }
+
+    public static class ControlClause extends Node {
+
+        public ControlClause(Token token) {
+            super(token);
+        }
+
+        public static final int KIND = 79;
+
+        @Override public int getNodeKind() {
+            return KIND;
+        }
+
+        @Override public void visit(Visitor visitor) {
+            if (isSkippedBy(visitor)) return;
+            try {
+                visitor.visit(this);
+            }
+            catch (Exception e) {
+                visitor.handleException(e, this);
+            }
+        }
+
+        @Override public void visitChildren(Visitor visitor) {
+            walkControlClause(visitor, this);
+        }
+
+        @Override public void hashChildren(StructuralHash hash) {
+            hashControlClause(hash, this);
+        }
+
+        private com.redhat.ceylon.compiler.typechecker.model.ControlBlock controlBlock;
+        public com.redhat.ceylon.compiler.typechecker.model.ControlBlock getControlBlock() { return controlBlock; }
+        public void setControlBlock(com.redhat.ceylon.compiler.typechecker.model.ControlBlock value) { controlBlock = value; }
+
+    }
+
+    public static class IfStatement extends ControlStatement {
+
+        public IfStatement(Token token) {
+            super(token);
+        }
+
+        public static final int KIND = 80;
+
+        @Override public int getNodeKind() {
+            return KIND;
+        }
+
+        @Override public void visit(Visitor visitor) {
+            if (isSkippedBy(visitor)) return;
+            try {
+                visitor.visit(this);
+            }
+            catch (Exception e) {
+                visitor.handleException(e, this);
+            }
+        }
+
+        @Override public void visitChildren(Visitor visitor) {
+            walkIfStatement(visitor, this);
+        }
+
+        @Override public void hashChildren(StructuralHash hash) {
+            hashIfStatement(hash, this);
+        }
+
+        private IfClause ifClause;
+        public IfClause getIfClause() { return ifClause; }
+        public void setIfClause(IfClause node) { ifClause = node; connect(node); }
+
+        private ElseClause elseClause;
+        public ElseClause getElseClause() { return elseClause; }
+        public void setElseClause(ElseClause node) { elseClause = node; connect(node); }
+
+    }
+
+    public static class IfClause extends ControlClause {
+
+        public IfClause(Token token) {
+            super(token);
+        }
+
+        public static final int KIND = 81;
+
+        @Override public int getNodeKind() {
+            return KIND;
+        }
+
+        @Override public void visit(Visitor visitor) {
+            if (isSkippedBy(visitor)) return;
+            try {
+                visitor.visit(this);
+            }
+            catch (Exception e) {
+                visitor.handleException(e, this);
+            }
+        }
+
+        @Override public void visitChildren(Visitor visitor) {
+            walkIfClause(visitor, this);
+        }
+
+        @Override public void hashChildren(StructuralHash hash) {
+            hashIfClause(hash, this);
+        }
+
+        private Condition condition;
+        public Condition getCondition() { return condition; }
+        public void setCondition(Condition node) { condition = node; connect(node); }
+
+        private Block block;
+        public Block getBlock() { return block; }
+        public void setBlock(Block node) { block = node; connect(node); }
+
+    }
+
+    public static class ElseClause extends ControlClause {
+
+        public ElseClause(Token token) {
+            super(token);
+        }
+
+        public static final int KIND = 82;
+
+        @Override public int getNodeKind() {
+            return KIND;
+        }
+
+        @Override public void visit(Visitor visitor) {
+            if (isSkippedBy(visitor)) return;
+            try {
+                visitor.visit(this);
+            }
+            catch (Exception e) {
+                visitor.handleException(e, this);
+            }
+        }
+
+        @Override public void visitChildren(Visitor visitor) {
+            walkElseClause(visitor, this);
+        }
+
+        @Override public void hashChildren(StructuralHash hash) {
+            hashElseClause(hash, this);
+        }
+
+        private Block block;
+        public Block getBlock() { return block; }
+        public void setBlock(Block node) { block = node; connect(node); }
+
+    }
+
+    public static class SwitchStatement extends ControlStatement {
+
+        public SwitchStatement(Token token) {
+            super(token);
+        }
+
+        public static final int KIND = 83;
+
+        @Override public int getNodeKind() {
+            return KIND;
+        }
+
+        @Override public void visit(Visitor visitor) {
+            if (isSkippedBy(visitor)) return;
+            try {
+                visitor.visit(this);
+            }
+            catch (Exception e) {
+                visitor.handleException(e, this);
+            }
+        }
+
+        @Override public void visitChildren(Visitor visitor) {
+            walkSwitchStatement(visitor, this);
+        }
+
+        @Override public void hashChildren(StructuralHash hash) {
+            hashSwitchStatement(hash, this);
+        }
+
+        private SwitchClause switchClause;
+        public SwitchClause getSwitchClause() { return switchClause; }
+        public void setSwitchClause(SwitchClause node) { switchClause = node; connect(node); }
+
+        private SwitchCaseList switchCaseList;
+        public SwitchCaseList getSwitchCaseList() { return switchCaseList; }
+        public void setSwitchCaseList(SwitchCaseList node) { switchCaseList = node; connect(node); }
+
+    }
+
+    public static class SwitchClause extends Node {
+
+        public SwitchClause(Token token) {
+            super(token);
+        }
+
+        public static final int KIND = 84;
+
+        @Override public int getNodeKind() {
+            return KIND;
+        }
+
+        @Override public void visit(Visitor visitor) {
+            if (isSkippedBy(visitor)) return;
+            try {
+                visitor.visit(this);
+            }
+            catch (Exception e) {
+                visitor.handleException(e, this);
+            }
+        }
+
+        @Override public void visitChildren(Visitor visitor) {
+            walkSwitchClause(visitor, this);
+        }
+
+        @Override public void hashChildren(StructuralHash hash) {
+            hashSwitchClause(hash, this);
+        }
+
+        private Expression expression;
+        public Expression getExpression() { return expression; }
+        public void setExpression(Expression node) { expression = node; connect(node); }
+
+    }
+
+    public static class SwitchCaseList extends Node {
+
+        public SwitchCaseList(Token token) {
+            super(token);
+        }
+
+        public static final int KIND = 85;
+
+        @Override public int getNodeKind() {
+            return KIND;
+        }
+
+        @Override public void visit(Visitor visitor) {
+            if (isSkippedBy(visitor)) return;
+            try {
+                visitor.visit(this);
+            }
+            catch (Exception e) {
+                visitor.handleException(e, this);
+            }
+        }
+
+        @Override public void visitChildren(Visitor visitor) {
+            walkSwitchCaseList(visitor, this);
+        }
+
+        @Override public void hashChildren(StructuralHash hash) {
+            hashSwitchCaseList(hash, this);
+        }
+
+        private List<CaseClause> caseClauses = new ArrayList<CaseClause>();
+        public List<CaseClause> getCaseClauses() { return caseClauses; }
+        public void addCaseClause(CaseClause node) { caseClauses.add(node); connect(node); }
+
+        private ElseClause elseClause;
+        public ElseClause getElseClause() { return elseClause; }
+        public void setElseClause(ElseClause node) { elseClause = node; connect(node); }
+
+    }
+
+    public static class CaseClause extends ControlClause {
+
+        public CaseClause(Token token) {
+            super(token);
+        }
+
+        public static final int KIND = 86;
+
+        @Override public int getNodeKind() {
+            return KIND;
+        }
+
+        @Override public void visit(Visitor visitor) {
+            if (isSkippedBy(visitor)) return;
+            try {
+                visitor.visit(this);
+            }
+            catch (Exception e) {
+                visitor.handleException(e, this);
+            }
+        }
+
+        @Override public void visitChildren(Visitor visitor) {
+            walkCaseClause(visitor, this);
+        }
+
+        @Override public void hashChildren(StructuralHash hash) {
+            hashCaseClause(hash, this);
+        }
+
+        private CaseItem caseItem;
+        public CaseItem getCaseItem() { return caseItem; }
+        public void setCaseItem(CaseItem node) { caseItem = node; connect(node); }
+
+        private Block block;
+        public Block getBlock() { return block; }
+        public void setBlock(Block node) { block = node; connect(node); }
+
+    }
+
+    public static class CaseItem extends Node {
+
+        public CaseItem(Token token) {
+            super(token);
+        }
+
+        public static final int KIND = 87;
+
+        @Override public int getNodeKind() {
+            return KIND;
+        }
+
+        @Override public void visit(Visitor visitor) {
+            if (isSkippedBy(visitor)) return;
+            try {
+                visitor.visit(this);
+            }
+            catch (Exception e) {
+                visitor.handleException(e, this);
+            }
+        }
+
+        @Override public void visitChildren(Visitor visitor) {
+            walkCaseItem(visitor, this);
+        }
+
+        @Override public void hashChildren(StructuralHash hash) {
+            hashCaseItem(hash, this);
+        }
+
+    }
+
+    public static class MatchCase extends CaseItem {
+
+        public MatchCase(Token token) {
+            super(token);
+        }
+
+        public static final int KIND = 88;
+
+        @Override public int getNodeKind() {
+            return KIND;
+        }
+
+        @Override public void visit(Visitor visitor) {
+            if (isSkippedBy(visitor)) return;
+            try {
+                visitor.visit(this);
+            }
+            catch (Exception e) {
+                visitor.handleException(e, this);
+            }
+        }
+
+        @Override public void visitChildren(Visitor visitor) {
+            walkMatchCase(visitor, this);
+        }
+
+        @Override public void hashChildren(StructuralHash hash) {
+            hashMatchCase(hash, this);
+        }
+
+        private ExpressionList expressionList;
+        public ExpressionList getExpressionList() { return expressionList; }
+        public void setExpressionList(ExpressionList node) { expressionList = node; connect(node); }
+
+    }
+
+    public static class IsCase extends CaseItem {
+
+        public IsCase(Token token) {
+            super(token);
+        }
+
+        public static final int KIND = 89;
+
+        @Override public int getNodeKind() {
+            return KIND;
+        }
+
+        @Override public void visit(Visitor visitor) {
+            if (isSkippedBy(visitor)) return;
+            try {
+                visitor.visit(this);
+            }
+            catch (Exception e) {
+                visitor.handleException(e, this);
+            }
+        }
+
+        @Override public void visitChildren(Visitor visitor) {
+            walkIsCase(visitor, this);
+        }
+
+        @Override public void hashChildren(StructuralHash hash) {
+            hashIsCase(hash, this);
+        }
+
+        private Type type;
+        public Type getType() { return type; }
+        public void setType(Type node) { type = node; connect(node); }
+
+        private Variable variable;
+        public Variable getVariable() { return variable; }
+        public void setVariable(Variable node) { variable = node; connect(node); }
+
+    }
+
+    public static class SatisfiesCase extends CaseItem {
+
+        public SatisfiesCase(Token token) {
+            super(token);
+        }
+
+        public static final int KIND = 90;
+
+        @Override public int getNodeKind() {
+            return KIND;
+        }
+
+        @Override public void visit(Visitor visitor) {
+            if (isSkippedBy(visitor)) return;
+            try {
+                visitor.visit(this);
+            }
+            catch (Exception e) {
+                visitor.handleException(e, this);
+            }
+        }
+
+        @Override public void visitChildren(Visitor visitor) {
+            walkSatisfiesCase(visitor, this);
+        }
+
+        @Override public void hashChildren(StructuralHash hash) {
+            hashSatisfiesCase(hash, this);
+        }
+
+        private SimpleType type;
+        public SimpleType getType() { return type; }
+        public void setType(SimpleType node) { type = node; connect(node); }
+
+    }
+
+    public static class TryCatchStatement extends ControlStatement {
+
+        public TryCatchStatement(Token token) {
+            super(token);
+        }
+
+        public static final int KIND = 91;
+
+        @Override public int getNodeKind() {
+            return KIND;
+        }
+
+        @Override public void visit(Visitor visitor) {
+            if (isSkippedBy(visitor)) return;
+            try {
+                visitor.visit(this);
+            }
+            catch (Exception e) {
+                visitor.handleException(e, this);
+            }
+        }
+
+        @Override public void visitChildren(Visitor visitor) {
+            walkTryCatchStatement(visitor, this);
+        }
+
+        @Override public void hashChildren(StructuralHash hash) {
+            hashTryCatchStatement(hash, this);
+        }
+
+        private TryClause tryClause;
+        public TryClause getTryClause() { return tryClause; }
+        public void setTryClause(TryClause node) { tryClause = node; connect(node); }
+
+        private List<CatchClause> catchClauses = new ArrayList<CatchClause>();
+        public List<CatchClause> getCatchClauses() { return catchClauses; }
+        public void addCatchClause(CatchClause node) { catchClauses.add(node); connect(node); }
+
+        private FinallyClause finallyClause;
+        public FinallyClause getFinallyClause() { return finallyClause; }
+        public void setFinallyClause(FinallyClause node) { finallyClause = node; connect(node); }
+
+    }
+
+    public static class TryClause extends ControlClause {
+
+        public TryClause(Token token) {
+            super(token);
+        }
+
+        public static final int KIND = 92;
+
+        @Override public int getNodeKind() {
+            return KIND;
+        }
+
+        @Override public void visit(Visitor visitor) {
+            if (isSkippedBy(visitor)) return;
+            try {
+                visitor.visit(this);
+            }
+            catch (Exception e) {
+                visitor.handleException(e, this);
+            }
+        }
+
+        @Override public void visitChildren(Visitor visitor) {
+            walkTryClause(visitor, this);
+        }
+
+        @Override public void hashChildren(StructuralHash hash) {
+            hashTryClause(hash, this);
+        }
+
+        private Resource resource;
+        public Resource getResource() { return resource; }
+        public void setResource(Resource node) { resource = node; connect(node); }
+
+        private Block block;
+        public Block getBlock() { return block; }
+        public void setBlock(Block node) { block = node; connect(node); }
+
+    }
+
+    public static class CatchClause extends ControlClause {
+
+        public CatchClause(Token token) {
+            super(token);
+        }
+
+        public static final int KIND = 93;
+
+        @Override public int getNodeKind() {
+            return KIND;
+        }
+
+        @Override public void visit(Visitor visitor) {
+            if (isSkippedBy(visitor)) return;
+            try {
+                visitor.visit(this);
+            }
+            catch (Exception e) {
+                visitor.handleException(e, this);
+            }
+        }
+
+        @Override public void visitChildren(Visitor visitor) {
+            walkCatchClause(visitor, this);
+        }
+
+        @Override public void hashChildren(StructuralHash hash) {
+            hashCatchClause(hash, this);
+        }
+
+        private CatchVariable catchVariable;
+        public CatchVariable getCatchVariable() { return catchVariable; }
+        public void setCatchVariable(CatchVariable node) { catchVariable = node; connect(node); }
+
+        private Block block;
+        public Block getBlock() { return block; }
+        public void setBlock(Block node) { block = node; connect(node); }
+
+    }
+
+    public static class FinallyClause extends ControlClause {
+
+        public FinallyClause(Token token) {
+            super(token);
+        }
+
+        public static final int KIND = 94;
+
+        @Override public int getNodeKind() {
+            return KIND;
+        }
+
+        @Override public void visit(Visitor visitor) {
+            if (isSkippedBy(visitor)) return;
+            try {
+                visitor.visit(this);
+            }
+            catch (Exception e) {
+                visitor.handleException(e, this);
+            }
+        }
+
+        @Override public void visitChildren(Visitor visitor) {
+            walkFinallyClause(visitor, this);
+        }
+
+        @Override public void hashChildren(StructuralHash hash) {
+            hashFinallyClause(hash, this);
+        }
+
+        private Block block;
+        public Block getBlock() { return block; }
+        public void setBlock(Block node) { block = node; connect(node); }
+
+    }
+
+    public static class Resource extends Node {
+
+        public Resource(Token token) {
+            super(token);
+        }
+
+        public static final int KIND = 95;
+
+        @Override public int getNodeKind() {
+            return KIND;
+        }
+
+        @Override public void visit(Visitor visitor) {
+            if (isSkippedBy(visitor)) return;
+            try {
+                visitor.visit(this);
+            }
+            catch (Exception e) {
+                visitor.handleException(e, this);
+            }
+        }
+
+        @Override public void visitChildren(Visitor visitor) {
+            walkResource(visitor, this);
+        }
+
+        @Override public void hashChildren(StructuralHash hash) {
+            hashResource(hash, this);
+        }
+
+        private Variable variable;
+        public Variable getVariable() { return variable; }
+        public void setVariable(Variable node) { variable = node; connect(node); }
+
+        private Expression expression;
+        public Expression getExpression() { return expression; }
+        public void setExpression(Expression node) { expression = node; connect(node); }
+
+    }
+
+    public static class CatchVariable extends Node {
+
+        public CatchVariable(Token token) {
+            super(token);
+        }
+
+        public static final int KIND = 96;
+
+        @Override public int getNodeKind() {
+            return KIND;
+        }
+
+        @Override public void visit(Visitor visitor) {
+            if (isSkippedBy(visitor)) return;
+            try {
+                visitor.visit(this);
+            }
+            catch (Exception e) {
+                visitor.handleException(e, this);
+            }
+        }
+
+        @Override public void visitChildren(Visitor visitor) {
+            walkCatchVariable(visitor, this);
+        }
+
+        @Override public void hashChildren(StructuralHash hash) {
+            hashCatchVariable(hash, this);
+        }
+
+        private Variable variable;
+        public Variable getVariable() { return variable; }
+        public void setVariable(Variable node) { variable = node; connect(node); }
+
+    }
+
+    public static class ForStatement extends ControlStatement {
+
+        public ForStatement(Token token) {
+            super(token);
+        }
+
+        public static final int KIND = 97;
+
+        @Override public int getNodeKind() {
+            return KIND;
+        }
+
+        @Override public void visit(Visitor visitor) {
+            if (isSkippedBy(visitor)) return;
+            try {
+                visitor.visit(this);
+            }
+            catch (Exception e) {
+                visitor.handleException(e, this);
+            }
+        }
+
+        @Override public void visitChildren(Visitor visitor) {
+            walkForStatement(visitor, this);
+        }
+
+        @Override public void hashChildren(StructuralHash hash) {
+            hashForStatement(hash, this);
+        }
+
+        private ForClause forClause;
+        public ForClause getForClause() { return forClause; }
+        public void setForClause(ForClause node) { forClause = node; connect(node); }
+
+        private ElseClause elseClause;
+        public ElseClause getElseClause() { return elseClause; }
+        public void setElseClause(ElseClause node) { elseClause = node; connect(node); }
+
+    }
+
+    public static class ForClause extends ControlClause {
+
+        public ForClause(Token token) {
+            super(token);
+        }
+
+        public static final int KIND = 98;
+
+        @Override public int getNodeKind() {
+            return KIND;
+        }
+
+        @Override public void visit(Visitor visitor) {
+            if (isSkippedBy(visitor)) return;
+            try {
+                visitor.visit(this);
+            }
+            catch (Exception e) {
+                visitor.handleException(e, this);
+            }
+        }
+
+        @Override public void visitChildren(Visitor visitor) {
+            walkForClause(visitor, this);
+        }
+
+        @Override public void hashChildren(StructuralHash hash) {
+            hashForClause(hash, this);
+        }
+
+        private ForIterator forIterator;
+        public ForIterator getForIterator() { return forIterator; }
+        public void setForIterator(ForIterator node) { forIterator = node; connect(node); }
+
+        private Block block;
+        public Block getBlock() { return block; }
+        public void setBlock(Block node) { block = node; connect(node); }
+
+    }
+
+    public static class ForIterator extends StatementOrArgument {
+
+        public ForIterator(Token token) {
+            super(token);
+        }
+
+        public static final int KIND = 99;
+
+        @Override public int getNodeKind() {
+            return KIND;
+        }
+
+        @Override public void visit(Visitor visitor) {
+            if (isSkippedBy(visitor)) return;
+            try {
+                visitor.visit(this);
+            }
+            catch (Exception e) {
+                visitor.handleException(e, this);
+            }
+        }
+
+        @Override public void visitChildren(Visitor visitor) {
+            walkForIterator(visitor, this);
+        }
+
+        @Override public void hashChildren(StructuralHash hash) {
+            hashForIterator(hash, this);
+        }
+
+        private SpecifierExpression specifierExpression;
+        public SpecifierExpression getSpecifierExpression() { return specifierExpression; }
+        public void setSpecifierExpression(SpecifierExpression node) { specifierExpression = node; connect(node); }
+
+    }
+
+    public static class ValueIterator extends ForIterator {
+
+        public ValueIterator(Token token) {
+            super(token);
+        }
+
+        public static final int KIND = 100;
+
+        @Override public int getNodeKind() {
+            return KIND;
+        }
+
+        @Override public void visit(Visitor visitor) {
+            if (isSkippedBy(visitor)) return;
+            try {
+                visitor.visit(this);
+            }
+            catch (Exception e) {
+                visitor.handleException(e, this);
+            }
+        }
+
+        @Override public void visitChildren(Visitor visitor) {
+            walkValueIterator(visitor, this);
+        }
+
+        @Override public void hashChildren(StructuralHash hash) {
+            hashValueIterator(hash, this);
+        }
+
+        private Variable variable;
+        public Variable getVariable() { return variable; }
+        public void setVariable(Variable node) { variable = node; connect(node); }
+
+    }
+
+    public static class KeyValueIterator extends ForIterator {
+
+        public KeyValueIterator(Token token) {
+            super(token);
+        }
+
+        public static final int KIND = 101;
+
+        @Override public int getNodeKind() {
+            return KIND;
+        }
+
+        @Override public void visit(Visitor visitor) {
+            if (isSkippedBy(visitor)) return;
+            try {
+                visitor.visit(this);
+            }
+            catch (Exception e) {
+                visitor.handleException(e, this);
+            }
+        }
+
+        @Override public void visitChildren(Visitor visitor) {
+            walkKeyValueIterator(visitor, this);
+        }
+
+        @Override public void hashChildren(StructuralHash hash) {
+            hashKeyValueIterator(hash, this);
+        }
+
+        private Variable keyVariable;
+        public Variable getKeyVariable() { return keyVariable; }
+        public void setKeyVariable(Variable node) { keyVariable = node; connect(node); }
+
+        private Variable valueVariable;
+        public Variable getValueVariable() { return valueVariable; }
+        public void setValueVariable(Variable node) { valueVariable = node; connect(node); }
+
+    }
+
+    public static class WhileStatement extends ControlStatement {
+
+        public WhileStatement(Token token) {
+            super(token);
+        }
+
+        public static final int KIND = 102;
+
+        @Override public int getNodeKind() {
+            return KIND;
+        }
+
+        @Override public void visit(Visitor visitor) {
+            if (isSkippedBy(visitor)) return;
+            try {
+                visitor.visit(this);
+            }
+            catch (Exception e) {
+                visitor.handleException(e, this);
+            }
+        }
+
+        @Override public void visitChildren(Visitor visitor) {
+            walkWhileStatement(visitor, this);
+        }
+
+        @Override public void hashChildren(StructuralHash hash) {
+            hashWhileStatement(hash, this);
+        }
+
+        private WhileClause whileClause;
+        public WhileClause getWhileClause() { return whileClause; }
+        public void setWhileClause(WhileClause node) { whileClause = node; connect(node); }
+
+    }
+
+    public static class WhileClause extends ControlClause {
+
+        public WhileClause(Token token) {
+            super(token);
+        }
+
+        public static final int KIND = 103;
+
+        @Override public int getNodeKind() {
+            return KIND;
+        }
+
+        @Override public void visit(Visitor visitor) {
+            if (isSkippedBy(visitor)) return;
+            try {
+                visitor.visit(this);
+            }
+            catch (Exception e) {
+                visitor.handleException(e, this);
+            }
+        }
+
+        @Override public void visitChildren(Visitor visitor) {
+            walkWhileClause(visitor, this);
+        }
+
+        @Override public void hashChildren(StructuralHash hash) {
+            hashWhileClause(hash, this);
+        }
+
+        private Condition condition;
+        public Condition getCondition() { return condition; }
+        public void setCondition(Condition node) { condition = node; connect(node); }
+
+        private Block block;
+        public Block getBlock() { return block; }
+        public void setBlock(Block node) { block = node; connect(node); }
+
+    }
+
+    public static abstract class Condition extends Node {
+
+        public Condition(Token token) {
+            super(token);
+        }
+
+        public static final int KIND = 104;
+
+        @Override public int getNodeKind() {
+            return KIND;
+        }
+
+        @Override public void visit(Visitor visitor) {
+            if (isSkippedBy(visitor)) return;
+            try {
+                visitor.visit(this);
+            }
+            catch (Exception e) {
+                visitor.handleException(e, this);
+            }
+        }
+
+        @Override public void visitChildren(Visitor visitor) {
+            walkCondition(visitor, this);
+        }
+
+        @Override public void hashChildren(StructuralHash hash) {
+            hashCondition(hash, this);
+        }
+
+    }
+
+    public static class BooleanCondition extends Condition {
+
+        public BooleanCondition(Token token) {
+            super(token);
+        }
+
+        public static final int KIND = 105;
+
+        @Override public int getNodeKind() {
+            return KIND;
+        }
+
+        @Override public void visit(Visitor visitor) {
+            if (isSkippedBy(visitor)) return;
+            try {
+                visitor.visit(this);
+            }
+            catch (Exception e) {
+                visitor.handleException(e, this);
+            }
+        }
+
+        @Override public void visitChildren(Visitor visitor) {
+            walkBooleanCondition(visitor, this);
+        }
+
+        @Override public void hashChildren(StructuralHash hash) {
+            hashBooleanCondition(hash, this);
+        }
+
+        private Expression expression;
+        public Expression getExpression() { return expression; }
+        public void setExpression(Expression node) { expression = node; connect(node); }
+
+    }
+
+    public static abstract class ExistsOrNonemptyCondition extends Condition {
+
+        public ExistsOrNonemptyCondition(Token token) {
+            super(token);
+        }
+
+        public static final int KIND = 106;
+
+        @Override public int getNodeKind() {
+            return KIND;
+        }
+
+        @Override public void visit(Visitor visitor) {
+            if (isSkippedBy(visitor)) return;
+            try {
+                visitor.visit(this);
+            }
+            catch (Exception e) {
+                visitor.handleException(e, this);
+            }
+        }
+
+        @Override public void visitChildren(Visitor visitor) {
+            walkExistsOrNonemptyCondition(visitor, this);
+        }
+
+        @Override public void hashChildren(StructuralHash hash) {
+            hashExistsOrNonemptyCondition(hash, this);
+        }
+
+        private Variable variable;
+        public Variable getVariable() { return variable; }
+        public void setVariable(Variable node) { variable = node; connect(node); }
+
+        private Expression expression;
+        public Expression getExpression() { return expression; }
+        public void setExpression(Expression node) { expression = node; connect(node); }
+
+    }
+
+    public static class ExistsCondition extends ExistsOrNonemptyCondition {
+
+        public ExistsCondition(Token token) {
+            super(token);
+        }
+
+        public static final int KIND = 107;
+
+        @Override public int getNodeKind() {
+            return KIND;
+        }
+
+        @Override public void visit(Visitor visitor) {
+            if (isSkippedBy(visitor)) return;
+            try {
+                visitor.visit(this);
+            }
+            catch (Exception e) {
+                visitor.handleException(e, this);
+            }
+        }
+
+        @Override public void visitChildren(Visitor visitor) {
+            walkExistsCondition(visitor, this);
+        }
+
+        @Override public void hashChildren(StructuralHash hash) {
+            hashExistsCondition(hash, this);
+        }
+
+    }
+
+    public static class NonemptyCondition extends ExistsOrNonemptyCondition {
+
+        public NonemptyCondition(Token token) {
+            super(token);
+        }
+
+        public static final int KIND = 108;
+
+        @Override public int getNodeKind() {
+            return KIND;
+        }
+
+        @Override public void visit(Visitor visitor) {
+            if (isSkippedBy(visitor)) return;
+            try {
+                visitor.visit(this);
+            }
+            catch (Exception e) {
+                visitor.handleException(e, this);
+            }
+        }
+
+        @Override public void visitChildren(Visitor visitor) {
+            walkNonemptyCondition(visitor, this);
+        }
+
+        @Override public void hashChildren(StructuralHash hash) {
+            hashNonemptyCondition(hash, this);
+        }
+
+    }
+
+    public static class IsCondition extends Condition {
+
+        public IsCondition(Token token) {
+            super(token);
+        }
+
+        public static final int KIND = 109;
+
+        @Override public int getNodeKind() {
+            return KIND;
+        }
+
+        @Override public void visit(Visitor visitor) {
+            if (isSkippedBy(visitor)) return;
+            try {
+                visitor.visit(this);
+            }
+            catch (Exception e) {
+                visitor.handleException(e, this);
+            }
+        }
+
+        @Override public void visitChildren(Visitor visitor) {
+            walkIsCondition(visitor, this);
+        }
+
+        @Override public void hashChildren(StructuralHash hash) {
+            hashIsCondition(hash, this);
+        }
+
+        private Type type;
+        public Type getType() { return type; }
+        public void setType(Type node) { type = node; connect(node); }
+
+        private Variable variable;
+        public Variable getVariable() { return variable; }
+        public void setVariable(Variable node) { variable = node; connect(node); }
+
+        private Expression expression;
+        public Expression getExpression() { return expression; }
+        public void setExpression(Expression node) { expression = node; connect(node); }
+
+    }
+
+    public static class SatisfiesCondition extends Condition {
+
+        public SatisfiesCondition(Token token) {
+            super(token);
+        }
+
+        public static final int KIND = 110;
+
+        @Override public int getNodeKind() {
+            return KIND;
+        }
+
+        @Override public void visit(Visitor visitor) {
+            if (isSkippedBy(visitor)) return;
+            try {
+                visitor.visit(this);
+            }
+            catch (Exception e) {
+                visitor.handleException(e, this);
+            }
+        }
+
+        @Override public void visitChildren(Visitor visitor) {
+            walkSatisfiesCondition(visitor, this);
+        }
+
+        @Override public void hashChildren(StructuralHash hash) {
+            hashSatisfiesCondition(hash, this);
+        }
+
+        private Type leftType;
+        public Type getLeftType() { return leftType; }
+        public void setLeftType(Type node) { leftType = node; connect(node); }
+
+        private Type rightType;
+        public Type getRightType() { return rightType; }
+        public void setRightType(Type node) { rightType = node; connect(node); }
+
+    }
+
+    public static class Variable extends TypedDeclaration {
+
+        public Variable(Token token) {
+            super(token);
+        }
+
+        public static final int KIND = 111;
+
+        @Override public int getNodeKind() {
+            return KIND;
+        }
+
+        @Override public void visit(Visitor visitor) {
+            if (isSkippedBy(visitor)) return;
+            try {
+                visitor.visit(this);
+            }
+            catch (Exception e) {
+                visitor.handleException(e, this);
+            }
+        }
+
+        @Override public void visitChildren(Visitor visitor) {
+            walkVariable(visitor, this);
+        }
+
+        @Override public void hashChildren(StructuralHash hash) {
+            hashVariable(hash, this);
+        }
+
+        private List<ParameterList> parameterLists = new ArrayList<ParameterList>();
+        public List<ParameterList> getParameterLists() { return parameterLists; }
+        public void addParameterList(ParameterList node) { parameterLists.add(node); connect(node); }
+
+        private SpecifierExpression specifierExpression;
+        public SpecifierExpression getSpecifierExpression() { return specifierExpression; }
+        public void setSpecifierExpression(SpecifierExpression node) { specifierExpression = node; connect(node); }
+
+        private com.redhat.ceylon.compiler.typechecker.model.Value declarationModel;
+        public com.redhat.ceylon.compiler.typechecker.model.Value getDeclarationModel() { return declarationModel; }
+        public void setDeclarationModel(com.redhat.ceylon.compiler.typechecker.model.Value value) { declarationModel = value; }
+
+    }
+
+    public static abstract class Term extends Node {
+
+        public Term(Token token) {
+            super(token);
+        }
+
+        public static final int KIND = 112;
+
+        @Override public int getNodeKind() {
+            return KIND;
+        }
+
+        @Override public void visit(Visitor visitor) {
+            if (isSkippedBy(visitor)) return;
+            try {
+                visitor.visit(this);
+            }
+            catch (Exception e) {
+                visitor.handleException(e, this);
+            }
+        }
+
+        @Override public void visitChildren(Visitor visitor) {
+            walkTerm(visitor, this);
+        }
+
+        @Override public void hashChildren(StructuralHash hash) {
+            hashTerm(hash, this);
+        }
+
+        private com.redhat.ceylon.compiler.typechecker.model.ProducedType typeModel;
+        public com.redhat.ceylon.compiler.typechecker.model.ProducedType getTypeModel() { return typeModel; }
+        public void setTypeModel(com.redhat.ceylon.compiler.typechecker.model.ProducedType value) { typeModel = value; }
+
+        private boolean unboxed;
+        public boolean getUnboxed() { return unboxed; }
+        public void setUnboxed(boolean value) { unboxed = value; }
+
+    }
+
+    public static abstract class OperatorExpression extends Term {
+
+        public OperatorExpression(Token token) {
+            super(token);
+        }
+
+        public static final int KIND = 113;
+
+        @Override public int getNodeKind() {
+            return KIND;
+        }
+
+        @Override public void visit(Visitor visitor) {
+            if (isSkippedBy(visitor)) return;
+            try {
+                visitor.visit(this);
+            }
+            catch (Exception e) {
+                visitor.handleException(e, this);
+            }
+        }
+
+        @Override public void visitChildren(Visitor visitor) {
+            walkOperatorExpression(visitor, this);
+        }
+
+        @Override public void hashChildren(StructuralHash hash) {
+            hashOperatorExpression(hash, this);
+        }
+
+    }
+
+    public static abstract class BinaryOperatorExpression extends OperatorExpression {
+
+        public BinaryOperatorExpression(Token token) {
+            super(token);
+        }
+
+        public static final int KIND = 114;
+
+        @Override public int getNodeKind() {
+            return KIND;
+        }
+
+        @Override public void visit(Visitor visitor) {
+            if (isSkippedBy(visitor)) return;
+            try {
+                visitor.visit(this);
+            }
+            catch (Exception e) {
+                visitor.handleException(e, this);
+            }
+        }
+
+        @Override public void visitChildren(Visitor visitor) {
+            walkBinaryOperatorExpression(visitor, this);
+        }
+
+        @Override public void hashChildren(StructuralHash hash) {
+            hashBinaryOperatorExpression(hash, this);
+        }
+
+        private Term leftTerm;
+        public Term getLeftTerm() { return leftTerm; }
+        public void setLeftTerm(Term node) { leftTerm = node; connect(node); }
+
+        private Term rightTerm;
+        public Term getRightTerm() { return rightTerm; }
+        public void setRightTerm(Term node) { rightTerm = node; connect(node); }
+
+    }
+
+    public static abstract class ArithmeticOp extends BinaryOperatorExpression {
+
+        public ArithmeticOp(Token token) {
+            super(token);
+        }
+
+        public static final int KIND = 115;
+
+        @Override public int getNodeKind() {
+            return KIND;
+        }
+
+        @Override public void visit(Visitor visitor) {
+            if (isSkippedBy(visitor)) return;
+            try {
+                visitor.visit(this);
+            }
+            catch (Exception e) {
+                visitor.handleException(e, this);
+            }
+        }
+
+        @Override public void visitChildren(Visitor visitor) {
+            walkArithmeticOp(visitor, this);
+        }
+
+        @Override public void hashChildren(StructuralHash hash) {
+            hashArithmeticOp(hash, this);
+        }
+
+    }
+
+    public static class SumOp extends ArithmeticOp {
+
+        public SumOp(Token token) {
+            super(token);
+        }
+
+        public static final int KIND = 116;
+
+        @Override public int getNodeKind() {
+            return KIND;
+        }
+
+        @Override public void visit(Visitor visitor) {
+            if (isSkippedBy(visitor)) return;
+            try {
+                visitor.visit(this);
+            }
+            catch (Exception e) {
+                visitor.handleException(e, this);
+            }
+        }
+
+        @Override public void visitChildren(Visitor visitor) {
+            walkSumOp(visitor, this);
+        }
+
+        @Override public void hashChildren(StructuralHash hash) {
+            hashSumOp(hash, this);
+        }
+
+    }
+
+    public static class DifferenceOp extends ArithmeticOp {
+
+        public DifferenceOp(Token token) {
+            super(token);
+        }
+
+        public static final int KIND = 117;
+
+        @Override public int getNodeKind() {
+            return KIND;
+        }
+
+        @Override public void visit(Visitor visitor) {
+            if (isSkippedBy(visitor)) return;
+            try {
+                visitor.visit(this);
+            }
+            catch (Exception e) {
+                visitor.handleException(e, this);
+            }
+        }
+
+        @Override public void visitChildren(Visitor visitor) {
+            walkDifferenceOp(visitor, this);
+        }
+
+        @Override public void hashChildren(StructuralHash hash) {
+            hashDifferenceOp(hash, this);
+        }
+
+    }
+
+    public static class ProductOp extends ArithmeticOp {
+
+        public ProductOp(Token token) {
+            super(token);
+        }
+
+        public static final int KIND = 118;
+
+        @Override public int getNodeKind() {
+            return KIND;
+        }
+
+        @Override public void visit(Visitor visitor) {
+            if (isSkippedBy(visitor)) return;
+            try {
+                visitor.visit(this);
+            }
+            catch (Exception e) {
+                visitor.handleException(e, this);
+            }
+        }
+
+        @Override public void visitChildren(Visitor visitor) {
+            walkProductOp(visitor, this);
+        }
+
+        @Override public void hashChildren(StructuralHash hash) {
+            hashProductOp(hash, this);
+        }
+
+    }
+
+    public static class QuotientOp extends ArithmeticOp {
+
+        public QuotientOp(Token token) {
+            super(token);
+        }
+
+        public static final int KIND = 119;
+
+        @Override public int getNodeKind() {
+            return KIND;
+        }
+
+        @Override public void visit(Visitor visitor) {
+            if (isSkippedBy(visitor)) return;
+            try {
+                visitor.visit(this);
+            }
+            catch (Exception e) {
+                visitor.handleException(e, this);
+            }
+        }
+
+        @Override public void visitChildren(Visitor visitor) {
+            walkQuotientOp(visitor, this);
+        }
+
+        @Override public void hashChildren(StructuralHash hash) {
+            hashQuotientOp(hash, this);
+        }
+
+    }
+
+    public static class PowerOp extends ArithmeticOp {
+
+        public PowerOp(Token token) {
+            super(token);
+        }
+
+        public static final int KIND = 120;
+
+        @Override public int getNodeKind() {
+            return KIND;
+        }
+
+        @Override public void visit(Visitor visitor) {
+            if (isSkippedBy(visitor)) return;
+            try {
+                visitor.visit(this);
+            }
+            catch (Exception e) {
+                visitor.handleException(e, this);
+            }
+        }
+
+        @Override public void visitChildren(Visitor visitor) {
+            walkPowerOp(visitor, this);
+        }
+
+        @Override public void hashChildren(StructuralHash hash) {
+            hashPowerOp(hash, this);
+        }
+
+    }
+
+    public static class RemainderOp extends ArithmeticOp {
+
+        public RemainderOp(Token token) {
+            super(token);
+        }
+
+        public static final int KIND = 121;
+
+        @Override public int getNodeKind() {
+            return KIND;
+        }
+
+        @Override public void visit(Visitor visitor) {
+            if (isSkippedBy(visitor)) return;
+            try {
+                visitor.visit(this);
+            }
+            catch (Exception e) {
+                visitor.handleException(e, this);
+            }
+        }
+
+        @Override public void visitChildren(Visitor visitor) {
+            walkRemainderOp(visitor, this);
+        }
+
+        @Override public void hashChildren(StructuralHash hash) {
+            hashRemainderOp(hash, this);
+        }
+
+    }
+
+    public static abstract class AssignmentOp extends BinaryOperatorExpression {
+
+        public AssignmentOp(Token token) {
+            super(token);
+        }
+
+        public static final int KIND = 122;
+
+        @Override public int getNodeKind() {
+            return KIND;
+        }
+
+        @Override public void visit(Visitor visitor) {
+            if (isSkippedBy(visitor)) return;
+            try {
+                visitor.visit(this);
+            }
+            catch (Exception e) {
+                visitor.handleException(e, this);
+            }
+        }
+
+        @Override public void visitChildren(Visitor visitor) {
+            walkAssignmentOp(visitor, this);
+        }
+
+        @Override public void hashChildren(StructuralHash hash) {
+            hashAssignmentOp(hash, this);
+        }
+
+    }
+
+    public static class AssignOp extends AssignmentOp {
+
+        public AssignOp(Token token) {
+            super(token);
+        }
+
+        public static final int KIND = 123;
+
+        @Override public int getNodeKind() {
+            return KIND;
+        }
+
+        @Override public void visit(Visitor visitor) {
+            if (isSkippedBy(visitor)) return;
+            try {
+                visitor.visit(this);
+            }
+            catch (Exception e) {
+                visitor.handleException(e, this);
+            }
+        }
+
+        @Override public void visitChildren(Visitor visitor) {
+            walkAssignOp(visitor, this);
+        }
+
+        @Override public void hashChildren(StructuralHash hash) {
+            hashAssignOp(hash, this);
+        }
+
+    }
+
+    public static abstract class ArithmeticAssignmentOp extends AssignmentOp {
+
+        public ArithmeticAssignmentOp(Token token) {
+            super(token);
+        }
+
+        public static final int KIND = 124;
+
+        @Override public int getNodeKind() {
+            return KIND;
+        }
+
+        @Override public void visit(Visitor visitor) {
+            if (isSkippedBy(visitor)) return;
+            try {
+                visitor.visit(this);
+            }
+            catch (Exception e) {
+                visitor.handleException(e, this);
+            }
+        }
+
+        @Override public void visitChildren(Visitor visitor) {
+            walkArithmeticAssignmentOp(visitor, this);
+        }
+
+        @Override public void hashChildren(StructuralHash hash) {
+            hashArithmeticAssignmentOp(hash, this);
+        }
+
+    }
+
+    public static class AddAssignOp extends ArithmeticAssignmentOp {
+
+        public AddAssignOp(Token token) {
+            super(token);
+        }
+
+        public static final int KIND = 125;
+
+        @Override public int getNodeKind() {
+            return KIND;
+        }
+
+        @Override public void visit(Visitor visitor) {
+            if (isSkippedBy(visitor)) return;
+            try {
+                visitor.visit(this);
+            }
+            catch (Exception e) {
+                visitor.handleException(e, this);
+            }
+        }
+
+        @Override public void visitChildren(Visitor visitor) {
+            walkAddAssignOp(visitor, this);
+        }
+
+        @Override public void hashChildren(StructuralHash hash) {
+            hashAddAssignOp(hash, this);
+        }
+
+    }
+
+    public static class SubtractAssignOp extends ArithmeticAssignmentOp {
+
+        public SubtractAssignOp(Token token) {
+            super(token);
+        }
+
+        public static final int KIND = 126;
+
+        @Override public int getNodeKind() {
+            return KIND;
+        }
+
+        @Override public void visit(Visitor visitor) {
+            if (isSkippedBy(visitor)) return;
+            try {
+                visitor.visit(this);
+            }
+            catch (Exception e) {
+                visitor.handleException(e, this);
+            }
+        }
+
+        @Override public void visitChildren(Visitor visitor) {
+            walkSubtractAssignOp(visitor, this);
+        }
+
+        @Override public void hashChildren(StructuralHash hash) {
+            hashSubtractAssignOp(hash, this);
+        }
+
+    }
+
+    public static class MultiplyAssignOp extends ArithmeticAssignmentOp {
+
+        public MultiplyAssignOp(Token token) {
+            super(token);
+        }
+
+        public static final int KIND = 127;
+
+        @Override public int getNodeKind() {
+            return KIND;
+        }
+
+        @Override public void visit(Visitor visitor) {
+            if (isSkippedBy(visitor)) return;
+            try {
+                visitor.visit(this);
+            }
+            catch (Exception e) {
+                visitor.handleException(e, this);
+            }
+        }
+
+        @Override public void visitChildren(Visitor visitor) {
+            walkMultiplyAssignOp(visitor, this);
+        }
+
+        @Override public void hashChildren(StructuralHash hash) {
+            hashMultiplyAssignOp(hash, this);
+        }
+
+    }
+
+    public static class DivideAssignOp extends ArithmeticAssignmentOp {
+
+        public DivideAssignOp(Token token) {
+            super(token);
+        }
+
+        public static final int KIND = 128;
+
+        @Override public int getNodeKind() {
+            return KIND;
+        }
+
+        @Override public void visit(Visitor visitor) {
+            if (isSkippedBy(visitor)) return;
+            try {
+                visitor.visit(this);
+            }
+            catch (Exception e) {
+                visitor.handleException(e, this);
+            }
+        }
+
+        @Override public void visitChildren(Visitor visitor) {
+            walkDivideAssignOp(visitor, this);
+        }
+
+        @Override public void hashChildren(StructuralHash hash) {
+            hashDivideAssignOp(hash, this);
+        }
+
+    }
+
+    public static class RemainderAssignOp extends ArithmeticAssignmentOp {
+
+        public RemainderAssignOp(Token token) {
+            super(token);
+        }
+
+        public static final int KIND = 129;
+
+        @Override public int getNodeKind() {
+            return KIND;
+        }
+
+        @Override public void visit(Visitor visitor) {
+            if (isSkippedBy(visitor)) return;
+            try {
+                visitor.visit(this);
+            }
+            catch (Exception e) {
+                visitor.handleException(e, this);
+            }
+        }
+
+        @Override public void visitChildren(Visitor visitor) {
+            walkRemainderAssignOp(visitor, this);
+        }
+
+        @Override public void hashChildren(StructuralHash hash) {
+            hashRemainderAssignOp(hash, this);
+        }
+
+    }
+
+    public static abstract class BitwiseAssignmentOp extends AssignmentOp {
+
+        public BitwiseAssignmentOp(Token token) {
+            super(token);
+        }
+
+        public static final int KIND = 130;
+
+        @Override public int getNodeKind() {
+            return KIND;
+        }
+
+        @Override public void visit(Visitor visitor) {
+            if (isSkippedBy(visitor)) return;
+            try {
+                visitor.visit(this);
+            }
+            catch (Exception e) {
+                visitor.handleException(e, this);
+            }
+        }
+
+        @Override public void visitChildren(Visitor visitor) {
+            walkBitwiseAssignmentOp(visitor, this);
+        }
+
+        @Override public void hashChildren(StructuralHash hash) {
+            hashBitwiseAssignmentOp(hash, this);
+        }
+
+    }
+
+    public static class IntersectAssignOp extends BitwiseAssignmentOp {
+
+        public IntersectAssignOp(Token token) {
+            super(token);
+        }
+
+        public static final int KIND = 131;
+
+        @Override public int getNodeKind() {
+            return KIND;
+        }
+
+        @Override public void visit(Visitor visitor) {
+            if (isSkippedBy(visitor)) return;
+            try {
+                visitor.visit(this);
+            }
+            catch (Exception e) {
+                visitor.handleException(e, this);
+            }
+        }
+
+        @Override public void visitChildren(Visitor visitor) {
+            walkIntersectAssignOp(visitor, this);
+        }
+
+        @Override public void hashChildren(StructuralHash hash) {
+            hashIntersectAssignOp(hash, this);
+        }
+
+    }
+
+    public static class UnionAssignOp extends BitwiseAssignmentOp {
+
+        public UnionAssignOp(Token token) {
+            super(token);
+        }
+
+        public static final int KIND = 132;
+
+        @Override public int getNodeKind() {
+            return KIND;
+        }
+
+        @Override public void visit(Visitor visitor) {
+            if (isSkippedBy(visitor)) return;
+            try {
+                visitor.visit(this);
+            }
+            catch (Exception e) {
+                visitor.handleException(e, this);
+            }
+        }
+
+        @Override public void visitChildren(Visitor visitor) {
+            walkUnionAssignOp(visitor, this);
+        }
+
+        @Override public void hashChildren(StructuralHash hash) {
+            hashUnionAssignOp(hash, this);
+        }
+
+    }
+
+    public static class XorAssignOp extends BitwiseAssignmentOp {
+
+        public XorAssignOp(Token token) {
+            super(token);
+        }
+
+        public static final int KIND = 133;
+
+        @Override public int getNodeKind() {
+            return KIND;
+        }
+
+        @Override public void visit(Visitor visitor) {
+            if (isSkippedBy(visitor)) return;
+            try {
+                visitor.visit(this);
+            }
+            catch (Exception e) {
+                visitor.handleException(e, this);
+            }
+        }
+
+        @Override public void visitChildren(Visitor visitor) {
+            walkXorAssignOp(visitor, this);
+        }
+
+        @Override public void hashChildren(StructuralHash hash) {
+            hashXorAssignOp(hash, this);
+        }
+
+    }
+
+    public static class ComplementAssignOp extends BitwiseAssignmentOp {
+
+        public ComplementAssignOp(Token token) {
+            super(token);
+        }
+
+        public static final int KIND = 134;
+
+        @Override public int getNodeKind() {
+            return KIND;
+        }
+
+        @Override public void visit(Visitor visitor) {
+            if (isSkippedBy(visitor)) return;
+            try {
+                visitor.visit(this);
+            }
+            catch (Exception e) {
+                visitor.handleException(e, this);
+            }
+        }
+
+        @Override public void visitChildren(Visitor visitor) {
+            walkComplementAssignOp(visitor, this);
+        }
+
+        @Override public void hashChildren(StructuralHash hash) {
+            hashComplementAssignOp(hash, this);
+        }
+
+    }
+
+    public static abstract class LogicalAssignmentOp extends AssignmentOp {
+
+        public LogicalAssignmentOp(Token token) {
+            super(token);
+        }
+
+        public static final int KIND = 135;
+
+        @Override public int getNodeKind() {
+            return KIND;
+        }
+
+        @Override public void visit(Visitor visitor) {
+            if (isSkippedBy(visitor)) return;
+            try {
+                visitor.visit(this);
+            }
+            catch (Exception e) {
+                visitor.handleException(e, this);
+            }
+        }
+
+        @Override public void visitChildren(Visitor visitor) {
+            walkLogicalAssignmentOp(visitor, this);
+        }
+
+        @Override public void hashChildren(StructuralHash hash) {
+            hashLogicalAssignmentOp(hash, this);
+        }
+
+    }
+
+    public static class AndAssignOp extends LogicalAssignmentOp {
+
+        public AndAssignOp(Token token) {
+            super(token);
+        }
+
+        public static final int KIND = 136;
+
+        @Override public int getNodeKind() {
+            return KIND;
+        }
+
+        @Override public void visit(Visitor visitor) {
+            if (isSkippedBy(visitor)) return;
+            try {
+                visitor.visit(this);
+            }
+            catch (Exception e) {
+                visitor.handleException(e, this);
+            }
+        }
+
+        @Override public void visitChildren(Visitor visitor) {
+            walkAndAssignOp(visitor, this);
+        }
+
+        @Override public void hashChildren(StructuralHash hash) {
+            hashAndAssignOp(hash, this);
+        }
+
+    }
+
+    public static class OrAssignOp extends LogicalAssignmentOp {
+
+        public OrAssignOp(Token token) {
+            super(token);
+        }
+
+        public static final int KIND = 137;
+
+        @Override public int getNodeKind() {
+            return KIND;
+        }
+
+        @Override public void visit(Visitor visitor) {
+            if (isSkippedBy(visitor)) return;
+            try {
+                visitor.visit(this);
+            }
+            catch (Exception e) {
+                visitor.handleException(e, this);
+            }
+        }
+
+        @Override public void visitChildren(Visitor visitor) {
+            walkOrAssignOp(visitor, this);
+        }
+
+        @Override public void hashChildren(StructuralHash hash) {
+            hashOrAssignOp(hash, this);
+        }
+
+    }
+
+    public static abstract class LogicalOp extends BinaryOperatorExpression {
+
+        public LogicalOp(Token token) {
+            super(token);
+        }
+
+        public static final int KIND = 138;
+
+        @Override public int getNodeKind() {
+            return KIND;
+        }
+
+        @Override public void visit(Visitor visitor) {
+            if (isSkippedBy(visitor)) return;
+            try {
+                visitor.visit(this);
+            }
+            catch (Exception e) {
+                visitor.handleException(e, this);
+            }
+        }
+
+        @Override public void visitChildren(Visitor visitor) {
+            walkLogicalOp(visitor, this);
+        }
+
+        @Override public void hashChildren(StructuralHash hash) {
+            hashLogicalOp(hash, this);
+        }
+
+    }
+
+    public static class AndOp extends LogicalOp {
+
+        public AndOp(Token token) {
+            super(token);
+        }
+
+        public static final int KIND = 139;
+
+        @Override public int getNodeKind() {
+            return KIND;
+        }
+
+        @Override public void visit(Visitor visitor) {
+            if (isSkippedBy(visitor)) return;
+            try {
+                visitor.visit(this);
+            }
+            catch (Exception e) {
+                visitor.handleException(e, this);
+            }
+        }
+
+        @Override public void visitChildren(Visitor visitor) {
+            walkAndOp(visitor, this);
+        }
+
+        @Override public void hashChildren(StructuralHash hash) {
+            hashAndOp(hash, this);
+        }
+
+    }
+
+    public static class OrOp extends LogicalOp {
+
+        public OrOp(Token token) {
+            super(token);
+        }
+
+        public static final int KIND = 140;
+
+        @Override public int getNodeKind() {
+            return KIND;
+        }
+
+        @Override public void visit(Visitor visitor) {
+            if (isSkippedBy(visitor)) return;
+            try {
+                visitor.visit(this);
+            }
+            catch (Exception e) {
+                visitor.handleException(e, this);
+            }
+        }
+
+        @Override public void visitChildren(Visitor visitor) {
+            walkOrOp(visitor, this);
+        }
+
+        @Override public void hashChildren(StructuralHash hash) {
+            hashOrOp(hash, this);
+        }
+
+    }
+
+    public static abstract class BitwiseOp extends BinaryOperatorExpression {
+
+        public BitwiseOp(Token token) {
+            super(token);
+        }
+
+        public static final int KIND = 141;
+
+        @Override public int getNodeKind() {
+            return KIND;
+        }
+
+        @Override public void visit(Visitor visitor) {
+            if (isSkippedBy(visitor)) return;
+            try {
+                visitor.visit(this);
+            }
+            catch (Exception e) {
+                visitor.handleException(e, this);
+            }
+        }
+
+        @Override public void visitChildren(Visitor visitor) {
+            walkBitwiseOp(visitor, this);
+        }
+
+        @Override public void hashChildren(StructuralHash hash) {
+            hashBitwiseOp(hash, this);
+        }
+
+    }
+
+    public static class IntersectionOp extends BitwiseOp {
+
+        public IntersectionOp(Token token) {
+            super(token);
+        }
+
+        public static final int KIND = 142;
+
+        @Override public int getNodeKind() {
+            return KIND;
+        }
+
+        @Override public void visit(Visitor visitor) {
+            if (isSkippedBy(visitor)) return;
+            try {
+                visitor.visit(this);
+            }
+            catch (Exception e) {
+                visitor.handleException(e, this);
+            }
+        }
+
+        @Override public void visitChildren(Visitor visitor) {
+            walkIntersectionOp(visitor, this);
+        }
+
+        @Override public void hashChildren(StructuralHash hash) {
+            hashIntersectionOp(hash, this);
+        }
+
+    }
+
+    public static class UnionOp extends BitwiseOp {
+
+        public UnionOp(Token token) {
+            super(token);
+        }
+
+        public static final int KIND = 143;
+
+        @Override public int getNodeKind() {
+            return KIND;
+        }
+
+        @Override public void visit(Visitor visitor) {
+            if (isSkippedBy(visitor)) return;
+            try {
+                visitor.visit(this);
+            }
+            catch (Exception e) {
+                visitor.handleException(e, this);
+            }
+        }
+
+        @Override public void visitChildren(Visitor visitor) {
+            walkUnionOp(visitor, this);
+        }
+
+        @Override public void hashChildren(StructuralHash hash) {
+            hashUnionOp(hash, this);
+        }
+
+    }
+
+    public static class XorOp extends BitwiseOp {
+
+        public XorOp(Token token) {
+            super(token);
+        }
+
+        public static final int KIND = 144;
+
+        @Override public int getNodeKind() {
+            return KIND;
+        }
+
+        @Override public void visit(Visitor visitor) {
+            if (isSkippedBy(visitor)) return;
+            try {
+                visitor.visit(this);
+            }
+            catch (Exception e) {
+                visitor.handleException(e, this);
+            }
+        }
+
+        @Override public void visitChildren(Visitor visitor) {
+            walkXorOp(visitor, this);
+        }
+
+        @Override public void hashChildren(StructuralHash hash) {
+            hashXorOp(hash, this);
+        }
+
+    }
+
+    public static class ComplementOp extends BitwiseOp {
+
+        public ComplementOp(Token token) {
+            super(token);
+        }
+
+        public static final int KIND = 145;
+
+        @Override public int getNodeKind() {
+            return KIND;
+        }
+
+        @Override public void visit(Visitor visitor) {
+            if (isSkippedBy(visitor)) return;
+            try {
+                visitor.visit(this);
+            }
+            catch (Exception e) {
+                visitor.handleException(e, this);
+            }
+        }
+
+        @Override public void visitChildren(Visitor visitor) {
+            walkComplementOp(visitor, this);
+        }
+
+        @Override public void hashChildren(StructuralHash hash) {
+            hashComplementOp(hash, this);
+        }
+
+    }
+
+    public static abstract class EqualityOp extends BinaryOperatorExpression {
+
+        public EqualityOp(Token token) {
+            super(token);
+        }
+
+        public static final int KIND = 146;
+
+        @Override public int getNodeKind() {
+            return KIND;
+        }
+
+        @Override public void visit(Visitor visitor) {
+            if (isSkippedBy(visitor)) return;
+            try {
+                visitor.visit(this);
+            }
+            catch (Exception e) {
+                visitor.handleException(e, this);
+            }
+        }
+
+        @Override public void visitChildren(Visitor visitor) {
+            walkEqualityOp(visitor, this);
+        }
+
+        @Override public void hashChildren(StructuralHash hash) {
+            hashEqualityOp(hash, this);
+        }
+
+    }
+
+    public static class EqualOp extends EqualityOp {
+
+        public EqualOp(Token token) {
+            super(token);
+        }
+
+        public static final int KIND = 147;
+
+        @Override public int getNodeKind() {
+            return KIND;
+        }
+
+        @Override public void visit(Visitor visitor) {
+            if (isSkippedBy(visitor)) return;
+            try {
+                visitor.visit(this);
+            }
+            catch (Exception e) {
+                visitor.handleException(e, this);
+            }
+        }
+
+        @Override public void visitChildren(Visitor visitor) {
+            walkEqualOp(visitor, this);
+        }
+
+        @Override public void hashChildren(StructuralHash hash) {
+            hashEqualOp(hash, this);
+        }
+
+    }
+
+    public static class NotEqualOp extends EqualityOp {
+
+        public NotEqualOp(Token token) {
+            super(token);
+        }
+
+        public static final int KIND = 148;
+
+        @Override public int getNodeKind() {
+            return KIND;
+        }
+
+        @Override public void visit(Visitor visitor) {
+            if (isSkippedBy(visitor)) return;
+            try {
+                visitor.visit(this);
+            }
+            catch (Exception e) {
+                visitor.handleException(e, this);
+            }
+        }
+
+        @Override public void visitChildren(Visitor visitor) {
+            walkNotEqualOp(visitor, this);
+        }
+
+        @Override public void hashChildren(StructuralHash hash) {
+            hashNotEqualOp(hash, this);
+        }
+
+    }
+
+    public static abstract class ComparisonOp extends BinaryOperatorExpression {
+
+        public ComparisonOp(Token token) {
+            super(token);
+        }
+
+        public static final int KIND = 149;
+
+        @Override public int getNodeKind() {
+            return KIND;
+        }
+
+        @Override public void visit(Visitor visitor) {
+            if (isSkippedBy(visitor)) return;
+            try {
+                visitor.visit(this);
+            }
+            catch (Exception e) {
+                visitor.handleException(e, this);
+            }
+        }
+
+        @Override public void visitChildren(Visitor visitor) {
+            walkComparisonOp(visitor, this);
+        }
+
+        @Override public void hashChildren(StructuralHash hash) {
+            hashComparisonOp(hash, this);
+        }
+
+    }
+
+    public static class LargerOp extends ComparisonOp {
+
+        public LargerOp(Token token) {
+            super(token);
+        }
+
+        public static final int KIND = 150;
+
+        @Override public int getNodeKind() {
+            return KIND;
+        }
+
+        @Override public void visit(Visitor visitor) {
+            if (isSkippedBy(visitor)) return;
+            try {
+                visitor.visit(this);
+            }
+            catch (Exception e) {
+                visitor.handleException(e, this);
+            }
+        }
+
+        @Override public void visitChildren(Visitor visitor) {
+            walkLargerOp(visitor, this);
+        }
+
+        @Override public void hashChildren(StructuralHash hash) {
+            hashLargerOp(hash, this);
+        }
+
+    }
+
+    public static class SmallerOp extends ComparisonOp {
+
+        public SmallerOp(Token token) {
+            super(token);
+        }
+
+        public static final int KIND = 151;
+
+        @Override public int getNodeKind() {
+            return KIND;
+        }
+
+        @Override public void visit(Visitor visitor) {
+            if (isSkippedBy(visitor)) return;
+            try {
+                visitor.visit(this);
+            }
+            catch (Exception e) {
+                visitor.handleException(e, this);
+            }
+        }
+
+        @Override public void visitChildren(Visitor visitor) {
+            walkSmallerOp(visitor, this);
+        }
+
+        @Override public void hashChildren(StructuralHash hash) {
+            hashSmallerOp(hash, this);
+        }
+
+    }
+
+    public static class LargeAsOp extends ComparisonOp {
+
+        public LargeAsOp(Token token) {
+            super(token);
+        }
+
+        public static final int KIND = 152;
+
+        @Override public int getNodeKind() {
+            return KIND;
+        }
+
+        @Override public void visit(Visitor visitor) {
+            if (isSkippedBy(visitor)) return;
+            try {
+                visitor.visit(this);
+            }
+            catch (Exception e) {
+                visitor.handleException(e, this);
+            }
+        }
+
+        @Override public void visitChildren(Visitor visitor) {
+            walkLargeAsOp(visitor, this);
+        }
+
+        @Override public void hashChildren(StructuralHash hash) {
+            hashLargeAsOp(hash, this);
+        }
+
+    }
+
+    public static class SmallAsOp extends ComparisonOp {
+
+        public SmallAsOp(Token token) {
+            super(token);
+        }
+
+        public static final int KIND = 153;
+
+        @Override public int getNodeKind() {
+            return KIND;
+        }
+
+        @Override public void visit(Visitor visitor) {
+            if (isSkippedBy(visitor)) return;
+            try {
+                visitor.visit(this);
+            }
+            catch (Exception e) {
+                visitor.handleException(e, this);
+            }
+        }
+
+        @Override public void visitChildren(Visitor visitor) {
+            walkSmallAsOp(visitor, this);
+        }
+
+        @Override public void hashChildren(StructuralHash hash) {
+            hashSmallAsOp(hash, this);
+        }
+
+    }
+
+    public static class DefaultOp extends BinaryOperatorExpression {
+
+        public DefaultOp(Token token) {
+            super(token);
+        }
+
+        public static final int KIND = 154;
+
+        @Override public int getNodeKind() {
+            return KIND;
+        }
+
+        @Override public void visit(Visitor visitor) {
+            if (isSkippedBy(visitor)) return;
+            try {
+                visitor.visit(this);
+            }
+            catch (Exception e) {
+                visitor.handleException(e, this);
+            }
+        }
+
+        @Override public void visitChildren(Visitor visitor) {
+            walkDefaultOp(visitor, this);
+        }
+
+        @Override public void hashChildren(StructuralHash hash) {
+            hashDefaultOp(hash, this);
+        }
+
+    }
+
+    public static class ThenOp extends BinaryOperatorExpression {
+
+        public ThenOp(Token token) {
+            super(token);
+        }
+
+        public static final int KIND = 155;
+
+        @Override public int getNodeKind() {
+            return KIND;
+        }
+
+        @Override public void visit(Visitor visitor) {
+            if (isSkippedBy(visitor)) return;
+            try {
+                visitor.visit(this);
+            }
+            catch (Exception e) {
+                visitor.handleException(e, this);
+            }
+        }
+
+        @Override public void visitChildren(Visitor visitor) {
+            walkThenOp(visitor, this);
+        }
+
+        @Override public void hashChildren(StructuralHash hash) {
+            hashThenOp(hash, this);
+        }
+
+    }
+
+    public static class IdenticalOp extends BinaryOperatorExpression {
+
+        public IdenticalOp(Token token) {
+            super(token);
+        }
+
+        public static final int KIND = 156;
+
+        @Override public int getNodeKind() {
+            return KIND;
+        }
+
+        @Override public void visit(Visitor visitor) {
+            if (isSkippedBy(visitor)) return;
+            try {
+                visitor.visit(this);
+            }
+            catch (Exception e) {
+                visitor.handleException(e, this);
+            }
+        }
+
+        @Override public void visitChildren(Visitor visitor) {
+            walkIdenticalOp(visitor, this);
+        }
+
+        @Override public void hashChildren(StructuralHash hash) {
+            hashIdenticalOp(hash, this);
+        }
+
+    }
+
+    public static class EntryOp extends BinaryOperatorExpression {
+
+        public EntryOp(Token token) {
+            super(token);
+        }
+
+        public static final int KIND = 157;
+
+        @Override public int getNodeKind() {
+            return KIND;
+        }
+
+        @Override public void visit(Visitor visitor) {
+            if (isSkippedBy(visitor)) return;
+            try {
+                visitor.visit(this);
+            }
+            catch (Exception e) {
+                visitor.handleException(e, this);
+            }
+        }
+
+        @Override public void visitChildren(Visitor visitor) {
+            walkEntryOp(visitor, this);
+        }
+
+        @Override public void hashChildren(StructuralHash hash) {
+            hashEntryOp(hash, this);
+        }
+
+    }
+
+    public static class RangeOp extends BinaryOperatorExpression {
+
+        public RangeOp(Token token) {
+            super(token);
+        }
+
+        public static final int KIND = 158;
+
+        @Override public int getNodeKind() {
+            return KIND;
+        }
+
+        @Override public void visit(Visitor visitor) {
+            if (isSkippedBy(visitor)) return;
+            try {
+                visitor.visit(this);
+            }
+            catch (Exception e) {
+                visitor.handleException(e, this);
+            }
+        }
+
+        @Override public void visitChildren(Visitor visitor) {
+            walkRangeOp(visitor, this);
+        }
+
+        @Override public void hashChildren(StructuralHash hash) {
+            hashRangeOp(hash, this);
+        }
+
+    }
+
+    public static class CompareOp extends BinaryOperatorExpression {
+
+        public CompareOp(Token token) {
+            super(token);
+        }
+
+        public static final int KIND = 159;
+
+        @Override public int getNodeKind() {
+            return KIND;
+        }
+
+        @Override public void visit(Visitor visitor) {
+            if (isSkippedBy(visitor)) return;
+            try {
+                visitor.visit(this);
+            }
+            catch (Exception e) {
+                visitor.handleException(e, this);
+            }
+        }
+
+        @Override public void visitChildren(Visitor visitor) {
+            walkCompareOp(visitor, this);
+        }
+
+        @Override public void hashChildren(StructuralHash hash) {
+            hashCompareOp(hash, this);
+        }
+
+    }
+
+    public static class InOp extends BinaryOperatorExpression {
+
+        public InOp(Token token) {
+            super(token);
+        }
+
+        public static final int KIND = 160;
+
+        @Override public int getNodeKind() {
+            return KIND;
+        }
+
+        @Override public void visit(Visitor visitor) {
+            if (isSkippedBy(visitor)) return;
+            try {
+                visitor.visit(this);
+            }
+            catch (Exception e) {
+                visitor.handleException(e, this);
+            }
+        }
+
+        @Override public void visitChildren(Visitor visitor) {
+            walkInOp(visitor, this);
+        }
+
+        @Override public void hashChildren(StructuralHash hash) {
+            hashInOp(hash, this);
+        }
+
+    }
+
+    public static abstract class UnaryOperatorExpression extends OperatorExpression {
+
+        public UnaryOperatorExpression(Token token) {
+            super(token);
+        }
+
+        public static final int KIND = 161;
+
+        @Override public int getNodeKind() {
+            return KIND;
+        }
+
+        @Override public void visit(Visitor visitor) {
+            if (isSkippedBy(visitor)) return;
+            try {
+                visitor.visit(this);
+            }
+            catch (Exception e) {
+                visitor.handleException(e, this);
+            }
+        }
+
+        @Override public void visitChildren(Visitor visitor) {
+            walkUnaryOperatorExpression(visitor, this);
+        }
+
+        @Override public void hashChildren(StructuralHash hash) {
+            hashUnaryOperatorExpression(hash, this);
+        }
+
+        private Term term;
+        public Term getTerm() { return term; }
+        public void setTerm(Term node) { term = node; connect(node); }
+
+    }
+
+    public static class NotOp extends UnaryOperatorExpression {
+
+        public NotOp(Token token) {
+            super(token);
+        }
+
+        public static final int KIND = 162;
+
+        @Override public int getNodeKind() {
+            return KIND;
+        }
+
+        @Override public void visit(Visitor visitor) {
+            if (isSkippedBy(visitor)) return;
+            try {
+                visitor.visit(this);
+            }
+            catch (Exception e) {
+                visitor.handleException(e, this);
+            }
+        }
+
+        @Override public void visitChildren(Visitor visitor) {
+            walkNotOp(visitor, this);
+        }
+
+        @Override public void hashChildren(StructuralHash hash) {
+            hashNotOp(hash, this);
+        }
+
+    }
+
+    public static class Exists extends UnaryOperatorExpression {
+
+        public Exists(Token token) {
+            super(token);
+        }
+
+        public static final int KIND = 163;
+
+        @Override public int getNodeKind() {
+            return KIND;
+        }
+
+        @Override public void visit(Visitor visitor) {
+            if (isSkippedBy(visitor)) return;
+            try {
+                visitor.visit(this);
+            }
+            catch (Exception e) {
+                visitor.handleException(e, this);
+            }
+        }
+
+        @Override public void visitChildren(Visitor visitor) {
+            walkExists(visitor, this);
+        }
+
+        @Override public void hashChildren(StructuralHash hash) {
+            hashExists(hash, this);
+        }
+
+    }
+
+    public static class Nonempty extends UnaryOperatorExpression {
+
+        public Nonempty(Token token) {
+            super(token);
+        }
+
+        public static final int KIND = 164;
+
+        @Override public int getNodeKind() {
+            return KIND;
+        }
+
+        @Override public void visit(Visitor visitor) {
+            if (isSkippedBy(visitor)) return;
+            try {
+                visitor.visit(this);
+            }
+            catch (Exception e) {
+                visitor.handleException(e, this);
+            }
+        }
+
+        @Override public void visitChildren(Visitor visitor) {
+            walkNonempty(visitor, this);
+        }
+
+        @Override public void hashChildren(StructuralHash hash) {
+            hashNonempty(hash, this);
+        }
+
+    }
+
+    public static class FlipOp extends UnaryOperatorExpression {
+
+        public FlipOp(Token token) {
+            super(token);
+        }
+
+        public static final int KIND = 165;
+
+        @Override public int getNodeKind() {
+            return KIND;
+        }
+
+        @Override public void visit(Visitor visitor) {
+            if (isSkippedBy(visitor)) return;
+            try {
+                visitor.visit(this);
+            }
+            catch (Exception e) {
+                visitor.handleException(e, this);
+            }
+        }
+
+        @Override public void visitChildren(Visitor visitor) {
+            walkFlipOp(visitor, this);
+        }
+
+        @Override public void hashChildren(StructuralHash hash) {
+            hashFlipOp(hash, this);
+        }
+
+    }
+
+    public static class NegativeOp extends UnaryOperatorExpression {
+
+        public NegativeOp(Token token) {
+            super(token);
+        }
+
+        public static final int KIND = 166;
+
+        @Override public int getNodeKind() {
+            return KIND;
+        }
+
+        @Override public void visit(Visitor visitor) {
+            if (isSkippedBy(visitor)) return;
+            try {
+                visitor.visit(this);
+            }
+            catch (Exception e) {
+                visitor.handleException(e, this);
+            }
+        }
+
+        @Override public void visitChildren(Visitor visitor) {
+            walkNegativeOp(visitor, this);
+        }
+
+        @Override public void hashChildren(StructuralHash hash) {
+            hashNegativeOp(hash, this);
+        }
+
+    }
+
+    public static class PositiveOp extends UnaryOperatorExpression {
+
+        public PositiveOp(Token token) {
+            super(token);
+        }
+
+        public static final int KIND = 167;
+
+        @Override public int getNodeKind() {
+            return KIND;
+        }
+
+        @Override public void visit(Visitor visitor) {
+            if (isSkippedBy(visitor)) return;
+            try {
+                visitor.visit(this);
+            }
+            catch (Exception e) {
+                visitor.handleException(e, this);
+            }
+        }
+
+        @Override public void visitChildren(Visitor visitor) {
+            walkPositiveOp(visitor, this);
+        }
+
+        @Override public void hashChildren(StructuralHash hash) {
+            hashPositiveOp(hash, this);
+        }
+
+    }
+
+    public static abstract class TypeOperatorExpression extends UnaryOperatorExpression {
+
+        public TypeOperatorExpression(Token token) {
+            super(token);
+        }
+
+        public static final int KIND = 168;
+
+        @Override public int getNodeKind() {
+            return KIND;
+        }
+
+        @Override public void visit(Visitor visitor) {
+            if (isSkippedBy(visitor)) return;
+            try {
+                visitor.visit(this);
+            }
+            catch (Exception e) {
+                visitor.handleException(e, this);
+            }
+        }
+
+        @Override public void visitChildren(Visitor visitor) {
+            walkTypeOperatorExpression(visitor, this);
+        }
+
+        @Override public void hashChildren(StructuralHash hash) {
+            hashTypeOperatorExpression(hash, this);
+        }
+
+        private Type type;
+        public Type getType() { return type; }
+        public void setType(Type node) { type = node; connect(node); }
+
+    }
+
+    public static class IsOp extends TypeOperatorExpression {
+
+        public IsOp(Token token) {
+            super(token);
+        }
+
+        public static final int KIND = 169;
+
+        @Override public int getNodeKind() {
+            return KIND;
+        }
+
+        @Override public void visit(Visitor visitor) {
+            if (isSkippedBy(visitor)) return;
+            try {
+                visitor.visit(this);
+            }
+            catch (Exception e) {
+                visitor.handleException(e, this);
+            }
+        }
+
+        @Override public void visitChildren(Visitor visitor) {
+            walkIsOp(visitor, this);
+        }
+
+        @Override public void hashChildren(StructuralHash hash) {
+            hashIsOp(hash, this);
+        }
+
+    }
+
+    public static class Satisfies extends TypeOperatorExpression {
+
+        public Satisfies(Token token) {
+            super(token);
+        }
+
+        public static final int KIND = 170;
+
+        @Override public int getNodeKind() {
+            return KIND;
+        }
+
+        @Override public void visit(Visitor visitor) {
+            if (isSkippedBy(visitor)) return;
+            try {
+                visitor.visit(this);
+            }
+            catch (Exception e) {
+                visitor.handleException(e, this);
+            }
+        }
+
+        @Override public void visitChildren(Visitor visitor) {
+            walkSatisfies(visitor, this);
+        }
+
+        @Override public void hashChildren(StructuralHash hash) {
+            hashSatisfies(hash, this);
+        }
+
+    }
+
+    public static class Extends extends TypeOperatorExpression {
+
+        public Extends(Token token) {
+            super(token);
+        }
+
+        public static final int KIND = 171;
+
+        @Override public int getNodeKind() {
+            return KIND;
+        }
+
+        @Override public void visit(Visitor visitor) {
+            if (isSkippedBy(visitor)) return;
+            try {
+                visitor.visit(this);
+            }
+            catch (Exception e) {
+                visitor.handleException(e, this);
+            }
+        }
+
+        @Override public void visitChildren(Visitor visitor) {
+            walkExtends(visitor, this);
+        }
+
+        @Override public void hashChildren(StructuralHash hash) {
+            hashExtends(hash, this);
+        }
+
+    }
+
+    public static abstract class PrefixOperatorExpression extends UnaryOperatorExpression {
+
+        public PrefixOperatorExpression(Token token) {
+            super(token);
+        }
+
+        public static final int KIND = 172;
+
+        @Override public int getNodeKind() {
+            return KIND;
+        }
+
+        @Override public void visit(Visitor visitor) {
+            if (isSkippedBy(visitor)) return;
+            try {
+                visitor.visit(this);
+            }
+            catch (Exception e) {
+                visitor.handleException(e, this);
+            }
+        }
+
+        @Override public void visitChildren(Visitor visitor) {
+            walkPrefixOperatorExpression(visitor, this);
+        }
+
+        @Override public void hashChildren(StructuralHash hash) {
+            hashPrefixOperatorExpression(hash, this);
+        }
+
+    }
+
+    public static class IncrementOp extends PrefixOperatorExpression {
+
+        public IncrementOp(Token token) {
+            super(token);
+        }
+
+        public static final int KIND = 173;
+
+        @Override public int getNodeKind() {
+            return KIND;
+        }
+
+        @Override public void visit(Visitor visitor) {
+            if (isSkippedBy(visitor)) return;
+            try {
+                visitor.visit(this);
+            }
+            catch (Exception e) {
+                visitor.handleException(e, this);
+            }
+        }
+
+        @Override public void visitChildren(Visitor visitor) {
+            walkIncrementOp(visitor, this);
+        }
+
+        @Override public void hashChildren(StructuralHash hash) {
+            hashIncrementOp(hash, this);
+        }
+
+    }
+
+    public static class DecrementOp extends PrefixOperatorExpression {
+
+        public DecrementOp(Token token) {
+            super(token);
+        }
+
+        public static final int KIND = 174;
+
+        @Override public int getNodeKind() {
+            return KIND;
+        }
+
+        @Override public void visit(Visitor visitor) {
+            if (isSkippedBy(visitor)) return;
+            try {
+                visitor.visit(this);
+            }
+            catch (Exception e) {
+                visitor.handleException(e, this);
+            }
+        }
+
+        @Override public void visitChildren(Visitor visitor) {
+            walkDecrementOp(visitor, this);
+        }
+
+        @Override public void hashChildren(StructuralHash hash) {
+            hashDecrementOp(hash, this);
+        }
+
+    }
+
+    /**
+     * A postfix increment or decrement expression.
+     */
+    public static abstract class PostfixOperatorExpression extends UnaryOperatorExpression {
+
+        public PostfixOperatorExpression(Token token) {
+            super(token);
+        }
+
+        public static final int KIND = 175;
+
+        @Override public int getNodeKind() {
+            return KIND;
+        }
+
+        @Override public void visit(Visitor visitor) {
+            if (isSkippedBy(visitor)) return;
+            try {
+                visitor.visit(this);
+            }
+            catch (Exception e) {
+                visitor.handleException(e, this);
+            }
+        }
+
+        @Override public void visitChildren(Visitor visitor) {
+            walkPostfixOperatorExpression(visitor, this);
+        }
+
+        @Override public void hashChildren(StructuralHash hash) {
+            hashPostfixOperatorExpression(hash, this);
+        }
+
+    }
+
+    public static class PostfixIncrementOp extends PostfixOperatorExpression {
+
+        public PostfixIncrementOp(Token token) {
+            super(token);
+        }
+
+        public static final int KIND = 176;
+
+        @Override public int getNodeKind() {
+            return KIND;
+        }
+
+        @Override public void visit(Visitor visitor) {
+            if (isSkippedBy(visitor)) return;
+            try {
+                visitor.visit(this);
+            }
+            catch (Exception e) {
+                visitor.handleException(e, this);
+            }
+        }
+
+        @Override public void visitChildren(Visitor visitor) {
+            walkPostfixIncrementOp(visitor, this);
+        }
+
+        @Override public void hashChildren(StructuralHash hash) {
+            hashPostfixIncrementOp(hash, this);
+        }
+
+    }
+
+    public static class PostfixDecrementOp extends PostfixOperatorExpression {
+
+        public PostfixDecrementOp(Token token) {
+            super(token);
+        }
+
+        public static final int KIND = 177;
+
+        @Override public int getNodeKind() {
+            return KIND;
+        }
+
+        @Override public void visit(Visitor visitor) {
+            if (isSkippedBy(visitor)) return;
+            try {
+                visitor.visit(this);
+            }
+            catch (Exception e) {
+                visitor.handleException(e, this);
+            }
+        }
+
+        @Override public void visitChildren(Visitor visitor) {
+            walkPostfixDecrementOp(visitor, this);
+        }
+
+        @Override public void hashChildren(StructuralHash hash) {
+            hashPostfixDecrementOp(hash, this);
+        }
+
+    }
+
+    /**
+     * A parenthesized list of expressions.
+     */
+    public static class ExpressionList extends Node {
+
+        public ExpressionList(Token token) {
+            super(token);
+        }
+
+        public static final int KIND = 178;
+
+        @Override public int getNodeKind() {
+            return KIND;
+        }
+
+        @Override public void visit(Visitor visitor) {
+            if (isSkippedBy(visitor)) return;
+            try {
+                visitor.visit(this);
+            }
+            catch (Exception e) {
+                visitor.handleException(e, this);
+            }
+        }
+
+        @Override public void visitChildren(Visitor visitor) {
+            walkExpressionList(visitor, this);
+        }
+
+        @Override public void hashChildren(StructuralHash hash) {
+            hashExpressionList(hash, this);
+        }
+
+        private List<Expression> expressions = new ArrayList<Expression>();
+        public List<Expression> getExpressions() { return expressions; }
+        public void addExpression(Expression node) { expressions.add(node); connect(node); }
+
+    }
+
+    /**
+     * An expression.
+     */
+    public static class Expression extends Atom {
+
+        public Expression(Token token) {
+            super(token);
+        }
+
+        public static final int KIND = 179;
+
+        @Override public int getNodeKind() {
+            return KIND;
+        }
+
+        @Override public void visit(Visitor visitor) {
+            if (isSkippedBy(visitor)) return;
+            try {
+                visitor.visit(this);
+            }
+            catch (Exception e) {
+                visitor.handleException(e, this);
+            }
+        }
+
+        @Override public void visitChildren(Visitor visitor) {
+            walkExpression(visitor, this);
+        }
+
+        @Override public void hashChildren(StructuralHash hash) {
+            hashExpression(hash, this);
+        }
+
+        private Term term;
+        public Term getTerm() { return term; }
+        public void setTerm(Term node) { term = node; connect(node); }
+
+    }
+
+    /**
+     * The receiver of a member reference or invocation expression.
+     */
+    public static abstract class Primary extends Term {
+
+        public Primary(Token token) {
+            super(token);
+        }
+
+        public static final int KIND = 180;
+
+        @Override public int getNodeKind() {
+            return KIND;
+        }
+
+        @Override public void visit(Visitor visitor) {
+            if (isSkippedBy(visitor)) return;
+            try {
+                visitor.visit(this);
+            }
+            catch (Exception e) {
+                visitor.handleException(e, this);
+            }
+        }
+
+        @Override public void visitChildren(Visitor visitor) {
+            walkPrimary(visitor, this);
+        }
+
+        @Override public void hashChildren(StructuralHash hash) {
+            hashPrimary(hash, this);
+        }
+
+    }
+
+    public static abstract class PostfixExpression extends Primary {
+
+        public PostfixExpression(Token token) {
+            super(token);
+        }
+
+        public static final int KIND = 181;
+
+        @Override public int getNodeKind() {
+            return KIND;
+        }
+
+        @Override public void visit(Visitor visitor) {
+            if (isSkippedBy(visitor)) return;
+            try {
+                visitor.visit(this);
+            }
+            catch (Exception e) {
+                visitor.handleException(e, this);
+            }
+        }
+
+        @Override public void visitChildren(Visitor visitor) {
+            walkPostfixExpression(visitor, this);
+        }
+
+        @Override public void hashChildren(StructuralHash hash) {
+            hashPostfixExpression(hash, this);
+        }
+
+        private Primary primary;
+        public Primary getPrimary() { return primary; }
+        public void setPrimary(Primary node) { primary = node; connect(node); }
+
+    }
+
+    /**
+     * An invocation expression. Note that in the special case of 
+inline callable arguments, there may be more than one
+argument list.
+     */
+    public static class InvocationExpression extends PostfixExpression {
+
+        public InvocationExpression(Token token) {
+            super(token);
+        }
+
+        public static final int KIND = 182;
+
+        @Override public int getNodeKind() {
+            return KIND;
+        }
+
+        @Override public void visit(Visitor visitor) {
+            if (isSkippedBy(visitor)) return;
+            try {
+                visitor.visit(this);
+            }
+            catch (Exception e) {
+                visitor.handleException(e, this);
+            }
+        }
+
+        @Override public void visitChildren(Visitor visitor) {
+            walkInvocationExpression(visitor, this);
+        }
+
+        @Override public void hashChildren(StructuralHash hash) {
+            hashInvocationExpression(hash, this);
+        }
+
+        private PositionalArgumentList positionalArgumentList;
+        public PositionalArgumentList getPositionalArgumentList() { return positionalArgumentList; }
+        public void setPositionalArgumentList(PositionalArgumentList node) { positionalArgumentList = node; connect(node); }
+
+        private NamedArgumentList namedArgumentList;
+        public NamedArgumentList getNamedArgumentList() { return namedArgumentList; }
+        public void setNamedArgumentList(NamedArgumentList node) { namedArgumentList = node; connect(node); }
+
+    }
+
+    public static abstract class MemberOrTypeExpression extends Primary {
+
+        public MemberOrTypeExpression(Token token) {
+            super(token);
+        }
+
+        public static final int KIND = 183;
+
+        @Override public int getNodeKind() {
+            return KIND;
+        }
+
+        @Override public void visit(Visitor visitor) {
+            if (isSkippedBy(visitor)) return;
+            try {
+                visitor.visit(this);
+            }
+            catch (Exception e) {
+                visitor.handleException(e, this);
+            }
+        }
+
+        @Override public void visitChildren(Visitor visitor) {
+            walkMemberOrTypeExpression(visitor, this);
+        }
+
+        @Override public void hashChildren(StructuralHash hash) {
+            hashMemberOrTypeExpression(hash, this);
+        }
+
+        private com.redhat.ceylon.compiler.typechecker.model.ProducedReference target;
+        public com.redhat.ceylon.compiler.typechecker.model.ProducedReference getTarget() { return target; }
+        public void setTarget(com.redhat.ceylon.compiler.typechecker.model.ProducedReference value) { target = value; }
+
+        private com.redhat.ceylon.compiler.typechecker.model.Declaration declaration;
+        public com.redhat.ceylon.compiler.typechecker.model.Declaration getDeclaration() { return declaration; }
+        public void setDeclaration(com.redhat.ceylon.compiler.typechecker.model.Declaration value) { declaration = value; }
+
+        private List<com.redhat.ceylon.compiler.typechecker.model.ProducedType> signature;
+        public List<com.redhat.ceylon.compiler.typechecker.model.ProducedType> getSignature() { return signature; }
+        public void setSignature(List<com.redhat.ceylon.compiler.typechecker.model.ProducedType> value) { signature = value; }
+
+    }
+
+    public static class ExtendedTypeExpression extends MemberOrTypeExpression {
+
+        public ExtendedTypeExpression(Token token) {
+            super(token);
+        }
+
+        public static final int KIND = 184;
+
+        @Override public int getNodeKind() {
+            return KIND;
+        }
+
+        @Override public void visit(Visitor visitor) {
+            if (isSkippedBy(visitor)) return;
+            try {
+                visitor.visit(this);
+            }
+            catch (Exception e) {
+                visitor.handleException(e, this);
+            }
+        }
+
+        @Override public void visitChildren(Visitor visitor) {
+            walkExtendedTypeExpression(visitor, this);
+        }
+
+        @Override public void hashChildren(StructuralHash hash) {
+            hashExtendedTypeExpression(hash, this);
+        }
+
+    }
+
+    public static abstract class StaticMemberOrTypeExpression extends MemberOrTypeExpression {
+
+        public StaticMemberOrTypeExpression(Token token) {
+            super(token);
+        }
+
+        public static final int KIND = 185;
+
+        @Override public int getNodeKind() {
+            return KIND;
+        }
+
+        @Override public void visit(Visitor visitor) {
+            if (isSkippedBy(visitor)) return;
+            try {
+                visitor.visit(this);
+            }
+            catch (Exception e) {
+                visitor.handleException(e, this);
+            }
+        }
+
+        @Override public void visitChildren(Visitor visitor) {
+            walkStaticMemberOrTypeExpression(visitor, this);
+        }
+
+        @Override public void hashChildren(StructuralHash hash) {
+            hashStaticMemberOrTypeExpression(hash, this);
+        }
+
+        private Identifier identifier;
+        public Identifier getIdentifier() { return identifier; }
+        public void setIdentifier(Identifier node) { identifier = node; connect(node); }
+
+        private TypeArguments typeArguments;
+        public TypeArguments getTypeArguments() { return typeArguments; }
+        public void setTypeArguments(TypeArguments node) { typeArguments = node; connect(node); }
+
+    }
+
+    public static abstract class BaseMemberOrTypeExpression extends StaticMemberOrTypeExpression {
+
+        public BaseMemberOrTypeExpression(Token token) {
+            super(token);
+        }
+
+        public static final int KIND = 186;
+
+        @Override public int getNodeKind() {
+            return KIND;
+        }
+
+        @Override public void visit(Visitor visitor) {
+            if (isSkippedBy(visitor)) return;
+            try {
+                visitor.visit(this);
+            }
+            catch (Exception e) {
+                visitor.handleException(e, this);
+            }
+        }
+
+        @Override public void visitChildren(Visitor visitor) {
+            walkBaseMemberOrTypeExpression(visitor, this);
+        }
+
+        @Override public void hashChildren(StructuralHash hash) {
+            hashBaseMemberOrTypeExpression(hash, this);
+        }
+
+    }
+
+    /**
+     * A reference to a member in an expression.
+     */
+    public static class BaseMemberExpression extends BaseMemberOrTypeExpression {
+
+        public BaseMemberExpression(Token token) {
+            super(token);
+        }
+
+        public static final int KIND = 187;
+
+        @Override public int getNodeKind() {
+            return KIND;
+        }
+
+        @Override public void visit(Visitor visitor) {
+            if (isSkippedBy(visitor)) return;
+            try {
+                visitor.visit(this);
+            }
+            catch (Exception e) {
+                visitor.handleException(e, this);
+            }
+        }
+
+        @Override public void visitChildren(Visitor visitor) {
+            walkBaseMemberExpression(visitor, this);
+        }
+
+        @Override public void hashChildren(StructuralHash hash) {
+            hashBaseMemberExpression(hash, this);
+        }
+
+    }
+
+    /**
+     * A reference to a type in an expression.
+     */
+    public static class BaseTypeExpression extends BaseMemberOrTypeExpression {
+
+        public BaseTypeExpression(Token token) {
+            super(token);
+        }
+
+        public static final int KIND = 188;
+
+        @Override public int getNodeKind() {
+            return KIND;
+        }
+
+        @Override public void visit(Visitor visitor) {
+            if (isSkippedBy(visitor)) return;
+            try {
+                visitor.visit(this);
+            }
+            catch (Exception e) {
+                visitor.handleException(e, this);
+            }
+        }
+
+        @Override public void visitChildren(Visitor visitor) {
+            walkBaseTypeExpression(visitor, this);
+        }
+
+        @Override public void hashChildren(StructuralHash hash) {
+            hashBaseTypeExpression(hash, this);
+        }
+
+    }
+
+    public static abstract class QualifiedMemberOrTypeExpression extends StaticMemberOrTypeExpression {
+
+        public QualifiedMemberOrTypeExpression(Token token) {
+            super(token);
+        }
+
+        public static final int KIND = 189;
+
+        @Override public int getNodeKind() {
+            return KIND;
+        }
+
+        @Override public void visit(Visitor visitor) {
+            if (isSkippedBy(visitor)) return;
+            try {
+                visitor.visit(this);
+            }
+            catch (Exception e) {
+                visitor.handleException(e, this);
+            }
+        }
+
+        @Override public void visitChildren(Visitor visitor) {
+            walkQualifiedMemberOrTypeExpression(visitor, this);
+        }
+
+        @Override public void hashChildren(StructuralHash hash) {
+            hashQualifiedMemberOrTypeExpression(hash, this);
+        }
+
+        private Primary primary;
+        public Primary getPrimary() { return primary; }
+        public void setPrimary(Primary node) { primary = node; connect(node); }
+
+        private MemberOperator memberOperator;
+        public MemberOperator getMemberOperator() { return memberOperator; }
+        public void setMemberOperator(MemberOperator node) { memberOperator = node; connect(node); }
+
+    }
+
+    /**
+     * A qualified member reference expression.
+     */
+    public static class QualifiedMemberExpression extends QualifiedMemberOrTypeExpression {
+
+        public QualifiedMemberExpression(Token token) {
+            super(token);
+        }
+
+        public static final int KIND = 190;
+
+        @Override public int getNodeKind() {
+            return KIND;
+        }
+
+        @Override public void visit(Visitor visitor) {
+            if (isSkippedBy(visitor)) return;
+            try {
+                visitor.visit(this);
+            }
+            catch (Exception e) {
+                visitor.handleException(e, this);
+            }
+        }
+
+        @Override public void visitChildren(Visitor visitor) {
+            walkQualifiedMemberExpression(visitor, this);
+        }
+
+        @Override public void hashChildren(StructuralHash hash) {
+            hashQualifiedMemberExpression(hash, this);
+        }
+
+    }
+
+    /**
+     * A qualified member type reference expression.
+     */
+    public static class QualifiedTypeExpression extends QualifiedMemberOrTypeExpression {
+
+        public QualifiedTypeExpression(Token token) {
+            super(token);
+        }
+
+        public static final int KIND = 191;
+
+        @Override public int getNodeKind() {
+            return KIND;
+        }
+
+        @Override public void visit(Visitor visitor) {
+            if (isSkippedBy(visitor)) return;
+            try {
+                visitor.visit(this);
+            }
+            catch (Exception e) {
+                visitor.handleException(e, this);
+            }
+        }
+
+        @Override public void visitChildren(Visitor visitor) {
+            walkQualifiedTypeExpression(visitor, this);
+        }
+
+        @Override public void hashChildren(StructuralHash hash) {
+            hashQualifiedTypeExpression(hash, this);
+        }
+
+    }
+
+    public static abstract class MemberOperator extends Node {
+
+        public MemberOperator(Token token) {
+            super(token);
+        }
+
+        public static final int KIND = 192;
+
+        @Override public int getNodeKind() {
+            return KIND;
+        }
+
+        @Override public void visit(Visitor visitor) {
+            if (isSkippedBy(visitor)) return;
+            try {
+                visitor.visit(this);
+            }
+            catch (Exception e) {
+                visitor.handleException(e, this);
+            }
+        }
+
+        @Override public void visitChildren(Visitor visitor) {
+            walkMemberOperator(visitor, this);
+        }
+
+        @Override public void hashChildren(StructuralHash hash) {
+            hashMemberOperator(hash, this);
+        }
+
+    }
+
+    public static class MemberOp extends MemberOperator {
+
+        public MemberOp(Token token) {
+            super(token);
+        }
+
+        public static final int KIND = 193;
+
+        @Override public int getNodeKind() {
+            return KIND;
+        }
+
+        @Override public void visit(Visitor visitor) {
+            if (isSkippedBy(visitor)) return;
+            try {
+                visitor.visit(this);
+            }
+            catch (Exception e) {
+                visitor.handleException(e, this);
+            }
+        }
+
+        @Override public void visitChildren(Visitor visitor) {
+            walkMemberOp(visitor, this);
+        }
+
+        @Override public void hashChildren(StructuralHash hash) {
+            hashMemberOp(hash, this);
+        }
+
+    }
+
+    public static class SafeMemberOp extends MemberOperator {
+
+        public SafeMemberOp(Token token) {
+            super(token);
+        }
+
+        public static final int KIND = 194;
+
+        @Override public int getNodeKind() {
+            return KIND;
+        }
+
+        @Override public void visit(Visitor visitor) {
+            if (isSkippedBy(visitor)) return;
+            try {
+                visitor.visit(this);
+            }
+            catch (Exception e) {
+                visitor.handleException(e, this);
+            }
+        }
+
+        @Override public void visitChildren(Visitor visitor) {
+            walkSafeMemberOp(visitor, this);
+        }
+
+        @Override public void hashChildren(StructuralHash hash) {
+            hashSafeMemberOp(hash, this);
+        }
+
+    }
+
+    public static class SpreadOp extends MemberOperator {
+
+        public SpreadOp(Token token) {
+            super(token);
+        }
+
+        public static final int KIND = 195;
+
+        @Override public int getNodeKind() {
+            return KIND;
+        }
+
+        @Override public void visit(Visitor visitor) {
+            if (isSkippedBy(visitor)) return;
+            try {
+                visitor.visit(this);
+            }
+            catch (Exception e) {
+                visitor.handleException(e, this);
+            }
+        }
+
+        @Override public void visitChildren(Visitor visitor) {
+            walkSpreadOp(visitor, this);
+        }
+
+        @Override public void hashChildren(StructuralHash hash) {
+            hashSpreadOp(hash, this);
+        }
+
+    }
+
+    /**
+     * An index (element access by key) expression.
+     */
+    public static class IndexExpression extends PostfixExpression {
+
+        public IndexExpression(Token token) {
+            super(token);
+        }
+
+        public static final int KIND = 196;
+
+        @Override public int getNodeKind() {
+            return KIND;
+        }
+
+        @Override public void visit(Visitor visitor) {
+            if (isSkippedBy(visitor)) return;
+            try {
+                visitor.visit(this);
+            }
+            catch (Exception e) {
+                visitor.handleException(e, this);
+            }
+        }
+
+        @Override public void visitChildren(Visitor visitor) {
+            walkIndexExpression(visitor, this);
+        }
+
+        @Override public void hashChildren(StructuralHash hash) {
+            hashIndexExpression(hash, this);
+        }
+
+        private IndexOperator indexOperator;
+        public IndexOperator getIndexOperator() { return indexOperator; }
+        public void setIndexOperator(IndexOperator node) { indexOperator = node; connect(node); }
+
+        private ElementOrRange elementOrRange;
+        public ElementOrRange getElementOrRange() { return elementOrRange; }
+        public void setElementOrRange(ElementOrRange node) { elementOrRange = node; connect(node); }
+
+    }
+
+    public static abstract class IndexOperator extends Node {
+
+        public IndexOperator(Token token) {
+            super(token);
+        }
+
+        public static final int KIND = 197;
+
+        @Override public int getNodeKind() {
+            return KIND;
+        }
+
+        @Override public void visit(Visitor visitor) {
+            if (isSkippedBy(visitor)) return;
+            try {
+                visitor.visit(this);
+            }
+            catch (Exception e) {
+                visitor.handleException(e, this);
+            }
+        }
+
+        @Override public void visitChildren(Visitor visitor) {
+            walkIndexOperator(visitor, this);
+        }
+
+        @Override public void hashChildren(StructuralHash hash) {
+            hashIndexOperator(hash, this);
+        }
+
+    }
+
+    public static class IndexOp extends IndexOperator {
+
+        public IndexOp(Token token) {
+            super(token);
+        }
+
+        public static final int KIND = 198;
+
+        @Override public int getNodeKind() {
+            return KIND;
+        }
+
+        @Override public void visit(Visitor visitor) {
+            if (isSkippedBy(visitor)) return;
+            try {
+                visitor.visit(this);
+            }
+            catch (Exception e) {
+                visitor.handleException(e, this);
+            }
+        }
+
+        @Override public void visitChildren(Visitor visitor) {
+            walkIndexOp(visitor, this);
+        }
+
+        @Override public void hashChildren(StructuralHash hash) {
+            hashIndexOp(hash, this);
+        }
+
+    }
+
+    public static class SafeIndexOp extends IndexOperator {
+
+        public SafeIndexOp(Token token) {
+            super(token);
+        }
+
+        public static final int KIND = 199;
+
+        @Override public int getNodeKind() {
+            return KIND;
+        }
+
+        @Override public void visit(Visitor visitor) {
+            if (isSkippedBy(visitor)) return;
+            try {
+                visitor.visit(this);
+            }
+            catch (Exception e) {
+                visitor.handleException(e, this);
+            }
+        }
+
+        @Override public void visitChildren(Visitor visitor) {
+            walkSafeIndexOp(visitor, this);
+        }
+
+        @Override public void hashChildren(StructuralHash hash) {
+            hashSafeIndexOp(hash, this);
+        }
+
+    }
+
+    public static abstract class ElementOrRange extends Node {
+
+        public ElementOrRange(Token token) {
+            super(token);
+        }
+
+        public static final int KIND = 200;
+
+        @Override public int getNodeKind() {
+            return KIND;
+        }
+
+        @Override public void visit(Visitor visitor) {
+            if (isSkippedBy(visitor)) return;
+            try {
+                visitor.visit(this);
+            }
+            catch (Exception e) {
+                visitor.handleException(e, this);
+            }
+        }
+
+        @Override public void visitChildren(Visitor visitor) {
+            walkElementOrRange(visitor, this);
+        }
+
+        @Override public void hashChildren(StructuralHash hash) {
+            hashElementOrRange(hash, this);
+        }
+
+    }
+
+    public static class Element extends ElementOrRange {
+
+        public Element(Token token) {
+            super(token);
+        }
+
+        public static final int KIND = 201;
+
+        @Override public int getNodeKind() {
+            return KIND;
+        }
+
+        @Override public void visit(Visitor visitor) {
+            if (isSkippedBy(visitor)) return;
+            try {
+                visitor.visit(this);
+            }
+            catch (Exception e) {
+                visitor.handleException(e, this);
+            }
+        }
+
+        @Override public void visitChildren(Visitor visitor) {
+            walkElement(visitor, this);
+        }
+
+        @Override public void hashChildren(StructuralHash hash) {
+            hashElement(hash, this);
+        }
+
+        private Expression expression;
+        public Expression getExpression() { return expression; }
+        public void setExpression(Expression node) { expression = node; connect(node); }
+
+    }
+
+    public static class ElementRange extends ElementOrRange {
+
+        public ElementRange(Token token) {
+            super(token);
+        }
+
+        public static final int KIND = 202;
+
+        @Override public int getNodeKind() {
+            return KIND;
+        }
+
+        @Override public void visit(Visitor visitor) {
+            if (isSkippedBy(visitor)) return;
+            try {
+                visitor.visit(this);
+            }
+            catch (Exception e) {
+                visitor.handleException(e, this);
+            }
+        }
+
+        @Override public void visitChildren(Visitor visitor) {
+            walkElementRange(visitor, this);
+        }
+
+        @Override public void hashChildren(StructuralHash hash) {
+            hashElementRange(hash, this);
+        }
+
+        private Expression lowerBound;
+        public Expression getLowerBound() { return lowerBound; }
+        public void setLowerBound(Expression node) { lowerBound = node; connect(node); }
+
+        private Expression upperBound;
+        public Expression getUpperBound() { return upperBound; }
+        public void setUpperBound(Expression node) { upperBound = node; connect(node); }
+
+    }
+
+    public static class Outer extends Atom {
+
+        public Outer(Token token) {
+            super(token);
+        }
+
+        public static final int KIND = 203;
+
+        @Override public int getNodeKind() {
+            return KIND;
+        }
+
+        @Override public void visit(Visitor visitor) {
+            if (isSkippedBy(visitor)) return;
+            try {
+                visitor.visit(this);
+            }
+            catch (Exception e) {
+                visitor.handleException(e, this);
+            }
+        }
+
+        @Override public void visitChildren(Visitor visitor) {
+            walkOuter(visitor, this);
+        }
+
+        @Override public void hashChildren(StructuralHash hash) {
+            hashOuter(hash, this);
+        }
+
+    }
+
+    /**
+     * A list of arguments in an invocation expression.
+     */
+    public static abstract class ArgumentList extends Node {
+
+        public ArgumentList(Token token) {
+            super(token);
+        }
+
+        public static final int KIND = 204;
+
+        @Override public int getNodeKind() {
+            return KIND;
+        }
+
+        @Override public void visit(Visitor visitor) {
+            if (isSkippedBy(visitor)) return;
+            try {
+                visitor.visit(this);
+            }
+            catch (Exception e) {
+                visitor.handleException(e, this);
+            }
+        }
+
+        @Override public void visitChildren(Visitor visitor) {
+            walkArgumentList(visitor, this);
+        }
+
+        @Override public void hashChildren(StructuralHash hash) {
+            hashArgumentList(hash, this);
+        }
+
+    }
+
+    /**
+     * A list of named arguments.
+     */
+    public static class NamedArgumentList extends ArgumentList {
+
+        public NamedArgumentList(Token token) {
+            super(token);
+        }
+
+        public static final int KIND = 205;
+
+        @Override public int getNodeKind() {
+            return KIND;
+        }
+
+        @Override public void visit(Visitor visitor) {
+            if (isSkippedBy(visitor)) return;
+            try {
+                visitor.visit(this);
+            }
+            catch (Exception e) {
+                visitor.handleException(e, this);
+            }
+        }
+
+        @Override public void visitChildren(Visitor visitor) {
+            walkNamedArgumentList(visitor, this);
+        }
+
+        @Override public void hashChildren(StructuralHash hash) {
+            hashNamedArgumentList(hash, this);
+        }
+
+        private List<NamedArgument> namedArguments = new ArrayList<NamedArgument>();
+        public List<NamedArgument> getNamedArguments() { return namedArguments; }
+        public void addNamedArgument(NamedArgument node) { namedArguments.add(node); connect(node); }
+
+        private SequencedArgument sequencedArgument;
+        public SequencedArgument getSequencedArgument() { return sequencedArgument; }
+        public void setSequencedArgument(SequencedArgument node) { sequencedArgument = node; connect(node); }
+
+        private Comprehension comprehension;
+        public Comprehension getComprehension() { return comprehension; }
+        public void setComprehension(Comprehension node) { comprehension = node; connect(node); }
+
+        private com.redhat.ceylon.compiler.typechecker.model.NamedArgumentList namedArgumentList;
+        public com.redhat.ceylon.compiler.typechecker.model.NamedArgumentList getNamedArgumentList() { return namedArgumentList; }
+        public void setNamedArgumentList(com.redhat.ceylon.compiler.typechecker.model.NamedArgumentList value) { namedArgumentList = value; }
+
+    }
+
+    public static class SequencedArgument extends StatementOrArgument {
+
+        public SequencedArgument(Token token) {
+            super(token);
+        }
+
+        public static final int KIND = 206;
+
+        @Override public int getNodeKind() {
+            return KIND;
+        }
+
+        @Override public void visit(Visitor visitor) {
+            if (isSkippedBy(visitor)) return;
+            try {
+                visitor.visit(this);
+            }
+            catch (Exception e) {
+                visitor.handleException(e, this);
+            }
+        }
+
+        @Override public void visitChildren(Visitor visitor) {
+            walkSequencedArgument(visitor, this);
+        }
+
+        @Override public void hashChildren(StructuralHash hash) {
+            hashSequencedArgument(hash, this);
+        }
+
+        private ExpressionList expressionList;
+        public ExpressionList getExpressionList() { return expressionList; }
+        public void setExpressionList(ExpressionList node) { expressionList = node; connect(node); }
+
+        private com.redhat.ceylon.compiler.typechecker.model.Parameter parameter;
+        public com.redhat.ceylon.compiler.typechecker.model.Parameter getParameter() { return parameter; }
+        public void setParameter(com.redhat.ceylon.compiler.typechecker.model.Parameter value) { parameter = value; }
+
+    }
+
+    /**
+     * A list of positional arguments.
+     */
+    public static class PositionalArgumentList extends ArgumentList {
+
+        public PositionalArgumentList(Token token) {
+            super(token);
+        }
+
+        public static final int KIND = 207;
+
+        @Override public int getNodeKind() {
+            return KIND;
+        }
+
+        @Override public void visit(Visitor visitor) {
+            if (isSkippedBy(visitor)) return;
+            try {
+                visitor.visit(this);
+            }
+            catch (Exception e) {
+                visitor.handleException(e, this);
+            }
+        }
+
+        @Override public void visitChildren(Visitor visitor) {
+            walkPositionalArgumentList(visitor, this);
+        }
+
+        @Override public void hashChildren(StructuralHash hash) {
+            hashPositionalArgumentList(hash, this);
+        }
+
+        private List<PositionalArgument> positionalArguments = new ArrayList<PositionalArgument>();
+        public List<PositionalArgument> getPositionalArguments() { return positionalArguments; }
+        public void addPositionalArgument(PositionalArgument node) { positionalArguments.add(node); connect(node); }
+
+        private Comprehension comprehension;
+        public Comprehension getComprehension() { return comprehension; }
+        public void setComprehension(Comprehension node) { comprehension = node; connect(node); }
+
+        private Ellipsis ellipsis;
+        public Ellipsis getEllipsis() { return ellipsis; }
+        public void setEllipsis(Ellipsis node) { ellipsis = node; connect(node); }
+
+    }
+
+    public static class Ellipsis extends Node {
+
+        public Ellipsis(Token token) {
+            super(token);
+        }
+
+        public static final int KIND = 208;
+
+        @Override public int getNodeKind() {
+            return KIND;
+        }
+
+        @Override public void visit(Visitor visitor) {
+            if (isSkippedBy(visitor)) return;
+            try {
+                visitor.visit(this);
+            }
+            catch (Exception e) {
+                visitor.handleException(e, this);
+            }
+        }
+
+        @Override public void visitChildren(Visitor visitor) {
+            walkEllipsis(visitor, this);
+        }
+
+        @Override public void hashChildren(StructuralHash hash) {
+            hashEllipsis(hash, this);
+        }
+
+    }
+
+    public static class PositionalArgument extends Node {
+
+        public PositionalArgument(Token token) {
+            super(token);
+        }
+
+        public static final int KIND = 209;
+
+        @Override public int getNodeKind() {
+            return KIND;
+        }
+
+        @Override public void visit(Visitor visitor) {
+            if (isSkippedBy(visitor)) return;
+            try {
+                visitor.visit(this);
+            }
+            catch (Exception e) {
+                visitor.handleException(e, this);
+            }
+        }
+
+        @Override public void visitChildren(Visitor visitor) {
+            walkPositionalArgument(visitor, this);
+        }
+
+        @Override public void hashChildren(StructuralHash hash) {
+            hashPositionalArgument(hash, this);
+        }
+
+        private Expression expression;
+        public Expression getExpression() { return expression; }
+        public void setExpression(Expression node) { expression = node; connect(node); }
+
+        private com.redhat.ceylon.compiler.typechecker.model.Parameter parameter;
+        public com.redhat.ceylon.compiler.typechecker.model.Parameter getParameter() { return parameter; }
+        public void setParameter(com.redhat.ceylon.compiler.typechecker.model.Parameter value) { parameter = value; }
+
+    }
+
+    public static class FunctionArgument extends PositionalArgument {
+
+        public FunctionArgument(Token token) {
+            super(token);
+        }
+
+        public static final int KIND = 210;
+
+        @Override public int getNodeKind() {
+            return KIND;
+        }
+
+        @Override public void visit(Visitor visitor) {
+            if (isSkippedBy(visitor)) return;
+            try {
+                visitor.visit(this);
+            }
+            catch (Exception e) {
+                visitor.handleException(e, this);
+            }
+        }
+
+        @Override public void visitChildren(Visitor visitor) {
+            walkFunctionArgument(visitor, this);
+        }
+
+        @Override public void hashChildren(StructuralHash hash) {
+            hashFunctionArgument(hash, this);
+        }
+
+        private LocalModifier type;
+        public LocalModifier getType() { return type; }
+        public void setType(LocalModifier node) { type = node; connect(node); }
+
+        private List<ParameterList> parameterLists = new ArrayList<ParameterList>();
+        public List<ParameterList> getParameterLists() { return parameterLists; }
+        public void addParameterList(ParameterList node) { parameterLists.add(node); connect(node); }
+
+        private com.redhat.ceylon.compiler.typechecker.model.Method declarationModel;
+        public com.redhat.ceylon.compiler.typechecker.model.Method getDeclarationModel() { return declarationModel; }
+        public void setDeclarationModel(com.redhat.ceylon.compiler.typechecker.model.Method value) { declarationModel = value; }
+
+    }
+
+    public static abstract class NamedArgument extends StatementOrArgument {
+
+        public NamedArgument(Token token) {
+            super(token);
+        }
+
+        public static final int KIND = 211;
+
+        @Override public int getNodeKind() {
+            return KIND;
+        }
+
+        @Override public void visit(Visitor visitor) {
+            if (isSkippedBy(visitor)) return;
+            try {
+                visitor.visit(this);
+            }
+            catch (Exception e) {
+                visitor.handleException(e, this);
+            }
+        }
+
+        @Override public void visitChildren(Visitor visitor) {
+            walkNamedArgument(visitor, this);
+        }
+
+        @Override public void hashChildren(StructuralHash hash) {
+            hashNamedArgument(hash, this);
+        }
+
+        private Identifier identifier;
+        public Identifier getIdentifier() { return identifier; }
+        public void setIdentifier(Identifier node) { identifier = node; connect(node); }
+
+        private com.redhat.ceylon.compiler.typechecker.model.Parameter parameter;
+        public com.redhat.ceylon.compiler.typechecker.model.Parameter getParameter() { return parameter; }
+        public void setParameter(com.redhat.ceylon.compiler.typechecker.model.Parameter value) { parameter = value; }
+
+    }
+
+    public static class SpecifiedArgument extends NamedArgument {
+
+        public SpecifiedArgument(Token token) {
+            super(token);
+        }
+
+        public static final int KIND = 212;
+
+        @Override public int getNodeKind() {
+            return KIND;
+        }
+
+        @Override public void visit(Visitor visitor) {
+            if (isSkippedBy(visitor)) return;
+            try {
+                visitor.visit(this);
+            }
+            catch (Exception e) {
+                visitor.handleException(e, this);
+            }
+        }
+
+        @Override public void visitChildren(Visitor visitor) {
+            walkSpecifiedArgument(visitor, this);
+        }
+
+        @Override public void hashChildren(StructuralHash hash) {
+            hashSpecifiedArgument(hash, this);
+        }
+
+        private SpecifierExpression specifierExpression;
+        public SpecifierExpression getSpecifierExpression() { return specifierExpression; }
+        public void setSpecifierExpression(SpecifierExpression node) { specifierExpression = node; connect(node); }
+
+    }
+
+    public static abstract class TypedArgument extends NamedArgument {
+
+        public TypedArgument(Token token) {
+            super(token);
+        }
+
+        public static final int KIND = 213;
+
+        @Override public int getNodeKind() {
+            return KIND;
+        }
+
+        @Override public void visit(Visitor visitor) {
+            if (isSkippedBy(visitor)) return;
+            try {
+                visitor.visit(this);
+            }
+            catch (Exception e) {
+                visitor.handleException(e, this);
+            }
+        }
+
+        @Override public void visitChildren(Visitor visitor) {
+            walkTypedArgument(visitor, this);
+        }
+
+        @Override public void hashChildren(StructuralHash hash) {
+            hashTypedArgument(hash, this);
+        }
+
+        private Type type;
+        public Type getType() { return type; }
+        public void setType(Type node) { type = node; connect(node); }
+
+        public abstract com.redhat.ceylon.compiler.typechecker.model.TypedDeclaration getDeclarationModel();
+
+    }
+
+    public static class MethodArgument extends TypedArgument {
+
+        public MethodArgument(Token token) {
+            super(token);
+        }
+
+        public static final int KIND = 214;
+
+        @Override public int getNodeKind() {
+            return KIND;
+        }
+
+        @Override public void visit(Visitor visitor) {
+            if (isSkippedBy(visitor)) return;
+            try {
+                visitor.visit(this);
+            }
+            catch (Exception e) {
+                visitor.handleException(e, this);
+            }
+        }
+
+        @Override public void visitChildren(Visitor visitor) {
+            walkMethodArgument(visitor, this);
+        }
+
+        @Override public void hashChildren(StructuralHash hash) {
+            hashMethodArgument(hash, this);
+        }
+
+        private List<ParameterList> parameterLists = new ArrayList<ParameterList>();
+        public List<ParameterList> getParameterLists() { return parameterLists; }
+        public void addParameterList(ParameterList node) { parameterLists.add(node); connect(node); }
+
+        private Block block;
+        public Block getBlock() { return block; }
+        public void setBlock(Block node) { block = node; connect(node); }
+
+        private com.redhat.ceylon.compiler.typechecker.model.Method declarationModel;
+        public com.redhat.ceylon.compiler.typechecker.model.Method getDeclarationModel() { return declarationModel; }
+        public void setDeclarationModel(com.redhat.ceylon.compiler.typechecker.model.Method value) { declarationModel = value; }
+
+    }
+
+    public static class AttributeArgument extends TypedArgument {
+
+        public AttributeArgument(Token token) {
+            super(token);
+        }
+
+        public static final int KIND = 215;
+
+        @Override public int getNodeKind() {
+            return KIND;
+        }
+
+        @Override public void visit(Visitor visitor) {
+            if (isSkippedBy(visitor)) return;
+            try {
+                visitor.visit(this);
+            }
+            catch (Exception e) {
+                visitor.handleException(e, this);
+            }
+        }
+
+        @Override public void visitChildren(Visitor visitor) {
+            walkAttributeArgument(visitor, this);
+        }
+
+        @Override public void hashChildren(StructuralHash hash) {
+            hashAttributeArgument(hash, this);
+        }
+
+        private Block block;
+        public Block getBlock() { return block; }
+        public void setBlock(Block node) { block = node; connect(node); }
+
+        private com.redhat.ceylon.compiler.typechecker.model.Getter declarationModel;
+        public com.redhat.ceylon.compiler.typechecker.model.Getter getDeclarationModel() { return declarationModel; }
+        public void setDeclarationModel(com.redhat.ceylon.compiler.typechecker.model.Getter value) { declarationModel = value; }
+
+    }
+
+    public static class ObjectArgument extends TypedArgument {
+
+        public ObjectArgument(Token token) {
+            super(token);
+        }
+
+        public static final int KIND = 216;
+
+        @Override public int getNodeKind() {
+            return KIND;
+        }
+
+        @Override public void visit(Visitor visitor) {
+            if (isSkippedBy(visitor)) return;
+            try {
+                visitor.visit(this);
+            }
+            catch (Exception e) {
+                visitor.handleException(e, this);
+            }
+        }
+
+        @Override public void visitChildren(Visitor visitor) {
+            walkObjectArgument(visitor, this);
+        }
+
+        @Override public void hashChildren(StructuralHash hash) {
+            hashObjectArgument(hash, this);
+        }
+
+        private ExtendedType extendedType;
+        public ExtendedType getExtendedType() { return extendedType; }
+        public void setExtendedType(ExtendedType node) { extendedType = node; connect(node); }
+
+        private SatisfiedTypes satisfiedTypes;
+        public SatisfiedTypes getSatisfiedTypes() { return satisfiedTypes; }
+        public void setSatisfiedTypes(SatisfiedTypes node) { satisfiedTypes = node; connect(node); }
+
+        private ClassBody classBody;
+        public ClassBody getClassBody() { return classBody; }
+        public void setClassBody(ClassBody node) { classBody = node; connect(node); }
+
+        private com.redhat.ceylon.compiler.typechecker.model.Value declarationModel;
+        public com.redhat.ceylon.compiler.typechecker.model.Value getDeclarationModel() { return declarationModel; }
+        public void setDeclarationModel(com.redhat.ceylon.compiler.typechecker.model.Value value) { declarationModel = value; }
+
+    }
+
+    public static abstract class SpecifierOrInitializerExpression extends Node {
+
+        public SpecifierOrInitializerExpression(Token token) {
+            super(token);
+        }
+
+        public static final int KIND = 217;
+
+        @Override public int getNodeKind() {
+            return KIND;
+        }
+
+        @Override public void visit(Visitor visitor) {
+            if (isSkippedBy(visitor)) return;
+            try {
+                visitor.visit(this);
+            }
+            catch (Exception e) {
+                visitor.handleException(e, this);
+            }
+        }
+
+        @Override public void visitChildren(Visitor visitor) {
+            walkSpecifierOrInitializerExpression(visitor, this);
+        }
+
+        @Override public void hashChildren(StructuralHash hash) {
+            hashSpecifierOrInitializerExpression(hash, this);
+        }
+
+        private Expression expression;
+        public Expression getExpression() { return expression; }
+        public void setExpression(Expression node) { expression = node; connect(node); }
+
+    }
+
+    /**
+     * A specifier expression.
+     */
+    public static class SpecifierExpression extends SpecifierOrInitializerExpression {
+
+        public SpecifierExpression(Token token) {
+            super(token);
+        }
+
+        public static final int KIND = 218;
+
+        @Override public int getNodeKind() {
+            return KIND;
+        }
+
+        @Override public void visit(Visitor visitor) {
+            if (isSkippedBy(visitor)) return;
+            try {
+                visitor.visit(this);
+            }
+            catch (Exception e) {
+                visitor.handleException(e, this);
+            }
+        }
+
+        @Override public void visitChildren(Visitor visitor) {
+            walkSpecifierExpression(visitor, this);
+        }
+
+        @Override public void hashChildren(StructuralHash hash) {
+            hashSpecifierExpression(hash, this);
+        }
+
+    }
+
+    /**
+     * An initializer expression.
+     */
+    public static class InitializerExpression extends SpecifierOrInitializerExpression {
+
+        public InitializerExpression(Token token) {
+            super(token);
+        }
+
+        public static final int KIND = 219;
+
+        @Override public int getNodeKind() {
+            return KIND;
+        }
+
+        @Override public void visit(Visitor visitor) {
+            if (isSkippedBy(visitor)) return;
+            try {
+                visitor.visit(this);
+            }
+            catch (Exception e) {
+                visitor.handleException(e, this);
+            }
+        }
+
+        @Override public void visitChildren(Visitor visitor) {
+            walkInitializerExpression(visitor, this);
+        }
+
+        @Override public void hashChildren(StructuralHash hash) {
+            hashInitializerExpression(hash, this);
+        }
+
+    }
+
+    /**
+     * A member reference, type reference, literal, string template, or parenthesized expression.
+     */
+    public static abstract class Atom extends Primary {
+
+        public Atom(Token token) {
+            super(token);
+        }
+
+        public static final int KIND = 220;
+
+        @Override public int getNodeKind() {
+            return KIND;
+        }
+
+        @Override public void visit(Visitor visitor) {
+            if (isSkippedBy(visitor)) return;
+            try {
+                visitor.visit(this);
+            }
+            catch (Exception e) {
+                visitor.handleException(e, this);
+            }
+        }
+
+        @Override public void visitChildren(Visitor visitor) {
+            walkAtom(visitor, this);
+        }
+
+        @Override public void hashChildren(StructuralHash hash) {
+            hashAtom(hash, this);
+        }
+
+    }
+
+    /**
+     * A literal.
+     */
+    public static abstract class Literal extends Atom {
+
+        public Literal(Token token) {
+            super(token);
+        }
+
+        public static final int KIND = 221;
+
+        @Override public int getNodeKind() {
+            return KIND;
+        }
+
+        @Override public void visit(Visitor visitor) {
+            if (isSkippedBy(visitor)) return;
+            try {
+                visitor.visit(this);
+            }
+            catch (Exception e) {
+                visitor.handleException(e, this);
+            }
+        }
+
+        @Override public void visitChildren(Visitor visitor) {
+            walkLiteral(visitor, this);
+        }
+
+        @Override public void hashChildren(StructuralHash hash) {
+            hashLiteral(hash, this);
+        }
+
+    }
+
+    public static class NaturalLiteral extends Literal {
+
+        public NaturalLiteral(Token token) {
+            super(token);
+        }
+
+        public static final int KIND = 222;
+
+        @Override public int getNodeKind() {
+            return KIND;
+        }
+
+        @Override public void visit(Visitor visitor) {
+            if (isSkippedBy(visitor)) return;
+            try {
+                visitor.visit(this);
+            }
+            catch (Exception e) {
+                visitor.handleException(e, this);
+            }
+        }
+
+        @Override public void visitChildren(Visitor visitor) {
+            walkNaturalLiteral(visitor, this);
+        }
+
+        @Override public void hashChildren(StructuralHash hash) {
+            hashNaturalLiteral(hash, this);
+        }
+
+    }
+
+    public static class FloatLiteral extends Literal {
+
+        public FloatLiteral(Token token) {
+            super(token);
+        }
+
+        public static final int KIND = 223;
+
+        @Override public int getNodeKind() {
+            return KIND;
+        }
+
+        @Override public void visit(Visitor visitor) {
+            if (isSkippedBy(visitor)) return;
+            try {
+                visitor.visit(this);
+            }
+            catch (Exception e) {
+                visitor.handleException(e, this);
+            }
+        }
+
+        @Override public void visitChildren(Visitor visitor) {
+            walkFloatLiteral(visitor, this);
+        }
+
+        @Override public void hashChildren(StructuralHash hash) {
+            hashFloatLiteral(hash, this);
+        }
+
+    }
+
+    public static class CharLiteral extends Literal {
+
+        public CharLiteral(Token token) {
+            super(token);
+        }
+
+        public static final int KIND = 224;
+
+        @Override public int getNodeKind() {
+            return KIND;
+        }
+
+        @Override public void visit(Visitor visitor) {
+            if (isSkippedBy(visitor)) return;
+            try {
+                visitor.visit(this);
+            }
+            catch (Exception e) {
+                visitor.handleException(e, this);
+            }
+        }
+
+        @Override public void visitChildren(Visitor visitor) {
+            walkCharLiteral(visitor, this);
+        }
+
+        @Override public void hashChildren(StructuralHash hash) {
+            hashCharLiteral(hash, this);
+        }
+
+    }
+
+    public static class StringLiteral extends Literal {
+
+        public StringLiteral(Token token) {
+            super(token);
+        }
+
+        public static final int KIND = 225;
+
+        @Override public int getNodeKind() {
+            return KIND;
+        }
+
+        @Override public void visit(Visitor visitor) {
+            if (isSkippedBy(visitor)) return;
+            try {
+                visitor.visit(this);
+            }
+            catch (Exception e) {
+                visitor.handleException(e, this);
+            }
+        }
+
+        @Override public void visitChildren(Visitor visitor) {
+            walkStringLiteral(visitor, this);
+        }
+
+        @Override public void hashChildren(StructuralHash hash) {
+            hashStringLiteral(hash, this);
+        }
+
+    }
+
+    public static class QuotedLiteral extends Literal {
+
+        public QuotedLiteral(Token token) {
+            super(token);
+        }
+
+        public static final int KIND = 226;
+
+        @Override public int getNodeKind() {
+            return KIND;
+        }
+
+        @Override public void visit(Visitor visitor) {
+            if (isSkippedBy(visitor)) return;
+            try {
+                visitor.visit(this);
+            }
+            catch (Exception e) {
+                visitor.handleException(e, this);
+            }
+        }
+
+        @Override public void visitChildren(Visitor visitor) {
+            walkQuotedLiteral(visitor, this);
+        }
+
+        @Override public void hashChildren(StructuralHash hash) {
+            hashQuotedLiteral(hash, this);
+        }
+
+    }
+
+    /**
+     * A reference to the current instance.
+     */
+    public static abstract class SelfExpression extends Atom {
+
+        public SelfExpression(Token token) {
+            super(token);
+        }
+
+        public static final int KIND = 227;
+
+        @Override public int getNodeKind() {
+            return KIND;
+        }
+
+        @Override public void visit(Visitor visitor) {
+            if (isSkippedBy(visitor)) return;
+            try {
+                visitor.visit(this);
+            }
+            catch (Exception e) {
+                visitor.handleException(e, this);
+            }
+        }
+
+        @Override public void visitChildren(Visitor visitor) {
+            walkSelfExpression(visitor, this);
+        }
+
+        @Override public void hashChildren(StructuralHash hash) {
+            hashSelfExpression(hash, this);
+        }
+
+    }
+
+    public static class This extends SelfExpression {
+
+        public This(Token token) {
+            super(token);
+        }
+
+        public static final int KIND = 228;
+
+        @Override public int getNodeKind() {
+            return KIND;
+        }
+
+        @Override public void visit(Visitor visitor) {
+            if (isSkippedBy(visitor)) return;
+            try {
+                visitor.visit(this);
+            }
+            catch (Exception e) {
+                visitor.handleException(e, this);
+            }
+        }
+
+        @Override public void visitChildren(Visitor visitor) {
+            walkThis(visitor, this);
+        }
+
+        @Override public void hashChildren(StructuralHash hash) {
+            hashThis(hash, this);
+        }
+
+    }
+
+    public static class Super extends SelfExpression {
+
+        public Super(Token token) {
+            super(token);
+        }
+
+        public static final int KIND = 229;
+
+        @Override public int getNodeKind() {
+            return KIND;
+        }
+
+        @Override public void visit(Visitor visitor) {
+            if (isSkippedBy(visitor)) return;
+            try {
+                visitor.visit(this);
+            }
+            catch (Exception e) {
+                visitor.handleException(e, this);
+            }
+        }
+
+        @Override public void visitChildren(Visitor visitor) {
+            walkSuper(visitor, this);
+        }
+
+        @Override public void hashChildren(StructuralHash hash) {
+            hashSuper(hash, this);
+        }
+
+    }
+
+    /**
+     * Enumerated elements of a sequence.
+     */
+    public static class SequenceEnumeration extends Atom {
+
+        public SequenceEnumeration(Token token) {
+            super(token);
+        }
+
+        public static final int KIND = 230;
+
+        @Override public int getNodeKind() {
+            return KIND;
+        }
+
+        @Override public void visit(Visitor visitor) {
+            if (isSkippedBy(visitor)) return;
+            try {
+                visitor.visit(this);
+            }
+            catch (Exception e) {
+                visitor.handleException(e, this);
+            }
+        }
+
+        @Override public void visitChildren(Visitor visitor) {
+            walkSequenceEnumeration(visitor, this);
+        }
+
+        @Override public void hashChildren(StructuralHash hash) {
+            hashSequenceEnumeration(hash, this);
+        }
+
+        private ExpressionList expressionList;
+        public ExpressionList getExpressionList() { return expressionList; }
+        public void setExpressionList(ExpressionList node) { expressionList = node; connect(node); }
+
+        private Comprehension comprehension;
+        public Comprehension getComprehension() { return comprehension; }
+        public void setComprehension(Comprehension node) { comprehension = node; connect(node); }
+
+    }
+
+    /**
+     * A string template.
+     */
+    public static class StringTemplate extends Atom {
+
+        public StringTemplate(Token token) {
+            super(token);
+        }
+
+        public static final int KIND = 231;
+
+        @Override public int getNodeKind() {
+            return KIND;
+        }
+
+        @Override public void visit(Visitor visitor) {
+            if (isSkippedBy(visitor)) return;
+            try {
+                visitor.visit(this);
+            }
+            catch (Exception e) {
+                visitor.handleException(e, this);
+            }
+        }
+
+        @Override public void visitChildren(Visitor visitor) {
+            walkStringTemplate(visitor, this);
+        }
+
+        @Override public void hashChildren(StructuralHash hash) {
+            hashStringTemplate(hash, this);
+        }
+
+        private List<StringLiteral> stringLiterals = new ArrayList<StringLiteral>();
+        public List<StringLiteral> getStringLiterals() { return stringLiterals; }
+        public void addStringLiteral(StringLiteral node) { stringLiterals.add(node); connect(node); }
+
+        private List<Expression> expressions = new ArrayList<Expression>();
+        public List<Expression> getExpressions() { return expressions; }
+        public void addExpression(Expression node) { expressions.add(node); connect(node); }
+
+    }
+
+    public static class Lambda extends Atom {
+
+        public Lambda(Token token) {
+            super(token);
+        }
+
+        public static final int KIND = 232;
+
+        @Override public int getNodeKind() {
+            return KIND;
+        }
+
+        @Override public void visit(Visitor visitor) {
+            if (isSkippedBy(visitor)) return;
+            try {
+                visitor.visit(this);
+            }
+            catch (Exception e) {
+                visitor.handleException(e, this);
+            }
+        }
+
+        @Override public void visitChildren(Visitor visitor) {
+            walkLambda(visitor, this);
+        }
+
+        @Override public void hashChildren(StructuralHash hash) {
+            hashLambda(hash, this);
+        }
+
+        private ParameterList parameterList;
+        public ParameterList getParameterList() { return parameterList; }
+        public void setParameterList(ParameterList node) { parameterList = node; connect(node); }
+
+        private Block block;
+        public Block getBlock() { return block; }
+        public void setBlock(Block node) { block = node; connect(node); }
+
+    }
+
+    /**
+     * A program element annotation.
+     */
+    public static class Annotation extends InvocationExpression {
+
+        public Annotation(Token token) {
+            super(token);
+        }
+
+        public static final int KIND = 233;
+
+        @Override public int getNodeKind() {
+            return KIND;
+        }
+
+        @Override public void visit(Visitor visitor) {
+            if (isSkippedBy(visitor)) return;
+            try {
+                visitor.visit(this);
+            }
+            catch (Exception e) {
+                visitor.handleException(e, this);
+            }
+        }
+
+        @Override public void visitChildren(Visitor visitor) {
+            walkAnnotation(visitor, this);
+        }
+
+        @Override public void hashChildren(StructuralHash hash) {
+            hashAnnotation(hash, this);
+        }
+
+    }
+
+    /**
+     * A list of annotations of a program element.
+     */
+    public static class AnnotationList extends Node {
+
+        public AnnotationList(Token token) {
+            super(token);
+        }
+
+        public static final int KIND = 234;
+
+        @Override public int getNodeKind() {
+            return KIND;
+        }
+
+        @Override public void visit(Visitor visitor) {
+            if (isSkippedBy(visitor)) return;
+            try {
+                visitor.visit(this);
+            }
+            catch (Exception e) {
+                visitor.handleException(e, this);
+            }
+        }
+
+        @Override public void visitChildren(Visitor visitor) {
+            walkAnnotationList(visitor, this);
+        }
+
+        @Override public void hashChildren(StructuralHash hash) {
+            hashAnnotationList(hash, this);
+        }
+
+        private List<Annotation> annotations = new ArrayList<Annotation>();
+        public List<Annotation> getAnnotations() { return annotations; }
+        public void addAnnotation(Annotation node) { annotations.add(node); connect(node); }
+
+    }
+
+    /**
+     * A name.
+     */
+    public static class Identifier extends Node {
+
+        public Identifier(Token token) {
+            super(token);
+        }
+
+        public static final int KIND = 235;
+
+        @Override public int getNodeKind() {
+            return KIND;
+        }
+
+        @Override public void visit(Visitor visitor) {
+            if (isSkippedBy(visitor)) return;
+            try {
+                visitor.visit(this);
+            }
+            catch (Exception e) {
+                visitor.handleException(e, this);
+            }
+        }
+
+        @Override public void visitChildren(Visitor visitor) {
+            walkIdentifier(visitor, this);
+        }
+
+        @Override public void hashChildren(StructuralHash hash) {
+            hashIdentifier(hash, this);
+        }
+
+    }
+
+    public static class Comprehension extends StatementOrArgument {
+
+        public Comprehension(Token token) {
+            super(token);
+        }
+
+        public static final int KIND = 236;
+
+        @Override public int getNodeKind() {
+            return KIND;
+        }
+
+        @Override public void visit(Visitor visitor) {
+            if (isSkippedBy(visitor)) return;
+            try {
+                visitor.visit(this);
+            }
+            catch (Exception e) {
+                visitor.handleException(e, this);
+            }
+        }
+
+        @Override public void visitChildren(Visitor visitor) {
+            walkComprehension(visitor, this);
+        }
+
+        @Override public void hashChildren(StructuralHash hash) {
+            hashComprehension(hash, this);
+        }
+
+        private ForComprehensionClause forComprehensionClause;
+        public ForComprehensionClause getForComprehensionClause() { return forComprehensionClause; }
+        public void setForComprehensionClause(ForComprehensionClause node) { forComprehensionClause = node; connect(node); }
+
+    }
+
+    public static abstract class ComprehensionClause extends ControlClause {
+
+        public ComprehensionClause(Token token) {
+            super(token);
+        }
+
+        public static final int KIND = 237;
+
+        @Override public int getNodeKind() {
+            return KIND;
+        }
+
+        @Override public void visit(Visitor visitor) {
+            if (isSkippedBy(visitor)) return;
+            try {
+                visitor.visit(this);
+            }
+            catch (Exception e) {
+                visitor.handleException(e, this);
+            }
+        }
+
+        @Override public void visitChildren(Visitor visitor) {
+            walkComprehensionClause(visitor, this);
+        }
+
+        @Override public void hashChildren(StructuralHash hash) {
+            hashComprehensionClause(hash, this);
+        }
+
+    }
+
+    public static class ExpressionComprehensionClause extends ComprehensionClause {
+
+        public ExpressionComprehensionClause(Token token) {
+            super(token);
+        }
+
+        public static final int KIND = 238;
+
+        @Override public int getNodeKind() {
+            return KIND;
+        }
+
+        @Override public void visit(Visitor visitor) {
+            if (isSkippedBy(visitor)) return;
+            try {
+                visitor.visit(this);
+            }
+            catch (Exception e) {
+                visitor.handleException(e, this);
+            }
+        }
+
+        @Override public void visitChildren(Visitor visitor) {
+            walkExpressionComprehensionClause(visitor, this);
+        }
+
+        @Override public void hashChildren(StructuralHash hash) {
+            hashExpressionComprehensionClause(hash, this);
+        }
+
+        private Expression expression;
+        public Expression getExpression() { return expression; }
+        public void setExpression(Expression node) { expression = node; connect(node); }
+
+    }
+
+    public static class ForComprehensionClause extends ComprehensionClause {
+
+        public ForComprehensionClause(Token token) {
+            super(token);
+        }
+
+        public static final int KIND = 239;
+
+        @Override public int getNodeKind() {
+            return KIND;
+        }
+
+        @Override public void visit(Visitor visitor) {
+            if (isSkippedBy(visitor)) return;
+            try {
+                visitor.visit(this);
+            }
+            catch (Exception e) {
+                visitor.handleException(e, this);
+            }
+        }
+
+        @Override public void visitChildren(Visitor visitor) {
+            walkForComprehensionClause(visitor, this);
+        }
+
+        @Override public void hashChildren(StructuralHash hash) {
+            hashForComprehensionClause(hash, this);
+        }
+
+        private ForIterator forIterator;
+        public ForIterator getForIterator() { return forIterator; }
+        public void setForIterator(ForIterator node) { forIterator = node; connect(node); }
+
+        private ComprehensionClause comprehensionClause;
+        public ComprehensionClause getComprehensionClause() { return comprehensionClause; }
+        public void setComprehensionClause(ComprehensionClause node) { comprehensionClause = node; connect(node); }
+
+    }
+
+    public static class IfComprehensionClause extends ComprehensionClause {
+
+        public IfComprehensionClause(Token token) {
+            super(token);
+        }
+
+        public static final int KIND = 240;
+
+        @Override public int getNodeKind() {
+            return KIND;
+        }
+
+        @Override public void visit(Visitor visitor) {
+            if (isSkippedBy(visitor)) return;
+            try {
+                visitor.visit(this);
+            }
+            catch (Exception e) {
+                visitor.handleException(e, this);
+            }
+        }
+
+        @Override public void visitChildren(Visitor visitor) {
+            walkIfComprehensionClause(visitor, this);
+        }
+
+        @Override public void hashChildren(StructuralHash hash) {
+            hashIfComprehensionClause(hash, this);
+        }
+
+        private Condition condition;
+        public Condition getCondition() { return condition; }
+        public void setCondition(Condition node) { condition = node; connect(node); }
+
+        private ComprehensionClause comprehensionClause;
+        public ComprehensionClause getComprehensionClause() { return comprehensionClause; }
+        public void setComprehensionClause(ComprehensionClause node) { comprehensionClause = node; connect(node); }
+
+    }
+
+    /**
+     * The kind of the superclass of each kind of node,
+     * or -1 for the direct subclasses of Node.
+     */
+    static final int[] SUPER_KINDS = {
+        -1,
+        -1,
+        StatementOrArgument.KIND,
+        -1,
+        -1,
+        StatementOrArgument.KIND,
+        ImportMemberOrType.KIND,
+        ImportMemberOrType.KIND,
+        -1,
+        -1,
+        -1,
+        Statement.KIND,
+        Declaration.KIND,
+        TypeDeclaration.KIND,
+        -1,
+        -1,
+        -1,
+        -1,
+        -1,
+        -1,
+        TypeDeclaration.KIND,
+        -1,
+        ClassOrInterface.KIND,
+        AnyClass.KIND,
+        AnyClass.KIND,
+        ClassOrInterface.KIND,
+        AnyInterface.KIND,
+        AnyInterface.KIND,
+        Declaration.KIND,
+        TypedDeclaration.KIND,
+        AnyAttribute.KIND,
+        AnyAttribute.KIND,
+        TypedDeclaration.KIND,
+        TypedDeclaration.KIND,
+        AnyMethod.KIND,
+        AnyMethod.KIND,
+        Type.KIND,
+        TypedDeclaration.KIND,
+        -1,
+        TypedDeclaration.KIND,
+        -1,
+        Parameter.KIND,
+        Parameter.KIND,
+        -1,
+        Declaration.KIND,
+        -1,
+        Declaration.KIND,
+        -1,
+        Body.KIND,
+        Body.KIND,
+        Body.KIND,
+        -1,
+        Type.KIND,
+        StaticType.KIND,
+        SimpleType.KIND,
+        StaticType.KIND,
+        StaticType.KIND,
+        SimpleType.KIND,
+        StaticType.KIND,
+        Type.KIND,
+        LocalModifier.KIND,
+        LocalModifier.KIND,
+        ValueModifier.KIND,
+        -1,
+        TypeArguments.KIND,
+        TypeArguments.KIND,
+        Type.KIND,
+        ExecutableStatement.KIND,
+        Directive.KIND,
+        Directive.KIND,
+        Directive.KIND,
+        Directive.KIND,
+        -1,
+        StatementOrArgument.KIND,
+        -1,
+        Statement.KIND,
+        ExecutableStatement.KIND,
+        ExecutableStatement.KIND,
+        ExecutableStatement.KIND,
+        -1,
+        ControlStatement.KIND,
+        ControlClause.KIND,
+        ControlClause.KIND,
+        ControlStatement.KIND,
+        -1,
+        -1,
+        ControlClause.KIND,
+        -1,
+        CaseItem.KIND,
+        CaseItem.KIND,
+        CaseItem.KIND,
+        ControlStatement.KIND,
+        ControlClause.KIND,
+        ControlClause.KIND,
+        ControlClause.KIND,
+        -1,
+        -1,
+        ControlStatement.KIND,
+        ControlClause.KIND,
+        StatementOrArgument.KIND,
+        ForIterator.KIND,
+        ForIterator.KIND,
+        ControlStatement.KIND,
+        ControlClause.KIND,
+        -1,
+        Condition.KIND,
+        Condition.KIND,
+        ExistsOrNonemptyCondition.KIND,
+        ExistsOrNonemptyCondition.KIND,
+        Condition.KIND,
+        Condition.KIND,
+        TypedDeclaration.KIND,
+        -1,
+        Term.KIND,
+        OperatorExpression.KIND,
+        BinaryOperatorExpression.KIND,
+        ArithmeticOp.KIND,
+        ArithmeticOp.KIND,
+        ArithmeticOp.KIND,
+        ArithmeticOp.KIND,
+        ArithmeticOp.KIND,
+        ArithmeticOp.KIND,
+        BinaryOperatorExpression.KIND,
+        AssignmentOp.KIND,
+        AssignmentOp.KIND,
+        ArithmeticAssignmentOp.KIND,
+        ArithmeticAssignmentOp.KIND,
+        ArithmeticAssignmentOp.KIND,
+        ArithmeticAssignmentOp.KIND,
+        ArithmeticAssignmentOp.KIND,
+        AssignmentOp.KIND,
+        BitwiseAssignmentOp.KIND,
+        BitwiseAssignmentOp.KIND,
+        BitwiseAssignmentOp.KIND,
+        BitwiseAssignmentOp.KIND,
+        AssignmentOp.KIND,
+        LogicalAssignmentOp.KIND,
+        LogicalAssignmentOp.KIND,
+        BinaryOperatorExpression.KIND,
+        LogicalOp.KIND,
+        LogicalOp.KIND,
+        BinaryOperatorExpression.KIND,
+        BitwiseOp.KIND,
+        BitwiseOp.KIND,
+        BitwiseOp.KIND,
+        BitwiseOp.KIND,
+        BinaryOperatorExpression.KIND,
+        EqualityOp.KIND,
+        EqualityOp.KIND,
+        BinaryOperatorExpression.KIND,
+        ComparisonOp.KIND,
+        ComparisonOp.KIND,
+        ComparisonOp.KIND,
+        ComparisonOp.KIND,
+        BinaryOperatorExpression.KIND,
+        BinaryOperatorExpression.KIND,
+        BinaryOperatorExpression.KIND,
+        BinaryOperatorExpression.KIND,
+        BinaryOperatorExpression.KIND,
+        BinaryOperatorExpression.KIND,
+        BinaryOperatorExpression.KIND,
+        OperatorExpression.KIND,
+        UnaryOperatorExpression.KIND,
+        UnaryOperatorExpression.KIND,
+        UnaryOperatorExpression.KIND,
+        UnaryOperatorExpression.KIND,
+        UnaryOperatorExpression.KIND,
+        UnaryOperatorExpression.KIND,
+        UnaryOperatorExpression.KIND,
+        TypeOperatorExpression.KIND,
+        TypeOperatorExpression.KIND,
+        TypeOperatorExpression.KIND,
+        UnaryOperatorExpression.KIND,
+        PrefixOperatorExpression.KIND,
+        PrefixOperatorExpression.KIND,
+        UnaryOperatorExpression.KIND,
+        PostfixOperatorExpression.KIND,
+        PostfixOperatorExpression.KIND,
+        -1,
+        Atom.KIND,
+        Term.KIND,
+        Primary.KIND,
+        PostfixExpression.KIND,
+        Primary.KIND,
+        MemberOrTypeExpression.KIND,
+        MemberOrTypeExpression.KIND,
+        StaticMemberOrTypeExpression.KIND,
+        BaseMemberOrTypeExpression.KIND,
+        BaseMemberOrTypeExpression.KIND,
+        StaticMemberOrTypeExpression.KIND,
+        QualifiedMemberOrTypeExpression.KIND,
+        QualifiedMemberOrTypeExpression.KIND,
+        -1,
+        MemberOperator.KIND,
+        MemberOperator.KIND,
+        MemberOperator.KIND,
+        PostfixExpression.KIND,
+        -1,
+        IndexOperator.KIND,
+        IndexOperator.KIND,
+        -1,
+        ElementOrRange.KIND,
+        ElementOrRange.KIND,
+        Atom.KIND,
+        -1,
+        ArgumentList.KIND,
+        StatementOrArgument.KIND,
+        ArgumentList.KIND,
+        -1,
+        -1,
+        PositionalArgument.KIND,
+        StatementOrArgument.KIND,
+        NamedArgument.KIND,
+        NamedArgument.KIND,
+        TypedArgument.KIND,
+        TypedArgument.KIND,
+        TypedArgument.KIND,
+        -1,
+        SpecifierOrInitializerExpression.KIND,
+        SpecifierOrInitializerExpression.KIND,
+        Primary.KIND,
+        Atom.KIND,
+        Literal.KIND,
+        Literal.KIND,
+        Literal.KIND,
+        Literal.KIND,
+        Literal.KIND,
+        Atom.KIND,
+        SelfExpression.KIND,
+        SelfExpression.KIND,
+        Atom.KIND,
+        Atom.KIND,
+        Atom.KIND,
+        InvocationExpression.KIND,
+        -1,
+        -1,
+        StatementOrArgument.KIND,
+        ControlClause.KIND,
+        ComprehensionClause.KIND,
+        ComprehensionClause.KIND,
+        ComprehensionClause.KIND,
+    };
+
+}
@@ -0,0 +1,2082 @@
+package com.redhat.ceylon.compiler.typechecker.tree;
+
+import static com.redhat.ceylon.compiler.typechecker.tree.Tree.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import org.antlr.runtime.Token;
+
+public class TreeReader extends AbstractTreeReader {
+
+    public TreeReader(InputStream in) {
+        super(in);
+    }
+
+    private void readCompilationUnitFields(CompilationUnit node) throws IOException {
+        readNodes(node.getCompilerAnnotations());
+        node.setImportList((ImportList) readNode());
+        readNodes(node.getDeclarations());
+    }
+
+    private void readImportListFields(ImportList node) throws IOException {
+        readNodes(node.getImports());
+    }
+
+    private void readImportFields(Import node) throws IOException {
+        readStatementOrArgumentFields(node);
+        node.setImportPath((ImportPath) readNode());
+        node.setImportMemberOrTypeList((ImportMemberOrTypeList) readNode());
+    }
+
+    private void readImportPathFields(ImportPath node) throws IOException {
+        readNodes(node.getIdentifiers());
+    }
+
+    private void readImportMemberOrTypeListFields(ImportMemberOrTypeList node) throws IOException {
+        readNodes(node.getImportMemberOrTypes());
+        node.setImportWildcard((ImportWildcard) readNode());
+    }
+
+    private void readImportMemberOrTypeFields(ImportMemberOrType node) throws IOException {
+        readStatementOrArgumentFields(node);
+        node.setAlias((Alias) readNode());
+        node.setIdentifier((Identifier) readNode());
+        node.setImportMemberOrTypeList((ImportMemberOrTypeList) readNode());
+    }
+
+    private void readImportMemberFields(ImportMember node) throws IOException {
+        readImportMemberOrTypeFields(node);
+    }
+
+    private void readImportTypeFields(ImportType node) throws IOException {
+        readImportMemberOrTypeFields(node);
+    }
+
+    private void readAliasFields(Alias node) throws IOException {
+        node.setIdentifier((Identifier) readNode());
+    }
+
+    private void readImplicitFields(Implicit node) throws IOException {
+    }
+
+    private void readImportWildcardFields(ImportWildcard node) throws IOException {
+    }
+
+    private void readDeclarationFields(Declaration node) throws IOException {
+        readStatementFields(node);
+        node.setAnnotationList((AnnotationList) readNode());
+        node.setIdentifier((Identifier) readNode());
+    }
+
+    private void readTypeDeclarationFields(TypeDeclaration node) throws IOException {
+        readDeclarationFields(node);
+        node.setTypeParameterList((TypeParameterList) readNode());
+        node.setCaseTypes((CaseTypes) readNode());
+        node.setSatisfiedTypes((SatisfiedTypes) readNode());
+    }
+
+    private void readClassOrInterfaceFields(ClassOrInterface node) throws IOException {
+        readTypeDeclarationFields(node);
+        node.setTypeConstraintList((TypeConstraintList) readNode());
+    }
+
+    private void readSatisfiedTypesFields(SatisfiedTypes node) throws IOException {
+        readNodes(node.getTypes());
+    }
+
+    private void readAbstractedTypeFields(AbstractedType node) throws IOException {
+        node.setType((SimpleType) readNode());
+    }
+
+    private void readAdaptedTypesFields(AdaptedTypes node) throws IOException {
+        readNodes(node.getTypes());
+    }
+
+    private void readCaseTypesFields(CaseTypes node) throws IOException {
+        readNodes(node.getTypes());
+        readNodes(node.getBaseMemberExpressions());
+    }
+
+    private void readExtendedTypeFields(ExtendedType node) throws IOException {
+        node.setType((SimpleType) readNode());
+        node.setInvocationExpression((InvocationExpression) readNode());
+    }
+
+    private void readTypeConstraintListFields(TypeConstraintList node) throws IOException {
+        readNodes(node.getTypeConstraints());
+    }
+
+    private void readTypeConstraintFields(TypeConstraint node) throws IOException {
+        readTypeDeclarationFields(node);
+        node.setParameterList((ParameterList) readNode());
+        node.setAbstractedType((AbstractedType) readNode());
+    }
+
+    private void readTypeSpecifierFields(TypeSpecifier node) throws IOException {
+        node.setType((SimpleType) readNode());
+    }
+
+    private void readAnyClassFields(AnyClass node) throws IOException {
+        readClassOrInterfaceFields(node);
+        node.setParameterList((ParameterList) readNode());
+        node.setExtendedType((ExtendedType) readNode());
+    }
+
+    private void readClassDefinitionFields(ClassDefinition node) throws IOException {
+        readAnyClassFields(node);
+        node.setClassBody((ClassBody) readNode());
+    }
+
+    private void readClassDeclarationFields(ClassDeclaration node) throws IOException {
+        readAnyClassFields(node);
+        node.setTypeSpecifier((TypeSpecifier) readNode());
+    }
+
+    private void readAnyInterfaceFields(AnyInterface node) throws IOException {
+        readClassOrInterfaceFields(node);
+    }
+
+    private void readInterfaceDefinitionFields(InterfaceDefinition node) throws IOException {
+        readAnyInterfaceFields(node);
+        node.setAdaptedTypes((AdaptedTypes) readNode());
+        node.setInterfaceBody((InterfaceBody) readNode());
+    }
+
+    private void readInterfaceDeclarationFields(InterfaceDeclaration node) throws IOException {
+        readAnyInterfaceFields(node);
+        node.setTypeSpecifier((TypeSpecifier) readNode());
+    }
+
+    private void readTypedDeclarationFields(TypedDeclaration node) throws IOException {
+        readDeclarationFields(node);
+        node.setType((Type) readNode());
+    }
+
+    private void readAnyAttributeFields(AnyAttribute node) throws IOException {
+        readTypedDeclarationFields(node);
+    }
+
+    private void readAttributeDeclarationFields(AttributeDeclaration node) throws IOException {
+        readAnyAttributeFields(node);
+        node.setSpecifierOrInitializerExpression((SpecifierOrInitializerExpression) readNode());
+    }
+
+    private void readAttributeGetterDefinitionFields(AttributeGetterDefinition node) throws IOException {
+        readAnyAttributeFields(node);
+        node.setBlock((Block) readNode());
+    }
+
+    private void readAttributeSetterDefinitionFields(AttributeSetterDefinition node) throws IOException {
+        readTypedDeclarationFields(node);
+        node.setBlock((Block) readNode());
+    }
+
+    private void readAnyMethodFields(AnyMethod node) throws IOException {
+        readTypedDeclarationFields(node);
+        node.setTypeParameterList((TypeParameterList) readNode());
+        readNodes(node.getParameterLists());
+        node.setTypeConstraintList((TypeConstraintList) readNode());
+    }
+
+    private void readMethodDefinitionFields(MethodDefinition node) throws IOException {
+        readAnyMethodFields(node);
+        node.setBlock((Block) readNode());
+    }
+
+    private void readMethodDeclarationFields(MethodDeclaration node) throws IOException {
+        readAnyMethodFields(node);
+        node.setSpecifierExpression((SpecifierExpression) readNode());
+    }
+
+    private void readVoidModifierFields(VoidModifier node) throws IOException {
+        readTypeFields(node);
+    }
+
+    private void readObjectDefinitionFields(ObjectDefinition node) throws IOException {
+        readTypedDeclarationFields(node);
+        node.setExtendedType((ExtendedType) readNode());
+        node.setSatisfiedTypes((SatisfiedTypes) readNode());
+        node.setClassBody((ClassBody) readNode());
+    }
+
+    private void readParameterListFields(ParameterList node) throws IOException {
+        readNodes(node.getParameters());
+    }
+
+    private void readParameterFields(Parameter node) throws IOException {
+        readTypedDeclarationFields(node);
+        node.setDefaultArgument((DefaultArgument) readNode());
+    }
+
+    private void readDefaultArgumentFields(DefaultArgument node) throws IOException {
+        node.setSpecifierExpression((SpecifierExpression) readNode());
+    }
+
+    private void readValueParameterDeclarationFields(ValueParameterDeclaration node) throws IOException {
+        readParameterFields(node);
+    }
+
+    private void readFunctionalParameterDeclarationFields(FunctionalParameterDeclaration node) throws IOException {
+        readParameterFields(node);
+        readNodes(node.getParameterLists());
+    }
+
+    private void readTypeParameterListFields(TypeParameterList node) throws IOException {
+        readNodes(node.getTypeParameterDeclarations());
+        node.setSequencedTypeParameterDeclaration((SequencedTypeParameterDeclaration) readNode());
+    }
+
+    private void readTypeParameterDeclarationFields(TypeParameterDeclaration node) throws IOException {
+        readDeclarationFields(node);
+        node.setTypeVariance((TypeVariance) readNode());
+    }
+
+    private void readTypeVarianceFields(TypeVariance node) throws IOException {
+    }
+
+    private void readSequencedTypeParameterDeclarationFields(SequencedTypeParameterDeclaration node) throws IOException {
+        readDeclarationFields(node);
+    }
+
+    private void readBodyFields(Body node) throws IOException {
+        readNodes(node.getStatements());
+    }
+
+    private void readBlockFields(Block node) throws IOException {
+        readBodyFields(node);
+    }
+
+    private void readClassBodyFields(ClassBody node) throws IOException {
+        readBodyFields(node);
+    }
+
+    private void readInterfaceBodyFields(InterfaceBody node) throws IOException {
+        readBodyFields(node);
+    }
+
+    private void readTypeFields(Type node) throws IOException {
+    }
+
+    private void readStaticTypeFields(StaticType node) throws IOException {
+        readTypeFields(node);
+    }
+
+    private void readSimpleTypeFields(SimpleType node) throws IOException {
+        readStaticTypeFields(node);
+        node.setIdentifier((Identifier) readNode());
+        node.setTypeArgumentList((TypeArgumentList) readNode());
+    }
+
+    private void readBaseTypeFields(BaseType node) throws IOException {
+        readSimpleTypeFields(node);
+    }
+
+    private void readUnionTypeFields(UnionType node) throws IOException {
+        readStaticTypeFields(node);
+        readNodes(node.getStaticTypes());
+    }
+
+    private void readIntersectionTypeFields(IntersectionType node) throws IOException {
+        readStaticTypeFields(node);
+        readNodes(node.getStaticTypes());
+    }
+
+    private void readQualifiedTypeFields(QualifiedType node) throws IOException {
+        readSimpleTypeFields(node);
+        node.setOuterType((StaticType) readNode());
+    }
+
+    private void readSuperTypeFields(SuperType node) throws IOException {
+        readStaticTypeFields(node);
+    }
+
+    private void readLocalModifierFields(LocalModifier node) throws IOException {
+        readTypeFields(node);
+    }
+
+    private void readValueModifierFields(ValueModifier node) throws IOException {
+        readLocalModifierFields(node);
+    }
+
+    private void readFunctionModifierFields(FunctionModifier node) throws IOException {
+        readLocalModifierFields(node);
+    }
+
+    private void readSyntheticVariableFields(SyntheticVariable node) throws IOException {
+        readValueModifierFields(node);
+    }
+
+    private void readTypeArgumentsFields(TypeArguments node) throws IOException {
+    }
+
+    private void readTypeArgumentListFields(TypeArgumentList node) throws IOException {
+        readTypeArgumentsFields(node);
+        readNodes(node.getTypes());
+    }
+
+    private void readInferredTypeArgumentsFields(InferredTypeArguments node) throws IOException {
+        readTypeArgumentsFields(node);
+    }
+
+    private void readSequencedTypeFields(SequencedType node) throws IOException {
+        readTypeFields(node);
+        node.setType((Type) readNode());
+    }
+
+    private void readDirectiveFields(Directive node) throws IOException {
+        readExecutableStatementFields(node);
+    }
+
+    private void readReturnFields(Return node) throws IOException {
+        readDirectiveFields(node);
+        node.setExpression((Expression) readNode());
+    }
+
+    private void readThrowFields(Throw node) throws IOException {
+        readDirectiveFields(node);
+        node.setExpression((Expression) readNode());
+    }
+
+    private void readContinueFields(Continue node) throws IOException {
+        readDirectiveFields(node);
+    }
+
+    private void readBreakFields(Break node) throws IOException {
+        readDirectiveFields(node);
+    }
+
+    private void readStatementOrArgumentFields(StatementOrArgument node) throws IOException {
+        readNodes(node.getCompilerAnnotations());
+    }
+
+    private void readStatementFields(Statement node) throws IOException {
+        readStatementOrArgumentFields(node);
+    }
+
+    private void readCompilerAnnotationFields(CompilerAnnotation node) throws IOException {
+        node.setIdentifier((Identifier) readNode());
+        node.setStringLiteral((StringLiteral) readNode());
+    }
+
+    private void readExecutableStatementFields(ExecutableStatement node) throws IOException {
+        readStatementFields(node);
+    }
+
+    private void readSpecifierStatementFields(SpecifierStatement node) throws IOException {
+        readExecutableStatementFields(node);
+        node.setBaseMemberExpression((Term) readNode());
+        node.setSpecifierExpression((SpecifierExpression) readNode());
+    }
+
+    private void readExpressionStatementFields(ExpressionStatement node) throws IOException {
+        readExecutableStatementFields(node);
+        node.setExpression((Expression) readNode());
+    }
+
+    private void readControlStatementFields(ControlStatement node) throws IOException {
+        readExecutableStatementFields(node);
+    }
+
+    private void readControlClauseFields(ControlClause node) throws IOException {
+    }
+
+    private void readIfStatementFields(IfStatement node) throws IOException {
+        readControlStatementFields(node);
+        node.setIfClause((IfClause) readNode());
+        node.setElseClause((ElseClause) readNode());
+    }
+
+    private void readIfClauseFields(IfClause node) throws IOException {
+        readControlClauseFields(node);
+        node.setCondition((Condition) readNode());
+        node.setBlock((Block) readNode());
+    }
+
+    private void readElseClauseFields(ElseClause node) throws IOException {
+        readControlClauseFields(node);
+        node.setBlock((Block) readNode());
+    }
+
+    private void readSwitchStatementFields(SwitchStatement node) throws IOException {
+        readControlStatementFields(node);
+        node.setSwitchClause((SwitchClause) readNode());
+        node.setSwitchCaseList((SwitchCaseList) readNode());
+    }
+
+    private void readSwitchClauseFields(SwitchClause node) throws IOException {
+        node.setExpression((Expression) readNode());
+    }
+
+    private void readSwitchCaseListFields(SwitchCaseList node) throws IOException {
+        readNodes(node.getCaseClauses());
+        node.setElseClause((ElseClause) readNode());
+    }
+
+    private void readCaseClauseFields(CaseClause node) throws IOException {
+        readControlClauseFields(node);
+        node.setCaseItem((CaseItem) readNode());
+        node.setBlock((Block) readNode());
+    }
+
+    private void readCaseItemFields(CaseItem node) throws IOException {
+    }
+
+    private void readMatchCaseFields(MatchCase node) throws IOException {
+        readCaseItemFields(node);
+        node.setExpressionList((ExpressionList) readNode());
+    }
+
+    private void readIsCaseFields(IsCase node) throws IOException {
+        readCaseItemFields(node);
+        node.setType((Type) readNode());
+        node.setVariable((Variable) readNode());
+    }
+
+    private void readSatisfiesCaseFields(SatisfiesCase node) throws IOException {
+        readCaseItemFields(node);
+        node.setType((SimpleType) readNode());
+    }
+
+    private void readTryCatchStatementFields(TryCatchStatement node) throws IOException {
+        readControlStatementFields(node);
+        node.setTryClause((TryClause) readNode());
+        readNodes(node.getCatchClauses());
+        node.setFinallyClause((FinallyClause) readNode());
+    }
+
+    private void readTryClauseFields(TryClause node) throws IOException {
+        readControlClauseFields(node);
+        node.setResource((Resource) readNode());
+        node.setBlock((Block) readNode());
+    }
+
+    private void readCatchClauseFields(CatchClause node) throws IOException {
+        readControlClauseFields(node);
+        node.setCatchVariable((CatchVariable) readNode());
+        node.setBlock((Block) readNode());
+    }
+
+    private void readFinallyClauseFields(FinallyClause node) throws IOException {
+        readControlClauseFields(node);
+        node.setBlock((Block) readNode());
+    }
+
+    private void readResourceFields(Resource node) throws IOException {
+        node.setVariable((Variable) readNode());
+        node.setExpression((Expression) readNode());
+    }
+
+    private void readCatchVariableFields(CatchVariable node) throws IOException {
+        node.setVariable((Variable) readNode());
+    }
+
+    private void readForStatementFields(ForStatement node) throws IOException {
+        readControlStatementFields(node);
+        node.setForClause((ForClause) readNode());
+        node.setElseClause((ElseClause) readNode());
+    }
+
+    private void readForClauseFields(ForClause node) throws IOException {
+        readControlClauseFields(node);
+        node.setForIterator((ForIterator) readNode());
+        node.setBlock((Block) readNode());
+    }
+
+    private void readForIteratorFields(ForIterator node) throws IOException {
+        readStatementOrArgumentFields(node);
+        node.setSpecifierExpression((SpecifierExpression) readNode());
+    }
+
+    private void readValueIteratorFields(ValueIterator node) throws IOException {
+        readForIteratorFields(node);
+        node.setVariable((Variable) readNode());
+    }
+
+    private void readKeyValueIteratorFields(KeyValueIterator node) throws IOException {
+        readForIteratorFields(node);
+        node.setKeyVariable((Variable) readNode());
+        node.setValueVariable((Variable) readNode());
+    }
+
+    private void readWhileStatementFields(WhileStatement node) throws IOException {
+        readControlStatementFields(node);
+        node.setWhileClause((WhileClause) readNode());
+    }
+
+    private void readWhileClauseFields(WhileClause node) throws IOException {
+        readControlClauseFields(node);
+        node.setCondition((Condition) readNode());
+        node.setBlock((Block) readNode());
+    }
+
+    private void readConditionFields(Condition node) throws IOException {
+    }
+
+    private void readBooleanConditionFields(BooleanCondition node) throws IOException {
+        readConditionFields(node);
+        node.setExpression((Expression) readNode());
+    }
+
+    private void readExistsOrNonemptyConditionFields(ExistsOrNonemptyCondition node) throws IOException {
+        readConditionFields(node);
+        node.setVariable((Variable) readNode());
+        node.setExpression((Expression) readNode());
+    }
+
+    private void readExistsConditionFields(ExistsCondition node) throws IOException {
+        readExistsOrNonemptyConditionFields(node);
+    }
+
+    private void readNonemptyConditionFields(NonemptyCondition node) throws IOException {
+        readExistsOrNonemptyConditionFields(node);
+    }
+
+    private void readIsConditionFields(IsCondition node) throws IOException {
+        readConditionFields(node);
+        node.setType((Type) readNode());
+        node.setVariable((Variable) readNode());
+        node.setExpression((Expression) readNode());
+    }
+
+    private void readSatisfiesConditionFields(SatisfiesCondition node) throws IOException {
+        readConditionFields(node);
+        node.setLeftType((Type) readNode());
+        node.setRightType((Type) readNode());
+    }
+
+    private void readVariableFields(Variable node) throws IOException {
+        readTypedDeclarationFields(node);
+        readNodes(node.getParameterLists());
+        node.setSpecifierExpression((SpecifierExpression) readNode());
+    }
+
+    private void readTermFields(Term node) throws IOException {
+        node.setUnboxed(readBoolean());
+    }
+
+    private void readOperatorExpressionFields(OperatorExpression node) throws IOException {
+        readTermFields(node);
+    }
+
+    private void readBinaryOperatorExpressionFields(BinaryOperatorExpression node) throws IOException {
+        readOperatorExpressionFields(node);
+        node.setLeftTerm((Term) readNode());
+        node.setRightTerm((Term) readNode());
+    }
+
+    private void readArithmeticOpFields(ArithmeticOp node) throws IOException {
+        readBinaryOperatorExpressionFields(node);
+    }
+
+    private void readSumOpFields(SumOp node) throws IOException {
+        readArithmeticOpFields(node);
+    }
+
+    private void readDifferenceOpFields(DifferenceOp node) throws IOException {
+        readArithmeticOpFields(node);
+    }
+
+    private void readProductOpFields(ProductOp node) throws IOException {
+        readArithmeticOpFields(node);
+    }
+
+    private void readQuotientOpFields(QuotientOp node) throws IOException {
+        readArithmeticOpFields(node);
+    }
+
+    private void readPowerOpFields(PowerOp node) throws IOException {
+        readArithmeticOpFields(node);
+    }
+
+    private void readRemainderOpFields(RemainderOp node) throws IOException {
+        readArithmeticOpFields(node);
+    }
+
+    private void readAssignmentOpFields(AssignmentOp node) throws IOException {
+        readBinaryOperatorExpressionFields(node);
+    }
+
+    private void readAssignOpFields(AssignOp node) throws IOException {
+        readAssignmentOpFields(node);
+    }
+
+    private void readArithmeticAssignmentOpFields(ArithmeticAssignmentOp node) throws IOException {
+        readAssignmentOpFields(node);
+    }
+
+    private void readAddAssignOpFields(AddAssignOp node) throws IOException {
+        readArithmeticAssignmentOpFields(node);
+    }
+
+    private void readSubtractAssignOpFields(SubtractAssignOp node) throws IOException {
+        readArithmeticAssignmentOpFields(node);
+    }
+
+    private void readMultiplyAssignOpFields(MultiplyAssignOp node) throws IOException {
+        readArithmeticAssignmentOpFields(node);
+    }
+
+    private void readDivideAssignOpFields(DivideAssignOp node) throws IOException {
+        readArithmeticAssignmentOpFields(node);
+    }
+
+    private void readRemainderAssignOpFields(RemainderAssignOp node) throws IOException {
+        readArithmeticAssignmentOpFields(node);
+    }
+
+    private void readBitwiseAssignmentOpFields(BitwiseAssignmentOp node) throws IOException {
+        readAssignmentOpFields(node);
+    }
+
+    private void readIntersectAssignOpFields(IntersectAssignOp node) throws IOException {
+        readBitwiseAssignmentOpFields(node);
+    }
+
+    private void readUnionAssignOpFields(UnionAssignOp node) throws IOException {
+        readBitwiseAssignmentOpFields(node);
+    }
+
+    private void readXorAssignOpFields(XorAssignOp node) throws IOException {
+        readBitwiseAssignmentOpFields(node);
+    }
+
+    private void readComplementAssignOpFields(ComplementAssignOp node) throws IOException {
+        readBitwiseAssignmentOpFields(node);
+    }
+
+    private void readLogicalAssignmentOpFields(LogicalAssignmentOp node) throws IOException {
+        readAssignmentOpFields(node);
+    }
+
+    private void readAndAssignOpFields(AndAssignOp node) throws IOException {
+        readLogicalAssignmentOpFields(node);
+    }
+
+    private void readOrAssignOpFields(OrAssignOp node) throws IOException {
+        readLogicalAssignmentOpFields(node);
+    }
+
+    private void readLogicalOpFields(LogicalOp node) throws IOException {
+        readBinaryOperatorExpressionFields(node);
+    }
+
+    private void readAndOpFields(AndOp node) throws IOException {
+        readLogicalOpFields(node);
+    }
+
+    private void readOrOpFields(OrOp node) throws IOException {
+        readLogicalOpFields(node);
+    }
+
+    private void readBitwiseOpFields(BitwiseOp node) throws IOException {
+        readBinaryOperatorExpressionFields(node);
+    }
+
+    private void readIntersectionOpFields(IntersectionOp node) throws IOException {
+        readBitwiseOpFields(node);
+    }
+
+    private void readUnionOpFields(UnionOp node) throws IOException {
+        readBitwiseOpFields(node);
+    }
+
+    private void readXorOpFields(XorOp node) throws IOException {
+        readBitwiseOpFields(node);
+    }
+
+    private void readComplementOpFields(ComplementOp node) throws IOException {
+        readBitwiseOpFields(node);
+    }
+
+    private void readEqualityOpFields(EqualityOp node) throws IOException {
+        readBinaryOperatorExpressionFields(node);
+    }
+
+    private void readEqualOpFields(EqualOp node) throws IOException {
+        readEqualityOpFields(node);
+    }
+
+    private void readNotEqualOpFields(NotEqualOp node) throws IOException {
+        readEqualityOpFields(node);
+    }
+
+    private void readComparisonOpFields(ComparisonOp node) throws IOException {
+        readBinaryOperatorExpressionFields(node);
+    }
+
+    private void readLargerOpFields(LargerOp node) throws IOException {
+        readComparisonOpFields(node);
+    }
+
+    private void readSmallerOpFields(SmallerOp node) throws IOException {
+        readComparisonOpFields(node);
+    }
+
+    private void readLargeAsOpFields(LargeAsOp node) throws IOException {
+        readComparisonOpFields(node);
+    }
+
+    private void readSmallAsOpFields(SmallAsOp node) throws IOException {
+        readComparisonOpFields(node);
+    }
+
+    private void readDefaultOpFields(DefaultOp node) throws IOException {
+        readBinaryOperatorExpressionFields(node);
+    }
+
+    private void readThenOpFields(ThenOp node) throws IOException {
+        readBinaryOperatorExpressionFields(node);
+    }
+
+    private void readIdenticalOpFields(IdenticalOp node) throws IOException {
+        readBinaryOperatorExpressionFields(node);
+    }
+
+    private void readEntryOpFields(EntryOp node) throws IOException {
+        readBinaryOperatorExpressionFields(node);
+    }
+
+    private void readRangeOpFields(RangeOp node) throws IOException {
+        readBinaryOperatorExpressionFields(node);
+    }
+
+    private void readCompareOpFields(CompareOp node) throws IOException {
+        readBinaryOperatorExpressionFields(node);
+    }
+
+    private void readInOpFields(InOp node) throws IOException {
+        readBinaryOperatorExpressionFields(node);
+    }
+
+    private void readUnaryOperatorExpressionFields(UnaryOperatorExpression node) throws IOException {
+        readOperatorExpressionFields(node);
+        node.setTerm((Term) readNode());
+    }
+
+    private void readNotOpFields(NotOp node) throws IOException {
+        readUnaryOperatorExpressionFields(node);
+    }
+
+    private void readExistsFields(Exists node) throws IOException {
+        readUnaryOperatorExpressionFields(node);
+    }
+
+    private void readNonemptyFields(Nonempty node) throws IOException {
+        readUnaryOperatorExpressionFields(node);
+    }
+
+    private void readFlipOpFields(FlipOp node) throws IOException {
+        readUnaryOperatorExpressionFields(node);
+    }
+
+    private void readNegativeOpFields(NegativeOp node) throws IOException {
+        readUnaryOperatorExpressionFields(node);
+    }
+
+    private void readPositiveOpFields(PositiveOp node) throws IOException {
+        readUnaryOperatorExpressionFields(node);
+    }
+
+    private void readTypeOperatorExpressionFields(TypeOperatorExpression node) throws IOException {
+        readUnaryOperatorExpressionFields(node);
+        node.setType((Type) readNode());
+    }
+
+    private void readIsOpFields(IsOp node) throws IOException {
+        readTypeOperatorExpressionFields(node);
+    }
+
+    private void readSatisfiesFields(Satisfies node) throws IOException {
+        readTypeOperatorExpressionFields(node);
+    }
+
+    private void readExtendsFields(Extends node) throws IOException {
+        readTypeOperatorExpressionFields(node);
+    }
+
+    private void readPrefixOperatorExpressionFields(PrefixOperatorExpression node) throws IOException {
+        readUnaryOperatorExpressionFields(node);
+    }
+
+    private void readIncrementOpFields(IncrementOp node) throws IOException {
+        readPrefixOperatorExpressionFields(node);
+    }
+
+    private void readDecrementOpFields(DecrementOp node) throws IOException {
+        readPrefixOperatorExpressionFields(node);
+    }
+
+    private void readPostfixOperatorExpressionFields(PostfixOperatorExpression node) throws IOException {
+        readUnaryOperatorExpressionFields(node);
+    }
+
+    private void readPostfixIncrementOpFields(PostfixIncrementOp node) throws IOException {
+        readPostfixOperatorExpressionFields(node);
+    }
+
+    private void readPostfixDecrementOpFields(PostfixDecrementOp node) throws IOException {
+        readPostfixOperatorExpressionFields(node);
+    }
+
+    private void readExpressionListFields(ExpressionList node) throws IOException {
+        readNodes(node.getExpressions());
+    }
+
+    private void readExpressionFields(Expression node) throws IOException {
+        readAtomFields(node);
+        node.setTerm((Term) readNode());
+    }
+
+    private void readPrimaryFields(Primary node) throws IOException {
+        readTermFields(node);
+    }
+
+    private void readPostfixExpressionFields(PostfixExpression node) throws IOException {
+        readPrimaryFields(node);
+        node.setPrimary((Primary) readNode());
+    }
+
+    private void readInvocationExpressionFields(InvocationExpression node) throws IOException {
+        readPostfixExpressionFields(node);
+        node.setPositionalArgumentList((PositionalArgumentList) readNode());
+        node.setNamedArgumentList((NamedArgumentList) readNode());
+    }
+
+    private void readMemberOrTypeExpressionFields(MemberOrTypeExpression node) throws IOException {
+        readPrimaryFields(node);
+    }
+
+    private void readExtendedTypeExpressionFields(ExtendedTypeExpression node) throws IOException {
+        readMemberOrTypeExpressionFields(node);
+    }
+
+    private void readStaticMemberOrTypeExpressionFields(StaticMemberOrTypeExpression node) throws IOException {
+        readMemberOrTypeExpressionFields(node);
+        node.setIdentifier((Identifier) readNode());
+        node.setTypeArguments((TypeArguments) readNode());
+    }
+
+    private void readBaseMemberOrTypeExpressionFields(BaseMemberOrTypeExpression node) throws IOException {
+        readStaticMemberOrTypeExpressionFields(node);
+    }
+
+    private void readBaseMemberExpressionFields(BaseMemberExpression node) throws IOException {
+        readBaseMemberOrTypeExpressionFields(node);
+    }
+
+    private void readBaseTypeExpressionFields(BaseTypeExpression node) throws IOException {
+        readBaseMemberOrTypeExpressionFields(node);
+    }
+
+    private void readQualifiedMemberOrTypeExpressionFields(QualifiedMemberOrTypeExpression node) throws IOException {
+        readStaticMemberOrTypeExpressionFields(node);
+        node.setPrimary((Primary) readNode());
+        node.setMemberOperator((MemberOperator) readNode());
+    }
+
+    private void readQualifiedMemberExpressionFields(QualifiedMemberExpression node) throws IOException {
+        readQualifiedMemberOrTypeExpressionFields(node);
+    }
+
+    private void readQualifiedTypeExpressionFields(QualifiedTypeExpression node) throws IOException {
+        readQualifiedMemberOrTypeExpressionFields(node);
+    }
+
+    private void readMemberOperatorFields(MemberOperator node) throws IOException {
+    }
+
+    private void readMemberOpFields(MemberOp node) throws IOException {
+        readMemberOperatorFields(node);
+    }
+
+    private void readSafeMemberOpFields(SafeMemberOp node) throws IOException {
+        readMemberOperatorFields(node);
+    }
+
+    private void readSpreadOpFields(SpreadOp node) throws IOException {
+        readMemberOperatorFields(node);
+    }
+
+    private void readIndexExpressionFields(IndexExpression node) throws IOException {
+        readPostfixExpressionFields(node);
+        node.setIndexOperator((IndexOperator) readNode());
+        node.setElementOrRange((ElementOrRange) readNode());
+    }
+
+    private void readIndexOperatorFields(IndexOperator node) throws IOException {
+    }
+
+    private void readIndexOpFields(IndexOp node) throws IOException {
+        readIndexOperatorFields(node);
+    }
+
+    private void readSafeIndexOpFields(SafeIndexOp node) throws IOException {
+        readIndexOperatorFields(node);
+    }
+
+    private void readElementOrRangeFields(ElementOrRange node) throws IOException {
+    }
+
+    private void readElementFields(Element node) throws IOException {
+        readElementOrRangeFields(node);
+        node.setExpression((Expression) readNode());
+    }
+
+    private void readElementRangeFields(ElementRange node) throws IOException {
+        readElementOrRangeFields(node);
+        node.setLowerBound((Expression) readNode());
+        node.setUpperBound((Expression) readNode());
+    }
+
+    private void readOuterFields(Outer node) throws IOException {
+        readAtomFields(node);
+    }
+
+    private void readArgumentListFields(ArgumentList node) throws IOException {
+    }
+
+    private void readNamedArgumentListFields(NamedArgumentList node) throws IOException {
+        readArgumentListFields(node);
+        readNodes(node.getNamedArguments());
+        node.setSequencedArgument((SequencedArgument) readNode());
+        node.setComprehension((Comprehension) readNode());
+    }
+
+    private void readSequencedArgumentFields(SequencedArgument node) throws IOException {
+        readStatementOrArgumentFields(node);
+        node.setExpressionList((ExpressionList) readNode());
+    }
+
+    private void readPositionalArgumentListFields(PositionalArgumentList node) throws IOException {
+        readArgumentListFields(node);
+        readNodes(node.getPositionalArguments());
+        node.setComprehension((Comprehension) readNode());
+        node.setEllipsis((Ellipsis) readNode());
+    }
+
+    private void readEllipsisFields(Ellipsis node) throws IOException {
+    }
+
+    private void readPositionalArgumentFields(PositionalArgument node) throws IOException {
+        node.setExpression((Expression) readNode());
+    }
+
+    private void readFunctionArgumentFields(FunctionArgument node) throws IOException {
+        readPositionalArgumentFields(node);
+        node.setType((LocalModifier) readNode());
+        readNodes(node.getParameterLists());
+    }
+
+    private void readNamedArgumentFields(NamedArgument node) throws IOException {
+        readStatementOrArgumentFields(node);
+        node.setIdentifier((Identifier) readNode());
+    }
+
+    private void readSpecifiedArgumentFields(SpecifiedArgument node) throws IOException {
+        readNamedArgumentFields(node);
+        node.setSpecifierExpression((SpecifierExpression) readNode());
+    }
+
+    private void readTypedArgumentFields(TypedArgument node) throws IOException {
+        readNamedArgumentFields(node);
+        node.setType((Type) readNode());
+    }
+
+    private void readMethodArgumentFields(MethodArgument node) throws IOException {
+        readTypedArgumentFields(node);
+        readNodes(node.getParameterLists());
+        node.setBlock((Block) readNode());
+    }
+
+    private void readAttributeArgumentFields(AttributeArgument node) throws IOException {
+        readTypedArgumentFields(node);
+        node.setBlock((Block) readNode());
+    }
+
+    private void readObjectArgumentFields(ObjectArgument node) throws IOException {
+        readTypedArgumentFields(node);
+        node.setExtendedType((ExtendedType) readNode());
+        node.setSatisfiedTypes((SatisfiedTypes) readNode());
+        node.setClassBody((ClassBody) readNode());
+    }
+
+    private void readSpecifierOrInitializerExpressionFields(SpecifierOrInitializerExpression node) throws IOException {
+        node.setExpression((Expression) readNode());
+    }
+
+    private void readSpecifierExpressionFields(SpecifierExpression node) throws IOException {
+        readSpecifierOrInitializerExpressionFields(node);
+    }
+
+    private void readInitializerExpressionFields(InitializerExpression node) throws IOException {
+        readSpecifierOrInitializerExpressionFields(node);
+    }
+
+    private void readAtomFields(Atom node) throws IOException {
+        readPrimaryFields(node);
+    }
+
+    private void readLiteralFields(Literal node) throws IOException {
+        readAtomFields(node);
+    }
+
+    private void readNaturalLiteralFields(NaturalLiteral node) throws IOException {
+        readLiteralFields(node);
+    }
+
+    private void readFloatLiteralFields(FloatLiteral node) throws IOException {
+        readLiteralFields(node);
+    }
+
+    private void readCharLiteralFields(CharLiteral node) throws IOException {
+        readLiteralFields(node);
+    }
+
+    private void readStringLiteralFields(StringLiteral node) throws IOException {
+        readLiteralFields(node);
+    }
+
+    private void readQuotedLiteralFields(QuotedLiteral node) throws IOException {
+        readLiteralFields(node);
+    }
+
+    private void readSelfExpressionFields(SelfExpression node) throws IOException {
+        readAtomFields(node);
+    }
+
+    private void readThisFields(This node) throws IOException {
+        readSelfExpressionFields(node);
+    }
+
+    private void readSuperFields(Super node) throws IOException {
+        readSelfExpressionFields(node);
+    }
+
+    private void readSequenceEnumerationFields(SequenceEnumeration node) throws IOException {
+        readAtomFields(node);
+        node.setExpressionList((ExpressionList) readNode());
+        node.setComprehension((Comprehension) readNode());
+    }
+
+    private void readStringTemplateFields(StringTemplate node) throws IOException {
+        readAtomFields(node);
+        readNodes(node.getStringLiterals());
+        readNodes(node.getExpressions());
+    }
+
+    private void readLambdaFields(Lambda node) throws IOException {
+        readAtomFields(node);
+        node.setParameterList((ParameterList) readNode());
+        node.setBlock((Block) readNode());
+    }
+
+    private void readAnnotationFields(Annotation node) throws IOException {
+        readInvocationExpressionFields(node);
+    }
+
+    private void readAnnotationListFields(AnnotationList node) throws IOException {
+        readNodes(node.getAnnotations());
+    }
+
+    private void readIdentifierFields(Identifier node) throws IOException {
+    }
+
+    private void readComprehensionFields(Comprehension node) throws IOException {
+        readStatementOrArgumentFields(node);
+        node.setForComprehensionClause((ForComprehensionClause) readNode());
+    }
+
+    private void readComprehensionClauseFields(ComprehensionClause node) throws IOException {
+        readControlClauseFields(node);
+    }
+
+    private void readExpressionComprehensionClauseFields(ExpressionComprehensionClause node) throws IOException {
+        readComprehensionClauseFields(node);
+        node.setExpression((Expression) readNode());
+    }
+
+    private void readForComprehensionClauseFields(ForComprehensionClause node) throws IOException {
+        readComprehensionClauseFields(node);
+        node.setForIterator((ForIterator) readNode());
+        node.setComprehensionClause((ComprehensionClause) readNode());
+    }
+
+    private void readIfComprehensionClauseFields(IfComprehensionClause node) throws IOException {
+        readComprehensionClauseFields(node);
+        node.setCondition((Condition) readNode());
+        node.setComprehensionClause((ComprehensionClause) readNode());
+    }
+
+    @Override
+    protected Node create(int kind, Token token) throws IOException {
+        switch (kind) {
+        case CompilationUnit.KIND:
+            return new CompilationUnit(token);
+        case ImportList.KIND:
+            return new ImportList(token);
+        case Import.KIND:
+            return new Import(token);
+        case ImportPath.KIND:
+            return new ImportPath(token);
+        case ImportMemberOrTypeList.KIND:
+            return new ImportMemberOrTypeList(token);
+        case ImportMemberOrType.KIND:
+            return new ImportMemberOrType(token);
+        case ImportMember.KIND:
+            return new ImportMember(token);
+        case ImportType.KIND:
+            return new ImportType(token);
+        case Alias.KIND:
+            return new Alias(token);
+        case Implicit.KIND:
+            return new Implicit(token);
+        case ImportWildcard.KIND:
+            return new ImportWildcard(token);
+        case SatisfiedTypes.KIND:
+            return new SatisfiedTypes(token);
+        case AbstractedType.KIND:
+            return new AbstractedType(token);
+        case AdaptedTypes.KIND:
+            return new AdaptedTypes(token);
+        case CaseTypes.KIND:
+            return new CaseTypes(token);
+        case ExtendedType.KIND:
+            return new ExtendedType(token);
+        case TypeConstraintList.KIND:
+            return new TypeConstraintList(token);
+        case TypeConstraint.KIND:
+            return new TypeConstraint(token);
+        case TypeSpecifier.KIND:
+            return new TypeSpecifier(token);
+        case AnyClass.KIND:
+            return new AnyClass(token);
+        case ClassDefinition.KIND:
+            return new ClassDefinition(token);
+        case ClassDeclaration.KIND:
+            return new ClassDeclaration(token);
+        case AnyInterface.KIND:
+            return new AnyInterface(token);
+        case InterfaceDefinition.KIND:
+            return new InterfaceDefinition(token);
+        case InterfaceDeclaration.KIND:
+            return new InterfaceDeclaration(token);
+        case AttributeDeclaration.KIND:
+            return new AttributeDeclaration(token);
+        case AttributeGetterDefinition.KIND:
+            return new AttributeGetterDefinition(token);
+        case AttributeSetterDefinition.KIND:
+            return new AttributeSetterDefinition(token);
+        case AnyMethod.KIND:
+            return new AnyMethod(token);
+        case MethodDefinition.KIND:
+            return new MethodDefinition(token);
+        case MethodDeclaration.KIND:
+            return new MethodDeclaration(token);
+        case VoidModifier.KIND:
+            return new VoidModifier(token);
+        case ObjectDefinition.KIND:
+            return new ObjectDefinition(token);
+        case ParameterList.KIND:
+            return new ParameterList(token);
+        case DefaultArgument.KIND:
+            return new DefaultArgument(token);
+        case ValueParameterDeclaration.KIND:
+            return new ValueParameterDeclaration(token);
+        case FunctionalParameterDeclaration.KIND:
+            return new FunctionalParameterDeclaration(token);
+        case TypeParameterList.KIND:
+            return new TypeParameterList(token);
+        case TypeParameterDeclaration.KIND:
+            return new TypeParameterDeclaration(token);
+        case TypeVariance.KIND:
+            return new TypeVariance(token);
+        case SequencedTypeParameterDeclaration.KIND:
+            return new SequencedTypeParameterDeclaration(token);
+        case Block.KIND:
+            return new Block(token);
+        case ClassBody.KIND:
+            return new ClassBody(token);
+        case InterfaceBody.KIND:
+            return new InterfaceBody(token);
+        case BaseType.KIND:
+            return new BaseType(token);
+        case UnionType.KIND:
+            return new UnionType(token);
+        case IntersectionType.KIND:
+            return new IntersectionType(token);
+        case QualifiedType.KIND:
+            return new QualifiedType(token);
+        case SuperType.KIND:
+            return new SuperType(token);
+        case ValueModifier.KIND:
+            return new ValueModifier(token);
+        case FunctionModifier.KIND:
+            return new FunctionModifier(token);
+        case SyntheticVariable.KIND:
+            return new SyntheticVariable(token);
+        case TypeArguments.KIND:
+            return new TypeArguments(token);
+        case TypeArgumentList.KIND:
+            return new TypeArgumentList(token);
+        case InferredTypeArguments.KIND:
+            return new InferredTypeArguments(token);
+        case SequencedType.KIND:
+            return new SequencedType(token);
+        case Return.KIND:
+            return new Return(token);
+        case Throw.KIND:
+            return new Throw(token);
+        case Continue.KIND:
+            return new Continue(token);
+        case Break.KIND:
+            return new Break(token);
+        case CompilerAnnotation.KIND:
+            return new CompilerAnnotation(token);
+        case SpecifierStatement.KIND:
+            return new SpecifierStatement(token);
+        case ExpressionStatement.KIND:
+            return new ExpressionStatement(token);
+        case ControlStatement.KIND:
+            return new ControlStatement(token);
+        case ControlClause.KIND:
+            return new ControlClause(token);
+        case IfStatement.KIND:
+            return new IfStatement(token);
+        case IfClause.KIND:
+            return new IfClause(token);
+        case ElseClause.KIND:
+            return new ElseClause(token);
+        case SwitchStatement.KIND:
+            return new SwitchStatement(token);
+        case SwitchClause.KIND:
+            return new SwitchClause(token);
+        case SwitchCaseList.KIND:
+            return new SwitchCaseList(token);
+        case CaseClause.KIND:
+            return new CaseClause(token);
+        case CaseItem.KIND:
+            return new CaseItem(token);
+        case MatchCase.KIND:
+            return new MatchCase(token);
+        case IsCase.KIND:
+            return new IsCase(token);
+        case SatisfiesCase.KIND:
+            return new SatisfiesCase(token);
+        case TryCatchStatement.KIND:
+            return new TryCatchStatement(token);
+        case TryClause.KIND:
+            return new TryClause(token);
+        case CatchClause.KIND:
+            return new CatchClause(token);
+        case FinallyClause.KIND:
+            return new FinallyClause(token);
+        case Resource.KIND:
+            return new Resource(token);
+        case CatchVariable.KIND:
+            return new CatchVariable(token);
+        case ForStatement.KIND:
+            return new ForStatement(token);
+        case ForClause.KIND:
+            return new ForClause(token);
+        case ForIterator.KIND:
+            return new ForIterator(token);
+        case ValueIterator.KIND:
+            return new ValueIterator(token);
+        case KeyValueIterator.KIND:
+            return new KeyValueIterator(token);
+        case WhileStatement.KIND:
+            return new WhileStatement(token);
+        case WhileClause.KIND:
+            return new WhileClause(token);
+        case BooleanCondition.KIND:
+            return new BooleanCondition(token);
+        case ExistsCondition.KIND:
+            return new ExistsCondition(token);
+        case NonemptyCondition.KIND:
+            return new NonemptyCondition(token);
+        case IsCondition.KIND:
+            return new IsCondition(token);
+        case SatisfiesCondition.KIND:
+            return new SatisfiesCondition(token);
+        case Variable.KIND:
+            return new Variable(token);
+        case SumOp.KIND:
+            return new SumOp(token);
+        case DifferenceOp.KIND:
+            return new DifferenceOp(token);
+        case ProductOp.KIND:
+            return new ProductOp(token);
+        case QuotientOp.KIND:
+            return new QuotientOp(token);
+        case PowerOp.KIND:
+            return new PowerOp(token);
+        case RemainderOp.KIND:
+            return new RemainderOp(token);
+        case AssignOp.KIND:
+            return new AssignOp(token);
+        case AddAssignOp.KIND:
+            return new AddAssignOp(token);
+        case SubtractAssignOp.KIND:
+            return new SubtractAssignOp(token);
+        case MultiplyAssignOp.KIND:
+            return new MultiplyAssignOp(token);
+        case DivideAssignOp.KIND:
+            return new DivideAssignOp(token);
+        case RemainderAssignOp.KIND:
+            return new RemainderAssignOp(token);
+        case IntersectAssignOp.KIND:
+            return new IntersectAssignOp(token);
+        case UnionAssignOp.KIND:
+            return new UnionAssignOp(token);
+        case XorAssignOp.KIND:
+            return new XorAssignOp(token);
+        case ComplementAssignOp.KIND:
+            return new ComplementAssignOp(token);
+        case AndAssignOp.KIND:
+            return new AndAssignOp(token);
+        case OrAssignOp.KIND:
+            return new OrAssignOp(token);
+        case AndOp.KIND:
+            return new AndOp(token);
+        case OrOp.KIND:
+            return new OrOp(token);
+        case IntersectionOp.KIND:
+            return new IntersectionOp(token);
+        case UnionOp.KIND:
+            return new UnionOp(token);
+        case XorOp.KIND:
+            return new XorOp(token);
+        case ComplementOp.KIND:
+            return new ComplementOp(token);
+        case EqualOp.KIND:
+            return new EqualOp(token);
+        case NotEqualOp.KIND:
+            return new NotEqualOp(token);
+        case LargerOp.KIND:
+            return new LargerOp(token);
+        case SmallerOp.KIND:
+            return new SmallerOp(token);
+        case LargeAsOp.KIND:
+            return new LargeAsOp(token);
+        case SmallAsOp.KIND:
+            return new SmallAsOp(token);
+        case DefaultOp.KIND:
+            return new DefaultOp(token);
+        case ThenOp.KIND:
+            return new ThenOp(token);
+        case IdenticalOp.KIND:
+            return new IdenticalOp(token);
+        case EntryOp.KIND:
+            return new EntryOp(token);
+        case RangeOp.KIND:
+            return new RangeOp(token);
+        case CompareOp.KIND:
+            return new CompareOp(token);
+        case InOp.KIND:
+            return new InOp(token);
+        case NotOp.KIND:
+            return new NotOp(token);
+        case Exists.KIND:
+            return new Exists(token);
+        case Nonempty.KIND:
+            return new Nonempty(token);
+        case FlipOp.KIND:
+            return new FlipOp(token);
+        case NegativeOp.KIND:
+            return new NegativeOp(token);
+        case PositiveOp.KIND:
+            return new PositiveOp(token);
+        case IsOp.KIND:
+            return new IsOp(token);
+        case Satisfies.KIND:
+            return new Satisfies(token);
+        case Extends.KIND:
+            return new Extends(token);
+        case IncrementOp.KIND:
+            return new IncrementOp(token);
+        case DecrementOp.KIND:
+            return new DecrementOp(token);
+        case PostfixIncrementOp.KIND:
+            return new PostfixIncrementOp(token);
+        case PostfixDecrementOp.KIND:
+            return new PostfixDecrementOp(token);
+        case ExpressionList.KIND:
+            return new ExpressionList(token);
+        case Expression.KIND:
+            return new Expression(token);
+        case InvocationExpression.KIND:
+            return new InvocationExpression(token);
+        case ExtendedTypeExpression.KIND:
+            return new ExtendedTypeExpression(token);
+        case BaseMemberExpression.KIND:
+            return new BaseMemberExpression(token);
+        case BaseTypeExpression.KIND:
+            return new BaseTypeExpression(token);
+        case QualifiedMemberExpression.KIND:
+            return new QualifiedMemberExpression(token);
+        case QualifiedTypeExpression.KIND:
+            return new QualifiedTypeExpression(token);
+        case MemberOp.KIND:
+            return new MemberOp(token);
+        case SafeMemberOp.KIND:
+            return new SafeMemberOp(token);
+        case SpreadOp.KIND:
+            return new SpreadOp(token);
+        case IndexExpression.KIND:
+            return new IndexExpression(token);
+        case IndexOp.KIND:
+            return new IndexOp(token);
+        case SafeIndexOp.KIND:
+            return new SafeIndexOp(token);
+        case Element.KIND:
+            return new Element(token);
+        case ElementRange.KIND:
+            return new ElementRange(token);
+        case Outer.KIND:
+            return new Outer(token);
+        case NamedArgumentList.KIND:
+            return new NamedArgumentList(token);
+        case SequencedArgument.KIND:
+            return new SequencedArgument(token);
+        case PositionalArgumentList.KIND:
+            return new PositionalArgumentList(token);
+        case Ellipsis.KIND:
+            return new Ellipsis(token);
+        case PositionalArgument.KIND:
+            return new PositionalArgument(token);
+        case FunctionArgument.KIND:
+            return new FunctionArgument(token);
+        case SpecifiedArgument.KIND:
+            return new SpecifiedArgument(token);
+        case MethodArgument.KIND:
+            return new MethodArgument(token);
+        case AttributeArgument.KIND:
+            return new AttributeArgument(token);
+        case ObjectArgument.KIND:
+            return new ObjectArgument(token);
+        case SpecifierExpression.KIND:
+            return new SpecifierExpression(token);
+        case InitializerExpression.KIND:
+            return new InitializerExpression(token);
+        case NaturalLiteral.KIND:
+            return new NaturalLiteral(token);
+        case FloatLiteral.KIND:
+            return new FloatLiteral(token);
+        case CharLiteral.KIND:
+            return new CharLiteral(token);
+        case StringLiteral.KIND:
+            return new StringLiteral(token);
+        case QuotedLiteral.KIND:
+            return new QuotedLiteral(token);
+        case This.KIND:
+            return new This(token);
+        case Super.KIND:
+            return new Super(token);
+        case SequenceEnumeration.KIND:
+            return new SequenceEnumeration(token);
+        case StringTemplate.KIND:
+            return new StringTemplate(token);
+        case Lambda.KIND:
+            return new Lambda(token);
+        case Annotation.KIND:
+            return new Annotation(token);
+        case AnnotationList.KIND:
+            return new AnnotationList(token);
+        case Identifier.KIND:
+            return new Identifier(token);
+        case Comprehension.KIND:
+            return new Comprehension(token);
+        case ExpressionComprehensionClause.KIND:
+            return new ExpressionComprehensionClause(token);
+        case ForComprehensionClause.KIND:
+            return new ForComprehensionClause(token);
+        case IfComprehensionClause.KIND:
+            return new IfComprehensionClause(token);
+        default:
+            throw new IOException("unknown node kind: " + kind);
+        }
+    }
+
+    @Override
+    protected void readFields(Node node) throws IOException {
+        switch (node.getNodeKind()) {
+        case CompilationUnit.KIND:
+            readCompilationUnitFields((CompilationUnit) node);
+            break;
+        case ImportList.KIND:
+            readImportListFields((ImportList) node);
+            break;
+        case Import.KIND:
+            readImportFields((Import) node);
+            break;
+        case ImportPath.KIND:
+            readImportPathFields((ImportPath) node);
+            break;
+        case ImportMemberOrTypeList.KIND:
+            readImportMemberOrTypeListFields((ImportMemberOrTypeList) node);
+            break;
+        case ImportMemberOrType.KIND:
+            readImportMemberOrTypeFields((ImportMemberOrType) node);
+            break;
+        case ImportMember.KIND:
+            readImportMemberFields((ImportMember) node);
+            break;
+        case ImportType.KIND:
+            readImportTypeFields((ImportType) node);
+            break;
+        case Alias.KIND:
+            readAliasFields((Alias) node);
+            break;
+        case Implicit.KIND:
+            readImplicitFields((Implicit) node);
+            break;
+        case ImportWildcard.KIND:
+            readImportWildcardFields((ImportWildcard) node);
+            break;
+        case SatisfiedTypes.KIND:
+            readSatisfiedTypesFields((SatisfiedTypes) node);
+            break;
+        case AbstractedType.KIND:
+            readAbstractedTypeFields((AbstractedType) node);
+            break;
+        case AdaptedTypes.KIND:
+            readAdaptedTypesFields((AdaptedTypes) node);
+            break;
+        case CaseTypes.KIND:
+            readCaseTypesFields((CaseTypes) node);
+            break;
+        case ExtendedType.KIND:
+            readExtendedTypeFields((ExtendedType) node);
+            break;
+        case TypeConstraintList.KIND:
+            readTypeConstraintListFields((TypeConstraintList) node);
+            break;
+        case TypeConstraint.KIND:
+            readTypeConstraintFields((TypeConstraint) node);
+            break;
+        case TypeSpecifier.KIND:
+            readTypeSpecifierFields((TypeSpecifier) node);
+            break;
+        case AnyClass.KIND:
+            readAnyClassFields((AnyClass) node);
+            break;
+        case ClassDefinition.KIND:
+            readClassDefinitionFields((ClassDefinition) node);
+            break;
+        case ClassDeclaration.KIND:
+            readClassDeclarationFields((ClassDeclaration) node);
+            break;
+        case AnyInterface.KIND:
+            readAnyInterfaceFields((AnyInterface) node);
+            break;
+        case InterfaceDefinition.KIND:
+            readInterfaceDefinitionFields((InterfaceDefinition) node);
+            break;
+        case InterfaceDeclaration.KIND:
+            readInterfaceDeclarationFields((InterfaceDeclaration) node);
+            break;
+        case AttributeDeclaration.KIND:
+            readAttributeDeclarationFields((AttributeDeclaration) node);
+            break;
+        case AttributeGetterDefinition.KIND:
+            readAttributeGetterDefinitionFields((AttributeGetterDefinition) node);
+            break;
+        case AttributeSetterDefinition.KIND:
+            readAttributeSetterDefinitionFields((AttributeSetterDefinition) node);
+            break;
+        case AnyMethod.KIND:
+            readAnyMethodFields((AnyMethod) node);
+            break;
+        case MethodDefinition.KIND:
+            readMethodDefinitionFields((MethodDefinition) node);
+            break;
+        case MethodDeclaration.KIND:
+            readMethodDeclarationFields((MethodDeclaration) node);
+            break;
+        case VoidModifier.KIND:
+            readVoidModifierFields((VoidModifier) node);
+            break;
+        case ObjectDefinition.KIND:
+            readObjectDefinitionFields((ObjectDefinition) node);
+            break;
+        case ParameterList.KIND:
+            readParameterListFields((ParameterList) node);
+            break;
+        case DefaultArgument.KIND:
+            readDefaultArgumentFields((DefaultArgument) node);
+            break;
+        case ValueParameterDeclaration.KIND:
+            readValueParameterDeclarationFields((ValueParameterDeclaration) node);
+            break;
+        case FunctionalParameterDeclaration.KIND:
+            readFunctionalParameterDeclarationFields((FunctionalParameterDeclaration) node);
+            break;
+        case TypeParameterList.KIND:
+            readTypeParameterListFields((TypeParameterList) node);
+            break;
+        case TypeParameterDeclaration.KIND:
+            readTypeParameterDeclarationFields((TypeParameterDeclaration) node);
+            break;
+        case TypeVariance.KIND:
+            readTypeVarianceFields((TypeVariance) node);
+            break;
+        case SequencedTypeParameterDeclaration.KIND:
+            readSequencedTypeParameterDeclarationFields((SequencedTypeParameterDeclaration) node);
+            break;
+        case Block.KIND:
+            readBlockFields((Block) node);
+            break;
+        case ClassBody.KIND:
+            readClassBodyFields((ClassBody) node);
+            break;
+        case InterfaceBody.KIND:
+            readInterfaceBodyFields((InterfaceBody) node);
+            break;
+        case BaseType.KIND:
+            readBaseTypeFields((BaseType) node);
+            break;
+        case UnionType.KIND:
+            readUnionTypeFields((UnionType) node);
+            break;
+        case IntersectionType.KIND:
+            readIntersectionTypeFields((IntersectionType) node);
+            break;
+        case QualifiedType.KIND:
+            readQualifiedTypeFields((QualifiedType) node);
+            break;
+        case SuperType.KIND:
+            readSuperTypeFields((SuperType) node);
+            break;
+        case ValueModifier.KIND:
+            readValueModifierFields((ValueModifier) node);
+            break;
+        case FunctionModifier.KIND:
+            readFunctionModifierFields((FunctionModifier) node);
+            break;
+        case SyntheticVariable.KIND:
+            readSyntheticVariableFields((SyntheticVariable) node);
+            break;
+        case TypeArguments.KIND:
+            readTypeArgumentsFields((TypeArguments) node);
+            break;
+        case TypeArgumentList.KIND:
+            readTypeArgumentListFields((TypeArgumentList) node);
+            break;
+        case InferredTypeArguments.KIND:
+            readInferredTypeArgumentsFields((InferredTypeArguments) node);
+            break;
+        case SequencedType.KIND:
+            readSequencedTypeFields((SequencedType) node);
+            break;
+        case Return.KIND:
+            readReturnFields((Return) node);
+            break;
+        case Throw.KIND:
+            readThrowFields((Throw) node);
+            break;
+        case Continue.KIND:
+            readContinueFields((Continue) node);
+            break;
+        case Break.KIND:
+            readBreakFields((Break) node);
+            break;
+        case CompilerAnnotation.KIND:
+            readCompilerAnnotationFields((CompilerAnnotation) node);
+            break;
+        case SpecifierStatement.KIND:
+            readSpecifierStatementFields((SpecifierStatement) node);
+            break;
+        case ExpressionStatement.KIND:
+            readExpressionStatementFields((ExpressionStatement) node);
+            break;
+        case ControlStatement.KIND:
+            readControlStatementFields((ControlStatement) node);
+            break;
+        case ControlClause.KIND:
+            readControlClauseFields((ControlClause) node);
+            break;
+        case IfStatement.KIND:
+            readIfStatementFields((IfStatement) node);
+            break;
+        case IfClause.KIND:
+            readIfClauseFields((IfClause) node);
+            break;
+        case ElseClause.KIND:
+            readElseClauseFields((ElseClause) node);
+            break;
+        case SwitchStatement.KIND:
+            readSwitchStatementFields((SwitchStatement) node);
+            break;
+        case SwitchClause.KIND:
+            readSwitchClauseFields((SwitchClause) node);
+            break;
+        case SwitchCaseList.KIND:
+            readSwitchCaseListFields((SwitchCaseList) node);
+            break;
+        case CaseClause.KIND:
+            readCaseClauseFields((CaseClause) node);
+            break;
+        case CaseItem.KIND:
+            readCaseItemFields((CaseItem) node);
+            break;
+        case MatchCase.KIND:
+            readMatchCaseFields((MatchCase) node);
+            break;
+        case IsCase.KIND:
+            readIsCaseFields((IsCase) node);
+            break;
+        case SatisfiesCase.KIND:
+            readSatisfiesCaseFields((SatisfiesCase) node);
+            break;
+        case TryCatchStatement.KIND:
+            readTryCatchStatementFields((TryCatchStatement) node);
+            break;
+        case TryClause.KIND:
+            readTryClauseFields((TryClause) node);
+            break;
+        case CatchClause.KIND:
+            readCatchClauseFields((CatchClause) node);
+            break;
+        case FinallyClause.KIND:
+            readFinallyClauseFields((FinallyClause) node);
+            break;
+        case Resource.KIND:
+            readResourceFields((Resource) node);
+            break;
+        case CatchVariable.KIND:
+            readCatchVariableFields((CatchVariable) node);
+            break;
+        case ForStatement.KIND:
+            readForStatementFields((ForStatement) node);
+            break;
+        case ForClause.KIND:
+            readForClauseFields((ForClause) node);
+            break;
+        case ForIterator.KIND:
+            readForIteratorFields((ForIterator) node);
+            break;
+        case ValueIterator.KIND:
+            readValueIteratorFields((ValueIterator) node);
+            break;
+        case KeyValueIterator.KIND:
+            readKeyValueIteratorFields((KeyValueIterator) node);
+            break;
+        case WhileStatement.KIND:
+            readWhileStatementFields((WhileStatement) node);
+            break;
+        case WhileClause.KIND:
+            readWhileClauseFields((WhileClause) node);
+            break;
+        case BooleanCondition.KIND:
+            readBooleanConditionFields((BooleanCondition) node);
+            break;
+        case ExistsCondition.KIND:
+            readExistsConditionFields((ExistsCondition) node);
+            break;
+        case NonemptyCondition.KIND:
+            readNonemptyConditionFields((NonemptyCondition) node);
+            break;
+        case IsCondition.KIND:
+            readIsConditionFields((IsCondition) node);
+            break;
+        case SatisfiesCondition.KIND:
+            readSatisfiesConditionFields((SatisfiesCondition) node);
+            break;
+        case Variable.KIND:
+            readVariableFields((Variable) node);
+            break;
+        case SumOp.KIND:
+            readSumOpFields((SumOp) node);
+            break;
+        case DifferenceOp.KIND:
+            readDifferenceOpFields((DifferenceOp) node);
+            break;
+        case ProductOp.KIND:
+            readProductOpFields((ProductOp) node);
+            break;
+        case QuotientOp.KIND:
+            readQuotientOpFields((QuotientOp) node);
+            break;
+        case PowerOp.KIND:
+            readPowerOpFields((PowerOp) node);
+            break;
+        case RemainderOp.KIND:
+            readRemainderOpFields((RemainderOp) node);
+            break;
+        case AssignOp.KIND:
+            readAssignOpFields((AssignOp) node);
+            break;
+        case AddAssignOp.KIND:
+            readAddAssignOpFields((AddAssignOp) node);
+            break;
+        case SubtractAssignOp.KIND:
+            readSubtractAssignOpFields((SubtractAssignOp) node);
+            break;
+        case MultiplyAssignOp.KIND:
+            readMultiplyAssignOpFields((MultiplyAssignOp) node);
+            break;
+        case DivideAssignOp.KIND:
+            readDivideAssignOpFields((DivideAssignOp) node);
+            break;
+        case RemainderAssignOp.KIND:
+            readRemainderAssignOpFields((RemainderAssignOp) node);
+            break;
+        case IntersectAssignOp.KIND:
+            readIntersectAssignOpFields((IntersectAssignOp) node);
+            break;
+        case UnionAssignOp.KIND:
+            readUnionAssignOpFields((UnionAssignOp) node);
+            break;
+        case XorAssignOp.KIND:
+            readXorAssignOpFields((XorAssignOp) node);
+            break;
+        case ComplementAssignOp.KIND:
+            readComplementAssignOpFields((ComplementAssignOp) node);
+            break;
+        case AndAssignOp.KIND:
+            readAndAssignOpFields((AndAssignOp) node);
+            break;
+        case OrAssignOp.KIND:
+            readOrAssignOpFields((OrAssignOp) node);
+            break;
+        case AndOp.KIND:
+            readAndOpFields((AndOp) node);
+            break;
+        case OrOp.KIND:
+            readOrOpFields((OrOp) node);
+            break;
+        case IntersectionOp.KIND:
+            readIntersectionOpFields((IntersectionOp) node);
+            break;
+        case UnionOp.KIND:
+            readUnionOpFields((UnionOp) node);
+            break;
+        case XorOp.KIND:
+            readXorOpFields((XorOp) node);
+            break;
+        case ComplementOp.KIND:
+            readComplementOpFields((ComplementOp) node);
+            break;
+        case EqualOp.KIND:
+            readEqualOpFields((EqualOp) node);
+            break;
+        case NotEqualOp.KIND:
+            readNotEqualOpFields((NotEqualOp) node);
+            break;
+        case LargerOp.KIND:
+            readLargerOpFields((LargerOp) node);
+            break;
+        case SmallerOp.KIND:
+            readSmallerOpFields((SmallerOp) node);
+            break;
+        case LargeAsOp.KIND:
+            readLargeAsOpFields((LargeAsOp) node);
+            break;
+        case SmallAsOp.KIND:
+            readSmallAsOpFields((SmallAsOp) node);
+            break;
+        case DefaultOp.KIND:
+            readDefaultOpFields((DefaultOp) node);
+            break;
+        case ThenOp.KIND:
+            readThenOpFields((ThenOp) node);
+            break;
+        case IdenticalOp.KIND:
+            readIdenticalOpFields((IdenticalOp) node);
+            break;
+        case EntryOp.KIND:
+            readEntryOpFields((EntryOp) node);
+            break;
+        case RangeOp.KIND:
+            readRangeOpFields((RangeOp) node);
+            break;
+        case CompareOp.KIND:
+            readCompareOpFields((CompareOp) node);
+            break;
+        case InOp.KIND:
+            readInOpFields((InOp) node);
+            break;
+        case NotOp.KIND:
+            readNotOpFields((NotOp) node);
+            break;
+        case Exists.KIND:
+            readExistsFields((Exists) node);
+            break;
+        case Nonempty.KIND:
+            readNonemptyFields((Nonempty) node);
+            break;
+        case FlipOp.KIND:
+            readFlipOpFields((FlipOp) node);
+            break;
+        case NegativeOp.KIND:
+            readNegativeOpFields((NegativeOp) node);
+            break;
+        case PositiveOp.KIND:
+            readPositiveOpFields((PositiveOp) node);
+            break;
+        case IsOp.KIND:
+            readIsOpFields((IsOp) node);
+            break;
+        case Satisfies.KIND:
+            readSatisfiesFields((Satisfies) node);
+            break;
+        case Extends.KIND:
+            readExtendsFields((Extends) node);
+            break;
+        case IncrementOp.KIND:
+            readIncrementOpFields((IncrementOp) node);
+            break;
+        case DecrementOp.KIND:
+            readDecrementOpFields((DecrementOp) node);
+            break;
+        case PostfixIncrementOp.KIND:
+            readPostfixIncrementOpFields((PostfixIncrementOp) node);
+            break;
+        case PostfixDecrementOp.KIND:
+            readPostfixDecrementOpFields((PostfixDecrementOp) node);
+            break;
+        case ExpressionList.KIND:
+            readExpressionListFields((ExpressionList) node);
+            break;
+        case Expression.KIND:
+            readExpressionFields((Expression) node);
+            break;
+        case InvocationExpression.KIND:
+            readInvocationExpressionFields((InvocationExpression) node);
+            break;
+        case ExtendedTypeExpression.KIND:
+            readExtendedTypeExpressionFields((ExtendedTypeExpression) node);
+            break;
+        case BaseMemberExpression.KIND:
+            readBaseMemberExpressionFields((BaseMemberExpression) node);
+            break;
+        case BaseTypeExpression.KIND:
+            readBaseTypeExpressionFields((BaseTypeExpression) node);
+            break;
+        case QualifiedMemberExpression.KIND:
+            readQualifiedMemberExpressionFields((QualifiedMemberExpression) node);
+            break;
+        case QualifiedTypeExpression.KIND:
+            readQualifiedTypeExpressionFields((QualifiedTypeExpression) node);
+            break;
+        case MemberOp.KIND:
+            readMemberOpFields((MemberOp) node);
+            break;
+        case SafeMemberOp.KIND:
+            readSafeMemberOpFields((SafeMemberOp) node);
+            break;
+        case SpreadOp.KIND:
+            readSpreadOpFields((SpreadOp) node);
+            break;
+        case IndexExpression.KIND:
+            readIndexExpressionFields((IndexExpression) node);
+            break;
+        case IndexOp.KIND:
+            readIndexOpFields((IndexOp) node);
+            break;
+        case SafeIndexOp.KIND:
+            readSafeIndexOpFields((SafeIndexOp) node);
+            break;
+        case Element.KIND:
+            readElementFields((Element) node);
+            break;
+        case ElementRange.KIND:
+            readElementRangeFields((ElementRange) node);
+            break;
+        case Outer.KIND:
+            readOuterFields((Outer) node);
+            break;
+        case NamedArgumentList.KIND:
+            readNamedArgumentListFields((NamedArgumentList) node);
+            break;
+        case SequencedArgument.KIND:
+            readSequencedArgumentFields((SequencedArgument) node);
+            break;
+        case PositionalArgumentList.KIND:
+            readPositionalArgumentListFields((PositionalArgumentList) node);
+            break;
+        case Ellipsis.KIND:
+            readEllipsisFields((Ellipsis) node);
+            break;
+        case PositionalArgument.KIND:
+            readPositionalArgumentFields((PositionalArgument) node);
+            break;
+        case FunctionArgument.KIND:
+            readFunctionArgumentFields((FunctionArgument) node);
+            break;
+        case SpecifiedArgument.KIND:
+            readSpecifiedArgumentFields((SpecifiedArgument) node);
+            break;
+        case MethodArgument.KIND:
+            readMethodArgumentFields((MethodArgument) node);
+            break;
+        case AttributeArgument.KIND:
+            readAttributeArgumentFields((AttributeArgument) node);
+            break;
+        case ObjectArgument.KIND:
+            readObjectArgumentFields((ObjectArgument) node);
+            break;
+        case SpecifierExpression.KIND:
+            readSpecifierExpressionFields((SpecifierExpression) node);
+            break;
+        case InitializerExpression.KIND:
+            readInitializerExpressionFields((InitializerExpression) node);
+            break;
+        case NaturalLiteral.KIND:
+            readNaturalLiteralFields((NaturalLiteral) node);
+            break;
+        case FloatLiteral.KIND:
+            readFloatLiteralFields((FloatLiteral) node);
+            break;
+        case CharLiteral.KIND:
+            readCharLiteralFields((CharLiteral) node);
+            break;
+        case StringLiteral.KIND:
+            readStringLiteralFields((StringLiteral) node);
+            break;
+        case QuotedLiteral.KIND:
+            readQuotedLiteralFields((QuotedLiteral) node);
+            break;
+        case This.KIND:
+            readThisFields((This) node);
+            break;
+        case Super.KIND:
+            readSuperFields((Super) node);
+            break;
+        case SequenceEnumeration.KIND:
+            readSequenceEnumerationFields((SequenceEnumeration) node);
+            break;
+        case StringTemplate.KIND:
+            readStringTemplateFields((StringTemplate) node);
+            break;
+        case Lambda.KIND:
+            readLambdaFields((Lambda) node);
+            break;
+        case Annotation.KIND:
+            readAnnotationFields((Annotation) node);
+            break;
+        case AnnotationList.KIND:
+            readAnnotationListFields((AnnotationList) node);
+            break;
+        case Identifier.KIND:
+            readIdentifierFields((Identifier) node);
+            break;
+        case Comprehension.KIND:
+            readComprehensionFields((Comprehension) node);
+            break;
+        case ExpressionComprehensionClause.KIND:
+            readExpressionComprehensionClauseFields((ExpressionComprehensionClause) node);
+            break;
+        case ForComprehensionClause.KIND:
+            readForComprehensionClauseFields((ForComprehensionClause) node);
+            break;
+        case IfComprehensionClause.KIND:
+            readIfComprehensionClauseFields((IfComprehensionClause) node);
+            break;
+        default:
+            throw new IOException("unknown node kind: " + node.getNodeKind());
+        }
+    }
+
+}
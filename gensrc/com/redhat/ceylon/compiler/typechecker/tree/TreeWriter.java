@@ -0,0 +1,1690 @@
+package com.redhat.ceylon.compiler.typechecker.tree;
+
+import static com.redhat.ceylon.compiler.typechecker.tree.Tree.*;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+public class TreeWriter extends AbstractTreeWriter {
+
+    public TreeWriter(OutputStream out) {
+        super(out);
+    }
+
+    private void writeCompilationUnitFields(CompilationUnit node) throws IOException {
+        writeNodes(node.getCompilerAnnotations());
+        writeNode(node.getImportList());
+        writeNodes(node.getDeclarations());
+    }
+
+    private void writeImportListFields(ImportList node) throws IOException {
+        writeNodes(node.getImports());
+    }
+
+    private void writeImportFields(Import node) throws IOException {
+        writeStatementOrArgumentFields(node);
+        writeNode(node.getImportPath());
+        writeNode(node.getImportMemberOrTypeList());
+    }
+
+    private void writeImportPathFields(ImportPath node) throws IOException {
+        writeNodes(node.getIdentifiers());
+    }
+
+    private void writeImportMemberOrTypeListFields(ImportMemberOrTypeList node) throws IOException {
+        writeNodes(node.getImportMemberOrTypes());
+        writeNode(node.getImportWildcard());
+    }
+
+    private void writeImportMemberOrTypeFields(ImportMemberOrType node) throws IOException {
+        writeStatementOrArgumentFields(node);
+        writeNode(node.getAlias());
+        writeNode(node.getIdentifier());
+        writeNode(node.getImportMemberOrTypeList());
+    }
+
+    private void writeImportMemberFields(ImportMember node) throws IOException {
+        writeImportMemberOrTypeFields(node);
+    }
+
+    private void writeImportTypeFields(ImportType node) throws IOException {
+        writeImportMemberOrTypeFields(node);
+    }
+
+    private void writeAliasFields(Alias node) throws IOException {
+        writeNode(node.getIdentifier());
+    }
+
+    private void writeImplicitFields(Implicit node) throws IOException {
+    }
+
+    private void writeImportWildcardFields(ImportWildcard node) throws IOException {
+    }
+
+    private void writeDeclarationFields(Declaration node) throws IOException {
+        writeStatementFields(node);
+        writeNode(node.getAnnotationList());
+        writeNode(node.getIdentifier());
+    }
+
+    private void writeTypeDeclarationFields(TypeDeclaration node) throws IOException {
+        writeDeclarationFields(node);
+        writeNode(node.getTypeParameterList());
+        writeNode(node.getCaseTypes());
+        writeNode(node.getSatisfiedTypes());
+    }
+
+    private void writeClassOrInterfaceFields(ClassOrInterface node) throws IOException {
+        writeTypeDeclarationFields(node);
+        writeNode(node.getTypeConstraintList());
+    }
+
+    private void writeSatisfiedTypesFields(SatisfiedTypes node) throws IOException {
+        writeNodes(node.getTypes());
+    }
+
+    private void writeAbstractedTypeFields(AbstractedType node) throws IOException {
+        writeNode(node.getType());
+    }
+
+    private void writeAdaptedTypesFields(AdaptedTypes node) throws IOException {
+        writeNodes(node.getTypes());
+    }
+
+    private void writeCaseTypesFields(CaseTypes node) throws IOException {
+        writeNodes(node.getTypes());
+        writeNodes(node.getBaseMemberExpressions());
+    }
+
+    private void writeExtendedTypeFields(ExtendedType node) throws IOException {
+        writeNode(node.getType());
+        writeNode(node.getInvocationExpression());
+    }
+
+    private void writeTypeConstraintListFields(TypeConstraintList node) throws IOException {
+        writeNodes(node.getTypeConstraints());
+    }
+
+    private void writeTypeConstraintFields(TypeConstraint node) throws IOException {
+        writeTypeDeclarationFields(node);
+        writeNode(node.getParameterList());
+        writeNode(node.getAbstractedType());
+    }
+
+    private void writeTypeSpecifierFields(TypeSpecifier node) throws IOException {
+        writeNode(node.getType());
+    }
+
+    private void writeAnyClassFields(AnyClass node) throws IOException {
+        writeClassOrInterfaceFields(node);
+        writeNode(node.getParameterList());
+        writeNode(node.getExtendedType());
+    }
+
+    private void writeClassDefinitionFields(ClassDefinition node) throws IOException {
+        writeAnyClassFields(node);
+        writeNode(node.getClassBody());
+    }
+
+    private void writeClassDeclarationFields(ClassDeclaration node) throws IOException {
+        writeAnyClassFields(node);
+        writeNode(node.getTypeSpecifier());
+    }
+
+    private void writeAnyInterfaceFields(AnyInterface node) throws IOException {
+        writeClassOrInterfaceFields(node);
+    }
+
+    private void writeInterfaceDefinitionFields(InterfaceDefinition node) throws IOException {
+        writeAnyInterfaceFields(node);
+        writeNode(node.getAdaptedTypes());
+        writeNode(node.getInterfaceBody());
+    }
+
+    private void writeInterfaceDeclarationFields(InterfaceDeclaration node) throws IOException {
+        writeAnyInterfaceFields(node);
+        writeNode(node.getTypeSpecifier());
+    }
+
+    private void writeTypedDeclarationFields(TypedDeclaration node) throws IOException {
+        writeDeclarationFields(node);
+        writeNode(node.getType());
+    }
+
+    private void writeAnyAttributeFields(AnyAttribute node) throws IOException {
+        writeTypedDeclarationFields(node);
+    }
+
+    private void writeAttributeDeclarationFields(AttributeDeclaration node) throws IOException {
+        writeAnyAttributeFields(node);
+        writeNode(node.getSpecifierOrInitializerExpression());
+    }
+
+    private void writeAttributeGetterDefinitionFields(AttributeGetterDefinition node) throws IOException {
+        writeAnyAttributeFields(node);
+        writeNode(node.getBlock());
+    }
+
+    private void writeAttributeSetterDefinitionFields(AttributeSetterDefinition node) throws IOException {
+        writeTypedDeclarationFields(node);
+        writeNode(node.getBlock());
+    }
+
+    private void writeAnyMethodFields(AnyMethod node) throws IOException {
+        writeTypedDeclarationFields(node);
+        writeNode(node.getTypeParameterList());
+        writeNodes(node.getParameterLists());
+        writeNode(node.getTypeConstraintList());
+    }
+
+    private void writeMethodDefinitionFields(MethodDefinition node) throws IOException {
+        writeAnyMethodFields(node);
+        writeNode(node.getBlock());
+    }
+
+    private void writeMethodDeclarationFields(MethodDeclaration node) throws IOException {
+        writeAnyMethodFields(node);
+        writeNode(node.getSpecifierExpression());
+    }
+
+    private void writeVoidModifierFields(VoidModifier node) throws IOException {
+        writeTypeFields(node);
+    }
+
+    private void writeObjectDefinitionFields(ObjectDefinition node) throws IOException {
+        writeTypedDeclarationFields(node);
+        writeNode(node.getExtendedType());
+        writeNode(node.getSatisfiedTypes());
+        writeNode(node.getClassBody());
+    }
+
+    private void writeParameterListFields(ParameterList node) throws IOException {
+        writeNodes(node.getParameters());
+    }
+
+    private void writeParameterFields(Parameter node) throws IOException {
+        writeTypedDeclarationFields(node);
+        writeNode(node.getDefaultArgument());
+    }
+
+    private void writeDefaultArgumentFields(DefaultArgument node) throws IOException {
+        writeNode(node.getSpecifierExpression());
+    }
+
+    private void writeValueParameterDeclarationFields(ValueParameterDeclaration node) throws IOException {
+        writeParameterFields(node);
+    }
+
+    private void writeFunctionalParameterDeclarationFields(FunctionalParameterDeclaration node) throws IOException {
+        writeParameterFields(node);
+        writeNodes(node.getParameterLists());
+    }
+
+    private void writeTypeParameterListFields(TypeParameterList node) throws IOException {
+        writeNodes(node.getTypeParameterDeclarations());
+        writeNode(node.getSequencedTypeParameterDeclaration());
+    }
+
+    private void writeTypeParameterDeclarationFields(TypeParameterDeclaration node) throws IOException {
+        writeDeclarationFields(node);
+        writeNode(node.getTypeVariance());
+    }
+
+    private void writeTypeVarianceFields(TypeVariance node) throws IOException {
+    }
+
+    private void writeSequencedTypeParameterDeclarationFields(SequencedTypeParameterDeclaration node) throws IOException {
+        writeDeclarationFields(node);
+    }
+
+    private void writeBodyFields(Body node) throws IOException {
+        writeNodes(node.getStatements());
+    }
+
+    private void writeBlockFields(Block node) throws IOException {
+        writeBodyFields(node);
+    }
+
+    private void writeClassBodyFields(ClassBody node) throws IOException {
+        writeBodyFields(node);
+    }
+
+    private void writeInterfaceBodyFields(InterfaceBody node) throws IOException {
+        writeBodyFields(node);
+    }
+
+    private void writeTypeFields(Type node) throws IOException {
+    }
+
+    private void writeStaticTypeFields(StaticType node) throws IOException {
+        writeTypeFields(node);
+    }
+
+    private void writeSimpleTypeFields(SimpleType node) throws IOException {
+        writeStaticTypeFields(node);
+        writeNode(node.getIdentifier());
+        writeNode(node.getTypeArgumentList());
+    }
+
+    private void writeBaseTypeFields(BaseType node) throws IOException {
+        writeSimpleTypeFields(node);
+    }
+
+    private void writeUnionTypeFields(UnionType node) throws IOException {
+        writeStaticTypeFields(node);
+        writeNodes(node.getStaticTypes());
+    }
+
+    private void writeIntersectionTypeFields(IntersectionType node) throws IOException {
+        writeStaticTypeFields(node);
+        writeNodes(node.getStaticTypes());
+    }
+
+    private void writeQualifiedTypeFields(QualifiedType node) throws IOException {
+        writeSimpleTypeFields(node);
+        writeNode(node.getOuterType());
+    }
+
+    private void writeSuperTypeFields(SuperType node) throws IOException {
+        writeStaticTypeFields(node);
+    }
+
+    private void writeLocalModifierFields(LocalModifier node) throws IOException {
+        writeTypeFields(node);
+    }
+
+    private void writeValueModifierFields(ValueModifier node) throws IOException {
+        writeLocalModifierFields(node);
+    }
+
+    private void writeFunctionModifierFields(FunctionModifier node) throws IOException {
+        writeLocalModifierFields(node);
+    }
+
+    private void writeSyntheticVariableFields(SyntheticVariable node) throws IOException {
+        writeValueModifierFields(node);
+    }
+
+    private void writeTypeArgumentsFields(TypeArguments node) throws IOException {
+    }
+
+    private void writeTypeArgumentListFields(TypeArgumentList node) throws IOException {
+        writeTypeArgumentsFields(node);
+        writeNodes(node.getTypes());
+    }
+
+    private void writeInferredTypeArgumentsFields(InferredTypeArguments node) throws IOException {
+        writeTypeArgumentsFields(node);
+    }
+
+    private void writeSequencedTypeFields(SequencedType node) throws IOException {
+        writeTypeFields(node);
+        writeNode(node.getType());
+    }
+
+    private void writeDirectiveFields(Directive node) throws IOException {
+        writeExecutableStatementFields(node);
+    }
+
+    private void writeReturnFields(Return node) throws IOException {
+        writeDirectiveFields(node);
+        writeNode(node.getExpression());
+    }
+
+    private void writeThrowFields(Throw node) throws IOException {
+        writeDirectiveFields(node);
+        writeNode(node.getExpression());
+    }
+
+    private void writeContinueFields(Continue node) throws IOException {
+        writeDirectiveFields(node);
+    }
+
+    private void writeBreakFields(Break node) throws IOException {
+        writeDirectiveFields(node);
+    }
+
+    private void writeStatementOrArgumentFields(StatementOrArgument node) throws IOException {
+        writeNodes(node.getCompilerAnnotations());
+    }
+
+    private void writeStatementFields(Statement node) throws IOException {
+        writeStatementOrArgumentFields(node);
+    }
+
+    private void writeCompilerAnnotationFields(CompilerAnnotation node) throws IOException {
+        writeNode(node.getIdentifier());
+        writeNode(node.getStringLiteral());
+    }
+
+    private void writeExecutableStatementFields(ExecutableStatement node) throws IOException {
+        writeStatementFields(node);
+    }
+
+    private void writeSpecifierStatementFields(SpecifierStatement node) throws IOException {
+        writeExecutableStatementFields(node);
+        writeNode(node.getBaseMemberExpression());
+        writeNode(node.getSpecifierExpression());
+    }
+
+    private void writeExpressionStatementFields(ExpressionStatement node) throws IOException {
+        writeExecutableStatementFields(node);
+        writeNode(node.getExpression());
+    }
+
+    private void writeControlStatementFields(ControlStatement node) throws IOException {
+        writeExecutableStatementFields(node);
+    }
+
+    private void writeControlClauseFields(ControlClause node) throws IOException {
+    }
+
+    private void writeIfStatementFields(IfStatement node) throws IOException {
+        writeControlStatementFields(node);
+        writeNode(node.getIfClause());
+        writeNode(node.getElseClause());
+    }
+
+    private void writeIfClauseFields(IfClause node) throws IOException {
+        writeControlClauseFields(node);
+        writeNode(node.getCondition());
+        writeNode(node.getBlock());
+    }
+
+    private void writeElseClauseFields(ElseClause node) throws IOException {
+        writeControlClauseFields(node);
+        writeNode(node.getBlock());
+    }
+
+    private void writeSwitchStatementFields(SwitchStatement node) throws IOException {
+        writeControlStatementFields(node);
+        writeNode(node.getSwitchClause());
+        writeNode(node.getSwitchCaseList());
+    }
+
+    private void writeSwitchClauseFields(SwitchClause node) throws IOException {
+        writeNode(node.getExpression());
+    }
+
+    private void writeSwitchCaseListFields(SwitchCaseList node) throws IOException {
+        writeNodes(node.getCaseClauses());
+        writeNode(node.getElseClause());
+    }
+
+    private void writeCaseClauseFields(CaseClause node) throws IOException {
+        writeControlClauseFields(node);
+        writeNode(node.getCaseItem());
+        writeNode(node.getBlock());
+    }
+
+    private void writeCaseItemFields(CaseItem node) throws IOException {
+    }
+
+    private void writeMatchCaseFields(MatchCase node) throws IOException {
+        writeCaseItemFields(node);
+        writeNode(node.getExpressionList());
+    }
+
+    private void writeIsCaseFields(IsCase node) throws IOException {
+        writeCaseItemFields(node);
+        writeNode(node.getType());
+        writeNode(node.getVariable());
+    }
+
+    private void writeSatisfiesCaseFields(SatisfiesCase node) throws IOException {
+        writeCaseItemFields(node);
+        writeNode(node.getType());
+    }
+
+    private void writeTryCatchStatementFields(TryCatchStatement node) throws IOException {
+        writeControlStatementFields(node);
+        writeNode(node.getTryClause());
+        writeNodes(node.getCatchClauses());
+        writeNode(node.getFinallyClause());
+    }
+
+    private void writeTryClauseFields(TryClause node) throws IOException {
+        writeControlClauseFields(node);
+        writeNode(node.getResource());
+        writeNode(node.getBlock());
+    }
+
+    private void writeCatchClauseFields(CatchClause node) throws IOException {
+        writeControlClauseFields(node);
+        writeNode(node.getCatchVariable());
+        writeNode(node.getBlock());
+    }
+
+    private void writeFinallyClauseFields(FinallyClause node) throws IOException {
+        writeControlClauseFields(node);
+        writeNode(node.getBlock());
+    }
+
+    private void writeResourceFields(Resource node) throws IOException {
+        writeNode(node.getVariable());
+        writeNode(node.getExpression());
+    }
+
+    private void writeCatchVariableFields(CatchVariable node) throws IOException {
+        writeNode(node.getVariable());
+    }
+
+    private void writeForStatementFields(ForStatement node) throws IOException {
+        writeControlStatementFields(node);
+        writeNode(node.getForClause());
+        writeNode(node.getElseClause());
+    }
+
+    private void writeForClauseFields(ForClause node) throws IOException {
+        writeControlClauseFields(node);
+        writeNode(node.getForIterator());
+        writeNode(node.getBlock());
+    }
+
+    private void writeForIteratorFields(ForIterator node) throws IOException {
+        writeStatementOrArgumentFields(node);
+        writeNode(node.getSpecifierExpression());
+    }
+
+    private void writeValueIteratorFields(ValueIterator node) throws IOException {
+        writeForIteratorFields(node);
+        writeNode(node.getVariable());
+    }
+
+    private void writeKeyValueIteratorFields(KeyValueIterator node) throws IOException {
+        writeForIteratorFields(node);
+        writeNode(node.getKeyVariable());
+        writeNode(node.getValueVariable());
+    }
+
+    private void writeWhileStatementFields(WhileStatement node) throws IOException {
+        writeControlStatementFields(node);
+        writeNode(node.getWhileClause());
+    }
+
+    private void writeWhileClauseFields(WhileClause node) throws IOException {
+        writeControlClauseFields(node);
+        writeNode(node.getCondition());
+        writeNode(node.getBlock());
+    }
+
+    private void writeConditionFields(Condition node) throws IOException {
+    }
+
+    private void writeBooleanConditionFields(BooleanCondition node) throws IOException {
+        writeConditionFields(node);
+        writeNode(node.getExpression());
+    }
+
+    private void writeExistsOrNonemptyConditionFields(ExistsOrNonemptyCondition node) throws IOException {
+        writeConditionFields(node);
+        writeNode(node.getVariable());
+        writeNode(node.getExpression());
+    }
+
+    private void writeExistsConditionFields(ExistsCondition node) throws IOException {
+        writeExistsOrNonemptyConditionFields(node);
+    }
+
+    private void writeNonemptyConditionFields(NonemptyCondition node) throws IOException {
+        writeExistsOrNonemptyConditionFields(node);
+    }
+
+    private void writeIsConditionFields(IsCondition node) throws IOException {
+        writeConditionFields(node);
+        writeNode(node.getType());
+        writeNode(node.getVariable());
+        writeNode(node.getExpression());
+    }
+
+    private void writeSatisfiesConditionFields(SatisfiesCondition node) throws IOException {
+        writeConditionFields(node);
+        writeNode(node.getLeftType());
+        writeNode(node.getRightType());
+    }
+
+    private void writeVariableFields(Variable node) throws IOException {
+        writeTypedDeclarationFields(node);
+        writeNodes(node.getParameterLists());
+        writeNode(node.getSpecifierExpression());
+    }
+
+    private void writeTermFields(Term node) throws IOException {
+        writeBoolean(node.getUnboxed());
+    }
+
+    private void writeOperatorExpressionFields(OperatorExpression node) throws IOException {
+        writeTermFields(node);
+    }
+
+    private void writeBinaryOperatorExpressionFields(BinaryOperatorExpression node) throws IOException {
+        writeOperatorExpressionFields(node);
+        writeNode(node.getLeftTerm());
+        writeNode(node.getRightTerm());
+    }
+
+    private void writeArithmeticOpFields(ArithmeticOp node) throws IOException {
+        writeBinaryOperatorExpressionFields(node);
+    }
+
+    private void writeSumOpFields(SumOp node) throws IOException {
+        writeArithmeticOpFields(node);
+    }
+
+    private void writeDifferenceOpFields(DifferenceOp node) throws IOException {
+        writeArithmeticOpFields(node);
+    }
+
+    private void writeProductOpFields(ProductOp node) throws IOException {
+        writeArithmeticOpFields(node);
+    }
+
+    private void writeQuotientOpFields(QuotientOp node) throws IOException {
+        writeArithmeticOpFields(node);
+    }
+
+    private void writePowerOpFields(PowerOp node) throws IOException {
+        writeArithmeticOpFields(node);
+    }
+
+    private void writeRemainderOpFields(RemainderOp node) throws IOException {
+        writeArithmeticOpFields(node);
+    }
+
+    private void writeAssignmentOpFields(AssignmentOp node) throws IOException {
+        writeBinaryOperatorExpressionFields(node);
+    }
+
+    private void writeAssignOpFields(AssignOp node) throws IOException {
+        writeAssignmentOpFields(node);
+    }
+
+    private void writeArithmeticAssignmentOpFields(ArithmeticAssignmentOp node) throws IOException {
+        writeAssignmentOpFields(node);
+    }
+
+    private void writeAddAssignOpFields(AddAssignOp node) throws IOException {
+        writeArithmeticAssignmentOpFields(node);
+    }
+
+    private void writeSubtractAssignOpFields(SubtractAssignOp node) throws IOException {
+        writeArithmeticAssignmentOpFields(node);
+    }
+
+    private void writeMultiplyAssignOpFields(MultiplyAssignOp node) throws IOException {
+        writeArithmeticAssignmentOpFields(node);
+    }
+
+    private void writeDivideAssignOpFields(DivideAssignOp node) throws IOException {
+        writeArithmeticAssignmentOpFields(node);
+    }
+
+    private void writeRemainderAssignOpFields(RemainderAssignOp node) throws IOException {
+        writeArithmeticAssignmentOpFields(node);
+    }
+
+    private void writeBitwiseAssignmentOpFields(BitwiseAssignmentOp node) throws IOException {
+        writeAssignmentOpFields(node);
+    }
+
+    private void writeIntersectAssignOpFields(IntersectAssignOp node) throws IOException {
+        writeBitwiseAssignmentOpFields(node);
+    }
+
+    private void writeUnionAssignOpFields(UnionAssignOp node) throws IOException {
+        writeBitwiseAssignmentOpFields(node);
+    }
+
+    private void writeXorAssignOpFields(XorAssignOp node) throws IOException {
+        writeBitwiseAssignmentOpFields(node);
+    }
+
+    private void writeComplementAssignOpFields(ComplementAssignOp node) throws IOException {
+        writeBitwiseAssignmentOpFields(node);
+    }
+
+    private void writeLogicalAssignmentOpFields(LogicalAssignmentOp node) throws IOException {
+        writeAssignmentOpFields(node);
+    }
+
+    private void writeAndAssignOpFields(AndAssignOp node) throws IOException {
+        writeLogicalAssignmentOpFields(node);
+    }
+
+    private void writeOrAssignOpFields(OrAssignOp node) throws IOException {
+        writeLogicalAssignmentOpFields(node);
+    }
+
+    private void writeLogicalOpFields(LogicalOp node) throws IOException {
+        writeBinaryOperatorExpressionFields(node);
+    }
+
+    private void writeAndOpFields(AndOp node) throws IOException {
+        writeLogicalOpFields(node);
+    }
+
+    private void writeOrOpFields(OrOp node) throws IOException {
+        writeLogicalOpFields(node);
+    }
+
+    private void writeBitwiseOpFields(BitwiseOp node) throws IOException {
+        writeBinaryOperatorExpressionFields(node);
+    }
+
+    private void writeIntersectionOpFields(IntersectionOp node) throws IOException {
+        writeBitwiseOpFields(node);
+    }
+
+    private void writeUnionOpFields(UnionOp node) throws IOException {
+        writeBitwiseOpFields(node);
+    }
+
+    private void writeXorOpFields(XorOp node) throws IOException {
+        writeBitwiseOpFields(node);
+    }
+
+    private void writeComplementOpFields(ComplementOp node) throws IOException {
+        writeBitwiseOpFields(node);
+    }
+
+    private void writeEqualityOpFields(EqualityOp node) throws IOException {
+        writeBinaryOperatorExpressionFields(node);
+    }
+
+    private void writeEqualOpFields(EqualOp node) throws IOException {
+        writeEqualityOpFields(node);
+    }
+
+    private void writeNotEqualOpFields(NotEqualOp node) throws IOException {
+        writeEqualityOpFields(node);
+    }
+
+    private void writeComparisonOpFields(ComparisonOp node) throws IOException {
+        writeBinaryOperatorExpressionFields(node);
+    }
+
+    private void writeLargerOpFields(LargerOp node) throws IOException {
+        writeComparisonOpFields(node);
+    }
+
+    private void writeSmallerOpFields(SmallerOp node) throws IOException {
+        writeComparisonOpFields(node);
+    }
+
+    private void writeLargeAsOpFields(LargeAsOp node) throws IOException {
+        writeComparisonOpFields(node);
+    }
+
+    private void writeSmallAsOpFields(SmallAsOp node) throws IOException {
+        writeComparisonOpFields(node);
+    }
+
+    private void writeDefaultOpFields(DefaultOp node) throws IOException {
+        writeBinaryOperatorExpressionFields(node);
+    }
+
+    private void writeThenOpFields(ThenOp node) throws IOException {
+        writeBinaryOperatorExpressionFields(node);
+    }
+
+    private void writeIdenticalOpFields(IdenticalOp node) throws IOException {
+        writeBinaryOperatorExpressionFields(node);
+    }
+
+    private void writeEntryOpFields(EntryOp node) throws IOException {
+        writeBinaryOperatorExpressionFields(node);
+    }
+
+    private void writeRangeOpFields(RangeOp node) throws IOException {
+        writeBinaryOperatorExpressionFields(node);
+    }
+
+    private void writeCompareOpFields(CompareOp node) throws IOException {
+        writeBinaryOperatorExpressionFields(node);
+    }
+
+    private void writeInOpFields(InOp node) throws IOException {
+        writeBinaryOperatorExpressionFields(node);
+    }
+
+    private void writeUnaryOperatorExpressionFields(UnaryOperatorExpression node) throws IOException {
+        writeOperatorExpressionFields(node);
+        writeNode(node.getTerm());
+    }
+
+    private void writeNotOpFields(NotOp node) throws IOException {
+        writeUnaryOperatorExpressionFields(node);
+    }
+
+    private void writeExistsFields(Exists node) throws IOException {
+        writeUnaryOperatorExpressionFields(node);
+    }
+
+    private void writeNonemptyFields(Nonempty node) throws IOException {
+        writeUnaryOperatorExpressionFields(node);
+    }
+
+    private void writeFlipOpFields(FlipOp node) throws IOException {
+        writeUnaryOperatorExpressionFields(node);
+    }
+
+    private void writeNegativeOpFields(NegativeOp node) throws IOException {
+        writeUnaryOperatorExpressionFields(node);
+    }
+
+    private void writePositiveOpFields(PositiveOp node) throws IOException {
+        writeUnaryOperatorExpressionFields(node);
+    }
+
+    private void writeTypeOperatorExpressionFields(TypeOperatorExpression node) throws IOException {
+        writeUnaryOperatorExpressionFields(node);
+        writeNode(node.getType());
+    }
+
+    private void writeIsOpFields(IsOp node) throws IOException {
+        writeTypeOperatorExpressionFields(node);
+    }
+
+    private void writeSatisfiesFields(Satisfies node) throws IOException {
+        writeTypeOperatorExpressionFields(node);
+    }
+
+    private void writeExtendsFields(Extends node) throws IOException {
+        writeTypeOperatorExpressionFields(node);
+    }
+
+    private void writePrefixOperatorExpressionFields(PrefixOperatorExpression node) throws IOException {
+        writeUnaryOperatorExpressionFields(node);
+    }
+
+    private void writeIncrementOpFields(IncrementOp node) throws IOException {
+        writePrefixOperatorExpressionFields(node);
+    }
+
+    private void writeDecrementOpFields(DecrementOp node) throws IOException {
+        writePrefixOperatorExpressionFields(node);
+    }
+
+    private void writePostfixOperatorExpressionFields(PostfixOperatorExpression node) throws IOException {
+        writeUnaryOperatorExpressionFields(node);
+    }
+
+    private void writePostfixIncrementOpFields(PostfixIncrementOp node) throws IOException {
+        writePostfixOperatorExpressionFields(node);
+    }
+
+    private void writePostfixDecrementOpFields(PostfixDecrementOp node) throws IOException {
+        writePostfixOperatorExpressionFields(node);
+    }
+
+    private void writeExpressionListFields(ExpressionList node) throws IOException {
+        writeNodes(node.getExpressions());
+    }
+
+    private void writeExpressionFields(Expression node) throws IOException {
+        writeAtomFields(node);
+        writeNode(node.getTerm());
+    }
+
+    private void writePrimaryFields(Primary node) throws IOException {
+        writeTermFields(node);
+    }
+
+    private void writePostfixExpressionFields(PostfixExpression node) throws IOException {
+        writePrimaryFields(node);
+        writeNode(node.getPrimary());
+    }
+
+    private void writeInvocationExpressionFields(InvocationExpression node) throws IOException {
+        writePostfixExpressionFields(node);
+        writeNode(node.getPositionalArgumentList());
+        writeNode(node.getNamedArgumentList());
+    }
+
+    private void writeMemberOrTypeExpressionFields(MemberOrTypeExpression node) throws IOException {
+        writePrimaryFields(node);
+    }
+
+    private void writeExtendedTypeExpressionFields(ExtendedTypeExpression node) throws IOException {
+        writeMemberOrTypeExpressionFields(node);
+    }
+
+    private void writeStaticMemberOrTypeExpressionFields(StaticMemberOrTypeExpression node) throws IOException {
+        writeMemberOrTypeExpressionFields(node);
+        writeNode(node.getIdentifier());
+        writeNode(node.getTypeArguments());
+    }
+
+    private void writeBaseMemberOrTypeExpressionFields(BaseMemberOrTypeExpression node) throws IOException {
+        writeStaticMemberOrTypeExpressionFields(node);
+    }
+
+    private void writeBaseMemberExpressionFields(BaseMemberExpression node) throws IOException {
+        writeBaseMemberOrTypeExpressionFields(node);
+    }
+
+    private void writeBaseTypeExpressionFields(BaseTypeExpression node) throws IOException {
+        writeBaseMemberOrTypeExpressionFields(node);
+    }
+
+    private void writeQualifiedMemberOrTypeExpressionFields(QualifiedMemberOrTypeExpression node) throws IOException {
+        writeStaticMemberOrTypeExpressionFields(node);
+        writeNode(node.getPrimary());
+        writeNode(node.getMemberOperator());
+    }
+
+    private void writeQualifiedMemberExpressionFields(QualifiedMemberExpression node) throws IOException {
+        writeQualifiedMemberOrTypeExpressionFields(node);
+    }
+
+    private void writeQualifiedTypeExpressionFields(QualifiedTypeExpression node) throws IOException {
+        writeQualifiedMemberOrTypeExpressionFields(node);
+    }
+
+    private void writeMemberOperatorFields(MemberOperator node) throws IOException {
+    }
+
+    private void writeMemberOpFields(MemberOp node) throws IOException {
+        writeMemberOperatorFields(node);
+    }
+
+    private void writeSafeMemberOpFields(SafeMemberOp node) throws IOException {
+        writeMemberOperatorFields(node);
+    }
+
+    private void writeSpreadOpFields(SpreadOp node) throws IOException {
+        writeMemberOperatorFields(node);
+    }
+
+    private void writeIndexExpressionFields(IndexExpression node) throws IOException {
+        writePostfixExpressionFields(node);
+        writeNode(node.getIndexOperator());
+        writeNode(node.getElementOrRange());
+    }
+
+    private void writeIndexOperatorFields(IndexOperator node) throws IOException {
+    }
+
+    private void writeIndexOpFields(IndexOp node) throws IOException {
+        writeIndexOperatorFields(node);
+    }
+
+    private void writeSafeIndexOpFields(SafeIndexOp node) throws IOException {
+        writeIndexOperatorFields(node);
+    }
+
+    private void writeElementOrRangeFields(ElementOrRange node) throws IOException {
+    }
+
+    private void writeElementFields(Element node) throws IOException {
+        writeElementOrRangeFields(node);
+        writeNode(node.getExpression());
+    }
+
+    private void writeElementRangeFields(ElementRange node) throws IOException {
+        writeElementOrRangeFields(node);
+        writeNode(node.getLowerBound());
+        writeNode(node.getUpperBound());
+    }
+
+    private void writeOuterFields(Outer node) throws IOException {
+        writeAtomFields(node);
+    }
+
+    private void writeArgumentListFields(ArgumentList node) throws IOException {
+    }
+
+    private void writeNamedArgumentListFields(NamedArgumentList node) throws IOException {
+        writeArgumentListFields(node);
+        writeNodes(node.getNamedArguments());
+        writeNode(node.getSequencedArgument());
+        writeNode(node.getComprehension());
+    }
+
+    private void writeSequencedArgumentFields(SequencedArgument node) throws IOException {
+        writeStatementOrArgumentFields(node);
+        writeNode(node.getExpressionList());
+    }
+
+    private void writePositionalArgumentListFields(PositionalArgumentList node) throws IOException {
+        writeArgumentListFields(node);
+        writeNodes(node.getPositionalArguments());
+        writeNode(node.getComprehension());
+        writeNode(node.getEllipsis());
+    }
+
+    private void writeEllipsisFields(Ellipsis node) throws IOException {
+    }
+
+    private void writePositionalArgumentFields(PositionalArgument node) throws IOException {
+        writeNode(node.getExpression());
+    }
+
+    private void writeFunctionArgumentFields(FunctionArgument node) throws IOException {
+        writePositionalArgumentFields(node);
+        writeNode(node.getType());
+        writeNodes(node.getParameterLists());
+    }
+
+    private void writeNamedArgumentFields(NamedArgument node) throws IOException {
+        writeStatementOrArgumentFields(node);
+        writeNode(node.getIdentifier());
+    }
+
+    private void writeSpecifiedArgumentFields(SpecifiedArgument node) throws IOException {
+        writeNamedArgumentFields(node);
+        writeNode(node.getSpecifierExpression());
+    }
+
+    private void writeTypedArgumentFields(TypedArgument node) throws IOException {
+        writeNamedArgumentFields(node);
+        writeNode(node.getType());
+    }
+
+    private void writeMethodArgumentFields(MethodArgument node) throws IOException {
+        writeTypedArgumentFields(node);
+        writeNodes(node.getParameterLists());
+        writeNode(node.getBlock());
+    }
+
+    private void writeAttributeArgumentFields(AttributeArgument node) throws IOException {
+        writeTypedArgumentFields(node);
+        writeNode(node.getBlock());
+    }
+
+    private void writeObjectArgumentFields(ObjectArgument node) throws IOException {
+        writeTypedArgumentFields(node);
+        writeNode(node.getExtendedType());
+        writeNode(node.getSatisfiedTypes());
+        writeNode(node.getClassBody());
+    }
+
+    private void writeSpecifierOrInitializerExpressionFields(SpecifierOrInitializerExpression node) throws IOException {
+        writeNode(node.getExpression());
+    }
+
+    private void writeSpecifierExpressionFields(SpecifierExpression node) throws IOException {
+        writeSpecifierOrInitializerExpressionFields(node);
+    }
+
+    private void writeInitializerExpressionFields(InitializerExpression node) throws IOException {
+        writeSpecifierOrInitializerExpressionFields(node);
+    }
+
+    private void writeAtomFields(Atom node) throws IOException {
+        writePrimaryFields(node);
+    }
+
+    private void writeLiteralFields(Literal node) throws IOException {
+        writeAtomFields(node);
+    }
+
+    private void writeNaturalLiteralFields(NaturalLiteral node) throws IOException {
+        writeLiteralFields(node);
+    }
+
+    private void writeFloatLiteralFields(FloatLiteral node) throws IOException {
+        writeLiteralFields(node);
+    }
+
+    private void writeCharLiteralFields(CharLiteral node) throws IOException {
+        writeLiteralFields(node);
+    }
+
+    private void writeStringLiteralFields(StringLiteral node) throws IOException {
+        writeLiteralFields(node);
+    }
+
+    private void writeQuotedLiteralFields(QuotedLiteral node) throws IOException {
+        writeLiteralFields(node);
+    }
+
+    private void writeSelfExpressionFields(SelfExpression node) throws IOException {
+        writeAtomFields(node);
+    }
+
+    private void writeThisFields(This node) throws IOException {
+        writeSelfExpressionFields(node);
+    }
+
+    private void writeSuperFields(Super node) throws IOException {
+        writeSelfExpressionFields(node);
+    }
+
+    private void writeSequenceEnumerationFields(SequenceEnumeration node) throws IOException {
+        writeAtomFields(node);
+        writeNode(node.getExpressionList());
+        writeNode(node.getComprehension());
+    }
+
+    private void writeStringTemplateFields(StringTemplate node) throws IOException {
+        writeAtomFields(node);
+        writeNodes(node.getStringLiterals());
+        writeNodes(node.getExpressions());
+    }
+
+    private void writeLambdaFields(Lambda node) throws IOException {
+        writeAtomFields(node);
+        writeNode(node.getParameterList());
+        writeNode(node.getBlock());
+    }
+
+    private void writeAnnotationFields(Annotation node) throws IOException {
+        writeInvocationExpressionFields(node);
+    }
+
+    private void writeAnnotationListFields(AnnotationList node) throws IOException {
+        writeNodes(node.getAnnotations());
+    }
+
+    private void writeIdentifierFields(Identifier node) throws IOException {
+    }
+
+    private void writeComprehensionFields(Comprehension node) throws IOException {
+        writeStatementOrArgumentFields(node);
+        writeNode(node.getForComprehensionClause());
+    }
+
+    private void writeComprehensionClauseFields(ComprehensionClause node) throws IOException {
+        writeControlClauseFields(node);
+    }
+
+    private void writeExpressionComprehensionClauseFields(ExpressionComprehensionClause node) throws IOException {
+        writeComprehensionClauseFields(node);
+        writeNode(node.getExpression());
+    }
+
+    private void writeForComprehensionClauseFields(ForComprehensionClause node) throws IOException {
+        writeComprehensionClauseFields(node);
+        writeNode(node.getForIterator());
+        writeNode(node.getComprehensionClause());
+    }
+
+    private void writeIfComprehensionClauseFields(IfComprehensionClause node) throws IOException {
+        writeComprehensionClauseFields(node);
+        writeNode(node.getCondition());
+        writeNode(node.getComprehensionClause());
+    }
+
+    @Override
+    protected void writeFields(Node node) throws IOException {
+        switch (node.getNodeKind()) {
+        case CompilationUnit.KIND:
+            writeCompilationUnitFields((CompilationUnit) node);
+            break;
+        case ImportList.KIND:
+            writeImportListFields((ImportList) node);
+            break;
+        case Import.KIND:
+            writeImportFields((Import) node);
+            break;
+        case ImportPath.KIND:
+            writeImportPathFields((ImportPath) node);
+            break;
+        case ImportMemberOrTypeList.KIND:
+            writeImportMemberOrTypeListFields((ImportMemberOrTypeList) node);
+            break;
+        case ImportMemberOrType.KIND:
+            writeImportMemberOrTypeFields((ImportMemberOrType) node);
+            break;
+        case ImportMember.KIND:
+            writeImportMemberFields((ImportMember) node);
+            break;
+        case ImportType.KIND:
+            writeImportTypeFields((ImportType) node);
+            break;
+        case Alias.KIND:
+            writeAliasFields((Alias) node);
+            break;
+        case Implicit.KIND:
+            writeImplicitFields((Implicit) node);
+            break;
+        case ImportWildcard.KIND:
+            writeImportWildcardFields((ImportWildcard) node);
+            break;
+        case SatisfiedTypes.KIND:
+            writeSatisfiedTypesFields((SatisfiedTypes) node);
+            break;
+        case AbstractedType.KIND:
+            writeAbstractedTypeFields((AbstractedType) node);
+            break;
+        case AdaptedTypes.KIND:
+            writeAdaptedTypesFields((AdaptedTypes) node);
+            break;
+        case CaseTypes.KIND:
+            writeCaseTypesFields((CaseTypes) node);
+            break;
+        case ExtendedType.KIND:
+            writeExtendedTypeFields((ExtendedType) node);
+            break;
+        case TypeConstraintList.KIND:
+            writeTypeConstraintListFields((TypeConstraintList) node);
+            break;
+        case TypeConstraint.KIND:
+            writeTypeConstraintFields((TypeConstraint) node);
+            break;
+        case TypeSpecifier.KIND:
+            writeTypeSpecifierFields((TypeSpecifier) node);
+            break;
+        case AnyClass.KIND:
+            writeAnyClassFields((AnyClass) node);
+            break;
+        case ClassDefinition.KIND:
+            writeClassDefinitionFields((ClassDefinition) node);
+            break;
+        case ClassDeclaration.KIND:
+            writeClassDeclarationFields((ClassDeclaration) node);
+            break;
+        case AnyInterface.KIND:
+            writeAnyInterfaceFields((AnyInterface) node);
+            break;
+        case InterfaceDefinition.KIND:
+            writeInterfaceDefinitionFields((InterfaceDefinition) node);
+            break;
+        case InterfaceDeclaration.KIND:
+            writeInterfaceDeclarationFields((InterfaceDeclaration) node);
+            break;
+        case AttributeDeclaration.KIND:
+            writeAttributeDeclarationFields((AttributeDeclaration) node);
+            break;
+        case AttributeGetterDefinition.KIND:
+            writeAttributeGetterDefinitionFields((AttributeGetterDefinition) node);
+            break;
+        case AttributeSetterDefinition.KIND:
+            writeAttributeSetterDefinitionFields((AttributeSetterDefinition) node);
+            break;
+        case AnyMethod.KIND:
+            writeAnyMethodFields((AnyMethod) node);
+            break;
+        case MethodDefinition.KIND:
+            writeMethodDefinitionFields((MethodDefinition) node);
+            break;
+        case MethodDeclaration.KIND:
+            writeMethodDeclarationFields((MethodDeclaration) node);
+            break;
+        case VoidModifier.KIND:
+            writeVoidModifierFields((VoidModifier) node);
+            break;
+        case ObjectDefinition.KIND:
+            writeObjectDefinitionFields((ObjectDefinition) node);
+            break;
+        case ParameterList.KIND:
+            writeParameterListFields((ParameterList) node);
+            break;
+        case DefaultArgument.KIND:
+            writeDefaultArgumentFields((DefaultArgument) node);
+            break;
+        case ValueParameterDeclaration.KIND:
+            writeValueParameterDeclarationFields((ValueParameterDeclaration) node);
+            break;
+        case FunctionalParameterDeclaration.KIND:
+            writeFunctionalParameterDeclarationFields((FunctionalParameterDeclaration) node);
+            break;
+        case TypeParameterList.KIND:
+            writeTypeParameterListFields((TypeParameterList) node);
+            break;
+        case TypeParameterDeclaration.KIND:
+            writeTypeParameterDeclarationFields((TypeParameterDeclaration) node);
+            break;
+        case TypeVariance.KIND:
+            writeTypeVarianceFields((TypeVariance) node);
+            break;
+        case SequencedTypeParameterDeclaration.KIND:
+            writeSequencedTypeParameterDeclarationFields((SequencedTypeParameterDeclaration) node);
+            break;
+        case Block.KIND:
+            writeBlockFields((Block) node);
+            break;
+        case ClassBody.KIND:
+            writeClassBodyFields((ClassBody) node);
+            break;
+        case InterfaceBody.KIND:
+            writeInterfaceBodyFields((InterfaceBody) node);
+            break;
+        case BaseType.KIND:
+            writeBaseTypeFields((BaseType) node);
+            break;
+        case UnionType.KIND:
+            writeUnionTypeFields((UnionType) node);
+            break;
+        case IntersectionType.KIND:
+            writeIntersectionTypeFields((IntersectionType) node);
+            break;
+        case QualifiedType.KIND:
+            writeQualifiedTypeFields((QualifiedType) node);
+            break;
+        case SuperType.KIND:
+            writeSuperTypeFields((SuperType) node);
+            break;
+        case ValueModifier.KIND:
+            writeValueModifierFields((ValueModifier) node);
+            break;
+        case FunctionModifier.KIND:
+            writeFunctionModifierFields((FunctionModifier) node);
+            break;
+        case SyntheticVariable.KIND:
+            writeSyntheticVariableFields((SyntheticVariable) node);
+            break;
+        case TypeArguments.KIND:
+            writeTypeArgumentsFields((TypeArguments) node);
+            break;
+        case TypeArgumentList.KIND:
+            writeTypeArgumentListFields((TypeArgumentList) node);
+            break;
+        case InferredTypeArguments.KIND:
+            writeInferredTypeArgumentsFields((InferredTypeArguments) node);
+            break;
+        case SequencedType.KIND:
+            writeSequencedTypeFields((SequencedType) node);
+            break;
+        case Return.KIND:
+            writeReturnFields((Return) node);
+            break;
+        case Throw.KIND:
+            writeThrowFields((Throw) node);
+            break;
+        case Continue.KIND:
+            writeContinueFields((Continue) node);
+            break;
+        case Break.KIND:
+            writeBreakFields((Break) node);
+            break;
+        case CompilerAnnotation.KIND:
+            writeCompilerAnnotationFields((CompilerAnnotation) node);
+            break;
+        case SpecifierStatement.KIND:
+            writeSpecifierStatementFields((SpecifierStatement) node);
+            break;
+        case ExpressionStatement.KIND:
+            writeExpressionStatementFields((ExpressionStatement) node);
+            break;
+        case ControlStatement.KIND:
+            writeControlStatementFields((ControlStatement) node);
+            break;
+        case ControlClause.KIND:
+            writeControlClauseFields((ControlClause) node);
+            break;
+        case IfStatement.KIND:
+            writeIfStatementFields((IfStatement) node);
+            break;
+        case IfClause.KIND:
+            writeIfClauseFields((IfClause) node);
+            break;
+        case ElseClause.KIND:
+            writeElseClauseFields((ElseClause) node);
+            break;
+        case SwitchStatement.KIND:
+            writeSwitchStatementFields((SwitchStatement) node);
+            break;
+        case SwitchClause.KIND:
+            writeSwitchClauseFields((SwitchClause) node);
+            break;
+        case SwitchCaseList.KIND:
+            writeSwitchCaseListFields((SwitchCaseList) node);
+            break;
+        case CaseClause.KIND:
+            writeCaseClauseFields((CaseClause) node);
+            break;
+        case CaseItem.KIND:
+            writeCaseItemFields((CaseItem) node);
+            break;
+        case MatchCase.KIND:
+            writeMatchCaseFields((MatchCase) node);
+            break;
+        case IsCase.KIND:
+            writeIsCaseFields((IsCase) node);
+            break;
+        case SatisfiesCase.KIND:
+            writeSatisfiesCaseFields((SatisfiesCase) node);
+            break;
+        case TryCatchStatement.KIND:
+            writeTryCatchStatementFields((TryCatchStatement) node);
+            break;
+        case TryClause.KIND:
+            writeTryClauseFields((TryClause) node);
+            break;
+        case CatchClause.KIND:
+            writeCatchClauseFields((CatchClause) node);
+            break;
+        case FinallyClause.KIND:
+            writeFinallyClauseFields((FinallyClause) node);
+            break;
+        case Resource.KIND:
+            writeResourceFields((Resource) node);
+            break;
+        case CatchVariable.KIND:
+            writeCatchVariableFields((CatchVariable) node);
+            break;
+        case ForStatement.KIND:
+            writeForStatementFields((ForStatement) node);
+            break;
+        case ForClause.KIND:
+            writeForClauseFields((ForClause) node);
+            break;
+        case ForIterator.KIND:
+            writeForIteratorFields((ForIterator) node);
+            break;
+        case ValueIterator.KIND:
+            writeValueIteratorFields((ValueIterator) node);
+            break;
+        case KeyValueIterator.KIND:
+            writeKeyValueIteratorFields((KeyValueIterator) node);
+            break;
+        case WhileStatement.KIND:
+            writeWhileStatementFields((WhileStatement) node);
+            break;
+        case WhileClause.KIND:
+            writeWhileClauseFields((WhileClause) node);
+            break;
+        case BooleanCondition.KIND:
+            writeBooleanConditionFields((BooleanCondition) node);
+            break;
+        case ExistsCondition.KIND:
+            writeExistsConditionFields((ExistsCondition) node);
+            break;
+        case NonemptyCondition.KIND:
+            writeNonemptyConditionFields((NonemptyCondition) node);
+            break;
+        case IsCondition.KIND:
+            writeIsConditionFields((IsCondition) node);
+            break;
+        case SatisfiesCondition.KIND:
+            writeSatisfiesConditionFields((SatisfiesCondition) node);
+            break;
+        case Variable.KIND:
+            writeVariableFields((Variable) node);
+            break;
+        case SumOp.KIND:
+            writeSumOpFields((SumOp) node);
+            break;
+        case DifferenceOp.KIND:
+            writeDifferenceOpFields((DifferenceOp) node);
+            break;
+        case ProductOp.KIND:
+            writeProductOpFields((ProductOp) node);
+            break;
+        case QuotientOp.KIND:
+            writeQuotientOpFields((QuotientOp) node);
+            break;
+        case PowerOp.KIND:
+            writePowerOpFields((PowerOp) node);
+            break;
+        case RemainderOp.KIND:
+            writeRemainderOpFields((RemainderOp) node);
+            break;
+        case AssignOp.KIND:
+            writeAssignOpFields((AssignOp) node);
+            break;
+        case AddAssignOp.KIND:
+            writeAddAssignOpFields((AddAssignOp) node);
+            break;
+        case SubtractAssignOp.KIND:
+            writeSubtractAssignOpFields((SubtractAssignOp) node);
+            break;
+        case MultiplyAssignOp.KIND:
+            writeMultiplyAssignOpFields((MultiplyAssignOp) node);
+            break;
+        case DivideAssignOp.KIND:
+            writeDivideAssignOpFields((DivideAssignOp) node);
+            break;
+        case RemainderAssignOp.KIND:
+            writeRemainderAssignOpFields((RemainderAssignOp) node);
+            break;
+        case IntersectAssignOp.KIND:
+            writeIntersectAssignOpFields((IntersectAssignOp) node);
+            break;
+        case UnionAssignOp.KIND:
+            writeUnionAssignOpFields((UnionAssignOp) node);
+            break;
+        case XorAssignOp.KIND:
+            writeXorAssignOpFields((XorAssignOp) node);
+            break;
+        case ComplementAssignOp.KIND:
+            writeComplementAssignOpFields((ComplementAssignOp) node);
+            break;
+        case AndAssignOp.KIND:
+            writeAndAssignOpFields((AndAssignOp) node);
+            break;
+        case OrAssignOp.KIND:
+            writeOrAssignOpFields((OrAssignOp) node);
+            break;
+        case AndOp.KIND:
+            writeAndOpFields((AndOp) node);
+            break;
+        case OrOp.KIND:
+            writeOrOpFields((OrOp) node);
+            break;
+        case IntersectionOp.KIND:
+            writeIntersectionOpFields((IntersectionOp) node);
+            break;
+        case UnionOp.KIND:
+            writeUnionOpFields((UnionOp) node);
+            break;
+        case XorOp.KIND:
+            writeXorOpFields((XorOp) node);
+            break;
+        case ComplementOp.KIND:
+            writeComplementOpFields((ComplementOp) node);
+            break;
+        case EqualOp.KIND:
+            writeEqualOpFields((EqualOp) node);
+            break;
+        case NotEqualOp.KIND:
+            writeNotEqualOpFields((NotEqualOp) node);
+            break;
+        case LargerOp.KIND:
+            writeLargerOpFields((LargerOp) node);
+            break;
+        case SmallerOp.KIND:
+            writeSmallerOpFields((SmallerOp) node);
+            break;
+        case LargeAsOp.KIND:
+            writeLargeAsOpFields((LargeAsOp) node);
+            break;
+        case SmallAsOp.KIND:
+            writeSmallAsOpFields((SmallAsOp) node);
+            break;
+        case DefaultOp.KIND:
+            writeDefaultOpFields((DefaultOp) node);
+            break;
+        case ThenOp.KIND:
+            writeThenOpFields((ThenOp) node);
+            break;
+        case IdenticalOp.KIND:
+            writeIdenticalOpFields((IdenticalOp) node);
+            break;
+        case EntryOp.KIND:
+            writeEntryOpFields((EntryOp) node);
+            break;
+        case RangeOp.KIND:
+            writeRangeOpFields((RangeOp) node);
+            break;
+        case CompareOp.KIND:
+            writeCompareOpFields((CompareOp) node);
+            break;
+        case InOp.KIND:
+            writeInOpFields((InOp) node);
+            break;
+        case NotOp.KIND:
+            writeNotOpFields((NotOp) node);
+            break;
+        case Exists.KIND:
+            writeExistsFields((Exists) node);
+            break;
+        case Nonempty.KIND:
+            writeNonemptyFields((Nonempty) node);
+            break;
+        case FlipOp.KIND:
+            writeFlipOpFields((FlipOp) node);
+            break;
+        case NegativeOp.KIND:
+            writeNegativeOpFields((NegativeOp) node);
+            break;
+        case PositiveOp.KIND:
+            writePositiveOpFields((PositiveOp) node);
+            break;
+        case IsOp.KIND:
+            writeIsOpFields((IsOp) node);
+            break;
+        case Satisfies.KIND:
+            writeSatisfiesFields((Satisfies) node);
+            break;
+        case Extends.KIND:
+            writeExtendsFields((Extends) node);
+            break;
+        case IncrementOp.KIND:
+            writeIncrementOpFields((IncrementOp) node);
+            break;
+        case DecrementOp.KIND:
+            writeDecrementOpFields((DecrementOp) node);
+            break;
+        case PostfixIncrementOp.KIND:
+            writePostfixIncrementOpFields((PostfixIncrementOp) node);
+            break;
+        case PostfixDecrementOp.KIND:
+            writePostfixDecrementOpFields((PostfixDecrementOp) node);
+            break;
+        case ExpressionList.KIND:
+            writeExpressionListFields((ExpressionList) node);
+            break;
+        case Expression.KIND:
+            writeExpressionFields((Expression) node);
+            break;
+        case InvocationExpression.KIND:
+            writeInvocationExpressionFields((InvocationExpression) node);
+            break;
+        case ExtendedTypeExpression.KIND:
+            writeExtendedTypeExpressionFields((ExtendedTypeExpression) node);
+            break;
+        case BaseMemberExpression.KIND:
+            writeBaseMemberExpressionFields((BaseMemberExpression) node);
+            break;
+        case BaseTypeExpression.KIND:
+            writeBaseTypeExpressionFields((BaseTypeExpression) node);
+            break;
+        case QualifiedMemberExpression.KIND:
+            writeQualifiedMemberExpressionFields((QualifiedMemberExpression) node);
+            break;
+        case QualifiedTypeExpression.KIND:
+            writeQualifiedTypeExpressionFields((QualifiedTypeExpression) node);
+            break;
+        case MemberOp.KIND:
+            writeMemberOpFields((MemberOp) node);
+            break;
+        case SafeMemberOp.KIND:
+            writeSafeMemberOpFields((SafeMemberOp) node);
+            break;
+        case SpreadOp.KIND:
+            writeSpreadOpFields((SpreadOp) node);
+            break;
+        case IndexExpression.KIND:
+            writeIndexExpressionFields((IndexExpression) node);
+            break;
+        case IndexOp.KIND:
+            writeIndexOpFields((IndexOp) node);
+            break;
+        case SafeIndexOp.KIND:
+            writeSafeIndexOpFields((SafeIndexOp) node);
+            break;
+        case Element.KIND:
+            writeElementFields((Element) node);
+            break;
+        case ElementRange.KIND:
+            writeElementRangeFields((ElementRange) node);
+            break;
+        case Outer.KIND:
+            writeOuterFields((Outer) node);
+            break;
+        case NamedArgumentList.KIND:
+            writeNamedArgumentListFields((NamedArgumentList) node);
+            break;
+        case SequencedArgument.KIND:
+            writeSequencedArgumentFields((SequencedArgument) node);
+            break;
+        case PositionalArgumentList.KIND:
+            writePositionalArgumentListFields((PositionalArgumentList) node);
+            break;
+        case Ellipsis.KIND:
+            writeEllipsisFields((Ellipsis) node);
+            break;
+        case PositionalArgument.KIND:
+            writePositionalArgumentFields((PositionalArgument) node);
+            break;
+        case FunctionArgument.KIND:
+            writeFunctionArgumentFields((FunctionArgument) node);
+            break;
+        case SpecifiedArgument.KIND:
+            writeSpecifiedArgumentFields((SpecifiedArgument) node);
+            break;
+        case MethodArgument.KIND:
+            writeMethodArgumentFields((MethodArgument) node);
+            break;
+        case AttributeArgument.KIND:
+            writeAttributeArgumentFields((AttributeArgument) node);
+            break;
+        case ObjectArgument.KIND:
+            writeObjectArgumentFields((ObjectArgument) node);
+            break;
+        case SpecifierExpression.KIND:
+            writeSpecifierExpressionFields((SpecifierExpression) node);
+            break;
+        case InitializerExpression.KIND:
+            writeInitializerExpressionFields((InitializerExpression) node);
+            break;
+        case NaturalLiteral.KIND:
+            writeNaturalLiteralFields((NaturalLiteral) node);
+            break;
+        case FloatLiteral.KIND:
+            writeFloatLiteralFields((FloatLiteral) node);
+            break;
+        case CharLiteral.KIND:
+            writeCharLiteralFields((CharLiteral) node);
+            break;
+        case StringLiteral.KIND:
+            writeStringLiteralFields((StringLiteral) node);
+            break;
+        case QuotedLiteral.KIND:
+            writeQuotedLiteralFields((QuotedLiteral) node);
+            break;
+        case This.KIND:
+            writeThisFields((This) node);
+            break;
+        case Super.KIND:
+            writeSuperFields((Super) node);
+            break;
+        case SequenceEnumeration.KIND:
+            writeSequenceEnumerationFields((SequenceEnumeration) node);
+            break;
+        case StringTemplate.KIND:
+            writeStringTemplateFields((StringTemplate) node);
+            break;
+        case Lambda.KIND:
+            writeLambdaFields((Lambda) node);
+            break;
+        case Annotation.KIND:
+            writeAnnotationFields((Annotation) node);
+            break;
+        case AnnotationList.KIND:
+            writeAnnotationListFields((AnnotationList) node);
+            break;
+        case Identifier.KIND:
+            writeIdentifierFields((Identifier) node);
+            break;
+        case Comprehension.KIND:
+            writeComprehensionFields((Comprehension) node);
+            break;
+        case ExpressionComprehensionClause.KIND:
+            writeExpressionComprehensionClauseFields((ExpressionComprehensionClause) node);
+            break;
+        case ForComprehensionClause.KIND:
+            writeForComprehensionClauseFields((ForComprehensionClause) node);
+            break;
+        case IfComprehensionClause.KIND:
+            writeIfComprehensionClauseFields((IfComprehensionClause) node);
+            break;
+        default:
+            throw new IllegalArgumentException("unknown node kind: " + node.getNodeKind());
+        }
+    }
+
+}
@@ -0,0 +1,1272 @@
+package com.redhat.ceylon.compiler.typechecker.tree;
+
+import static com.redhat.ceylon.compiler.typechecker.tree.Tree.*;
+
+public class Walker {
+
+    public static void walkCompilationUnit(Visitor visitor, CompilationUnit node) {
+        for (CompilerAnnotation subnode: node.getCompilerAnnotations())
+            subnode.visit(visitor);
+        if (node.getImportList()!=null)
+            node.getImportList().visit(visitor);
+        for (Declaration subnode: node.getDeclarations())
+            subnode.visit(visitor);
+    }
+
+    public static void walkImportList(Visitor visitor, ImportList node) {
+        for (Import subnode: node.getImports())
+            subnode.visit(visitor);
+    }
+
+    public static void walkImport(Visitor visitor, Import node) {
+        walkStatementOrArgument(visitor, node);
+        if (node.getImportPath()!=null)
+            node.getImportPath().visit(visitor);
+        if (node.getImportMemberOrTypeList()!=null)
+            node.getImportMemberOrTypeList().visit(visitor);
+    }
+
+    public static void walkImportPath(Visitor visitor, ImportPath node) {
+        for (Identifier subnode: node.getIdentifiers())
+            subnode.visit(visitor);
+    }
+
+    public static void walkImportMemberOrTypeList(Visitor visitor, ImportMemberOrTypeList node) {
+        for (ImportMemberOrType subnode: node.getImportMemberOrTypes())
+            subnode.visit(visitor);
+        if (node.getImportWildcard()!=null)
+            node.getImportWildcard().visit(visitor);
+    }
+
+    public static void walkImportMemberOrType(Visitor visitor, ImportMemberOrType node) {
+        walkStatementOrArgument(visitor, node);
+        if (node.getAlias()!=null)
+            node.getAlias().visit(visitor);
+        if (node.getIdentifier()!=null)
+            node.getIdentifier().visit(visitor);
+        if (node.getImportMemberOrTypeList()!=null)
+            node.getImportMemberOrTypeList().visit(visitor);
+    }
+
+    public static void walkImportMember(Visitor visitor, ImportMember node) {
+        walkImportMemberOrType(visitor, node);
+    }
+
+    public static void walkImportType(Visitor visitor, ImportType node) {
+        walkImportMemberOrType(visitor, node);
+    }
+
+    public static void walkAlias(Visitor visitor, Alias node) {
+        if (node.getIdentifier()!=null)
+            node.getIdentifier().visit(visitor);
+    }
+
+    public static void walkImplicit(Visitor visitor, Implicit node) {
+    }
+
+    public static void walkImportWildcard(Visitor visitor, ImportWildcard node) {
+    }
+
+    public static void walkDeclaration(Visitor visitor, Declaration node) {
+        walkStatement(visitor, node);
+        if (node.getAnnotationList()!=null)
+            node.getAnnotationList().visit(visitor);
+        if (node.getIdentifier()!=null)
+            node.getIdentifier().visit(visitor);
+    }
+
+    public static void walkTypeDeclaration(Visitor visitor, TypeDeclaration node) {
+        walkDeclaration(visitor, node);
+        if (node.getTypeParameterList()!=null)
+            node.getTypeParameterList().visit(visitor);
+        if (node.getCaseTypes()!=null)
+            node.getCaseTypes().visit(visitor);
+        if (node.getSatisfiedTypes()!=null)
+            node.getSatisfiedTypes().visit(visitor);
+    }
+
+    public static void walkClassOrInterface(Visitor visitor, ClassOrInterface node) {
+        walkTypeDeclaration(visitor, node);
+        if (node.getTypeConstraintList()!=null)
+            node.getTypeConstraintList().visit(visitor);
+    }
+
+    public static void walkSatisfiedTypes(Visitor visitor, SatisfiedTypes node) {
+        for (SimpleType subnode: node.getTypes())
+            subnode.visit(visitor);
+    }
+
+    public static void walkAbstractedType(Visitor visitor, AbstractedType node) {
+        if (node.getType()!=null)
+            node.getType().visit(visitor);
+    }
+
+    public static void walkAdaptedTypes(Visitor visitor, AdaptedTypes node) {
+        for (SimpleType subnode: node.getTypes())
+            subnode.visit(visitor);
+    }
+
+    public static void walkCaseTypes(Visitor visitor, CaseTypes node) {
+        for (SimpleType subnode: node.getTypes())
+            subnode.visit(visitor);
+        for (BaseMemberExpression subnode: node.getBaseMemberExpressions())
+            subnode.visit(visitor);
+    }
+
+    public static void walkExtendedType(Visitor visitor, ExtendedType node) {
+        if (node.getType()!=null)
+            node.getType().visit(visitor);
+        if (node.getInvocationExpression()!=null)
+            node.getInvocationExpression().visit(visitor);
+    }
+
+    public static void walkTypeConstraintList(Visitor visitor, TypeConstraintList node) {
+        for (TypeConstraint subnode: node.getTypeConstraints())
+            subnode.visit(visitor);
+    }
+
+    public static void walkTypeConstraint(Visitor visitor, TypeConstraint node) {
+        walkTypeDeclaration(visitor, node);
+        if (node.getParameterList()!=null)
+            node.getParameterList().visit(visitor);
+        if (node.getAbstractedType()!=null)
+            node.getAbstractedType().visit(visitor);
+    }
+
+    public static void walkTypeSpecifier(Visitor visitor, TypeSpecifier node) {
+        if (node.getType()!=null)
+            node.getType().visit(visitor);
+    }
+
+    public static void walkAnyClass(Visitor visitor, AnyClass node) {
+        walkClassOrInterface(visitor, node);
+        if (node.getParameterList()!=null)
+            node.getParameterList().visit(visitor);
+        if (node.getExtendedType()!=null)
+            node.getExtendedType().visit(visitor);
+    }
+
+    public static void walkClassDefinition(Visitor visitor, ClassDefinition node) {
+        walkAnyClass(visitor, node);
+        if (node.getClassBody()!=null)
+            node.getClassBody().visit(visitor);
+    }
+
+    public static void walkClassDeclaration(Visitor visitor, ClassDeclaration node) {
+        walkAnyClass(visitor, node);
+        if (node.getTypeSpecifier()!=null)
+            node.getTypeSpecifier().visit(visitor);
+    }
+
+    public static void walkAnyInterface(Visitor visitor, AnyInterface node) {
+        walkClassOrInterface(visitor, node);
+    }
+
+    public static void walkInterfaceDefinition(Visitor visitor, InterfaceDefinition node) {
+        walkAnyInterface(visitor, node);
+        if (node.getAdaptedTypes()!=null)
+            node.getAdaptedTypes().visit(visitor);
+        if (node.getInterfaceBody()!=null)
+            node.getInterfaceBody().visit(visitor);
+    }
+
+    public static void walkInterfaceDeclaration(Visitor visitor, InterfaceDeclaration node) {
+        walkAnyInterface(visitor, node);
+        if (node.getTypeSpecifier()!=null)
+            node.getTypeSpecifier().visit(visitor);
+    }
+
+    public static void walkTypedDeclaration(Visitor visitor, TypedDeclaration node) {
+        walkDeclaration(visitor, node);
+        if (node.getType()!=null)
+            node.getType().visit(visitor);
+    }
+
+    public static void walkAnyAttribute(Visitor visitor, AnyAttribute node) {
+        walkTypedDeclaration(visitor, node);
+    }
+
+    public static void walkAttributeDeclaration(Visitor visitor, AttributeDeclaration node) {
+        walkAnyAttribute(visitor, node);
+        if (node.getSpecifierOrInitializerExpression()!=null)
+            node.getSpecifierOrInitializerExpression().visit(visitor);
+    }
+
+    public static void walkAttributeGetterDefinition(Visitor visitor, AttributeGetterDefinition node) {
+        walkAnyAttribute(visitor, node);
+        if (node.getBlock()!=null)
+            node.getBlock().visit(visitor);
+    }
+
+    public static void walkAttributeSetterDefinition(Visitor visitor, AttributeSetterDefinition node) {
+        walkTypedDeclaration(visitor, node);
+        if (node.getBlock()!=null)
+            node.getBlock().visit(visitor);
+    }
+
+    public static void walkAnyMethod(Visitor visitor, AnyMethod node) {
+        walkTypedDeclaration(visitor, node);
+        if (node.getTypeParameterList()!=null)
+            node.getTypeParameterList().visit(visitor);
+        for (ParameterList subnode: node.getParameterLists())
+            subnode.visit(visitor);
+        if (node.getTypeConstraintList()!=null)
+            node.getTypeConstraintList().visit(visitor);
+    }
+
+    public static void walkMethodDefinition(Visitor visitor, MethodDefinition node) {
+        walkAnyMethod(visitor, node);
+        if (node.getBlock()!=null)
+            node.getBlock().visit(visitor);
+    }
+
+    public static void walkMethodDeclaration(Visitor visitor, MethodDeclaration node) {
+        walkAnyMethod(visitor, node);
+        if (node.getSpecifierExpression()!=null)
+            node.getSpecifierExpression().visit(visitor);
+    }
+
+    public static void walkVoidModifier(Visitor visitor, VoidModifier node) {
+        walkType(visitor, node);
+    }
+
+    public static void walkObjectDefinition(Visitor visitor, ObjectDefinition node) {
+        walkTypedDeclaration(visitor, node);
+        if (node.getExtendedType()!=null)
+            node.getExtendedType().visit(visitor);
+        if (node.getSatisfiedTypes()!=null)
+            node.getSatisfiedTypes().visit(visitor);
+        if (node.getClassBody()!=null)
+            node.getClassBody().visit(visitor);
+    }
+
+    public static void walkParameterList(Visitor visitor, ParameterList node) {
+        for (Parameter subnode: node.getParameters())
+            subnode.visit(visitor);
+    }
+
+    public static void walkParameter(Visitor visitor, Parameter node) {
+        walkTypedDeclaration(visitor, node);
+        if (node.getDefaultArgument()!=null)
+            node.getDefaultArgument().visit(visitor);
+    }
+
+    public static void walkDefaultArgument(Visitor visitor, DefaultArgument node) {
+        if (node.getSpecifierExpression()!=null)
+            node.getSpecifierExpression().visit(visitor);
+    }
+
+    public static void walkValueParameterDeclaration(Visitor visitor, ValueParameterDeclaration node) {
+        walkParameter(visitor, node);
+    }
+
+    public static void walkFunctionalParameterDeclaration(Visitor visitor, FunctionalParameterDeclaration node) {
+        walkParameter(visitor, node);
+        for (ParameterList subnode: node.getParameterLists())
+            subnode.visit(visitor);
+    }
+
+    public static void walkTypeParameterList(Visitor visitor, TypeParameterList node) {
+        for (TypeParameterDeclaration subnode: node.getTypeParameterDeclarations())
+            subnode.visit(visitor);
+        if (node.getSequencedTypeParameterDeclaration()!=null)
+            node.getSequencedTypeParameterDeclaration().visit(visitor);
+    }
+
+    public static void walkTypeParameterDeclaration(Visitor visitor, TypeParameterDeclaration node) {
+        walkDeclaration(visitor, node);
+        if (node.getTypeVariance()!=null)
+            node.getTypeVariance().visit(visitor);
+    }
+
+    public static void walkTypeVariance(Visitor visitor, TypeVariance node) {
+    }
+
+    public static void walkSequencedTypeParameterDeclaration(Visitor visitor, SequencedTypeParameterDeclaration node) {
+        walkDeclaration(visitor, node);
+    }
+
+    public static void walkBody(Visitor visitor, Body node) {
+        for (Statement subnode: node.getStatements())
+            subnode.visit(visitor);
+    }
+
+    public static void walkBlock(Visitor visitor, Block node) {
+        walkBody(visitor, node);
+    }
+
+    public static void walkClassBody(Visitor visitor, ClassBody node) {
+        walkBody(visitor, node);
+    }
+
+    public static void walkInterfaceBody(Visitor visitor, InterfaceBody node) {
+        walkBody(visitor, node);
+    }
+
+    public static void walkType(Visitor visitor, Type node) {
+    }
+
+    public static void walkStaticType(Visitor visitor, StaticType node) {
+        walkType(visitor, node);
+    }
+
+    public static void walkSimpleType(Visitor visitor, SimpleType node) {
+        walkStaticType(visitor, node);
+        if (node.getIdentifier()!=null)
+            node.getIdentifier().visit(visitor);
+        if (node.getTypeArgumentList()!=null)
+            node.getTypeArgumentList().visit(visitor);
+    }
+
+    public static void walkBaseType(Visitor visitor, BaseType node) {
+        walkSimpleType(visitor, node);
+    }
+
+    public static void walkUnionType(Visitor visitor, UnionType node) {
+        walkStaticType(visitor, node);
+        for (StaticType subnode: node.getStaticTypes())
+            subnode.visit(visitor);
+    }
+
+    public static void walkIntersectionType(Visitor visitor, IntersectionType node) {
+        walkStaticType(visitor, node);
+        for (StaticType subnode: node.getStaticTypes())
+            subnode.visit(visitor);
+    }
+
+    public static void walkQualifiedType(Visitor visitor, QualifiedType node) {
+        walkSimpleType(visitor, node);
+        if (node.getOuterType()!=null)
+            node.getOuterType().visit(visitor);
+    }
+
+    public static void walkSuperType(Visitor visitor, SuperType node) {
+        walkStaticType(visitor, node);
+    }
+
+    public static void walkLocalModifier(Visitor visitor, LocalModifier node) {
+        walkType(visitor, node);
+    }
+
+    public static void walkValueModifier(Visitor visitor, ValueModifier node) {
+        walkLocalModifier(visitor, node);
+    }
+
+    public static void walkFunctionModifier(Visitor visitor, FunctionModifier node) {
+        walkLocalModifier(visitor, node);
+    }
+
+    public static void walkSyntheticVariable(Visitor visitor, SyntheticVariable node) {
+        walkValueModifier(visitor, node);
+    }
+
+    public static void walkTypeArguments(Visitor visitor, TypeArguments node) {
+    }
+
+    public static void walkTypeArgumentList(Visitor visitor, TypeArgumentList node) {
+        walkTypeArguments(visitor, node);
+        for (Type subnode: node.getTypes())
+            subnode.visit(visitor);
+    }
+
+    public static void walkInferredTypeArguments(Visitor visitor, InferredTypeArguments node) {
+        walkTypeArguments(visitor, node);
+    }
+
+    public static void walkSequencedType(Visitor visitor, SequencedType node) {
+        walkType(visitor, node);
+        if (node.getType()!=null)
+            node.getType().visit(visitor);
+    }
+
+    public static void walkDirective(Visitor visitor, Directive node) {
+        walkExecutableStatement(visitor, node);
+    }
+
+    public static void walkReturn(Visitor visitor, Return node) {
+        walkDirective(visitor, node);
+        if (node.getExpression()!=null)
+            node.getExpression().visit(visitor);
+    }
+
+    public static void walkThrow(Visitor visitor, Throw node) {
+        walkDirective(visitor, node);
+        if (node.getExpression()!=null)
+            node.getExpression().visit(visitor);
+    }
+
+    public static void walkContinue(Visitor visitor, Continue node) {
+        walkDirective(visitor, node);
+    }
+
+    public static void walkBreak(Visitor visitor, Break node) {
+        walkDirective(visitor, node);
+    }
+
+    public static void walkStatementOrArgument(Visitor visitor, StatementOrArgument node) {
+        for (CompilerAnnotation subnode: node.getCompilerAnnotations())
+            subnode.visit(visitor);
+    }
+
+    public static void walkStatement(Visitor visitor, Statement node) {
+        walkStatementOrArgument(visitor, node);
+    }
+
+    public static void walkCompilerAnnotation(Visitor visitor, CompilerAnnotation node) {
+        if (node.getIdentifier()!=null)
+            node.getIdentifier().visit(visitor);
+        if (node.getStringLiteral()!=null)
+            node.getStringLiteral().visit(visitor);
+    }
+
+    public static void walkExecutableStatement(Visitor visitor, ExecutableStatement node) {
+        walkStatement(visitor, node);
+    }
+
+    public static void walkSpecifierStatement(Visitor visitor, SpecifierStatement node) {
+        walkExecutableStatement(visitor, node);
+        if (node.getBaseMemberExpression()!=null)
+            node.getBaseMemberExpression().visit(visitor);
+        if (node.getSpecifierExpression()!=null)
+            node.getSpecifierExpression().visit(visitor);
+    }
+
+    public static void walkExpressionStatement(Visitor visitor, ExpressionStatement node) {
+        walkExecutableStatement(visitor, node);
+        if (node.getExpression()!=null)
+            node.getExpression().visit(visitor);
+    }
+
+    public static void walkControlStatement(Visitor visitor, ControlStatement node) {
+        walkExecutableStatement(visitor, node);
+    }
+
+    public static void walkControlClause(Visitor visitor, ControlClause node) {
+    }
+
+    public static void walkIfStatement(Visitor visitor, IfStatement node) {
+        walkControlStatement(visitor, node);
+        if (node.getIfClause()!=null)
+            node.getIfClause().visit(visitor);
+        if (node.getElseClause()!=null)
+            node.getElseClause().visit(visitor);
+    }
+
+    public static void walkIfClause(Visitor visitor, IfClause node) {
+        walkControlClause(visitor, node);
+        if (node.getCondition()!=null)
+            node.getCondition().visit(visitor);
+        if (node.getBlock()!=null)
+            node.getBlock().visit(visitor);
+    }
+
+    public static void walkElseClause(Visitor visitor, ElseClause node) {
+        walkControlClause(visitor, node);
+        if (node.getBlock()!=null)
+            node.getBlock().visit(visitor);
+    }
+
+    public static void walkSwitchStatement(Visitor visitor, SwitchStatement node) {
+        walkControlStatement(visitor, node);
+        if (node.getSwitchClause()!=null)
+            node.getSwitchClause().visit(visitor);
+        if (node.getSwitchCaseList()!=null)
+            node.getSwitchCaseList().visit(visitor);
+    }
+
+    public static void walkSwitchClause(Visitor visitor, SwitchClause node) {
+        if (node.getExpression()!=null)
+            node.getExpression().visit(visitor);
+    }
+
+    public static void walkSwitchCaseList(Visitor visitor, SwitchCaseList node) {
+        for (CaseClause subnode: node.getCaseClauses())
+            subnode.visit(visitor);
+        if (node.getElseClause()!=null)
+            node.getElseClause().visit(visitor);
+    }
+
+    public static void walkCaseClause(Visitor visitor, CaseClause node) {
+        walkControlClause(visitor, node);
+        if (node.getCaseItem()!=null)
+            node.getCaseItem().visit(visitor);
+        if (node.getBlock()!=null)
+            node.getBlock().visit(visitor);
+    }
+
+    public static void walkCaseItem(Visitor visitor, CaseItem node) {
+    }
+
+    public static void walkMatchCase(Visitor visitor, MatchCase node) {
+        walkCaseItem(visitor, node);
+        if (node.getExpressionList()!=null)
+            node.getExpressionList().visit(visitor);
+    }
+
+    public static void walkIsCase(Visitor visitor, IsCase node) {
+        walkCaseItem(visitor, node);
+        if (node.getType()!=null)
+            node.getType().visit(visitor);
+        if (node.getVariable()!=null)
+            node.getVariable().visit(visitor);
+    }
+
+    public static void walkSatisfiesCase(Visitor visitor, SatisfiesCase node) {
+        walkCaseItem(visitor, node);
+        if (node.getType()!=null)
+            node.getType().visit(visitor);
+    }
+
+    public static void walkTryCatchStatement(Visitor visitor, TryCatchStatement node) {
+        walkControlStatement(visitor, node);
+        if (node.getTryClause()!=null)
+            node.getTryClause().visit(visitor);
+        for (CatchClause subnode: node.getCatchClauses())
+            subnode.visit(visitor);
+        if (node.getFinallyClause()!=null)
+            node.getFinallyClause().visit(visitor);
+    }
+
+    public static void walkTryClause(Visitor visitor, TryClause node) {
+        walkControlClause(visitor, node);
+        if (node.getResource()!=null)
+            node.getResource().visit(visitor);
+        if (node.getBlock()!=null)
+            node.getBlock().visit(visitor);
+    }
+
+    public static void walkCatchClause(Visitor visitor, CatchClause node) {
+        walkControlClause(visitor, node);
+        if (node.getCatchVariable()!=null)
+            node.getCatchVariable().visit(visitor);
+        if (node.getBlock()!=null)
+            node.getBlock().visit(visitor);
+    }
+
+    public static void walkFinallyClause(Visitor visitor, FinallyClause node) {
+        walkControlClause(visitor, node);
+        if (node.getBlock()!=null)
+            node.getBlock().visit(visitor);
+    }
+
+    public static void walkResource(Visitor visitor, Resource node) {
+        if (node.getVariable()!=null)
+            node.getVariable().visit(visitor);
+        if (node.getExpression()!=null)
+            node.getExpression().visit(visitor);
+    }
+
+    public static void walkCatchVariable(Visitor visitor, CatchVariable node) {
+        if (node.getVariable()!=null)
+            node.getVariable().visit(visitor);
+    }
+
+    public static void walkForStatement(Visitor visitor, ForStatement node) {
+        walkControlStatement(visitor, node);
+        if (node.getForClause()!=null)
+            node.getForClause().visit(visitor);
+        if (node.getElseClause()!=null)
+            node.getElseClause().visit(visitor);
+    }
+
+    public static void walkForClause(Visitor visitor, ForClause node) {
+        walkControlClause(visitor, node);
+        if (node.getForIterator()!=null)
+            node.getForIterator().visit(visitor);
+        if (node.getBlock()!=null)
+            node.getBlock().visit(visitor);
+    }
+
+    public static void walkForIterator(Visitor visitor, ForIterator node) {
+        walkStatementOrArgument(visitor, node);
+        if (node.getSpecifierExpression()!=null)
+            node.getSpecifierExpression().visit(visitor);
+    }
+
+    public static void walkValueIterator(Visitor visitor, ValueIterator node) {
+        walkForIterator(visitor, node);
+        if (node.getVariable()!=null)
+            node.getVariable().visit(visitor);
+    }
+
+    public static void walkKeyValueIterator(Visitor visitor, KeyValueIterator node) {
+        walkForIterator(visitor, node);
+        if (node.getKeyVariable()!=null)
+            node.getKeyVariable().visit(visitor);
+        if (node.getValueVariable()!=null)
+            node.getValueVariable().visit(visitor);
+    }
+
+    public static void walkWhileStatement(Visitor visitor, WhileStatement node) {
+        walkControlStatement(visitor, node);
+        if (node.getWhileClause()!=null)
+            node.getWhileClause().visit(visitor);
+    }
+
+    public static void walkWhileClause(Visitor visitor, WhileClause node) {
+        walkControlClause(visitor, node);
+        if (node.getCondition()!=null)
+            node.getCondition().visit(visitor);
+        if (node.getBlock()!=null)
+            node.getBlock().visit(visitor);
+    }
+
+    public static void walkCondition(Visitor visitor, Condition node) {
+    }
+
+    public static void walkBooleanCondition(Visitor visitor, BooleanCondition node) {
+        walkCondition(visitor, node);
+        if (node.getExpression()!=null)
+            node.getExpression().visit(visitor);
+    }
+
+    public static void walkExistsOrNonemptyCondition(Visitor visitor, ExistsOrNonemptyCondition node) {
+        walkCondition(visitor, node);
+        if (node.getVariable()!=null)
+            node.getVariable().visit(visitor);
+        if (node.getExpression()!=null)
+            node.getExpression().visit(visitor);
+    }
+
+    public static void walkExistsCondition(Visitor visitor, ExistsCondition node) {
+        walkExistsOrNonemptyCondition(visitor, node);
+    }
+
+    public static void walkNonemptyCondition(Visitor visitor, NonemptyCondition node) {
+        walkExistsOrNonemptyCondition(visitor, node);
+    }
+
+    public static void walkIsCondition(Visitor visitor, IsCondition node) {
+        walkCondition(visitor, node);
+        if (node.getType()!=null)
+            node.getType().visit(visitor);
+        if (node.getVariable()!=null)
+            node.getVariable().visit(visitor);
+        if (node.getExpression()!=null)
+            node.getExpression().visit(visitor);
+    }
+
+    public static void walkSatisfiesCondition(Visitor visitor, SatisfiesCondition node) {
+        walkCondition(visitor, node);
+        if (node.getLeftType()!=null)
+            node.getLeftType().visit(visitor);
+        if (node.getRightType()!=null)
+            node.getRightType().visit(visitor);
+    }
+
+    public static void walkVariable(Visitor visitor, Variable node) {
+        walkTypedDeclaration(visitor, node);
+        for (ParameterList subnode: node.getParameterLists())
+            subnode.visit(visitor);
+        if (node.getSpecifierExpression()!=null)
+            node.getSpecifierExpression().visit(visitor);
+    }
+
+    public static void walkTerm(Visitor visitor, Term node) {
+    }
+
+    public static void walkOperatorExpression(Visitor visitor, OperatorExpression node) {
+        walkTerm(visitor, node);
+    }
+
+    public static void walkBinaryOperatorExpression(Visitor visitor, BinaryOperatorExpression node) {
+        walkOperatorExpression(visitor, node);
+        if (node.getLeftTerm()!=null)
+            node.getLeftTerm().visit(visitor);
+        if (node.getRightTerm()!=null)
+            node.getRightTerm().visit(visitor);
+    }
+
+    public static void walkArithmeticOp(Visitor visitor, ArithmeticOp node) {
+        walkBinaryOperatorExpression(visitor, node);
+    }
+
+    public static void walkSumOp(Visitor visitor, SumOp node) {
+        walkArithmeticOp(visitor, node);
+    }
+
+    public static void walkDifferenceOp(Visitor visitor, DifferenceOp node) {
+        walkArithmeticOp(visitor, node);
+    }
+
+    public static void walkProductOp(Visitor visitor, ProductOp node) {
+        walkArithmeticOp(visitor, node);
+    }
+
+    public static void walkQuotientOp(Visitor visitor, QuotientOp node) {
+        walkArithmeticOp(visitor, node);
+    }
+
+    public static void walkPowerOp(Visitor visitor, PowerOp node) {
+        walkArithmeticOp(visitor, node);
+    }
+
+    public static void walkRemainderOp(Visitor visitor, RemainderOp node) {
+        walkArithmeticOp(visitor, node);
+    }
+
+    public static void walkAssignmentOp(Visitor visitor, AssignmentOp node) {
+        walkBinaryOperatorExpression(visitor, node);
+    }
+
+    public static void walkAssignOp(Visitor visitor, AssignOp node) {
+        walkAssignmentOp(visitor, node);
+    }
+
+    public static void walkArithmeticAssignmentOp(Visitor visitor, ArithmeticAssignmentOp node) {
+        walkAssignmentOp(visitor, node);
+    }
+
+    public static void walkAddAssignOp(Visitor visitor, AddAssignOp node) {
+        walkArithmeticAssignmentOp(visitor, node);
+    }
+
+    public static void walkSubtractAssignOp(Visitor visitor, SubtractAssignOp node) {
+        walkArithmeticAssignmentOp(visitor, node);
+    }
+
+    public static void walkMultiplyAssignOp(Visitor visitor, MultiplyAssignOp node) {
+        walkArithmeticAssignmentOp(visitor, node);
+    }
+
+    public static void walkDivideAssignOp(Visitor visitor, DivideAssignOp node) {
+        walkArithmeticAssignmentOp(visitor, node);
+    }
+
+    public static void walkRemainderAssignOp(Visitor visitor, RemainderAssignOp node) {
+        walkArithmeticAssignmentOp(visitor, node);
+    }
+
+    public static void walkBitwiseAssignmentOp(Visitor visitor, BitwiseAssignmentOp node) {
+        walkAssignmentOp(visitor, node);
+    }
+
+    public static void walkIntersectAssignOp(Visitor visitor, IntersectAssignOp node) {
+        walkBitwiseAssignmentOp(visitor, node);
+    }
+
+    public static void walkUnionAssignOp(Visitor visitor, UnionAssignOp node) {
+        walkBitwiseAssignmentOp(visitor, node);
+    }
+
+    public static void walkXorAssignOp(Visitor visitor, XorAssignOp node) {
+        walkBitwiseAssignmentOp(visitor, node);
+    }
+
+    public static void walkComplementAssignOp(Visitor visitor, ComplementAssignOp node) {
+        walkBitwiseAssignmentOp(visitor, node);
+    }
+
+    public static void walkLogicalAssignmentOp(Visitor visitor, LogicalAssignmentOp node) {
+        walkAssignmentOp(visitor, node);
+    }
+
+    public static void walkAndAssignOp(Visitor visitor, AndAssignOp node) {
+        walkLogicalAssignmentOp(visitor, node);
+    }
+
+    public static void walkOrAssignOp(Visitor visitor, OrAssignOp node) {
+        walkLogicalAssignmentOp(visitor, node);
+    }
+
+    public static void walkLogicalOp(Visitor visitor, LogicalOp node) {
+        walkBinaryOperatorExpression(visitor, node);
+    }
+
+    public static void walkAndOp(Visitor visitor, AndOp node) {
+        walkLogicalOp(visitor, node);
+    }
+
+    public static void walkOrOp(Visitor visitor, OrOp node) {
+        walkLogicalOp(visitor, node);
+    }
+
+    public static void walkBitwiseOp(Visitor visitor, BitwiseOp node) {
+        walkBinaryOperatorExpression(visitor, node);
+    }
+
+    public static void walkIntersectionOp(Visitor visitor, IntersectionOp node) {
+        walkBitwiseOp(visitor, node);
+    }
+
+    public static void walkUnionOp(Visitor visitor, UnionOp node) {
+        walkBitwiseOp(visitor, node);
+    }
+
+    public static void walkXorOp(Visitor visitor, XorOp node) {
+        walkBitwiseOp(visitor, node);
+    }
+
+    public static void walkComplementOp(Visitor visitor, ComplementOp node) {
+        walkBitwiseOp(visitor, node);
+    }
+
+    public static void walkEqualityOp(Visitor visitor, EqualityOp node) {
+        walkBinaryOperatorExpression(visitor, node);
+    }
+
+    public static void walkEqualOp(Visitor visitor, EqualOp node) {
+        walkEqualityOp(visitor, node);
+    }
+
+    public static void walkNotEqualOp(Visitor visitor, NotEqualOp node) {
+        walkEqualityOp(visitor, node);
+    }
+
+    public static void walkComparisonOp(Visitor visitor, ComparisonOp node) {
+        walkBinaryOperatorExpression(visitor, node);
+    }
+
+    public static void walkLargerOp(Visitor visitor, LargerOp node) {
+        walkComparisonOp(visitor, node);
+    }
+
+    public static void walkSmallerOp(Visitor visitor, SmallerOp node) {
+        walkComparisonOp(visitor, node);
+    }
+
+    public static void walkLargeAsOp(Visitor visitor, LargeAsOp node) {
+        walkComparisonOp(visitor, node);
+    }
+
+    public static void walkSmallAsOp(Visitor visitor, SmallAsOp node) {
+        walkComparisonOp(visitor, node);
+    }
+
+    public static void walkDefaultOp(Visitor visitor, DefaultOp node) {
+        walkBinaryOperatorExpression(visitor, node);
+    }
+
+    public static void walkThenOp(Visitor visitor, ThenOp node) {
+        walkBinaryOperatorExpression(visitor, node);
+    }
+
+    public static void walkIdenticalOp(Visitor visitor, IdenticalOp node) {
+        walkBinaryOperatorExpression(visitor, node);
+    }
+
+    public static void walkEntryOp(Visitor visitor, EntryOp node) {
+        walkBinaryOperatorExpression(visitor, node);
+    }
+
+    public static void walkRangeOp(Visitor visitor, RangeOp node) {
+        walkBinaryOperatorExpression(visitor, node);
+    }
+
+    public static void walkCompareOp(Visitor visitor, CompareOp node) {
+        walkBinaryOperatorExpression(visitor, node);
+    }
+
+    public static void walkInOp(Visitor visitor, InOp node) {
+        walkBinaryOperatorExpression(visitor, node);
+    }
+
+    public static void walkUnaryOperatorExpression(Visitor visitor, UnaryOperatorExpression node) {
+        walkOperatorExpression(visitor, node);
+        if (node.getTerm()!=null)
+            node.getTerm().visit(visitor);
+    }
+
+    public static void walkNotOp(Visitor visitor, NotOp node) {
+        walkUnaryOperatorExpression(visitor, node);
+    }
+
+    public static void walkExists(Visitor visitor, Exists node) {
+        walkUnaryOperatorExpression(visitor, node);
+    }
+
+    public static void walkNonempty(Visitor visitor, Nonempty node) {
+        walkUnaryOperatorExpression(visitor, node);
+    }
+
+    public static void walkFlipOp(Visitor visitor, FlipOp node) {
+        walkUnaryOperatorExpression(visitor, node);
+    }
+
+    public static void walkNegativeOp(Visitor visitor, NegativeOp node) {
+        walkUnaryOperatorExpression(visitor, node);
+    }
+
+    public static void walkPositiveOp(Visitor visitor, PositiveOp node) {
+        walkUnaryOperatorExpression(visitor, node);
+    }
+
+    public static void walkTypeOperatorExpression(Visitor visitor, TypeOperatorExpression node) {
+        walkUnaryOperatorExpression(visitor, node);
+        if (node.getType()!=null)
+            node.getType().visit(visitor);
+    }
+
+    public static void walkIsOp(Visitor visitor, IsOp node) {
+        walkTypeOperatorExpression(visitor, node);
+    }
+
+    public static void walkSatisfies(Visitor visitor, Satisfies node) {
+        walkTypeOperatorExpression(visitor, node);
+    }
+
+    public static void walkExtends(Visitor visitor, Extends node) {
+        walkTypeOperatorExpression(visitor, node);
+    }
+
+    public static void walkPrefixOperatorExpression(Visitor visitor, PrefixOperatorExpression node) {
+        walkUnaryOperatorExpression(visitor, node);
+    }
+
+    public static void walkIncrementOp(Visitor visitor, IncrementOp node) {
+        walkPrefixOperatorExpression(visitor, node);
+    }
+
+    public static void walkDecrementOp(Visitor visitor, DecrementOp node) {
+        walkPrefixOperatorExpression(visitor, node);
+    }
+
+    public static void walkPostfixOperatorExpression(Visitor visitor, PostfixOperatorExpression node) {
+        walkUnaryOperatorExpression(visitor, node);
+    }
+
+    public static void walkPostfixIncrementOp(Visitor visitor, PostfixIncrementOp node) {
+        walkPostfixOperatorExpression(visitor, node);
+    }
+
+    public static void walkPostfixDecrementOp(Visitor visitor, PostfixDecrementOp node) {
+        walkPostfixOperatorExpression(visitor, node);
+    }
+
+    public static void walkExpressionList(Visitor visitor, ExpressionList node) {
+        for (Expression subnode: node.getExpressions())
+            subnode.visit(visitor);
+    }
+
+    public static void walkExpression(Visitor visitor, Expression node) {
+        walkAtom(visitor, node);
+        if (node.getTerm()!=null)
+            node.getTerm().visit(visitor);
+    }
+
+    public static void walkPrimary(Visitor visitor, Primary node) {
+        walkTerm(visitor, node);
+    }
+
+    public static void walkPostfixExpression(Visitor visitor, PostfixExpression node) {
+        walkPrimary(visitor, node);
+        if (node.getPrimary()!=null)
+            node.getPrimary().visit(visitor);
+    }
+
+    public static void walkInvocationExpression(Visitor visitor, InvocationExpression node) {
+        walkPostfixExpression(visitor, node);
+        if (node.getPositionalArgumentList()!=null)
+            node.getPositionalArgumentList().visit(visitor);
+        if (node.getNamedArgumentList()!=null)
+            node.getNamedArgumentList().visit(visitor);
+    }
+
+    public static void walkMemberOrTypeExpression(Visitor visitor, MemberOrTypeExpression node) {
+        walkPrimary(visitor, node);
+    }
+
+    public static void walkExtendedTypeExpression(Visitor visitor, ExtendedTypeExpression node) {
+        walkMemberOrTypeExpression(visitor, node);
+    }
+
+    public static void walkStaticMemberOrTypeExpression(Visitor visitor, StaticMemberOrTypeExpression node) {
+        walkMemberOrTypeExpression(visitor, node);
+        if (node.getIdentifier()!=null)
+            node.getIdentifier().visit(visitor);
+        if (node.getTypeArguments()!=null)
+            node.getTypeArguments().visit(visitor);
+    }
+
+    public static void walkBaseMemberOrTypeExpression(Visitor visitor, BaseMemberOrTypeExpression node) {
+        walkStaticMemberOrTypeExpression(visitor, node);
+    }
+
+    public static void walkBaseMemberExpression(Visitor visitor, BaseMemberExpression node) {
+        walkBaseMemberOrTypeExpression(visitor, node);
+    }
+
+    public static void walkBaseTypeExpression(Visitor visitor, BaseTypeExpression node) {
+        walkBaseMemberOrTypeExpression(visitor, node);
+    }
+
+    public static void walkQualifiedMemberOrTypeExpression(Visitor visitor, QualifiedMemberOrTypeExpression node) {
+        walkStaticMemberOrTypeExpression(visitor, node);
+        if (node.getPrimary()!=null)
+            node.getPrimary().visit(visitor);
+        if (node.getMemberOperator()!=null)
+            node.getMemberOperator().visit(visitor);
+    }
+
+    public static void walkQualifiedMemberExpression(Visitor visitor, QualifiedMemberExpression node) {
+        walkQualifiedMemberOrTypeExpression(visitor, node);
+    }
+
+    public static void walkQualifiedTypeExpression(Visitor visitor, QualifiedTypeExpression node) {
+        walkQualifiedMemberOrTypeExpression(visitor, node);
+    }
+
+    public static void walkMemberOperator(Visitor visitor, MemberOperator node) {
+    }
+
+    public static void walkMemberOp(Visitor visitor, MemberOp node) {
+        walkMemberOperator(visitor, node);
+    }
+
+    public static void walkSafeMemberOp(Visitor visitor, SafeMemberOp node) {
+        walkMemberOperator(visitor, node);
+    }
+
+    public static void walkSpreadOp(Visitor visitor, SpreadOp node) {
+        walkMemberOperator(visitor, node);
+    }
+
+    public static void walkIndexExpression(Visitor visitor, IndexExpression node) {
+        walkPostfixExpression(visitor, node);
+        if (node.getIndexOperator()!=null)
+            node.getIndexOperator().visit(visitor);
+        if (node.getElementOrRange()!=null)
+            node.getElementOrRange().visit(visitor);
+    }
+
+    public static void walkIndexOperator(Visitor visitor, IndexOperator node) {
+    }
+
+    public static void walkIndexOp(Visitor visitor, IndexOp node) {
+        walkIndexOperator(visitor, node);
+    }
+
+    public static void walkSafeIndexOp(Visitor visitor, SafeIndexOp node) {
+        walkIndexOperator(visitor, node);
+    }
+
+    public static void walkElementOrRange(Visitor visitor, ElementOrRange node) {
+    }
+
+    public static void walkElement(Visitor visitor, Element node) {
+        walkElementOrRange(visitor, node);
+        if (node.getExpression()!=null)
+            node.getExpression().visit(visitor);
+    }
+
+    public static void walkElementRange(Visitor visitor, ElementRange node) {
+        walkElementOrRange(visitor, node);
+        if (node.getLowerBound()!=null)
+            node.getLowerBound().visit(visitor);
+        if (node.getUpperBound()!=null)
+            node.getUpperBound().visit(visitor);
+    }
+
+    public static void walkOuter(Visitor visitor, Outer node) {
+        walkAtom(visitor, node);
+    }
+
+    public static void walkArgumentList(Visitor visitor, ArgumentList node) {
+    }
+
+    public static void walkNamedArgumentList(Visitor visitor, NamedArgumentList node) {
+        walkArgumentList(visitor, node);
+        for (NamedArgument subnode: node.getNamedArguments())
+            subnode.visit(visitor);
+        if (node.getSequencedArgument()!=null)
+            node.getSequencedArgument().visit(visitor);
+        if (node.getComprehension()!=null)
+            node.getComprehension().visit(visitor);
+    }
+
+    public static void walkSequencedArgument(Visitor visitor, SequencedArgument node) {
+        walkStatementOrArgument(visitor, node);
+        if (node.getExpressionList()!=null)
+            node.getExpressionList().visit(visitor);
+    }
+
+    public static void walkPositionalArgumentList(Visitor visitor, PositionalArgumentList node) {
+        walkArgumentList(visitor, node);
+        for (PositionalArgument subnode: node.getPositionalArguments())
+            subnode.visit(visitor);
+        if (node.getComprehension()!=null)
+            node.getComprehension().visit(visitor);
+        if (node.getEllipsis()!=null)
+            node.getEllipsis().visit(visitor);
+    }
+
+    public static void walkEllipsis(Visitor visitor, Ellipsis node) {
+    }
+
+    public static void walkPositionalArgument(Visitor visitor, PositionalArgument node) {
+        if (node.getExpression()!=null)
+            node.getExpression().visit(visitor);
+    }
+
+    public static void walkFunctionArgument(Visitor visitor, FunctionArgument node) {
+        walkPositionalArgument(visitor, node);
+        if (node.getType()!=null)
+            node.getType().visit(visitor);
+        for (ParameterList subnode: node.getParameterLists())
+            subnode.visit(visitor);
+    }
+
+    public static void walkNamedArgument(Visitor visitor, NamedArgument node) {
+        walkStatementOrArgument(visitor, node);
+        if (node.getIdentifier()!=null)
+            node.getIdentifier().visit(visitor);
+    }
+
+    public static void walkSpecifiedArgument(Visitor visitor, SpecifiedArgument node) {
+        walkNamedArgument(visitor, node);
+        if (node.getSpecifierExpression()!=null)
+            node.getSpecifierExpression().visit(visitor);
+    }
+
+    public static void walkTypedArgument(Visitor visitor, TypedArgument node) {
+        walkNamedArgument(visitor, node);
+        if (node.getType()!=null)
+            node.getType().visit(visitor);
+    }
+
+    public static void walkMethodArgument(Visitor visitor, MethodArgument node) {
+        walkTypedArgument(visitor, node);
+        for (ParameterList subnode: node.getParameterLists())
+            subnode.visit(visitor);
+        if (node.getBlock()!=null)
+            node.getBlock().visit(visitor);
+    }
+
+    public static void walkAttributeArgument(Visitor visitor, AttributeArgument node) {
+        walkTypedArgument(visitor, node);
+        if (node.getBlock()!=null)
+            node.getBlock().visit(visitor);
+    }
+
+    public static void walkObjectArgument(Visitor visitor, ObjectArgument node) {
+        walkTypedArgument(visitor, node);
+        if (node.getExtendedType()!=null)
+            node.getExtendedType().visit(visitor);
+        if (node.getSatisfiedTypes()!=null)
+            node.getSatisfiedTypes().visit(visitor);
+        if (node.getClassBody()!=null)
+            node.getClassBody().visit(visitor);
+    }
+
+    public static void walkSpecifierOrInitializerExpression(Visitor visitor, SpecifierOrInitializerExpression node) {
+        if (node.getExpression()!=null)
+            node.getExpression().visit(visitor);
+    }
+
+    public static void walkSpecifierExpression(Visitor visitor, SpecifierExpression node) {
+        walkSpecifierOrInitializerExpression(visitor, node);
+    }
+
+    public static void walkInitializerExpression(Visitor visitor, InitializerExpression node) {
+        walkSpecifierOrInitializerExpression(visitor, node);
+    }
+
+    public static void walkAtom(Visitor visitor, Atom node) {
+        walkPrimary(visitor, node);
+    }
+
+    public static void walkLiteral(Visitor visitor, Literal node) {
+        walkAtom(visitor, node);
+    }
+
+    public static void walkNaturalLiteral(Visitor visitor, NaturalLiteral node) {
+        walkLiteral(visitor, node);
+    }
+
+    public static void walkFloatLiteral(Visitor visitor, FloatLiteral node) {
+        walkLiteral(visitor, node);
+    }
+
+    public static void walkCharLiteral(Visitor visitor, CharLiteral node) {
+        walkLiteral(visitor, node);
+    }
+
+    public static void walkStringLiteral(Visitor visitor, StringLiteral node) {
+        walkLiteral(visitor, node);
+    }
+
+    public static void walkQuotedLiteral(Visitor visitor, QuotedLiteral node) {
+        walkLiteral(visitor, node);
+    }
+
+    public static void walkSelfExpression(Visitor visitor, SelfExpression node) {
+        walkAtom(visitor, node);
+    }
+
+    public static void walkThis(Visitor visitor, This node) {
+        walkSelfExpression(visitor, node);
+    }
+
+    public static void walkSuper(Visitor visitor, Super node) {
+        walkSelfExpression(visitor, node);
+    }
+
+    public static void walkSequenceEnumeration(Visitor visitor, SequenceEnumeration node) {
+        walkAtom(visitor, node);
+        if (node.getExpressionList()!=null)
+            node.getExpressionList().visit(visitor);
+        if (node.getComprehension()!=null)
+            node.getComprehension().visit(visitor);
+    }
+
+    public static void walkStringTemplate(Visitor visitor, StringTemplate node) {
+        walkAtom(visitor, node);
+        for (StringLiteral subnode: node.getStringLiterals())
+            subnode.visit(visitor);
+        for (Expression subnode: node.getExpressions())
+            subnode.visit(visitor);
+    }
+
+    public static void walkLambda(Visitor visitor, Lambda node) {
+        walkAtom(visitor, node);
+        if (node.getParameterList()!=null)
+            node.getParameterList().visit(visitor);
+        if (node.getBlock()!=null)
+            node.getBlock().visit(visitor);
+    }
+
+    public static void walkAnnotation(Visitor visitor, Annotation node) {
+        walkInvocationExpression(visitor, node);
+    }
+
+    public static void walkAnnotationList(Visitor visitor, AnnotationList node) {
+        for (Annotation subnode: node.getAnnotations())
+            subnode.visit(visitor);
+    }
+
+    public static void walkIdentifier(Visitor visitor, Identifier node) {
+    }
+
+    public static void walkComprehension(Visitor visitor, Comprehension node) {
+        walkStatementOrArgument(visitor, node);
+        if (node.getForComprehensionClause()!=null)
+            node.getForComprehensionClause().visit(visitor);
+    }
+
+    public static void walkComprehensionClause(Visitor visitor, ComprehensionClause node) {
+        walkControlClause(visitor, node);
+    }
+
+    public static void walkExpressionComprehensionClause(Visitor visitor, ExpressionComprehensionClause node) {
+        walkComprehensionClause(visitor, node);
+        if (node.getExpression()!=null)
+            node.getExpression().visit(visitor);
+    }
+
+    public static void walkForComprehensionClause(Visitor visitor, ForComprehensionClause node) {
+        walkComprehensionClause(visitor, node);
+        if (node.getForIterator()!=null)
+            node.getForIterator().visit(visitor);
+        if (node.getComprehensionClause()!=null)
+            node.getComprehensionClause().visit(visitor);
+    }
+
+    public static void walkIfComprehensionClause(Visitor visitor, IfComprehensionClause node) {
+        walkComprehensionClause(visitor, node);
+        if (node.getCondition()!=null)
+            node.getCondition().visit(visitor);
+        if (node.getComprehensionClause()!=null)
+            node.getComprehensionClause().visit(visitor);
+    }
+
+}
@@ -0,0 +1,736 @@
+// $ANTLR 3.4 treegen/CompositeVisitorgen.g 2026-10-18 21:18:41
+ 
+    package com.redhat.ceylon.compiler.typechecker.treegen; 
+    import static com.redhat.ceylon.compiler.typechecker.treegen.Util.*; 
+
+
+import org.antlr.runtime.*;
+import java.util.Stack;
+import java.util.List;
+import java.util.ArrayList;
+
+@SuppressWarnings({"all", "warnings", "unchecked"})
+public class CompositeVisitorgenParser extends Parser {
+    public static final String[] tokenNames = new String[] {
+        "<invalid>", "<EOR>", "<DOWN>", "<UP>", "CARAT", "DESCRIPTION", "EXTENDS", "FIELD_NAME", "LPAREN", "MANY", "NODE_NAME", "OPTIONAL", "RPAREN", "SEMI", "TYPE_NAME", "WS", "'*'", "'abstract'", "'boolean'"
+    };
+
+    public static final int EOF=-1;
+    public static final int T__16=16;
+    public static final int T__17=17;
+    public static final int T__18=18;
+    public static final int CARAT=4;
+    public static final int DESCRIPTION=5;
+    public static final int EXTENDS=6;
+    public static final int FIELD_NAME=7;
+    public static final int LPAREN=8;
+    public static final int MANY=9;
+    public static final int NODE_NAME=10;
+    public static final int OPTIONAL=11;
+    public static final int RPAREN=12;
+    public static final int SEMI=13;
+    public static final int TYPE_NAME=14;
+    public static final int WS=15;
+
+    // delegates
+    public Parser[] getDelegates() {
+        return new Parser[] {};
+    }
+
+    // delegators
+
+
+    public CompositeVisitorgenParser(TokenStream input) {
+        this(input, new RecognizerSharedState());
+    }
+    public CompositeVisitorgenParser(TokenStream input, RecognizerSharedState state) {
+        super(input, state);
+    }
+
+    public String[] getTokenNames() { return CompositeVisitorgenParser.tokenNames; }
+    public String getGrammarFileName() { return "treegen/CompositeVisitorgen.g"; }
+
+
+
+    // $ANTLR start "nodeList"
+    // treegen/CompositeVisitorgen.g:11:1: nodeList : ( ( DESCRIPTION )? node )+ EOF ;
+    public final void nodeList() throws RecognitionException {
+        try {
+            // treegen/CompositeVisitorgen.g:11:10: ( ( ( DESCRIPTION )? node )+ EOF )
+            // treegen/CompositeVisitorgen.g:11:12: ( ( DESCRIPTION )? node )+ EOF
+            {
+             
+                       println("package com.redhat.ceylon.compiler.typechecker.tree;\n");
+                       println("import static com.redhat.ceylon.compiler.typechecker.tree.Tree.*;\n");
+                       println("import java.util.Arrays;\n");
+                       println("/**");
+                       println(" * Runs several visitors, in the given order, in a single");
+                       println(" * walk of the tree. Each node is passed to the first");
+                       println(" * visitor, and when that visitor descends into the node");
+                       println(" * by way of visitAny(), to the next visitor, and so on.");
+                       println(" * The children of the node are visited once every visitor");
+                       println(" * has descended. So each visitor sees the nodes in the");
+                       println(" * same order as it would on its own.");
+                       println(" *");
+                       println(" * A visitor which does not descend into a node, or which");
+                       println(" * visits the children of the node itself, is left out of");
+                       println(" * the walk of the subtree. Only visitors which do not");
+                       println(" * depend upon the results of a later visitor may be");
+                       println(" * combined, and a NaturalVisitor, which walks the");
+                       println(" * children of some nodes in a different order, may");
+                       println(" * not be combined at all.");
+                       println(" */");
+                       println("public class CompositeVisitor extends Visitor {\n");
+                       println("    private static final class Frame {");
+                       println("        final Node node;");
+                       println("        final int index;");
+                       println("        final boolean[] active;");
+                       println("        final Frame outer;");
+                       println("        boolean resumed;");
+                       println("        Frame(Node node, int index, boolean[] active, Frame outer) {");
+                       println("            this.node = node;");
+                       println("            this.index = index;");
+                       println("            this.active = active;");
+                       println("            this.outer = outer;");
+                       println("        }");
+                       println("    }\n");
+                       println("    private final Visitor[] visitors;");
+                       println("    private boolean[] active;");
+                       println("    private Frame frame;\n");
+                       println("    public CompositeVisitor(Visitor... visitors) {");
+                       println("        this.visitors = visitors.clone();");
+                       println("        active = new boolean[visitors.length];");
+                       println("        Arrays.fill(active, true);");
+                       println("        for (Visitor visitor: visitors) {");
+                       println("            if (visitor instanceof NaturalVisitor) {");
+                       println("                throw new IllegalArgumentException(\"natural visitors may not be combined\");");
+                       println("            }");
+                       println("            visitor.composite = this;");
+                       println("        }");
+                       println("    }\n");
+                       println("    private void visitNode(Node that) {");
+                       println("        chain(that, 0, active);");
+                       println("    }\n");
+                       println("    @Override");
+                       println("    public void visitAny(Node that) {");
+                       println("        visitNode(that);");
+                       println("    }\n");
+                       println("    private void chain(Node that, int from, boolean[] active) {");
+                       println("        int i = from;");
+                       println("        while (i<visitors.length && !active[i]) i++;");
+                       println("        if (i==visitors.length) {");
+                       println("            boolean[] outerActive = this.active;");
+                       println("            this.active = active;");
+                       println("            try {");
+                       println("                that.visitChildren(this);");
+                       println("            }");
+                       println("            finally {");
+                       println("                this.active = outerActive;");
+                       println("            }");
+                       println("        }");
+                       println("        else {");
+                       println("            Frame f = new Frame(that, i, active, frame);");
+                       println("            frame = f;");
+                       println("            try {");
+                       println("                that.visit(visitors[i]);");
+                       println("            }");
+                       println("            finally {");
+                       println("                frame = f.outer;");
+                       println("            }");
+                       println("            if (!f.resumed) {");
+                       println("                boolean[] remaining = active.clone();");
+                       println("                remaining[i] = false;");
+                       println("                chain(that, i+1, remaining);");
+                       println("            }");
+                       println("        }");
+                       println("    }\n");
+                       println("    /**");
+                       println("     * Called by visitAny() of one of the visitors. If the");
+                       println("     * visitor is descending into the node it was passed,");
+                       println("     * continue with the next visitor.");
+                       println("     */");
+                       println("    boolean resume(Visitor visitor, Node that) {");
+                       println("        Frame f = frame;");
+                       println("        if (f!=null && !f.resumed && f.node==that && visitors[f.index]==visitor) {");
+                       println("            f.resumed = true;");
+                       println("            chain(that, f.index+1, f.active);");
+                       println("            return true;");
+                       println("        }");
+                       println("        else {");
+                       println("            return false;");
+                       println("        }");
+                       println("    }\n");
+                       
+
+            // treegen/CompositeVisitorgen.g:113:12: ( ( DESCRIPTION )? node )+
+            int cnt2=0;
+            loop2:
+            do {
+                int alt2=2;
+                int LA2_0 = input.LA(1);
+
+                if ( ((LA2_0 >= CARAT && LA2_0 <= DESCRIPTION)) ) {
+                    alt2=1;
+                }
+
+
+                switch (alt2) {
+            	case 1 :
+            	    // treegen/CompositeVisitorgen.g:113:13: ( DESCRIPTION )? node
+            	    {
+            	    // treegen/CompositeVisitorgen.g:113:13: ( DESCRIPTION )?
+            	    int alt1=2;
+            	    int LA1_0 = input.LA(1);
+
+            	    if ( (LA1_0==DESCRIPTION) ) {
+            	        alt1=1;
+            	    }
+            	    switch (alt1) {
+            	        case 1 :
+            	            // treegen/CompositeVisitorgen.g:113:13: DESCRIPTION
+            	            {
+            	            match(input,DESCRIPTION,FOLLOW_DESCRIPTION_in_nodeList41); 
+
+            	            }
+            	            break;
+
+            	    }
+
+
+            	    pushFollow(FOLLOW_node_in_nodeList44);
+            	    node();
+
+            	    state._fsp--;
+
+
+            	    }
+            	    break;
+
+            	default :
+            	    if ( cnt2 >= 1 ) break loop2;
+                        EarlyExitException eee =
+                            new EarlyExitException(2, input);
+                        throw eee;
+                }
+                cnt2++;
+            } while (true);
+
+
+            match(input,EOF,FOLLOW_EOF_in_nodeList60); 
+
+             println("\n}"); 
+
+            }
+
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return ;
+    }
+    // $ANTLR end "nodeList"
+
+
+
+    // $ANTLR start "node"
+    // treegen/CompositeVisitorgen.g:118:1: node : '^' '(' ( 'abstract' )? n= NODE_NAME ( ':' en= NODE_NAME )? ( ( DESCRIPTION )? subnode )* ( ( DESCRIPTION )? field )* ')' ;
+    public final void node() throws RecognitionException {
+        Token n=null;
+        Token en=null;
+
+        try {
+            // treegen/CompositeVisitorgen.g:118:6: ( '^' '(' ( 'abstract' )? n= NODE_NAME ( ':' en= NODE_NAME )? ( ( DESCRIPTION )? subnode )* ( ( DESCRIPTION )? field )* ')' )
+            // treegen/CompositeVisitorgen.g:118:8: '^' '(' ( 'abstract' )? n= NODE_NAME ( ':' en= NODE_NAME )? ( ( DESCRIPTION )? subnode )* ( ( DESCRIPTION )? field )* ')'
+            {
+            match(input,CARAT,FOLLOW_CARAT_in_node93); 
+
+            match(input,LPAREN,FOLLOW_LPAREN_in_node95); 
+
+            // treegen/CompositeVisitorgen.g:119:8: ( 'abstract' )?
+            int alt3=2;
+            int LA3_0 = input.LA(1);
+
+            if ( (LA3_0==17) ) {
+                alt3=1;
+            }
+            switch (alt3) {
+                case 1 :
+                    // treegen/CompositeVisitorgen.g:119:8: 'abstract'
+                    {
+                    match(input,17,FOLLOW_17_in_node104); 
+
+                    }
+                    break;
+
+            }
+
+
+            n=(Token)match(input,NODE_NAME,FOLLOW_NODE_NAME_in_node109); 
+
+            // treegen/CompositeVisitorgen.g:119:32: ( ':' en= NODE_NAME )?
+            int alt4=2;
+            int LA4_0 = input.LA(1);
+
+            if ( (LA4_0==EXTENDS) ) {
+                alt4=1;
+            }
+            switch (alt4) {
+                case 1 :
+                    // treegen/CompositeVisitorgen.g:119:33: ':' en= NODE_NAME
+                    {
+                    match(input,EXTENDS,FOLLOW_EXTENDS_in_node112); 
+
+                    en=(Token)match(input,NODE_NAME,FOLLOW_NODE_NAME_in_node116); 
+
+                    }
+                    break;
+
+            }
+
+
+             println("    @Override public void visit(" + className((n!=null?n.getText():null)) + " that) { visitNode(that); }"); 
+
+            // treegen/CompositeVisitorgen.g:121:8: ( ( DESCRIPTION )? subnode )*
+            loop6:
+            do {
+                int alt6=2;
+                int LA6_0 = input.LA(1);
+
+                if ( (LA6_0==DESCRIPTION) ) {
+                    int LA6_1 = input.LA(2);
+
+                    if ( (LA6_1==NODE_NAME) ) {
+                        alt6=1;
+                    }
+
+
+                }
+                else if ( (LA6_0==NODE_NAME) ) {
+                    alt6=1;
+                }
+
+
+                switch (alt6) {
+            	case 1 :
+            	    // treegen/CompositeVisitorgen.g:121:9: ( DESCRIPTION )? subnode
+            	    {
+            	    // treegen/CompositeVisitorgen.g:121:9: ( DESCRIPTION )?
+            	    int alt5=2;
+            	    int LA5_0 = input.LA(1);
+
+            	    if ( (LA5_0==DESCRIPTION) ) {
+            	        alt5=1;
+            	    }
+            	    switch (alt5) {
+            	        case 1 :
+            	            // treegen/CompositeVisitorgen.g:121:9: DESCRIPTION
+            	            {
+            	            match(input,DESCRIPTION,FOLLOW_DESCRIPTION_in_node137); 
+
+            	            }
+            	            break;
+
+            	    }
+
+
+            	    pushFollow(FOLLOW_subnode_in_node140);
+            	    subnode();
+
+            	    state._fsp--;
+
+
+            	    }
+            	    break;
+
+            	default :
+            	    break loop6;
+                }
+            } while (true);
+
+
+            // treegen/CompositeVisitorgen.g:122:8: ( ( DESCRIPTION )? field )*
+            loop8:
+            do {
+                int alt8=2;
+                int LA8_0 = input.LA(1);
+
+                if ( (LA8_0==DESCRIPTION||LA8_0==TYPE_NAME||(LA8_0 >= 17 && LA8_0 <= 18)) ) {
+                    alt8=1;
+                }
+
+
+                switch (alt8) {
+            	case 1 :
+            	    // treegen/CompositeVisitorgen.g:122:9: ( DESCRIPTION )? field
+            	    {
+            	    // treegen/CompositeVisitorgen.g:122:9: ( DESCRIPTION )?
+            	    int alt7=2;
+            	    int LA7_0 = input.LA(1);
+
+            	    if ( (LA7_0==DESCRIPTION) ) {
+            	        alt7=1;
+            	    }
+            	    switch (alt7) {
+            	        case 1 :
+            	            // treegen/CompositeVisitorgen.g:122:9: DESCRIPTION
+            	            {
+            	            match(input,DESCRIPTION,FOLLOW_DESCRIPTION_in_node152); 
+
+            	            }
+            	            break;
+
+            	    }
+
+
+            	    pushFollow(FOLLOW_field_in_node155);
+            	    field();
+
+            	    state._fsp--;
+
+
+            	    }
+            	    break;
+
+            	default :
+            	    break loop8;
+                }
+            } while (true);
+
+
+            match(input,RPAREN,FOLLOW_RPAREN_in_node166); 
+
+            }
+
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return ;
+    }
+    // $ANTLR end "node"
+
+
+
+    // $ANTLR start "subnode"
+    // treegen/CompositeVisitorgen.g:126:1: subnode : (n= NODE_NAME ( '?' )? (f= FIELD_NAME )? ( '(' ( NODE_NAME )* ')' )? |mn= NODE_NAME '*' (f= FIELD_NAME )? ( '(' ( NODE_NAME )* ')' )? );
+    public final void subnode() throws RecognitionException {
+        Token n=null;
+        Token f=null;
+        Token mn=null;
+
+        try {
+            // treegen/CompositeVisitorgen.g:126:9: (n= NODE_NAME ( '?' )? (f= FIELD_NAME )? ( '(' ( NODE_NAME )* ')' )? |mn= NODE_NAME '*' (f= FIELD_NAME )? ( '(' ( NODE_NAME )* ')' )? )
+            int alt16=2;
+            int LA16_0 = input.LA(1);
+
+            if ( (LA16_0==NODE_NAME) ) {
+                int LA16_1 = input.LA(2);
+
+                if ( (LA16_1==16) ) {
+                    alt16=2;
+                }
+                else if ( (LA16_1==DESCRIPTION||(LA16_1 >= FIELD_NAME && LA16_1 <= LPAREN)||(LA16_1 >= NODE_NAME && LA16_1 <= RPAREN)||LA16_1==TYPE_NAME||(LA16_1 >= 17 && LA16_1 <= 18)) ) {
+                    alt16=1;
+                }
+                else {
+                    NoViableAltException nvae =
+                        new NoViableAltException("", 16, 1, input);
+
+                    throw nvae;
+
+                }
+            }
+            else {
+                NoViableAltException nvae =
+                    new NoViableAltException("", 16, 0, input);
+
+                throw nvae;
+
+            }
+            switch (alt16) {
+                case 1 :
+                    // treegen/CompositeVisitorgen.g:126:11: n= NODE_NAME ( '?' )? (f= FIELD_NAME )? ( '(' ( NODE_NAME )* ')' )?
+                    {
+                    n=(Token)match(input,NODE_NAME,FOLLOW_NODE_NAME_in_subnode182); 
+
+                    // treegen/CompositeVisitorgen.g:126:23: ( '?' )?
+                    int alt9=2;
+                    int LA9_0 = input.LA(1);
+
+                    if ( (LA9_0==OPTIONAL) ) {
+                        alt9=1;
+                    }
+                    switch (alt9) {
+                        case 1 :
+                            // treegen/CompositeVisitorgen.g:126:23: '?'
+                            {
+                            match(input,OPTIONAL,FOLLOW_OPTIONAL_in_subnode184); 
+
+                            }
+                            break;
+
+                    }
+
+
+                    // treegen/CompositeVisitorgen.g:126:29: (f= FIELD_NAME )?
+                    int alt10=2;
+                    int LA10_0 = input.LA(1);
+
+                    if ( (LA10_0==FIELD_NAME) ) {
+                        alt10=1;
+                    }
+                    switch (alt10) {
+                        case 1 :
+                            // treegen/CompositeVisitorgen.g:126:29: f= FIELD_NAME
+                            {
+                            f=(Token)match(input,FIELD_NAME,FOLLOW_FIELD_NAME_in_subnode189); 
+
+                            }
+                            break;
+
+                    }
+
+
+                    // treegen/CompositeVisitorgen.g:126:42: ( '(' ( NODE_NAME )* ')' )?
+                    int alt12=2;
+                    int LA12_0 = input.LA(1);
+
+                    if ( (LA12_0==LPAREN) ) {
+                        alt12=1;
+                    }
+                    switch (alt12) {
+                        case 1 :
+                            // treegen/CompositeVisitorgen.g:126:43: '(' ( NODE_NAME )* ')'
+                            {
+                            match(input,LPAREN,FOLLOW_LPAREN_in_subnode193); 
+
+                            // treegen/CompositeVisitorgen.g:126:47: ( NODE_NAME )*
+                            loop11:
+                            do {
+                                int alt11=2;
+                                int LA11_0 = input.LA(1);
+
+                                if ( (LA11_0==NODE_NAME) ) {
+                                    alt11=1;
+                                }
+
+
+                                switch (alt11) {
+                            	case 1 :
+                            	    // treegen/CompositeVisitorgen.g:126:47: NODE_NAME
+                            	    {
+                            	    match(input,NODE_NAME,FOLLOW_NODE_NAME_in_subnode195); 
+
+                            	    }
+                            	    break;
+
+                            	default :
+                            	    break loop11;
+                                }
+                            } while (true);
+
+
+                            match(input,RPAREN,FOLLOW_RPAREN_in_subnode198); 
+
+                            }
+                            break;
+
+                    }
+
+
+                    }
+                    break;
+                case 2 :
+                    // treegen/CompositeVisitorgen.g:127:11: mn= NODE_NAME '*' (f= FIELD_NAME )? ( '(' ( NODE_NAME )* ')' )?
+                    {
+                    mn=(Token)match(input,NODE_NAME,FOLLOW_NODE_NAME_in_subnode214); 
+
+                    match(input,16,FOLLOW_16_in_subnode216); 
+
+                    // treegen/CompositeVisitorgen.g:127:29: (f= FIELD_NAME )?
+                    int alt13=2;
+                    int LA13_0 = input.LA(1);
+
+                    if ( (LA13_0==FIELD_NAME) ) {
+                        alt13=1;
+                    }
+                    switch (alt13) {
+                        case 1 :
+                            // treegen/CompositeVisitorgen.g:127:29: f= FIELD_NAME
+                            {
+                            f=(Token)match(input,FIELD_NAME,FOLLOW_FIELD_NAME_in_subnode220); 
+
+                            }
+                            break;
+
+                    }
+
+
+                    // treegen/CompositeVisitorgen.g:127:42: ( '(' ( NODE_NAME )* ')' )?
+                    int alt15=2;
+                    int LA15_0 = input.LA(1);
+
+                    if ( (LA15_0==LPAREN) ) {
+                        alt15=1;
+                    }
+                    switch (alt15) {
+                        case 1 :
+                            // treegen/CompositeVisitorgen.g:127:43: '(' ( NODE_NAME )* ')'
+                            {
+                            match(input,LPAREN,FOLLOW_LPAREN_in_subnode224); 
+
+                            // treegen/CompositeVisitorgen.g:127:47: ( NODE_NAME )*
+                            loop14:
+                            do {
+                                int alt14=2;
+                                int LA14_0 = input.LA(1);
+
+                                if ( (LA14_0==NODE_NAME) ) {
+                                    alt14=1;
+                                }
+
+
+                                switch (alt14) {
+                            	case 1 :
+                            	    // treegen/CompositeVisitorgen.g:127:47: NODE_NAME
+                            	    {
+                            	    match(input,NODE_NAME,FOLLOW_NODE_NAME_in_subnode226); 
+
+                            	    }
+                            	    break;
+
+                            	default :
+                            	    break loop14;
+                                }
+                            } while (true);
+
+
+                            match(input,RPAREN,FOLLOW_RPAREN_in_subnode229); 
+
+                            }
+                            break;
+
+                    }
+
+
+                    }
+                    break;
+
+            }
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return ;
+    }
+    // $ANTLR end "subnode"
+
+
+
+    // $ANTLR start "field"
+    // treegen/CompositeVisitorgen.g:130:1: field : ( 'abstract' )? ( TYPE_NAME | 'boolean' ) FIELD_NAME ';' ;
+    public final void field() throws RecognitionException {
+        try {
+            // treegen/CompositeVisitorgen.g:130:7: ( ( 'abstract' )? ( TYPE_NAME | 'boolean' ) FIELD_NAME ';' )
+            // treegen/CompositeVisitorgen.g:130:9: ( 'abstract' )? ( TYPE_NAME | 'boolean' ) FIELD_NAME ';'
+            {
+            // treegen/CompositeVisitorgen.g:130:9: ( 'abstract' )?
+            int alt17=2;
+            int LA17_0 = input.LA(1);
+
+            if ( (LA17_0==17) ) {
+                alt17=1;
+            }
+            switch (alt17) {
+                case 1 :
+                    // treegen/CompositeVisitorgen.g:130:9: 'abstract'
+                    {
+                    match(input,17,FOLLOW_17_in_field249); 
+
+                    }
+                    break;
+
+            }
+
+
+            if ( input.LA(1)==TYPE_NAME||input.LA(1)==18 ) {
+                input.consume();
+                state.errorRecovery=false;
+            }
+            else {
+                MismatchedSetException mse = new MismatchedSetException(null,input);
+                throw mse;
+            }
+
+
+            match(input,FIELD_NAME,FOLLOW_FIELD_NAME_in_field258); 
+
+            match(input,SEMI,FOLLOW_SEMI_in_field260); 
+
+            }
+
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return ;
+    }
+    // $ANTLR end "field"
+
+    // Delegated rules
+
+
+ 
+
+    public static final BitSet FOLLOW_DESCRIPTION_in_nodeList41 = new BitSet(new long[]{0x0000000000000010L});
+    public static final BitSet FOLLOW_node_in_nodeList44 = new BitSet(new long[]{0x0000000000000030L});
+    public static final BitSet FOLLOW_EOF_in_nodeList60 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_CARAT_in_node93 = new BitSet(new long[]{0x0000000000000100L});
+    public static final BitSet FOLLOW_LPAREN_in_node95 = new BitSet(new long[]{0x0000000000020400L});
+    public static final BitSet FOLLOW_17_in_node104 = new BitSet(new long[]{0x0000000000000400L});
+    public static final BitSet FOLLOW_NODE_NAME_in_node109 = new BitSet(new long[]{0x0000000000065460L});
+    public static final BitSet FOLLOW_EXTENDS_in_node112 = new BitSet(new long[]{0x0000000000000400L});
+    public static final BitSet FOLLOW_NODE_NAME_in_node116 = new BitSet(new long[]{0x0000000000065420L});
+    public static final BitSet FOLLOW_DESCRIPTION_in_node137 = new BitSet(new long[]{0x0000000000000400L});
+    public static final BitSet FOLLOW_subnode_in_node140 = new BitSet(new long[]{0x0000000000065420L});
+    public static final BitSet FOLLOW_DESCRIPTION_in_node152 = new BitSet(new long[]{0x0000000000064000L});
+    public static final BitSet FOLLOW_field_in_node155 = new BitSet(new long[]{0x0000000000065020L});
+    public static final BitSet FOLLOW_RPAREN_in_node166 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_NODE_NAME_in_subnode182 = new BitSet(new long[]{0x0000000000000982L});
+    public static final BitSet FOLLOW_OPTIONAL_in_subnode184 = new BitSet(new long[]{0x0000000000000182L});
+    public static final BitSet FOLLOW_FIELD_NAME_in_subnode189 = new BitSet(new long[]{0x0000000000000102L});
+    public static final BitSet FOLLOW_LPAREN_in_subnode193 = new BitSet(new long[]{0x0000000000001400L});
+    public static final BitSet FOLLOW_NODE_NAME_in_subnode195 = new BitSet(new long[]{0x0000000000001400L});
+    public static final BitSet FOLLOW_RPAREN_in_subnode198 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_NODE_NAME_in_subnode214 = new BitSet(new long[]{0x0000000000010000L});
+    public static final BitSet FOLLOW_16_in_subnode216 = new BitSet(new long[]{0x0000000000000182L});
+    public static final BitSet FOLLOW_FIELD_NAME_in_subnode220 = new BitSet(new long[]{0x0000000000000102L});
+    public static final BitSet FOLLOW_LPAREN_in_subnode224 = new BitSet(new long[]{0x0000000000001400L});
+    public static final BitSet FOLLOW_NODE_NAME_in_subnode226 = new BitSet(new long[]{0x0000000000001400L});
+    public static final BitSet FOLLOW_RPAREN_in_subnode229 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_17_in_field249 = new BitSet(new long[]{0x0000000000044000L});
+    public static final BitSet FOLLOW_set_in_field252 = new BitSet(new long[]{0x0000000000000080L});
+    public static final BitSet FOLLOW_FIELD_NAME_in_field258 = new BitSet(new long[]{0x0000000000002000L});
+    public static final BitSet FOLLOW_SEMI_in_field260 = new BitSet(new long[]{0x0000000000000002L});
+
+}
\ No newline at end of file
@@ -0,0 +1,836 @@
+// $ANTLR 3.4 treegen/Hashergen.g 2026-10-18 21:18:43
+ 
+    package com.redhat.ceylon.compiler.typechecker.treegen; 
+    import static com.redhat.ceylon.compiler.typechecker.treegen.Util.*; 
+
+
+import org.antlr.runtime.*;
+import java.util.Stack;
+import java.util.List;
+import java.util.ArrayList;
+
+@SuppressWarnings({"all", "warnings", "unchecked"})
+public class HashergenParser extends Parser {
+    public static final String[] tokenNames = new String[] {
+        "<invalid>", "<EOR>", "<DOWN>", "<UP>", "CARAT", "DESCRIPTION", "EXTENDS", "FIELD_NAME", "LPAREN", "MANY", "NODE_NAME", "OPTIONAL", "RPAREN", "SEMI", "TYPE_NAME", "WS", "'*'", "'abstract'", "'boolean'"
+    };
+
+    public static final int EOF=-1;
+    public static final int T__16=16;
+    public static final int T__17=17;
+    public static final int T__18=18;
+    public static final int CARAT=4;
+    public static final int DESCRIPTION=5;
+    public static final int EXTENDS=6;
+    public static final int FIELD_NAME=7;
+    public static final int LPAREN=8;
+    public static final int MANY=9;
+    public static final int NODE_NAME=10;
+    public static final int OPTIONAL=11;
+    public static final int RPAREN=12;
+    public static final int SEMI=13;
+    public static final int TYPE_NAME=14;
+    public static final int WS=15;
+
+    // delegates
+    public Parser[] getDelegates() {
+        return new Parser[] {};
+    }
+
+    // delegators
+
+
+    public HashergenParser(TokenStream input) {
+        this(input, new RecognizerSharedState());
+    }
+    public HashergenParser(TokenStream input, RecognizerSharedState state) {
+        super(input, state);
+    }
+
+    public String[] getTokenNames() { return HashergenParser.tokenNames; }
+    public String getGrammarFileName() { return "treegen/Hashergen.g"; }
+
+
+
+    // $ANTLR start "nodeList"
+    // treegen/Hashergen.g:11:1: nodeList : ( ( DESCRIPTION )? node )+ EOF ;
+    public final void nodeList() throws RecognitionException {
+        try {
+            // treegen/Hashergen.g:11:10: ( ( ( DESCRIPTION )? node )+ EOF )
+            // treegen/Hashergen.g:12:5: ( ( DESCRIPTION )? node )+ EOF
+            {
+
+                println("package com.redhat.ceylon.compiler.typechecker.tree;\n");
+                println("import static com.redhat.ceylon.compiler.typechecker.tree.Tree.*;\n");
+                println("public class Hasher {\n");
+                
+
+            // treegen/Hashergen.g:17:12: ( ( DESCRIPTION )? node )+
+            int cnt2=0;
+            loop2:
+            do {
+                int alt2=2;
+                int LA2_0 = input.LA(1);
+
+                if ( ((LA2_0 >= CARAT && LA2_0 <= DESCRIPTION)) ) {
+                    alt2=1;
+                }
+
+
+                switch (alt2) {
+            	case 1 :
+            	    // treegen/Hashergen.g:17:13: ( DESCRIPTION )? node
+            	    {
+            	    // treegen/Hashergen.g:17:13: ( DESCRIPTION )?
+            	    int alt1=2;
+            	    int LA1_0 = input.LA(1);
+
+            	    if ( (LA1_0==DESCRIPTION) ) {
+            	        alt1=1;
+            	    }
+            	    switch (alt1) {
+            	        case 1 :
+            	            // treegen/Hashergen.g:17:13: DESCRIPTION
+            	            {
+            	            match(input,DESCRIPTION,FOLLOW_DESCRIPTION_in_nodeList46); 
+
+            	            }
+            	            break;
+
+            	    }
+
+
+            	    pushFollow(FOLLOW_node_in_nodeList49);
+            	    node();
+
+            	    state._fsp--;
+
+
+            	    }
+            	    break;
+
+            	default :
+            	    if ( cnt2 >= 1 ) break loop2;
+                        EarlyExitException eee =
+                            new EarlyExitException(2, input);
+                        throw eee;
+                }
+                cnt2++;
+            } while (true);
+
+
+            match(input,EOF,FOLLOW_EOF_in_nodeList65); 
+
+             println("}"); 
+
+            }
+
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return ;
+    }
+    // $ANTLR end "nodeList"
+
+
+
+    // $ANTLR start "node"
+    // treegen/Hashergen.g:22:1: node : '^' '(' ( 'abstract' )? n= NODE_NAME ( extendsNode )? ( ( DESCRIPTION )? subnode )* ( ( DESCRIPTION )? field )* ')' ;
+    public final void node() throws RecognitionException {
+        Token n=null;
+
+        try {
+            // treegen/Hashergen.g:22:6: ( '^' '(' ( 'abstract' )? n= NODE_NAME ( extendsNode )? ( ( DESCRIPTION )? subnode )* ( ( DESCRIPTION )? field )* ')' )
+            // treegen/Hashergen.g:22:8: '^' '(' ( 'abstract' )? n= NODE_NAME ( extendsNode )? ( ( DESCRIPTION )? subnode )* ( ( DESCRIPTION )? field )* ')'
+            {
+            match(input,CARAT,FOLLOW_CARAT_in_node91); 
+
+            match(input,LPAREN,FOLLOW_LPAREN_in_node93); 
+
+            // treegen/Hashergen.g:23:8: ( 'abstract' )?
+            int alt3=2;
+            int LA3_0 = input.LA(1);
+
+            if ( (LA3_0==17) ) {
+                alt3=1;
+            }
+            switch (alt3) {
+                case 1 :
+                    // treegen/Hashergen.g:23:8: 'abstract'
+                    {
+                    match(input,17,FOLLOW_17_in_node102); 
+
+                    }
+                    break;
+
+            }
+
+
+            n=(Token)match(input,NODE_NAME,FOLLOW_NODE_NAME_in_node107); 
+
+             println("    public static void hash" + className((n!=null?n.getText():null)) +"(StructuralHash hash, " + className((n!=null?n.getText():null)) + " node) {"); 
+
+            // treegen/Hashergen.g:25:8: ( extendsNode )?
+            int alt4=2;
+            int LA4_0 = input.LA(1);
+
+            if ( (LA4_0==EXTENDS) ) {
+                alt4=1;
+            }
+            switch (alt4) {
+                case 1 :
+                    // treegen/Hashergen.g:25:8: extendsNode
+                    {
+                    pushFollow(FOLLOW_extendsNode_in_node126);
+                    extendsNode();
+
+                    state._fsp--;
+
+
+                    }
+                    break;
+
+            }
+
+
+            // treegen/Hashergen.g:26:8: ( ( DESCRIPTION )? subnode )*
+            loop6:
+            do {
+                int alt6=2;
+                int LA6_0 = input.LA(1);
+
+                if ( (LA6_0==DESCRIPTION) ) {
+                    int LA6_1 = input.LA(2);
+
+                    if ( (LA6_1==NODE_NAME) ) {
+                        alt6=1;
+                    }
+
+
+                }
+                else if ( (LA6_0==NODE_NAME) ) {
+                    alt6=1;
+                }
+
+
+                switch (alt6) {
+            	case 1 :
+            	    // treegen/Hashergen.g:26:9: ( DESCRIPTION )? subnode
+            	    {
+            	    // treegen/Hashergen.g:26:9: ( DESCRIPTION )?
+            	    int alt5=2;
+            	    int LA5_0 = input.LA(1);
+
+            	    if ( (LA5_0==DESCRIPTION) ) {
+            	        alt5=1;
+            	    }
+            	    switch (alt5) {
+            	        case 1 :
+            	            // treegen/Hashergen.g:26:9: DESCRIPTION
+            	            {
+            	            match(input,DESCRIPTION,FOLLOW_DESCRIPTION_in_node137); 
+
+            	            }
+            	            break;
+
+            	    }
+
+
+            	    pushFollow(FOLLOW_subnode_in_node140);
+            	    subnode();
+
+            	    state._fsp--;
+
+
+            	    }
+            	    break;
+
+            	default :
+            	    break loop6;
+                }
+            } while (true);
+
+
+            // treegen/Hashergen.g:27:8: ( ( DESCRIPTION )? field )*
+            loop8:
+            do {
+                int alt8=2;
+                int LA8_0 = input.LA(1);
+
+                if ( (LA8_0==DESCRIPTION||LA8_0==TYPE_NAME||(LA8_0 >= 17 && LA8_0 <= 18)) ) {
+                    alt8=1;
+                }
+
+
+                switch (alt8) {
+            	case 1 :
+            	    // treegen/Hashergen.g:27:9: ( DESCRIPTION )? field
+            	    {
+            	    // treegen/Hashergen.g:27:9: ( DESCRIPTION )?
+            	    int alt7=2;
+            	    int LA7_0 = input.LA(1);
+
+            	    if ( (LA7_0==DESCRIPTION) ) {
+            	        alt7=1;
+            	    }
+            	    switch (alt7) {
+            	        case 1 :
+            	            // treegen/Hashergen.g:27:9: DESCRIPTION
+            	            {
+            	            match(input,DESCRIPTION,FOLLOW_DESCRIPTION_in_node152); 
+
+            	            }
+            	            break;
+
+            	    }
+
+
+            	    pushFollow(FOLLOW_field_in_node155);
+            	    field();
+
+            	    state._fsp--;
+
+
+            	    }
+            	    break;
+
+            	default :
+            	    break loop8;
+                }
+            } while (true);
+
+
+            match(input,RPAREN,FOLLOW_RPAREN_in_node166); 
+
+             println("    }\n"); 
+
+            }
+
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return ;
+    }
+    // $ANTLR end "node"
+
+
+
+    // $ANTLR start "extendsNode"
+    // treegen/Hashergen.g:32:1: extendsNode : ':' n= NODE_NAME ;
+    public final void extendsNode() throws RecognitionException {
+        Token n=null;
+
+        try {
+            // treegen/Hashergen.g:32:13: ( ':' n= NODE_NAME )
+            // treegen/Hashergen.g:32:15: ':' n= NODE_NAME
+            {
+            match(input,EXTENDS,FOLLOW_EXTENDS_in_extendsNode189); 
+
+            n=(Token)match(input,NODE_NAME,FOLLOW_NODE_NAME_in_extendsNode208); 
+
+             println("        hash" + className((n!=null?n.getText():null)) +"(hash, node);"); 
+
+            }
+
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return ;
+    }
+    // $ANTLR end "extendsNode"
+
+
+
+    // $ANTLR start "subnode"
+    // treegen/Hashergen.g:37:1: subnode : (n= NODE_NAME ( '?' )? f= FIELD_NAME ( '(' ( NODE_NAME )* ')' )? |n= NODE_NAME ( '?' )? ( '(' ( NODE_NAME )* ')' )? |mn= NODE_NAME '*' ( '(' ( NODE_NAME )* ')' )? |mn= NODE_NAME '*' f= FIELD_NAME ( '(' ( NODE_NAME )* ')' )? );
+    public final void subnode() throws RecognitionException {
+        Token n=null;
+        Token f=null;
+        Token mn=null;
+
+        try {
+            // treegen/Hashergen.g:37:9: (n= NODE_NAME ( '?' )? f= FIELD_NAME ( '(' ( NODE_NAME )* ')' )? |n= NODE_NAME ( '?' )? ( '(' ( NODE_NAME )* ')' )? |mn= NODE_NAME '*' ( '(' ( NODE_NAME )* ')' )? |mn= NODE_NAME '*' f= FIELD_NAME ( '(' ( NODE_NAME )* ')' )? )
+            int alt19=4;
+            int LA19_0 = input.LA(1);
+
+            if ( (LA19_0==NODE_NAME) ) {
+                switch ( input.LA(2) ) {
+                case 16:
+                    {
+                    int LA19_2 = input.LA(3);
+
+                    if ( (LA19_2==FIELD_NAME) ) {
+                        alt19=4;
+                    }
+                    else if ( (LA19_2==DESCRIPTION||LA19_2==LPAREN||LA19_2==NODE_NAME||LA19_2==RPAREN||LA19_2==TYPE_NAME||(LA19_2 >= 17 && LA19_2 <= 18)) ) {
+                        alt19=3;
+                    }
+                    else {
+                        NoViableAltException nvae =
+                            new NoViableAltException("", 19, 2, input);
+
+                        throw nvae;
+
+                    }
+                    }
+                    break;
+                case OPTIONAL:
+                    {
+                    int LA19_3 = input.LA(3);
+
+                    if ( (LA19_3==FIELD_NAME) ) {
+                        alt19=1;
+                    }
+                    else if ( (LA19_3==DESCRIPTION||LA19_3==LPAREN||LA19_3==NODE_NAME||LA19_3==RPAREN||LA19_3==TYPE_NAME||(LA19_3 >= 17 && LA19_3 <= 18)) ) {
+                        alt19=2;
+                    }
+                    else {
+                        NoViableAltException nvae =
+                            new NoViableAltException("", 19, 3, input);
+
+                        throw nvae;
+
+                    }
+                    }
+                    break;
+                case FIELD_NAME:
+                    {
+                    alt19=1;
+                    }
+                    break;
+                case DESCRIPTION:
+                case LPAREN:
+                case NODE_NAME:
+                case RPAREN:
+                case TYPE_NAME:
+                case 17:
+                case 18:
+                    {
+                    alt19=2;
+                    }
+                    break;
+                default:
+                    NoViableAltException nvae =
+                        new NoViableAltException("", 19, 1, input);
+
+                    throw nvae;
+
+                }
+
+            }
+            else {
+                NoViableAltException nvae =
+                    new NoViableAltException("", 19, 0, input);
+
+                throw nvae;
+
+            }
+            switch (alt19) {
+                case 1 :
+                    // treegen/Hashergen.g:37:11: n= NODE_NAME ( '?' )? f= FIELD_NAME ( '(' ( NODE_NAME )* ')' )?
+                    {
+                    n=(Token)match(input,NODE_NAME,FOLLOW_NODE_NAME_in_subnode247); 
+
+                    // treegen/Hashergen.g:37:23: ( '?' )?
+                    int alt9=2;
+                    int LA9_0 = input.LA(1);
+
+                    if ( (LA9_0==OPTIONAL) ) {
+                        alt9=1;
+                    }
+                    switch (alt9) {
+                        case 1 :
+                            // treegen/Hashergen.g:37:23: '?'
+                            {
+                            match(input,OPTIONAL,FOLLOW_OPTIONAL_in_subnode249); 
+
+                            }
+                            break;
+
+                    }
+
+
+                    f=(Token)match(input,FIELD_NAME,FOLLOW_FIELD_NAME_in_subnode254); 
+
+                    // treegen/Hashergen.g:37:41: ( '(' ( NODE_NAME )* ')' )?
+                    int alt11=2;
+                    int LA11_0 = input.LA(1);
+
+                    if ( (LA11_0==LPAREN) ) {
+                        alt11=1;
+                    }
+                    switch (alt11) {
+                        case 1 :
+                            // treegen/Hashergen.g:37:42: '(' ( NODE_NAME )* ')'
+                            {
+                            match(input,LPAREN,FOLLOW_LPAREN_in_subnode257); 
+
+                            // treegen/Hashergen.g:37:46: ( NODE_NAME )*
+                            loop10:
+                            do {
+                                int alt10=2;
+                                int LA10_0 = input.LA(1);
+
+                                if ( (LA10_0==NODE_NAME) ) {
+                                    alt10=1;
+                                }
+
+
+                                switch (alt10) {
+                            	case 1 :
+                            	    // treegen/Hashergen.g:37:46: NODE_NAME
+                            	    {
+                            	    match(input,NODE_NAME,FOLLOW_NODE_NAME_in_subnode259); 
+
+                            	    }
+                            	    break;
+
+                            	default :
+                            	    break loop10;
+                                }
+                            } while (true);
+
+
+                            match(input,RPAREN,FOLLOW_RPAREN_in_subnode262); 
+
+                            }
+                            break;
+
+                    }
+
+
+                     println("        hash.add(node.get" + initialUpper((f!=null?f.getText():null)) + "());"); 
+
+                    }
+                    break;
+                case 2 :
+                    // treegen/Hashergen.g:39:11: n= NODE_NAME ( '?' )? ( '(' ( NODE_NAME )* ')' )?
+                    {
+                    n=(Token)match(input,NODE_NAME,FOLLOW_NODE_NAME_in_subnode290); 
+
+                    // treegen/Hashergen.g:39:23: ( '?' )?
+                    int alt12=2;
+                    int LA12_0 = input.LA(1);
+
+                    if ( (LA12_0==OPTIONAL) ) {
+                        alt12=1;
+                    }
+                    switch (alt12) {
+                        case 1 :
+                            // treegen/Hashergen.g:39:23: '?'
+                            {
+                            match(input,OPTIONAL,FOLLOW_OPTIONAL_in_subnode292); 
+
+                            }
+                            break;
+
+                    }
+
+
+                    // treegen/Hashergen.g:39:28: ( '(' ( NODE_NAME )* ')' )?
+                    int alt14=2;
+                    int LA14_0 = input.LA(1);
+
+                    if ( (LA14_0==LPAREN) ) {
+                        alt14=1;
+                    }
+                    switch (alt14) {
+                        case 1 :
+                            // treegen/Hashergen.g:39:29: '(' ( NODE_NAME )* ')'
+                            {
+                            match(input,LPAREN,FOLLOW_LPAREN_in_subnode296); 
+
+                            // treegen/Hashergen.g:39:33: ( NODE_NAME )*
+                            loop13:
+                            do {
+                                int alt13=2;
+                                int LA13_0 = input.LA(1);
+
+                                if ( (LA13_0==NODE_NAME) ) {
+                                    alt13=1;
+                                }
+
+
+                                switch (alt13) {
+                            	case 1 :
+                            	    // treegen/Hashergen.g:39:33: NODE_NAME
+                            	    {
+                            	    match(input,NODE_NAME,FOLLOW_NODE_NAME_in_subnode298); 
+
+                            	    }
+                            	    break;
+
+                            	default :
+                            	    break loop13;
+                                }
+                            } while (true);
+
+
+                            match(input,RPAREN,FOLLOW_RPAREN_in_subnode301); 
+
+                            }
+                            break;
+
+                    }
+
+
+                     println("        hash.add(node.get" + className((n!=null?n.getText():null)) + "());"); 
+
+                    }
+                    break;
+                case 3 :
+                    // treegen/Hashergen.g:41:11: mn= NODE_NAME '*' ( '(' ( NODE_NAME )* ')' )?
+                    {
+                    mn=(Token)match(input,NODE_NAME,FOLLOW_NODE_NAME_in_subnode329); 
+
+                    match(input,16,FOLLOW_16_in_subnode331); 
+
+                    // treegen/Hashergen.g:41:28: ( '(' ( NODE_NAME )* ')' )?
+                    int alt16=2;
+                    int LA16_0 = input.LA(1);
+
+                    if ( (LA16_0==LPAREN) ) {
+                        alt16=1;
+                    }
+                    switch (alt16) {
+                        case 1 :
+                            // treegen/Hashergen.g:41:29: '(' ( NODE_NAME )* ')'
+                            {
+                            match(input,LPAREN,FOLLOW_LPAREN_in_subnode334); 
+
+                            // treegen/Hashergen.g:41:33: ( NODE_NAME )*
+                            loop15:
+                            do {
+                                int alt15=2;
+                                int LA15_0 = input.LA(1);
+
+                                if ( (LA15_0==NODE_NAME) ) {
+                                    alt15=1;
+                                }
+
+
+                                switch (alt15) {
+                            	case 1 :
+                            	    // treegen/Hashergen.g:41:33: NODE_NAME
+                            	    {
+                            	    match(input,NODE_NAME,FOLLOW_NODE_NAME_in_subnode336); 
+
+                            	    }
+                            	    break;
+
+                            	default :
+                            	    break loop15;
+                                }
+                            } while (true);
+
+
+                            match(input,RPAREN,FOLLOW_RPAREN_in_subnode339); 
+
+                            }
+                            break;
+
+                    }
+
+
+                     println("        hash.addAll(node.get" + className((mn!=null?mn.getText():null)) +"s());"); 
+
+                    }
+                    break;
+                case 4 :
+                    // treegen/Hashergen.g:43:11: mn= NODE_NAME '*' f= FIELD_NAME ( '(' ( NODE_NAME )* ')' )?
+                    {
+                    mn=(Token)match(input,NODE_NAME,FOLLOW_NODE_NAME_in_subnode368); 
+
+                    match(input,16,FOLLOW_16_in_subnode370); 
+
+                    f=(Token)match(input,FIELD_NAME,FOLLOW_FIELD_NAME_in_subnode374); 
+
+                    // treegen/Hashergen.g:43:41: ( '(' ( NODE_NAME )* ')' )?
+                    int alt18=2;
+                    int LA18_0 = input.LA(1);
+
+                    if ( (LA18_0==LPAREN) ) {
+                        alt18=1;
+                    }
+                    switch (alt18) {
+                        case 1 :
+                            // treegen/Hashergen.g:43:42: '(' ( NODE_NAME )* ')'
+                            {
+                            match(input,LPAREN,FOLLOW_LPAREN_in_subnode377); 
+
+                            // treegen/Hashergen.g:43:46: ( NODE_NAME )*
+                            loop17:
+                            do {
+                                int alt17=2;
+                                int LA17_0 = input.LA(1);
+
+                                if ( (LA17_0==NODE_NAME) ) {
+                                    alt17=1;
+                                }
+
+
+                                switch (alt17) {
+                            	case 1 :
+                            	    // treegen/Hashergen.g:43:46: NODE_NAME
+                            	    {
+                            	    match(input,NODE_NAME,FOLLOW_NODE_NAME_in_subnode379); 
+
+                            	    }
+                            	    break;
+
+                            	default :
+                            	    break loop17;
+                                }
+                            } while (true);
+
+
+                            match(input,RPAREN,FOLLOW_RPAREN_in_subnode382); 
+
+                            }
+                            break;
+
+                    }
+
+
+                     println("        hash.addAll(node.get" + initialUpper((f!=null?f.getText():null)) +"s());"); 
+
+                    }
+                    break;
+
+            }
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return ;
+    }
+    // $ANTLR end "subnode"
+
+
+
+    // $ANTLR start "field"
+    // treegen/Hashergen.g:47:1: field : ( 'abstract' )? ( TYPE_NAME | 'boolean' ) FIELD_NAME ';' ;
+    public final void field() throws RecognitionException {
+        try {
+            // treegen/Hashergen.g:47:7: ( ( 'abstract' )? ( TYPE_NAME | 'boolean' ) FIELD_NAME ';' )
+            // treegen/Hashergen.g:47:9: ( 'abstract' )? ( TYPE_NAME | 'boolean' ) FIELD_NAME ';'
+            {
+            // treegen/Hashergen.g:47:9: ( 'abstract' )?
+            int alt20=2;
+            int LA20_0 = input.LA(1);
+
+            if ( (LA20_0==17) ) {
+                alt20=1;
+            }
+            switch (alt20) {
+                case 1 :
+                    // treegen/Hashergen.g:47:9: 'abstract'
+                    {
+                    match(input,17,FOLLOW_17_in_field414); 
+
+                    }
+                    break;
+
+            }
+
+
+            if ( input.LA(1)==TYPE_NAME||input.LA(1)==18 ) {
+                input.consume();
+                state.errorRecovery=false;
+            }
+            else {
+                MismatchedSetException mse = new MismatchedSetException(null,input);
+                throw mse;
+            }
+
+
+            match(input,FIELD_NAME,FOLLOW_FIELD_NAME_in_field423); 
+
+            match(input,SEMI,FOLLOW_SEMI_in_field425); 
+
+            }
+
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return ;
+    }
+    // $ANTLR end "field"
+
+    // Delegated rules
+
+
+ 
+
+    public static final BitSet FOLLOW_DESCRIPTION_in_nodeList46 = new BitSet(new long[]{0x0000000000000010L});
+    public static final BitSet FOLLOW_node_in_nodeList49 = new BitSet(new long[]{0x0000000000000030L});
+    public static final BitSet FOLLOW_EOF_in_nodeList65 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_CARAT_in_node91 = new BitSet(new long[]{0x0000000000000100L});
+    public static final BitSet FOLLOW_LPAREN_in_node93 = new BitSet(new long[]{0x0000000000020400L});
+    public static final BitSet FOLLOW_17_in_node102 = new BitSet(new long[]{0x0000000000000400L});
+    public static final BitSet FOLLOW_NODE_NAME_in_node107 = new BitSet(new long[]{0x0000000000065460L});
+    public static final BitSet FOLLOW_extendsNode_in_node126 = new BitSet(new long[]{0x0000000000065420L});
+    public static final BitSet FOLLOW_DESCRIPTION_in_node137 = new BitSet(new long[]{0x0000000000000400L});
+    public static final BitSet FOLLOW_subnode_in_node140 = new BitSet(new long[]{0x0000000000065420L});
+    public static final BitSet FOLLOW_DESCRIPTION_in_node152 = new BitSet(new long[]{0x0000000000064000L});
+    public static final BitSet FOLLOW_field_in_node155 = new BitSet(new long[]{0x0000000000065020L});
+    public static final BitSet FOLLOW_RPAREN_in_node166 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_EXTENDS_in_extendsNode189 = new BitSet(new long[]{0x0000000000000400L});
+    public static final BitSet FOLLOW_NODE_NAME_in_extendsNode208 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_NODE_NAME_in_subnode247 = new BitSet(new long[]{0x0000000000000880L});
+    public static final BitSet FOLLOW_OPTIONAL_in_subnode249 = new BitSet(new long[]{0x0000000000000080L});
+    public static final BitSet FOLLOW_FIELD_NAME_in_subnode254 = new BitSet(new long[]{0x0000000000000102L});
+    public static final BitSet FOLLOW_LPAREN_in_subnode257 = new BitSet(new long[]{0x0000000000001400L});
+    public static final BitSet FOLLOW_NODE_NAME_in_subnode259 = new BitSet(new long[]{0x0000000000001400L});
+    public static final BitSet FOLLOW_RPAREN_in_subnode262 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_NODE_NAME_in_subnode290 = new BitSet(new long[]{0x0000000000000902L});
+    public static final BitSet FOLLOW_OPTIONAL_in_subnode292 = new BitSet(new long[]{0x0000000000000102L});
+    public static final BitSet FOLLOW_LPAREN_in_subnode296 = new BitSet(new long[]{0x0000000000001400L});
+    public static final BitSet FOLLOW_NODE_NAME_in_subnode298 = new BitSet(new long[]{0x0000000000001400L});
+    public static final BitSet FOLLOW_RPAREN_in_subnode301 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_NODE_NAME_in_subnode329 = new BitSet(new long[]{0x0000000000010000L});
+    public static final BitSet FOLLOW_16_in_subnode331 = new BitSet(new long[]{0x0000000000000102L});
+    public static final BitSet FOLLOW_LPAREN_in_subnode334 = new BitSet(new long[]{0x0000000000001400L});
+    public static final BitSet FOLLOW_NODE_NAME_in_subnode336 = new BitSet(new long[]{0x0000000000001400L});
+    public static final BitSet FOLLOW_RPAREN_in_subnode339 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_NODE_NAME_in_subnode368 = new BitSet(new long[]{0x0000000000010000L});
+    public static final BitSet FOLLOW_16_in_subnode370 = new BitSet(new long[]{0x0000000000000080L});
+    public static final BitSet FOLLOW_FIELD_NAME_in_subnode374 = new BitSet(new long[]{0x0000000000000102L});
+    public static final BitSet FOLLOW_LPAREN_in_subnode377 = new BitSet(new long[]{0x0000000000001400L});
+    public static final BitSet FOLLOW_NODE_NAME_in_subnode379 = new BitSet(new long[]{0x0000000000001400L});
+    public static final BitSet FOLLOW_RPAREN_in_subnode382 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_17_in_field414 = new BitSet(new long[]{0x0000000000044000L});
+    public static final BitSet FOLLOW_set_in_field417 = new BitSet(new long[]{0x0000000000000080L});
+    public static final BitSet FOLLOW_FIELD_NAME_in_field423 = new BitSet(new long[]{0x0000000000002000L});
+    public static final BitSet FOLLOW_SEMI_in_field425 = new BitSet(new long[]{0x0000000000000002L});
+
+}
\ No newline at end of file
@@ -0,0 +1,888 @@
+// $ANTLR 3.4 treegen/TreeWritergen.g 2026-10-18 21:18:42
+ 
+    package com.redhat.ceylon.compiler.typechecker.treegen; 
+    import static com.redhat.ceylon.compiler.typechecker.treegen.Util.*; 
+
+
+import org.antlr.runtime.*;
+import java.util.Stack;
+import java.util.List;
+import java.util.ArrayList;
+
+@SuppressWarnings({"all", "warnings", "unchecked"})
+public class TreeWritergenParser extends Parser {
+    public static final String[] tokenNames = new String[] {
+        "<invalid>", "<EOR>", "<DOWN>", "<UP>", "CARAT", "DESCRIPTION", "EXTENDS", "FIELD_NAME", "LPAREN", "MANY", "NODE_NAME", "OPTIONAL", "RPAREN", "SEMI", "TYPE_NAME", "WS", "'*'", "'abstract'", "'boolean'"
+    };
+
+    public static final int EOF=-1;
+    public static final int T__16=16;
+    public static final int T__17=17;
+    public static final int T__18=18;
+    public static final int CARAT=4;
+    public static final int DESCRIPTION=5;
+    public static final int EXTENDS=6;
+    public static final int FIELD_NAME=7;
+    public static final int LPAREN=8;
+    public static final int MANY=9;
+    public static final int NODE_NAME=10;
+    public static final int OPTIONAL=11;
+    public static final int RPAREN=12;
+    public static final int SEMI=13;
+    public static final int TYPE_NAME=14;
+    public static final int WS=15;
+
+    // delegates
+    public Parser[] getDelegates() {
+        return new Parser[] {};
+    }
+
+    // delegators
+
+
+    public TreeWritergenParser(TokenStream input) {
+        this(input, new RecognizerSharedState());
+    }
+    public TreeWritergenParser(TokenStream input, RecognizerSharedState state) {
+        super(input, state);
+    }
+
+    public String[] getTokenNames() { return TreeWritergenParser.tokenNames; }
+    public String getGrammarFileName() { return "treegen/TreeWritergen.g"; }
+
+
+        StringBuilder cases = new StringBuilder();
+
+
+
+    // $ANTLR start "nodeList"
+    // treegen/TreeWritergen.g:15:1: nodeList : ( ( DESCRIPTION )? node )+ EOF ;
+    public final void nodeList() throws RecognitionException {
+        try {
+            // treegen/TreeWritergen.g:15:10: ( ( ( DESCRIPTION )? node )+ EOF )
+            // treegen/TreeWritergen.g:16:5: ( ( DESCRIPTION )? node )+ EOF
+            {
+
+                println("package com.redhat.ceylon.compiler.typechecker.tree;\n");
+                println("import static com.redhat.ceylon.compiler.typechecker.tree.Tree.*;\n");
+                println("import java.io.IOException;");
+                println("import java.io.OutputStream;\n");
+                println("public class TreeWriter extends AbstractTreeWriter {\n");
+                println("    public TreeWriter(OutputStream out) {");
+                println("        super(out);");
+                println("    }\n");
+                
+
+            // treegen/TreeWritergen.g:26:12: ( ( DESCRIPTION )? node )+
+            int cnt2=0;
+            loop2:
+            do {
+                int alt2=2;
+                int LA2_0 = input.LA(1);
+
+                if ( ((LA2_0 >= CARAT && LA2_0 <= DESCRIPTION)) ) {
+                    alt2=1;
+                }
+
+
+                switch (alt2) {
+            	case 1 :
+            	    // treegen/TreeWritergen.g:26:13: ( DESCRIPTION )? node
+            	    {
+            	    // treegen/TreeWritergen.g:26:13: ( DESCRIPTION )?
+            	    int alt1=2;
+            	    int LA1_0 = input.LA(1);
+
+            	    if ( (LA1_0==DESCRIPTION) ) {
+            	        alt1=1;
+            	    }
+            	    switch (alt1) {
+            	        case 1 :
+            	            // treegen/TreeWritergen.g:26:13: DESCRIPTION
+            	            {
+            	            match(input,DESCRIPTION,FOLLOW_DESCRIPTION_in_nodeList55); 
+
+            	            }
+            	            break;
+
+            	    }
+
+
+            	    pushFollow(FOLLOW_node_in_nodeList58);
+            	    node();
+
+            	    state._fsp--;
+
+
+            	    }
+            	    break;
+
+            	default :
+            	    if ( cnt2 >= 1 ) break loop2;
+                        EarlyExitException eee =
+                            new EarlyExitException(2, input);
+                        throw eee;
+                }
+                cnt2++;
+            } while (true);
+
+
+            match(input,EOF,FOLLOW_EOF_in_nodeList74); 
+
+             
+                println("    @Override");
+                println("    protected void writeFields(Node node) throws IOException {");
+                println("        switch (node.getNodeKind()) {" + cases);
+                println("        default:");
+                println("            throw new IllegalArgumentException(\"unknown node kind: \" + node.getNodeKind());");
+                println("        }");
+                println("    }\n");
+                println("}"); 
+                
+
+            }
+
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return ;
+    }
+    // $ANTLR end "nodeList"
+
+
+
+    // $ANTLR start "node"
+    // treegen/TreeWritergen.g:40:1: node : '^' '(' (a= 'abstract' )? n= NODE_NAME ( extendsNode )? ( ( DESCRIPTION )? subnode )* ( ( DESCRIPTION )? field )* ')' ;
+    public final void node() throws RecognitionException {
+        Token a=null;
+        Token n=null;
+
+        try {
+            // treegen/TreeWritergen.g:40:6: ( '^' '(' (a= 'abstract' )? n= NODE_NAME ( extendsNode )? ( ( DESCRIPTION )? subnode )* ( ( DESCRIPTION )? field )* ')' )
+            // treegen/TreeWritergen.g:40:8: '^' '(' (a= 'abstract' )? n= NODE_NAME ( extendsNode )? ( ( DESCRIPTION )? subnode )* ( ( DESCRIPTION )? field )* ')'
+            {
+            match(input,CARAT,FOLLOW_CARAT_in_node100); 
+
+            match(input,LPAREN,FOLLOW_LPAREN_in_node102); 
+
+            // treegen/TreeWritergen.g:41:8: (a= 'abstract' )?
+            int alt3=2;
+            int LA3_0 = input.LA(1);
+
+            if ( (LA3_0==17) ) {
+                alt3=1;
+            }
+            switch (alt3) {
+                case 1 :
+                    // treegen/TreeWritergen.g:41:9: a= 'abstract'
+                    {
+                    a=(Token)match(input,17,FOLLOW_17_in_node114); 
+
+                    }
+                    break;
+
+            }
+
+
+            n=(Token)match(input,NODE_NAME,FOLLOW_NODE_NAME_in_node120); 
+
+             println("    private void write" + className((n!=null?n.getText():null)) +"Fields(" + className((n!=null?n.getText():null)) + " node) throws IOException {"); 
+
+             if (a==null) cases.append("\n        case " + className((n!=null?n.getText():null)) + ".KIND:" + 
+                            "\n            write" + className((n!=null?n.getText():null)) + "Fields((" + className((n!=null?n.getText():null)) + ") node);" + 
+                            "\n            break;"); 
+
+            // treegen/TreeWritergen.g:46:8: ( extendsNode )?
+            int alt4=2;
+            int LA4_0 = input.LA(1);
+
+            if ( (LA4_0==EXTENDS) ) {
+                alt4=1;
+            }
+            switch (alt4) {
+                case 1 :
+                    // treegen/TreeWritergen.g:46:8: extendsNode
+                    {
+                    pushFollow(FOLLOW_extendsNode_in_node148);
+                    extendsNode();
+
+                    state._fsp--;
+
+
+                    }
+                    break;
+
+            }
+
+
+            // treegen/TreeWritergen.g:47:8: ( ( DESCRIPTION )? subnode )*
+            loop6:
+            do {
+                int alt6=2;
+                int LA6_0 = input.LA(1);
+
+                if ( (LA6_0==DESCRIPTION) ) {
+                    int LA6_1 = input.LA(2);
+
+                    if ( (LA6_1==NODE_NAME) ) {
+                        alt6=1;
+                    }
+
+
+                }
+                else if ( (LA6_0==NODE_NAME) ) {
+                    alt6=1;
+                }
+
+
+                switch (alt6) {
+            	case 1 :
+            	    // treegen/TreeWritergen.g:47:9: ( DESCRIPTION )? subnode
+            	    {
+            	    // treegen/TreeWritergen.g:47:9: ( DESCRIPTION )?
+            	    int alt5=2;
+            	    int LA5_0 = input.LA(1);
+
+            	    if ( (LA5_0==DESCRIPTION) ) {
+            	        alt5=1;
+            	    }
+            	    switch (alt5) {
+            	        case 1 :
+            	            // treegen/TreeWritergen.g:47:9: DESCRIPTION
+            	            {
+            	            match(input,DESCRIPTION,FOLLOW_DESCRIPTION_in_node159); 
+
+            	            }
+            	            break;
+
+            	    }
+
+
+            	    pushFollow(FOLLOW_subnode_in_node162);
+            	    subnode();
+
+            	    state._fsp--;
+
+
+            	    }
+            	    break;
+
+            	default :
+            	    break loop6;
+                }
+            } while (true);
+
+
+            // treegen/TreeWritergen.g:48:8: ( ( DESCRIPTION )? field )*
+            loop8:
+            do {
+                int alt8=2;
+                int LA8_0 = input.LA(1);
+
+                if ( (LA8_0==DESCRIPTION||LA8_0==TYPE_NAME||(LA8_0 >= 17 && LA8_0 <= 18)) ) {
+                    alt8=1;
+                }
+
+
+                switch (alt8) {
+            	case 1 :
+            	    // treegen/TreeWritergen.g:48:9: ( DESCRIPTION )? field
+            	    {
+            	    // treegen/TreeWritergen.g:48:9: ( DESCRIPTION )?
+            	    int alt7=2;
+            	    int LA7_0 = input.LA(1);
+
+            	    if ( (LA7_0==DESCRIPTION) ) {
+            	        alt7=1;
+            	    }
+            	    switch (alt7) {
+            	        case 1 :
+            	            // treegen/TreeWritergen.g:48:9: DESCRIPTION
+            	            {
+            	            match(input,DESCRIPTION,FOLLOW_DESCRIPTION_in_node174); 
+
+            	            }
+            	            break;
+
+            	    }
+
+
+            	    pushFollow(FOLLOW_field_in_node177);
+            	    field();
+
+            	    state._fsp--;
+
+
+            	    }
+            	    break;
+
+            	default :
+            	    break loop8;
+                }
+            } while (true);
+
+
+            match(input,RPAREN,FOLLOW_RPAREN_in_node188); 
+
+             println("    }\n"); 
+
+            }
+
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return ;
+    }
+    // $ANTLR end "node"
+
+
+
+    // $ANTLR start "extendsNode"
+    // treegen/TreeWritergen.g:53:1: extendsNode : ':' n= NODE_NAME ;
+    public final void extendsNode() throws RecognitionException {
+        Token n=null;
+
+        try {
+            // treegen/TreeWritergen.g:53:13: ( ':' n= NODE_NAME )
+            // treegen/TreeWritergen.g:53:15: ':' n= NODE_NAME
+            {
+            match(input,EXTENDS,FOLLOW_EXTENDS_in_extendsNode211); 
+
+            n=(Token)match(input,NODE_NAME,FOLLOW_NODE_NAME_in_extendsNode230); 
+
+             println("        write" + className((n!=null?n.getText():null)) +"Fields(node);"); 
+
+            }
+
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return ;
+    }
+    // $ANTLR end "extendsNode"
+
+
+
+    // $ANTLR start "subnode"
+    // treegen/TreeWritergen.g:58:1: subnode : (n= NODE_NAME ( '?' )? f= FIELD_NAME ( '(' ( NODE_NAME )* ')' )? |n= NODE_NAME ( '?' )? ( '(' ( NODE_NAME )* ')' )? |mn= NODE_NAME '*' ( '(' ( NODE_NAME )* ')' )? |mn= NODE_NAME '*' f= FIELD_NAME ( '(' ( NODE_NAME )* ')' )? );
+    public final void subnode() throws RecognitionException {
+        Token n=null;
+        Token f=null;
+        Token mn=null;
+
+        try {
+            // treegen/TreeWritergen.g:58:9: (n= NODE_NAME ( '?' )? f= FIELD_NAME ( '(' ( NODE_NAME )* ')' )? |n= NODE_NAME ( '?' )? ( '(' ( NODE_NAME )* ')' )? |mn= NODE_NAME '*' ( '(' ( NODE_NAME )* ')' )? |mn= NODE_NAME '*' f= FIELD_NAME ( '(' ( NODE_NAME )* ')' )? )
+            int alt19=4;
+            int LA19_0 = input.LA(1);
+
+            if ( (LA19_0==NODE_NAME) ) {
+                switch ( input.LA(2) ) {
+                case 16:
+                    {
+                    int LA19_2 = input.LA(3);
+
+                    if ( (LA19_2==FIELD_NAME) ) {
+                        alt19=4;
+                    }
+                    else if ( (LA19_2==DESCRIPTION||LA19_2==LPAREN||LA19_2==NODE_NAME||LA19_2==RPAREN||LA19_2==TYPE_NAME||(LA19_2 >= 17 && LA19_2 <= 18)) ) {
+                        alt19=3;
+                    }
+                    else {
+                        NoViableAltException nvae =
+                            new NoViableAltException("", 19, 2, input);
+
+                        throw nvae;
+
+                    }
+                    }
+                    break;
+                case OPTIONAL:
+                    {
+                    int LA19_3 = input.LA(3);
+
+                    if ( (LA19_3==FIELD_NAME) ) {
+                        alt19=1;
+                    }
+                    else if ( (LA19_3==DESCRIPTION||LA19_3==LPAREN||LA19_3==NODE_NAME||LA19_3==RPAREN||LA19_3==TYPE_NAME||(LA19_3 >= 17 && LA19_3 <= 18)) ) {
+                        alt19=2;
+                    }
+                    else {
+                        NoViableAltException nvae =
+                            new NoViableAltException("", 19, 3, input);
+
+                        throw nvae;
+
+                    }
+                    }
+                    break;
+                case FIELD_NAME:
+                    {
+                    alt19=1;
+                    }
+                    break;
+                case DESCRIPTION:
+                case LPAREN:
+                case NODE_NAME:
+                case RPAREN:
+                case TYPE_NAME:
+                case 17:
+                case 18:
+                    {
+                    alt19=2;
+                    }
+                    break;
+                default:
+                    NoViableAltException nvae =
+                        new NoViableAltException("", 19, 1, input);
+
+                    throw nvae;
+
+                }
+
+            }
+            else {
+                NoViableAltException nvae =
+                    new NoViableAltException("", 19, 0, input);
+
+                throw nvae;
+
+            }
+            switch (alt19) {
+                case 1 :
+                    // treegen/TreeWritergen.g:58:11: n= NODE_NAME ( '?' )? f= FIELD_NAME ( '(' ( NODE_NAME )* ')' )?
+                    {
+                    n=(Token)match(input,NODE_NAME,FOLLOW_NODE_NAME_in_subnode269); 
+
+                    // treegen/TreeWritergen.g:58:23: ( '?' )?
+                    int alt9=2;
+                    int LA9_0 = input.LA(1);
+
+                    if ( (LA9_0==OPTIONAL) ) {
+                        alt9=1;
+                    }
+                    switch (alt9) {
+                        case 1 :
+                            // treegen/TreeWritergen.g:58:23: '?'
+                            {
+                            match(input,OPTIONAL,FOLLOW_OPTIONAL_in_subnode271); 
+
+                            }
+                            break;
+
+                    }
+
+
+                    f=(Token)match(input,FIELD_NAME,FOLLOW_FIELD_NAME_in_subnode276); 
+
+                    // treegen/TreeWritergen.g:58:41: ( '(' ( NODE_NAME )* ')' )?
+                    int alt11=2;
+                    int LA11_0 = input.LA(1);
+
+                    if ( (LA11_0==LPAREN) ) {
+                        alt11=1;
+                    }
+                    switch (alt11) {
+                        case 1 :
+                            // treegen/TreeWritergen.g:58:42: '(' ( NODE_NAME )* ')'
+                            {
+                            match(input,LPAREN,FOLLOW_LPAREN_in_subnode279); 
+
+                            // treegen/TreeWritergen.g:58:46: ( NODE_NAME )*
+                            loop10:
+                            do {
+                                int alt10=2;
+                                int LA10_0 = input.LA(1);
+
+                                if ( (LA10_0==NODE_NAME) ) {
+                                    alt10=1;
+                                }
+
+
+                                switch (alt10) {
+                            	case 1 :
+                            	    // treegen/TreeWritergen.g:58:46: NODE_NAME
+                            	    {
+                            	    match(input,NODE_NAME,FOLLOW_NODE_NAME_in_subnode281); 
+
+                            	    }
+                            	    break;
+
+                            	default :
+                            	    break loop10;
+                                }
+                            } while (true);
+
+
+                            match(input,RPAREN,FOLLOW_RPAREN_in_subnode284); 
+
+                            }
+                            break;
+
+                    }
+
+
+                     println("        writeNode(node.get" + initialUpper((f!=null?f.getText():null)) + "());"); 
+
+                    }
+                    break;
+                case 2 :
+                    // treegen/TreeWritergen.g:60:11: n= NODE_NAME ( '?' )? ( '(' ( NODE_NAME )* ')' )?
+                    {
+                    n=(Token)match(input,NODE_NAME,FOLLOW_NODE_NAME_in_subnode312); 
+
+                    // treegen/TreeWritergen.g:60:23: ( '?' )?
+                    int alt12=2;
+                    int LA12_0 = input.LA(1);
+
+                    if ( (LA12_0==OPTIONAL) ) {
+                        alt12=1;
+                    }
+                    switch (alt12) {
+                        case 1 :
+                            // treegen/TreeWritergen.g:60:23: '?'
+                            {
+                            match(input,OPTIONAL,FOLLOW_OPTIONAL_in_subnode314); 
+
+                            }
+                            break;
+
+                    }
+
+
+                    // treegen/TreeWritergen.g:60:28: ( '(' ( NODE_NAME )* ')' )?
+                    int alt14=2;
+                    int LA14_0 = input.LA(1);
+
+                    if ( (LA14_0==LPAREN) ) {
+                        alt14=1;
+                    }
+                    switch (alt14) {
+                        case 1 :
+                            // treegen/TreeWritergen.g:60:29: '(' ( NODE_NAME )* ')'
+                            {
+                            match(input,LPAREN,FOLLOW_LPAREN_in_subnode318); 
+
+                            // treegen/TreeWritergen.g:60:33: ( NODE_NAME )*
+                            loop13:
+                            do {
+                                int alt13=2;
+                                int LA13_0 = input.LA(1);
+
+                                if ( (LA13_0==NODE_NAME) ) {
+                                    alt13=1;
+                                }
+
+
+                                switch (alt13) {
+                            	case 1 :
+                            	    // treegen/TreeWritergen.g:60:33: NODE_NAME
+                            	    {
+                            	    match(input,NODE_NAME,FOLLOW_NODE_NAME_in_subnode320); 
+
+                            	    }
+                            	    break;
+
+                            	default :
+                            	    break loop13;
+                                }
+                            } while (true);
+
+
+                            match(input,RPAREN,FOLLOW_RPAREN_in_subnode323); 
+
+                            }
+                            break;
+
+                    }
+
+
+                     println("        writeNode(node.get" + className((n!=null?n.getText():null)) + "());"); 
+
+                    }
+                    break;
+                case 3 :
+                    // treegen/TreeWritergen.g:62:11: mn= NODE_NAME '*' ( '(' ( NODE_NAME )* ')' )?
+                    {
+                    mn=(Token)match(input,NODE_NAME,FOLLOW_NODE_NAME_in_subnode351); 
+
+                    match(input,16,FOLLOW_16_in_subnode353); 
+
+                    // treegen/TreeWritergen.g:62:28: ( '(' ( NODE_NAME )* ')' )?
+                    int alt16=2;
+                    int LA16_0 = input.LA(1);
+
+                    if ( (LA16_0==LPAREN) ) {
+                        alt16=1;
+                    }
+                    switch (alt16) {
+                        case 1 :
+                            // treegen/TreeWritergen.g:62:29: '(' ( NODE_NAME )* ')'
+                            {
+                            match(input,LPAREN,FOLLOW_LPAREN_in_subnode356); 
+
+                            // treegen/TreeWritergen.g:62:33: ( NODE_NAME )*
+                            loop15:
+                            do {
+                                int alt15=2;
+                                int LA15_0 = input.LA(1);
+
+                                if ( (LA15_0==NODE_NAME) ) {
+                                    alt15=1;
+                                }
+
+
+                                switch (alt15) {
+                            	case 1 :
+                            	    // treegen/TreeWritergen.g:62:33: NODE_NAME
+                            	    {
+                            	    match(input,NODE_NAME,FOLLOW_NODE_NAME_in_subnode358); 
+
+                            	    }
+                            	    break;
+
+                            	default :
+                            	    break loop15;
+                                }
+                            } while (true);
+
+
+                            match(input,RPAREN,FOLLOW_RPAREN_in_subnode361); 
+
+                            }
+                            break;
+
+                    }
+
+
+                     println("        writeNodes(node.get" + className((mn!=null?mn.getText():null)) +"s());"); 
+
+                    }
+                    break;
+                case 4 :
+                    // treegen/TreeWritergen.g:64:11: mn= NODE_NAME '*' f= FIELD_NAME ( '(' ( NODE_NAME )* ')' )?
+                    {
+                    mn=(Token)match(input,NODE_NAME,FOLLOW_NODE_NAME_in_subnode390); 
+
+                    match(input,16,FOLLOW_16_in_subnode392); 
+
+                    f=(Token)match(input,FIELD_NAME,FOLLOW_FIELD_NAME_in_subnode396); 
+
+                    // treegen/TreeWritergen.g:64:41: ( '(' ( NODE_NAME )* ')' )?
+                    int alt18=2;
+                    int LA18_0 = input.LA(1);
+
+                    if ( (LA18_0==LPAREN) ) {
+                        alt18=1;
+                    }
+                    switch (alt18) {
+                        case 1 :
+                            // treegen/TreeWritergen.g:64:42: '(' ( NODE_NAME )* ')'
+                            {
+                            match(input,LPAREN,FOLLOW_LPAREN_in_subnode399); 
+
+                            // treegen/TreeWritergen.g:64:46: ( NODE_NAME )*
+                            loop17:
+                            do {
+                                int alt17=2;
+                                int LA17_0 = input.LA(1);
+
+                                if ( (LA17_0==NODE_NAME) ) {
+                                    alt17=1;
+                                }
+
+
+                                switch (alt17) {
+                            	case 1 :
+                            	    // treegen/TreeWritergen.g:64:46: NODE_NAME
+                            	    {
+                            	    match(input,NODE_NAME,FOLLOW_NODE_NAME_in_subnode401); 
+
+                            	    }
+                            	    break;
+
+                            	default :
+                            	    break loop17;
+                                }
+                            } while (true);
+
+
+                            match(input,RPAREN,FOLLOW_RPAREN_in_subnode404); 
+
+                            }
+                            break;
+
+                    }
+
+
+                     println("        writeNodes(node.get" + initialUpper((f!=null?f.getText():null)) +"s());"); 
+
+                    }
+                    break;
+
+            }
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return ;
+    }
+    // $ANTLR end "subnode"
+
+
+
+    // $ANTLR start "field"
+    // treegen/TreeWritergen.g:68:1: field : ( 'boolean' f= FIELD_NAME ';' | ( 'abstract' )? TYPE_NAME FIELD_NAME ';' );
+    public final void field() throws RecognitionException {
+        Token f=null;
+
+        try {
+            // treegen/TreeWritergen.g:68:7: ( 'boolean' f= FIELD_NAME ';' | ( 'abstract' )? TYPE_NAME FIELD_NAME ';' )
+            int alt21=2;
+            int LA21_0 = input.LA(1);
+
+            if ( (LA21_0==18) ) {
+                alt21=1;
+            }
+            else if ( (LA21_0==TYPE_NAME||LA21_0==17) ) {
+                alt21=2;
+            }
+            else {
+                NoViableAltException nvae =
+                    new NoViableAltException("", 21, 0, input);
+
+                throw nvae;
+
+            }
+            switch (alt21) {
+                case 1 :
+                    // treegen/TreeWritergen.g:68:9: 'boolean' f= FIELD_NAME ';'
+                    {
+                    match(input,18,FOLLOW_18_in_field436); 
+
+                    f=(Token)match(input,FIELD_NAME,FOLLOW_FIELD_NAME_in_field440); 
+
+                    match(input,SEMI,FOLLOW_SEMI_in_field442); 
+
+                     println("        writeBoolean(node.get" + initialUpper((f!=null?f.getText():null)) + "());"); 
+
+                    }
+                    break;
+                case 2 :
+                    // treegen/TreeWritergen.g:70:9: ( 'abstract' )? TYPE_NAME FIELD_NAME ';'
+                    {
+                    // treegen/TreeWritergen.g:70:9: ( 'abstract' )?
+                    int alt20=2;
+                    int LA20_0 = input.LA(1);
+
+                    if ( (LA20_0==17) ) {
+                        alt20=1;
+                    }
+                    switch (alt20) {
+                        case 1 :
+                            // treegen/TreeWritergen.g:70:9: 'abstract'
+                            {
+                            match(input,17,FOLLOW_17_in_field462); 
+
+                            }
+                            break;
+
+                    }
+
+
+                    match(input,TYPE_NAME,FOLLOW_TYPE_NAME_in_field465); 
+
+                    match(input,FIELD_NAME,FOLLOW_FIELD_NAME_in_field467); 
+
+                    match(input,SEMI,FOLLOW_SEMI_in_field469); 
+
+                    }
+                    break;
+
+            }
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return ;
+    }
+    // $ANTLR end "field"
+
+    // Delegated rules
+
+
+ 
+
+    public static final BitSet FOLLOW_DESCRIPTION_in_nodeList55 = new BitSet(new long[]{0x0000000000000010L});
+    public static final BitSet FOLLOW_node_in_nodeList58 = new BitSet(new long[]{0x0000000000000030L});
+    public static final BitSet FOLLOW_EOF_in_nodeList74 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_CARAT_in_node100 = new BitSet(new long[]{0x0000000000000100L});
+    public static final BitSet FOLLOW_LPAREN_in_node102 = new BitSet(new long[]{0x0000000000020400L});
+    public static final BitSet FOLLOW_17_in_node114 = new BitSet(new long[]{0x0000000000000400L});
+    public static final BitSet FOLLOW_NODE_NAME_in_node120 = new BitSet(new long[]{0x0000000000065460L});
+    public static final BitSet FOLLOW_extendsNode_in_node148 = new BitSet(new long[]{0x0000000000065420L});
+    public static final BitSet FOLLOW_DESCRIPTION_in_node159 = new BitSet(new long[]{0x0000000000000400L});
+    public static final BitSet FOLLOW_subnode_in_node162 = new BitSet(new long[]{0x0000000000065420L});
+    public static final BitSet FOLLOW_DESCRIPTION_in_node174 = new BitSet(new long[]{0x0000000000064000L});
+    public static final BitSet FOLLOW_field_in_node177 = new BitSet(new long[]{0x0000000000065020L});
+    public static final BitSet FOLLOW_RPAREN_in_node188 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_EXTENDS_in_extendsNode211 = new BitSet(new long[]{0x0000000000000400L});
+    public static final BitSet FOLLOW_NODE_NAME_in_extendsNode230 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_NODE_NAME_in_subnode269 = new BitSet(new long[]{0x0000000000000880L});
+    public static final BitSet FOLLOW_OPTIONAL_in_subnode271 = new BitSet(new long[]{0x0000000000000080L});
+    public static final BitSet FOLLOW_FIELD_NAME_in_subnode276 = new BitSet(new long[]{0x0000000000000102L});
+    public static final BitSet FOLLOW_LPAREN_in_subnode279 = new BitSet(new long[]{0x0000000000001400L});
+    public static final BitSet FOLLOW_NODE_NAME_in_subnode281 = new BitSet(new long[]{0x0000000000001400L});
+    public static final BitSet FOLLOW_RPAREN_in_subnode284 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_NODE_NAME_in_subnode312 = new BitSet(new long[]{0x0000000000000902L});
+    public static final BitSet FOLLOW_OPTIONAL_in_subnode314 = new BitSet(new long[]{0x0000000000000102L});
+    public static final BitSet FOLLOW_LPAREN_in_subnode318 = new BitSet(new long[]{0x0000000000001400L});
+    public static final BitSet FOLLOW_NODE_NAME_in_subnode320 = new BitSet(new long[]{0x0000000000001400L});
+    public static final BitSet FOLLOW_RPAREN_in_subnode323 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_NODE_NAME_in_subnode351 = new BitSet(new long[]{0x0000000000010000L});
+    public static final BitSet FOLLOW_16_in_subnode353 = new BitSet(new long[]{0x0000000000000102L});
+    public static final BitSet FOLLOW_LPAREN_in_subnode356 = new BitSet(new long[]{0x0000000000001400L});
+    public static final BitSet FOLLOW_NODE_NAME_in_subnode358 = new BitSet(new long[]{0x0000000000001400L});
+    public static final BitSet FOLLOW_RPAREN_in_subnode361 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_NODE_NAME_in_subnode390 = new BitSet(new long[]{0x0000000000010000L});
+    public static final BitSet FOLLOW_16_in_subnode392 = new BitSet(new long[]{0x0000000000000080L});
+    public static final BitSet FOLLOW_FIELD_NAME_in_subnode396 = new BitSet(new long[]{0x0000000000000102L});
+    public static final BitSet FOLLOW_LPAREN_in_subnode399 = new BitSet(new long[]{0x0000000000001400L});
+    public static final BitSet FOLLOW_NODE_NAME_in_subnode401 = new BitSet(new long[]{0x0000000000001400L});
+    public static final BitSet FOLLOW_RPAREN_in_subnode404 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_18_in_field436 = new BitSet(new long[]{0x0000000000000080L});
+    public static final BitSet FOLLOW_FIELD_NAME_in_field440 = new BitSet(new long[]{0x0000000000002000L});
+    public static final BitSet FOLLOW_SEMI_in_field442 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_17_in_field462 = new BitSet(new long[]{0x0000000000004000L});
+    public static final BitSet FOLLOW_TYPE_NAME_in_field465 = new BitSet(new long[]{0x0000000000000080L});
+    public static final BitSet FOLLOW_FIELD_NAME_in_field467 = new BitSet(new long[]{0x0000000000002000L});
+    public static final BitSet FOLLOW_SEMI_in_field469 = new BitSet(new long[]{0x0000000000000002L});
+
+}
\ No newline at end of file
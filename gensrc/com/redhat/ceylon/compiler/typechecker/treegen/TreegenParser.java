@@ -0,0 +1,1100 @@
+// $ANTLR 3.4 treegen/Treegen.g 2026-10-18 21:18:42
+ 
+    package com.redhat.ceylon.compiler.typechecker.treegen; 
+    import static com.redhat.ceylon.compiler.typechecker.treegen.Util.*; 
+
+
+import org.antlr.runtime.*;
+import java.util.Stack;
+import java.util.List;
+import java.util.ArrayList;
+
+@SuppressWarnings({"all", "warnings", "unchecked"})
+public class TreegenParser extends Parser {
+    public static final String[] tokenNames = new String[] {
+        "<invalid>", "<EOR>", "<DOWN>", "<UP>", "CARAT", "DESCRIPTION", "EXTENDS", "FIELD_NAME", "LPAREN", "MANY", "NODE_NAME", "OPTIONAL", "RPAREN", "SEMI", "TYPE_NAME", "WS", "'*'", "'<'", "'>'", "'abstract'", "'boolean'"
+    };
+
+    public static final int EOF=-1;
+    public static final int T__16=16;
+    public static final int T__17=17;
+    public static final int T__18=18;
+    public static final int T__19=19;
+    public static final int T__20=20;
+    public static final int CARAT=4;
+    public static final int DESCRIPTION=5;
+    public static final int EXTENDS=6;
+    public static final int FIELD_NAME=7;
+    public static final int LPAREN=8;
+    public static final int MANY=9;
+    public static final int NODE_NAME=10;
+    public static final int OPTIONAL=11;
+    public static final int RPAREN=12;
+    public static final int SEMI=13;
+    public static final int TYPE_NAME=14;
+    public static final int WS=15;
+
+    // delegates
+    public Parser[] getDelegates() {
+        return new Parser[] {};
+    }
+
+    // delegators
+
+
+    public TreegenParser(TokenStream input) {
+        this(input, new RecognizerSharedState());
+    }
+    public TreegenParser(TokenStream input, RecognizerSharedState state) {
+        super(input, state);
+    }
+
+    public String[] getTokenNames() { return TreegenParser.tokenNames; }
+    public String getGrammarFileName() { return "treegen/Treegen.g"; }
+
+
+        private int kind = 0;
+        private StringBuilder superKinds = new StringBuilder();
+
+
+
+    // $ANTLR start "nodeList"
+    // treegen/Treegen.g:16:1: nodeList : ( ( nodeDescription )? node )+ EOF ;
+    public final void nodeList() throws RecognitionException {
+        try {
+            // treegen/Treegen.g:16:10: ( ( ( nodeDescription )? node )+ EOF )
+            // treegen/Treegen.g:16:12: ( ( nodeDescription )? node )+ EOF
+            {
+             
+                       println("package com.redhat.ceylon.compiler.typechecker.tree;\n");
+                       println("import static com.redhat.ceylon.compiler.typechecker.tree.Walker.*;");
+                       println("import static com.redhat.ceylon.compiler.typechecker.tree.Hasher.*;\n");
+                       println("import org.antlr.runtime.Token;\n");
+                       println("import java.util.*;\n");
+                       println("public class Tree {\n");
+                       
+
+            // treegen/Treegen.g:24:12: ( ( nodeDescription )? node )+
+            int cnt2=0;
+            loop2:
+            do {
+                int alt2=2;
+                int LA2_0 = input.LA(1);
+
+                if ( ((LA2_0 >= CARAT && LA2_0 <= DESCRIPTION)) ) {
+                    alt2=1;
+                }
+
+
+                switch (alt2) {
+            	case 1 :
+            	    // treegen/Treegen.g:24:13: ( nodeDescription )? node
+            	    {
+            	    // treegen/Treegen.g:24:13: ( nodeDescription )?
+            	    int alt1=2;
+            	    int LA1_0 = input.LA(1);
+
+            	    if ( (LA1_0==DESCRIPTION) ) {
+            	        alt1=1;
+            	    }
+            	    switch (alt1) {
+            	        case 1 :
+            	            // treegen/Treegen.g:24:13: nodeDescription
+            	            {
+            	            pushFollow(FOLLOW_nodeDescription_in_nodeList50);
+            	            nodeDescription();
+
+            	            state._fsp--;
+
+
+            	            }
+            	            break;
+
+            	    }
+
+
+            	    pushFollow(FOLLOW_node_in_nodeList53);
+            	    node();
+
+            	    state._fsp--;
+
+
+            	    }
+            	    break;
+
+            	default :
+            	    if ( cnt2 >= 1 ) break loop2;
+                        EarlyExitException eee =
+                            new EarlyExitException(2, input);
+                        throw eee;
+                }
+                cnt2++;
+            } while (true);
+
+
+            match(input,EOF,FOLLOW_EOF_in_nodeList69); 
+
+             println("    /**\n     * The kind of the superclass of each kind of node,\n     * or -1 for the direct subclasses of Node.\n     */"); 
+
+             println("    static final int[] SUPER_KINDS = {" + superKinds + "\n    };\n"); 
+
+             println("}"); 
+
+            }
+
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return ;
+    }
+    // $ANTLR end "nodeList"
+
+
+
+    // $ANTLR start "node"
+    // treegen/Treegen.g:31:1: node : '^' '(' ( 'abstract' )? n= NODE_NAME extendsNode ( ( memberDescription )? subnode )* ( ( memberDescription )? field )* ')' ;
+    public final void node() throws RecognitionException {
+        Token n=null;
+
+        try {
+            // treegen/Treegen.g:31:6: ( '^' '(' ( 'abstract' )? n= NODE_NAME extendsNode ( ( memberDescription )? subnode )* ( ( memberDescription )? field )* ')' )
+            // treegen/Treegen.g:31:8: '^' '(' ( 'abstract' )? n= NODE_NAME extendsNode ( ( memberDescription )? subnode )* ( ( memberDescription )? field )* ')'
+            {
+            match(input,CARAT,FOLLOW_CARAT_in_node128); 
+
+            match(input,LPAREN,FOLLOW_LPAREN_in_node130); 
+
+             print("    public static "); 
+
+            // treegen/Treegen.g:33:8: ( 'abstract' )?
+            int alt3=2;
+            int LA3_0 = input.LA(1);
+
+            if ( (LA3_0==19) ) {
+                alt3=1;
+            }
+            switch (alt3) {
+                case 1 :
+                    // treegen/Treegen.g:33:9: 'abstract'
+                    {
+                    match(input,19,FOLLOW_19_in_node150); 
+
+                     print("abstract "); 
+
+                    }
+                    break;
+
+            }
+
+
+             print("class "); 
+
+            n=(Token)match(input,NODE_NAME,FOLLOW_NODE_NAME_in_node175); 
+
+             print(className((n!=null?n.getText():null))); 
+
+            pushFollow(FOLLOW_extendsNode_in_node194);
+            extendsNode();
+
+            state._fsp--;
+
+
+             println(" {\n"); 
+
+             println("        public " + className((n!=null?n.getText():null)) + "(Token token) {" ); 
+
+             println("            super(token);" ); 
+
+             println("        }\n" ); 
+
+             println("        public static final int KIND = " + kind++ + ";\n" ); 
+
+             println("        @Override public int getNodeKind() {" ); 
+
+             println("            return KIND;" ); 
+
+             println("        }\n" ); 
+
+             println("        @Override public void visit(Visitor visitor) {" ); 
+
+             println("            if (isSkippedBy(visitor)) return;" ); 
+
+             println("            try {" ); 
+
+             println("                visitor.visit(this);" ); 
+
+             println("            }" ); 
+
+             println("            catch (Exception e) {" ); 
+
+             println("                visitor.handleException(e, this);"); 
+
+             println("            }" ); 
+
+             println("        }\n" ); 
+
+             println("        @Override public void visitChildren(Visitor visitor) {" ); 
+
+             println("            walk" + className((n!=null?n.getText():null)) +"(visitor, this);"); 
+
+             println("        }\n" ); 
+
+             println("        @Override public void hashChildren(StructuralHash hash) {" ); 
+
+             println("            hash" + className((n!=null?n.getText():null)) +"(hash, this);"); 
+
+             println("        }\n" ); 
+
+            // treegen/Treegen.g:61:8: ( ( memberDescription )? subnode )*
+            loop5:
+            do {
+                int alt5=2;
+                int LA5_0 = input.LA(1);
+
+                if ( (LA5_0==DESCRIPTION) ) {
+                    int LA5_1 = input.LA(2);
+
+                    if ( (LA5_1==NODE_NAME) ) {
+                        alt5=1;
+                    }
+
+
+                }
+                else if ( (LA5_0==NODE_NAME) ) {
+                    alt5=1;
+                }
+
+
+                switch (alt5) {
+            	case 1 :
+            	    // treegen/Treegen.g:61:9: ( memberDescription )? subnode
+            	    {
+            	    // treegen/Treegen.g:61:9: ( memberDescription )?
+            	    int alt4=2;
+            	    int LA4_0 = input.LA(1);
+
+            	    if ( (LA4_0==DESCRIPTION) ) {
+            	        alt4=1;
+            	    }
+            	    switch (alt4) {
+            	        case 1 :
+            	            // treegen/Treegen.g:61:9: memberDescription
+            	            {
+            	            pushFollow(FOLLOW_memberDescription_in_node417);
+            	            memberDescription();
+
+            	            state._fsp--;
+
+
+            	            }
+            	            break;
+
+            	    }
+
+
+            	    pushFollow(FOLLOW_subnode_in_node420);
+            	    subnode();
+
+            	    state._fsp--;
+
+
+            	    }
+            	    break;
+
+            	default :
+            	    break loop5;
+                }
+            } while (true);
+
+
+            // treegen/Treegen.g:62:8: ( ( memberDescription )? field )*
+            loop7:
+            do {
+                int alt7=2;
+                int LA7_0 = input.LA(1);
+
+                if ( (LA7_0==DESCRIPTION||LA7_0==TYPE_NAME||(LA7_0 >= 19 && LA7_0 <= 20)) ) {
+                    alt7=1;
+                }
+
+
+                switch (alt7) {
+            	case 1 :
+            	    // treegen/Treegen.g:62:9: ( memberDescription )? field
+            	    {
+            	    // treegen/Treegen.g:62:9: ( memberDescription )?
+            	    int alt6=2;
+            	    int LA6_0 = input.LA(1);
+
+            	    if ( (LA6_0==DESCRIPTION) ) {
+            	        alt6=1;
+            	    }
+            	    switch (alt6) {
+            	        case 1 :
+            	            // treegen/Treegen.g:62:9: memberDescription
+            	            {
+            	            pushFollow(FOLLOW_memberDescription_in_node432);
+            	            memberDescription();
+
+            	            state._fsp--;
+
+
+            	            }
+            	            break;
+
+            	    }
+
+
+            	    pushFollow(FOLLOW_field_in_node435);
+            	    field();
+
+            	    state._fsp--;
+
+
+            	    }
+            	    break;
+
+            	default :
+            	    break loop7;
+                }
+            } while (true);
+
+
+            match(input,RPAREN,FOLLOW_RPAREN_in_node446); 
+
+             println("    }\n"); 
+
+            }
+
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return ;
+    }
+    // $ANTLR end "node"
+
+
+
+    // $ANTLR start "extendsNode"
+    // treegen/Treegen.g:67:1: extendsNode : ( ':' n= NODE_NAME |);
+    public final void extendsNode() throws RecognitionException {
+        Token n=null;
+
+        try {
+            // treegen/Treegen.g:67:13: ( ':' n= NODE_NAME |)
+            int alt8=2;
+            int LA8_0 = input.LA(1);
+
+            if ( (LA8_0==EXTENDS) ) {
+                alt8=1;
+            }
+            else if ( (LA8_0==DESCRIPTION||LA8_0==NODE_NAME||LA8_0==RPAREN||LA8_0==TYPE_NAME||(LA8_0 >= 19 && LA8_0 <= 20)) ) {
+                alt8=2;
+            }
+            else {
+                NoViableAltException nvae =
+                    new NoViableAltException("", 8, 0, input);
+
+                throw nvae;
+
+            }
+            switch (alt8) {
+                case 1 :
+                    // treegen/Treegen.g:67:15: ':' n= NODE_NAME
+                    {
+                    match(input,EXTENDS,FOLLOW_EXTENDS_in_extendsNode470); 
+
+                    n=(Token)match(input,NODE_NAME,FOLLOW_NODE_NAME_in_extendsNode474); 
+
+                     print(" extends " + className((n!=null?n.getText():null))); 
+
+                     superKinds.append("\n        " + className((n!=null?n.getText():null)) + ".KIND,"); 
+
+                    }
+                    break;
+                case 2 :
+                    // treegen/Treegen.g:70:15: 
+                    {
+                     print(" extends Node"); 
+
+                     superKinds.append("\n        -1,"); 
+
+                    }
+                    break;
+
+            }
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return ;
+    }
+    // $ANTLR end "extendsNode"
+
+
+
+    // $ANTLR start "nodeDescription"
+    // treegen/Treegen.g:74:1: nodeDescription : d= DESCRIPTION ;
+    public final void nodeDescription() throws RecognitionException {
+        Token d=null;
+
+        try {
+            // treegen/Treegen.g:74:17: (d= DESCRIPTION )
+            // treegen/Treegen.g:74:19: d= DESCRIPTION
+            {
+            d=(Token)match(input,DESCRIPTION,FOLLOW_DESCRIPTION_in_nodeDescription562); 
+
+             println("    /**\n     * " + (d!=null?d.getText():null).replace("\"", "") + "\n     */"); 
+
+            }
+
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return ;
+    }
+    // $ANTLR end "nodeDescription"
+
+
+
+    // $ANTLR start "memberDescription"
+    // treegen/Treegen.g:78:1: memberDescription : d= DESCRIPTION ;
+    public final void memberDescription() throws RecognitionException {
+        Token d=null;
+
+        try {
+            // treegen/Treegen.g:78:19: (d= DESCRIPTION )
+            // treegen/Treegen.g:78:21: d= DESCRIPTION
+            {
+            d=(Token)match(input,DESCRIPTION,FOLLOW_DESCRIPTION_in_memberDescription612); 
+
+             println("        /** \n         * " + (d!=null?d.getText():null).replace("\"", "") + "\n         */"); 
+
+            }
+
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return ;
+    }
+    // $ANTLR end "memberDescription"
+
+
+
+    // $ANTLR start "subnode"
+    // treegen/Treegen.g:82:1: subnode : (n= NODE_NAME ( '?' )? f= FIELD_NAME ( '(' ( NODE_NAME )* ')' )? |n= NODE_NAME ( '?' )? ( '(' ( NODE_NAME )* ')' )? |mn= NODE_NAME '*' ( '(' ( NODE_NAME )* ')' )? |mn= NODE_NAME '*' f= FIELD_NAME ( '(' ( NODE_NAME )* ')' )? );
+    public final void subnode() throws RecognitionException {
+        Token n=null;
+        Token f=null;
+        Token mn=null;
+
+        try {
+            // treegen/Treegen.g:82:9: (n= NODE_NAME ( '?' )? f= FIELD_NAME ( '(' ( NODE_NAME )* ')' )? |n= NODE_NAME ( '?' )? ( '(' ( NODE_NAME )* ')' )? |mn= NODE_NAME '*' ( '(' ( NODE_NAME )* ')' )? |mn= NODE_NAME '*' f= FIELD_NAME ( '(' ( NODE_NAME )* ')' )? )
+            int alt19=4;
+            int LA19_0 = input.LA(1);
+
+            if ( (LA19_0==NODE_NAME) ) {
+                switch ( input.LA(2) ) {
+                case 16:
+                    {
+                    int LA19_2 = input.LA(3);
+
+                    if ( (LA19_2==FIELD_NAME) ) {
+                        alt19=4;
+                    }
+                    else if ( (LA19_2==DESCRIPTION||LA19_2==LPAREN||LA19_2==NODE_NAME||LA19_2==RPAREN||LA19_2==TYPE_NAME||(LA19_2 >= 19 && LA19_2 <= 20)) ) {
+                        alt19=3;
+                    }
+                    else {
+                        NoViableAltException nvae =
+                            new NoViableAltException("", 19, 2, input);
+
+                        throw nvae;
+
+                    }
+                    }
+                    break;
+                case OPTIONAL:
+                    {
+                    int LA19_3 = input.LA(3);
+
+                    if ( (LA19_3==FIELD_NAME) ) {
+                        alt19=1;
+                    }
+                    else if ( (LA19_3==DESCRIPTION||LA19_3==LPAREN||LA19_3==NODE_NAME||LA19_3==RPAREN||LA19_3==TYPE_NAME||(LA19_3 >= 19 && LA19_3 <= 20)) ) {
+                        alt19=2;
+                    }
+                    else {
+                        NoViableAltException nvae =
+                            new NoViableAltException("", 19, 3, input);
+
+                        throw nvae;
+
+                    }
+                    }
+                    break;
+                case FIELD_NAME:
+                    {
+                    alt19=1;
+                    }
+                    break;
+                case DESCRIPTION:
+                case LPAREN:
+                case NODE_NAME:
+                case RPAREN:
+                case TYPE_NAME:
+                case 19:
+                case 20:
+                    {
+                    alt19=2;
+                    }
+                    break;
+                default:
+                    NoViableAltException nvae =
+                        new NoViableAltException("", 19, 1, input);
+
+                    throw nvae;
+
+                }
+
+            }
+            else {
+                NoViableAltException nvae =
+                    new NoViableAltException("", 19, 0, input);
+
+                throw nvae;
+
+            }
+            switch (alt19) {
+                case 1 :
+                    // treegen/Treegen.g:83:11: n= NODE_NAME ( '?' )? f= FIELD_NAME ( '(' ( NODE_NAME )* ')' )?
+                    {
+                    n=(Token)match(input,NODE_NAME,FOLLOW_NODE_NAME_in_subnode675); 
+
+                    // treegen/Treegen.g:83:23: ( '?' )?
+                    int alt9=2;
+                    int LA9_0 = input.LA(1);
+
+                    if ( (LA9_0==OPTIONAL) ) {
+                        alt9=1;
+                    }
+                    switch (alt9) {
+                        case 1 :
+                            // treegen/Treegen.g:83:23: '?'
+                            {
+                            match(input,OPTIONAL,FOLLOW_OPTIONAL_in_subnode677); 
+
+                            }
+                            break;
+
+                    }
+
+
+                    f=(Token)match(input,FIELD_NAME,FOLLOW_FIELD_NAME_in_subnode682); 
+
+                    // treegen/Treegen.g:83:41: ( '(' ( NODE_NAME )* ')' )?
+                    int alt11=2;
+                    int LA11_0 = input.LA(1);
+
+                    if ( (LA11_0==LPAREN) ) {
+                        alt11=1;
+                    }
+                    switch (alt11) {
+                        case 1 :
+                            // treegen/Treegen.g:83:42: '(' ( NODE_NAME )* ')'
+                            {
+                            match(input,LPAREN,FOLLOW_LPAREN_in_subnode685); 
+
+                            // treegen/Treegen.g:83:46: ( NODE_NAME )*
+                            loop10:
+                            do {
+                                int alt10=2;
+                                int LA10_0 = input.LA(1);
+
+                                if ( (LA10_0==NODE_NAME) ) {
+                                    alt10=1;
+                                }
+
+
+                                switch (alt10) {
+                            	case 1 :
+                            	    // treegen/Treegen.g:83:46: NODE_NAME
+                            	    {
+                            	    match(input,NODE_NAME,FOLLOW_NODE_NAME_in_subnode687); 
+
+                            	    }
+                            	    break;
+
+                            	default :
+                            	    break loop10;
+                                }
+                            } while (true);
+
+
+                            match(input,RPAREN,FOLLOW_RPAREN_in_subnode690); 
+
+                            }
+                            break;
+
+                    }
+
+
+                     println("        private " + className((n!=null?n.getText():null)) + " " + (f!=null?f.getText():null) + ";"); 
+
+                     println("        public " + className((n!=null?n.getText():null)) + " get" + initialUpper((f!=null?f.getText():null)) + "() { return " + (f!=null?f.getText():null) + "; }"); 
+
+                     println("        public void set" + initialUpper((f!=null?f.getText():null)) + "(" + className((n!=null?n.getText():null)) + " node) { " + (f!=null?f.getText():null) + " = node; connect(node); }\n"); 
+
+                    }
+                    break;
+                case 2 :
+                    // treegen/Treegen.g:87:11: n= NODE_NAME ( '?' )? ( '(' ( NODE_NAME )* ')' )?
+                    {
+                    n=(Token)match(input,NODE_NAME,FOLLOW_NODE_NAME_in_subnode742); 
+
+                    // treegen/Treegen.g:87:23: ( '?' )?
+                    int alt12=2;
+                    int LA12_0 = input.LA(1);
+
+                    if ( (LA12_0==OPTIONAL) ) {
+                        alt12=1;
+                    }
+                    switch (alt12) {
+                        case 1 :
+                            // treegen/Treegen.g:87:23: '?'
+                            {
+                            match(input,OPTIONAL,FOLLOW_OPTIONAL_in_subnode744); 
+
+                            }
+                            break;
+
+                    }
+
+
+                    // treegen/Treegen.g:87:28: ( '(' ( NODE_NAME )* ')' )?
+                    int alt14=2;
+                    int LA14_0 = input.LA(1);
+
+                    if ( (LA14_0==LPAREN) ) {
+                        alt14=1;
+                    }
+                    switch (alt14) {
+                        case 1 :
+                            // treegen/Treegen.g:87:29: '(' ( NODE_NAME )* ')'
+                            {
+                            match(input,LPAREN,FOLLOW_LPAREN_in_subnode748); 
+
+                            // treegen/Treegen.g:87:33: ( NODE_NAME )*
+                            loop13:
+                            do {
+                                int alt13=2;
+                                int LA13_0 = input.LA(1);
+
+                                if ( (LA13_0==NODE_NAME) ) {
+                                    alt13=1;
+                                }
+
+
+                                switch (alt13) {
+                            	case 1 :
+                            	    // treegen/Treegen.g:87:33: NODE_NAME
+                            	    {
+                            	    match(input,NODE_NAME,FOLLOW_NODE_NAME_in_subnode750); 
+
+                            	    }
+                            	    break;
+
+                            	default :
+                            	    break loop13;
+                                }
+                            } while (true);
+
+
+                            match(input,RPAREN,FOLLOW_RPAREN_in_subnode753); 
+
+                            }
+                            break;
+
+                    }
+
+
+                     println("        private " + className((n!=null?n.getText():null)) + " " + fieldName((n!=null?n.getText():null)) + ";"); 
+
+                     println("        public " + className((n!=null?n.getText():null)) + " get" + className((n!=null?n.getText():null)) + "() { return " + fieldName((n!=null?n.getText():null)) + "; }"); 
+
+                     println("        public void set" + className((n!=null?n.getText():null)) + "(" + className((n!=null?n.getText():null)) + " node) { " + fieldName((n!=null?n.getText():null)) + " = node; connect(node); }\n"); 
+
+                    }
+                    break;
+                case 3 :
+                    // treegen/Treegen.g:91:11: mn= NODE_NAME '*' ( '(' ( NODE_NAME )* ')' )?
+                    {
+                    mn=(Token)match(input,NODE_NAME,FOLLOW_NODE_NAME_in_subnode805); 
+
+                    match(input,16,FOLLOW_16_in_subnode807); 
+
+                    // treegen/Treegen.g:91:28: ( '(' ( NODE_NAME )* ')' )?
+                    int alt16=2;
+                    int LA16_0 = input.LA(1);
+
+                    if ( (LA16_0==LPAREN) ) {
+                        alt16=1;
+                    }
+                    switch (alt16) {
+                        case 1 :
+                            // treegen/Treegen.g:91:29: '(' ( NODE_NAME )* ')'
+                            {
+                            match(input,LPAREN,FOLLOW_LPAREN_in_subnode810); 
+
+                            // treegen/Treegen.g:91:33: ( NODE_NAME )*
+                            loop15:
+                            do {
+                                int alt15=2;
+                                int LA15_0 = input.LA(1);
+
+                                if ( (LA15_0==NODE_NAME) ) {
+                                    alt15=1;
+                                }
+
+
+                                switch (alt15) {
+                            	case 1 :
+                            	    // treegen/Treegen.g:91:33: NODE_NAME
+                            	    {
+                            	    match(input,NODE_NAME,FOLLOW_NODE_NAME_in_subnode812); 
+
+                            	    }
+                            	    break;
+
+                            	default :
+                            	    break loop15;
+                                }
+                            } while (true);
+
+
+                            match(input,RPAREN,FOLLOW_RPAREN_in_subnode815); 
+
+                            }
+                            break;
+
+                    }
+
+
+                     println("        private List<" + className((mn!=null?mn.getText():null)) + "> " + fieldName((mn!=null?mn.getText():null)) + 
+                                                   "s = new ArrayList<" + className((mn!=null?mn.getText():null)) + ">();"); 
+
+                     println("        public List<" + className((mn!=null?mn.getText():null)) + "> get" + className((mn!=null?mn.getText():null)) + "s() { return " + fieldName((mn!=null?mn.getText():null)) + "s; }"); 
+
+                     println("        public void add" + className((mn!=null?mn.getText():null)) + "(" + className((mn!=null?mn.getText():null)) + " node) { " + fieldName((mn!=null?mn.getText():null)) + "s.add(node); connect(node); }\n"); 
+
+                    }
+                    break;
+                case 4 :
+                    // treegen/Treegen.g:96:11: mn= NODE_NAME '*' f= FIELD_NAME ( '(' ( NODE_NAME )* ')' )?
+                    {
+                    mn=(Token)match(input,NODE_NAME,FOLLOW_NODE_NAME_in_subnode867); 
+
+                    match(input,16,FOLLOW_16_in_subnode869); 
+
+                    f=(Token)match(input,FIELD_NAME,FOLLOW_FIELD_NAME_in_subnode873); 
+
+                    // treegen/Treegen.g:96:41: ( '(' ( NODE_NAME )* ')' )?
+                    int alt18=2;
+                    int LA18_0 = input.LA(1);
+
+                    if ( (LA18_0==LPAREN) ) {
+                        alt18=1;
+                    }
+                    switch (alt18) {
+                        case 1 :
+                            // treegen/Treegen.g:96:42: '(' ( NODE_NAME )* ')'
+                            {
+                            match(input,LPAREN,FOLLOW_LPAREN_in_subnode876); 
+
+                            // treegen/Treegen.g:96:46: ( NODE_NAME )*
+                            loop17:
+                            do {
+                                int alt17=2;
+                                int LA17_0 = input.LA(1);
+
+                                if ( (LA17_0==NODE_NAME) ) {
+                                    alt17=1;
+                                }
+
+
+                                switch (alt17) {
+                            	case 1 :
+                            	    // treegen/Treegen.g:96:46: NODE_NAME
+                            	    {
+                            	    match(input,NODE_NAME,FOLLOW_NODE_NAME_in_subnode878); 
+
+                            	    }
+                            	    break;
+
+                            	default :
+                            	    break loop17;
+                                }
+                            } while (true);
+
+
+                            match(input,RPAREN,FOLLOW_RPAREN_in_subnode881); 
+
+                            }
+                            break;
+
+                    }
+
+
+                     println("        private List<" + className((mn!=null?mn.getText():null)) + "> " + (f!=null?f.getText():null) + 
+                                                   "s = new ArrayList<" + className((mn!=null?mn.getText():null)) + ">();"); 
+
+                     println("        public List<" + className((mn!=null?mn.getText():null)) + "> get" + initialUpper((f!=null?f.getText():null)) + "s() { return " + (f!=null?f.getText():null) + "s; }"); 
+
+                     println("        public void add" + initialUpper((f!=null?f.getText():null)) + "(" + className((mn!=null?mn.getText():null)) + " node) { " + (f!=null?f.getText():null) + "s.add(node); connect(node); }\n"); 
+
+                    }
+                    break;
+
+            }
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return ;
+    }
+    // $ANTLR end "subnode"
+
+
+
+    // $ANTLR start "field"
+    // treegen/Treegen.g:103:1: field : (t= TYPE_NAME f= FIELD_NAME ';' | 'boolean' f= FIELD_NAME ';' |l= TYPE_NAME '<' t= TYPE_NAME '>' f= FIELD_NAME ';' | 'abstract' t= TYPE_NAME f= FIELD_NAME ';' );
+    public final void field() throws RecognitionException {
+        Token t=null;
+        Token f=null;
+        Token l=null;
+
+        try {
+            // treegen/Treegen.g:103:7: (t= TYPE_NAME f= FIELD_NAME ';' | 'boolean' f= FIELD_NAME ';' |l= TYPE_NAME '<' t= TYPE_NAME '>' f= FIELD_NAME ';' | 'abstract' t= TYPE_NAME f= FIELD_NAME ';' )
+            int alt20=4;
+            switch ( input.LA(1) ) {
+            case TYPE_NAME:
+                {
+                int LA20_1 = input.LA(2);
+
+                if ( (LA20_1==FIELD_NAME) ) {
+                    alt20=1;
+                }
+                else if ( (LA20_1==17) ) {
+                    alt20=3;
+                }
+                else {
+                    NoViableAltException nvae =
+                        new NoViableAltException("", 20, 1, input);
+
+                    throw nvae;
+
+                }
+                }
+                break;
+            case 20:
+                {
+                alt20=2;
+                }
+                break;
+            case 19:
+                {
+                alt20=4;
+                }
+                break;
+            default:
+                NoViableAltException nvae =
+                    new NoViableAltException("", 20, 0, input);
+
+                throw nvae;
+
+            }
+
+            switch (alt20) {
+                case 1 :
+                    // treegen/Treegen.g:103:9: t= TYPE_NAME f= FIELD_NAME ';'
+                    {
+                    t=(Token)match(input,TYPE_NAME,FOLLOW_TYPE_NAME_in_field938); 
+
+                    f=(Token)match(input,FIELD_NAME,FOLLOW_FIELD_NAME_in_field942); 
+
+                     println("        private com.redhat.ceylon.compiler.typechecker.model." + (t!=null?t.getText():null) + " " + (f!=null?f.getText():null)+ ";"); 
+
+                     println("        public com.redhat.ceylon.compiler.typechecker.model." + (t!=null?t.getText():null) + " get" + initialUpper((f!=null?f.getText():null)) + "() { return " + (f!=null?f.getText():null) + "; }"); 
+
+                     println("        public void set" + initialUpper((f!=null?f.getText():null)) + "(com.redhat.ceylon.compiler.typechecker.model." + (t!=null?t.getText():null) + " value) { " + (f!=null?f.getText():null) + " = value; }\n"); 
+
+                    match(input,SEMI,FOLLOW_SEMI_in_field988); 
+
+                    }
+                    break;
+                case 2 :
+                    // treegen/Treegen.g:108:9: 'boolean' f= FIELD_NAME ';'
+                    {
+                    match(input,20,FOLLOW_20_in_field998); 
+
+                    f=(Token)match(input,FIELD_NAME,FOLLOW_FIELD_NAME_in_field1002); 
+
+                     println("        private boolean " + (f!=null?f.getText():null)+ ";"); 
+
+                     println("        public boolean get" + initialUpper((f!=null?f.getText():null)) + "() { return " + (f!=null?f.getText():null) + "; }"); 
+
+                     println("        public void set" + initialUpper((f!=null?f.getText():null)) + "(boolean value) { " + (f!=null?f.getText():null) + " = value; }\n"); 
+
+                    match(input,SEMI,FOLLOW_SEMI_in_field1048); 
+
+                    }
+                    break;
+                case 3 :
+                    // treegen/Treegen.g:113:9: l= TYPE_NAME '<' t= TYPE_NAME '>' f= FIELD_NAME ';'
+                    {
+                    l=(Token)match(input,TYPE_NAME,FOLLOW_TYPE_NAME_in_field1060); 
+
+                    match(input,17,FOLLOW_17_in_field1062); 
+
+                    t=(Token)match(input,TYPE_NAME,FOLLOW_TYPE_NAME_in_field1066); 
+
+                    match(input,18,FOLLOW_18_in_field1068); 
+
+                    f=(Token)match(input,FIELD_NAME,FOLLOW_FIELD_NAME_in_field1072); 
+
+                     println("        private " + (l!=null?l.getText():null) + "<com.redhat.ceylon.compiler.typechecker.model." + (t!=null?t.getText():null) + "> " + (f!=null?f.getText():null)+ ";"); 
+
+                     println("        public " + (l!=null?l.getText():null) + "<com.redhat.ceylon.compiler.typechecker.model." + (t!=null?t.getText():null) + "> get" + initialUpper((f!=null?f.getText():null)) + "() { return " + (f!=null?f.getText():null) + "; }"); 
+
+                     println("        public void set" + initialUpper((f!=null?f.getText():null)) + "(" + (l!=null?l.getText():null) + "<com.redhat.ceylon.compiler.typechecker.model." + (t!=null?t.getText():null) + "> value) { " + (f!=null?f.getText():null) + " = value; }\n"); 
+
+                    match(input,SEMI,FOLLOW_SEMI_in_field1118); 
+
+                    }
+                    break;
+                case 4 :
+                    // treegen/Treegen.g:118:9: 'abstract' t= TYPE_NAME f= FIELD_NAME ';'
+                    {
+                    match(input,19,FOLLOW_19_in_field1128); 
+
+                    t=(Token)match(input,TYPE_NAME,FOLLOW_TYPE_NAME_in_field1132); 
+
+                    f=(Token)match(input,FIELD_NAME,FOLLOW_FIELD_NAME_in_field1136); 
+
+                     println("        public abstract com.redhat.ceylon.compiler.typechecker.model." + (t!=null?t.getText():null) + " get" + initialUpper((f!=null?f.getText():null)) + "();\n"); 
+
+                    match(input,SEMI,FOLLOW_SEMI_in_field1158); 
+
+                    }
+                    break;
+
+            }
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return ;
+    }
+    // $ANTLR end "field"
+
+    // Delegated rules
+
+
+ 
+
+    public static final BitSet FOLLOW_nodeDescription_in_nodeList50 = new BitSet(new long[]{0x0000000000000010L});
+    public static final BitSet FOLLOW_node_in_nodeList53 = new BitSet(new long[]{0x0000000000000030L});
+    public static final BitSet FOLLOW_EOF_in_nodeList69 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_CARAT_in_node128 = new BitSet(new long[]{0x0000000000000100L});
+    public static final BitSet FOLLOW_LPAREN_in_node130 = new BitSet(new long[]{0x0000000000080400L});
+    public static final BitSet FOLLOW_19_in_node150 = new BitSet(new long[]{0x0000000000000400L});
+    public static final BitSet FOLLOW_NODE_NAME_in_node175 = new BitSet(new long[]{0x0000000000185460L});
+    public static final BitSet FOLLOW_extendsNode_in_node194 = new BitSet(new long[]{0x0000000000185420L});
+    public static final BitSet FOLLOW_memberDescription_in_node417 = new BitSet(new long[]{0x0000000000000400L});
+    public static final BitSet FOLLOW_subnode_in_node420 = new BitSet(new long[]{0x0000000000185420L});
+    public static final BitSet FOLLOW_memberDescription_in_node432 = new BitSet(new long[]{0x0000000000184000L});
+    public static final BitSet FOLLOW_field_in_node435 = new BitSet(new long[]{0x0000000000185020L});
+    public static final BitSet FOLLOW_RPAREN_in_node446 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_EXTENDS_in_extendsNode470 = new BitSet(new long[]{0x0000000000000400L});
+    public static final BitSet FOLLOW_NODE_NAME_in_extendsNode474 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_DESCRIPTION_in_nodeDescription562 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_DESCRIPTION_in_memberDescription612 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_NODE_NAME_in_subnode675 = new BitSet(new long[]{0x0000000000000880L});
+    public static final BitSet FOLLOW_OPTIONAL_in_subnode677 = new BitSet(new long[]{0x0000000000000080L});
+    public static final BitSet FOLLOW_FIELD_NAME_in_subnode682 = new BitSet(new long[]{0x0000000000000102L});
+    public static final BitSet FOLLOW_LPAREN_in_subnode685 = new BitSet(new long[]{0x0000000000001400L});
+    public static final BitSet FOLLOW_NODE_NAME_in_subnode687 = new BitSet(new long[]{0x0000000000001400L});
+    public static final BitSet FOLLOW_RPAREN_in_subnode690 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_NODE_NAME_in_subnode742 = new BitSet(new long[]{0x0000000000000902L});
+    public static final BitSet FOLLOW_OPTIONAL_in_subnode744 = new BitSet(new long[]{0x0000000000000102L});
+    public static final BitSet FOLLOW_LPAREN_in_subnode748 = new BitSet(new long[]{0x0000000000001400L});
+    public static final BitSet FOLLOW_NODE_NAME_in_subnode750 = new BitSet(new long[]{0x0000000000001400L});
+    public static final BitSet FOLLOW_RPAREN_in_subnode753 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_NODE_NAME_in_subnode805 = new BitSet(new long[]{0x0000000000010000L});
+    public static final BitSet FOLLOW_16_in_subnode807 = new BitSet(new long[]{0x0000000000000102L});
+    public static final BitSet FOLLOW_LPAREN_in_subnode810 = new BitSet(new long[]{0x0000000000001400L});
+    public static final BitSet FOLLOW_NODE_NAME_in_subnode812 = new BitSet(new long[]{0x0000000000001400L});
+    public static final BitSet FOLLOW_RPAREN_in_subnode815 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_NODE_NAME_in_subnode867 = new BitSet(new long[]{0x0000000000010000L});
+    public static final BitSet FOLLOW_16_in_subnode869 = new BitSet(new long[]{0x0000000000000080L});
+    public static final BitSet FOLLOW_FIELD_NAME_in_subnode873 = new BitSet(new long[]{0x0000000000000102L});
+    public static final BitSet FOLLOW_LPAREN_in_subnode876 = new BitSet(new long[]{0x0000000000001400L});
+    public static final BitSet FOLLOW_NODE_NAME_in_subnode878 = new BitSet(new long[]{0x0000000000001400L});
+    public static final BitSet FOLLOW_RPAREN_in_subnode881 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_TYPE_NAME_in_field938 = new BitSet(new long[]{0x0000000000000080L});
+    public static final BitSet FOLLOW_FIELD_NAME_in_field942 = new BitSet(new long[]{0x0000000000002000L});
+    public static final BitSet FOLLOW_SEMI_in_field988 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_20_in_field998 = new BitSet(new long[]{0x0000000000000080L});
+    public static final BitSet FOLLOW_FIELD_NAME_in_field1002 = new BitSet(new long[]{0x0000000000002000L});
+    public static final BitSet FOLLOW_SEMI_in_field1048 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_TYPE_NAME_in_field1060 = new BitSet(new long[]{0x0000000000020000L});
+    public static final BitSet FOLLOW_17_in_field1062 = new BitSet(new long[]{0x0000000000004000L});
+    public static final BitSet FOLLOW_TYPE_NAME_in_field1066 = new BitSet(new long[]{0x0000000000040000L});
+    public static final BitSet FOLLOW_18_in_field1068 = new BitSet(new long[]{0x0000000000000080L});
+    public static final BitSet FOLLOW_FIELD_NAME_in_field1072 = new BitSet(new long[]{0x0000000000002000L});
+    public static final BitSet FOLLOW_SEMI_in_field1118 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_19_in_field1128 = new BitSet(new long[]{0x0000000000004000L});
+    public static final BitSet FOLLOW_TYPE_NAME_in_field1132 = new BitSet(new long[]{0x0000000000000080L});
+    public static final BitSet FOLLOW_FIELD_NAME_in_field1136 = new BitSet(new long[]{0x0000000000002000L});
+    public static final BitSet FOLLOW_SEMI_in_field1158 = new BitSet(new long[]{0x0000000000000002L});
+
+}
\ No newline at end of file
@@ -0,0 +1,121 @@
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.redhat.ceylon.compiler.typechecker.TypeChecker;
+import com.redhat.ceylon.compiler.typechecker.TypeCheckerBuilder;
+import com.redhat.ceylon.compiler.typechecker.analyzer.ControlFlowVisitor;
+import com.redhat.ceylon.compiler.typechecker.analyzer.SpecificationVisitor;
+import com.redhat.ceylon.compiler.typechecker.analyzer.TypeArgumentVisitor;
+import com.redhat.ceylon.compiler.typechecker.analyzer.TypeHierarchyVisitor;
+import com.redhat.ceylon.compiler.typechecker.context.PhasedUnit;
+import com.redhat.ceylon.compiler.typechecker.model.Declaration;
+import com.redhat.ceylon.compiler.typechecker.tree.CompositeVisitor;
+import com.redhat.ceylon.compiler.typechecker.tree.Message;
+import com.redhat.ceylon.compiler.typechecker.tree.Node;
+import com.redhat.ceylon.compiler.typechecker.tree.Tree;
+import com.redhat.ceylon.compiler.typechecker.tree.Visitor;
+
+/**
+ * Type checks the given source directories, by default
+ * test/main, along with the stub of the language module
+ * in test/language, then runs the visitors which the
+ * phases fuse into a CompositeVisitor over every unit
+ * again, once fused and once one after the other, and
+ * checks that both ways find the same errors and
+ * warnings. test/main/specification/DefaultArguments
+ * has default arguments and methods specified by
+ * reference, whose specifiers are visited before the
+ * declarations they belong to.
+ */
+public class MainForCompositeVisitor {
+
+    public static void main(String[] args) throws Exception {
+        TypeCheckerBuilder builder = new TypeCheckerBuilder()
+                .verbose(false);
+        if (args.length==0) {
+            builder.addSrcDirectory(new File("test/language"));
+            builder.addSrcDirectory(new File("test/main"));
+        }
+        for (String arg: args) {
+            builder.addSrcDirectory(new File(arg));
+        }
+        TypeChecker typeChecker = builder.getTypeChecker();
+        typeChecker.process();
+
+        int units = 0;
+        int messages = 0;
+        for (PhasedUnit pu: typeChecker.getPhasedUnits().getPhasedUnits()) {
+            Tree.CompilationUnit cu = pu.getCompilationUnit();
+            List<Declaration> declarations =
+                    new ArrayList<Declaration>(pu.getUnit().getDeclarations());
+
+            List<String> fused = messages(cu,
+                    new CompositeVisitor(new ControlFlowVisitor(),
+                            new SpecificationVisitor(declarations)));
+            List<String> unfused = messages(cu,
+                    new ControlFlowVisitor(),
+                    new SpecificationVisitor(declarations));
+            compare(pu, "control flow and specification", unfused, fused);
+            messages += fused.size();
+
+            fused = messages(cu,
+                    new CompositeVisitor(new TypeArgumentVisitor(),
+                            new TypeHierarchyVisitor()));
+            unfused = messages(cu,
+                    new TypeArgumentVisitor(),
+                    new TypeHierarchyVisitor());
+            compare(pu, "type arguments and hierarchy", unfused, fused);
+            messages += fused.size();
+            units++;
+        }
+        System.out.println(String.format("%d units, %d messages from the fused visitors",
+                units, messages));
+    }
+
+    /**
+     * The messages which the given visitors add to the
+     * nodes of the given unit, in order, which are then
+     * removed again.
+     */
+    private static List<String> messages(Tree.CompilationUnit cu, Visitor... visitors) {
+        final Map<Node, Integer> counts = new IdentityHashMap<Node, Integer>();
+        cu.visit(new Visitor() {
+            @Override public void visitAny(Node that) {
+                counts.put(that, that.getErrors().size());
+                super.visitAny(that);
+            }
+        });
+        for (Visitor visitor: visitors) {
+            cu.visit(visitor);
+        }
+        final List<String> result = new ArrayList<String>();
+        cu.visit(new Visitor() {
+            @Override public void visitAny(Node that) {
+                List<Message> errors = that.getErrors();
+                List<Message> added = errors.subList(counts.get(that), errors.size());
+                for (Message message: added) {
+                    result.add(that.getLocation() + ": " + message.getMessage());
+                }
+                added.clear();
+                super.visitAny(that);
+            }
+        });
+        Collections.sort(result);
+        return result;
+    }
+
+    private static void compare(PhasedUnit pu, String what,
+            List<String> unfused, List<String> fused) {
+        if (!unfused.equals(fused)) {
+            System.out.println(pu.getPathRelativeToSrcDir() + ": " + what);
+            System.out.println("one after the other: " + unfused);
+            System.out.println("fused: " + fused);
+            throw new RuntimeException("the fused visitors found different messages for " + what);
+        }
+    }
+
+}
@@ -0,0 +1,122 @@
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.antlr.runtime.ANTLRFileStream;
+import org.antlr.runtime.CommonToken;
+
+import com.redhat.ceylon.compiler.typechecker.parser.IncrementalLexer;
+
+/**
+ * Applies random edits to the source files of the given
+ * directories, by default test, lexing each edited file
+ * both incrementally and from scratch, and checks that
+ * the tokens are the same. The edits insert and remove
+ * the characters which start and end comments, strings
+ * and literals, as well as ordinary code. Reports how
+ * many tokens were lexed again, and the time per edit.
+ */
+public class MainForIncrementalLexer {
+
+    private static final String[] INSERTIONS = {
+        "x", "Integer", "value", " ", "\n", "\r\n", ";", "{", "}",
+        "\"", "'", "`", "`a`", "/*", "*/", "//", "#!", "\\",
+        "[", "]", "[].", "?", "?[", "?.", ".", "..", "...",
+        "1", "1.", ".5", "1.5e3", "k", "_000", "\"hello\"",
+        "/* a\ncomment */", "// comment\n"
+    };
+
+    private static final int EDITS_PER_FILE = 200;
+
+    public static void main(String[] args) throws Exception {
+        List<File> files = new ArrayList<File>();
+        if (args.length==0) {
+            collect(new File("test"), files);
+        }
+        for (String arg: args) {
+            collect(new File(arg), files);
+        }
+        Random random = new Random(0);
+        long edits = 0;
+        long tokens = 0;
+        long relexed = 0;
+        long incrementalTime = 0;
+        long fullTime = 0;
+        int failures = 0;
+        for (File file: files) {
+            ANTLRFileStream stream = new ANTLRFileStream(file.getPath(), "UTF-8");
+            String text = stream.substring(0, stream.size()-1);
+            IncrementalLexer lexer = new IncrementalLexer(text, file.getPath());
+            StringBuilder expected = new StringBuilder(text);
+            for (int i=0; i<EDITS_PER_FILE; i++) {
+                int offset = random.nextInt(expected.length()+1);
+                int removed = random.nextInt(3)==0 ?
+                        Math.min(random.nextInt(8), expected.length()-offset) : 0;
+                String inserted = random.nextInt(4)==0 ?
+                        "" : INSERTIONS[random.nextInt(INSERTIONS.length)];
+                expected.replace(offset, offset+removed, inserted);
+
+                long start = System.nanoTime();
+                lexer.edit(offset, removed, inserted);
+                long middle = System.nanoTime();
+                IncrementalLexer full = new IncrementalLexer(expected.toString(),
+                        file.getPath());
+                long end = System.nanoTime();
+                incrementalTime += middle-start;
+                fullTime += end-middle;
+                edits++;
+                tokens += full.getTokens().size();
+                relexed += lexer.getInsertedTokens();
+
+                String difference = compare(lexer.getTokens(), full.getTokens());
+                if (difference!=null) {
+                    failures++;
+                    System.out.println(file + ": after replacing " + removed +
+                            " characters at " + offset + " with '" + inserted +
+                            "': " + difference);
+                    //continue from the correct tokens
+                    lexer = full;
+                }
+            }
+        }
+        System.out.println(String.format("%d files, %d edits, %.1f tokens per file, %.1f tokens relexed per edit",
+                files.size(), edits, (double) tokens / edits, (double) relexed / edits));
+        System.out.println(String.format("%.1f us per incremental edit, %.1f us per full relex",
+                incrementalTime / 1000.0 / edits, fullTime / 1000.0 / edits));
+        if (failures>0) {
+            throw new RuntimeException(failures + " edits gave the wrong tokens");
+        }
+    }
+
+    private static String compare(List<CommonToken> actual, List<CommonToken> expected) {
+        for (int i=0; i<Math.min(actual.size(), expected.size()); i++) {
+            CommonToken a = actual.get(i);
+            CommonToken e = expected.get(i);
+            if (a.getType()!=e.getType() || a.getChannel()!=e.getChannel() ||
+                    a.getStartIndex()!=e.getStartIndex() ||
+                    a.getStopIndex()!=e.getStopIndex() ||
+                    a.getLine()!=e.getLine() ||
+                    a.getCharPositionInLine()!=e.getCharPositionInLine() ||
+                    !a.getText().equals(e.getText())) {
+                return "token " + i + " is " + a + " instead of " + e;
+            }
+        }
+        if (actual.size()!=expected.size()) {
+            return actual.size() + " tokens instead of " + expected.size();
+        }
+        return null;
+    }
+
+    private static void collect(File file, List<File> files) {
+        if (file.isDirectory()) {
+            for (File child: file.listFiles()) {
+                collect(child, files);
+            }
+        }
+        else if (file.getName().endsWith(".ceylon")) {
+            files.add(file);
+        }
+    }
+
+}
@@ -0,0 +1,219 @@
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.antlr.runtime.ANTLRFileStream;
+import org.antlr.runtime.ANTLRStringStream;
+import org.antlr.runtime.CommonToken;
+import org.antlr.runtime.Token;
+
+import com.redhat.ceylon.compiler.typechecker.parser.CeylonLexer;
+import com.redhat.ceylon.compiler.typechecker.parser.IncrementalParser;
+import com.redhat.ceylon.compiler.typechecker.parser.ParserSession;
+import com.redhat.ceylon.compiler.typechecker.tree.Tree;
+import com.redhat.ceylon.compiler.typechecker.tree.TreeWriter;
+
+/**
+ * Applies random edits to the source files of the given
+ * directories, by default test, parsing each edited file
+ * both incrementally and from scratch, and checks that
+ * the trees, as written by TreeWriter, are the same. Most
+ * edits keep the file well formed, by adding whitespace,
+ * comments and statements between tokens, and renaming
+ * identifiers, so that a declaration can be parsed again
+ * by itself, and the others break the file. Also checks
+ * that the structural hashes of the trees are the same,
+ * and that adding whitespace and comments does not change
+ * them. Reparses single declarations even in files which
+ * IncrementalParser would by default parse again as a
+ * whole, since they are small. Reports how often the
+ * whole file was parsed again, and the time per edit.
+ */
+public class MainForIncrementalParser {
+
+    private static final String[] BETWEEN_TOKENS = {
+        " ", "\n", "/* comment */", "// comment\n"
+    };
+    private static final String[] AFTER_STATEMENTS = {
+        " value zz = 1;", " print(\"x\");", " if (true) { return; }"
+    };
+    private static final String[] BREAKING = {
+        "{", "}", ";", "\"", "/*", "class", "(", "=", "x y"
+    };
+
+    private static final int EDITS_PER_FILE = 100;
+
+    private static long edits;
+    private static long partial;
+    private static long incrementalTime;
+    private static long fullTime;
+
+    public static void main(String[] args) throws Exception {
+        List<File> files = new ArrayList<File>();
+        if (args.length==0) {
+            collect(new File("test"), files);
+        }
+        for (String arg: args) {
+            collect(new File(arg), files);
+        }
+        Random random = new Random(0);
+        int failures = 0;
+        for (File file: files) {
+            ANTLRFileStream stream = new ANTLRFileStream(file.getPath(), "UTF-8");
+            String text = stream.substring(0, stream.size()-1);
+            IncrementalParser parser = new IncrementalParser(text, file.getPath());
+            //reparse single declarations even in small files
+            parser.setMinSizeToReparse(0);
+            StringBuilder expected = new StringBuilder(text);
+            for (int i=0; i<EDITS_PER_FILE; i++) {
+                List<CommonToken> tokens = parser.getLexer().getTokens();
+                int offset;
+                int removed = 0;
+                String inserted;
+                long hash = 0;
+                int kind = random.nextInt(10);
+                CommonToken identifier = find(tokens, random, CeylonLexer.LIDENTIFIER);
+                CommonToken semicolon = find(tokens, random, CeylonLexer.SEMICOLON);
+                if (kind>=4 && kind<6 && identifier!=null) {
+                    offset = identifier.getStartIndex()+1;
+                    if (identifier.getStopIndex()>identifier.getStartIndex()) {
+                        removed = random.nextInt(2);
+                    }
+                    inserted = "zz";
+                }
+                else if (kind>=6 && kind<9 && semicolon!=null) {
+                    offset = semicolon.getStartIndex()+1;
+                    inserted = AFTER_STATEMENTS[random.nextInt(AFTER_STATEMENTS.length)];
+                }
+                else if (kind==9) {
+                    offset = tokens.get(random.nextInt(tokens.size())).getStartIndex();
+                    inserted = BREAKING[random.nextInt(BREAKING.length)];
+                }
+                else {
+                    int index = random.nextInt(tokens.size());
+                    offset = tokens.get(index).getStartIndex();
+                    inserted = BETWEEN_TOKENS[random.nextInt(BETWEEN_TOKENS.length)];
+                    //unless it moves a string which spans lines,
+                    //and so loses a different indentation
+                    if (!movesMultilineString(tokens, index)) {
+                        hash = parser.getCompilationUnit().getStructuralHash();
+                    }
+                }
+                if (offset>expected.length()) {
+                    offset = expected.length();
+                    removed = 0;
+                }
+                removed = Math.min(removed, expected.length()-offset);
+                String removedText = expected.substring(offset, offset+removed);
+                failures += edit(parser, expected, file, offset, removed, inserted);
+                if (hash!=0 && !hasErrors(parser.getCompilationUnit()) &&
+                        parser.getCompilationUnit().getStructuralHash()!=hash) {
+                    System.out.println(file + ": inserting '" + inserted + "' at " +
+                            offset + " changed the structural hash");
+                    failures++;
+                }
+                if (kind==9) {
+                    //undo the edit which broke the file
+                    failures += edit(parser, expected, file, offset,
+                            inserted.length(), removedText);
+                }
+            }
+        }
+        System.out.println(String.format("%d files, %d edits, %d of them reparsed a single declaration",
+                files.size(), edits, partial));
+        System.out.println(String.format("%.1f us per incremental edit, %.1f us per full parse",
+                incrementalTime / 1000.0 / edits, fullTime / 1000.0 / edits));
+        if (failures>0) {
+            throw new RuntimeException(failures + " edits gave the wrong tree");
+        }
+    }
+
+    private static int edit(IncrementalParser parser, StringBuilder expected, 
+            File file, int offset, int removed, String inserted) 
+            throws Exception {
+        expected.replace(offset, offset+removed, inserted);
+        long before = System.nanoTime();
+        Tree.CompilationUnit cu = parser.edit(offset, removed, inserted);
+        long middle = System.nanoTime();
+        ParserSession session = ParserSession.get();
+        session.parse(new ANTLRStringStream(expected.toString()));
+        session.reset();
+        long after = System.nanoTime();
+        incrementalTime += middle-before;
+        fullTime += after-middle;
+        edits++;
+        if (parser.getReparsedNode()!=cu) {
+            partial++;
+        }
+        Tree.CompilationUnit full = new IncrementalParser(expected.toString(),
+                file.getPath()).getCompilationUnit();
+        if (!write(cu).equals(write(full)) ||
+                cu.getErrors().size()!=full.getErrors().size() ||
+                cu.getStructuralHash()!=full.getStructuralHash()) {
+            System.out.println(file + ": after replacing " + removed +
+                    " characters at " + offset + " with '" + inserted +
+                    "' the tree differs");
+            return 1;
+        }
+        return 0;
+    }
+
+    private static boolean hasErrors(Tree.CompilationUnit cu) {
+        return !cu.getErrors().isEmpty();
+    }
+
+    /**
+     * Do the tokens from the given index to the end of its
+     * line include a literal which spans lines?
+     */
+    private static boolean movesMultilineString(List<CommonToken> tokens, 
+            int index) {
+        int line = tokens.get(index).getLine();
+        for (int i=index; i<tokens.size(); i++) {
+            CommonToken token = tokens.get(i);
+            if (token.getLine()!=line) {
+                break;
+            }
+            if (token.getChannel()!=Token.HIDDEN_CHANNEL && 
+                    token.getText().indexOf('\n')>=0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * A random token of the given type, or null.
+     */
+    private static CommonToken find(List<CommonToken> tokens, Random random, 
+            int type) {
+        int start = random.nextInt(tokens.size());
+        for (int i=0; i<tokens.size(); i++) {
+            CommonToken token = tokens.get((start+i) % tokens.size());
+            if (token.getType()==type) {
+                return token;
+            }
+        }
+        return null;
+    }
+
+    private static String write(Tree.CompilationUnit cu) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        new TreeWriter(out).write(cu);
+        return out.toString("ISO-8859-1");
+    }
+
+    private static void collect(File file, List<File> files) {
+        if (file.isDirectory()) {
+            for (File child: file.listFiles()) {
+                collect(child, files);
+            }
+        }
+        else if (file.getName().endsWith(".ceylon")) {
+            files.add(file);
+        }
+    }
+
+}
@@ -0,0 +1,160 @@
+import java.io.File;
+import java.io.FileWriter;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.redhat.ceylon.compiler.typechecker.TypeChecker;
+import com.redhat.ceylon.compiler.typechecker.TypeCheckerBuilder;
+import com.redhat.ceylon.compiler.typechecker.context.PhasedUnit;
+import com.redhat.ceylon.compiler.typechecker.context.PhasedUnits;
+import com.redhat.ceylon.compiler.typechecker.model.ClassOrInterface;
+import com.redhat.ceylon.compiler.typechecker.model.Declaration;
+import com.redhat.ceylon.compiler.typechecker.model.ProducedType;
+import com.redhat.ceylon.compiler.typechecker.model.TypeDeclaration;
+import com.redhat.ceylon.compiler.typechecker.parser.ParsedSource;
+import com.redhat.ceylon.compiler.typechecker.parser.ParserSession;
+import com.redhat.ceylon.compiler.typechecker.parser.VirtualFileCharStream;
+
+/**
+ * Checks that TypeDeclaration.inherits(), which the
+ * TypeCache answers by the numbers of the declarations,
+ * agrees with a walk of the hierarchy which compares
+ * declarations by equality, for the classes and interfaces
+ * of the stub of the language module in test/language and
+ * of a unit written to a temporary directory, for clones
+ * of Callable with as many type arguments, and once the
+ * unit was changed and checked again, for the new models
+ * of its declarations and the previous ones, which the
+ * other units still refer to.
+ */
+public class MainForInheritance {
+
+    public static void main(String[] args) throws Exception {
+        File srcDirectory = File.createTempFile("inheritance", "");
+        srcDirectory.delete();
+        File file = new File(srcDirectory, "Inheritance.ceylon");
+        File otherFile = new File(srcDirectory, "User.ceylon");
+        try {
+            srcDirectory.mkdir();
+            write(file, "shared class Base() {}\n" +
+                    "shared class Derived() extends Base() {}\n");
+            write(otherFile, "shared class User() extends Derived() {}\n");
+            TypeChecker typeChecker = new TypeCheckerBuilder()
+                    .verbose(false)
+                    .addSrcDirectory(new File("test/language"))
+                    .addSrcDirectory(srcDirectory)
+                    .getTypeChecker();
+            typeChecker.process();
+            PhasedUnits phasedUnits = typeChecker.getPhasedUnits();
+
+            List<TypeDeclaration> types = new ArrayList<TypeDeclaration>();
+            PhasedUnit previous = null;
+            for (PhasedUnit pu: phasedUnits.getPhasedUnits()) {
+                types(pu, types);
+                if (pu.getUnitFile().getName().equals(file.getName())) {
+                    previous = pu;
+                }
+            }
+            TypeDeclaration callable = previous.getUnit().getCallableDeclaration();
+            ProducedType string = previous.getUnit().getStringDeclaration().getType();
+            for (int size=1; size<=4; size++) {
+                List<ProducedType> typeArguments = new ArrayList<ProducedType>();
+                for (int i=0; i<size; i++) {
+                    typeArguments.add(string);
+                }
+                //twice, for two clones
+                types.add(callable.getProducedType(null, typeArguments).getDeclaration());
+                types.add(callable.getProducedType(null, typeArguments).getDeclaration());
+            }
+            int checked = compare(types);
+
+            write(file, "shared class Base() {}\n" +
+                    "shared class Derived(String name) extends Base() {}\n");
+            VirtualFileCharStream input = new VirtualFileCharStream(previous.getUnitFile(),
+                    phasedUnits.getCharset(previous.getSrcDir()));
+            ParsedSource source = ParserSession.get().parse(input, false,
+                    typeChecker.getContext().getParseBudget(), null);
+            PhasedUnit pu = new PhasedUnit(previous.getUnitFile(), previous.getSrcDir(),
+                    source.getCompilationUnit(), previous.getPackage(),
+                    phasedUnits.getModuleManager(), typeChecker.getContext(),
+                    source.getTokens());
+            phasedUnits.addPhasedUnit(previous.getUnitFile(), pu);
+            pu.validateTreeAndScanDeclarations();
+            pu.scanTypeDeclarations();
+            pu.validateRefinement();
+            pu.analyseTypes(null);
+            pu.analyseFlow();
+            types(pu, types);
+            checked += compare(types);
+
+            System.out.println(String.format("%d declarations, %d pairs compared",
+                    types.size(), checked));
+        }
+        finally {
+            file.delete();
+            otherFile.delete();
+            srcDirectory.delete();
+        }
+    }
+
+    private static void write(File file, String text) throws Exception {
+        FileWriter writer = new FileWriter(file);
+        try {
+            writer.write(text);
+        }
+        finally {
+            writer.close();
+        }
+    }
+
+    /**
+     * Add the classes and interfaces of the given unit
+     * which are not already in the list.
+     */
+    private static void types(PhasedUnit pu, List<TypeDeclaration> types) {
+        for (Declaration d: pu.getUnit().getDeclarations()) {
+            if (d instanceof ClassOrInterface) {
+                boolean found = false;
+                for (TypeDeclaration td: types) {
+                    found = found || td==d;
+                }
+                if (!found) {
+                    types.add((TypeDeclaration) d);
+                }
+            }
+        }
+    }
+
+    private static int compare(List<TypeDeclaration> types) {
+        int checked = 0;
+        for (TypeDeclaration td: types) {
+            for (TypeDeclaration dec: types) {
+                if (td.inherits(dec)!=inherits(td, dec, new ArrayList<TypeDeclaration>())) {
+                    throw new RuntimeException(td + " with " + td.getTypeParameters().size() +
+                            " type parameters " + (td.inherits(dec) ? "inherits" : "does not inherit") +
+                            " " + dec + " with " + dec.getTypeParameters().size());
+                }
+                checked++;
+            }
+        }
+        return checked;
+    }
+
+    private static boolean inherits(TypeDeclaration td, TypeDeclaration dec,
+            List<TypeDeclaration> visited) {
+        if (td==null || visited.contains(td)) {
+            return false;
+        }
+        visited.add(td);
+        if (td.equals(dec)) {
+            return true;
+        }
+        for (TypeDeclaration t: td.getSatisfiedTypeDeclarations()) {
+            if (inherits(t, dec, visited)) {
+                return true;
+            }
+        }
+        return inherits(td.getExtendedTypeDeclaration(), dec, visited);
+    }
+
+}
@@ -0,0 +1,175 @@
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import com.redhat.ceylon.compiler.typechecker.TypeChecker;
+import com.redhat.ceylon.compiler.typechecker.TypeCheckerBuilder;
+import com.redhat.ceylon.compiler.typechecker.analyzer.ModuleManager;
+import com.redhat.ceylon.compiler.typechecker.context.Context;
+import com.redhat.ceylon.compiler.typechecker.context.PhaseExecutor;
+import com.redhat.ceylon.compiler.typechecker.context.PhasedUnit;
+import com.redhat.ceylon.compiler.typechecker.context.PhasedUnits;
+import com.redhat.ceylon.compiler.typechecker.context.UnitDependencyGraph;
+import com.redhat.ceylon.compiler.typechecker.model.Declaration;
+import com.redhat.ceylon.compiler.typechecker.parser.ParsedSource;
+import com.redhat.ceylon.compiler.typechecker.parser.ParserSession;
+import com.redhat.ceylon.compiler.typechecker.parser.VirtualFileCharStream;
+import com.redhat.ceylon.compiler.typechecker.tree.Message;
+import com.redhat.ceylon.compiler.typechecker.tree.Node;
+import com.redhat.ceylon.compiler.typechecker.tree.Visitor;
+import com.redhat.ceylon.compiler.typechecker.util.AssertionVisitor;
+
+/**
+ * Type checks the given source directories, by default
+ * test/main, along with the stub of the language module
+ * in test/language, then parses every unit except the
+ * module descriptors again, and checks it again in the same
+ * context, as an editor does after a change, and checks
+ * that the second time finds the same errors as the
+ * first. Since no unit changed, the model of every 
+ * declaration should be used again, except those of the
+ * declarations in control structures and arguments, which
+ * are built anew, and of duplicate declarations. Reports
+ * how many were, and the time of each check.
+ */
+public class MainForModelReuse {
+
+    public static void main(String[] args) throws Exception {
+        TypeCheckerBuilder builder = new TypeCheckerBuilder()
+                .verbose(false)
+                .assertionVisitor(new AssertionVisitor());
+        if (args.length==0) {
+            builder.addSrcDirectory(new File("test/language"));
+            builder.addSrcDirectory(new File("test/main"));
+        }
+        for (String arg: args) {
+            builder.addSrcDirectory(new File(arg));
+        }
+        TypeChecker typeChecker = builder.getTypeChecker();
+        long start = System.nanoTime();
+        typeChecker.process();
+        long firstTime = System.nanoTime()-start;
+        PhasedUnits phasedUnits = typeChecker.getPhasedUnits();
+        List<PhasedUnit> units = phasedUnits.getPhasedUnits();
+        //the module descriptors are not checked again
+        for (Iterator<PhasedUnit> iter = units.iterator(); iter.hasNext();) {
+            String name = iter.next().getUnitFile().getName();
+            if (ModuleManager.MODULE_FILE.equals(name) ||
+                    ModuleManager.PACKAGE_FILE.equals(name)) {
+                iter.remove();
+            }
+        }
+        List<String> firstErrors = errors(units);
+        int declarations = 0;
+        for (PhasedUnit pu: units) {
+            for (Declaration d: pu.getUnit().getDeclarations()) {
+                if (d.getSignatureHash()!=0) declarations++;
+            }
+        }
+
+        start = System.nanoTime();
+        Context context = typeChecker.getContext();
+        List<PhasedUnit> newUnits = new ArrayList<PhasedUnit>(units.size());
+        for (PhasedUnit pu: units) {
+            VirtualFileCharStream input = new VirtualFileCharStream(pu.getUnitFile(),
+                    phasedUnits.getCharset(pu.getSrcDir()));
+            ParsedSource source = ParserSession.get().parse(input, false,
+                    context.getParseBudget(), null);
+            PhasedUnit newUnit = new PhasedUnit(pu.getUnitFile(), pu.getSrcDir(),
+                    source.getCompilationUnit(), pu.getPackage(),
+                    phasedUnits.getModuleManager(), context, source.getTokens());
+            phasedUnits.addPhasedUnit(pu.getUnitFile(), newUnit);
+            newUnits.add(newUnit);
+        }
+        check(phasedUnits, newUnits, typeChecker);
+        long secondTime = System.nanoTime()-start;
+        //the assertions add errors of their own
+        AssertionVisitor assertions = new AssertionVisitor();
+        for (PhasedUnit pu: newUnits) {
+            pu.runAssertions(assertions);
+        }
+        List<String> secondErrors = errors(newUnits);
+        int reused = 0;
+        for (PhasedUnit pu: newUnits) {
+            reused += pu.getReusedDeclarations();
+        }
+
+        System.out.println(String.format("%d units, %d of %d declarations reused, %d errors",
+                units.size(), reused, declarations, secondErrors.size()));
+        System.out.println(String.format("checked in %d ms, then again in %d ms",
+                firstTime/1000000, secondTime/1000000));
+        if (!firstErrors.equals(secondErrors)) {
+            for (String error: secondErrors) {
+                if (!firstErrors.contains(error)) System.out.println("new: " + error);
+            }
+            for (String error: firstErrors) {
+                if (!secondErrors.contains(error)) System.out.println("missing: " + error);
+            }
+            throw new RuntimeException("checking the units again gave different errors");
+        }
+    }
+
+    /**
+     * Run the phases of TypeChecker again, after the
+     * modules were visited.
+     */
+    private static void check(final PhasedUnits phasedUnits, List<PhasedUnit> units,
+            final TypeChecker typeChecker) {
+        final PhaseExecutor executor = new PhaseExecutor(1);
+        try {
+            executor.executeByPackage(units, new PhaseExecutor.Phase() {
+                @Override public void run(PhasedUnit pu) {
+                    pu.validateTreeAndScanDeclarations();
+                }
+            });
+            for (PhasedUnit pu: units) {
+                if (pu.declaresAliases()) pu.scanTypeDeclarations();
+            }
+            for (PhasedUnit pu: units) {
+                if (!pu.declaresAliases()) pu.scanTypeDeclarations();
+            }
+            for (PhasedUnit pu: units) {
+                pu.validateRefinement();
+            }
+            Map<String, List<PhasedUnit>> unitsByInferredDeclaration = 
+                    UnitDependencyGraph.getUnitsByInferredDeclaration(units);
+            for (PhasedUnit pu: units) {
+                pu.collectUnitDependencies(phasedUnits, typeChecker.getPhasedUnitsOfDependencies(),
+                        unitsByInferredDeclaration);
+            }
+            UnitDependencyGraph graph = new UnitDependencyGraph(units);
+            executor.executeInDependencyOrder(graph, new PhaseExecutor.Phase() {
+                @Override public void run(PhasedUnit pu) {
+                    pu.analyseTypes(executor);
+                }
+            });
+            executor.executeInDependencyOrder(graph, new PhaseExecutor.Phase() {
+                @Override public void run(PhasedUnit pu) {
+                    pu.analyseFlow();
+                }
+            });
+        }
+        finally {
+            executor.shutdown();
+        }
+    }
+
+    private static List<String> errors(List<PhasedUnit> units) {
+        final List<String> errors = new ArrayList<String>();
+        for (final PhasedUnit pu: units) {
+            pu.getCompilationUnit().visit(new Visitor() {
+                @Override public void visitAny(Node that) {
+                    for (Message error: that.getErrors()) {
+                        errors.add(pu.getPathRelativeToSrcDir() + ":" +
+                                that.getLocation() + ": " + error.getMessage());
+                    }
+                    super.visitAny(that);
+                }
+            });
+        }
+        return errors;
+    }
+
+}
@@ -0,0 +1,119 @@
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.redhat.ceylon.compiler.typechecker.TypeChecker;
+import com.redhat.ceylon.compiler.typechecker.TypeCheckerBuilder;
+import com.redhat.ceylon.compiler.typechecker.analyzer.AnalysisWarning;
+import com.redhat.ceylon.compiler.typechecker.context.PhasedUnit;
+import com.redhat.ceylon.compiler.typechecker.tree.Message;
+import com.redhat.ceylon.compiler.typechecker.tree.Node;
+import com.redhat.ceylon.compiler.typechecker.tree.Visitor;
+
+/**
+ * Type checks the given source directories, by default
+ * test/main, along with the stub of the language module
+ * in test/language, first with one thread and then with
+ * several, and checks that both find the same errors and
+ * warnings.
+ * test/main/parallel has a unit with enough top level
+ * declarations that its analysis is split between the
+ * threads. Reports the time of each check.
+ */
+public class MainForParallelCheck {
+
+    private static final int THREADS =
+            Math.max(4, Runtime.getRuntime().availableProcessors());
+
+    //see PhasedUnit.analyseTypes(PhaseExecutor)
+    private static final int MIN_DECLARATIONS_TO_SPLIT = 64;
+
+    public static void main(String[] args) throws Exception {
+        List<File> srcDirectories = new ArrayList<File>();
+        if (args.length==0) {
+            srcDirectories.add(new File("test/language"));
+            srcDirectories.add(new File("test/main"));
+        }
+        for (String arg: args) {
+            srcDirectories.add(new File(arg));
+        }
+
+        long start = System.nanoTime();
+        TypeChecker sequential = check(srcDirectories, 1);
+        long sequentialTime = System.nanoTime()-start;
+        start = System.nanoTime();
+        TypeChecker parallel = check(srcDirectories, THREADS);
+        long parallelTime = System.nanoTime()-start;
+
+        int split = 0;
+        for (PhasedUnit pu: parallel.getPhasedUnits().getPhasedUnits()) {
+            if (pu.getCompilationUnit().getDeclarations().size()>=MIN_DECLARATIONS_TO_SPLIT) {
+                split++;
+            }
+        }
+        if (split==0) {
+            throw new RuntimeException("no unit has enough declarations to be split");
+        }
+
+        List<String> sequentialErrors = new ArrayList<String>();
+        List<String> sequentialWarnings = new ArrayList<String>();
+        messages(sequential, sequentialErrors, sequentialWarnings);
+        List<String> parallelErrors = new ArrayList<String>();
+        List<String> parallelWarnings = new ArrayList<String>();
+        messages(parallel, parallelErrors, parallelWarnings);
+
+        System.out.println(String.format("%d units, %d of them split, %d errors, %d warnings",
+                parallel.getPhasedUnits().getPhasedUnits().size(), split,
+                parallelErrors.size(), parallelWarnings.size()));
+        System.out.println(String.format("checked in %d ms, then with %d threads in %d ms",
+                sequentialTime/1000000, THREADS, parallelTime/1000000));
+        compare("errors", sequentialErrors, parallelErrors);
+        compare("warnings", sequentialWarnings, parallelWarnings);
+    }
+
+    private static TypeChecker check(List<File> srcDirectories, int threads) {
+        TypeCheckerBuilder builder = new TypeCheckerBuilder()
+                .verbose(false)
+                .parallelism(threads);
+        for (File srcDirectory: srcDirectories) {
+            builder.addSrcDirectory(srcDirectory);
+        }
+        TypeChecker typeChecker = builder.getTypeChecker();
+        typeChecker.process();
+        return typeChecker;
+    }
+
+    private static void compare(String what, List<String> sequential, List<String> parallel) {
+        if (!sequential.equals(parallel)) {
+            for (String message: parallel) {
+                if (!sequential.contains(message)) System.out.println("new: " + message);
+            }
+            for (String message: sequential) {
+                if (!parallel.contains(message)) System.out.println("missing: " + message);
+            }
+            throw new RuntimeException("checking in parallel gave different " + what);
+        }
+    }
+
+    private static void messages(TypeChecker typeChecker,
+            final List<String> errors, final List<String> warnings) {
+        for (final PhasedUnit pu: typeChecker.getPhasedUnits().getPhasedUnits()) {
+            pu.getCompilationUnit().visit(new Visitor() {
+                @Override public void visitAny(Node that) {
+                    for (Message message: that.getErrors()) {
+                        String text = pu.getPathRelativeToSrcDir() + ":" +
+                                that.getLocation() + ": " + message.getMessage();
+                        if (message instanceof AnalysisWarning) {
+                            warnings.add(text);
+                        }
+                        else {
+                            errors.add(text);
+                        }
+                    }
+                    super.visitAny(that);
+                }
+            });
+        }
+    }
+
+}
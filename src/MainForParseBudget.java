@@ -0,0 +1,187 @@
+import org.antlr.runtime.ANTLRStringStream;
+
+import com.redhat.ceylon.compiler.typechecker.parser.ParseBudget;
+import com.redhat.ceylon.compiler.typechecker.parser.ParseError;
+import com.redhat.ceylon.compiler.typechecker.parser.ParserSession;
+import com.redhat.ceylon.compiler.typechecker.tree.Tree;
+
+/**
+ * Parses a corpus of inputs which make the parser backtrack
+ * heavily, or recover from errors, each scaled up both by
+ * nesting it more deeply and by repeating it, doubling the
+ * size each time, and checks that the work done by the
+ * parser per token stays flat as the size doubles, and
+ * that the parser never gives up. Reports the time per
+ * token at each size. The parser runs on a thread with a
+ * large stack, since the deepest inputs would overflow the
+ * usual one, and the parser would give up for that reason
+ * instead.
+ */
+public class MainForParseBudget {
+
+    /**
+     * Each input is a function whose body is nested by
+     * repeating an opening and a closing fragment around
+     * an innermost fragment.
+     */
+    private static final String[][] CORPUS = {
+        //nested getters, each of which is first tried as
+        //a named argument list
+        { "nested getters", "Integer x { ", "return 1; ", "} " },
+        //the same, but malformed, with the error innermost
+        { "malformed nested getters", "Integer x { ", "return 1 ", "} " },
+        { "nested methods", "Integer x() { ", "return 1; ", "} " },
+        { "nested named arguments", "g { h = ", "1; ", "}; " },
+        { "malformed named arguments", "g { h = ", "return; ", "}; " },
+        { "nested parentheses", "value x = (", "1", "); " },
+        { "nested type arguments", "value x = a<", "b", ">; " },
+        //each unclosed block is closed by an error at the end
+        //of the input, and the copies are nested in the first
+        { "unclosed blocks", "{ ", "", "" },
+    };
+
+    private static final int[] DEPTHS = { 4, 8, 16, 32, 64 };
+    private static final int[] COPIES = { 1, 2, 4, 8, 16, 32, 64 };
+    private static final int DEPTH_OF_COPIES = 16;
+    private static final int ROUNDS = 3;
+    
+    /**
+     * How much the work per additional token may grow when
+     * the size of an input doubles. When the work grows
+     * with the square of the size, it doubles.
+     */
+    private static final double TOLERANCE = 1.25;
+    
+    private static final long STACK_SIZE = 256*1024*1024;
+
+    public static void main(String[] args) throws Exception {
+        final Exception[] failure = new Exception[1];
+        Thread thread = new Thread(null, new Runnable() {
+            @Override public void run() {
+                try {
+                    measure();
+                }
+                catch (Exception e) {
+                    failure[0] = e;
+                }
+            }
+        }, "parse budget", STACK_SIZE);
+        thread.start();
+        thread.join();
+        if (failure[0]!=null) {
+            throw failure[0];
+        }
+    }
+
+    private static void measure() throws Exception {
+        ParseBudget budget = ParseBudget.DEFAULT;
+        //warm up
+        for (String[] input: CORPUS) {
+            for (int depth: DEPTHS) {
+                parse(generate(input, depth, 1), budget);
+            }
+        }
+        int failures = 0;
+        for (String[] input: CORPUS) {
+            System.out.println(input[0]);
+            Result previous = null;
+            for (int depth: DEPTHS) {
+                Result result = measure(generate(input, depth, 1),
+                        "depth " + depth, budget, previous);
+                if (result.failed) failures++;
+                previous = result;
+            }
+            previous = null;
+            for (int copies: COPIES) {
+                Result result = measure(generate(input, DEPTH_OF_COPIES, copies),
+                        copies + " copies", budget, previous);
+                if (result.failed) failures++;
+                previous = result;
+            }
+        }
+        if (failures>0) {
+            throw new RuntimeException(failures + " inputs made the parser do more work per additional token than at half the size, or give up");
+        }
+    }
+
+    private static String generate(String[] input, int depth, int copies) {
+        StringBuilder source = new StringBuilder();
+        for (int copy=0; copy<copies; copy++) {
+            source.append("void f").append(copy).append("() { ");
+            for (int i=0; i<depth; i++) {
+                source.append(input[1]);
+            }
+            source.append(input[2]);
+            for (int i=0; i<depth; i++) {
+                source.append(input[3]);
+            }
+            source.append("}\n");
+        }
+        return source.toString();
+    }
+
+    /**
+     * Parse the source and fail if the parser gave up, or
+     * if the work it did for each token more than in the
+     * previous input, which was half the size, grew more 
+     * than it did between the previous input and the one 
+     * before. Comparing the additional work leaves out 
+     * the fixed cost of the enclosing function, which 
+     * would make small inputs look cheap.
+     */
+    private static Result measure(String source, String description,
+            ParseBudget budget, Result previous) throws Exception {
+        long best = Long.MAX_VALUE;
+        Result result = null;
+        for (int round=0; round<ROUNDS; round++) {
+            long start = System.nanoTime();
+            result = parse(source, budget);
+            best = Math.min(best, System.nanoTime()-start);
+        }
+        double growth = 1;
+        if (previous!=null) {
+            result.marginalLookahead = (double) (result.lookahead-previous.lookahead) / 
+                    (result.tokens-previous.tokens);
+            if (previous.marginalLookahead>0) {
+                growth = result.marginalLookahead / previous.marginalLookahead;
+            }
+        }
+        result.failed = result.gaveUp || growth>TOLERANCE;
+        System.out.println(String.format("  %-10s %8d tokens %10d lookahead %8.1f per token %8.1f per added token (x%.2f) %8.0f ns per token%s%s",
+                description, result.tokens, result.lookahead,
+                (double) result.lookahead / result.tokens,
+                result.marginalLookahead, growth,
+                (double) best / result.tokens,
+                result.gaveUp ? "  gave up" : "", result.failed ? "  FAILED" : ""));
+        return result;
+    }
+
+    private static Result parse(String source, ParseBudget budget)
+            throws Exception {
+        ParserSession session = ParserSession.get();
+        try {
+            Result result = new Result();
+            result.cu = session.parse(new ANTLRStringStream(source), false, budget);
+            result.tokens = session.getTokens().size();
+            result.lookahead = session.getLookahead();
+            for (ParseError pe: session.getParseErrors()) {
+                result.cu.addParseError(pe);
+                result.gaveUp |= pe.getMessage().startsWith("parser gave up");
+            }
+            return result;
+        }
+        finally {
+            session.reset();
+        }
+    }
+
+    private static class Result {
+        Tree.CompilationUnit cu;
+        int tokens;
+        long lookahead;
+        boolean gaveUp;
+        double marginalLookahead;
+        boolean failed;
+    }
+
+}
@@ -0,0 +1,153 @@
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.PrintStream;
+import java.lang.reflect.Constructor;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.antlr.runtime.ANTLRFileStream;
+import org.antlr.runtime.CommonTokenStream;
+import org.antlr.runtime.TokenStream;
+import org.antlr.runtime.debug.DebugEventListener;
+import org.antlr.runtime.debug.Profiler;
+
+import com.redhat.ceylon.compiler.typechecker.parser.CeylonLexer;
+import com.redhat.ceylon.compiler.typechecker.parser.CeylonParser;
+
+/**
+ * Parses the source files of the given directories, by
+ * default test, with a parser generated by ANTLR with the
+ * -profile option, and reports, for each decision of the
+ * grammar, how often it was made, how often it backtracked,
+ * and how far it looked ahead, including the tokens it
+ * looked at while backtracking, starting with the decisions
+ * which looked furthest beyond the next token. Run it with 
+ * ant profile.parser, which generates the profiling parser 
+ * and puts it ahead of the usual parser on the classpath.
+ */
+public class MainForParserProfile {
+
+    private static final int DECISIONS_REPORTED = 30;
+
+    private static class DecisionStats {
+        int decision;
+        String rule;
+        int line;
+        int pos;
+        boolean couldBacktrack;
+        long count;
+        double lookahead;
+        int maxLookahead;
+        long backtracks;
+    }
+
+    public static void main(String[] args) throws Exception {
+        Constructor<CeylonParser> profilingParser;
+        try {
+            profilingParser = CeylonParser.class.getConstructor(
+                    TokenStream.class, DebugEventListener.class);
+        }
+        catch (NoSuchMethodException e) {
+            throw new RuntimeException("CeylonParser was not generated with -profile, run ant profile.parser");
+        }
+        List<File> files = new ArrayList<File>();
+        if (args.length==0) {
+            collect(new File("test"), files);
+        }
+        for (String arg: args) {
+            collect(new File(arg), files);
+        }
+
+        Map<Integer, DecisionStats> decisions = new TreeMap<Integer, DecisionStats>();
+        long tokens = 0;
+        long start = System.nanoTime();
+        for (File file: files) {
+            CeylonLexer lexer = new CeylonLexer(new ANTLRFileStream(file.getPath(), "UTF-8"));
+            CommonTokenStream tokenStream = new CommonTokenStream(lexer);
+            Profiler profiler = new Profiler();
+            CeylonParser parser = profilingParser.newInstance(tokenStream, profiler);
+            //the profiler prints its own report of each file
+            PrintStream out = System.out;
+            PrintStream err = System.err;
+            PrintStream discard = new PrintStream(new ByteArrayOutputStream());
+            System.setOut(discard);
+            System.setErr(discard);
+            try {
+                parser.compilationUnit();
+            }
+            finally {
+                System.setOut(out);
+                System.setErr(err);
+            }
+            tokens += tokenStream.size();
+            for (Object o: profiler.getDecisionStats().values()) {
+                Profiler.DecisionDescriptor d = (Profiler.DecisionDescriptor) o;
+                DecisionStats stats = decisions.get(d.decision);
+                if (stats==null) {
+                    stats = new DecisionStats();
+                    stats.decision = d.decision;
+                    stats.rule = d.ruleName;
+                    stats.line = d.line;
+                    stats.pos = d.pos;
+                    stats.couldBacktrack = d.couldBacktrack;
+                    decisions.put(d.decision, stats);
+                }
+                stats.count += d.n;
+                stats.lookahead += (double) d.avgk * d.n;
+                stats.maxLookahead = Math.max(stats.maxLookahead, d.maxk);
+                stats.backtracks += d.numBacktrackOccurrences;
+            }
+        }
+        long time = System.nanoTime()-start;
+
+        List<DecisionStats> sorted = new ArrayList<DecisionStats>(decisions.values());
+        //the costliest decisions are those which look 
+        //furthest beyond the next token
+        Collections.sort(sorted, new Comparator<DecisionStats>() {
+            @Override public int compare(DecisionStats x, DecisionStats y) {
+                return Double.compare(y.lookahead-y.count, x.lookahead-x.count);
+            }
+        });
+        long count = 0;
+        long backtracks = 0;
+        double lookahead = 0;
+        int backtracking = 0;
+        for (DecisionStats stats: sorted) {
+            count += stats.count;
+            backtracks += stats.backtracks;
+            lookahead += stats.lookahead;
+            if (stats.backtracks>0) backtracking++;
+        }
+        System.out.println(files.size() + " files, " + tokens + " tokens, profiled in " +
+                time/1000000 + " ms");
+        System.out.println(String.format("%d decisions made %d times, %d of them backtracked %d times, " +
+                "%.0f tokens of lookahead, %.2f per token",
+                decisions.size(), count, backtracking, backtracks,
+                lookahead, lookahead / tokens));
+        System.out.println();
+        System.out.println(String.format("%-8s %-32s %-9s %9s %10s %8s %6s %11s",
+                "decision", "rule", "line", "count", "backtracks", "avg k", "max k", "lookahead"));
+        for (DecisionStats stats: sorted.subList(0, Math.min(DECISIONS_REPORTED, sorted.size()))) {
+            System.out.println(String.format("%-8d %-32s %-9s %9d %10d %8.2f %6d %11.0f",
+                    stats.decision, stats.rule, stats.line + ":" + stats.pos,
+                    stats.count, stats.backtracks, stats.lookahead / stats.count,
+                    stats.maxLookahead, stats.lookahead));
+        }
+    }
+
+    private static void collect(File file, List<File> files) {
+        if (file.isDirectory()) {
+            for (File child: file.listFiles()) {
+                collect(child, files);
+            }
+        }
+        else if (file.getName().endsWith(".ceylon")) {
+            files.add(file);
+        }
+    }
+
+}
@@ -0,0 +1,123 @@
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.antlr.runtime.ANTLRFileStream;
+import org.antlr.runtime.ANTLRStringStream;
+import org.antlr.runtime.CharStream;
+import org.antlr.runtime.CommonToken;
+import org.antlr.runtime.CommonTokenStream;
+import org.antlr.runtime.Token;
+
+import com.redhat.ceylon.compiler.typechecker.parser.CeylonLexer;
+import com.redhat.ceylon.compiler.typechecker.parser.CompactTokenList;
+
+/**
+ * Lexes the source files of the given directories, by
+ * default test, and a source with escaped identifiers,
+ * whose text the lexer replaces, and checks that the
+ * tokens of a CompactTokenList, and of the same list
+ * written and read again, have the type, text, position,
+ * channel and index of the tokens of the lexer.
+ */
+public class MainForTokenList {
+
+    private static final String ESCAPED_IDENTIFIERS =
+            "class \\Iclass() {\n" +
+            "    shared String \\iString = \"\";\n" +
+            "    \\IInteger \\iinteger = 1;\n" +
+            "}\n";
+
+    public static void main(String[] args) throws Exception {
+        List<File> files = new ArrayList<File>();
+        if (args.length==0) {
+            collect(new File("test"), files);
+        }
+        for (String arg: args) {
+            collect(new File(arg), files);
+        }
+        int tokens = 0;
+        for (File file: files) {
+            tokens += check(file.getPath(), new ANTLRFileStream(file.getPath(), "UTF-8"));
+        }
+        CharStream input = new ANTLRStringStream(ESCAPED_IDENTIFIERS);
+        tokens += check("escaped identifiers", input);
+        int replaced = 0;
+        for (Token token: lex(input)) {
+            CommonToken ct = (CommonToken) token;
+            if (ct.getStopIndex()<input.size() && !token.getText().equals(
+                    input.substring(ct.getStartIndex(), ct.getStopIndex()))) {
+                replaced++;
+            }
+        }
+        if (replaced==0) {
+            throw new RuntimeException("the lexer replaced the text of no escaped identifier");
+        }
+        System.out.println(String.format("%d files, %d tokens, %d with replaced text",
+                files.size()+1, tokens, replaced));
+    }
+
+    private static List<Token> lex(CharStream input) {
+        input.seek(0);
+        CommonTokenStream stream = new CommonTokenStream(new CeylonLexer(input));
+        stream.fill();
+        List<Token> tokens = new ArrayList<Token>();
+        for (Object token: stream.getTokens()) {
+            tokens.add((Token) token);
+        }
+        return tokens;
+    }
+
+    private static int check(String name, CharStream input) throws Exception {
+        List<Token> tokens = lex(input);
+        CompactTokenList list = new CompactTokenList(tokens);
+        compare(name, tokens, list);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        list.write(new DataOutputStream(out));
+        compare(name + " (read again)", tokens, CompactTokenList.read(
+                new DataInputStream(new ByteArrayInputStream(out.toByteArray())), input));
+        return tokens.size();
+    }
+
+    private static void compare(String name, List<Token> expected,
+            List<CommonToken> actual) {
+        if (expected.size()!=actual.size()) {
+            throw new RuntimeException(name + ": " + actual.size() +
+                    " tokens instead of " + expected.size());
+        }
+        for (int i=0; i<expected.size(); i++) {
+            CommonToken e = (CommonToken) expected.get(i);
+            CommonToken a = actual.get(i);
+            if (e.getType()!=a.getType() ||
+                    !e.getText().equals(a.getText()) ||
+                    e.getStartIndex()!=a.getStartIndex() ||
+                    e.getStopIndex()!=a.getStopIndex() ||
+                    e.getLine()!=a.getLine() ||
+                    e.getCharPositionInLine()!=a.getCharPositionInLine() ||
+                    e.getChannel()!=a.getChannel() ||
+                    e.getTokenIndex()!=a.getTokenIndex()) {
+                throw new RuntimeException(name + ": token " + a +
+                        " instead of " + e);
+            }
+        }
+    }
+
+    private static void collect(File file, List<File> files) {
+        if (file.isDirectory()) {
+            File[] children = file.listFiles();
+            if (children!=null) {
+                for (File child: children) {
+                    collect(child, files);
+                }
+            }
+        }
+        else if (file.getName().endsWith(".ceylon")) {
+            files.add(file);
+        }
+    }
+
+}
@@ -0,0 +1,109 @@
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.antlr.runtime.ANTLRStringStream;
+import org.antlr.runtime.CharStream;
+
+import com.redhat.ceylon.compiler.typechecker.TypeChecker;
+import com.redhat.ceylon.compiler.typechecker.TypeCheckerBuilder;
+import com.redhat.ceylon.compiler.typechecker.context.PhasedUnit;
+import com.redhat.ceylon.compiler.typechecker.parser.ParserSession;
+import com.redhat.ceylon.compiler.typechecker.tree.Tree;
+import com.redhat.ceylon.compiler.typechecker.tree.TreeReader;
+import com.redhat.ceylon.compiler.typechecker.tree.TreeWriter;
+
+/**
+ * Round trips the trees of the given source directories, 
+ * by default test/main, through TreeWriter and TreeReader,
+ * checks that each tree reads back the same as it was 
+ * written, and reports the throughput of writing and 
+ * reading trees, and of parsing the same sources again.
+ */
+public class MainForTreeSerialization {
+    
+    private static final int WARMUP_ROUNDS = 5;
+    private static final int ROUNDS = 20;
+    
+    public static void main(String[] args) throws Exception {
+        TypeCheckerBuilder builder = new TypeCheckerBuilder().verbose(false);
+        if (args.length==0) {
+            builder.addSrcDirectory(new File("test/main"));
+        }
+        for (String arg: args) {
+            builder.addSrcDirectory(new File(arg));
+        }
+        TypeChecker typeChecker = builder.getTypeChecker();
+        List<PhasedUnit> phasedUnits = new ArrayList<PhasedUnit>();
+        List<Tree.CompilationUnit> units = new ArrayList<Tree.CompilationUnit>();
+        List<ANTLRStringStream> inputs = new ArrayList<ANTLRStringStream>();
+        for (PhasedUnit pu: typeChecker.getPhasedUnits().getPhasedUnits()) {
+            if (pu.getCompilationUnit().getErrors().isEmpty()) {
+                phasedUnits.add(pu);
+                units.add(pu.getCompilationUnit());
+                inputs.add((ANTLRStringStream) pu.getTokens().get(0).getInputStream());
+            }
+        }
+        
+        byte[][] serialized = new byte[units.size()][];
+        long bytes = 0;
+        for (int i=0; i<units.size(); i++) {
+            Tree.CompilationUnit cu = units.get(i);
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            new TreeWriter(out).write(cu);
+            serialized[i] = out.toByteArray();
+            bytes += serialized[i].length;
+            Tree.CompilationUnit copy = read(serialized[i], inputs.get(i));
+            if (!copy.toString().equals(cu.toString())) {
+                throw new RuntimeException("Tree read back differs from tree written: " + 
+                        phasedUnits.get(i).getPathRelativeToSrcDir());
+            }
+        }
+        
+        long write = 0;
+        long read = 0;
+        long parse = 0;
+        for (int round=0; round<WARMUP_ROUNDS+ROUNDS; round++) {
+            long start = System.nanoTime();
+            for (Tree.CompilationUnit cu: units) {
+                new TreeWriter(new ByteArrayOutputStream()).write(cu);
+            }
+            long written = System.nanoTime();
+            for (int i=0; i<units.size(); i++) {
+                read(serialized[i], inputs.get(i));
+            }
+            long readBack = System.nanoTime();
+            ParserSession session = ParserSession.get();
+            for (ANTLRStringStream input: inputs) {
+                input.reset();
+                session.parse(input);
+            }
+            session.reset();
+            long parsed = System.nanoTime();
+            if (round>=WARMUP_ROUNDS) {
+                write += written-start;
+                read += readBack-written;
+                parse += parsed-readBack;
+            }
+        }
+        
+        System.out.println(units.size() + " trees, " + bytes + " bytes serialized");
+        report("write", write, units.size(), bytes);
+        report("read", read, units.size(), bytes);
+        report("parse", parse, units.size(), bytes);
+    }
+    
+    private static Tree.CompilationUnit read(byte[] bytes, CharStream input) 
+            throws Exception {
+        return new TreeReader(new ByteArrayInputStream(bytes)).read(input);
+    }
+    
+    private static void report(String operation, long nanos, int units, long bytes) {
+        double seconds = nanos / 1e9;
+        System.out.println(String.format("%-6s %8.1f trees/s %8.1f MB/s", operation, 
+                units * ROUNDS / seconds, bytes * ROUNDS / seconds / (1024*1024)));
+    }
+    
+}
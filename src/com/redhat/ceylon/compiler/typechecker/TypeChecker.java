@@ -1,15 +1,26 @@
 package com.redhat.ceylon.compiler.typechecker;
 
+import java.io.File;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
+import com.redhat.ceylon.compiler.typechecker.analyzer.DependencyPrefetcher;
 import com.redhat.ceylon.compiler.typechecker.analyzer.ModuleValidator;
 import com.redhat.ceylon.compiler.typechecker.context.Context;
+import com.redhat.ceylon.compiler.typechecker.context.PhaseExecutor;
 import com.redhat.ceylon.compiler.typechecker.context.PhasedUnit;
 import com.redhat.ceylon.compiler.typechecker.context.PhasedUnits;
+import com.redhat.ceylon.compiler.typechecker.context.UnitDependencyGraph;
 import com.redhat.ceylon.compiler.typechecker.io.ArtifactProvider;
 import com.redhat.ceylon.compiler.typechecker.io.VFS;
 import com.redhat.ceylon.compiler.typechecker.io.VirtualFile;
 import com.redhat.ceylon.compiler.typechecker.model.Module;
+import com.redhat.ceylon.compiler.typechecker.model.TypeCache;
+import com.redhat.ceylon.compiler.typechecker.parser.ParseBudget;
+import com.redhat.ceylon.compiler.typechecker.parser.ParseCache;
+import com.redhat.ceylon.compiler.typechecker.tree.CompositeVisitor;
 import com.redhat.ceylon.compiler.typechecker.tree.Message;
 import com.redhat.ceylon.compiler.typechecker.util.AssertionVisitor;
 import com.redhat.ceylon.compiler.typechecker.util.ModuleManagerFactory;
@@ -33,19 +44,39 @@ public class TypeChecker {
     private final boolean verifyDependencies;
     private final AssertionVisitor assertionVisitor;
     private final StatisticsVisitor statsVisitor;
+    private final int parallelism;
 
     //package level
     TypeChecker(VFS vfs, List<VirtualFile> srcDirectories, List<ArtifactProvider> artifactProviders, boolean verifyDependencies, 
-            AssertionVisitor assertionVisitor, ModuleManagerFactory moduleManagerFactory, boolean verbose) {
+            AssertionVisitor assertionVisitor, ModuleManagerFactory moduleManagerFactory, boolean verbose, 
+            int parallelism, Charset charset, Map<VirtualFile, Charset> srcDirectoryCharsets, 
+            File parseCacheDirectory, ParseBudget parseBudget) {
         long start = System.nanoTime();
         this.srcDirectories = srcDirectories;
         this.verbose = verbose;
         this.context = new Context(artifactProviders, vfs);
+        if (parseCacheDirectory!=null) {
+            context.setParseCache(new ParseCache(parseCacheDirectory));
+        }
+        context.setParseBudget(parseBudget);
         this.phasedUnits = new PhasedUnits(context, moduleManagerFactory);
         this.verifyDependencies = verifyDependencies;
         this.assertionVisitor = assertionVisitor;
+        this.parallelism = parallelism;
         statsVisitor = new StatisticsVisitor();
-        phasedUnits.parseUnits(srcDirectories);
+        if (charset!=null) {
+            phasedUnits.setCharset(charset);
+        }
+        for (Map.Entry<VirtualFile, Charset> entry: srcDirectoryCharsets.entrySet()) {
+            phasedUnits.setCharset(entry.getKey(), entry.getValue());
+        }
+        if (parallelism>1 && verifyDependencies) {
+            //parse the dependencies while the sources are parsed
+            context.setDependencyPrefetcher(new DependencyPrefetcher(context, 
+                    phasedUnits.getModuleManager().getSearchedArtifactExtensions(), 
+                    parallelism));
+        }
+        phasedUnits.parseUnits(srcDirectories, parallelism);
         long time = System.nanoTime()-start;
         if(verbose)
         	System.out.println("Parsed in " + time/1000000 + " ms");
@@ -113,11 +144,17 @@ public class TypeChecker {
         long start = System.nanoTime();
         executePhases(phasedUnits, false);
         long time = System.nanoTime()-start;
-        if(verbose)
+        if(verbose) {
         	System.out.println("Type checked in " + time/1000000 + " ms");
+        	TypeCache cache = context.getModules().getLanguageModule().getTypeCache();
+        	System.out.println("Subtype checks: " + cache.getHits() + " hits, " + 
+        	        cache.getMisses() + " misses");
+        	System.out.println("Supertype searches: " + cache.getSupertypeHits() + " hits, " + 
+        	        cache.getSupertypeMisses() + " misses");
+        }
     }
 
-    private void executePhases(PhasedUnits phasedUnits, boolean forceSilence) {
+    private void executePhases(final PhasedUnits phasedUnits, boolean forceSilence) {
         final List<PhasedUnit> listOfUnits = phasedUnits.getPhasedUnits();
 
         phasedUnits.getModuleManager().prepareForTypeChecking();
@@ -132,25 +169,76 @@ public class TypeChecker {
 
         final ModuleValidator moduleValidator = new ModuleValidator(context, phasedUnits);
         if (verifyDependencies) {
-            moduleValidator.verifyModuleDependencyTree();
+            try {
+                moduleValidator.verifyModuleDependencyTree();
+            }
+            finally {
+                DependencyPrefetcher prefetcher = context.getDependencyPrefetcher();
+                if (prefetcher!=null) {
+                    prefetcher.shutdown();
+                    context.setDependencyPrefetcher(null);
+                }
+            }
         }
         phasedUnitsOfDependencies = moduleValidator.getPhasedUnitsOfDependencies();
 
-        for (PhasedUnit pu : listOfUnits) {
-            pu.validateTree();
-            pu.scanDeclarations();
-        }
-        for (PhasedUnit pu : listOfUnits) {
-            pu.scanTypeDeclarations();
-        }
-        for (PhasedUnit pu: listOfUnits) {
-            pu.validateRefinement();
-        }
-        for (PhasedUnit pu : listOfUnits) {
-            pu.analyseTypes();
+        final PhaseExecutor executor = new PhaseExecutor(parallelism);
+        try {
+            //declarations are added to the package, so the
+            //units of a package must be scanned in order
+            executor.executeByPackage(listOfUnits, new PhaseExecutor.Phase() {
+                @Override public void run(PhasedUnit pu) {
+                    pu.validateTreeAndScanDeclarations();
+                }
+            });
+            //resolving the types of a unit looks at the
+            //supertypes of the declarations of other units,
+            //and validating refinement at the parameters of
+            //the members they refine, which those units set,
+            //so these phases run in order, on one thread, and
+            //an alias must be resolved before the units which
+            //refer to it, so the units declaring aliases are
+            //scanned first
+            for (PhasedUnit pu : listOfUnits) {
+                if (pu.declaresAliases()) {
+                    pu.scanTypeDeclarations();
+                }
+            }
+            for (PhasedUnit pu : listOfUnits) {
+                if (!pu.declaresAliases()) {
+                    pu.scanTypeDeclarations();
+                }
+            }
+            for (PhasedUnit pu: listOfUnits) {
+                pu.validateRefinement();
+            }
+            //the dependencies visible from the types and
+            //imports of each unit, and its references to
+            //declarations with inferred types, decide the
+            //order in which the remaining phases process 
+            //the units
+            final Map<String, List<PhasedUnit>> unitsByInferredDeclaration = 
+                    UnitDependencyGraph.getUnitsByInferredDeclaration(listOfUnits);
+            executor.execute(listOfUnits, new PhaseExecutor.Phase() {
+                @Override public void run(PhasedUnit pu) {
+                    pu.collectUnitDependencies(phasedUnits, phasedUnitsOfDependencies, 
+                            unitsByInferredDeclaration);
+                }
+            });
+            UnitDependencyGraph graph = new UnitDependencyGraph(listOfUnits);
+            executor.executeInDependencyOrder(graph, new PhaseExecutor.Phase() {
+                @Override public void run(PhasedUnit pu) {
+                    pu.analyseTypes(executor);
+                }
+            });
+            executor.executeInDependencyOrder(graph, new PhaseExecutor.Phase() {
+                @Override public void run(PhasedUnit pu) {
+                    pu.analyseFlow();
+                }
+            });
         }
-        for (PhasedUnit pu: listOfUnits) {
-            pu.analyseFlow();
+        finally {
+            executor.shutdown();
         }
 
         if (!forceSilence) {
@@ -1,13 +1,17 @@
 package com.redhat.ceylon.compiler.typechecker;
 
 import java.io.File;
+import java.nio.charset.Charset;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import com.redhat.ceylon.compiler.typechecker.io.ArtifactProvider;
 import com.redhat.ceylon.compiler.typechecker.io.VFS;
 import com.redhat.ceylon.compiler.typechecker.io.VFSArtifactProvider;
 import com.redhat.ceylon.compiler.typechecker.io.VirtualFile;
+import com.redhat.ceylon.compiler.typechecker.parser.ParseBudget;
 import com.redhat.ceylon.compiler.typechecker.util.AssertionVisitor;
 import com.redhat.ceylon.compiler.typechecker.util.ModuleManagerFactory;
 
@@ -34,6 +38,11 @@ public class TypeCheckerBuilder {
         }
     };
     private ModuleManagerFactory moduleManagerFactory;
+    private int parallelism = 1;
+    private Charset charset;
+    private File parseCacheDirectory;
+    private ParseBudget parseBudget = ParseBudget.DEFAULT;
+    private Map<VirtualFile, Charset> srcDirectoryCharsets = new HashMap<VirtualFile, Charset>();
 
     public TypeCheckerBuilder() {
     }
@@ -55,6 +64,24 @@ public class TypeCheckerBuilder {
         return this;
     }
 
+    /**
+     * Lets you add a directory or a file whose source files 
+     * are encoded using the given charset.
+     */
+    public TypeCheckerBuilder addSrcDirectory(File srcDirectory, Charset charset) {
+        return addSrcDirectory( vfs.getFromFile( srcDirectory ), charset );
+    }
+
+    /**
+     * Lets you add a directory or a file whose source files 
+     * are encoded using the given charset.
+     */
+    public TypeCheckerBuilder addSrcDirectory(VirtualFile srcDirectory, Charset charset) {
+        srcDirectories.add( srcDirectory );
+        srcDirectoryCharsets.put( srcDirectory, charset );
+        return this;
+    }
+
     /**
      * Let's you add a directory or a file.
      * Directories are better as the type checker can extract the context like module name, package etc
@@ -113,12 +140,55 @@ public class TypeCheckerBuilder {
     	return this;
     }
 
+    /**
+     * Sets the number of threads used to parse the source 
+     * files and to run each type checking phase over the 
+     * compilation units. Defaults to 1, that is, sequential 
+     * processing.
+     */
+    public TypeCheckerBuilder parallelism(int threads) {
+        this.parallelism = threads;
+        return this;
+    }
+
+    /**
+     * Sets the charset of the source files of the source
+     * directories added without a charset of their own.
+     * Defaults to the default charset of the JVM.
+     */
+    public TypeCheckerBuilder charset(Charset charset) {
+        this.charset = charset;
+        return this;
+    }
+
+    /**
+     * Keeps the parsed source files in the given directory,
+     * so that unchanged files need not be parsed again by
+     * a later type checker.
+     */
+    public TypeCheckerBuilder parseCache(File directory) {
+        this.parseCacheDirectory = directory;
+        return this;
+    }
+
+    /**
+     * Limits the work done by the parser for each source
+     * file, so that pathological input is reported as a
+     * parse error instead of taking too long to parse.
+     * Defaults to {@link ParseBudget#DEFAULT}.
+     */
+    public TypeCheckerBuilder parseBudget(ParseBudget budget) {
+        this.parseBudget = budget;
+        return this;
+    }
+
     public VFS getVFS(){
         return vfs;
     }
     
     public TypeChecker getTypeChecker() {
-        return new TypeChecker(vfs, srcDirectories, artifactProviders, verifyDependencies, assertionVisitor, moduleManagerFactory, verbose);
+        return new TypeChecker(vfs, srcDirectories, artifactProviders, verifyDependencies, assertionVisitor, moduleManagerFactory, verbose, parallelism, 
+                charset, srcDirectoryCharsets, parseCacheDirectory, parseBudget);
     }
 
 }
@@ -55,6 +55,7 @@ public class DeclarationVisitor extends Visitor {
     private Unit unit;
     private ParameterList parameterList;
     private Declaration declaration;
+    private ModelReconciler reconciler;
 
     public DeclarationVisitor(Package pkg, String filename) {
         scope = pkg;
@@ -66,6 +67,14 @@ public class DeclarationVisitor extends Visitor {
         return unit;
     }
     
+    /**
+     * The number of declarations whose model, built when
+     * the unit was last checked, was used again.
+     */
+    public int getReusedDeclarations() {
+        return reconciler==null ? 0 : reconciler.getReusedDeclarations();
+    }
+    
     private Scope enterScope(Scope innerScope) {
         Scope outerScope = scope;
         scope = innerScope;
@@ -86,6 +95,10 @@ public class DeclarationVisitor extends Visitor {
         declaration = outerDec;
     }
     
+    private <D extends Declaration> D reconcile(Tree.Declaration that, D model) {
+        return reconciler==null ? model : reconciler.reconcile(that, model, scope);
+    }
+    
     private void visitDeclaration(Tree.Declaration that, Declaration model) {
         visitDeclaration(that,  model, true);
     }
@@ -213,6 +226,13 @@ public class DeclarationVisitor extends Visitor {
         //that.setModelNode(unit);
         unit.setPackage(pkg);
         unit.setFilename(filename);
+        Unit previousUnit = null;
+        for (Unit u: pkg.getUnits()) {
+            if (u.equals(unit)) {
+                previousUnit = u;
+            }
+        }
+        reconciler = new ModelReconciler(previousUnit);
         pkg.removeUnit(unit);
         pkg.addUnit(unit);
         super.visit(that);
@@ -243,8 +263,8 @@ public class DeclarationVisitor extends Visitor {
     
     @Override
     public void visit(Tree.AnyClass that) {
-        Class c = that instanceof Tree.ClassDefinition ?
-                new Class() : new ClassAlias();
+        Class c = reconcile(that, that instanceof Tree.ClassDefinition ?
+                new Class() : new ClassAlias());
         that.setDeclarationModel(c);
         visitDeclaration(that, c);
         Scope o = enterScope(c);
@@ -265,8 +285,8 @@ public class DeclarationVisitor extends Visitor {
 
     @Override
     public void visit(Tree.AnyInterface that) {
-        Interface i = that instanceof Tree.InterfaceDefinition ?
-                new Interface() : new InterfaceAlias();
+        Interface i = reconcile(that, that instanceof Tree.InterfaceDefinition ?
+                new Interface() : new InterfaceAlias());
         that.setDeclarationModel(i);
         visitDeclaration(that, i);
         Scope o = enterScope(i);
@@ -290,7 +310,7 @@ public class DeclarationVisitor extends Visitor {
     
     @Override
     public void visit(Tree.TypeParameterDeclaration that) {
-        TypeParameter p = new TypeParameter();
+        TypeParameter p = reconcile(that, new TypeParameter());
         p.setDeclaration(declaration);
         if (that.getTypeVariance()!=null) {
             String v = that.getTypeVariance().getText();
@@ -304,7 +324,7 @@ public class DeclarationVisitor extends Visitor {
     
     @Override
     public void visit(Tree.SequencedTypeParameterDeclaration that) {
-        TypeParameter p = new TypeParameter();
+        TypeParameter p = reconcile(that, new TypeParameter());
         p.setSequenced(true);
         p.setDeclaration(declaration);
         that.setDeclarationModel(p);
@@ -314,7 +334,7 @@ public class DeclarationVisitor extends Visitor {
     
     @Override
     public void visit(Tree.AnyMethod that) {
-        Method m = new Method();
+        Method m = reconcile(that, new Method());
         that.setDeclarationModel(m);
         visitDeclaration(that, m);
         Scope o = enterScope(m);
@@ -405,9 +425,9 @@ public class DeclarationVisitor extends Visitor {
         /*if (that.getClassBody()==null) {
             that.addError("missing object body");
         }*/
-        Class c = new Class();
+        Class c = reconcile(that, new Class());
         visitDeclaration(that, c);
-        Value v = new Value();
+        Value v = reconcile(that, new Value());
         that.setDeclarationModel(v);
         visitDeclaration(that, v);
         that.getType().setTypeModel(c.getType());
@@ -436,7 +456,7 @@ public class DeclarationVisitor extends Visitor {
     
     @Override
     public void visit(Tree.AttributeDeclaration that) {
-        Value v = new Value();
+        Value v = reconcile(that, new Value());
         that.setDeclarationModel(v);
         visitDeclaration(that, v);
         super.visit(that);
@@ -461,7 +481,7 @@ public class DeclarationVisitor extends Visitor {
     
     @Override
     public void visit(Tree.AttributeGetterDefinition that) {
-        Getter g = new Getter();
+        Getter g = reconcile(that, new Getter());
         that.setDeclarationModel(g);
         visitDeclaration(that, g);
         Scope o = enterScope(g);
@@ -481,7 +501,7 @@ public class DeclarationVisitor extends Visitor {
     
     @Override
     public void visit(Tree.AttributeSetterDefinition that) {
-        Setter s = new Setter();
+        Setter s = reconcile(that, new Setter());
         that.setDeclarationModel(s);
         visitDeclaration(that, s);
         Scope o = enterScope(s);
@@ -525,7 +545,7 @@ public class DeclarationVisitor extends Visitor {
     
     @Override
     public void visit(Tree.ValueParameterDeclaration that) {
-        ValueParameter p = new ValueParameter();
+        ValueParameter p = reconcile(that, new ValueParameter());
         p.setDeclaration(declaration);
         p.setDefaulted(that.getDefaultArgument()!=null);
         p.setSequenced(that.getType() instanceof Tree.SequencedType);
@@ -537,7 +557,7 @@ public class DeclarationVisitor extends Visitor {
 
     @Override
     public void visit(Tree.FunctionalParameterDeclaration that) {
-        FunctionalParameter p = new FunctionalParameter();
+        FunctionalParameter p = reconcile(that, new FunctionalParameter());
         p.setDeclaration(declaration);
         p.setDefaulted(that.getDefaultArgument()!=null);
         that.setDeclarationModel(p);
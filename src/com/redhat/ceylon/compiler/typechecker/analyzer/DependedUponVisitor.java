@@ -127,7 +127,9 @@ public class DependedUponVisitor extends Visitor {
         List<ProducedType> tms = that.getTypeModels();
         if (tms!=null) {
             for (ProducedType pt: tms) {
-                storeDependency(pt.getDeclaration());
+                if (pt!=null) {
+                    storeDependency(pt.getDeclaration());
+                }
             }
         }
         super.visit(that);
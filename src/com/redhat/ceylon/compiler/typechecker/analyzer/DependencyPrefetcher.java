@@ -0,0 +1,210 @@
+package com.redhat.ceylon.compiler.typechecker.analyzer;
+
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import com.redhat.ceylon.compiler.typechecker.TypeChecker;
+import com.redhat.ceylon.compiler.typechecker.context.Context;
+import com.redhat.ceylon.compiler.typechecker.io.ArtifactProvider;
+import com.redhat.ceylon.compiler.typechecker.io.ClosableVirtualFile;
+import com.redhat.ceylon.compiler.typechecker.io.VirtualFile;
+import com.redhat.ceylon.compiler.typechecker.parser.DescriptorScanner;
+import com.redhat.ceylon.compiler.typechecker.parser.ParsedSource;
+import com.redhat.ceylon.compiler.typechecker.parser.ParserSession;
+import com.redhat.ceylon.compiler.typechecker.parser.VirtualFileCharStream;
+
+/**
+ * Parses the source artifacts of the modules imported by
+ * the module descriptors of the sources being compiled,
+ * and, transitively, by the descriptors of the artifacts,
+ * in the background, while the sources themselves are 
+ * parsed, so that the units are ready by the time the 
+ * dependencies are resolved by the ModuleValidator.
+ * 
+ * The descriptors are only lexed, by the DescriptorScanner,
+ * so this is a guess at the modules which will be needed:
+ * a module which is not found, or which fails to parse, is
+ * simply left to the ModuleManager, which will report the
+ * problem as usual.
+ */
+public class DependencyPrefetcher {
+    
+    private static final String LANGUAGE_MODULE_NAME = "ceylon.language";
+    
+    private final Context context;
+    private final Iterable<String> searchedArtifactExtensions;
+    private final ThreadPoolExecutor executor;
+    private final Set<String> localModules = new HashSet<String>();
+    private final Map<String, Future<Map<String, ParsedSource>>> modules = 
+            new HashMap<String, Future<Map<String, ParsedSource>>>();
+    
+    public DependencyPrefetcher(Context context, 
+            Iterable<String> searchedArtifactExtensions, int threads) {
+        this.context = context;
+        this.searchedArtifactExtensions = searchedArtifactExtensions;
+        executor = new ThreadPoolExecutor(threads, threads, 1, TimeUnit.SECONDS, 
+                new LinkedBlockingQueue<Runnable>(), 
+                new ThreadFactory() {
+                    @Override public Thread newThread(Runnable r) {
+                        Thread thread = new Thread(r, "Ceylon dependency prefetcher");
+                        thread.setDaemon(true);
+                        return thread;
+                    }
+                });
+        executor.allowCoreThreadTimeOut(true);
+    }
+    
+    /**
+     * Start parsing the modules imported by the given 
+     * descriptors of the modules being compiled, and the
+     * language module, unless it is one of them.
+     */
+    public synchronized void prefetch(List<DescriptorScanner.Descriptor> descriptors) {
+        for (DescriptorScanner.Descriptor descriptor: descriptors) {
+            localModules.add(descriptor.getName());
+        }
+        boolean importsLanguageModule = false;
+        for (DescriptorScanner.Descriptor descriptor: descriptors) {
+            for (DescriptorScanner.Import imp: descriptor.getImports()) {
+                importsLanguageModule |= LANGUAGE_MODULE_NAME.equals(imp.getName());
+                prefetch(imp.getName(), imp.getVersion());
+            }
+        }
+        if (!importsLanguageModule) {
+            prefetch(LANGUAGE_MODULE_NAME, TypeChecker.LANGUAGE_MODULE_VERSION);
+        }
+    }
+    
+    private synchronized void prefetch(final String name, final String version) {
+        if (name==null || version==null || localModules.contains(name) ||
+                executor.isShutdown()) {
+            return;
+        }
+        String key = name + "/" + version;
+        if (!modules.containsKey(key)) {
+            try {
+                modules.put(key, executor.submit(new Callable<Map<String, ParsedSource>>() {
+                    @Override public Map<String, ParsedSource> call() throws Exception {
+                        return parseModule(name, version);
+                    }
+                }));
+            }
+            catch (RejectedExecutionException e) {
+                //shut down
+            }
+        }
+    }
+    
+    /**
+     * The units of the source artifact of the given module,
+     * keyed by the path of their file within the artifact, 
+     * waiting for them to be parsed if necessary.
+     * 
+     * @return the units, or null if the module was not
+     *         prefetched, or could not be
+     */
+    public Map<String, ParsedSource> getParsedSources(String name, String version) {
+        Future<Map<String, ParsedSource>> result;
+        synchronized (this) {
+            result = modules.get(name + "/" + version);
+        }
+        if (result==null) {
+            return null;
+        }
+        try {
+            return result.get();
+        }
+        catch (ExecutionException e) {
+            //let the ModuleManager parse it again
+            return null;
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        }
+    }
+    
+    /**
+     * Stop prefetching, and forget the units already 
+     * parsed.
+     */
+    public synchronized void shutdown() {
+        executor.shutdownNow();
+        modules.clear();
+    }
+    
+    private Map<String, ParsedSource> parseModule(String name, String version) 
+            throws Exception {
+        ClosableVirtualFile artifact = null;
+        for (ArtifactProvider artifactProvider: context.getArtifactProviders()) {
+            artifact = artifactProvider.getArtifact(ModuleManager.splitModuleName(name), 
+                    version, searchedArtifactExtensions);
+            if (artifact!=null) {
+                break;
+            }
+        }
+        if (artifact==null) {
+            return null;
+        }
+        try {
+            //other kinds of artifact are not parsed
+            if (!artifact.getName().endsWith(".src")) {
+                return null;
+            }
+            List<VirtualFile> files = new ArrayList<VirtualFile>();
+            collectSourceFiles(artifact, files);
+            Map<String, ParsedSource> result = new HashMap<String, ParsedSource>();
+            ParserSession session = ParserSession.get();
+            for (VirtualFile file: files) {
+                if (Thread.currentThread().isInterrupted()) {
+                    return null;
+                }
+                //the charset and options of the units of
+                //ModuleManager.resolveModule()
+                VirtualFileCharStream input = new VirtualFileCharStream(file, 
+                        Charset.defaultCharset());
+                if (ModuleManager.MODULE_FILE.equals(file.getName())) {
+                    DescriptorScanner.Descriptor descriptor = DescriptorScanner.scan(input);
+                    if (descriptor!=null && descriptor.isModule()) {
+                        for (DescriptorScanner.Import imp: descriptor.getImports()) {
+                            prefetch(imp.getName(), imp.getVersion());
+                        }
+                    }
+                    input.reset();
+                }
+                result.put(file.getPath().substring(artifact.getPath().length()), 
+                        session.parse(input, true, 
+                        context.getParseBudget(), context.getParseCache()));
+            }
+            return result;
+        }
+        finally {
+            artifact.close();
+        }
+    }
+    
+    private static void collectSourceFiles(VirtualFile dir, List<VirtualFile> files) {
+        for (VirtualFile file: dir.getChildren()) {
+            if (file.isFolder()) {
+                collectSourceFiles(file, files);
+            }
+            else if (file.getName().endsWith(".ceylon")) {
+                files.add(file);
+            }
+        }
+    }
+    
+}
@@ -77,6 +77,16 @@ public class ExpressionVisitor extends Visitor {
 
     private Unit unit;
     
+    public ExpressionVisitor() {}
+    
+    /**
+     * Used to visit a single declaration of the given
+     * unit, instead of the whole compilation unit.
+     */
+    public ExpressionVisitor(Unit unit) {
+        this.unit = unit;
+    }
+    
     @Override public void visit(Tree.CompilationUnit that) {
         unit = that.getUnit();
         super.visit(that);
@@ -3003,11 +3013,6 @@ public class ExpressionVisitor extends Visitor {
         //enumerated type, so that we can make use of the
         //enumerated type is equivalent to its cases
         TypeDeclaration td = (TypeDeclaration) that.getScope();
-        
-        //TODO: get rid of this awful hack:
-        List<ProducedType> cases = td.getCaseTypes();
-        td.setCaseTypes(null);
-        
         if (!(td instanceof TypeParameter)) {
             for (Tree.StaticType t: that.getTypes()) {
                 ProducedType type = t.getTypeModel();
@@ -3028,8 +3033,6 @@ public class ExpressionVisitor extends Visitor {
             }
         }
         
-        //TODO: get rid of this awful hack:
-        td.setCaseTypes(cases);
     }
 
     private void checkExtensionOfMemberType(Node that, TypeDeclaration td,
@@ -0,0 +1,155 @@
+package com.redhat.ceylon.compiler.typechecker.analyzer;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.redhat.ceylon.compiler.typechecker.model.Declaration;
+import com.redhat.ceylon.compiler.typechecker.model.DeclarationKind;
+import com.redhat.ceylon.compiler.typechecker.model.Scope;
+import com.redhat.ceylon.compiler.typechecker.model.TypeDeclaration;
+import com.redhat.ceylon.compiler.typechecker.model.Unit;
+import com.redhat.ceylon.compiler.typechecker.tree.Tree;
+
+/**
+ * Matches the declarations of a unit which is being
+ * checked again to the declarations of its previous
+ * version, by container, kind, name and signature, so
+ * that the model of a declaration which did not change
+ * is reset and used again, instead of being built anew.
+ * Other units, and caches keyed by model objects, then
+ * still refer to the current model of the declaration.
+ * 
+ * The signature of a declaration is the structural hash
+ * of its tree, without its body or specified value, unless
+ * its type is inferred from them. Since the container is part of
+ * the match, the members of a declaration whose model 
+ * was built anew are built anew too.
+ */
+class ModelReconciler {
+    
+    private final Map<Key, Declaration> previousDeclarations = 
+            new HashMap<Key, Declaration>();
+    private final Map<List<Object>, TypeDeclaration> previousTypeDeclarations = 
+            new HashMap<List<Object>, TypeDeclaration>();
+    private int reused;
+    
+    ModelReconciler(Unit previousUnit) {
+        if (previousUnit!=null) {
+            List<Declaration> declarations = previousUnit.getDeclarations();
+            synchronized (declarations) {
+                for (Declaration d: declarations) {
+                    if (d.getName()!=null && d.getSignatureHash()!=0) {
+                        Key key = new Key(d.getContainer(), d.getClass(), 
+                                d.getName(), d.getSignatureHash());
+                        //of duplicate declarations, only the 
+                        //first may be used again
+                        if (!previousDeclarations.containsKey(key)) {
+                            previousDeclarations.put(key, d);
+                        }
+                        if (d instanceof TypeDeclaration) {
+                            List<Object> equalityKey = equalityKey(d.getContainer(), 
+                                    d.getDeclarationKind(), d.getName());
+                            if (!previousTypeDeclarations.containsKey(equalityKey)) {
+                                previousTypeDeclarations.put(equalityKey, 
+                                        (TypeDeclaration) d);
+                            }
+                        }
+                    }
+                }
+            }
+        }
+    }
+    
+    /**
+     * The model of the previous version of the given
+     * declaration, reset, or the given new model, if the
+     * declaration is new or changed.
+     */
+    @SuppressWarnings("unchecked")
+    <D extends Declaration> D reconcile(Tree.Declaration that, D model, 
+            Scope container) {
+        Tree.Identifier id = that.getIdentifier();
+        if (id==null || id.getText().startsWith("<missing")) {
+            return model;
+        }
+        long signature = signatureHash(that);
+        Declaration previous = previousDeclarations.remove(new Key(container, 
+                model.getClass(), id.getText(), signature));
+        D result = model;
+        if (previous!=null) {
+            previous.reset();
+            result = (D) previous;
+            reused++;
+        }
+        else if (model instanceof TypeDeclaration) {
+            //other units may still refer to the previous
+            //version, which is equal to the new model
+            TypeDeclaration previousType = previousTypeDeclarations.get(
+                    equalityKey(container, model.getDeclarationKind(), id.getText()));
+            if (previousType!=null) {
+                ((TypeDeclaration) model).replace(previousType);
+            }
+        }
+        result.setSignatureHash(signature);
+        return result;
+    }
+    
+    /**
+     * The number of declarations whose model was used
+     * again.
+     */
+    int getReusedDeclarations() {
+        return reused;
+    }
+    
+    /**
+     * Declarations with equal keys are equal, given that
+     * they have as many type parameters.
+     */
+    private static List<Object> equalityKey(Scope container, 
+            DeclarationKind kind, String name) {
+        return Arrays.<Object>asList(container, kind, name);
+    }
+    
+    private static long signatureHash(Tree.Declaration that) {
+        boolean inferred = that instanceof Tree.TypedDeclaration && 
+                !(that instanceof Tree.ObjectDefinition) &&
+                ((Tree.TypedDeclaration) that).getType() instanceof Tree.LocalModifier;
+        //never zero, which means there is no signature
+        return inferred ? that.getStructuralHash() : that.getSignatureHash();
+    }
+    
+    private static class Key {
+        private final Scope container;
+        private final Class<?> kind;
+        private final String name;
+        private final long signature;
+        Key(Scope container, Class<?> kind, String name, long signature) {
+            this.container = container;
+            this.kind = kind;
+            this.name = name;
+            this.signature = signature;
+        }
+        @Override
+        public boolean equals(Object object) {
+            if (object instanceof Key) {
+                Key that = (Key) object;
+                return container==that.container &&
+                        kind==that.kind &&
+                        signature==that.signature &&
+                        name.equals(that.name);
+            }
+            else {
+                return false;
+            }
+        }
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(container)*31 + 
+                    name.hashCode() ^ (int) signature;
+        }
+    }
+
+}
@@ -295,6 +295,13 @@ public class ModuleManager {
 
     public void resolveModule(Module module, VirtualFile artifact, List<PhasedUnits> phasedUnitsOfDependencies) {
         PhasedUnits modulePhasedUnit = new PhasedUnits(context);
+        //only the declarations of dependencies are scanned
+        modulePhasedUnit.setSkipBodies(true);
+        DependencyPrefetcher prefetcher = context.getDependencyPrefetcher();
+        if (prefetcher!=null) {
+            modulePhasedUnit.setParsedSources(prefetcher.getParsedSources(
+                    module.getNameAsString(), module.getVersion()));
+        }
         phasedUnitsOfDependencies.add(modulePhasedUnit);
         modulePhasedUnit.parseUnit(artifact);
         //populate module.getDependencies()
@@ -2,9 +2,12 @@ package com.redhat.ceylon.compiler.typechecker.analyzer;
 
 import static com.redhat.ceylon.compiler.typechecker.analyzer.Util.getLastExecutableStatement;
 
+import java.util.Set;
+
 import com.redhat.ceylon.compiler.typechecker.model.Declaration;
 import com.redhat.ceylon.compiler.typechecker.model.TypeDeclaration;
 import com.redhat.ceylon.compiler.typechecker.tree.Node;
+import com.redhat.ceylon.compiler.typechecker.tree.NodeKinds;
 import com.redhat.ceylon.compiler.typechecker.tree.Tree;
 import com.redhat.ceylon.compiler.typechecker.tree.Visitor;
 /**
@@ -17,6 +20,10 @@ import com.redhat.ceylon.compiler.typechecker.tree.Visitor;
  */
 public class SelfReferenceVisitor extends Visitor {
     
+    private static final NodeKinds TYPE_DECLARATION_KINDS = NodeKinds.of(
+            Tree.TypeDeclaration.KIND, Tree.ObjectDefinition.KIND, 
+            Tree.ObjectArgument.KIND);
+    
     private final TypeDeclaration typeDeclaration;
     private Tree.Statement lastExecutableStatement;
     private boolean declarationSection = false;
@@ -26,6 +33,38 @@ public class SelfReferenceVisitor extends Visitor {
         typeDeclaration = td;
     }
     
+    /**
+     * Validate each of the given type declarations. Since
+     * a self reference can only occur inside the definition 
+     * of the type, only the subtree of the definition is
+     * visited, instead of the whole compilation unit.
+     */
+    public static void visitTypeDeclarations(Node node, 
+            final Set<TypeDeclaration> types) {
+        node.visit(new Visitor() {
+            @Override public NodeKinds getNodeKinds() {
+                return TYPE_DECLARATION_KINDS;
+            }
+            private void visitTypeDeclaration(Node that, TypeDeclaration td) {
+                if (types.contains(td)) {
+                    that.visit(new SelfReferenceVisitor(td));
+                }
+            }
+            @Override public void visit(Tree.TypeDeclaration that) {
+                visitTypeDeclaration(that, that.getDeclarationModel());
+                super.visit(that);
+            }
+            @Override public void visit(Tree.ObjectDefinition that) {
+                visitTypeDeclaration(that, that.getDeclarationModel().getTypeDeclaration());
+                super.visit(that);
+            }
+            @Override public void visit(Tree.ObjectArgument that) {
+                visitTypeDeclaration(that, that.getDeclarationModel().getTypeDeclaration());
+                super.visit(that);
+            }
+        });
+    }
+    
     private void visitExtendedType(Tree.ExtendedTypeExpression that) {
         Declaration member = that.getDeclaration();
         if (member!=null) {
@@ -3,6 +3,13 @@ package com.redhat.ceylon.compiler.typechecker.analyzer;
 import static com.redhat.ceylon.compiler.typechecker.analyzer.Util.getBaseDeclaration;
 import static com.redhat.ceylon.compiler.typechecker.analyzer.Util.getLastExecutableStatement;
 
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
 import com.redhat.ceylon.compiler.typechecker.model.Declaration;
 import com.redhat.ceylon.compiler.typechecker.model.Interface;
 import com.redhat.ceylon.compiler.typechecker.model.TypedDeclaration;
@@ -18,68 +25,134 @@ import com.redhat.ceylon.compiler.typechecker.tree.Visitor;
  * they are always specified before they are used, and
  * that they are never specified twice.
  * 
+ * All the declarations of a unit are validated in a 
+ * single traversal: the state of each declaration is 
+ * one bit, at the index of the declaration in the list
+ * passed to the constructor, of the bitsets below.
+ * 
  * @author Gavin King
  *
  */
 public class SpecificationVisitor extends Visitor {
     
-    private final Declaration declaration;
+    private final List<Declaration> declarations;
+    private final Map<Declaration,Integer> ordinals;
+    private final BitSet variables = new BitSet();
     
-    private SpecificationState specified = new SpecificationState(false, false);
-    private boolean cannotSpecify = true;
-    private boolean declared = false;
-    private Tree.Statement lastExecutableStatement;
-    private boolean declarationSection = false;
+    private SpecificationState specified;
+    private BitSet cannotSpecify = new BitSet();
+    private BitSet declared = new BitSet();
+    private BitSet declarationSection = new BitSet();
+    private final Map<Tree.Statement,BitSet> lastExecutableStatements = 
+            new IdentityHashMap<Tree.Statement,BitSet>();
 
     class SpecificationState {
-        boolean definitely;
-        boolean possibly;
-        boolean exited;
-        SpecificationState(boolean definitely, boolean possibly) {
+        final BitSet definitely;
+        final BitSet possibly;
+        final BitSet exited;
+        SpecificationState(BitSet definitely, BitSet possibly) {
             this.definitely = definitely;
             this.possibly = possibly;
-            this.exited = false;
+            this.exited = new BitSet();
+        }
+        BitSet definitelyOrExited() {
+            BitSet result = (BitSet) definitely.clone();
+            result.or(exited);
+            return result;
         }
     }
     
     public SpecificationVisitor(Declaration declaration) {
-        this.declaration = declaration;
+        this(Collections.singletonList(declaration));
+    }
+    
+    public SpecificationVisitor(List<Declaration> declarations) {
+        this.declarations = declarations;
+        ordinals = new IdentityHashMap<Declaration,Integer>(declarations.size());
+        for (int i=0; i<declarations.size(); i++) {
+            Declaration d = declarations.get(i);
+            if (!ordinals.containsKey(d)) {
+                ordinals.put(d, i);
+            }
+            if (d instanceof TypedDeclaration && 
+                    ((TypedDeclaration) d).isVariable()) {
+                variables.set(i);
+            }
+        }
+        specified = new SpecificationState(new BitSet(), new BitSet());
+        cannotSpecify.set(0, declarations.size());
+    }
+    
+    private int ordinal(Declaration d) {
+        Integer i = ordinals.get(d);
+        return i==null ? -1 : i;
+    }
+    
+    private BitSet all() {
+        BitSet result = new BitSet();
+        result.set(0, declarations.size());
+        return result;
     }
     
-    private void declare() {
-        declared = true;
+    private static void copyBit(BitSet from, BitSet to, int i) {
+        to.set(i, from.get(i));
     }
     
-    private boolean beginDeclarationScope() {
-        return declared;
+    private void declare(int i) {
+        declared.set(i);
     }
     
-    private void endDeclarationScope(boolean d) {
+    private BitSet beginDeclarationScope() {
+        return (BitSet) declared.clone();
+    }
+    
+    private void endDeclarationScope(BitSet d) {
         declared = d;
     }
     
-    private boolean beginDisabledSpecificationScope() {
-        boolean ca = cannotSpecify;
-        cannotSpecify = true;
+    private BitSet beginDisabledSpecificationScope() {
+        BitSet ca = (BitSet) cannotSpecify.clone();
+        cannotSpecify.set(0, declarations.size());
         return ca;
     }
     
-    private void endDisabledSpecificationScope(boolean ca) {
+    private void endDisabledSpecificationScope(BitSet ca) {
         cannotSpecify = ca;
     }
     
-    private void specify() {
-        specified.definitely = true;
-        specified.possibly = true;
+    /**
+     * Disable specification of the non-variable values 
+     * only, leaving the variable values as they are.
+     */
+    private BitSet beginDisabledNonVariableSpecificationScope() {
+        BitSet ca = (BitSet) cannotSpecify.clone();
+        BitSet nonVariables = all();
+        nonVariables.andNot(variables);
+        cannotSpecify.or(nonVariables);
+        return ca;
+    }
+    
+    private void endDisabledNonVariableSpecificationScope(BitSet ca) {
+        BitSet result = (BitSet) cannotSpecify.clone();
+        result.and(variables);
+        ca.andNot(variables);
+        result.or(ca);
+        cannotSpecify = result;
+    }
+    
+    private void specify(int i) {
+        specified.definitely.set(i);
+        specified.possibly.set(i);
     }
     
     private void exit() {
-        specified.exited = true;
+        specified.exited.set(0, declarations.size());
     }
     
     private SpecificationState beginSpecificationScope() {
         SpecificationState as = specified;
-        specified = new SpecificationState(specified.definitely, specified.possibly);
+        specified = new SpecificationState((BitSet) specified.definitely.clone(), 
+                (BitSet) specified.possibly.clone());
         return as;
     }
     
@@ -87,9 +160,8 @@ public class SpecificationVisitor extends Visitor {
         specified = as;
     }
     
-    private boolean isVariable() {
-        return (declaration instanceof TypedDeclaration)
-            && ((TypedDeclaration) declaration).isVariable();
+    private boolean isVariable(int i) {
+        return variables.get(i);
     }
     
     @Override
@@ -149,23 +221,23 @@ public class SpecificationVisitor extends Visitor {
             Declaration member = ((Tree.MemberOrTypeExpression) that).getDeclaration();
             //Declaration member = getDeclaration(that.getScope(), that.getUnit(), id, context);
             //TODO: check superclass members are not in declaration section!
-            if ( member==declaration && 
-                    member.isDefinedInScope(that.getScope()) ) {
-                if (!declared) {
+            int i = ordinal(member);
+            if ( i>=0 && member.isDefinedInScope(that.getScope()) ) {
+                if (!declared.get(i)) {
                     //you are allowed to refer to later 
                     //declarations in a class declaration
                     //section
-                    if (!inDeclarationSection()) {
+                    if (!inDeclarationSection(i)) {
                         that.addError("not yet declared: " + 
                                 member.getName());
                     }
                 }
-                else if (!specified.definitely) {
+                else if (!specified.definitely.get(i)) {
                     //you are allowed to refer to formal
                     //declarations in a class declaration
                     //section
-                    if (!declaration.isFormal()) {
-                        if (isVariable()) {
+                    if (!member.isFormal()) {
+                        if (isVariable(i)) {
                             that.addError("not definitely initialized: " + 
                                     member.getName());                    
                         }
@@ -174,13 +246,13 @@ public class SpecificationVisitor extends Visitor {
                                     member.getName());
                         }
                     }
-                    else if (!inDeclarationSection()) {
+                    else if (!inDeclarationSection(i)) {
                         that.addError("formal member may not be used in initializer: " + 
                                 member.getName());                    
                     }
                 }
                 else {
-                    if ( member.isDefault() && !inDeclarationSection() ) {
+                    if ( member.isDefault() && !inDeclarationSection(i) ) {
                         that.addError("default member may not be used in initializer: " + 
                                 member.getName());                    
                     }
@@ -189,9 +261,9 @@ public class SpecificationVisitor extends Visitor {
         }
     }
 
-    private boolean inDeclarationSection() {
-        return declarationSection || 
-            declaration.getContainer() instanceof Interface;
+    private boolean inDeclarationSection(int i) {
+        return declarationSection.get(i) || 
+            declarations.get(i).getContainer() instanceof Interface;
     }
     
     @Override
@@ -200,10 +272,13 @@ public class SpecificationVisitor extends Visitor {
         if (lt instanceof Tree.BaseMemberExpression) {
             Tree.BaseMemberExpression m = (Tree.BaseMemberExpression) lt;
             Declaration member = getBaseDeclaration(m, null);
-            if (member==declaration) {
+            int i = ordinal(member);
+            if (i>=0) {
+                //visiting the left term first makes no
+                //difference to the other declarations
                 that.getRightTerm().visit(this);
                 checkVariable(lt, that);
-                specify();
+                specify(i);
                 lt.visit(this);
             }
             else {
@@ -237,8 +312,9 @@ public class SpecificationVisitor extends Visitor {
         if (term instanceof Tree.BaseMemberExpression) {
             Tree.BaseMemberExpression m = (Tree.BaseMemberExpression) term;
             Declaration member = getBaseDeclaration(m, null);
-            if (member==declaration) {
-                if (!isVariable()) {
+            int i = ordinal(member);
+            if (i>=0) {
+                if (!isVariable(i)) {
                     if (node instanceof Tree.AssignOp) {
                         node.addError("non-variable values must be specified using \"=\": " +
                                         member.getName(), 803);
@@ -257,29 +333,33 @@ public class SpecificationVisitor extends Visitor {
         Tree.Term m = that.getBaseMemberExpression();
         if (m instanceof Tree.BaseMemberExpression) {
 	        Declaration member = getBaseDeclaration((Tree.BaseMemberExpression)m, null);
-	        if (member==declaration) {
+	        int i = ordinal(member);
+	        if (i>=0) {
 	            that.getSpecifierExpression().visit(this);
 	            /*if (!declared) {
 	                m.addError("not yet declared: " + 
 	                        m.getIdentifier().getText());
 	            }
-	            else*/ if (isVariable()) {
+	            else*/ if (isVariable(i)) {
 	                that.getSpecifierExpression()
 	                        .addError("variable values must be assigned using \":=\": " +
 	                            member.getName(), 802);
 	            }
-	            else if (cannotSpecify) {
+	            else if (cannotSpecify.get(i)) {
 	                that.addError("cannot specify value from here: " + 
 	                        member.getName());
 	            }
-	            else if (specified.possibly) {
+	            else if (specified.possibly.get(i)) {
 	                that.addError("not definitely unspecified: " + 
 	                        member.getName());
 	            }
 	            else {
-	                specify();
+	                specify(i);
 	                m.visit(this);
 	            }
+	            //for the other declarations, this is just
+	            //a statement
+	            endStatement(that, i);
 	        }
 	        else {
 	            super.visit(that);
@@ -292,48 +372,51 @@ public class SpecificationVisitor extends Visitor {
     
     @Override
     public void visit(Tree.Declaration that) {
-        if (that.getDeclarationModel()==declaration) {
-            beginDisabledSpecificationScope();
-            super.visit(that);
-            declare();
-            endDisabledSpecificationScope(false);
-        }
-        else {
-            boolean c = beginDisabledSpecificationScope();
-            boolean d = beginDeclarationScope();
-            SpecificationState as = beginSpecificationScope();
-            super.visit(that);
-            endDisabledSpecificationScope(c);
-            endDeclarationScope(d);
-            endSpecificationScope(as);
-        }
+        visitDeclaration(that, that.getDeclarationModel());
     }
 
     @Override
     public void visit(Tree.TypedArgument that) {
-        if (that.getDeclarationModel()==declaration) {
-            beginDisabledSpecificationScope();
-            super.visit(that);
-            declare();
-            endDisabledSpecificationScope(false);
+        visitDeclaration(that, that.getDeclarationModel());
+    }
+    
+    private void visitDeclaration(Node that, Declaration model) {
+        //the state of the declaration itself flows
+        //through its own definition, whereas the state
+        //of every other declaration is restored after it
+        int i = ordinal(model);
+        BitSet c = beginDisabledSpecificationScope();
+        BitSet d = beginDeclarationScope();
+        SpecificationState as = beginSpecificationScope();
+        if (i>=0) {
+            copyBit(as.exited, specified.exited, i);
+        }
+        if (that instanceof Tree.Declaration) {
+            super.visit((Tree.Declaration) that);
         }
         else {
-            boolean c = beginDisabledSpecificationScope();
-            boolean d = beginDeclarationScope();
-            SpecificationState as = beginSpecificationScope();
-            super.visit(that);
-            endDisabledSpecificationScope(c);
-            endDeclarationScope(d);
-            endSpecificationScope(as);
+            super.visit((Tree.TypedArgument) that);
         }
+        if (i>=0) {
+            copyBit(specified.definitely, as.definitely, i);
+            copyBit(specified.possibly, as.possibly, i);
+            copyBit(specified.exited, as.exited, i);
+            c.clear(i);
+            d.set(i);
+        }
+        endDisabledSpecificationScope(c);
+        endDeclarationScope(d);
+        endSpecificationScope(as);
     }
     
     @Override
     public void visit(Tree.MethodDeclaration that) {
         super.visit(that);
-        if (that.getDeclarationModel()==declaration) {
+        Declaration declaration = that.getDeclarationModel();
+        int i = ordinal(declaration);
+        if (i>=0) {
             if (that.getSpecifierExpression()!=null) {
-                specify();
+                specify(i);
             }
             else if (declaration.isToplevel()) {
                 that.addError("toplevel function must be specified: " +
@@ -346,55 +429,60 @@ public class SpecificationVisitor extends Visitor {
         }
     }
     
+    private void declareAndSpecify(Declaration model) {
+        int i = ordinal(model);
+        if (i>=0) {
+            declare(i);
+            specify(i);
+        }
+    }
+    
+    private void specify(Declaration model) {
+        int i = ordinal(model);
+        if (i>=0) {
+            specify(i);
+        }
+    }
+    
     @Override
     public void visit(Tree.MethodDefinition that) {
-        if (that.getDeclarationModel()==declaration) {
-            declare();
-            specify();
-        }
+        declareAndSpecify(that.getDeclarationModel());
         super.visit(that);
     }
     
     @Override
     public void visit(Tree.MethodArgument that) {
-        if (that.getDeclarationModel()==declaration) {
-            declare();
-            specify();
-        }
+        declareAndSpecify(that.getDeclarationModel());
         super.visit(that);
     }
     
     @Override
     public void visit(Tree.Variable that) {
         super.visit(that);
-        if (that.getDeclarationModel()==declaration) {
-            specify();
-        }
+        specify(that.getDeclarationModel());
     }
     
     @Override
     public void visit(Tree.Parameter that) {
         super.visit(that);
-        if (that.getDeclarationModel()==declaration) {
-            specify();
-        }
+        specify(that.getDeclarationModel());
     }
     
     @Override
     public void visit(Tree.TypeParameterDeclaration that) {
         super.visit(that);
-        if (that.getDeclarationModel()==declaration) {
-            specify();
-        }
+        specify(that.getDeclarationModel());
     }
     
     @Override
     public void visit(Tree.AttributeDeclaration that) {
         super.visit(that);        
-        if (that.getDeclarationModel()==declaration) {
+        Declaration declaration = that.getDeclarationModel();
+        int i = ordinal(declaration);
+        if (i>=0) {
             SpecifierOrInitializerExpression sie = that.getSpecifierOrInitializerExpression();
             if (sie!=null) {
-                if (isVariable()) {
+                if (isVariable(i)) {
                     if (sie instanceof Tree.SpecifierExpression) {
                         sie.addError("variable values must be initialized using \":=\": " + 
                                 declaration.getName(), 802);
@@ -406,10 +494,10 @@ public class SpecificationVisitor extends Visitor {
                                 declaration.getName(), 801);
                     }
                 }
-                specify();
+                specify(i);
             }
             else if (declaration.isToplevel()) {
-                if (isVariable()) {
+                if (isVariable(i)) {
                     that.addError("toplevel variable value must be initialized: " +
                             declaration.getName());
                 }
@@ -423,71 +511,74 @@ public class SpecificationVisitor extends Visitor {
     
     @Override
     public void visit(Tree.AttributeGetterDefinition that) {
-        if (that.getDeclarationModel()==declaration) {
-            declare();
-            specify();
-        }
+        declareAndSpecify(that.getDeclarationModel());
         super.visit(that);        
     }
     
     @Override
     public void visit(Tree.AttributeSetterDefinition that) {
-        if (that.getDeclarationModel()==declaration ||
-            that.getDeclarationModel().getParameter()==declaration) {
-            declare();
-            specify();
-        }
+        declareAndSpecify(that.getDeclarationModel());
+        declareAndSpecify(that.getDeclarationModel().getParameter());
         super.visit(that);        
     }
     
     @Override
     public void visit(Tree.AttributeArgument that) {
-        if (that.getDeclarationModel()==declaration) {
-            declare();
-            specify();
-        }
+        declareAndSpecify(that.getDeclarationModel());
         super.visit(that);        
     }
     
     @Override
     public void visit(Tree.ObjectDefinition that) {
-        if (that.getDeclarationModel()==declaration) {
-            declare();
-            specify();
-        }
+        declareAndSpecify(that.getDeclarationModel());
         super.visit(that);
     }
     
     @Override
     public void visit(Tree.ObjectArgument that) {
-        if (that.getDeclarationModel()==declaration) {
-            declare();
-            specify();
-        }
+        declareAndSpecify(that.getDeclarationModel());
         super.visit(that);
     }
     
     @Override
     public void visit(Tree.AnyClass that) {
-        if (that.getDeclarationModel()==declaration) {
-            declare();
-            specify();
-        }
+        declareAndSpecify(that.getDeclarationModel());
         super.visit(that);
     }
     
     @Override
     public void visit(Tree.ClassBody that) {
-        Tree.Statement les = getLastExecutableStatement(that);
-        Tree.Declaration d = getDeclaration(that);
-        if (d!=null) {
-            declarationSection = les==null;
-            lastExecutableStatement = les;
+        //the declarations of the class body
+        BitSet members = new BitSet();
+        Map<Integer,Tree.Declaration> nodes = new HashMap<Integer,Tree.Declaration>();
+        for (Tree.Statement s: that.getStatements()) {
+            if (s instanceof Tree.Declaration) {
+                Tree.Declaration d = (Tree.Declaration) s;
+                int i = ordinal(d.getDeclarationModel());
+                if (i>=0 && !members.get(i)) {
+                    members.set(i);
+                    nodes.put(i, d);
+                }
+            }
+        }
+        if (!members.isEmpty()) {
+            Tree.Statement les = getLastExecutableStatement(that);
+            if (les==null) {
+                declarationSection.or(members);
+            }
+            else {
+                declarationSection.andNot(members);
+                lastExecutableStatements.put(les, members);
+            }
             super.visit(that);        
-            declarationSection = false;
-            lastExecutableStatement = null;
-            if (isSharedDeclarationUninitialized()) {
-                d.addError("must be definitely specified by class initializer");
+            declarationSection.andNot(members);
+            if (les!=null) {
+                lastExecutableStatements.remove(les);
+            }
+            for (int i=members.nextSetBit(0); i>=0; i=members.nextSetBit(i+1)) {
+                if (isSharedDeclarationUninitialized(i)) {
+                    nodes.get(i).addError("must be definitely specified by class initializer");
+                }
             }
         }
         else {
@@ -495,48 +586,53 @@ public class SpecificationVisitor extends Visitor {
         }
     }
 
-    private Tree.Declaration getDeclaration(Tree.ClassBody that) {
-        for (Tree.Statement s: that.getStatements()) {
-            if (s instanceof Tree.Declaration) {
-                Tree.Declaration d = (Tree.Declaration) s;
-                if (d.getDeclarationModel()==declaration) {
-                    return d;
-                }
-            }
-        }
-        return null;
-    }
-    
     @Override
     public void visit(Tree.Statement that) {
         super.visit(that);
-        declarationSection = declarationSection || that==lastExecutableStatement;
+        endStatement(that, -1);
+    }
+    
+    /**
+     * The declarations in a class body enter its declaration
+     * section after its last executable statement, except 
+     * for the given declaration, if any.
+     */
+    private void endStatement(Tree.Statement that, int except) {
+        BitSet members = lastExecutableStatements.get(that);
+        if (members!=null) {
+            boolean excepted = except>=0 && members.get(except) && 
+                    !declarationSection.get(except);
+            declarationSection.or(members);
+            if (excepted) {
+                declarationSection.clear(except);
+            }
+        }
     }
     
     @Override
     public void visit(Tree.AnyInterface that) {
-        if (that.getDeclarationModel()==declaration) {
-            declare();
-            specify();
-        }
+        declareAndSpecify(that.getDeclarationModel());
         super.visit(that);        
     }
     
     public void visit(Tree.Return that) {
         super.visit(that);
-        if (!cannotSpecify) {
-            if (isSharedDeclarationUninitialized()) {
-                that.addError(declaration.getName() + 
+        for (int i=cannotSpecify.nextClearBit(0); 
+                i<declarations.size(); 
+                i=cannotSpecify.nextClearBit(i+1)) {
+            if (isSharedDeclarationUninitialized(i)) {
+                that.addError(declarations.get(i).getName() + 
                         " must be definitely specified by class initializer");
             }
         }
         exit();
     }
 
-    private boolean isSharedDeclarationUninitialized() {
+    private boolean isSharedDeclarationUninitialized(int i) {
+        Declaration declaration = declarations.get(i);
         return (declaration.isShared() || declaration.isCaptured()) && 
                 !declaration.isFormal() && 
-                !specified.definitely;
+                !specified.definitely.get(i);
     }
     
     @Override
@@ -560,80 +656,83 @@ public class SpecificationVisitor extends Visitor {
     @Override
     public void visit(Tree.IfStatement that) {
         
-        boolean d = beginDeclarationScope();
+        BitSet d = beginDeclarationScope();
         SpecificationState as = beginSpecificationScope();
         if (that.getIfClause()!=null) {
             that.getIfClause().visit(this);
         }
-        boolean definitelyAssignedByIfClause = specified.definitely || specified.exited;
-        boolean possiblyAssignedByIfClause = specified.possibly;
+        BitSet definitelyAssignedByIfClause = specified.definitelyOrExited();
+        BitSet possiblyAssignedByIfClause = specified.possibly;
         endDeclarationScope(d);
         endSpecificationScope(as);
         
-        boolean definitelyAssignedByElseClause;
-        boolean possiblyAssignedByElseClause;
+        BitSet definitelyAssignedByElseClause;
+        BitSet possiblyAssignedByElseClause;
         if (that.getElseClause()!=null) {
             d = beginDeclarationScope();
             as = beginSpecificationScope();
             that.getElseClause().visit(this);
-            definitelyAssignedByElseClause = specified.definitely || specified.exited;
+            definitelyAssignedByElseClause = specified.definitelyOrExited();
             possiblyAssignedByElseClause = specified.possibly;
             endDeclarationScope(d);
             endSpecificationScope(as);
         }
         else {
-            definitelyAssignedByElseClause = false;
-            possiblyAssignedByElseClause = false;
+            definitelyAssignedByElseClause = new BitSet();
+            possiblyAssignedByElseClause = new BitSet();
         }
         
-        specified.definitely = specified.definitely || (definitelyAssignedByIfClause && definitelyAssignedByElseClause);
-        specified.possibly = specified.possibly || possiblyAssignedByIfClause || possiblyAssignedByElseClause;
+        definitelyAssignedByIfClause.and(definitelyAssignedByElseClause);
+        specified.definitely.or(definitelyAssignedByIfClause);
+        specified.possibly.or(possiblyAssignedByIfClause);
+        specified.possibly.or(possiblyAssignedByElseClause);
     }
     
     @Override
     public void visit(Tree.TryCatchStatement that) {
-        boolean d = beginDeclarationScope();
+        BitSet d = beginDeclarationScope();
         SpecificationState as = beginSpecificationScope();
         if( that.getTryClause()!=null ) {
             that.getTryClause().visit(this);
         }
-        boolean definitelyAssignedByTryClause = specified.definitely || specified.exited;
-        boolean possiblyAssignedByTryClause = specified.possibly;
+        BitSet definitelyAssignedByTryClause = specified.definitelyOrExited();
+        BitSet possiblyAssignedByTryClause = specified.possibly;
         endDeclarationScope(d);
         endSpecificationScope(as);
-        specified.possibly = specified.possibly || possiblyAssignedByTryClause;
+        specified.possibly.or(possiblyAssignedByTryClause);
         
-        boolean definitelyAssignedByEveryCatchClause = true;
-        boolean possiblyAssignedBySomeCatchClause = false;
+        BitSet definitelyAssignedByEveryCatchClause = all();
+        BitSet possiblyAssignedBySomeCatchClause = new BitSet();
         for (Tree.CatchClause cc: that.getCatchClauses()) {
             d = beginDeclarationScope();
             as = beginSpecificationScope();
             cc.visit(this);
-            definitelyAssignedByEveryCatchClause = definitelyAssignedByEveryCatchClause && (specified.definitely || specified.exited);
-            possiblyAssignedBySomeCatchClause = possiblyAssignedBySomeCatchClause || specified.possibly;
+            definitelyAssignedByEveryCatchClause.and(specified.definitelyOrExited());
+            possiblyAssignedBySomeCatchClause.or(specified.possibly);
             endDeclarationScope(d);
             endSpecificationScope(as);
         }
-        specified.possibly = specified.possibly || possiblyAssignedBySomeCatchClause;
+        specified.possibly.or(possiblyAssignedBySomeCatchClause);
         
-        boolean definitelyAssignedByFinallyClause;
-        boolean possiblyAssignedByFinallyClause;
+        BitSet definitelyAssignedByFinallyClause;
+        BitSet possiblyAssignedByFinallyClause;
         if (that.getFinallyClause()!=null) {
             d = beginDeclarationScope();
             as = beginSpecificationScope();
             that.getFinallyClause().visit(this);
-            definitelyAssignedByFinallyClause = specified.definitely || specified.exited;
+            definitelyAssignedByFinallyClause = specified.definitelyOrExited();
             possiblyAssignedByFinallyClause = specified.possibly;
             endDeclarationScope(d);
             endSpecificationScope(as);
         }
         else {
-            definitelyAssignedByFinallyClause = false;
-            possiblyAssignedByFinallyClause = false;
+            definitelyAssignedByFinallyClause = new BitSet();
+            possiblyAssignedByFinallyClause = new BitSet();
         }
-        specified.possibly = specified.possibly || possiblyAssignedByFinallyClause;
-        specified.definitely = specified.definitely || definitelyAssignedByFinallyClause
-                || (definitelyAssignedByTryClause && definitelyAssignedByEveryCatchClause);
+        specified.possibly.or(possiblyAssignedByFinallyClause);
+        specified.definitely.or(definitelyAssignedByFinallyClause);
+        definitelyAssignedByTryClause.and(definitelyAssignedByEveryCatchClause);
+        specified.definitely.or(definitelyAssignedByTryClause);
     }
     
     @Override
@@ -641,51 +740,46 @@ public class SpecificationVisitor extends Visitor {
         if (that.getSwitchClause()!=null) {
             that.getSwitchClause().visit(this);
         }
-        boolean definitelyAssignedByEveryCaseClause = true;
-        boolean possiblyAssignedBySomeCaseClause = false;
+        BitSet definitelyAssignedByEveryCaseClause = all();
+        BitSet possiblyAssignedBySomeCaseClause = new BitSet();
         
         for (Tree.CaseClause cc: that.getSwitchCaseList().getCaseClauses()) {
-            boolean d = beginDeclarationScope();
+            BitSet d = beginDeclarationScope();
             SpecificationState as = beginSpecificationScope();
             cc.visit(this);
-            definitelyAssignedByEveryCaseClause = definitelyAssignedByEveryCaseClause && (specified.definitely || specified.exited);
-            possiblyAssignedBySomeCaseClause = possiblyAssignedBySomeCaseClause || specified.possibly;
+            definitelyAssignedByEveryCaseClause.and(specified.definitelyOrExited());
+            possiblyAssignedBySomeCaseClause.or(specified.possibly);
             endDeclarationScope(d);
             endSpecificationScope(as);
         }
         
         if (that.getSwitchCaseList().getElseClause()!=null) {
-            boolean d = beginDeclarationScope();
+            BitSet d = beginDeclarationScope();
             SpecificationState as = beginSpecificationScope();
             that.getSwitchCaseList().getElseClause().visit(this);
-            definitelyAssignedByEveryCaseClause = definitelyAssignedByEveryCaseClause && (specified.definitely || specified.exited);
-            possiblyAssignedBySomeCaseClause = possiblyAssignedBySomeCaseClause || specified.possibly;
+            definitelyAssignedByEveryCaseClause.and(specified.definitelyOrExited());
+            possiblyAssignedBySomeCaseClause.or(specified.possibly);
             endDeclarationScope(d);
             endSpecificationScope(as);
         }
 
-        specified.possibly = specified.possibly || possiblyAssignedBySomeCaseClause;
-        specified.definitely = specified.definitely || definitelyAssignedByEveryCaseClause;
+        specified.possibly.or(possiblyAssignedBySomeCaseClause);
+        specified.definitely.or(definitelyAssignedByEveryCaseClause);
     }
     
     @Override
     public void visit(Tree.WhileStatement that) {
-        boolean d = beginDeclarationScope();
+        BitSet d = beginDeclarationScope();
         SpecificationState as = beginSpecificationScope();
-        if (isVariable()) {
-            that.getWhileClause().visit(this);
-        }
-        else {
-            boolean c = beginDisabledSpecificationScope();
-            that.getWhileClause().visit(this);
-            endDisabledSpecificationScope(c);
-        }
-        boolean possiblyAssignedByWhileClause = specified.possibly;
+        BitSet c = beginDisabledNonVariableSpecificationScope();
+        that.getWhileClause().visit(this);
+        endDisabledNonVariableSpecificationScope(c);
+        BitSet possiblyAssignedByWhileClause = specified.possibly;
         
         endDeclarationScope(d);
         endSpecificationScope(as);
         
-        specified.possibly = specified.possibly || possiblyAssignedByWhileClause;
+        specified.possibly.or(possiblyAssignedByWhileClause);
     }
     
     /*@Override
@@ -706,42 +800,39 @@ public class SpecificationVisitor extends Visitor {
 
     @Override
     public void visit(Tree.ForStatement that) {
-        boolean d = beginDeclarationScope();
+        BitSet d = beginDeclarationScope();
         SpecificationState as = beginSpecificationScope();
         if (that.getForClause()!=null) {
-            if (isVariable()) {
-                that.getForClause().visit(this);
-            }
-            else {
-                boolean c = beginDisabledSpecificationScope();
-                that.getForClause().visit(this);
-                endDisabledSpecificationScope(c);
-            }
+            BitSet c = beginDisabledNonVariableSpecificationScope();
+            that.getForClause().visit(this);
+            endDisabledNonVariableSpecificationScope(c);
         }
-        boolean possiblyExitedFromForClause = specified.exited;
-        boolean possiblyAssignedByForClause = specified.possibly;
+        BitSet possiblyExitedFromForClause = specified.exited;
+        BitSet possiblyAssignedByForClause = specified.possibly;
 
         endDeclarationScope(d);
         endSpecificationScope(as);
 
-        boolean definitelyAssignedByElseClause;
-        boolean possiblyAssignedByElseClause;
+        BitSet definitelyAssignedByElseClause;
+        BitSet possiblyAssignedByElseClause;
         if (that.getElseClause()!=null) {
             d = beginDeclarationScope();
             as = beginSpecificationScope();
             that.getElseClause().visit(this);
-            definitelyAssignedByElseClause = specified.definitely || specified.exited;
+            definitelyAssignedByElseClause = specified.definitelyOrExited();
             possiblyAssignedByElseClause = specified.possibly;
             endDeclarationScope(d);
             endSpecificationScope(as);
         }
         else {
-            definitelyAssignedByElseClause = false;
-            possiblyAssignedByElseClause = false;
+            definitelyAssignedByElseClause = new BitSet();
+            possiblyAssignedByElseClause = new BitSet();
         }
         
-        specified.definitely = specified.definitely || (!possiblyExitedFromForClause && definitelyAssignedByElseClause);
-        specified.possibly = specified.possibly || possiblyAssignedByForClause || possiblyAssignedByElseClause;
+        definitelyAssignedByElseClause.andNot(possiblyExitedFromForClause);
+        specified.definitely.or(definitelyAssignedByElseClause);
+        specified.possibly.or(possiblyAssignedByForClause);
+        specified.possibly.or(possiblyAssignedByElseClause);
     }
       
 }
@@ -1,5 +1,11 @@
 package com.redhat.ceylon.compiler.typechecker.analyzer;
 
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
 import com.redhat.ceylon.compiler.typechecker.model.Declaration;
 import com.redhat.ceylon.compiler.typechecker.model.Setter;
 import com.redhat.ceylon.compiler.typechecker.model.TypedDeclaration;
@@ -22,20 +28,57 @@ import com.redhat.ceylon.compiler.typechecker.tree.Visitor;
  */
 public class ValueVisitor extends Visitor {
     
-    private TypedDeclaration declaration;
-    private boolean inCapturingScope = false;
+    private final Map<Declaration,Integer> ordinals;
+    private final Map<Declaration,BitSet> declarationsByScope;
+    private BitSet inCapturingScope = new BitSet();
+    private final int size;
     
     public ValueVisitor(TypedDeclaration declaration) {
-        this.declaration = declaration;
+        this(Collections.singletonList(declaration));
+    }
+    
+    /**
+     * Determine which of the given values are captured, 
+     * in a single traversal. 
+     */
+    public ValueVisitor(List<TypedDeclaration> declarations) {
+        size = declarations.size();
+        ordinals = new IdentityHashMap<Declaration,Integer>(size);
+        declarationsByScope = new IdentityHashMap<Declaration,BitSet>();
+        for (int i=0; i<size; i++) {
+            TypedDeclaration d = declarations.get(i);
+            if (!ordinals.containsKey(d)) {
+                ordinals.put(d, i);
+            }
+            addToScope(d, i);
+            if (d.getContainer() instanceof Declaration) {
+                addToScope((Declaration) d.getContainer(), i);
+            }
+        }
+    }
+
+    private void addToScope(Declaration scope, int i) {
+        BitSet declarations = declarationsByScope.get(scope);
+        if (declarations==null) {
+            declarations = new BitSet();
+            declarationsByScope.put(scope, declarations);
+        }
+        declarations.set(i);
+    }
+    
+    private int ordinal(Declaration d) {
+        Integer i = ordinals.get(d);
+        return i==null ? -1 : i;
     }
     
-    private boolean enterCapturingScope() {
-        boolean cs = inCapturingScope;
-        inCapturingScope = true;
+    private BitSet enterCapturingScope() {
+        BitSet cs = inCapturingScope;
+        inCapturingScope = new BitSet();
+        inCapturingScope.set(0, size);
         return cs;
     }
     
-    private void exitCapturingScope(boolean cs) {
+    private void exitCapturingScope(BitSet cs) {
         inCapturingScope = cs;
     }
     
@@ -48,15 +91,18 @@ public class ValueVisitor extends Visitor {
     }
 
     private void visitReference(Tree.Primary that) {
-        if (inCapturingScope) {
-            capture(that);
+        if (that instanceof Tree.MemberOrTypeExpression) {
+            int i = ordinal(((Tree.MemberOrTypeExpression) that).getDeclaration());
+            if (i>=0 && inCapturingScope.get(i)) {
+                capture(that);
+            }
         }
     }
 
     private void capture(Tree.Primary that) {
         if (that instanceof Tree.MemberOrTypeExpression) {
             TypedDeclaration d = (TypedDeclaration) ((Tree.MemberOrTypeExpression) that).getDeclaration();
-            if (d==declaration) {
+            if (ordinal(d)>=0) {
                 if (d instanceof Value) {
                     ((Value) d).setCaptured(true);
                 }
@@ -86,59 +132,66 @@ public class ValueVisitor extends Visitor {
     }
 
     @Override public void visit(Tree.Declaration that) {
+        //the declaration itself, the declarations it 
+        //contains, and the getter of a setter
         Declaration dm = that.getDeclarationModel();
-        if (dm==declaration.getContainer() 
-                || dm==declaration
-                || (dm instanceof Setter && ((Setter) dm).getGetter()==declaration)) {
-            inCapturingScope = false;
+        BitSet declarations = declarationsByScope.get(dm);
+        if (declarations!=null) {
+            inCapturingScope.andNot(declarations);
+        }
+        if (dm instanceof Setter) {
+            int i = ordinal(((Setter) dm).getGetter());
+            if (i>=0) {
+                inCapturingScope.clear(i);
+            }
         }
         super.visit(that);
     }
     
     @Override public void visit(Tree.ClassDefinition that) {
-        boolean cs = enterCapturingScope();
+        BitSet cs = enterCapturingScope();
         super.visit(that);
         exitCapturingScope(cs);
     }
     
     @Override public void visit(Tree.ObjectDefinition that) {
-        boolean cs = enterCapturingScope();
+        BitSet cs = enterCapturingScope();
         super.visit(that);
         exitCapturingScope(cs);
     }
     
     @Override public void visit(Tree.MethodDefinition that) {
-        boolean cs = enterCapturingScope();
+        BitSet cs = enterCapturingScope();
         super.visit(that);
         exitCapturingScope(cs);
     }
     
     @Override public void visit(Tree.AttributeGetterDefinition that) {
-        boolean cs = enterCapturingScope();
+        BitSet cs = enterCapturingScope();
         super.visit(that);
         exitCapturingScope(cs);
     }
     
     @Override public void visit(Tree.AttributeSetterDefinition that) {
-        boolean cs = enterCapturingScope();
+        BitSet cs = enterCapturingScope();
         super.visit(that);
         exitCapturingScope(cs);
     }
     
     @Override public void visit(Tree.ObjectArgument that) {
-        boolean cs = enterCapturingScope();
+        BitSet cs = enterCapturingScope();
         super.visit(that);
         exitCapturingScope(cs);
     }
     
     @Override public void visit(Tree.MethodArgument that) {
-        boolean cs = enterCapturingScope();
+        BitSet cs = enterCapturingScope();
         super.visit(that);
         exitCapturingScope(cs);
     }
     
     @Override public void visit(Tree.AttributeArgument that) {
-        boolean cs = enterCapturingScope();
+        BitSet cs = enterCapturingScope();
         super.visit(that);
         exitCapturingScope(cs);
     }
@@ -3,10 +3,13 @@ package com.redhat.ceylon.compiler.typechecker.context;
 import java.util.LinkedList;
 import java.util.List;
 
+import com.redhat.ceylon.compiler.typechecker.analyzer.DependencyPrefetcher;
 import com.redhat.ceylon.compiler.typechecker.io.ArtifactProvider;
 import com.redhat.ceylon.compiler.typechecker.io.VFS;
 import com.redhat.ceylon.compiler.typechecker.io.VFSArtifactProvider;
 import com.redhat.ceylon.compiler.typechecker.model.Modules;
+import com.redhat.ceylon.compiler.typechecker.parser.ParseBudget;
+import com.redhat.ceylon.compiler.typechecker.parser.ParseCache;
 
 /**
  * Keep compiler contextual information like the package stack and the current module
@@ -18,6 +21,9 @@ public class Context {
     private List<ArtifactProvider> artifactProviders;
     private Modules modules;
     private VFS vfs;
+    private ParseCache parseCache;
+    private ParseBudget parseBudget = ParseBudget.DEFAULT;
+    private DependencyPrefetcher dependencyPrefetcher;
 
     public Context(List<ArtifactProvider> artifactProviders, VFS vfs) {
         this.vfs = vfs;
@@ -42,4 +48,40 @@ public class Context {
     public VFS getVfs() {
         return vfs;
     }
+
+    /**
+     * The cache of parsed source files, or null if parsed
+     * files are not cached.
+     */
+    public ParseCache getParseCache() {
+        return parseCache;
+    }
+
+    public void setParseCache(ParseCache parseCache) {
+        this.parseCache = parseCache;
+    }
+
+    /**
+     * The limit on the work done by the parser for each
+     * source file.
+     */
+    public ParseBudget getParseBudget() {
+        return parseBudget;
+    }
+
+    public void setParseBudget(ParseBudget parseBudget) {
+        this.parseBudget = parseBudget;
+    }
+
+    /**
+     * The prefetcher of the dependencies of the modules
+     * being compiled, or null if they are not prefetched.
+     */
+    public DependencyPrefetcher getDependencyPrefetcher() {
+        return dependencyPrefetcher;
+    }
+
+    public void setDependencyPrefetcher(DependencyPrefetcher dependencyPrefetcher) {
+        this.dependencyPrefetcher = dependencyPrefetcher;
+    }
 }
@@ -0,0 +1,273 @@
+package com.redhat.ceylon.compiler.typechecker.context;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+
+import com.redhat.ceylon.compiler.typechecker.model.Package;
+
+/**
+ * Runs a type checking phase over a list of phased units,
+ * either sequentially or concurrently on a fixed number of
+ * threads. Each call to one of the execute methods is a
+ * barrier: it returns only once the phase has been run
+ * for every unit.
+ *
+ * Errors are always attached to the nodes of the unit
+ * being processed, so reporting them by walking the units
+ * in order gives the same output no matter how many
+ * threads are used.
+ */
+public class PhaseExecutor {
+
+    /**
+     * A type checking phase, run once per unit.
+     */
+    public static abstract class Phase {
+        public abstract void run(PhasedUnit pu);
+    }
+
+    private final ExecutorService executor;
+    private final int parallelism;
+
+    /**
+     * @param parallelism the number of threads to use, a
+     *        value of 1 or less means sequential execution
+     */
+    public PhaseExecutor(int parallelism) {
+        this.parallelism = Math.max(parallelism, 1);
+        if (parallelism>1) {
+            executor = Executors.newFixedThreadPool(parallelism);
+        }
+        else {
+            executor = null;
+        }
+    }
+
+    public boolean isParallel() {
+        return executor!=null;
+    }
+
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    /**
+     * Run the phase for each unit, concurrently if this
+     * executor is parallel.
+     */
+    public void execute(List<PhasedUnit> units, final Phase phase) {
+        if (executor==null) {
+            for (PhasedUnit pu: units) {
+                phase.run(pu);
+            }
+        }
+        else {
+            List<Callable<Void>> tasks = new ArrayList<Callable<Void>>(units.size());
+            for (final PhasedUnit pu: units) {
+                tasks.add(new Callable<Void>() {
+                    @Override public Void call() {
+                        phase.run(pu);
+                        return null;
+                    }
+                });
+            }
+            invokeAll(tasks);
+        }
+    }
+
+    /**
+     * Run the phase for each unit, processing the units
+     * of a package sequentially, in the given order, and
+     * different packages concurrently. Used for phases
+     * which add members to packages, so that the members
+     * of each package are always in the same order.
+     */
+    public void executeByPackage(List<PhasedUnit> units, final Phase phase) {
+        if (executor==null) {
+            execute(units, phase);
+        }
+        else {
+            Map<Package, List<PhasedUnit>> unitsByPackage =
+                    new LinkedHashMap<Package, List<PhasedUnit>>();
+            for (PhasedUnit pu: units) {
+                List<PhasedUnit> list = unitsByPackage.get(pu.getPackage());
+                if (list==null) {
+                    list = new ArrayList<PhasedUnit>();
+                    unitsByPackage.put(pu.getPackage(), list);
+                }
+                list.add(pu);
+            }
+            List<Callable<Void>> tasks = new ArrayList<Callable<Void>>(unitsByPackage.size());
+            for (final List<PhasedUnit> list: unitsByPackage.values()) {
+                tasks.add(new Callable<Void>() {
+                    @Override public Void call() {
+                        for (PhasedUnit pu: list) {
+                            phase.run(pu);
+                        }
+                        return null;
+                    }
+                });
+            }
+            invokeAll(tasks);
+        }
+    }
+
+    /**
+     * Run the phase for each unit of the graph, starting
+     * a batch of units as soon as all the batches it
+     * depends upon have been processed, so that unrelated
+     * parts of the graph are processed concurrently. The
+     * units of a batch are processed sequentially. When
+     * this executor is not parallel, the batches are run
+     * in the order given by the graph.
+     */
+    public void executeInDependencyOrder(UnitDependencyGraph graph, final Phase phase) {
+        List<UnitDependencyGraph.Batch> batches = graph.getBatches();
+        if (executor==null) {
+            for (UnitDependencyGraph.Batch batch: batches) {
+                for (PhasedUnit pu: batch.getUnits()) {
+                    phase.run(pu);
+                }
+            }
+        }
+        else {
+            CompletionService<UnitDependencyGraph.Batch> completion = 
+                    new ExecutorCompletionService<UnitDependencyGraph.Batch>(executor);
+            Map<UnitDependencyGraph.Batch, Integer> remaining = 
+                    new IdentityHashMap<UnitDependencyGraph.Batch, Integer>();
+            int running = 0;
+            for (UnitDependencyGraph.Batch batch: batches) {
+                if (batch.getDependencies()==0) {
+                    submit(completion, batch, phase);
+                    running++;
+                }
+                else {
+                    remaining.put(batch, batch.getDependencies());
+                }
+            }
+            while (running>0) {
+                UnitDependencyGraph.Batch done;
+                try {
+                    done = getResult(completion.take());
+                }
+                catch (InterruptedException e) {
+                    throw interrupted(e);
+                }
+                running--;
+                for (UnitDependencyGraph.Batch dependent: done.getDependents()) {
+                    int count = remaining.get(dependent)-1;
+                    if (count==0) {
+                        remaining.remove(dependent);
+                        submit(completion, dependent, phase);
+                        running++;
+                    }
+                    else {
+                        remaining.put(dependent, count);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Run the given tasks concurrently, from within a phase
+     * being run by this executor, and wait for them. The
+     * calling thread itself runs every task which has not
+     * yet been started by the pool, so that it never waits
+     * for a task queued behind it.
+     */
+    public void executeNested(List<Runnable> tasks) {
+        if (executor==null) {
+            for (Runnable task: tasks) {
+                task.run();
+            }
+        }
+        else {
+            List<FutureTask<Void>> futures = new ArrayList<FutureTask<Void>>(tasks.size());
+            for (Runnable task: tasks) {
+                FutureTask<Void> future = new FutureTask<Void>(task, null);
+                futures.add(future);
+                executor.execute(future);
+            }
+            try {
+                for (FutureTask<Void> future: futures) {
+                    //does nothing if already started
+                    future.run();
+                }
+                for (FutureTask<Void> future: futures) {
+                    getResult(future);
+                }
+            }
+            catch (InterruptedException e) {
+                throw interrupted(e);
+            }
+        }
+    }
+
+    private static void submit(CompletionService<UnitDependencyGraph.Batch> completion,
+            final UnitDependencyGraph.Batch batch, final Phase phase) {
+        completion.submit(new Callable<UnitDependencyGraph.Batch>() {
+            @Override public UnitDependencyGraph.Batch call() {
+                for (PhasedUnit pu: batch.getUnits()) {
+                    phase.run(pu);
+                }
+                return batch;
+            }
+        });
+    }
+
+    private void invokeAll(List<Callable<Void>> tasks) {
+        try {
+            for (Future<Void> result: executor.invokeAll(tasks)) {
+                getResult(result);
+            }
+        }
+        catch (InterruptedException e) {
+            throw interrupted(e);
+        }
+    }
+
+    private static <T> T getResult(Future<T> result) 
+            throws InterruptedException {
+        try {
+            return result.get();
+        }
+        catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            else if (e.getCause() instanceof Error) {
+                throw (Error) e.getCause();
+            }
+            else {
+                throw new RuntimeException(e.getCause());
+            }
+        }
+    }
+
+    private static RuntimeException interrupted(InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return new RuntimeException("Interrupted while type checking", e);
+    }
+
+    /**
+     * Release the threads of this executor.
+     */
+    public void shutdown() {
+        if (executor!=null) {
+            executor.shutdownNow();
+        }
+    }
+
+}
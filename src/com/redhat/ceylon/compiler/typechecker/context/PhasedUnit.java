@@ -1,7 +1,12 @@
 package com.redhat.ceylon.compiler.typechecker.context;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import org.antlr.runtime.CommonToken;
@@ -27,8 +32,11 @@ import com.redhat.ceylon.compiler.typechecker.model.Setter;
 import com.redhat.ceylon.compiler.typechecker.model.TypeDeclaration;
 import com.redhat.ceylon.compiler.typechecker.model.TypedDeclaration;
 import com.redhat.ceylon.compiler.typechecker.model.Unit;
+import com.redhat.ceylon.compiler.typechecker.tree.CompositeVisitor;
+import com.redhat.ceylon.compiler.typechecker.tree.Node;
 import com.redhat.ceylon.compiler.typechecker.tree.Tree;
 import com.redhat.ceylon.compiler.typechecker.tree.Validator;
+import com.redhat.ceylon.compiler.typechecker.tree.Visitor;
 import com.redhat.ceylon.compiler.typechecker.util.AssertionVisitor;
 import com.redhat.ceylon.compiler.typechecker.util.PrintVisitor;
 import com.redhat.ceylon.compiler.typechecker.util.StatisticsVisitor;
@@ -47,11 +55,18 @@ public class PhasedUnit {
     private final ModuleManager moduleManager;
     private final String pathRelativeToSrcDir;
     private VirtualFile unitFile;
-    private final Set<PhasedUnit> dependentsOf = new HashSet<PhasedUnit>();
+    private final Set<PhasedUnit> dependentsOf = Collections.synchronizedSet(new HashSet<PhasedUnit>());
     private List<CommonToken> tokens;
     private boolean fullyTyped;
     private ModuleVisitor moduleVisitor;
     private VirtualFile srcDir;
+    private int reusedDeclarations;
+
+    /**
+     * The number of top level declarations a unit needs
+     * before its analysis is split between threads.
+     */
+    private static final int MIN_DECLARATIONS_TO_SPLIT = 64;
 
     public VirtualFile getSrcDir() {
         return srcDir;
@@ -67,6 +82,9 @@ public class PhasedUnit {
         this.pathRelativeToSrcDir = computeRelativePath(unitFile, srcDir);
         this.moduleManager = moduleManager;
         this.tokens = tokenStream;
+        if (cu!=null) {
+            cu.indexNodeKinds();
+        }
     }
 
     @Deprecated
@@ -119,6 +137,47 @@ public class PhasedUnit {
         DeclarationVisitor dv = new DeclarationVisitor(pkg, fileName);
         compilationUnit.visit(dv);
         unit = dv.getCompilationUnit();
+        reusedDeclarations = dv.getReusedDeclarations();
+    }
+
+    /**
+     * Validate the tree and scan its declarations in a
+     * single walk.
+     */
+    public void validateTreeAndScanDeclarations() {
+        DeclarationVisitor dv = new DeclarationVisitor(pkg, fileName);
+        compilationUnit.visit(new CompositeVisitor(new Validator(), dv));
+        unit = dv.getCompilationUnit();
+        reusedDeclarations = dv.getReusedDeclarations();
+    }
+
+    /**
+     * The number of declarations whose model was used
+     * again, since they did not change since the unit of
+     * the same file was last scanned, in the same package.
+     */
+    public int getReusedDeclarations() {
+        return reusedDeclarations;
+    }
+
+    /**
+     * Does this unit declare a class or interface alias?
+     * Only meaningful once the declarations have been 
+     * scanned.
+     */
+    public boolean declaresAliases() {
+        if (unit!=null) {
+            List<Declaration> declarations = unit.getDeclarations();
+            synchronized (declarations) {
+                for (Declaration d: declarations) {
+                    if (d instanceof TypeDeclaration && 
+                            ((TypeDeclaration) d).isAlias()) {
+                        return true;
+                    }
+                }
+            }
+        }
+        return false;
     }
 
     public void scanTypeDeclarations() {
@@ -127,32 +186,177 @@ public class PhasedUnit {
     }
 
     public void analyseTypes() {
+        analyseTypes(null);
+    }
+
+    /**
+     * Run the analysis phase. Given a parallel executor, 
+     * the top level declarations of a large unit are split
+     * between its threads, except for declarations which
+     * have an inferred type, or have members with inferred
+     * types, which other declarations may depend upon, and
+     * which are analysed first, in order.
+     */
+    public void analyseTypes(PhaseExecutor executor) {
         //System.out.println("Run analysis phase for " + fileName);
-        compilationUnit.visit(new ExpressionVisitor());
-        compilationUnit.visit(new TypeArgumentVisitor());
-        compilationUnit.visit(new TypeHierarchyVisitor());
+        List<Tree.Declaration> declarations = compilationUnit.getDeclarations();
+        if (executor==null || !executor.isParallel() || 
+                declarations.size()<MIN_DECLARATIONS_TO_SPLIT) {
+            compilationUnit.visit(new ExpressionVisitor());
+            compilationUnit.visit(new CompositeVisitor(new TypeArgumentVisitor(), 
+                    new TypeHierarchyVisitor()));
+        }
+        else {
+            List<Node> nodes = new ArrayList<Node>();
+            nodes.addAll(compilationUnit.getCompilerAnnotations());
+            if (compilationUnit.getImportList()!=null) {
+                nodes.add(compilationUnit.getImportList());
+            }
+            List<Node> otherNodes = new ArrayList<Node>();
+            for (Tree.Declaration d: declarations) {
+                Set<String> names = new HashSet<String>();
+                d.visit(new InferredDeclarationCollector(names));
+                if (!names.isEmpty()) {
+                    nodes.add(d);
+                }
+                else {
+                    otherNodes.add(d);
+                }
+            }
+            for (Node node: nodes) {
+                node.visit(new ExpressionVisitor(unit));
+            }
+            List<List<Node>> chunks = split(otherNodes, executor.getParallelism()*4);
+            List<Runnable> tasks = new ArrayList<Runnable>(chunks.size());
+            for (final List<Node> chunk: chunks) {
+                tasks.add(new Runnable() {
+                    @Override public void run() {
+                        for (Node node: chunk) {
+                            node.visit(new ExpressionVisitor(unit));
+                        }
+                    }
+                });
+            }
+            executor.executeNested(tasks);
+            nodes.addAll(otherNodes);
+            tasks.clear();
+            for (final List<Node> chunk: split(nodes, executor.getParallelism()*4)) {
+                tasks.add(new Runnable() {
+                    @Override public void run() {
+                        for (Node node: chunk) {
+                            node.visit(new CompositeVisitor(new TypeArgumentVisitor(), 
+                                    new TypeHierarchyVisitor()));
+                        }
+                    }
+                });
+            }
+            executor.executeNested(tasks);
+        }
         fullyTyped = true;
     }
 
-    public void collectUnitDependencies(PhasedUnits phasedUnits, List<PhasedUnits> phasedUnitsOfDependencies) {
+    private static List<List<Node>> split(List<Node> nodes, int count) {
+        List<List<Node>> chunks = new ArrayList<List<Node>>(count);
+        int size = (nodes.size()+count-1)/count;
+        for (int i=0; i<nodes.size(); i+=size) {
+            chunks.add(nodes.subList(i, Math.min(i+size, nodes.size())));
+        }
+        return chunks;
+    }
+
+    /**
+     * Record this unit as a dependent of the units whose
+     * declarations it refers to. Since the references to
+     * values and functions are only resolved once the unit
+     * has been analysed, a reference to a declaration with
+     * an inferred type, which is only known once its own
+     * unit has been analysed, is recorded by name, as a
+     * dependency upon every unit which declares such a 
+     * declaration with that name.
+     * 
+     * @param unitsByInferredDeclaration the units which 
+     *        declare declarations with inferred types, by
+     *        the names of the declarations
+     * @see #getInferredDeclarationNames()
+     */
+    public void collectUnitDependencies(PhasedUnits phasedUnits, 
+            List<PhasedUnits> phasedUnitsOfDependencies,
+            final Map<String, List<PhasedUnit>> unitsByInferredDeclaration) {
         //System.out.println("Run collecting unit dependencies phase for " + fileName);
         compilationUnit.visit(new DependedUponVisitor(this, phasedUnits, phasedUnitsOfDependencies));
+        compilationUnit.visit(new Visitor() {
+            @Override public void visit(Tree.BaseMemberExpression that) {
+                dependOnInferredDeclaration(that.getIdentifier());
+                super.visit(that);
+            }
+            @Override public void visit(Tree.QualifiedMemberExpression that) {
+                dependOnInferredDeclaration(that.getIdentifier());
+                super.visit(that);
+            }
+            private void dependOnInferredDeclaration(Tree.Identifier id) {
+                List<PhasedUnit> units = id==null ? null : 
+                        unitsByInferredDeclaration.get(id.getText());
+                if (units!=null) {
+                    for (PhasedUnit pu: units) {
+                        if (pu!=PhasedUnit.this) {
+                            pu.getDependentsOf().add(PhasedUnit.this);
+                        }
+                    }
+                }
+            }
+        });
+    }
+
+    /**
+     * The names of the declarations of this unit with an
+     * inferred type which other units may refer to, since
+     * they are toplevel declarations or members of classes
+     * or interfaces. Only meaningful once the declarations
+     * have been scanned.
+     */
+    public Set<String> getInferredDeclarationNames() {
+        Set<String> names = new HashSet<String>();
+        compilationUnit.visit(new InferredDeclarationCollector(names));
+        return names;
+    }
+
+    private static class InferredDeclarationCollector extends Visitor {
+        private final Set<String> names;
+        InferredDeclarationCollector(Set<String> names) {
+            this.names = names;
+        }
+        @Override public void visit(Tree.TypedDeclaration that) {
+            TypedDeclaration d = that.getDeclarationModel();
+            if (that.getType() instanceof Tree.LocalModifier && d!=null &&
+                    (d.isToplevel() || d.isClassOrInterfaceMember())) {
+                names.add(d.getName());
+            }
+            super.visit(that);
+        }
     }
     
     public void analyseFlow() {
-        //System.out.println("Validate control flow for " + fileName);
-        compilationUnit.visit(new ControlFlowVisitor());
-        //System.out.println("Validate self references for " + fileName);
-        //System.out.println("Validate specification for " + fileName);
-        for (Declaration d: unit.getDeclarations()) {
-            compilationUnit.visit(new SpecificationVisitor(d));
+        List<Declaration> declarations;
+        synchronized (unit.getDeclarations()) {
+            declarations = new ArrayList<Declaration>(unit.getDeclarations());
+        }
+        List<TypedDeclaration> values = new ArrayList<TypedDeclaration>();
+        Set<TypeDeclaration> types = Collections.newSetFromMap(
+                new IdentityHashMap<TypeDeclaration, Boolean>());
+        for (Declaration d: declarations) {
             if (d instanceof TypedDeclaration && !(d instanceof Setter)) {
-                compilationUnit.visit(new ValueVisitor((TypedDeclaration) d));
+                values.add((TypedDeclaration) d);
             }
             else if (d instanceof TypeDeclaration) {
-                compilationUnit.visit(new SelfReferenceVisitor((TypeDeclaration) d));
+                types.add((TypeDeclaration) d);
             }
         }
+        //System.out.println("Validate control flow and specification for " + fileName);
+        compilationUnit.visit(new CompositeVisitor(new ControlFlowVisitor(), 
+                new SpecificationVisitor(declarations)));
+        compilationUnit.visit(new ValueVisitor(values));
+        //System.out.println("Validate self references for " + fileName);
+        SelfReferenceVisitor.visitTypeDeclarations(compilationUnit, types);
     }
 
     public void validateRefinement() {
@@ -206,7 +410,8 @@ public class PhasedUnit {
     }
 
     /**
-     * @return the dependentsOf
+     * @return the dependentsOf, a synchronized set which
+     *         must be locked while iterating it
      */
     public Set<PhasedUnit> getDependentsOf() {
         return dependentsOf;
@@ -216,4 +421,50 @@ public class PhasedUnit {
         return tokens;
     }
 
+    /**
+     * The structural hash of each declaration of the unit
+     * at the top level, or a member of a class, interface
+     * or object, by its name, qualified by the names of
+     * the declarations which contain it, for example
+     * Outer.inner. A declaration whose hash is the same as
+     * before did not change, except perhaps in whitespace
+     * and comments. The hashes of duplicate declarations
+     * are combined. The imports are only in the structural
+     * hash of the whole compilation unit.
+     *
+     * @see Node#getStructuralHash()
+     */
+    public Map<String, Long> getDeclarationFingerprints() {
+        Map<String, Long> fingerprints = new LinkedHashMap<String, Long>();
+        addFingerprints(fingerprints, "", compilationUnit.getDeclarations());
+        return fingerprints;
+    }
+
+    private static void addFingerprints(Map<String, Long> fingerprints, 
+            String prefix, List<? extends Tree.Statement> statements) {
+        for (Tree.Statement st: statements) {
+            if (st instanceof Tree.Declaration) {
+                Tree.Declaration d = (Tree.Declaration) st;
+                String name = prefix + (d.getIdentifier()==null ? 
+                        "" : d.getIdentifier().getText());
+                long hash = d.getStructuralHash();
+                Long previous = fingerprints.get(name);
+                fingerprints.put(name, previous==null ? hash : previous*31+hash);
+                Tree.Body body = null;
+                if (d instanceof Tree.ClassDefinition) {
+                    body = ((Tree.ClassDefinition) d).getClassBody();
+                }
+                else if (d instanceof Tree.InterfaceDefinition) {
+                    body = ((Tree.InterfaceDefinition) d).getInterfaceBody();
+                }
+                else if (d instanceof Tree.ObjectDefinition) {
+                    body = ((Tree.ObjectDefinition) d).getClassBody();
+                }
+                if (body!=null) {
+                    addFingerprints(fingerprints, name + ".", body.getStatements());
+                }
+            }
+        }
+    }
+
 }
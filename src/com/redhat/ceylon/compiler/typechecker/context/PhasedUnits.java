@@ -1,23 +1,27 @@
 package com.redhat.ceylon.compiler.typechecker.context;
 
+import java.io.IOException;
+import java.nio.charset.Charset;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
-import org.antlr.runtime.ANTLRInputStream;
-import org.antlr.runtime.CommonToken;
-import org.antlr.runtime.CommonTokenStream;
-
+import com.redhat.ceylon.compiler.typechecker.analyzer.DependencyPrefetcher;
 import com.redhat.ceylon.compiler.typechecker.analyzer.ModuleManager;
 import com.redhat.ceylon.compiler.typechecker.io.VirtualFile;
+import com.redhat.ceylon.compiler.typechecker.model.Package;
 import com.redhat.ceylon.compiler.typechecker.model.Unit;
-import com.redhat.ceylon.compiler.typechecker.parser.CeylonLexer;
-import com.redhat.ceylon.compiler.typechecker.parser.CeylonParser;
-import com.redhat.ceylon.compiler.typechecker.parser.LexError;
-import com.redhat.ceylon.compiler.typechecker.parser.ParseError;
-import com.redhat.ceylon.compiler.typechecker.tree.Tree;
+import com.redhat.ceylon.compiler.typechecker.parser.DescriptorScanner;
+import com.redhat.ceylon.compiler.typechecker.parser.ParsedSource;
+import com.redhat.ceylon.compiler.typechecker.parser.ParserSession;
+import com.redhat.ceylon.compiler.typechecker.parser.VirtualFileCharStream;
 import com.redhat.ceylon.compiler.typechecker.util.ModuleManagerFactory;
 
 /**
@@ -30,6 +34,10 @@ public class PhasedUnits {
     private Map<String, PhasedUnit> phasedUnitPerRelativePath = new HashMap<String, PhasedUnit>();
     private final Context context;
     private final ModuleManager moduleManager;
+    private Charset charset = Charset.defaultCharset();
+    private final Map<VirtualFile, Charset> charsets = new HashMap<VirtualFile, Charset>();
+    private boolean skipBodies;
+    private Map<String, ParsedSource> parsedSources;
 
     public PhasedUnits(Context context) {
         this.context = context;
@@ -46,7 +54,7 @@ public class PhasedUnits {
         }
         this.moduleManager.initCoreModules();
     }
-    
+
     public void addPhasedUnit(VirtualFile unitFile, PhasedUnit phasedUnit) {
         this.phasedUnitPerFile.put(unitFile, phasedUnit);
         this.phasedUnitPerRelativePath.put(phasedUnit.getPathRelativeToSrcDir(), phasedUnit);
@@ -62,6 +70,54 @@ public class PhasedUnits {
         this.phasedUnitPerFile.remove(phasedUnit.getUnitFile());
     }
 
+    /**
+     * Sets the charset of the source files of directories
+     * which were not given a charset of their own. Defaults
+     * to the default charset of the JVM.
+     */
+    public void setCharset(Charset charset) {
+        this.charset = charset;
+    }
+
+    /**
+     * Sets the charset of the source files of the given
+     * source directory.
+     */
+    public void setCharset(VirtualFile srcDir, Charset charset) {
+        charsets.put(srcDir, charset);
+    }
+
+    public Charset getCharset(VirtualFile srcDir) {
+        Charset result = charsets.get(srcDir);
+        return result==null ? charset : result;
+    }
+
+    /**
+     * Parse only the signatures of declarations, skipping
+     * the bodies of methods, getters and setters, for units
+     * which are only scanned for declarations, and never
+     * fully type checked.
+     */
+    public void setSkipBodies(boolean skipBodies) {
+        this.skipBodies = skipBodies;
+    }
+
+    public boolean isSkipBodies() {
+        return skipBodies;
+    }
+
+    /**
+     * Use the given units, which were parsed in advance, 
+     * instead of parsing their files again. The units are
+     * keyed by the path of their file, minus the path of
+     * their source directory, and must have been parsed
+     * with the charset and the setting of skipBodies of 
+     * these units.
+     */
+    public void setParsedSources(Map<String, ParsedSource> parsedSources) {
+        this.parsedSources = parsedSources;
+    }
+
     public ModuleManager getModuleManager() {
         return moduleManager;
     }
@@ -84,80 +140,90 @@ public class PhasedUnits {
     }
 
     public void parseUnits(List<VirtualFile> srcDirectories) {
-        for (VirtualFile file : srcDirectories) {
-            parseUnit(file, file);
-        }
+        parseUnits(srcDirectories, 1);
     }
 
-    public void parseUnit(VirtualFile srcDir) {
-        parseUnit(srcDir, srcDir);
+    /**
+     * Parse the given source directories, lexing and parsing 
+     * the individual files using the given number of threads.
+     * The source files and their packages are discovered first, 
+     * so that the resulting phased units are registered in the 
+     * same order no matter how many threads are used.
+     */
+    public void parseUnits(List<VirtualFile> srcDirectories, int threads) {
+        List<SourceFile> sourceFiles = new ArrayList<SourceFile>();
+        for (VirtualFile file : srcDirectories) {
+            collectUnit(file, file, sourceFiles);
+        }
+        DependencyPrefetcher prefetcher = context.getDependencyPrefetcher();
+        if (prefetcher!=null) {
+            prefetcher.prefetch(scanModuleDescriptors(sourceFiles));
+        }
+        parseSourceFiles(sourceFiles, threads);
     }
 
-    public void parseUnit(VirtualFile file, VirtualFile srcDir) {
-        try {
-            if (file.isFolder()) {
-                //root directory is the src dir => start from here
-                for (VirtualFile subfile : file.getChildren()) {
-                    parseFileOrDirectory(subfile, srcDir);
+    /**
+     * Lex the module descriptors among the given source 
+     * files, without parsing them. A descriptor which can't
+     * be read is ignored here, and reported when it is 
+     * parsed.
+     */
+    private List<DescriptorScanner.Descriptor> scanModuleDescriptors(List<SourceFile> sourceFiles) {
+        List<DescriptorScanner.Descriptor> descriptors = new ArrayList<DescriptorScanner.Descriptor>();
+        for (SourceFile sourceFile : sourceFiles) {
+            if (ModuleManager.MODULE_FILE.equals(sourceFile.file.getName())) {
+                try {
+                    DescriptorScanner.Descriptor descriptor = DescriptorScanner.scan(
+                            new VirtualFileCharStream(sourceFile.file, getCharset(sourceFile.srcDir)));
+                    if (descriptor!=null && descriptor.isModule()) {
+                        descriptors.add(descriptor);
+                    }
+                }
+                catch (IOException e) {
+                    //ignore
                 }
             }
-            else {
-                //simple file compilation
-                //TODO is that really valid?
-                parseFileOrDirectory(file, srcDir);
-            }
-        }
-        catch (RuntimeException e) {
-            //let it go
-            throw e;
-        }
-        catch (Exception e) {
-            throw new RuntimeException("Error while parsing the source directory: " + file.toString(), e);
         }
+        return descriptors;
     }
 
-    private void parseFile(VirtualFile file, VirtualFile srcDir) throws Exception {
-        if (file.getName().endsWith(".ceylon")) {
-
-            //System.out.println("Parsing " + file.getName());
-            CeylonLexer lexer = new CeylonLexer(new ANTLRInputStream(file.getInputStream(), System.getProperty("file.encoding")));
-            CommonTokenStream tokenStream = new CommonTokenStream(lexer);
-            CeylonParser parser = new CeylonParser(tokenStream);
-            Tree.CompilationUnit cu = parser.compilationUnit();
-            List<CommonToken> tokens = new ArrayList<CommonToken>(tokenStream.getTokens().size()); 
-            tokens.addAll(tokenStream.getTokens());
-            PhasedUnit phasedUnit = new PhasedUnit(file, srcDir, cu, 
-                    moduleManager.getCurrentPackage(), moduleManager,
-                    context, tokens);
-            addPhasedUnit(file, phasedUnit);
+    public void parseUnit(VirtualFile srcDir) {
+        parseUnit(srcDir, srcDir);
+    }
 
-            List<LexError> lexerErrors = lexer.getErrors();
-            for (LexError le : lexerErrors) {
-                //System.out.println("Lexer error in " + file.getName() + ": " + le.getMessage());
-                cu.addLexError(le);
-            }
-            lexerErrors.clear();
+    public void parseUnit(VirtualFile file, VirtualFile srcDir) {
+        List<SourceFile> sourceFiles = new ArrayList<SourceFile>();
+        collectUnit(file, srcDir, sourceFiles);
+        parseSourceFiles(sourceFiles, 1);
+    }
 
-            List<ParseError> parserErrors = parser.getErrors();
-            for (ParseError pe : parserErrors) {
-                //System.out.println("Parser error in " + file.getName() + ": " + pe.getMessage());
-                cu.addParseError(pe);
+    private void collectUnit(VirtualFile file, VirtualFile srcDir, List<SourceFile> sourceFiles) {
+        if (file.isFolder()) {
+            //root directory is the src dir => start from here
+            for (VirtualFile subfile : file.getChildren()) {
+                collectFileOrDirectory(subfile, srcDir, sourceFiles);
             }
-            parserErrors.clear();
-
+        }
+        else {
+            //simple file compilation
+            //TODO is that really valid?
+            collectFileOrDirectory(file, srcDir, sourceFiles);
         }
     }
 
-    private void parseFileOrDirectory(VirtualFile file, VirtualFile srcDir) throws Exception {
+    private void collectFileOrDirectory(VirtualFile file, VirtualFile srcDir, List<SourceFile> sourceFiles) {
         if (file.isFolder()) {
-            processDirectory(file, srcDir);
+            processDirectory(file, srcDir, sourceFiles);
         }
-        else {
-            parseFile(file, srcDir);
+        else if (file.getName().endsWith(".ceylon")) {
+            //the package is resolved now, so that parsing 
+            //does not depend on the package stack
+            sourceFiles.add(new SourceFile(file, srcDir, 
+                    moduleManager.getCurrentPackage()));
         }
     }
 
-    private void processDirectory(VirtualFile dir, VirtualFile srcDir) throws Exception {
+    private void processDirectory(VirtualFile dir, VirtualFile srcDir, List<SourceFile> sourceFiles) {
         moduleManager.push(dir.getName());
         final List<VirtualFile> files = dir.getChildren();
         for (VirtualFile file : files) {
@@ -166,11 +232,103 @@ public class PhasedUnits {
             }
         }
         for (VirtualFile file : files) {
-            parseFileOrDirectory(file, srcDir);
+            collectFileOrDirectory(file, srcDir, sourceFiles);
         }
         moduleManager.pop();
     }
-    
+
+    private void parseSourceFiles(List<SourceFile> sourceFiles, int threads) {
+        if (threads<=1 || sourceFiles.size()<=1) {
+            for (SourceFile sourceFile : sourceFiles) {
+                addPhasedUnit(sourceFile.file, parseSourceFile(sourceFile));
+            }
+        }
+        else {
+            ExecutorService executor = Executors.newFixedThreadPool(threads);
+            try {
+                List<Future<PhasedUnit>> results = new ArrayList<Future<PhasedUnit>>(sourceFiles.size());
+                for (final SourceFile sourceFile : sourceFiles) {
+                    results.add( executor.submit(new Callable<PhasedUnit>() {
+                        @Override public PhasedUnit call() {
+                            return parseSourceFile(sourceFile);
+                        }
+                    }) );
+                }
+                //register in discovery order
+                for (int i=0; i<results.size(); i++) {
+                    addPhasedUnit(sourceFiles.get(i).file, getResult(results.get(i)));
+                }
+            }
+            finally {
+                executor.shutdownNow();
+            }
+        }
+    }
+
+    private static PhasedUnit getResult(Future<PhasedUnit> result) {
+        try {
+            return result.get();
+        }
+        catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            else if (e.getCause() instanceof Error) {
+                throw (Error) e.getCause();
+            }
+            else {
+                throw new RuntimeException(e.getCause());
+            }
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while parsing", e);
+        }
+    }
+
+    private PhasedUnit parseSourceFile(SourceFile sourceFile) {
+        try {
+            return parseFile(sourceFile.file, sourceFile.srcDir, sourceFile.pkg);
+        }
+        catch (RuntimeException e) {
+            //let it go
+            throw e;
+        }
+        catch (Exception e) {
+            throw new RuntimeException("Error while parsing the source file: " + sourceFile.file.toString(), e);
+        }
+    }
+
+    private PhasedUnit parseFile(VirtualFile file, VirtualFile srcDir, Package pkg) throws Exception {
+        //System.out.println("Parsing " + file.getName());
+        ParsedSource source = null;
+        if (parsedSources!=null) {
+            source = parsedSources.get(file.getPath().substring(srcDir.getPath().length()));
+        }
+        if (source==null) {
+            VirtualFileCharStream input = new VirtualFileCharStream(file, getCharset(srcDir));
+            source = ParserSession.get().parse(input, skipBodies, 
+                    context.getParseBudget(), context.getParseCache());
+        }
+        return new PhasedUnit(file, srcDir, source.getCompilationUnit(), 
+                pkg, moduleManager, context, source.getTokens());
+    }
+
+    /**
+     * A source file to be parsed, along with the
+     * package it belongs to.
+     */
+    private static class SourceFile {
+        final VirtualFile file;
+        final VirtualFile srcDir;
+        final Package pkg;
+        SourceFile(VirtualFile file, VirtualFile srcDir, Package pkg) {
+            this.file = file;
+            this.srcDir = srcDir;
+            this.pkg = pkg;
+        }
+    }
+
     public void visitModules() {
         List<PhasedUnit> listOfUnits = getPhasedUnits();
         for (PhasedUnit pu : listOfUnits) {
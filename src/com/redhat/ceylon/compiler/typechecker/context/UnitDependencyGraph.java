@@ -0,0 +1,255 @@
+package com.redhat.ceylon.compiler.typechecker.context;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+/**
+ * The graph of dependencies between a list of phased units,
+ * as recorded by {@link PhasedUnit#getDependentsOf()}.
+ * Units which depend upon each other, directly or
+ * indirectly, are collapsed into a single batch, so that
+ * the graph of batches is acyclic.
+ *
+ * Dependencies on units which are not in the list are
+ * ignored.
+ */
+public class UnitDependencyGraph {
+
+    /**
+     * A set of units which must be processed together,
+     * in the order in which they were originally listed.
+     */
+    public static class Batch implements Comparable<Batch> {
+        private final List<PhasedUnit> units = new ArrayList<PhasedUnit>();
+        private final List<Batch> dependents = new ArrayList<Batch>();
+        private int dependencies;
+        private final int index;
+
+        Batch(int index) {
+            this.index = index;
+        }
+
+        public List<PhasedUnit> getUnits() {
+            return units;
+        }
+
+        /**
+         * The batches which may not be processed until this
+         * batch has been processed.
+         */
+        public List<Batch> getDependents() {
+            return dependents;
+        }
+
+        /**
+         * The number of batches which must be processed
+         * before this batch.
+         */
+        public int getDependencies() {
+            return dependencies;
+        }
+
+        @Override
+        public int compareTo(Batch that) {
+            return index<that.index ? -1 : (index==that.index ? 0 : 1);
+        }
+
+        @Override
+        public String toString() {
+            return "Batch" + units;
+        }
+    }
+
+    private final List<Batch> batches;
+
+    public UnitDependencyGraph(List<PhasedUnit> units) {
+        int size = units.size();
+        Map<PhasedUnit, Integer> indexes = new IdentityHashMap<PhasedUnit, Integer>(size);
+        for (int i=0; i<size; i++) {
+            indexes.put(units.get(i), i);
+        }
+        //edges go from a unit to the units which depend on it
+        int[][] edges = new int[size][];
+        for (int i=0; i<size; i++) {
+            List<Integer> targets = new ArrayList<Integer>();
+            Set<PhasedUnit> dependents = units.get(i).getDependentsOf();
+            synchronized (dependents) {
+                for (PhasedUnit dependent: dependents) {
+                    Integer j = indexes.get(dependent);
+                    if (j!=null && j!=i) {
+                        targets.add(j);
+                    }
+                }
+            }
+            Collections.sort(targets);
+            edges[i] = new int[targets.size()];
+            for (int k=0; k<edges[i].length; k++) {
+                edges[i][k] = targets.get(k);
+            }
+        }
+        int[] components = findComponents(edges);
+
+        //a batch for each component, in the order of the
+        //first unit belonging to it
+        Batch[] batchOfComponent = new Batch[size];
+        List<Batch> unordered = new ArrayList<Batch>();
+        List<List<Integer>> members = new ArrayList<List<Integer>>(
+                Collections.<List<Integer>>nCopies(size, null));
+        for (int i=0; i<size; i++) {
+            Batch batch = batchOfComponent[components[i]];
+            if (batch==null) {
+                batch = new Batch(i);
+                batchOfComponent[components[i]] = batch;
+                unordered.add(batch);
+                members.set(components[i], new ArrayList<Integer>());
+            }
+            batch.units.add(units.get(i));
+            members.get(components[i]).add(i);
+        }
+        for (int i=0; i<size; i++) {
+            if (members.get(i)==null) continue;
+            Batch batch = batchOfComponent[i];
+            for (int u: members.get(i)) {
+                for (int j: edges[u]) {
+                    Batch dependent = batchOfComponent[components[j]];
+                    if (dependent!=batch && 
+                            !batch.dependents.contains(dependent)) {
+                        batch.dependents.add(dependent);
+                        dependent.dependencies++;
+                    }
+                }
+            }
+        }
+
+        //sort the batches topologically, preferring the
+        //original order of the units where possible
+        batches = new ArrayList<Batch>(unordered.size());
+        Map<Batch, Integer> remaining = new IdentityHashMap<Batch, Integer>();
+        PriorityQueue<Batch> ready = new PriorityQueue<Batch>();
+        for (Batch batch: unordered) {
+            if (batch.dependencies==0) {
+                ready.add(batch);
+            }
+            else {
+                remaining.put(batch, batch.dependencies);
+            }
+        }
+        while (!ready.isEmpty()) {
+            Batch batch = ready.poll();
+            batches.add(batch);
+            for (Batch dependent: batch.dependents) {
+                int count = remaining.get(dependent)-1;
+                if (count==0) {
+                    remaining.remove(dependent);
+                    ready.add(dependent);
+                }
+                else {
+                    remaining.put(dependent, count);
+                }
+            }
+        }
+    }
+
+    /**
+     * The units of the given list which declare a
+     * declaration with an inferred type that other units
+     * may refer to, by the name of the declaration, in the
+     * order of the list.
+     *
+     * @see PhasedUnit#collectUnitDependencies(PhasedUnits, List, Map)
+     */
+    public static Map<String, List<PhasedUnit>> getUnitsByInferredDeclaration(
+            List<PhasedUnit> units) {
+        Map<String, List<PhasedUnit>> result = new HashMap<String, List<PhasedUnit>>();
+        for (PhasedUnit pu: units) {
+            for (String name: pu.getInferredDeclarationNames()) {
+                List<PhasedUnit> list = result.get(name);
+                if (list==null) {
+                    list = new ArrayList<PhasedUnit>();
+                    result.put(name, list);
+                }
+                list.add(pu);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * The batches, in an order in which every batch comes
+     * after the batches it depends upon.
+     */
+    public List<Batch> getBatches() {
+        return batches;
+    }
+
+    /**
+     * Tarjan's algorithm, without recursion, since the
+     * dependency chains of a large project may be long.
+     *
+     * @return the strongly connected component of each
+     *         unit
+     */
+    private static int[] findComponents(int[][] edges) {
+        int size = edges.length;
+        int[] index = new int[size];
+        Arrays.fill(index, -1);
+        int[] low = new int[size];
+        int[] components = new int[size];
+        boolean[] onStack = new boolean[size];
+        int[] stack = new int[size];
+        int stackSize = 0;
+        int[] calls = new int[size];
+        int[] nextEdge = new int[size];
+        int callsSize = 0;
+        int counter = 0;
+        int componentCount = 0;
+        for (int root=0; root<size; root++) {
+            if (index[root]>=0) continue;
+            index[root] = low[root] = counter++;
+            stack[stackSize++] = root;
+            onStack[root] = true;
+            calls[callsSize++] = root;
+            while (callsSize>0) {
+                int v = calls[callsSize-1];
+                if (nextEdge[v]<edges[v].length) {
+                    int w = edges[v][nextEdge[v]++];
+                    if (index[w]<0) {
+                        index[w] = low[w] = counter++;
+                        stack[stackSize++] = w;
+                        onStack[w] = true;
+                        calls[callsSize++] = w;
+                    }
+                    else if (onStack[w]) {
+                        low[v] = Math.min(low[v], index[w]);
+                    }
+                }
+                else {
+                    callsSize--;
+                    if (low[v]==index[v]) {
+                        int w;
+                        do {
+                            w = stack[--stackSize];
+                            onStack[w] = false;
+                            components[w] = componentCount;
+                        }
+                        while (w!=v);
+                        componentCount++;
+                    }
+                    if (callsSize>0) {
+                        int u = calls[callsSize-1];
+                        low[u] = Math.min(low[u], low[v]);
+                    }
+                }
+            }
+        }
+        return components;
+    }
+
+}
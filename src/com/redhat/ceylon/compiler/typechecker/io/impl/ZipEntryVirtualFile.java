@@ -14,7 +14,7 @@ import java.io.FilterInputStream;
 /**
  * @author Emmanuel Bernard <emmanuel@hibernate.org>
  */
-class ZipEntryVirtualFile implements VirtualFile {
+public class ZipEntryVirtualFile implements VirtualFile {
 
     public static final List<VirtualFile> EMPTY_CHILDREN = Collections.unmodifiableList( new ArrayList<VirtualFile>(0) );
     private final String name;
@@ -60,6 +60,13 @@ class ZipEntryVirtualFile implements VirtualFile {
         }
     }
 
+    /**
+     * The uncompressed size of the entry, or -1 if unknown.
+     */
+    public long getSize() {
+        return entry.getSize();
+    }
+
     @Override
     public List<VirtualFile> getChildren() {
         return EMPTY_CHILDREN;
@@ -87,4 +87,13 @@ public class Class extends ClassOrInterface implements Functional {
         return abstraction;
     }
 
+    @Override
+    public void reset() {
+        super.reset();
+        abstr = false;
+        parameterList = null;
+        overloaded = false;
+        abstraction = false;
+    }
+
 }
@@ -24,6 +24,7 @@ public abstract class Declaration extends Element {
     private Scope visibleScope;
     private Declaration refinedDeclaration = this;
     private boolean staticallyImportable;
+    private long signatureHash;
 
     public Scope getVisibleScope() {
         return visibleScope;
@@ -241,4 +242,30 @@ public abstract class Declaration extends Element {
     
     public abstract DeclarationKind getDeclarationKind();
     
+    /**
+     * A hash of the signature of this declaration, by 
+     * which its model is matched, and used again, when 
+     * its unit is checked again, or zero if it has none.
+     */
+    public long getSignatureHash() {
+        return signatureHash;
+    }
+    
+    public void setSignatureHash(long signatureHash) {
+        this.signatureHash = signatureHash;
+    }
+    
+    @Override
+    public void reset() {
+        super.reset();
+        shared = false;
+        formal = false;
+        actual = false;
+        def = false;
+        annotations = new ArrayList<Annotation>();
+        visibleScope = null;
+        refinedDeclaration = this;
+        staticallyImportable = false;
+    }
+
 }
@@ -13,6 +13,7 @@ public abstract class Element {
 	private Scope container;
 	protected Unit unit;
 	private List<Declaration> members = new ArrayList<Declaration>();
+	private MemberIndex memberIndex = new MemberIndex(members);
 
     public Unit getUnit() {
         return unit;
@@ -53,7 +54,7 @@ public abstract class Element {
     }
 
     public Declaration getDirectMemberOrParameter(String name, List<ProducedType> signature) {
-        return lookupMember(members, name, signature, true);
+        return lookupMember(memberIndex.get(name), name, signature, true);
     }
 
     /**
@@ -66,7 +67,7 @@ public abstract class Element {
     }
 
     public Declaration getDirectMember(String name, List<ProducedType> signature) {
-        return lookupMember(members, name, signature, false);
+        return lookupMember(memberIndex.get(name), name, signature, false);
     }
 
     public ProducedType getDeclaringType(Declaration d) {
@@ -131,4 +132,15 @@ public abstract class Element {
     	return result;
     }
 
+    /**
+     * Forget what was found out about this element, so
+     * that the model may be used again when its unit is
+     * checked again. Keeps the name, container and unit,
+     * which are set again in the first phase anyway.
+     */
+    public void reset() {
+        members = new ArrayList<Declaration>();
+        memberIndex = new MemberIndex(members);
+    }
+
 }
@@ -40,4 +40,10 @@ public class FunctionalParameter extends Parameter implements Scope, Functional
         return false;
     }
     
+    @Override
+    public void reset() {
+        super.reset();
+        parameterLists = new ArrayList<ParameterList>();
+    }
+
 }
@@ -23,4 +23,10 @@ public class Getter extends MethodOrValue implements Scope {
         return setter!=null;
     }
     
+    @Override
+    public void reset() {
+        super.reset();
+        setter = null;
+    }
+
 }
@@ -0,0 +1,93 @@
+package com.redhat.ceylon.compiler.typechecker.model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The declarations of a list to which declarations are
+ * only ever appended, such as the members of a scope or
+ * the declarations of a unit, by name. Catches up with
+ * the list at the first lookup after it grew. A lookup
+ * does not lock, unless the index must catch up.
+ *
+ * @see Util#lookupMember(List, String, List, boolean)
+ */
+final class MemberIndex {
+
+    private static final Declaration[] NONE = new Declaration[0];
+
+    private final List<Declaration> declarations;
+    private final Map<String, Declaration[]> byName =
+            new ConcurrentHashMap<String, Declaration[]>();
+    //declarations which had no name when indexed
+    private volatile Declaration[] unnamed = NONE;
+    private volatile int indexed;
+
+    MemberIndex(List<Declaration> declarations) {
+        this.declarations = declarations;
+    }
+
+    /**
+     * The declarations of the list with the given name,
+     * in the order of the list, or, if a declaration was
+     * given that name after it was indexed, every
+     * declaration of the list.
+     */
+    List<Declaration> get(String name) {
+        if (name==null) {
+            return Collections.emptyList();
+        }
+        if (indexed!=declarations.size()) {
+            catchUp();
+        }
+        for (Declaration d: unnamed) {
+            if (Util.isNamed(name, d)) {
+                synchronized (declarations) {
+                    return new ArrayList<Declaration>(declarations);
+                }
+            }
+        }
+        Declaration[] result = byName.get(name);
+        if (result==null) {
+            return Collections.emptyList();
+        }
+        else {
+            return Arrays.asList(result);
+        }
+    }
+
+    private synchronized void catchUp() {
+        synchronized (declarations) {
+            int size = declarations.size();
+            if (size<indexed) {
+                //declarations were removed after all
+                byName.clear();
+                unnamed = NONE;
+                indexed = 0;
+            }
+            for (int i=indexed; i<size; i++) {
+                Declaration d = declarations.get(i);
+                String name = d.getName();
+                if (name==null) {
+                    unnamed = append(unnamed, d);
+                }
+                else {
+                    Declaration[] named = byName.get(name);
+                    byName.put(name, append(named==null ? NONE : named, d));
+                }
+            }
+            indexed = size;
+        }
+    }
+
+    private static Declaration[] append(Declaration[] array, Declaration d) {
+        Declaration[] result = Arrays.copyOf(array, array.length+1);
+        result[array.length] = d;
+        return result;
+    }
+
+}
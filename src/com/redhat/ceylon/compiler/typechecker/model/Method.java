@@ -76,4 +76,13 @@ public class Method extends MethodOrValue implements Generic, Scope, Functional
         return abstraction;
     }
     
+    @Override
+    public void reset() {
+        super.reset();
+        typeParameters = Collections.emptyList();
+        parameterLists = new ArrayList<ParameterList>();
+        overloaded = false;
+        abstraction = false;
+    }
+
 }
@@ -17,6 +17,7 @@ public class Module {
     private String doc;
     private List<String> authors = new ArrayList<String>();
     private boolean isDefault;
+    private final TypeCache typeCache = new TypeCache();
 
     /**
      * Whether or not the module is available in the
@@ -63,6 +64,17 @@ public class Module {
     public void setLanguageModule(Module languageModule) {
         this.languageModule = languageModule;
     }
+    
+    /**
+     * The results of subtype checks and supertype 
+     * searches, if this is the language module, which is shared by the modules 
+     * type checked together.
+     * 
+     * @see TypeCache#of(Declaration)
+     */
+    public TypeCache getTypeCache() {
+        return typeCache;
+    }
 
     public String getVersion() {
         return version;
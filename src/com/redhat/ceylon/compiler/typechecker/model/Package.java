@@ -66,10 +66,13 @@ public class Package implements Scope {
     @Override
     public List<Declaration> getMembers() {
         List<Declaration> result = new ArrayList<Declaration>();
-        for (Unit unit: units) {
-            for (Declaration d: unit.getDeclarations()) {
-                if (d.getContainer().equals(this)) {
-                    result.add(d);
+        for (Unit unit: getUnits()) {
+            List<Declaration> declarations = unit.getDeclarations();
+            synchronized (declarations) {
+                for (Declaration d: declarations) {
+                    if (d.getContainer().equals(this)) {
+                        result.add(d);
+                    }
                 }
             }
         }
@@ -116,7 +119,15 @@ public class Package implements Scope {
 
     @Override
     public Declaration getDirectMember(String name, List<ProducedType> signature) {
-        return lookupMember(getMembers(), name, signature, false);
+        List<Declaration> members = new ArrayList<Declaration>();
+        for (Unit unit: getUnits()) {
+            for (Declaration d: unit.getDeclarations(name)) {
+                if (d.getContainer().equals(this)) {
+                    members.add(d);
+                }
+            }
+        }
+        return lookupMember(members, name, signature, false);
     }
 
     @Override
@@ -42,4 +42,12 @@ public abstract class Parameter extends TypedDeclaration {
         		"[" + declaration.getName() + "#");
     }
     
+    @Override
+    public void reset() {
+        super.reset();
+        defaulted = false;
+        sequenced = false;
+        declaration = null;
+    }
+
 }
@@ -5,6 +5,7 @@ import static com.redhat.ceylon.compiler.typechecker.model.Util.addToUnion;
 import static com.redhat.ceylon.compiler.typechecker.model.Util.arguments;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -20,6 +21,14 @@ import java.util.Map;
  */
 public class ProducedType extends ProducedReference {
 
+    private static final java.lang.Class<?> UNMODIFIABLE_MAP = 
+            Collections.unmodifiableMap(new HashMap<Object,Object>()).getClass();
+    
+    private volatile boolean published;
+    private int hash;
+    //maintained by the TypeCache
+    volatile TypeCache.Results typeCacheResults;
+    
     ProducedType() {}
 
     @Override
@@ -27,11 +36,191 @@ public class ProducedType extends ProducedReference {
         return (TypeDeclaration) super.getDeclaration();
     }
     
+    @Override
+    void setDeclaration(Declaration type) {
+        checkUnpublished();
+        super.setDeclaration(type);
+    }
+    
+    @Override
+    void setQualifyingType(ProducedType qualifyingType) {
+        checkUnpublished();
+        super.setQualifyingType(qualifyingType);
+    }
+    
+    @Override
+    void setTypeArguments(Map<TypeParameter, ProducedType> typeArguments) {
+        checkUnpublished();
+        super.setTypeArguments(typeArguments);
+    }
+    
+    private void checkUnpublished() {
+        if (published) {
+            throw new IllegalStateException("a canonical type may not be modified");
+        }
+    }
+    
+    /**
+     * The canonical instance of this type, to be returned 
+     * instead of this type by the methods which produce a
+     * type. Structurally equal canonical types are the 
+     * same instance, so they are exactly the same type. A
+     * type with a missing type argument or case type, or 
+     * with a part which is not canonical, or of a 
+     * declaration which does not belong to a module yet,
+     * is its own canonical instance, and is not published.
+     */
+    ProducedType intern() {
+        if (published || !isInternable()) {
+            return this;
+        }
+        TypeCache cache = TypeCache.of(getDeclaration());
+        if (cache==null) {
+            return this;
+        }
+        else {
+            return cache.intern(this);
+        }
+    }
+    
+    private boolean isInternable() {
+        TypeDeclaration dec = getDeclaration();
+        if (dec==null) {
+            return false;
+        }
+        ProducedType qt = getQualifyingType();
+        if (qt!=null && !qt.published) {
+            return false;
+        }
+        for (ProducedType arg: getTypeArguments().values()) {
+            if (arg==null || !arg.published) {
+                return false;
+            }
+        }
+        if (dec instanceof UnionType || dec instanceof IntersectionType) {
+            List<ProducedType> types = dec instanceof UnionType ? 
+                    dec.getCaseTypes() : dec.getSatisfiedTypes();
+            if (types==null) {
+                return false;
+            }
+            for (ProducedType t: types) {
+                if (t==null || !t.published) {
+                    return false;
+                }
+            }
+            ProducedType et = dec.getExtendedType();
+            if (et!=null && !et.published) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    /**
+     * Make this type immutable, since it is about to be
+     * published as a canonical type.
+     */
+    void publish() {
+        Map<TypeParameter, ProducedType> args = getTypeArguments();
+        if (!args.isEmpty() && args.getClass()!=UNMODIFIABLE_MAP) {
+            super.setTypeArguments(Collections.unmodifiableMap(args));
+        }
+        hash = hashCode();
+        published = true;
+    }
+    
+    /**
+     * Is this the canonical instance of its type?
+     */
+    public boolean isCanonical() {
+        return published;
+    }
+    
+    /**
+     * Are the two types structurally equal? Two canonical
+     * types are only equal if they are the same instance.
+     * Unlike {@link #isExactly(ProducedType)}, does not 
+     * consider a union or intersection of a single type
+     * to be equal to that type, or a type to be equal to 
+     * its self type.
+     */
+    @Override
+    public boolean equals(Object object) {
+        if (this==object) {
+            return true;
+        }
+        else if (object instanceof ProducedType) {
+            ProducedType that = (ProducedType) object;
+            if (published && that.published) {
+                return false;
+            }
+            TypeDeclaration dec = getDeclaration();
+            TypeDeclaration thatDec = that.getDeclaration();
+            if (dec!=thatDec) {
+                if (dec instanceof UnionType && thatDec instanceof UnionType) {
+                    if (!equal(dec.getCaseTypes(), thatDec.getCaseTypes())) {
+                        return false;
+                    }
+                }
+                else if (dec instanceof IntersectionType && 
+                        thatDec instanceof IntersectionType) {
+                    if (!equal(dec.getSatisfiedTypes(), thatDec.getSatisfiedTypes())) {
+                        return false;
+                    }
+                }
+                else {
+                    return false;
+                }
+                if (!equal(dec.getExtendedType(), thatDec.getExtendedType())) {
+                    return false;
+                }
+            }
+            return equal(getQualifyingType(), that.getQualifyingType()) &&
+                    getTypeArguments().equals(that.getTypeArguments());
+        }
+        else {
+            return false;
+        }
+    }
+    
+    private static boolean equal(Object x, Object y) {
+        return x==null ? y==null : x.equals(y);
+    }
+    
+    @Override
+    public int hashCode() {
+        if (published) {
+            return hash;
+        }
+        TypeDeclaration dec = getDeclaration();
+        int result;
+        if (dec instanceof UnionType) {
+            result = hash(dec.getCaseTypes());
+        }
+        else if (dec instanceof IntersectionType) {
+            result = 31 * hash(dec.getSatisfiedTypes());
+        }
+        else {
+            result = System.identityHashCode(dec);
+        }
+        result = 31 * result + hash(getQualifyingType());
+        result = 31 * result + getTypeArguments().hashCode();
+        return result;
+    }
+    
+    private static int hash(Object object) {
+        return object==null ? 0 : object.hashCode();
+    }
+    
     /**
      * Is this type exactly the same type as the
      * given type? 
      */
     public boolean isExactly(ProducedType type) {
+        if (this==type && published) {
+            //a canonical type has no missing parts
+            return true;
+        }
         if (getDeclaration() instanceof BottomType) {
             return type.getDeclaration() instanceof BottomType;
         }
@@ -188,9 +377,21 @@ public class ProducedType extends ProducedReference {
     
     /**
      * Is this type a subtype of the given type? Ignore
-     * a certain self type constraint.
+     * a certain self type constraint. The result for two
+     * canonical types is remembered by the 
+     * {@link TypeCache} of the session.
      */
     public boolean isSubtypeOf(ProducedType type, TypeDeclaration selfTypeToIgnore) {
+        if (published && type.published) {
+            TypeCache cache = TypeCache.of(getDeclaration());
+            if (cache!=null) {
+                return cache.isSubtype(this, type, selfTypeToIgnore);
+            }
+        }
+        return checkSubtypeOf(type, selfTypeToIgnore);
+    }
+    
+    boolean checkSubtypeOf(ProducedType type, TypeDeclaration selfTypeToIgnore) {
         if (getDeclaration() instanceof BottomType) {
             return true;
         }
@@ -390,7 +591,7 @@ public class ProducedType extends ProducedReference {
         Map<TypeParameter, ProducedType> map = arguments(member, declaringType, typeArguments);
         //map.putAll(sub(map));
         pt.setTypeArguments(map);
-        return pt;
+        return pt.intern();
     }
 
     /**
@@ -419,9 +620,21 @@ public class ProducedType extends ProducedReference {
     
     /**
      * Get all supertypes of the type by traversing the whole
-     * type hierarchy. Avoid using this!
+     * type hierarchy. Avoid using this! The list for a 
+     * canonical type is remembered by the {@link TypeCache}
+     * of the session, and may not be modified.
      */
     public List<ProducedType> getSupertypes() {
+        if (published) {
+            TypeCache cache = TypeCache.of(getDeclaration());
+            if (cache!=null) {
+                return cache.getSupertypes(this);
+            }
+        }
+        return searchSupertypes();
+    }
+    
+    List<ProducedType> searchSupertypes() {
         return getSupertypes(new ArrayList<ProducedType>());
     }
     
@@ -495,7 +708,18 @@ public class ProducedType extends ProducedReference {
      *         which is a supertype of this type, or null if
      *         there is no such supertype
      */
-    private ProducedType getSupertype(final TypeDeclaration dec, 
+    private ProducedType getSupertype(TypeDeclaration dec, 
+            TypeDeclaration selfTypeToIgnore) {
+        if (published) {
+            TypeCache cache = TypeCache.of(getDeclaration());
+            if (cache!=null) {
+                return cache.getSupertype(this, dec, selfTypeToIgnore);
+            }
+        }
+        return searchSupertype(dec, selfTypeToIgnore);
+    }
+    
+    ProducedType searchSupertype(final TypeDeclaration dec, 
             TypeDeclaration selfTypeToIgnore) {
         Criteria c = new Criteria() {
             @Override
@@ -662,7 +886,7 @@ public class ProducedType extends ProducedReference {
             //type, substituting type arguments
             ProducedType declaringType = qt.getSupertype((TypeDeclaration) getDeclaration().getContainer());
             pt.setQualifyingType(declaringType);
-            return pt;
+            return pt.intern();
         }
     }
 
@@ -1052,7 +1276,7 @@ public class ProducedType extends ProducedReference {
                 type.setQualifyingType(substitute(qt, substitutions));
             }
             type.setTypeArguments(substitutedTypeArguments(pt, substitutions));
-            return type;
+            return type.intern();
         }
             
     }
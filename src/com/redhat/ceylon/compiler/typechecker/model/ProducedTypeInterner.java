@@ -0,0 +1,55 @@
+package com.redhat.ceylon.compiler.typechecker.model;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * The canonical instances of the produced types of a type
+ * checking session which are in use, so that structurally
+ * equal types are represented by the same instance. The
+ * types are weakly referenced, so that a type which is no
+ * longer used anywhere may be collected. The table is split
+ * into segments, each with its own lock, so that the units
+ * checked concurrently seldom wait for each other.
+ *
+ * @see ProducedType#intern()
+ * @see TypeCache
+ */
+final class ProducedTypeInterner {
+
+    private static final int SEGMENTS = 16;
+
+    private final List<Map<ProducedType, WeakReference<ProducedType>>> segments =
+            new ArrayList<Map<ProducedType, WeakReference<ProducedType>>>(SEGMENTS);
+
+    ProducedTypeInterner() {
+        for (int i=0; i<SEGMENTS; i++) {
+            segments.add(new WeakHashMap<ProducedType, WeakReference<ProducedType>>());
+        }
+    }
+
+    /**
+     * The canonical instance of the given type, which is
+     * the type itself, now published and immutable, if no
+     * structurally equal type is in use.
+     */
+    ProducedType intern(ProducedType type) {
+        int hash = type.hashCode();
+        Map<ProducedType, WeakReference<ProducedType>> segment =
+                segments.get((hash ^ hash>>>16) & (SEGMENTS-1));
+        synchronized (segment) {
+            WeakReference<ProducedType> ref = segment.get(type);
+            ProducedType canonical = ref==null ? null : ref.get();
+            if (canonical==null) {
+                type.publish();
+                segment.put(type, new WeakReference<ProducedType>(type));
+                canonical = type;
+            }
+            return canonical;
+        }
+    }
+
+}
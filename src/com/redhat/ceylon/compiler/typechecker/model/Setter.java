@@ -58,4 +58,11 @@ public class Setter extends MethodOrValue implements Scope {
         return DeclarationKind.SETTER;
     }
 
+    @Override
+    public void reset() {
+        super.reset();
+        getter = null;
+        parameter = null;
+    }
+
 }
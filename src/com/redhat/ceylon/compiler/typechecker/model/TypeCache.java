@@ -0,0 +1,368 @@
+package com.redhat.ceylon.compiler.typechecker.model;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Remembers, for the modules which share a language
+ * module, that is, for one type checking session, whether
+ * one canonical type is a subtype of another, the
+ * supertype of a canonical type for a given declaration,
+ * both ignoring a certain self type constraint, and the
+ * list of all supertypes of a canonical type. The results
+ * are kept by the canonical type they are about, so that
+ * they are collected along with it. Interns the types of
+ * the session, so that they are canonical. Also numbers
+ * the type declarations of the session densely, giving
+ * equal declarations the same number, and keeps the set
+ * of declarations each one inherits, by number.
+ * Must be invalidated whenever the model changes in a way
+ * which could change one of these results. The setters of
+ * the extended, satisfied and case types, self type and
+ * type parameters of a class, interface or type parameter
+ * do so.
+ *
+ * @see ProducedType#isSubtypeOf(ProducedType, TypeDeclaration)
+ * @see ProducedType#getSupertype(TypeDeclaration)
+ * @see ProducedType#getSupertypes()
+ * @see TypeDeclaration#inherits(TypeDeclaration)
+ */
+public final class TypeCache {
+
+    /**
+     * Stands for a supertype search which found nothing.
+     */
+    private static final Object NONE = new Object();
+
+    private final ProducedTypeInterner interner = new ProducedTypeInterner();
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong supertypeHits = new AtomicLong();
+    private final AtomicLong supertypeMisses = new AtomicLong();
+    private final AtomicInteger lastId = new AtomicInteger();
+    private final Map<Long, Integer> cloneIds = new HashMap<Long, Integer>();
+    private volatile int generation;
+
+    /**
+     * The cache of the session in which the given
+     * declaration was declared, or null if it does not
+     * belong to a module yet.
+     */
+    public static TypeCache of(Declaration declaration) {
+        Unit unit = declaration.getUnit();
+        if (unit==null || unit.getPackage()==null) {
+            return null;
+        }
+        Module module = unit.getPackage().getModule();
+        if (module==null) {
+            return null;
+        }
+        else if (module.getLanguageModule()!=null) {
+            return module.getLanguageModule().getTypeCache();
+        }
+        else {
+            return module.getTypeCache();
+        }
+    }
+
+    /**
+     * The canonical instance of the given type.
+     * 
+     * @see ProducedType#intern()
+     */
+    ProducedType intern(ProducedType type) {
+        return interner.intern(type);
+    }
+
+    boolean isSubtype(ProducedType type, ProducedType supertype,
+            TypeDeclaration selfTypeToIgnore) {
+        Results results = getResults(type);
+        Boolean result = results.isSubtype(supertype, selfTypeToIgnore);
+        if (result!=null) {
+            hits.incrementAndGet();
+            return result;
+        }
+        misses.incrementAndGet();
+        boolean subtype = type.checkSubtypeOf(supertype, selfTypeToIgnore);
+        results.putSubtype(supertype, selfTypeToIgnore, subtype);
+        return subtype;
+    }
+
+    ProducedType getSupertype(ProducedType type, TypeDeclaration dec,
+            TypeDeclaration selfTypeToIgnore) {
+        Results results = getResults(type);
+        Key key = new Key(dec, selfTypeToIgnore);
+        Object result = results.supertypes.get(key);
+        if (result!=null) {
+            supertypeHits.incrementAndGet();
+            return result==NONE ? null : (ProducedType) result;
+        }
+        supertypeMisses.incrementAndGet();
+        ProducedType supertype = type.searchSupertype(dec, selfTypeToIgnore);
+        //a type which is not canonical might still change
+        if (supertype==null || supertype.isCanonical()) {
+            results.supertypes.put(key, supertype==null ? NONE : supertype);
+        }
+        return supertype;
+    }
+
+    List<ProducedType> getSupertypes(ProducedType type) {
+        Results results = getResults(type);
+        List<ProducedType> result = results.supertypeList;
+        if (result!=null) {
+            supertypeHits.incrementAndGet();
+            return result;
+        }
+        supertypeMisses.incrementAndGet();
+        List<ProducedType> list = Collections.unmodifiableList(type.searchSupertypes());
+        //a type which is not canonical might still change
+        for (ProducedType supertype: list) {
+            if (!supertype.isCanonical()) {
+                return list;
+            }
+        }
+        results.supertypeList = list;
+        return list;
+    }
+
+    /**
+     * The results about the given canonical type in the
+     * current generation. If the model changes while a 
+     * result is being computed, the result is put in the 
+     * results of the previous generation, which are not
+     * used again.
+     */
+    private Results getResults(ProducedType type) {
+        int current = generation;
+        Results results = type.typeCacheResults;
+        if (results==null || results.generation!=current) {
+            results = new Results(current);
+            type.typeCacheResults = results;
+        }
+        return results;
+    }
+
+    /**
+     * The number of the given declaration in this session,
+     * which it keeps for as long as it is in use, even if
+     * it is reset.
+     */
+    int getId(TypeDeclaration td) {
+        int id = td.inheritanceId;
+        if (id==0) {
+            synchronized (td) {
+                id = td.inheritanceId;
+                if (id==0) {
+                    id = newId(td);
+                    td.inheritanceId = id;
+                }
+            }
+        }
+        return id;
+    }
+
+    /**
+     * Equal declarations get the same number: a clone with
+     * as many type parameters as the declaration it was 
+     * cloned from, or as another clone of it, and the new
+     * model of a changed declaration, and the model of its
+     * previous version.
+     * 
+     * @see TypeDeclaration#replace(TypeDeclaration)
+     */
+    private int newId(TypeDeclaration td) {
+        int typeParameters = td.getTypeParameters().size();
+        TypeDeclaration original = td.original;
+        if (original!=null && of(original)==this) {
+            int originalId = getId(original);
+            if (original.getTypeParameters().size()==typeParameters) {
+                return originalId;
+            }
+            Long key = (long) originalId<<32 | typeParameters;
+            synchronized (cloneIds) {
+                Integer id = cloneIds.get(key);
+                if (id==null) {
+                    id = lastId.incrementAndGet();
+                    cloneIds.put(key, id);
+                }
+                return id;
+            }
+        }
+        else if (td.previousInheritanceId!=0 && 
+                td.previousTypeParameterCount==typeParameters) {
+            return td.previousInheritanceId;
+        }
+        else {
+            return lastId.incrementAndGet();
+        }
+    }
+
+    /**
+     * The numbers of the given declaration and of every
+     * declaration it extends or satisfies, directly or
+     * indirectly. Must not be modified.
+     */
+    BitSet getInheritedTypes(TypeDeclaration td) {
+        Inheritance inheritance = td.inheritance;
+        int start = generation;
+        if (inheritance!=null && inheritance.generation==start) {
+            return inheritance.types;
+        }
+        BitSet types = new BitSet();
+        List<TypeDeclaration> stack = new ArrayList<TypeDeclaration>();
+        stack.add(td);
+        while (!stack.isEmpty()) {
+            TypeDeclaration t = stack.remove(stack.size()-1);
+            if (t==null) continue;
+            int id = getId(t);
+            if (!types.get(id)) {
+                types.set(id);
+                stack.addAll(t.getSatisfiedTypeDeclarations());
+                TypeDeclaration et = t.getExtendedTypeDeclaration();
+                if (et!=null) {
+                    stack.add(et);
+                }
+            }
+        }
+        //if the model changed while we were looking, the
+        //generation no longer matches, so it's not used
+        td.inheritance = new Inheritance(start, types);
+        return types;
+    }
+
+    /**
+     * Forget every result, since the model changed.
+     */
+    public void invalidate() {
+        generation++;
+    }
+
+    /**
+     * The number of subtype checks answered by the cache.
+     */
+    public long getHits() {
+        return hits.get();
+    }
+
+    /**
+     * The number of subtype checks which were not.
+     */
+    public long getMisses() {
+        return misses.get();
+    }
+
+    /**
+     * The number of supertype searches answered by the
+     * cache.
+     */
+    public long getSupertypeHits() {
+        return supertypeHits.get();
+    }
+
+    /**
+     * The number of supertype searches which were not.
+     */
+    public long getSupertypeMisses() {
+        return supertypeMisses.get();
+    }
+
+    @Override
+    public String toString() {
+        return "TypeCache[" +
+                getHits() + " subtype hits, " + getMisses() + " misses, " +
+                getSupertypeHits() + " supertype hits, " +
+                getSupertypeMisses() + " misses]";
+    }
+
+    /**
+     * The inherited declarations of a declaration, as of a
+     * generation of the cache.
+     */
+    static final class Inheritance {
+        private final int generation;
+        private final BitSet types;
+        Inheritance(int generation, BitSet types) {
+            this.generation = generation;
+            this.types = types;
+        }
+    }
+
+    /**
+     * The results about a canonical type, as of a
+     * generation of the cache. The types it was checked
+     * against are weakly referenced, since they may be 
+     * collected before it is.
+     */
+    static final class Results {
+        private final int generation;
+        private final Map<ProducedType, Map<TypeDeclaration, Boolean>> subtypes = 
+                new WeakHashMap<ProducedType, Map<TypeDeclaration, Boolean>>();
+        private final Map<Key, Object> supertypes = 
+                new ConcurrentHashMap<Key, Object>();
+        private volatile List<ProducedType> supertypeList;
+        Results(int generation) {
+            this.generation = generation;
+        }
+        /**
+         * Whether the type is a subtype of the given type,
+         * or null if that is not known.
+         */
+        Boolean isSubtype(ProducedType supertype, 
+                TypeDeclaration selfTypeToIgnore) {
+            synchronized (subtypes) {
+                Map<TypeDeclaration, Boolean> map = subtypes.get(supertype);
+                return map==null ? null : map.get(selfTypeToIgnore);
+            }
+        }
+        void putSubtype(ProducedType supertype, 
+                TypeDeclaration selfTypeToIgnore, boolean subtype) {
+            synchronized (subtypes) {
+                Map<TypeDeclaration, Boolean> map = subtypes.get(supertype);
+                if (map==null) {
+                    map = new IdentityHashMap<TypeDeclaration, Boolean>(2);
+                    subtypes.put(supertype, map);
+                }
+                map.put(selfTypeToIgnore, subtype);
+            }
+        }
+    }
+
+    /**
+     * A declaration, and a self type to ignore, compared 
+     * by identity.
+     */
+    private static final class Key {
+        private final TypeDeclaration dec;
+        private final TypeDeclaration selfTypeToIgnore;
+        Key(TypeDeclaration dec, TypeDeclaration selfTypeToIgnore) {
+            this.dec = dec;
+            this.selfTypeToIgnore = selfTypeToIgnore;
+        }
+        @Override
+        public boolean equals(Object object) {
+            if (object instanceof Key) {
+                Key that = (Key) object;
+                return dec==that.dec &&
+                        selfTypeToIgnore==that.selfTypeToIgnore;
+            }
+            else {
+                return false;
+            }
+        }
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(dec)*31 +
+                    System.identityHashCode(selfTypeToIgnore);
+        }
+    }
+
+}
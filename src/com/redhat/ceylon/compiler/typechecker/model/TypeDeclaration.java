@@ -5,6 +5,7 @@ import static com.redhat.ceylon.compiler.typechecker.model.Util.isNameMatching;
 import static com.redhat.ceylon.compiler.typechecker.model.Util.isResolvable;
 
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
@@ -19,11 +20,27 @@ public abstract class TypeDeclaration extends Declaration
     private List<ProducedType> caseTypes = null;
     private List<TypeParameter> typeParameters = Collections.emptyList();
     private ProducedType selfType;
+    //maintained by the TypeCache
+    volatile int inheritanceId;
+    volatile TypeCache.Inheritance inheritance;
+    //what an equal declaration would be numbered by
+    TypeDeclaration original;
+    int previousInheritanceId;
+    int previousTypeParameterCount;
     
     @Override
     protected TypeDeclaration clone() {
         try {
-            return (TypeDeclaration) super.clone();
+            TypeDeclaration td = (TypeDeclaration) super.clone();
+            //a clone is numbered once its type parameters
+            //are known, like the other clones of the same 
+            //declaration with as many type parameters
+            td.inheritanceId = 0;
+            td.inheritance = null;
+            if (original==null) {
+                td.original = this;
+            }
+            return td;
         } 
         catch (CloneNotSupportedException e) {
             throw new RuntimeException(e);
@@ -41,6 +58,7 @@ public abstract class TypeDeclaration extends Declaration
 
     public void setTypeParameters(List<TypeParameter> typeParameters) {
         this.typeParameters = typeParameters;
+        invalidateTypeCache();
     }
 
     public ClassOrInterface getExtendedTypeDeclaration() {
@@ -58,6 +76,7 @@ public abstract class TypeDeclaration extends Declaration
 
     public void setExtendedType(ProducedType extendedType) {
         this.extendedType = extendedType;
+        invalidateTypeCache();
     }
 
     public List<TypeDeclaration> getSatisfiedTypeDeclarations() {
@@ -74,6 +93,7 @@ public abstract class TypeDeclaration extends Declaration
 
     public void setSatisfiedTypes(List<ProducedType> satisfiedTypes) {
         this.satisfiedTypes = satisfiedTypes;
+        invalidateTypeCache();
     }
 
     public List<TypeDeclaration> getCaseTypeDeclarations() {
@@ -96,6 +116,7 @@ public abstract class TypeDeclaration extends Declaration
 
     public void setCaseTypes(List<ProducedType> caseTypes) {
         this.caseTypes = caseTypes;
+        invalidateTypeCache();
     }
     
     @Override
@@ -151,7 +172,22 @@ public abstract class TypeDeclaration extends Declaration
         pt.setDeclaration(td);
         pt.setQualifyingType(qualifyingType);
         pt.setTypeArguments(arguments(td, qualifyingType, typeArguments));
-        return pt;
+        return pt.intern();
+    }
+    
+    /**
+     * Let this model, which was built anew for a changed 
+     * declaration, be numbered in the session like the 
+     * given model of the previous version of the
+     * declaration, which other units may still refer to,
+     * if the two are equal once this one is declared.
+     */
+    public void replace(TypeDeclaration previous) {
+        TypeCache cache = TypeCache.of(previous);
+        if (cache!=null) {
+            previousInheritanceId = cache.getId(previous);
+            previousTypeParameterCount = previous.getTypeParameters().size();
+        }
     }
     
     @Override
@@ -183,19 +219,18 @@ public abstract class TypeDeclaration extends Declaration
         for (TypeParameter p: getTypeParameters()) {
             ProducedType pta = new ProducedType();
             pta.setDeclaration(p);
-            map.put(p, pta);
+            map.put(p, pta.intern());
         }
         pt.setTypeArguments(map);
-        return pt;
+        return pt.intern();
     }
 
     private List<Declaration> getMembers(String name, 
-            List<TypeDeclaration> visited) {
-        if (visited.contains(this)) {
+            Visited visited) {
+        if (!visited.add(this)) {
             return Collections.emptyList();
         }
         else {
-            visited.add(this);
             List<Declaration> members = new ArrayList<Declaration>();
             for (Declaration d: getMembers()) {
                 if (d.getName()!=null && d.getName().equals(name)) {
@@ -215,11 +250,11 @@ public abstract class TypeDeclaration extends Declaration
      * directly by this type. 
      */
     public List<Declaration> getInheritedMembers(String name) {
-        return getInheritedMembers(name, new ArrayList<TypeDeclaration>());
+        return getInheritedMembers(name, new Visited());
     }
     
     private List<Declaration> getInheritedMembers(String name, 
-            List<TypeDeclaration> visited) {
+            Visited visited) {
         List<Declaration> members = new ArrayList<Declaration>();
         for (TypeDeclaration t: getSatisfiedTypeDeclarations()) {
             //if ( !(t instanceof TypeParameter) ) { //don't look for members in a type parameter with a self-referential lower bound
@@ -246,15 +281,30 @@ public abstract class TypeDeclaration extends Declaration
      * member of this type?
      */
     public boolean isMember(Declaration dec) {
-        return isMember(dec, new ArrayList<TypeDeclaration>());
+        TypeCache cache = TypeCache.of(this);
+        if (cache!=null && dec.getContainer() instanceof TypeDeclaration) {
+            //only the type which declares it can have it
+            //as a direct member
+            TypeDeclaration td = (TypeDeclaration) dec.getContainer();
+            if (cache==TypeCache.of(td)) {
+                if (cache.getInheritedTypes(this).get(cache.getId(td))) {
+                    for (Declaration member: td.getMembers()) {
+                        if (dec.equals(member)) {
+                            return true;
+                        }
+                    }
+                }
+                return false;
+            }
+        }
+        return isMember(dec, new Visited());
     }
     
     private boolean isMember(Declaration dec, 
-            List<TypeDeclaration> visited) {
-        if (visited.contains(this)) {
+            Visited visited) {
+        if (!visited.add(this)) {
             return false;
         }
-        visited.add(this);
         for (Declaration member: getMembers()) {
             if (dec.equals(member)) {
                 return true;
@@ -278,14 +328,19 @@ public abstract class TypeDeclaration extends Declaration
      * Does the given declaration inherit the given type?
      */
     public boolean inherits(TypeDeclaration dec) {
-        return inherits(dec, new ArrayList<TypeDeclaration>());
+        TypeCache cache = TypeCache.of(this);
+        if (cache!=null && cache==TypeCache.of(dec)) {
+            return cache.getInheritedTypes(this).get(cache.getId(dec));
+        }
+        else {
+            return inherits(dec, new Visited());
+        }
     }
     
-    private boolean inherits(TypeDeclaration dec, List<TypeDeclaration> visited) {
-        if (visited.contains(this)) {
+    private boolean inherits(TypeDeclaration dec, Visited visited) {
+        if (!visited.add(this)) {
             return false;
         }
-        visited.add(this);
         if (equals(dec)) return true;
         for (TypeDeclaration t: getSatisfiedTypeDeclarations()) {
             if (t.inherits(dec, visited)) {
@@ -309,17 +364,15 @@ public abstract class TypeDeclaration extends Declaration
      */
     public Declaration getRefinedMember(String name, 
             List<ProducedType> signature) {
-        return getRefinedMember(name, signature, 
-                new ArrayList<TypeDeclaration>());
+        return getRefinedMember(name, signature, new Visited());
     }
 
     private Declaration getRefinedMember(String name, 
-            List<ProducedType> signature, List<TypeDeclaration> visited) {
-        if (visited.contains(this)) {
+            List<ProducedType> signature, Visited visited) {
+        if (!visited.add(this)) {
             return null;
         }
         else {
-            visited.add(this);
             TypeDeclaration et = getExtendedTypeDeclaration();
             if (et!=null) {
                 Declaration ed = et.getRefinedMember(name, signature, visited);
@@ -502,6 +555,7 @@ public abstract class TypeDeclaration extends Declaration
 
     public void setSelfType(ProducedType selfType) {
         this.selfType = selfType;
+        invalidateTypeCache();
     }
 
     public ProducedType getSelfType() {
@@ -541,4 +595,67 @@ public abstract class TypeDeclaration extends Declaration
         return result;
     }
 
+    @Override
+    public void reset() {
+        super.reset();
+        extendedType = null;
+        satisfiedTypes = new ArrayList<ProducedType>();
+        caseTypes = null;
+        typeParameters = Collections.emptyList();
+        selfType = null;
+        invalidateTypeCache();
+    }
+    
+    /**
+     * Forget the results of subtype checks and supertype
+     * searches, and the inherited declarations, since they
+     * may depend on the types this declaration inherits.
+     * A union or intersection type, or an unknown type, is
+     * only given its types before it is used, so it can't
+     * be in a result already.
+     */
+    private void invalidateTypeCache() {
+        if (this instanceof ClassOrInterface || this instanceof TypeParameter) {
+            TypeCache cache = TypeCache.of(this);
+            if (cache!=null) {
+                cache.invalidate();
+            }
+        }
+    }
+
+    /**
+     * The declarations already visited by a walk of the
+     * hierarchy, by their numbers in the session, or, if
+     * they don't belong to a module yet, in a list.
+     */
+    private static final class Visited {
+        private final BitSet ids = new BitSet();
+        private List<TypeDeclaration> list;
+        /**
+         * Add the given declaration, returning false if it
+         * was already visited.
+         */
+        boolean add(TypeDeclaration td) {
+            TypeCache cache = TypeCache.of(td);
+            if (cache!=null) {
+                int id = cache.getId(td);
+                if (ids.get(id)) {
+                    return false;
+                }
+                ids.set(id);
+                return true;
+            }
+            else {
+                if (list==null) {
+                    list = new ArrayList<TypeDeclaration>();
+                }
+                else if (list.contains(td)) {
+                    return false;
+                }
+                list.add(td);
+                return true;
+            }
+        }
+    }
+
 }
@@ -113,4 +113,15 @@ public class TypeParameter extends TypeDeclaration implements Functional {
         return false;
     }
 
+    @Override
+    public void reset() {
+        super.reset();
+        covariant = false;
+        contravariant = false;
+        sequenced = false;
+        declaration = null;
+        parameterList = null;
+        selfTypedDeclaration = null;
+    }
+
 }
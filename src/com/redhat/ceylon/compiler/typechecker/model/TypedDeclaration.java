@@ -115,4 +115,12 @@ public abstract class TypedDeclaration extends Declaration {
     public Boolean getUnboxed() { return unboxed; }
     public void setUnboxed(Boolean value) { unboxed = value; }
 
+    @Override
+    public void reset() {
+        super.reset();
+        type = null;
+        originalDeclaration = null;
+        unboxed = null;
+    }
+
 }
@@ -4,6 +4,7 @@ import static com.redhat.ceylon.compiler.typechecker.model.Util.producedType;
 import static com.redhat.ceylon.compiler.typechecker.model.Util.unionType;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -16,7 +17,8 @@ public class Unit {
 
 	private Package pkg;
 	private List<Import> imports = new ArrayList<Import>();
-	private List<Declaration> declarations = new ArrayList<Declaration>();
+	private List<Declaration> declarations = Collections.synchronizedList(new ArrayList<Declaration>());
+	private MemberIndex declarationIndex = new MemberIndex(declarations);
 	private String filename;
 	private List<ImportList> importLists = new ArrayList<ImportList>();
 	private Set<Identifier> unresolvedReferences = new HashSet<Identifier>();
@@ -46,10 +48,22 @@ public class Unit {
         pkg = p;
     }
 
+    /**
+     * The declarations of this unit. Other units of the 
+     * package may iterate this list while it is being 
+     * populated, so iteration must synchronize on it.
+     */
     public List<Declaration> getDeclarations() {
         return declarations;
     }
 
+    /**
+     * The declarations of this unit with the given name.
+     */
+    List<Declaration> getDeclarations(String name) {
+        return declarationIndex.get(name);
+    }
+
     public String getFilename() {
         return filename;
     }
@@ -414,6 +414,9 @@ public class Util {
 
     static boolean addToSupertypes(List<ProducedType> list, ProducedType st) {
         for (ProducedType et: list) {
+            if (st==et && st.isCanonical()) {
+                return false;
+            }
             if (st.getDeclaration().equals(et.getDeclaration()) && //return both a type and its self type
             		st.isExactly(et)) {
                 return false;
@@ -457,7 +460,8 @@ public class Util {
     
     public static Declaration lookupMember(List<Declaration> members, String name,
             List<ProducedType> signature, boolean includeParameters) {
-        List<Declaration> results = new ArrayList<Declaration>();
+        Declaration exactMatch = null;
+        int exactMatches = 0;
         Declaration inexactMatch = null;
         for (Declaration d: members) {
             if (isResolvable(d) && isNamed(name, d) &&
@@ -488,12 +492,13 @@ public class Util {
                     if (hasMatchingSignature(signature, d)) {
                         //we have found an exactly matching 
                         //overloaded declaration
-                        results.add(d);
+                        exactMatch = d;
+                        exactMatches++;
                     }
                 }
             }
         }
-        switch (results.size()) {
+        switch (exactMatches) {
         case 0:
             //no exact match, so return the non-overloaded
             //declaration or the "abstraction" of the 
@@ -501,7 +506,7 @@ public class Util {
             return inexactMatch;
         case 1:
             //exactly one exact match, so return it
-            return results.get(0);
+            return exactMatch;
         default:
             //more than one matching overloaded declaration,
             //so return the "abstraction" of the overloaded
@@ -38,4 +38,11 @@ public class Value extends MethodOrValue {
         this.captured = local;
     }
 
+    @Override
+    public void reset() {
+        super.reset();
+        variable = false;
+        captured = false;
+    }
+
 }
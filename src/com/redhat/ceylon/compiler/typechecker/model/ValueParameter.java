@@ -13,4 +13,10 @@ public class ValueParameter extends Parameter {
         this.captured = local;
     }
     
+    @Override
+    public void reset() {
+        super.reset();
+        captured = false;
+    }
+
 }
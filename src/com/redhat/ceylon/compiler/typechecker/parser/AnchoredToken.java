@@ -0,0 +1,118 @@
+package com.redhat.ceylon.compiler.typechecker.parser;
+
+import org.antlr.runtime.CharStream;
+import org.antlr.runtime.CommonToken;
+import org.antlr.runtime.Token;
+
+/**
+ * A token of a tree which is being edited. Once it is
+ * anchored to a statement of the tree, its offsets, index
+ * and line are kept relative to those of the first token
+ * of the statement, so that it moves along with the
+ * statement, and its column is counted from the start of
+ * its line in the current text.
+ *
+ * @see IncrementalParser
+ */
+class AnchoredToken extends CommonToken {
+
+    private static final long serialVersionUID = 1L;
+
+    private IncrementalParser.Anchor anchor;
+
+    AnchoredToken(CharStream input, int type, int channel,
+            int start, int stop) {
+        super(input, type, channel, start, stop);
+    }
+
+    /**
+     * A copy of the given token, whose text is read from
+     * the given characters, unless it has other text.
+     */
+    AnchoredToken(CharStream input, Token token) {
+        super(input, token.getType(), token.getChannel(),
+                ((CommonToken) token).getStartIndex(),
+                ((CommonToken) token).getStopIndex());
+        setLine(token.getLine());
+        setCharPositionInLine(token.getCharPositionInLine());
+        setTokenIndex(token.getTokenIndex());
+        String text = token.getText();
+        if (text!=null && !text.equals(getText())) {
+            setText(text);
+        }
+    }
+
+    IncrementalParser.Anchor getAnchor() {
+        return anchor;
+    }
+
+    void anchor(IncrementalParser.Anchor anchor) {
+        start -= anchor.getStartIndex();
+        stop -= anchor.getStartIndex();
+        index -= anchor.getTokenIndex();
+        line -= anchor.getLine();
+        this.anchor = anchor;
+    }
+
+    void move(int chars, int tokens, int lines) {
+        start += chars;
+        stop += chars;
+        index += tokens;
+        line += lines;
+    }
+
+    @Override
+    public int getStartIndex() {
+        return anchor==null ? start : start+anchor.getStartIndex();
+    }
+
+    @Override
+    public int getStopIndex() {
+        return anchor==null ? stop : stop+anchor.getStartIndex();
+    }
+
+    @Override
+    public int getTokenIndex() {
+        return anchor==null ? index : index+anchor.getTokenIndex();
+    }
+
+    @Override
+    public int getLine() {
+        return anchor==null ? line : line+anchor.getLine();
+    }
+
+    @Override
+    public int getCharPositionInLine() {
+        if (anchor==null) {
+            return charPositionInLine;
+        }
+        IncrementalLexer.EditableCharStream chars =
+                (IncrementalLexer.EditableCharStream) input;
+        int start = getStartIndex();
+        int column = 0;
+        while (column<start && chars.charAt(start-column-1)!='\n') {
+            column++;
+        }
+        return column;
+    }
+
+    @Override
+    public String getText() {
+        if (text!=null || anchor==null) {
+            return super.getText();
+        }
+        int start = getStartIndex();
+        int stop = getStopIndex();
+        int size = input.size();
+        return start<size && stop<size ?
+                input.substring(start, stop) : "<EOF>";
+    }
+
+    @Override
+    public String toString() {
+        return "[@" + getTokenIndex() + "," + getStartIndex() + ":" +
+                getStopIndex() + "='" + getText() + "',<" + type + ">," +
+                getLine() + ":" + getCharPositionInLine() + "]";
+    }
+
+}
@@ -0,0 +1,124 @@
+package com.redhat.ceylon.compiler.typechecker.parser;
+
+import org.antlr.runtime.CommonTokenStream;
+import org.antlr.runtime.Token;
+import org.antlr.runtime.TokenSource;
+
+/**
+ * A token stream which counts the number of times the 
+ * parser looks at a token, including when predicting an
+ * alternative and when backtracking, and interrupts the
+ * parser once it exceeds its budget.
+ * 
+ * @see ParseBudget
+ */
+class BudgetedTokenStream extends CommonTokenStream {
+    
+    /**
+     * Thrown out of the parser when its budget is exceeded,
+     * unchecked, so that the rules of the parser don't try 
+     * to recover from it.
+     */
+    static class BudgetExceededException extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+        BudgetExceededException(String message) {
+            super(message);
+        }
+    }
+    
+    /**
+     * How often the budget is checked, so that the time is
+     * not read on every token.
+     */
+    private static final int CHECK_INTERVAL = 4096;
+    
+    private ParseBudget budget = ParseBudget.UNLIMITED;
+    private long lookahead;
+    private long nextCheck = Long.MAX_VALUE;
+    private long deadline;
+    private int firstIndex;
+    
+    /**
+     * Check the work done against the given budget from
+     * now on.
+     * 
+     * @param reset start counting from zero
+     */
+    void setBudget(ParseBudget budget, boolean reset) {
+        this.budget = budget;
+        if (reset) {
+            lookahead = 0;
+        }
+        deadline = budget.getMillis()>0 ? 
+                System.nanoTime() + budget.getMillis()*1000000 : 0;
+        nextCheck = budget.getLookaheadPerToken()>0 || deadline!=0 ? 
+                lookahead + CHECK_INTERVAL : Long.MAX_VALUE;
+    }
+    
+    long getLookahead() {
+        return lookahead;
+    }
+    
+    /**
+     * Read tokens from a source which starts part way into
+     * a unit, with the token at the given index, giving 
+     * each token its index in the unit.
+     */
+    void setTokenSource(TokenSource source, int firstIndex) {
+        super.setTokenSource(source);
+        this.firstIndex = firstIndex;
+    }
+    
+    @Override
+    public void setTokenSource(TokenSource source) {
+        super.setTokenSource(source);
+        firstIndex = 0;
+    }
+    
+    @Override
+    protected void fetch(int n) {
+        int size = tokens.size();
+        super.fetch(n);
+        if (firstIndex!=0) {
+            for (int i=size; i<tokens.size(); i++) {
+                ((Token) tokens.get(i)).setTokenIndex(firstIndex+i);
+            }
+        }
+    }
+    
+    @Override
+    public Token LT(int k) {
+        if (++lookahead>=nextCheck) {
+            checkBudget();
+        }
+        return super.LT(k);
+    }
+    
+    /**
+     * Count other work done by the parser, in tokens.
+     */
+    void charge(int work) {
+        lookahead += work;
+        if (lookahead>=nextCheck) {
+            checkBudget();
+        }
+    }
+    
+    private void checkBudget() {
+        nextCheck = lookahead + CHECK_INTERVAL;
+        int perToken = budget.getLookaheadPerToken();
+        //the tokens fetched so far, a lower bound on the 
+        //tokens of the unit
+        if (perToken>0 && lookahead > Math.max((long) perToken * tokens.size(), 
+                budget.getMinLookahead())) {
+            throw new BudgetExceededException("parser gave up, it looked at tokens " + 
+                    lookahead + " times, too many for a unit of " + 
+                    tokens.size() + " tokens");
+        }
+        if (deadline!=0 && System.nanoTime()-deadline>0) {
+            throw new BudgetExceededException("parser gave up, it took more than " + 
+                    budget.getMillis() + " ms");
+        }
+    }
+    
+}
@@ -0,0 +1,153 @@
+package com.redhat.ceylon.compiler.typechecker.parser;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.AbstractList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+
+import org.antlr.runtime.CharStream;
+import org.antlr.runtime.CommonToken;
+import org.antlr.runtime.Token;
+
+/**
+ * An unmodifiable list of the tokens of a source file, 
+ * kept as parallel arrays instead of as token objects. 
+ * Each call to get() creates a new token, whose text is 
+ * read from the characters of the source file only when 
+ * it is asked for, unless the lexer replaced it, as it 
+ * does for an identifier with a \i or \I prefix, in which
+ * case the replaced text is kept.
+ */
+public class CompactTokenList extends AbstractList<CommonToken> 
+        implements RandomAccess {
+    
+    private final CharStream input;
+    private final int[] types;
+    private final int[] starts;
+    private final int[] stops;
+    private final int[] lines;
+    private final int[] columns;
+    private final int[] channels;
+    private final Map<Integer, String> texts = new HashMap<Integer, String>();
+    
+    /**
+     * @param tokens the tokens of a single source file
+     */
+    public CompactTokenList(List<? extends Token> tokens) {
+        int size = tokens.size();
+        types = new int[size];
+        starts = new int[size];
+        stops = new int[size];
+        lines = new int[size];
+        columns = new int[size];
+        channels = new int[size];
+        CharStream input = null;
+        for (int i=0; i<size; i++) {
+            Token token = tokens.get(i);
+            types[i] = token.getType();
+            lines[i] = token.getLine();
+            columns[i] = token.getCharPositionInLine();
+            channels[i] = token.getChannel();
+            if (token instanceof CommonToken) {
+                starts[i] = ((CommonToken) token).getStartIndex();
+                stops[i] = ((CommonToken) token).getStopIndex();
+            }
+            if (input==null) {
+                input = token.getInputStream();
+            }
+            //the text is kept only if the lexer replaced it
+            String text = token.getText();
+            if (text!=null && input!=null && 
+                    starts[i]<input.size() && stops[i]<input.size() &&
+                    !text.equals(input.substring(starts[i], stops[i]))) {
+                texts.put(i, text);
+            }
+        }
+        this.input = input;
+    }
+    
+    private CompactTokenList(CharStream input, int size) {
+        this.input = input;
+        types = new int[size];
+        starts = new int[size];
+        stops = new int[size];
+        lines = new int[size];
+        columns = new int[size];
+        channels = new int[size];
+    }
+    
+    public void write(DataOutput out) throws IOException {
+        out.writeInt(types.length);
+        for (int[] array: new int[][] { types, starts, stops, lines, columns, channels }) {
+            for (int value: array) {
+                out.writeInt(value);
+            }
+        }
+        out.writeInt(texts.size());
+        for (Map.Entry<Integer, String> entry: texts.entrySet()) {
+            out.writeInt(entry.getKey());
+            out.writeUTF(entry.getValue());
+        }
+    }
+    
+    /**
+     * Read a list written by {@link #write(DataOutput)}.
+     * 
+     * @param input the characters of the source file the 
+     *        tokens were read from
+     */
+    public static CompactTokenList read(DataInput in, CharStream input) 
+            throws IOException {
+        int size = in.readInt();
+        //every token but the last is at least one character
+        if (size<0 || size>input.size()+1) {
+            throw new IOException("bad number of tokens: " + size);
+        }
+        CompactTokenList result = new CompactTokenList(input, size);
+        for (int[] array: new int[][] { result.types, result.starts, result.stops, 
+                result.lines, result.columns, result.channels }) {
+            for (int i=0; i<array.length; i++) {
+                array[i] = in.readInt();
+            }
+        }
+        int texts = in.readInt();
+        if (texts<0 || texts>size) {
+            throw new IOException("bad number of texts: " + texts);
+        }
+        for (int i=0; i<texts; i++) {
+            int index = in.readInt();
+            if (index<0 || index>=size) {
+                throw new IOException("bad token index: " + index);
+            }
+            result.texts.put(index, in.readUTF());
+        }
+        return result;
+    }
+    
+    @Override
+    public CommonToken get(int index) {
+        if (index<0 || index>=types.length) {
+            throw new IndexOutOfBoundsException("token index: " + index);
+        }
+        CommonToken token = new CommonToken(input, types[index], 
+                channels[index], starts[index], stops[index]);
+        token.setLine(lines[index]);
+        token.setCharPositionInLine(columns[index]);
+        token.setTokenIndex(index);
+        String text = texts.get(index);
+        if (text!=null) {
+            token.setText(text);
+        }
+        return token;
+    }
+    
+    @Override
+    public int size() {
+        return types.length;
+    }
+    
+}
@@ -0,0 +1,187 @@
+package com.redhat.ceylon.compiler.typechecker.parser;
+
+import static com.redhat.ceylon.compiler.typechecker.parser.CeylonLexer.LBRACE;
+import static com.redhat.ceylon.compiler.typechecker.parser.CeylonLexer.LIDENTIFIER;
+import static com.redhat.ceylon.compiler.typechecker.parser.CeylonLexer.QUOTED_LITERAL;
+import static com.redhat.ceylon.compiler.typechecker.parser.CeylonLexer.RBRACE;
+import static com.redhat.ceylon.compiler.typechecker.parser.CeylonLexer.SEMICOLON;
+import static com.redhat.ceylon.compiler.typechecker.parser.CeylonLexer.SPECIFY;
+import static com.redhat.ceylon.compiler.typechecker.parser.CeylonLexer.STRING_LITERAL;
+import static com.redhat.ceylon.compiler.typechecker.parser.CeylonLexer.UIDENTIFIER;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+
+import org.antlr.runtime.CharStream;
+import org.antlr.runtime.Token;
+
+/**
+ * Extracts the name, version and imports of a module 
+ * descriptor, or the name of a package descriptor, using 
+ * just the lexer, so that the dependencies of a module are
+ * known before its sources are parsed. Only descriptors
+ * written in the form understood by the ModuleVisitor, with
+ * literal values, are understood, and nothing is reported
+ * for malformed descriptors, which are validated later, 
+ * when they are parsed.
+ */
+public class DescriptorScanner {
+    
+    public static class Import {
+        private String name;
+        private String version;
+        private boolean optional;
+        private boolean export;
+        public String getName() {
+            return name;
+        }
+        public String getVersion() {
+            return version;
+        }
+        public boolean isOptional() {
+            return optional;
+        }
+        public boolean isExport() {
+            return export;
+        }
+        @Override
+        public String toString() {
+            return name + "/" + version;
+        }
+    }
+    
+    public static class Descriptor {
+        private final boolean module;
+        private String name;
+        private String version;
+        private boolean shared;
+        private final List<Import> imports = new ArrayList<Import>();
+        Descriptor(boolean module) {
+            this.module = module;
+        }
+        /**
+         * Is this the descriptor of a module, or else of 
+         * a package?
+         */
+        public boolean isModule() {
+            return module;
+        }
+        public String getName() {
+            return name;
+        }
+        public String getVersion() {
+            return version;
+        }
+        public boolean isShared() {
+            return shared;
+        }
+        public List<Import> getImports() {
+            return Collections.unmodifiableList(imports);
+        }
+        @Override
+        public String toString() {
+            return (module ? "Module " : "Package ") + name + 
+                    (module ? "/" + version + " " + imports : "");
+        }
+    }
+    
+    /**
+     * @return the descriptor, or null if the characters do
+     *         not contain a module or package descriptor
+     */
+    public static Descriptor scan(CharStream input) {
+        CeylonLexer lexer = new CeylonLexer(input);
+        Descriptor result = null;
+        //one entry for each open brace, the descriptor or
+        //import it opened, if any
+        LinkedList<Object> braces = new LinkedList<Object>();
+        Token[] recent = new Token[4];
+        while (true) {
+            Token token = lexer.nextToken();
+            int type = token.getType();
+            if (type==Token.EOF) {
+                return result;
+            }
+            if (token.getChannel()!=Token.DEFAULT_CHANNEL) {
+                continue;
+            }
+            if (type==LBRACE) {
+                Object opened = null;
+                //Module module { or Import {
+                Token previous = recent[3];
+                if (previous!=null && previous.getType()==LIDENTIFIER) {
+                    previous = recent[2];
+                }
+                if (previous!=null && previous.getType()==UIDENTIFIER) {
+                    String kind = previous.getText();
+                    if (braces.isEmpty() && result==null) {
+                        if (kind.equals("Module")) {
+                            opened = result = new Descriptor(true);
+                        }
+                        else if (kind.equals("Package")) {
+                            opened = result = new Descriptor(false);
+                        }
+                    }
+                    else if (kind.equals("Import") && result!=null && braces.size()==1 &&
+                            braces.getLast()==result && result.module) {
+                        opened = new Import();
+                    }
+                }
+                braces.addLast(opened);
+            }
+            else if (type==RBRACE) {
+                if (braces.isEmpty()) {
+                    return result;
+                }
+                Object closed = braces.removeLast();
+                if (closed instanceof Import) {
+                    result.imports.add((Import) closed);
+                }
+            }
+            else if (type==SEMICOLON && !braces.isEmpty() && 
+                    braces.getLast()!=null) {
+                //name = value;
+                if (recent[1]!=null && recent[1].getType()==LIDENTIFIER &&
+                        recent[2].getType()==SPECIFY) {
+                    assign(braces.getLast(), recent[1].getText(), 
+                            value(recent[3]));
+                }
+            }
+            System.arraycopy(recent, 1, recent, 0, recent.length-1);
+            recent[recent.length-1] = token;
+        }
+    }
+    
+    private static void assign(Object target, String name, String value) {
+        if (value==null) return;
+        if (target instanceof Import) {
+            Import imp = (Import) target;
+            if (name.equals("name")) imp.name = value;
+            else if (name.equals("version")) imp.version = value;
+            else if (name.equals("optional")) imp.optional = value.equals("true");
+            else if (name.equals("export")) imp.export = value.equals("true");
+        }
+        else {
+            Descriptor descriptor = (Descriptor) target;
+            if (name.equals("name")) descriptor.name = value;
+            else if (name.equals("version")) descriptor.version = value;
+            else if (name.equals("shared")) descriptor.shared = value.equals("true");
+        }
+    }
+    
+    private static String value(Token token) {
+        switch (token.getType()) {
+        case QUOTED_LITERAL:
+        case STRING_LITERAL:
+            String text = token.getText();
+            return text.length()>=2 ? text.substring(1, text.length()-1) : null;
+        case LIDENTIFIER:
+            return token.getText();
+        default:
+            return null;
+        }
+    }
+    
+}
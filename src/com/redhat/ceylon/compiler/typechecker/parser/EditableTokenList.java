@@ -0,0 +1,216 @@
+package com.redhat.ceylon.compiler.typechecker.parser;
+
+import java.util.AbstractList;
+import java.util.List;
+import java.util.RandomAccess;
+
+import org.antlr.runtime.CharStream;
+import org.antlr.runtime.CommonToken;
+import org.antlr.runtime.Token;
+
+/**
+ * The tokens of a source file which is being edited, kept
+ * as parallel arrays, like those of a CompactTokenList,
+ * with a gap at the last edit, so that replacing the tokens
+ * affected by an edit moves only the tokens between it and
+ * the previous edit. The tokens after the gap keep their
+ * offsets and lines relative to the end of the file, so
+ * that an edit does not have to move them, except for the
+ * columns of those on the line on which the edit ends.
+ *
+ * The list changes when the file is edited. Each call to
+ * get() creates a new token, whose position is that of
+ * the current text.
+ *
+ * @see IncrementalLexer
+ */
+public class EditableTokenList extends AbstractList<CommonToken>
+        implements RandomAccess {
+
+    private final CharStream input;
+    private int[] types;
+    private int[] starts;
+    private int[] stops;
+    private int[] lines;
+    private int[] columns;
+    private int[] channels;
+    private int size;
+    private int gapStart;
+    private int gapEnd;
+    //the ends of the file which the offsets and lines of
+    //the tokens after the gap are relative to
+    private int endIndex;
+    private int endLine;
+
+    /**
+     * @param input the characters the tokens were read
+     *        from, which are edited along with the list
+     * @param tokens the tokens of the whole file, ending
+     *        with EOF, whose text has not been replaced by
+     *        the lexer
+     */
+    EditableTokenList(CharStream input, List<? extends Token> tokens) {
+        this.input = input;
+        size = tokens.size();
+        int capacity = size + size/8 + 16;
+        types = new int[capacity];
+        starts = new int[capacity];
+        stops = new int[capacity];
+        lines = new int[capacity];
+        columns = new int[capacity];
+        channels = new int[capacity];
+        for (int i=0; i<size; i++) {
+            set(i, tokens.get(i));
+        }
+        gapStart = size;
+        gapEnd = capacity;
+        endIndex = input.size();
+        endLine = size==0 ? 1 : lines[size-1];
+    }
+
+    private void set(int i, Token token) {
+        types[i] = token.getType();
+        lines[i] = token.getLine();
+        columns[i] = token.getCharPositionInLine();
+        channels[i] = token.getChannel();
+        starts[i] = ((CommonToken) token).getStartIndex();
+        stops[i] = ((CommonToken) token).getStopIndex();
+    }
+
+    /**
+     * Replace the tokens from index from up to, but not
+     * including, index to with the given tokens, lexed
+     * from the edited characters, and move the tokens
+     * which follow by the given numbers of characters
+     * and lines.
+     *
+     * @param columnDelta the number of characters by which
+     *        the tokens on the same line as the token at
+     *        index to are moved along that line
+     */
+    void replace(int from, int to, List<? extends Token> tokens,
+            int charDelta, int lineDelta, int columnDelta) {
+        moveGap(to);
+        gapStart = from;
+        int inserted = tokens.size();
+        if (gapEnd-gapStart<inserted) {
+            grow(inserted);
+        }
+        for (Token token: tokens) {
+            set(gapStart++, token);
+        }
+        size += inserted-(to-from);
+        endIndex += charDelta;
+        endLine += lineDelta;
+        int capacity = types.length;
+        if (gapEnd<capacity) {
+            int line = lines[gapEnd];
+            for (int i=gapEnd; i<capacity && lines[i]==line; i++) {
+                columns[i] += columnDelta;
+            }
+        }
+    }
+
+    /**
+     * Move the gap to before the token at the given index,
+     * making the offsets and lines of the tokens which
+     * cross it relative to the other end of the file.
+     */
+    private void moveGap(int index) {
+        if (index<gapStart) {
+            int count = gapStart-index;
+            int target = gapEnd-count;
+            copy(index, target, count);
+            for (int i=target; i<gapEnd; i++) {
+                starts[i] -= endIndex;
+                stops[i] -= endIndex;
+                lines[i] -= endLine;
+            }
+            gapStart = index;
+            gapEnd = target;
+        }
+        else if (index>gapStart) {
+            int count = index-gapStart;
+            copy(gapEnd, gapStart, count);
+            for (int i=gapStart; i<index; i++) {
+                starts[i] += endIndex;
+                stops[i] += endIndex;
+                lines[i] += endLine;
+            }
+            gapStart = index;
+            gapEnd += count;
+        }
+    }
+
+    private void copy(int from, int to, int count) {
+        for (int[] array: new int[][] { types, starts, stops, lines, columns, channels }) {
+            System.arraycopy(array, from, array, to, count);
+        }
+    }
+
+    private void grow(int needed) {
+        int capacity = Math.max(types.length*2, size+needed+16);
+        int after = types.length-gapEnd;
+        int[][] arrays = { types, starts, stops, lines, columns, channels };
+        for (int a=0; a<arrays.length; a++) {
+            int[] grown = new int[capacity];
+            System.arraycopy(arrays[a], 0, grown, 0, gapStart);
+            System.arraycopy(arrays[a], gapEnd, grown, capacity-after, after);
+            arrays[a] = grown;
+        }
+        types = arrays[0];
+        starts = arrays[1];
+        stops = arrays[2];
+        lines = arrays[3];
+        columns = arrays[4];
+        channels = arrays[5];
+        gapEnd = capacity-after;
+    }
+
+    private int slot(int index) {
+        if (index<0 || index>=size) {
+            throw new IndexOutOfBoundsException("token index: " + index);
+        }
+        return index<gapStart ? index : index+gapEnd-gapStart;
+    }
+
+    int getType(int index) {
+        return types[slot(index)];
+    }
+
+    int getStartIndex(int index) {
+        int slot = slot(index);
+        return slot<gapStart ? starts[slot] : starts[slot]+endIndex;
+    }
+
+    int getStopIndex(int index) {
+        int slot = slot(index);
+        return slot<gapStart ? stops[slot] : stops[slot]+endIndex;
+    }
+
+    int getLine(int index) {
+        int slot = slot(index);
+        return slot<gapStart ? lines[slot] : lines[slot]+endLine;
+    }
+
+    int getCharPositionInLine(int index) {
+        return columns[slot(index)];
+    }
+
+    @Override
+    public CommonToken get(int index) {
+        int slot = slot(index);
+        AnchoredToken token = new AnchoredToken(input, types[slot],
+                channels[slot], getStartIndex(index), getStopIndex(index));
+        token.setLine(getLine(index));
+        token.setCharPositionInLine(columns[slot]);
+        token.setTokenIndex(index);
+        return token;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+}
@@ -0,0 +1,356 @@
+package com.redhat.ceylon.compiler.typechecker.parser;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.antlr.runtime.ANTLRStringStream;
+import org.antlr.runtime.CharStream;
+import org.antlr.runtime.CommonToken;
+import org.antlr.runtime.Token;
+
+/**
+ * The tokens of a source file which is being edited. After
+ * each edit, only the tokens around the edited characters
+ * are lexed again: the lexer starts from the last token
+ * which could not have been affected by the edit, and
+ * stops as soon as it reaches the start of a token which
+ * follows the edited characters, since from there on it
+ * would produce the same tokens as before. The tokens
+ * which follow are reused, moved along by the length of
+ * the edit.
+ *
+ * The characters and tokens of the file are edited in
+ * place, each with a gap at the last edit, so an edit
+ * costs in proportion to the tokens lexed again and to
+ * its distance from the previous edit. A token which was
+ * got from the list of tokens before an edit does not
+ * move along with the edit.
+ */
+public class IncrementalLexer {
+
+    /**
+     * The greatest number of characters beyond the end
+     * of a token which the lexer looks at to decide where
+     * the token ends, for the '[' of LBRACKET.
+     */
+    private static final int LOOKAHEAD = 3;
+
+    /**
+     * The characters of the file, with a gap at the last
+     * edit, so that an edit moves only the characters
+     * between it and the previous edit.
+     */
+    static class EditableCharStream extends ANTLRStringStream {
+        //the characters before the gap, then the gap, then
+        //the characters after it
+        private int gapStart;
+        private int gapEnd;
+        EditableCharStream(char[] data, String name) {
+            super(data, data.length);
+            this.name = name;
+            gapStart = data.length;
+            gapEnd = data.length;
+        }
+        void seek(int index, int line, int column) {
+            p = index;
+            this.line = line;
+            charPositionInLine = column;
+        }
+        char charAt(int index) {
+            return data[index<gapStart ? index : index+gapEnd-gapStart];
+        }
+        char[] getCharacters() {
+            return substring(0, n-1).toCharArray();
+        }
+        void edit(int offset, int removedLength, String insertedText) {
+            if (offset<gapStart) {
+                int count = gapStart-offset;
+                System.arraycopy(data, offset, data, gapEnd-count, count);
+                gapEnd -= count;
+            }
+            else if (offset>gapStart) {
+                int count = offset-gapStart;
+                System.arraycopy(data, gapEnd, data, gapStart, count);
+                gapEnd += count;
+            }
+            gapStart = offset;
+            gapEnd += removedLength;
+            int length = insertedText.length();
+            if (gapEnd-gapStart<length) {
+                int after = data.length-gapEnd;
+                char[] grown = new char[Math.max(data.length*2, 
+                        n-removedLength+length+16)];
+                System.arraycopy(data, 0, grown, 0, gapStart);
+                System.arraycopy(data, gapEnd, grown, grown.length-after, after);
+                gapEnd = grown.length-after;
+                data = grown;
+            }
+            insertedText.getChars(0, length, data, gapStart);
+            gapStart += length;
+            n += length-removedLength;
+        }
+        @Override
+        public void consume() {
+            if (p<n) {
+                charPositionInLine++;
+                if (charAt(p)=='\n') {
+                    line++;
+                    charPositionInLine = 0;
+                }
+                p++;
+            }
+        }
+        @Override
+        public int LA(int i) {
+            if (i==0) {
+                return 0;
+            }
+            if (i<0) {
+                i++;
+                if (p+i-1<0) {
+                    return CharStream.EOF;
+                }
+            }
+            if (p+i-1>=n) {
+                return CharStream.EOF;
+            }
+            return charAt(p+i-1);
+        }
+        @Override
+        public String substring(int start, int stop) {
+            int gap = gapEnd-gapStart;
+            if (stop<gapStart) {
+                return new String(data, start, stop-start+1);
+            }
+            else if (start>=gapStart) {
+                return new String(data, start+gap, stop-start+1);
+            }
+            else {
+                return new StringBuilder(stop-start+1)
+                        .append(data, start, gapStart-start)
+                        .append(data, gapEnd, stop+1-gapStart)
+                        .toString();
+            }
+        }
+        @Override
+        public String toString() {
+            return substring(0, n-1);
+        }
+    }
+
+    private final CeylonLexer lexer = new CeylonLexer(null);
+    private final EditableCharStream input;
+    private EditableTokenList tokens;
+    private List<LexError> errors;
+    private int firstRelexedToken;
+    private List<CommonToken> removedTokens =
+            Collections.<CommonToken>emptyList();
+    private int insertedTokens;
+    private int lineDelta;
+
+    /**
+     * Lex the given text.
+     */
+    public IncrementalLexer(String text, String sourceName) {
+        input = new EditableCharStream(text.toCharArray(), sourceName);
+        lexFully();
+    }
+
+    /**
+     * Start from tokens which have already been lexed, for
+     * example the tokens of a phased unit, ending with the
+     * EOF token. The text of the tokens must not have been
+     * replaced by the lexer. The lexer errors of the file
+     * are not known.
+     *
+     * @see com.redhat.ceylon.compiler.typechecker.context.PhasedUnit#getTokens()
+     */
+    public IncrementalLexer(List<? extends Token> tokens) {
+        if (tokens.isEmpty()) {
+            throw new IllegalArgumentException("no tokens, not even EOF");
+        }
+        CharStream stream = tokens.get(0).getInputStream();
+        char[] data;
+        if (stream instanceof VirtualFileCharStream) {
+            data = ((VirtualFileCharStream) stream).getCharacters().clone();
+        }
+        else if (stream instanceof EditableCharStream) {
+            data = ((EditableCharStream) stream).getCharacters();
+        }
+        else {
+            data = stream.substring(0, stream.size()-1).toCharArray();
+        }
+        input = new EditableCharStream(data, stream.getSourceName());
+        this.tokens = new EditableTokenList(input, tokens);
+        errors = new ArrayList<LexError>();
+    }
+
+    /**
+     * Lex the whole text again, for all its lexer errors.
+     */
+    void lexFully() {
+        input.reset();
+        lexer.setCharStream(input);
+        lexer.getErrors().clear();
+        List<Token> list = new ArrayList<Token>();
+        Token token;
+        do {
+            token = lexer.nextToken();
+            list.add(token);
+        }
+        while (token.getType()!=Token.EOF);
+        tokens = new EditableTokenList(input, list);
+        errors = new ArrayList<LexError>(lexer.getErrors());
+        firstRelexedToken = 0;
+        removedTokens = Collections.<CommonToken>emptyList();
+        insertedTokens = list.size();
+        lineDelta = 0;
+        lexer.setCharStream(null);
+        input.reset();
+    }
+
+    /**
+     * Replace the given number of characters, starting at
+     * the given offset, with the given text, and lex the
+     * affected tokens again.
+     */
+    public void edit(int offset, int removedLength, String insertedText) {
+        if (offset<0 || removedLength<0 || offset+removedLength>input.size()) {
+            throw new IndexOutOfBoundsException("edit of " + removedLength +
+                    " characters at " + offset + " in " + input.size());
+        }
+        int delta = insertedText.length()-removedLength;
+        int end = offset+removedLength;
+        input.edit(offset, removedLength, insertedText);
+
+        //the last token which ends far enough before the
+        //edit to be unaffected by it, since we know where
+        //it starts, and any unlexable characters after it
+        //may be affected
+        int first = 0;
+        int last = tokens.size()-1;
+        while (first<last) {
+            int middle = (first+last+1)/2;
+            if (tokens.getStopIndex(middle)+LOOKAHEAD<offset) {
+                first = middle;
+            }
+            else {
+                last = middle-1;
+            }
+        }
+        lexer.setCharStream(input);
+        lexer.getErrors().clear();
+        if (first==0) {
+            input.seek(0, 1, 0);
+        }
+        else {
+            input.seek(tokens.getStartIndex(first), tokens.getLine(first),
+                    tokens.getCharPositionInLine(first));
+        }
+
+        //lex until the end of a token is the start of a
+        //token after the edit
+        List<Token> relexed = new ArrayList<Token>();
+        int next = first;
+        while (true) {
+            Token token = lexer.nextToken();
+            relexed.add(token);
+            if (token.getType()==Token.EOF) {
+                next = tokens.size();
+                break;
+            }
+            int position = input.index();
+            while (next<tokens.size() &&
+                    (tokens.getStartIndex(next)<end ||
+                     tokens.getStartIndex(next)+delta<position)) {
+                next++;
+            }
+            if (next<tokens.size() &&
+                    tokens.getStartIndex(next)+delta==position) {
+                break;
+            }
+        }
+        lineDelta = 0;
+        int columnDelta = 0;
+        if (next<tokens.size()) {
+            lineDelta = input.getLine()-tokens.getLine(next);
+            columnDelta = input.getCharPositionInLine()-tokens.getCharPositionInLine(next);
+        }
+        removedTokens = new ArrayList<CommonToken>(tokens.subList(first, next));
+        tokens.replace(first, next, relexed, delta, lineDelta, columnDelta);
+        errors = new ArrayList<LexError>(lexer.getErrors());
+        firstRelexedToken = first;
+        insertedTokens = relexed.size();
+        lexer.setCharStream(null);
+        input.reset();
+    }
+
+    /**
+     * The tokens of the current text, ending with EOF.
+     */
+    public EditableTokenList getTokens() {
+        return tokens;
+    }
+
+    /**
+     * The characters of the current text, positioned at
+     * the start.
+     */
+    public CharStream getCharStream() {
+        return input;
+    }
+
+    /**
+     * The errors found by the lexer in the tokens it lexed
+     * for the last edit, or in the whole file, if it has
+     * not been edited.
+     */
+    public List<LexError> getLexErrors() {
+        return errors;
+    }
+
+    /**
+     * The index of the first token lexed for the last edit.
+     */
+    public int getFirstRelexedToken() {
+        return firstRelexedToken;
+    }
+
+    /**
+     * The number of tokens of the previous text which were
+     * replaced by the last edit, starting with the first
+     * relexed token.
+     */
+    public int getRemovedTokens() {
+        return removedTokens.size();
+    }
+
+    /**
+     * The number of tokens lexed for the last edit, which
+     * replaced the removed tokens.
+     */
+    public int getInsertedTokens() {
+        return insertedTokens;
+    }
+
+    /**
+     * The token which had the given index before the last
+     * edit, which must be one of the tokens before it or
+     * one of the removed tokens.
+     */
+    CommonToken getOldToken(int index) {
+        return index<firstRelexedToken ?
+                tokens.get(index) :
+                removedTokens.get(index-firstRelexedToken);
+    }
+
+    /**
+     * The number of lines by which the last edit moved the
+     * tokens after the removed tokens.
+     */
+    int getLineDelta() {
+        return lineDelta;
+    }
+
+}
@@ -0,0 +1,577 @@
+package com.redhat.ceylon.compiler.typechecker.parser;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.antlr.runtime.CommonToken;
+import org.antlr.runtime.RecognitionException;
+import org.antlr.runtime.Token;
+
+import com.redhat.ceylon.compiler.typechecker.tree.Message;
+import com.redhat.ceylon.compiler.typechecker.tree.NaturalVisitor;
+import com.redhat.ceylon.compiler.typechecker.tree.Node;
+import com.redhat.ceylon.compiler.typechecker.tree.Tree;
+import com.redhat.ceylon.compiler.typechecker.tree.Visitor;
+
+/**
+ * The tree of a source file which is being edited. After
+ * each edit, only the smallest declaration, at the top
+ * level or a member of a class, interface or object, whose
+ * text contains the edited characters, is parsed again,
+ * and the new declaration replaces the old one in the
+ * tree, so that the tree is the same as if the whole file
+ * had been parsed again.
+ *
+ * The tokens of the tree are anchored to the statements of
+ * the unit, and of the bodies of classes, interfaces and
+ * objects, which contain them, and their positions are
+ * kept relative to the first token of the statement. So
+ * an edit moves only the statements which follow the
+ * reparsed declaration in each of the bodies around it,
+ * and the few tokens of those bodies which follow it, such
+ * as their closing braces, instead of every token after
+ * it. Small files are always parsed again as a whole,
+ * which costs about the same, and their tokens are only
+ * anchored once they grow.
+ *
+ * The whole file is parsed again instead if no declaration
+ * contains the edit, if the edit changes where the tokens
+ * of the declaration begin or end, if the braces of the
+ * declaration no longer match, if the declaration does not
+ * parse cleanly, or if the unit has lexer or parser errors.
+ */
+public class IncrementalParser {
+
+    /**
+     * The number of characters below which a file is, by
+     * default, parsed again as a whole after every edit.
+     */
+    private static final int MIN_SIZE_TO_REPARSE = 1024;
+
+    private final IncrementalLexer lexer;
+    private int minSizeToReparse = MIN_SIZE_TO_REPARSE;
+    private Tree.CompilationUnit compilationUnit;
+    private Node reparsedNode;
+    //null until the tokens of the tree are anchored
+    private Anchor unitAnchor;
+
+    /**
+     * Parse the given text.
+     */
+    public IncrementalParser(String text, String sourceName)
+            throws RecognitionException {
+        lexer = new IncrementalLexer(text, sourceName);
+        parseFully();
+    }
+
+    /**
+     * Start from a unit which has already been parsed, for
+     * example the unit of a phased unit, and its tokens.
+     *
+     * @see IncrementalLexer#IncrementalLexer(List)
+     */
+    public IncrementalParser(Tree.CompilationUnit compilationUnit,
+            List<? extends Token> tokens) {
+        lexer = new IncrementalLexer(tokens);
+        this.compilationUnit = compilationUnit;
+        reparsedNode = compilationUnit;
+    }
+
+    /**
+     * Replace the given number of characters, starting at
+     * the given offset, with the given text, and parse the
+     * affected declaration again.
+     *
+     * @return the compilation unit, which is a new unit if
+     *         the whole file was parsed again
+     */
+    public Tree.CompilationUnit edit(int offset, int removedLength,
+            String insertedText) throws RecognitionException {
+        Site site = null;
+        if (lexer.getCharStream().size()>=minSizeToReparse &&
+                !hasErrors(compilationUnit, RecognitionError.class)) {
+            if (unitAnchor==null) {
+                unitAnchor = anchorUnit();
+            }
+            site = findSite(offset, offset+removedLength);
+        }
+        lexer.edit(offset, removedLength, insertedText);
+        if (site==null || !lexer.getLexErrors().isEmpty() ||
+                !reparse(site, insertedText.length()-removedLength)) {
+            //the lexer knows only the errors of the tokens
+            //it lexed again
+            if (!lexer.getLexErrors().isEmpty() ||
+                    hasErrors(compilationUnit, LexError.class)) {
+                lexer.lexFully();
+            }
+            parseFully();
+        }
+        return compilationUnit;
+    }
+
+    /**
+     * Parse small files again as a whole only below the
+     * given number of characters, instead of the default.
+     */
+    public void setMinSizeToReparse(int minSizeToReparse) {
+        this.minSizeToReparse = minSizeToReparse;
+    }
+
+    public Tree.CompilationUnit getCompilationUnit() {
+        return compilationUnit;
+    }
+
+    /**
+     * The declaration which was parsed again for the last
+     * edit, or the compilation unit, if the whole file was.
+     */
+    public Node getReparsedNode() {
+        return reparsedNode;
+    }
+
+    public IncrementalLexer getLexer() {
+        return lexer;
+    }
+
+    /**
+     * A statement of the unit, or of the body of a class,
+     * interface or object, or the unit itself, and the
+     * tokens it contains, apart from the tokens of the
+     * statements of its body, which have anchors of their
+     * own. Its offsets, index and line are those of its
+     * first token, relative to the anchor which contains
+     * it.
+     */
+    static class Anchor {
+        private final Anchor parent;
+        private final Node node;
+        private final List<Anchor> children = new ArrayList<Anchor>();
+        //the tokens anchored here which follow the first
+        //child, and move when a child before them grows
+        private final List<AnchoredToken> trailingTokens =
+                new ArrayList<AnchoredToken>();
+        private int startIndex;
+        private int tokenIndex;
+        private int line;
+        //the last character and token of the statement,
+        //relative to its first
+        private int stopIndex;
+        private int lastTokenIndex;
+        Anchor(Anchor parent, Node node) {
+            this.parent = parent;
+            this.node = node;
+        }
+        int getStartIndex() {
+            return parent==null ? startIndex : parent.getStartIndex()+startIndex;
+        }
+        int getTokenIndex() {
+            return parent==null ? tokenIndex : parent.getTokenIndex()+tokenIndex;
+        }
+        int getLine() {
+            return parent==null ? line : parent.getLine()+line;
+        }
+        void move(int chars, int tokens, int lines) {
+            startIndex += chars;
+            tokenIndex += tokens;
+            line += lines;
+        }
+    }
+
+    /**
+     * A declaration, the unit or body which contains it,
+     * and the ancestors of that unit or body.
+     */
+    private static class Site {
+        final Node parent;
+        final int index;
+        final Anchor anchor;
+        final List<Node> ancestors;
+        Site(Node parent, int index, Anchor anchor,
+                List<Node> ancestors) {
+            this.parent = parent;
+            this.index = index;
+            this.anchor = anchor;
+            this.ancestors = ancestors;
+        }
+    }
+
+    private static boolean hasErrors(Tree.CompilationUnit cu,
+            Class<? extends Message> kind) {
+        for (Message error: cu.getErrors()) {
+            if (kind.isInstance(error)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Anchor the tokens of the tree, replacing the tokens
+     * which are not anchored tokens of this file with
+     * copies.
+     */
+    private Anchor anchorUnit() {
+        Anchor anchor = new Anchor(null, compilationUnit);
+        Map<Token,AnchoredToken> copies =
+                new IdentityHashMap<Token,AnchoredToken>();
+        TokenAnchorer anchorer = new TokenAnchorer(anchor, null, copies);
+        for (Tree.CompilerAnnotation ca: compilationUnit.getCompilerAnnotations()) {
+            ca.visit(anchorer);
+        }
+        if (compilationUnit.getImportList()!=null) {
+            compilationUnit.getImportList().visit(anchorer);
+        }
+        for (AnchoredToken token: anchorer.tokens) {
+            token.anchor(anchor);
+        }
+        for (Tree.Declaration declaration: compilationUnit.getDeclarations()) {
+            anchor.children.add(anchorStatement(anchor, declaration, copies));
+        }
+        return anchor;
+    }
+
+    private Anchor anchorStatement(Anchor parent, Tree.Statement statement,
+            Map<Token,AnchoredToken> copies) {
+        //until its first token is known, the anchor is at
+        //the start of the file, so that the anchors of the
+        //statements of its body are where they are in the
+        //file, relative to it
+        Anchor anchor = new Anchor(parent, statement);
+        anchor.startIndex = -parent.getStartIndex();
+        anchor.tokenIndex = -parent.getTokenIndex();
+        anchor.line = -parent.getLine();
+        TokenAnchorer anchorer = new TokenAnchorer(anchor,
+                getBody(statement), copies);
+        statement.visit(anchorer);
+        CommonToken first = null;
+        CommonToken last = null;
+        for (AnchoredToken token: anchorer.tokens) {
+            if (first==null || token.getTokenIndex()<first.getTokenIndex()) {
+                first = token;
+            }
+            if (last==null || token.getTokenIndex()>last.getTokenIndex()) {
+                last = token;
+            }
+        }
+        //the statements of the body come after the first
+        //token, but may end after the last token
+        int stopIndex = last==null ? -1 : last.getStopIndex();
+        int lastTokenIndex = last==null ? -1 : last.getTokenIndex();
+        for (Anchor child: anchor.children) {
+            if (child.lastTokenIndex>=0) {
+                stopIndex = Math.max(stopIndex,
+                        child.startIndex+child.stopIndex);
+                lastTokenIndex = Math.max(lastTokenIndex,
+                        child.tokenIndex+child.lastTokenIndex);
+            }
+        }
+        if (first==null) {
+            //never reparsed, but kept in order
+            List<Anchor> siblings = parent.children;
+            if (siblings.isEmpty()) {
+                anchor.move(parent.getStartIndex(), 
+                        parent.getTokenIndex(), parent.getLine());
+            }
+            else {
+                Anchor previous = siblings.get(siblings.size()-1);
+                anchor.startIndex = previous.startIndex;
+                anchor.tokenIndex = previous.tokenIndex;
+                anchor.line = previous.line;
+            }
+            anchor.stopIndex = -1;
+            anchor.lastTokenIndex = -1;
+            return anchor;
+        }
+        int start = first.getStartIndex();
+        int index = first.getTokenIndex();
+        int line = first.getLine();
+        anchor.move(start, index, line);
+        anchor.stopIndex = stopIndex-start;
+        anchor.lastTokenIndex = lastTokenIndex-index;
+        for (Anchor child: anchor.children) {
+            child.move(-start, -index, -line);
+        }
+        int firstChild = anchor.children.isEmpty() ? 
+                Integer.MAX_VALUE : anchor.children.get(0).startIndex;
+        for (AnchoredToken token: anchorer.tokens) {
+            if (token.getAnchor()==null) {
+                token.anchor(anchor);
+                if (token.getStartIndex()-start>firstChild) {
+                    anchor.trailingTokens.add(token);
+                }
+            }
+        }
+        return anchor;
+    }
+
+    /**
+     * Collects the tokens of a statement, or of the unit,
+     * to be anchored to its anchor, and anchors the
+     * statements of its body to anchors of their own.
+     */
+    private class TokenAnchorer extends Visitor
+            implements NaturalVisitor {
+        private final Anchor anchor;
+        private final Tree.Body body;
+        private final Map<Token,AnchoredToken> copies;
+        private final List<AnchoredToken> tokens =
+                new ArrayList<AnchoredToken>();
+        TokenAnchorer(Anchor anchor, Tree.Body body,
+                Map<Token,AnchoredToken> copies) {
+            this.anchor = anchor;
+            this.body = body;
+            this.copies = copies;
+        }
+        @Override
+        public void visitAny(Node that) {
+            Token token = that.getMainToken();
+            if (token!=null) {
+                that.setMainToken(collect(token));
+            }
+            Token endToken = that.getRawEndToken();
+            if (endToken!=null) {
+                that.setEndToken(collect(endToken));
+            }
+            if (that==body) {
+                for (Tree.Statement statement: body.getStatements()) {
+                    anchor.children.add(anchorStatement(anchor,
+                            statement, copies));
+                }
+            }
+            else {
+                super.visitAny(that);
+            }
+        }
+        private AnchoredToken collect(Token token) {
+            AnchoredToken result;
+            if (token instanceof AnchoredToken &&
+                    token.getInputStream()==lexer.getCharStream()) {
+                result = (AnchoredToken) token;
+                if (result.getAnchor()!=null) {
+                    return result;
+                }
+            }
+            else {
+                result = copies.get(token);
+                if (result!=null) {
+                    return result;
+                }
+                result = new AnchoredToken(lexer.getCharStream(), token);
+                copies.put(token, result);
+            }
+            tokens.add(result);
+            return result;
+        }
+    }
+
+    /**
+     * The smallest declaration which contains the given
+     * characters, without starting with them, or null.
+     */
+    private Site findSite(int start, int end) {
+        Site site = null;
+        List<Node> ancestors = new ArrayList<Node>();
+        Node parent = compilationUnit;
+        Anchor parentAnchor = unitAnchor;
+        while (true) {
+            int index = findChild(parentAnchor,
+                    start-parentAnchor.getStartIndex());
+            if (index<0) break;
+            Anchor anchor = parentAnchor.children.get(index);
+            if (!(anchor.node instanceof Tree.Declaration) ||
+                    end>anchor.getStartIndex()+anchor.stopIndex) {
+                break;
+            }
+            site = new Site(parent, index, anchor,
+                    new ArrayList<Node>(ancestors));
+            Tree.Body body = getBody((Tree.Statement) anchor.node);
+            if (body==null) break;
+            ancestors.add(parent);
+            ancestors.add(anchor.node);
+            parent = body;
+            parentAnchor = anchor;
+        }
+        return site;
+    }
+
+    /**
+     * The index of the last of the statements of the given
+     * anchor which starts before the given offset, relative
+     * to the anchor, or -1.
+     */
+    private static int findChild(Anchor anchor, int offset) {
+        int low = 0;
+        int high = anchor.children.size()-1;
+        int result = -1;
+        while (low<=high) {
+            int middle = (low+high)/2;
+            if (anchor.children.get(middle).startIndex<offset) {
+                result = middle;
+                low = middle+1;
+            }
+            else {
+                high = middle-1;
+            }
+        }
+        return result;
+    }
+
+    private static Tree.Body getBody(Tree.Statement statement) {
+        if (statement instanceof Tree.ClassDefinition) {
+            return ((Tree.ClassDefinition) statement).getClassBody();
+        }
+        else if (statement instanceof Tree.InterfaceDefinition) {
+            return ((Tree.InterfaceDefinition) statement).getInterfaceBody();
+        }
+        else if (statement instanceof Tree.ObjectDefinition) {
+            return ((Tree.ObjectDefinition) statement).getClassBody();
+        }
+        else {
+            return null;
+        }
+    }
+
+    /**
+     * Parse the declaration again, from the new tokens, and
+     * put it in place of the old declaration.
+     *
+     * @param charDelta the number of characters the edit
+     *        added
+     * @return false if the whole file must be parsed again
+     */
+    private boolean reparse(Site site, int charDelta)
+            throws RecognitionException {
+        EditableTokenList tokens = lexer.getTokens();
+        int first = site.anchor.getTokenIndex();
+        int oldLast = first+site.anchor.lastTokenIndex;
+        int relexed = lexer.getFirstRelexedToken();
+        int removed = lexer.getRemovedTokens();
+        int tokenDelta = lexer.getInsertedTokens()-removed;
+        int last = oldLast+tokenDelta;
+        //the tokens after the declaration must be the old
+        //tokens, moved along
+        if (relexed+removed>oldLast+1) {
+            return false;
+        }
+        //and so must the tokens before it, and its first
+        //and last tokens must be of the same type
+        for (int i=relexed; i<first; i++) {
+            CommonToken old = lexer.getOldToken(i);
+            if (tokens.getType(i)!=old.getType() ||
+                    tokens.getStartIndex(i)!=old.getStartIndex() ||
+                    tokens.getStopIndex(i)!=old.getStopIndex()) {
+                return false;
+            }
+        }
+        if (last<first) {
+            return false;
+        }
+        CommonToken oldFirst = lexer.getOldToken(first);
+        if (tokens.getType(first)!=oldFirst.getType() ||
+                tokens.getStartIndex(first)!=oldFirst.getStartIndex() ||
+                oldLast<relexed+removed &&
+                tokens.getType(last)!=lexer.getOldToken(oldLast).getType()) {
+            return false;
+        }
+        int depth = 0;
+        for (int i=first; i<=last; i++) {
+            int type = tokens.getType(i);
+            if (type==CeylonLexer.LBRACE) {
+                depth++;
+            }
+            else if (type==CeylonLexer.RBRACE && --depth<0) {
+                return false;
+            }
+        }
+        if (depth!=0) {
+            return false;
+        }
+
+        Tree.Statement statement;
+        ParserSession session = ParserSession.get();
+        try {
+            statement = session.parseDeclarationOrStatement(tokens, first);
+            if (statement==null ||
+                    !session.getParseErrors().isEmpty() ||
+                    session.getLastTokenIndex()!=last ||
+                    site.parent instanceof Tree.CompilationUnit &&
+                    !(statement instanceof Tree.Declaration)) {
+                return false;
+            }
+        }
+        finally {
+            session.reset();
+        }
+
+        if (site.parent instanceof Tree.CompilationUnit) {
+            ((Tree.CompilationUnit) site.parent).getDeclarations()
+                    .set(site.index, (Tree.Declaration) statement);
+        }
+        else {
+            ((Tree.Body) site.parent).getStatements().set(site.index, statement);
+        }
+        site.parent.replaceChild(site.anchor.node, statement);
+        for (int i=site.ancestors.size()-1; i>=0; i--) {
+            site.ancestors.get(i).updateNodeKinds();
+        }
+        Anchor parent = site.anchor.parent;
+        Anchor anchor = anchorStatement(parent, statement,
+                new IdentityHashMap<Token,AnchoredToken>());
+        parent.children.set(site.index, anchor);
+        moveFollowing(anchor, site.index, charDelta, tokenDelta,
+                lexer.getLineDelta());
+        reparsedNode = statement;
+        return true;
+    }
+
+    /**
+     * Move the statements and tokens which follow the
+     * anchor at the given index of its parent, and those
+     * which follow each of its ancestors, which grow, by
+     * the given numbers of characters, tokens and lines.
+     */
+    private static void moveFollowing(Anchor anchor, int index,
+            int chars, int tokens, int lines) {
+        while (anchor.parent!=null) {
+            Anchor parent = anchor.parent;
+            for (int i=index+1; i<parent.children.size(); i++) {
+                parent.children.get(i).move(chars, tokens, lines);
+            }
+            int start = anchor.getStartIndex();
+            for (AnchoredToken token: parent.trailingTokens) {
+                if (token.getStartIndex()>start) {
+                    token.move(chars, tokens, lines);
+                }
+            }
+            parent.stopIndex += chars;
+            parent.lastTokenIndex += tokens;
+            if (parent.parent!=null) {
+                index = findChild(parent.parent, parent.startIndex+1);
+            }
+            anchor = parent;
+        }
+    }
+
+    private void parseFully() throws RecognitionException {
+        ParserSession session = ParserSession.get();
+        try {
+            Tree.CompilationUnit cu = session.parse(lexer.getTokens());
+            for (LexError le: lexer.getLexErrors()) {
+                cu.addLexError(le);
+            }
+            for (ParseError pe: session.getParseErrors()) {
+                cu.addParseError(pe);
+            }
+            cu.indexNodeKinds();
+            compilationUnit = cu;
+            reparsedNode = cu;
+            unitAnchor = null;
+        }
+        finally {
+            session.reset();
+        }
+    }
+
+}
@@ -4,11 +4,14 @@ import org.antlr.runtime.RecognitionException;
 
 public class LexError extends RecognitionError {
 	
-	private CeylonLexer lexer;
+	private final String header;
+	private final String message;
 	
 	public LexError(CeylonLexer lexer, RecognitionException re, String[] tn) {
 		super(re, tn);	
-		this.lexer = lexer;
+		//the lexer may be reused for another file
+		header = lexer.getErrorHeader(re);
+		message = lexer.getErrorMessage(re, tn);
 	}
 
 	public char getCharacter() {
@@ -16,7 +19,7 @@ public class LexError extends RecognitionError {
 	}
     
 	public String getHeader() {
-		return lexer.getErrorHeader(recognitionException);
+		return header;
 	}
 	
     @Override
@@ -26,7 +29,7 @@ public class LexError extends RecognitionError {
     
     @Override
 	public String getMessage() {
-		return lexer.getErrorMessage(recognitionException, tokenNames);
+		return message;
 	}
 	
 	@Override
@@ -0,0 +1,67 @@
+package com.redhat.ceylon.compiler.typechecker.parser;
+
+/**
+ * A limit on the work done by the parser for a single unit, 
+ * so that malformed input which sends it backtracking over 
+ * the same tokens again and again can't take time out of 
+ * proportion to its size. The work is measured in tokens 
+ * looked at, and is limited in proportion to the number of 
+ * tokens of the unit. The time spent may also be limited, 
+ * though, unlike the amount of work, it varies between 
+ * runs. A unit which exceeds its budget is reported as a 
+ * parse error.
+ */
+public class ParseBudget {
+    
+    /**
+     * No limit at all.
+     */
+    public static final ParseBudget UNLIMITED = new ParseBudget(0, 0, 0);
+    
+    /**
+     * A limit on the work done, far above what the parser 
+     * does for the sources of the language module and the
+     * tests, at most some 20 times per token, and no limit
+     * on time.
+     */
+    public static final ParseBudget DEFAULT = new ParseBudget(500, 1000000, 0);
+    
+    private final int lookaheadPerToken;
+    private final int minLookahead;
+    private final long millis;
+    
+    /**
+     * @param lookaheadPerToken the number of times the
+     *        parser may look at a token, for each token 
+     *        of the unit, or 0 for no limit
+     * @param minLookahead the number of times the parser
+     *        may look at a token of a unit with very few
+     *        tokens
+     * @param millis the time allowed to parse a unit, or
+     *        0 for no limit
+     */
+    public ParseBudget(int lookaheadPerToken, int minLookahead, long millis) {
+        this.lookaheadPerToken = lookaheadPerToken;
+        this.minLookahead = minLookahead;
+        this.millis = millis;
+    }
+    
+    public int getLookaheadPerToken() {
+        return lookaheadPerToken;
+    }
+    
+    public int getMinLookahead() {
+        return minLookahead;
+    }
+    
+    public long getMillis() {
+        return millis;
+    }
+    
+    @Override
+    public String toString() {
+        return "ParseBudget[" + lookaheadPerToken + " per token, " + 
+                minLookahead + " minimum, " + millis + " ms]";
+    }
+    
+}
@@ -0,0 +1,200 @@
+package com.redhat.ceylon.compiler.typechecker.parser;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+import com.redhat.ceylon.compiler.typechecker.tree.AbstractTreeReader;
+import com.redhat.ceylon.compiler.typechecker.tree.AbstractTreeWriter;
+import com.redhat.ceylon.compiler.typechecker.tree.CustomTree;
+import com.redhat.ceylon.compiler.typechecker.tree.Node;
+import com.redhat.ceylon.compiler.typechecker.tree.Tree;
+import com.redhat.ceylon.compiler.typechecker.tree.TreeReader;
+import com.redhat.ceylon.compiler.typechecker.tree.TreeWriter;
+
+/**
+ * A directory of parsed source files, keyed by a hash of 
+ * their characters and of the parser and tree classes 
+ * which produced them, so that a file whose contents have 
+ * not changed since it was last parsed, by the same build
+ * of the parser, need not be parsed again. 
+ * 
+ * The cache is only an optimization: an entry which can't
+ * be read or written is simply ignored, and the source is
+ * parsed as usual. Only units which were parsed without 
+ * errors are stored.
+ */
+public class ParseCache {
+    
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+    
+    private static final Class<?>[] VERSIONED_CLASSES = { 
+        CeylonLexer.class, CeylonParser.class, CompactTokenList.class,
+        Node.class, Tree.class, CustomTree.class, 
+        AbstractTreeWriter.class, AbstractTreeReader.class, 
+        TreeWriter.class, TreeReader.class 
+    };
+    
+    private static byte[] version;
+    
+    private final File directory;
+    
+    public ParseCache(File directory) {
+        this.directory = directory;
+    }
+    
+    public File getDirectory() {
+        return directory;
+    }
+    
+    /**
+     * The key of the entry for the given characters, parsed
+     * with or without the bodies of declarations.
+     */
+    public String getKey(VirtualFileCharStream input, boolean skipBodies) {
+        MessageDigest digest = newDigest();
+        digest.update(getVersion());
+        digest.update((byte) (skipBodies ? 1 : 0));
+        char[] chars = input.getCharacters();
+        byte[] bytes = new byte[8192];
+        for (int i=0; i<chars.length; ) {
+            int length = 0;
+            for (; i<chars.length && length<bytes.length; i++) {
+                bytes[length++] = (byte) (chars[i]>>8);
+                bytes[length++] = (byte) chars[i];
+            }
+            digest.update(bytes, 0, length);
+        }
+        return toHex(digest.digest());
+    }
+    
+    /**
+     * Read the entry with the given key, whose tokens read 
+     * their text from the given characters.
+     * 
+     * @return the entry, or null if there is no entry, or 
+     *         if it could not be read
+     */
+    public ParsedSource load(String key, VirtualFileCharStream input) {
+        File file = getFile(key);
+        if (!file.isFile()) {
+            return null;
+        }
+        try {
+            InputStream in = new BufferedInputStream(new FileInputStream(file));
+            try {
+                CompactTokenList tokens = CompactTokenList.read(new DataInputStream(in), input);
+                Tree.CompilationUnit compilationUnit = new TreeReader(in).read(input);
+                return new ParsedSource(compilationUnit, tokens);
+            }
+            finally {
+                in.close();
+            }
+        }
+        catch (Exception e) {
+            //a truncated or otherwise damaged entry,
+            //which will be replaced after parsing
+            return null;
+        }
+    }
+    
+    /**
+     * Write an entry with the given key, replacing any
+     * existing entry atomically, so that concurrent 
+     * readers never see a partially written entry.
+     */
+    public void store(String key, Tree.CompilationUnit compilationUnit, 
+            CompactTokenList tokens) {
+        File file = getFile(key);
+        File temp = null;
+        try {
+            directory.mkdirs();
+            temp = File.createTempFile(key, ".tmp", directory);
+            DataOutputStream out = new DataOutputStream(
+                    new BufferedOutputStream(new FileOutputStream(temp)));
+            try {
+                tokens.write(out);
+                new TreeWriter(out).write(compilationUnit);
+            }
+            finally {
+                out.close();
+            }
+            if (temp.renameTo(file)) {
+                temp = null;
+            }
+        }
+        catch (IOException e) {
+            //the unit will just be parsed again next time
+        }
+        finally {
+            if (temp!=null) {
+                temp.delete();
+            }
+        }
+    }
+    
+    private File getFile(String key) {
+        return new File(directory, key + ".ast");
+    }
+    
+    /**
+     * A hash of the class files of the parser and of the
+     * tree, since a change to either may change the trees
+     * they produce, or the format they are stored in.
+     */
+    private static synchronized byte[] getVersion() {
+        if (version==null) {
+            MessageDigest digest = newDigest();
+            byte[] buffer = new byte[8192];
+            for (Class<?> c: VERSIONED_CLASSES) {
+                String name = c.getName();
+                digest.update(name.getBytes());
+                InputStream in = c.getResourceAsStream(name.substring(name.lastIndexOf('.')+1) + ".class");
+                if (in!=null) {
+                    try {
+                        try {
+                            for (int read; (read = in.read(buffer))>0; ) {
+                                digest.update(buffer, 0, read);
+                            }
+                        }
+                        finally {
+                            in.close();
+                        }
+                    }
+                    catch (IOException e) {
+                        //hash just the name
+                    }
+                }
+            }
+            version = digest.digest();
+        }
+        return version;
+    }
+    
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-1");
+        }
+        catch (NoSuchAlgorithmException e) {
+            throw new RuntimeException(e);
+        }
+    }
+    
+    private static String toHex(byte[] bytes) {
+        char[] result = new char[bytes.length*2];
+        for (int i=0; i<bytes.length; i++) {
+            result[i*2] = HEX[(bytes[i]>>4) & 0xf];
+            result[i*2+1] = HEX[bytes[i] & 0xf];
+        }
+        return new String(result);
+    }
+    
+}
@@ -4,11 +4,25 @@ import org.antlr.runtime.RecognitionException;
 
 public class ParseError extends RecognitionError {
 	
-	private CeylonParser parser;
+	private final String header;
+	private final String message;
 	
 	public ParseError(CeylonParser parser, RecognitionException re, String[] tn) {
 		super(re, tn);
-		this.parser = parser;
+		//the parser may be reused for another file
+		header = parser.getErrorHeader(re);
+		message = parser.getErrorMessage(re, tn);
+	}
+
+	/**
+	 * An error at the position of the given exception, 
+	 * with the given message.
+	 */
+	public ParseError(CeylonParser parser, RecognitionException re, String[] tn, 
+	        String message) {
+		super(re, tn);
+		header = parser.getErrorHeader(re);
+		this.message = message;
 	}
 
 	public String getToken() {
@@ -16,7 +30,7 @@ public class ParseError extends RecognitionError {
 	}
 	
 	public String getHeader() {
-		return parser.getErrorHeader(recognitionException);
+		return header;
 	}
 	
     @Override
@@ -26,7 +40,7 @@ public class ParseError extends RecognitionError {
     
 	@Override 
 	public String getMessage() {
-		return parser.getErrorMessage(recognitionException, tokenNames);
+		return message;
 	}
 	
 	@Override
@@ -0,0 +1,27 @@
+package com.redhat.ceylon.compiler.typechecker.parser;
+
+import com.redhat.ceylon.compiler.typechecker.tree.Tree;
+
+/**
+ * A parsed source file: its compilation unit, with any
+ * lexer and parser errors attached, and its tokens.
+ */
+public class ParsedSource {
+    
+    private final Tree.CompilationUnit compilationUnit;
+    private final CompactTokenList tokens;
+    
+    public ParsedSource(Tree.CompilationUnit compilationUnit, CompactTokenList tokens) {
+        this.compilationUnit = compilationUnit;
+        this.tokens = tokens;
+    }
+    
+    public Tree.CompilationUnit getCompilationUnit() {
+        return compilationUnit;
+    }
+    
+    public CompactTokenList getTokens() {
+        return tokens;
+    }
+    
+}
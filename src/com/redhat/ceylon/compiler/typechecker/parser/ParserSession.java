@@ -0,0 +1,255 @@
+package com.redhat.ceylon.compiler.typechecker.parser;
+
+import java.util.List;
+
+import org.antlr.runtime.CharStream;
+import org.antlr.runtime.RecognitionException;
+import org.antlr.runtime.Token;
+import org.antlr.runtime.TokenSource;
+
+import com.redhat.ceylon.compiler.typechecker.tree.Tree;
+
+/**
+ * A lexer and parser which are reused to parse one source
+ * file after another on the same thread, instead of being
+ * created, along with their DFAs, for every file.
+ */
+public class ParserSession {
+    
+    private static final ThreadLocal<ParserSession> sessions = new ThreadLocal<ParserSession>() {
+        @Override protected ParserSession initialValue() {
+            return new ParserSession();
+        }
+    };
+    
+    /**
+     * The session of the current thread.
+     */
+    public static ParserSession get() {
+        return sessions.get();
+    }
+    
+    private final CeylonLexer lexer = new CeylonLexer(null);
+    private final BudgetedTokenStream tokenStream = new BudgetedTokenStream();
+    private final CeylonParser parser = new CeylonParser(tokenStream);
+    
+    private ParserSession() {}
+    
+    /**
+     * Parse the given characters. The tokens and errors
+     * are available from this session until it is reset
+     * or used to parse something else.
+     */
+    public Tree.CompilationUnit parse(CharStream input) 
+            throws RecognitionException {
+        return parse(input, false);
+    }
+    
+    /**
+     * Parse the given characters, skipping the bodies of
+     * methods, getters and setters if requested, within
+     * the default budget.
+     * 
+     * @see CeylonParser#setSkipBodies(boolean)
+     */
+    public Tree.CompilationUnit parse(CharStream input, boolean skipBodies) 
+            throws RecognitionException {
+        return parse(input, skipBodies, ParseBudget.DEFAULT);
+    }
+    
+    /**
+     * Parse the given characters, skipping the bodies of
+     * methods, getters and setters if requested. If the
+     * parser exceeds the given budget, it gives up, and 
+     * the result is an empty compilation unit, with a
+     * parse error saying so. So it is if the unit is 
+     * nested too deeply for the stack of the parser.
+     */
+    public Tree.CompilationUnit parse(CharStream input, boolean skipBodies, 
+            ParseBudget budget) 
+            throws RecognitionException {
+        reset();
+        lexer.setCharStream(input);
+        tokenStream.setTokenSource(lexer);
+        parser.setTokenStream(tokenStream);
+        parser.setSkipBodies(skipBodies);
+        tokenStream.setBudget(budget, true);
+        try {
+            return parser.compilationUnit();
+        }
+        catch (BudgetedTokenStream.BudgetExceededException e) {
+            return giveUp(e.getMessage());
+        }
+        catch (StackOverflowError e) {
+            return giveUp("parser gave up, the unit is nested too deeply");
+        }
+    }
+    
+    /**
+     * Parse a unit from tokens which were already lexed,
+     * ending with EOF, within the default budget. The
+     * lexer errors are those of whoever lexed them.
+     */
+    public Tree.CompilationUnit parse(List<? extends Token> tokens)
+            throws RecognitionException {
+        reset();
+        tokenStream.setTokenSource(new TokenListSource(tokens, 0));
+        parser.setTokenStream(tokenStream);
+        parser.setSkipBodies(false);
+        tokenStream.setBudget(ParseBudget.DEFAULT, true);
+        try {
+            return parser.compilationUnit();
+        }
+        catch (BudgetedTokenStream.BudgetExceededException e) {
+            return giveUp(e.getMessage());
+        }
+        catch (StackOverflowError e) {
+            return giveUp("parser gave up, the unit is nested too deeply");
+        }
+    }
+
+    /**
+     * Parse a single declaration or statement from tokens
+     * which were already lexed, starting with the token at
+     * the given index, within the default budget, for an
+     * incremental reparse of a unit. The tokens keep their
+     * index in the unit.
+     * 
+     * @return the declaration or statement, or null if the
+     *         parser gave up
+     * @see #getLastTokenIndex()
+     */
+    public Tree.Statement parseDeclarationOrStatement(List<? extends Token> tokens, 
+            int from) throws RecognitionException {
+        reset();
+        tokenStream.setTokenSource(new TokenListSource(tokens, from), from);
+        parser.setTokenStream(tokenStream);
+        parser.setSkipBodies(false);
+        tokenStream.setBudget(ParseBudget.DEFAULT, true);
+        try {
+            return parser.declarationOrStatement();
+        }
+        catch (BudgetedTokenStream.BudgetExceededException e) {
+            return null;
+        }
+        catch (StackOverflowError e) {
+            return null;
+        }
+    }
+    
+    /**
+     * The index in the unit of the last token consumed by 
+     * the parser, or -1 if it consumed none, after parsing
+     * something.
+     */
+    public int getLastTokenIndex() {
+        Token token = tokenStream.LT(-1);
+        return token==null ? -1 : token.getTokenIndex();
+    }
+    
+    private static class TokenListSource implements TokenSource {
+        private final List<? extends Token> tokens;
+        private int index;
+        TokenListSource(List<? extends Token> tokens, int from) {
+            this.tokens = tokens;
+            this.index = from;
+        }
+        @Override
+        public Token nextToken() {
+            //the last token is EOF
+            return tokens.get(Math.min(index++, tokens.size()-1));
+        }
+        @Override
+        public String getSourceName() {
+            return tokens.get(0).getInputStream().getSourceName();
+        }
+    }
+    
+    /**
+     * Report the given error at the current position of 
+     * the parser, in place of the unit.
+     */
+    private Tree.CompilationUnit giveUp(String message) {
+        tokenStream.setBudget(ParseBudget.UNLIMITED, false);
+        RecognitionException re = new RecognitionException(tokenStream);
+        parser.getErrors().add(new ParseError(parser, re, 
+                parser.getTokenNames(), message));
+        //lex the rest of the unit, for its tokens and 
+        //lexer errors
+        tokenStream.fill();
+        return new Tree.CompilationUnit(null);
+    }
+    
+    /**
+     * Parse the given characters, or read them from the
+     * given cache, if it has an entry for them, attaching
+     * the lexer and parser errors to the compilation unit,
+     * and storing it in the cache if there were none.
+     * 
+     * @param cache the cache, or null
+     */
+    public ParsedSource parse(VirtualFileCharStream input, boolean skipBodies, 
+            ParseBudget budget, ParseCache cache) throws RecognitionException {
+        String key = null;
+        if (cache!=null) {
+            key = cache.getKey(input, skipBodies);
+            ParsedSource cached = cache.load(key, input);
+            if (cached!=null) {
+                return cached;
+            }
+        }
+        try {
+            Tree.CompilationUnit cu = parse(input, skipBodies, budget);
+            CompactTokenList tokens = new CompactTokenList(getTokens());
+            for (LexError le : getLexErrors()) {
+                cu.addLexError(le);
+            }
+            for (ParseError pe : getParseErrors()) {
+                cu.addParseError(pe);
+            }
+            if (cache!=null && cu.getErrors().isEmpty()) {
+                cache.store(key, cu, tokens);
+            }
+            return new ParsedSource(cu, tokens);
+        }
+        finally {
+            reset();
+        }
+    }
+    
+    @SuppressWarnings("unchecked")
+    public List<? extends Token> getTokens() {
+        return tokenStream.getTokens();
+    }
+    
+    /**
+     * The number of times the parser looked at a token 
+     * while parsing the last source.
+     * 
+     * @see ParseBudget
+     */
+    public long getLookahead() {
+        return tokenStream.getLookahead();
+    }
+    
+    public List<LexError> getLexErrors() {
+        return lexer.getErrors();
+    }
+    
+    public List<ParseError> getParseErrors() {
+        return parser.getErrors();
+    }
+    
+    /**
+     * Forget the last source parsed, so that the session
+     * does not hold on to its characters and tokens.
+     */
+    public void reset() {
+        lexer.setCharStream(null);
+        lexer.getErrors().clear();
+        tokenStream.setTokenSource(lexer);
+        parser.setTokenStream(tokenStream);
+        parser.getErrors().clear();
+    }
+    
+}
@@ -0,0 +1,158 @@
+package com.redhat.ceylon.compiler.typechecker.parser;
+
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+
+import org.antlr.runtime.ANTLRStringStream;
+
+import com.redhat.ceylon.compiler.typechecker.io.VirtualFile;
+import com.redhat.ceylon.compiler.typechecker.io.impl.FileSystemVirtualFile;
+import com.redhat.ceylon.compiler.typechecker.io.impl.ZipEntryVirtualFile;
+
+/**
+ * A stream of the characters of a source file, decoded
+ * with NIO using an explicit charset. A large file of the
+ * file system is memory mapped, and any other file is 
+ * read into a buffer of the size of the file. The byte
+ * and character buffers are reused by each thread, so 
+ * that the only array allocated for a file is the array 
+ * of its characters, which the tokens refer to.
+ */
+public class VirtualFileCharStream extends ANTLRStringStream {
+    
+    private static final int MIN_MAPPED_SIZE = 64*1024;
+    
+    private static final class Buffers {
+        ByteBuffer bytes = ByteBuffer.allocate(8*1024);
+        CharBuffer chars = CharBuffer.allocate(8*1024);
+        CharsetDecoder decoder;
+    }
+    
+    private static final ThreadLocal<Buffers> buffers = new ThreadLocal<Buffers>() {
+        @Override protected Buffers initialValue() {
+            return new Buffers();
+        }
+    };
+    
+    public VirtualFileCharStream(VirtualFile file, Charset charset) 
+            throws IOException {
+        this(decode(file, charset));
+    }
+    
+    private VirtualFileCharStream(char[] data) {
+        super(data, data.length);
+    }
+    
+    char[] getCharacters() {
+        return data;
+    }
+    
+    private static char[] decode(VirtualFile file, Charset charset) 
+            throws IOException {
+        Buffers buffers = VirtualFileCharStream.buffers.get();
+        ByteBuffer bytes;
+        if (file instanceof FileSystemVirtualFile) {
+            FileInputStream in = new FileInputStream(((FileSystemVirtualFile) file).getFile());
+            try {
+                FileChannel channel = in.getChannel();
+                long size = channel.size();
+                if (size>=MIN_MAPPED_SIZE) {
+                    bytes = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+                }
+                else {
+                    bytes = buffer(buffers, (int) size);
+                    while (bytes.hasRemaining() && channel.read(bytes)>=0);
+                    bytes.flip();
+                }
+            }
+            finally {
+                in.close();
+            }
+        }
+        else {
+            long size = file instanceof ZipEntryVirtualFile ? 
+                    ((ZipEntryVirtualFile) file).getSize() : -1;
+            bytes = buffer(buffers, size<0 ? 0 : (int) size);
+            InputStream in = file.getInputStream();
+            try {
+                while (true) {
+                    if (!bytes.hasRemaining()) {
+                        //usually the end of the file
+                        int next = in.read();
+                        if (next<0) break;
+                        ByteBuffer larger = ByteBuffer.allocate(bytes.capacity()*2+1);
+                        bytes.flip();
+                        larger.put(bytes);
+                        larger.put((byte) next);
+                        bytes = larger;
+                        buffers.bytes = larger;
+                    }
+                    int read = in.read(bytes.array(), bytes.position(), bytes.remaining());
+                    if (read<0) break;
+                    bytes.position(bytes.position()+read);
+                }
+            }
+            finally {
+                in.close();
+            }
+            bytes.flip();
+        }
+        return decode(bytes, charset, buffers);
+    }
+    
+    private static ByteBuffer buffer(Buffers buffers, int size) {
+        ByteBuffer bytes = buffers.bytes;
+        if (bytes.capacity()<size) {
+            bytes = ByteBuffer.allocate(size);
+            buffers.bytes = bytes;
+        }
+        else {
+            bytes.clear();
+        }
+        return bytes;
+    }
+    
+    private static char[] decode(ByteBuffer bytes, Charset charset, Buffers buffers) 
+            throws IOException {
+        CharsetDecoder decoder = buffers.decoder;
+        if (decoder==null || !decoder.charset().equals(charset)) {
+            //replace malformed input, like an InputStreamReader
+            decoder = charset.newDecoder()
+                    .onMalformedInput(CodingErrorAction.REPLACE)
+                    .onUnmappableCharacter(CodingErrorAction.REPLACE);
+            buffers.decoder = decoder;
+        }
+        else {
+            decoder.reset();
+        }
+        int capacity = (int) (bytes.remaining() * (double) decoder.maxCharsPerByte()) + 1;
+        CharBuffer chars = buffers.chars;
+        if (chars.capacity()<capacity) {
+            chars = CharBuffer.allocate(capacity);
+            buffers.chars = chars;
+        }
+        else {
+            chars.clear();
+        }
+        CoderResult result = decoder.decode(bytes, chars, true);
+        if (result.isUnderflow()) {
+            result = decoder.flush(chars);
+        }
+        if (!result.isUnderflow()) {
+            result.throwException();
+        }
+        chars.flip();
+        char[] data = new char[chars.remaining()];
+        chars.get(data);
+        return data;
+    }
+    
+}
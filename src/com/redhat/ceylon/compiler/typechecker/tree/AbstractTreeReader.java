@@ -0,0 +1,272 @@
+package com.redhat.ceylon.compiler.typechecker.tree;
+
+import static com.redhat.ceylon.compiler.typechecker.tree.AbstractTreeWriter.FORMAT_VERSION;
+import static com.redhat.ceylon.compiler.typechecker.tree.AbstractTreeWriter.HAS_INPUT;
+import static com.redhat.ceylon.compiler.typechecker.tree.AbstractTreeWriter.HAS_POSITION;
+import static com.redhat.ceylon.compiler.typechecker.tree.AbstractTreeWriter.HAS_TEXT;
+import static com.redhat.ceylon.compiler.typechecker.tree.AbstractTreeWriter.NULL;
+import static com.redhat.ceylon.compiler.typechecker.tree.AbstractTreeWriter.REFERENCE;
+import static com.redhat.ceylon.compiler.typechecker.tree.AbstractTreeWriter.VALUE;
+import static com.redhat.ceylon.compiler.typechecker.tree.AbstractTreeWriter.column;
+import static com.redhat.ceylon.compiler.typechecker.tree.AbstractTreeWriter.line;
+import static com.redhat.ceylon.compiler.typechecker.tree.AbstractTreeWriter.lineStarts;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Constructor;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.antlr.runtime.CharStream;
+import org.antlr.runtime.CommonToken;
+import org.antlr.runtime.Token;
+
+/**
+ * Reads trees written by {@link AbstractTreeWriter}. The
+ * subnodes and fields of each kind of node are read by the
+ * generated {@link TreeReader}. The tokens of a tree read
+ * their text from the given character stream, which must 
+ * contain the source the tree was parsed from.
+ */
+public abstract class AbstractTreeReader {
+    
+    private static final Constructor<?>[] customConstructors = 
+            new Constructor<?>[Tree.SUPER_KINDS.length];
+    
+    static {
+        for (Class<?> c: CustomTree.class.getDeclaredClasses()) {
+            try {
+                int kind = c.getField("KIND").getInt(null);
+                customConstructors[kind] = c.getConstructor(Token.class);
+            }
+            catch (Exception e) {
+                throw new ExceptionInInitializerError(e);
+            }
+        }
+    }
+    
+    private final InputStream in;
+    private final byte[] buffer = new byte[8192];
+    private int position;
+    private int limit;
+    private CharStream input;
+    private final List<Node> nodes = new ArrayList<Node>();
+    private final List<Token> tokens = new ArrayList<Token>();
+    private final List<String> strings = new ArrayList<String>();
+    private List<Node> subnodes;
+    private int[] lineStarts;
+    private int lastStart;
+    private int lastIndex;
+    
+    protected AbstractTreeReader(InputStream in) {
+        this.in = in;
+    }
+    
+    /**
+     * Read the next tree from the stream. Since the stream
+     * is read ahead, any further trees written to it must 
+     * be read by this reader.
+     * 
+     * @param input the source the tree was parsed from
+     */
+    public Tree.CompilationUnit read(CharStream input) throws IOException {
+        this.input = input;
+        int version = readInt();
+        if (version!=FORMAT_VERSION) {
+            throw new IOException("unsupported tree format: " + version);
+        }
+        try {
+            return (Tree.CompilationUnit) readNode();
+        }
+        finally {
+            nodes.clear();
+            tokens.clear();
+            strings.clear();
+            subnodes = null;
+            this.input = null;
+            lineStarts = null;
+            lastStart = 0;
+            lastIndex = 0;
+        }
+    }
+    
+    protected abstract Node create(int kind, Token token) 
+            throws IOException;
+    
+    protected abstract void readFields(Node node) 
+            throws IOException;
+    
+    protected Node readNode() throws IOException {
+        int tag = readInt();
+        if (tag==NULL) {
+            return null;
+        }
+        Node node;
+        if (tag==REFERENCE) {
+            node = nodes.get(readInt());
+        }
+        else {
+            int kind = (tag-VALUE)>>>1;
+            boolean custom = ((tag-VALUE) & 1)!=0;
+            Token token = readToken();
+            if (custom) {
+                if (kind>=customConstructors.length || 
+                        customConstructors[kind]==null) {
+                    throw new IOException("unknown custom node kind: " + kind);
+                }
+                try {
+                    node = (Node) customConstructors[kind].newInstance(token);
+                }
+                catch (Exception e) {
+                    throw new IOException("could not create custom node of kind " + kind, e);
+                }
+            }
+            else {
+                node = create(kind, token);
+            }
+            nodes.add(node);
+            node.setEndToken(readToken());
+            node.setText(readString());
+            List<Node> outer = subnodes;
+            List<Node> inner = new ArrayList<Node>();
+            subnodes = inner;
+            try {
+                readFields(node);
+            }
+            finally {
+                subnodes = outer;
+            }
+            //replace the children connected by the setters
+            List<Node> children = node.getChildren();
+            children.clear();
+            if (readBoolean()) {
+                for (int i=readInt(); i>0; i--) {
+                    children.add(readNode());
+                }
+            }
+            else {
+                children.addAll(inner);
+            }
+        }
+        if (subnodes!=null) {
+            subnodes.add(node);
+        }
+        return node;
+    }
+    
+    @SuppressWarnings("unchecked")
+    protected <T extends Node> void readNodes(List<T> list) 
+            throws IOException {
+        for (int i=readInt(); i>0; i--) {
+            list.add((T) readNode());
+        }
+    }
+    
+    private Token readToken() throws IOException {
+        int tag = readInt();
+        if (tag==NULL) {
+            return null;
+        }
+        else if (tag==REFERENCE) {
+            return tokens.get(readInt());
+        }
+        int type = unzigzag(tag-VALUE);
+        int flags = readInt();
+        int channel = readInt();
+        int start = lastStart + unzigzag(readInt());
+        int stop = start + unzigzag(readInt());
+        int index = lastIndex + unzigzag(readInt());
+        lastStart = start;
+        lastIndex = index;
+        CommonToken token = new CommonToken(null, type, channel, start, stop);
+        token.setTokenIndex(index);
+        if ((flags & HAS_INPUT)!=0) {
+            token.setInputStream(input);
+        }
+        if ((flags & HAS_POSITION)!=0) {
+            token.setLine(readInt());
+            token.setCharPositionInLine(unzigzag(readInt()));
+        }
+        else {
+            if (lineStarts==null) {
+                lineStarts = lineStarts(input);
+            }
+            token.setLine(line(lineStarts, start));
+            token.setCharPositionInLine(column(lineStarts, start));
+        }
+        if ((flags & HAS_TEXT)!=0) {
+            token.setText(readString());
+        }
+        tokens.add(token);
+        return token;
+    }
+    
+    protected String readString() throws IOException {
+        int tag = readInt();
+        if (tag==NULL) {
+            return null;
+        }
+        else if (tag==REFERENCE) {
+            return strings.get(readInt());
+        }
+        int length = readInt();
+        if (length<0) {
+            throw new IOException("bad string length: " + length);
+        }
+        String string;
+        if (length<=limit-position) {
+            string = new String(buffer, position, length, "UTF-8");
+            position += length;
+        }
+        else {
+            byte[] bytes = new byte[length];
+            int read = limit-position;
+            System.arraycopy(buffer, position, bytes, 0, read);
+            position = limit;
+            while (read<length) {
+                int n = in.read(bytes, read, length-read);
+                if (n<0) {
+                    throw new EOFException();
+                }
+                read += n;
+            }
+            string = new String(bytes, "UTF-8");
+        }
+        strings.add(string);
+        return string;
+    }
+    
+    protected boolean readBoolean() throws IOException {
+        return readByte()!=0;
+    }
+    
+    protected int readInt() throws IOException {
+        int result = 0;
+        for (int shift=0; shift<32; shift+=7) {
+            int b = readByte();
+            result |= (b & 0x7f) << shift;
+            if ((b & 0x80)==0) {
+                return result;
+            }
+        }
+        throw new IOException("malformed variable length integer");
+    }
+    
+    private int readByte() throws IOException {
+        if (position==limit) {
+            limit = in.read(buffer);
+            position = 0;
+            if (limit<=0) {
+                limit = 0;
+                throw new EOFException();
+            }
+        }
+        return buffer[position++] & 0xff;
+    }
+    
+    private static int unzigzag(int value) {
+        return value>>>1 ^ -(value & 1);
+    }
+    
+}
@@ -0,0 +1,308 @@
+package com.redhat.ceylon.compiler.typechecker.tree;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.antlr.runtime.CharStream;
+import org.antlr.runtime.CommonToken;
+import org.antlr.runtime.Token;
+
+/**
+ * Writes trees in the format read by 
+ * {@link AbstractTreeReader}. The subnodes and fields of 
+ * each kind of node are written by the generated 
+ * {@link TreeWriter}. 
+ * 
+ * Integers are written as variable length quantities. A 
+ * node or token which occurs more than once in a tree is 
+ * written once, and referred to by number after that, and
+ * so is each distinct string. A token is written as its 
+ * offsets in the source, and its line and column are only 
+ * written if they can't be recomputed from the source. The
+ * children of a node are only written if they are not 
+ * just its subnodes, in order.
+ */
+public abstract class AbstractTreeWriter {
+    
+    static final int FORMAT_VERSION = 2;
+    
+    //tags
+    static final int NULL = 0;
+    static final int REFERENCE = 1;
+    static final int VALUE = 2;
+    
+    //token flags
+    static final int HAS_INPUT = 1;
+    static final int HAS_TEXT = 2;
+    static final int HAS_POSITION = 4;
+    
+    private static final Set<Class<?>> CUSTOM_CLASSES = 
+            new HashSet<Class<?>>(Arrays.asList(CustomTree.class.getDeclaredClasses()));
+    
+    private final OutputStream out;
+    private final byte[] buffer = new byte[8192];
+    private int count;
+    private final Map<Node, Integer> nodes = new IdentityHashMap<Node, Integer>();
+    private final Map<Token, Integer> tokens = new IdentityHashMap<Token, Integer>();
+    private final Map<String, Integer> strings = new HashMap<String, Integer>();
+    private List<Node> subnodes;
+    private CharStream input;
+    private int[] lineStarts;
+    private int lastStart;
+    private int lastIndex;
+    
+    protected AbstractTreeWriter(OutputStream out) {
+        this.out = out;
+    }
+    
+    /**
+     * Write the given tree. Several trees may be written 
+     * to the same stream, one after the other.
+     */
+    public void write(Tree.CompilationUnit compilationUnit) 
+            throws IOException {
+        try {
+            writeInt(FORMAT_VERSION);
+            writeNode(compilationUnit);
+            flush();
+        }
+        finally {
+            nodes.clear();
+            tokens.clear();
+            strings.clear();
+            subnodes = null;
+            input = null;
+            lineStarts = null;
+            lastStart = 0;
+            lastIndex = 0;
+        }
+    }
+    
+    protected abstract void writeFields(Node node) 
+            throws IOException;
+    
+    protected void writeNode(Node node) throws IOException {
+        if (node==null) {
+            writeInt(NULL);
+            return;
+        }
+        if (subnodes!=null) {
+            subnodes.add(node);
+        }
+        Integer id = nodes.get(node);
+        if (id!=null) {
+            writeInt(REFERENCE);
+            writeInt(id);
+            return;
+        }
+        nodes.put(node, nodes.size());
+        boolean custom = CUSTOM_CLASSES.contains(node.getClass());
+        writeInt(VALUE + (node.getNodeKind()<<1 | (custom ? 1 : 0)));
+        writeToken(node.getMainToken());
+        writeToken(node.getRawEndToken());
+        writeString(node.getRawText());
+        List<Node> outer = subnodes;
+        List<Node> inner = new ArrayList<Node>();
+        subnodes = inner;
+        try {
+            writeFields(node);
+        }
+        finally {
+            subnodes = outer;
+        }
+        List<Node> children = node.getChildren();
+        if (children.equals(inner)) {
+            writeBoolean(false);
+        }
+        else {
+            writeBoolean(true);
+            writeInt(children.size());
+            for (Node child: children) {
+                writeNode(child);
+            }
+        }
+    }
+    
+    protected void writeNodes(List<? extends Node> nodes) 
+            throws IOException {
+        writeInt(nodes.size());
+        for (Node node: nodes) {
+            writeNode(node);
+        }
+    }
+    
+    private void writeToken(Token token) throws IOException {
+        if (token==null) {
+            writeInt(NULL);
+            return;
+        }
+        Integer id = tokens.get(token);
+        if (id!=null) {
+            writeInt(REFERENCE);
+            writeInt(id);
+            return;
+        }
+        tokens.put(token, tokens.size());
+        int start = -1;
+        int stop = -1;
+        if (token instanceof CommonToken) {
+            start = ((CommonToken) token).getStartIndex();
+            stop = ((CommonToken) token).getStopIndex();
+        }
+        CharStream input = token.getInputStream();
+        String text = token.getText();
+        int flags = 0;
+        if (input!=null) {
+            flags |= HAS_INPUT;
+            if (input!=this.input) {
+                this.input = input;
+                lineStarts = lineStarts(input);
+            }
+        }
+        //the text is written only if the parser replaced it
+        if (input==null || start<0 || stop>=input.size() || 
+                text==null || !text.equals(input.substring(start, stop))) {
+            flags |= HAS_TEXT;
+        }
+        if (input==null || start<0) {
+            flags |= HAS_POSITION;
+        }
+        else {
+            int line = line(lineStarts, start);
+            if (token.getLine()!=line ||
+                    token.getCharPositionInLine()!=start-lineStarts[line-1]) {
+                flags |= HAS_POSITION;
+            }
+        }
+        writeInt(VALUE + zigzag(token.getType()));
+        writeInt(flags);
+        writeInt(token.getChannel());
+        writeInt(zigzag(start-lastStart));
+        writeInt(zigzag(stop-start));
+        writeInt(zigzag(token.getTokenIndex()-lastIndex));
+        lastStart = start;
+        lastIndex = token.getTokenIndex();
+        if ((flags & HAS_POSITION)!=0) {
+            writeInt(token.getLine());
+            writeInt(zigzag(token.getCharPositionInLine()));
+        }
+        if ((flags & HAS_TEXT)!=0) {
+            writeString(text);
+        }
+    }
+    
+    protected void writeString(String string) throws IOException {
+        if (string==null) {
+            writeInt(NULL);
+            return;
+        }
+        Integer id = strings.get(string);
+        if (id!=null) {
+            writeInt(REFERENCE);
+            writeInt(id);
+            return;
+        }
+        strings.put(string, strings.size());
+        byte[] bytes = string.getBytes("UTF-8");
+        writeInt(VALUE);
+        writeInt(bytes.length);
+        if (bytes.length>buffer.length-count) {
+            drain();
+        }
+        if (bytes.length>buffer.length) {
+            out.write(bytes);
+        }
+        else {
+            System.arraycopy(bytes, 0, buffer, count, bytes.length);
+            count += bytes.length;
+        }
+    }
+    
+    protected void writeBoolean(boolean value) throws IOException {
+        if (count==buffer.length) {
+            drain();
+        }
+        buffer[count++] = (byte) (value ? 1 : 0);
+    }
+    
+    protected void writeInt(int value) throws IOException {
+        if (count>buffer.length-5) {
+            drain();
+        }
+        while ((value & ~0x7f)!=0) {
+            buffer[count++] = (byte) (value & 0x7f | 0x80);
+            value >>>= 7;
+        }
+        buffer[count++] = (byte) value;
+    }
+    
+    private void drain() throws IOException {
+        out.write(buffer, 0, count);
+        count = 0;
+    }
+    
+    private void flush() throws IOException {
+        drain();
+        out.flush();
+    }
+    
+    static int zigzag(int value) {
+        return value<<1 ^ value>>31;
+    }
+    
+    /**
+     * The offset of the first character of each line of 
+     * the given characters.
+     */
+    static int[] lineStarts(CharStream input) {
+        int[] result = new int[64];
+        int count = 1;
+        int size = input.size();
+        if (size>0) {
+            String chars = input.substring(0, size-1);
+            for (int i=chars.indexOf('\n'); i>=0; i=chars.indexOf('\n', i+1)) {
+                if (count==result.length) {
+                    int[] larger = new int[count*2];
+                    System.arraycopy(result, 0, larger, 0, count);
+                    result = larger;
+                }
+                result[count++] = i+1;
+            }
+        }
+        int[] lines = new int[count];
+        System.arraycopy(result, 0, lines, 0, count);
+        return lines;
+    }
+    
+    /**
+     * The line of the character at the given offset, as 
+     * counted by the lexer.
+     */
+    static int line(int[] lineStarts, int offset) {
+        int low = 0;
+        int high = lineStarts.length-1;
+        while (low<high) {
+            int mid = (low+high+1)>>>1;
+            if (lineStarts[mid]<=offset) {
+                low = mid;
+            }
+            else {
+                high = mid-1;
+            }
+        }
+        return low+1;
+    }
+    
+    static int column(int[] lineStarts, int offset) {
+        return offset - lineStarts[line(lineStarts, offset)-1];
+    }
+    
+}
@@ -30,7 +30,8 @@ public class CustomTree extends Tree {
         }
         @Override
         public void visit(Visitor visitor) {
-            if (visitor instanceof NaturalVisitor) {
+            if (visitor instanceof NaturalVisitor || 
+                    visitor instanceof CompositeVisitor) {
                 super.visit(visitor);
             }
             else {
@@ -60,7 +61,8 @@ public class CustomTree extends Tree {
         }
         @Override
         public void visit(Visitor visitor) {
-            if (visitor instanceof NaturalVisitor) {
+            if (visitor instanceof NaturalVisitor || 
+                    visitor instanceof CompositeVisitor) {
                 super.visit(visitor);
             }
             else {
@@ -172,7 +174,8 @@ public class CustomTree extends Tree {
         }
         @Override
         public void visit(Visitor visitor) {
-            if (visitor instanceof NaturalVisitor) {
+            if (visitor instanceof NaturalVisitor || 
+                    visitor instanceof CompositeVisitor) {
                 super.visit(visitor);
             }
             else {
@@ -202,7 +205,8 @@ public class CustomTree extends Tree {
         }
         @Override
         public void visit(Visitor visitor) {
-            if (visitor instanceof NaturalVisitor) {
+            if (visitor instanceof NaturalVisitor || 
+                    visitor instanceof CompositeVisitor) {
                 super.visit(visitor);
             }
             else {
@@ -247,6 +251,9 @@ public class CustomTree extends Tree {
         }
         @Override
         public String getText() {
+            if (getToken()==null) {
+                return super.getText();
+            }
             int start = getToken().getCharPositionInLine()+1;
             StringBuilder result = new StringBuilder();
             int num = 0;
@@ -24,6 +24,8 @@ public abstract class Node {
     private Unit unit;
     private List<Message> errors = new ArrayList<Message>();
     private List<Node> children = new ArrayList<Node>();
+    private long[] subtreeKinds;
+    private volatile long structuralHash;
     
     protected Node(Token token) {
         this.token = token;
@@ -179,6 +181,22 @@ public abstract class Node {
 		this.endToken = endToken;
 	}
     
+    //the fields as they were set, for serialization,
+    //and for anchoring the tokens of a tree which is being
+    //edited
+    
+    public Token getRawEndToken() {
+        return endToken;
+    }
+
+    public void setMainToken(Token token) {
+        this.token = token;
+    }
+    
+    String getRawText() {
+        return text;
+    }
+    
     /**
      * The compilation errors belonging to this node.
      */
@@ -186,27 +204,27 @@ public abstract class Node {
         return errors;
     }
     
-    public void addError(String message) {
+    public synchronized void addError(String message) {
         errors.add( new AnalysisError(this, message) );
     }
     
-    public void addError(String message, int code) {
+    public synchronized void addError(String message, int code) {
         errors.add( new AnalysisError(this, message, code) );
     }
     
-    public void addUnexpectedError(String message) {
+    public synchronized void addUnexpectedError(String message) {
         errors.add( new UnexpectedError(this, message) );
     }
     
-    public void addWarning(String message) {
+    public synchronized void addWarning(String message) {
         errors.add( new AnalysisWarning(this, message) );
     }
     
-    public void addParseError(ParseError error) {
+    public synchronized void addParseError(ParseError error) {
         errors.add(error);
     }
     
-    public void addLexError(LexError error) {
+    public synchronized void addLexError(LexError error) {
         errors.add(error);
     }
     
@@ -214,6 +232,96 @@ public abstract class Node {
     
     public abstract void visitChildren(Visitor visitor);
     
+    /**
+     * The kind of this node, one of the KIND constants
+     * of the classes in Tree.
+     */
+    public abstract int getNodeKind();
+    
+    /**
+     * Add the structural hashes of the subnodes of this
+     * node to the given hash.
+     */
+    public abstract void hashChildren(StructuralHash hash);
+    
+    /**
+     * A hash of the structure of this subtree: the kinds
+     * of its nodes, the text of its leaves, such as the
+     * identifiers and literals, and how they are nested,
+     * but not where they occur, so that two subtrees which
+     * differ only in whitespace and comments have the same
+     * hash. Never zero. Computed when first asked for, and
+     * remembered by declarations, so that the hash of a
+     * class reuses the hashes of its members.
+     */
+    public long getStructuralHash() {
+        long hash = structuralHash;
+        if (hash==0) {
+            StructuralHash result = new StructuralHash(this);
+            hashChildren(result);
+            hash = result.get();
+            if (this instanceof Tree.Declaration) {
+                structuralHash = hash;
+            }
+        }
+        return hash;
+    }
+    
+    /**
+     * The structural hash of this node, leaving out its
+     * body and its specified or initial value, if it has
+     * them, so that, for a declaration, it only changes
+     * when the signature of the declaration does.
+     * 
+     * @see #getStructuralHash()
+     */
+    public long getSignatureHash() {
+        StructuralHash result = new StructuralHash(this, true);
+        hashChildren(result);
+        return result.get();
+    }
+    
+    /**
+     * Record, for this node and every node beneath it, 
+     * the kinds of node its subtree contains, so that a 
+     * visitor which declares the kinds it is interested 
+     * in can skip the subtrees which contain none of them.
+     * Must be called again if the tree is modified.
+     */
+    public void indexNodeKinds() {
+        visit(new NodeKindIndexer());
+    }
+    
+    //walks the same children as the visitors do, which is
+    //not always what the list of children contains
+    private static class NodeKindIndexer extends Visitor 
+            implements NaturalVisitor {
+        private long[] kinds;
+        @Override
+        public void visitAny(Node that) {
+            long[] outer = kinds;
+            kinds = NodeKinds.singleton(that.getNodeKind());
+            super.visitAny(that);
+            that.subtreeKinds = kinds;
+            kinds = outer==null ? null : NodeKinds.union(outer, kinds);
+        }
+    }
+    
+    /**
+     * Can the given visitor skip this subtree? Never true
+     * if the kinds of node in the subtree were not 
+     * indexed.
+     */
+    protected boolean isSkippedBy(Visitor visitor) {
+        if (subtreeKinds==null) {
+            return false;
+        }
+        else {
+            NodeKinds kinds = visitor.getNodeKinds();
+            return kinds!=null && !kinds.intersects(subtreeKinds);
+        }
+    }
+    
     @Override
     public String toString() {
         StringWriter w = new StringWriter();
@@ -251,5 +359,56 @@ public abstract class Node {
 	protected List<Node> getChildren() {
 		return children;
 	}
+	
+	/**
+	 * Replace a child of this node with another node, after
+	 * the field or list of the subclass which holds it has
+	 * been updated, indexing the kinds of node of the new
+	 * child if those of this node were indexed, and
+	 * forgetting the structural hash of this node. The
+	 * kinds of node and structural hashes of the ancestors
+	 * of this node must then be updated too.
+	 * 
+	 * @see #updateNodeKinds()
+	 */
+	public void replaceChild(Node child, Node replacement) {
+	    for (int i=0; i<children.size(); i++) {
+	        if (children.get(i)==child) {
+	            children.set(i, replacement);
+	        }
+	    }
+	    if (subtreeKinds!=null) {
+	        replacement.indexNodeKinds();
+	    }
+	    updateNodeKinds();
+	}
+	
+	/**
+	 * Record again the kinds of node the subtree of this
+	 * node contains, if they were indexed, from the kinds
+	 * recorded for its children, after one of them has been
+	 * replaced, and forget its structural hash.
+	 */
+	public void updateNodeKinds() {
+	    structuralHash = 0;
+	    if (subtreeKinds!=null) {
+	        ChildKindsCollector collector = new ChildKindsCollector();
+	        collector.kinds = NodeKinds.singleton(getNodeKind());
+	        visitChildren(collector);
+	        subtreeKinds = collector.kinds;
+	    }
+	}
+	
+    private static class ChildKindsCollector extends Visitor 
+            implements NaturalVisitor {
+        private long[] kinds;
+        @Override
+        public void visitAny(Node that) {
+            if (that.subtreeKinds==null) {
+                that.indexNodeKinds();
+            }
+            kinds = NodeKinds.union(kinds, that.subtreeKinds);
+        }
+    }
 
 }
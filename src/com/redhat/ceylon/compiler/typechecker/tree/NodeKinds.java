@@ -0,0 +1,90 @@
+package com.redhat.ceylon.compiler.typechecker.tree;
+
+/**
+ * A set of kinds of node, as returned by 
+ * {@link Visitor#getNodeKinds()}. The set includes the 
+ * subclasses of each given kind, so that a visitor which 
+ * overrides visit(Tree.Declaration) need only mention 
+ * Tree.Declaration.KIND.
+ */
+public final class NodeKinds {
+    
+    private static final int WORDS = (Tree.SUPER_KINDS.length+63)/64;
+    private static final long[][] SINGLETONS = new long[Tree.SUPER_KINDS.length][];
+    
+    static {
+        for (int kind=0; kind<SINGLETONS.length; kind++) {
+            SINGLETONS[kind] = new long[WORDS];
+            SINGLETONS[kind][kind>>>6] = 1L << kind;
+        }
+    }
+    
+    private final long[] bits = new long[WORDS];
+    
+    private NodeKinds() {}
+    
+    public static NodeKinds of(int... kinds) {
+        NodeKinds result = new NodeKinds();
+        for (int kind=0; kind<Tree.SUPER_KINDS.length; kind++) {
+            for (int k=kind; k>=0; k=Tree.SUPER_KINDS[k]) {
+                if (contains(kinds, k)) {
+                    result.bits[kind>>>6] |= 1L << kind;
+                    break;
+                }
+            }
+        }
+        return result;
+    }
+    
+    private static boolean contains(int[] kinds, int kind) {
+        for (int k: kinds) {
+            if (k==kind) return true;
+        }
+        return false;
+    }
+    
+    public boolean contains(int kind) {
+        return (bits[kind>>>6] & 1L << kind)!=0;
+    }
+    
+    boolean intersects(long[] kinds) {
+        for (int i=0; i<WORDS; i++) {
+            if ((bits[i] & kinds[i])!=0) return true;
+        }
+        return false;
+    }
+    
+    /**
+     * A shared, and therefore unmodifiable, set of kinds 
+     * containing just the given kind.
+     */
+    static long[] singleton(int kind) {
+        return SINGLETONS[kind];
+    }
+    
+    /**
+     * The union of two sets of kinds, reusing one of them
+     * when it already contains the other, since most nodes 
+     * contain nothing their children do not.
+     */
+    static long[] union(long[] x, long[] y) {
+        long[] result = null;
+        for (int i=0; i<WORDS; i++) {
+            long word = x[i] | y[i];
+            if (result==null && word!=y[i]) {
+                if (covers(x, y)) return x;
+                result = y.clone();
+            }
+            if (result!=null) result[i] = word;
+        }
+        return result==null ? y : result;
+    }
+    
+    private static boolean covers(long[] x, long[] y) {
+        for (int i=0; i<WORDS; i++) {
+            if ((x[i] | y[i])!=x[i]) return false;
+        }
+        return true;
+    }
+    
+}
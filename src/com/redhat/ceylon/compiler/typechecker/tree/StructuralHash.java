@@ -0,0 +1,81 @@
+package com.redhat.ceylon.compiler.typechecker.tree;
+
+import java.util.List;
+
+/**
+ * Accumulates the structural hash of a node, from its
+ * kind, its text if it is a leaf, such as an identifier
+ * or a literal, and the structural hashes of its subnodes,
+ * in the order in which the {@link Hasher} adds them. The
+ * hash does not depend on the positions of the tokens, so
+ * it ignores whitespace and comments.
+ *
+ * @see Node#getStructuralHash()
+ */
+public final class StructuralHash {
+
+    private static final long OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long PRIME = 0x100000001b3L;
+
+    private long hash = OFFSET_BASIS;
+    private final boolean signature;
+
+    StructuralHash(Node node) {
+        this(node, false);
+    }
+
+    /**
+     * @param signature leave out the body and the specified
+     *        or initial value among the subnodes of the node
+     */
+    StructuralHash(Node node, boolean signature) {
+        this.signature = signature;
+        add(node.getNodeKind());
+        if (node.getChildren().isEmpty()) {
+            String text = node.getText();
+            for (int i=0; i<text.length(); i++) {
+                add(text.charAt(i));
+            }
+            add(-1);
+        }
+    }
+
+    private void add(int value) {
+        hash = (hash ^ value) * PRIME;
+    }
+
+    /**
+     * Add the hash of an optional subnode.
+     */
+    public void add(Node node) {
+        if (node==null) {
+            add(-2);
+        }
+        else if (signature && (node instanceof Tree.Body || 
+                node instanceof Tree.SpecifierOrInitializerExpression)) {
+            add(-4);
+        }
+        else {
+            long subhash = node.getStructuralHash();
+            add((int) subhash);
+            add((int) (subhash>>>32));
+        }
+    }
+
+    /**
+     * Add the hashes of a list of subnodes.
+     */
+    public void addAll(List<? extends Node> nodes) {
+        add(-3);
+        add(nodes.size());
+        for (Node node: nodes) {
+            add(node);
+        }
+    }
+
+    long get() {
+        //zero means the hash was not computed yet
+        return hash==0 ? 1 : hash;
+    }
+
+}
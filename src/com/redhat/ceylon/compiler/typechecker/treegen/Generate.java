@@ -20,6 +20,10 @@ public class Generate {
         walker(file);
         visitor(file);
         validator(file);
+        compositeVisitor(file);
+        treeWriter(file);
+        treeReader(file);
+        hasher(file);
     }
     
     private static void tree(File file) throws Exception {
@@ -82,4 +86,52 @@ public class Generate {
         parser.nodeList();
     }
     
+    private static void compositeVisitor(File file) throws Exception {
+        InputStream is = new FileInputStream( file );
+        ANTLRInputStream input = new ANTLRInputStream(is);
+        CompositeVisitorgenLexer lexer = new CompositeVisitorgenLexer(input);
+        CommonTokenStream tokens = new CommonTokenStream(lexer);
+        CompositeVisitorgenParser parser = new CompositeVisitorgenParser(tokens);
+        File out = new File( GENERATED_PACKAGE_DIR + "CompositeVisitor.java" );
+        out.createNewFile();
+        Util.out=new PrintStream(out);
+        parser.nodeList();
+    }
+    
+    private static void treeWriter(File file) throws Exception {
+        InputStream is = new FileInputStream( file );
+        ANTLRInputStream input = new ANTLRInputStream(is);
+        TreeWritergenLexer lexer = new TreeWritergenLexer(input);
+        CommonTokenStream tokens = new CommonTokenStream(lexer);
+        TreeWritergenParser parser = new TreeWritergenParser(tokens);
+        File out = new File( GENERATED_PACKAGE_DIR + "TreeWriter.java" );
+        out.createNewFile();
+        Util.out=new PrintStream(out);
+        parser.nodeList();
+    }
+    
+    private static void treeReader(File file) throws Exception {
+        InputStream is = new FileInputStream( file );
+        ANTLRInputStream input = new ANTLRInputStream(is);
+        TreeReadergenLexer lexer = new TreeReadergenLexer(input);
+        CommonTokenStream tokens = new CommonTokenStream(lexer);
+        TreeReadergenParser parser = new TreeReadergenParser(tokens);
+        File out = new File( GENERATED_PACKAGE_DIR + "TreeReader.java" );
+        out.createNewFile();
+        Util.out=new PrintStream(out);
+        parser.nodeList();
+    }
+    
+    private static void hasher(File file) throws Exception {
+        InputStream is = new FileInputStream( file );
+        ANTLRInputStream input = new ANTLRInputStream(is);
+        HashergenLexer lexer = new HashergenLexer(input);
+        CommonTokenStream tokens = new CommonTokenStream(lexer);
+        HashergenParser parser = new HashergenParser(tokens);
+        File out = new File( GENERATED_PACKAGE_DIR + "Hasher.java" );
+        out.createNewFile();
+        Util.out=new PrintStream(out);
+        parser.nodeList();
+    }
+
 }
@@ -1,5 +1,6 @@
 package com.redhat.ceylon.compiler.typechecker.util;
 
+import com.redhat.ceylon.compiler.typechecker.tree.NodeKinds;
 import com.redhat.ceylon.compiler.typechecker.tree.Tree.AnyAttribute;
 import com.redhat.ceylon.compiler.typechecker.tree.Tree.AnyMethod;
 import com.redhat.ceylon.compiler.typechecker.tree.Tree.ClassDefinition;
@@ -9,12 +10,20 @@ import com.redhat.ceylon.compiler.typechecker.tree.Visitor;
 
 public class StatisticsVisitor extends Visitor {
     
+    private static final NodeKinds NODE_KINDS = NodeKinds.of(
+            ExecutableStatement.KIND, Declaration.KIND);
+    
     private int statements = 0;
     private int declarations = 0;
     private int classes = 0;
     private int methods = 0;
     private int attributes = 0;
     
+    @Override
+    public NodeKinds getNodeKinds() {
+        return NODE_KINDS;
+    }
+    
     @Override
     public void visit(ExecutableStatement that) {
         statements++;
@@ -0,0 +1,152 @@
+grammar CompositeVisitorgen;
+
+@parser::header { 
+    package com.redhat.ceylon.compiler.typechecker.treegen; 
+    import static com.redhat.ceylon.compiler.typechecker.treegen.Util.*; 
+}
+@lexer::header { 
+    package com.redhat.ceylon.compiler.typechecker.treegen; 
+}
+
+nodeList : { 
+           println("package com.redhat.ceylon.compiler.typechecker.tree;\n");
+           println("import static com.redhat.ceylon.compiler.typechecker.tree.Tree.*;\n");
+           println("import java.util.Arrays;\n");
+           println("/**");
+           println(" * Runs several visitors, in the given order, in a single");
+           println(" * walk of the tree. Each node is passed to the first");
+           println(" * visitor, and when that visitor descends into the node");
+           println(" * by way of visitAny(), to the next visitor, and so on.");
+           println(" * The children of the node are visited once every visitor");
+           println(" * has descended. So each visitor sees the nodes in the");
+           println(" * same order as it would on its own.");
+           println(" *");
+           println(" * A visitor which does not descend into a node, or which");
+           println(" * visits the children of the node itself, is left out of");
+           println(" * the walk of the subtree. Only visitors which do not");
+           println(" * depend upon the results of a later visitor may be");
+           println(" * combined, and a NaturalVisitor, which walks the");
+           println(" * children of some nodes in a different order, may");
+           println(" * not be combined at all.");
+           println(" */");
+           println("public class CompositeVisitor extends Visitor {\n");
+           println("    private static final class Frame {");
+           println("        final Node node;");
+           println("        final int index;");
+           println("        final boolean[] active;");
+           println("        final Frame outer;");
+           println("        boolean resumed;");
+           println("        Frame(Node node, int index, boolean[] active, Frame outer) {");
+           println("            this.node = node;");
+           println("            this.index = index;");
+           println("            this.active = active;");
+           println("            this.outer = outer;");
+           println("        }");
+           println("    }\n");
+           println("    private final Visitor[] visitors;");
+           println("    private boolean[] active;");
+           println("    private Frame frame;\n");
+           println("    public CompositeVisitor(Visitor... visitors) {");
+           println("        this.visitors = visitors.clone();");
+           println("        active = new boolean[visitors.length];");
+           println("        Arrays.fill(active, true);");
+           println("        for (Visitor visitor: visitors) {");
+           println("            if (visitor instanceof NaturalVisitor) {");
+           println("                throw new IllegalArgumentException(\"natural visitors may not be combined\");");
+           println("            }");
+           println("            visitor.composite = this;");
+           println("        }");
+           println("    }\n");
+           println("    private void visitNode(Node that) {");
+           println("        chain(that, 0, active);");
+           println("    }\n");
+           println("    @Override");
+           println("    public void visitAny(Node that) {");
+           println("        visitNode(that);");
+           println("    }\n");
+           println("    private void chain(Node that, int from, boolean[] active) {");
+           println("        int i = from;");
+           println("        while (i<visitors.length && !active[i]) i++;");
+           println("        if (i==visitors.length) {");
+           println("            boolean[] outerActive = this.active;");
+           println("            this.active = active;");
+           println("            try {");
+           println("                that.visitChildren(this);");
+           println("            }");
+           println("            finally {");
+           println("                this.active = outerActive;");
+           println("            }");
+           println("        }");
+           println("        else {");
+           println("            Frame f = new Frame(that, i, active, frame);");
+           println("            frame = f;");
+           println("            try {");
+           println("                that.visit(visitors[i]);");
+           println("            }");
+           println("            finally {");
+           println("                frame = f.outer;");
+           println("            }");
+           println("            if (!f.resumed) {");
+           println("                boolean[] remaining = active.clone();");
+           println("                remaining[i] = false;");
+           println("                chain(that, i+1, remaining);");
+           println("            }");
+           println("        }");
+           println("    }\n");
+           println("    /**");
+           println("     * Called by visitAny() of one of the visitors. If the");
+           println("     * visitor is descending into the node it was passed,");
+           println("     * continue with the next visitor.");
+           println("     */");
+           println("    boolean resume(Visitor visitor, Node that) {");
+           println("        Frame f = frame;");
+           println("        if (f!=null && !f.resumed && f.node==that && visitors[f.index]==visitor) {");
+           println("            f.resumed = true;");
+           println("            chain(that, f.index+1, f.active);");
+           println("            return true;");
+           println("        }");
+           println("        else {");
+           println("            return false;");
+           println("        }");
+           println("    }\n");
+           }
+           (DESCRIPTION? node)+ 
+           EOF
+           { println("\n}"); }
+           ;
+
+node : '^' '('
+       'abstract'? n=NODE_NAME (':' en=NODE_NAME)?
+       { println("    @Override public void visit(" + className($n.text) + " that) { visitNode(that); }"); }
+       (DESCRIPTION? subnode)*
+       (DESCRIPTION? field)*
+       ')'
+     ;
+
+subnode : n=NODE_NAME '?'? f=FIELD_NAME? ('(' NODE_NAME* ')')?
+        | mn=NODE_NAME '*' f=FIELD_NAME? ('(' NODE_NAME* ')')? 
+        ;
+
+field : 'abstract'? (TYPE_NAME|'boolean') FIELD_NAME ';'
+      ;
+
+NODE_NAME : ('A'..'Z'|'_')+;
+
+FIELD_NAME : ('a'..'z') ('a'..'z'|'A'..'Z')*;
+TYPE_NAME : ('A'..'Z') ('a'..'z'|'A'..'Z'|'<'|'>')*;
+
+WS : (' ' | '\n' | '\t' | '\r' | '\u000C') { skip(); };
+
+CARAT : '^';
+
+LPAREN : '(';
+RPAREN : ')';
+
+MANY : '*'|'+';
+OPTIONAL : '?';
+
+EXTENDS : ':';
+
+SEMI : ';';
+
+DESCRIPTION : '\"' (~'\"')* '\"';
@@ -0,0 +1,69 @@
+grammar Hashergen;
+
+@parser::header { 
+    package com.redhat.ceylon.compiler.typechecker.treegen; 
+    import static com.redhat.ceylon.compiler.typechecker.treegen.Util.*; 
+}
+@lexer::header { 
+    package com.redhat.ceylon.compiler.typechecker.treegen; 
+}
+
+nodeList : 
+    {
+    println("package com.redhat.ceylon.compiler.typechecker.tree;\n");
+    println("import static com.redhat.ceylon.compiler.typechecker.tree.Tree.*;\n");
+    println("public class Hasher {\n");
+    }
+           (DESCRIPTION? node)+ 
+           EOF
+    { println("}"); }
+           ;
+
+node : '^' '('
+       'abstract'? n=NODE_NAME 
+       { println("    public static void hash" + className($n.text) +"(StructuralHash hash, " + className($n.text) + " node) {"); }
+       extendsNode?
+       (DESCRIPTION? subnode)*
+       (DESCRIPTION? field)*
+       ')'
+       { println("    }\n"); }
+     ;
+
+extendsNode : ':' 
+              n=NODE_NAME
+              { println("        hash" + className($n.text) +"(hash, node);"); }
+            ;
+
+subnode : n=NODE_NAME '?'? f=FIELD_NAME ('(' NODE_NAME* ')')?
+          { println("        hash.add(node.get" + initialUpper($f.text) + "());"); }
+        | n=NODE_NAME '?'? ('(' NODE_NAME* ')')?
+          { println("        hash.add(node.get" + className($n.text) + "());"); }
+        | mn=NODE_NAME '*' ('(' NODE_NAME* ')')? 
+          { println("        hash.addAll(node.get" + className($mn.text) +"s());"); }
+        | mn=NODE_NAME '*' f=FIELD_NAME ('(' NODE_NAME* ')')? 
+          { println("        hash.addAll(node.get" + initialUpper($f.text) +"s());"); }
+        ;
+
+field : 'abstract'? (TYPE_NAME|'boolean') FIELD_NAME ';'
+      ;
+
+NODE_NAME : ('A'..'Z'|'_')+;
+
+FIELD_NAME : ('a'..'z') ('a'..'z'|'A'..'Z')*;
+TYPE_NAME : ('A'..'Z') ('a'..'z'|'A'..'Z'|'<'|'>')*;
+
+WS : (' ' | '\n' | '\t' | '\r' | '\u000C') { skip(); };
+
+CARAT : '^';
+
+LPAREN : '(';
+RPAREN : ')';
+
+MANY : '*'|'+';
+OPTIONAL : '?';
+
+EXTENDS : ':';
+
+SEMI : ';';
+
+DESCRIPTION : '\"' (~'\"')* '\"';
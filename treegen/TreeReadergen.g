@@ -0,0 +1,103 @@
+grammar TreeReadergen;
+
+@parser::header { 
+    package com.redhat.ceylon.compiler.typechecker.treegen; 
+    import static com.redhat.ceylon.compiler.typechecker.treegen.Util.*; 
+}
+@lexer::header { 
+    package com.redhat.ceylon.compiler.typechecker.treegen; 
+}
+
+@parser::members {
+    StringBuilder creates = new StringBuilder();
+    StringBuilder cases = new StringBuilder();
+}
+
+nodeList : 
+    {
+    println("package com.redhat.ceylon.compiler.typechecker.tree;\n");
+    println("import static com.redhat.ceylon.compiler.typechecker.tree.Tree.*;\n");
+    println("import java.io.IOException;");
+    println("import java.io.InputStream;\n");
+    println("import org.antlr.runtime.Token;\n");
+    println("public class TreeReader extends AbstractTreeReader {\n");
+    println("    public TreeReader(InputStream in) {");
+    println("        super(in);");
+    println("    }\n");
+    }
+           (DESCRIPTION? node)+ 
+           EOF
+    { 
+    println("    @Override");
+    println("    protected Node create(int kind, Token token) throws IOException {");
+    println("        switch (kind) {" + creates);
+    println("        default:");
+    println("            throw new IOException(\"unknown node kind: \" + kind);");
+    println("        }");
+    println("    }\n");
+    println("    @Override");
+    println("    protected void readFields(Node node) throws IOException {");
+    println("        switch (node.getNodeKind()) {" + cases);
+    println("        default:");
+    println("            throw new IOException(\"unknown node kind: \" + node.getNodeKind());");
+    println("        }");
+    println("    }\n");
+    println("}"); 
+    }
+           ;
+
+node : '^' '('
+       (a='abstract')? n=NODE_NAME 
+       { println("    private void read" + className($n.text) +"Fields(" + className($n.text) + " node) throws IOException {"); }
+       { if ($a==null) creates.append("\n        case " + className($n.text) + ".KIND:" + 
+                "\n            return new " + className($n.text) + "(token);"); }
+       { if ($a==null) cases.append("\n        case " + className($n.text) + ".KIND:" + 
+                "\n            read" + className($n.text) + "Fields((" + className($n.text) + ") node);" + 
+                "\n            break;"); }
+       extendsNode?
+       (DESCRIPTION? subnode)*
+       (DESCRIPTION? field)*
+       ')'
+       { println("    }\n"); }
+     ;
+
+extendsNode : ':' 
+              n=NODE_NAME
+              { println("        read" + className($n.text) +"Fields(node);"); }
+            ;
+
+subnode : n=NODE_NAME '?'? f=FIELD_NAME ('(' NODE_NAME* ')')?
+          { println("        node.set" + initialUpper($f.text) + "((" + className($n.text) + ") readNode());"); }
+        | n=NODE_NAME '?'? ('(' NODE_NAME* ')')?
+          { println("        node.set" + className($n.text) + "((" + className($n.text) + ") readNode());"); }
+        | mn=NODE_NAME '*' ('(' NODE_NAME* ')')? 
+          { println("        readNodes(node.get" + className($mn.text) +"s());"); }
+        | mn=NODE_NAME '*' f=FIELD_NAME ('(' NODE_NAME* ')')? 
+          { println("        readNodes(node.get" + initialUpper($f.text) +"s());"); }
+        ;
+
+field : 'boolean' f=FIELD_NAME ';'
+        { println("        node.set" + initialUpper($f.text) + "(readBoolean());"); }
+      | 'abstract'? TYPE_NAME FIELD_NAME ';'
+      ;
+
+NODE_NAME : ('A'..'Z'|'_')+;
+
+FIELD_NAME : ('a'..'z') ('a'..'z'|'A'..'Z')*;
+TYPE_NAME : ('A'..'Z') ('a'..'z'|'A'..'Z'|'<'|'>')*;
+
+WS : (' ' | '\n' | '\t' | '\r' | '\u000C') { skip(); };
+
+CARAT : '^';
+
+LPAREN : '(';
+RPAREN : ')';
+
+MANY : '*'|'+';
+OPTIONAL : '?';
+
+EXTENDS : ':';
+
+SEMI : ';';
+
+DESCRIPTION : '\"' (~'\"')* '\"';
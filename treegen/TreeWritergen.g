@@ -0,0 +1,92 @@
+grammar TreeWritergen;
+
+@parser::header { 
+    package com.redhat.ceylon.compiler.typechecker.treegen; 
+    import static com.redhat.ceylon.compiler.typechecker.treegen.Util.*; 
+}
+@lexer::header { 
+    package com.redhat.ceylon.compiler.typechecker.treegen; 
+}
+
+@parser::members {
+    StringBuilder cases = new StringBuilder();
+}
+
+nodeList : 
+    {
+    println("package com.redhat.ceylon.compiler.typechecker.tree;\n");
+    println("import static com.redhat.ceylon.compiler.typechecker.tree.Tree.*;\n");
+    println("import java.io.IOException;");
+    println("import java.io.OutputStream;\n");
+    println("public class TreeWriter extends AbstractTreeWriter {\n");
+    println("    public TreeWriter(OutputStream out) {");
+    println("        super(out);");
+    println("    }\n");
+    }
+           (DESCRIPTION? node)+ 
+           EOF
+    { 
+    println("    @Override");
+    println("    protected void writeFields(Node node) throws IOException {");
+    println("        switch (node.getNodeKind()) {" + cases);
+    println("        default:");
+    println("            throw new IllegalArgumentException(\"unknown node kind: \" + node.getNodeKind());");
+    println("        }");
+    println("    }\n");
+    println("}"); 
+    }
+           ;
+
+node : '^' '('
+       (a='abstract')? n=NODE_NAME 
+       { println("    private void write" + className($n.text) +"Fields(" + className($n.text) + " node) throws IOException {"); }
+       { if ($a==null) cases.append("\n        case " + className($n.text) + ".KIND:" + 
+                "\n            write" + className($n.text) + "Fields((" + className($n.text) + ") node);" + 
+                "\n            break;"); }
+       extendsNode?
+       (DESCRIPTION? subnode)*
+       (DESCRIPTION? field)*
+       ')'
+       { println("    }\n"); }
+     ;
+
+extendsNode : ':' 
+              n=NODE_NAME
+              { println("        write" + className($n.text) +"Fields(node);"); }
+            ;
+
+subnode : n=NODE_NAME '?'? f=FIELD_NAME ('(' NODE_NAME* ')')?
+          { println("        writeNode(node.get" + initialUpper($f.text) + "());"); }
+        | n=NODE_NAME '?'? ('(' NODE_NAME* ')')?
+          { println("        writeNode(node.get" + className($n.text) + "());"); }
+        | mn=NODE_NAME '*' ('(' NODE_NAME* ')')? 
+          { println("        writeNodes(node.get" + className($mn.text) +"s());"); }
+        | mn=NODE_NAME '*' f=FIELD_NAME ('(' NODE_NAME* ')')? 
+          { println("        writeNodes(node.get" + initialUpper($f.text) +"s());"); }
+        ;
+
+field : 'boolean' f=FIELD_NAME ';'
+        { println("        writeBoolean(node.get" + initialUpper($f.text) + "());"); }
+      | 'abstract'? TYPE_NAME FIELD_NAME ';'
+      ;
+
+NODE_NAME : ('A'..'Z'|'_')+;
+
+FIELD_NAME : ('a'..'z') ('a'..'z'|'A'..'Z')*;
+TYPE_NAME : ('A'..'Z') ('a'..'z'|'A'..'Z'|'<'|'>')*;
+
+WS : (' ' | '\n' | '\t' | '\r' | '\u000C') { skip(); };
+
+CARAT : '^';
+
+LPAREN : '(';
+RPAREN : ')';
+
+MANY : '*'|'+';
+OPTIONAL : '?';
+
+EXTENDS : ':';
+
+SEMI : ';';
+
+DESCRIPTION : '\"' (~'\"')* '\"';
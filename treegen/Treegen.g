@@ -8,15 +8,23 @@ grammar Treegen;
     package com.redhat.ceylon.compiler.typechecker.treegen; 
 }
 
+@parser::members {
+    private int kind = 0;
+    private StringBuilder superKinds = new StringBuilder();
+}
+
 nodeList : { 
            println("package com.redhat.ceylon.compiler.typechecker.tree;\n");
-           println("import static com.redhat.ceylon.compiler.typechecker.tree.Walker.*;\n");
+           println("import static com.redhat.ceylon.compiler.typechecker.tree.Walker.*;");
+           println("import static com.redhat.ceylon.compiler.typechecker.tree.Hasher.*;\n");
            println("import org.antlr.runtime.Token;\n");
            println("import java.util.*;\n");
            println("public class Tree {\n");
            }
            (nodeDescription? node)+ 
            EOF
+           { println("    /**\n     * The kind of the superclass of each kind of node,\n     * or -1 for the direct subclasses of Node.\n     */"); }
+           { println("    static final int[] SUPER_KINDS = {" + superKinds + "\n    };\n"); }
            { println("}"); }
            ;
 
@@ -31,7 +39,12 @@ node : '^' '('
        { println("        public " + className($n.text) + "(Token token) {" ); }
        { println("            super(token);" ); }
        { println("        }\n" ); }
+       { println("        public static final int KIND = " + kind++ + ";\n" ); }
+       { println("        @Override public int getNodeKind() {" ); }
+       { println("            return KIND;" ); }
+       { println("        }\n" ); }
        { println("        @Override public void visit(Visitor visitor) {" ); }
+       { println("            if (isSkippedBy(visitor)) return;" ); }
        { println("            try {" ); }
        { println("                visitor.visit(this);" ); }
        { println("            }" ); }
@@ -42,6 +55,9 @@ node : '^' '('
        { println("        @Override public void visitChildren(Visitor visitor) {" ); }
        { println("            walk" + className($n.text) +"(visitor, this);"); }      
        { println("        }\n" ); }
+       { println("        @Override public void hashChildren(StructuralHash hash) {" ); }
+       { println("            hash" + className($n.text) +"(hash, this);"); }
+       { println("        }\n" ); }
        (memberDescription? subnode)*
        (memberDescription? field)*
        ')' 
@@ -50,7 +66,9 @@ node : '^' '('
 
 extendsNode : ':' n=NODE_NAME 
               { print(" extends " + className($n.text)); }
+              { superKinds.append("\n        " + className($n.text) + ".KIND,"); }
             | { print(" extends Node"); }
+              { superKinds.append("\n        -1,"); }
             ;
 
 nodeDescription : d=DESCRIPTION 
@@ -13,7 +13,18 @@ nodeList : {
            println("import static com.redhat.ceylon.compiler.typechecker.tree.Tree.*;\n");
            println("public abstract class Visitor {\n");
            println("    public void handleException(Exception e, Node that) { that.handleException(e, this); }\n");
-           println("    public void visitAny(Node that) { that.visitChildren(this); }\n");
+           println("    CompositeVisitor composite;\n");
+           println("    /**");
+           println("     * The kinds of node this visitor needs to see, or");
+           println("     * null if it needs to see every node. Subtrees which");
+           println("     * contain no node of these kinds are skipped.");
+           println("     */");
+           println("    public NodeKinds getNodeKinds() { return null; }\n");
+           println("    public void visitAny(Node that) {");
+           println("        if (composite==null || !composite.resume(this, that)) {");
+           println("            that.visitChildren(this);");
+           println("        }");
+           println("    }\n");
            }
            (DESCRIPTION? node)+ 
            EOF